@@ -193,6 +193,11 @@ internal class CharSequenceTransform(
     }
 }
 
+internal object InternedStringTransform : FunctionTransform<Parameter> {
+    override fun transformDeclaration(param: Parameter, original: String) = "String ${param.name}"
+    override fun transformCall(param: Parameter, original: String) = param.name
+}
+
 internal class StringReturnTransform(private val nullable: Boolean) : FunctionTransform<ReturnValue> {
     override fun transformDeclaration(param: ReturnValue, original: String) = "String"
     override fun transformCall(param: ReturnValue, original: String): String {
@@ -32,6 +32,8 @@ internal const val POINTER_POSTFIX = "Address"
 internal const val MAP_OLD = "old_buffer"
 internal const val MAP_LENGTH = "length"
 const val FUNCTION_ADDRESS = "__functionAddress"
+internal const val FUNCTION_PROFILE = "__functionProfile"
+internal const val FUNCTION_START = "__functionStart"
 
 internal const val JNIENV = "__env"
 
@@ -153,6 +155,8 @@ class Func(
     }
 
     private val isNativeOnly: Boolean by lazy(LazyThreadSafetyMode.NONE) {
+        // Profiled native calls require a Java method
+        !Module.PROFILE &&
         (nativeClass.binding == null || nativeClass.binding.apiCapabilities === APICapabilities.JNI_CAPABILITIES) &&
             !(
                 modifiers.any { it.value.isSpecial }
@@ -818,9 +822,14 @@ class Func(
         }
 
         // Native method call
+        if (Module.PROFILE)
+            println("$t${t}long $FUNCTION_START = FunctionProfiler.start();")
         print("$t$t")
-        if (!returns.isVoid && !returns.isStructValue)
+        if (!returns.isVoid && !returns.isStructValue) {
             print("return ")
+            if (Module.PROFILE)
+                print("$FUNCTION_PROFILE.record(${nativeClass.getProfileIndex(this@Func)}, $FUNCTION_START, ")
+        }
         print(if (hasCustomJNI)
             "n$name("
         else
@@ -840,7 +849,14 @@ class Func(
             print(", ")
             print(RESULT)
         }
-        println(");")
+        print(")")
+        if (Module.PROFILE) {
+            if (!returns.isVoid && !returns.isStructValue)
+                print(")")
+            else
+                print(";\n$t$t$FUNCTION_PROFILE.record(${nativeClass.getProfileIndex(this@Func)}, $FUNCTION_START)")
+        }
+        println(";")
 
         println("$t}")
     }
@@ -1067,6 +1083,16 @@ class Func(
         val returnsObject = returns.nativeType is WrappedPointerType
         val returnType = if (returnsObject) (returns.nativeType as WrappedPointerType).className else returns.nativeMethodType
 
+        val macroExpression = if (has<Macro>()) get<Macro>().expression else null
+
+        // Calls to unsafe methods are profiled in the unsafe method
+        val profile = Module.PROFILE && macroExpression == null && !hasUnsafeMethod
+        if (profile) {
+            if (hasFinally)
+                print(t)
+            println("$t${t}long $FUNCTION_START = FunctionProfiler.start();")
+        }
+
         if (hasFinally)
             print(t)
         print("$t$t")
@@ -1080,9 +1106,10 @@ class Func(
                 if (returnsObject)
                     print("$returnType.createSafe(")
             }
+            if (profile)
+                print("$FUNCTION_PROFILE.record(${nativeClass.getProfileIndex(this@Func)}, $FUNCTION_START, ")
         }
 
-        val macroExpression = if (has<Macro>()) get<Macro>().expression else null
         if (hasUnsafeMethod) {
             print("n$name(")
         } else {
@@ -1110,6 +1137,15 @@ class Func(
             }
             print(")")
         }
+        if (profile) {
+            if (returns.isVoid || returns.isStructValue) {
+                println(";")
+                if (hasFinally)
+                    print(t)
+                print("$t$t$FUNCTION_PROFILE.record(${nativeClass.getProfileIndex(this@Func)}, $FUNCTION_START)")
+            } else
+                print(")")
+        }
 
         if (returnsObject) {
             if (has<Construct>()) {
@@ -1200,8 +1236,11 @@ class Func(
                 transforms[it] = CharSequenceTransform(!hasAutoSize)
                 true
             }
-        } != 0)
+        } != 0) {
             generateAlternativeMethod(name, transforms)
+            if (hasParam { it.has(Interned) })
+                generateInternedStringMethod(name, transforms)
+        }
 
         fun applyReturnValueTransforms(param: Parameter) {
             // Transform void to the proper type
@@ -1715,6 +1754,57 @@ class Func(
         println("$t}")
     }
 
+    /**
+     * Generates a {@code String} overload of the CharSequence alternative. If {@code NativeStringCache} is enabled, the overload calls the
+     * {@code ByteBuffer} method with the cached encoding of the {@link Interned} parameter, otherwise it calls the {@code CharSequence} alternative.
+     */
+    private fun PrintWriter.generateInternedStringMethod(
+        name: String,
+        transforms: Map<QualifiedType, Transform>
+    ) {
+        val param = getParams { it.has(Interned) }.single()
+        if (has<Macro>() || has<MapPointer>() || returns.isStructValue || hasAutoSizeFor(param) || hasParam { it !== param && it.isInput && it.nativeType is CharSequenceType })
+            throw IllegalStateException("The Interned modifier cannot be applied to $name.${param.name}: the function must not be a macro or have other CharSequence parameters, and the parameter must be null-terminated.")
+
+        val internedTransforms = HashMap(transforms)
+        internedTransforms[param] = InternedStringTransform
+
+        println()
+        val retType = generateAlternativeMethodSignature(name, internedTransforms, null, false)
+        val returns = if (retType == "void") "" else "return "
+
+        val params = getNativeParams(withAutoSizeResultParams = false)
+            .filter { it.transformDeclarationOrElse(internedTransforms, it.name, false) != null }
+            .toList()
+        fun PrintWriter.printCall(indent: String, target: String, argument: String) {
+            print("$indent$returns$target(")
+            printList(params.asSequence()) { if (it === param) argument else it.name }
+            println(");")
+        }
+
+        if (has<Reuse>()) {
+            printCall("$t$t", "${get<Reuse>().source.className}.$name", param.name)
+            println("$t}")
+            return
+        }
+
+        val charset = (param.nativeType as CharSequenceType).charMapping.charset
+        val encoded = "${param.name}Encoded"
+
+        println("$t${t}if (!NativeStringCache.ENABLED${if (param.has(nullable)) " || ${param.name} == null" else ""}) {")
+        printCall("$t$t$t", name, "(CharSequence)${param.name}")
+        if (returns.isEmpty())
+            println("$t$t${t}return;")
+        println("$t$t}")
+        println("$t${t}NativeStringCache.Entry $encoded = NativeStringCache.acquire$charset(${param.name});")
+        println("$t${t}try {")
+        printCall("$t$t$t", name, "$encoded.buffer()")
+        println("$t$t} finally {")
+        println("$t$t$t$encoded.release();")
+        println("$t$t}")
+        println("$t}")
+    }
+
     private fun PrintWriter.generateAlternativeMethodDelegate(
         name: String,
         transforms: Map<QualifiedType, Transform>,
@@ -106,7 +106,10 @@ fun main(args: Array<String>) {
                         JNI.register(it)
                 }
 
-                submit { generateSimple(JNI) }
+                submit {
+                    generateSimple(JNI)
+                    generateMultiRelease(JNI, 22) { it.generateJavaForeign() }
+                }
 
                 latch.await()
             }
@@ -319,6 +322,12 @@ class Generator(private val moduleRoot: String) {
         }
     }
 
+    /** Generates a version of the target class that is compiled to `META-INF/versions/<release>`. */
+    internal fun <T : GeneratorTarget> generateMultiRelease(target: T, release: Int, generate: T.(PrintWriter) -> Unit) {
+        val outputJava = Paths.get("$moduleRoot/${target.module.java}/src/generated/java$release/${target.packageName.replace('.', '/')}/${target.className}.java")
+        generateOutput(target, outputJava, null, generate)
+    }
+
     private fun generateNative(target: GeneratorTargetNative, generate: (Path) -> Unit) {
         val targetFile =
             "${target.nativeSubPath.let { if (it.isEmpty()) "" else "$it/" }}${target.nativeFileName}.${if (target.cpp) "cpp" else "c"}"
@@ -95,6 +95,99 @@ object JNI : GeneratorTargetNative(Module.CORE, "JNI") {
         println("\n}")
     }
 
+    /**
+     * Generates the Java 22 version of the JNI class. Each method calls the native function through a downcall handle of the Foreign Function & Memory
+     * API when `ForeignDispatch.ENABLED`, or through a private native method otherwise. Signatures with the same native function descriptor share
+     * a downcall handle, which is created lazily in a holder class.
+     */
+    internal fun PrintWriter.generateJavaForeign() {
+        print(HEADER)
+        println("package $packageName;\n")
+        println("""import javax.annotation.*;
+import java.lang.foreign.*;
+import java.lang.invoke.*;
+
+/**
+ * Java 22 version of {@code JNI}.
+ *
+ * <p>Calls are dispatched via the Foreign Function &amp; Memory API if {@link Configuration#FUNCTION_DISPATCH} is set to {@code foreign}, or via JNI
+ * otherwise.</p>
+ */""")
+        print("""public final class JNI {
+
+    static {
+        Library.initialize();
+    }
+
+    private static final boolean FOREIGN = ForeignDispatch.ENABLED;
+
+    private JNI() {}
+
+    // Pointer API
+
+""")
+        val descriptors = LinkedHashSet<String>()
+
+        fun Signature.generate(name: String, nativeName: String, array: Boolean) {
+            val descriptor = "${arguments.joinToString("") { it.foreignKey }}_${returnType.foreignKey}"
+            descriptors.add(descriptor)
+
+            val returnType = returnType.nativeMethodType
+            val parameters = arguments.asSequence()
+                .mapIndexed { i, param -> if (array && param is ArrayType<*>) "@Nullable ${param.mapping.primitive}[] param$i" else "${param.nativeMethodType} param$i" }
+                .plus("long $FUNCTION_ADDRESS")
+                .joinToString(", ")
+            val arguments = arguments.asSequence()
+                .mapIndexed { i, param -> if (array && param is ArrayType<*>) "param$i == null ? MemorySegment.NULL : MemorySegment.ofArray(param$i)" else "param$i" }
+                .plus(FUNCTION_ADDRESS)
+                .joinToString(", ")
+            val nativeArguments = this.arguments.indices.asSequence()
+                .map { "param$it" }
+                .plus(FUNCTION_ADDRESS)
+                .joinToString(", ")
+            val isVoid = returnType == "void"
+
+            println("""    public static $returnType $name($parameters) {
+        if (FOREIGN) {
+            try {
+                ${if (isVoid) "" else "return ($returnType)"}H_$descriptor.HANDLE.invokeExact($arguments);${if (isVoid) "\n$t$t$t${t}return;" else ""}
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ${if (isVoid) "" else "return "}$nativeName($nativeArguments);
+    }
+    private static native $returnType $nativeName($parameters);
+""")
+        }
+
+        sortedSignatures.forEach {
+            it.generate(it.signature, "n${it.signature}", false)
+        }
+
+        println("$t// Array API\n")
+
+        sortedSignaturesArray.forEach {
+            it.generate(it.signature, "n${it.signature}", true)
+        }
+
+        println("$t// Downcall handles, one per native function descriptor\n")
+
+        descriptors.sorted().forEach {
+            println("${t}private static final class H_$it { static final MethodHandle HANDLE = ForeignDispatch.downcall(\"$it\"); }")
+        }
+
+        println("\n}")
+    }
+
+    /** The native function descriptor key of a type, see `ForeignDispatch.downcall`. */
+    private val NativeType.foreignKey
+        get() = when {
+            this is ArrayType<*>               -> "A"
+            mapping === PrimitiveMapping.CLONG -> "N"
+            else                               -> jniSignatureStrict
+        }
+
     private val NativeType.nativeType
         get() = if (this.isPointer)
             "intptr_t"
@@ -176,6 +269,7 @@ object JNI : GeneratorTargetNative(Module.CORE, "JNI") {
             print("""$FUNCTION_ADDRESS);
 }
 """)
+            it.generateForeignFallback(this, it.signatureNative)
         }
 
         println()
@@ -221,10 +315,22 @@ object JNI : GeneratorTargetNative(Module.CORE, "JNI") {
         .joinToString(", ")}, $FUNCTION_ADDRESS);
 }""")
             if (it.workaroundJDK8167409()) println("#endif")
+            it.generateForeignFallback(this, it.signatureArray)
         }
 
         println("\nEXTERN_C_EXIT")
     }
+
+    /** The JNI function of the private native method that the Java 22 version of the JNI class calls when foreign dispatch is disabled. */
+    private fun Signature.generateForeignFallback(writer: PrintWriter, signatureNative: String) {
+        writer.println("""JNIEXPORT ${returnType.jniFunctionType} JNICALL Java_org_lwjgl_system_JNI_n$signatureNative(JNIEnv *$JNIENV, jclass clazz, ${
+        arguments
+            .mapIndexed { i, param -> "${param.jniFunctionTypeArray} param$i, " }
+            .joinToString("")
+        }jlong $FUNCTION_ADDRESS) {
+    ${if (returnType.mapping === TypeMapping.VOID) "" else "return "}Java_org_lwjgl_system_JNI_$signatureNative($JNIENV, clazz, ${arguments.indices.joinToString("") { "param$it, " }}$FUNCTION_ADDRESS);
+}""")
+    }
 }
 
 private open class Signature constructor(
@@ -45,6 +45,18 @@ object UseVariable : ParameterModifier {
     override val isSpecial = false
 }
 
+/**
+ * Generates an additional {@code String} overload that uses {@code org.lwjgl.system.NativeStringCache} to encode the parameter. Should be used on
+ * parameters that are usually constant names.
+ */
+object Interned : ParameterModifier {
+    override val isSpecial = false
+    override fun validate(param: Parameter) {
+        if (param.nativeType !is CharSequenceType || !param.isInput)
+            throw IllegalArgumentException("The Interned modifier can only be applied to input CharSequence parameters.")
+    }
+}
+
 class AutoSizeFactor(
     val operator: String,
     private val operatorInv: String,
@@ -741,6 +741,7 @@ float h = layout.dimensions(YGDimensionHeight);""")}
 
     companion object {
         internal val CHECKS = !System.getProperty("binding.DISABLE_CHECKS", "false")!!.toBoolean()
+        internal val PROFILE = System.getProperty("binding.PROFILE", "false")!!.toBoolean()
     }
 
     init {
@@ -62,6 +62,50 @@ abstract class APIBinding(
         .filter { !it.has<Reuse>() }
         .toList()
 
+    /** Prints a constant that contains the names of the specified functions, each terminated by a {@code NUL} character. */
+    protected fun PrintWriter.printFunctionNames(
+        name: String,
+        functions: List<Func>,
+        javadoc: String = "The names of the above functions, each terminated by a {@code NUL} character.",
+        indent: String = t
+    ) {
+        println("$indent/** $javadoc */")
+        print("${indent}private static final String $name =")
+
+        val line = StringBuilder()
+        var first = true
+        functions.forEach {
+            check(it.functionAddress == "\"${it.nativeName}\"") { "Function names must be constant: ${it.name}" }
+            if (160 < line.length + it.nativeName.length) {
+                print("${if (first) "" else " +"}\n$indent$t\"$line\"")
+                line.setLength(0)
+                first = false
+            }
+            line.append(it.nativeName).append("\\0")
+        }
+        println("${if (first) "" else " +"}\n$indent$t\"$line\";\n")
+    }
+
+    /**
+     * Prints statements that initialize a {@code boolean[] resolve} local variable, for use with {@code apiGetFunctionAddresses}.
+     *
+     * @param condition returns a Java expression that evaluates to true if the specified function should be resolved
+     */
+    protected fun PrintWriter.printFunctionResolution(functions: List<Func>, condition: (Func) -> String) {
+        println("$t${t}boolean[] resolve = new boolean[${functions.size}];")
+
+        val conditions = functions.map(condition)
+        var from = 0
+        while (from < conditions.size) {
+            var to = from + 1
+            while (to < conditions.size && conditions[to] == conditions[from]) {
+                to++
+            }
+            println("$t${t}Arrays.fill(resolve, $from, $to, ${conditions[from]});")
+            from = to
+        }
+    }
+
     fun addClass(clazz: NativeClass) {
         _classes.add(clazz)
     }
@@ -119,20 +163,29 @@ abstract class SimpleBinding(
 
         print(javadoc)
 
+        // Required functions with constant names are resolved with a single FunctionProvider.getFunctionAddresses call
+        val tableFunctions = bindingFunctions.filter { !(it has IgnoreMissing) && it.functionAddress == "\"${it.nativeName}\"" }.toList()
+        val tableIndex = tableFunctions.withIndex().associate { it.value to it.index }
+
         val alignment = bindingFunctions.map { it.simpleName.length }.max()!!
 
         println("""
     public static final class Functions {
 
         private Functions() {}
-
-        /** Function address. */
+""")
+        if (tableFunctions.isNotEmpty()) {
+            printFunctionNames("FUNCTIONS", tableFunctions, "The names of the required functions, each terminated by a {@code NUL} character.", "$t$t")
+            println("$t${t}private static final long[] ADDRESSES = apiGetFunctionAddresses($libraryExpression, FUNCTIONS);\n")
+        }
+        println("""        /** Function address. */
         public static final long
             ${bindingFunctions.joinToString(separator = ",\n$t$t$t", postfix = ";") {
-            "${it.simpleName}${" ".repeat(alignment - it.simpleName.length)} = ${if (it has IgnoreMissing)
-                "$libraryExpression.getFunctionAddress(${it.functionAddress})"
-            else
-                "apiGetFunctionAddress($libraryExpression, ${it.functionAddress})"}"
+            "${it.simpleName}${" ".repeat(alignment - it.simpleName.length)} = ${when {
+                tableIndex.containsKey(it) -> "ADDRESSES[${tableIndex.getValue(it)}]"
+                it has IgnoreMissing       -> "$libraryExpression.getFunctionAddress(${it.functionAddress})"
+                else                       -> "apiGetFunctionAddress($libraryExpression, ${it.functionAddress})"
+            }}"
         }}
 
     }""")
@@ -202,6 +255,13 @@ class NativeClass internal constructor(
         ArrayList<Func>(_functions.values)
     }
 
+    // function name -> FunctionProfiler index
+    private val profileIndices: Map<String, Int> by lazy(LazyThreadSafetyMode.NONE) {
+        _functions.values.withIndex().associate { it.value.name to it.index }
+    }
+
+    internal fun getProfileIndex(func: Func) = profileIndices[func.name]!!
+
     private val customMethods = ArrayList<String>()
 
     internal val hasBody
@@ -460,7 +520,7 @@ class NativeClass internal constructor(
                 }
             }
 
-            if ((hasFunctions || binding != null) && module !== Module.CORE) {
+            if ((hasFunctions || binding != null) && (module !== Module.CORE || (Module.PROFILE && hasFunctions && packageName != "org.lwjgl.system"))) {
                 println("import org.lwjgl.system.*;\n")
             }
 
@@ -514,6 +574,12 @@ class NativeClass internal constructor(
             it.generate(this)
         }
 
+        if (Module.PROFILE && hasFunctions) {
+            print("\n${t}private static final FunctionProfiler.Scope $FUNCTION_PROFILE = FunctionProfiler.register($className.class,")
+            printPointers(this, { "\"${it.name}\"" })
+            println(");")
+        }
+
         fun PrintWriter.libraryInit() {
             if (module.library != null || binding !is SimpleBinding) {
                 println(if (module.library == null)
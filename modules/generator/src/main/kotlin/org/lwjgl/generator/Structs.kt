@@ -33,7 +33,7 @@ private val BUFFER_KEYWORDS = setOf(
     "address0", "capacity", "clear", "compact", "duplicate", "flip", "hasRemaining", "limit", "mark", "position", "remaining", "reset", "rewind",
     "slice",
     // StructBuffer
-    "get", "parallelStream", "put", "stream"
+    "get", "parallelStream", "put", "stream", "structCursor"
 )
 
 open class StructMember(
@@ -123,7 +123,9 @@ class Struct(
     /** when true, the struct layout will be built using native code. */
     private val nativeLayout: Boolean,
     /** when true, a nested StructBuffer subclass will be generated as well. */
-    private val generateBuffer: Boolean
+    private val generateBuffer: Boolean,
+    /** when true, a nested struct-of-arrays container will be generated as well. */
+    private val generateSoA: Boolean = false
 ) : GeneratorTargetNative(module, className, nativeSubPath) {
 
     companion object {
@@ -1071,10 +1073,174 @@ ${validations.joinToString("\n")}
     }
 """)
         }
+
+        if (generateSoA)
+            generateSoA()
+
         print("""
 }""")
     }
 
+    private class SoAColumn(
+        val name: String,
+        val field: String,
+        val mapping: PrimitiveMapping
+    ) {
+        val javaType get() = mapping.javaMethodName
+        val bufferType get() = "${javaType.upperCaseFirst}Buffer"
+        fun element(index: String) = if (mapping.bytes == 1) "this.$name + $index" else "this.$name + $index * ${mapping.bytes}"
+    }
+
+    private val StructMember.isSoAColumn
+        get() = this !is StructMemberArray && bits == -1 && nativeType is PrimitiveType && nativeType.mapping.let {
+            it === PrimitiveMapping.BYTE ||
+            it === PrimitiveMapping.SHORT ||
+            it === PrimitiveMapping.INT ||
+            it === PrimitiveMapping.LONG ||
+            it === PrimitiveMapping.FLOAT ||
+            it === PrimitiveMapping.DOUBLE
+        }
+
+    private fun PrintWriter.generateSoA() {
+        if (!generateBuffer || alias != null)
+            throw IllegalStateException("Struct-of-arrays containers require a struct buffer and cannot be generated for aliases: $className")
+
+        val columns = ArrayList<SoAColumn>()
+        getSoAColumns(publicMembers, columns)
+        if (columns.isEmpty())
+            throw IllegalStateException("Struct-of-arrays container without primitive members: $className")
+
+        println("\n$t// -----------------------------------")
+        print("""
+    /**
+     * A struct-of-arrays container for {@link $className} data.
+     *
+     * <p>Each primitive member is stored in a separate column. Data is copied from and to {@link $className.Buffer} instances with
+     * {@link #gather gather} and {@link #scatter scatter}.</p>
+     */
+    public static class SoA extends StructSoA {
+
+        private static final int[] COLUMNS = { ${columns.joinToString(", ") { it.mapping.bytes.toString() }} };
+""")
+        println()
+        columns.forEach {
+            println("$t${t}private final long ${it.name};")
+        }
+
+        print("""
+        /**
+         * Creates a new {@code $className.SoA} instance. The instance must be explicitly freed.
+         *
+         * @param $BUFFER_CAPACITY_PARAM the number of elements in each column
+         */
+        public SoA(int $BUFFER_CAPACITY_PARAM) {
+            super($BUFFER_CAPACITY_PARAM, COLUMNS);
+""")
+        columns.forEachIndexed { i, it ->
+            println("$t$t${t}this.${it.name} = __column($i);")
+        }
+        println("$t$t}")
+
+        columns.forEach {
+            val get = "UNSAFE.get${bufferMethodMap.getValue(it.javaType)}"
+            val put = "UNSAFE.put${bufferMethodMap.getValue(it.javaType)}"
+            print("""
+        /** Returns a {@link ${it.bufferType}} view of the {@code ${it.name}} column. */
+        public ${it.bufferType} ${it.name}() { return mem${it.bufferType}(this.${it.name}, $BUFFER_CAPACITY_PARAM); }
+        /** Returns the {@code ${it.name}} value at the specified index. */
+        public ${it.javaType} ${it.name}(int index) { return $get(null, ${it.element("__index(index)")}); }
+        /** Sets the {@code ${it.name}} value at the specified index. */
+        public SoA ${it.name}(int index, ${it.javaType} value) { $put(null, ${it.element("__index(index)")}, value); return this; }
+""")
+        }
+
+        print("""
+        /**
+         * Copies the remaining structs of the specified buffer to the columns, starting at index 0. The buffer position is not modified.
+         *
+         * @param src the source struct buffer
+         *
+         * @return the number of structs copied
+         */
+        public int gather($className.Buffer src) {
+            int  count  = __count(src);
+            long $STRUCT = src.address();
+            for (int i = 0; i < count; i++, $STRUCT += SIZEOF) {
+                long index = i;
+""")
+        columns.forEach {
+            val type = bufferMethodMap.getValue(it.javaType)
+            println("$t$t$t${t}UNSAFE.put$type(null, ${it.element("index")}, UNSAFE.get$type(null, $STRUCT + ${it.field}));")
+        }
+        print("""            }
+            return count;
+        }
+""")
+
+        if (mutable) {
+            print("""
+        /**
+         * Copies the columns, starting at index 0, to the remaining structs of the specified buffer. The buffer position is not modified.
+         *
+         * @param dst the destination struct buffer
+         *
+         * @return the number of structs copied
+         */
+        public int scatter($className.Buffer dst) {
+            int  count  = __count(dst);
+            long $STRUCT = dst.address();
+            for (int i = 0; i < count; i++, $STRUCT += SIZEOF) {
+                long index = i;
+""")
+            columns.forEach {
+                val type = bufferMethodMap.getValue(it.javaType)
+                println("$t$t$t${t}UNSAFE.put$type(null, $STRUCT + ${it.field}, UNSAFE.get$type(null, ${it.element("index")}));")
+            }
+            print("""            }
+            return count;
+        }
+""")
+        }
+
+        print("""
+    }
+""")
+    }
+
+    private fun getSoAColumns(
+        members: Sequence<StructMember>,
+        columns: MutableList<SoAColumn>,
+        parentStruct: Struct? = null,
+        parentGetter: String = "",
+        parentField: String = ""
+    ) {
+        // The members of a union overlap, only one of them may be mapped to columns
+        var overlapping: StructMember? = null
+
+        members.filter { it.public }.forEach {
+            val getter = it.field(parentGetter)
+            val field = getFieldOffset(it, parentStruct, parentField)
+
+            val count = columns.size
+            if (it.isNestedStructDefinition) {
+                val nestedStruct = (it.nativeType as StructType).definition
+                getSoAColumns(
+                    it.nestedMembers, columns, nestedStruct,
+                    if (it.name === ANONYMOUS) parentGetter else getter,
+                    if (it.name === ANONYMOUS) parentField else field
+                )
+            } else if (it.isSoAColumn) {
+                columns.add(SoAColumn(getter, field, it.nativeType.mapping as PrimitiveMapping))
+            }
+
+            if (count != columns.size && (parentStruct ?: this).union) {
+                if (overlapping != null)
+                    it.error("Overlapping union members cannot be mapped to struct-of-arrays columns: ${overlapping!!.name}, ${it.name}")
+                overlapping = it
+            }
+        }
+    }
+
     private fun PrintWriter.generateOffsetFields(
         members: Sequence<StructMember>,
         indentation: String = "$t$t",
@@ -2135,9 +2301,10 @@ fun struct(
     alias: StructType? = null,
     nativeLayout: Boolean = false,
     skipBuffer: Boolean = false,
+    soa: Boolean = false,
     init: (Struct.() -> Unit)? = null
 ): StructType {
-    val struct = Struct(module, className, nativeSubPath, nativeName, false, virtual, mutable, alias?.definition, nativeLayout, !skipBuffer)
+    val struct = Struct(module, className, nativeSubPath, nativeName, false, virtual, mutable, alias?.definition, nativeLayout, !skipBuffer, soa)
     if (init != null) {
         struct.init()
     }
@@ -2157,9 +2324,10 @@ fun union(
     alias: StructType? = null,
     nativeLayout: Boolean = false,
     skipBuffer: Boolean = false,
+    soa: Boolean = false,
     init: (Struct.() -> Unit)? = null
 ): StructType {
-    val struct = Struct(module, className, nativeSubPath, nativeName, true, virtual, mutable, alias?.definition, nativeLayout, !skipBuffer)
+    val struct = Struct(module, className, nativeSubPath, nativeName, true, virtual, mutable, alias?.definition, nativeLayout, !skipBuffer, soa)
     if (init != null) {
         struct.init()
         Generator.register(struct)
@@ -318,4 +318,93 @@ public class AIVector3D extends Struct implements NativeResource {
 
     }
 
+    // -----------------------------------
+
+    /**
+     * A struct-of-arrays container for {@link AIVector3D} data.
+     *
+     * <p>Each primitive member is stored in a separate column. Data is copied from and to {@link AIVector3D.Buffer} instances with
+     * {@link #gather gather} and {@link #scatter scatter}.</p>
+     */
+    public static class SoA extends StructSoA {
+
+        private static final int[] COLUMNS = { 4, 4, 4 };
+
+        private final long x;
+        private final long y;
+        private final long z;
+
+        /**
+         * Creates a new {@code AIVector3D.SoA} instance. The instance must be explicitly freed.
+         *
+         * @param capacity the number of elements in each column
+         */
+        public SoA(int capacity) {
+            super(capacity, COLUMNS);
+            this.x = __column(0);
+            this.y = __column(1);
+            this.z = __column(2);
+        }
+
+        /** Returns a {@link FloatBuffer} view of the {@code x} column. */
+        public FloatBuffer x() { return memFloatBuffer(this.x, capacity); }
+        /** Returns the {@code x} value at the specified index. */
+        public float x(int index) { return UNSAFE.getFloat(null, this.x + __index(index) * 4); }
+        /** Sets the {@code x} value at the specified index. */
+        public SoA x(int index, float value) { UNSAFE.putFloat(null, this.x + __index(index) * 4, value); return this; }
+
+        /** Returns a {@link FloatBuffer} view of the {@code y} column. */
+        public FloatBuffer y() { return memFloatBuffer(this.y, capacity); }
+        /** Returns the {@code y} value at the specified index. */
+        public float y(int index) { return UNSAFE.getFloat(null, this.y + __index(index) * 4); }
+        /** Sets the {@code y} value at the specified index. */
+        public SoA y(int index, float value) { UNSAFE.putFloat(null, this.y + __index(index) * 4, value); return this; }
+
+        /** Returns a {@link FloatBuffer} view of the {@code z} column. */
+        public FloatBuffer z() { return memFloatBuffer(this.z, capacity); }
+        /** Returns the {@code z} value at the specified index. */
+        public float z(int index) { return UNSAFE.getFloat(null, this.z + __index(index) * 4); }
+        /** Sets the {@code z} value at the specified index. */
+        public SoA z(int index, float value) { UNSAFE.putFloat(null, this.z + __index(index) * 4, value); return this; }
+
+        /**
+         * Copies the remaining structs of the specified buffer to the columns, starting at index 0. The buffer position is not modified.
+         *
+         * @param src the source struct buffer
+         *
+         * @return the number of structs copied
+         */
+        public int gather(AIVector3D.Buffer src) {
+            int  count  = __count(src);
+            long struct = src.address();
+            for (int i = 0; i < count; i++, struct += SIZEOF) {
+                long index = i;
+                UNSAFE.putFloat(null, this.x + index * 4, UNSAFE.getFloat(null, struct + AIVector3D.X));
+                UNSAFE.putFloat(null, this.y + index * 4, UNSAFE.getFloat(null, struct + AIVector3D.Y));
+                UNSAFE.putFloat(null, this.z + index * 4, UNSAFE.getFloat(null, struct + AIVector3D.Z));
+            }
+            return count;
+        }
+
+        /**
+         * Copies the columns, starting at index 0, to the remaining structs of the specified buffer. The buffer position is not modified.
+         *
+         * @param dst the destination struct buffer
+         *
+         * @return the number of structs copied
+         */
+        public int scatter(AIVector3D.Buffer dst) {
+            int  count  = __count(dst);
+            long struct = dst.address();
+            for (int i = 0; i < count; i++, struct += SIZEOF) {
+                long index = i;
+                UNSAFE.putFloat(null, struct + AIVector3D.X, UNSAFE.getFloat(null, this.x + index * 4));
+                UNSAFE.putFloat(null, struct + AIVector3D.Y, UNSAFE.getFloat(null, this.y + index * 4));
+                UNSAFE.putFloat(null, struct + AIVector3D.Z, UNSAFE.getFloat(null, this.z + index * 4));
+            }
+            return count;
+        }
+
+    }
+
 }
\ No newline at end of file
@@ -1953,65 +1953,79 @@ public class Assimp {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "aiGetExportFormatCount\0aiGetExportFormatDescription\0aiReleaseExportFormatDescription\0aiCopyScene\0aiFreeScene\0aiExportScene\0aiExportSceneEx\0" +
+            "aiExportSceneToBlob\0aiReleaseExportBlob\0aiImportFile\0aiImportFileEx\0aiImportFileExWithProperties\0aiImportFileFromMemory\0" +
+            "aiImportFileFromMemoryWithProperties\0aiApplyPostProcessing\0aiAttachLogStream\0aiEnableVerboseLogging\0aiDetachLogStream\0aiDetachAllLogStreams\0" +
+            "aiReleaseImport\0aiGetErrorString\0aiIsExtensionSupported\0aiGetExtensionList\0aiGetMemoryRequirements\0aiCreatePropertyStore\0aiReleasePropertyStore\0" +
+            "aiSetImportPropertyInteger\0aiSetImportPropertyFloat\0aiSetImportPropertyString\0aiSetImportPropertyMatrix\0aiCreateQuaternionFromMatrix\0aiDecomposeMatrix\0" +
+            "aiTransposeMatrix4\0aiTransposeMatrix3\0aiTransformVecByMatrix3\0aiTransformVecByMatrix4\0aiMultiplyMatrix4\0aiMultiplyMatrix3\0aiIdentityMatrix3\0" +
+            "aiIdentityMatrix4\0aiGetImportFormatCount\0aiGetImportFormatDescription\0aiGetImporterDesc\0aiGetMaterialProperty\0aiGetMaterialFloatArray\0" +
+            "aiGetMaterialIntegerArray\0aiGetMaterialColor\0aiGetMaterialUVTransform\0aiGetMaterialString\0aiGetMaterialTextureCount\0aiGetMaterialTexture\0aiGetLegalString\0" +
+            "aiGetVersionMinor\0aiGetVersionMajor\0aiGetVersionRevision\0aiGetBranchName\0aiGetCompileFlags\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(ASSIMP, FUNCTIONS);
+
         /** Function address. */
         public static final long
-            GetExportFormatCount               = apiGetFunctionAddress(ASSIMP, "aiGetExportFormatCount"),
-            GetExportFormatDescription         = apiGetFunctionAddress(ASSIMP, "aiGetExportFormatDescription"),
-            ReleaseExportFormatDescription     = apiGetFunctionAddress(ASSIMP, "aiReleaseExportFormatDescription"),
-            CopyScene                          = apiGetFunctionAddress(ASSIMP, "aiCopyScene"),
-            FreeScene                          = apiGetFunctionAddress(ASSIMP, "aiFreeScene"),
-            ExportScene                        = apiGetFunctionAddress(ASSIMP, "aiExportScene"),
-            ExportSceneEx                      = apiGetFunctionAddress(ASSIMP, "aiExportSceneEx"),
-            ExportSceneToBlob                  = apiGetFunctionAddress(ASSIMP, "aiExportSceneToBlob"),
-            ReleaseExportBlob                  = apiGetFunctionAddress(ASSIMP, "aiReleaseExportBlob"),
-            ImportFile                         = apiGetFunctionAddress(ASSIMP, "aiImportFile"),
-            ImportFileEx                       = apiGetFunctionAddress(ASSIMP, "aiImportFileEx"),
-            ImportFileExWithProperties         = apiGetFunctionAddress(ASSIMP, "aiImportFileExWithProperties"),
-            ImportFileFromMemory               = apiGetFunctionAddress(ASSIMP, "aiImportFileFromMemory"),
-            ImportFileFromMemoryWithProperties = apiGetFunctionAddress(ASSIMP, "aiImportFileFromMemoryWithProperties"),
-            ApplyPostProcessing                = apiGetFunctionAddress(ASSIMP, "aiApplyPostProcessing"),
-            AttachLogStream                    = apiGetFunctionAddress(ASSIMP, "aiAttachLogStream"),
-            EnableVerboseLogging               = apiGetFunctionAddress(ASSIMP, "aiEnableVerboseLogging"),
-            DetachLogStream                    = apiGetFunctionAddress(ASSIMP, "aiDetachLogStream"),
-            DetachAllLogStreams                = apiGetFunctionAddress(ASSIMP, "aiDetachAllLogStreams"),
-            ReleaseImport                      = apiGetFunctionAddress(ASSIMP, "aiReleaseImport"),
-            GetErrorString                     = apiGetFunctionAddress(ASSIMP, "aiGetErrorString"),
-            IsExtensionSupported               = apiGetFunctionAddress(ASSIMP, "aiIsExtensionSupported"),
-            GetExtensionList                   = apiGetFunctionAddress(ASSIMP, "aiGetExtensionList"),
-            GetMemoryRequirements              = apiGetFunctionAddress(ASSIMP, "aiGetMemoryRequirements"),
-            CreatePropertyStore                = apiGetFunctionAddress(ASSIMP, "aiCreatePropertyStore"),
-            ReleasePropertyStore               = apiGetFunctionAddress(ASSIMP, "aiReleasePropertyStore"),
-            SetImportPropertyInteger           = apiGetFunctionAddress(ASSIMP, "aiSetImportPropertyInteger"),
-            SetImportPropertyFloat             = apiGetFunctionAddress(ASSIMP, "aiSetImportPropertyFloat"),
-            SetImportPropertyString            = apiGetFunctionAddress(ASSIMP, "aiSetImportPropertyString"),
-            SetImportPropertyMatrix            = apiGetFunctionAddress(ASSIMP, "aiSetImportPropertyMatrix"),
-            CreateQuaternionFromMatrix         = apiGetFunctionAddress(ASSIMP, "aiCreateQuaternionFromMatrix"),
-            DecomposeMatrix                    = apiGetFunctionAddress(ASSIMP, "aiDecomposeMatrix"),
-            TransposeMatrix4                   = apiGetFunctionAddress(ASSIMP, "aiTransposeMatrix4"),
-            TransposeMatrix3                   = apiGetFunctionAddress(ASSIMP, "aiTransposeMatrix3"),
-            TransformVecByMatrix3              = apiGetFunctionAddress(ASSIMP, "aiTransformVecByMatrix3"),
-            TransformVecByMatrix4              = apiGetFunctionAddress(ASSIMP, "aiTransformVecByMatrix4"),
-            MultiplyMatrix4                    = apiGetFunctionAddress(ASSIMP, "aiMultiplyMatrix4"),
-            MultiplyMatrix3                    = apiGetFunctionAddress(ASSIMP, "aiMultiplyMatrix3"),
-            IdentityMatrix3                    = apiGetFunctionAddress(ASSIMP, "aiIdentityMatrix3"),
-            IdentityMatrix4                    = apiGetFunctionAddress(ASSIMP, "aiIdentityMatrix4"),
-            GetImportFormatCount               = apiGetFunctionAddress(ASSIMP, "aiGetImportFormatCount"),
-            GetImportFormatDescription         = apiGetFunctionAddress(ASSIMP, "aiGetImportFormatDescription"),
-            GetImporterDesc                    = apiGetFunctionAddress(ASSIMP, "aiGetImporterDesc"),
-            GetMaterialProperty                = apiGetFunctionAddress(ASSIMP, "aiGetMaterialProperty"),
-            GetMaterialFloatArray              = apiGetFunctionAddress(ASSIMP, "aiGetMaterialFloatArray"),
-            GetMaterialIntegerArray            = apiGetFunctionAddress(ASSIMP, "aiGetMaterialIntegerArray"),
-            GetMaterialColor                   = apiGetFunctionAddress(ASSIMP, "aiGetMaterialColor"),
-            GetMaterialUVTransform             = apiGetFunctionAddress(ASSIMP, "aiGetMaterialUVTransform"),
-            GetMaterialString                  = apiGetFunctionAddress(ASSIMP, "aiGetMaterialString"),
-            GetMaterialTextureCount            = apiGetFunctionAddress(ASSIMP, "aiGetMaterialTextureCount"),
-            GetMaterialTexture                 = apiGetFunctionAddress(ASSIMP, "aiGetMaterialTexture"),
-            GetLegalString                     = apiGetFunctionAddress(ASSIMP, "aiGetLegalString"),
-            GetVersionMinor                    = apiGetFunctionAddress(ASSIMP, "aiGetVersionMinor"),
-            GetVersionMajor                    = apiGetFunctionAddress(ASSIMP, "aiGetVersionMajor"),
-            GetVersionRevision                 = apiGetFunctionAddress(ASSIMP, "aiGetVersionRevision"),
-            GetBranchName                      = apiGetFunctionAddress(ASSIMP, "aiGetBranchName"),
-            GetCompileFlags                    = apiGetFunctionAddress(ASSIMP, "aiGetCompileFlags");
+            GetExportFormatCount               = ADDRESSES[0],
+            GetExportFormatDescription         = ADDRESSES[1],
+            ReleaseExportFormatDescription     = ADDRESSES[2],
+            CopyScene                          = ADDRESSES[3],
+            FreeScene                          = ADDRESSES[4],
+            ExportScene                        = ADDRESSES[5],
+            ExportSceneEx                      = ADDRESSES[6],
+            ExportSceneToBlob                  = ADDRESSES[7],
+            ReleaseExportBlob                  = ADDRESSES[8],
+            ImportFile                         = ADDRESSES[9],
+            ImportFileEx                       = ADDRESSES[10],
+            ImportFileExWithProperties         = ADDRESSES[11],
+            ImportFileFromMemory               = ADDRESSES[12],
+            ImportFileFromMemoryWithProperties = ADDRESSES[13],
+            ApplyPostProcessing                = ADDRESSES[14],
+            AttachLogStream                    = ADDRESSES[15],
+            EnableVerboseLogging               = ADDRESSES[16],
+            DetachLogStream                    = ADDRESSES[17],
+            DetachAllLogStreams                = ADDRESSES[18],
+            ReleaseImport                      = ADDRESSES[19],
+            GetErrorString                     = ADDRESSES[20],
+            IsExtensionSupported               = ADDRESSES[21],
+            GetExtensionList                   = ADDRESSES[22],
+            GetMemoryRequirements              = ADDRESSES[23],
+            CreatePropertyStore                = ADDRESSES[24],
+            ReleasePropertyStore               = ADDRESSES[25],
+            SetImportPropertyInteger           = ADDRESSES[26],
+            SetImportPropertyFloat             = ADDRESSES[27],
+            SetImportPropertyString            = ADDRESSES[28],
+            SetImportPropertyMatrix            = ADDRESSES[29],
+            CreateQuaternionFromMatrix         = ADDRESSES[30],
+            DecomposeMatrix                    = ADDRESSES[31],
+            TransposeMatrix4                   = ADDRESSES[32],
+            TransposeMatrix3                   = ADDRESSES[33],
+            TransformVecByMatrix3              = ADDRESSES[34],
+            TransformVecByMatrix4              = ADDRESSES[35],
+            MultiplyMatrix4                    = ADDRESSES[36],
+            MultiplyMatrix3                    = ADDRESSES[37],
+            IdentityMatrix3                    = ADDRESSES[38],
+            IdentityMatrix4                    = ADDRESSES[39],
+            GetImportFormatCount               = ADDRESSES[40],
+            GetImportFormatDescription         = ADDRESSES[41],
+            GetImporterDesc                    = ADDRESSES[42],
+            GetMaterialProperty                = ADDRESSES[43],
+            GetMaterialFloatArray              = ADDRESSES[44],
+            GetMaterialIntegerArray            = ADDRESSES[45],
+            GetMaterialColor                   = ADDRESSES[46],
+            GetMaterialUVTransform             = ADDRESSES[47],
+            GetMaterialString                  = ADDRESSES[48],
+            GetMaterialTextureCount            = ADDRESSES[49],
+            GetMaterialTexture                 = ADDRESSES[50],
+            GetLegalString                     = ADDRESSES[51],
+            GetVersionMinor                    = ADDRESSES[52],
+            GetVersionMajor                    = ADDRESSES[53],
+            GetVersionRevision                 = ADDRESSES[54],
+            GetBranchName                      = ADDRESSES[55],
+            GetCompileFlags                    = ADDRESSES[56];
 
     }
 
@@ -3902,6 +3916,30 @@ public class Assimp {
         }
     }
 
+    /**
+     * Retrieve a string value with a specific key from a material.
+     *
+     * @param pMat  Pointer to the input material. May not be {@code NULL}
+     * @param pKey  Key to search for. One of the AI_MATKEY_XXX constants.
+     * @param type  Specifies the type of the texture to be retrieved. One of:<br><table><tr><td>{@link #aiTextureType_NONE TextureType_NONE}</td><td>{@link #aiTextureType_DIFFUSE TextureType_DIFFUSE}</td><td>{@link #aiTextureType_SPECULAR TextureType_SPECULAR}</td><td>{@link #aiTextureType_AMBIENT TextureType_AMBIENT}</td></tr><tr><td>{@link #aiTextureType_EMISSIVE TextureType_EMISSIVE}</td><td>{@link #aiTextureType_HEIGHT TextureType_HEIGHT}</td><td>{@link #aiTextureType_NORMALS TextureType_NORMALS}</td><td>{@link #aiTextureType_SHININESS TextureType_SHININESS}</td></tr><tr><td>{@link #aiTextureType_OPACITY TextureType_OPACITY}</td><td>{@link #aiTextureType_DISPLACEMENT TextureType_DISPLACEMENT}</td><td>{@link #aiTextureType_LIGHTMAP TextureType_LIGHTMAP}</td><td>{@link #aiTextureType_REFLECTION TextureType_REFLECTION}</td></tr><tr><td>{@link #aiTextureType_UNKNOWN TextureType_UNKNOWN}</td></tr></table>
+     * @param index Index of the texture to be retrieved.
+     * @param pOut  Pointer to a string to receive the result.
+     *
+     * @return Specifies whether the key has been found. If not, the output struct remains unmodified.
+     */
+    @NativeType("aiReturn")
+    public static int aiGetMaterialString(@NativeType("struct aiMaterial const *") AIMaterial pMat, @NativeType("char const *") String pKey, @NativeType("unsigned int") int type, @NativeType("unsigned int") int index, @NativeType("struct aiString *") AIString pOut) {
+        if (!NativeStringCache.ENABLED) {
+            return aiGetMaterialString(pMat, (CharSequence)pKey, type, index, pOut);
+        }
+        NativeStringCache.Entry pKeyEncoded = NativeStringCache.acquireASCII(pKey);
+        try {
+            return aiGetMaterialString(pMat, pKeyEncoded.buffer(), type, index, pOut);
+        } finally {
+            pKeyEncoded.release();
+        }
+    }
+
     // --- [ aiGetMaterialTextureCount ] ---
 
     /** Unsafe version of: {@link #aiGetMaterialTextureCount GetMaterialTextureCount} */
@@ -26,7 +26,7 @@ val aiVector2D = struct(Module.ASSIMP, "AIVector2D", nativeName = "struct aiVect
     float("y", "")
 }
 
-val aiVector3D = struct(Module.ASSIMP, "AIVector3D", nativeName = "struct aiVector3D") {
+val aiVector3D = struct(Module.ASSIMP, "AIVector3D", nativeName = "struct aiVector3D", soa = true) {
     float("x", "")
     float("y", "")
     float("z", "")
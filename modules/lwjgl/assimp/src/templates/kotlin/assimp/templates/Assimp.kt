@@ -2287,7 +2287,7 @@ aiAttachLogStream(&c);""")}
         "Retrieve a string value with a specific key from a material.",
 
         GetMaterialProperty["pMat"],
-        GetMaterialProperty["pKey"],
+        Interned..GetMaterialProperty["pKey"],
         GetMaterialProperty["type"],
         GetMaterialProperty["index"],
         aiString.p("pOut", "Pointer to a string to receive the result."),
@@ -956,187 +956,224 @@ public class BGFX {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "bgfx_attachment_init\0bgfx_vertex_decl_begin\0bgfx_vertex_decl_add\0bgfx_vertex_decl_decode\0bgfx_vertex_decl_has\0bgfx_vertex_decl_skip\0bgfx_vertex_decl_end\0" +
+            "bgfx_vertex_pack\0bgfx_vertex_unpack\0bgfx_vertex_convert\0bgfx_weld_vertices\0bgfx_topology_convert\0bgfx_topology_sort_tri_list\0bgfx_get_supported_renderers\0" +
+            "bgfx_get_renderer_name\0bgfx_init_ctor\0bgfx_init\0bgfx_shutdown\0bgfx_reset\0bgfx_frame\0bgfx_get_renderer_type\0bgfx_get_caps\0bgfx_get_stats\0bgfx_alloc\0" +
+            "bgfx_copy\0bgfx_make_ref\0bgfx_make_ref_release\0bgfx_set_debug\0bgfx_dbg_text_clear\0bgfx_dbg_text_printf\0bgfx_dbg_text_vprintf\0bgfx_dbg_text_image\0" +
+            "bgfx_create_index_buffer\0bgfx_set_index_buffer_name\0bgfx_destroy_index_buffer\0bgfx_create_vertex_decl\0bgfx_destroy_vertex_decl\0bgfx_create_vertex_buffer\0" +
+            "bgfx_set_vertex_buffer_name\0bgfx_destroy_vertex_buffer\0bgfx_create_dynamic_index_buffer\0bgfx_create_dynamic_index_buffer_mem\0" +
+            "bgfx_update_dynamic_index_buffer\0bgfx_destroy_dynamic_index_buffer\0bgfx_create_dynamic_vertex_buffer\0bgfx_create_dynamic_vertex_buffer_mem\0" +
+            "bgfx_update_dynamic_vertex_buffer\0bgfx_destroy_dynamic_vertex_buffer\0bgfx_get_avail_transient_index_buffer\0bgfx_get_avail_transient_vertex_buffer\0" +
+            "bgfx_get_avail_instance_data_buffer\0bgfx_alloc_transient_index_buffer\0bgfx_alloc_transient_vertex_buffer\0bgfx_alloc_transient_buffers\0" +
+            "bgfx_alloc_instance_data_buffer\0bgfx_create_indirect_buffer\0bgfx_destroy_indirect_buffer\0bgfx_create_shader\0bgfx_get_shader_uniforms\0bgfx_set_shader_name\0" +
+            "bgfx_destroy_shader\0bgfx_create_program\0bgfx_create_compute_program\0bgfx_destroy_program\0bgfx_is_texture_valid\0bgfx_calc_texture_size\0bgfx_create_texture\0" +
+            "bgfx_create_texture_2d\0bgfx_create_texture_2d_scaled\0bgfx_create_texture_3d\0bgfx_create_texture_cube\0bgfx_update_texture_2d\0bgfx_update_texture_3d\0" +
+            "bgfx_update_texture_cube\0bgfx_read_texture\0bgfx_set_texture_name\0bgfx_get_direct_access_ptr\0bgfx_destroy_texture\0bgfx_create_frame_buffer\0" +
+            "bgfx_create_frame_buffer_scaled\0bgfx_create_frame_buffer_from_handles\0bgfx_create_frame_buffer_from_attachment\0bgfx_create_frame_buffer_from_nwh\0" +
+            "bgfx_set_frame_buffer_name\0bgfx_get_texture\0bgfx_destroy_frame_buffer\0bgfx_create_uniform\0bgfx_get_uniform_info\0bgfx_destroy_uniform\0" +
+            "bgfx_create_occlusion_query\0bgfx_get_result\0bgfx_destroy_occlusion_query\0bgfx_set_palette_color\0bgfx_set_palette_color_rgba8\0bgfx_set_view_name\0" +
+            "bgfx_set_view_rect\0bgfx_set_view_rect_ratio\0bgfx_set_view_scissor\0bgfx_set_view_clear\0bgfx_set_view_clear_mrt\0bgfx_set_view_mode\0" +
+            "bgfx_set_view_frame_buffer\0bgfx_set_view_transform\0bgfx_set_view_order\0bgfx_encoder_begin\0bgfx_encoder_end\0bgfx_encoder_set_marker\0bgfx_encoder_set_state\0" +
+            "bgfx_encoder_set_condition\0bgfx_encoder_set_stencil\0bgfx_encoder_set_scissor\0bgfx_encoder_set_scissor_cached\0bgfx_encoder_set_transform\0" +
+            "bgfx_encoder_set_transform_cached\0bgfx_encoder_alloc_transform\0bgfx_encoder_set_uniform\0bgfx_encoder_set_index_buffer\0bgfx_encoder_set_dynamic_index_buffer\0" +
+            "bgfx_encoder_set_transient_index_buffer\0bgfx_encoder_set_vertex_buffer\0bgfx_encoder_set_dynamic_vertex_buffer\0bgfx_encoder_set_transient_vertex_buffer\0" +
+            "bgfx_encoder_set_vertex_count\0bgfx_encoder_set_instance_data_buffer\0bgfx_encoder_set_instance_data_from_vertex_buffer\0" +
+            "bgfx_encoder_set_instance_data_from_dynamic_vertex_buffer\0bgfx_encoder_set_instance_count\0bgfx_encoder_set_texture\0bgfx_encoder_touch\0bgfx_encoder_submit\0" +
+            "bgfx_encoder_submit_occlusion_query\0bgfx_encoder_submit_indirect\0bgfx_encoder_set_compute_index_buffer\0bgfx_encoder_set_compute_vertex_buffer\0" +
+            "bgfx_encoder_set_compute_dynamic_index_buffer\0bgfx_encoder_set_compute_dynamic_vertex_buffer\0bgfx_encoder_set_compute_indirect_buffer\0bgfx_encoder_set_image\0" +
+            "bgfx_encoder_dispatch\0bgfx_encoder_dispatch_indirect\0bgfx_encoder_discard\0bgfx_encoder_blit\0bgfx_request_screen_shot\0bgfx_set_marker\0bgfx_set_state\0" +
+            "bgfx_set_condition\0bgfx_set_stencil\0bgfx_set_scissor\0bgfx_set_scissor_cached\0bgfx_set_transform\0bgfx_set_transform_cached\0bgfx_alloc_transform\0" +
+            "bgfx_set_uniform\0bgfx_set_index_buffer\0bgfx_set_dynamic_index_buffer\0bgfx_set_transient_index_buffer\0bgfx_set_vertex_buffer\0bgfx_set_dynamic_vertex_buffer\0" +
+            "bgfx_set_transient_vertex_buffer\0bgfx_set_vertex_count\0bgfx_set_instance_data_buffer\0bgfx_set_instance_data_from_vertex_buffer\0" +
+            "bgfx_set_instance_data_from_dynamic_vertex_buffer\0bgfx_set_instance_count\0bgfx_set_texture\0bgfx_touch\0bgfx_submit\0bgfx_submit_occlusion_query\0" +
+            "bgfx_submit_indirect\0bgfx_set_compute_index_buffer\0bgfx_set_compute_vertex_buffer\0bgfx_set_compute_dynamic_index_buffer\0" +
+            "bgfx_set_compute_dynamic_vertex_buffer\0bgfx_set_compute_indirect_buffer\0bgfx_set_image\0bgfx_dispatch\0bgfx_dispatch_indirect\0bgfx_discard\0bgfx_blit\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(BGFX, FUNCTIONS);
+
         /** Function address. */
         public static final long
-            attachment_init                                      = apiGetFunctionAddress(BGFX, "bgfx_attachment_init"),
-            vertex_decl_begin                                    = apiGetFunctionAddress(BGFX, "bgfx_vertex_decl_begin"),
-            vertex_decl_add                                      = apiGetFunctionAddress(BGFX, "bgfx_vertex_decl_add"),
-            vertex_decl_decode                                   = apiGetFunctionAddress(BGFX, "bgfx_vertex_decl_decode"),
-            vertex_decl_has                                      = apiGetFunctionAddress(BGFX, "bgfx_vertex_decl_has"),
-            vertex_decl_skip                                     = apiGetFunctionAddress(BGFX, "bgfx_vertex_decl_skip"),
-            vertex_decl_end                                      = apiGetFunctionAddress(BGFX, "bgfx_vertex_decl_end"),
-            vertex_pack                                          = apiGetFunctionAddress(BGFX, "bgfx_vertex_pack"),
-            vertex_unpack                                        = apiGetFunctionAddress(BGFX, "bgfx_vertex_unpack"),
-            vertex_convert                                       = apiGetFunctionAddress(BGFX, "bgfx_vertex_convert"),
-            weld_vertices                                        = apiGetFunctionAddress(BGFX, "bgfx_weld_vertices"),
-            topology_convert                                     = apiGetFunctionAddress(BGFX, "bgfx_topology_convert"),
-            topology_sort_tri_list                               = apiGetFunctionAddress(BGFX, "bgfx_topology_sort_tri_list"),
-            get_supported_renderers                              = apiGetFunctionAddress(BGFX, "bgfx_get_supported_renderers"),
-            get_renderer_name                                    = apiGetFunctionAddress(BGFX, "bgfx_get_renderer_name"),
-            init_ctor                                            = apiGetFunctionAddress(BGFX, "bgfx_init_ctor"),
-            init                                                 = apiGetFunctionAddress(BGFX, "bgfx_init"),
-            shutdown                                             = apiGetFunctionAddress(BGFX, "bgfx_shutdown"),
-            reset                                                = apiGetFunctionAddress(BGFX, "bgfx_reset"),
-            frame                                                = apiGetFunctionAddress(BGFX, "bgfx_frame"),
-            get_renderer_type                                    = apiGetFunctionAddress(BGFX, "bgfx_get_renderer_type"),
-            get_caps                                             = apiGetFunctionAddress(BGFX, "bgfx_get_caps"),
-            get_stats                                            = apiGetFunctionAddress(BGFX, "bgfx_get_stats"),
-            alloc                                                = apiGetFunctionAddress(BGFX, "bgfx_alloc"),
-            copy                                                 = apiGetFunctionAddress(BGFX, "bgfx_copy"),
-            make_ref                                             = apiGetFunctionAddress(BGFX, "bgfx_make_ref"),
-            make_ref_release                                     = apiGetFunctionAddress(BGFX, "bgfx_make_ref_release"),
-            set_debug                                            = apiGetFunctionAddress(BGFX, "bgfx_set_debug"),
-            dbg_text_clear                                       = apiGetFunctionAddress(BGFX, "bgfx_dbg_text_clear"),
-            dbg_text_printf                                      = apiGetFunctionAddress(BGFX, "bgfx_dbg_text_printf"),
-            dbg_text_vprintf                                     = apiGetFunctionAddress(BGFX, "bgfx_dbg_text_vprintf"),
-            dbg_text_image                                       = apiGetFunctionAddress(BGFX, "bgfx_dbg_text_image"),
-            create_index_buffer                                  = apiGetFunctionAddress(BGFX, "bgfx_create_index_buffer"),
-            set_index_buffer_name                                = apiGetFunctionAddress(BGFX, "bgfx_set_index_buffer_name"),
-            destroy_index_buffer                                 = apiGetFunctionAddress(BGFX, "bgfx_destroy_index_buffer"),
-            create_vertex_decl                                   = apiGetFunctionAddress(BGFX, "bgfx_create_vertex_decl"),
-            destroy_vertex_decl                                  = apiGetFunctionAddress(BGFX, "bgfx_destroy_vertex_decl"),
-            create_vertex_buffer                                 = apiGetFunctionAddress(BGFX, "bgfx_create_vertex_buffer"),
-            set_vertex_buffer_name                               = apiGetFunctionAddress(BGFX, "bgfx_set_vertex_buffer_name"),
-            destroy_vertex_buffer                                = apiGetFunctionAddress(BGFX, "bgfx_destroy_vertex_buffer"),
-            create_dynamic_index_buffer                          = apiGetFunctionAddress(BGFX, "bgfx_create_dynamic_index_buffer"),
-            create_dynamic_index_buffer_mem                      = apiGetFunctionAddress(BGFX, "bgfx_create_dynamic_index_buffer_mem"),
-            update_dynamic_index_buffer                          = apiGetFunctionAddress(BGFX, "bgfx_update_dynamic_index_buffer"),
-            destroy_dynamic_index_buffer                         = apiGetFunctionAddress(BGFX, "bgfx_destroy_dynamic_index_buffer"),
-            create_dynamic_vertex_buffer                         = apiGetFunctionAddress(BGFX, "bgfx_create_dynamic_vertex_buffer"),
-            create_dynamic_vertex_buffer_mem                     = apiGetFunctionAddress(BGFX, "bgfx_create_dynamic_vertex_buffer_mem"),
-            update_dynamic_vertex_buffer                         = apiGetFunctionAddress(BGFX, "bgfx_update_dynamic_vertex_buffer"),
-            destroy_dynamic_vertex_buffer                        = apiGetFunctionAddress(BGFX, "bgfx_destroy_dynamic_vertex_buffer"),
-            get_avail_transient_index_buffer                     = apiGetFunctionAddress(BGFX, "bgfx_get_avail_transient_index_buffer"),
-            get_avail_transient_vertex_buffer                    = apiGetFunctionAddress(BGFX, "bgfx_get_avail_transient_vertex_buffer"),
-            get_avail_instance_data_buffer                       = apiGetFunctionAddress(BGFX, "bgfx_get_avail_instance_data_buffer"),
-            alloc_transient_index_buffer                         = apiGetFunctionAddress(BGFX, "bgfx_alloc_transient_index_buffer"),
-            alloc_transient_vertex_buffer                        = apiGetFunctionAddress(BGFX, "bgfx_alloc_transient_vertex_buffer"),
-            alloc_transient_buffers                              = apiGetFunctionAddress(BGFX, "bgfx_alloc_transient_buffers"),
-            alloc_instance_data_buffer                           = apiGetFunctionAddress(BGFX, "bgfx_alloc_instance_data_buffer"),
-            create_indirect_buffer                               = apiGetFunctionAddress(BGFX, "bgfx_create_indirect_buffer"),
-            destroy_indirect_buffer                              = apiGetFunctionAddress(BGFX, "bgfx_destroy_indirect_buffer"),
-            create_shader                                        = apiGetFunctionAddress(BGFX, "bgfx_create_shader"),
-            get_shader_uniforms                                  = apiGetFunctionAddress(BGFX, "bgfx_get_shader_uniforms"),
-            set_shader_name                                      = apiGetFunctionAddress(BGFX, "bgfx_set_shader_name"),
-            destroy_shader                                       = apiGetFunctionAddress(BGFX, "bgfx_destroy_shader"),
-            create_program                                       = apiGetFunctionAddress(BGFX, "bgfx_create_program"),
-            create_compute_program                               = apiGetFunctionAddress(BGFX, "bgfx_create_compute_program"),
-            destroy_program                                      = apiGetFunctionAddress(BGFX, "bgfx_destroy_program"),
-            is_texture_valid                                     = apiGetFunctionAddress(BGFX, "bgfx_is_texture_valid"),
-            calc_texture_size                                    = apiGetFunctionAddress(BGFX, "bgfx_calc_texture_size"),
-            create_texture                                       = apiGetFunctionAddress(BGFX, "bgfx_create_texture"),
-            create_texture_2d                                    = apiGetFunctionAddress(BGFX, "bgfx_create_texture_2d"),
-            create_texture_2d_scaled                             = apiGetFunctionAddress(BGFX, "bgfx_create_texture_2d_scaled"),
-            create_texture_3d                                    = apiGetFunctionAddress(BGFX, "bgfx_create_texture_3d"),
-            create_texture_cube                                  = apiGetFunctionAddress(BGFX, "bgfx_create_texture_cube"),
-            update_texture_2d                                    = apiGetFunctionAddress(BGFX, "bgfx_update_texture_2d"),
-            update_texture_3d                                    = apiGetFunctionAddress(BGFX, "bgfx_update_texture_3d"),
-            update_texture_cube                                  = apiGetFunctionAddress(BGFX, "bgfx_update_texture_cube"),
-            read_texture                                         = apiGetFunctionAddress(BGFX, "bgfx_read_texture"),
-            set_texture_name                                     = apiGetFunctionAddress(BGFX, "bgfx_set_texture_name"),
-            get_direct_access_ptr                                = apiGetFunctionAddress(BGFX, "bgfx_get_direct_access_ptr"),
-            destroy_texture                                      = apiGetFunctionAddress(BGFX, "bgfx_destroy_texture"),
-            create_frame_buffer                                  = apiGetFunctionAddress(BGFX, "bgfx_create_frame_buffer"),
-            create_frame_buffer_scaled                           = apiGetFunctionAddress(BGFX, "bgfx_create_frame_buffer_scaled"),
-            create_frame_buffer_from_handles                     = apiGetFunctionAddress(BGFX, "bgfx_create_frame_buffer_from_handles"),
-            create_frame_buffer_from_attachment                  = apiGetFunctionAddress(BGFX, "bgfx_create_frame_buffer_from_attachment"),
-            create_frame_buffer_from_nwh                         = apiGetFunctionAddress(BGFX, "bgfx_create_frame_buffer_from_nwh"),
-            set_frame_buffer_name                                = apiGetFunctionAddress(BGFX, "bgfx_set_frame_buffer_name"),
-            get_texture                                          = apiGetFunctionAddress(BGFX, "bgfx_get_texture"),
-            destroy_frame_buffer                                 = apiGetFunctionAddress(BGFX, "bgfx_destroy_frame_buffer"),
-            create_uniform                                       = apiGetFunctionAddress(BGFX, "bgfx_create_uniform"),
-            get_uniform_info                                     = apiGetFunctionAddress(BGFX, "bgfx_get_uniform_info"),
-            destroy_uniform                                      = apiGetFunctionAddress(BGFX, "bgfx_destroy_uniform"),
-            create_occlusion_query                               = apiGetFunctionAddress(BGFX, "bgfx_create_occlusion_query"),
-            get_result                                           = apiGetFunctionAddress(BGFX, "bgfx_get_result"),
-            destroy_occlusion_query                              = apiGetFunctionAddress(BGFX, "bgfx_destroy_occlusion_query"),
-            set_palette_color                                    = apiGetFunctionAddress(BGFX, "bgfx_set_palette_color"),
-            set_palette_color_rgba8                              = apiGetFunctionAddress(BGFX, "bgfx_set_palette_color_rgba8"),
-            set_view_name                                        = apiGetFunctionAddress(BGFX, "bgfx_set_view_name"),
-            set_view_rect                                        = apiGetFunctionAddress(BGFX, "bgfx_set_view_rect"),
-            set_view_rect_ratio                                  = apiGetFunctionAddress(BGFX, "bgfx_set_view_rect_ratio"),
-            set_view_scissor                                     = apiGetFunctionAddress(BGFX, "bgfx_set_view_scissor"),
-            set_view_clear                                       = apiGetFunctionAddress(BGFX, "bgfx_set_view_clear"),
-            set_view_clear_mrt                                   = apiGetFunctionAddress(BGFX, "bgfx_set_view_clear_mrt"),
-            set_view_mode                                        = apiGetFunctionAddress(BGFX, "bgfx_set_view_mode"),
-            set_view_frame_buffer                                = apiGetFunctionAddress(BGFX, "bgfx_set_view_frame_buffer"),
-            set_view_transform                                   = apiGetFunctionAddress(BGFX, "bgfx_set_view_transform"),
-            set_view_order                                       = apiGetFunctionAddress(BGFX, "bgfx_set_view_order"),
-            encoder_begin                                        = apiGetFunctionAddress(BGFX, "bgfx_encoder_begin"),
-            encoder_end                                          = apiGetFunctionAddress(BGFX, "bgfx_encoder_end"),
-            encoder_set_marker                                   = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_marker"),
-            encoder_set_state                                    = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_state"),
-            encoder_set_condition                                = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_condition"),
-            encoder_set_stencil                                  = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_stencil"),
-            encoder_set_scissor                                  = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_scissor"),
-            encoder_set_scissor_cached                           = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_scissor_cached"),
-            encoder_set_transform                                = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_transform"),
-            encoder_set_transform_cached                         = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_transform_cached"),
-            encoder_alloc_transform                              = apiGetFunctionAddress(BGFX, "bgfx_encoder_alloc_transform"),
-            encoder_set_uniform                                  = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_uniform"),
-            encoder_set_index_buffer                             = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_index_buffer"),
-            encoder_set_dynamic_index_buffer                     = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_dynamic_index_buffer"),
-            encoder_set_transient_index_buffer                   = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_transient_index_buffer"),
-            encoder_set_vertex_buffer                            = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_vertex_buffer"),
-            encoder_set_dynamic_vertex_buffer                    = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_dynamic_vertex_buffer"),
-            encoder_set_transient_vertex_buffer                  = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_transient_vertex_buffer"),
-            encoder_set_vertex_count                             = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_vertex_count"),
-            encoder_set_instance_data_buffer                     = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_instance_data_buffer"),
-            encoder_set_instance_data_from_vertex_buffer         = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_instance_data_from_vertex_buffer"),
-            encoder_set_instance_data_from_dynamic_vertex_buffer = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_instance_data_from_dynamic_vertex_buffer"),
-            encoder_set_instance_count                           = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_instance_count"),
-            encoder_set_texture                                  = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_texture"),
-            encoder_touch                                        = apiGetFunctionAddress(BGFX, "bgfx_encoder_touch"),
-            encoder_submit                                       = apiGetFunctionAddress(BGFX, "bgfx_encoder_submit"),
-            encoder_submit_occlusion_query                       = apiGetFunctionAddress(BGFX, "bgfx_encoder_submit_occlusion_query"),
-            encoder_submit_indirect                              = apiGetFunctionAddress(BGFX, "bgfx_encoder_submit_indirect"),
-            encoder_set_compute_index_buffer                     = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_compute_index_buffer"),
-            encoder_set_compute_vertex_buffer                    = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_compute_vertex_buffer"),
-            encoder_set_compute_dynamic_index_buffer             = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_compute_dynamic_index_buffer"),
-            encoder_set_compute_dynamic_vertex_buffer            = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_compute_dynamic_vertex_buffer"),
-            encoder_set_compute_indirect_buffer                  = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_compute_indirect_buffer"),
-            encoder_set_image                                    = apiGetFunctionAddress(BGFX, "bgfx_encoder_set_image"),
-            encoder_dispatch                                     = apiGetFunctionAddress(BGFX, "bgfx_encoder_dispatch"),
-            encoder_dispatch_indirect                            = apiGetFunctionAddress(BGFX, "bgfx_encoder_dispatch_indirect"),
-            encoder_discard                                      = apiGetFunctionAddress(BGFX, "bgfx_encoder_discard"),
-            encoder_blit                                         = apiGetFunctionAddress(BGFX, "bgfx_encoder_blit"),
-            request_screen_shot                                  = apiGetFunctionAddress(BGFX, "bgfx_request_screen_shot"),
-            set_marker                                           = apiGetFunctionAddress(BGFX, "bgfx_set_marker"),
-            set_state                                            = apiGetFunctionAddress(BGFX, "bgfx_set_state"),
-            set_condition                                        = apiGetFunctionAddress(BGFX, "bgfx_set_condition"),
-            set_stencil                                          = apiGetFunctionAddress(BGFX, "bgfx_set_stencil"),
-            set_scissor                                          = apiGetFunctionAddress(BGFX, "bgfx_set_scissor"),
-            set_scissor_cached                                   = apiGetFunctionAddress(BGFX, "bgfx_set_scissor_cached"),
-            set_transform                                        = apiGetFunctionAddress(BGFX, "bgfx_set_transform"),
-            set_transform_cached                                 = apiGetFunctionAddress(BGFX, "bgfx_set_transform_cached"),
-            alloc_transform                                      = apiGetFunctionAddress(BGFX, "bgfx_alloc_transform"),
-            set_uniform                                          = apiGetFunctionAddress(BGFX, "bgfx_set_uniform"),
-            set_index_buffer                                     = apiGetFunctionAddress(BGFX, "bgfx_set_index_buffer"),
-            set_dynamic_index_buffer                             = apiGetFunctionAddress(BGFX, "bgfx_set_dynamic_index_buffer"),
-            set_transient_index_buffer                           = apiGetFunctionAddress(BGFX, "bgfx_set_transient_index_buffer"),
-            set_vertex_buffer                                    = apiGetFunctionAddress(BGFX, "bgfx_set_vertex_buffer"),
-            set_dynamic_vertex_buffer                            = apiGetFunctionAddress(BGFX, "bgfx_set_dynamic_vertex_buffer"),
-            set_transient_vertex_buffer                          = apiGetFunctionAddress(BGFX, "bgfx_set_transient_vertex_buffer"),
-            set_vertex_count                                     = apiGetFunctionAddress(BGFX, "bgfx_set_vertex_count"),
-            set_instance_data_buffer                             = apiGetFunctionAddress(BGFX, "bgfx_set_instance_data_buffer"),
-            set_instance_data_from_vertex_buffer                 = apiGetFunctionAddress(BGFX, "bgfx_set_instance_data_from_vertex_buffer"),
-            set_instance_data_from_dynamic_vertex_buffer         = apiGetFunctionAddress(BGFX, "bgfx_set_instance_data_from_dynamic_vertex_buffer"),
-            set_instance_count                                   = apiGetFunctionAddress(BGFX, "bgfx_set_instance_count"),
-            set_texture                                          = apiGetFunctionAddress(BGFX, "bgfx_set_texture"),
-            touch                                                = apiGetFunctionAddress(BGFX, "bgfx_touch"),
-            submit                                               = apiGetFunctionAddress(BGFX, "bgfx_submit"),
-            submit_occlusion_query                               = apiGetFunctionAddress(BGFX, "bgfx_submit_occlusion_query"),
-            submit_indirect                                      = apiGetFunctionAddress(BGFX, "bgfx_submit_indirect"),
-            set_compute_index_buffer                             = apiGetFunctionAddress(BGFX, "bgfx_set_compute_index_buffer"),
-            set_compute_vertex_buffer                            = apiGetFunctionAddress(BGFX, "bgfx_set_compute_vertex_buffer"),
-            set_compute_dynamic_index_buffer                     = apiGetFunctionAddress(BGFX, "bgfx_set_compute_dynamic_index_buffer"),
-            set_compute_dynamic_vertex_buffer                    = apiGetFunctionAddress(BGFX, "bgfx_set_compute_dynamic_vertex_buffer"),
-            set_compute_indirect_buffer                          = apiGetFunctionAddress(BGFX, "bgfx_set_compute_indirect_buffer"),
-            set_image                                            = apiGetFunctionAddress(BGFX, "bgfx_set_image"),
-            dispatch                                             = apiGetFunctionAddress(BGFX, "bgfx_dispatch"),
-            dispatch_indirect                                    = apiGetFunctionAddress(BGFX, "bgfx_dispatch_indirect"),
-            discard                                              = apiGetFunctionAddress(BGFX, "bgfx_discard"),
-            blit                                                 = apiGetFunctionAddress(BGFX, "bgfx_blit");
+            attachment_init                                      = ADDRESSES[0],
+            vertex_decl_begin                                    = ADDRESSES[1],
+            vertex_decl_add                                      = ADDRESSES[2],
+            vertex_decl_decode                                   = ADDRESSES[3],
+            vertex_decl_has                                      = ADDRESSES[4],
+            vertex_decl_skip                                     = ADDRESSES[5],
+            vertex_decl_end                                      = ADDRESSES[6],
+            vertex_pack                                          = ADDRESSES[7],
+            vertex_unpack                                        = ADDRESSES[8],
+            vertex_convert                                       = ADDRESSES[9],
+            weld_vertices                                        = ADDRESSES[10],
+            topology_convert                                     = ADDRESSES[11],
+            topology_sort_tri_list                               = ADDRESSES[12],
+            get_supported_renderers                              = ADDRESSES[13],
+            get_renderer_name                                    = ADDRESSES[14],
+            init_ctor                                            = ADDRESSES[15],
+            init                                                 = ADDRESSES[16],
+            shutdown                                             = ADDRESSES[17],
+            reset                                                = ADDRESSES[18],
+            frame                                                = ADDRESSES[19],
+            get_renderer_type                                    = ADDRESSES[20],
+            get_caps                                             = ADDRESSES[21],
+            get_stats                                            = ADDRESSES[22],
+            alloc                                                = ADDRESSES[23],
+            copy                                                 = ADDRESSES[24],
+            make_ref                                             = ADDRESSES[25],
+            make_ref_release                                     = ADDRESSES[26],
+            set_debug                                            = ADDRESSES[27],
+            dbg_text_clear                                       = ADDRESSES[28],
+            dbg_text_printf                                      = ADDRESSES[29],
+            dbg_text_vprintf                                     = ADDRESSES[30],
+            dbg_text_image                                       = ADDRESSES[31],
+            create_index_buffer                                  = ADDRESSES[32],
+            set_index_buffer_name                                = ADDRESSES[33],
+            destroy_index_buffer                                 = ADDRESSES[34],
+            create_vertex_decl                                   = ADDRESSES[35],
+            destroy_vertex_decl                                  = ADDRESSES[36],
+            create_vertex_buffer                                 = ADDRESSES[37],
+            set_vertex_buffer_name                               = ADDRESSES[38],
+            destroy_vertex_buffer                                = ADDRESSES[39],
+            create_dynamic_index_buffer                          = ADDRESSES[40],
+            create_dynamic_index_buffer_mem                      = ADDRESSES[41],
+            update_dynamic_index_buffer                          = ADDRESSES[42],
+            destroy_dynamic_index_buffer                         = ADDRESSES[43],
+            create_dynamic_vertex_buffer                         = ADDRESSES[44],
+            create_dynamic_vertex_buffer_mem                     = ADDRESSES[45],
+            update_dynamic_vertex_buffer                         = ADDRESSES[46],
+            destroy_dynamic_vertex_buffer                        = ADDRESSES[47],
+            get_avail_transient_index_buffer                     = ADDRESSES[48],
+            get_avail_transient_vertex_buffer                    = ADDRESSES[49],
+            get_avail_instance_data_buffer                       = ADDRESSES[50],
+            alloc_transient_index_buffer                         = ADDRESSES[51],
+            alloc_transient_vertex_buffer                        = ADDRESSES[52],
+            alloc_transient_buffers                              = ADDRESSES[53],
+            alloc_instance_data_buffer                           = ADDRESSES[54],
+            create_indirect_buffer                               = ADDRESSES[55],
+            destroy_indirect_buffer                              = ADDRESSES[56],
+            create_shader                                        = ADDRESSES[57],
+            get_shader_uniforms                                  = ADDRESSES[58],
+            set_shader_name                                      = ADDRESSES[59],
+            destroy_shader                                       = ADDRESSES[60],
+            create_program                                       = ADDRESSES[61],
+            create_compute_program                               = ADDRESSES[62],
+            destroy_program                                      = ADDRESSES[63],
+            is_texture_valid                                     = ADDRESSES[64],
+            calc_texture_size                                    = ADDRESSES[65],
+            create_texture                                       = ADDRESSES[66],
+            create_texture_2d                                    = ADDRESSES[67],
+            create_texture_2d_scaled                             = ADDRESSES[68],
+            create_texture_3d                                    = ADDRESSES[69],
+            create_texture_cube                                  = ADDRESSES[70],
+            update_texture_2d                                    = ADDRESSES[71],
+            update_texture_3d                                    = ADDRESSES[72],
+            update_texture_cube                                  = ADDRESSES[73],
+            read_texture                                         = ADDRESSES[74],
+            set_texture_name                                     = ADDRESSES[75],
+            get_direct_access_ptr                                = ADDRESSES[76],
+            destroy_texture                                      = ADDRESSES[77],
+            create_frame_buffer                                  = ADDRESSES[78],
+            create_frame_buffer_scaled                           = ADDRESSES[79],
+            create_frame_buffer_from_handles                     = ADDRESSES[80],
+            create_frame_buffer_from_attachment                  = ADDRESSES[81],
+            create_frame_buffer_from_nwh                         = ADDRESSES[82],
+            set_frame_buffer_name                                = ADDRESSES[83],
+            get_texture                                          = ADDRESSES[84],
+            destroy_frame_buffer                                 = ADDRESSES[85],
+            create_uniform                                       = ADDRESSES[86],
+            get_uniform_info                                     = ADDRESSES[87],
+            destroy_uniform                                      = ADDRESSES[88],
+            create_occlusion_query                               = ADDRESSES[89],
+            get_result                                           = ADDRESSES[90],
+            destroy_occlusion_query                              = ADDRESSES[91],
+            set_palette_color                                    = ADDRESSES[92],
+            set_palette_color_rgba8                              = ADDRESSES[93],
+            set_view_name                                        = ADDRESSES[94],
+            set_view_rect                                        = ADDRESSES[95],
+            set_view_rect_ratio                                  = ADDRESSES[96],
+            set_view_scissor                                     = ADDRESSES[97],
+            set_view_clear                                       = ADDRESSES[98],
+            set_view_clear_mrt                                   = ADDRESSES[99],
+            set_view_mode                                        = ADDRESSES[100],
+            set_view_frame_buffer                                = ADDRESSES[101],
+            set_view_transform                                   = ADDRESSES[102],
+            set_view_order                                       = ADDRESSES[103],
+            encoder_begin                                        = ADDRESSES[104],
+            encoder_end                                          = ADDRESSES[105],
+            encoder_set_marker                                   = ADDRESSES[106],
+            encoder_set_state                                    = ADDRESSES[107],
+            encoder_set_condition                                = ADDRESSES[108],
+            encoder_set_stencil                                  = ADDRESSES[109],
+            encoder_set_scissor                                  = ADDRESSES[110],
+            encoder_set_scissor_cached                           = ADDRESSES[111],
+            encoder_set_transform                                = ADDRESSES[112],
+            encoder_set_transform_cached                         = ADDRESSES[113],
+            encoder_alloc_transform                              = ADDRESSES[114],
+            encoder_set_uniform                                  = ADDRESSES[115],
+            encoder_set_index_buffer                             = ADDRESSES[116],
+            encoder_set_dynamic_index_buffer                     = ADDRESSES[117],
+            encoder_set_transient_index_buffer                   = ADDRESSES[118],
+            encoder_set_vertex_buffer                            = ADDRESSES[119],
+            encoder_set_dynamic_vertex_buffer                    = ADDRESSES[120],
+            encoder_set_transient_vertex_buffer                  = ADDRESSES[121],
+            encoder_set_vertex_count                             = ADDRESSES[122],
+            encoder_set_instance_data_buffer                     = ADDRESSES[123],
+            encoder_set_instance_data_from_vertex_buffer         = ADDRESSES[124],
+            encoder_set_instance_data_from_dynamic_vertex_buffer = ADDRESSES[125],
+            encoder_set_instance_count                           = ADDRESSES[126],
+            encoder_set_texture                                  = ADDRESSES[127],
+            encoder_touch                                        = ADDRESSES[128],
+            encoder_submit                                       = ADDRESSES[129],
+            encoder_submit_occlusion_query                       = ADDRESSES[130],
+            encoder_submit_indirect                              = ADDRESSES[131],
+            encoder_set_compute_index_buffer                     = ADDRESSES[132],
+            encoder_set_compute_vertex_buffer                    = ADDRESSES[133],
+            encoder_set_compute_dynamic_index_buffer             = ADDRESSES[134],
+            encoder_set_compute_dynamic_vertex_buffer            = ADDRESSES[135],
+            encoder_set_compute_indirect_buffer                  = ADDRESSES[136],
+            encoder_set_image                                    = ADDRESSES[137],
+            encoder_dispatch                                     = ADDRESSES[138],
+            encoder_dispatch_indirect                            = ADDRESSES[139],
+            encoder_discard                                      = ADDRESSES[140],
+            encoder_blit                                         = ADDRESSES[141],
+            request_screen_shot                                  = ADDRESSES[142],
+            set_marker                                           = ADDRESSES[143],
+            set_state                                            = ADDRESSES[144],
+            set_condition                                        = ADDRESSES[145],
+            set_stencil                                          = ADDRESSES[146],
+            set_scissor                                          = ADDRESSES[147],
+            set_scissor_cached                                   = ADDRESSES[148],
+            set_transform                                        = ADDRESSES[149],
+            set_transform_cached                                 = ADDRESSES[150],
+            alloc_transform                                      = ADDRESSES[151],
+            set_uniform                                          = ADDRESSES[152],
+            set_index_buffer                                     = ADDRESSES[153],
+            set_dynamic_index_buffer                             = ADDRESSES[154],
+            set_transient_index_buffer                           = ADDRESSES[155],
+            set_vertex_buffer                                    = ADDRESSES[156],
+            set_dynamic_vertex_buffer                            = ADDRESSES[157],
+            set_transient_vertex_buffer                          = ADDRESSES[158],
+            set_vertex_count                                     = ADDRESSES[159],
+            set_instance_data_buffer                             = ADDRESSES[160],
+            set_instance_data_from_vertex_buffer                 = ADDRESSES[161],
+            set_instance_data_from_dynamic_vertex_buffer         = ADDRESSES[162],
+            set_instance_count                                   = ADDRESSES[163],
+            set_texture                                          = ADDRESSES[164],
+            touch                                                = ADDRESSES[165],
+            submit                                               = ADDRESSES[166],
+            submit_occlusion_query                               = ADDRESSES[167],
+            submit_indirect                                      = ADDRESSES[168],
+            set_compute_index_buffer                             = ADDRESSES[169],
+            set_compute_vertex_buffer                            = ADDRESSES[170],
+            set_compute_dynamic_index_buffer                     = ADDRESSES[171],
+            set_compute_dynamic_vertex_buffer                    = ADDRESSES[172],
+            set_compute_indirect_buffer                          = ADDRESSES[173],
+            set_image                                            = ADDRESSES[174],
+            dispatch                                             = ADDRESSES[175],
+            dispatch_indirect                                    = ADDRESSES[176],
+            discard                                              = ADDRESSES[177],
+            blit                                                 = ADDRESSES[178];
 
     }
 
@@ -44,13 +44,19 @@ public class BGFXPlatform {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "bgfx_render_frame\0bgfx_set_platform_data\0bgfx_get_internal_data\0bgfx_override_internal_texture_ptr\0bgfx_override_internal_texture\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(BGFX.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            render_frame                  = apiGetFunctionAddress(BGFX.getLibrary(), "bgfx_render_frame"),
-            set_platform_data             = apiGetFunctionAddress(BGFX.getLibrary(), "bgfx_set_platform_data"),
-            get_internal_data             = apiGetFunctionAddress(BGFX.getLibrary(), "bgfx_get_internal_data"),
-            override_internal_texture_ptr = apiGetFunctionAddress(BGFX.getLibrary(), "bgfx_override_internal_texture_ptr"),
-            override_internal_texture     = apiGetFunctionAddress(BGFX.getLibrary(), "bgfx_override_internal_texture");
+            render_frame                  = ADDRESSES[0],
+            set_platform_data             = ADDRESSES[1],
+            get_internal_data             = ADDRESSES[2],
+            override_internal_texture_ptr = ADDRESSES[3],
+            override_internal_texture     = ADDRESSES[4];
 
     }
 
@@ -408,17 +408,23 @@ public class X11 {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "XOpenDisplay\0XCloseDisplay\0XDefaultScreen\0XRootWindow\0XCreateColormap\0XFreeColormap\0XCreateWindow\0XDestroyWindow\0XFree\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(X11, FUNCTIONS);
+
         /** Function address. */
         public static final long
-            XOpenDisplay    = apiGetFunctionAddress(X11, "XOpenDisplay"),
-            XCloseDisplay   = apiGetFunctionAddress(X11, "XCloseDisplay"),
-            XDefaultScreen  = apiGetFunctionAddress(X11, "XDefaultScreen"),
-            XRootWindow     = apiGetFunctionAddress(X11, "XRootWindow"),
-            XCreateColormap = apiGetFunctionAddress(X11, "XCreateColormap"),
-            XFreeColormap   = apiGetFunctionAddress(X11, "XFreeColormap"),
-            XCreateWindow   = apiGetFunctionAddress(X11, "XCreateWindow"),
-            XDestroyWindow  = apiGetFunctionAddress(X11, "XDestroyWindow"),
-            XFree           = apiGetFunctionAddress(X11, "XFree");
+            XOpenDisplay    = ADDRESSES[0],
+            XCloseDisplay   = ADDRESSES[1],
+            XDefaultScreen  = ADDRESSES[2],
+            XRootWindow     = ADDRESSES[3],
+            XCreateColormap = ADDRESSES[4],
+            XFreeColormap   = ADDRESSES[5],
+            XCreateWindow   = ADDRESSES[6],
+            XDestroyWindow  = ADDRESSES[7],
+            XFree           = ADDRESSES[8];
 
     }
 
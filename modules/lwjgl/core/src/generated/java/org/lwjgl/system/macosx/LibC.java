@@ -22,9 +22,15 @@ public class LibC {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "getpid\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LibSystem.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            getpid = apiGetFunctionAddress(LibSystem.getLibrary(), "getpid");
+            getpid = ADDRESSES[0];
 
     }
 
@@ -107,107 +107,127 @@ public class ObjCRuntime {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "object_copy\0object_dispose\0object_getClass\0object_setClass\0object_getClassName\0object_getIndexedIvars\0object_getIvar\0object_setIvar\0" +
+            "object_setInstanceVariable\0object_getInstanceVariable\0objc_getClass\0objc_getMetaClass\0objc_lookUpClass\0objc_getRequiredClass\0objc_getClassList\0" +
+            "objc_copyClassList\0class_getName\0class_isMetaClass\0class_getSuperclass\0class_getVersion\0class_setVersion\0class_getInstanceSize\0class_getInstanceVariable\0" +
+            "class_getClassVariable\0class_copyIvarList\0class_getInstanceMethod\0class_getClassMethod\0class_getMethodImplementation\0class_respondsToSelector\0" +
+            "class_copyMethodList\0class_conformsToProtocol\0class_copyProtocolList\0class_getProperty\0class_copyPropertyList\0class_getIvarLayout\0class_getWeakIvarLayout\0" +
+            "class_addMethod\0class_replaceMethod\0class_addIvar\0class_addProtocol\0class_addProperty\0class_replaceProperty\0class_setIvarLayout\0class_setWeakIvarLayout\0" +
+            "class_createInstance\0objc_constructInstance\0objc_destructInstance\0objc_allocateClassPair\0objc_registerClassPair\0objc_disposeClassPair\0method_getName\0" +
+            "method_getImplementation\0method_getTypeEncoding\0method_getNumberOfArguments\0method_copyReturnType\0method_copyArgumentType\0method_getReturnType\0" +
+            "method_getArgumentType\0method_setImplementation\0method_exchangeImplementations\0ivar_getName\0ivar_getTypeEncoding\0ivar_getOffset\0property_getName\0" +
+            "property_getAttributes\0property_copyAttributeList\0property_copyAttributeValue\0objc_getProtocol\0objc_copyProtocolList\0protocol_conformsToProtocol\0" +
+            "protocol_isEqual\0protocol_getName\0protocol_getMethodDescription\0protocol_copyMethodDescriptionList\0protocol_getProperty\0protocol_copyPropertyList\0" +
+            "protocol_copyProtocolList\0objc_allocateProtocol\0objc_registerProtocol\0protocol_addMethodDescription\0protocol_addProtocol\0protocol_addProperty\0" +
+            "objc_copyImageNames\0class_getImageName\0objc_copyClassNamesForImage\0sel_getName\0sel_getUid\0sel_registerName\0sel_isEqual\0objc_enumerationMutation\0" +
+            "objc_setEnumerationMutationHandler\0imp_implementationWithBlock\0imp_getBlock\0imp_removeBlock\0objc_loadWeak\0objc_storeWeak\0objc_setAssociatedObject\0" +
+            "objc_getAssociatedObject\0objc_removeAssociatedObjects\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(OBJC, FUNCTIONS);
+
         /** Function address. */
         public static final long
-            object_copy                        = apiGetFunctionAddress(OBJC, "object_copy"),
-            object_dispose                     = apiGetFunctionAddress(OBJC, "object_dispose"),
-            object_getClass                    = apiGetFunctionAddress(OBJC, "object_getClass"),
-            object_setClass                    = apiGetFunctionAddress(OBJC, "object_setClass"),
-            object_getClassName                = apiGetFunctionAddress(OBJC, "object_getClassName"),
-            object_getIndexedIvars             = apiGetFunctionAddress(OBJC, "object_getIndexedIvars"),
-            object_getIvar                     = apiGetFunctionAddress(OBJC, "object_getIvar"),
-            object_setIvar                     = apiGetFunctionAddress(OBJC, "object_setIvar"),
-            object_setInstanceVariable         = apiGetFunctionAddress(OBJC, "object_setInstanceVariable"),
-            object_getInstanceVariable         = apiGetFunctionAddress(OBJC, "object_getInstanceVariable"),
-            objc_getClass                      = apiGetFunctionAddress(OBJC, "objc_getClass"),
-            objc_getMetaClass                  = apiGetFunctionAddress(OBJC, "objc_getMetaClass"),
-            objc_lookUpClass                   = apiGetFunctionAddress(OBJC, "objc_lookUpClass"),
-            objc_getRequiredClass              = apiGetFunctionAddress(OBJC, "objc_getRequiredClass"),
-            objc_getClassList                  = apiGetFunctionAddress(OBJC, "objc_getClassList"),
-            objc_copyClassList                 = apiGetFunctionAddress(OBJC, "objc_copyClassList"),
-            class_getName                      = apiGetFunctionAddress(OBJC, "class_getName"),
-            class_isMetaClass                  = apiGetFunctionAddress(OBJC, "class_isMetaClass"),
-            class_getSuperclass                = apiGetFunctionAddress(OBJC, "class_getSuperclass"),
-            class_getVersion                   = apiGetFunctionAddress(OBJC, "class_getVersion"),
-            class_setVersion                   = apiGetFunctionAddress(OBJC, "class_setVersion"),
-            class_getInstanceSize              = apiGetFunctionAddress(OBJC, "class_getInstanceSize"),
-            class_getInstanceVariable          = apiGetFunctionAddress(OBJC, "class_getInstanceVariable"),
-            class_getClassVariable             = apiGetFunctionAddress(OBJC, "class_getClassVariable"),
-            class_copyIvarList                 = apiGetFunctionAddress(OBJC, "class_copyIvarList"),
-            class_getInstanceMethod            = apiGetFunctionAddress(OBJC, "class_getInstanceMethod"),
-            class_getClassMethod               = apiGetFunctionAddress(OBJC, "class_getClassMethod"),
-            class_getMethodImplementation      = apiGetFunctionAddress(OBJC, "class_getMethodImplementation"),
-            class_respondsToSelector           = apiGetFunctionAddress(OBJC, "class_respondsToSelector"),
-            class_copyMethodList               = apiGetFunctionAddress(OBJC, "class_copyMethodList"),
-            class_conformsToProtocol           = apiGetFunctionAddress(OBJC, "class_conformsToProtocol"),
-            class_copyProtocolList             = apiGetFunctionAddress(OBJC, "class_copyProtocolList"),
-            class_getProperty                  = apiGetFunctionAddress(OBJC, "class_getProperty"),
-            class_copyPropertyList             = apiGetFunctionAddress(OBJC, "class_copyPropertyList"),
-            class_getIvarLayout                = apiGetFunctionAddress(OBJC, "class_getIvarLayout"),
-            class_getWeakIvarLayout            = apiGetFunctionAddress(OBJC, "class_getWeakIvarLayout"),
-            class_addMethod                    = apiGetFunctionAddress(OBJC, "class_addMethod"),
-            class_replaceMethod                = apiGetFunctionAddress(OBJC, "class_replaceMethod"),
-            class_addIvar                      = apiGetFunctionAddress(OBJC, "class_addIvar"),
-            class_addProtocol                  = apiGetFunctionAddress(OBJC, "class_addProtocol"),
-            class_addProperty                  = apiGetFunctionAddress(OBJC, "class_addProperty"),
-            class_replaceProperty              = apiGetFunctionAddress(OBJC, "class_replaceProperty"),
-            class_setIvarLayout                = apiGetFunctionAddress(OBJC, "class_setIvarLayout"),
-            class_setWeakIvarLayout            = apiGetFunctionAddress(OBJC, "class_setWeakIvarLayout"),
-            class_createInstance               = apiGetFunctionAddress(OBJC, "class_createInstance"),
-            objc_constructInstance             = apiGetFunctionAddress(OBJC, "objc_constructInstance"),
-            objc_destructInstance              = apiGetFunctionAddress(OBJC, "objc_destructInstance"),
-            objc_allocateClassPair             = apiGetFunctionAddress(OBJC, "objc_allocateClassPair"),
-            objc_registerClassPair             = apiGetFunctionAddress(OBJC, "objc_registerClassPair"),
-            objc_disposeClassPair              = apiGetFunctionAddress(OBJC, "objc_disposeClassPair"),
-            method_getName                     = apiGetFunctionAddress(OBJC, "method_getName"),
-            method_getImplementation           = apiGetFunctionAddress(OBJC, "method_getImplementation"),
-            method_getTypeEncoding             = apiGetFunctionAddress(OBJC, "method_getTypeEncoding"),
-            method_getNumberOfArguments        = apiGetFunctionAddress(OBJC, "method_getNumberOfArguments"),
-            method_copyReturnType              = apiGetFunctionAddress(OBJC, "method_copyReturnType"),
-            method_copyArgumentType            = apiGetFunctionAddress(OBJC, "method_copyArgumentType"),
-            method_getReturnType               = apiGetFunctionAddress(OBJC, "method_getReturnType"),
-            method_getArgumentType             = apiGetFunctionAddress(OBJC, "method_getArgumentType"),
-            method_setImplementation           = apiGetFunctionAddress(OBJC, "method_setImplementation"),
-            method_exchangeImplementations     = apiGetFunctionAddress(OBJC, "method_exchangeImplementations"),
-            ivar_getName                       = apiGetFunctionAddress(OBJC, "ivar_getName"),
-            ivar_getTypeEncoding               = apiGetFunctionAddress(OBJC, "ivar_getTypeEncoding"),
-            ivar_getOffset                     = apiGetFunctionAddress(OBJC, "ivar_getOffset"),
-            property_getName                   = apiGetFunctionAddress(OBJC, "property_getName"),
-            property_getAttributes             = apiGetFunctionAddress(OBJC, "property_getAttributes"),
-            property_copyAttributeList         = apiGetFunctionAddress(OBJC, "property_copyAttributeList"),
-            property_copyAttributeValue        = apiGetFunctionAddress(OBJC, "property_copyAttributeValue"),
-            objc_getProtocol                   = apiGetFunctionAddress(OBJC, "objc_getProtocol"),
-            objc_copyProtocolList              = apiGetFunctionAddress(OBJC, "objc_copyProtocolList"),
-            protocol_conformsToProtocol        = apiGetFunctionAddress(OBJC, "protocol_conformsToProtocol"),
-            protocol_isEqual                   = apiGetFunctionAddress(OBJC, "protocol_isEqual"),
-            protocol_getName                   = apiGetFunctionAddress(OBJC, "protocol_getName"),
-            protocol_getMethodDescription      = apiGetFunctionAddress(OBJC, "protocol_getMethodDescription"),
-            protocol_copyMethodDescriptionList = apiGetFunctionAddress(OBJC, "protocol_copyMethodDescriptionList"),
-            protocol_getProperty               = apiGetFunctionAddress(OBJC, "protocol_getProperty"),
-            protocol_copyPropertyList          = apiGetFunctionAddress(OBJC, "protocol_copyPropertyList"),
-            protocol_copyProtocolList          = apiGetFunctionAddress(OBJC, "protocol_copyProtocolList"),
-            objc_allocateProtocol              = apiGetFunctionAddress(OBJC, "objc_allocateProtocol"),
-            objc_registerProtocol              = apiGetFunctionAddress(OBJC, "objc_registerProtocol"),
-            protocol_addMethodDescription      = apiGetFunctionAddress(OBJC, "protocol_addMethodDescription"),
-            protocol_addProtocol               = apiGetFunctionAddress(OBJC, "protocol_addProtocol"),
-            protocol_addProperty               = apiGetFunctionAddress(OBJC, "protocol_addProperty"),
-            objc_copyImageNames                = apiGetFunctionAddress(OBJC, "objc_copyImageNames"),
-            class_getImageName                 = apiGetFunctionAddress(OBJC, "class_getImageName"),
-            objc_copyClassNamesForImage        = apiGetFunctionAddress(OBJC, "objc_copyClassNamesForImage"),
-            sel_getName                        = apiGetFunctionAddress(OBJC, "sel_getName"),
-            sel_getUid                         = apiGetFunctionAddress(OBJC, "sel_getUid"),
-            sel_registerName                   = apiGetFunctionAddress(OBJC, "sel_registerName"),
-            sel_isEqual                        = apiGetFunctionAddress(OBJC, "sel_isEqual"),
-            objc_enumerationMutation           = apiGetFunctionAddress(OBJC, "objc_enumerationMutation"),
-            objc_setEnumerationMutationHandler = apiGetFunctionAddress(OBJC, "objc_setEnumerationMutationHandler"),
-            imp_implementationWithBlock        = apiGetFunctionAddress(OBJC, "imp_implementationWithBlock"),
-            imp_getBlock                       = apiGetFunctionAddress(OBJC, "imp_getBlock"),
-            imp_removeBlock                    = apiGetFunctionAddress(OBJC, "imp_removeBlock"),
-            objc_loadWeak                      = apiGetFunctionAddress(OBJC, "objc_loadWeak"),
-            objc_storeWeak                     = apiGetFunctionAddress(OBJC, "objc_storeWeak"),
-            objc_setAssociatedObject           = apiGetFunctionAddress(OBJC, "objc_setAssociatedObject"),
-            objc_getAssociatedObject           = apiGetFunctionAddress(OBJC, "objc_getAssociatedObject"),
-            objc_removeAssociatedObjects       = apiGetFunctionAddress(OBJC, "objc_removeAssociatedObjects");
+            object_copy                        = ADDRESSES[0],
+            object_dispose                     = ADDRESSES[1],
+            object_getClass                    = ADDRESSES[2],
+            object_setClass                    = ADDRESSES[3],
+            object_getClassName                = ADDRESSES[4],
+            object_getIndexedIvars             = ADDRESSES[5],
+            object_getIvar                     = ADDRESSES[6],
+            object_setIvar                     = ADDRESSES[7],
+            object_setInstanceVariable         = ADDRESSES[8],
+            object_getInstanceVariable         = ADDRESSES[9],
+            objc_getClass                      = ADDRESSES[10],
+            objc_getMetaClass                  = ADDRESSES[11],
+            objc_lookUpClass                   = ADDRESSES[12],
+            objc_getRequiredClass              = ADDRESSES[13],
+            objc_getClassList                  = ADDRESSES[14],
+            objc_copyClassList                 = ADDRESSES[15],
+            class_getName                      = ADDRESSES[16],
+            class_isMetaClass                  = ADDRESSES[17],
+            class_getSuperclass                = ADDRESSES[18],
+            class_getVersion                   = ADDRESSES[19],
+            class_setVersion                   = ADDRESSES[20],
+            class_getInstanceSize              = ADDRESSES[21],
+            class_getInstanceVariable          = ADDRESSES[22],
+            class_getClassVariable             = ADDRESSES[23],
+            class_copyIvarList                 = ADDRESSES[24],
+            class_getInstanceMethod            = ADDRESSES[25],
+            class_getClassMethod               = ADDRESSES[26],
+            class_getMethodImplementation      = ADDRESSES[27],
+            class_respondsToSelector           = ADDRESSES[28],
+            class_copyMethodList               = ADDRESSES[29],
+            class_conformsToProtocol           = ADDRESSES[30],
+            class_copyProtocolList             = ADDRESSES[31],
+            class_getProperty                  = ADDRESSES[32],
+            class_copyPropertyList             = ADDRESSES[33],
+            class_getIvarLayout                = ADDRESSES[34],
+            class_getWeakIvarLayout            = ADDRESSES[35],
+            class_addMethod                    = ADDRESSES[36],
+            class_replaceMethod                = ADDRESSES[37],
+            class_addIvar                      = ADDRESSES[38],
+            class_addProtocol                  = ADDRESSES[39],
+            class_addProperty                  = ADDRESSES[40],
+            class_replaceProperty              = ADDRESSES[41],
+            class_setIvarLayout                = ADDRESSES[42],
+            class_setWeakIvarLayout            = ADDRESSES[43],
+            class_createInstance               = ADDRESSES[44],
+            objc_constructInstance             = ADDRESSES[45],
+            objc_destructInstance              = ADDRESSES[46],
+            objc_allocateClassPair             = ADDRESSES[47],
+            objc_registerClassPair             = ADDRESSES[48],
+            objc_disposeClassPair              = ADDRESSES[49],
+            method_getName                     = ADDRESSES[50],
+            method_getImplementation           = ADDRESSES[51],
+            method_getTypeEncoding             = ADDRESSES[52],
+            method_getNumberOfArguments        = ADDRESSES[53],
+            method_copyReturnType              = ADDRESSES[54],
+            method_copyArgumentType            = ADDRESSES[55],
+            method_getReturnType               = ADDRESSES[56],
+            method_getArgumentType             = ADDRESSES[57],
+            method_setImplementation           = ADDRESSES[58],
+            method_exchangeImplementations     = ADDRESSES[59],
+            ivar_getName                       = ADDRESSES[60],
+            ivar_getTypeEncoding               = ADDRESSES[61],
+            ivar_getOffset                     = ADDRESSES[62],
+            property_getName                   = ADDRESSES[63],
+            property_getAttributes             = ADDRESSES[64],
+            property_copyAttributeList         = ADDRESSES[65],
+            property_copyAttributeValue        = ADDRESSES[66],
+            objc_getProtocol                   = ADDRESSES[67],
+            objc_copyProtocolList              = ADDRESSES[68],
+            protocol_conformsToProtocol        = ADDRESSES[69],
+            protocol_isEqual                   = ADDRESSES[70],
+            protocol_getName                   = ADDRESSES[71],
+            protocol_getMethodDescription      = ADDRESSES[72],
+            protocol_copyMethodDescriptionList = ADDRESSES[73],
+            protocol_getProperty               = ADDRESSES[74],
+            protocol_copyPropertyList          = ADDRESSES[75],
+            protocol_copyProtocolList          = ADDRESSES[76],
+            objc_allocateProtocol              = ADDRESSES[77],
+            objc_registerProtocol              = ADDRESSES[78],
+            protocol_addMethodDescription      = ADDRESSES[79],
+            protocol_addProtocol               = ADDRESSES[80],
+            protocol_addProperty               = ADDRESSES[81],
+            objc_copyImageNames                = ADDRESSES[82],
+            class_getImageName                 = ADDRESSES[83],
+            objc_copyClassNamesForImage        = ADDRESSES[84],
+            sel_getName                        = ADDRESSES[85],
+            sel_getUid                         = ADDRESSES[86],
+            sel_registerName                   = ADDRESSES[87],
+            sel_isEqual                        = ADDRESSES[88],
+            objc_enumerationMutation           = ADDRESSES[89],
+            objc_setEnumerationMutationHandler = ADDRESSES[90],
+            imp_implementationWithBlock        = ADDRESSES[91],
+            imp_getBlock                       = ADDRESSES[92],
+            imp_removeBlock                    = ADDRESSES[93],
+            objc_loadWeak                      = ADDRESSES[94],
+            objc_storeWeak                     = ADDRESSES[95],
+            objc_setAssociatedObject           = ADDRESSES[96],
+            objc_getAssociatedObject           = ADDRESSES[97],
+            objc_removeAssociatedObjects       = ADDRESSES[98];
 
     }
 
@@ -133,13 +133,19 @@ public class GDI32 {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "ChoosePixelFormat\0DescribePixelFormat\0GetPixelFormat\0SetPixelFormat\0SwapBuffers\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(GDI32, FUNCTIONS);
+
         /** Function address. */
         public static final long
-            ChoosePixelFormat   = apiGetFunctionAddress(GDI32, "ChoosePixelFormat"),
-            DescribePixelFormat = apiGetFunctionAddress(GDI32, "DescribePixelFormat"),
-            GetPixelFormat      = apiGetFunctionAddress(GDI32, "GetPixelFormat"),
-            SetPixelFormat      = apiGetFunctionAddress(GDI32, "SetPixelFormat"),
-            SwapBuffers         = apiGetFunctionAddress(GDI32, "SwapBuffers");
+            ChoosePixelFormat   = ADDRESSES[0],
+            DescribePixelFormat = ADDRESSES[1],
+            GetPixelFormat      = ADDRESSES[2],
+            SetPixelFormat      = ADDRESSES[3],
+            SwapBuffers         = ADDRESSES[4];
 
     }
 
@@ -1003,59 +1003,69 @@ public class User32 {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "RegisterClassExW\0UnregisterClassW\0CreateWindowExW\0DestroyWindow\0DefWindowProcW\0CallWindowProcW\0ShowWindow\0UpdateWindow\0SetWindowPos\0SetWindowTextW\0" +
+            "GetMessageW\0PeekMessageW\0TranslateMessage\0WaitMessage\0DispatchMessageW\0PostMessageW\0SendMessageW\0AdjustWindowRectEx\0GetWindowRect\0MoveWindow\0" +
+            "GetWindowPlacement\0SetWindowPlacement\0IsWindowVisible\0IsIconic\0IsZoomed\0BringWindowToTop\0SetLayeredWindowAttributes\0LoadIconW\0LoadCursorW\0GetDC\0" +
+            "ReleaseDC\0GetSystemMetrics\0MonitorFromWindow\0GetMonitorInfoW\0EnumDisplayDevicesW\0EnumDisplaySettingsExW\0ChangeDisplaySettingsExW\0GetCursorPos\0" +
+            "SetCursorPos\0ClipCursor\0ShowCursor\0SetCursor\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(USER32, FUNCTIONS);
+
         /** Function address. */
         public static final long
-            RegisterClassEx                     = apiGetFunctionAddress(USER32, "RegisterClassExW"),
-            UnregisterClass                     = apiGetFunctionAddress(USER32, "UnregisterClassW"),
-            CreateWindowEx                      = apiGetFunctionAddress(USER32, "CreateWindowExW"),
-            DestroyWindow                       = apiGetFunctionAddress(USER32, "DestroyWindow"),
-            DefWindowProc                       = apiGetFunctionAddress(USER32, "DefWindowProcW"),
-            CallWindowProc                      = apiGetFunctionAddress(USER32, "CallWindowProcW"),
-            ShowWindow                          = apiGetFunctionAddress(USER32, "ShowWindow"),
-            UpdateWindow                        = apiGetFunctionAddress(USER32, "UpdateWindow"),
-            SetWindowPos                        = apiGetFunctionAddress(USER32, "SetWindowPos"),
-            SetWindowText                       = apiGetFunctionAddress(USER32, "SetWindowTextW"),
-            GetMessage                          = apiGetFunctionAddress(USER32, "GetMessageW"),
-            PeekMessage                         = apiGetFunctionAddress(USER32, "PeekMessageW"),
-            TranslateMessage                    = apiGetFunctionAddress(USER32, "TranslateMessage"),
-            WaitMessage                         = apiGetFunctionAddress(USER32, "WaitMessage"),
-            DispatchMessage                     = apiGetFunctionAddress(USER32, "DispatchMessageW"),
-            PostMessage                         = apiGetFunctionAddress(USER32, "PostMessageW"),
-            SendMessage                         = apiGetFunctionAddress(USER32, "SendMessageW"),
-            AdjustWindowRectEx                  = apiGetFunctionAddress(USER32, "AdjustWindowRectEx"),
-            GetWindowRect                       = apiGetFunctionAddress(USER32, "GetWindowRect"),
-            MoveWindow                          = apiGetFunctionAddress(USER32, "MoveWindow"),
-            GetWindowPlacement                  = apiGetFunctionAddress(USER32, "GetWindowPlacement"),
-            SetWindowPlacement                  = apiGetFunctionAddress(USER32, "SetWindowPlacement"),
-            IsWindowVisible                     = apiGetFunctionAddress(USER32, "IsWindowVisible"),
-            IsIconic                            = apiGetFunctionAddress(USER32, "IsIconic"),
-            IsZoomed                            = apiGetFunctionAddress(USER32, "IsZoomed"),
-            BringWindowToTop                    = apiGetFunctionAddress(USER32, "BringWindowToTop"),
+            RegisterClassEx                     = ADDRESSES[0],
+            UnregisterClass                     = ADDRESSES[1],
+            CreateWindowEx                      = ADDRESSES[2],
+            DestroyWindow                       = ADDRESSES[3],
+            DefWindowProc                       = ADDRESSES[4],
+            CallWindowProc                      = ADDRESSES[5],
+            ShowWindow                          = ADDRESSES[6],
+            UpdateWindow                        = ADDRESSES[7],
+            SetWindowPos                        = ADDRESSES[8],
+            SetWindowText                       = ADDRESSES[9],
+            GetMessage                          = ADDRESSES[10],
+            PeekMessage                         = ADDRESSES[11],
+            TranslateMessage                    = ADDRESSES[12],
+            WaitMessage                         = ADDRESSES[13],
+            DispatchMessage                     = ADDRESSES[14],
+            PostMessage                         = ADDRESSES[15],
+            SendMessage                         = ADDRESSES[16],
+            AdjustWindowRectEx                  = ADDRESSES[17],
+            GetWindowRect                       = ADDRESSES[18],
+            MoveWindow                          = ADDRESSES[19],
+            GetWindowPlacement                  = ADDRESSES[20],
+            SetWindowPlacement                  = ADDRESSES[21],
+            IsWindowVisible                     = ADDRESSES[22],
+            IsIconic                            = ADDRESSES[23],
+            IsZoomed                            = ADDRESSES[24],
+            BringWindowToTop                    = ADDRESSES[25],
             SetWindowLongPtr                    = apiGetFunctionAddress(USER32, Pointer.BITS64 ? "SetWindowLongPtrW" : "SetWindowLongW"),
             GetWindowLongPtr                    = apiGetFunctionAddress(USER32, Pointer.BITS64 ? "GetWindowLongPtrW" : "GetWindowLongW"),
             SetClassLongPtr                     = apiGetFunctionAddress(USER32, Pointer.BITS64 ? "SetClassLongPtrW" : "SetClassLongW"),
             GetClassLongPtr                     = apiGetFunctionAddress(USER32, Pointer.BITS64 ? "GetClassLongPtrW" : "GetClassLongW"),
-            SetLayeredWindowAttributes          = apiGetFunctionAddress(USER32, "SetLayeredWindowAttributes"),
-            LoadIcon                            = apiGetFunctionAddress(USER32, "LoadIconW"),
-            LoadCursor                          = apiGetFunctionAddress(USER32, "LoadCursorW"),
-            GetDC                               = apiGetFunctionAddress(USER32, "GetDC"),
-            ReleaseDC                           = apiGetFunctionAddress(USER32, "ReleaseDC"),
-            GetSystemMetrics                    = apiGetFunctionAddress(USER32, "GetSystemMetrics"),
+            SetLayeredWindowAttributes          = ADDRESSES[26],
+            LoadIcon                            = ADDRESSES[27],
+            LoadCursor                          = ADDRESSES[28],
+            GetDC                               = ADDRESSES[29],
+            ReleaseDC                           = ADDRESSES[30],
+            GetSystemMetrics                    = ADDRESSES[31],
             RegisterTouchWindow                 = USER32.getFunctionAddress("RegisterTouchWindow"),
             UnregisterTouchWindow               = USER32.getFunctionAddress("UnregisterTouchWindow"),
             IsTouchWindow                       = USER32.getFunctionAddress("IsTouchWindow"),
             GetTouchInputInfo                   = USER32.getFunctionAddress("GetTouchInputInfo"),
             CloseTouchInputHandle               = USER32.getFunctionAddress("CloseTouchInputHandle"),
-            MonitorFromWindow                   = apiGetFunctionAddress(USER32, "MonitorFromWindow"),
-            GetMonitorInfo                      = apiGetFunctionAddress(USER32, "GetMonitorInfoW"),
-            EnumDisplayDevices                  = apiGetFunctionAddress(USER32, "EnumDisplayDevicesW"),
-            EnumDisplaySettingsEx               = apiGetFunctionAddress(USER32, "EnumDisplaySettingsExW"),
-            ChangeDisplaySettingsEx             = apiGetFunctionAddress(USER32, "ChangeDisplaySettingsExW"),
-            GetCursorPos                        = apiGetFunctionAddress(USER32, "GetCursorPos"),
-            SetCursorPos                        = apiGetFunctionAddress(USER32, "SetCursorPos"),
-            ClipCursor                          = apiGetFunctionAddress(USER32, "ClipCursor"),
-            ShowCursor                          = apiGetFunctionAddress(USER32, "ShowCursor"),
-            SetCursor                           = apiGetFunctionAddress(USER32, "SetCursor"),
+            MonitorFromWindow                   = ADDRESSES[32],
+            GetMonitorInfo                      = ADDRESSES[33],
+            EnumDisplayDevices                  = ADDRESSES[34],
+            EnumDisplaySettingsEx               = ADDRESSES[35],
+            ChangeDisplaySettingsEx             = ADDRESSES[36],
+            GetCursorPos                        = ADDRESSES[37],
+            SetCursorPos                        = ADDRESSES[38],
+            ClipCursor                          = ADDRESSES[39],
+            ShowCursor                          = ADDRESSES[40],
+            SetCursor                           = ADDRESSES[41],
             GetDpiForSystem                     = USER32.getFunctionAddress("GetDpiForSystem"),
             GetDpiForWindow                     = USER32.getFunctionAddress("GetDpiForWindow"),
             GetAwarenessFromDpiAwarenessContext = USER32.getFunctionAddress("GetAwarenessFromDpiAwarenessContext"),
@@ -0,0 +1,16042 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ */
+package org.lwjgl.system;
+
+import javax.annotation.*;
+import java.lang.foreign.*;
+import java.lang.invoke.*;
+
+/**
+ * Java 22 version of {@code JNI}.
+ *
+ * <p>Calls are dispatched via the Foreign Function &amp; Memory API if {@link Configuration#FUNCTION_DISPATCH} is set to {@code foreign}, or via JNI
+ * otherwise.</p>
+ */
+public final class JNI {
+
+    static {
+        Library.initialize();
+    }
+
+    private static final boolean FOREIGN = ForeignDispatch.ENABLED;
+
+    private JNI() {}
+
+    // Pointer API
+
+    public static byte invokePB(byte param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (byte)H_BJ_B.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePB(param0, param1, __functionAddress);
+    }
+    private static native byte ninvokePB(byte param0, long param1, long __functionAddress);
+
+    public static double invokeD(long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (double)H__D.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeD(__functionAddress);
+    }
+    private static native double ninvokeD(long __functionAddress);
+
+    public static double invokeD(int param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (double)H_I_D.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeD(param0, __functionAddress);
+    }
+    private static native double ninvokeD(int param0, long __functionAddress);
+
+    public static double invokePD(long param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (double)H_J_D.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePD(param0, __functionAddress);
+    }
+    private static native double ninvokePD(long param0, long __functionAddress);
+
+    public static double invokePPD(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (double)H_JJ_D.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPD(param0, param1, __functionAddress);
+    }
+    private static native double ninvokePPD(long param0, long param1, long __functionAddress);
+
+    public static float invokeF(int param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (float)H_I_F.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeF(param0, __functionAddress);
+    }
+    private static native float ninvokeF(int param0, long __functionAddress);
+
+    public static float invokePF(long param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (float)H_J_F.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePF(param0, __functionAddress);
+    }
+    private static native float ninvokePF(long param0, long __functionAddress);
+
+    public static float invokePF(long param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (float)H_JI_F.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePF(param0, param1, __functionAddress);
+    }
+    private static native float ninvokePF(long param0, int param1, long __functionAddress);
+
+    public static float invokePF(long param0, float param1, float param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (float)H_JFF_F.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePF(param0, param1, param2, __functionAddress);
+    }
+    private static native float ninvokePF(long param0, float param1, float param2, long __functionAddress);
+
+    public static float invokePPF(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (float)H_JJ_F.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPF(param0, param1, __functionAddress);
+    }
+    private static native float ninvokePPF(long param0, long param1, long __functionAddress);
+
+    public static float invokePPF(long param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (float)H_JIJ_F.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPF(param0, param1, param2, __functionAddress);
+    }
+    private static native float ninvokePPF(long param0, int param1, long param2, long __functionAddress);
+
+    public static float invokePPF(long param0, float param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (float)H_JFJI_F.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPF(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native float ninvokePPF(long param0, float param1, long param2, int param3, long __functionAddress);
+
+    public static int invokeI(long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H__I.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeI(__functionAddress);
+    }
+    private static native int ninvokeI(long __functionAddress);
+
+    public static int invokeI(int param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_I_I.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeI(param0, __functionAddress);
+    }
+    private static native int ninvokeI(int param0, long __functionAddress);
+
+    public static int invokeI(boolean param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_Z_I.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeI(param0, __functionAddress);
+    }
+    private static native int ninvokeI(boolean param0, long __functionAddress);
+
+    public static int invokeI(int param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_II_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeI(param0, param1, __functionAddress);
+    }
+    private static native int ninvokeI(int param0, int param1, long __functionAddress);
+
+    public static int invokeI(int param0, short param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IS_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeI(param0, param1, __functionAddress);
+    }
+    private static native int ninvokeI(int param0, short param1, long __functionAddress);
+
+    public static int invokeI(int param0, int param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_III_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ninvokeI(int param0, int param1, int param2, long __functionAddress);
+
+    public static int invokePI(long param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_J_I.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePI(param0, __functionAddress);
+    }
+    private static native int ninvokePI(long param0, long __functionAddress);
+
+    public static int invokePI(int param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IJ_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, __functionAddress);
+    }
+    private static native int ninvokePI(int param0, long param1, long __functionAddress);
+
+    public static int invokePI(long param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JI_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, __functionAddress);
+    }
+    private static native int ninvokePI(long param0, int param1, long __functionAddress);
+
+    public static int invokePI(long param0, short param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JS_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, __functionAddress);
+    }
+    private static native int ninvokePI(long param0, short param1, long __functionAddress);
+
+    public static int invokePI(short param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_SJ_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, __functionAddress);
+    }
+    private static native int ninvokePI(short param0, long param1, long __functionAddress);
+
+    public static int invokePI(long param0, int param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JII_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ninvokePI(long param0, int param1, int param2, long __functionAddress);
+
+    public static int invokePI(short param0, long param1, byte param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_SJB_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ninvokePI(short param0, long param1, byte param2, long __functionAddress);
+
+    public static int invokePI(long param0, int param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIII_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ninvokePI(long param0, int param1, int param2, int param3, long __functionAddress);
+
+    public static int invokePJI(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJ_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePJI(param0, param1, __functionAddress);
+    }
+    private static native int ninvokePJI(long param0, long param1, long __functionAddress);
+
+    public static int invokePPI(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJ_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, __functionAddress);
+    }
+    private static native int ninvokePPI(long param0, long param1, long __functionAddress);
+
+    public static int invokePPI(long param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJ_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ninvokePPI(long param0, int param1, long param2, long __functionAddress);
+
+    public static int invokePPI(long param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJI_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ninvokePPI(long param0, long param1, int param2, long __functionAddress);
+
+    public static int invokePPI(long param0, long param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJS_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ninvokePPI(long param0, long param1, short param2, long __functionAddress);
+
+    public static int invokePPI(long param0, int param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJI_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ninvokePPI(long param0, int param1, long param2, int param3, long __functionAddress);
+
+    public static int invokePPI(long param0, int param1, int param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ninvokePPI(long param0, int param1, int param2, long param3, int param4, long __functionAddress);
+
+    public static int invokePPI(int param0, long param1, int param2, long param3, int param4, boolean param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IJIJIZ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ninvokePPI(int param0, long param1, int param2, long param3, int param4, boolean param5, long __functionAddress);
+
+    public static int invokePPI(long param0, int param1, int param2, int param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIIIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ninvokePPI(long param0, int param1, int param2, int param3, int param4, long param5, long __functionAddress);
+
+    public static int invokePPI(long param0, int param1, int param2, int param3, int param4, long param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIIIJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native int ninvokePPI(long param0, int param1, int param2, int param3, int param4, long param5, int param6, long __functionAddress);
+
+    public static int invokePPJI(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJ_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPJI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ninvokePPJI(long param0, long param1, long param2, long __functionAddress);
+
+    public static int invokePPPI(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJ_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ninvokePPPI(long param0, long param1, long param2, long __functionAddress);
+
+    public static int invokePPPI(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ninvokePPPI(long param0, int param1, long param2, long param3, long __functionAddress);
+
+    public static int invokePPPI(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ninvokePPPI(long param0, long param1, int param2, long param3, long __functionAddress);
+
+    public static int invokePPPI(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJI_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ninvokePPPI(long param0, long param1, long param2, int param3, long __functionAddress);
+
+    public static int invokePPPI(long param0, long param1, int param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ninvokePPPI(long param0, long param1, int param2, int param3, long param4, long __functionAddress);
+
+    public static int invokePPPI(long param0, long param1, int param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ninvokePPPI(long param0, long param1, int param2, long param3, int param4, long __functionAddress);
+
+    public static int invokePPPI(long param0, long param1, int param2, long param3, int param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJII_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ninvokePPPI(long param0, long param1, int param2, long param3, int param4, int param5, long __functionAddress);
+
+    public static int invokePPPI(long param0, int param1, int param2, int param3, long param4, long param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIIJJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native int ninvokePPPI(long param0, int param1, int param2, int param3, long param4, long param5, int param6, long __functionAddress);
+
+    public static int invokePPPPI(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ninvokePPPPI(long param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static int invokePPPPI(long param0, long param1, int param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ninvokePPPPI(long param0, long param1, int param2, long param3, long param4, long __functionAddress);
+
+    public static int invokePPPPI(long param0, long param1, long param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ninvokePPPPI(long param0, long param1, long param2, int param3, long param4, long __functionAddress);
+
+    public static int invokePPPPI(long param0, long param1, long param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ninvokePPPPI(long param0, long param1, long param2, long param3, int param4, long __functionAddress);
+
+    public static int invokePPPPI(long param0, long param1, int param2, int param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ninvokePPPPI(long param0, long param1, int param2, int param3, long param4, long param5, long __functionAddress);
+
+    public static int invokePPPPI(long param0, long param1, long param2, int param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJIIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ninvokePPPPI(long param0, long param1, long param2, int param3, int param4, long param5, long __functionAddress);
+
+    public static int invokePPPPI(long param0, int param1, int param2, long param3, long param4, long param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIJJJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native int ninvokePPPPI(long param0, int param1, int param2, long param3, long param4, long param5, int param6, long __functionAddress);
+
+    public static int invokePPPPPI(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ninvokePPPPPI(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static int invokePJJJPI(long param0, long param1, long param2, long param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePJJJPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ninvokePJJJPI(long param0, long param1, long param2, long param3, int param4, long param5, long __functionAddress);
+
+    public static int invokePPPPPI(long param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ninvokePPPPPI(long param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static int invokePPPPPI(long param0, long param1, long param2, int param3, long param4, int param5, int param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJIJIIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ninvokePPPPPI(long param0, long param1, long param2, int param3, long param4, int param5, int param6, long param7, long __functionAddress);
+
+    public static int invokePPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ninvokePPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static int invokePPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJJJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native int ninvokePPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, int param6, long __functionAddress);
+
+    public static int invokePPPPPPPI(long param0, long param1, long param2, int param3, int param4, long param5, long param6, int param7, long param8, int param9, long param10, int param11, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJIIJJIJIJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+    private static native int ninvokePPPPPPPI(long param0, long param1, long param2, int param3, int param4, long param5, long param6, int param7, long param8, int param9, long param10, int param11, long __functionAddress);
+
+    public static int invokePPPPPPPPI(long param0, int param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIJJJJJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native int ninvokePPPPPPPPI(long param0, int param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long __functionAddress);
+
+    public static long invokeJ(long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H__J.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeJ(__functionAddress);
+    }
+    private static native long ninvokeJ(long __functionAddress);
+
+    public static long invokePJ(long param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_J_J.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePJ(param0, __functionAddress);
+    }
+    private static native long ninvokePJ(long param0, long __functionAddress);
+
+    public static long invokePJ(long param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JI_J.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePJ(param0, param1, __functionAddress);
+    }
+    private static native long ninvokePJ(long param0, int param1, long __functionAddress);
+
+    public static long invokePJ(long param0, float param1, int param2, float param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JFIFI_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePJ(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ninvokePJ(long param0, float param1, int param2, float param3, int param4, long __functionAddress);
+
+    public static long invokePPJ(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJ_J.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPJ(param0, param1, __functionAddress);
+    }
+    private static native long ninvokePPJ(long param0, long param1, long __functionAddress);
+
+    public static long invokePPJ(long param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJI_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPJ(param0, param1, param2, __functionAddress);
+    }
+    private static native long ninvokePPJ(long param0, long param1, int param2, long __functionAddress);
+
+    public static long invokeP(long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H__J.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeP(__functionAddress);
+    }
+    private static native long ninvokeP(long __functionAddress);
+
+    public static long invokeP(int param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_I_J.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeP(param0, __functionAddress);
+    }
+    private static native long ninvokeP(int param0, long __functionAddress);
+
+    public static long invokeP(short param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_S_J.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeP(param0, __functionAddress);
+    }
+    private static native long ninvokeP(short param0, long __functionAddress);
+
+    public static long invokeP(boolean param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_Z_J.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeP(param0, __functionAddress);
+    }
+    private static native long ninvokeP(boolean param0, long __functionAddress);
+
+    public static long invokeP(int param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_II_J.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeP(param0, param1, __functionAddress);
+    }
+    private static native long ninvokeP(int param0, int param1, long __functionAddress);
+
+    public static long invokePP(long param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_J_J.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePP(param0, __functionAddress);
+    }
+    private static native long ninvokePP(long param0, long __functionAddress);
+
+    public static long invokePP(int param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IJ_J.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, __functionAddress);
+    }
+    private static native long ninvokePP(int param0, long param1, long __functionAddress);
+
+    public static long invokePP(long param0, byte param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JB_J.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, __functionAddress);
+    }
+    private static native long ninvokePP(long param0, byte param1, long __functionAddress);
+
+    public static long invokePP(long param0, double param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JD_J.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, __functionAddress);
+    }
+    private static native long ninvokePP(long param0, double param1, long __functionAddress);
+
+    public static long invokePP(long param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JI_J.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, __functionAddress);
+    }
+    private static native long ninvokePP(long param0, int param1, long __functionAddress);
+
+    public static long invokePP(short param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_SJ_J.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, __functionAddress);
+    }
+    private static native long ninvokePP(short param0, long param1, long __functionAddress);
+
+    public static long invokePP(int param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IIJ_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ninvokePP(int param0, int param1, long param2, long __functionAddress);
+
+    public static long invokePP(int param0, short param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_ISJ_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ninvokePP(int param0, short param1, long param2, long __functionAddress);
+
+    public static long invokePP(long param0, int param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JII_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ninvokePP(long param0, int param1, int param2, long __functionAddress);
+
+    public static long invokePP(int param0, int param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IIIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ninvokePP(int param0, int param1, int param2, long param3, long __functionAddress);
+
+    public static long invokePP(long param0, int param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIII_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ninvokePP(long param0, int param1, int param2, int param3, long __functionAddress);
+
+    public static long invokeJP(short param0, short param1, short param2, byte param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_SSSBIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeJP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ninvokeJP(short param0, short param1, short param2, byte param3, int param4, long param5, long __functionAddress);
+
+    public static long invokePP(long param0, int param1, byte param2, int param3, boolean param4, boolean param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIBIZZ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ninvokePP(long param0, int param1, byte param2, int param3, boolean param4, boolean param5, long __functionAddress);
+
+    public static long invokePJP(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJ_J.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePJP(param0, param1, __functionAddress);
+    }
+    private static native long ninvokePJP(long param0, long param1, long __functionAddress);
+
+    public static long invokePPP(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJ_J.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, __functionAddress);
+    }
+    private static native long ninvokePPP(long param0, long param1, long __functionAddress);
+
+    public static long invokePJP(long param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJ_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePJP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ninvokePJP(long param0, int param1, long param2, long __functionAddress);
+
+    public static long invokePJP(long param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJI_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePJP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ninvokePJP(long param0, long param1, int param2, long __functionAddress);
+
+    public static long invokePPP(int param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IJJ_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ninvokePPP(int param0, long param1, long param2, long __functionAddress);
+
+    public static long invokePPP(long param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJ_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ninvokePPP(long param0, int param1, long param2, long __functionAddress);
+
+    public static long invokePPP(long param0, long param1, byte param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJB_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ninvokePPP(long param0, long param1, byte param2, long __functionAddress);
+
+    public static long invokePPP(long param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJI_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ninvokePPP(long param0, long param1, int param2, long __functionAddress);
+
+    public static long invokePPP(long param0, int param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ninvokePPP(long param0, int param1, int param2, long param3, long __functionAddress);
+
+    public static long invokePPP(long param0, int param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJI_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ninvokePPP(long param0, int param1, long param2, int param3, long __functionAddress);
+
+    public static long invokePPP(long param0, long param1, int param2, byte param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIB_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ninvokePPP(long param0, long param1, int param2, byte param3, long __functionAddress);
+
+    public static long invokePPP(long param0, long param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJII_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ninvokePPP(long param0, long param1, int param2, int param3, long __functionAddress);
+
+    public static long invokePPP(long param0, long param1, boolean param2, boolean param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJZZ_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ninvokePPP(long param0, long param1, boolean param2, boolean param3, long __functionAddress);
+
+    public static long invokePPP(long param0, boolean param1, boolean param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JZZJ_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ninvokePPP(long param0, boolean param1, boolean param2, long param3, long __functionAddress);
+
+    public static long invokePPP(int param0, int param1, int param2, int param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IIIIJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ninvokePPP(int param0, int param1, int param2, int param3, long param4, long param5, long __functionAddress);
+
+    public static long invokePPP(long param0, short param1, short param2, short param3, short param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JSSSSJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ninvokePPP(long param0, short param1, short param2, short param3, short param4, long param5, long __functionAddress);
+
+    public static long invokePPP(int param0, int param1, int param2, int param3, long param4, int param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IIIIJIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native long ninvokePPP(int param0, int param1, int param2, int param3, long param4, int param5, long param6, long __functionAddress);
+
+    public static long invokePJJP(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJ_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePJJP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ninvokePJJP(long param0, long param1, long param2, long __functionAddress);
+
+    public static long invokePPJP(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJ_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPJP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ninvokePPJP(long param0, long param1, long param2, long __functionAddress);
+
+    public static long invokePPPP(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJ_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ninvokePPPP(long param0, long param1, long param2, long __functionAddress);
+
+    public static long invokePPPP(int param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ninvokePPPP(int param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static long invokePPPP(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ninvokePPPP(long param0, int param1, long param2, long param3, long __functionAddress);
+
+    public static long invokePPPP(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ninvokePPPP(long param0, long param1, int param2, long param3, long __functionAddress);
+
+    public static long invokePPPP(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJI_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ninvokePPPP(long param0, long param1, long param2, int param3, long __functionAddress);
+
+    public static long invokePPPP(int param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IIJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ninvokePPPP(int param0, int param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static long invokePPPP(long param0, int param1, int param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIIJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ninvokePPPP(long param0, int param1, int param2, long param3, long param4, long __functionAddress);
+
+    public static long invokePPPP(long param0, long param1, int param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ninvokePPPP(long param0, long param1, int param2, int param3, long param4, long __functionAddress);
+
+    public static long invokePPPP(long param0, long param1, int param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIJI_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ninvokePPPP(long param0, long param1, int param2, long param3, int param4, long __functionAddress);
+
+    public static long invokePPPP(long param0, long param1, long param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJII_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ninvokePPPP(long param0, long param1, long param2, int param3, int param4, long __functionAddress);
+
+    public static long invokePPPP(long param0, int param1, long param2, long param3, int param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJJII_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ninvokePPPP(long param0, int param1, long param2, long param3, int param4, int param5, long __functionAddress);
+
+    public static long invokePPPP(long param0, long param1, int param2, int param3, long param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIIJI_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ninvokePPPP(long param0, long param1, int param2, int param3, long param4, int param5, long __functionAddress);
+
+    public static long invokePPPP(int param0, int param1, int param2, long param3, long param4, int param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IIIJJIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native long ninvokePPPP(int param0, int param1, int param2, long param3, long param4, int param5, long param6, long __functionAddress);
+
+    public static long invokePPPP(long param0, long param1, int param2, int param3, long param4, int param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIIJII_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native long ninvokePPPP(long param0, long param1, int param2, int param3, long param4, int param5, int param6, long __functionAddress);
+
+    public static long invokePPJPP(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPJPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ninvokePPJPP(long param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static long invokePPPPP(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ninvokePPPPP(long param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static long invokePPPJP(int param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IJJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPJP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ninvokePPPJP(int param0, long param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static long invokePPPPP(long param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ninvokePPPPP(long param0, int param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static long invokePPPPP(long param0, long param1, int param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ninvokePPPPP(long param0, long param1, int param2, long param3, long param4, long __functionAddress);
+
+    public static long invokePPPPP(long param0, long param1, long param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ninvokePPPPP(long param0, long param1, long param2, int param3, long param4, long __functionAddress);
+
+    public static long invokePPPPP(long param0, long param1, long param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJI_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ninvokePPPPP(long param0, long param1, long param2, long param3, int param4, long __functionAddress);
+
+    public static long invokePJPPP(long param0, long param1, int param2, long param3, long param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIJJI_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePJPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ninvokePJPPP(long param0, long param1, int param2, long param3, long param4, int param5, long __functionAddress);
+
+    public static long invokePPPJP(long param0, long param1, long param2, long param3, int param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJII_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPJP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ninvokePPPJP(long param0, long param1, long param2, long param3, int param4, int param5, long __functionAddress);
+
+    public static long invokePPPPP(long param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIJIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ninvokePPPPP(long param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress);
+
+    public static long invokePPPPP(long param0, long param1, long param2, int param3, long param4, int param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJIJII_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native long ninvokePPPPP(long param0, long param1, long param2, int param3, long param4, int param5, int param6, long __functionAddress);
+
+    public static long invokePPPPP(long param0, long param1, long param2, long param3, int param4, int param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJIII_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native long ninvokePPPPP(long param0, long param1, long param2, long param3, int param4, int param5, int param6, long __functionAddress);
+
+    public static long invokePPPPP(int param0, int param1, int param2, long param3, long param4, long param5, int param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IIIJJJIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPP(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native long ninvokePPPPP(int param0, int param1, int param2, long param3, long param4, long param5, int param6, long param7, long __functionAddress);
+
+    public static long invokePJPJPP(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePJPJPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ninvokePJPJPP(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static long invokePPPPPP(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ninvokePPPPPP(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static long invokePPPPPP(long param0, long param1, long param2, int param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJIJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ninvokePPPPPP(long param0, long param1, long param2, int param3, long param4, long param5, long __functionAddress);
+
+    public static long invokePPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ninvokePPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, long __functionAddress);
+
+    public static long invokePPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJI_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ninvokePPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long __functionAddress);
+
+    public static long invokePPJPPP(long param0, long param1, long param2, int param3, int param4, long param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJIIJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPJPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native long ninvokePPJPPP(long param0, long param1, long param2, int param3, int param4, long param5, long param6, long __functionAddress);
+
+    public static long invokePPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, int param6, int param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJIII_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native long ninvokePPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, int param6, int param7, long __functionAddress);
+
+    public static long invokePPPPPP(long param0, long param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, long param9, long param10, long param11, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIIIIIIIJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+    private static native long ninvokePPPPPP(long param0, long param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, long param9, long param10, long param11, long __functionAddress);
+
+    public static long invokePPJJPPP(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPJJPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ninvokePPJJPPP(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static long invokePPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ninvokePPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static long invokePPPPPPP(long param0, long param1, long param2, int param3, long param4, long param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJIJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native long ninvokePPPPPPP(long param0, long param1, long param2, int param3, long param4, long param5, long param6, long __functionAddress);
+
+    public static long invokePPPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJIJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native long ninvokePPPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long __functionAddress);
+
+    public static long invokePPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native long ninvokePPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, long __functionAddress);
+
+    public static long invokePPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJI_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native long ninvokePPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, int param6, long __functionAddress);
+
+    public static long invokePPPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, int param6, long param7, int param8, int param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJIJIJII_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native long ninvokePPPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, int param6, long param7, int param8, int param9, long __functionAddress);
+
+    public static long invokePPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, int param8, int param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJIJIII_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native long ninvokePPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, int param8, int param9, long __functionAddress);
+
+    public static long invokePPPPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJIJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native long ninvokePPPPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long param7, long __functionAddress);
+
+    public static long invokePPPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, long param8, int param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJIJIJI_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native long ninvokePPPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, long param8, int param9, long __functionAddress);
+
+    public static long invokePPPPJJPPP(long param0, long param1, long param2, long param3, int param4, long param5, int param6, long param7, int param8, long param9, long param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJIJIJIJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPJJPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native long ninvokePPPPJJPPP(long param0, long param1, long param2, long param3, int param4, long param5, int param6, long param7, int param8, long param9, long param10, long __functionAddress);
+
+    public static long invokePPPPPJJPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, long param8, int param9, long param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJIJIJIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPJJPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native long ninvokePPPPPJJPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, long param8, int param9, long param10, long __functionAddress);
+
+    public static long invokePPPPPJPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, long param8, int param9, long param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJIJIJIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPJPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native long ninvokePPPPPJPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, long param8, int param9, long param10, long __functionAddress);
+
+    public static long invokePPPPPJPPP(long param0, int param1, long param2, long param3, long param4, long param5, int param6, int param7, long param8, int param9, long param10, long param11, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJJJJIIJIJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPJPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+    private static native long ninvokePPPPPJPPP(long param0, int param1, long param2, long param3, long param4, long param5, int param6, int param7, long param8, int param9, long param10, long param11, long __functionAddress);
+
+    public static long invokePPPPPJPPP(long param0, int param1, long param2, long param3, long param4, long param5, int param6, int param7, long param8, int param9, int param10, long param11, long param12, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJJJJIIJIIJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPJPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, __functionAddress);
+    }
+    private static native long ninvokePPPPPJPPP(long param0, int param1, long param2, long param3, long param4, long param5, int param6, int param7, long param8, int param9, int param10, long param11, long param12, long __functionAddress);
+
+    public static long invokePPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, int param7, long param8, int param9, int param10, int param11, int param12, int param13, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJJIJIIIII_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+    }
+    private static native long ninvokePPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, int param7, long param8, int param9, int param10, int param11, int param12, int param13, long __functionAddress);
+
+    public static long invokePPPPPPPPP(long param0, int param1, long param2, long param3, long param4, int param5, long param6, long param7, int param8, long param9, long param10, int param11, int param12, int param13, int param14, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJJJIJJIJJIIII_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, __functionAddress);
+    }
+    private static native long ninvokePPPPPPPPP(long param0, int param1, long param2, long param3, long param4, int param5, long param6, long param7, int param8, long param9, long param10, int param11, int param12, int param13, int param14, long __functionAddress);
+
+    public static long invokePPPPPJJJPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, long param7, long param8, int param9, long param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJIJJJIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPJJJPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native long ninvokePPPPPJJJPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, long param7, long param8, int param9, long param10, long __functionAddress);
+
+    public static long invokePPPPPPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long param7, long param8, int param9, long param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJIJJJJIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native long ninvokePPPPPPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long param7, long param8, int param9, long param10, long __functionAddress);
+
+    public static long invokePPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, int param7, long param8, int param9, long param10, int param11, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJJIJIJI_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+    private static native long ninvokePPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, int param7, long param8, int param9, long param10, int param11, long __functionAddress);
+
+    public static long invokePPPPPJPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, int param8, long param9, int param10, int param11, long param12, long param13, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJIJIIJIIJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPJPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+    }
+    private static native long ninvokePPPPPJPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, int param8, long param9, int param10, int param11, long param12, long param13, long __functionAddress);
+
+    public static long invokePPPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJJJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native long ninvokePPPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long __functionAddress);
+
+    public static long invokePPPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, int param7, long param8, int param9, long param10, long param11, int param12, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJJIJIJJI_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, __functionAddress);
+    }
+    private static native long ninvokePPPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, int param7, long param8, int param9, long param10, long param11, int param12, long __functionAddress);
+
+    public static long invokePPPPPJPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, int param8, long param9, long param10, int param11, int param12, long param13, long param14, long param15, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJIJIIJJIIJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPJPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, __functionAddress);
+    }
+    private static native long ninvokePPPPPJPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, int param8, long param9, long param10, int param11, int param12, long param13, long param14, long param15, long __functionAddress);
+
+    public static long invokePPPPPJJPPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, long param8, int param9, long param10, long param11, int param12, long param13, long param14, long param15, long param16, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJIJIJIJJIJJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, param16, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPJJPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, param16, __functionAddress);
+    }
+    private static native long ninvokePPPPPJJPPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, long param8, int param9, long param10, long param11, int param12, long param13, long param14, long param15, long param16, long __functionAddress);
+
+    public static short invokeS(long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H__S.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeS(__functionAddress);
+    }
+    private static native short ninvokeS(long __functionAddress);
+
+    public static short invokeS(int param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_I_S.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeS(param0, __functionAddress);
+    }
+    private static native short ninvokeS(int param0, long __functionAddress);
+
+    public static short invokeS(int param0, short param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_IS_S.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeS(param0, param1, __functionAddress);
+    }
+    private static native short ninvokeS(int param0, short param1, long __functionAddress);
+
+    public static short invokeS(short param0, byte param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_SB_S.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeS(param0, param1, __functionAddress);
+    }
+    private static native short ninvokeS(short param0, byte param1, long __functionAddress);
+
+    public static short invokeS(short param0, boolean param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_SZ_S.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeS(param0, param1, __functionAddress);
+    }
+    private static native short ninvokeS(short param0, boolean param1, long __functionAddress);
+
+    public static short invokeS(short param0, short param1, boolean param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_SSZ_S.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeS(param0, param1, param2, __functionAddress);
+    }
+    private static native short ninvokeS(short param0, short param1, boolean param2, long __functionAddress);
+
+    public static short invokeS(short param0, short param1, short param2, short param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_SSSS_S.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeS(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native short ninvokeS(short param0, short param1, short param2, short param3, long __functionAddress);
+
+    public static short invokePS(long param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_J_S.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePS(param0, __functionAddress);
+    }
+    private static native short ninvokePS(long param0, long __functionAddress);
+
+    public static short invokePS(long param0, short param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JS_S.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePS(param0, param1, __functionAddress);
+    }
+    private static native short ninvokePS(long param0, short param1, long __functionAddress);
+
+    public static short invokeJS(int param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_IIJ_S.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeJS(param0, param1, param2, __functionAddress);
+    }
+    private static native short ninvokeJS(int param0, int param1, long param2, long __functionAddress);
+
+    public static short invokePS(byte param0, long param1, boolean param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_BJZ_S.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePS(param0, param1, param2, __functionAddress);
+    }
+    private static native short ninvokePS(byte param0, long param1, boolean param2, long __functionAddress);
+
+    public static short invokePS(int param0, long param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_IJS_S.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePS(param0, param1, param2, __functionAddress);
+    }
+    private static native short ninvokePS(int param0, long param1, short param2, long __functionAddress);
+
+    public static short invokePS(long param0, int param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JIS_S.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePS(param0, param1, param2, __functionAddress);
+    }
+    private static native short ninvokePS(long param0, int param1, short param2, long __functionAddress);
+
+    public static short invokePS(short param0, long param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_SJS_S.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePS(param0, param1, param2, __functionAddress);
+    }
+    private static native short ninvokePS(short param0, long param1, short param2, long __functionAddress);
+
+    public static short invokeJS(short param0, short param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_SSIJ_S.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeJS(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native short ninvokeJS(short param0, short param1, int param2, long param3, long __functionAddress);
+
+    public static short invokeJS(int param0, boolean param1, short param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_IZSIJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeJS(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native short ninvokeJS(int param0, boolean param1, short param2, int param3, long param4, long __functionAddress);
+
+    public static short invokePS(long param0, short param1, short param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JSSII_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePS(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native short ninvokePS(long param0, short param1, short param2, int param3, int param4, long __functionAddress);
+
+    public static short invokePS(long param0, short param1, short param2, short param3, short param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JSSSS_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePS(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native short ninvokePS(long param0, short param1, short param2, short param3, short param4, long __functionAddress);
+
+    public static short invokePPS(long param0, long param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JJS_S.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPS(param0, param1, param2, __functionAddress);
+    }
+    private static native short ninvokePPS(long param0, long param1, short param2, long __functionAddress);
+
+    public static short invokeJPS(short param0, boolean param1, short param2, int param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_SZSIJJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeJPS(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native short ninvokeJPS(short param0, boolean param1, short param2, int param3, long param4, long param5, long __functionAddress);
+
+    public static short invokeJPS(short param0, short param1, short param2, boolean param3, int param4, long param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_SSSZIJJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeJPS(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native short ninvokeJPS(short param0, short param1, short param2, boolean param3, int param4, long param5, long param6, long __functionAddress);
+
+    public static short invokeJPS(short param0, short param1, boolean param2, short param3, int param4, long param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_SSZSIJJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeJPS(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native short ninvokeJPS(short param0, short param1, boolean param2, short param3, int param4, long param5, long param6, long __functionAddress);
+
+    public static short invokePJPS(long param0, long param1, byte param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JJBJ_S.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePJPS(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native short ninvokePJPS(long param0, long param1, byte param2, long param3, long __functionAddress);
+
+    public static short invokePPPS(long param0, long param1, long param2, short param3, float param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JJJSF_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPS(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native short ninvokePPPS(long param0, long param1, long param2, short param3, float param4, long __functionAddress);
+
+    public static void invokeV(long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H__V.HANDLE.invokeExact(__functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(__functionAddress);
+    }
+    private static native void ninvokeV(long __functionAddress);
+
+    public static void invokeV(double param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_D_V.HANDLE.invokeExact(param0, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, __functionAddress);
+    }
+    private static native void ninvokeV(double param0, long __functionAddress);
+
+    public static void invokeV(float param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_F_V.HANDLE.invokeExact(param0, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, __functionAddress);
+    }
+    private static native void ninvokeV(float param0, long __functionAddress);
+
+    public static void invokeV(int param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_I_V.HANDLE.invokeExact(param0, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, __functionAddress);
+    }
+    private static native void ninvokeV(int param0, long __functionAddress);
+
+    public static void invokeV(short param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_S_V.HANDLE.invokeExact(param0, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, __functionAddress);
+    }
+    private static native void ninvokeV(short param0, long __functionAddress);
+
+    public static void invokeV(byte param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_BI_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokeV(byte param0, int param1, long __functionAddress);
+
+    public static void invokeV(byte param0, boolean param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_BZ_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokeV(byte param0, boolean param1, long __functionAddress);
+
+    public static void invokeV(int param0, float param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IF_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokeV(int param0, float param1, long __functionAddress);
+
+    public static void invokeV(int param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_II_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokeV(int param0, int param1, long __functionAddress);
+
+    public static void invokeV(int param0, short param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IS_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokeV(int param0, short param1, long __functionAddress);
+
+    public static void invokeV(short param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SI_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokeV(short param0, int param1, long __functionAddress);
+
+    public static void invokeV(short param0, short param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SS_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokeV(short param0, short param1, long __functionAddress);
+
+    public static void invokeV(short param0, boolean param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SZ_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokeV(short param0, boolean param1, long __functionAddress);
+
+    public static void invokeV(byte param0, short param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_BSI_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokeV(byte param0, short param1, int param2, long __functionAddress);
+
+    public static void invokeV(int param0, int param1, double param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IID_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokeV(int param0, int param1, double param2, long __functionAddress);
+
+    public static void invokeV(int param0, int param1, float param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIF_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokeV(int param0, int param1, float param2, long __functionAddress);
+
+    public static void invokeV(int param0, int param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_III_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokeV(int param0, int param1, int param2, long __functionAddress);
+
+    public static void invokeV(short param0, int param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SII_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokeV(short param0, int param1, int param2, long __functionAddress);
+
+    public static void invokeV(byte param0, short param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_BSII_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokeV(byte param0, short param1, int param2, int param3, long __functionAddress);
+
+    public static void invokeV(byte param0, short param1, short param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_BSSI_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokeV(byte param0, short param1, short param2, int param3, long __functionAddress);
+
+    public static void invokeV(int param0, float param1, float param2, float param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IFFF_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokeV(int param0, float param1, float param2, float param3, long __functionAddress);
+
+    public static void invokeV(int param0, int param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIII_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokeV(int param0, int param1, int param2, int param3, long __functionAddress);
+
+    public static void invokeV(short param0, short param1, int param2, boolean param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SSIZ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokeV(short param0, short param1, int param2, boolean param3, long __functionAddress);
+
+    public static void invokeV(short param0, short param1, short param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SSSI_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokeV(short param0, short param1, short param2, int param3, long __functionAddress);
+
+    public static void invokeV(byte param0, short param1, byte param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_BSBII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokeV(byte param0, short param1, byte param2, int param3, int param4, long __functionAddress);
+
+    public static void invokeV(int param0, int param1, double param2, double param3, double param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIDDD_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokeV(int param0, int param1, double param2, double param3, double param4, long __functionAddress);
+
+    public static void invokeV(int param0, int param1, float param2, float param3, float param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIFFF_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokeV(int param0, int param1, float param2, float param3, float param4, long __functionAddress);
+
+    public static void invokeV(int param0, int param1, int param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokeV(int param0, int param1, int param2, int param3, int param4, long __functionAddress);
+
+    public static void invokeV(short param0, short param1, int param2, float param3, byte param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SSIFB_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokeV(short param0, short param1, int param2, float param3, byte param4, long __functionAddress);
+
+    public static void invokeV(short param0, short param1, int param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SSIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokeV(short param0, short param1, int param2, int param3, int param4, long __functionAddress);
+
+    public static void invokeV(short param0, short param1, short param2, int param3, boolean param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SSSIZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokeV(short param0, short param1, short param2, int param3, boolean param4, long __functionAddress);
+
+    public static void invokeV(short param0, short param1, short param2, short param3, short param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SSSSS_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokeV(short param0, short param1, short param2, short param3, short param4, long __functionAddress);
+
+    public static void invokeV(short param0, short param1, short param2, short param3, short param4, int param5, boolean param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SSSSSIZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ninvokeV(short param0, short param1, short param2, short param3, short param4, int param5, boolean param6, long __functionAddress);
+
+    public static void invokeV(short param0, short param1, float param2, byte param3, byte param4, byte param5, byte param6, byte param7, byte param8, byte param9, byte param10, byte param11, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SSFBBBBBBBBB_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+    private static native void ninvokeV(short param0, short param1, float param2, byte param3, byte param4, byte param5, byte param6, byte param7, byte param8, byte param9, byte param10, byte param11, long __functionAddress);
+
+    public static void invokeV(short param0, short param1, byte param2, short param3, short param4, short param5, short param6, byte param7, short param8, short param9, short param10, short param11, short param12, short param13, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SSBSSSSBSSSSSS_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+    }
+    private static native void ninvokeV(short param0, short param1, byte param2, short param3, short param4, short param5, short param6, byte param7, short param8, short param9, short param10, short param11, short param12, short param13, long __functionAddress);
+
+    public static void invokePV(long param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_J_V.HANDLE.invokeExact(param0, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, long __functionAddress);
+
+    public static void invokeJV(long param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JI_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeJV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokeJV(long param0, int param1, long __functionAddress);
+
+    public static void invokePV(byte param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_BJ_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokePV(byte param0, long param1, long __functionAddress);
+
+    public static void invokePV(int param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJ_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokePV(int param0, long param1, long __functionAddress);
+
+    public static void invokePV(long param0, float param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JF_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, float param1, long __functionAddress);
+
+    public static void invokePV(long param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JI_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, int param1, long __functionAddress);
+
+    public static void invokePV(long param0, short param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JS_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, short param1, long __functionAddress);
+
+    public static void invokePV(long param0, boolean param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JZ_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, boolean param1, long __functionAddress);
+
+    public static void invokePV(short param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SJ_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokePV(short param0, long param1, long __functionAddress);
+
+    public static void invokeJV(int param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeJV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokeJV(int param0, int param1, long param2, long __functionAddress);
+
+    public static void invokePV(int param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(int param0, int param1, long param2, long __functionAddress);
+
+    public static void invokePV(long param0, double param1, double param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JDD_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, double param1, double param2, long __functionAddress);
+
+    public static void invokePV(long param0, float param1, float param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JFF_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, float param1, float param2, long __functionAddress);
+
+    public static void invokePV(long param0, int param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JII_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, int param1, int param2, long __functionAddress);
+
+    public static void invokePV(long param0, int param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIS_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, int param1, short param2, long __functionAddress);
+
+    public static void invokePV(long param0, short param1, boolean param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JSZ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, short param1, boolean param2, long __functionAddress);
+
+    public static void invokePV(short param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SIJ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(short param0, int param1, long param2, long __functionAddress);
+
+    public static void invokePV(short param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SJI_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(short param0, long param1, int param2, long __functionAddress);
+
+    public static void invokePV(short param0, long param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SJS_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(short param0, long param1, short param2, long __functionAddress);
+
+    public static void invokePV(short param0, short param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SSJ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(short param0, short param1, long param2, long __functionAddress);
+
+    public static void invokePV(byte param0, long param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_BJII_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePV(byte param0, long param1, int param2, int param3, long __functionAddress);
+
+    public static void invokePV(long param0, byte param1, short param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JBSI_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, byte param1, short param2, int param3, long __functionAddress);
+
+    public static void invokePV(long param0, int param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIII_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, int param1, int param2, int param3, long __functionAddress);
+
+    public static void invokePV(long param0, short param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JSII_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, short param1, int param2, int param3, long __functionAddress);
+
+    public static void invokePV(short param0, short param1, byte param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SSBJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePV(short param0, short param1, byte param2, long param3, long __functionAddress);
+
+    public static void invokePV(int param0, int param1, long param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePV(int param0, int param1, long param2, int param3, int param4, long __functionAddress);
+
+    public static void invokePV(long param0, byte param1, short param2, short param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JBSSI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, byte param1, short param2, short param3, int param4, long __functionAddress);
+
+    public static void invokePV(long param0, int param1, int param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, int param1, int param2, int param3, int param4, long __functionAddress);
+
+    public static void invokePV(long param0, short param1, short param2, int param3, boolean param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JSSIZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, short param1, short param2, int param3, boolean param4, long __functionAddress);
+
+    public static void invokePV(long param0, byte param1, short param2, byte param3, int param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JBSBII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, byte param1, short param2, byte param3, int param4, int param5, long __functionAddress);
+
+    public static void invokePV(long param0, byte param1, short param2, int param3, int param4, short param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JBSIIS_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, byte param1, short param2, int param3, int param4, short param5, long __functionAddress);
+
+    public static void invokePV(long param0, int param1, int param2, int param3, int param4, boolean param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIIIZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, int param1, int param2, int param3, int param4, boolean param5, long __functionAddress);
+
+    public static void invokePV(long param0, short param1, int param2, short param3, short param4, byte param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JSISSB_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, short param1, int param2, short param3, short param4, byte param5, long __functionAddress);
+
+    public static void invokePV(long param0, short param1, short param2, int param3, int param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JSSIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, short param1, short param2, int param3, int param4, int param5, long __functionAddress);
+
+    public static void invokePV(long param0, short param1, short param2, short param3, int param4, boolean param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JSSSIZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, short param1, short param2, short param3, int param4, boolean param5, long __functionAddress);
+
+    public static void invokePV(long param0, short param1, short param2, short param3, short param4, short param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JSSSSS_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, short param1, short param2, short param3, short param4, short param5, long __functionAddress);
+
+    public static void invokePV(short param0, short param1, short param2, short param3, long param4, short param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SSSSJS_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ninvokePV(short param0, short param1, short param2, short param3, long param4, short param5, long __functionAddress);
+
+    public static void invokePV(long param0, short param1, short param2, short param3, short param4, short param5, int param6, boolean param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JSSSSSIZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, short param1, short param2, short param3, short param4, short param5, int param6, boolean param7, long __functionAddress);
+
+    public static void invokePV(long param0, short param1, short param2, short param3, boolean param4, boolean param5, short param6, int param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JSSSZZSI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, short param1, short param2, short param3, boolean param4, boolean param5, short param6, int param7, long __functionAddress);
+
+    public static void invokePV(short param0, byte param1, short param2, short param3, short param4, short param5, short param6, short param7, long param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SBSSSSSSJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native void ninvokePV(short param0, byte param1, short param2, short param3, short param4, short param5, short param6, short param7, long param8, long __functionAddress);
+
+    public static void invokePV(short param0, short param1, byte param2, short param3, short param4, short param5, short param6, long param7, short param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SSBSSSSJS_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native void ninvokePV(short param0, short param1, byte param2, short param3, short param4, short param5, short param6, long param7, short param8, long __functionAddress);
+
+    public static void invokePV(short param0, short param1, byte param2, byte param3, short param4, short param5, short param6, short param7, long param8, short param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SSBBSSSSJS_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native void ninvokePV(short param0, short param1, byte param2, byte param3, short param4, short param5, short param6, short param7, long param8, short param9, long __functionAddress);
+
+    public static void invokePV(long param0, short param1, short param2, byte param3, short param4, short param5, short param6, short param7, byte param8, short param9, short param10, short param11, short param12, short param13, short param14, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JSSBSSSSBSSSSSS_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, __functionAddress);
+    }
+    private static native void ninvokePV(long param0, short param1, short param2, byte param3, short param4, short param5, short param6, short param7, byte param8, short param9, short param10, short param11, short param12, short param13, short param14, long __functionAddress);
+
+    public static void invokePPV(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJ_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, long param1, long __functionAddress);
+
+    public static void invokePJV(long param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJI_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePJV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePJV(long param0, long param1, int param2, long __functionAddress);
+
+    public static void invokePPV(int param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePPV(int param0, long param1, long param2, long __functionAddress);
+
+    public static void invokePPV(long param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, int param1, long param2, long __functionAddress);
+
+    public static void invokePPV(long param0, long param1, float param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJF_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, long param1, float param2, long __functionAddress);
+
+    public static void invokePPV(long param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJI_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, long param1, int param2, long __functionAddress);
+
+    public static void invokePPV(long param0, long param1, boolean param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJZ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, long param1, boolean param2, long __functionAddress);
+
+    public static void invokePPV(short param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SJJ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePPV(short param0, long param1, long param2, long __functionAddress);
+
+    public static void invokePPV(long param0, int param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, int param1, int param2, long param3, long __functionAddress);
+
+    public static void invokePPV(long param0, int param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJI_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, int param1, long param2, int param3, long __functionAddress);
+
+    public static void invokePPV(long param0, long param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJII_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, long param1, int param2, int param3, long __functionAddress);
+
+    public static void invokePPV(long param0, short param1, long param2, short param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JSJS_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, short param1, long param2, short param3, long __functionAddress);
+
+    public static void invokePPV(long param0, float param1, long param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JFJII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, float param1, long param2, int param3, int param4, long __functionAddress);
+
+    public static void invokePPV(short param0, short param1, byte param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SSBJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePPV(short param0, short param1, byte param2, long param3, long param4, long __functionAddress);
+
+    public static void invokePPV(long param0, byte param1, long param2, int param3, int param4, short param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JBJIIS_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, byte param1, long param2, int param3, int param4, short param5, long __functionAddress);
+
+    public static void invokePPV(long param0, long param1, int param2, int param3, int param4, int param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIIIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, long param1, int param2, int param3, int param4, int param5, int param6, long __functionAddress);
+
+    public static void invokePPPV(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePPPV(long param0, long param1, long param2, long __functionAddress);
+
+    public static void invokePJJV(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePJJV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePJJV(long param0, int param1, long param2, long param3, long __functionAddress);
+
+    public static void invokePJPV(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJI_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePJPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePJPV(long param0, long param1, long param2, int param3, long __functionAddress);
+
+    public static void invokePPPV(int param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePPPV(int param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static void invokePPPV(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePPPV(long param0, int param1, long param2, long param3, long __functionAddress);
+
+    public static void invokePPPV(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePPPV(long param0, long param1, int param2, long param3, long __functionAddress);
+
+    public static void invokePPPV(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJI_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePPPV(long param0, long param1, long param2, int param3, long __functionAddress);
+
+    public static void invokeJJJV(int param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokeJJJV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokeJJJV(int param0, int param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static void invokePPPV(int param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePPPV(int param0, int param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static void invokePPPV(long param0, int param1, long param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJJI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePPPV(long param0, int param1, long param2, long param3, int param4, long __functionAddress);
+
+    public static void invokePPPV(long param0, long param1, int param2, long param3, short param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIJS_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePPPV(long param0, long param1, int param2, long param3, short param4, long __functionAddress);
+
+    public static void invokePPPV(long param0, long param1, long param2, boolean param3, boolean param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJZZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePPPV(long param0, long param1, long param2, boolean param3, boolean param4, long __functionAddress);
+
+    public static void invokePPPV(long param0, long param1, short param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJSIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePPPV(long param0, long param1, short param2, int param3, long param4, long __functionAddress);
+
+    public static void invokePPPV(long param0, long param1, long param2, int param3, boolean param4, boolean param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJIZZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ninvokePPPV(long param0, long param1, long param2, int param3, boolean param4, boolean param5, long __functionAddress);
+
+    public static void invokePPPV(long param0, boolean param1, int param2, long param3, long param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JZIJJI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ninvokePPPV(long param0, boolean param1, int param2, long param3, long param4, int param5, long __functionAddress);
+
+    public static void invokePPPV(long param0, long param1, int param2, int param3, int param4, long param5, int param6, boolean param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIIIJIZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ninvokePPPV(long param0, long param1, int param2, int param3, int param4, long param5, int param6, boolean param7, long __functionAddress);
+
+    public static void invokePPPPV(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePPPPV(long param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static void invokePPPPV(long param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePPPPV(long param0, int param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static void invokePPPPV(long param0, long param1, long param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePPPPV(long param0, long param1, long param2, long param3, int param4, long __functionAddress);
+
+    public static void invokePPPPV(long param0, long param1, short param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJSJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePPPPV(long param0, long param1, short param2, long param3, long param4, long __functionAddress);
+
+    public static void invokePPPPPV(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePPPPPV(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static void invokePPPPPV(long param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ninvokePPPPPV(long param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static void invokePPPPPV(int param0, long param1, int param2, long param3, long param4, long param5, int param6, long param7, int param8, boolean param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJIJJJIJIZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native void ninvokePPPPPV(int param0, long param1, int param2, long param3, long param4, long param5, int param6, long param7, int param8, boolean param9, long __functionAddress);
+
+    public static void invokePPPPPPV(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ninvokePPPPPPV(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static void invokePPPPPPPV(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPPPPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ninvokePPPPPPPV(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long __functionAddress);
+
+    public static boolean invokeZ(long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H__Z.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeZ(__functionAddress);
+    }
+    private static native boolean ninvokeZ(long __functionAddress);
+
+    public static boolean invokeZ(int param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_I_Z.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeZ(param0, __functionAddress);
+    }
+    private static native boolean ninvokeZ(int param0, long __functionAddress);
+
+    public static boolean invokePZ(long param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_J_Z.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePZ(param0, __functionAddress);
+    }
+    private static native boolean ninvokePZ(long param0, long __functionAddress);
+
+    public static boolean invokePZ(long param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JI_Z.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePZ(param0, param1, __functionAddress);
+    }
+    private static native boolean ninvokePZ(long param0, int param1, long __functionAddress);
+
+    public static boolean invokePZ(long param0, int param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JIII_Z.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePZ(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native boolean ninvokePZ(long param0, int param1, int param2, int param3, long __functionAddress);
+
+    public static boolean invokeJZ(short param0, boolean param1, short param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_SZSIJ_Z.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokeJZ(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native boolean ninvokeJZ(short param0, boolean param1, short param2, int param3, long param4, long __functionAddress);
+
+    public static boolean invokePPZ(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JJ_Z.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPZ(param0, param1, __functionAddress);
+    }
+    private static native boolean ninvokePPZ(long param0, long param1, long __functionAddress);
+
+    public static boolean invokePPPZ(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JJJ_Z.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPZ(param0, param1, param2, __functionAddress);
+    }
+    private static native boolean ninvokePPPZ(long param0, long param1, long param2, long __functionAddress);
+
+    public static boolean invokePJPZ(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JJJI_Z.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePJPZ(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native boolean ninvokePJPZ(long param0, long param1, long param2, int param3, long __functionAddress);
+
+    public static boolean invokePPPZ(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JJJI_Z.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPZ(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native boolean ninvokePPPZ(long param0, long param1, long param2, int param3, long __functionAddress);
+
+    public static boolean invokePPPZ(long param0, long param1, int param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JJIJI_Z.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPZ(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native boolean ninvokePPPZ(long param0, long param1, int param2, long param3, int param4, long __functionAddress);
+
+    public static boolean invokePPPZ(long param0, long param1, long param2, boolean param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JJJZI_Z.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPZ(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native boolean ninvokePPPZ(long param0, long param1, long param2, boolean param3, int param4, long __functionAddress);
+
+    public static boolean invokePPPPZ(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JJJJ_Z.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPZ(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native boolean ninvokePPPPZ(long param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static boolean invokePPPPZ(long param0, long param1, long param2, byte param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JJJBJ_Z.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPZ(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native boolean ninvokePPPPZ(long param0, long param1, long param2, byte param3, long param4, long __functionAddress);
+
+    public static boolean invokePPPPPZ(long param0, long param1, long param2, long param3, long param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JJJJJI_Z.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPZ(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native boolean ninvokePPPPPZ(long param0, long param1, long param2, long param3, long param4, int param5, long __functionAddress);
+
+    public static boolean invokePPPPPZ(long param0, long param1, long param2, long param3, long param4, boolean param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JJJJJZI_Z.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPZ(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native boolean ninvokePPPPPZ(long param0, long param1, long param2, long param3, long param4, boolean param5, int param6, long __functionAddress);
+
+    public static float callF(long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (float)H__F.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallF(__functionAddress);
+    }
+    private static native float ncallF(long __functionAddress);
+
+    public static float callF(int param0, int param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (float)H_III_F.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallF(param0, param1, param2, __functionAddress);
+    }
+    private static native float ncallF(int param0, int param1, int param2, long __functionAddress);
+
+    public static float callPF(int param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (float)H_IIJ_F.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPF(param0, param1, param2, __functionAddress);
+    }
+    private static native float ncallPF(int param0, int param1, long param2, long __functionAddress);
+
+    public static float callPPPF(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (float)H_JJJ_F.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPF(param0, param1, param2, __functionAddress);
+    }
+    private static native float ncallPPPF(long param0, long param1, long param2, long __functionAddress);
+
+    public static int callI(long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H__I.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallI(__functionAddress);
+    }
+    private static native int ncallI(long __functionAddress);
+
+    public static int callI(int param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_I_I.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallI(param0, __functionAddress);
+    }
+    private static native int ncallI(int param0, long __functionAddress);
+
+    public static int callI(int param0, float param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IF_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallI(param0, param1, __functionAddress);
+    }
+    private static native int ncallI(int param0, float param1, long __functionAddress);
+
+    public static int callI(int param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_II_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallI(param0, param1, __functionAddress);
+    }
+    private static native int ncallI(int param0, int param1, long __functionAddress);
+
+    public static int callI(int param0, int param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_III_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallI(int param0, int param1, int param2, long __functionAddress);
+
+    public static int callJI(long param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_J_I.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJI(param0, __functionAddress);
+    }
+    private static native int ncallJI(long param0, long __functionAddress);
+
+    public static int callPI(long param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_J_I.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, __functionAddress);
+    }
+    private static native int ncallPI(long param0, long __functionAddress);
+
+    public static int callJI(int param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IJ_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJI(param0, param1, __functionAddress);
+    }
+    private static native int ncallJI(int param0, long param1, long __functionAddress);
+
+    public static int callJI(long param0, float param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JF_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJI(param0, param1, __functionAddress);
+    }
+    private static native int ncallJI(long param0, float param1, long __functionAddress);
+
+    public static int callJI(long param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JI_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJI(param0, param1, __functionAddress);
+    }
+    private static native int ncallJI(long param0, int param1, long __functionAddress);
+
+    public static int callPI(int param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IJ_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, __functionAddress);
+    }
+    private static native int ncallPI(int param0, long param1, long __functionAddress);
+
+    public static int callPI(long param0, float param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JF_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, __functionAddress);
+    }
+    private static native int ncallPI(long param0, float param1, long __functionAddress);
+
+    public static int callPI(long param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JI_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, __functionAddress);
+    }
+    private static native int ncallPI(long param0, int param1, long __functionAddress);
+
+    public static int callPI(long param0, boolean param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JZ_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, __functionAddress);
+    }
+    private static native int ncallPI(long param0, boolean param1, long __functionAddress);
+
+    public static int callJI(long param0, float param1, float param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JFF_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallJI(long param0, float param1, float param2, long __functionAddress);
+
+    public static int callJI(long param0, int param1, boolean param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIZ_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallJI(long param0, int param1, boolean param2, long __functionAddress);
+
+    public static int callPI(int param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIJ_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPI(int param0, int param1, long param2, long __functionAddress);
+
+    public static int callPI(int param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IJI_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPI(int param0, long param1, int param2, long __functionAddress);
+
+    public static int callPI(long param0, float param1, float param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JFF_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPI(long param0, float param1, float param2, long __functionAddress);
+
+    public static int callPI(long param0, int param1, float param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIF_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPI(long param0, int param1, float param2, long __functionAddress);
+
+    public static int callPI(long param0, int param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JII_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPI(long param0, int param1, int param2, long __functionAddress);
+
+    public static int callJI(long param0, float param1, float param2, float param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JFFF_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallJI(long param0, float param1, float param2, float param3, long __functionAddress);
+
+    public static int callPI(int param0, int param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPI(int param0, int param1, int param2, long param3, long __functionAddress);
+
+    public static int callPI(int param0, long param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IJII_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPI(int param0, long param1, int param2, int param3, long __functionAddress);
+
+    public static int callPI(long param0, int param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIII_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPI(long param0, int param1, int param2, int param3, long __functionAddress);
+
+    public static int callPI(int param0, int param1, int param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIIIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPI(int param0, int param1, int param2, int param3, long param4, long __functionAddress);
+
+    public static int callPI(long param0, int param1, int param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIII_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPI(long param0, int param1, int param2, int param3, int param4, long __functionAddress);
+
+    public static int callPI(int param0, int param1, int param2, float param3, float param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIIFFJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPI(int param0, int param1, int param2, float param3, float param4, long param5, long __functionAddress);
+
+    public static int callPI(int param0, int param1, int param2, int param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIIIIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPI(int param0, int param1, int param2, int param3, int param4, long param5, long __functionAddress);
+
+    public static int callPI(int param0, long param1, int param2, int param3, float param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IJIIFI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPI(int param0, long param1, int param2, int param3, float param4, int param5, long __functionAddress);
+
+    public static int callPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIIIII_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native int ncallPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, long __functionAddress);
+
+    public static int callPI(int param0, int param1, long param2, int param3, int param4, int param5, int param6, float param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIJIIIIF_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallPI(int param0, int param1, long param2, int param3, int param4, int param5, int param6, float param7, long __functionAddress);
+
+    public static int callJJI(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJ_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJJI(param0, param1, __functionAddress);
+    }
+    private static native int ncallJJI(long param0, long param1, long __functionAddress);
+
+    public static int callJPI(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJ_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPI(param0, param1, __functionAddress);
+    }
+    private static native int ncallJPI(long param0, long param1, long __functionAddress);
+
+    public static int callPJI(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJ_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJI(param0, param1, __functionAddress);
+    }
+    private static native int ncallPJI(long param0, long param1, long __functionAddress);
+
+    public static int callPPI(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJ_I.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, long param1, long __functionAddress);
+
+    public static int callJJI(int param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IJJ_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJJI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallJJI(int param0, long param1, long param2, long __functionAddress);
+
+    public static int callJPI(long param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJ_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallJPI(long param0, int param1, long param2, long __functionAddress);
+
+    public static int callJPI(long param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJI_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallJPI(long param0, long param1, int param2, long __functionAddress);
+
+    public static int callPJI(long param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJ_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPJI(long param0, int param1, long param2, long __functionAddress);
+
+    public static int callPJI(long param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJI_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPJI(long param0, long param1, int param2, long __functionAddress);
+
+    public static int callPPI(int param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IJJ_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPPI(int param0, long param1, long param2, long __functionAddress);
+
+    public static int callPPI(long param0, byte param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JBJ_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, byte param1, long param2, long __functionAddress);
+
+    public static int callPPI(long param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJ_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, int param1, long param2, long __functionAddress);
+
+    public static int callPPI(long param0, long param1, float param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJF_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, long param1, float param2, long __functionAddress);
+
+    public static int callPPI(long param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJI_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, long param1, int param2, long __functionAddress);
+
+    public static int callPPI(long param0, short param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JSJ_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, short param1, long param2, long __functionAddress);
+
+    public static int callJPI(long param0, int param1, long param2, float param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJF_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallJPI(long param0, int param1, long param2, float param3, long __functionAddress);
+
+    public static int callJPI(long param0, int param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJI_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallJPI(long param0, int param1, long param2, int param3, long __functionAddress);
+
+    public static int callJPI(long param0, long param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJII_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallJPI(long param0, long param1, int param2, int param3, long __functionAddress);
+
+    public static int callPJI(long param0, int param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPJI(long param0, int param1, int param2, long param3, long __functionAddress);
+
+    public static int callPPI(int param0, int param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPI(int param0, int param1, long param2, long param3, long __functionAddress);
+
+    public static int callPPI(int param0, long param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IJJI_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPI(int param0, long param1, long param2, int param3, long __functionAddress);
+
+    public static int callPPI(long param0, int param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, int param1, int param2, long param3, long __functionAddress);
+
+    public static int callPPI(long param0, int param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJI_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, int param1, long param2, int param3, long __functionAddress);
+
+    public static int callPPI(long param0, long param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJII_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, long param1, int param2, int param3, long __functionAddress);
+
+    public static int callJPI(long param0, int param1, int param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallJPI(long param0, int param1, int param2, long param3, int param4, long __functionAddress);
+
+    public static int callJPI(long param0, long param1, int param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIII_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallJPI(long param0, long param1, int param2, int param3, int param4, long __functionAddress);
+
+    public static int callPPI(int param0, int param1, int param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPI(int param0, int param1, int param2, long param3, long param4, long __functionAddress);
+
+    public static int callPPI(int param0, int param1, long param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIJIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPI(int param0, int param1, long param2, int param3, long param4, long __functionAddress);
+
+    public static int callPPI(long param0, int param1, int param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, int param1, int param2, int param3, long param4, long __functionAddress);
+
+    public static int callPPI(long param0, int param1, int param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, int param1, int param2, long param3, int param4, long __functionAddress);
+
+    public static int callPPI(long param0, long param1, int param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIII_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, long param1, int param2, int param3, int param4, long __functionAddress);
+
+    public static int callJJI(long param0, float param1, float param2, float param3, float param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JFFFFJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJJI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallJJI(long param0, float param1, float param2, float param3, float param4, long param5, long __functionAddress);
+
+    public static int callPPI(int param0, int param1, int param2, long param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIIJIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPI(int param0, int param1, int param2, long param3, int param4, long param5, long __functionAddress);
+
+    public static int callPPI(long param0, long param1, int param2, int param3, int param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIIII_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, long param1, int param2, int param3, int param4, int param5, long __functionAddress);
+
+    public static int callPPI(long param0, int param1, int param2, int param3, int param4, int param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIIIIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, int param1, int param2, int param3, int param4, int param5, long param6, long __functionAddress);
+
+    public static int callPPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIIIIIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, long param7, long __functionAddress);
+
+    public static int callPPI(int param0, int param1, long param2, long param3, int param4, int param5, int param6, int param7, float param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIJJIIIIF_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native int ncallPPI(int param0, int param1, long param2, long param3, int param4, int param5, int param6, int param7, float param8, long __functionAddress);
+
+    public static int callPPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, long param7, int param8, int param9, int param10, int param11, int param12, int param13, int param14, int param15, int param16, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIIIIIJIIIIIIIII_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, param16, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, param16, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, long param7, int param8, int param9, int param10, int param11, int param12, int param13, int param14, int param15, int param16, long __functionAddress);
+
+    public static int callJJPI(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJ_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJJPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallJJPI(long param0, long param1, long param2, long __functionAddress);
+
+    public static int callJPPI(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJ_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallJPPI(long param0, long param1, long param2, long __functionAddress);
+
+    public static int callPJPI(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJ_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPJPI(long param0, long param1, long param2, long __functionAddress);
+
+    public static int callPPJI(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJ_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPJI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPPJI(long param0, long param1, long param2, long __functionAddress);
+
+    public static int callPPPI(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJ_I.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, long param1, long param2, long __functionAddress);
+
+    public static int callJJPI(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJI_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJJPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallJJPI(long param0, long param1, long param2, int param3, long __functionAddress);
+
+    public static int callJPJI(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPJI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallJPJI(long param0, long param1, int param2, long param3, long __functionAddress);
+
+    public static int callJPPI(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallJPPI(long param0, int param1, long param2, long param3, long __functionAddress);
+
+    public static int callJPPI(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallJPPI(long param0, long param1, int param2, long param3, long __functionAddress);
+
+    public static int callJPPI(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJI_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallJPPI(long param0, long param1, long param2, int param3, long __functionAddress);
+
+    public static int callPJPI(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPJPI(long param0, int param1, long param2, long param3, long __functionAddress);
+
+    public static int callPJPI(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPJPI(long param0, long param1, int param2, long param3, long __functionAddress);
+
+    public static int callPPJI(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPJI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPJI(long param0, int param1, long param2, long param3, long __functionAddress);
+
+    public static int callPPJI(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPJI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPJI(long param0, long param1, int param2, long param3, long __functionAddress);
+
+    public static int callPPJI(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJI_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPJI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPJI(long param0, long param1, long param2, int param3, long __functionAddress);
+
+    public static int callPPPI(int param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPI(int param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static int callPPPI(long param0, byte param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JBJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, byte param1, long param2, long param3, long __functionAddress);
+
+    public static int callPPPI(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, int param1, long param2, long param3, long __functionAddress);
+
+    public static int callPPPI(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, long param1, int param2, long param3, long __functionAddress);
+
+    public static int callPPPI(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJI_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, long param1, long param2, int param3, long __functionAddress);
+
+    public static int callPPPI(long param0, short param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JSJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, short param1, long param2, long param3, long __functionAddress);
+
+    public static int callJPPI(long param0, int param1, long param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallJPPI(long param0, int param1, long param2, int param3, long param4, long __functionAddress);
+
+    public static int callJPPI(long param0, int param1, long param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallJPPI(long param0, int param1, long param2, long param3, int param4, long __functionAddress);
+
+    public static int callPPJI(long param0, int param1, long param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPJI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPJI(long param0, int param1, long param2, int param3, long param4, long __functionAddress);
+
+    public static int callPPPI(int param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPI(int param0, int param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static int callPPPI(long param0, int param1, long param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, int param1, long param2, int param3, long param4, long __functionAddress);
+
+    public static int callPPPI(long param0, long param1, int param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, long param1, int param2, long param3, int param4, long __functionAddress);
+
+    public static int callJPJI(long param0, int param1, float param2, long param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIFJIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPJI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallJPJI(long param0, int param1, float param2, long param3, int param4, long param5, long __functionAddress);
+
+    public static int callJPPI(long param0, int param1, long param2, int param3, long param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJIJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallJPPI(long param0, int param1, long param2, int param3, long param4, int param5, long __functionAddress);
+
+    public static int callPPPI(long param0, int param1, int param2, int param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, int param1, int param2, int param3, long param4, long param5, long __functionAddress);
+
+    public static int callPPPI(long param0, long param1, int param2, int param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIIIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, long param1, int param2, int param3, int param4, long param5, long __functionAddress);
+
+    public static int callPPJI(int param0, int param1, long param2, int param3, long param4, boolean param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIJIJZJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPJI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native int ncallPPJI(int param0, int param1, long param2, int param3, long param4, boolean param5, long param6, long __functionAddress);
+
+    public static int callPPPI(long param0, long param1, int param2, int param3, int param4, int param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIIIIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, long param1, int param2, int param3, int param4, int param5, long param6, long __functionAddress);
+
+    public static int callPPPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, long param8, long param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIIIIIIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, long param8, long param9, long __functionAddress);
+
+    public static int callJPPPI(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallJPPPI(long param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static int callPJJJI(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJJJI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPJJJI(long param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static int callPJPPI(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPJPPI(long param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static int callPPPPI(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static int callJPPPI(long param0, long param1, int param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallJPPPI(long param0, long param1, int param2, long param3, long param4, long __functionAddress);
+
+    public static int callPJPPI(long param0, long param1, int param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPJPPI(long param0, long param1, int param2, long param3, long param4, long __functionAddress);
+
+    public static int callPPPPI(long param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, int param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static int callPPPPI(long param0, long param1, byte param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJBJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, long param1, byte param2, long param3, long param4, long __functionAddress);
+
+    public static int callPPPPI(long param0, long param1, int param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, long param1, int param2, long param3, long param4, long __functionAddress);
+
+    public static int callPPPPI(long param0, long param1, long param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, long param1, long param2, int param3, long param4, long __functionAddress);
+
+    public static int callPPPPI(long param0, long param1, long param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, long param1, long param2, long param3, int param4, long __functionAddress);
+
+    public static int callPPPPI(long param0, long param1, short param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJSJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, long param1, short param2, long param3, long param4, long __functionAddress);
+
+    public static int callJPPPI(long param0, int param1, long param2, long param3, long param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJJJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallJPPPI(long param0, int param1, long param2, long param3, long param4, int param5, long __functionAddress);
+
+    public static int callPJPPI(long param0, long param1, int param2, int param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPJPPI(long param0, long param1, int param2, int param3, long param4, long param5, long __functionAddress);
+
+    public static int callPPPPI(long param0, int param1, int param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, int param1, int param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static int callPPPPI(long param0, int param1, long param2, int param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, int param1, long param2, int param3, long param4, long param5, long __functionAddress);
+
+    public static int callPPPPI(long param0, long param1, int param2, int param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, long param1, int param2, int param3, long param4, long param5, long __functionAddress);
+
+    public static int callPPPPI(long param0, int param1, long param2, int param3, int param4, long param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJIIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, int param1, long param2, int param3, int param4, long param5, long param6, long __functionAddress);
+
+    public static int callJPPJI(long param0, int param1, int param2, long param3, int param4, long param5, boolean param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIJIJZJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPPJI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallJPPJI(long param0, int param1, int param2, long param3, int param4, long param5, boolean param6, long param7, long __functionAddress);
+
+    public static int callPPPPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, long param8, long param9, long param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIIIIIIJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, long param8, long param9, long param10, long __functionAddress);
+
+    public static int callPJPPPI(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPJPPPI(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static int callPPPPPI(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPPPI(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static int callPJJJPI(long param0, long param1, long param2, long param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJIJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJJJPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPJJJPI(long param0, long param1, long param2, long param3, int param4, long param5, long __functionAddress);
+
+    public static int callPJPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPJPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static int callPPPPPI(long param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPPPI(long param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static int callPPPPPI(long param0, long param1, byte param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJBJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPPPI(long param0, long param1, byte param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static int callPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static int callPPPPPI(long param0, long param1, long param2, int param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPPPI(long param0, long param1, long param2, int param3, long param4, long param5, long __functionAddress);
+
+    public static int callPPPPPI(long param0, long param1, long param2, long param3, long param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPPPI(long param0, long param1, long param2, long param3, long param4, int param5, long __functionAddress);
+
+    public static int callPPPPPI(long param0, long param1, short param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJSJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPPPI(long param0, long param1, short param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static int callJJPPPI(long param0, long param1, int param2, long param3, int param4, long param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJJPPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native int ncallJJPPPI(long param0, long param1, int param2, long param3, int param4, long param5, long param6, long __functionAddress);
+
+    public static int callPPJPPI(long param0, int param1, long param2, long param3, int param4, long param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPJPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native int ncallPPJPPI(long param0, int param1, long param2, long param3, int param4, long param5, long param6, long __functionAddress);
+
+    public static int callPPJPPI(long param0, long param1, int param2, long param3, int param4, long param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPJPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native int ncallPPJPPI(long param0, long param1, int param2, long param3, int param4, long param5, long param6, long __functionAddress);
+
+    public static int callPPPPPI(int param0, int param1, long param2, long param3, long param4, long param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIJJJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native int ncallPPPPPI(int param0, int param1, long param2, long param3, long param4, long param5, long param6, long __functionAddress);
+
+    public static int callPPPPPI(long param0, long param1, long param2, long param3, long param4, int param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJJII_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native int ncallPPPPPI(long param0, long param1, long param2, long param3, long param4, int param5, int param6, long __functionAddress);
+
+    public static int callJPPPPI(int param0, int param1, long param2, long param3, int param4, long param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIJJIJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallJPPPPI(int param0, int param1, long param2, long param3, int param4, long param5, long param6, long param7, long __functionAddress);
+
+    public static int callPJPPJI(long param0, long param1, int param2, int param3, long param4, long param5, long param6, int param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIIJJJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPJI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallPJPPJI(long param0, long param1, int param2, int param3, long param4, long param5, long param6, int param7, long __functionAddress);
+
+    public static int callPPPPPI(long param0, int param1, long param2, int param3, long param4, int param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJIJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallPPPPPI(long param0, int param1, long param2, int param3, long param4, int param5, long param6, long param7, long __functionAddress);
+
+    public static int callPJJJJPI(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJJJJPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPJJJJPI(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static int callPPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static int callPJPPPPI(long param0, int param1, long param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJJJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallPJPPPPI(long param0, int param1, long param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress);
+
+    public static int callPPPJPPI(long param0, int param1, long param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJJJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPJPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallPPPJPPI(long param0, int param1, long param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress);
+
+    public static int callPPPPPPI(int param0, int param1, long param2, long param3, long param4, long param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIJJJJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallPPPPPPI(int param0, int param1, long param2, long param3, long param4, long param5, long param6, long param7, long __functionAddress);
+
+    public static int callPPPPPPI(long param0, int param1, long param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJJJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallPPPPPPI(long param0, int param1, long param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress);
+
+    public static int callPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long __functionAddress);
+
+    public static int callPPPPPPPI(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJIJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallPPPPPPPI(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long param7, long __functionAddress);
+
+    public static int callPPPPPPPI(long param0, long param1, long param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallPPPPPPPI(long param0, long param1, long param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress);
+
+    public static int callPPPPPPPI(long param0, int param1, long param2, long param3, int param4, long param5, long param6, long param7, long param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJJIJJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native int ncallPPPPPPPI(long param0, int param1, long param2, long param3, int param4, long param5, long param6, long param7, long param8, long __functionAddress);
+
+    public static int callPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, int param6, long param7, long param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native int ncallPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, int param6, long param7, long param8, long __functionAddress);
+
+    public static int callPPPPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, int param6, long param7, long param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJJJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native int ncallPPPPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, int param6, long param7, long param8, long __functionAddress);
+
+    public static int callPPPPPPPPI(long param0, long param1, long param2, long param3, int param4, long param5, long param6, int param7, long param8, long param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJIJJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native int ncallPPPPPPPPI(long param0, long param1, long param2, long param3, int param4, long param5, long param6, int param7, long param8, long param9, long __functionAddress);
+
+    public static int callJPPPPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJJJJJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native int ncallJPPPPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long __functionAddress);
+
+    public static int callPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, int param8, long param9, long param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJJJJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native int ncallPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, int param8, long param9, long param10, long __functionAddress);
+
+    public static int callPPPPPPPPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, int param10, long param11, long param12, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJJJJJJJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, __functionAddress);
+    }
+    private static native int ncallPPPPPPPPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, int param10, long param11, long param12, long __functionAddress);
+
+    public static int callPPPPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long param10, int param11, long param12, long param13, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJJJJJJJIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+    }
+    private static native int ncallPPPPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long param10, int param11, long param12, long param13, long __functionAddress);
+
+    public static long callJ(long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H__J.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJ(__functionAddress);
+    }
+    private static native long ncallJ(long __functionAddress);
+
+    public static long callJ(int param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_I_J.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJ(param0, __functionAddress);
+    }
+    private static native long ncallJ(int param0, long __functionAddress);
+
+    public static long callJ(int param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_II_J.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJ(param0, param1, __functionAddress);
+    }
+    private static native long ncallJ(int param0, int param1, long __functionAddress);
+
+    public static long callJ(int param0, int param1, boolean param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IIZII_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJ(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallJ(int param0, int param1, boolean param2, int param3, int param4, long __functionAddress);
+
+    public static long callJJ(long param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_J_J.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJJ(param0, __functionAddress);
+    }
+    private static native long ncallJJ(long param0, long __functionAddress);
+
+    public static long callPJ(long param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_J_J.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJ(param0, __functionAddress);
+    }
+    private static native long ncallPJ(long param0, long __functionAddress);
+
+    public static long callPJ(int param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IIJ_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJ(param0, param1, param2, __functionAddress);
+    }
+    private static native long ncallPJ(int param0, int param1, long param2, long __functionAddress);
+
+    public static long callPPJ(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJ_J.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPJ(param0, param1, __functionAddress);
+    }
+    private static native long ncallPPJ(long param0, long param1, long __functionAddress);
+
+    public static long callPPJ(long param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJ_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPJ(param0, param1, param2, __functionAddress);
+    }
+    private static native long ncallPPJ(long param0, int param1, long param2, long __functionAddress);
+
+    public static long callP(long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H__J.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallP(__functionAddress);
+    }
+    private static native long ncallP(long __functionAddress);
+
+    public static long callP(int param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_I_J.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallP(param0, __functionAddress);
+    }
+    private static native long ncallP(int param0, long __functionAddress);
+
+    public static long callP(int param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_II_J.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallP(param0, param1, __functionAddress);
+    }
+    private static native long ncallP(int param0, int param1, long __functionAddress);
+
+    public static long callP(int param0, float param1, float param2, float param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IFFF_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ncallP(int param0, float param1, float param2, float param3, long __functionAddress);
+
+    public static long callPP(long param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_J_J.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPP(param0, __functionAddress);
+    }
+    private static native long ncallPP(long param0, long __functionAddress);
+
+    public static long callPP(int param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IJ_J.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPP(param0, param1, __functionAddress);
+    }
+    private static native long ncallPP(int param0, long param1, long __functionAddress);
+
+    public static long callPP(long param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JI_J.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPP(param0, param1, __functionAddress);
+    }
+    private static native long ncallPP(long param0, int param1, long __functionAddress);
+
+    public static long callPP(int param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IJI_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ncallPP(int param0, long param1, int param2, long __functionAddress);
+
+    public static long callPP(long param0, int param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JII_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ncallPP(long param0, int param1, int param2, long __functionAddress);
+
+    public static long callPPP(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJ_J.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, __functionAddress);
+    }
+    private static native long ncallPPP(long param0, long param1, long __functionAddress);
+
+    public static long callPPP(int param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IJJ_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ncallPPP(int param0, long param1, long param2, long __functionAddress);
+
+    public static long callPPP(long param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJ_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ncallPPP(long param0, int param1, long param2, long __functionAddress);
+
+    public static long callPPP(long param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJI_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ncallPPP(long param0, long param1, int param2, long __functionAddress);
+
+    public static long callPPP(int param0, long param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IJJI_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ncallPPP(int param0, long param1, long param2, int param3, long __functionAddress);
+
+    public static long callPPP(int param0, int param1, int param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IIIJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPPP(int param0, int param1, int param2, long param3, long param4, long __functionAddress);
+
+    public static long callPPP(long param0, int param1, int param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIIIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPPP(long param0, int param1, int param2, int param3, long param4, long __functionAddress);
+
+    public static long callPPP(long param0, long param1, int param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIII_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPPP(long param0, long param1, int param2, int param3, int param4, long __functionAddress);
+
+    public static long callPPPP(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJ_J.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ncallPPPP(long param0, long param1, long param2, long __functionAddress);
+
+    public static long callPJPP(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ncallPJPP(long param0, long param1, int param2, long param3, long __functionAddress);
+
+    public static long callPJPP(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJI_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ncallPJPP(long param0, long param1, long param2, int param3, long __functionAddress);
+
+    public static long callPPPP(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ncallPPPP(long param0, int param1, long param2, long param3, long __functionAddress);
+
+    public static long callPPPP(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ncallPPPP(long param0, long param1, int param2, long param3, long __functionAddress);
+
+    public static long callPPPP(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJI_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ncallPPPP(long param0, long param1, long param2, int param3, long __functionAddress);
+
+    public static long callPPPP(long param0, long param1, int param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPPPP(long param0, long param1, int param2, int param3, long param4, long __functionAddress);
+
+    public static long callPPPP(long param0, long param1, int param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIJI_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPPPP(long param0, long param1, int param2, long param3, int param4, long __functionAddress);
+
+    public static long callPJPP(long param0, long param1, int param2, int param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIIIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ncallPJPP(long param0, long param1, int param2, int param3, int param4, long param5, long __functionAddress);
+
+    public static long callPPJPP(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPJPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ncallPPJPP(long param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static long callPPPPP(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ncallPPPPP(long param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static long callPJPPP(long param0, long param1, int param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPJPPP(long param0, long param1, int param2, long param3, long param4, long __functionAddress);
+
+    public static long callPJPPP(long param0, long param1, long param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPJPPP(long param0, long param1, long param2, int param3, long param4, long __functionAddress);
+
+    public static long callPPPPP(long param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPPPPP(long param0, int param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static long callPPPPP(long param0, long param1, int param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPPPPP(long param0, long param1, int param2, long param3, long param4, long __functionAddress);
+
+    public static long callPPPPP(long param0, long param1, long param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJIJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPPPPP(long param0, long param1, long param2, int param3, long param4, long __functionAddress);
+
+    public static long callPPPPP(long param0, long param1, long param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJI_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPPPPP(long param0, long param1, long param2, long param3, int param4, long __functionAddress);
+
+    public static long callPJPPP(long param0, long param1, int param2, int param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIIJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ncallPJPPP(long param0, long param1, int param2, int param3, long param4, long param5, long __functionAddress);
+
+    public static long callPJPPPP(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPJPPPP(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static long callPPPPPP(long param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ncallPPPPPP(long param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static long callPJPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ncallPJPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static long callPPPJPPP(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPJPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ncallPPPJPPP(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static long callPPPPPPP(long param0, int param1, long param2, long param3, long param4, long param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJJJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native long ncallPPPPPPP(long param0, int param1, long param2, long param3, long param4, long param5, long param6, long __functionAddress);
+
+    public static long callPPPPPPP(long param0, int param1, long param2, long param3, int param4, long param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJJIJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native long ncallPPPPPPP(long param0, int param1, long param2, long param3, int param4, long param5, long param6, long param7, long __functionAddress);
+
+    public static long callPJPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native long ncallPJPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long __functionAddress);
+
+    public static long callPPJPPPPPP(long param0, long param1, int param2, long param3, long param4, long param5, int param6, long param7, long param8, long param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIJJJIJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPJPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native long ncallPPJPPPPPP(long param0, long param1, int param2, long param3, long param4, long param5, int param6, long param7, long param8, long param9, long __functionAddress);
+
+    public static long callPJPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJJJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native long ncallPJPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long __functionAddress);
+
+    public static long callPPJPPPPPPPP(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, int param8, long param9, long param10, long param11, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIJJJJJIJJJ_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPJPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+    private static native long ncallPPJPPPPPPPP(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, int param8, long param9, long param10, long param11, long __functionAddress);
+
+    public static short callS(int param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_I_S.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallS(param0, __functionAddress);
+    }
+    private static native short ncallS(int param0, long __functionAddress);
+
+    public static short callPS(long param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_J_S.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPS(param0, __functionAddress);
+    }
+    private static native short ncallPS(long param0, long __functionAddress);
+
+    public static short callPS(long param0, short param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JS_S.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPS(param0, param1, __functionAddress);
+    }
+    private static native short ncallPS(long param0, short param1, long __functionAddress);
+
+    public static short callPS(short param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_SJ_S.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPS(param0, param1, __functionAddress);
+    }
+    private static native short ncallPS(short param0, long param1, long __functionAddress);
+
+    public static short callPS(short param0, long param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_SJS_S.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPS(param0, param1, param2, __functionAddress);
+    }
+    private static native short ncallPS(short param0, long param1, short param2, long __functionAddress);
+
+    public static short callPPS(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JJ_S.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPS(param0, param1, __functionAddress);
+    }
+    private static native short ncallPPS(long param0, long param1, long __functionAddress);
+
+    public static short callPPS(long param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JJI_S.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPS(param0, param1, param2, __functionAddress);
+    }
+    private static native short ncallPPS(long param0, long param1, int param2, long __functionAddress);
+
+    public static short callPPS(long param0, long param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JJS_S.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPS(param0, param1, param2, __functionAddress);
+    }
+    private static native short ncallPPS(long param0, long param1, short param2, long __functionAddress);
+
+    public static short callPPS(long param0, short param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JSJ_S.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPS(param0, param1, param2, __functionAddress);
+    }
+    private static native short ncallPPS(long param0, short param1, long param2, long __functionAddress);
+
+    public static short callPPS(short param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_SJJ_S.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPS(param0, param1, param2, __functionAddress);
+    }
+    private static native short ncallPPS(short param0, long param1, long param2, long __functionAddress);
+
+    public static short callPJS(long param0, long param1, short param2, short param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JJSS_S.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJS(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native short ncallPJS(long param0, long param1, short param2, short param3, long __functionAddress);
+
+    public static short callPPS(long param0, int param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JIJI_S.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPS(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native short ncallPPS(long param0, int param1, long param2, int param3, long __functionAddress);
+
+    public static short callPPS(long param0, short param1, short param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JSSJI_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPS(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native short ncallPPS(long param0, short param1, short param2, long param3, int param4, long __functionAddress);
+
+    public static short callPPPS(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JJJ_S.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPS(param0, param1, param2, __functionAddress);
+    }
+    private static native short ncallPPPS(long param0, long param1, long param2, long __functionAddress);
+
+    public static short callPPPS(long param0, long param1, short param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JJSJ_S.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPS(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native short ncallPPPS(long param0, long param1, short param2, long param3, long __functionAddress);
+
+    public static short callPPPS(long param0, int param1, long param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JIJIJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPS(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native short ncallPPPS(long param0, int param1, long param2, int param3, long param4, long __functionAddress);
+
+    public static short callPPPS(long param0, short param1, long param2, short param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JSJSJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPS(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native short ncallPPPS(long param0, short param1, long param2, short param3, long param4, long __functionAddress);
+
+    public static short callPPPS(long param0, short param1, short param2, long param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JSSJIJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPS(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native short ncallPPPS(long param0, short param1, short param2, long param3, int param4, long param5, long __functionAddress);
+
+    public static short callPPPS(short param0, long param1, short param2, short param3, long param4, short param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_SJSSJSJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPS(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native short ncallPPPS(short param0, long param1, short param2, short param3, long param4, short param5, long param6, long __functionAddress);
+
+    public static short callPPPPS(long param0, short param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JSJJJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPS(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native short ncallPPPPS(long param0, short param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static short callPPPPS(long param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JJIJIJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPS(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native short ncallPPPPS(long param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress);
+
+    public static short callPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JJSJSJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPS(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native short ncallPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, long __functionAddress);
+
+    public static short callPPPPS(long param0, short param1, short param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JSSJJJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPS(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native short ncallPPPPS(long param0, short param1, short param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static short callPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, short param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JJSJSJS_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPS(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native short ncallPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, short param6, long __functionAddress);
+
+    public static short callPPPPS(long param0, short param1, short param2, long param3, short param4, long param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JSSJSJJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPS(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native short ncallPPPPS(long param0, short param1, short param2, long param3, short param4, long param5, long param6, long __functionAddress);
+
+    public static short callPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, short param6, short param7, short param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JJSJSJSSS_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native short ncallPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, short param6, short param7, short param8, long __functionAddress);
+
+    public static short callPPPPS(long param0, short param1, long param2, short param3, long param4, short param5, long param6, short param7, short param8, short param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JSJSJSJSSS_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native short ncallPPPPS(long param0, short param1, long param2, short param3, long param4, short param5, long param6, short param7, short param8, short param9, long __functionAddress);
+
+    public static short callPPPPPS(long param0, short param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JSJJJJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPS(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native short ncallPPPPPS(long param0, short param1, long param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static short callPPPPPS(long param0, long param1, long param2, short param3, long param4, short param5, long param6, short param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JJJSJSJS_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native short ncallPPPPPS(long param0, long param1, long param2, short param3, long param4, short param5, long param6, short param7, long __functionAddress);
+
+    public static short callPPPPPS(long param0, short param1, long param2, short param3, long param4, long param5, short param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JSJSJJSJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native short ncallPPPPPS(long param0, short param1, long param2, short param3, long param4, long param5, short param6, long param7, long __functionAddress);
+
+    public static short callPPPPPS(short param0, long param1, short param2, long param3, long param4, long param5, short param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_SJSJJJSJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native short ncallPPPPPS(short param0, long param1, short param2, long param3, long param4, long param5, short param6, long param7, long __functionAddress);
+
+    public static short callPPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, short param6, long param7, short param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JJSJSJSJS_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native short ncallPPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, short param6, long param7, short param8, long __functionAddress);
+
+    public static short callPPPPPS(long param0, short param1, short param2, short param3, long param4, short param5, short param6, long param7, long param8, long param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JSSSJSSJJJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native short ncallPPPPPS(long param0, short param1, short param2, short param3, long param4, short param5, short param6, long param7, long param8, long param9, long __functionAddress);
+
+    public static short callPPPPPS(long param0, short param1, short param2, short param3, short param4, long param5, short param6, long param7, long param8, long param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JSSSSJSJJJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native short ncallPPPPPS(long param0, short param1, short param2, short param3, short param4, long param5, short param6, long param7, long param8, long param9, long __functionAddress);
+
+    public static short callPPPPPPPS(long param0, short param1, long param2, short param3, long param4, long param5, long param6, long param7, long param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JSJSJJJJJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native short ncallPPPPPPPS(long param0, short param1, long param2, short param3, long param4, long param5, long param6, long param7, long param8, long __functionAddress);
+
+    public static short callPPPPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, short param6, long param7, short param8, long param9, short param10, long param11, short param12, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JJSJSJSJSJSJS_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, __functionAddress);
+    }
+    private static native short ncallPPPPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, short param6, long param7, short param8, long param9, short param10, long param11, short param12, long __functionAddress);
+
+    public static short callPPPPPPPPPS(long param0, short param1, long param2, short param3, long param4, long param5, long param6, long param7, long param8, long param9, long param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_JSJSJJJJJJJ_S.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native short ncallPPPPPPPPPS(long param0, short param1, long param2, short param3, long param4, long param5, long param6, long param7, long param8, long param9, long param10, long __functionAddress);
+
+    public static void callV(long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H__V.HANDLE.invokeExact(__functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(__functionAddress);
+    }
+    private static native void ncallV(long __functionAddress);
+
+    public static void callV(byte param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_B_V.HANDLE.invokeExact(param0, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, __functionAddress);
+    }
+    private static native void ncallV(byte param0, long __functionAddress);
+
+    public static void callV(double param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_D_V.HANDLE.invokeExact(param0, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, __functionAddress);
+    }
+    private static native void ncallV(double param0, long __functionAddress);
+
+    public static void callV(float param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_F_V.HANDLE.invokeExact(param0, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, __functionAddress);
+    }
+    private static native void ncallV(float param0, long __functionAddress);
+
+    public static void callV(int param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_I_V.HANDLE.invokeExact(param0, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, __functionAddress);
+    }
+    private static native void ncallV(int param0, long __functionAddress);
+
+    public static void callV(short param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_S_V.HANDLE.invokeExact(param0, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, __functionAddress);
+    }
+    private static native void ncallV(short param0, long __functionAddress);
+
+    public static void callV(boolean param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_Z_V.HANDLE.invokeExact(param0, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, __functionAddress);
+    }
+    private static native void ncallV(boolean param0, long __functionAddress);
+
+    public static void callV(double param0, double param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_DD_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, __functionAddress);
+    }
+    private static native void ncallV(double param0, double param1, long __functionAddress);
+
+    public static void callV(float param0, float param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_FF_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, __functionAddress);
+    }
+    private static native void ncallV(float param0, float param1, long __functionAddress);
+
+    public static void callV(float param0, boolean param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_FZ_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, __functionAddress);
+    }
+    private static native void ncallV(float param0, boolean param1, long __functionAddress);
+
+    public static void callV(int param0, double param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_ID_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, __functionAddress);
+    }
+    private static native void ncallV(int param0, double param1, long __functionAddress);
+
+    public static void callV(int param0, float param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IF_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, __functionAddress);
+    }
+    private static native void ncallV(int param0, float param1, long __functionAddress);
+
+    public static void callV(int param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_II_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, long __functionAddress);
+
+    public static void callV(int param0, short param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IS_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, __functionAddress);
+    }
+    private static native void ncallV(int param0, short param1, long __functionAddress);
+
+    public static void callV(int param0, boolean param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IZ_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, __functionAddress);
+    }
+    private static native void ncallV(int param0, boolean param1, long __functionAddress);
+
+    public static void callV(short param0, short param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SS_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, __functionAddress);
+    }
+    private static native void ncallV(short param0, short param1, long __functionAddress);
+
+    public static void callV(byte param0, byte param1, byte param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_BBB_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallV(byte param0, byte param1, byte param2, long __functionAddress);
+
+    public static void callV(double param0, double param1, double param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_DDD_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallV(double param0, double param1, double param2, long __functionAddress);
+
+    public static void callV(float param0, float param1, float param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_FFF_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallV(float param0, float param1, float param2, long __functionAddress);
+
+    public static void callV(int param0, double param1, double param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IDD_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallV(int param0, double param1, double param2, long __functionAddress);
+
+    public static void callV(int param0, float param1, float param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IFF_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallV(int param0, float param1, float param2, long __functionAddress);
+
+    public static void callV(int param0, int param1, double param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IID_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, double param2, long __functionAddress);
+
+    public static void callV(int param0, int param1, float param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIF_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, float param2, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_III_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, long __functionAddress);
+
+    public static void callV(int param0, int param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIS_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, short param2, long __functionAddress);
+
+    public static void callV(int param0, int param1, boolean param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIZ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, boolean param2, long __functionAddress);
+
+    public static void callV(int param0, short param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_ISS_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallV(int param0, short param1, short param2, long __functionAddress);
+
+    public static void callV(short param0, short param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SSS_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallV(short param0, short param1, short param2, long __functionAddress);
+
+    public static void callV(byte param0, byte param1, byte param2, byte param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_BBBB_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallV(byte param0, byte param1, byte param2, byte param3, long __functionAddress);
+
+    public static void callV(double param0, double param1, double param2, double param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_DDDD_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallV(double param0, double param1, double param2, double param3, long __functionAddress);
+
+    public static void callV(float param0, float param1, float param2, float param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_FFFF_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallV(float param0, float param1, float param2, float param3, long __functionAddress);
+
+    public static void callV(int param0, double param1, double param2, double param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IDDD_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallV(int param0, double param1, double param2, double param3, long __functionAddress);
+
+    public static void callV(int param0, float param1, float param2, float param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IFFF_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallV(int param0, float param1, float param2, float param3, long __functionAddress);
+
+    public static void callV(int param0, int param1, double param2, double param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIDD_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, double param2, double param3, long __functionAddress);
+
+    public static void callV(int param0, int param1, float param2, float param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIFF_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, float param2, float param3, long __functionAddress);
+
+    public static void callV(int param0, int param1, float param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIFI_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, float param2, int param3, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, double param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIID_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, double param3, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, float param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIF_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, float param3, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIII_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, int param3, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, boolean param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIZ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, boolean param3, long __functionAddress);
+
+    public static void callV(int param0, int param1, boolean param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIZI_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, boolean param2, int param3, long __functionAddress);
+
+    public static void callV(int param0, short param1, short param2, short param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_ISSS_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallV(int param0, short param1, short param2, short param3, long __functionAddress);
+
+    public static void callV(short param0, short param1, short param2, short param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SSSS_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallV(short param0, short param1, short param2, short param3, long __functionAddress);
+
+    public static void callV(boolean param0, boolean param1, boolean param2, boolean param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_ZZZZ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallV(boolean param0, boolean param1, boolean param2, boolean param3, long __functionAddress);
+
+    public static void callV(int param0, byte param1, byte param2, byte param3, byte param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IBBBB_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallV(int param0, byte param1, byte param2, byte param3, byte param4, long __functionAddress);
+
+    public static void callV(int param0, double param1, double param2, double param3, double param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IDDDD_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallV(int param0, double param1, double param2, double param3, double param4, long __functionAddress);
+
+    public static void callV(int param0, float param1, float param2, float param3, float param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IFFFF_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallV(int param0, float param1, float param2, float param3, float param4, long __functionAddress);
+
+    public static void callV(int param0, int param1, double param2, double param3, double param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIDDD_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, double param2, double param3, double param4, long __functionAddress);
+
+    public static void callV(int param0, int param1, float param2, float param3, float param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIFFF_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, float param2, float param3, float param4, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, float param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIFI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, float param3, int param4, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, boolean param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIZI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, boolean param3, int param4, long __functionAddress);
+
+    public static void callV(int param0, short param1, short param2, short param3, short param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_ISSSS_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallV(int param0, short param1, short param2, short param3, short param4, long __functionAddress);
+
+    public static void callV(int param0, boolean param1, boolean param2, boolean param3, boolean param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IZZZZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallV(int param0, boolean param1, boolean param2, boolean param3, boolean param4, long __functionAddress);
+
+    public static void callV(double param0, double param1, double param2, double param3, double param4, double param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_DDDDDD_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallV(double param0, double param1, double param2, double param3, double param4, double param5, long __functionAddress);
+
+    public static void callV(float param0, float param1, float param2, float param3, float param4, boolean param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_FFFFFZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallV(float param0, float param1, float param2, float param3, float param4, boolean param5, long __functionAddress);
+
+    public static void callV(int param0, double param1, double param2, int param3, double param4, double param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IDDIDD_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallV(int param0, double param1, double param2, int param3, double param4, double param5, long __functionAddress);
+
+    public static void callV(int param0, float param1, float param2, int param3, float param4, float param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IFFIFF_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallV(int param0, float param1, float param2, int param3, float param4, float param5, long __functionAddress);
+
+    public static void callV(int param0, int param1, double param2, double param3, double param4, double param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIDDDD_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, double param2, double param3, double param4, double param5, long __functionAddress);
+
+    public static void callV(int param0, int param1, float param2, float param3, float param4, float param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIFFFF_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, float param2, float param3, float param4, float param5, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, boolean param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, boolean param5, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, int param3, boolean param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIZI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, int param3, boolean param4, int param5, long __functionAddress);
+
+    public static void callV(int param0, double param1, double param2, double param3, double param4, double param5, double param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IDDDDDD_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallV(int param0, double param1, double param2, double param3, double param4, double param5, double param6, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, double param3, double param4, double param5, double param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIDDDD_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, double param3, double param4, double param5, double param6, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, float param3, float param4, float param5, float param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIFFFF_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, float param3, float param4, float param5, float param6, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, boolean param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, boolean param6, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, boolean param3, int param4, int param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIZIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, boolean param3, int param4, int param5, int param6, long __functionAddress);
+
+    public static void callV(float param0, float param1, float param2, float param3, float param4, float param5, float param6, float param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_FFFFFFFF_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallV(float param0, float param1, float param2, float param3, float param4, float param5, float param6, float param7, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, float param3, float param4, float param5, float param6, float param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIFFFFF_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, float param3, float param4, float param5, float param6, float param7, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, boolean param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, boolean param7, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, boolean param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, boolean param8, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, long __functionAddress);
+
+    public static void callV(int param0, int param1, float param2, float param3, float param4, float param5, float param6, float param7, float param8, float param9, float param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIFFFFFFFFF_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, float param2, float param3, float param4, float param5, float param6, float param7, float param8, float param9, float param10, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, int param11, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIIIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, int param11, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, int param11, int param12, int param13, int param14, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIIIIIIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, int param11, int param12, int param13, int param14, long __functionAddress);
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, int param11, int param12, int param13, int param14, int param15, int param16, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIIIIIIIIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, param16, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, param16, __functionAddress);
+    }
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, int param11, int param12, int param13, int param14, int param15, int param16, long __functionAddress);
+
+    public static void callJV(long param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_J_V.HANDLE.invokeExact(param0, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJV(param0, __functionAddress);
+    }
+    private static native void ncallJV(long param0, long __functionAddress);
+
+    public static void callPV(long param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_J_V.HANDLE.invokeExact(param0, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, __functionAddress);
+    }
+    private static native void ncallPV(long param0, long __functionAddress);
+
+    public static void callJV(int param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJ_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJV(param0, param1, __functionAddress);
+    }
+    private static native void ncallJV(int param0, long param1, long __functionAddress);
+
+    public static void callJV(long param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JI_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJV(param0, param1, __functionAddress);
+    }
+    private static native void ncallJV(long param0, int param1, long __functionAddress);
+
+    public static void callPV(int param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJ_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, __functionAddress);
+    }
+    private static native void ncallPV(int param0, long param1, long __functionAddress);
+
+    public static void callPV(long param0, float param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JF_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, __functionAddress);
+    }
+    private static native void ncallPV(long param0, float param1, long __functionAddress);
+
+    public static void callPV(long param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JI_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, __functionAddress);
+    }
+    private static native void ncallPV(long param0, int param1, long __functionAddress);
+
+    public static void callJV(int param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallJV(int param0, int param1, long param2, long __functionAddress);
+
+    public static void callPV(int param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, long param2, long __functionAddress);
+
+    public static void callPV(int param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJI_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPV(int param0, long param1, int param2, long __functionAddress);
+
+    public static void callPV(long param0, float param1, float param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JFF_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPV(long param0, float param1, float param2, long __functionAddress);
+
+    public static void callPV(long param0, int param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JII_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPV(long param0, int param1, int param2, long __functionAddress);
+
+    public static void callJV(int param0, long param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJII_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallJV(int param0, long param1, int param2, int param3, long __functionAddress);
+
+    public static void callPV(int param0, float param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IFJI_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPV(int param0, float param1, long param2, int param3, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, long param3, long __functionAddress);
+
+    public static void callPV(int param0, int param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJI_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, long param2, int param3, long __functionAddress);
+
+    public static void callPV(int param0, int param1, boolean param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIZJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, boolean param2, long param3, long __functionAddress);
+
+    public static void callPV(int param0, long param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJII_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPV(int param0, long param1, int param2, int param3, long __functionAddress);
+
+    public static void callPV(long param0, float param1, float param2, float param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JFFF_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPV(long param0, float param1, float param2, float param3, long __functionAddress);
+
+    public static void callPV(long param0, int param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIII_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPV(long param0, int param1, int param2, int param3, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, long param4, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIJI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, long param3, int param4, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, long param3, boolean param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIJZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, long param3, boolean param4, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, boolean param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIZJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, boolean param3, long param4, long __functionAddress);
+
+    public static void callPV(int param0, int param1, long param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, long param2, int param3, int param4, long __functionAddress);
+
+    public static void callPV(int param0, long param1, int param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPV(int param0, long param1, int param2, int param3, int param4, long __functionAddress);
+
+    public static void callPV(int param0, boolean param1, int param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IZIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPV(int param0, boolean param1, int param2, int param3, long param4, long __functionAddress);
+
+    public static void callPV(long param0, int param1, int param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPV(long param0, int param1, int param2, int param3, int param4, long __functionAddress);
+
+    public static void callJV(int param0, int param1, int param2, int param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallJV(int param0, int param1, int param2, int param3, int param4, long param5, long __functionAddress);
+
+    public static void callPV(int param0, double param1, double param2, int param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IDDIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(int param0, double param1, double param2, int param3, int param4, long param5, long __functionAddress);
+
+    public static void callPV(int param0, float param1, float param2, int param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IFFIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(int param0, float param1, float param2, int param3, int param4, long param5, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, long param5, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, long param4, boolean param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIJZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, long param4, boolean param5, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, long param3, int param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIJII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, long param3, int param4, int param5, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, boolean param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIZIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, boolean param3, int param4, long param5, long __functionAddress);
+
+    public static void callPV(int param0, int param1, long param2, int param3, int param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, long param2, int param3, int param4, int param5, long __functionAddress);
+
+    public static void callPV(int param0, boolean param1, int param2, int param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IZIIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(int param0, boolean param1, int param2, int param3, int param4, long param5, long __functionAddress);
+
+    public static void callPV(long param0, int param1, int param2, int param3, int param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(long param0, int param1, int param2, int param3, int param4, int param5, long __functionAddress);
+
+    public static void callJV(int param0, int param1, int param2, int param3, int param4, int param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallJV(int param0, int param1, int param2, int param3, int param4, int param5, long param6, long __functionAddress);
+
+    public static void callPV(int param0, int param1, float param2, float param3, float param4, float param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIFFFFJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, float param2, float param3, float param4, float param5, long param6, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, long param6, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, long param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIJI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, long param5, int param6, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, long param3, int param4, int param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIJIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, long param3, int param4, int param5, int param6, long __functionAddress);
+
+    public static void callPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJIIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, long __functionAddress);
+
+    public static void callPV(long param0, int param1, int param2, int param3, int param4, int param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIIIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPV(long param0, int param1, int param2, int param3, int param4, int param5, int param6, long __functionAddress);
+
+    public static void callJV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallJV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, long param7, long __functionAddress);
+
+    public static void callJV(int param0, int param1, int param2, int param3, int param4, boolean param5, int param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIZIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallJV(int param0, int param1, int param2, int param3, int param4, boolean param5, int param6, long param7, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, long param7, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, boolean param5, int param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIZIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, boolean param5, int param6, long param7, long __functionAddress);
+
+    public static void callJV(int param0, int param1, int param2, int param3, int param4, int param5, boolean param6, int param7, long param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIZIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native void ncallJV(int param0, int param1, int param2, int param3, int param4, int param5, boolean param6, int param7, long param8, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, long param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, long param8, long __functionAddress);
+
+    public static void callPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, int param7, float param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJIIIIIF_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, int param7, float param8, long __functionAddress);
+
+    public static void callPV(int param0, double param1, double param2, int param3, int param4, double param5, double param6, int param7, int param8, long param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IDDIIDDIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native void ncallPV(int param0, double param1, double param2, int param3, int param4, double param5, double param6, int param7, int param8, long param9, long __functionAddress);
+
+    public static void callPV(int param0, float param1, float param2, int param3, int param4, float param5, float param6, int param7, int param8, long param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IFFIIFFIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native void ncallPV(int param0, float param1, float param2, int param3, int param4, float param5, float param6, int param7, int param8, long param9, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, long param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, long param9, long __functionAddress);
+
+    public static void callJV(long param0, int param1, float param2, float param3, float param4, float param5, float param6, float param7, float param8, float param9, float param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIFFFFFFFFF_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native void ncallJV(long param0, int param1, float param2, float param3, float param4, float param5, float param6, float param7, float param8, float param9, float param10, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, long param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, long param10, long __functionAddress);
+
+    public static void callPV(long param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIIIIIIIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native void ncallPV(long param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, long param11, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIIIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, long param11, long __functionAddress);
+
+    public static void callJPV(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJ_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJPV(param0, param1, __functionAddress);
+    }
+    private static native void ncallJPV(long param0, long param1, long __functionAddress);
+
+    public static void callPJV(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJ_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJV(param0, param1, __functionAddress);
+    }
+    private static native void ncallPJV(long param0, long param1, long __functionAddress);
+
+    public static void callPPV(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJ_V.HANDLE.invokeExact(param0, param1, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, __functionAddress);
+    }
+    private static native void ncallPPV(long param0, long param1, long __functionAddress);
+
+    public static void callJJV(int param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJJV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallJJV(int param0, long param1, long param2, long __functionAddress);
+
+    public static void callPJV(long param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPJV(long param0, int param1, long param2, long __functionAddress);
+
+    public static void callPJV(long param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJI_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPJV(long param0, long param1, int param2, long __functionAddress);
+
+    public static void callPPV(int param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, long param1, long param2, long __functionAddress);
+
+    public static void callPPV(long param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPPV(long param0, int param1, long param2, long __functionAddress);
+
+    public static void callPPV(long param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJI_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPPV(long param0, long param1, int param2, long __functionAddress);
+
+    public static void callJJV(int param0, int param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJJV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallJJV(int param0, int param1, long param2, long param3, long __functionAddress);
+
+    public static void callJPV(int param0, int param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallJPV(int param0, int param1, long param2, long param3, long __functionAddress);
+
+    public static void callJPV(int param0, long param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallJPV(int param0, long param1, int param2, long param3, long __functionAddress);
+
+    public static void callPJV(int param0, long param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPJV(int param0, long param1, int param2, long param3, long __functionAddress);
+
+    public static void callPJV(long param0, int param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJI_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPJV(long param0, int param1, long param2, int param3, long __functionAddress);
+
+    public static void callPJV(long param0, long param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJII_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPJV(long param0, long param1, int param2, int param3, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, long param2, long param3, long __functionAddress);
+
+    public static void callPPV(int param0, long param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, long param1, int param2, long param3, long __functionAddress);
+
+    public static void callPPV(int param0, long param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJI_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, long param1, long param2, int param3, long __functionAddress);
+
+    public static void callPPV(int param0, long param1, long param2, boolean param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJZ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, long param1, long param2, boolean param3, long __functionAddress);
+
+    public static void callPPV(long param0, int param1, float param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIFJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(long param0, int param1, float param2, long param3, long __functionAddress);
+
+    public static void callPPV(long param0, int param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(long param0, int param1, int param2, long param3, long __functionAddress);
+
+    public static void callPPV(long param0, long param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJII_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(long param0, long param1, int param2, int param3, long __functionAddress);
+
+    public static void callPJV(long param0, long param1, int param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPJV(long param0, long param1, int param2, int param3, int param4, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, int param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, int param2, long param3, long param4, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, long param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, long param2, int param3, long param4, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, long param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, long param2, long param3, int param4, long __functionAddress);
+
+    public static void callPPV(int param0, long param1, int param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJIJI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, long param1, int param2, long param3, int param4, long __functionAddress);
+
+    public static void callPPV(int param0, long param1, long param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, long param1, long param2, int param3, int param4, long __functionAddress);
+
+    public static void callPPV(long param0, int param1, int param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPV(long param0, int param1, int param2, int param3, long param4, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, int param2, int param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, int param2, int param3, long param4, long param5, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, long param2, int param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, long param2, int param3, int param4, long param5, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, long param2, long param3, int param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, long param2, long param3, int param4, int param5, long __functionAddress);
+
+    public static void callPPV(int param0, long param1, long param2, int param3, int param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, long param1, long param2, int param3, int param4, int param5, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, int param2, int param3, int param4, long param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, int param2, int param3, int param4, long param5, long param6, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, int param2, long param3, int param4, int param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIJIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, int param2, long param3, int param4, int param5, long param6, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, long param2, int param3, int param4, int param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJIIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, long param2, int param3, int param4, int param5, long param6, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, long param2, long param3, int param4, int param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, long param2, long param3, int param4, int param5, int param6, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, int param2, int param3, int param4, int param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, int param2, int param3, int param4, int param5, long param6, long param7, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, int param2, int param3, long param4, int param5, int param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIJIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, int param2, int param3, long param4, int param5, int param6, long param7, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJIIIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, long param7, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, int param2, long param3, int param4, float param5, float param6, int param7, long param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIJIFFIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, int param2, long param3, int param4, float param5, float param6, int param7, long param8, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, int param7, long param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJIIIIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, int param7, long param8, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, long param2, int param3, int param4, int param5, long param6, int param7, int param8, float param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJIIIJIIF_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, long param2, int param3, int param4, int param5, long param6, int param7, int param8, float param9, long __functionAddress);
+
+    public static void callPJJV(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPJJV(long param0, long param1, long param2, long __functionAddress);
+
+    public static void callPJPV(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPJPV(long param0, long param1, long param2, long __functionAddress);
+
+    public static void callPPPV(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJ_V.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPPPV(long param0, long param1, long param2, long __functionAddress);
+
+    public static void callJJJV(int param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJJJV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallJJJV(int param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static void callPJJV(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJI_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPJJV(long param0, long param1, long param2, int param3, long __functionAddress);
+
+    public static void callPJPV(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPJPV(long param0, long param1, int param2, long param3, long __functionAddress);
+
+    public static void callPPPV(int param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static void callPPPV(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPPV(long param0, int param1, long param2, long param3, long __functionAddress);
+
+    public static void callPPPV(long param0, long param1, float param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJFJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPPV(long param0, long param1, float param2, long param3, long __functionAddress);
+
+    public static void callPPPV(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPPV(long param0, long param1, int param2, long param3, long __functionAddress);
+
+    public static void callPPPV(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJI_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPPV(long param0, long param1, long param2, int param3, long __functionAddress);
+
+    public static void callPPPV(long param0, long param1, boolean param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJZJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPPV(long param0, long param1, boolean param2, long param3, long __functionAddress);
+
+    public static void callJJJV(int param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJJJV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallJJJV(int param0, int param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static void callPJJV(long param0, int param1, long param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJJI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPJJV(long param0, int param1, long param2, long param3, int param4, long __functionAddress);
+
+    public static void callPJJV(long param0, long param1, long param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPJJV(long param0, long param1, long param2, int param3, int param4, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static void callPPPV(int param0, long param1, int param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJIJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, long param1, int param2, long param3, long param4, long __functionAddress);
+
+    public static void callPPPV(int param0, long param1, long param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, long param1, long param2, int param3, long param4, long __functionAddress);
+
+    public static void callPPPV(int param0, long param1, long param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJJI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, long param1, long param2, long param3, int param4, long __functionAddress);
+
+    public static void callPPPV(long param0, int param1, int param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPV(long param0, int param1, int param2, long param3, long param4, long __functionAddress);
+
+    public static void callPPPV(long param0, int param1, long param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPV(long param0, int param1, long param2, int param3, long param4, long __functionAddress);
+
+    public static void callPJPV(long param0, int param1, long param2, int param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPJPV(long param0, int param1, long param2, int param3, int param4, long param5, long __functionAddress);
+
+    public static void callPJPV(long param0, long param1, int param2, int param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPJPV(long param0, long param1, int param2, int param3, int param4, long param5, long __functionAddress);
+
+    public static void callPPJV(long param0, int param1, long param2, int param3, long param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJIJI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPJV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPJV(long param0, int param1, long param2, int param3, long param4, int param5, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, int param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, int param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, long param2, int param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJIJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, long param2, int param3, long param4, long param5, long __functionAddress);
+
+    public static void callPPPV(int param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJIJIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress);
+
+    public static void callPJJV(long param0, int param1, int param2, long param3, long param4, int param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIJJII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPJJV(long param0, int param1, int param2, long param3, long param4, int param5, int param6, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, int param2, int param3, long param4, long param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, int param2, int param3, long param4, long param5, long param6, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, long param2, long param3, int param4, int param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, long param2, long param3, int param4, int param5, long param6, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, int param2, int param3, long param4, int param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIJIJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, int param2, int param3, long param4, int param5, long param6, long param7, long __functionAddress);
+
+    public static void callPPPV(long param0, int param1, int param2, int param3, int param4, int param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIIIIJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPPPV(long param0, int param1, int param2, int param3, int param4, int param5, long param6, long param7, long __functionAddress);
+
+    public static void callPPPV(long param0, long param1, int param2, int param3, int param4, int param5, int param6, int param7, long param8, int param9, int param10, int param11, int param12, int param13, int param14, int param15, int param16, int param17, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIIIIIIJIIIIIIIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, param16, param17, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, param16, param17, __functionAddress);
+    }
+    private static native void ncallPPPV(long param0, long param1, int param2, int param3, int param4, int param5, int param6, int param7, long param8, int param9, int param10, int param11, int param12, int param13, int param14, int param15, int param16, int param17, long __functionAddress);
+
+    public static void callPJJPV(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPJJPV(long param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static void callPJPPV(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPJPPV(long param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static void callPPPPV(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPPPV(long param0, long param1, long param2, long param3, long __functionAddress);
+
+    public static void callJJJJV(int param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJJJJV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallJJJJV(int param0, long param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static void callPJJJV(long param0, long param1, long param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJJV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPJJJV(long param0, long param1, long param2, long param3, int param4, long __functionAddress);
+
+    public static void callPJJPV(long param0, long param1, long param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPJJPV(long param0, long param1, long param2, int param3, long param4, long __functionAddress);
+
+    public static void callPPPPV(int param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPPV(int param0, long param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static void callPPPPV(long param0, long param1, long param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPPV(long param0, long param1, long param2, int param3, long param4, long __functionAddress);
+
+    public static void callPPPPV(long param0, long param1, long param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPPV(long param0, long param1, long param2, long param3, int param4, long __functionAddress);
+
+    public static void callJJJJV(int param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallJJJJV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallJJJJV(int param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static void callPJJPV(long param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIJIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPJJPV(long param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress);
+
+    public static void callPJJPV(long param0, long param1, long param2, int param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPJJPV(long param0, long param1, long param2, int param3, int param4, long param5, long __functionAddress);
+
+    public static void callPJPPV(long param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIJIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPJPPV(long param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress);
+
+    public static void callPPPPV(int param0, long param1, int param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJIJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPPPV(int param0, long param1, int param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static void callPPPPV(int param0, long param1, long param2, long param3, long param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJJJI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPPPV(int param0, long param1, long param2, long param3, long param4, int param5, long __functionAddress);
+
+    public static void callPPPPV(long param0, int param1, int param2, long param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPPPV(long param0, int param1, int param2, long param3, long param4, long param5, long __functionAddress);
+
+    public static void callPJJPV(long param0, long param1, int param2, long param3, int param4, int param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIJIIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPJJPV(long param0, long param1, int param2, long param3, int param4, int param5, long param6, long __functionAddress);
+
+    public static void callPPPPV(int param0, int param1, int param2, long param3, long param4, long param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIJJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPPPPV(int param0, int param1, int param2, long param3, long param4, long param5, long param6, long __functionAddress);
+
+    public static void callPPPPV(int param0, int param1, long param2, long param3, long param4, long param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJJJI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPPPPV(int param0, int param1, long param2, long param3, long param4, long param5, int param6, long __functionAddress);
+
+    public static void callPJJPV(long param0, long param1, int param2, long param3, int param4, int param5, long param6, int param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIJIIJI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPJJPV(long param0, long param1, int param2, long param3, int param4, int param5, long param6, int param7, long __functionAddress);
+
+    public static void callPJPPV(long param0, int param1, long param2, int param3, int param4, long param5, int param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJIIJIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPJPPV(long param0, int param1, long param2, int param3, int param4, long param5, int param6, long param7, long __functionAddress);
+
+    public static void callPPPPV(long param0, int param1, int param2, int param3, int param4, long param5, int param6, long param7, int param8, long param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIIIJIJIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native void ncallPPPPV(long param0, int param1, int param2, int param3, int param4, long param5, int param6, long param7, int param8, long param9, long __functionAddress);
+
+    public static void callPJJJPV(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJJPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPJJJPV(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static void callPJJJJV(long param0, long param1, long param2, long param3, long param4, int param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJJII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJJJV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPJJJJV(long param0, long param1, long param2, long param3, long param4, int param5, int param6, long __functionAddress);
+
+    public static void callPPPPPV(int param0, int param1, long param2, long param3, long param4, long param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPPPPPV(int param0, int param1, long param2, long param3, long param4, long param5, long param6, long __functionAddress);
+
+    public static void callPJJJJV(long param0, long param1, int param2, int param3, long param4, long param5, long param6, int param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIIJJJI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJJJV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPJJJJV(long param0, long param1, int param2, int param3, long param4, long param5, long param6, int param7, long __functionAddress);
+
+    public static void callPJPPPV(long param0, int param1, int param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIJJIJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJPPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPJPPPV(long param0, int param1, int param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress);
+
+    public static void callPPPPPV(long param0, int param1, long param2, int param3, int param4, int param5, long param6, int param7, long param8, int param9, long param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJIIIJIJIJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native void ncallPPPPPV(long param0, int param1, long param2, int param3, int param4, int param5, long param6, int param7, long param8, int param9, long param10, long __functionAddress);
+
+    public static void callPPPPPPV(long param0, long param1, long param2, int param3, int param4, long param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJIIJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPPPPPPV(long param0, long param1, long param2, int param3, int param4, long param5, long param6, long param7, long __functionAddress);
+
+    public static void callPPPPPPPV(int param0, int param1, int param2, long param3, int param4, long param5, long param6, long param7, long param8, long param9, long param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIJIJJJJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPPPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native void ncallPPPPPPPV(int param0, int param1, int param2, long param3, int param4, long param5, long param6, long param7, long param8, long param9, long param10, long __functionAddress);
+
+    public static void callPPJJJJJJV(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long param7, long param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJIJJJJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPJJJJJJV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native void ncallPPJJJJJJV(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long param7, long param8, long __functionAddress);
+
+    public static void callPJJJJJJJJJJJV(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long param10, long param11, int param12, int param13, int param14, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJJJJJJJJJIII_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJJJJJJJJJJV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, __functionAddress);
+    }
+    private static native void ncallPJJJJJJJJJJJV(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long param10, long param11, int param12, int param13, int param14, long __functionAddress);
+
+    public static boolean callZ(long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H__Z.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallZ(__functionAddress);
+    }
+    private static native boolean ncallZ(long __functionAddress);
+
+    public static boolean callZ(int param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_I_Z.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallZ(param0, __functionAddress);
+    }
+    private static native boolean ncallZ(int param0, long __functionAddress);
+
+    public static boolean callZ(boolean param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_Z_Z.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallZ(param0, __functionAddress);
+    }
+    private static native boolean ncallZ(boolean param0, long __functionAddress);
+
+    public static boolean callZ(int param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_II_Z.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallZ(param0, param1, __functionAddress);
+    }
+    private static native boolean ncallZ(int param0, int param1, long __functionAddress);
+
+    public static boolean callZ(int param0, float param1, float param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_IFF_Z.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallZ(param0, param1, param2, __functionAddress);
+    }
+    private static native boolean ncallZ(int param0, float param1, float param2, long __functionAddress);
+
+    public static boolean callZ(int param0, int param1, float param2, float param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_IIFF_Z.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallZ(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native boolean ncallZ(int param0, int param1, float param2, float param3, long __functionAddress);
+
+    public static boolean callJZ(long param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_J_Z.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJZ(param0, __functionAddress);
+    }
+    private static native boolean ncallJZ(long param0, long __functionAddress);
+
+    public static boolean callPZ(long param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_J_Z.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPZ(param0, __functionAddress);
+    }
+    private static native boolean ncallPZ(long param0, long __functionAddress);
+
+    public static boolean callJZ(int param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_IJ_Z.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJZ(param0, param1, __functionAddress);
+    }
+    private static native boolean ncallJZ(int param0, long param1, long __functionAddress);
+
+    public static boolean callPZ(int param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_IJ_Z.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPZ(param0, param1, __functionAddress);
+    }
+    private static native boolean ncallPZ(int param0, long param1, long __functionAddress);
+
+    public static boolean callPZ(long param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JI_Z.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPZ(param0, param1, __functionAddress);
+    }
+    private static native boolean ncallPZ(long param0, int param1, long __functionAddress);
+
+    public static boolean callPZ(boolean param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_ZJ_Z.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPZ(param0, param1, __functionAddress);
+    }
+    private static native boolean ncallPZ(boolean param0, long param1, long __functionAddress);
+
+    public static boolean callJZ(int param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_IJI_Z.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJZ(param0, param1, param2, __functionAddress);
+    }
+    private static native boolean ncallJZ(int param0, long param1, int param2, long __functionAddress);
+
+    public static boolean callPZ(int param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_IIJ_Z.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPZ(param0, param1, param2, __functionAddress);
+    }
+    private static native boolean ncallPZ(int param0, int param1, long param2, long __functionAddress);
+
+    public static boolean callPZ(int param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_IJI_Z.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPZ(param0, param1, param2, __functionAddress);
+    }
+    private static native boolean ncallPZ(int param0, long param1, int param2, long __functionAddress);
+
+    public static boolean callPZ(int param0, float param1, float param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_IFFJ_Z.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPZ(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native boolean ncallPZ(int param0, float param1, float param2, long param3, long __functionAddress);
+
+    public static boolean callPPZ(long param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JJ_Z.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPZ(param0, param1, __functionAddress);
+    }
+    private static native boolean ncallPPZ(long param0, long param1, long __functionAddress);
+
+    public static boolean callJPZ(long param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JJI_Z.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPZ(param0, param1, param2, __functionAddress);
+    }
+    private static native boolean ncallJPZ(long param0, long param1, int param2, long __functionAddress);
+
+    public static boolean callPPZ(int param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_IJJ_Z.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPZ(param0, param1, param2, __functionAddress);
+    }
+    private static native boolean ncallPPZ(int param0, long param1, long param2, long __functionAddress);
+
+    public static boolean callPPZ(long param0, int param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JIJ_Z.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPZ(param0, param1, param2, __functionAddress);
+    }
+    private static native boolean ncallPPZ(long param0, int param1, long param2, long __functionAddress);
+
+    public static boolean callPPZ(long param0, long param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JJI_Z.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPZ(param0, param1, param2, __functionAddress);
+    }
+    private static native boolean ncallPPZ(long param0, long param1, int param2, long __functionAddress);
+
+    public static boolean callPPZ(int param0, long param1, int param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_IJIJ_Z.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPZ(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native boolean ncallPPZ(int param0, long param1, int param2, long param3, long __functionAddress);
+
+    public static boolean callPPZ(int param0, int param1, long param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_IIJIJ_Z.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPZ(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native boolean ncallPPZ(int param0, int param1, long param2, int param3, long param4, long __functionAddress);
+
+    public static boolean callJPPZ(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JJJ_Z.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallJPPZ(param0, param1, param2, __functionAddress);
+    }
+    private static native boolean ncallJPPZ(long param0, long param1, long param2, long __functionAddress);
+
+    public static boolean callPPPZ(long param0, long param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JJJ_Z.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPZ(param0, param1, param2, __functionAddress);
+    }
+    private static native boolean ncallPPPZ(long param0, long param1, long param2, long __functionAddress);
+
+    public static boolean callPPPPZ(int param0, int param1, int param2, float param3, long param4, long param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_IIIFJJJJ_Z.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPZ(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native boolean ncallPPPPZ(int param0, int param1, int param2, float param3, long param4, long param5, long param6, long param7, long __functionAddress);
+
+    public static boolean callPPJPPZ(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JJJJJ_Z.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPJPPZ(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native boolean ncallPPJPPZ(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+
+    public static boolean callPPPPPZ(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JJJJJ_Z.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPZ(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native boolean ncallPPPPPZ(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+
+    // Array API
+
+    public static byte invokePB(byte param0, @Nullable int[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (byte)H_BA_B.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePB(param0, param1, __functionAddress);
+    }
+    private static native byte ninvokePB(byte param0, @Nullable int[] param1, long __functionAddress);
+
+    public static int invokePI(short param0, @Nullable int[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_SA_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, __functionAddress);
+    }
+    private static native int ninvokePI(short param0, @Nullable int[] param1, long __functionAddress);
+
+    public static int invokePI(@Nullable float[] param0, short param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_AS_I.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, __functionAddress);
+    }
+    private static native int ninvokePI(@Nullable float[] param0, short param1, long __functionAddress);
+
+    public static int invokePI(short param0, @Nullable float[] param1, byte param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_SAB_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ninvokePI(short param0, @Nullable float[] param1, byte param2, long __functionAddress);
+
+    public static int invokePI(short param0, @Nullable int[] param1, byte param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_SAB_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ninvokePI(short param0, @Nullable int[] param1, byte param2, long __functionAddress);
+
+    public static int invokePI(short param0, @Nullable short[] param1, byte param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_SAB_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ninvokePI(short param0, @Nullable short[] param1, byte param2, long __functionAddress);
+
+    public static int invokePPI(long param0, @Nullable float[] param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JAS_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ninvokePPI(long param0, @Nullable float[] param1, short param2, long __functionAddress);
+
+    public static int invokePPI(int param0, @Nullable int[] param1, int param2, @Nullable int[] param3, int param4, boolean param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IAIAIZ_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ninvokePPI(int param0, @Nullable int[] param1, int param2, @Nullable int[] param3, int param4, boolean param5, long __functionAddress);
+
+    public static int invokePPI(int param0, @Nullable short[] param1, int param2, @Nullable short[] param3, int param4, boolean param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IAIAIZ_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ninvokePPI(int param0, @Nullable short[] param1, int param2, @Nullable short[] param3, int param4, boolean param5, long __functionAddress);
+
+    public static int invokePPPPI(long param0, long param1, long param2, @Nullable long[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJA_I.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ninvokePPPPI(long param0, long param1, long param2, @Nullable long[] param3, long __functionAddress);
+
+    public static int invokePPPPI(long param0, long param1, int param2, int param3, @Nullable float[] param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIIAA_I.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ninvokePPPPI(long param0, long param1, int param2, int param3, @Nullable float[] param4, @Nullable int[] param5, long __functionAddress);
+
+    public static int invokePPPPI(long param0, long param1, int param2, int param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIIAA_I.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ninvokePPPPI(long param0, long param1, int param2, int param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress);
+
+    public static int invokePPPPPPPPI(long param0, int param1, int param2, long param3, @Nullable int[] param4, @Nullable int[] param5, @Nullable float[] param6, @Nullable int[] param7, @Nullable int[] param8, @Nullable int[] param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIJAAAAAA_I.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), param8 == null ? MemorySegment.NULL : MemorySegment.ofArray(param8), param9 == null ? MemorySegment.NULL : MemorySegment.ofArray(param9), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native int ninvokePPPPPPPPI(long param0, int param1, int param2, long param3, @Nullable int[] param4, @Nullable int[] param5, @Nullable float[] param6, @Nullable int[] param7, @Nullable int[] param8, @Nullable int[] param9, long __functionAddress);
+
+    public static long invokePP(@Nullable double[] param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_AI_J.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, __functionAddress);
+    }
+    private static native long ninvokePP(@Nullable double[] param0, int param1, long __functionAddress);
+
+    public static long invokePP(@Nullable float[] param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_AI_J.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, __functionAddress);
+    }
+    private static native long ninvokePP(@Nullable float[] param0, int param1, long __functionAddress);
+
+    public static long invokePP(@Nullable int[] param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_AI_J.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, __functionAddress);
+    }
+    private static native long ninvokePP(@Nullable int[] param0, int param1, long __functionAddress);
+
+    public static long invokePP(@Nullable long[] param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_AI_J.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, __functionAddress);
+    }
+    private static native long ninvokePP(@Nullable long[] param0, int param1, long __functionAddress);
+
+    public static long invokePP(@Nullable short[] param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_AI_J.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, __functionAddress);
+    }
+    private static native long ninvokePP(@Nullable short[] param0, int param1, long __functionAddress);
+
+    public static long invokePPP(long param0, @Nullable int[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JA_J.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, __functionAddress);
+    }
+    private static native long ninvokePPP(long param0, @Nullable int[] param1, long __functionAddress);
+
+    public static short invokePS(byte param0, @Nullable short[] param1, boolean param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_BAZ_S.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePS(param0, param1, param2, __functionAddress);
+    }
+    private static native short ninvokePS(byte param0, @Nullable short[] param1, boolean param2, long __functionAddress);
+
+    public static short invokePS(short param0, @Nullable short[] param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_SAS_S.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePS(param0, param1, param2, __functionAddress);
+    }
+    private static native short ninvokePS(short param0, @Nullable short[] param1, short param2, long __functionAddress);
+
+    public static short invokePPPS(@Nullable short[] param0, long param1, long param2, short param3, float param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (short)H_AJJSF_S.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPPS(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native short ninvokePPPS(@Nullable short[] param0, long param1, long param2, short param3, float param4, long __functionAddress);
+
+    public static void invokePV(byte param0, @Nullable float[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_BA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokePV(byte param0, @Nullable float[] param1, long __functionAddress);
+
+    public static void invokePV(int param0, @Nullable double[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokePV(int param0, @Nullable double[] param1, long __functionAddress);
+
+    public static void invokePV(int param0, @Nullable float[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokePV(int param0, @Nullable float[] param1, long __functionAddress);
+
+    public static void invokePV(int param0, @Nullable int[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, __functionAddress);
+    }
+    private static native void ninvokePV(int param0, @Nullable int[] param1, long __functionAddress);
+
+    public static void invokePV(int param0, int param1, @Nullable double[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(int param0, int param1, @Nullable double[] param2, long __functionAddress);
+
+    public static void invokePV(int param0, int param1, @Nullable float[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(int param0, int param1, @Nullable float[] param2, long __functionAddress);
+
+    public static void invokePV(int param0, int param1, @Nullable int[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(int param0, int param1, @Nullable int[] param2, long __functionAddress);
+
+    public static void invokePV(int param0, int param1, @Nullable long[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(int param0, int param1, @Nullable long[] param2, long __functionAddress);
+
+    public static void invokePV(short param0, short param1, @Nullable short[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SSA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(short param0, short param1, @Nullable short[] param2, long __functionAddress);
+
+    public static void invokePV(short param0, @Nullable double[] param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SAS_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(short param0, @Nullable double[] param1, short param2, long __functionAddress);
+
+    public static void invokePV(short param0, @Nullable float[] param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SAS_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(short param0, @Nullable float[] param1, short param2, long __functionAddress);
+
+    public static void invokePV(short param0, @Nullable int[] param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SAS_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(short param0, @Nullable int[] param1, short param2, long __functionAddress);
+
+    public static void invokePV(short param0, @Nullable long[] param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SAS_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(short param0, @Nullable long[] param1, short param2, long __functionAddress);
+
+    public static void invokePV(short param0, @Nullable short[] param1, short param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SAS_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePV(short param0, @Nullable short[] param1, short param2, long __functionAddress);
+
+    public static void invokePV(int param0, int param1, @Nullable float[] param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIAII_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePV(int param0, int param1, @Nullable float[] param2, int param3, int param4, long __functionAddress);
+
+    public static void invokePV(int param0, int param1, @Nullable int[] param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIAII_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePV(int param0, int param1, @Nullable int[] param2, int param3, int param4, long __functionAddress);
+
+    public static void invokePV(int param0, int param1, @Nullable short[] param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIAII_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePV(int param0, int param1, @Nullable short[] param2, int param3, int param4, long __functionAddress);
+
+    public static void invokePPV(long param0, @Nullable float[] param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JAI_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, @Nullable float[] param1, int param2, long __functionAddress);
+
+    public static void invokePPV(long param0, @Nullable int[] param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JAI_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, @Nullable int[] param1, int param2, long __functionAddress);
+
+    public static void invokePPV(long param0, @Nullable short[] param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JAI_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, @Nullable short[] param1, int param2, long __functionAddress);
+
+    public static void invokePPV(short param0, @Nullable float[] param1, @Nullable float[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_SAA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePPV(short param0, @Nullable float[] param1, @Nullable float[] param2, long __functionAddress);
+
+    public static void invokePPV(long param0, int param1, int param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, int param1, int param2, @Nullable int[] param3, long __functionAddress);
+
+    public static void invokePPV(long param0, int param1, int param2, @Nullable long[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, int param1, int param2, @Nullable long[] param3, long __functionAddress);
+
+    public static void invokePPV(long param0, short param1, @Nullable double[] param2, short param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JSAS_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, short param1, @Nullable double[] param2, short param3, long __functionAddress);
+
+    public static void invokePPV(long param0, short param1, @Nullable float[] param2, short param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JSAS_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, short param1, @Nullable float[] param2, short param3, long __functionAddress);
+
+    public static void invokePPV(long param0, short param1, @Nullable int[] param2, short param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JSAS_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, short param1, @Nullable int[] param2, short param3, long __functionAddress);
+
+    public static void invokePPV(long param0, short param1, @Nullable long[] param2, short param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JSAS_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, short param1, @Nullable long[] param2, short param3, long __functionAddress);
+
+    public static void invokePPV(long param0, short param1, @Nullable short[] param2, short param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JSAS_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePPV(long param0, short param1, @Nullable short[] param2, short param3, long __functionAddress);
+
+    public static void invokePPPV(long param0, @Nullable double[] param1, @Nullable double[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JAA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePPPV(long param0, @Nullable double[] param1, @Nullable double[] param2, long __functionAddress);
+
+    public static void invokePPPV(long param0, @Nullable float[] param1, @Nullable float[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JAA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePPPV(long param0, @Nullable float[] param1, @Nullable float[] param2, long __functionAddress);
+
+    public static void invokePPPV(long param0, @Nullable int[] param1, @Nullable int[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JAA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePPPV(long param0, @Nullable int[] param1, @Nullable int[] param2, long __functionAddress);
+
+    public static void invokePPPV(@Nullable int[] param0, @Nullable int[] param1, @Nullable int[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_AAA_V.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ninvokePPPV(@Nullable int[] param0, @Nullable int[] param1, @Nullable int[] param2, long __functionAddress);
+
+    public static void invokePPPV(int param0, @Nullable float[] param1, @Nullable float[] param2, @Nullable float[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IAAA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ninvokePPPV(int param0, @Nullable float[] param1, @Nullable float[] param2, @Nullable float[] param3, long __functionAddress);
+
+    public static void invokePPPV(int param0, int param1, @Nullable double[] param2, @Nullable double[] param3, @Nullable double[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIAAA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePPPV(int param0, int param1, @Nullable double[] param2, @Nullable double[] param3, @Nullable double[] param4, long __functionAddress);
+
+    public static void invokePPPV(int param0, int param1, @Nullable float[] param2, @Nullable float[] param3, @Nullable float[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIAAA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePPPV(int param0, int param1, @Nullable float[] param2, @Nullable float[] param3, @Nullable float[] param4, long __functionAddress);
+
+    public static void invokePPPV(int param0, int param1, @Nullable long[] param2, @Nullable long[] param3, @Nullable long[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIAAA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePPPV(int param0, int param1, @Nullable long[] param2, @Nullable long[] param3, @Nullable long[] param4, long __functionAddress);
+
+    public static void invokePPPV(@Nullable float[] param0, int param1, long param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_AIJJI_V.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1, param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePPPV(@Nullable float[] param0, int param1, long param2, long param3, int param4, long __functionAddress);
+
+    public static void invokePPPV(@Nullable float[] param0, boolean param1, int param2, long param3, long param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_AZIJJI_V.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1, param2, param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ninvokePPPV(@Nullable float[] param0, boolean param1, int param2, long param3, long param4, int param5, long __functionAddress);
+
+    public static void invokePPPPPV(long param0, @Nullable int[] param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JAAAA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ninvokePPPPPV(long param0, @Nullable int[] param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress);
+
+    public static void invokePPPPPV(long param0, int param1, long param2, @Nullable int[] param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJAJJ_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ninvokePPPPPV(long param0, int param1, long param2, @Nullable int[] param3, long param4, long param5, long __functionAddress);
+
+    public static void invokePPPPPV(int param0, long param1, int param2, @Nullable float[] param3, @Nullable float[] param4, long param5, int param6, long param7, int param8, boolean param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJIAAJIJIZ_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5, param6, param7, param8, param9, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native void ninvokePPPPPV(int param0, long param1, int param2, @Nullable float[] param3, @Nullable float[] param4, long param5, int param6, long param7, int param8, boolean param9, long __functionAddress);
+
+    public static void invokePPPPPV(int param0, @Nullable int[] param1, int param2, @Nullable float[] param3, @Nullable float[] param4, long param5, int param6, @Nullable int[] param7, int param8, boolean param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IAIAAJIAIZ_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5, param6, param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), param8, param9, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native void ninvokePPPPPV(int param0, @Nullable int[] param1, int param2, @Nullable float[] param3, @Nullable float[] param4, long param5, int param6, @Nullable int[] param7, int param8, boolean param9, long __functionAddress);
+
+    public static void invokePPPPPV(int param0, @Nullable short[] param1, int param2, @Nullable float[] param3, @Nullable float[] param4, long param5, int param6, @Nullable short[] param7, int param8, boolean param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IAIAAJIAIZ_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5, param6, param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), param8, param9, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ninvokePPPPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native void ninvokePPPPPV(int param0, @Nullable short[] param1, int param2, @Nullable float[] param3, @Nullable float[] param4, long param5, int param6, @Nullable short[] param7, int param8, boolean param9, long __functionAddress);
+
+    public static boolean invokePPZ(long param0, @Nullable int[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_JA_Z.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ninvokePPZ(param0, param1, __functionAddress);
+    }
+    private static native boolean ninvokePPZ(long param0, @Nullable int[] param1, long __functionAddress);
+
+    public static int callPI(@Nullable int[] param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_A_I.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, __functionAddress);
+    }
+    private static native int ncallPI(@Nullable int[] param0, long __functionAddress);
+
+    public static int callPI(int param0, @Nullable int[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IA_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, __functionAddress);
+    }
+    private static native int ncallPI(int param0, @Nullable int[] param1, long __functionAddress);
+
+    public static int callPI(@Nullable int[] param0, int param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_AI_I.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, __functionAddress);
+    }
+    private static native int ncallPI(@Nullable int[] param0, int param1, long __functionAddress);
+
+    public static int callPI(int param0, int param1, @Nullable int[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIA_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPI(int param0, int param1, @Nullable int[] param2, long __functionAddress);
+
+    public static int callPI(int param0, @Nullable int[] param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IAI_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPI(int param0, @Nullable int[] param1, int param2, long __functionAddress);
+
+    public static int callPI(int param0, int param1, int param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIIA_I.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPI(int param0, int param1, int param2, @Nullable int[] param3, long __functionAddress);
+
+    public static int callPI(int param0, int param1, int param2, int param3, @Nullable float[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIIIA_I.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPI(int param0, int param1, int param2, int param3, @Nullable float[] param4, long __functionAddress);
+
+    public static int callPI(int param0, int param1, int param2, int param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIIIA_I.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPI(int param0, int param1, int param2, int param3, @Nullable int[] param4, long __functionAddress);
+
+    public static int callPPI(long param0, @Nullable int[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JA_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, @Nullable int[] param1, long __functionAddress);
+
+    public static int callPPI(long param0, @Nullable long[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JA_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, @Nullable long[] param1, long __functionAddress);
+
+    public static int callPPI(@Nullable int[] param0, long param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_AJ_I.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, __functionAddress);
+    }
+    private static native int ncallPPI(@Nullable int[] param0, long param1, long __functionAddress);
+
+    public static int callPPI(int param0, long param1, @Nullable int[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IJA_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPPI(int param0, long param1, @Nullable int[] param2, long __functionAddress);
+
+    public static int callPPI(long param0, int param1, @Nullable int[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIA_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, int param1, @Nullable int[] param2, long __functionAddress);
+
+    public static int callPPI(long param0, int param1, @Nullable long[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIA_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, int param1, @Nullable long[] param2, long __functionAddress);
+
+    public static int callPPI(long param0, int param1, int param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIA_I.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPI(long param0, int param1, int param2, @Nullable int[] param3, long __functionAddress);
+
+    public static int callPJPI(long param0, long param1, @Nullable int[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJA_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPJPI(long param0, long param1, @Nullable int[] param2, long __functionAddress);
+
+    public static int callPPPI(long param0, long param1, @Nullable int[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJA_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, long param1, @Nullable int[] param2, long __functionAddress);
+
+    public static int callPPPI(long param0, long param1, @Nullable long[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJA_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, long param1, @Nullable long[] param2, long __functionAddress);
+
+    public static int callPPPI(long param0, @Nullable int[] param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JAJ_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, @Nullable int[] param1, long param2, long __functionAddress);
+
+    public static int callPPPI(long param0, @Nullable int[] param1, @Nullable int[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JAA_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, @Nullable int[] param1, @Nullable int[] param2, long __functionAddress);
+
+    public static int callPPPI(long param0, @Nullable long[] param1, @Nullable long[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JAA_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, @Nullable long[] param1, @Nullable long[] param2, long __functionAddress);
+
+    public static int callPPPI(@Nullable int[] param0, long param1, @Nullable int[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_AJA_I.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, __functionAddress);
+    }
+    private static native int ncallPPPI(@Nullable int[] param0, long param1, @Nullable int[] param2, long __functionAddress);
+
+    public static int callPJPI(long param0, int param1, long param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJA_I.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPJPI(long param0, int param1, long param2, @Nullable int[] param3, long __functionAddress);
+
+    public static int callPJPI(long param0, long param1, int param2, @Nullable long[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIA_I.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPJPI(long param0, long param1, int param2, @Nullable long[] param3, long __functionAddress);
+
+    public static int callPPPI(long param0, int param1, long param2, @Nullable double[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJA_I.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, int param1, long param2, @Nullable double[] param3, long __functionAddress);
+
+    public static int callPPPI(long param0, int param1, long param2, @Nullable float[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJA_I.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, int param1, long param2, @Nullable float[] param3, long __functionAddress);
+
+    public static int callPPPI(long param0, int param1, long param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJA_I.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, int param1, long param2, @Nullable int[] param3, long __functionAddress);
+
+    public static int callPPPI(long param0, int param1, long param2, @Nullable long[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJA_I.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, int param1, long param2, @Nullable long[] param3, long __functionAddress);
+
+    public static int callPPPI(long param0, int param1, long param2, @Nullable short[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJA_I.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, int param1, long param2, @Nullable short[] param3, long __functionAddress);
+
+    public static int callPPPI(long param0, int param1, @Nullable int[] param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIAA_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, int param1, @Nullable int[] param2, @Nullable int[] param3, long __functionAddress);
+
+    public static int callPPPI(long param0, int param1, @Nullable int[] param2, @Nullable long[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIAA_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, int param1, @Nullable int[] param2, @Nullable long[] param3, long __functionAddress);
+
+    public static int callPPPI(long param0, long param1, int param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIA_I.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, long param1, int param2, @Nullable int[] param3, long __functionAddress);
+
+    public static int callPPPI(long param0, long param1, int param2, @Nullable long[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIA_I.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, long param1, int param2, @Nullable long[] param3, long __functionAddress);
+
+    public static int callPPPI(long param0, long param1, @Nullable int[] param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJAI_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, long param1, @Nullable int[] param2, int param3, long __functionAddress);
+
+    public static int callPPJI(long param0, int param1, @Nullable long[] param2, int param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIAIJ_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPJI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPJI(long param0, int param1, @Nullable long[] param2, int param3, long param4, long __functionAddress);
+
+    public static int callPPPI(long param0, int param1, int param2, int param3, @Nullable int[] param4, @Nullable float[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIIAA_I.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, int param1, int param2, int param3, @Nullable int[] param4, @Nullable float[] param5, long __functionAddress);
+
+    public static int callPPPI(long param0, int param1, int param2, int param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIIAA_I.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPI(long param0, int param1, int param2, int param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress);
+
+    public static int callPJPPI(long param0, long param1, @Nullable int[] param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJAJ_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPJPPI(long param0, long param1, @Nullable int[] param2, long param3, long __functionAddress);
+
+    public static int callPJPPI(long param0, long param1, @Nullable int[] param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJAA_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPJPPI(long param0, long param1, @Nullable int[] param2, @Nullable int[] param3, long __functionAddress);
+
+    public static int callPJPPI(long param0, long param1, @Nullable int[] param2, @Nullable long[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJAA_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPJPPI(long param0, long param1, @Nullable int[] param2, @Nullable long[] param3, long __functionAddress);
+
+    public static int callPPPPI(long param0, long param1, long param2, @Nullable long[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJA_I.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, long param1, long param2, @Nullable long[] param3, long __functionAddress);
+
+    public static int callPPPPI(long param0, long param1, @Nullable int[] param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJAJ_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, long param1, @Nullable int[] param2, long param3, long __functionAddress);
+
+    public static int callPPPPI(long param0, long param1, @Nullable int[] param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJAA_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, long param1, @Nullable int[] param2, @Nullable int[] param3, long __functionAddress);
+
+    public static int callPJPPI(long param0, long param1, int param2, long param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJA_I.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPJPPI(long param0, long param1, int param2, long param3, @Nullable int[] param4, long __functionAddress);
+
+    public static int callPJPPI(long param0, long param1, int param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIAA_I.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPJPPI(long param0, long param1, int param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress);
+
+    public static int callPPPPI(long param0, int param1, long param2, long param3, @Nullable long[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJJA_I.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, int param1, long param2, long param3, @Nullable long[] param4, long __functionAddress);
+
+    public static int callPPPPI(long param0, int param1, long param2, @Nullable int[] param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJAJ_I.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, int param1, long param2, @Nullable int[] param3, long param4, long __functionAddress);
+
+    public static int callPPPPI(long param0, int param1, long param2, @Nullable long[] param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJAJ_I.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, int param1, long param2, @Nullable long[] param3, long param4, long __functionAddress);
+
+    public static int callPPPPI(long param0, int param1, long param2, @Nullable long[] param3, @Nullable long[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJAA_I.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, int param1, long param2, @Nullable long[] param3, @Nullable long[] param4, long __functionAddress);
+
+    public static int callPPPPI(long param0, long param1, int param2, long param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJA_I.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, long param1, int param2, long param3, @Nullable int[] param4, long __functionAddress);
+
+    public static int callPPPPI(long param0, long param1, long param2, int param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJIA_I.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, long param1, long param2, int param3, @Nullable int[] param4, long __functionAddress);
+
+    public static int callPPPPI(long param0, @Nullable int[] param1, long param2, int param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JAJIA_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, @Nullable int[] param1, long param2, int param3, @Nullable int[] param4, long __functionAddress);
+
+    public static int callPPPPI(long param0, @Nullable long[] param1, int param2, long param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JAIJA_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, @Nullable long[] param1, int param2, long param3, @Nullable int[] param4, long __functionAddress);
+
+    public static int callPJPPI(long param0, long param1, int param2, int param3, long param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIIJA_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPJPPI(long param0, long param1, int param2, int param3, long param4, @Nullable int[] param5, long __functionAddress);
+
+    public static int callPPPPI(long param0, int param1, int param2, long param3, @Nullable int[] param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIJAJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, int param1, int param2, long param3, @Nullable int[] param4, long param5, long __functionAddress);
+
+    public static int callPPPPI(long param0, int param1, int param2, long param3, @Nullable long[] param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIJAJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, int param1, int param2, long param3, @Nullable long[] param4, long param5, long __functionAddress);
+
+    public static int callPPPPI(long param0, int param1, int param2, @Nullable long[] param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIIAAA_I.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, int param1, int param2, @Nullable long[] param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress);
+
+    public static int callPPPPI(long param0, int param1, long param2, int param3, int param4, long param5, @Nullable int[] param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JIJIIJA_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native int ncallPPPPI(long param0, int param1, long param2, int param3, int param4, long param5, @Nullable int[] param6, long __functionAddress);
+
+    public static int callPJPPPI(long param0, long param1, long param2, long param3, @Nullable long[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJA_I.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPJPPPI(long param0, long param1, long param2, long param3, @Nullable long[] param4, long __functionAddress);
+
+    public static int callPPPPPI(long param0, long param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJAAA_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPPPI(long param0, long param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress);
+
+    public static int callPPPPPI(long param0, long param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable long[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJAAA_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPPPI(long param0, long param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable long[] param4, long __functionAddress);
+
+    public static int callPPPPPI(long param0, @Nullable int[] param1, @Nullable int[] param2, @Nullable int[] param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JAAAJ_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native int ncallPPPPPI(long param0, @Nullable int[] param1, @Nullable int[] param2, @Nullable int[] param3, long param4, long __functionAddress);
+
+    public static int callPJPPPI(long param0, long param1, int param2, long param3, long param4, @Nullable long[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJA_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPJPPPI(long param0, long param1, int param2, long param3, long param4, @Nullable long[] param5, long __functionAddress);
+
+    public static int callPPPPPI(long param0, long param1, int param2, long param3, @Nullable int[] param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJAJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPPPI(long param0, long param1, int param2, long param3, @Nullable int[] param4, long param5, long __functionAddress);
+
+    public static int callPPPPPI(long param0, long param1, int param2, long param3, @Nullable long[] param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJAJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPPPI(long param0, long param1, int param2, long param3, @Nullable long[] param4, long param5, long __functionAddress);
+
+    public static int callPPPPPI(long param0, @Nullable int[] param1, @Nullable float[] param2, int param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JAAIAA_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPPPI(long param0, @Nullable int[] param1, @Nullable float[] param2, int param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress);
+
+    public static int callPPPPPI(int param0, int param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable int[] param4, @Nullable int[] param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIAAAAJ_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), param6, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native int ncallPPPPPI(int param0, int param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable int[] param4, @Nullable int[] param5, long param6, long __functionAddress);
+
+    public static int callPJPPJI(long param0, long param1, int param2, int param3, long param4, @Nullable int[] param5, long param6, int param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIIJAJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPJI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallPJPPJI(long param0, long param1, int param2, int param3, long param4, @Nullable int[] param5, long param6, int param7, long __functionAddress);
+
+    public static int callPJPPJI(long param0, long param1, int param2, int param3, long param4, @Nullable long[] param5, long param6, int param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIIJAJI_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPJI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallPJPPJI(long param0, long param1, int param2, int param3, long param4, @Nullable long[] param5, long param6, int param7, long __functionAddress);
+
+    public static int callPJJJJPI(long param0, long param1, long param2, long param3, long param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJJA_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJJJJPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPJJJJPI(long param0, long param1, long param2, long param3, long param4, @Nullable int[] param5, long __functionAddress);
+
+    public static int callPPPPPPI(long param0, @Nullable int[] param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JAAAAA_I.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native int ncallPPPPPPI(long param0, @Nullable int[] param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress);
+
+    public static int callPPPPPPI(int param0, int param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable int[] param4, @Nullable int[] param5, @Nullable int[] param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_IIAAAAAJ_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallPPPPPPI(int param0, int param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable int[] param4, @Nullable int[] param5, @Nullable int[] param6, long param7, long __functionAddress);
+
+    public static int callPPPPPPPI(long param0, long param1, long param2, long param3, int param4, long param5, @Nullable int[] param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJJJIJAJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallPPPPPPPI(long param0, long param1, long param2, long param3, int param4, long param5, @Nullable int[] param6, long param7, long __functionAddress);
+
+    public static int callPPPPPPPI(long param0, long param1, @Nullable float[] param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJAJJIJJ_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallPPPPPPPI(long param0, long param1, @Nullable float[] param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress);
+
+    public static int callPPPPPPPI(long param0, long param1, @Nullable int[] param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJAJJIJJ_I.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native int ncallPPPPPPPI(long param0, long param1, @Nullable int[] param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress);
+
+    public static int callPPPPPPPI(long param0, long param1, int param2, long param3, long param4, @Nullable double[] param5, int param6, long param7, long param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJAIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native int ncallPPPPPPPI(long param0, long param1, int param2, long param3, long param4, @Nullable double[] param5, int param6, long param7, long param8, long __functionAddress);
+
+    public static int callPPPPPPPI(long param0, long param1, int param2, long param3, long param4, @Nullable float[] param5, int param6, long param7, long param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJAIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native int ncallPPPPPPPI(long param0, long param1, int param2, long param3, long param4, @Nullable float[] param5, int param6, long param7, long param8, long __functionAddress);
+
+    public static int callPPPPPPPI(long param0, long param1, int param2, long param3, long param4, @Nullable int[] param5, int param6, long param7, long param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJAIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native int ncallPPPPPPPI(long param0, long param1, int param2, long param3, long param4, @Nullable int[] param5, int param6, long param7, long param8, long __functionAddress);
+
+    public static int callPPPPPPPI(long param0, long param1, int param2, long param3, long param4, @Nullable short[] param5, int param6, long param7, long param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJAIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native int ncallPPPPPPPI(long param0, long param1, int param2, long param3, long param4, @Nullable short[] param5, int param6, long param7, long param8, long __functionAddress);
+
+    public static int callPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, @Nullable double[] param7, int param8, long param9, long param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJJJAIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native int ncallPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, @Nullable double[] param7, int param8, long param9, long param10, long __functionAddress);
+
+    public static int callPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, @Nullable float[] param7, int param8, long param9, long param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJJJAIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native int ncallPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, @Nullable float[] param7, int param8, long param9, long param10, long __functionAddress);
+
+    public static int callPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, @Nullable int[] param7, int param8, long param9, long param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJJJAIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native int ncallPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, @Nullable int[] param7, int param8, long param9, long param10, long __functionAddress);
+
+    public static int callPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, @Nullable short[] param7, int param8, long param9, long param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJJJAIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native int ncallPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, @Nullable short[] param7, int param8, long param9, long param10, long __functionAddress);
+
+    public static int callPPPPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, @Nullable double[] param10, int param11, long param12, long param13, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJJJJJJAIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10 == null ? MemorySegment.NULL : MemorySegment.ofArray(param10), param11, param12, param13, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+    }
+    private static native int ncallPPPPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, @Nullable double[] param10, int param11, long param12, long param13, long __functionAddress);
+
+    public static int callPPPPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, @Nullable float[] param10, int param11, long param12, long param13, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJJJJJJAIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10 == null ? MemorySegment.NULL : MemorySegment.ofArray(param10), param11, param12, param13, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+    }
+    private static native int ncallPPPPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, @Nullable float[] param10, int param11, long param12, long param13, long __functionAddress);
+
+    public static int callPPPPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, @Nullable int[] param10, int param11, long param12, long param13, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJJJJJJAIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10 == null ? MemorySegment.NULL : MemorySegment.ofArray(param10), param11, param12, param13, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+    }
+    private static native int ncallPPPPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, @Nullable int[] param10, int param11, long param12, long param13, long __functionAddress);
+
+    public static int callPPPPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, @Nullable short[] param10, int param11, long param12, long param13, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (int)H_JJIJJJJJJJAIJJ_I.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10 == null ? MemorySegment.NULL : MemorySegment.ofArray(param10), param11, param12, param13, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+    }
+    private static native int ncallPPPPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, @Nullable short[] param10, int param11, long param12, long param13, long __functionAddress);
+
+    public static long callPP(@Nullable int[] param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_A_J.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPP(param0, __functionAddress);
+    }
+    private static native long ncallPP(@Nullable int[] param0, long __functionAddress);
+
+    public static long callPPP(long param0, @Nullable int[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JA_J.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, __functionAddress);
+    }
+    private static native long ncallPPP(long param0, @Nullable int[] param1, long __functionAddress);
+
+    public static long callPPP(int param0, long param1, @Nullable int[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IJA_J.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ncallPPP(int param0, long param1, @Nullable int[] param2, long __functionAddress);
+
+    public static long callPPP(long param0, int param1, @Nullable int[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIA_J.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ncallPPP(long param0, int param1, @Nullable int[] param2, long __functionAddress);
+
+    public static long callPPP(int param0, int param1, int param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_IIIAA_J.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPPP(int param0, int param1, int param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress);
+
+    public static long callPPP(long param0, int param1, int param2, int param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIIIA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPPP(long param0, int param1, int param2, int param3, @Nullable int[] param4, long __functionAddress);
+
+    public static long callPPPP(long param0, long param1, @Nullable int[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJA_J.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ncallPPPP(long param0, long param1, @Nullable int[] param2, long __functionAddress);
+
+    public static long callPPPP(long param0, @Nullable int[] param1, @Nullable int[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JAA_J.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPP(param0, param1, param2, __functionAddress);
+    }
+    private static native long ncallPPPP(long param0, @Nullable int[] param1, @Nullable int[] param2, long __functionAddress);
+
+    public static long callPJPP(long param0, long param1, int param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIA_J.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ncallPJPP(long param0, long param1, int param2, @Nullable int[] param3, long __functionAddress);
+
+    public static long callPPPP(long param0, int param1, @Nullable int[] param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIAJ_J.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ncallPPPP(long param0, int param1, @Nullable int[] param2, long param3, long __functionAddress);
+
+    public static long callPPPP(long param0, long param1, int param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIA_J.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ncallPPPP(long param0, long param1, int param2, @Nullable int[] param3, long __functionAddress);
+
+    public static long callPPPP(long param0, long param1, int param2, int param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIIA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPPPP(long param0, long param1, int param2, int param3, @Nullable int[] param4, long __functionAddress);
+
+    public static long callPJPP(long param0, long param1, int param2, int param3, int param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIIIA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ncallPJPP(long param0, long param1, int param2, int param3, int param4, @Nullable int[] param5, long __functionAddress);
+
+    public static long callPPJPP(long param0, long param1, long param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJA_J.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPJPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ncallPPJPP(long param0, long param1, long param2, @Nullable int[] param3, long __functionAddress);
+
+    public static long callPPPPP(long param0, long param1, long param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJA_J.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ncallPPPPP(long param0, long param1, long param2, @Nullable int[] param3, long __functionAddress);
+
+    public static long callPPPPP(long param0, long param1, @Nullable long[] param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJAA_J.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPP(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native long ncallPPPPP(long param0, long param1, @Nullable long[] param2, @Nullable int[] param3, long __functionAddress);
+
+    public static long callPJPPP(long param0, long param1, int param2, long param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIJA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPJPPP(long param0, long param1, int param2, long param3, @Nullable int[] param4, long __functionAddress);
+
+    public static long callPJPPP(long param0, long param1, @Nullable int[] param2, int param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJAIA_J.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPJPPP(long param0, long param1, @Nullable int[] param2, int param3, @Nullable int[] param4, long __functionAddress);
+
+    public static long callPPPPP(long param0, int param1, long param2, long param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJJA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPPPPP(long param0, int param1, long param2, long param3, @Nullable int[] param4, long __functionAddress);
+
+    public static long callPPPPP(long param0, long param1, int param2, long param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIJA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPPPPP(long param0, long param1, int param2, long param3, @Nullable int[] param4, long __functionAddress);
+
+    public static long callPPPPP(long param0, long param1, long param2, int param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJIA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPPPPP(long param0, long param1, long param2, int param3, @Nullable int[] param4, long __functionAddress);
+
+    public static long callPJPPP(long param0, long param1, int param2, int param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIIAA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ncallPJPPP(long param0, long param1, int param2, int param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress);
+
+    public static long callPJPPPP(long param0, long param1, long param2, long param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPJPPPP(long param0, long param1, long param2, long param3, @Nullable int[] param4, long __functionAddress);
+
+    public static long callPJPPPP(long param0, long param1, long param2, @Nullable double[] param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJAA_J.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPJPPPP(long param0, long param1, long param2, @Nullable double[] param3, @Nullable int[] param4, long __functionAddress);
+
+    public static long callPJPPPP(long param0, long param1, long param2, @Nullable float[] param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJAA_J.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPJPPPP(long param0, long param1, long param2, @Nullable float[] param3, @Nullable int[] param4, long __functionAddress);
+
+    public static long callPJPPPP(long param0, long param1, long param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJAA_J.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPJPPPP(long param0, long param1, long param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress);
+
+    public static long callPJPPPP(long param0, long param1, long param2, @Nullable short[] param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJAA_J.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native long ncallPJPPPP(long param0, long param1, long param2, @Nullable short[] param3, @Nullable int[] param4, long __functionAddress);
+
+    public static long callPPPPPP(long param0, int param1, long param2, long param3, long param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJJJA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ncallPPPPPP(long param0, int param1, long param2, long param3, long param4, @Nullable int[] param5, long __functionAddress);
+
+    public static long callPJPPPPP(long param0, long param1, long param2, long param3, long param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ncallPJPPPPP(long param0, long param1, long param2, long param3, long param4, @Nullable int[] param5, long __functionAddress);
+
+    public static long callPJPPPPP(long param0, long param1, long param2, long param3, @Nullable float[] param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJAA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ncallPJPPPPP(long param0, long param1, long param2, long param3, @Nullable float[] param4, @Nullable int[] param5, long __functionAddress);
+
+    public static long callPJPPPPP(long param0, long param1, long param2, long param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJAA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ncallPJPPPPP(long param0, long param1, long param2, long param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress);
+
+    public static long callPJPPPPP(long param0, long param1, long param2, long param3, @Nullable short[] param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJAA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ncallPJPPPPP(long param0, long param1, long param2, long param3, @Nullable short[] param4, @Nullable int[] param5, long __functionAddress);
+
+    public static long callPPPJPPP(long param0, long param1, long param2, long param3, long param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPJPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native long ncallPPPJPPP(long param0, long param1, long param2, long param3, long param4, @Nullable int[] param5, long __functionAddress);
+
+    public static long callPPPPPPP(long param0, int param1, long param2, long param3, long param4, @Nullable int[] param5, @Nullable int[] param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JIJJJAA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native long ncallPPPPPPP(long param0, int param1, long param2, long param3, long param4, @Nullable int[] param5, @Nullable int[] param6, long __functionAddress);
+
+    public static long callPJPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, @Nullable int[] param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJJA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native long ncallPJPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, @Nullable int[] param7, long __functionAddress);
+
+    public static long callPJPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, @Nullable float[] param6, @Nullable int[] param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJAA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native long ncallPJPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, @Nullable float[] param6, @Nullable int[] param7, long __functionAddress);
+
+    public static long callPJPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, @Nullable int[] param6, @Nullable int[] param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJAA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native long ncallPJPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, @Nullable int[] param6, @Nullable int[] param7, long __functionAddress);
+
+    public static long callPJPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, @Nullable short[] param6, @Nullable int[] param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJAA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native long ncallPJPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, @Nullable short[] param6, @Nullable int[] param7, long __functionAddress);
+
+    public static long callPPJPPPPPP(long param0, long param1, int param2, long param3, long param4, long param5, int param6, long param7, long param8, @Nullable int[] param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIJJJIJJA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9 == null ? MemorySegment.NULL : MemorySegment.ofArray(param9), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPJPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native long ncallPPJPPPPPP(long param0, long param1, int param2, long param3, long param4, long param5, int param6, long param7, long param8, @Nullable int[] param9, long __functionAddress);
+
+    public static long callPJPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, @Nullable int[] param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJJJJA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9 == null ? MemorySegment.NULL : MemorySegment.ofArray(param9), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native long ncallPJPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, @Nullable int[] param9, long __functionAddress);
+
+    public static long callPJPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, @Nullable float[] param8, @Nullable int[] param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJJJAA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8 == null ? MemorySegment.NULL : MemorySegment.ofArray(param8), param9 == null ? MemorySegment.NULL : MemorySegment.ofArray(param9), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native long ncallPJPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, @Nullable float[] param8, @Nullable int[] param9, long __functionAddress);
+
+    public static long callPJPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, @Nullable int[] param8, @Nullable int[] param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJJJAA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8 == null ? MemorySegment.NULL : MemorySegment.ofArray(param8), param9 == null ? MemorySegment.NULL : MemorySegment.ofArray(param9), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native long ncallPJPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, @Nullable int[] param8, @Nullable int[] param9, long __functionAddress);
+
+    public static long callPJPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, @Nullable short[] param8, @Nullable int[] param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJJJJJJJAA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8 == null ? MemorySegment.NULL : MemorySegment.ofArray(param8), param9 == null ? MemorySegment.NULL : MemorySegment.ofArray(param9), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPJPPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native long ncallPJPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, @Nullable short[] param8, @Nullable int[] param9, long __functionAddress);
+
+    public static long callPPJPPPPPPPP(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, int param8, long param9, long param10, @Nullable int[] param11, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (long)H_JJIJJJJJIJJA_J.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11 == null ? MemorySegment.NULL : MemorySegment.ofArray(param11), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPJPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+    private static native long ncallPPJPPPPPPPP(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, int param8, long param9, long param10, @Nullable int[] param11, long __functionAddress);
+
+    public static void callPV(@Nullable double[] param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_A_V.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, __functionAddress);
+    }
+    private static native void ncallPV(@Nullable double[] param0, long __functionAddress);
+
+    public static void callPV(@Nullable float[] param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_A_V.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, __functionAddress);
+    }
+    private static native void ncallPV(@Nullable float[] param0, long __functionAddress);
+
+    public static void callPV(@Nullable int[] param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_A_V.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, __functionAddress);
+    }
+    private static native void ncallPV(@Nullable int[] param0, long __functionAddress);
+
+    public static void callPV(@Nullable short[] param0, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_A_V.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, __functionAddress);
+    }
+    private static native void ncallPV(@Nullable short[] param0, long __functionAddress);
+
+    public static void callPV(int param0, @Nullable double[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, __functionAddress);
+    }
+    private static native void ncallPV(int param0, @Nullable double[] param1, long __functionAddress);
+
+    public static void callPV(int param0, @Nullable float[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, __functionAddress);
+    }
+    private static native void ncallPV(int param0, @Nullable float[] param1, long __functionAddress);
+
+    public static void callPV(int param0, @Nullable int[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, __functionAddress);
+    }
+    private static native void ncallPV(int param0, @Nullable int[] param1, long __functionAddress);
+
+    public static void callPV(int param0, @Nullable long[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, __functionAddress);
+    }
+    private static native void ncallPV(int param0, @Nullable long[] param1, long __functionAddress);
+
+    public static void callPV(int param0, @Nullable short[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, __functionAddress);
+    }
+    private static native void ncallPV(int param0, @Nullable short[] param1, long __functionAddress);
+
+    public static void callPV(int param0, int param1, @Nullable double[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, @Nullable double[] param2, long __functionAddress);
+
+    public static void callPV(int param0, int param1, @Nullable float[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, @Nullable float[] param2, long __functionAddress);
+
+    public static void callPV(int param0, int param1, @Nullable int[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, @Nullable int[] param2, long __functionAddress);
+
+    public static void callPV(int param0, int param1, @Nullable long[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, @Nullable long[] param2, long __functionAddress);
+
+    public static void callPV(int param0, int param1, @Nullable short[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, @Nullable short[] param2, long __functionAddress);
+
+    public static void callPV(int param0, @Nullable int[] param1, int param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IAI_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPV(int param0, @Nullable int[] param1, int param2, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, @Nullable double[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, @Nullable double[] param3, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, @Nullable float[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, @Nullable float[] param3, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, @Nullable int[] param3, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, @Nullable long[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, @Nullable long[] param3, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, @Nullable short[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, @Nullable short[] param3, long __functionAddress);
+
+    public static void callPV(int param0, int param1, boolean param2, @Nullable double[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIZA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, boolean param2, @Nullable double[] param3, long __functionAddress);
+
+    public static void callPV(int param0, int param1, boolean param2, @Nullable float[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIZA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, boolean param2, @Nullable float[] param3, long __functionAddress);
+
+    public static void callPV(int param0, int param1, boolean param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIZA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, boolean param2, @Nullable int[] param3, long __functionAddress);
+
+    public static void callPV(int param0, int param1, @Nullable int[] param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIAI_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, @Nullable int[] param2, int param3, long __functionAddress);
+
+    public static void callPV(int param0, @Nullable int[] param1, int param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IAII_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPV(int param0, @Nullable int[] param1, int param2, int param3, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, @Nullable double[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, @Nullable double[] param4, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, @Nullable float[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, @Nullable float[] param4, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, @Nullable int[] param4, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, @Nullable long[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, @Nullable long[] param4, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, @Nullable short[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, @Nullable short[] param4, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, boolean param3, @Nullable double[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIZA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, boolean param3, @Nullable double[] param4, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, boolean param3, @Nullable float[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIZA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, boolean param3, @Nullable float[] param4, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, @Nullable int[] param3, boolean param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIAZ_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, @Nullable int[] param3, boolean param4, long __functionAddress);
+
+    public static void callPV(int param0, int param1, @Nullable int[] param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIAII_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, @Nullable int[] param2, int param3, int param4, long __functionAddress);
+
+    public static void callPV(int param0, boolean param1, int param2, int param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IZIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPV(int param0, boolean param1, int param2, int param3, @Nullable int[] param4, long __functionAddress);
+
+    public static void callPV(int param0, double param1, double param2, int param3, int param4, @Nullable double[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IDDIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(int param0, double param1, double param2, int param3, int param4, @Nullable double[] param5, long __functionAddress);
+
+    public static void callPV(int param0, float param1, float param2, int param3, int param4, @Nullable float[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IFFIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(int param0, float param1, float param2, int param3, int param4, @Nullable float[] param5, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, @Nullable double[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, @Nullable double[] param5, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, @Nullable float[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, @Nullable float[] param5, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, @Nullable int[] param5, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, @Nullable short[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, @Nullable short[] param5, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, @Nullable int[] param4, boolean param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIAZ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, @Nullable int[] param4, boolean param5, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, boolean param3, int param4, @Nullable float[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIZIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, boolean param3, int param4, @Nullable float[] param5, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, boolean param3, int param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIZIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, boolean param3, int param4, @Nullable int[] param5, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, boolean param3, int param4, @Nullable short[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIZIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, boolean param3, int param4, @Nullable short[] param5, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, @Nullable double[] param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, @Nullable double[] param6, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, @Nullable float[] param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, @Nullable float[] param6, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, @Nullable int[] param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, @Nullable int[] param6, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, @Nullable short[] param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, @Nullable short[] param6, long __functionAddress);
+
+    public static void callPV(int param0, int param1, @Nullable int[] param2, int param3, int param4, int param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIAIIII_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, param4, param5, param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, @Nullable int[] param2, int param3, int param4, int param5, int param6, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, @Nullable double[] param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, @Nullable double[] param7, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, @Nullable float[] param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, @Nullable float[] param7, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, @Nullable int[] param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, @Nullable int[] param7, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, @Nullable short[] param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, @Nullable short[] param7, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, @Nullable double[] param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8 == null ? MemorySegment.NULL : MemorySegment.ofArray(param8), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, @Nullable double[] param8, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, @Nullable float[] param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8 == null ? MemorySegment.NULL : MemorySegment.ofArray(param8), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, @Nullable float[] param8, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, @Nullable int[] param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8 == null ? MemorySegment.NULL : MemorySegment.ofArray(param8), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, @Nullable int[] param8, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, @Nullable short[] param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8 == null ? MemorySegment.NULL : MemorySegment.ofArray(param8), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, @Nullable short[] param8, long __functionAddress);
+
+    public static void callPV(int param0, double param1, double param2, int param3, int param4, double param5, double param6, int param7, int param8, @Nullable double[] param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IDDIIDDIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9 == null ? MemorySegment.NULL : MemorySegment.ofArray(param9), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native void ncallPV(int param0, double param1, double param2, int param3, int param4, double param5, double param6, int param7, int param8, @Nullable double[] param9, long __functionAddress);
+
+    public static void callPV(int param0, float param1, float param2, int param3, int param4, float param5, float param6, int param7, int param8, @Nullable float[] param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IFFIIFFIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9 == null ? MemorySegment.NULL : MemorySegment.ofArray(param9), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native void ncallPV(int param0, float param1, float param2, int param3, int param4, float param5, float param6, int param7, int param8, @Nullable float[] param9, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, @Nullable double[] param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9 == null ? MemorySegment.NULL : MemorySegment.ofArray(param9), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, @Nullable double[] param9, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, @Nullable float[] param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9 == null ? MemorySegment.NULL : MemorySegment.ofArray(param9), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, @Nullable float[] param9, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, @Nullable int[] param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9 == null ? MemorySegment.NULL : MemorySegment.ofArray(param9), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, @Nullable int[] param9, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, @Nullable short[] param9, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9 == null ? MemorySegment.NULL : MemorySegment.ofArray(param9), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, @Nullable short[] param9, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, @Nullable double[] param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10 == null ? MemorySegment.NULL : MemorySegment.ofArray(param10), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, @Nullable double[] param10, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, @Nullable float[] param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10 == null ? MemorySegment.NULL : MemorySegment.ofArray(param10), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, @Nullable float[] param10, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, @Nullable int[] param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10 == null ? MemorySegment.NULL : MemorySegment.ofArray(param10), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, @Nullable int[] param10, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, @Nullable short[] param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10 == null ? MemorySegment.NULL : MemorySegment.ofArray(param10), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, @Nullable short[] param10, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, @Nullable double[] param11, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11 == null ? MemorySegment.NULL : MemorySegment.ofArray(param11), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, @Nullable double[] param11, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, @Nullable float[] param11, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11 == null ? MemorySegment.NULL : MemorySegment.ofArray(param11), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, @Nullable float[] param11, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, @Nullable int[] param11, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11 == null ? MemorySegment.NULL : MemorySegment.ofArray(param11), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, @Nullable int[] param11, long __functionAddress);
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, @Nullable short[] param11, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIIIIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11 == null ? MemorySegment.NULL : MemorySegment.ofArray(param11), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, @Nullable short[] param11, long __functionAddress);
+
+    public static void callPPV(long param0, @Nullable float[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, __functionAddress);
+    }
+    private static native void ncallPPV(long param0, @Nullable float[] param1, long __functionAddress);
+
+    public static void callPPV(long param0, @Nullable int[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, __functionAddress);
+    }
+    private static native void ncallPPV(long param0, @Nullable int[] param1, long __functionAddress);
+
+    public static void callPPV(@Nullable double[] param0, @Nullable double[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_AA_V.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, __functionAddress);
+    }
+    private static native void ncallPPV(@Nullable double[] param0, @Nullable double[] param1, long __functionAddress);
+
+    public static void callPPV(@Nullable float[] param0, @Nullable float[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_AA_V.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, __functionAddress);
+    }
+    private static native void ncallPPV(@Nullable float[] param0, @Nullable float[] param1, long __functionAddress);
+
+    public static void callPPV(@Nullable int[] param0, @Nullable int[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_AA_V.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, __functionAddress);
+    }
+    private static native void ncallPPV(@Nullable int[] param0, @Nullable int[] param1, long __functionAddress);
+
+    public static void callPPV(@Nullable short[] param0, @Nullable short[] param1, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_AA_V.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, __functionAddress);
+    }
+    private static native void ncallPPV(@Nullable short[] param0, @Nullable short[] param1, long __functionAddress);
+
+    public static void callPPV(int param0, long param1, @Nullable int[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, long param1, @Nullable int[] param2, long __functionAddress);
+
+    public static void callPPV(int param0, @Nullable int[] param1, @Nullable float[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IAA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, @Nullable int[] param1, @Nullable float[] param2, long __functionAddress);
+
+    public static void callPPV(int param0, @Nullable int[] param1, @Nullable int[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IAA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, @Nullable int[] param1, @Nullable int[] param2, long __functionAddress);
+
+    public static void callPPV(@Nullable int[] param0, int param1, @Nullable int[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_AIA_V.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPPV(@Nullable int[] param0, int param1, @Nullable int[] param2, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, long param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, long param2, @Nullable int[] param3, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, @Nullable int[] param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIAJ_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, @Nullable int[] param2, long param3, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, @Nullable int[] param2, @Nullable float[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIAA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, @Nullable int[] param2, @Nullable float[] param3, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, @Nullable int[] param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIAA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, @Nullable int[] param2, @Nullable int[] param3, long __functionAddress);
+
+    public static void callPPV(int param0, long param1, int param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJIA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, long param1, int param2, @Nullable int[] param3, long __functionAddress);
+
+    public static void callPPV(int param0, long param1, @Nullable double[] param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJAI_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, long param1, @Nullable double[] param2, int param3, long __functionAddress);
+
+    public static void callPPV(int param0, long param1, @Nullable float[] param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJAI_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, long param1, @Nullable float[] param2, int param3, long __functionAddress);
+
+    public static void callPPV(int param0, long param1, @Nullable int[] param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJAI_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, long param1, @Nullable int[] param2, int param3, long __functionAddress);
+
+    public static void callPPV(int param0, long param1, @Nullable long[] param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJAI_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, long param1, @Nullable long[] param2, int param3, long __functionAddress);
+
+    public static void callPPV(int param0, long param1, @Nullable short[] param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJAI_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, long param1, @Nullable short[] param2, int param3, long __functionAddress);
+
+    public static void callPPV(int param0, @Nullable int[] param1, @Nullable int[] param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IAAI_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, @Nullable int[] param1, @Nullable int[] param2, int param3, long __functionAddress);
+
+    public static void callPPV(int param0, @Nullable long[] param1, @Nullable int[] param2, int param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IAAI_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, @Nullable long[] param1, @Nullable int[] param2, int param3, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, int param2, long param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIJA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, int param2, long param3, @Nullable int[] param4, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, int param2, @Nullable int[] param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIAJ_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, int param2, @Nullable int[] param3, long param4, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, int param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIAA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, int param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, long param2, @Nullable int[] param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJAI_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, long param2, @Nullable int[] param3, int param4, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, @Nullable int[] param2, int param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIAIA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, @Nullable int[] param2, int param3, @Nullable int[] param4, long __functionAddress);
+
+    public static void callPPV(int param0, @Nullable int[] param1, int param2, long param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IAIJI_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, @Nullable int[] param1, int param2, long param3, int param4, long __functionAddress);
+
+    public static void callPPV(int param0, @Nullable int[] param1, int param2, @Nullable int[] param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IAIAI_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, @Nullable int[] param1, int param2, @Nullable int[] param3, int param4, long __functionAddress);
+
+    public static void callPPV(int param0, @Nullable int[] param1, long param2, int param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IAJII_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, param3, param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, @Nullable int[] param1, long param2, int param3, int param4, long __functionAddress);
+
+    public static void callPPV(long param0, int param1, int param2, int param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPV(long param0, int param1, int param2, int param3, @Nullable int[] param4, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, int param2, int param3, @Nullable int[] param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIAJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, int param2, int param3, @Nullable int[] param4, long param5, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, long param2, int param3, int param4, @Nullable float[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, long param2, int param3, int param4, @Nullable float[] param5, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, long param2, int param3, int param4, @Nullable short[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, long param2, int param3, int param4, @Nullable short[] param5, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, @Nullable int[] param2, long param3, int param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIAJII_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, @Nullable int[] param2, long param3, int param4, int param5, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, int param2, long param3, int param4, int param5, @Nullable float[] param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIJIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, int param2, long param3, int param4, int param5, @Nullable float[] param6, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, long param2, int param3, int param4, int param5, @Nullable float[] param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, long param2, int param3, int param4, int param5, @Nullable float[] param6, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, int param2, int param3, long param4, int param5, int param6, @Nullable float[] param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIJIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, int param2, int param3, long param4, int param5, int param6, @Nullable float[] param7, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, int param2, int param3, long param4, int param5, int param6, @Nullable short[] param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIJIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, int param2, int param3, long param4, int param5, int param6, @Nullable short[] param7, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, @Nullable float[] param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, @Nullable float[] param7, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, int param2, long param3, int param4, float param5, float param6, int param7, @Nullable float[] param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIJIFFIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8 == null ? MemorySegment.NULL : MemorySegment.ofArray(param8), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, int param2, long param3, int param4, float param5, float param6, int param7, @Nullable float[] param8, long __functionAddress);
+
+    public static void callPPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, int param7, @Nullable float[] param8, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJIIIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8 == null ? MemorySegment.NULL : MemorySegment.ofArray(param8), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+    private static native void ncallPPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, int param7, @Nullable float[] param8, long __functionAddress);
+
+    public static void callPJPV(long param0, long param1, @Nullable long[] param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPJPV(long param0, long param1, @Nullable long[] param2, long __functionAddress);
+
+    public static void callPPPV(long param0, @Nullable int[] param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JAJ_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, __functionAddress);
+    }
+    private static native void ncallPPPV(long param0, @Nullable int[] param1, long param2, long __functionAddress);
+
+    public static void callPPPV(int param0, long param1, long param2, @Nullable double[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, long param1, long param2, @Nullable double[] param3, long __functionAddress);
+
+    public static void callPPPV(int param0, long param1, long param2, @Nullable float[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, long param1, long param2, @Nullable float[] param3, long __functionAddress);
+
+    public static void callPPPV(int param0, long param1, long param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, long param1, long param2, @Nullable int[] param3, long __functionAddress);
+
+    public static void callPPPV(int param0, long param1, long param2, @Nullable long[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, long param1, long param2, @Nullable long[] param3, long __functionAddress);
+
+    public static void callPPPV(int param0, long param1, long param2, @Nullable short[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJJA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, long param1, long param2, @Nullable short[] param3, long __functionAddress);
+
+    public static void callPPPV(long param0, int param1, @Nullable int[] param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIAJ_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPPV(long param0, int param1, @Nullable int[] param2, long param3, long __functionAddress);
+
+    public static void callPPPV(long param0, int param1, @Nullable long[] param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIAJ_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPPV(long param0, int param1, @Nullable long[] param2, long param3, long __functionAddress);
+
+    public static void callPPPV(long param0, long param1, int param2, @Nullable int[] param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPPV(long param0, long param1, int param2, @Nullable int[] param3, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, long param2, long param3, @Nullable double[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, long param2, long param3, @Nullable double[] param4, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, long param2, long param3, @Nullable float[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, long param2, long param3, @Nullable float[] param4, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, long param2, long param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, long param2, long param3, @Nullable int[] param4, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, long param2, long param3, @Nullable short[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, long param2, long param3, @Nullable short[] param4, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, @Nullable int[] param2, long param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIAJA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, @Nullable int[] param2, long param3, @Nullable int[] param4, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, @Nullable int[] param2, @Nullable int[] param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIAAJ_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, @Nullable int[] param2, @Nullable int[] param3, long param4, long __functionAddress);
+
+    public static void callPPPV(int param0, long param1, int param2, @Nullable int[] param3, long param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJIAJ_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, long param1, int param2, @Nullable int[] param3, long param4, long __functionAddress);
+
+    public static void callPPPV(int param0, long param1, int param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJIAA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, long param1, int param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress);
+
+    public static void callPPPV(int param0, @Nullable int[] param1, @Nullable int[] param2, int param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IAAIA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, @Nullable int[] param1, @Nullable int[] param2, int param3, @Nullable int[] param4, long __functionAddress);
+
+    public static void callPPPV(long param0, int param1, int param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIAA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPV(long param0, int param1, int param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress);
+
+    public static void callPPPV(long param0, int param1, int param2, @Nullable long[] param3, @Nullable long[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIAA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPV(long param0, int param1, int param2, @Nullable long[] param3, @Nullable long[] param4, long __functionAddress);
+
+    public static void callPJPV(long param0, long param1, int param2, int param3, int param4, @Nullable double[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPJPV(long param0, long param1, int param2, int param3, int param4, @Nullable double[] param5, long __functionAddress);
+
+    public static void callPJPV(long param0, long param1, int param2, int param3, int param4, @Nullable float[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPJPV(long param0, long param1, int param2, int param3, int param4, @Nullable float[] param5, long __functionAddress);
+
+    public static void callPJPV(long param0, long param1, int param2, int param3, int param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPJPV(long param0, long param1, int param2, int param3, int param4, @Nullable int[] param5, long __functionAddress);
+
+    public static void callPJPV(long param0, long param1, int param2, int param3, int param4, @Nullable long[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPJPV(long param0, long param1, int param2, int param3, int param4, @Nullable long[] param5, long __functionAddress);
+
+    public static void callPJPV(long param0, long param1, int param2, int param3, int param4, @Nullable short[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJIIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPJPV(long param0, long param1, int param2, int param3, int param4, @Nullable short[] param5, long __functionAddress);
+
+    public static void callPPJV(long param0, int param1, @Nullable long[] param2, int param3, long param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIAIJI_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPJV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPJV(long param0, int param1, @Nullable long[] param2, int param3, long param4, int param5, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, int param2, @Nullable int[] param3, long param4, long param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIAJJ_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4, param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, int param2, @Nullable int[] param3, long param4, long param5, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, int param2, @Nullable int[] param3, long param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIAJA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, int param2, @Nullable int[] param3, long param4, @Nullable int[] param5, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, @Nullable int[] param2, int param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIAIAA_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, @Nullable int[] param2, int param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress);
+
+    public static void callPPPV(int param0, @Nullable int[] param1, int param2, long param3, int param4, @Nullable int[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IAIJIA_V.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, @Nullable int[] param1, int param2, long param3, int param4, @Nullable int[] param5, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, long param2, long param3, int param4, int param5, @Nullable float[] param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, long param2, long param3, int param4, int param5, @Nullable float[] param6, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, long param2, long param3, int param4, int param5, @Nullable int[] param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, long param2, long param3, int param4, int param5, @Nullable int[] param6, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, long param2, long param3, int param4, int param5, @Nullable short[] param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJIIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, long param2, long param3, int param4, int param5, @Nullable short[] param6, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, int param2, int param3, @Nullable int[] param4, int param5, @Nullable int[] param6, @Nullable float[] param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIAIAA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5, param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, int param2, int param3, @Nullable int[] param4, int param5, @Nullable int[] param6, @Nullable float[] param7, long __functionAddress);
+
+    public static void callPPPV(int param0, int param1, int param2, int param3, @Nullable int[] param4, int param5, @Nullable int[] param6, @Nullable int[] param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIIAIAA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5, param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPPPV(int param0, int param1, int param2, int param3, @Nullable int[] param4, int param5, @Nullable int[] param6, @Nullable int[] param7, long __functionAddress);
+
+    public static void callPPPV(long param0, int param1, int param2, int param3, int param4, int param5, @Nullable int[] param6, long param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIIIIAJ_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), param7, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPPPV(long param0, int param1, int param2, int param3, int param4, int param5, @Nullable int[] param6, long param7, long __functionAddress);
+
+    public static void callPJPPV(long param0, long param1, @Nullable int[] param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJAJ_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPJPPV(long param0, long param1, @Nullable int[] param2, long param3, long __functionAddress);
+
+    public static void callPPPPV(long param0, long param1, @Nullable int[] param2, long param3, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJAJ_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+    private static native void ncallPPPPV(long param0, long param1, @Nullable int[] param2, long param3, long __functionAddress);
+
+    public static void callPPPPV(@Nullable long[] param0, @Nullable int[] param1, @Nullable int[] param2, @Nullable int[] param3, int param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_AAAAI_V.HANDLE.invokeExact(param0 == null ? MemorySegment.NULL : MemorySegment.ofArray(param0), param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPPPPV(@Nullable long[] param0, @Nullable int[] param1, @Nullable int[] param2, @Nullable int[] param3, int param4, long __functionAddress);
+
+    public static void callPPPPV(int param0, long param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable int[] param4, int param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IJAAAI_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPPPV(int param0, long param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable int[] param4, int param5, long __functionAddress);
+
+    public static void callPPPPV(long param0, int param1, int param2, @Nullable long[] param3, @Nullable long[] param4, @Nullable long[] param5, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIIAAA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+    private static native void ncallPPPPV(long param0, int param1, int param2, @Nullable long[] param3, @Nullable long[] param4, @Nullable long[] param5, long __functionAddress);
+
+    public static void callPPPPV(int param0, int param1, int param2, @Nullable int[] param3, @Nullable int[] param4, @Nullable int[] param5, long param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIAAAJ_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPPPPV(int param0, int param1, int param2, @Nullable int[] param3, @Nullable int[] param4, @Nullable int[] param5, long param6, long __functionAddress);
+
+    public static void callPPPPV(int param0, int param1, long param2, long param3, @Nullable int[] param4, @Nullable int[] param5, int param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJJAAI_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), param6, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPPPPV(int param0, int param1, long param2, long param3, @Nullable int[] param4, @Nullable int[] param5, int param6, long __functionAddress);
+
+    public static void callPJPPV(long param0, int param1, long param2, int param3, int param4, @Nullable long[] param5, int param6, @Nullable int[] param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIJIIAIA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), param6, param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native void ncallPJPPV(long param0, int param1, long param2, int param3, int param4, @Nullable long[] param5, int param6, @Nullable int[] param7, long __functionAddress);
+
+    public static void callPJJJPV(long param0, long param1, long param2, long param3, @Nullable double[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJJPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPJJJPV(long param0, long param1, long param2, long param3, @Nullable double[] param4, long __functionAddress);
+
+    public static void callPJJJPV(long param0, long param1, long param2, long param3, @Nullable float[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJJPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPJJJPV(long param0, long param1, long param2, long param3, @Nullable float[] param4, long __functionAddress);
+
+    public static void callPJJJPV(long param0, long param1, long param2, long param3, @Nullable int[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJJPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPJJJPV(long param0, long param1, long param2, long param3, @Nullable int[] param4, long __functionAddress);
+
+    public static void callPJJJPV(long param0, long param1, long param2, long param3, @Nullable long[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJJPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPJJJPV(long param0, long param1, long param2, long param3, @Nullable long[] param4, long __functionAddress);
+
+    public static void callPJJJPV(long param0, long param1, long param2, long param3, @Nullable short[] param4, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JJJJA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPJJJPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+    private static native void ncallPJJJPV(long param0, long param1, long param2, long param3, @Nullable short[] param4, long __functionAddress);
+
+    public static void callPPPPPV(int param0, int param1, long param2, @Nullable int[] param3, @Nullable int[] param4, @Nullable int[] param5, @Nullable int[] param6, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIJAAAA_V.HANDLE.invokeExact(param0, param1, param2, param3 == null ? MemorySegment.NULL : MemorySegment.ofArray(param3), param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+    private static native void ncallPPPPPV(int param0, int param1, long param2, @Nullable int[] param3, @Nullable int[] param4, @Nullable int[] param5, @Nullable int[] param6, long __functionAddress);
+
+    public static void callPPPPPV(long param0, int param1, @Nullable long[] param2, int param3, int param4, int param5, long param6, int param7, long param8, int param9, long param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_JIAIIIJIJIJ_V.HANDLE.invokeExact(param0, param1, param2 == null ? MemorySegment.NULL : MemorySegment.ofArray(param2), param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native void ncallPPPPPV(long param0, int param1, @Nullable long[] param2, int param3, int param4, int param5, long param6, int param7, long param8, int param9, long param10, long __functionAddress);
+
+    public static void callPPPPPPPV(int param0, int param1, int param2, long param3, int param4, long param5, @Nullable int[] param6, @Nullable int[] param7, @Nullable int[] param8, @Nullable int[] param9, @Nullable long[] param10, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                H_IIIJIJAAAAA_V.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), param8 == null ? MemorySegment.NULL : MemorySegment.ofArray(param8), param9 == null ? MemorySegment.NULL : MemorySegment.ofArray(param9), param10 == null ? MemorySegment.NULL : MemorySegment.ofArray(param10), __functionAddress);
+                return;
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        ncallPPPPPPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+    private static native void ncallPPPPPPPV(int param0, int param1, int param2, long param3, int param4, long param5, @Nullable int[] param6, @Nullable int[] param7, @Nullable int[] param8, @Nullable int[] param9, @Nullable long[] param10, long __functionAddress);
+
+    public static boolean callPPZ(int param0, @Nullable int[] param1, long param2, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_IAJ_Z.HANDLE.invokeExact(param0, param1 == null ? MemorySegment.NULL : MemorySegment.ofArray(param1), param2, __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPZ(param0, param1, param2, __functionAddress);
+    }
+    private static native boolean ncallPPZ(int param0, @Nullable int[] param1, long param2, long __functionAddress);
+
+    public static boolean callPPPPZ(int param0, int param1, int param2, float param3, @Nullable float[] param4, @Nullable float[] param5, @Nullable float[] param6, @Nullable float[] param7, long __functionAddress) {
+        if (FOREIGN) {
+            try {
+                return (boolean)H_IIIFAAAA_Z.HANDLE.invokeExact(param0, param1, param2, param3, param4 == null ? MemorySegment.NULL : MemorySegment.ofArray(param4), param5 == null ? MemorySegment.NULL : MemorySegment.ofArray(param5), param6 == null ? MemorySegment.NULL : MemorySegment.ofArray(param6), param7 == null ? MemorySegment.NULL : MemorySegment.ofArray(param7), __functionAddress);
+            } catch (Throwable t) {
+                throw ForeignDispatch.rethrow(t);
+            }
+        }
+        return ncallPPPPZ(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+    private static native boolean ncallPPPPZ(int param0, int param1, int param2, float param3, @Nullable float[] param4, @Nullable float[] param5, @Nullable float[] param6, @Nullable float[] param7, long __functionAddress);
+
+    // Downcall handles, one per native function descriptor
+
+    private static final class H_AAAAI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("AAAAI_V"); }
+    private static final class H_AAA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("AAA_V"); }
+    private static final class H_AA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("AA_V"); }
+    private static final class H_AIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("AIA_V"); }
+    private static final class H_AIJJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("AIJJI_V"); }
+    private static final class H_AI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("AI_I"); }
+    private static final class H_AI_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("AI_J"); }
+    private static final class H_AJA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("AJA_I"); }
+    private static final class H_AJJSF_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("AJJSF_S"); }
+    private static final class H_AJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("AJ_I"); }
+    private static final class H_AS_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("AS_I"); }
+    private static final class H_AZIJJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("AZIJJI_V"); }
+    private static final class H_A_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("A_I"); }
+    private static final class H_A_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("A_J"); }
+    private static final class H_A_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("A_V"); }
+    private static final class H_BAZ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("BAZ_S"); }
+    private static final class H_BA_B { static final MethodHandle HANDLE = ForeignDispatch.downcall("BA_B"); }
+    private static final class H_BA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("BA_V"); }
+    private static final class H_BBBB_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("BBBB_V"); }
+    private static final class H_BBB_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("BBB_V"); }
+    private static final class H_BI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("BI_V"); }
+    private static final class H_BJII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("BJII_V"); }
+    private static final class H_BJZ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("BJZ_S"); }
+    private static final class H_BJ_B { static final MethodHandle HANDLE = ForeignDispatch.downcall("BJ_B"); }
+    private static final class H_BJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("BJ_V"); }
+    private static final class H_BSBII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("BSBII_V"); }
+    private static final class H_BSII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("BSII_V"); }
+    private static final class H_BSI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("BSI_V"); }
+    private static final class H_BSSI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("BSSI_V"); }
+    private static final class H_BZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("BZ_V"); }
+    private static final class H_B_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("B_V"); }
+    private static final class H_DDDDDD_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("DDDDDD_V"); }
+    private static final class H_DDDD_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("DDDD_V"); }
+    private static final class H_DDD_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("DDD_V"); }
+    private static final class H_DD_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("DD_V"); }
+    private static final class H_D_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("D_V"); }
+    private static final class H_FFFFFFFF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("FFFFFFFF_V"); }
+    private static final class H_FFFFFZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("FFFFFZ_V"); }
+    private static final class H_FFFF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("FFFF_V"); }
+    private static final class H_FFF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("FFF_V"); }
+    private static final class H_FF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("FF_V"); }
+    private static final class H_FZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("FZ_V"); }
+    private static final class H_F_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("F_V"); }
+    private static final class H_IAAA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IAAA_V"); }
+    private static final class H_IAAIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IAAIA_V"); }
+    private static final class H_IAAI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IAAI_V"); }
+    private static final class H_IAA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IAA_V"); }
+    private static final class H_IAIAAJIAIZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IAIAAJIAIZ_V"); }
+    private static final class H_IAIAIZ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IAIAIZ_I"); }
+    private static final class H_IAIAI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IAIAI_V"); }
+    private static final class H_IAII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IAII_V"); }
+    private static final class H_IAIJIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IAIJIA_V"); }
+    private static final class H_IAIJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IAIJI_V"); }
+    private static final class H_IAI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IAI_I"); }
+    private static final class H_IAI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IAI_V"); }
+    private static final class H_IAJII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IAJII_V"); }
+    private static final class H_IAJ_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("IAJ_Z"); }
+    private static final class H_IA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IA_I"); }
+    private static final class H_IA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IA_V"); }
+    private static final class H_IBBBB_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IBBBB_V"); }
+    private static final class H_IDDDDDD_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IDDDDDD_V"); }
+    private static final class H_IDDDD_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IDDDD_V"); }
+    private static final class H_IDDD_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IDDD_V"); }
+    private static final class H_IDDIDD_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IDDIDD_V"); }
+    private static final class H_IDDIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IDDIIA_V"); }
+    private static final class H_IDDIIDDIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IDDIIDDIIA_V"); }
+    private static final class H_IDDIIDDIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IDDIIDDIIJ_V"); }
+    private static final class H_IDDIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IDDIIJ_V"); }
+    private static final class H_IDD_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IDD_V"); }
+    private static final class H_ID_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("ID_V"); }
+    private static final class H_IFFFF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IFFFF_V"); }
+    private static final class H_IFFF_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("IFFF_J"); }
+    private static final class H_IFFF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IFFF_V"); }
+    private static final class H_IFFIFF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IFFIFF_V"); }
+    private static final class H_IFFIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IFFIIA_V"); }
+    private static final class H_IFFIIFFIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IFFIIFFIIA_V"); }
+    private static final class H_IFFIIFFIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IFFIIFFIIJ_V"); }
+    private static final class H_IFFIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IFFIIJ_V"); }
+    private static final class H_IFFJ_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("IFFJ_Z"); }
+    private static final class H_IFF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IFF_V"); }
+    private static final class H_IFF_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("IFF_Z"); }
+    private static final class H_IFJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IFJI_V"); }
+    private static final class H_IF_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IF_I"); }
+    private static final class H_IF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IF_V"); }
+    private static final class H_IIAAAAAJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIAAAAAJ_I"); }
+    private static final class H_IIAAAAJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIAAAAJ_I"); }
+    private static final class H_IIAAA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIAAA_V"); }
+    private static final class H_IIAAJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIAAJ_V"); }
+    private static final class H_IIAA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIAA_V"); }
+    private static final class H_IIAIAA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIAIAA_V"); }
+    private static final class H_IIAIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIAIA_V"); }
+    private static final class H_IIAIIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIAIIII_V"); }
+    private static final class H_IIAII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIAII_V"); }
+    private static final class H_IIAI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIAI_V"); }
+    private static final class H_IIAJA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIAJA_V"); }
+    private static final class H_IIAJII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIAJII_V"); }
+    private static final class H_IIAJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIAJ_V"); }
+    private static final class H_IIA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIA_I"); }
+    private static final class H_IIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIA_V"); }
+    private static final class H_IIDDDD_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIDDDD_V"); }
+    private static final class H_IIDDD_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIDDD_V"); }
+    private static final class H_IIDD_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIDD_V"); }
+    private static final class H_IID_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IID_V"); }
+    private static final class H_IIFFFFFFFFF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIFFFFFFFFF_V"); }
+    private static final class H_IIFFFFJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIFFFFJ_V"); }
+    private static final class H_IIFFFF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIFFFF_V"); }
+    private static final class H_IIFFF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIFFF_V"); }
+    private static final class H_IIFF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIFF_V"); }
+    private static final class H_IIFF_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIFF_Z"); }
+    private static final class H_IIFI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIFI_V"); }
+    private static final class H_IIF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIF_V"); }
+    private static final class H_IIIAAAJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIAAAJ_V"); }
+    private static final class H_IIIAA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIAA_J"); }
+    private static final class H_IIIAA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIAA_V"); }
+    private static final class H_IIIAJA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIAJA_V"); }
+    private static final class H_IIIAJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIAJJ_V"); }
+    private static final class H_IIIAJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIAJ_V"); }
+    private static final class H_IIIAZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIAZ_V"); }
+    private static final class H_IIIA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIA_I"); }
+    private static final class H_IIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIA_V"); }
+    private static final class H_IIIDDDD_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIDDDD_V"); }
+    private static final class H_IIID_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIID_V"); }
+    private static final class H_IIIFAAAA_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIFAAAA_Z"); }
+    private static final class H_IIIFFFFF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIFFFFF_V"); }
+    private static final class H_IIIFFFF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIFFFF_V"); }
+    private static final class H_IIIFFJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIFFJ_I"); }
+    private static final class H_IIIFI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIFI_V"); }
+    private static final class H_IIIFJJJJ_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIFJJJJ_Z"); }
+    private static final class H_IIIF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIF_V"); }
+    private static final class H_IIIIAIAA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIAIAA_V"); }
+    private static final class H_IIIIAJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIAJ_V"); }
+    private static final class H_IIIIAZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIAZ_V"); }
+    private static final class H_IIIIA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIA_I"); }
+    private static final class H_IIIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIA_V"); }
+    private static final class H_IIIIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIA_V"); }
+    private static final class H_IIIIIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIA_V"); }
+    private static final class H_IIIIIIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIIA_V"); }
+    private static final class H_IIIIIIIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIIIA_V"); }
+    private static final class H_IIIIIIIIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIIIIA_V"); }
+    private static final class H_IIIIIIIIIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIIIIIA_V"); }
+    private static final class H_IIIIIIIIIIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIIIIIIA_V"); }
+    private static final class H_IIIIIIIIIIIIIIIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIIIIIIIIIIII_V"); }
+    private static final class H_IIIIIIIIIIIIIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIIIIIIIIII_V"); }
+    private static final class H_IIIIIIIIIIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIIIIIII_V"); }
+    private static final class H_IIIIIIIIIIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIIIIIIJ_V"); }
+    private static final class H_IIIIIIIIIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIIIIIJ_V"); }
+    private static final class H_IIIIIIIIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIIIII_V"); }
+    private static final class H_IIIIIIIIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIIIIJ_V"); }
+    private static final class H_IIIIIIIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIIII_V"); }
+    private static final class H_IIIIIIIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIIIJ_V"); }
+    private static final class H_IIIIIIIIZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIIIZ_V"); }
+    private static final class H_IIIIIIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIII_V"); }
+    private static final class H_IIIIIIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIIJ_V"); }
+    private static final class H_IIIIIIIZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIIZ_V"); }
+    private static final class H_IIIIIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIII_V"); }
+    private static final class H_IIIIIIJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIJJ_V"); }
+    private static final class H_IIIIIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIJ_V"); }
+    private static final class H_IIIIIIZIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIZIJ_V"); }
+    private static final class H_IIIIIIZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIIZ_V"); }
+    private static final class H_IIIIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIII_V"); }
+    private static final class H_IIIIIJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIJI_V"); }
+    private static final class H_IIIIIJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIJJ_V"); }
+    private static final class H_IIIIIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIJ_I"); }
+    private static final class H_IIIIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIJ_V"); }
+    private static final class H_IIIIIZIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIZIJ_V"); }
+    private static final class H_IIIIIZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIIZ_V"); }
+    private static final class H_IIIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIII_V"); }
+    private static final class H_IIIIJIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIJIIA_V"); }
+    private static final class H_IIIIJIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIJIIJ_V"); }
+    private static final class H_IIIIJIJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIJIJJ_V"); }
+    private static final class H_IIIIJIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIJIJ_J"); }
+    private static final class H_IIIIJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIJJJ_V"); }
+    private static final class H_IIIIJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIJJ_J"); }
+    private static final class H_IIIIJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIJJ_V"); }
+    private static final class H_IIIIJZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIJZ_V"); }
+    private static final class H_IIIIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIJ_I"); }
+    private static final class H_IIIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIJ_V"); }
+    private static final class H_IIIIZI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIIZI_V"); }
+    private static final class H_IIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIII_V"); }
+    private static final class H_IIIJA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJA_V"); }
+    private static final class H_IIIJIFFIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJIFFIA_V"); }
+    private static final class H_IIIJIFFIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJIFFIJ_V"); }
+    private static final class H_IIIJIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJIIA_V"); }
+    private static final class H_IIIJIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJIII_V"); }
+    private static final class H_IIIJIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJIIJ_V"); }
+    private static final class H_IIIJII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJII_V"); }
+    private static final class H_IIIJIJAAAAA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJIJAAAAA_V"); }
+    private static final class H_IIIJIJJJJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJIJJJJJJ_V"); }
+    private static final class H_IIIJIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJIJ_I"); }
+    private static final class H_IIIJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJI_V"); }
+    private static final class H_IIIJJIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJJIJ_J"); }
+    private static final class H_IIIJJJIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJJJIJ_J"); }
+    private static final class H_IIIJJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJJJJ_V"); }
+    private static final class H_IIIJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJJJ_V"); }
+    private static final class H_IIIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJJ_I"); }
+    private static final class H_IIIJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJJ_J"); }
+    private static final class H_IIIJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJJ_V"); }
+    private static final class H_IIIJZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJZ_V"); }
+    private static final class H_IIIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJ_I"); }
+    private static final class H_IIIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJ_J"); }
+    private static final class H_IIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIJ_V"); }
+    private static final class H_IIIZA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIZA_V"); }
+    private static final class H_IIIZIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIZIA_V"); }
+    private static final class H_IIIZIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIZIII_V"); }
+    private static final class H_IIIZIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIZIJ_V"); }
+    private static final class H_IIIZI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIZI_V"); }
+    private static final class H_IIIZJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIZJ_V"); }
+    private static final class H_IIIZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIIZ_V"); }
+    private static final class H_III_F { static final MethodHandle HANDLE = ForeignDispatch.downcall("III_F"); }
+    private static final class H_III_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("III_I"); }
+    private static final class H_III_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("III_V"); }
+    private static final class H_IIJAAAA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJAAAA_V"); }
+    private static final class H_IIJAI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJAI_V"); }
+    private static final class H_IIJA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJA_V"); }
+    private static final class H_IIJIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJIIA_V"); }
+    private static final class H_IIJIIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJIIIA_V"); }
+    private static final class H_IIJIIIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJIIIIA_V"); }
+    private static final class H_IIJIIIIF_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJIIIIF_I"); }
+    private static final class H_IIJIIIIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJIIIIIA_V"); }
+    private static final class H_IIJIIIIIF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJIIIIIF_V"); }
+    private static final class H_IIJIIIIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJIIIIIJ_V"); }
+    private static final class H_IIJIIIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJIIIIJ_V"); }
+    private static final class H_IIJIIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJIIII_V"); }
+    private static final class H_IIJIIIJIIF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJIIIJIIF_V"); }
+    private static final class H_IIJIIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJIIIJ_V"); }
+    private static final class H_IIJIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJIII_V"); }
+    private static final class H_IIJIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJIIJ_V"); }
+    private static final class H_IIJII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJII_V"); }
+    private static final class H_IIJIJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJIJJ_V"); }
+    private static final class H_IIJIJZJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJIJZJ_I"); }
+    private static final class H_IIJIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJIJ_I"); }
+    private static final class H_IIJIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJIJ_V"); }
+    private static final class H_IIJIJ_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJIJ_Z"); }
+    private static final class H_IIJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJI_V"); }
+    private static final class H_IIJJAAI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJAAI_V"); }
+    private static final class H_IIJJA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJA_V"); }
+    private static final class H_IIJJIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJIIA_V"); }
+    private static final class H_IIJJIIIIF_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJIIIIF_I"); }
+    private static final class H_IIJJIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJIII_V"); }
+    private static final class H_IIJJIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJIIJ_V"); }
+    private static final class H_IIJJII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJII_V"); }
+    private static final class H_IIJJIJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJIJJJ_I"); }
+    private static final class H_IIJJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJI_V"); }
+    private static final class H_IIJJJJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJJJI_V"); }
+    private static final class H_IIJJJJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJJJJJ_I"); }
+    private static final class H_IIJJJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJJJJ_I"); }
+    private static final class H_IIJJJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJJJJ_V"); }
+    private static final class H_IIJJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJJJ_V"); }
+    private static final class H_IIJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJJ_I"); }
+    private static final class H_IIJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJJ_J"); }
+    private static final class H_IIJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJJ_V"); }
+    private static final class H_IIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJ_I"); }
+    private static final class H_IIJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJJ_V"); }
+    private static final class H_IIJ_F { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJ_F"); }
+    private static final class H_IIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJ_I"); }
+    private static final class H_IIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJ_J"); }
+    private static final class H_IIJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJ_S"); }
+    private static final class H_IIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJ_V"); }
+    private static final class H_IIJ_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIJ_Z"); }
+    private static final class H_IIS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIS_V"); }
+    private static final class H_IIZA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIZA_V"); }
+    private static final class H_IIZII_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIZII_J"); }
+    private static final class H_IIZI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIZI_V"); }
+    private static final class H_IIZJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIZJ_V"); }
+    private static final class H_IIZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IIZ_V"); }
+    private static final class H_II_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("II_I"); }
+    private static final class H_II_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("II_J"); }
+    private static final class H_II_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("II_V"); }
+    private static final class H_II_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("II_Z"); }
+    private static final class H_IJAAAI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJAAAI_V"); }
+    private static final class H_IJAI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJAI_V"); }
+    private static final class H_IJA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJA_I"); }
+    private static final class H_IJA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJA_J"); }
+    private static final class H_IJA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJA_V"); }
+    private static final class H_IJIAAJIJIZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJIAAJIJIZ_V"); }
+    private static final class H_IJIAA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJIAA_V"); }
+    private static final class H_IJIAJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJIAJ_V"); }
+    private static final class H_IJIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJIA_V"); }
+    private static final class H_IJIIFI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJIIFI_I"); }
+    private static final class H_IJIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJIII_V"); }
+    private static final class H_IJII_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJII_I"); }
+    private static final class H_IJII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJII_V"); }
+    private static final class H_IJIJIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJIJIJ_V"); }
+    private static final class H_IJIJIZ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJIJIZ_I"); }
+    private static final class H_IJIJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJIJI_V"); }
+    private static final class H_IJIJJJIJIZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJIJJJIJIZ_V"); }
+    private static final class H_IJIJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJIJJJ_V"); }
+    private static final class H_IJIJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJIJJ_V"); }
+    private static final class H_IJIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJIJ_V"); }
+    private static final class H_IJIJ_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJIJ_Z"); }
+    private static final class H_IJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJI_I"); }
+    private static final class H_IJI_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJI_J"); }
+    private static final class H_IJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJI_V"); }
+    private static final class H_IJI_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJI_Z"); }
+    private static final class H_IJJA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJA_V"); }
+    private static final class H_IJJIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJIII_V"); }
+    private static final class H_IJJII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJII_V"); }
+    private static final class H_IJJIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJIJ_V"); }
+    private static final class H_IJJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJI_I"); }
+    private static final class H_IJJI_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJI_J"); }
+    private static final class H_IJJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJI_V"); }
+    private static final class H_IJJJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJJI_V"); }
+    private static final class H_IJJJJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJJJI_V"); }
+    private static final class H_IJJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJJJ_J"); }
+    private static final class H_IJJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJJJ_V"); }
+    private static final class H_IJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJJ_I"); }
+    private static final class H_IJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJJ_J"); }
+    private static final class H_IJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJJ_V"); }
+    private static final class H_IJJZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJZ_V"); }
+    private static final class H_IJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJ_I"); }
+    private static final class H_IJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJ_J"); }
+    private static final class H_IJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJ_V"); }
+    private static final class H_IJJ_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJJ_Z"); }
+    private static final class H_IJS_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJS_S"); }
+    private static final class H_IJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJ_I"); }
+    private static final class H_IJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJ_J"); }
+    private static final class H_IJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJ_V"); }
+    private static final class H_IJ_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("IJ_Z"); }
+    private static final class H_ISJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("ISJ_J"); }
+    private static final class H_ISSSS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("ISSSS_V"); }
+    private static final class H_ISSS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("ISSS_V"); }
+    private static final class H_ISS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("ISS_V"); }
+    private static final class H_IS_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("IS_I"); }
+    private static final class H_IS_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("IS_S"); }
+    private static final class H_IS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IS_V"); }
+    private static final class H_IZIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IZIIA_V"); }
+    private static final class H_IZIIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IZIIIJ_V"); }
+    private static final class H_IZIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IZIIJ_V"); }
+    private static final class H_IZSIJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("IZSIJ_S"); }
+    private static final class H_IZZZZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IZZZZ_V"); }
+    private static final class H_IZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("IZ_V"); }
+    private static final class H_I_D { static final MethodHandle HANDLE = ForeignDispatch.downcall("I_D"); }
+    private static final class H_I_F { static final MethodHandle HANDLE = ForeignDispatch.downcall("I_F"); }
+    private static final class H_I_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("I_I"); }
+    private static final class H_I_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("I_J"); }
+    private static final class H_I_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("I_S"); }
+    private static final class H_I_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("I_V"); }
+    private static final class H_I_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("I_Z"); }
+    private static final class H_JAAAAA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JAAAAA_I"); }
+    private static final class H_JAAAA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JAAAA_V"); }
+    private static final class H_JAAAJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JAAAJ_I"); }
+    private static final class H_JAAIAA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JAAIAA_I"); }
+    private static final class H_JAA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JAA_I"); }
+    private static final class H_JAA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JAA_J"); }
+    private static final class H_JAA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JAA_V"); }
+    private static final class H_JAIJA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JAIJA_I"); }
+    private static final class H_JAI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JAI_V"); }
+    private static final class H_JAJIA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JAJIA_I"); }
+    private static final class H_JAJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JAJ_I"); }
+    private static final class H_JAJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JAJ_V"); }
+    private static final class H_JAS_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JAS_I"); }
+    private static final class H_JA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JA_I"); }
+    private static final class H_JA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JA_J"); }
+    private static final class H_JA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JA_V"); }
+    private static final class H_JA_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("JA_Z"); }
+    private static final class H_JBJIIS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JBJIIS_V"); }
+    private static final class H_JBJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JBJJ_I"); }
+    private static final class H_JBJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JBJ_I"); }
+    private static final class H_JBSBII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JBSBII_V"); }
+    private static final class H_JBSIIS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JBSIIS_V"); }
+    private static final class H_JBSI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JBSI_V"); }
+    private static final class H_JBSSI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JBSSI_V"); }
+    private static final class H_JB_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JB_J"); }
+    private static final class H_JDD_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JDD_V"); }
+    private static final class H_JD_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JD_J"); }
+    private static final class H_JFFFFJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JFFFFJ_I"); }
+    private static final class H_JFFF_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JFFF_I"); }
+    private static final class H_JFFF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JFFF_V"); }
+    private static final class H_JFF_F { static final MethodHandle HANDLE = ForeignDispatch.downcall("JFF_F"); }
+    private static final class H_JFF_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JFF_I"); }
+    private static final class H_JFF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JFF_V"); }
+    private static final class H_JFIFI_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JFIFI_J"); }
+    private static final class H_JFJII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JFJII_V"); }
+    private static final class H_JFJI_F { static final MethodHandle HANDLE = ForeignDispatch.downcall("JFJI_F"); }
+    private static final class H_JF_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JF_I"); }
+    private static final class H_JF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JF_V"); }
+    private static final class H_JIAA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIAA_I"); }
+    private static final class H_JIAIIIJIJIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIAIIIJIJIJ_V"); }
+    private static final class H_JIAIJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIAIJI_V"); }
+    private static final class H_JIAIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIAIJ_I"); }
+    private static final class H_JIAJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIAJ_J"); }
+    private static final class H_JIAJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIAJ_V"); }
+    private static final class H_JIA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIA_I"); }
+    private static final class H_JIA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIA_J"); }
+    private static final class H_JIBIZZ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIBIZZ_J"); }
+    private static final class H_JIFFFFFFFFF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIFFFFFFFFF_V"); }
+    private static final class H_JIFJIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIFJIJ_I"); }
+    private static final class H_JIFJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIFJ_V"); }
+    private static final class H_JIF_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIF_I"); }
+    private static final class H_JIIAAA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIAAA_I"); }
+    private static final class H_JIIAAA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIAAA_V"); }
+    private static final class H_JIIAA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIAA_V"); }
+    private static final class H_JIIA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIA_I"); }
+    private static final class H_JIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIA_V"); }
+    private static final class H_JIIIAA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIAA_I"); }
+    private static final class H_JIIIA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIA_J"); }
+    private static final class H_JIIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIA_V"); }
+    private static final class H_JIIIIIAJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIIIAJ_V"); }
+    private static final class H_JIIIIIIIIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIIIIIIII_V"); }
+    private static final class H_JIIIIIIIJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIIIIIJJJ_I"); }
+    private static final class H_JIIIIIIIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIIIIIJJ_I"); }
+    private static final class H_JIIIIIIJIIIIIIIII_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIIIIJIIIIIIIII_I"); }
+    private static final class H_JIIIIIIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIIIIJ_I"); }
+    private static final class H_JIIIIII_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIIII_I"); }
+    private static final class H_JIIIIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIIII_V"); }
+    private static final class H_JIIIIIJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIIIJJ_V"); }
+    private static final class H_JIIIIIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIIIJ_I"); }
+    private static final class H_JIIIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIII_V"); }
+    private static final class H_JIIIIJIJIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIIJIJIJ_V"); }
+    private static final class H_JIIIIJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIIJI_I"); }
+    private static final class H_JIIIIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIIJ_I"); }
+    private static final class H_JIIIIZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIIZ_V"); }
+    private static final class H_JIIII_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIII_I"); }
+    private static final class H_JIIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIII_V"); }
+    private static final class H_JIIIJJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIJJI_I"); }
+    private static final class H_JIIIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIJJ_I"); }
+    private static final class H_JIIIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIJ_I"); }
+    private static final class H_JIIIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIJ_J"); }
+    private static final class H_JIIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIIJ_V"); }
+    private static final class H_JIII_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIII_I"); }
+    private static final class H_JIII_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIII_J"); }
+    private static final class H_JIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIII_V"); }
+    private static final class H_JIII_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIII_Z"); }
+    private static final class H_JIIJAAAAAA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIJAAAAAA_I"); }
+    private static final class H_JIIJAJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIJAJ_I"); }
+    private static final class H_JIIJIJZJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIJIJZJ_I"); }
+    private static final class H_JIIJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIJI_I"); }
+    private static final class H_JIIJJII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIJJII_V"); }
+    private static final class H_JIIJJIJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIJJIJJ_V"); }
+    private static final class H_JIIJJJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIJJJI_I"); }
+    private static final class H_JIIJJJJJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIJJJJJJJ_I"); }
+    private static final class H_JIIJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIJJJ_I"); }
+    private static final class H_JIIJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIJJJ_V"); }
+    private static final class H_JIIJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIJJ_J"); }
+    private static final class H_JIIJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIJJ_V"); }
+    private static final class H_JIIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIJ_I"); }
+    private static final class H_JIIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIJ_J"); }
+    private static final class H_JIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIIJ_V"); }
+    private static final class H_JII_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JII_I"); }
+    private static final class H_JII_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JII_J"); }
+    private static final class H_JII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JII_V"); }
+    private static final class H_JIJAA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJAA_I"); }
+    private static final class H_JIJAJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJAJJ_V"); }
+    private static final class H_JIJAJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJAJ_I"); }
+    private static final class H_JIJA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJA_I"); }
+    private static final class H_JIJF_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJF_I"); }
+    private static final class H_JIJIIAIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJIIAIA_V"); }
+    private static final class H_JIJIIIJIJIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJIIIJIJIJ_V"); }
+    private static final class H_JIJIIJA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJIIJA_I"); }
+    private static final class H_JIJIIJIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJIIJIJ_V"); }
+    private static final class H_JIJIIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJIIJJ_I"); }
+    private static final class H_JIJIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJIIJ_V"); }
+    private static final class H_JIJIJIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJIJIJJ_I"); }
+    private static final class H_JIJIJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJIJI_I"); }
+    private static final class H_JIJIJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJIJI_V"); }
+    private static final class H_JIJIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJIJJ_I"); }
+    private static final class H_JIJIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJIJ_I"); }
+    private static final class H_JIJIJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJIJ_S"); }
+    private static final class H_JIJIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJIJ_V"); }
+    private static final class H_JIJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJI_I"); }
+    private static final class H_JIJI_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJI_J"); }
+    private static final class H_JIJI_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJI_S"); }
+    private static final class H_JIJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJI_V"); }
+    private static final class H_JIJJA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJA_I"); }
+    private static final class H_JIJJA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJA_J"); }
+    private static final class H_JIJJII_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJII_J"); }
+    private static final class H_JIJJIJJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJIJJJJ_I"); }
+    private static final class H_JIJJIJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJIJJJ_J"); }
+    private static final class H_JIJJIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJIJJ_I"); }
+    private static final class H_JIJJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJI_I"); }
+    private static final class H_JIJJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJI_V"); }
+    private static final class H_JIJJJAA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJJAA_J"); }
+    private static final class H_JIJJJA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJJA_J"); }
+    private static final class H_JIJJJIJJIJJIIII_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJJIJJIJJIIII_J"); }
+    private static final class H_JIJJJIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJJIJJ_I"); }
+    private static final class H_JIJJJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJJI_I"); }
+    private static final class H_JIJJJJIIJIIJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJJJIIJIIJJ_J"); }
+    private static final class H_JIJJJJIIJIJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJJJIIJIJJ_J"); }
+    private static final class H_JIJJJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJJJJ_J"); }
+    private static final class H_JIJJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJJJ_I"); }
+    private static final class H_JIJJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJJJ_J"); }
+    private static final class H_JIJJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJJJ_V"); }
+    private static final class H_JIJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJJ_I"); }
+    private static final class H_JIJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJJ_J"); }
+    private static final class H_JIJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJJ_V"); }
+    private static final class H_JIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJ_I"); }
+    private static final class H_JIJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJ_J"); }
+    private static final class H_JIJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJJ_V"); }
+    private static final class H_JIJ_F { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJ_F"); }
+    private static final class H_JIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJ_I"); }
+    private static final class H_JIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJ_J"); }
+    private static final class H_JIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJ_V"); }
+    private static final class H_JIJ_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIJ_Z"); }
+    private static final class H_JIS_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIS_S"); }
+    private static final class H_JIS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIS_V"); }
+    private static final class H_JIZ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JIZ_I"); }
+    private static final class H_JI_F { static final MethodHandle HANDLE = ForeignDispatch.downcall("JI_F"); }
+    private static final class H_JI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JI_I"); }
+    private static final class H_JI_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JI_J"); }
+    private static final class H_JI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JI_V"); }
+    private static final class H_JI_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("JI_Z"); }
+    private static final class H_JJAAA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJAAA_I"); }
+    private static final class H_JJAA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJAA_I"); }
+    private static final class H_JJAA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJAA_J"); }
+    private static final class H_JJAIA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJAIA_J"); }
+    private static final class H_JJAI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJAI_I"); }
+    private static final class H_JJAJJIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJAJJIJJ_I"); }
+    private static final class H_JJAJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJAJ_I"); }
+    private static final class H_JJAJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJAJ_V"); }
+    private static final class H_JJA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJA_I"); }
+    private static final class H_JJA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJA_J"); }
+    private static final class H_JJA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJA_V"); }
+    private static final class H_JJBJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJBJJJ_I"); }
+    private static final class H_JJBJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJBJJ_I"); }
+    private static final class H_JJBJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJBJ_S"); }
+    private static final class H_JJB_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJB_J"); }
+    private static final class H_JJFJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJFJ_V"); }
+    private static final class H_JJF_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJF_I"); }
+    private static final class H_JJF_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJF_V"); }
+    private static final class H_JJIAA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIAA_I"); }
+    private static final class H_JJIA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIA_I"); }
+    private static final class H_JJIA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIA_J"); }
+    private static final class H_JJIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIA_V"); }
+    private static final class H_JJIB_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIB_J"); }
+    private static final class H_JJIIAA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIAA_I"); }
+    private static final class H_JJIIAA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIAA_J"); }
+    private static final class H_JJIIA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIA_J"); }
+    private static final class H_JJIIIA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIIA_J"); }
+    private static final class H_JJIIIA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIIA_V"); }
+    private static final class H_JJIIIIIIIJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIIIIIIJJJ_J"); }
+    private static final class H_JJIIIIIIJIIIIIIIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIIIIIJIIIIIIIII_V"); }
+    private static final class H_JJIIIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIIII_V"); }
+    private static final class H_JJIIIIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIIIJ_I"); }
+    private static final class H_JJIIII_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIII_I"); }
+    private static final class H_JJIIIJIZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIIJIZ_V"); }
+    private static final class H_JJIIIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIIJ_I"); }
+    private static final class H_JJIIIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIIJ_J"); }
+    private static final class H_JJIIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIIJ_V"); }
+    private static final class H_JJIII_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIII_I"); }
+    private static final class H_JJIII_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIII_J"); }
+    private static final class H_JJIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIII_V"); }
+    private static final class H_JJIIJAJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIJAJI_I"); }
+    private static final class H_JJIIJA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIJA_I"); }
+    private static final class H_JJIIJII_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIJII_J"); }
+    private static final class H_JJIIJI_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIJI_J"); }
+    private static final class H_JJIIJJJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIJJJI_I"); }
+    private static final class H_JJIIJJJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIJJJI_V"); }
+    private static final class H_JJIIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIJJ_I"); }
+    private static final class H_JJIIJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIJJ_J"); }
+    private static final class H_JJIIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIJ_I"); }
+    private static final class H_JJIIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIIJ_J"); }
+    private static final class H_JJII_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJII_I"); }
+    private static final class H_JJII_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJII_J"); }
+    private static final class H_JJII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJII_V"); }
+    private static final class H_JJIJAJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJAJ_I"); }
+    private static final class H_JJIJA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJA_I"); }
+    private static final class H_JJIJA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJA_J"); }
+    private static final class H_JJIJIIJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJIIJI_V"); }
+    private static final class H_JJIJIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJIIJ_V"); }
+    private static final class H_JJIJII_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJII_I"); }
+    private static final class H_JJIJIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJIJJ_I"); }
+    private static final class H_JJIJIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJIJ_J"); }
+    private static final class H_JJIJIJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJIJ_S"); }
+    private static final class H_JJIJIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJIJ_V"); }
+    private static final class H_JJIJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJI_I"); }
+    private static final class H_JJIJI_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJI_J"); }
+    private static final class H_JJIJI_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJI_Z"); }
+    private static final class H_JJIJJAIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJJAIJJ_I"); }
+    private static final class H_JJIJJA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJJA_I"); }
+    private static final class H_JJIJJI_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJJI_J"); }
+    private static final class H_JJIJJJIJJA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJJJIJJA_J"); }
+    private static final class H_JJIJJJIJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJJJIJJJ_J"); }
+    private static final class H_JJIJJJIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJJJIJJ_I"); }
+    private static final class H_JJIJJJJAIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJJJJAIJJ_I"); }
+    private static final class H_JJIJJJJJIJJA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJJJJJIJJA_J"); }
+    private static final class H_JJIJJJJJIJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJJJJJIJJJ_J"); }
+    private static final class H_JJIJJJJJIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJJJJJIJJ_I"); }
+    private static final class H_JJIJJJJJJJAIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJJJJJJJAIJJ_I"); }
+    private static final class H_JJIJJJJJJJJIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJJJJJJJJIJJ_I"); }
+    private static final class H_JJIJJJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJJJJJ_I"); }
+    private static final class H_JJIJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJJJ_I"); }
+    private static final class H_JJIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJJ_I"); }
+    private static final class H_JJIJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJJ_J"); }
+    private static final class H_JJIJS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJS_V"); }
+    private static final class H_JJIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJ_I"); }
+    private static final class H_JJIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJ_J"); }
+    private static final class H_JJIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJIJ_V"); }
+    private static final class H_JJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJI_I"); }
+    private static final class H_JJI_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJI_J"); }
+    private static final class H_JJI_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJI_S"); }
+    private static final class H_JJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJI_V"); }
+    private static final class H_JJI_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJI_Z"); }
+    private static final class H_JJJAA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJAA_J"); }
+    private static final class H_JJJA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJA_I"); }
+    private static final class H_JJJA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJA_J"); }
+    private static final class H_JJJBJ_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJBJ_Z"); }
+    private static final class H_JJJIA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJIA_I"); }
+    private static final class H_JJJIA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJIA_J"); }
+    private static final class H_JJJIIJJIJIJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJIIJJIJIJI_I"); }
+    private static final class H_JJJIIJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJIIJJJ_V"); }
+    private static final class H_JJJIIJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJIIJJ_J"); }
+    private static final class H_JJJIIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJIIJ_I"); }
+    private static final class H_JJJIIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJIIJ_V"); }
+    private static final class H_JJJII_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJII_J"); }
+    private static final class H_JJJII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJII_V"); }
+    private static final class H_JJJIJIIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJIJIIJ_I"); }
+    private static final class H_JJJIJII_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJIJII_J"); }
+    private static final class H_JJJIJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJIJJJ_J"); }
+    private static final class H_JJJIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJIJJ_I"); }
+    private static final class H_JJJIJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJIJJ_J"); }
+    private static final class H_JJJIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJIJ_I"); }
+    private static final class H_JJJIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJIJ_J"); }
+    private static final class H_JJJIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJIJ_V"); }
+    private static final class H_JJJIZZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJIZZ_V"); }
+    private static final class H_JJJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJI_I"); }
+    private static final class H_JJJI_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJI_J"); }
+    private static final class H_JJJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJI_V"); }
+    private static final class H_JJJI_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJI_Z"); }
+    private static final class H_JJJJAA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJAA_J"); }
+    private static final class H_JJJJA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJA_I"); }
+    private static final class H_JJJJA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJA_J"); }
+    private static final class H_JJJJA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJA_V"); }
+    private static final class H_JJJJIII_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJIII_J"); }
+    private static final class H_JJJJII_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJII_J"); }
+    private static final class H_JJJJIJAJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJIJAJ_I"); }
+    private static final class H_JJJJIJIJII_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJIJIJII_J"); }
+    private static final class H_JJJJIJIJIJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJIJIJIJJ_J"); }
+    private static final class H_JJJJIJJIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJIJJIJJ_I"); }
+    private static final class H_JJJJIJJJJIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJIJJJJIJ_J"); }
+    private static final class H_JJJJIJJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJIJJJJ_V"); }
+    private static final class H_JJJJIJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJIJJJ_I"); }
+    private static final class H_JJJJIJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJIJJJ_J"); }
+    private static final class H_JJJJIJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJIJJ_J"); }
+    private static final class H_JJJJIJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJIJ_I"); }
+    private static final class H_JJJJIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJIJ_J"); }
+    private static final class H_JJJJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJI_I"); }
+    private static final class H_JJJJI_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJI_J"); }
+    private static final class H_JJJJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJI_V"); }
+    private static final class H_JJJJJA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJA_I"); }
+    private static final class H_JJJJJA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJA_J"); }
+    private static final class H_JJJJJIII_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJIII_J"); }
+    private static final class H_JJJJJII_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJII_I"); }
+    private static final class H_JJJJJII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJII_V"); }
+    private static final class H_JJJJJIJIII_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJIJIII_J"); }
+    private static final class H_JJJJJIJIIJIIJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJIJIIJIIJJ_J"); }
+    private static final class H_JJJJJIJIIJJIIJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJIJIIJJIIJJJ_J"); }
+    private static final class H_JJJJJIJIJIJJIJJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJIJIJIJJIJJJJ_J"); }
+    private static final class H_JJJJJIJIJIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJIJIJIJ_J"); }
+    private static final class H_JJJJJIJIJI_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJIJIJI_J"); }
+    private static final class H_JJJJJIJJJIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJIJJJIJ_J"); }
+    private static final class H_JJJJJIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJIJJ_I"); }
+    private static final class H_JJJJJIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJIJ_J"); }
+    private static final class H_JJJJJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJI_I"); }
+    private static final class H_JJJJJI_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJI_J"); }
+    private static final class H_JJJJJI_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJI_Z"); }
+    private static final class H_JJJJJJAA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJAA_J"); }
+    private static final class H_JJJJJJIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJIJJ_I"); }
+    private static final class H_JJJJJJI_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJI_I"); }
+    private static final class H_JJJJJJI_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJI_J"); }
+    private static final class H_JJJJJJJA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJJA_J"); }
+    private static final class H_JJJJJJJIJIIIII_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJJIJIIIII_J"); }
+    private static final class H_JJJJJJJIJIJI_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJJIJIJI_J"); }
+    private static final class H_JJJJJJJIJIJJI_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJJIJIJJI_J"); }
+    private static final class H_JJJJJJJJAA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJJJAA_J"); }
+    private static final class H_JJJJJJJJJA_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJJJJA_J"); }
+    private static final class H_JJJJJJJJJJIJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJJJJJIJJ_I"); }
+    private static final class H_JJJJJJJJJJJJIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJJJJJJJIII_V"); }
+    private static final class H_JJJJJJJJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJJJJJ_J"); }
+    private static final class H_JJJJJJJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJJJJ_I"); }
+    private static final class H_JJJJJJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJJJ_J"); }
+    private static final class H_JJJJJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJJ_V"); }
+    private static final class H_JJJJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJ_I"); }
+    private static final class H_JJJJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJ_J"); }
+    private static final class H_JJJJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJJ_V"); }
+    private static final class H_JJJJJZI_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJZI_Z"); }
+    private static final class H_JJJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJ_I"); }
+    private static final class H_JJJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJ_J"); }
+    private static final class H_JJJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJ_V"); }
+    private static final class H_JJJJJ_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJJ_Z"); }
+    private static final class H_JJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJ_I"); }
+    private static final class H_JJJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJ_J"); }
+    private static final class H_JJJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJ_V"); }
+    private static final class H_JJJJ_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJJ_Z"); }
+    private static final class H_JJJSF_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJSF_S"); }
+    private static final class H_JJJSJSJS_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJSJSJS_S"); }
+    private static final class H_JJJZI_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJZI_Z"); }
+    private static final class H_JJJZZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJZZ_V"); }
+    private static final class H_JJJ_F { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJ_F"); }
+    private static final class H_JJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJ_I"); }
+    private static final class H_JJJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJ_J"); }
+    private static final class H_JJJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJ_S"); }
+    private static final class H_JJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJ_V"); }
+    private static final class H_JJJ_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJJ_Z"); }
+    private static final class H_JJSIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJSIJ_V"); }
+    private static final class H_JJSJJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJSJJJ_I"); }
+    private static final class H_JJSJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJSJJ_I"); }
+    private static final class H_JJSJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJSJJ_V"); }
+    private static final class H_JJSJSJSJSJSJS_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJSJSJSJSJSJS_S"); }
+    private static final class H_JJSJSJSJS_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJSJSJSJS_S"); }
+    private static final class H_JJSJSJSSS_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJSJSJSSS_S"); }
+    private static final class H_JJSJSJS_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJSJSJS_S"); }
+    private static final class H_JJSJSJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJSJSJ_S"); }
+    private static final class H_JJSJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJSJ_S"); }
+    private static final class H_JJSS_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJSS_S"); }
+    private static final class H_JJS_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJS_I"); }
+    private static final class H_JJS_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJS_S"); }
+    private static final class H_JJZJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJZJ_V"); }
+    private static final class H_JJZZ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJZZ_J"); }
+    private static final class H_JJZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJZ_V"); }
+    private static final class H_JJ_D { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJ_D"); }
+    private static final class H_JJ_F { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJ_F"); }
+    private static final class H_JJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJ_I"); }
+    private static final class H_JJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJ_J"); }
+    private static final class H_JJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJ_S"); }
+    private static final class H_JJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJ_V"); }
+    private static final class H_JJ_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("JJ_Z"); }
+    private static final class H_JSAS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSAS_V"); }
+    private static final class H_JSII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSII_V"); }
+    private static final class H_JSISSB_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSISSB_V"); }
+    private static final class H_JSJJJJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSJJJJ_S"); }
+    private static final class H_JSJJJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSJJJ_S"); }
+    private static final class H_JSJJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSJJ_I"); }
+    private static final class H_JSJSJJJJJJJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSJSJJJJJJJ_S"); }
+    private static final class H_JSJSJJJJJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSJSJJJJJ_S"); }
+    private static final class H_JSJSJJSJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSJSJJSJ_S"); }
+    private static final class H_JSJSJSJSSS_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSJSJSJSSS_S"); }
+    private static final class H_JSJSJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSJSJ_S"); }
+    private static final class H_JSJS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSJS_V"); }
+    private static final class H_JSJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSJ_I"); }
+    private static final class H_JSJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSJ_S"); }
+    private static final class H_JSSBSSSSBSSSSSS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSSBSSSSBSSSSSS_V"); }
+    private static final class H_JSSIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSSIII_V"); }
+    private static final class H_JSSII_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSSII_S"); }
+    private static final class H_JSSIZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSSIZ_V"); }
+    private static final class H_JSSJIJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSSJIJ_S"); }
+    private static final class H_JSSJI_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSSJI_S"); }
+    private static final class H_JSSJJJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSSJJJ_S"); }
+    private static final class H_JSSJSJJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSSJSJJ_S"); }
+    private static final class H_JSSSIZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSSSIZ_V"); }
+    private static final class H_JSSSJSSJJJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSSSJSSJJJ_S"); }
+    private static final class H_JSSSSJSJJJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSSSSJSJJJ_S"); }
+    private static final class H_JSSSSJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSSSSJ_J"); }
+    private static final class H_JSSSSSIZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSSSSSIZ_V"); }
+    private static final class H_JSSSSS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSSSSS_V"); }
+    private static final class H_JSSSS_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSSSS_S"); }
+    private static final class H_JSSSZZSI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSSSZZSI_V"); }
+    private static final class H_JSZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JSZ_V"); }
+    private static final class H_JS_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JS_I"); }
+    private static final class H_JS_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("JS_S"); }
+    private static final class H_JS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JS_V"); }
+    private static final class H_JZIJJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JZIJJI_V"); }
+    private static final class H_JZZJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("JZZJ_J"); }
+    private static final class H_JZ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("JZ_I"); }
+    private static final class H_JZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("JZ_V"); }
+    private static final class H_J_D { static final MethodHandle HANDLE = ForeignDispatch.downcall("J_D"); }
+    private static final class H_J_F { static final MethodHandle HANDLE = ForeignDispatch.downcall("J_F"); }
+    private static final class H_J_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("J_I"); }
+    private static final class H_J_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("J_J"); }
+    private static final class H_J_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("J_S"); }
+    private static final class H_J_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("J_V"); }
+    private static final class H_J_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("J_Z"); }
+    private static final class H_SAA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SAA_V"); }
+    private static final class H_SAB_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("SAB_I"); }
+    private static final class H_SAS_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("SAS_S"); }
+    private static final class H_SAS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SAS_V"); }
+    private static final class H_SA_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("SA_I"); }
+    private static final class H_SBSSSSSSJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SBSSSSSSJ_V"); }
+    private static final class H_SB_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("SB_S"); }
+    private static final class H_SII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SII_V"); }
+    private static final class H_SIJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SIJ_V"); }
+    private static final class H_SI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SI_V"); }
+    private static final class H_SJB_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("SJB_I"); }
+    private static final class H_SJI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SJI_V"); }
+    private static final class H_SJJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("SJJ_S"); }
+    private static final class H_SJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SJJ_V"); }
+    private static final class H_SJSJJJSJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("SJSJJJSJ_S"); }
+    private static final class H_SJSSJSJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("SJSSJSJ_S"); }
+    private static final class H_SJS_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("SJS_S"); }
+    private static final class H_SJS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SJS_V"); }
+    private static final class H_SJ_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("SJ_I"); }
+    private static final class H_SJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("SJ_J"); }
+    private static final class H_SJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("SJ_S"); }
+    private static final class H_SJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SJ_V"); }
+    private static final class H_SSA_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSA_V"); }
+    private static final class H_SSBBSSSSJS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSBBSSSSJS_V"); }
+    private static final class H_SSBJJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSBJJ_V"); }
+    private static final class H_SSBJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSBJ_V"); }
+    private static final class H_SSBSSSSBSSSSSS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSBSSSSBSSSSSS_V"); }
+    private static final class H_SSBSSSSJS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSBSSSSJS_V"); }
+    private static final class H_SSFBBBBBBBBB_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSFBBBBBBBBB_V"); }
+    private static final class H_SSIFB_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSIFB_V"); }
+    private static final class H_SSIII_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSIII_V"); }
+    private static final class H_SSIJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSIJ_S"); }
+    private static final class H_SSIZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSIZ_V"); }
+    private static final class H_SSJ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSJ_V"); }
+    private static final class H_SSSBIJ_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSSBIJ_J"); }
+    private static final class H_SSSIZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSSIZ_V"); }
+    private static final class H_SSSI_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSSI_V"); }
+    private static final class H_SSSSJS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSSSJS_V"); }
+    private static final class H_SSSSSIZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSSSSIZ_V"); }
+    private static final class H_SSSSS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSSSS_V"); }
+    private static final class H_SSSS_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSSS_S"); }
+    private static final class H_SSSS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSSS_V"); }
+    private static final class H_SSSZIJJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSSZIJJ_S"); }
+    private static final class H_SSS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSS_V"); }
+    private static final class H_SSZSIJJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSZSIJJ_S"); }
+    private static final class H_SSZ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("SSZ_S"); }
+    private static final class H_SS_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SS_V"); }
+    private static final class H_SZSIJJ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("SZSIJJ_S"); }
+    private static final class H_SZSIJ_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("SZSIJ_Z"); }
+    private static final class H_SZ_S { static final MethodHandle HANDLE = ForeignDispatch.downcall("SZ_S"); }
+    private static final class H_SZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("SZ_V"); }
+    private static final class H_S_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("S_J"); }
+    private static final class H_S_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("S_V"); }
+    private static final class H_ZJ_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("ZJ_Z"); }
+    private static final class H_ZZZZ_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("ZZZZ_V"); }
+    private static final class H_Z_I { static final MethodHandle HANDLE = ForeignDispatch.downcall("Z_I"); }
+    private static final class H_Z_J { static final MethodHandle HANDLE = ForeignDispatch.downcall("Z_J"); }
+    private static final class H_Z_V { static final MethodHandle HANDLE = ForeignDispatch.downcall("Z_V"); }
+    private static final class H_Z_Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("Z_Z"); }
+    private static final class H__D { static final MethodHandle HANDLE = ForeignDispatch.downcall("_D"); }
+    private static final class H__F { static final MethodHandle HANDLE = ForeignDispatch.downcall("_F"); }
+    private static final class H__I { static final MethodHandle HANDLE = ForeignDispatch.downcall("_I"); }
+    private static final class H__J { static final MethodHandle HANDLE = ForeignDispatch.downcall("_J"); }
+    private static final class H__S { static final MethodHandle HANDLE = ForeignDispatch.downcall("_S"); }
+    private static final class H__V { static final MethodHandle HANDLE = ForeignDispatch.downcall("_V"); }
+    private static final class H__Z { static final MethodHandle HANDLE = ForeignDispatch.downcall("_Z"); }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+#include "common_tools.h"
+#include <string.h>
+#ifdef LWJGL_WINDOWS
+    #include "WindowsLWJGL.h"
+    #define APIENTRY __stdcall
+#else
+    #include <dlfcn.h>
+    #define APIENTRY
+#endif
+
+typedef void* (APIENTRY *getProcAddressPROC) (const char *);
+
+EXTERN_C_ENTER
+
+// ngetLibraryFunctionAddresses(JJIJ)V
+JNIEXPORT void JNICALL Java_org_lwjgl_system_SharedLibraryUtil_ngetLibraryFunctionAddresses(JNIEnv *env, jclass clazz,
+    jlong handleAddress, jlong namesAddress, jint count, jlong addressesAddress
+) {
+#ifdef LWJGL_WINDOWS
+    HMODULE handle = (HMODULE)(uintptr_t)handleAddress;
+#else
+    void *handle = (void *)(uintptr_t)handleAddress;
+#endif
+    const char *name = (const char *)(uintptr_t)namesAddress;
+    uintptr_t *addresses = (uintptr_t *)(uintptr_t)addressesAddress;
+    jint i;
+
+    UNUSED_PARAMS(env, clazz)
+
+    for (i = 0; i < count; i++) {
+#ifdef LWJGL_WINDOWS
+        addresses[i] = (uintptr_t)GetProcAddress(handle, name);
+#else
+        addresses[i] = (uintptr_t)dlsym(handle, name);
+#endif
+        name += strlen(name) + 1;
+    }
+}
+
+// ngetProcAddresses(JJIJ)V
+JNIEXPORT void JNICALL Java_org_lwjgl_system_SharedLibraryUtil_ngetProcAddresses(JNIEnv *env, jclass clazz,
+    jlong getProcAddressAddress, jlong namesAddress, jint count, jlong addressesAddress
+) {
+    getProcAddressPROC getProcAddress = (getProcAddressPROC)(uintptr_t)getProcAddressAddress;
+    const char *name = (const char *)(uintptr_t)namesAddress;
+    uintptr_t *addresses = (uintptr_t *)(uintptr_t)addressesAddress;
+    jint i;
+
+    UNUSED_PARAMS(env, clazz)
+
+    for (i = 0; i < count; i++) {
+        addresses[i] = (uintptr_t)getProcAddress(name);
+        name += strlen(name) + 1;
+    }
+}
+
+EXTERN_C_EXIT
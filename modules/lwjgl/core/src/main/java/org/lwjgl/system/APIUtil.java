@@ -139,6 +139,84 @@ public final class APIUtil {
         return a;
     }
 
+    /**
+     * Returns the addresses of multiple required functions.
+     *
+     * <p>The function names are encoded once and resolved with a single {@link FunctionProvider#getFunctionAddresses} call, which avoids the per-function
+     * encoding and JNI overhead of {@link #apiGetFunctionAddress}.</p>
+     *
+     * @param provider  the function provider
+     * @param functions the function names, each terminated by a {@code NUL} character
+     *
+     * @return the function addresses, in the order of {@code functions}
+     */
+    public static long[] apiGetFunctionAddresses(FunctionProvider provider, String functions) {
+        int count = 0;
+        for (int i = 0; i < functions.length(); i++) {
+            if (functions.charAt(i) == '\0') {
+                count++;
+            }
+        }
+
+        boolean[] resolve = new boolean[count];
+        Arrays.fill(resolve, true);
+
+        long[] addresses = apiGetFunctionAddresses(provider, functions, resolve);
+        for (int i = 0, start = 0; i < count; i++) {
+            int end = functions.indexOf('\0', start);
+            if (addresses[i] == NULL) {
+                requiredFunctionMissing(functions.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return addresses;
+    }
+
+    /**
+     * Returns the addresses of multiple functions.
+     *
+     * <p>The function names are encoded once and each run of consecutive functions that must be resolved is passed to
+     * {@link FunctionProvider#getFunctionAddresses}, which avoids the per-function encoding and JNI overhead of
+     * {@link FunctionProvider#getFunctionAddress(CharSequence)}.</p>
+     *
+     * @param provider  the function provider
+     * @param functions the function names, each terminated by a {@code NUL} character
+     * @param resolve   whether the address of each function should be resolved. The address of functions that are not resolved is {@code NULL}.
+     *
+     * @return the function addresses, in the order of {@code functions}
+     */
+    public static long[] apiGetFunctionAddresses(FunctionProvider provider, String functions, boolean[] resolve) {
+        long[] addresses = new long[resolve.length];
+
+        ByteBuffer    names  = memASCII(functions, false);
+        PointerBuffer buffer = memCallocPointer(resolve.length);
+        try {
+            for (int i = 0, start = 0; i < resolve.length; ) {
+                if (!resolve[i]) {
+                    start = functions.indexOf('\0', start) + 1;
+                    i++;
+                    continue;
+                }
+
+                int from = i;
+                names.position(start);
+                do {
+                    start = functions.indexOf('\0', start) + 1;
+                    i++;
+                } while (i < resolve.length && resolve[i]);
+
+                buffer.clear().position(from).limit(i);
+                provider.getFunctionAddresses(names, buffer);
+            }
+            buffer.clear().get(addresses);
+        } finally {
+            memFree(buffer);
+            memFree(names);
+        }
+
+        return addresses;
+    }
+
     private static void requiredFunctionMissing(String functionName) {
         if (!Configuration.DISABLE_FUNCTION_CHECKS.get(false)) {
             throw new NullPointerException("A required function is missing: " + functionName);
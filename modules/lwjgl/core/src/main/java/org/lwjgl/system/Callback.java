@@ -124,11 +124,19 @@ public abstract class Callback implements Pointer, NativeResource {
     static long create(String signature, Object instance) {
         long funcptr = getNativeFunction(signature.charAt(signature.length() - 1));
 
+        if (CallbackMetrics.ENABLED) {
+            instance = CallbackMetrics.wrap(signature, instance);
+        }
+
         long handle = dcbNewCallback(signature, funcptr, NewGlobalRef(instance));
         if (handle == NULL) {
             throw new IllegalStateException("Failed to create the DCCallback object");
         }
 
+        if (CallbackMetrics.ENABLED) {
+            CallbackMetrics.register(handle, instance);
+        }
+
         if (DEBUG_ALLOCATOR) {
             MemoryManage.DebugAllocator.track(handle, 2L * POINTER_SIZE);
         }
@@ -169,8 +177,13 @@ public abstract class Callback implements Pointer, NativeResource {
      *
      * @return the {@code CallbackI} instance
      */
+    @SuppressWarnings("unchecked")
     public static <T extends CallbackI> T get(long functionPointer) {
-        return memGlobalRefToObject(dcbGetUserData(functionPointer));
+        Object instance = memGlobalRefToObject(dcbGetUserData(functionPointer));
+        if (CallbackMetrics.ENABLED) {
+            instance = CallbackMetrics.unwrap(instance);
+        }
+        return (T)instance;
     }
 
     /** Like {@link #get}, but returns {@code null} if {@code functionPointer} is {@code NULL}. */
@@ -187,6 +200,10 @@ public abstract class Callback implements Pointer, NativeResource {
     public static void free(long functionPointer) {
         DeleteGlobalRef(dcbGetUserData(functionPointer));
 
+        if (CallbackMetrics.ENABLED) {
+            CallbackMetrics.unregister(functionPointer);
+        }
+
         if (DEBUG_ALLOCATOR) {
             MemoryManage.DebugAllocator.untrack(functionPointer);
         }
@@ -0,0 +1,309 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Invocation metrics for native callbacks.
+ *
+ * <p>Metrics are collected only if {@link Configuration#CALLBACK_METRICS} is enabled. When enabled, the Java object of each native callback is wrapped in a
+ * forwarding object that measures the duration of each invocation with {@link System#nanoTime}. {@link Callback#get} returns the original object.</p>
+ *
+ * <p>Latencies are recorded in a histogram with power-of-two buckets: bucket {@code i} counts invocations that took {@code [2^i, 2^(i+1))} nanoseconds.
+ * The measured duration includes the Java callback only, not the JNI transition or the {@code JNIEnv} lookup. Native threads that the JVM does not know
+ * about are attached as daemon threads the first time they invoke a callback and their {@code JNIEnv} is cached in thread-local storage, so subsequent
+ * invocations from such threads do not pay the attach cost.</p>
+ */
+public final class CallbackMetrics {
+
+    static final boolean ENABLED = Configuration.CALLBACK_METRICS.get(false);
+
+    /** The number of histogram buckets. The last bucket also counts invocations that took longer. */
+    public static final int HISTOGRAM_BUCKETS = 40;
+
+    private static final ConcurrentMap<Long, Profiled> CALLBACKS = new ConcurrentHashMap<>();
+
+    private CallbackMetrics() {
+    }
+
+    /** Returns true if callback metrics are being collected. */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns a snapshot of the metrics of the callbacks that have not been freed.
+     *
+     * @throws IllegalStateException if {@link Configuration#CALLBACK_METRICS} is not enabled
+     */
+    public static List<Snapshot> snapshot() {
+        if (!ENABLED) {
+            throw new IllegalStateException("Callback metrics are not enabled.");
+        }
+
+        List<Snapshot> snapshots = new ArrayList<>(CALLBACKS.size());
+        for (Profiled callback : CALLBACKS.values()) {
+            snapshots.add(callback.snapshot());
+        }
+        return snapshots;
+    }
+
+    static Object wrap(String signature, Object instance) {
+        switch (signature.charAt(signature.length() - 1)) {
+            case 'v':
+                return new V(signature, (CallbackI.V)instance);
+            case 'B':
+                return new Z(signature, (CallbackI.Z)instance);
+            case 'c':
+                return new B(signature, (CallbackI.B)instance);
+            case 's':
+                return new S(signature, (CallbackI.S)instance);
+            case 'i':
+                return new I(signature, (CallbackI.I)instance);
+            case 'l':
+                return new J(signature, (CallbackI.J)instance);
+            case 'f':
+                return new F(signature, (CallbackI.F)instance);
+            case 'd':
+                return new D(signature, (CallbackI.D)instance);
+            case 'p':
+                return new P(signature, (CallbackI.P)instance);
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+
+    static Object unwrap(Object instance) {
+        return instance instanceof Profiled ? ((Profiled)instance).target : instance;
+    }
+
+    static void register(long address, Object wrapper) {
+        Profiled callback = (Profiled)wrapper;
+        callback.address = address;
+        CALLBACKS.put(address, callback);
+    }
+
+    static void unregister(long address) {
+        CALLBACKS.remove(address);
+    }
+
+    abstract static class Profiled implements CallbackI {
+
+        private final String    signature;
+        final         CallbackI target;
+
+        long address;
+
+        private final LongAdder       invocations = new LongAdder();
+        private final LongAdder       totalTime   = new LongAdder();
+        private final AtomicLong      maxTime     = new AtomicLong();
+        private final AtomicLongArray histogram   = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+        Profiled(String signature, CallbackI target) {
+            this.signature = signature;
+            this.target = target;
+        }
+
+        @Override
+        public String getSignature() {
+            return signature;
+        }
+
+        final void record(long t0) {
+            long t = Math.max(System.nanoTime() - t0, 0L);
+
+            invocations.increment();
+            totalTime.add(t);
+            for (long max = maxTime.get(); max < t && !maxTime.compareAndSet(max, t); ) {
+                max = maxTime.get();
+            }
+            histogram.incrementAndGet(Math.min(63 - Long.numberOfLeadingZeros(t | 1L), HISTOGRAM_BUCKETS - 1));
+        }
+
+        Snapshot snapshot() {
+            long[] buckets = new long[HISTOGRAM_BUCKETS];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = histogram.get(i);
+            }
+            return new Snapshot(address, signature, target.getClass().getName(), invocations.sum(), totalTime.sum(), maxTime.get(), buckets);
+        }
+
+    }
+
+    private static final class V extends Profiled implements CallbackI.V {
+        private final CallbackI.V delegate;
+
+        V(String signature, CallbackI.V target) { super(signature, target); this.delegate = target; }
+
+        @Override public void callback(long args) {
+            long t0 = System.nanoTime();
+            try { delegate.callback(args); } finally { record(t0); }
+        }
+    }
+
+    private static final class Z extends Profiled implements CallbackI.Z {
+        private final CallbackI.Z delegate;
+
+        Z(String signature, CallbackI.Z target) { super(signature, target); this.delegate = target; }
+
+        @Override public boolean callback(long args) {
+            long t0 = System.nanoTime();
+            try { return delegate.callback(args); } finally { record(t0); }
+        }
+    }
+
+    private static final class B extends Profiled implements CallbackI.B {
+        private final CallbackI.B delegate;
+
+        B(String signature, CallbackI.B target) { super(signature, target); this.delegate = target; }
+
+        @Override public byte callback(long args) {
+            long t0 = System.nanoTime();
+            try { return delegate.callback(args); } finally { record(t0); }
+        }
+    }
+
+    private static final class S extends Profiled implements CallbackI.S {
+        private final CallbackI.S delegate;
+
+        S(String signature, CallbackI.S target) { super(signature, target); this.delegate = target; }
+
+        @Override public short callback(long args) {
+            long t0 = System.nanoTime();
+            try { return delegate.callback(args); } finally { record(t0); }
+        }
+    }
+
+    private static final class I extends Profiled implements CallbackI.I {
+        private final CallbackI.I delegate;
+
+        I(String signature, CallbackI.I target) { super(signature, target); this.delegate = target; }
+
+        @Override public int callback(long args) {
+            long t0 = System.nanoTime();
+            try { return delegate.callback(args); } finally { record(t0); }
+        }
+    }
+
+    private static final class J extends Profiled implements CallbackI.J {
+        private final CallbackI.J delegate;
+
+        J(String signature, CallbackI.J target) { super(signature, target); this.delegate = target; }
+
+        @Override public long callback(long args) {
+            long t0 = System.nanoTime();
+            try { return delegate.callback(args); } finally { record(t0); }
+        }
+    }
+
+    private static final class F extends Profiled implements CallbackI.F {
+        private final CallbackI.F delegate;
+
+        F(String signature, CallbackI.F target) { super(signature, target); this.delegate = target; }
+
+        @Override public float callback(long args) {
+            long t0 = System.nanoTime();
+            try { return delegate.callback(args); } finally { record(t0); }
+        }
+    }
+
+    private static final class D extends Profiled implements CallbackI.D {
+        private final CallbackI.D delegate;
+
+        D(String signature, CallbackI.D target) { super(signature, target); this.delegate = target; }
+
+        @Override public double callback(long args) {
+            long t0 = System.nanoTime();
+            try { return delegate.callback(args); } finally { record(t0); }
+        }
+    }
+
+    private static final class P extends Profiled implements CallbackI.P {
+        private final CallbackI.P delegate;
+
+        P(String signature, CallbackI.P target) { super(signature, target); this.delegate = target; }
+
+        @Override public long callback(long args) {
+            long t0 = System.nanoTime();
+            try { return delegate.callback(args); } finally { record(t0); }
+        }
+    }
+
+    /** An immutable snapshot of the invocation metrics of a single callback. */
+    public static final class Snapshot {
+
+        private final long   address;
+        private final String signature;
+        private final String type;
+
+        private final long   invocations;
+        private final long   totalTime;
+        private final long   maxTime;
+        private final long[] histogram;
+
+        Snapshot(long address, String signature, String type, long invocations, long totalTime, long maxTime, long[] histogram) {
+            this.address = address;
+            this.signature = signature;
+            this.type = type;
+            this.invocations = invocations;
+            this.totalTime = totalTime;
+            this.maxTime = maxTime;
+            this.histogram = histogram;
+        }
+
+        /** Returns the callback function pointer. */
+        public long getAddress() { return address; }
+
+        /** Returns the dyncall signature of the callback. */
+        public String getSignature() { return signature; }
+
+        /** Returns the class name of the Java callback object. */
+        public String getType() { return type; }
+
+        /** Returns the number of invocations. */
+        public long getInvocations() { return invocations; }
+
+        /** Returns the total duration of all invocations, in nanoseconds. */
+        public long getTotalTime() { return totalTime; }
+
+        /** Returns the duration of the slowest invocation, in nanoseconds. */
+        public long getMaxTime() { return maxTime; }
+
+        /** Returns the number of invocations in the specified histogram bucket. */
+        public long getHistogram(int bucket) { return histogram[bucket]; }
+
+        /**
+         * Returns an upper bound of the specified latency percentile, in nanoseconds.
+         *
+         * @param percentile the percentile, in the range {@code [0.0, 1.0]}
+         *
+         * @return the upper bound of the histogram bucket that contains the percentile, or 0 if there have been no invocations
+         */
+        public long getPercentile(double percentile) {
+            long target = (long)Math.ceil(percentile * invocations);
+            long count  = 0L;
+            for (int i = 0; i < histogram.length; i++) {
+                count += histogram[i];
+                if (target <= count && count != 0L) {
+                    return i == histogram.length - 1 ? maxTime : Math.min((2L << i) - 1L, maxTime);
+                }
+            }
+            return 0L;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "CallbackMetrics[0x%X %s %s, invocations=%d, total=%dns, max=%dns, p50=%dns, p99=%dns]",
+                address, type, signature, invocations, totalTime, maxTime, getPercentile(0.5), getPercentile(0.99)
+            );
+        }
+
+    }
+
+}
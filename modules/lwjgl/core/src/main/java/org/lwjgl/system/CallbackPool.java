@@ -0,0 +1,361 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import javax.annotation.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.Checks.*;
+
+/**
+ * A pool of reusable native callback thunks.
+ *
+ * <p>Creating a {@link Callback} allocates a dyncall {@code DCCallback} object and a JNI global reference, which must be freed when the callback is no
+ * longer used. This is wasteful for APIs that take short-lived callbacks, e.g. per call or per object. This class maintains a pool of thunks per dyncall
+ * signature. A thunk is a native function that forwards calls to a Java target, which is swapped when the thunk is leased and released. Leasing and
+ * releasing a pooled thunk does not allocate native memory, JNI references or Java objects.</p>
+ *
+ * <pre><code>
+ * try (CallbackPool.Thunk read = CallbackPool.lease((STBIReadCallbackI)(user, data, size) -&gt; ...)) {
+ *     STBIIOCallbacks.nread(callbacks.address(), read.address());
+ *     ...
+ * } // the thunk is returned to the pool</code></pre>
+ *
+ * <p>The native function of a released thunk must not be called. {@link Callback#get} returns the thunk, not the target, for function pointers that
+ * belong to a pooled thunk.</p>
+ *
+ * @see Configuration#CALLBACK_POOL_CAPACITY
+ */
+public final class CallbackPool {
+
+    private static final int CAPACITY = Configuration.CALLBACK_POOL_CAPACITY.get(64);
+
+    private static final ConcurrentMap<String, Pool> POOLS = new ConcurrentHashMap<>();
+
+    private CallbackPool() {
+    }
+
+    /**
+     * Leases a thunk that forwards calls to the specified target.
+     *
+     * <p>The thunk must be returned to the pool with {@link Thunk#free} when it is no longer used by native code.</p>
+     *
+     * @param target the callback target
+     *
+     * @return the thunk
+     */
+    public static Thunk lease(CallbackI target) {
+        String signature = target.getSignature();
+
+        Pool pool = POOLS.get(signature);
+        if (pool == null) {
+            pool = POOLS.computeIfAbsent(signature, Pool::new);
+        }
+
+        return pool.lease(target);
+    }
+
+    /** Frees the idle thunks of all signatures. Leased thunks are not affected. */
+    public static void trim() {
+        for (Pool pool : POOLS.values()) {
+            pool.trim();
+        }
+    }
+
+    /** Returns the statistics of the callback signatures that have been used with this pool. */
+    public static List<Stats> getStats() {
+        List<Stats> stats = new ArrayList<>(POOLS.size());
+        for (Pool pool : POOLS.values()) {
+            stats.add(pool.stats());
+        }
+        return stats;
+    }
+
+    /**
+     * Returns the statistics of the specified callback signature.
+     *
+     * @param signature the dyncall signature
+     *
+     * @return the statistics, or {@code null} if the signature has not been used with this pool
+     */
+    @Nullable
+    public static Stats getStats(String signature) {
+        Pool pool = POOLS.get(signature);
+        return pool == null ? null : pool.stats();
+    }
+
+    private static final class Pool {
+
+        final String signature;
+
+        private final Deque<Thunk> idle = new ArrayDeque<>();
+
+        private long created;
+        private long leases;
+        private int  active;
+        private int  peak;
+
+        Pool(String signature) {
+            this.signature = signature;
+        }
+
+        Thunk lease(CallbackI target) {
+            Thunk thunk;
+            synchronized (this) {
+                thunk = idle.pollFirst();
+                leases++;
+                if (peak < ++active) {
+                    peak = active;
+                }
+                if (thunk == null) {
+                    created++;
+                } else {
+                    thunk.target = target;
+                    return thunk;
+                }
+            }
+
+            try {
+                thunk = Thunk.create(this);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    active--;
+                }
+                throw e;
+            }
+
+            thunk.target = target;
+            return thunk;
+        }
+
+        void release(Thunk thunk) {
+            boolean pooled;
+            synchronized (this) {
+                if (thunk.target == null) {
+                    throw new IllegalStateException("The thunk has already been released.");
+                }
+                thunk.target = null;
+
+                active--;
+                pooled = idle.size() < CAPACITY;
+                if (pooled) {
+                    idle.offerFirst(thunk);
+                }
+            }
+
+            if (!pooled) {
+                Callback.free(thunk.address);
+            }
+        }
+
+        void trim() {
+            Thunk[] thunks;
+            synchronized (this) {
+                thunks = idle.toArray(new Thunk[0]);
+                idle.clear();
+            }
+
+            for (Thunk thunk : thunks) {
+                Callback.free(thunk.address);
+            }
+        }
+
+        synchronized Stats stats() {
+            return new Stats(signature, created, leases, active, peak, idle.size());
+        }
+
+    }
+
+    /**
+     * A native function that forwards calls to a Java target.
+     *
+     * <p>Thunks are not freed by {@link #free}, they are returned to the pool and may be leased again with a different target.</p>
+     */
+    public abstract static class Thunk implements CallbackI, NativeResource {
+
+        private final Pool pool;
+        private final long address;
+
+        @Nullable
+        volatile CallbackI target;
+
+        Thunk(Pool pool) {
+            this.pool = pool;
+            this.address = Callback.create(pool.signature, this);
+        }
+
+        static Thunk create(Pool pool) {
+            switch (pool.signature.charAt(pool.signature.length() - 1)) {
+                case 'v':
+                    return new V(pool);
+                case 'B':
+                    return new Z(pool);
+                case 'c':
+                    return new B(pool);
+                case 's':
+                    return new S(pool);
+                case 'i':
+                    return new I(pool);
+                case 'l':
+                    return new J(pool);
+                case 'f':
+                    return new F(pool);
+                case 'd':
+                    return new D(pool);
+                case 'p':
+                    return new P(pool);
+                default:
+                    throw new IllegalArgumentException("Unsupported callback signature: " + pool.signature);
+            }
+        }
+
+        @Override
+        public long address() {
+            return address;
+        }
+
+        @Override
+        public String getSignature() {
+            return pool.signature;
+        }
+
+        /** Returns the current target of this thunk, or {@code null} if the thunk has been released. */
+        @Nullable
+        public CallbackI getTarget() {
+            return target;
+        }
+
+        /**
+         * Replaces the target of this thunk. The new target is used by subsequent calls of the native function.
+         *
+         * @param target the new target, must have the same signature
+         */
+        public void setTarget(CallbackI target) {
+            if (CHECKS && !pool.signature.equals(target.getSignature())) {
+                throw new IllegalArgumentException("Signature mismatch: " + target.getSignature() + ", expected: " + pool.signature);
+            }
+            // Synchronized with Pool.release, a released thunk must not get a target
+            synchronized (pool) {
+                if (this.target == null) {
+                    throw new IllegalStateException("The thunk has been released.");
+                }
+                this.target = target;
+            }
+        }
+
+        /** Returns this thunk to the pool. */
+        @Override
+        public void free() {
+            pool.release(this);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Thunk %s pointer [0x%X]", pool.signature, address);
+        }
+
+        private static final class V extends Thunk implements CallbackI.V {
+            V(Pool pool) { super(pool); }
+
+            @Override public void callback(long args) { ((CallbackI.V)target).callback(args); }
+        }
+
+        private static final class Z extends Thunk implements CallbackI.Z {
+            Z(Pool pool) { super(pool); }
+
+            @Override public boolean callback(long args) { return ((CallbackI.Z)target).callback(args); }
+        }
+
+        private static final class B extends Thunk implements CallbackI.B {
+            B(Pool pool) { super(pool); }
+
+            @Override public byte callback(long args) { return ((CallbackI.B)target).callback(args); }
+        }
+
+        private static final class S extends Thunk implements CallbackI.S {
+            S(Pool pool) { super(pool); }
+
+            @Override public short callback(long args) { return ((CallbackI.S)target).callback(args); }
+        }
+
+        private static final class I extends Thunk implements CallbackI.I {
+            I(Pool pool) { super(pool); }
+
+            @Override public int callback(long args) { return ((CallbackI.I)target).callback(args); }
+        }
+
+        private static final class J extends Thunk implements CallbackI.J {
+            J(Pool pool) { super(pool); }
+
+            @Override public long callback(long args) { return ((CallbackI.J)target).callback(args); }
+        }
+
+        private static final class F extends Thunk implements CallbackI.F {
+            F(Pool pool) { super(pool); }
+
+            @Override public float callback(long args) { return ((CallbackI.F)target).callback(args); }
+        }
+
+        private static final class D extends Thunk implements CallbackI.D {
+            D(Pool pool) { super(pool); }
+
+            @Override public double callback(long args) { return ((CallbackI.D)target).callback(args); }
+        }
+
+        private static final class P extends Thunk implements CallbackI.P {
+            P(Pool pool) { super(pool); }
+
+            @Override public long callback(long args) { return ((CallbackI.P)target).callback(args); }
+        }
+
+    }
+
+    /** The statistics of a callback signature. */
+    public static final class Stats {
+
+        private final String signature;
+
+        private final long created;
+        private final long leases;
+        private final int  active;
+        private final int  peak;
+        private final int  idle;
+
+        Stats(String signature, long created, long leases, int active, int peak, int idle) {
+            this.signature = signature;
+            this.created = created;
+            this.leases = leases;
+            this.active = active;
+            this.peak = peak;
+            this.idle = idle;
+        }
+
+        /** Returns the dyncall signature. */
+        public String getSignature() { return signature; }
+
+        /** Returns the number of thunks created. */
+        public long getCreated() { return created; }
+
+        /** Returns the number of leases. Leases that did not create a thunk reused a pooled thunk. */
+        public long getLeases() { return leases; }
+
+        /** Returns the number of leased thunks. */
+        public int getActive() { return active; }
+
+        /** Returns the highest number of leased thunks at any time. */
+        public int getPeak() { return peak; }
+
+        /** Returns the number of idle thunks in the pool. */
+        public int getIdle() { return idle; }
+
+        @Override
+        public String toString() {
+            return String.format("CallbackPool.Stats[%s, created=%d, leases=%d, active=%d, peak=%d, idle=%d]", signature, created, leases, active, peak, idle);
+        }
+
+    }
+
+}
@@ -67,6 +67,28 @@ public class Configuration<T> {
         StateInit.STRING
     );
 
+    /**
+     * Controls how shared libraries extracted by a previous launch are verified. Supported values:
+     *
+     * <ul>
+     * <li><em>manifest</em> - The size, modification time and hash of each extracted library are stored in a manifest file next to it. The library is
+     * reused without reading it, if the manifest matches the file and the precomputed hash bundled with the natives JAR. (default)</li>
+     * <li><em>once</em> - Like <em>manifest</em>, but a manifest written by the current LWJGL version is trusted without reading the bundled hash. The
+     * libraries are verified once per version. Should not be used with snapshot builds, which do not change version between releases.</li>
+     * <li><em>always</em> - Both the bundled library and the extracted library are read and compared on every launch.</li>
+     * </ul>
+     *
+     * <p>If the natives JAR does not contain a precomputed hash, the <em>always</em> behavior is used.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.system.SharedLibraryExtractVerify</b><br>
+     * &nbsp; &nbsp;Usage: Dynamic</p>
+     */
+    public static final Configuration<String> SHARED_LIBRARY_EXTRACT_VERIFY = new Configuration<>(
+        "org.lwjgl.system.SharedLibraryExtractVerify",
+        StateInit.STRING
+    );
+
     /**
      * EXPERIMENTAL: Emulates {@link System#loadLibrary} behavior in {@link Library#loadNative(String)}.
      *
@@ -99,6 +121,9 @@ public class Configuration<T> {
      * created. It never calls {@code rpmalloc_finalize}. The user is responsible for calling {@code rpmalloc_thread_initialize} and
      * {@code rpmalloc_thread_finalize} when appropriate.</p></div></li>
      * <li><em>system</em> - The default system memory allocator</li>
+     * <li><em>pool</em> - A thread-local pool of size classes from 16 bytes to 64 KB, backed by the default system memory allocator.<br>
+     * <div style="margin-left: 26px; border-left: 1px solid gray; padding-left: 14px;"><p>Reduces the cost of small, short-lived allocations. Pooled memory
+     * is never returned to the system and native code that uses the {@code MemoryUtil} allocator calls back into Java.</p></div></li>
      * <li><em>&lt;classpath&gt;</em> - A class that implements the {@link MemoryAllocator MemoryAllocator} interface. It will be instantiated using reflection.</li>
      * </ul>
      *
@@ -111,6 +136,19 @@ public class Configuration<T> {
      */
     public static final Configuration<Object> MEMORY_ALLOCATOR = new Configuration<>("org.lwjgl.system.allocator", StateInit.STRING);
 
+    /**
+     * Set to false to disable the allocation metrics of the {@link MemoryUtil} explicit memory management API and the thread-local {@link MemoryStack}
+     * instances.
+     *
+     * <p>By default, the allocator is wrapped in a counting layer that updates striped counters on each allocation and free. The metrics are available via
+     * {@link MemoryMetrics#snapshot}, the {@code org.lwjgl:type=MemoryMetrics} platform MXBean and Flight Recorder events.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.system.allocatorMetrics</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<Boolean> MEMORY_ALLOCATOR_METRICS = new Configuration<>("org.lwjgl.system.allocatorMetrics", StateInit.BOOLEAN);
+
     /**
      * Sets the stack size, in kilobytes, that will be used in the default {@link MemoryStack} constructor. This value is also used for the LWJGL-managed,
      * thread-local, {@link MemoryStack} instances.
@@ -123,6 +161,19 @@ public class Configuration<T> {
      */
     public static final Configuration<Integer> STACK_SIZE = new Configuration<>("org.lwjgl.system.stackSize", StateInit.INT);
 
+    /**
+     * Set to true to make new {@link MemoryStack} instances growable.
+     *
+     * <p>When an allocation does not fit in the memory of a growable stack, a new segment is allocated and chained to the stack, instead of throwing an
+     * {@link OutOfMemoryError}. Segments have at least the size of the stack memory. When a frame is popped, the segments that are more than one below the
+     * current segment are released. Allocations within a segment and frame push/pop remain as fast as in a fixed-size stack.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.system.stackGrowable</b><br>
+     * &nbsp; &nbsp;Usage: Dynamic</p>
+     */
+    public static final Configuration<Boolean> STACK_GROWABLE = new Configuration<>("org.lwjgl.system.stackGrowable", StateInit.BOOLEAN);
+
     /**
      * Sets the size of arrays cached in thread-local storage to minimize allocations while decoding text.
      *
@@ -137,6 +188,86 @@ public class Configuration<T> {
      */
     public static final Configuration<Integer> ARRAY_TLC_SIZE = new Configuration<>("org.lwjgl.system.arrayTLCSize", StateInit.INT);
 
+    /**
+     * Sets the minimum size, in kilobytes, of memory blocks that {@link MemoryUtil#memCopyParallel memCopyParallel} and
+     * {@link MemoryUtil#memSetParallel memSetParallel} split across multiple threads. Smaller blocks are processed on the calling thread.
+     *
+     * <p>If this option is not set, it defaults to 8192 (8 MB).</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.system.memParallelThreshold</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<Integer> MEMORY_PARALLEL_THRESHOLD = new Configuration<>("org.lwjgl.system.memParallelThreshold", StateInit.INT);
+
+    /**
+     * Sets the maximum number of idle callback thunks that {@link CallbackPool} keeps per callback signature. Thunks released when the pool is full are
+     * freed.
+     *
+     * <p>If this option is not set, it defaults to 64.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.system.callbackPoolCapacity</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<Integer> CALLBACK_POOL_CAPACITY = new Configuration<>("org.lwjgl.system.callbackPoolCapacity", StateInit.INT);
+
+    /**
+     * Set to true to collect invocation metrics for native callbacks.
+     *
+     * <p>When enabled, each native callback counts its invocations and records the latency of each Java upcall in a histogram.
+     * This is useful for finding slow callbacks that are invoked on real-time native threads (e.g. audio threads). The metrics are available via
+     * {@link CallbackMetrics#snapshot}.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.system.callbackMetrics</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<Boolean> CALLBACK_METRICS = new Configuration<>("org.lwjgl.system.callbackMetrics", StateInit.BOOLEAN);
+
+    /**
+     * Sets the maximum number of encoded strings that {@link NativeStringCache} keeps per encoding.
+     *
+     * <p>If this option is not set, it defaults to 0, which disables the cache. Binding methods with a {@code String} overload then encode the string on
+     * the {@link MemoryStack}, like the {@code CharSequence} overload.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.system.stringCacheCapacity</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<Integer> STRING_CACHE_CAPACITY = new Configuration<>("org.lwjgl.system.stringCacheCapacity", StateInit.INT);
+
+    /**
+     * Sets the maximum total size, in bytes, of the encoded strings that {@link NativeStringCache} keeps per encoding. Strings that are longer than this
+     * value are never cached.
+     *
+     * <p>If this option is not set, it defaults to 65536.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.system.stringCacheSize</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<Integer> STRING_CACHE_SIZE = new Configuration<>("org.lwjgl.system.stringCacheSize", StateInit.INT);
+
+    /**
+     * Selects how the methods of {@link JNI} call native functions. Supported values:
+     *
+     * <ul>
+     * <li><em>jni</em> - Via JNI. (default)</li>
+     * <li><em>foreign</em> - Via downcall handles of the Foreign Function &amp; Memory API. The JIT compiler can inline such calls, without the JNI
+     * transition. Requires Java 22 or newer on a 64-bit architecture, otherwise JNI is used. Native access must be enabled for the LWJGL module (or
+     * {@code ALL-UNNAMED} on the classpath) with {@code --enable-native-access}. Downcall handles are created lazily, the first time each native function
+     * signature is used.</li>
+     * </ul>
+     *
+     * <p>Binding methods that call native functions directly, without a function pointer, always use JNI.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.system.dispatch</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<String> FUNCTION_DISPATCH = new Configuration<>("org.lwjgl.system.dispatch", StateInit.STRING);
+
     /**
      * Set to true to disable LWJGL's basic checks. These are trivial checks that LWJGL performs to avoid JVM crashes, very useful during development.
      * Their performance impact is usually minimal, but they may be disabled for release builds.
@@ -217,6 +348,34 @@ public class Configuration<T> {
      */
     public static final Configuration<Boolean> DEBUG_MEMORY_ALLOCATOR_INTERNAL = new Configuration<>("org.lwjgl.util.DebugAllocator.internal", StateInit.BOOLEAN);
 
+    /**
+     * When set to a value greater than 1, the debug allocator tracks approximately 1 in N allocations, instead of all allocations.
+     *
+     * <p>Only sampled allocations record a stack trace and they are stored in a lock-free table of fixed capacity. Frees of allocations that were not sampled
+     * are ignored, so the debug allocator cannot detect invalid frees in this mode. The aggregated {@code memReport} results and the leak report on JVM exit
+     * are scaled to estimate the totals of all allocations.</p>
+     *
+     * <p>If this option is not set, it defaults to 1, which disables sampling.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.util.DebugAllocator.sampleRate</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<Integer> DEBUG_MEMORY_ALLOCATOR_SAMPLE_RATE = new Configuration<>("org.lwjgl.util.DebugAllocator.sampleRate", StateInit.INT);
+
+    /**
+     * When set to a value greater than 0, the debug allocator samples allocations once per N bytes allocated, on average, instead of tracking all
+     * allocations.
+     *
+     * <p>Larger allocations are more likely to be sampled. This is preferable to {@link #DEBUG_MEMORY_ALLOCATOR_SAMPLE_RATE} when a few large allocations
+     * must not be missed. Takes precedence over {@link #DEBUG_MEMORY_ALLOCATOR_SAMPLE_RATE} if both are set.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.util.DebugAllocator.sampleBytes</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<Integer> DEBUG_MEMORY_ALLOCATOR_SAMPLE_BYTES = new Configuration<>("org.lwjgl.util.DebugAllocator.sampleBytes", StateInit.INT);
+
     /**
      * Set to true to enable LWJGL's debug mode for the {@link MemoryStack}. When using the stack, each frame should be popped in the same method that pushed
      * it. If this symmetry is broken, this mode will report it immediately.
@@ -243,6 +402,18 @@ public class Configuration<T> {
      */
     public static final Configuration<Boolean> DEBUG_FUNCTIONS = new Configuration<>("org.lwjgl.util.DebugFunctions", StateInit.BOOLEAN);
 
+    /**
+     * Set to true to count the calls and measure the time spent in each native function.
+     *
+     * <p>This option has an effect only if the bindings were generated with {@code binding.PROFILE=true}. The default LWJGL build does not include the
+     * profiling instrumentation. The results are available via {@link FunctionProfiler#snapshot} and {@link FunctionProfiler#report}.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.util.ProfileFunctions</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<Boolean> PROFILE_FUNCTIONS = new Configuration<>("org.lwjgl.util.ProfileFunctions", StateInit.BOOLEAN);
+
     // -- ASSIMP
 
     /** Similar to {@link #LIBRARY_NAME} for the AssImp library (<b>org.lwjgl.assimp.libname</b>). */
@@ -388,6 +559,20 @@ public class Configuration<T> {
      */
     public static final Configuration<Object> OPENGL_MAXVERSION = new Configuration<>("org.lwjgl.opengl.maxVersion", StateInit.STRING);
 
+    /**
+     * When enabled, {@code GLCapabilities} instances resolve only the function pointers of the OpenGL versions and extensions that are supported by the
+     * context. The function pointers of unsupported versions and extensions are set to {@code NULL}.
+     *
+     * <p>This reduces the number of function pointer lookups and the cost of creating a capabilities instance, especially for contexts that support a small
+     * subset of the available extensions. It may prevent the optimization that shares a single capabilities instance between contexts, if contexts that support
+     * different extensions are used.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.opengl.resolveSupportedOnly</b><br>
+     * &nbsp; &nbsp;Usage: Dynamic</p>
+     */
+    public static final Configuration<Boolean> OPENGL_RESOLVE_SUPPORTED_ONLY = new Configuration<>("org.lwjgl.opengl.resolveSupportedOnly", StateInit.BOOLEAN);
+
     // -- OPENGL ES
 
     /** Similar to {@link #EGL_EXPLICIT_INIT} for the OpenGL ES library (<b>org.lwjgl.opengles.explicitInit</b>). */
@@ -399,6 +584,9 @@ public class Configuration<T> {
     /** Similar to {@link #OPENGL_MAXVERSION} for the OpenGL ES library (<b>org.lwjgl.opengles.maxVersion</b>). */
     public static final Configuration<Object> OPENGLES_MAXVERSION = new Configuration<>("org.lwjgl.opengles.maxVersion", StateInit.STRING);
 
+    /** Similar to {@link #OPENGL_RESOLVE_SUPPORTED_ONLY} for the OpenGL ES library (<b>org.lwjgl.opengles.resolveSupportedOnly</b>). */
+    public static final Configuration<Boolean> OPENGLES_RESOLVE_SUPPORTED_ONLY = new Configuration<>("org.lwjgl.opengles.resolveSupportedOnly", StateInit.BOOLEAN);
+
     // -- OPENVR
 
     /** Similar to {@link #LIBRARY_NAME} for the OpenVR library (<b>org.lwjgl.openvr.libname</b>). */
@@ -0,0 +1,278 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.lwjgl.system.APIUtil.*;
+
+/**
+ * Per-function profiling of native calls.
+ *
+ * <p>Bindings generated with {@code binding.PROFILE=true} (see {@code config/build-bindings.xml}) register each binding class with the profiler and wrap
+ * every native call with {@link #start} and {@link Scope#record}. The default LWJGL build does not include this instrumentation, so there is no cost
+ * unless a profiling build is used. Even in a profiling build, calls are only measured if {@link Configuration#PROFILE_FUNCTIONS} is enabled, otherwise
+ * the instrumentation is a no-op that the JIT compiler eliminates.</p>
+ *
+ * <p>The measured duration of a call includes the JNI transition and the native function. It does not include the argument validation or the Java-side
+ * encoding of arguments. Call counts and durations are accumulated in {@link LongAdder} instances, so profiled functions may be called concurrently
+ * without contention.</p>
+ *
+ * <p>When the application is running on Java 11 or higher with Flight Recorder support, a {@code org.lwjgl.FunctionProfile} event is emitted periodically
+ * for each function that has been called since the previous event.</p>
+ */
+public final class FunctionProfiler {
+
+    static final boolean ENABLED = Configuration.PROFILE_FUNCTIONS.get(false);
+
+    private static final List<Scope> SCOPES = new CopyOnWriteArrayList<>();
+
+    private static final Scope DISABLED = new Scope("", new String[0]);
+
+    static {
+        if (ENABLED && !FunctionProfilerEvent.register()) {
+            apiLog("[FunctionProfiler] Flight Recorder is not available, FunctionProfile events disabled.");
+        }
+    }
+
+    private FunctionProfiler() {
+    }
+
+    /** Returns true if native calls are being profiled. */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Registers the functions of a binding class. This method is called by generated code.
+     *
+     * @param container the binding class
+     * @param functions the function names, in the order of the indices passed to {@link Scope#record}
+     */
+    public static Scope register(Class<?> container, String... functions) {
+        if (!ENABLED) {
+            return DISABLED;
+        }
+
+        Scope scope = new Scope(container.getName(), functions);
+        SCOPES.add(scope);
+        return scope;
+    }
+
+    /** Returns the start timestamp of a profiled call. This method is called by generated code. */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Returns the counters of the functions that have been called at least once.
+     *
+     * @throws IllegalStateException if {@link Configuration#PROFILE_FUNCTIONS} is not enabled
+     */
+    public static List<Entry> snapshot() {
+        if (!ENABLED) {
+            throw new IllegalStateException("Function profiling is not enabled.");
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for (Scope scope : SCOPES) {
+            for (int i = 0; i < scope.functions.length; i++) {
+                long calls = scope.calls[i].sum();
+                if (calls != 0L) {
+                    entries.add(new Entry(scope.container, scope.functions[i], calls, scope.time[i].sum()));
+                }
+            }
+        }
+        return entries;
+    }
+
+    /** Resets the counters of all functions. */
+    public static void reset() {
+        for (Scope scope : SCOPES) {
+            for (int i = 0; i < scope.functions.length; i++) {
+                scope.calls[i].reset();
+                scope.time[i].reset();
+            }
+        }
+    }
+
+    /**
+     * Returns a report of the functions that have been called, as a table with one row per function.
+     *
+     * @param order the order of the rows, e.g. {@link Entry#BY_TIME}
+     * @param limit the maximum number of rows
+     */
+    public static String report(Comparator<Entry> order, int limit) {
+        List<Entry> entries = snapshot();
+        entries.sort(order);
+
+        long totalCalls = 0L;
+        long totalTime  = 0L;
+        for (Entry entry : entries) {
+            totalCalls += entry.calls;
+            totalTime += entry.time;
+        }
+
+        StringBuilder sb = new StringBuilder(128 + Math.min(entries.size(), limit) * 128);
+        sb.append(String.format("%-64s %14s %14s %10s %7s%n", "Function", "Calls", "Time (us)", "Avg (ns)", "Time %"));
+        for (int i = 0; i < entries.size() && i < limit; i++) {
+            Entry entry = entries.get(i);
+            sb.append(String.format(
+                "%-64s %14d %14d %10d %6.2f%%%n",
+                entry.getContainer().substring(entry.getContainer().lastIndexOf('.') + 1) + '.' + entry.getFunction(),
+                entry.calls,
+                entry.time / 1000L,
+                entry.getAverageTime(),
+                totalTime == 0L ? 0.0 : entry.time * 100.0 / totalTime
+            ));
+        }
+        sb.append(String.format("%-64s %14d %14d%n", String.format("Total (%d functions)", entries.size()), totalCalls, totalTime / 1000L));
+        return sb.toString();
+    }
+
+    static List<Scope> scopes() {
+        return SCOPES;
+    }
+
+    /** The counters of the functions of a binding class. */
+    public static final class Scope {
+
+        final String   container;
+        final String[] functions;
+
+        final LongAdder[] calls;
+        final LongAdder[] time;
+
+        Scope(String container, String[] functions) {
+            this.container = container;
+            this.functions = functions;
+
+            this.calls = new LongAdder[functions.length];
+            this.time = new LongAdder[functions.length];
+            for (int i = 0; i < functions.length; i++) {
+                calls[i] = new LongAdder();
+                time[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Records a call to the specified function.
+         *
+         * @param function the function index
+         * @param start    the value returned by {@link FunctionProfiler#start} before the call
+         */
+        public void record(int function, long start) {
+            if (ENABLED) {
+                long t = System.nanoTime() - start;
+                calls[function].increment();
+                time[function].add(Math.max(t, 0L));
+            }
+        }
+
+        /** Records a call to the specified function and returns its result. */
+        public boolean record(int function, long start, boolean result) {
+            record(function, start);
+            return result;
+        }
+
+        /** Records a call to the specified function and returns its result. */
+        public byte record(int function, long start, byte result) {
+            record(function, start);
+            return result;
+        }
+
+        /** Records a call to the specified function and returns its result. */
+        public short record(int function, long start, short result) {
+            record(function, start);
+            return result;
+        }
+
+        /** Records a call to the specified function and returns its result. */
+        public char record(int function, long start, char result) {
+            record(function, start);
+            return result;
+        }
+
+        /** Records a call to the specified function and returns its result. */
+        public int record(int function, long start, int result) {
+            record(function, start);
+            return result;
+        }
+
+        /** Records a call to the specified function and returns its result. */
+        public long record(int function, long start, long result) {
+            record(function, start);
+            return result;
+        }
+
+        /** Records a call to the specified function and returns its result. */
+        public float record(int function, long start, float result) {
+            record(function, start);
+            return result;
+        }
+
+        /** Records a call to the specified function and returns its result. */
+        public double record(int function, long start, double result) {
+            record(function, start);
+            return result;
+        }
+
+        /** Records a call to the specified function and returns its result. */
+        public <T> T record(int function, long start, T result) {
+            record(function, start);
+            return result;
+        }
+
+    }
+
+    /** The counters of a single function. */
+    public static final class Entry {
+
+        /** Orders entries by descending number of calls. */
+        public static final Comparator<Entry> BY_CALLS = (a, b) -> Long.compare(b.calls, a.calls);
+        /** Orders entries by descending cumulative time. */
+        public static final Comparator<Entry> BY_TIME  = (a, b) -> Long.compare(b.time, a.time);
+        /** Orders entries by descending average time per call. */
+        public static final Comparator<Entry> BY_AVERAGE_TIME = (a, b) -> Long.compare(b.getAverageTime(), a.getAverageTime());
+        /** Orders entries by binding class and function name. */
+        public static final Comparator<Entry> BY_NAME  = Comparator.comparing(Entry::getContainer).thenComparing(Entry::getFunction);
+
+        private final String container;
+        private final String function;
+        private final long   calls;
+        private final long   time;
+
+        Entry(String container, String function, long calls, long time) {
+            this.container = container;
+            this.function = function;
+            this.calls = calls;
+            this.time = time;
+        }
+
+        /** Returns the fully qualified name of the binding class. */
+        public String getContainer() { return container; }
+
+        /** Returns the function name. */
+        public String getFunction() { return function; }
+
+        /** Returns the number of calls. */
+        public long getCalls() { return calls; }
+
+        /** Returns the cumulative duration of the calls, in nanoseconds. */
+        public long getTime() { return time; }
+
+        /** Returns the average duration of a call, in nanoseconds. */
+        public long getAverageTime() { return calls == 0L ? 0L : time / calls; }
+
+        @Override
+        public String toString() {
+            return String.format("FunctionProfiler.Entry[%s.%s, calls=%d, time=%d]", container, function, calls, time);
+        }
+
+    }
+
+}
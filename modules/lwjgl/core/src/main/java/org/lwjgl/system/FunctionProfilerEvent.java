@@ -0,0 +1,22 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+/**
+ * The Flight Recorder event of {@link FunctionProfiler}.
+ *
+ * <p>Flight Recorder events are only emitted on Java 11 or higher, by the multi-release version of this class.</p>
+ */
+final class FunctionProfilerEvent {
+
+    private FunctionProfilerEvent() {
+    }
+
+    /** Returns false, Flight Recorder is not available before Java 11. */
+    static boolean register() {
+        return false;
+    }
+
+}
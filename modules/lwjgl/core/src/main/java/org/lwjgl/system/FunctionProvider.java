@@ -4,9 +4,12 @@
  */
 package org.lwjgl.system;
 
+import org.lwjgl.*;
+
 import java.nio.*;
 
 import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
 
 /** A provider of native function addresses. */
 @FunctionalInterface
@@ -28,4 +31,31 @@ public interface FunctionProvider {
      */
     long getFunctionAddress(ByteBuffer functionName);
 
+    /**
+     * Returns the function addresses of multiple functions.
+     *
+     * <p>{@code functionNames} must contain at least {@code addresses.remaining()} encoded, NUL-terminated function names, packed one after the other. The
+     * address of each function is stored at the corresponding index of {@code addresses}, or 0L if the function is not supported. The positions of both
+     * buffers are not modified.</p>
+     *
+     * <p>The default implementation calls {@link #getFunctionAddress(ByteBuffer)} for each function. Implementations backed by a native library override this
+     * method to resolve all functions with a single native call.</p>
+     *
+     * @param functionNames the packed function names
+     * @param addresses     the buffer that will receive the function addresses
+     */
+    default void getFunctionAddresses(ByteBuffer functionNames, PointerBuffer addresses) {
+        ByteBuffer name = functionNames.slice();
+        for (int i = addresses.position(), start = 0; i < addresses.limit(); i++) {
+            name.position(start);
+            int end = start + memLengthNT1(name) + 1;
+            name.limit(end);
+
+            addresses.put(i, getFunctionAddress(name));
+
+            name.limit(name.capacity());
+            start = end;
+        }
+    }
+
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ import java.nio.channels.*;
 import java.nio.file.*;
 import java.security.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.regex.*;
 
@@ -398,6 +399,64 @@ public final class Library {
         }
     }
 
+    /**
+     * Calls {@link #preload(Executor, Class[])} using {@link ForkJoinPool#commonPool()} as the executor.
+     *
+     * @param bindings the binding classes to preload
+     *
+     * @return a future that completes when all bindings have been initialized
+     */
+    public static CompletableFuture<Void> preload(Class<?>... bindings) {
+        return preload(ForkJoinPool.commonPool(), bindings);
+    }
+
+    /**
+     * Concurrently initializes the specified binding classes on the specified executor.
+     *
+     * <p>Binding classes load their shared library and resolve their functions during class initialization. Normally this happens serially, the first time
+     * each binding is used. This method can be called early during application startup to move the extraction, loading and function resolution of multiple
+     * shared libraries off the critical path. For each binding class, the nested {@code Functions} class is also initialized, if one exists.</p>
+     *
+     * <p>Application threads that use a binding while it is being initialized will wait for the initialization to complete. Bindings that are already
+     * initialized are not affected. The bindings should not depend on each other during initialization, other than through the shared library of another
+     * binding (e.g. {@code LLVMCore.getLibrary()}).</p>
+     *
+     * <pre><code>
+     * CompletableFuture&lt;Void&gt; preload = Library.preload(GLFW.class, ALC.class, LibZstd.class, ClangIndex.class);
+     * // ...application setup...
+     * preload.join(); // optional, rethrows the first initialization failure</code></pre>
+     *
+     * @param executor the executor that will initialize the bindings
+     * @param bindings the binding classes to preload
+     *
+     * @return a future that completes when all bindings have been initialized, or completes exceptionally with the first initialization failure
+     */
+    public static CompletableFuture<Void> preload(Executor executor, Class<?>... bindings) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[bindings.length];
+        for (int i = 0; i < bindings.length; i++) {
+            Class<?> binding = bindings[i];
+            futures[i] = CompletableFuture.runAsync(() -> preload(binding), executor);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    private static void preload(Class<?> binding) {
+        apiLog("Preloading: " + binding.getName());
+
+        ClassLoader loader = binding.getClassLoader();
+        try {
+            Class.forName(binding.getName(), true, loader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e); // cannot happen
+        }
+
+        try {
+            Class.forName(binding.getName() + "$Functions", true, loader);
+        } catch (ClassNotFoundException ignored) {
+            // the binding does not use a Functions class
+        }
+    }
+
     @Nullable
     static Path findFile(String path, String file) {
         for (String directory : PATH_SEPARATOR.split(path)) {
@@ -11,6 +11,7 @@ import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 
 import static org.lwjgl.system.APIUtil.*;
+import static org.lwjgl.system.MemoryStack.*;
 import static org.lwjgl.system.MemoryUtil.*;
 import static org.lwjgl.system.StackWalkUtil.*;
 import static org.lwjgl.system.dyncall.DynCallback.*;
@@ -28,6 +29,10 @@ final class MemoryManage {
             return (MemoryAllocator)allocator;
         }
 
+        if ("pool".equals(allocator)) {
+            return new PoolAllocator(new StdlibAllocator());
+        }
+
         if (!"system".equals(allocator)) {
             String className;
             if (allocator == null || "jemalloc".equals(allocator)) {
@@ -52,6 +57,69 @@ final class MemoryManage {
         return new StdlibAllocator();
     }
 
+    /** Returns native callbacks that forward to {@code allocator}, in {@code getMalloc} to {@code getAlignedFree} order. */
+    static long[] createCallbacks(MemoryAllocator allocator) {
+        return new long[] {
+            new CallbackI.P() {
+                @Override public String getSignature() {
+                    return "(p)p";
+                }
+                @Override public long callback(long args) {
+                    long size = dcbArgPointer(args);
+                    return allocator.malloc(size);
+                }
+            }.address(),
+            new CallbackI.P() {
+                @Override public String getSignature() {
+                    return "(pp)p";
+                }
+                @Override public long callback(long args) {
+                    long num  = dcbArgPointer(args);
+                    long size = dcbArgPointer(args);
+                    return allocator.calloc(num, size);
+                }
+            }.address(),
+            new CallbackI.P() {
+                @Override public String getSignature() {
+                    return "(pp)p";
+                }
+                @Override public long callback(long args) {
+                    long ptr  = dcbArgPointer(args);
+                    long size = dcbArgPointer(args);
+                    return allocator.realloc(ptr, size);
+                }
+            }.address(),
+            new CallbackI.V() {
+                @Override public String getSignature() {
+                    return "(p)v";
+                }
+                @Override public void callback(long args) {
+                    long ptr = dcbArgPointer(args);
+                    allocator.free(ptr);
+                }
+            }.address(),
+            new CallbackI.P() {
+                @Override public String getSignature() {
+                    return "(pp)p";
+                }
+                @Override public long callback(long args) {
+                    long alignment = dcbArgPointer(args);
+                    long size      = dcbArgPointer(args);
+                    return allocator.aligned_alloc(alignment, size);
+                }
+            }.address(),
+            new CallbackI.V() {
+                @Override public String getSignature() {
+                    return "(p)v";
+                }
+                @Override public void callback(long args) {
+                    long ptr = dcbArgPointer(args);
+                    allocator.aligned_free(ptr);
+                }
+            }.address()
+        };
+    }
+
     /** stdlib memory allocator. */
     private static class StdlibAllocator implements MemoryAllocator {
 
@@ -69,6 +137,428 @@ final class MemoryManage {
         @Override public long aligned_alloc(long alignment, long size) { return naligned_alloc(alignment, size); }
         @Override public void aligned_free(long ptr)                   { naligned_free(ptr); }
 
+        @Override
+        public long usable_size(long ptr) {
+            return UsableSize.FUNCTION == NULL ? -1L : JNI.invokePP(ptr, UsableSize.FUNCTION);
+        }
+
+        /**
+         * Lazily resolves {@code malloc_usable_size}, or {@code malloc_size} on macOS.
+         *
+         * <p>Not available on Windows, where the aligned allocations of the CRT require {@code _aligned_msize}.</p>
+         */
+        private static final class UsableSize {
+
+            static final long FUNCTION;
+
+            static {
+                long function = NULL;
+                try (MemoryStack stack = stackPush()) {
+                    switch (Platform.get()) {
+                        case LINUX:
+                            // RTLD_DEFAULT is NULL on glibc
+                            function = org.lwjgl.system.linux.DynamicLinkLoader.ndlsym(NULL, memAddress(stack.ASCII("malloc_usable_size")));
+                            break;
+                        case FREEBSD:
+                            // RTLD_DEFAULT is (void *)-2
+                            function = org.lwjgl.system.freebsd.DynamicLinkLoader.ndlsym(-2L, memAddress(stack.ASCII("malloc_usable_size")));
+                            break;
+                        case MACOSX:
+                            function = org.lwjgl.system.macosx.DynamicLinkLoader.ndlsym(
+                                org.lwjgl.system.macosx.DynamicLinkLoader.RTLD_DEFAULT,
+                                memAddress(stack.ASCII("malloc_size"))
+                            );
+                            break;
+                    }
+                }
+                FUNCTION = function;
+            }
+
+            private UsableSize() {
+            }
+
+        }
+
+    }
+
+    /**
+     * A memory allocator that serves small allocations from thread-local free lists.
+     *
+     * <p>Requests of up to {@link #MAX_POOLED_SIZE} bytes are rounded up to a size class, with four classes per power of two, and are served from free lists
+     * owned by the allocating thread. Free lists are refilled from native slabs, allocated with the backing allocator. A block freed by a thread other than
+     * its owner is pushed to a lock-free list of the owning thread, which reclaims it when its own free list runs dry. Larger requests and aligned
+     * allocations are forwarded to the backing allocator.</p>
+     *
+     * <p>The free lists of terminated threads are adopted by new threads. Slab memory is never returned to the backing allocator.</p>
+     */
+    static class PoolAllocator implements MemoryAllocator {
+
+        /** The largest request that is served from a size class. */
+        static final int MAX_POOLED_SIZE = 64 * 1024;
+
+        /** The size of the header in front of each block. Also preserves the 16-byte alignment of the backing allocator. */
+        private static final int HEADER_SIZE = 16;
+
+        /** The size of the native slabs that blocks are carved from. */
+        private static final int SLAB_SIZE = 1024 * 1024;
+
+        /** The owner stored in the header of blocks allocated with the backing allocator. */
+        private static final int UNPOOLED = -1;
+
+        static final int[] CLASS_SIZES;
+
+        static {
+            CLASS_SIZES = new int[sizeClass(MAX_POOLED_SIZE) + 1];
+            for (int i = 0; i < CLASS_SIZES.length; i++) {
+                if (i < 8) {
+                    CLASS_SIZES[i] = (i + 1) << 4;
+                } else {
+                    int shift = 5 + ((i - 8) >> 2);
+                    CLASS_SIZES[i] = (1 << (shift + 2)) + ((((i - 8) & 3) + 1) << shift);
+                }
+            }
+        }
+
+        private final MemoryAllocator allocator;
+
+        private volatile Pool[] pools = new Pool[0];
+
+        private final ThreadLocal<Pool> pool = ThreadLocal.withInitial(this::acquire);
+
+        @Nullable
+        private long[] callbacks;
+
+        PoolAllocator(MemoryAllocator allocator) {
+            this.allocator = allocator;
+        }
+
+        /** Returns the index of the smallest size class that can hold {@code size} bytes. */
+        static int sizeClass(long size) {
+            if (size <= 128L) {
+                return size == 0L ? 0 : (int)((size - 1L) >> 4);
+            }
+
+            int bits = 64 - Long.numberOfLeadingZeros(size - 1L);
+            return 8 + ((bits - 8) << 2) + (int)(((size - 1L) >> (bits - 3)) & 3L);
+        }
+
+        private synchronized long getCallback(int index) {
+            if (callbacks == null) {
+                callbacks = createCallbacks(this);
+            }
+            return callbacks[index];
+        }
+
+        @Override public long getMalloc()       { return getCallback(0); }
+        @Override public long getCalloc()       { return getCallback(1); }
+        @Override public long getRealloc()      { return getCallback(2); }
+        @Override public long getFree()         { return getCallback(3); }
+        @Override public long getAlignedAlloc() { return allocator.getAlignedAlloc(); }
+        @Override public long getAlignedFree()  { return allocator.getAlignedFree(); }
+
+        @Override
+        public long malloc(long size) {
+            if (!isPooled(size)) {
+                return mallocUnpooled(size);
+            }
+
+            int  sizeClass = sizeClass(size);
+            Pool pool      = this.pool.get();
+
+            long ptr = pool.free[sizeClass];
+            if (ptr == NULL) {
+                if (pool.remote.get(sizeClass) == NULL) {
+                    return pool.carve(sizeClass);
+                }
+                ptr = pool.remote.getAndSet(sizeClass, NULL);
+            }
+            pool.free[sizeClass] = memGetLong(ptr);
+
+            return ptr;
+        }
+
+        @Override
+        public long calloc(long num, long size) {
+            long bytes = num * size;
+            if (num != 0L && Long.divideUnsigned(bytes, num) != size) {
+                return NULL;
+            }
+
+            if (!isPooled(bytes)) {
+                if (overflows(bytes)) {
+                    return NULL;
+                }
+                long block = allocator.calloc(1L, HEADER_SIZE + bytes);
+                return block == NULL ? NULL : header(block, bytes);
+            }
+
+            long ptr = malloc(bytes);
+            if (ptr != NULL) {
+                memSet(ptr, 0, bytes);
+            }
+            return ptr;
+        }
+
+        @Override
+        public long realloc(long ptr, long size) {
+            if (ptr == NULL) {
+                return malloc(size);
+            }
+
+            long block = ptr - HEADER_SIZE;
+            long capacity;
+            if (memGetInt(block) == UNPOOLED) {
+                if (!isPooled(size)) {
+                    if (overflows(size)) {
+                        return NULL;
+                    }
+                    long address = allocator.realloc(block, HEADER_SIZE + size);
+                    return address == NULL ? NULL : header(address, size);
+                }
+                capacity = memGetLong(block + 8);
+            } else {
+                int sizeClass = memGetInt(block + 4);
+                if (isPooled(size) && sizeClass(size) == sizeClass) {
+                    return ptr;
+                }
+                capacity = CLASS_SIZES[sizeClass];
+            }
+
+            long address = malloc(size);
+            if (address != NULL) {
+                memCopy(ptr, address, Math.min(capacity, size));
+                free(ptr);
+            }
+            return address;
+        }
+
+        @Override
+        public void free(long ptr) {
+            if (ptr == NULL) {
+                return;
+            }
+
+            long block = ptr - HEADER_SIZE;
+
+            int owner = memGetInt(block);
+            if (owner == UNPOOLED) {
+                allocator.free(block);
+                return;
+            }
+
+            int  sizeClass = memGetInt(block + 4);
+            Pool pool      = pools[owner];
+            if (pool.owner == Thread.currentThread()) {
+                memPutLong(ptr, pool.free[sizeClass]);
+                pool.free[sizeClass] = ptr;
+            } else {
+                pool.push(sizeClass, ptr);
+            }
+        }
+
+        @Override public long aligned_alloc(long alignment, long size) { return allocator.aligned_alloc(alignment, size); }
+        @Override public void aligned_free(long ptr)                   { allocator.aligned_free(ptr); }
+
+        private long mallocUnpooled(long size) {
+            if (overflows(size)) {
+                return NULL;
+            }
+            long block = allocator.malloc(HEADER_SIZE + size);
+            return block == NULL ? NULL : header(block, size);
+        }
+
+        private static boolean isPooled(long size) {
+            return Long.compareUnsigned(size, MAX_POOLED_SIZE) <= 0;
+        }
+
+        private static boolean overflows(long size) {
+            return Long.compareUnsigned(size, -1L - HEADER_SIZE) > 0;
+        }
+
+        private static long header(long block, long size) {
+            memPutInt(block, UNPOOLED);
+            memPutLong(block + 8, size);
+            return block + HEADER_SIZE;
+        }
+
+        /**
+         * Returns the slabs of all pools to the backing allocator.
+         *
+         * <p>All blocks must have been freed and the allocator must not be used afterwards. This method is used to release the memory of allocators that are
+         * not installed as the {@link MemoryUtil} allocator, for example in tests.</p>
+         */
+        synchronized void destroy() {
+            for (Pool pool : pools) {
+                for (int i = 0; i < pool.slabCount; i++) {
+                    allocator.free(pool.slabs[i]);
+                }
+            }
+            pools = new Pool[0];
+            pool.remove();
+        }
+
+        /** Returns the pool of a terminated thread or, if there is none, a new pool. */
+        private synchronized Pool acquire() {
+            Thread thread = Thread.currentThread();
+
+            Pool[] pools = this.pools;
+            for (Pool pool : pools) {
+                if (!pool.owner.isAlive()) {
+                    pool.owner = thread;
+                    return pool;
+                }
+            }
+
+            Pool pool = new Pool(pools.length, thread);
+
+            pools = Arrays.copyOf(pools, pools.length + 1);
+            pools[pool.id] = pool;
+            this.pools = pools;
+
+            return pool;
+        }
+
+        private final class Pool {
+
+            final int id;
+
+            /**
+             * The thread that owns this pool. Only the owner may read a value equal to {@code Thread.currentThread()}, so reading it without
+             * synchronization is safe.
+             */
+            Thread owner;
+
+            /** The local free lists, linked through the first 8 bytes of each free block. Only accessed by the owner. */
+            final long[] free = new long[CLASS_SIZES.length];
+
+            /** The free lists of blocks freed by other threads. */
+            final AtomicLongArray remote = new AtomicLongArray(CLASS_SIZES.length);
+
+            /** The unused range of the current slab. Only accessed by the owner. */
+            long slab, slabEnd;
+
+            /** The slabs allocated by this pool. Only accessed by the owner, or by {@link #destroy}. */
+            long[] slabs = new long[4];
+            int    slabCount;
+
+            Pool(int id, Thread owner) {
+                this.id = id;
+                this.owner = owner;
+            }
+
+            long carve(int sizeClass) {
+                long stride = HEADER_SIZE + CLASS_SIZES[sizeClass];
+                if (slabEnd - slab < stride) {
+                    long address = allocator.malloc(SLAB_SIZE);
+                    if (address == NULL) {
+                        return NULL;
+                    }
+                    if (slabCount == slabs.length) {
+                        slabs = Arrays.copyOf(slabs, slabCount * 2);
+                    }
+                    slabs[slabCount++] = address;
+
+                    slab = address;
+                    slabEnd = address + SLAB_SIZE;
+                }
+
+                long block = slab;
+                slab += stride;
+
+                memPutInt(block, id);
+                memPutInt(block + 4, sizeClass);
+
+                return block + HEADER_SIZE;
+            }
+
+            void push(int sizeClass, long ptr) {
+                long head;
+                do {
+                    head = remote.get(sizeClass);
+                    memPutLong(ptr, head);
+                } while (!remote.compareAndSet(sizeClass, head, ptr));
+            }
+
+        }
+
+    }
+
+    /**
+     * Wraps a MemoryAllocator to collect {@link MemoryMetrics}.
+     *
+     * <p>Byte counts use the {@link MemoryAllocator#usable_size usable size} of each block, which is queried when the block is allocated and again when it is
+     * freed. Blocks with an unknown usable size are counted as 0 bytes. Native code that uses the function pointers of the wrapped allocator is not
+     * counted.</p>
+     */
+    static class MetricsAllocator implements MemoryAllocator {
+
+        private final MemoryAllocator allocator;
+
+        MetricsAllocator(MemoryAllocator allocator) {
+            this.allocator = allocator;
+        }
+
+        @Override public long getMalloc()       { return allocator.getMalloc(); }
+        @Override public long getCalloc()       { return allocator.getCalloc(); }
+        @Override public long getRealloc()      { return allocator.getRealloc(); }
+        @Override public long getFree()         { return allocator.getFree(); }
+        @Override public long getAlignedAlloc() { return allocator.getAlignedAlloc(); }
+        @Override public long getAlignedFree()  { return allocator.getAlignedFree(); }
+
+        private long sizeOf(long ptr) {
+            return Math.max(allocator.usable_size(ptr), 0L);
+        }
+
+        private long allocated(long ptr) {
+            if (ptr != NULL) {
+                MemoryMetrics.allocated(sizeOf(ptr));
+            }
+            return ptr;
+        }
+
+        @Override public long malloc(long size)                        { return allocated(allocator.malloc(size)); }
+        @Override public long calloc(long num, long size)              { return allocated(allocator.calloc(num, size)); }
+        @Override public long aligned_alloc(long alignment, long size) { return allocated(allocator.aligned_alloc(alignment, size)); }
+
+        @Override
+        public long realloc(long ptr, long size) {
+            if (ptr == NULL) {
+                return malloc(size);
+            }
+
+            long oldSize = sizeOf(ptr);
+
+            long address = allocator.realloc(ptr, size);
+            if (address == NULL && size != 0L) {
+                // The block is not freed
+                return NULL;
+            }
+
+            MemoryMetrics.freed(oldSize);
+            return allocated(address);
+        }
+
+        @Override
+        public void free(long ptr) {
+            if (ptr != NULL) {
+                MemoryMetrics.freed(sizeOf(ptr));
+                allocator.free(ptr);
+            }
+        }
+
+        @Override
+        public void aligned_free(long ptr) {
+            if (ptr != NULL) {
+                MemoryMetrics.freed(sizeOf(ptr));
+                allocator.aligned_free(ptr);
+            }
+        }
+
+        @Override
+        public long usable_size(long ptr) {
+            return allocator.usable_size(ptr);
+        }
+
     }
 
     /** Wraps a MemoryAllocator to track allocations and detect memory leaks. */
@@ -77,6 +567,21 @@ final class MemoryManage {
         private static final ConcurrentMap<Long, Allocation> ALLOCATIONS = new ConcurrentHashMap<>();
         private static final ConcurrentMap<Long, String>     THREADS     = new ConcurrentHashMap<>();
 
+        /** The sampled allocations, if sampling is enabled. */
+        @Nullable
+        private static final SampleTable SAMPLES;
+
+        static {
+            int sampleBytes = Configuration.DEBUG_MEMORY_ALLOCATOR_SAMPLE_BYTES.get(0);
+            int sampleRate  = Configuration.DEBUG_MEMORY_ALLOCATOR_SAMPLE_RATE.get(1);
+
+            SAMPLES = 0 < sampleBytes
+                ? new SampleTable(sampleBytes, true)
+                : 1 < sampleRate
+                    ? new SampleTable(sampleRate, false)
+                    : null;
+        }
+
         private final MemoryAllocator allocator;
 
         private final long[] callbacks;
@@ -84,76 +589,19 @@ final class MemoryManage {
         DebugAllocator(MemoryAllocator allocator) {
             this.allocator = allocator;
 
-            this.callbacks = new long[] {
-                new CallbackI.P() {
-                    @Override public String getSignature() {
-                        return "(p)p";
-                    }
-                    @Override public long callback(long args) {
-                        long size = dcbArgPointer(args);
-                        return malloc(size);
-                    }
-                }.address(),
-                new CallbackI.P() {
-                    @Override public String getSignature() {
-                        return "(pp)p";
-                    }
-                    @Override public long callback(long args) {
-                        long num  = dcbArgPointer(args);
-                        long size = dcbArgPointer(args);
-                        return calloc(num, size);
-                    }
-                }.address(),
-                new CallbackI.P() {
-                    @Override public String getSignature() {
-                        return "(pp)p";
-                    }
-                    @Override public long callback(long args) {
-                        long ptr  = dcbArgPointer(args);
-                        long size = dcbArgPointer(args);
-                        return realloc(ptr, size);
-                    }
-                }.address(),
-                new CallbackI.V() {
-                    @Override public String getSignature() {
-                        return "(p)v";
-                    }
-                    @Override public void callback(long args) {
-                        long ptr = dcbArgPointer(args);
-                        free(ptr);
-                    }
-                }.address(),
-                new CallbackI.P() {
-                    @Override public String getSignature() {
-                        return "(pp)p";
-                    }
-                    @Override public long callback(long args) {
-                        long alignment = dcbArgPointer(args);
-                        long size      = dcbArgPointer(args);
-                        return aligned_alloc(alignment, size);
-                    }
-                }.address(),
-                new CallbackI.V() {
-                    @Override public String getSignature() {
-                        return "(p)v";
-                    }
-                    @Override public void callback(long args) {
-                        long ptr = dcbArgPointer(args);
-                        aligned_free(ptr);
-                    }
-                }.address()
-            };
+            this.callbacks = createCallbacks(this);
 
             Runtime.getRuntime().addShutdownHook(new Thread(() -> {
                 for (long callback : callbacks) {
                     Callback.free(callback);
                 }
 
-                if (ALLOCATIONS.isEmpty()) {
+                Map<Long, Allocation> allocations = allocations();
+                if (allocations.isEmpty()) {
                     return;
                 }
 
-                for (Entry<Long, Allocation> entry : ALLOCATIONS.entrySet()) {
+                for (Entry<Long, Allocation> entry : allocations.entrySet()) {
                     Long       address    = entry.getKey();
                     Allocation allocation = entry.getValue();
 
@@ -168,6 +616,15 @@ final class MemoryManage {
                         DEBUG_STREAM.format("\tat %s\n", el.toString());
                     }
                 }
+
+                if (SAMPLES != null) {
+                    DEBUG_STREAM.format(
+                        "[LWJGL] %d sampled allocations leaked, an estimated %d bytes leaked in total. %d samples were dropped.\n",
+                        allocations.size(),
+                        SAMPLES.estimate(),
+                        SAMPLES.dropped.sum()
+                    );
+                }
             }));
         }
 
@@ -202,6 +659,20 @@ final class MemoryManage {
                 3) malloc fails, return NULL
              */
 
+            if (SAMPLES != null) {
+                Allocation allocation = ptr == NULL ? null : SAMPLES.remove(ptr);
+
+                long address = allocator.realloc(ptr, size);
+
+                if (address != NULL) {
+                    SAMPLES.track(address, size);
+                } else if (size != 0L && allocation != null) {
+                    SAMPLES.insert(ptr, allocation); // d3, ptr is still live
+                }
+
+                return address;
+            }
+
             long oldSize = untrack(ptr);
 
             long address = allocator.realloc(ptr, size);
@@ -234,13 +705,18 @@ final class MemoryManage {
 
         static long track(long address, long size) {
             if (address != NULL) {
+                if (SAMPLES != null) {
+                    SAMPLES.track(address, size);
+                    return address;
+                }
+
                 Thread t        = Thread.currentThread();
                 Long   threadId = t.getId();
                 if (!THREADS.containsKey(threadId)) {
                     THREADS.put(threadId, t.getName());
                 }
 
-                Allocation allocation = ALLOCATIONS.put(address, new Allocation(stackWalkGetTrace(), size));
+                Allocation allocation = ALLOCATIONS.put(address, new Allocation(stackWalkGetTrace(), size, size));
                 if (allocation != null) {
                     throw new IllegalStateException("The memory address specified is already being tracked: 0x" + Long.toHexString(address).toUpperCase());
                 }
@@ -254,6 +730,11 @@ final class MemoryManage {
                 return 0L;
             }
 
+            if (SAMPLES != null) {
+                Allocation allocation = SAMPLES.remove(address);
+                return allocation == null ? 0L : allocation.size;
+            }
+
             Allocation allocation = ALLOCATIONS.remove(address);
             if (allocation == null) {
                 throw new IllegalStateException("The memory address specified is not being tracked: 0x" + Long.toHexString(address).toUpperCase());
@@ -262,6 +743,236 @@ final class MemoryManage {
             return allocation.size;
         }
 
+        /**
+         * A lock-free table of sampled allocations.
+         *
+         * <p>Allocations are sampled with an exponentially distributed countdown per thread, which is decremented by 1 per allocation, or by the allocation
+         * size when sampling bytes. The weight of a sampled allocation is its size divided by the probability it had to be sampled, which makes the sum of
+         * weights an unbiased estimate of the total.</p>
+         *
+         * <p>The table uses open addressing with a bounded probe sequence. If no slot is available, the sample is dropped. A counter per home slot rejects
+         * most unsampled addresses on free, with a single read.</p>
+         *
+         * <p>Freed slots are marked as tombstones, which can be reused by inserts but lengthen the probe sequences of lookups. When the number of tombstones
+         * exceeds a threshold, the live samples are moved to a new table, which replaces the current one when the move is complete. Slots that have been
+         * moved are marked, so that concurrent inserts and removals continue in the new table. A removal of a sample that is being moved waits for the move
+         * of that single sample.</p>
+         */
+        static final class SampleTable {
+
+            private static final int CAPACITY = 1 << 16;
+
+            private static final int MAX_PROBES = 64;
+
+            private static final int COMPACT_THRESHOLD = CAPACITY / 4;
+
+            /** A freed slot. */
+            private static final Sample TOMBSTONE = new Sample(NULL, null);
+            /** A slot whose sample is being moved to the next table. */
+            private static final Sample FROZEN    = new Sample(NULL, null);
+            /** A slot that has been moved to the next table. */
+            private static final Sample MOVED     = new Sample(NULL, null);
+
+            private static final class Sample {
+                final long       address;
+                final Allocation allocation;
+
+                Sample(long address, @Nullable Allocation allocation) {
+                    this.address = address;
+                    this.allocation = allocation;
+                }
+            }
+
+            private static final class Table {
+                final AtomicReferenceArray<Sample> slots  = new AtomicReferenceArray<>(CAPACITY);
+                final AtomicIntegerArray           filter = new AtomicIntegerArray(CAPACITY);
+
+                final AtomicInteger tombstones = new AtomicInteger();
+
+                /** The table the samples are moved to. Set before any slot is marked as moved. */
+                final AtomicReference<Table> next = new AtomicReference<>();
+            }
+
+            private final double interval;
+            private final boolean bytes;
+
+            private volatile Table table = new Table();
+
+            /** The remaining number of allocations or bytes until the next sample, per thread. */
+            private final ThreadLocal<double[]> countdown;
+
+            final LongAdder dropped = new LongAdder();
+
+            SampleTable(int interval, boolean bytes) {
+                this.interval = interval;
+                this.bytes = bytes;
+                this.countdown = ThreadLocal.withInitial(() -> new double[] {next()});
+            }
+
+            private double next() {
+                return -Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) * interval;
+            }
+
+            private static int hash(long address) {
+                return (int)((address * 0x9E3779B97F4A7C15L) >>> 40) & (CAPACITY - 1);
+            }
+
+            void track(long address, long size) {
+                double units = bytes ? (double)size : 1.0;
+
+                double[] countdown = this.countdown.get();
+                if (0.0 < (countdown[0] -= units)) {
+                    return;
+                }
+                countdown[0] = next();
+
+                Thread t        = Thread.currentThread();
+                Long   threadId = t.getId();
+                if (!THREADS.containsKey(threadId)) {
+                    THREADS.put(threadId, t.getName());
+                }
+
+                double     probability = -Math.expm1(-units / interval);
+                insert(address, new Allocation(stackWalkGetTrace(), size, (long)(size / probability)));
+            }
+
+            /** Inserts an allocation without sampling. */
+            void insert(long address, Allocation allocation) {
+                put(table, new Sample(address, allocation));
+            }
+
+            private void put(Table t, Sample sample) {
+                int home = hash(sample.address);
+                for (int i = 0; i < MAX_PROBES; ) {
+                    int    slot = (home + i) & (CAPACITY - 1);
+                    Sample s    = t.slots.get(slot);
+                    if (s == null || s == TOMBSTONE) {
+                        if (t.slots.compareAndSet(slot, s, sample)) {
+                            t.filter.incrementAndGet(home);
+                            if (s == TOMBSTONE) {
+                                t.tombstones.decrementAndGet();
+                            }
+                            return;
+                        }
+                        continue; // retry the same slot
+                    }
+                    if (s == FROZEN || s == MOVED) {
+                        t = t.next.get();
+                        i = 0;
+                        continue;
+                    }
+                    i++;
+                }
+
+                dropped.increment();
+            }
+
+            @Nullable
+            Allocation remove(long address) {
+                int home = hash(address);
+
+                Table t = table;
+                while (t.filter.get(home) == 0) {
+                    // The sample may have been inserted to the next table, after the move started.
+                    t = t.next.get();
+                    if (t == null) {
+                        return null;
+                    }
+                }
+
+                while (true) {
+                    boolean moved = false;
+                    for (int i = 0; i < MAX_PROBES; ) {
+                        int    slot = (home + i) & (CAPACITY - 1);
+                        Sample s    = t.slots.get(slot);
+                        if (s == null) {
+                            break;
+                        }
+                        if (s == FROZEN) {
+                            Thread.yield();
+                            continue; // wait for the move
+                        }
+                        if (s == MOVED) {
+                            moved = true;
+                        } else if (s != TOMBSTONE && s.address == address) {
+                            if (!t.slots.compareAndSet(slot, s, TOMBSTONE)) {
+                                continue; // being moved, retry the same slot
+                            }
+                            t.filter.decrementAndGet(home);
+                            if (COMPACT_THRESHOLD < t.tombstones.incrementAndGet()) {
+                                compact(t);
+                            }
+                            return s.allocation;
+                        }
+                        i++;
+                    }
+
+                    if (!moved) {
+                        return null;
+                    }
+                    t = t.next.get();
+                }
+            }
+
+            /** Moves the live samples to a new table. Does nothing if another thread is already moving the samples of {@code t}. */
+            private void compact(Table t) {
+                Table next = new Table();
+                if (!t.next.compareAndSet(null, next)) {
+                    return;
+                }
+
+                for (int i = 0; i < CAPACITY; i++) {
+                    while (true) {
+                        Sample s = t.slots.get(i);
+                        if (s == null || s == TOMBSTONE) {
+                            if (t.slots.compareAndSet(i, s, MOVED)) {
+                                break;
+                            }
+                        } else if (t.slots.compareAndSet(i, s, FROZEN)) {
+                            put(next, s);
+                            t.slots.set(i, MOVED);
+                            break;
+                        }
+                    }
+                }
+
+                table = next;
+            }
+
+            /** Returns the number of tombstones. */
+            int tombstones() {
+                return table.tombstones.get();
+            }
+
+            /** Returns the estimated number of live bytes. */
+            long estimate() {
+                long estimate = 0L;
+                for (Allocation allocation : snapshot().values()) {
+                    estimate += allocation.weight;
+                }
+                return estimate;
+            }
+
+            Map<Long, Allocation> snapshot() {
+                Map<Long, Allocation> snapshot = new HashMap<>();
+                // Samples that are moved while iterating are found again in the next table
+                for (Table t = table; t != null; t = t.next.get()) {
+                    for (int i = 0; i < CAPACITY; i++) {
+                        Sample s = t.slots.get(i);
+                        while (s == FROZEN) {
+                            Thread.yield();
+                            s = t.slots.get(i);
+                        }
+                        if (s != null && s != TOMBSTONE && s != MOVED) {
+                            snapshot.put(s.address, s.allocation);
+                        }
+                    }
+                }
+                return snapshot;
+            }
+
+        }
+
         private static class Allocation {
 
             private final Object[] stackTrace;
@@ -270,11 +981,14 @@ final class MemoryManage {
             private StackTraceElement[] elements; // lazy init
 
             final long size;
+            /** The estimated number of bytes this allocation represents. Equal to {@code size}, unless sampling is enabled. */
+            final long weight;
             final long threadId;
 
-            Allocation(Object[] stackTrace, long size) {
+            Allocation(Object[] stackTrace, long size, long weight) {
                 this.stackTrace = stackTrace;
                 this.size = size;
+                this.weight = weight;
                 this.threadId = Thread.currentThread().getId();
             }
 
@@ -307,8 +1021,13 @@ final class MemoryManage {
 
         }
 
+        /** Returns the live allocations. If sampling is enabled, returns a snapshot of the sampled allocations. */
+        private static Map<Long, Allocation> allocations() {
+            return SAMPLES == null ? ALLOCATIONS : SAMPLES.snapshot();
+        }
+
         static void report(MemoryAllocationReport report) {
-            for (Entry<Long, Allocation> entry : ALLOCATIONS.entrySet()) {
+            for (Entry<Long, Allocation> entry : allocations().entrySet()) {
                 Allocation allocation = entry.getValue();
                 report.invoke(entry.getKey(), allocation.size, allocation.threadId, THREADS.get(allocation.threadId), allocation.getElements());
             }
@@ -324,21 +1043,23 @@ final class MemoryManage {
             MemoryAllocationReport.Aggregate groupByStackTrace,
             boolean groupByThread
         ) {
+            Collection<Allocation> allocations = allocations().values();
+
             // Using atomic long for the mutability, no concurrency here
             switch (groupByStackTrace) {
                 case ALL:
                     if (groupByThread) {
                         Map<Long, AtomicLong> mapThread = new HashMap<>();
-                        for (Allocation allocation : ALLOCATIONS.values()) {
-                            aggregate(allocation.threadId, allocation.size, mapThread);
+                        for (Allocation allocation : allocations) {
+                            aggregate(allocation.threadId, allocation.weight, mapThread);
                         }
                         for (Entry<Long, AtomicLong> entry : mapThread.entrySet()) {
                             report.invoke(NULL, entry.getValue().get(), entry.getKey(), THREADS.get(entry.getKey()), (StackTraceElement[])null);
                         }
                     } else {
                         long total = 0L;
-                        for (Allocation allocation : ALLOCATIONS.values()) {
-                            total += allocation.size;
+                        for (Allocation allocation : allocations) {
+                            total += allocation.weight;
                         }
                         report.invoke(NULL, total, NULL, null, (StackTraceElement[])null);
                     }
@@ -347,9 +1068,9 @@ final class MemoryManage {
                     // Group by stackTrace[0]
                     if (groupByThread) {
                         Map<Long, Map<StackTraceElement, AtomicLong>> mapThreadMethod = new HashMap<>();
-                        for (Allocation allocation : ALLOCATIONS.values()) {
+                        for (Allocation allocation : allocations) {
                             Map<StackTraceElement, AtomicLong> mapMethod = mapThreadMethod.computeIfAbsent(allocation.threadId, k -> new HashMap<>());
-                            aggregate(allocation.getElements()[0], allocation.size, mapMethod);
+                            aggregate(allocation.getElements()[0], allocation.weight, mapMethod);
                         }
 
                         for (Entry<Long, Map<StackTraceElement, AtomicLong>> tms : mapThreadMethod.entrySet()) {
@@ -362,8 +1083,8 @@ final class MemoryManage {
                         }
                     } else {
                         Map<StackTraceElement, AtomicLong> mapMethod = new HashMap<>();
-                        for (Allocation allocation : ALLOCATIONS.values()) {
-                            aggregate(allocation.getElements()[0], allocation.size, mapMethod);
+                        for (Allocation allocation : allocations) {
+                            aggregate(allocation.getElements()[0], allocation.weight, mapMethod);
                         }
                         for (Entry<StackTraceElement, AtomicLong> ms : mapMethod.entrySet()) {
                             report.invoke(NULL, ms.getValue().get(), NULL, null, ms.getKey());
@@ -374,9 +1095,9 @@ final class MemoryManage {
                     // Group by stackTrace[]
                     if (groupByThread) {
                         Map<Long, Map<Allocation, AtomicLong>> mapThreadStackTrace = new HashMap<>();
-                        for (Allocation allocation : ALLOCATIONS.values()) {
+                        for (Allocation allocation : allocations) {
                             Map<Allocation, AtomicLong> mapStackTrace = mapThreadStackTrace.computeIfAbsent(allocation.threadId, k -> new HashMap<>());
-                            aggregate(allocation, allocation.size, mapStackTrace);
+                            aggregate(allocation, allocation.weight, mapStackTrace);
                         }
 
                         for (Entry<Long, Map<Allocation, AtomicLong>> tss : mapThreadStackTrace.entrySet()) {
@@ -389,8 +1110,8 @@ final class MemoryManage {
                         }
                     } else {
                         Map<Allocation, AtomicLong> mapStackTrace = new HashMap<>();
-                        for (Allocation allocation : ALLOCATIONS.values()) {
-                            aggregate(allocation, allocation.size, mapStackTrace);
+                        for (Allocation allocation : allocations) {
+                            aggregate(allocation, allocation.weight, mapStackTrace);
                         }
                         for (Entry<Allocation, AtomicLong> ss : mapStackTrace.entrySet()) {
                             report.invoke(NULL, ss.getValue().get(), NULL, null, ss.getKey().getElements());
@@ -0,0 +1,371 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import javax.annotation.*;
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.function.*;
+
+import static org.lwjgl.system.Checks.*;
+import static org.lwjgl.system.JNI.*;
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.system.Pointer.*;
+
+/**
+ * A file, or a region of a file, mapped into memory.
+ *
+ * <p>The mapped memory starts at {@link #address} and can be accessed directly, via a {@link ByteBuffer} returned by {@link #buffer}, or via struct views
+ * returned by {@link #struct} and {@link #structs}. All views can be passed to any binding that accepts a buffer or struct, for example an image or audio
+ * decoder, without copying the file contents to the Java heap or to a separate native buffer.</p>
+ *
+ * <p>Unlike a plain {@link MappedByteBuffer}, which is unmapped only when it is garbage collected, a {@code MemoryMappedFile} must be explicitly unmapped with
+ * {@link #free} or {@link #close}. The address and all views are invalid after that and accessing them will crash the JVM.</p>
+ *
+ * <p>The mapping is created with {@link FileChannel#map}, which means that a single mapping cannot be larger than {@link Integer#MAX_VALUE} bytes. Larger files
+ * must be mapped in multiple regions.</p>
+ *
+ * <pre><code>
+ * try (MemoryMappedFile file = memMapFile(path, FileChannel.MapMode.READ_ONLY)) {
+ *     file.advise(MemoryMappedFile.Advice.SEQUENTIAL);
+ *     ByteBuffer image = stbi_load_from_memory(file.buffer(), w, h, comp, 0);
+ *     ...
+ * }</code></pre>
+ *
+ * @see MemoryUtil#memMapFile(Path, FileChannel.MapMode)
+ */
+public final class MemoryMappedFile implements NativeResource {
+
+    /** Hints about the expected access pattern of a mapped memory range. */
+    public enum Advice {
+        /** No special treatment. This is the default. */
+        NORMAL(0),
+        /** Expect page references in random order. Read-ahead may be less useful than normally. */
+        RANDOM(1),
+        /** Expect page references in sequential order. Pages may be aggressively read ahead and freed soon after they are accessed. */
+        SEQUENTIAL(2),
+        /** Expect access in the near future. Pages may be read ahead asynchronously. */
+        WILLNEED(3),
+        /**
+         * Do not expect access in the near future. Pages may be released.
+         *
+         * <p>Subsequent accesses re-read the pages from the file. Modifications of a {@link FileChannel.MapMode#PRIVATE PRIVATE} mapping may be discarded.</p>
+         */
+        DONTNEED(4);
+
+        /** The POSIX {@code madvise} value. */
+        final int value;
+
+        Advice(int value) {
+            this.value = value;
+        }
+    }
+
+    @Nullable
+    private MappedByteBuffer mapping;
+
+    private final FileChannel.MapMode mode;
+
+    private long address;
+    private long size;
+
+    private MemoryMappedFile(MappedByteBuffer mapping, FileChannel.MapMode mode) {
+        this.mapping = mapping;
+        this.mode = mode;
+        this.address = memAddress(mapping);
+        this.size = mapping.capacity();
+    }
+
+    /**
+     * Maps the contents of the specified file into memory.
+     *
+     * @param path the file path
+     * @param mode the mapping mode. {@link FileChannel.MapMode#READ_WRITE READ_WRITE} and {@link FileChannel.MapMode#PRIVATE PRIVATE} require that the file is
+     *             writable.
+     *
+     * @throws IOException if an I/O error occurs, or if the file is larger than {@link Integer#MAX_VALUE} bytes
+     */
+    public static MemoryMappedFile map(Path path, FileChannel.MapMode mode) throws IOException {
+        try (FileChannel channel = open(path, mode)) {
+            return map(channel, mode, 0L, channel.size());
+        }
+    }
+
+    /**
+     * Maps a region of the specified file into memory.
+     *
+     * <p>If the mode is {@link FileChannel.MapMode#READ_WRITE READ_WRITE} and the region extends beyond the end of the file, the file is grown to the region
+     * end.</p>
+     *
+     * @param path   the file path
+     * @param mode   the mapping mode. {@link FileChannel.MapMode#READ_WRITE READ_WRITE} and {@link FileChannel.MapMode#PRIVATE PRIVATE} require that the file
+     *               is writable.
+     * @param offset the file offset of the region. It does not need to be aligned to the page size.
+     * @param size   the region size, in bytes. It must not be greater than {@link Integer#MAX_VALUE}.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public static MemoryMappedFile map(Path path, FileChannel.MapMode mode, long offset, long size) throws IOException {
+        try (FileChannel channel = open(path, mode)) {
+            return map(channel, mode, offset, size);
+        }
+    }
+
+    /**
+     * Maps a region of the specified file channel into memory.
+     *
+     * <p>The mapping remains valid after the channel is closed.</p>
+     *
+     * @param channel the file channel
+     * @param mode    the mapping mode
+     * @param offset  the file offset of the region. It does not need to be aligned to the page size.
+     * @param size    the region size, in bytes. It must not be greater than {@link Integer#MAX_VALUE}.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public static MemoryMappedFile map(FileChannel channel, FileChannel.MapMode mode, long offset, long size) throws IOException {
+        if (Integer.MAX_VALUE < size) {
+            throw new IOException("The mapped region is larger than Integer.MAX_VALUE bytes: " + size);
+        }
+        return new MemoryMappedFile(channel.map(mode, offset, size), mode);
+    }
+
+    private static FileChannel open(Path path, FileChannel.MapMode mode) throws IOException {
+        return mode == FileChannel.MapMode.READ_ONLY
+            ? FileChannel.open(path, StandardOpenOption.READ)
+            : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /** Returns the address of the mapped memory. */
+    public long address() {
+        return address;
+    }
+
+    /** Returns the size of the mapped memory, in bytes. */
+    public long size() {
+        return size;
+    }
+
+    /** Returns the mapping mode. */
+    public FileChannel.MapMode mode() {
+        return mode;
+    }
+
+    /**
+     * Returns a new {@link ByteBuffer} view of the mapped memory.
+     *
+     * <p>The buffer has native byte order and is read-only if the mapping mode is {@link FileChannel.MapMode#READ_ONLY READ_ONLY}.</p>
+     */
+    public ByteBuffer buffer() {
+        return mapping().duplicate().order(NATIVE_ORDER);
+    }
+
+    /**
+     * Returns a new {@link ByteBuffer} view of a range of the mapped memory.
+     *
+     * <p>The buffer has native byte order and is read-only if the mapping mode is {@link FileChannel.MapMode#READ_ONLY READ_ONLY}.</p>
+     *
+     * @param offset the range offset, in bytes
+     * @param size   the range size, in bytes
+     */
+    public ByteBuffer buffer(int offset, int size) {
+        checkRange(offset, size);
+
+        ByteBuffer buffer = mapping().duplicate();
+        buffer.position(offset).limit(offset + size);
+        return buffer.slice().order(NATIVE_ORDER);
+    }
+
+    /**
+     * Returns a struct view of the mapped memory.
+     *
+     * <pre><code>
+     * Header header = file.struct(0L, Header::create);</code></pre>
+     *
+     * <p>Struct views do not enforce the mapping mode. Writing to a {@link FileChannel.MapMode#READ_ONLY READ_ONLY} mapping will crash the JVM.</p>
+     *
+     * @param offset  the struct offset, in bytes
+     * @param factory the function that creates a struct instance at the specified address
+     */
+    public <T extends Struct> T struct(long offset, LongFunction<T> factory) {
+        if (CHECKS) {
+            checkRange(offset, 0L);
+        }
+        T struct = factory.apply(address + offset);
+        if (CHECKS) {
+            checkRange(offset, struct.sizeof());
+        }
+        return struct;
+    }
+
+    /**
+     * Returns a struct buffer view of the mapped memory.
+     *
+     * <pre><code>
+     * Vertex.Buffer vertices = file.structs(header.sizeof(), header.vertexCount(), Vertex::create);</code></pre>
+     *
+     * <p>Struct views do not enforce the mapping mode. Writing to a {@link FileChannel.MapMode#READ_ONLY READ_ONLY} mapping will crash the JVM.</p>
+     *
+     * @param offset   the offset of the first struct, in bytes
+     * @param capacity the number of structs
+     * @param factory  the function that creates a struct buffer at the specified address
+     */
+    public <B extends StructBuffer<?, ?>> B structs(long offset, int capacity, StructBufferFactory<B> factory) {
+        if (CHECKS) {
+            checkRange(offset, 0L);
+        }
+        B buffer = factory.create(address + offset, capacity);
+        if (CHECKS) {
+            checkRange(offset, Integer.toUnsignedLong(capacity) * buffer.sizeof());
+        }
+        return buffer;
+    }
+
+    /**
+     * Advises the operating system about the expected access pattern of the mapped memory.
+     *
+     * @param advice the access pattern hint
+     *
+     * @return true if the hint was applied, false if it is not supported on the current platform
+     */
+    public boolean advise(Advice advice) {
+        return advise(advice, 0L, size);
+    }
+
+    /**
+     * Advises the operating system about the expected access pattern of a range of the mapped memory.
+     *
+     * <p>On Linux, macOS and FreeBSD, this method calls {@code madvise}. On Windows, only {@link Advice#WILLNEED WILLNEED} is supported, via
+     * {@code PrefetchVirtualMemory} (Windows 8 or newer).</p>
+     *
+     * @param advice the access pattern hint
+     * @param offset the range offset, in bytes
+     * @param length the range length, in bytes
+     *
+     * @return true if the hint was applied, false if it is not supported on the current platform
+     */
+    public boolean advise(Advice advice, long offset, long length) {
+        checkRange(offset, length);
+        if (length == 0L) {
+            return true;
+        }
+
+        long function = Advise.FUNCTION;
+        if (function == NULL) {
+            return false;
+        }
+
+        // madvise requires a page-aligned address. The mapping itself is always page-aligned, even if the region offset is not.
+        long start = (address + offset) & -(long)PAGE_SIZE;
+        long end   = address + offset + length;
+
+        if (Platform.get() == Platform.WINDOWS) {
+            if (advice != Advice.WILLNEED) {
+                return false;
+            }
+            try (MemoryStack stack = stackPush()) {
+                // WIN32_MEMORY_RANGE_ENTRY
+                long entry = stack.nmalloc(POINTER_SIZE, POINTER_SIZE * 2);
+                memPutAddress(entry, start);
+                memPutAddress(entry + POINTER_SIZE, end - start);
+                return invokePPPI(-1L /* GetCurrentProcess() */, 1L, entry, 0, function) != 0;
+            }
+        }
+        return invokePPI(start, end - start, advice.value, function) == 0;
+    }
+
+    /**
+     * Forces any changes made to the mapped memory to be written to the file.
+     *
+     * <p>This method has no effect if the mapping mode is not {@link FileChannel.MapMode#READ_WRITE READ_WRITE}.</p>
+     */
+    public void force() {
+        mapping().force();
+    }
+
+    /** Unmaps the file. Calling this method more than once has no effect. */
+    @Override
+    public void free() {
+        MappedByteBuffer mapping = this.mapping;
+        if (mapping == null) {
+            return;
+        }
+
+        this.mapping = null;
+        this.address = NULL;
+        this.size = 0L;
+
+        MultiReleaseMemoryMapping.unmap(mapping);
+    }
+
+    private MappedByteBuffer mapping() {
+        MappedByteBuffer mapping = this.mapping;
+        if (mapping == null) {
+            throw new IllegalStateException("The file has been unmapped.");
+        }
+        return mapping;
+    }
+
+    private void checkRange(long offset, long length) {
+        if (offset < 0L || length < 0L || size - offset < length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length + ") is out of bounds for mapping of size " + size);
+        }
+    }
+
+    /** Functional interface for {@link #structs}. Compatible with the generated {@code create(long address, int capacity)} factory of struct types. */
+    @FunctionalInterface
+    public interface StructBufferFactory<B extends StructBuffer<?, ?>> {
+        /**
+         * Creates a struct buffer at the specified address.
+         *
+         * @param address  the address of the first struct
+         * @param capacity the number of structs
+         */
+        B create(long address, int capacity);
+    }
+
+    /** Lazily resolves {@code madvise}, or {@code PrefetchVirtualMemory} on Windows. */
+    private static final class Advise {
+
+        static final long FUNCTION;
+
+        static {
+            long function = NULL;
+            try (MemoryStack stack = stackPush()) {
+                switch (Platform.get()) {
+                    case LINUX:
+                        // RTLD_DEFAULT is NULL on glibc
+                        function = org.lwjgl.system.linux.DynamicLinkLoader.ndlsym(NULL, memAddress(stack.ASCII("madvise")));
+                        break;
+                    case FREEBSD:
+                        // RTLD_DEFAULT is (void *)-2
+                        function = org.lwjgl.system.freebsd.DynamicLinkLoader.ndlsym(-2L, memAddress(stack.ASCII("madvise")));
+                        break;
+                    case MACOSX:
+                        function = org.lwjgl.system.macosx.DynamicLinkLoader.ndlsym(
+                            org.lwjgl.system.macosx.DynamicLinkLoader.RTLD_DEFAULT,
+                            memAddress(stack.ASCII("madvise"))
+                        );
+                        break;
+                    case WINDOWS:
+                        long kernel32 = org.lwjgl.system.windows.WinBase.GetModuleHandle("kernel32");
+                        if (kernel32 != NULL) {
+                            function = org.lwjgl.system.windows.WinBase.GetProcAddress(kernel32, "PrefetchVirtualMemory");
+                        }
+                        break;
+                }
+            }
+            FUNCTION = function;
+        }
+
+        private Advise() {
+        }
+
+    }
+
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import javax.annotation.*;
+import javax.management.*;
+import java.lang.management.*;
+import java.lang.ref.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.lwjgl.system.APIUtil.*;
+
+/**
+ * Allocation metrics for the {@link MemoryUtil} explicit memory management API and the thread-local {@link MemoryStack} instances.
+ *
+ * <p>Metrics are collected unless {@link Configuration#MEMORY_ALLOCATOR_METRICS} is disabled. The {@link MemoryUtil} allocator is wrapped in a counting layer
+ * and the metrics are also exposed as the {@code org.lwjgl:type=MemoryMetrics} platform MXBean. When the application is running on Java 11 or higher with
+ * Flight Recorder support, {@code org.lwjgl.MemoryMetrics} and {@code org.lwjgl.ThreadMemoryMetrics} events are emitted periodically.</p>
+ *
+ * <p>Byte counts use the usable size of each block, as reported by {@link MemoryUtil.MemoryAllocator#usable_size}, which may be larger than the requested
+ * size. The jemalloc and rpmalloc allocators, and the system allocator on Linux, FreeBSD and macOS, report the usable size. With other allocators, only the
+ * number of allocations and frees is counted.</p>
+ *
+ * <p>The global counters are striped and always exact. The live bytes high-water mark is updated in batches of {@code 64 KB} per thread and may underestimate
+ * the true peak by up to that amount per thread. The per-thread values are written without synchronization and may be slightly stale when read from another
+ * thread.</p>
+ */
+public final class MemoryMetrics {
+
+    static final boolean ENABLED = Configuration.MEMORY_ALLOCATOR_METRICS.get(true);
+
+    /** The live bytes delta of a thread that triggers an update of the high-water mark. */
+    private static final long FLUSH_THRESHOLD = 64 * 1024;
+
+    private static final LongAdder ALLOCATIONS     = new LongAdder();
+    private static final LongAdder FREES           = new LongAdder();
+    private static final LongAdder ALLOCATED_BYTES = new LongAdder();
+    private static final LongAdder FREED_BYTES     = new LongAdder();
+
+    private static final AtomicLong LIVE_BYTES = new AtomicLong();
+    private static final AtomicLong PEAK_BYTES = new AtomicLong();
+
+    /** The metrics of the threads that have allocated memory. Threads are referenced weakly and removed when they are collected. */
+    private static final Set<ThreadMetrics> THREADS = ConcurrentHashMap.newKeySet();
+
+    private static final ReferenceQueue<Thread> COLLECTED_THREADS = new ReferenceQueue<>();
+
+    private static final ThreadLocal<ThreadMetrics> TLS = ThreadLocal.withInitial(() -> {
+        prune();
+
+        ThreadMetrics metrics = new ThreadMetrics(Thread.currentThread());
+        THREADS.add(metrics);
+        return metrics;
+    });
+
+    private MemoryMetrics() {
+    }
+
+    /** Returns true if allocation metrics are being collected. */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns a snapshot of the current allocation metrics.
+     *
+     * <p>Threads that have terminated are removed from subsequent snapshots. Their allocations are still included in the global counters.</p>
+     *
+     * @throws IllegalStateException if {@link Configuration#MEMORY_ALLOCATOR_METRICS} is disabled
+     */
+    public static Snapshot snapshot() {
+        if (!ENABLED) {
+            throw new IllegalStateException("Memory allocation metrics are not enabled.");
+        }
+
+        long allocatedBytes = ALLOCATED_BYTES.sum();
+        long freedBytes     = FREED_BYTES.sum();
+        long liveBytes      = allocatedBytes - freedBytes;
+
+        prune();
+
+        List<ThreadSnapshot> threads = new ArrayList<>();
+        for (Iterator<ThreadMetrics> it = THREADS.iterator(); it.hasNext(); ) {
+            ThreadMetrics metrics = it.next();
+            Thread        thread  = metrics.get();
+            if (thread == null || !thread.isAlive()) {
+                it.remove();
+                continue;
+            }
+
+            MemoryStack stack = metrics.stack;
+            threads.add(new ThreadSnapshot(
+                thread.getId(),
+                thread.getName(),
+                metrics.allocations,
+                metrics.allocatedBytes,
+                stack == null ? 0 : stack.getSize(),
+                stack == null ? 0 : stack.getPeakSize()
+            ));
+        }
+
+        return new Snapshot(
+            ALLOCATIONS.sum(),
+            FREES.sum(),
+            allocatedBytes,
+            freedBytes,
+            liveBytes,
+            Math.max(PEAK_BYTES.get(), liveBytes),
+            Collections.unmodifiableList(threads)
+        );
+    }
+
+    /** Removes the metrics of collected threads. */
+    private static void prune() {
+        for (Reference<? extends Thread> ref; (ref = COLLECTED_THREADS.poll()) != null; ) {
+            THREADS.remove(ref);
+        }
+    }
+
+    static void register(MemoryStack stack) {
+        TLS.get().stack = stack;
+    }
+
+    /**
+     * Registers the MXBean and the Flight Recorder events in a background thread.
+     *
+     * <p>Initializing the platform MBean server takes hundreds of milliseconds, which would otherwise delay the first allocation.</p>
+     */
+    static void publish() {
+        Thread thread = new Thread(() -> {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBeanImpl(), new ObjectName("org.lwjgl:type=MemoryMetrics"));
+            } catch (Throwable t) {
+                apiLog("Warning: Failed to register the memory metrics MXBean: " + t);
+            }
+
+            if (!MemoryMetricsEvent.register()) {
+                apiLog("[MemoryMetrics] Flight Recorder is not available, MemoryMetrics events disabled.");
+            }
+        }, "LWJGL MemoryMetrics");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    static void allocated(long size) {
+        ALLOCATIONS.increment();
+        ALLOCATED_BYTES.add(size);
+
+        ThreadMetrics metrics = TLS.get();
+        metrics.allocations++;
+        metrics.allocatedBytes += size;
+        metrics.delta(size);
+    }
+
+    static void freed(long size) {
+        FREES.increment();
+        FREED_BYTES.add(size);
+
+        TLS.get().delta(-size);
+    }
+
+    private static final class ThreadMetrics extends WeakReference<Thread> {
+
+        long allocations;
+        long allocatedBytes;
+
+        /** The live bytes delta that has not been added to {@link #LIVE_BYTES} yet. */
+        private long delta;
+
+        @Nullable
+        volatile MemoryStack stack;
+
+        ThreadMetrics(Thread thread) {
+            super(thread, COLLECTED_THREADS);
+        }
+
+        void delta(long size) {
+            long delta = this.delta + size;
+            if (Math.abs(delta) < FLUSH_THRESHOLD) {
+                this.delta = delta;
+                return;
+            }
+            this.delta = 0L;
+
+            long live = LIVE_BYTES.addAndGet(delta);
+            if (0L < delta) {
+                long peak;
+                do {
+                    peak = PEAK_BYTES.get();
+                } while (peak < live && !PEAK_BYTES.compareAndSet(peak, live));
+            }
+        }
+
+    }
+
+    /** The JMX interface of the memory allocation metrics. */
+    public interface MemoryMetricsMXBean {
+
+        /** Returns the number of allocations. */
+        long getAllocations();
+        /** Returns the number of frees. */
+        long getFrees();
+        /** Returns the total number of bytes allocated. */
+        long getAllocatedBytes();
+        /** Returns the total number of bytes freed. */
+        long getFreedBytes();
+        /** Returns the number of bytes currently allocated. */
+        long getLiveBytes();
+        /** Returns the highest number of bytes allocated at any time. */
+        long getPeakBytes();
+
+    }
+
+    static final class MXBeanImpl implements MemoryMetricsMXBean {
+
+        @Override public long getAllocations()    { prune(); return ALLOCATIONS.sum(); }
+        @Override public long getFrees()          { prune(); return FREES.sum(); }
+        @Override public long getAllocatedBytes() { prune(); return ALLOCATED_BYTES.sum(); }
+        @Override public long getFreedBytes()     { prune(); return FREED_BYTES.sum(); }
+        @Override public long getLiveBytes()      { prune(); return ALLOCATED_BYTES.sum() - FREED_BYTES.sum(); }
+        @Override public long getPeakBytes()      { return Math.max(PEAK_BYTES.get(), getLiveBytes()); }
+
+    }
+
+    /** An immutable snapshot of the memory allocation metrics. */
+    public static final class Snapshot implements MemoryMetricsMXBean {
+
+        private final long allocations;
+        private final long frees;
+        private final long allocatedBytes;
+        private final long freedBytes;
+        private final long liveBytes;
+        private final long peakBytes;
+
+        private final List<ThreadSnapshot> threads;
+
+        Snapshot(long allocations, long frees, long allocatedBytes, long freedBytes, long liveBytes, long peakBytes, List<ThreadSnapshot> threads) {
+            this.allocations = allocations;
+            this.frees = frees;
+            this.allocatedBytes = allocatedBytes;
+            this.freedBytes = freedBytes;
+            this.liveBytes = liveBytes;
+            this.peakBytes = peakBytes;
+            this.threads = threads;
+        }
+
+        @Override public long getAllocations()    { return allocations; }
+        @Override public long getFrees()          { return frees; }
+        @Override public long getAllocatedBytes() { return allocatedBytes; }
+        @Override public long getFreedBytes()     { return freedBytes; }
+        @Override public long getLiveBytes()      { return liveBytes; }
+        @Override public long getPeakBytes()      { return peakBytes; }
+
+        /** Returns the metrics of the live threads that have allocated memory or used their thread-local {@link MemoryStack}. */
+        public List<ThreadSnapshot> getThreads() { return threads; }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "MemoryMetrics[allocations=%d, frees=%d, allocated=%d, freed=%d, live=%d, peak=%d, threads=%d]",
+                allocations, frees, allocatedBytes, freedBytes, liveBytes, peakBytes, threads.size()
+            );
+        }
+
+    }
+
+    /** An immutable snapshot of the memory allocation metrics of a single thread. */
+    public static final class ThreadSnapshot {
+
+        private final long   threadId;
+        private final String threadName;
+
+        private final long allocations;
+        private final long allocatedBytes;
+
+        private final int stackSize;
+        private final int stackPeakSize;
+
+        ThreadSnapshot(long threadId, String threadName, long allocations, long allocatedBytes, int stackSize, int stackPeakSize) {
+            this.threadId = threadId;
+            this.threadName = threadName;
+            this.allocations = allocations;
+            this.allocatedBytes = allocatedBytes;
+            this.stackSize = stackSize;
+            this.stackPeakSize = stackPeakSize;
+        }
+
+        /** Returns the thread id. */
+        public long getThreadId() { return threadId; }
+        /** Returns the thread name. */
+        public String getThreadName() { return threadName; }
+
+        /** Returns the number of allocations made by the thread. */
+        public long getAllocations() { return allocations; }
+        /** Returns the number of bytes allocated by the thread. */
+        public long getAllocatedBytes() { return allocatedBytes; }
+
+        /** Returns the size of the thread-local {@link MemoryStack}, or 0 if the thread has not used it. */
+        public int getStackSize() { return stackSize; }
+        /** Returns the peak size of the thread-local {@link MemoryStack}, see {@link MemoryStack#getPeakSize}. */
+        public int getStackPeakSize() { return stackPeakSize; }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "%s (%d): allocations=%d, allocated=%d, stack=%d/%d",
+                threadName, threadId, allocations, allocatedBytes, stackPeakSize, stackSize
+            );
+        }
+
+    }
+
+}
@@ -20,7 +20,11 @@ import static org.lwjgl.system.StackWalkUtil.*;
  *
  * <p>This class should be used in a thread-local manner for stack allocations.</p>
  *
+ * <p>A stack has a fixed capacity by default. If {@link Configuration#STACK_GROWABLE} is enabled, allocations that do not fit in the stack memory are
+ * served from additional segments, which are chained on demand and released when the stack pops back above them.</p>
+ *
  * @see Configuration#STACK_SIZE
+ * @see Configuration#STACK_GROWABLE
  * @see Configuration#DEBUG_STACK
  */
 public class MemoryStack extends Pointer.Default implements AutoCloseable {
@@ -28,7 +32,13 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
     private static final int DEFAULT_STACK_SIZE   = Configuration.STACK_SIZE.get(64) * 1024;
     private static final int DEFAULT_STACK_FRAMES = 8;
 
-    private static final ThreadLocal<MemoryStack> TLS = ThreadLocal.withInitial(MemoryStack::create);
+    private static final ThreadLocal<MemoryStack> TLS = ThreadLocal.withInitial(() -> {
+        MemoryStack stack = create();
+        if (MemoryMetrics.ENABLED) {
+            MemoryMetrics.register(stack);
+        }
+        return stack;
+    });
 
     static {
         if (DEFAULT_STACK_SIZE < 0) {
@@ -42,11 +52,23 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
 
     private final int size;
 
+    /** The address that corresponds to a stack pointer of 0, in the current segment. Equal to {@code address} in the first segment. */
+    private long origin;
+    /** The lowest and the highest stack pointer of the current segment. */
+    private int  limit, top;
+
     private int pointer;
+    /** The lowest stack pointer observed when popping a frame. Only updated if memory allocation metrics are enabled. */
+    private int lowestPointer;
 
     private   int[] frames;
     protected int   frameIndex;
 
+    /** The chained segments, or null if the stack is not growable. The first segment is the memory the stack was created with. */
+    @Nullable
+    private Segment[] segments;
+    private int       segmentIndex;
+
     /**
      * Creates a new {@code MemoryStack} backed by the specified memory region.
      *
@@ -61,7 +83,13 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
         this.container = container;
 
         this.size = size;
+
+        this.origin = address;
+        this.limit = 0;
+        this.top = size;
+
         this.pointer = size;
+        this.lowestPointer = size;
 
         this.frames = new int[DEFAULT_STACK_FRAMES];
     }
@@ -96,9 +124,9 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
     public static MemoryStack create(ByteBuffer buffer) {
         long address = memAddress(buffer);
         int  size    = buffer.remaining();
-        return Configuration.DEBUG_STACK.get(false)
+        return init(Configuration.DEBUG_STACK.get(false)
             ? new DebugMemoryStack(buffer, address, size)
-            : new MemoryStack(buffer, address, size);
+            : new MemoryStack(buffer, address, size));
     }
 
     /**
@@ -110,9 +138,19 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
      * @param size    the backing memory size
      */
     public static MemoryStack ncreate(long address, int size) {
-        return Configuration.DEBUG_STACK.get(false)
+        return init(Configuration.DEBUG_STACK.get(false)
             ? new DebugMemoryStack(null, address, size)
-            : new MemoryStack(null, address, size);
+            : new MemoryStack(null, address, size));
+    }
+
+    private static MemoryStack init(MemoryStack stack) {
+        if (Configuration.STACK_GROWABLE.get(false)) {
+            stack.segments = new Segment[] {
+                new Segment(stack.container, stack.origin, stack.limit, stack.top),
+                null
+            };
+        }
+        return stack;
     }
 
     /**
@@ -152,7 +190,13 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
      * @return this stack
      */
     public MemoryStack pop() {
+        if (MemoryMetrics.ENABLED) {
+            lowestPointer = Math.min(lowestPointer, pointer);
+        }
         pointer = frames[--frameIndex];
+        if (top < pointer) {
+            moveToSegment();
+        }
         return this;
     }
 
@@ -233,6 +277,17 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
         return size;
     }
 
+    /**
+     * Returns the maximum number of bytes that have been allocated on the stack.
+     *
+     * <p>The peak is recorded when stack frames are popped and when this method is called. Stack frames are not tracked if
+     * {@link Configuration#MEMORY_ALLOCATOR_METRICS} is disabled, in which case this method returns the number of bytes currently allocated. This method is
+     * not thread-safe.</p>
+     */
+    public int getPeakSize() {
+        return size - Math.min(lowestPointer, pointer);
+    }
+
     /**
      * Returns the current frame index.
      *
@@ -244,7 +299,7 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
 
     /** Returns the memory address at the current stack pointer. */
     public long getPointerAddress() {
-        return address + (pointer & 0xFFFF_FFFFL);
+        return origin + pointer;
     }
 
     /**
@@ -253,7 +308,8 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
      * <p>The stack grows "downwards", so when the stack is empty {@code pointer} is equal to {@code size}. On every allocation {@code pointer} is reduced by
      * the allocated size (after alignment) and {@code address + pointer} points to the first byte of the last allocation.</p>
      *
-     * <p>Effectively, this methods returns how many more bytes may be allocated on the stack.</p>
+     * <p>Effectively, this methods returns how many more bytes may be allocated on the stack. If the stack is growable, the pointer continues to decrease
+     * past 0, into the chained segments.</p>
      */
     public int getPointer() {
         return pointer;
@@ -271,10 +327,21 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
         }
 
         this.pointer = pointer;
+        if (segments != null && (pointer < limit || top < pointer)) {
+            moveToSegment();
+        }
     }
 
     private void checkPointer(int pointer) {
-        if (pointer < 0 || size < pointer) {
+        int lowest = 0;
+        if (segments != null) {
+            for (Segment segment : segments) {
+                if (segment != null) {
+                    lowest = segment.limit;
+                }
+            }
+        }
+        if (pointer < lowest || size < pointer) {
             throw new IndexOutOfBoundsException("Invalid stack pointer");
         }
     }
@@ -307,16 +374,95 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
      */
     public long nmalloc(int alignment, int size) {
         // Align address to the specified alignment
-        long address = (this.address + pointer - size) & ~Integer.toUnsignedLong(alignment - 1);
+        long address = (origin + pointer - size) & ~Integer.toUnsignedLong(alignment - 1);
 
-        pointer = (int)(address - this.address);
-        if (CHECKS && pointer < 0) {
-            throw new OutOfMemoryError("Out of stack space.");
+        int pointer = (int)(address - origin);
+        if (pointer < limit && (CHECKS || segments != null)) {
+            return nmallocSegment(alignment, size);
         }
+        this.pointer = pointer;
 
         return address;
     }
 
+    private long nmallocSegment(int alignment, int size) {
+        Segment[] segments = this.segments;
+        if (segments == null) {
+            throw new OutOfMemoryError("Out of stack space.");
+        }
+
+        // Enough space for the allocation at any address
+        long bytes = Integer.toUnsignedLong(size) + alignment - 1;
+
+        Segment next = segments[segmentIndex + 1];
+        if (next == null || next.top - next.limit < bytes) {
+            long capacity = Math.max(this.size, bytes);
+            if (Integer.MAX_VALUE < capacity || limit - capacity < Integer.MIN_VALUE) {
+                throw new OutOfMemoryError("Out of stack space.");
+            }
+
+            ByteBuffer container = BufferUtils.createByteBuffer((int)capacity);
+
+            int nextLimit = (int)(limit - capacity);
+            next = new Segment(container, memAddress(container) - nextLimit, nextLimit, limit);
+        }
+
+        if (segmentIndex + 2 == segments.length) {
+            this.segments = segments = Arrays.copyOf(segments, segments.length * 2);
+        }
+        segments[++segmentIndex] = next;
+        setSegment(next);
+        pointer = top;
+
+        return nmalloc(alignment, size);
+    }
+
+    /** Moves to the segment that contains the current stack pointer. Segments more than one below that segment are released. */
+    private void moveToSegment() {
+        Segment[] segments = Objects.requireNonNull(this.segments);
+
+        int index = segmentIndex;
+        while (segments[index].top < pointer) {
+            index--;
+        }
+        while (pointer < segments[index].limit) {
+            index++;
+        }
+
+        for (int i = index + 2; i < segments.length; i++) {
+            segments[i] = null;
+        }
+
+        segmentIndex = index;
+        setSegment(segments[index]);
+    }
+
+    private void setSegment(Segment segment) {
+        origin = segment.origin;
+        limit = segment.limit;
+        top = segment.top;
+    }
+
+    /** A memory segment of a growable stack. */
+    private static final class Segment {
+
+        @SuppressWarnings({"FieldCanBeLocal", "unused"})
+        @Nullable
+        private final ByteBuffer container;
+
+        final long origin;
+        final int  limit;
+        final int  top;
+
+        Segment(@Nullable ByteBuffer container, long origin, int limit, int top) {
+            this.container = container;
+            this.origin = origin;
+            this.limit = limit;
+            this.top = top;
+        }
+
+    }
+
     /**
      * Allocates a block of memory on the stack for an array of {@code num} elements, each of them {@code size} bytes long, and initializes all its bits to
      * zero.
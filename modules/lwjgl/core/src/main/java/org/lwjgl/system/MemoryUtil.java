@@ -10,9 +10,13 @@ import org.lwjgl.system.MemoryUtil.MemoryAllocationReport.*;
 import org.lwjgl.system.jni.*;
 
 import javax.annotation.*;
+import java.io.*;
 import java.nio.*;
+import java.nio.channels.*;
 import java.nio.charset.*;
+import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import static java.lang.Character.*;
@@ -149,7 +153,13 @@ public final class MemoryUtil {
         static final MemoryAllocator ALLOCATOR;
 
         static {
-            ALLOCATOR_IMPL = MemoryManage.getInstance();
+            MemoryAllocator allocator = MemoryManage.getInstance();
+            if (MemoryMetrics.ENABLED) {
+                allocator = new MetricsAllocator(allocator);
+                MemoryMetrics.publish();
+            }
+
+            ALLOCATOR_IMPL = allocator;
             ALLOCATOR = Configuration.DEBUG_MEMORY_ALLOCATOR.get(false)
                 ? new DebugAllocator(ALLOCATOR_IMPL)
                 : ALLOCATOR_IMPL;
@@ -197,6 +207,18 @@ public final class MemoryUtil {
         /** Called by {@link MemoryUtil#memAlignedFree}. */
         void aligned_free(long ptr);
 
+        /**
+         * Returns the number of usable bytes in a block allocated by this allocator, or -1 if the allocator cannot report it.
+         *
+         * <p>The usable size may be larger than the requested size, but must not change until the block is freed or reallocated. It is used to count live
+         * bytes in {@link MemoryMetrics}. The default implementation returns -1.</p>
+         *
+         * @param ptr a pointer returned by {@link #malloc}, {@link #calloc}, {@link #realloc} or {@link #aligned_alloc}. Must not be {@code NULL}.
+         */
+        default long usable_size(long ptr) {
+            return -1L;
+        }
+
     }
 
     /**
@@ -628,6 +650,42 @@ public final class MemoryUtil {
         }
     }
 
+    // --- [ memMapFile ] ---
+
+    /**
+     * Maps the contents of the specified file into memory.
+     *
+     * <p>The returned {@link MemoryMappedFile} must be explicitly unmapped with {@link MemoryMappedFile#free free} or {@link MemoryMappedFile#close close}.</p>
+     *
+     * @param path the file path
+     * @param mode the mapping mode
+     *
+     * @return the mapped file
+     *
+     * @throws IOException if an I/O error occurs, or if the file is larger than {@link Integer#MAX_VALUE} bytes
+     */
+    public static MemoryMappedFile memMapFile(Path path, FileChannel.MapMode mode) throws IOException {
+        return MemoryMappedFile.map(path, mode);
+    }
+
+    /**
+     * Maps a region of the specified file into memory.
+     *
+     * <p>The returned {@link MemoryMappedFile} must be explicitly unmapped with {@link MemoryMappedFile#free free} or {@link MemoryMappedFile#close close}.</p>
+     *
+     * @param path   the file path
+     * @param mode   the mapping mode
+     * @param offset the file offset of the region
+     * @param size   the region size, in bytes
+     *
+     * @return the mapped file
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public static MemoryMappedFile memMapFile(Path path, FileChannel.MapMode mode, long offset, long size) throws IOException {
+        return MemoryMappedFile.map(path, mode, offset, size);
+    }
+
     // --- [ DebugAllocator ] ---
 
     /** The memory allocation report callback. */
@@ -663,6 +721,8 @@ public final class MemoryUtil {
      *
      * <p>This method can only be used if the {@link Configuration#DEBUG_MEMORY_ALLOCATOR} option has been set to true.</p>
      *
+     * <p>If allocation sampling is enabled, only the sampled allocations are reported.</p>
+     *
      * @param report the report callback
      */
     public static void memReport(MemoryAllocationReport report) {
@@ -674,6 +734,8 @@ public final class MemoryUtil {
      *
      * <p>This method can only be used if the {@link Configuration#DEBUG_MEMORY_ALLOCATOR} option has been set to true.</p>
      *
+     * <p>If allocation sampling is enabled, the reported amounts are estimates for all allocations, scaled from the sampled allocations.</p>
+     *
      * @param report            the report callback
      * @param groupByStackTrace how to aggregate the reported allocations
      * @param groupByThread     if the reported allocations should be grouped by thread
@@ -1439,6 +1501,14 @@ public final class MemoryUtil {
      */
     public static <T extends Struct> void memSet(T ptr, int value) { memSet(ptr.address, value, ptr.sizeof()); }
 
+    /**
+     * Like {@link #memSet(ByteBuffer, int) memSet}, but large buffers are set in parallel. See {@link #memSetParallel(long, int, long)}.
+     *
+     * @param ptr   the starting memory address
+     * @param value the value to set (memSet will convert it to unsigned byte)
+     */
+    public static void memSetParallel(ByteBuffer ptr, int value) { memSetParallel(memAddress(ptr), value, ptr.remaining()); }
+
     // --- [ memcpy ] ---
 
     /**
@@ -1454,6 +1524,19 @@ public final class MemoryUtil {
         MultiReleaseMemCopy.copy(memAddress(src), memAddress(dst), src.remaining());
     }
 
+    /**
+     * Like {@link #memCopy(ByteBuffer, ByteBuffer) memCopy}, but large buffers are copied in parallel. See {@link #memCopyParallel(long, long, long)}.
+     *
+     * @param src the source memory address
+     * @param dst the destination memory address
+     */
+    public static void memCopyParallel(ByteBuffer src, ByteBuffer dst) {
+        if (CHECKS) {
+            check(dst, src.remaining());
+        }
+        memCopyParallel(memAddress(src), memAddress(dst), src.remaining());
+    }
+
     /**
      * Sets all bytes in a specified block of memory to a copy of another block.
      *
@@ -1638,6 +1721,40 @@ public final class MemoryUtil {
         }
     }
 
+    /**
+     * Like {@link #memSet(long, int, long) memSet}, but blocks of memory of at least {@link Configuration#MEMORY_PARALLEL_THRESHOLD} are split into
+     * cache-line aligned chunks that are set in parallel, using the {@link ForkJoinPool#commonPool common pool}.
+     *
+     * <p>The result is identical to {@link #memSet(long, int, long) memSet}. The method returns when the whole block has been set.</p>
+     *
+     * @param ptr   the starting memory address
+     * @param value the value to set (memSet will convert it to unsigned byte)
+     * @param bytes the number of bytes to set
+     */
+    public static void memSetParallel(long ptr, int value, long bytes) {
+        memSetParallel(ptr, value, bytes, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Like {@link #memSetParallel(long, int, long) memSetParallel}, but uses the specified {@link ForkJoinPool}.
+     *
+     * @param ptr   the starting memory address
+     * @param value the value to set (memSet will convert it to unsigned byte)
+     * @param bytes the number of bytes to set
+     * @param pool  the pool that executes the parallel chunks
+     */
+    public static void memSetParallel(long ptr, int value, long bytes, ForkJoinPool pool) {
+        if (DEBUG && (ptr == NULL || bytes < 0)) {
+            throw new IllegalArgumentException();
+        }
+
+        if (ParallelMemory.isParallel(bytes, pool)) {
+            ParallelMemory.set(ptr, value, bytes, pool);
+        } else {
+            memSet(ptr, value, bytes);
+        }
+    }
+
     // Bit from a where mask bit is 0, bit from b where mask bit is 1.
     static long merge(long a, long b, long mask) {
         return a ^ ((a ^ b) & mask);
@@ -1658,6 +1775,41 @@ public final class MemoryUtil {
         MultiReleaseMemCopy.copy(src, dst, bytes);
     }
 
+    /**
+     * Like {@link #memCopy(long, long, long) memCopy}, but blocks of memory of at least {@link Configuration#MEMORY_PARALLEL_THRESHOLD} are split into
+     * cache-line aligned chunks that are copied in parallel, using the {@link ForkJoinPool#commonPool common pool}.
+     *
+     * <p>The result is identical to {@link #memCopy(long, long, long) memCopy}. The method returns when the whole block has been copied. Overlapping blocks
+     * are always copied on the calling thread.</p>
+     *
+     * @param src   the source memory address
+     * @param dst   the destination memory address
+     * @param bytes the number of bytes to copy
+     */
+    public static void memCopyParallel(long src, long dst, long bytes) {
+        memCopyParallel(src, dst, bytes, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Like {@link #memCopyParallel(long, long, long) memCopyParallel}, but uses the specified {@link ForkJoinPool}.
+     *
+     * @param src   the source memory address
+     * @param dst   the destination memory address
+     * @param bytes the number of bytes to copy
+     * @param pool  the pool that executes the parallel chunks
+     */
+    public static void memCopyParallel(long src, long dst, long bytes, ForkJoinPool pool) {
+        if (DEBUG && (src == NULL || dst == NULL || bytes < 0)) {
+            throw new IllegalArgumentException();
+        }
+
+        if (ParallelMemory.isParallel(bytes, pool) && (src + bytes <= dst || dst + bytes <= src)) {
+            ParallelMemory.copy(src, dst, bytes, pool);
+        } else {
+            MultiReleaseMemCopy.copy(src, dst, bytes);
+        }
+    }
+
     static void memCopyAligned(long src, long dst, int bytes) {
         int i = 0;
 
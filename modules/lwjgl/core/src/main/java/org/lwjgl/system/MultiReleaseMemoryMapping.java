@@ -0,0 +1,44 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import java.lang.reflect.*;
+import java.nio.*;
+
+/**
+ * Memory mapping utilities.
+ *
+ * <p>On Java 8 the cleaner of a mapped buffer is invoked via reflection. On Java 9 {@code sun.misc.Unsafe::invokeCleaner} is used instead.</p>
+ */
+final class MultiReleaseMemoryMapping {
+
+    private static final Method CLEANER;
+    private static final Method CLEAN;
+
+    static {
+        try {
+            CLEANER = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            CLEAN = Class.forName("sun.misc.Cleaner").getMethod("clean");
+        } catch (Exception e) {
+            throw new UnsupportedOperationException("Failed to find the mapped buffer cleaner.", e);
+        }
+    }
+
+    private MultiReleaseMemoryMapping() {
+    }
+
+    /** Unmaps the specified buffer. The buffer must not be accessed after this method returns. */
+    static void unmap(MappedByteBuffer buffer) {
+        try {
+            Object cleaner = CLEANER.invoke(buffer);
+            if (cleaner != null) { // empty mappings do not have a cleaner
+                CLEAN.invoke(cleaner);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to unmap the mapped buffer.", e);
+        }
+    }
+
+}
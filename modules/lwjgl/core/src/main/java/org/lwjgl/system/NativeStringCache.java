@@ -0,0 +1,317 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * A bounded cache of null-terminated native copies of Java strings.
+ *
+ * <p>Binding methods that take a {@code CharSequence} encode it on the {@link MemoryStack} on every call. This is wasteful when the same constant name is
+ * passed repeatedly, e.g. uniform names or database names. Some binding methods have a {@code String} overload that, when this cache is enabled, encodes
+ * each distinct string once and reuses the native copy in subsequent calls.</p>
+ *
+ * <p>The cache is disabled by default, see {@link Configuration#STRING_CACHE_CAPACITY} and {@link Configuration#STRING_CACHE_SIZE}. When the cache is full,
+ * an entry that has not been used recently is evicted, using the CLOCK approximation of LRU. Cache hits only set a flag on the entry and evictions take
+ * amortized constant time. Entries are reference counted: an evicted entry is freed when the last thread that acquired it releases it. Caching strings that are built dynamically (e.g. with an index suffix) should be avoided, they
+ * evict the constant strings that benefit from the cache.</p>
+ *
+ * <pre><code>
+ * NativeStringCache.Entry name = NativeStringCache.acquireASCII("u_modelView");
+ * try {
+ *     int location = nglGetUniformLocation(program, name.address());
+ * } finally {
+ *     name.release();
+ * }</code></pre>
+ */
+public final class NativeStringCache {
+
+    private static final int CAPACITY = Configuration.STRING_CACHE_CAPACITY.get(0);
+    private static final int SIZE     = Configuration.STRING_CACHE_SIZE.get(64 * 1024);
+
+    /** True if the cache is enabled. */
+    public static final boolean ENABLED = 0 < CAPACITY && 0 < SIZE;
+
+    private static final Cache ASCII = new Cache(CAPACITY, SIZE, text -> memASCII(text, true));
+    private static final Cache UTF8  = new Cache(CAPACITY, SIZE, text -> memUTF8(text, true));
+    private static final Cache UTF16 = new Cache(CAPACITY, SIZE, text -> memUTF16(text, true));
+
+    private NativeStringCache() {
+    }
+
+    /**
+     * Returns the null-terminated ASCII encoding of the specified string. The entry must be released with {@link Entry#release} when it is no longer used.
+     *
+     * <p>If the cache is disabled, or the encoded string is too long, a new entry is allocated and freed when released.</p>
+     *
+     * @param text the string to encode
+     *
+     * @return the encoded string
+     */
+    public static Entry acquireASCII(String text) {
+        return ASCII.acquire(text);
+    }
+
+    /** UTF-8 version of {@link #acquireASCII}. */
+    public static Entry acquireUTF8(String text) {
+        return UTF8.acquire(text);
+    }
+
+    /** UTF-16 version of {@link #acquireASCII}. */
+    public static Entry acquireUTF16(String text) {
+        return UTF16.acquire(text);
+    }
+
+    /** Evicts all entries. Entries that have been acquired are freed when released. */
+    public static void clear() {
+        ASCII.clear();
+        UTF8.clear();
+        UTF16.clear();
+    }
+
+    /** Returns the cache statistics, summed across all encodings. */
+    public static Stats getStats() {
+        return new Stats(
+            ASCII.hits.sum() + UTF8.hits.sum() + UTF16.hits.sum(),
+            ASCII.misses.sum() + UTF8.misses.sum() + UTF16.misses.sum(),
+            ASCII.evictions.sum() + UTF8.evictions.sum() + UTF16.evictions.sum(),
+            ASCII.map.size() + UTF8.map.size() + UTF16.map.size(),
+            ASCII.bytes() + UTF8.bytes() + UTF16.bytes()
+        );
+    }
+
+    static final class Cache {
+
+        private final int     capacity;
+        private final int     maxSize;
+        private final boolean enabled;
+
+        private final Function<String, ByteBuffer> encoder;
+
+        final ConcurrentMap<String, Entry> map = new ConcurrentHashMap<>();
+
+        // guarded by this
+        private final String[] clock;
+        private final int[]    free;
+        private int            freeCount;
+        private int            hand;
+        private long           size;
+
+        final LongAdder hits      = new LongAdder();
+        final LongAdder misses    = new LongAdder();
+        final LongAdder evictions = new LongAdder();
+
+        Cache(int capacity, int maxSize, Function<String, ByteBuffer> encoder) {
+            this.capacity = capacity;
+            this.maxSize = maxSize;
+            this.enabled = 0 < capacity && 0 < maxSize;
+            this.encoder = encoder;
+
+            this.clock = new String[Math.max(capacity, 0)];
+            this.free = new int[clock.length];
+            resetSlots();
+        }
+
+        Entry acquire(String text) {
+            if (enabled) {
+                Entry entry = map.get(text);
+                if (entry != null && entry.retain()) {
+                    if (!entry.referenced) {
+                        entry.referenced = true;
+                    }
+                    hits.increment();
+                    return entry;
+                }
+                misses.increment();
+            }
+
+            ByteBuffer encoded = encoder.apply(text);
+            if (!enabled || maxSize < encoded.remaining()) {
+                return new Entry(encoded, 1);
+            }
+
+            synchronized (this) {
+                Entry entry = map.get(text);
+                if (entry != null) {
+                    // Entries that are in the map have not been released by the cache, retain cannot fail.
+                    entry.retain();
+                    entry.referenced = true;
+                    memFree(encoded);
+                    return entry;
+                }
+
+                while (freeCount == 0 || maxSize - encoded.remaining() < size) {
+                    evict();
+                }
+
+                // One reference for the cache, one for the caller
+                entry = new Entry(encoded, 2);
+
+                clock[free[--freeCount]] = text;
+                map.put(text, entry);
+                size += encoded.remaining();
+
+                return entry;
+            }
+        }
+
+        /**
+         * Advances the clock hand to the first entry that has not been used since the hand last passed it, and evicts it. Must be called while holding the
+         * lock, with at least one entry in the cache.
+         */
+        private void evict() {
+            for (; ; ) {
+                int    slot = hand;
+                String key  = clock[slot];
+
+                hand = slot + 1 == capacity ? 0 : slot + 1;
+                if (key == null) {
+                    continue;
+                }
+
+                Entry entry = map.get(key);
+                if (entry.referenced) {
+                    // second chance
+                    entry.referenced = false;
+                    continue;
+                }
+
+                clock[slot] = null;
+                free[freeCount++] = slot;
+
+                map.remove(key);
+                size -= entry.buffer.remaining();
+                evictions.increment();
+
+                entry.release();
+                return;
+            }
+        }
+
+        private void resetSlots() {
+            // Fill the slots in order
+            for (int i = 0; i < free.length; i++) {
+                free[i] = free.length - 1 - i;
+            }
+            freeCount = free.length;
+            hand = 0;
+        }
+
+        synchronized void clear() {
+            for (Entry entry : map.values()) {
+                entry.release();
+            }
+            map.clear();
+            Arrays.fill(clock, null);
+            resetSlots();
+            size = 0L;
+        }
+
+        synchronized long bytes() {
+            return size;
+        }
+
+    }
+
+    /** A null-terminated encoded string. */
+    public static final class Entry {
+
+        private static final AtomicIntegerFieldUpdater<Entry> REFS = AtomicIntegerFieldUpdater.newUpdater(Entry.class, "refs");
+
+        private final ByteBuffer buffer;
+        private final long       address;
+
+        private volatile int refs;
+
+        // racy, a lost update only affects the eviction order
+        boolean referenced;
+
+        Entry(ByteBuffer buffer, int refs) {
+            this.buffer = buffer;
+            this.address = memAddress(buffer);
+            this.refs = refs;
+        }
+
+        boolean retain() {
+            for (int refs = this.refs; refs != 0; refs = this.refs) {
+                if (REFS.compareAndSet(this, refs, refs + 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /** Returns the address of the encoded string. */
+        public long address() {
+            return address;
+        }
+
+        /**
+         * Returns a buffer that contains the encoded string, including the null-terminator.
+         *
+         * <p>The buffer is shared with other threads and must not be modified.</p>
+         */
+        public ByteBuffer buffer() {
+            return buffer;
+        }
+
+        /** Releases this entry. The entry must not be used after it has been released. */
+        public void release() {
+            int refs = REFS.decrementAndGet(this);
+            if (refs == 0) {
+                memFree(buffer);
+            } else if (refs < 0) {
+                throw new IllegalStateException("The entry has already been released.");
+            }
+        }
+
+    }
+
+    /** The statistics of the string cache. */
+    public static final class Stats {
+
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int  count;
+        private final long size;
+
+        Stats(long hits, long misses, long evictions, int count, long size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.count = count;
+            this.size = size;
+        }
+
+        /** Returns the number of strings that were found in the cache. */
+        public long getHits() { return hits; }
+
+        /** Returns the number of strings that were not found in the cache and had to be encoded. */
+        public long getMisses() { return misses; }
+
+        /** Returns the number of entries that have been evicted. */
+        public long getEvictions() { return evictions; }
+
+        /** Returns the number of cached strings. */
+        public int getCount() { return count; }
+
+        /** Returns the total size of the cached strings, in bytes. */
+        public long getSize() { return size; }
+
+        @Override
+        public String toString() {
+            return String.format("NativeStringCache.Stats[hits=%d, misses=%d, evictions=%d, count=%d, size=%d]", hits, misses, evictions, count, size);
+        }
+
+    }
+
+}
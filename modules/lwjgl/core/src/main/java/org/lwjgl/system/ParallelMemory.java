@@ -0,0 +1,87 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+/** Implementation of {@link MemoryUtil#memCopyParallel memCopyParallel} and {@link MemoryUtil#memSetParallel memSetParallel}. */
+final class ParallelMemory {
+
+    /** Blocks smaller than this are processed on the calling thread. */
+    static final long THRESHOLD = Math.max(1, Configuration.MEMORY_PARALLEL_THRESHOLD.get(8192)) * 1024L;
+
+    /** The minimum chunk size. Smaller chunks do not amortize the task overhead. */
+    private static final long MIN_CHUNK_SIZE = 256 * 1024;
+
+    /** The number of chunks per pool thread. More than one helps balance the load when some threads are busy. */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private ParallelMemory() {
+    }
+
+    static boolean isParallel(long bytes, ForkJoinPool pool) {
+        return THRESHOLD <= bytes && 1 < pool.getParallelism();
+    }
+
+    static void set(long ptr, int value, long bytes, ForkJoinPool pool) {
+        pool.invoke(new Task(NULL, ptr, value, 0L, bytes, chunkSize(bytes, pool)));
+    }
+
+    static void copy(long src, long dst, long bytes, ForkJoinPool pool) {
+        pool.invoke(new Task(src, dst, 0, 0L, bytes, chunkSize(bytes, pool)));
+    }
+
+    private static long chunkSize(long bytes, ForkJoinPool pool) {
+        long chunk = Math.max(MIN_CHUNK_SIZE, bytes / ((long)pool.getParallelism() * CHUNKS_PER_THREAD));
+        return (chunk + (CACHE_LINE_SIZE - 1)) & -CACHE_LINE_SIZE;
+    }
+
+    /**
+     * Processes the {@code [from, to)} range of a memory block.
+     *
+     * <p>Ranges are split at cache line boundaries of the destination address, so that no two tasks ever write to the same cache line.</p>
+     */
+    private static final class Task extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /** The source address, or {@code NULL} for memset. */
+        private final long src;
+        private final long dst;
+        private final int  value;
+
+        private final long from;
+        private final long to;
+        private final long chunk;
+
+        Task(long src, long dst, int value, long from, long to, long chunk) {
+            this.src = src;
+            this.dst = dst;
+            this.value = value;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (chunk < to - from) {
+                long mid = ((dst + ((from + to) >>> 1)) & -CACHE_LINE_SIZE) - dst;
+                invokeAll(
+                    new Task(src, dst, value, from, mid, chunk),
+                    new Task(src, dst, value, mid, to, chunk)
+                );
+            } else if (src == NULL) {
+                memSet(dst + from, value, to - from);
+            } else {
+                MultiReleaseMemCopy.copy(src + from, dst + from, to - from);
+            }
+        }
+
+    }
+
+}
@@ -12,6 +12,8 @@ import java.io.*;
 import java.net.*;
 import java.nio.channels.*;
 import java.nio.file.*;
+import java.security.*;
+import java.util.*;
 import java.util.concurrent.locks.*;
 import java.util.stream.*;
 import java.util.zip.*;
@@ -29,6 +31,7 @@ import static org.lwjgl.system.APIUtil.*;
  * @author Nathan Sweet (https://github.com/NathanSweet)
  * @see Configuration#SHARED_LIBRARY_EXTRACT_DIRECTORY
  * @see Configuration#SHARED_LIBRARY_EXTRACT_PATH
+ * @see Configuration#SHARED_LIBRARY_EXTRACT_VERIFY
  */
 final class SharedLibraryLoader {
 
@@ -162,7 +165,11 @@ final class SharedLibraryLoader {
     }
 
     /**
-     * Extracts a native library resource if it does not already exist or the CRC does not match.
+     * Extracts a native library resource if it does not already exist or it does not match the resource.
+     *
+     * <p>Unless {@link Configuration#SHARED_LIBRARY_EXTRACT_VERIFY} is set to <em>always</em>, a manifest file that records the size, modification time and
+     * hash of the extracted file is stored next to it. When the manifest matches both the extracted file and the precomputed hash bundled with the resource,
+     * the extracted file is reused without reading it.</p>
      *
      * @param resource the resource to extract
      * @param file     the extracted file
@@ -171,22 +178,40 @@ final class SharedLibraryLoader {
      *
      * @throws IOException if an IO error occurs
      */
-    private static FileChannel extract(Path file, URL resource) throws IOException {
-        if (Files.exists(file)) {
-            try (
-                InputStream source = resource.openStream();
-                InputStream target = Files.newInputStream(file)
-            ) {
-                if (crc(source) == crc(target)) {
-                    if (Configuration.DEBUG_LOADER.get(false)) {
-                        apiLog(String.format("\tFound at: %s", file));
+    static FileChannel extract(Path file, URL resource) throws IOException {
+        String  verify      = Configuration.SHARED_LIBRARY_EXTRACT_VERIFY.get("manifest");
+        boolean useManifest = !"always".equals(verify);
+
+        Path manifestFile = file.resolveSibling(file.getFileName() + ".manifest");
+
+        boolean exists = Files.exists(file);
+
+        Properties manifest = useManifest && exists ? readManifest(manifestFile, file) : null;
+        if (manifest != null && "once".equals(verify) && Version.getVersion().equals(manifest.getProperty("version"))) {
+            return found(file);
+        }
+
+        String hash = useManifest ? getBundledHash(resource) : null;
+        if (exists) {
+            if (hash == null) {
+                // No precomputed hash available, compare the resource with the extracted file
+                try (
+                    InputStream source = resource.openStream();
+                    InputStream target = Files.newInputStream(file)
+                ) {
+                    if (crc(source) == crc(target)) {
+                        return found(file);
                     }
-                    return lock(file);
                 }
+            } else if (manifest != null && hash.equals(manifest.getProperty("sha1"))) {
+                return found(file);
+            } else if (hash.equals(sha1(file))) {
+                writeManifest(manifestFile, file, hash);
+                return found(file);
             }
         }
 
-        // If file doesn't exist or the CRC doesn't match, extract it to the temp dir.
+        // If file doesn't exist or the hash doesn't match, extract it to the temp dir.
         apiLog(String.format("    Extracting: %s\n", resource.getPath()));
         //noinspection FieldAccessNotGuarded (already inside the lock)
         if (extractPath == null) {
@@ -197,10 +222,20 @@ final class SharedLibraryLoader {
         try (InputStream source = resource.openStream()) {
             Files.copy(source, file, StandardCopyOption.REPLACE_EXISTING);
         }
+        if (hash != null) {
+            writeManifest(manifestFile, file, hash);
+        }
 
         return lock(file);
     }
 
+    private static FileChannel found(Path file) {
+        if (Configuration.DEBUG_LOADER.get(false)) {
+            apiLog(String.format("\tFound at: %s", file));
+        }
+        return lock(file);
+    }
+
     /**
      * Locks a file.
      *
@@ -247,6 +282,124 @@ final class SharedLibraryLoader {
         return crc.getValue();
     }
 
+    /**
+     * Returns the precomputed SHA-1 hash of a resource, stored in a {@code .sha1} file next to it.
+     *
+     * @param resource the resource
+     *
+     * @return the hash as a lowercase hex string, or null if it is not available
+     */
+    @Nullable
+    private static String getBundledHash(URL resource) {
+        String path = resource.getPath();
+        try (InputStream input = new URL(resource, path.substring(path.lastIndexOf('/') + 1) + ".sha1").openStream()) {
+            StringBuilder hash = new StringBuilder(40);
+            for (int c; hash.length() < 40 && (c = input.read()) != -1; ) {
+                if (Character.digit(c, 16) == -1) {
+                    return null;
+                }
+                hash.append(Character.toLowerCase((char)c));
+            }
+            return hash.length() == 40 ? hash.toString() : null;
+        } catch (IOException ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the SHA-1 hash of a file.
+     *
+     * @param file the file
+     *
+     * @return the hash as a lowercase hex string
+     */
+    private static String sha1(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+
+        try (InputStream input = Files.newInputStream(file)) {
+            byte[] buffer = new byte[8 * 1024];
+            for (int n; (n = input.read(buffer)) != -1; ) {
+                digest.update(buffer, 0, n);
+            }
+        }
+
+        StringBuilder hash = new StringBuilder(40);
+        for (byte b : digest.digest()) {
+            hash
+                .append(Character.forDigit((b >>> 4) & 0xF, 16))
+                .append(Character.forDigit(b & 0xF, 16));
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Reads the manifest of an extracted file.
+     *
+     * @param manifestFile the manifest file
+     * @param file         the extracted file
+     *
+     * @return the manifest, or null if it does not exist or the size or modification time of the extracted file do not match
+     */
+    @Nullable
+    private static Properties readManifest(Path manifestFile, Path file) {
+        try {
+            if (!Files.exists(manifestFile)) {
+                return null;
+            }
+
+            Properties manifest = new Properties();
+            try (InputStream input = Files.newInputStream(manifestFile)) {
+                manifest.load(input);
+            }
+
+            if (!Long.toString(Files.size(file)).equals(manifest.getProperty("size")) ||
+                !Long.toString(Files.getLastModifiedTime(file).toMillis()).equals(manifest.getProperty("lastModified"))) {
+                return null;
+            }
+
+            return manifest;
+        } catch (IOException | IllegalArgumentException ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the manifest of an extracted file. Failures are ignored, the file will be verified again on the next launch.
+     *
+     * @param manifestFile the manifest file
+     * @param file         the extracted file
+     * @param hash         the SHA-1 hash of the extracted file
+     */
+    private static void writeManifest(Path manifestFile, Path file, String hash) {
+        try {
+            Properties manifest = new Properties();
+            manifest.setProperty("version", Version.getVersion());
+            manifest.setProperty("sha1", hash);
+            manifest.setProperty("size", Long.toString(Files.size(file)));
+            manifest.setProperty("lastModified", Long.toString(Files.getLastModifiedTime(file).toMillis()));
+
+            // Write to a temporary file first, other processes may read the manifest concurrently
+            Path tmp = Files.createTempFile(manifestFile.getParent(), manifestFile.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream output = Files.newOutputStream(tmp)) {
+                    manifest.store(output, null);
+                }
+                Files.move(tmp, manifestFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            if (Configuration.DEBUG_LOADER.get(false)) {
+                apiLog(String.format("\tFailed to write manifest: %s (%s)", manifestFile, e));
+            }
+        }
+    }
+
     /**
      * Returns true if the parent directories of the file can be created and the file can be written.
      *
@@ -0,0 +1,137 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.*;
+
+import java.nio.*;
+
+import static org.lwjgl.system.APIUtil.*;
+import static org.lwjgl.system.Checks.*;
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * Bulk function address resolution. [INTERNAL USE ONLY]
+ *
+ * <p>The methods in this class resolve a packed table of encoded, NUL-terminated function names with a single native call, instead of one JNI call (and
+ * one name encoding) per function.</p>
+ *
+ * @see FunctionProvider#getFunctionAddresses(ByteBuffer, PointerBuffer)
+ */
+public final class SharedLibraryUtil {
+
+    static { Library.initialize(); }
+
+    private SharedLibraryUtil() {
+    }
+
+    // --- [ getLibraryFunctionAddresses ] ---
+
+    /** Unsafe version of {@link #getLibraryFunctionAddresses}. */
+    public static native void ngetLibraryFunctionAddresses(long handle, long names, int count, long addresses);
+
+    /**
+     * Resolves multiple functions exported by a shared library, using {@code dlsym} or {@code GetProcAddress}.
+     *
+     * @param handle    the shared library handle
+     * @param names     the packed function names
+     * @param addresses the buffer that will receive the function addresses
+     */
+    public static void getLibraryFunctionAddresses(long handle, ByteBuffer names, PointerBuffer addresses) {
+        if (CHECKS) {
+            check(handle);
+            checkNames(names, addresses.remaining());
+        }
+        ngetLibraryFunctionAddresses(handle, memAddress(names), addresses.remaining(), memAddress(addresses));
+    }
+
+    // --- [ getProcAddresses ] ---
+
+    /** Unsafe version of {@link #getProcAddresses}. */
+    public static native void ngetProcAddresses(long getProcAddress, long names, int count, long addresses);
+
+    /**
+     * Resolves multiple functions using a {@code void* (APIENTRY *) (const char *)} function, such as {@code wglGetProcAddress},
+     * {@code glXGetProcAddress} or {@code eglGetProcAddress}.
+     *
+     * @param getProcAddress the function address of the {@code GetProcAddress} function
+     * @param names          the packed function names
+     * @param addresses      the buffer that will receive the function addresses
+     */
+    public static void getProcAddresses(long getProcAddress, ByteBuffer names, PointerBuffer addresses) {
+        if (CHECKS) {
+            check(getProcAddress);
+            checkNames(names, addresses.remaining());
+        }
+        ngetProcAddresses(getProcAddress, memAddress(names), addresses.remaining(), memAddress(addresses));
+    }
+
+    // --- [ Utilities ] ---
+
+    /**
+     * Resolves the functions that have a {@code NULL} address in {@code addresses} using the specified {@link FunctionProvider}.
+     *
+     * <p>The fallback provider is called once, only if at least one function is missing.</p>
+     *
+     * @param provider  the fallback function provider
+     * @param names     the packed function names
+     * @param addresses the function addresses
+     */
+    public static void getMissingFunctionAddresses(FunctionProvider provider, ByteBuffer names, PointerBuffer addresses) {
+        int count = addresses.remaining();
+
+        int first = 0;
+        while (first < count && addresses.get(addresses.position() + first) != NULL) {
+            first++;
+        }
+        if (first == count) {
+            return;
+        }
+
+        PointerBuffer fallback = memAllocPointer(count);
+        try {
+            provider.getFunctionAddresses(names, fallback);
+            for (int i = first; i < count; i++) {
+                int index = addresses.position() + i;
+                if (addresses.get(index) == NULL) {
+                    addresses.put(index, fallback.get(i));
+                }
+            }
+        } finally {
+            memFree(fallback);
+        }
+    }
+
+    /**
+     * Logs a message for each function that has a {@code NULL} address in {@code addresses}.
+     *
+     * @param api       the API name
+     * @param names     the packed function names
+     * @param addresses the function addresses
+     */
+    public static void logMissingFunctions(String api, ByteBuffer names, PointerBuffer addresses) {
+        long name = memAddress(names);
+        for (int i = addresses.position(); i < addresses.limit(); i++) {
+            String functionName = memASCII(name);
+            if (addresses.get(i) == NULL) {
+                apiLog("Failed to locate address for " + api + " function " + functionName);
+            }
+            name += functionName.length() + 1;
+        }
+    }
+
+    private static void checkNames(ByteBuffer names, int count) {
+        int found = 0;
+        for (int i = names.position(), limit = names.limit(); i < limit && found < count; i++) {
+            if (names.get(i) == 0) {
+                found++;
+            }
+        }
+        if (found < count) {
+            throw new IllegalArgumentException("The function name table contains " + found + " names, " + count + " expected.");
+        }
+    }
+
+}
@@ -262,6 +262,15 @@ public abstract class StructBuffer<T extends Struct, SELF extends StructBuffer<T
         }
     }
 
+    /**
+     * Returns a new {@link StructCursor} over the elements of this struct buffer, from its current position to its limit.
+     *
+     * <p>Unlike {@link #get(int)} and {@link #iterator}, the cursor reuses a single struct instance for all elements.</p>
+     */
+    public StructCursor<T> structCursor() {
+        return new StructCursor<>(getElementFactory(), address, container, position, limit);
+    }
+
     /** Returns a sequential {@code Stream} with this struct buffer as its source. */
     public Stream<T> stream() {
         return StreamSupport.stream(spliterator(), false);
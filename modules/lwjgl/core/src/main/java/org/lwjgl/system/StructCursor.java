@@ -0,0 +1,120 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import javax.annotation.*;
+import java.nio.*;
+import java.util.*;
+
+import static org.lwjgl.system.Checks.*;
+
+/**
+ * A reusable, mutable view of the elements of a {@link StructBuffer}.
+ *
+ * <p>A cursor wraps a single struct instance that is moved between the buffer elements, instead of allocating a new struct instance per element. This
+ * makes it possible to read and write struct members in hot loops without allocation, regardless of escape analysis:</p>
+ *
+ * <pre><code>
+ * StructCursor&lt;VkExtent2D&gt; cursor = buffer.structCursor();
+ * while (cursor.hasNext()) {
+ *     VkExtent2D extent = cursor.next();
+ *     extent.width(extent.width() * 2);
+ * }</code></pre>
+ *
+ * <p>The struct instance returned by {@link #get}, {@link #moveTo} and {@link #next} is always the same object, it must not be stored or used after the
+ * cursor has moved. A cursor iterates over the elements between the position and the limit that the buffer had when the cursor was created. Subsequent
+ * changes to the buffer's position or limit do not affect the cursor.</p>
+ *
+ * @param <T> the struct type
+ */
+public final class StructCursor<T extends Struct> {
+
+    private final T struct;
+
+    private final long address;
+    private final int  sizeof;
+
+    private final int position;
+    private final int limit;
+
+    private int index;
+
+    @SuppressWarnings({"unused", "FieldCanBeLocal"})
+    @Nullable
+    private final ByteBuffer container;
+
+    StructCursor(T factory, long address, @Nullable ByteBuffer container, int position, int limit) {
+        this.struct = factory.wrap(address, position, container);
+        this.address = address;
+        this.sizeof = factory.sizeof();
+        this.position = position;
+        this.limit = limit;
+        this.index = position - 1;
+        this.container = container;
+    }
+
+    /**
+     * Returns the struct instance of this cursor.
+     *
+     * <p>Before the first call to {@link #next} or {@link #moveTo}, the struct instance points to the element at the buffer position.</p>
+     */
+    public T get() {
+        return struct;
+    }
+
+    /** Returns the index of the current element, or {@code position - 1} if {@link #next} has not been called yet. */
+    public int index() {
+        return index;
+    }
+
+    /** Returns true if {@link #next} can move the cursor to another element. */
+    public boolean hasNext() {
+        return index + 1 < limit;
+    }
+
+    /**
+     * Moves the cursor to the next element.
+     *
+     * @return the struct instance of this cursor, pointing to the next element
+     *
+     * @throws NoSuchElementException if the cursor is at the last element
+     */
+    public T next() {
+        int next = index + 1;
+        if (CHECKS && limit <= next) {
+            throw new NoSuchElementException();
+        }
+        return move(next);
+    }
+
+    /**
+     * Moves the cursor to the element at the specified index.
+     *
+     * @param index the element index, relative to the start of the buffer
+     *
+     * @return the struct instance of this cursor, pointing to the element at {@code index}
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or not smaller than the buffer limit
+     */
+    public T moveTo(int index) {
+        if (CHECKS && (index < 0 || limit <= index)) {
+            throw new IndexOutOfBoundsException();
+        }
+        return move(index);
+    }
+
+    /** Moves the cursor before the element at the buffer position, so that the next call to {@link #next} returns that element. */
+    public StructCursor<T> reset() {
+        index = position - 1;
+        return this;
+    }
+
+    private T move(int index) {
+        this.index = index;
+        struct.address = address + Integer.toUnsignedLong(index) * sizeof;
+        return struct;
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import static org.lwjgl.system.Checks.*;
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * Base class of struct-of-arrays containers.
+ *
+ * <p>A struct-of-arrays container stores each primitive member of a struct type in a separate, contiguous column. Each column is aligned to
+ * {@link MemoryUtil#CACHE_LINE_SIZE CACHE_LINE_SIZE}, which makes loops that process a single member cache-friendly and amenable to auto-vectorization.
+ * Implementations are generated as the nested {@code SoA} class of struct types that opt in, together with methods that gather data from and scatter data to
+ * the corresponding {@link StructBuffer} type.</p>
+ *
+ * <p>The column memory is allocated with {@link MemoryUtil#memAlignedAlloc memAlignedAlloc} and must be explicitly freed.</p>
+ */
+public abstract class StructSoA implements NativeResource {
+
+    private final long address;
+
+    private final int[] elementSizes;
+
+    /** The number of elements in each column. */
+    protected final int capacity;
+
+    /**
+     * Allocates the columns of a new struct-of-arrays container.
+     *
+     * @param capacity     the number of elements in each column
+     * @param elementSizes the element size of each column, in bytes
+     */
+    protected StructSoA(int capacity, int... elementSizes) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+
+        long size = 0L;
+        for (int elementSize : elementSizes) {
+            size += columnSize(capacity, elementSize);
+        }
+
+        this.address = nmemAlignedAllocChecked(CACHE_LINE_SIZE, size);
+        this.elementSizes = elementSizes;
+        this.capacity = capacity;
+    }
+
+    private static long columnSize(int capacity, int elementSize) {
+        return (Integer.toUnsignedLong(capacity) * elementSize + (CACHE_LINE_SIZE - 1)) & ~(CACHE_LINE_SIZE - 1L);
+    }
+
+    /** Returns the number of elements in each column. */
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public void free() {
+        nmemAlignedFree(address);
+    }
+
+    // ---------------- Implementation utilities ----------------
+
+    /** Returns the address of the specified column. */
+    protected final long __column(int column) {
+        long offset = 0L;
+        for (int i = 0; i < column; i++) {
+            offset += columnSize(capacity, elementSizes[i]);
+        }
+        return address + offset;
+    }
+
+    /** Validates the specified element index and returns it as an unsigned {@code long}. */
+    protected final long __index(int index) {
+        return check(index, capacity);
+    }
+
+    /** Validates that the remaining elements of the specified struct buffer fit in the columns and returns their number. */
+    protected final int __count(StructBuffer<?, ?> buffer) {
+        int count = buffer.remaining();
+        if (CHECKS && capacity < count) {
+            throw new IndexOutOfBoundsException("The struct buffer has more remaining elements (" + count + ") than the column capacity (" + capacity + ")");
+        }
+        return count;
+    }
+
+}
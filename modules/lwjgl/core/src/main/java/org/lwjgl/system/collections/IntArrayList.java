@@ -0,0 +1,206 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system.collections;
+
+import org.lwjgl.system.*;
+
+import java.nio.*;
+
+import static org.lwjgl.system.Checks.*;
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * A growable array of {@code int} values, stored in off-heap memory.
+ *
+ * <p>The elements are stored contiguously, starting at {@link #address}. The address and any buffer views returned by this class are invalidated when the list
+ * grows beyond its current capacity, or when it is freed.</p>
+ */
+public final class IntArrayList implements NativeResource {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long address;
+
+    private int size;
+    private int capacity;
+
+    /** Creates a new {@code IntArrayList} with the default initial capacity. */
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new {@code IntArrayList} with the specified initial capacity.
+     *
+     * @param capacity the initial capacity, in elements
+     */
+    public IntArrayList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        this.address = nmemAllocChecked(Integer.toUnsignedLong(capacity) << 2);
+        this.capacity = capacity;
+    }
+
+    /** Returns the address of the first element. */
+    public long address() {
+        return address;
+    }
+
+    /** Returns the number of elements in this list. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns true if this list contains no elements. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Returns the number of elements that this list can hold without reallocating its storage. */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * @param index the element index
+     */
+    public int get(int index) {
+        if (CHECKS) {
+            checkIndex(index);
+        }
+        return memGetInt(address + ((long)index << 2));
+    }
+
+    /**
+     * Replaces the element at the specified index.
+     *
+     * @param index the element index
+     * @param value the new value
+     */
+    public void set(int index, int value) {
+        if (CHECKS) {
+            checkIndex(index);
+        }
+        memPutInt(address + ((long)index << 2), value);
+    }
+
+    /**
+     * Appends a value to the end of this list.
+     *
+     * @param value the value to append
+     */
+    public void add(int value) {
+        if (size == capacity) {
+            grow(size + 1);
+        }
+        memPutInt(address + ((long)size++ << 2), value);
+    }
+
+    /**
+     * Appends the remaining values of the specified buffer to the end of this list. The buffer position is not modified.
+     *
+     * @param values the values to append
+     */
+    public void addAll(IntBuffer values) {
+        int count = values.remaining();
+        if (Integer.MAX_VALUE - size < count) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        ensureCapacity(size + count);
+        memCopy(memAddress(values), address + ((long)size << 2), Integer.toUnsignedLong(count) << 2);
+        size += count;
+    }
+
+    /**
+     * Removes the element at the specified index. The elements after it are shifted to the left.
+     *
+     * @param index the element index
+     *
+     * @return the removed element
+     */
+    public int remove(int index) {
+        if (CHECKS) {
+            checkIndex(index);
+        }
+        long element = address + ((long)index << 2);
+        int  value   = memGetInt(element);
+
+        size--;
+        if (index < size) {
+            memCopy(element + 4, element, (long)(size - index) << 2);
+        }
+        return value;
+    }
+
+    /**
+     * Removes and returns the last element of this list.
+     *
+     * @throws IllegalStateException if the list is empty
+     */
+    public int removeLast() {
+        if (size == 0) {
+            throw new IllegalStateException("The list is empty.");
+        }
+        return memGetInt(address + ((long)--size << 2));
+    }
+
+    /** Removes all elements from this list. The storage is not released. */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Ensures that this list can hold at least the specified number of elements without reallocating its storage.
+     *
+     * @param capacity the minimum capacity, in elements
+     */
+    public void ensureCapacity(int capacity) {
+        if (this.capacity < capacity) {
+            grow(capacity);
+        }
+    }
+
+    /** Returns an {@link IntBuffer} view of the elements in this list. */
+    public IntBuffer buffer() {
+        return memIntBuffer(address, size);
+    }
+
+    /** Returns a new array that contains the elements of this list. */
+    public int[] toArray() {
+        int[] array = new int[size];
+        buffer().get(array);
+        return array;
+    }
+
+    @Override
+    public void free() {
+        nmemFree(address);
+        address = NULL;
+        size = 0;
+        capacity = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || size <= index) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        int capacity = Math.max(minCapacity, this.capacity + (this.capacity >> 1));
+        if (capacity < 0) {
+            capacity = Integer.MAX_VALUE;
+        }
+        address = nmemReallocChecked(address, Integer.toUnsignedLong(capacity) << 2);
+        this.capacity = capacity;
+    }
+
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system.collections;
+
+import org.lwjgl.system.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * An open-addressing hash map with {@code long} keys and {@code long} values, stored in off-heap memory.
+ *
+ * <p>The map uses linear probing with a maximum load factor of {@code 0.5} and backward-shift deletion, so lookups never encounter tombstones. The table starts
+ * at {@link #address} and contains {@link #capacity} entries of 16 bytes each: the key at offset 0 and the value at offset 8. Empty entries have a key of 0,
+ * which means that a mapping for the key 0 is not stored in the table. The address is invalidated when the map grows, or when it is freed.</p>
+ */
+public final class LongLongMap implements NativeResource {
+
+    private static final int ENTRY_SHIFT = 4;
+
+    private static final int MIN_CAPACITY = 4;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long address;
+
+    private int mask;
+    private int threshold;
+
+    /** The number of entries in the table. */
+    private int size;
+
+    private boolean hasZeroKey;
+    private long    zeroValue;
+
+    /** Creates a new {@code LongLongMap} with the default initial capacity. */
+    public LongLongMap() {
+        this(8);
+    }
+
+    /**
+     * Creates a new {@code LongLongMap} that can hold the specified number of mappings without growing.
+     *
+     * @param expectedSize the expected number of mappings
+     */
+    public LongLongMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Invalid expected size: " + expectedSize);
+        }
+        allocate(tableSize(expectedSize));
+    }
+
+    private void allocate(int capacity) {
+        this.address = nmemCallocChecked(capacity, 1 << ENTRY_SHIFT);
+        this.mask = capacity - 1;
+        this.threshold = capacity >>> 1;
+    }
+
+    private static int tableSize(int expectedSize) {
+        long size = Math.max(MIN_CAPACITY, Long.highestOneBit(Math.max(1L, 2L * expectedSize - 1L)) << 1);
+        if (MAX_CAPACITY < size) {
+            throw new IllegalArgumentException("Expected size too large: " + expectedSize);
+        }
+        return (int)size;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E37_79B9_7F4A_7C15L;
+        return (int)(h ^ (h >>> 32));
+    }
+
+    private long entry(int index) {
+        return address + ((long)index << ENTRY_SHIFT);
+    }
+
+    /** Returns the address of the hash table. */
+    public long address() {
+        return address;
+    }
+
+    /** Returns the number of entries in the hash table. This is always a power of two. */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /** Returns the number of mappings in this map. */
+    public int size() {
+        return hasZeroKey ? size + 1 : size;
+    }
+
+    /** Returns true if this map contains no mappings. */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns true if this map contains a mapping for the specified key.
+     *
+     * @param key the key
+     */
+    public boolean containsKey(long key) {
+        if (key == 0L) {
+            return hasZeroKey;
+        }
+        return find(key) != NULL;
+    }
+
+    /**
+     * Returns the value mapped to the specified key, or {@code defaultValue} if this map contains no mapping for the key.
+     *
+     * @param key          the key
+     * @param defaultValue the value to return if the key is not found
+     */
+    public long get(long key, long defaultValue) {
+        if (key == 0L) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+
+        long entry = find(key);
+        return entry == NULL ? defaultValue : memGetLong(entry + 8);
+    }
+
+    /**
+     * Maps the specified key to the specified value, replacing any previous mapping for the key.
+     *
+     * @param key   the key
+     * @param value the value
+     *
+     * @return true if the map did not contain a mapping for the key
+     */
+    public boolean put(long key, long value) {
+        if (key == 0L) {
+            boolean added = !hasZeroKey;
+            hasZeroKey = true;
+            zeroValue = value;
+            return added;
+        }
+
+        int index = hash(key) & mask;
+        while (true) {
+            long entry = entry(index);
+            long k     = memGetLong(entry);
+            if (k == key) {
+                memPutLong(entry + 8, value);
+                return false;
+            }
+            if (k == 0L) {
+                if (size == threshold) {
+                    rehash((mask + 1) << 1);
+                    return put(key, value);
+                }
+                memPutLong(entry, key);
+                memPutLong(entry + 8, value);
+                size++;
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Removes the mapping for the specified key, if present.
+     *
+     * @param key the key
+     *
+     * @return true if the map contained a mapping for the key
+     */
+    public boolean remove(long key) {
+        if (key == 0L) {
+            boolean removed = hasZeroKey;
+            hasZeroKey = false;
+            return removed;
+        }
+
+        long entry = find(key);
+        if (entry == NULL) {
+            return false;
+        }
+
+        size--;
+        shiftEntries((int)((entry - address) >>> ENTRY_SHIFT));
+        return true;
+    }
+
+    /** Removes all mappings from this map. The hash table is not shrunk. */
+    public void clear() {
+        memSet(address, 0, (long)(mask + 1) << ENTRY_SHIFT);
+        size = 0;
+        hasZeroKey = false;
+    }
+
+    /**
+     * Performs the specified action for each mapping in this map, in no particular order. The map must not be modified by the action.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(EntryConsumer action) {
+        if (hasZeroKey) {
+            action.accept(0L, zeroValue);
+        }
+        for (long entry = address, end = entry(mask + 1); entry < end; entry += 1 << ENTRY_SHIFT) {
+            long key = memGetLong(entry);
+            if (key != 0L) {
+                action.accept(key, memGetLong(entry + 8));
+            }
+        }
+    }
+
+    @Override
+    public void free() {
+        nmemFree(address);
+        address = NULL;
+        mask = -1;
+        threshold = 0;
+        size = 0;
+        hasZeroKey = false;
+    }
+
+    private long find(long key) {
+        int index = hash(key) & mask;
+        while (true) {
+            long entry = entry(index);
+            long k     = memGetLong(entry);
+            if (k == key) {
+                return entry;
+            }
+            if (k == 0L) {
+                return NULL;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /** Closes the gap at {@code index} by moving back entries of the same probe sequence. */
+    private void shiftEntries(int index) {
+        while (true) {
+            int  last = index;
+            long key;
+            while (true) {
+                index = (index + 1) & mask;
+                key = memGetLong(entry(index));
+                if (key == 0L) {
+                    memPutLong(entry(last), 0L);
+                    return;
+                }
+
+                // Move the entry if its home slot is not in the cyclic range (last, index]
+                int slot = hash(key) & mask;
+                if (last <= index ? (slot <= last || index < slot) : (slot <= last && index < slot)) {
+                    break;
+                }
+            }
+
+            long src = entry(index);
+            long dst = entry(last);
+            memPutLong(dst, key);
+            memPutLong(dst + 8, memGetLong(src + 8));
+        }
+    }
+
+    private void rehash(int capacity) {
+        if (MAX_CAPACITY < capacity || capacity <= 0) {
+            throw new IllegalStateException("The map is too large.");
+        }
+
+        long oldAddress  = address;
+        int  oldCapacity = mask + 1;
+
+        allocate(capacity);
+        for (long entry = oldAddress, end = oldAddress + ((long)oldCapacity << ENTRY_SHIFT); entry < end; entry += 1 << ENTRY_SHIFT) {
+            long key = memGetLong(entry);
+            if (key == 0L) {
+                continue;
+            }
+
+            int index = hash(key) & mask;
+            while (memGetLong(entry(index)) != 0L) {
+                index = (index + 1) & mask;
+            }
+
+            long dst = entry(index);
+            memPutLong(dst, key);
+            memPutLong(dst + 8, memGetLong(entry + 8));
+        }
+
+        nmemFree(oldAddress);
+    }
+
+    /** Functional interface for {@link #forEach}. */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        /**
+         * Performs an action on a mapping.
+         *
+         * @param key   the key
+         * @param value the value
+         */
+        void accept(long key, long value);
+    }
+
+}
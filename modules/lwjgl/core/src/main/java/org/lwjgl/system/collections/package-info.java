@@ -0,0 +1,14 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+
+/**
+ * Contains primitive collections that store their elements in off-heap memory, allocated with the {@link org.lwjgl.system.MemoryUtil MemoryUtil} explicit
+ * memory management API.
+ *
+ * <p>The collections do not box their elements and expose the address of their storage, so that the data can be passed to native functions without copying.
+ * Instances must be explicitly freed and are not thread-safe.</p>
+ */
+@org.lwjgl.system.NonnullDefault
+package org.lwjgl.system.collections;
@@ -4,6 +4,7 @@
  */
 package org.lwjgl.system.linux;
 
+import org.lwjgl.*;
 import org.lwjgl.system.*;
 
 import java.nio.*;
@@ -39,6 +40,11 @@ public class LinuxLibrary extends SharedLibrary.Default {
         return dlsym(address(), functionName);
     }
 
+    @Override
+    public void getFunctionAddresses(ByteBuffer functionNames, PointerBuffer addresses) {
+        SharedLibraryUtil.getLibraryFunctionAddresses(address(), functionNames, addresses);
+    }
+
     @Override
     public void free() {
         dlclose(address());
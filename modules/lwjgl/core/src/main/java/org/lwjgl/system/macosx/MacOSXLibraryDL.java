@@ -4,6 +4,7 @@
  */
 package org.lwjgl.system.macosx;
 
+import org.lwjgl.*;
 import org.lwjgl.system.*;
 
 import java.nio.*;
@@ -39,6 +40,11 @@ public class MacOSXLibraryDL extends MacOSXLibrary {
         return dlsym(address(), functionName);
     }
 
+    @Override
+    public void getFunctionAddresses(ByteBuffer functionNames, PointerBuffer addresses) {
+        SharedLibraryUtil.getLibraryFunctionAddresses(address(), functionNames, addresses);
+    }
+
     @Override
     public void free() {
         dlclose(address());
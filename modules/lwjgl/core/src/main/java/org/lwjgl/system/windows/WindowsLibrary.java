@@ -4,6 +4,7 @@
  */
 package org.lwjgl.system.windows;
 
+import org.lwjgl.*;
 import org.lwjgl.system.*;
 
 import java.nio.*;
@@ -52,6 +53,11 @@ public class WindowsLibrary extends SharedLibrary.Default {
         return GetProcAddress(address(), functionName);
     }
 
+    @Override
+    public void getFunctionAddresses(ByteBuffer functionNames, PointerBuffer addresses) {
+        SharedLibraryUtil.getLibraryFunctionAddresses(address(), functionNames, addresses);
+    }
+
     @Override
     public void free() {
         if (!FreeLibrary(address())) {
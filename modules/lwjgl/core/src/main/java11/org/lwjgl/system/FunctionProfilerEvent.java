@@ -0,0 +1,104 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import jdk.jfr.*;
+
+import java.util.*;
+
+/**
+ * The Flight Recorder event of {@link FunctionProfiler}.
+ *
+ * <p>The event is defined in a nested class, which is only loaded if {@code jdk.jfr} is available.</p>
+ */
+final class FunctionProfilerEvent {
+
+    private FunctionProfilerEvent() {
+    }
+
+    static boolean register() {
+        if (ModuleLayer.boot().findModule("jdk.jfr").isEmpty()) {
+            return false;
+        }
+        return Events.register();
+    }
+
+    private static final class Events {
+
+        // The values of the previous event, per scope
+        private static final Map<FunctionProfiler.Scope, long[]> PREVIOUS = new IdentityHashMap<>();
+
+        private Events() {
+        }
+
+        /** Adds the periodic event when Flight Recorder is initialized, so that applications that do not use it do not pay for its initialization. */
+        static boolean register() {
+            FlightRecorder.addListener(new FlightRecorderListener() {
+                @Override
+                public void recorderInitialized(FlightRecorder recorder) {
+                    FlightRecorder.addPeriodicEvent(Profile.class, Events::emit);
+                }
+            });
+            return true;
+        }
+
+        private static void emit() {
+            synchronized (PREVIOUS) {
+                for (FunctionProfiler.Scope scope : FunctionProfiler.scopes()) {
+                    int    count = scope.functions.length;
+                    long[] prev  = PREVIOUS.computeIfAbsent(scope, s -> new long[count * 2]);
+
+                    for (int i = 0; i < count; i++) {
+                        long calls = scope.calls[i].sum();
+                        if (calls == prev[i * 2]) {
+                            continue;
+                        }
+                        long time = scope.time[i].sum();
+                        if (calls < prev[i * 2]) {
+                            // FunctionProfiler.reset() was called
+                            prev[i * 2] = 0L;
+                            prev[i * 2 + 1] = 0L;
+                        }
+
+                        Profile event = new Profile();
+                        event.container = scope.container;
+                        event.function = scope.functions[i];
+                        event.calls = calls - prev[i * 2];
+                        event.time = time - prev[i * 2 + 1];
+                        event.commit();
+
+                        prev[i * 2] = calls;
+                        prev[i * 2 + 1] = time;
+                    }
+                }
+            }
+        }
+
+    }
+
+    @Name("org.lwjgl.FunctionProfile")
+    @Label("Native Function Profile")
+    @Category({"LWJGL", "Native Calls"})
+    @Description("Calls to an LWJGL binding function since the previous event.")
+    @Period("1 s")
+    @StackTrace(false)
+    static final class Profile extends Event {
+
+        @Label("Class")
+        String container;
+
+        @Label("Function")
+        String function;
+
+        @Label("Calls")
+        long calls;
+
+        @Label("Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long time;
+
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import jdk.jfr.*;
+
+/**
+ * The Flight Recorder events of {@link MemoryMetrics}.
+ *
+ * <p>The events are defined in nested classes, which are only loaded if {@code jdk.jfr} is available.</p>
+ */
+final class MemoryMetricsEvent {
+
+    private MemoryMetricsEvent() {
+    }
+
+    static boolean register() {
+        if (ModuleLayer.boot().findModule("jdk.jfr").isEmpty()) {
+            return false;
+        }
+        return Events.register();
+    }
+
+    private static final class Events {
+
+        private Events() {
+        }
+
+        /** Adds the periodic events when Flight Recorder is initialized, so that applications that do not use it do not pay for its initialization. */
+        static boolean register() {
+            FlightRecorder.addListener(new FlightRecorderListener() {
+                @Override
+                public void recorderInitialized(FlightRecorder recorder) {
+                    FlightRecorder.addPeriodicEvent(Usage.class, Events::emit);
+                }
+            });
+            return true;
+        }
+
+        private static void emit() {
+            MemoryMetrics.Snapshot snapshot = MemoryMetrics.snapshot();
+
+            Usage usage = new Usage();
+            usage.allocations = snapshot.getAllocations();
+            usage.frees = snapshot.getFrees();
+            usage.liveBytes = snapshot.getLiveBytes();
+            usage.peakBytes = snapshot.getPeakBytes();
+            usage.commit();
+
+            for (MemoryMetrics.ThreadSnapshot thread : snapshot.getThreads()) {
+                ThreadUsage event = new ThreadUsage();
+                event.threadName = thread.getThreadName();
+                event.allocations = thread.getAllocations();
+                event.allocatedBytes = thread.getAllocatedBytes();
+                event.stackPeakSize = thread.getStackPeakSize();
+                event.commit();
+            }
+        }
+
+    }
+
+    @Name("org.lwjgl.MemoryMetrics")
+    @Label("Native Memory Usage")
+    @Category({"LWJGL", "Memory"})
+    @Description("The memory allocated with the MemoryUtil explicit memory management API.")
+    @Period("1 s")
+    @StackTrace(false)
+    static final class Usage extends Event {
+
+        @Label("Allocations")
+        long allocations;
+
+        @Label("Frees")
+        long frees;
+
+        @Label("Live Size")
+        @DataAmount
+        long liveBytes;
+
+        @Label("Peak Size")
+        @DataAmount
+        long peakBytes;
+
+    }
+
+    @Name("org.lwjgl.ThreadMemoryMetrics")
+    @Label("Thread Native Memory Usage")
+    @Category({"LWJGL", "Memory"})
+    @Description("The memory allocated by a thread, with the MemoryUtil explicit memory management API and its thread-local MemoryStack.")
+    @Period("1 s")
+    @StackTrace(false)
+    static final class ThreadUsage extends Event {
+
+        @Label("Thread")
+        String threadName;
+
+        @Label("Allocations")
+        long allocations;
+
+        @Label("Allocated Size")
+        @DataAmount
+        long allocatedBytes;
+
+        @Label("Stack Peak Size")
+        @DataAmount
+        long stackPeakSize;
+
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import java.lang.foreign.*;
+import java.lang.invoke.*;
+
+import static org.lwjgl.system.APIUtil.*;
+
+/**
+ * Creates the downcall handles of the Java 22 version of {@link JNI}.
+ *
+ * <p>Downcall handles are compiled to direct calls by the JIT compiler, without the JNI transition. The function address is passed as a {@code long} and
+ * converted to a {@link MemorySegment} that escape analysis eliminates. Methods that take Java arrays use {@link Linker.Option#critical critical}
+ * downcall handles, which may access the Java heap, like the JNI version that uses {@code GetPrimitiveArrayCritical}.</p>
+ */
+final class ForeignDispatch {
+
+    /** True if {@link Configuration#FUNCTION_DISPATCH} is {@code foreign} and the Foreign Function &amp; Memory API is supported. */
+    static final boolean ENABLED;
+
+    private static final Linker LINKER;
+
+    private static final MethodHandle OF_ADDRESS;
+
+    static {
+        boolean enabled = "foreign".equals(Configuration.FUNCTION_DISPATCH.get("jni"));
+
+        Linker       linker    = null;
+        MethodHandle ofAddress = null;
+        if (enabled) {
+            if (ValueLayout.ADDRESS.byteSize() != 8L) {
+                apiLog("[ForeignDispatch] Foreign dispatch is only supported on 64-bit architectures, using JNI.");
+                enabled = false;
+            } else {
+                try {
+                    linker = Linker.nativeLinker();
+                    ofAddress = MethodHandles.lookup().findStatic(MemorySegment.class, "ofAddress", MethodType.methodType(MemorySegment.class, long.class));
+                    apiLog("Java 22 foreign dispatch enabled");
+                } catch (Throwable t) {
+                    apiLog("[ForeignDispatch] Failed to initialize the native linker, using JNI: " + t);
+                    enabled = false;
+                }
+            }
+        }
+
+        ENABLED = enabled;
+        LINKER = linker;
+        OF_ADDRESS = ofAddress;
+    }
+
+    private ForeignDispatch() {
+    }
+
+    /**
+     * Returns a downcall handle for the specified native function descriptor.
+     *
+     * <p>The descriptor consists of one character per parameter, an underscore and one character for the return type. The characters are the JNI type
+     * signatures of the Java primitive types, {@code N} for C {@code long} values (passed as Java {@code long}), {@code A} for Java arrays (passed as heap
+     * segments) and {@code V} for {@code void}. The returned handle takes the function address as an additional {@code long} parameter, after the other
+     * parameters.</p>
+     */
+    static MethodHandle downcall(String descriptor) {
+        int separator = descriptor.indexOf('_');
+
+        MemoryLayout[] layouts    = new MemoryLayout[separator];
+        Class<?>[]     parameters = new Class<?>[separator + 1];
+        boolean        critical   = false;
+        for (int i = 0; i < separator; i++) {
+            char type = descriptor.charAt(i);
+            layouts[i] = layout(type);
+            parameters[i] = carrier(type);
+            critical |= type == 'A';
+        }
+        parameters[separator] = long.class;
+
+        char returnType = descriptor.charAt(separator + 1);
+
+        FunctionDescriptor function = returnType == 'V'
+            ? FunctionDescriptor.ofVoid(layouts)
+            : FunctionDescriptor.of(layout(returnType), layouts);
+
+        MethodHandle handle = critical
+            ? LINKER.downcallHandle(function, Linker.Option.critical(true))
+            : LINKER.downcallHandle(function);
+
+        // (MemorySegment, params...) -> (long, params...)
+        handle = MethodHandles.filterArguments(handle, 0, OF_ADDRESS);
+
+        // (long, params...) -> (params..., long)
+        int[] reorder = new int[separator + 1];
+        reorder[0] = separator;
+        for (int i = 0; i < separator; i++) {
+            reorder[i + 1] = i;
+        }
+        Class<?>[] permuted = handle.type().parameterArray();
+        System.arraycopy(permuted, 1, permuted, 0, separator);
+        permuted[separator] = long.class;
+        handle = MethodHandles.permuteArguments(handle, MethodType.methodType(handle.type().returnType(), permuted), reorder);
+
+        // C long is 32-bit on Windows
+        return MethodHandles.explicitCastArguments(handle, MethodType.methodType(returnType == 'V' ? void.class : carrier(returnType), parameters));
+    }
+
+    private static MemoryLayout layout(char type) {
+        switch (type) {
+            case 'Z':
+                return ValueLayout.JAVA_BOOLEAN;
+            case 'B':
+                return ValueLayout.JAVA_BYTE;
+            case 'S':
+                return ValueLayout.JAVA_SHORT;
+            case 'C':
+                return ValueLayout.JAVA_CHAR;
+            case 'I':
+                return ValueLayout.JAVA_INT;
+            case 'J':
+                return ValueLayout.JAVA_LONG;
+            case 'F':
+                return ValueLayout.JAVA_FLOAT;
+            case 'D':
+                return ValueLayout.JAVA_DOUBLE;
+            case 'N':
+                return LINKER.canonicalLayouts().get("long");
+            case 'A':
+                return ValueLayout.ADDRESS;
+            default:
+                throw new IllegalArgumentException(String.valueOf(type));
+        }
+    }
+
+    private static Class<?> carrier(char type) {
+        switch (type) {
+            case 'Z':
+                return boolean.class;
+            case 'B':
+                return byte.class;
+            case 'S':
+                return short.class;
+            case 'C':
+                return char.class;
+            case 'I':
+                return int.class;
+            case 'J':
+            case 'N':
+                return long.class;
+            case 'F':
+                return float.class;
+            case 'D':
+                return double.class;
+            case 'A':
+                return MemorySegment.class;
+            default:
+                throw new IllegalArgumentException(String.valueOf(type));
+        }
+    }
+
+    /** Returns {@code t} as an unchecked exception. Downcall handles do not throw checked exceptions. */
+    static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException)t;
+        }
+        if (t instanceof Error) {
+            throw (Error)t;
+        }
+        return new RuntimeException(t);
+    }
+
+}
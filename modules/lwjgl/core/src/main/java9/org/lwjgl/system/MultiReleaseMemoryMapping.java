@@ -0,0 +1,26 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import java.nio.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * Memory mapping utilities.
+ *
+ * <p>This implementation uses {@code sun.misc.Unsafe::invokeCleaner}, which does not require access to JDK internals.</p>
+ */
+final class MultiReleaseMemoryMapping {
+
+    private MultiReleaseMemoryMapping() {
+    }
+
+    /** Unmaps the specified buffer. The buffer must not be accessed after this method returns. */
+    static void unmap(MappedByteBuffer buffer) {
+        UNSAFE.invokeCleaner(buffer);
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.system.CallbackMetrics.*;
+import org.testng.*;
+import org.testng.annotations.*;
+
+import static org.lwjgl.system.JNI.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.testng.Assert.*;
+
+@Test
+public class CallbackMetricsTest {
+
+    private static final class Sleep implements CallbackI.I {
+        int millis;
+
+        @Override public String getSignature() { return "(i)i"; }
+
+        @Override public int callback(long args) {
+            if (millis != 0) {
+                try {
+                    Thread.sleep(millis);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            return millis;
+        }
+    }
+
+    public void testWrap() {
+        Sleep target = new Sleep();
+
+        Object wrapper = CallbackMetrics.wrap(target.getSignature(), target);
+        assertTrue(wrapper instanceof CallbackI.I);
+        assertSame(CallbackMetrics.unwrap(wrapper), target);
+        assertSame(CallbackMetrics.unwrap(target), target);
+
+        CallbackI.I callback = (CallbackI.I)wrapper;
+        for (int i = 0; i < 99; i++) {
+            assertEquals(callback.callback(NULL), 0);
+        }
+        target.millis = 5;
+        assertEquals(callback.callback(NULL), 5);
+
+        Snapshot snapshot = ((Profiled)wrapper).snapshot();
+        assertEquals(snapshot.getInvocations(), 100L);
+        assertEquals(snapshot.getSignature(), "(i)i");
+        assertEquals(snapshot.getType(), Sleep.class.getName());
+        assertTrue(5_000_000L <= snapshot.getMaxTime());
+        assertTrue(snapshot.getMaxTime() <= snapshot.getTotalTime());
+
+        long total = 0L;
+        for (int i = 0; i < CallbackMetrics.HISTOGRAM_BUCKETS; i++) {
+            total += snapshot.getHistogram(i);
+        }
+        assertEquals(total, 100L);
+
+        assertTrue(snapshot.getPercentile(0.5) < 5_000_000L);
+        assertEquals(snapshot.getPercentile(1.0), snapshot.getMaxTime());
+    }
+
+    public void testCallback() {
+        if (!CallbackMetrics.isEnabled()) {
+            throw new SkipException("This test requires callback metrics.");
+        }
+
+        Sleep target  = new Sleep();
+        long  address = target.address();
+        try {
+            // The wrapper is transparent
+            assertSame(Callback.get(address), target);
+
+            for (int i = 0; i < 9; i++) {
+                assertEquals(invokeI(0, address), 0);
+            }
+            target.millis = 5;
+            assertEquals(invokeI(0, address), 5);
+
+            Snapshot snapshot = null;
+            for (Snapshot s : CallbackMetrics.snapshot()) {
+                if (s.getAddress() == address) {
+                    snapshot = s;
+                }
+            }
+            assertNotNull(snapshot);
+            assertEquals(snapshot.getInvocations(), 10L);
+            assertEquals(snapshot.getType(), Sleep.class.getName());
+            assertTrue(5_000_000L <= snapshot.getMaxTime());
+        } finally {
+            Callback.free(address);
+        }
+
+        for (Snapshot s : CallbackMetrics.snapshot()) {
+            assertNotEquals(s.getAddress(), address);
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.testng.annotations.*;
+
+import static org.lwjgl.system.JNI.*;
+import static org.lwjgl.system.dyncall.DynCallback.*;
+import static org.testng.Assert.*;
+
+@Test
+public class CallbackPoolTest {
+
+    private static final class Add implements CallbackI.I {
+        private final int value;
+
+        Add(int value) { this.value = value; }
+
+        @Override public String getSignature() { return "(i)i"; }
+
+        @Override public int callback(long args) { return dcbArgInt(args) + value; }
+    }
+
+    public void testLease() {
+        CallbackPool.Thunk thunk = CallbackPool.lease(new Add(1));
+        long address = thunk.address();
+        assertEquals(invokeI(10, address), 11);
+
+        thunk.setTarget(new Add(2));
+        assertEquals(invokeI(10, address), 12);
+        thunk.free();
+        assertNull(thunk.getTarget());
+        expectThrows(IllegalStateException.class, thunk::free);
+        expectThrows(IllegalStateException.class, () -> thunk.setTarget(new Add(4)));
+        assertNull(thunk.getTarget());
+
+        // The released thunk is reused, with a new target
+        try (CallbackPool.Thunk reused = CallbackPool.lease(new Add(3))) {
+            assertSame(reused, thunk);
+            assertEquals(invokeI(10, address), 13);
+        }
+
+        CallbackPool.Stats stats = CallbackPool.getStats("(i)i");
+        assertNotNull(stats);
+        assertEquals(stats.getCreated(), 1L);
+        assertEquals(stats.getLeases(), 2L);
+        assertEquals(stats.getActive(), 0);
+        assertEquals(stats.getPeak(), 1);
+        assertEquals(stats.getIdle(), 1);
+
+        CallbackPool.trim();
+        assertEquals(CallbackPool.getStats("(i)i").getIdle(), 0);
+    }
+
+}
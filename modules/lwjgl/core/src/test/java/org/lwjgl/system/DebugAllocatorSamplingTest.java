@@ -0,0 +1,111 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.system.MemoryManage.DebugAllocator.*;
+import org.testng.annotations.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.testng.Assert.*;
+
+@Test
+public class DebugAllocatorSamplingTest {
+
+    private static final int ALLOCATIONS = 100_000;
+
+    private static void assertEstimate(SampleTable samples, long size, double tolerance) {
+        for (int i = 0; i < ALLOCATIONS; i++) {
+            samples.track(address(i), size);
+        }
+
+        double expected = (double)ALLOCATIONS * size;
+        assertEquals(samples.estimate(), expected, expected * tolerance);
+        assertEquals(samples.dropped.sum(), 0L);
+
+        for (int i = 0; i < ALLOCATIONS; i++) {
+            samples.remove(address(i));
+        }
+
+        assertEquals(samples.estimate(), 0L);
+        assertTrue(samples.snapshot().isEmpty());
+    }
+
+    private static long address(int i) {
+        return 0x10000L + i * 16L;
+    }
+
+    public void testSampleRate() {
+        assertEstimate(new SampleTable(100, false), 64, 0.15);
+    }
+
+    public void testSampleBytes() {
+        assertEstimate(new SampleTable(4096, true), 1000, 0.05);
+    }
+
+    public void testTombstones() {
+        // Every allocation is sampled
+        SampleTable samples = new SampleTable(1, true);
+
+        samples.track(address(0), 1 << 20);
+        for (int i = 1; i < 1_000_000; i++) {
+            samples.track(address(i), 1 << 20);
+            samples.remove(address(i));
+            assertTrue(samples.tombstones() <= (1 << 16) / 4);
+        }
+
+        assertEquals(samples.dropped.sum(), 0L);
+        assertEquals(samples.snapshot().size(), 1);
+        assertNotNull(samples.remove(address(0)));
+        assertTrue(samples.snapshot().isEmpty());
+    }
+
+    public void testConcurrentCompaction() throws InterruptedException {
+        SampleTable samples = new SampleTable(1, true);
+
+        int       threads = 4;
+        int       live    = 1000;
+        boolean[] lost    = new boolean[threads];
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int base = t * 1_000_000;
+            int index = t;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < live; i++) {
+                    samples.track(address(base + i), 1 << 20);
+                }
+                // Churn that triggers compactions, while the live samples are freed and reallocated
+                for (int i = live; i < 200_000; i++) {
+                    samples.track(address(base + i), 1 << 20);
+                    samples.remove(address(base + i));
+
+                    long address = address(base + i % live);
+                    if (samples.remove(address) == null) {
+                        lost[index] = true;
+                    }
+                    samples.track(address, 1 << 20);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        for (int t = 0; t < threads; t++) {
+            assertFalse(lost[t]);
+        }
+        assertEquals(samples.dropped.sum(), 0L);
+        assertEquals(samples.snapshot().size(), threads * live);
+    }
+
+    public void testUnsampledFree() {
+        SampleTable samples = new SampleTable(1 << 20, true);
+
+        assertNull(samples.remove(address(0)));
+        assertNull(samples.remove(NULL));
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.system.FunctionProfiler.*;
+import org.testng.*;
+import org.testng.annotations.*;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+@Test
+public class FunctionProfilerTest {
+
+    @BeforeClass
+    public void setUp() {
+        Configuration.PROFILE_FUNCTIONS.set(true);
+        if (!FunctionProfiler.isEnabled()) {
+            throw new SkipException("FunctionProfiler was initialized before the test.");
+        }
+    }
+
+    private static final class Functions {
+        static final Scope PROFILE = FunctionProfiler.register(Functions.class, "sleep", "identity", "unused");
+
+        static void sleep(long millis) {
+            long t = FunctionProfiler.start();
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            PROFILE.record(0, t);
+        }
+
+        static int identity(int value) {
+            long t = FunctionProfiler.start();
+            return PROFILE.record(1, t, value);
+        }
+    }
+
+    public void testRecord() {
+        FunctionProfiler.reset();
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Functions.identity(i), i);
+        }
+        Functions.sleep(5L);
+
+        List<Entry> entries = new ArrayList<>();
+        for (Entry entry : FunctionProfiler.snapshot()) {
+            if (entry.getContainer().equals(Functions.class.getName())) {
+                entries.add(entry);
+            }
+        }
+        assertEquals(entries.size(), 2);
+
+        entries.sort(Entry.BY_CALLS);
+        assertEquals(entries.get(0).getFunction(), "identity");
+        assertEquals(entries.get(0).getCalls(), 1000L);
+        assertEquals(entries.get(1).getFunction(), "sleep");
+        assertEquals(entries.get(1).getCalls(), 1L);
+        assertTrue(5_000_000L <= entries.get(1).getTime());
+
+        entries.sort(Entry.BY_TIME);
+        assertEquals(entries.get(0).getFunction(), "sleep");
+
+        String report = FunctionProfiler.report(Entry.BY_TIME, 10);
+        assertTrue(report.contains("FunctionProfilerTest$Functions.sleep"));
+        assertTrue(report.contains("FunctionProfilerTest$Functions.identity"));
+        assertFalse(report.contains("unused"));
+
+        FunctionProfiler.reset();
+        for (Entry entry : FunctionProfiler.snapshot()) {
+            assertNotEquals(entry.getContainer(), Functions.class.getName());
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.testng.annotations.*;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.testng.Assert.*;
+
+@Test
+public class LibraryTest {
+
+    private static final AtomicInteger INITIALIZED = new AtomicInteger();
+
+    private static final class Binding {
+        static { INITIALIZED.incrementAndGet(); }
+
+        private Binding() {}
+
+        private static final class Functions {
+            static { INITIALIZED.incrementAndGet(); }
+
+            private Functions() {}
+        }
+    }
+
+    private static final class BrokenBinding {
+        static {
+            if (INITIALIZED.get() != -1) {
+                throw new UnsatisfiedLinkError("Failed to locate library: libbroken.so");
+            }
+        }
+
+        private BrokenBinding() {}
+    }
+
+    public void testPreload() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Library.preload(executor, Binding.class, MemoryUtil.class).join();
+            assertEquals(INITIALIZED.get(), 2);
+
+            // Already initialized
+            Library.preload(executor, Binding.class).join();
+            assertEquals(INITIALIZED.get(), 2);
+
+            CompletableFuture<Void> future = Library.preload(executor, BrokenBinding.class);
+            CompletionException e = expectThrows(CompletionException.class, future::join);
+            assertTrue(e.getCause() instanceof UnsatisfiedLinkError);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.system.windows.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+
+import static org.lwjgl.system.Checks.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.testng.Assert.*;
+
+@Test
+public class MemoryMappedFileTest {
+
+    private static Path createFile(int size) throws IOException {
+        Path path = Files.createTempFile("lwjgl", ".bin");
+        path.toFile().deleteOnExit();
+
+        ByteBuffer data = ByteBuffer.allocate(size).order(ByteOrder.nativeOrder());
+        for (int i = 0; i < size >> 2; i++) {
+            data.putInt(i);
+        }
+        data.flip();
+        Files.write(path, data.array());
+        return path;
+    }
+
+    public void testReadOnly() throws IOException {
+        Path path = createFile(4096);
+        try (MemoryMappedFile file = memMapFile(path, FileChannel.MapMode.READ_ONLY)) {
+            assertNotEquals(file.address(), NULL);
+            assertEquals(file.size(), 4096L);
+
+            ByteBuffer buffer = file.buffer();
+            assertTrue(buffer.isReadOnly());
+            assertEquals(buffer.remaining(), 4096);
+            for (int i = 0; i < 1024; i++) {
+                assertEquals(buffer.getInt(i << 2), i);
+                assertEquals(memGetInt(file.address() + (i << 2)), i);
+            }
+
+            ByteBuffer range = file.buffer(64, 16);
+            assertEquals(range.remaining(), 16);
+            assertEquals(range.getInt(0), 16);
+        }
+    }
+
+    public void testReadWrite() throws IOException {
+        Path path = createFile(256);
+        try (MemoryMappedFile file = memMapFile(path, FileChannel.MapMode.READ_WRITE)) {
+            memPutInt(file.address() + 8, 0xDEADBEEF);
+            file.force();
+        }
+        assertEquals(ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.nativeOrder()).getInt(8), 0xDEADBEEF);
+    }
+
+    public void testRegion() throws IOException {
+        Path path = createFile(8192);
+        try (MemoryMappedFile file = memMapFile(path, FileChannel.MapMode.READ_ONLY, 4100L, 100L)) {
+            assertEquals(file.size(), 100L);
+            assertEquals(memGetInt(file.address()), 4100 >> 2);
+            assertTrue(file.advise(MemoryMappedFile.Advice.WILLNEED, 4L, 96L) || Platform.get() == Platform.WINDOWS);
+        }
+    }
+
+    public void testStructViews() throws IOException {
+        Path path = createFile(4096);
+        try (MemoryMappedFile file = memMapFile(path, FileChannel.MapMode.READ_ONLY)) {
+            RECT rect = file.struct(16L, RECT::create);
+            assertEquals(rect.left(), 4);
+            assertEquals(rect.bottom(), 7);
+
+            RECT.Buffer rects = file.structs(0L, 256, RECT::create);
+            assertEquals(rects.remaining(), 256);
+            assertEquals(rects.get(255).bottom(), 1023);
+
+            if (CHECKS) {
+                expectThrows(IndexOutOfBoundsException.class, () -> file.structs(16L, 256, RECT::create));
+                expectThrows(IndexOutOfBoundsException.class, () -> file.struct(4088L, RECT::create));
+            }
+        }
+    }
+
+    public void testAdvise() throws IOException {
+        Path path = createFile(1 << 20);
+        try (MemoryMappedFile file = memMapFile(path, FileChannel.MapMode.READ_ONLY)) {
+            if (Platform.get() == Platform.WINDOWS) {
+                assertFalse(file.advise(MemoryMappedFile.Advice.SEQUENTIAL));
+            } else {
+                assertTrue(file.advise(MemoryMappedFile.Advice.SEQUENTIAL));
+                assertTrue(file.advise(MemoryMappedFile.Advice.WILLNEED));
+            }
+            expectThrows(IndexOutOfBoundsException.class, () -> file.advise(MemoryMappedFile.Advice.NORMAL, 0L, (1 << 20) + 1));
+        }
+    }
+
+    public void testFree() throws IOException {
+        Path path = createFile(16);
+        MemoryMappedFile file = memMapFile(path, FileChannel.MapMode.READ_ONLY);
+        file.free();
+        assertEquals(file.address(), NULL);
+        assertEquals(file.size(), 0L);
+        expectThrows(IllegalStateException.class, file::buffer);
+        file.free();
+    }
+
+}
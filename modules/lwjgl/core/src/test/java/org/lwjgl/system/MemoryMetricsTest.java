@@ -0,0 +1,96 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.system.MemoryManage.*;
+import org.lwjgl.system.MemoryMetrics.*;
+import org.lwjgl.system.MemoryUtil.*;
+import org.testng.annotations.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.testng.Assert.*;
+
+@Test
+public class MemoryMetricsTest {
+
+    // Wraps a new instance, getAllocator() is already counted
+    private final MemoryAllocator  backing   = MemoryManage.getInstance();
+    private final MetricsAllocator allocator = new MetricsAllocator(backing);
+
+    private final MXBeanImpl metrics = new MXBeanImpl();
+
+    private long sizeOf(long ptr) {
+        long size = backing.usable_size(ptr);
+        if (size == -1L) {
+            return 0L;
+        }
+        assertTrue(0L <= size);
+        return size;
+    }
+
+    public void testUsableSize() {
+        long a = allocator.malloc(100);
+        long size = allocator.usable_size(a);
+        if (size != -1L) {
+            assertTrue(100L <= size);
+        }
+        allocator.free(a);
+    }
+
+    public void testCounters() {
+        long allocations = metrics.getAllocations();
+        long frees       = metrics.getFrees();
+        long live        = metrics.getLiveBytes();
+
+        long a = allocator.malloc(100);
+        long b = allocator.calloc(10, 10);
+        assertEquals(metrics.getAllocations(), allocations + 2);
+        assertEquals(metrics.getLiveBytes(), live + sizeOf(a) + sizeOf(b));
+
+        // The high-water mark is updated in 64 KB batches
+        b = allocator.realloc(b, 100_000);
+        assertEquals(metrics.getLiveBytes(), live + sizeOf(a) + sizeOf(b));
+        if (0L < sizeOf(b)) {
+            assertTrue(100_000 <= metrics.getPeakBytes());
+        }
+
+        allocator.free(a);
+        allocator.free(b);
+        assertEquals(metrics.getFrees(), frees + 3);
+        assertEquals(metrics.getLiveBytes(), live);
+    }
+
+    public void testCalloc() {
+        long a = allocator.calloc(16, 16);
+        for (int i = 0; i < 256; i++) {
+            assertEquals(memGetByte(a + i), 0);
+        }
+        allocator.free(a);
+    }
+
+    public void testRealloc() {
+        long a = allocator.malloc(8);
+        memPutLong(a, 0x0123456789ABCDEFL);
+
+        a = allocator.realloc(a, 1024 * 1024);
+        assertEquals(memGetLong(a), 0x0123456789ABCDEFL);
+
+        allocator.free(a);
+    }
+
+    public void testAlignedAlloc() {
+        long live = metrics.getLiveBytes();
+
+        for (int alignment = 8; alignment <= 4096; alignment <<= 1) {
+            long a = allocator.aligned_alloc(alignment, 24);
+            assertEquals(a & (alignment - 1), 0L);
+            assertEquals(metrics.getLiveBytes(), live + sizeOf(a));
+            allocator.aligned_free(a);
+        }
+
+        assertEquals(metrics.getLiveBytes(), live);
+    }
+
+}
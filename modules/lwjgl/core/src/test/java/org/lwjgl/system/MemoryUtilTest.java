@@ -11,6 +11,7 @@ import org.testng.annotations.*;
 import java.nio.*;
 import java.nio.charset.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import static org.lwjgl.system.Checks.*;
@@ -154,6 +155,52 @@ public class MemoryUtilTest {
         }
     }
 
+    public void testMemSetParallel() {
+        int  size = (int)ParallelMemory.THRESHOLD * 2 + 13;
+        long mem  = nmemAlloc(size + 16);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            memSet(mem, 0x11, size + 16);
+            memSetParallel(mem + 3, 0xA5, size, pool);
+
+            assertEquals(memGetByte(mem + 2), 0x11);
+            for (int i = 0; i < size; i += 8) {
+                assertEquals(memGetByte(mem + 3 + i), (byte)0xA5);
+            }
+            assertEquals(memGetByte(mem + 3 + size - 1), (byte)0xA5);
+            assertEquals(memGetByte(mem + 3 + size), 0x11);
+        } finally {
+            pool.shutdown();
+            nmemFree(mem);
+        }
+    }
+
+    public void testMemCopyParallel() {
+        int  size = (int)ParallelMemory.THRESHOLD * 2 + 13;
+        long src  = nmemAlloc(size);
+        long dst  = nmemCalloc(1, size + 16);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int i = 0; i < size; i += 4) {
+                memPutInt(src + i, i);
+            }
+
+            memCopyParallel(src, dst + 5, size, pool);
+
+            assertEquals(memGetByte(dst + 4), 0);
+            for (int i = 0; i < size - 4; i += 4) {
+                assertEquals(memGetInt(dst + 5 + i), i);
+            }
+            assertEquals(memGetByte(dst + 5 + size), 0);
+        } finally {
+            pool.shutdown();
+            nmemFree(dst);
+            nmemFree(src);
+        }
+    }
+
     public void testJNINewBuffer() {
         ByteBuffer buffer = BufferUtils.createByteBuffer(32);
         for (int i = 0; i < buffer.capacity(); i++) {
@@ -529,6 +576,66 @@ public class MemoryUtilTest {
         assertEquals(bytes.get(2) & 0xFF, 0xBF);
     }
 
+    public void testTextEncodingLengths() {
+        // Covers the ASCII fast path of the UTF-8 decoder: every length up to 5 words, with a non-ASCII char at every position
+        String[] nonASCII = {"\u00E9", "\u4E2D", new String(Character.toChars(0x1F600))};
+        for (int len = 0; len <= 40; len++) {
+            StringBuilder ascii = new StringBuilder(len);
+            for (int i = 0; i < len; i++) {
+                ascii.append((char)('a' + i));
+            }
+            testTextEncoding(ascii.toString());
+            for (String c : nonASCII) {
+                for (int i = 0; i < len; i++) {
+                    testTextEncoding(new StringBuilder(ascii).replace(i, i + 1, c).toString());
+                }
+            }
+        }
+    }
+
+    private static void testTextEncoding(String text) {
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        assertEquals(memLengthUTF8(text, false), utf8.length);
+
+        ByteBuffer encoded = memUTF8(text, false);
+        try {
+            byte[] bytes = new byte[encoded.remaining()];
+            encoded.get(bytes).flip();
+            assertEquals(bytes, utf8);
+            assertEquals(memUTF8(encoded), text);
+
+            // unaligned
+            ByteBuffer unaligned = memAlloc(utf8.length + 1);
+            try {
+                unaligned.position(1);
+                unaligned.put(utf8).position(1);
+                assertEquals(memUTF8(unaligned), text);
+            } finally {
+                memFree(unaligned);
+            }
+        } finally {
+            memFree(encoded);
+        }
+
+        encoded = memUTF16(text, false);
+        try {
+            assertEquals(memUTF16(encoded), text);
+        } finally {
+            memFree(encoded);
+        }
+
+        encoded = memASCII(text, false);
+        try {
+            byte[] bytes = new byte[encoded.remaining()];
+            encoded.get(bytes).flip();
+            for (int i = 0; i < bytes.length; i++) {
+                assertEquals(bytes[i], (byte)text.charAt(i));
+            }
+        } finally {
+            memFree(encoded);
+        }
+    }
+
     private static void testUTF8(ByteBuffer buffer, CharBuffer chars, int cp, int bytes) {
         char[] cpChars = Character.toChars(cp);
 
@@ -0,0 +1,134 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.system.NativeStringCache.*;
+import org.testng.annotations.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.testng.Assert.*;
+
+@Test
+public class NativeStringCacheTest {
+
+    private static Cache cache(int capacity, int size) {
+        return new Cache(capacity, size, text -> memASCII(text, true));
+    }
+
+    public void testHit() {
+        Cache cache = cache(4, 1024);
+
+        Entry a = cache.acquire("glUniform");
+        assertEquals(memASCII(a.address()), "glUniform");
+        assertEquals(a.buffer().remaining(), "glUniform".length() + 1);
+
+        Entry b = cache.acquire(new String("glUniform"));
+        assertSame(b, a);
+        assertEquals(cache.hits.sum(), 1L);
+        assertEquals(cache.misses.sum(), 1L);
+
+        a.release();
+        b.release();
+
+        // still cached
+        Entry c = cache.acquire("glUniform");
+        assertSame(c, a);
+        c.release();
+
+        cache.clear();
+        assertEquals(cache.map.size(), 0);
+        assertEquals(cache.bytes(), 0L);
+    }
+
+    public void testEvictUnused() {
+        Cache cache = cache(2, 1024);
+
+        cache.acquire("a").release();
+        cache.acquire("b").release();
+        cache.acquire("a").release(); // b has not been used since it was cached
+        cache.acquire("c").release();
+
+        assertEquals(cache.map.size(), 2);
+        assertTrue(cache.map.containsKey("a"));
+        assertFalse(cache.map.containsKey("b"));
+        assertTrue(cache.map.containsKey("c"));
+        assertEquals(cache.evictions.sum(), 1L);
+        assertEquals(cache.bytes(), 4L);
+
+        cache.clear();
+    }
+
+    public void testEvictReferenced() {
+        Cache cache = cache(2, 1024);
+
+        cache.acquire("a").release();
+        cache.acquire("b").release();
+        cache.acquire("a").release();
+        cache.acquire("b").release();
+
+        // Both entries get a second chance, then the hand wraps around to a
+        cache.acquire("c").release();
+        assertFalse(cache.map.containsKey("a"));
+        assertTrue(cache.map.containsKey("b"));
+        assertTrue(cache.map.containsKey("c"));
+
+        // The hand has moved past c
+        cache.acquire("d").release();
+        assertFalse(cache.map.containsKey("b"));
+        assertTrue(cache.map.containsKey("c"));
+        assertTrue(cache.map.containsKey("d"));
+        assertEquals(cache.evictions.sum(), 2L);
+
+        cache.clear();
+    }
+
+    public void testEvictSize() {
+        Cache cache = cache(16, 8);
+
+        cache.acquire("abc").release();
+        cache.acquire("def").release();
+        cache.acquire("ghi").release(); // 12 bytes > 8, abc is evicted
+
+        assertEquals(cache.map.size(), 2);
+        assertFalse(cache.map.containsKey("abc"));
+        assertEquals(cache.bytes(), 8L);
+
+        // Too long to be cached
+        Entry big = cache.acquire("0123456789");
+        assertEquals(memASCII(big.address()), "0123456789");
+        assertFalse(cache.map.containsKey("0123456789"));
+        big.release();
+
+        cache.clear();
+    }
+
+    public void testEvictAcquired() {
+        Cache cache = cache(1, 1024);
+
+        Entry a = cache.acquire("a");
+        cache.acquire("b").release(); // evicts a, which is still acquired
+
+        assertFalse(cache.map.containsKey("a"));
+        assertEquals(memASCII(a.address()), "a");
+        a.release();
+
+        expectThrows(IllegalStateException.class, a::release);
+
+        cache.clear();
+    }
+
+    public void testDisabled() {
+        Cache cache = cache(0, 1024);
+
+        Entry a = cache.acquire("a");
+        Entry b = cache.acquire("a");
+        assertNotSame(a, b);
+        assertEquals(cache.map.size(), 0);
+
+        a.release();
+        b.release();
+    }
+
+}
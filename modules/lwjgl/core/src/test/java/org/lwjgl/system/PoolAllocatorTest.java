@@ -0,0 +1,149 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.system.MemoryManage.*;
+import org.testng.annotations.*;
+
+import static org.lwjgl.system.MemoryManage.PoolAllocator.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.testng.Assert.*;
+
+@Test
+public class PoolAllocatorTest {
+
+    private PoolAllocator allocator;
+
+    @BeforeMethod
+    public void setUp() {
+        allocator = new PoolAllocator(getAllocator());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        allocator.destroy();
+    }
+
+    public void testSizeClasses() {
+        assertEquals(sizeClass(0), 0);
+        assertEquals(CLASS_SIZES[0], 16);
+        assertEquals(CLASS_SIZES[CLASS_SIZES.length - 1], MAX_POOLED_SIZE);
+
+        for (int size = 1; size <= MAX_POOLED_SIZE; size++) {
+            int sizeClass = sizeClass(size);
+            assertTrue(size <= CLASS_SIZES[sizeClass]);
+            if (sizeClass != 0) {
+                assertTrue(CLASS_SIZES[sizeClass - 1] < size);
+            }
+            assertEquals(CLASS_SIZES[sizeClass] & 15, 0);
+        }
+    }
+
+    public void testReuse() {
+        long a = allocator.malloc(100);
+        assertNotEquals(a, NULL);
+        assertEquals(a & 15L, 0L);
+        allocator.free(a);
+
+        long b = allocator.malloc(112);
+        assertEquals(b, a);
+
+        long c = allocator.malloc(112);
+        assertNotEquals(c, b);
+
+        allocator.free(b);
+        allocator.free(c);
+    }
+
+    public void testCalloc() {
+        long a = allocator.malloc(256);
+        memSet(a, 0xFF, 256);
+        allocator.free(a);
+
+        long b = allocator.calloc(4, 64);
+        assertEquals(b, a);
+        for (int i = 0; i < 256; i++) {
+            assertEquals(memGetByte(b + i), 0);
+        }
+        allocator.free(b);
+
+        long c = allocator.calloc(1, MAX_POOLED_SIZE + 1);
+        assertNotEquals(c, NULL);
+        assertEquals(memGetByte(c + MAX_POOLED_SIZE), 0);
+        allocator.free(c);
+    }
+
+    public void testRealloc() {
+        long a = allocator.realloc(NULL, 8);
+        for (int i = 0; i < 8; i++) {
+            memPutByte(a + i, (byte)i);
+        }
+
+        assertEquals(allocator.realloc(a, 16), a);
+
+        long b = allocator.realloc(a, 1000);
+        long c = allocator.realloc(b, MAX_POOLED_SIZE * 2);
+        long d = allocator.realloc(c, MAX_POOLED_SIZE * 4);
+        long e = allocator.realloc(d, 32);
+        for (int i = 0; i < 8; i++) {
+            assertEquals(memGetByte(e + i), i);
+        }
+        allocator.free(e);
+    }
+
+    public void testRemoteFree() throws InterruptedException {
+        long[] blocks    = new long[64];
+        long[] allocated = new long[blocks.length];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = allocator.malloc(48);
+        }
+
+        Thread t = new Thread(() -> {
+            for (long block : blocks) {
+                allocator.free(block);
+            }
+        });
+        t.start();
+        t.join();
+
+        // The blocks freed by the other thread are reused by the owner
+        for (int i = 0; i < blocks.length; i++) {
+            long block = allocator.malloc(48);
+            allocated[i] = block;
+
+            boolean found = false;
+            for (long b : blocks) {
+                if (b == block) {
+                    found = true;
+                    break;
+                }
+            }
+            assertTrue(found);
+        }
+
+        for (long block : allocated) {
+            allocator.free(block);
+        }
+    }
+
+    public void testPoolAdoption() throws InterruptedException {
+        long[] block = new long[2];
+
+        Thread t1 = new Thread(() -> {
+            block[0] = allocator.malloc(2048);
+            allocator.free(block[0]);
+        });
+        t1.start();
+        t1.join();
+
+        Thread t2 = new Thread(() -> block[1] = allocator.malloc(2048));
+        t2.start();
+        t2.join();
+
+        assertEquals(block[1], block[0]);
+        allocator.free(block[1]);
+    }
+
+}
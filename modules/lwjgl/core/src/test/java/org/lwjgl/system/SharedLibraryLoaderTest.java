@@ -0,0 +1,113 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.net.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.security.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+@Test
+public class SharedLibraryLoaderTest {
+
+    private static final byte[] CONTENT = "LWJGL native library".getBytes(StandardCharsets.US_ASCII);
+
+    private static String sha1() throws Exception {
+        StringBuilder hash = new StringBuilder();
+        for (byte b : MessageDigest.getInstance("SHA-1").digest(CONTENT)) {
+            hash.append(String.format("%02x", b & 0xFF));
+        }
+        return hash.toString();
+    }
+
+    private static URL createResource(Path dir, boolean withHash) throws Exception {
+        Path resource = dir.resolve("bundle").resolve("liblwjgltest.so");
+        Files.createDirectories(resource.getParent());
+        Files.write(resource, CONTENT);
+        if (withHash) {
+            Files.write(resource.resolveSibling("liblwjgltest.so.sha1"), sha1().getBytes(StandardCharsets.US_ASCII));
+        }
+        return resource.toUri().toURL();
+    }
+
+    private static void extract(Path file, URL resource) throws IOException {
+        try (FileChannel ignored = SharedLibraryLoader.extract(file, resource)) {
+            assertTrue(Files.exists(file));
+        }
+    }
+
+    private static Properties readManifest(Path file) throws IOException {
+        Properties manifest = new Properties();
+        try (InputStream input = Files.newInputStream(file.resolveSibling(file.getFileName() + ".manifest"))) {
+            manifest.load(input);
+        }
+        return manifest;
+    }
+
+    public void testManifest() throws Exception {
+        Path dir  = Files.createTempDirectory("lwjgl");
+        Path file = dir.resolve("extracted").resolve("liblwjgltest.so");
+
+        URL resource = createResource(dir, true);
+
+        extract(file, resource);
+        assertEquals(Files.readAllBytes(file), CONTENT);
+
+        Properties manifest = readManifest(file);
+        assertEquals(manifest.getProperty("sha1"), sha1());
+        assertEquals(manifest.getProperty("size"), Integer.toString(CONTENT.length));
+        assertEquals(manifest.getProperty("version"), Version.getVersion());
+
+        // Matching manifest, the extracted file is not read or replaced
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        extract(file, resource);
+        assertEquals(Files.getLastModifiedTime(file).toMillis(), lastModified);
+
+        // Modified file, same size: the manifest does not match and the file is extracted again
+        byte[] modified = CONTENT.clone();
+        modified[0] = 'X';
+        Files.write(file, modified);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified - 10_000L));
+        extract(file, resource);
+        assertEquals(Files.readAllBytes(file), CONTENT);
+        assertEquals(readManifest(file).getProperty("lastModified"), Long.toString(Files.getLastModifiedTime(file).toMillis()));
+    }
+
+    public void testMissingManifest() throws Exception {
+        Path dir  = Files.createTempDirectory("lwjgl");
+        Path file = dir.resolve("liblwjgltest.so");
+
+        Files.write(file, CONTENT);
+
+        // The existing file matches the bundled hash, a manifest is created without extracting
+        extract(file, createResource(dir, true));
+        assertEquals(readManifest(file).getProperty("sha1"), sha1());
+    }
+
+    public void testNoBundledHash() throws Exception {
+        Path dir  = Files.createTempDirectory("lwjgl");
+        Path file = dir.resolve("liblwjgltest.so");
+
+        URL resource = createResource(dir, false);
+
+        extract(file, resource);
+        assertEquals(Files.readAllBytes(file), CONTENT);
+        assertFalse(Files.exists(file.resolveSibling("liblwjgltest.so.manifest")));
+
+        Files.write(file, new byte[] {1, 2, 3});
+        extract(file, resource);
+        assertEquals(Files.readAllBytes(file), CONTENT);
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.*;
+import org.testng.annotations.*;
+
+import java.nio.*;
+
+import static org.lwjgl.system.APIUtil.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.testng.Assert.*;
+
+@Test
+public class SharedLibraryUtilTest {
+
+    /** Functions exported by the LWJGL shared library, mixed with functions that do not exist. */
+    private static final String[] FUNCTIONS = {
+        "JNI_OnLoad",
+        "lwjgl_missing_function_0",
+        "Java_org_lwjgl_system_SharedLibraryUtil_ngetLibraryFunctionAddresses",
+        "Java_org_lwjgl_system_SharedLibraryUtil_ngetProcAddresses",
+        "lwjgl_missing_function_1"
+    };
+
+    private static final boolean[] MISSING = {false, true, false, false, true};
+
+    private SharedLibrary library;
+
+    @BeforeClass
+    public void setUp() {
+        library = Library.loadNative(SharedLibraryUtilTest.class, Library.JNI_LIBRARY_NAME);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        library.free();
+    }
+
+    private static String packed() {
+        StringBuilder names = new StringBuilder();
+        for (String function : FUNCTIONS) {
+            names.append(function).append('\0');
+        }
+        return names.toString();
+    }
+
+    private void assertBulkLookup(FunctionProvider provider) {
+        ByteBuffer    names     = memASCII(packed(), false);
+        PointerBuffer addresses = memAllocPointer(FUNCTIONS.length);
+        try {
+            provider.getFunctionAddresses(names, addresses);
+
+            assertEquals(names.position(), 0);
+            assertEquals(addresses.position(), 0);
+            long[] array = new long[FUNCTIONS.length];
+            addresses.get(array);
+            assertAddresses(array);
+        } finally {
+            memFree(addresses);
+            memFree(names);
+        }
+    }
+
+    private void assertAddresses(long[] addresses) {
+        for (int i = 0; i < FUNCTIONS.length; i++) {
+            long address = library.getFunctionAddress(FUNCTIONS[i]);
+            assertEquals(address == NULL, MISSING[i], FUNCTIONS[i]);
+            assertEquals(addresses[i], address, FUNCTIONS[i]);
+        }
+    }
+
+    public void testLibrary() {
+        // Native bulk lookup
+        assertBulkLookup(library);
+    }
+
+    public void testDefault() {
+        // One getFunctionAddress call per function
+        assertBulkLookup((FunctionProvider)library::getFunctionAddress);
+    }
+
+    public void testApiGetFunctionAddresses() {
+        long[] addresses = apiGetFunctionAddresses(library, packed(), new boolean[] {true, true, true, true, true});
+        assertAddresses(addresses);
+
+        // Unresolved functions are NULL
+        long[] partial = apiGetFunctionAddresses(library, packed(), new boolean[] {false, true, true, false, true});
+        assertEquals(partial[0], NULL);
+        assertEquals(partial[1], NULL);
+        assertEquals(partial[2], addresses[2]);
+        assertEquals(partial[3], NULL);
+        assertEquals(partial[4], NULL);
+    }
+
+    public void testRequiredFunctionMissing() {
+        long[] addresses = apiGetFunctionAddresses(library, FUNCTIONS[0] + '\0' + FUNCTIONS[2] + '\0');
+        assertEquals(addresses[0], library.getFunctionAddress(FUNCTIONS[0]));
+        assertEquals(addresses[1], library.getFunctionAddress(FUNCTIONS[2]));
+
+        expectThrows(NullPointerException.class, () -> apiGetFunctionAddresses(library, packed()));
+    }
+
+}
@@ -83,6 +83,28 @@ public class StackTest {
         memFree(buffer);
     }
 
+    public void testPeakSize() {
+        if (!MemoryMetrics.isEnabled()) {
+            throw new SkipException("This test requires memory allocation metrics.");
+        }
+
+        MemoryStack stack = MemoryStack.create(64);
+        assertEquals(stack.getPeakSize(), 0);
+
+        try (MemoryStack outer = stack.push()) {
+            outer.malloc(8);
+            try (MemoryStack inner = outer.push()) {
+                inner.malloc(16);
+            }
+            assertEquals(stack.getPeakSize(), 24);
+        }
+
+        try (MemoryStack frame = stack.push()) {
+            frame.malloc(4);
+        }
+        assertEquals(stack.getPeakSize(), 24);
+    }
+
     public void testOOME() {
         if (!CHECKS) {
             throw new SkipException("This test may not run with checks disabled.");
@@ -96,6 +118,81 @@ public class StackTest {
         });
     }
 
+    private static MemoryStack createGrowable(int capacity) {
+        Configuration.STACK_GROWABLE.set(true);
+        try {
+            return MemoryStack.create(capacity);
+        } finally {
+            Configuration.STACK_GROWABLE.set(null);
+        }
+    }
+
+    public void testGrowable() {
+        MemoryStack stack = createGrowable(64);
+
+        try (MemoryStack outer = stack.push()) {
+            LongBuffer a = outer.mallocLong(4);
+            a.put(0, 1L);
+
+            try (MemoryStack inner = outer.push()) {
+                // Does not fit in the initial 64 bytes
+                LongBuffer b = inner.mallocLong(8);
+                b.put(7, 2L);
+                assertTrue(inner.getPointer() < 0);
+
+                // Larger than a segment
+                ByteBuffer c = inner.malloc(64, 1000);
+                assertEquals(memAddress(c) & 63L, 0L);
+                memSet(c, 0xFF);
+
+                assertEquals(b.get(7), 2L);
+            }
+
+            assertEquals(a.get(0), 1L);
+            assertEquals(outer.getPointer(), 64 - 32);
+            assertEquals(outer.getPointerAddress(), memAddress(a));
+        }
+
+        assertEquals(stack.getPointer(), 64);
+        if (MemoryMetrics.isEnabled()) {
+            assertTrue(64 + 1000 <= stack.getPeakSize());
+        }
+    }
+
+    public void testGrowableSetPointer() {
+        MemoryStack stack = createGrowable(64);
+
+        int pointer = stack.getPointer();
+
+        long a = stack.nmalloc(8, 48);
+        long b = stack.nmalloc(8, 48);
+        int  pointerB = stack.getPointer();
+        stack.nmalloc(8, 48);
+
+        stack.setPointer(pointer);
+        assertEquals(stack.getPointerAddress(), a + 48);
+
+        // The spare segment is reused
+        assertEquals(stack.nmalloc(8, 48), a);
+        assertEquals(stack.nmalloc(8, 48), b);
+
+        stack.setPointer(pointer);
+        stack.setPointer(pointerB);
+        assertEquals(stack.getPointerAddress(), b);
+
+        if (CHECKS) {
+            expectThrows(IndexOutOfBoundsException.class, () -> stack.setPointer(pointerB - 64));
+        }
+    }
+
+    public void testOOMEGrowable() {
+        if (!CHECKS) {
+            throw new SkipException("This test may not run with checks disabled.");
+        }
+
+        expectThrows(OutOfMemoryError.class, () -> createGrowable(8).nmalloc(8, Integer.MAX_VALUE));
+    }
+
     public void testSOE() {
         expectThrows(StackOverflowError.class, () -> {
             MemoryStack stack = MemoryStack.create();
@@ -8,6 +8,8 @@ import org.lwjgl.*;
 import org.lwjgl.system.jni.*;
 import org.testng.annotations.*;
 
+import java.util.*;
+
 import static org.lwjgl.system.MemoryStack.*;
 import static org.testng.Assert.*;
 
@@ -207,4 +209,36 @@ public class StructTest {
         }
     }
 
+    public void testCursor() {
+        try (MemoryStack stack = stackPush()) {
+            JNINativeMethod.Buffer buffer = JNINativeMethod.callocStack(8, stack);
+            buffer.position(2).limit(6);
+
+            StructCursor<JNINativeMethod> cursor = buffer.structCursor();
+            JNINativeMethod               struct = cursor.get();
+            assertEquals(struct.address(), buffer.address());
+
+            int count = 0;
+            while (cursor.hasNext()) {
+                JNINativeMethod s = cursor.next();
+                assertSame(s, struct);
+                assertEquals(cursor.index(), 2 + count);
+                s.fnPtr(cursor.index());
+                count++;
+            }
+            assertEquals(count, 4);
+            expectThrows(NoSuchElementException.class, cursor::next);
+
+            buffer.clear();
+            for (int i = 0; i < 8; i++) {
+                assertEquals(buffer.get(i).fnPtr(), 2 <= i && i < 6 ? i : 0);
+            }
+
+            assertEquals(cursor.moveTo(0).address(), buffer.address(0));
+            expectThrows(IndexOutOfBoundsException.class, () -> cursor.moveTo(6));
+
+            assertEquals(cursor.reset().next().fnPtr(), 2L);
+        }
+    }
+
 }
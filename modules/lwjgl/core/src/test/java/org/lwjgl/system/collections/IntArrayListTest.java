@@ -0,0 +1,72 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system.collections;
+
+import org.lwjgl.*;
+import org.testng.annotations.*;
+
+import java.nio.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.testng.Assert.*;
+
+@Test
+public class IntArrayListTest {
+
+    public void testGrowth() {
+        try (IntArrayList list = new IntArrayList(0)) {
+            for (int i = 0; i < 1000; i++) {
+                list.add(i * 3);
+            }
+            assertEquals(list.size(), 1000);
+            assertTrue(list.capacity() >= 1000);
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(list.get(i), i * 3);
+                assertEquals(memGetInt(list.address() + i * 4L), i * 3);
+            }
+
+            list.ensureCapacity(5000);
+            assertEquals(list.capacity(), 5000);
+            assertEquals(list.get(999), 999 * 3);
+        }
+    }
+
+    public void testRemove() {
+        try (IntArrayList list = new IntArrayList(2)) {
+            for (int i = 0; i < 5; i++) {
+                list.add(i);
+            }
+
+            assertEquals(list.remove(1), 1);
+            assertEquals(list.remove(3), 4);
+            assertEquals(list.removeLast(), 3);
+            assertEquals(list.toArray(), new int[] {0, 2});
+
+            expectThrows(IndexOutOfBoundsException.class, () -> list.remove(2));
+
+            list.clear();
+            assertTrue(list.isEmpty());
+            expectThrows(IllegalStateException.class, list::removeLast);
+        }
+    }
+
+    public void testViews() {
+        try (IntArrayList list = new IntArrayList(1)) {
+            IntBuffer values = BufferUtils.createIntBuffer(3).put(0, 7).put(1, 8).put(2, 9);
+            list.add(5);
+            list.addAll(values);
+            list.set(0, 6);
+            assertEquals(values.remaining(), 3);
+
+            IntBuffer buffer = list.buffer();
+            assertEquals(memAddress(buffer), list.address());
+            assertEquals(buffer.remaining(), 4);
+            assertEquals(buffer.get(0), 6);
+            assertEquals(buffer.get(3), 9);
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system.collections;
+
+import org.lwjgl.*;
+import org.testng.annotations.*;
+
+import java.nio.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.system.Pointer.*;
+import static org.testng.Assert.*;
+
+@Test
+public class LongArrayListTest {
+
+    public void testGrowth() {
+        try (LongArrayList list = new LongArrayList(0)) {
+            for (int i = 0; i < 1000; i++) {
+                list.add(i);
+            }
+            assertEquals(list.size(), 1000);
+            assertTrue(list.capacity() >= 1000);
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(list.get(i), i);
+                assertEquals(memGetLong(list.address() + i * 8L), i);
+            }
+        }
+    }
+
+    public void testRemove() {
+        try (LongArrayList list = new LongArrayList()) {
+            for (int i = 0; i < 5; i++) {
+                list.add(i);
+            }
+
+            assertEquals(list.remove(1), 1L);
+            assertEquals(list.removeLast(), 4L);
+            assertEquals(list.toArray(), new long[] {0L, 2L, 3L});
+
+            list.clear();
+            assertTrue(list.isEmpty());
+            expectThrows(IllegalStateException.class, list::removeLast);
+        }
+    }
+
+    public void testViews() {
+        try (LongArrayList list = new LongArrayList()) {
+            LongBuffer values = BufferUtils.createLongBuffer(3).put(0, 7L).put(1, 8L).put(2, 9L);
+            list.addAll(values);
+            list.set(0, 6L);
+
+            LongBuffer buffer = list.buffer();
+            assertEquals(memAddress(buffer), list.address());
+            assertEquals(buffer.remaining(), 3);
+            assertEquals(buffer.get(0), 6L);
+
+            if (POINTER_SIZE == 8) {
+                PointerBuffer pointers = list.pointerBuffer();
+                assertEquals(pointers.address(), list.address());
+                assertEquals(pointers.get(2), 9L);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system.collections;
+
+import org.testng.annotations.*;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+@Test
+public class LongIntMapTest {
+
+    public void testPutGet() {
+        try (LongIntMap map = new LongIntMap()) {
+            assertTrue(map.isEmpty());
+            assertEquals(map.get(1L, -1), -1);
+
+            assertTrue(map.put(1L, 10));
+            assertFalse(map.put(1L, 11));
+            assertTrue(map.put(0L, 20));
+            assertTrue(map.put(-1L, 30));
+
+            assertEquals(map.size(), 3);
+            assertEquals(map.get(1L, -1), 11);
+            assertEquals(map.get(0L, -1), 20);
+            assertEquals(map.get(-1L, -1), 30);
+            assertFalse(map.containsKey(2L));
+
+            assertTrue(map.remove(0L));
+            assertFalse(map.remove(0L));
+            assertFalse(map.containsKey(0L));
+            assertEquals(map.size(), 2);
+        }
+    }
+
+    public void testGrowth() {
+        try (LongIntMap map = new LongIntMap(0)) {
+            for (int i = 0; i < 1000; i++) {
+                assertTrue(map.put(i * 31L, i));
+            }
+            assertEquals(map.size(), 1000);
+            assertTrue(map.capacity() >= 2000);
+
+            for (int i = 0; i < 1000; i += 2) {
+                assertTrue(map.remove(i * 31L));
+            }
+            assertFalse(map.remove(0L));
+
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(map.get(i * 31L, -1), (i & 1) == 0 ? -1 : i);
+            }
+        }
+    }
+
+    public void testRandomized() {
+        Random             random    = new Random(1234);
+        Map<Long, Integer> reference = new HashMap<>();
+        try (LongIntMap map = new LongIntMap(0)) {
+            for (int i = 0; i < 200_000; i++) {
+                // A small key range exercises collisions, removals and backward shifts
+                long key = random.nextInt(4096) * 0x1_0000_0000L;
+                switch (random.nextInt(3)) {
+                    case 0:
+                    case 1:
+                        assertEquals(map.put(key, i), reference.put(key, i) == null);
+                        break;
+                    default:
+                        assertEquals(map.remove(key), reference.remove(key) != null);
+                }
+            }
+
+            assertEquals(map.size(), reference.size());
+            for (Map.Entry<Long, Integer> entry : reference.entrySet()) {
+                assertEquals(map.get(entry.getKey(), -1), (int)entry.getValue());
+            }
+
+            Map<Long, Integer> visited = new HashMap<>();
+            map.forEach(visited::put);
+            assertEquals(visited, reference);
+
+            map.clear();
+            assertTrue(map.isEmpty());
+            assertFalse(map.containsKey(0L));
+        }
+    }
+
+}
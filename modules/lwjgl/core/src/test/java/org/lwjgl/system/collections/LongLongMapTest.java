@@ -0,0 +1,89 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system.collections;
+
+import org.testng.annotations.*;
+
+import java.util.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.testng.Assert.*;
+
+@Test
+public class LongLongMapTest {
+
+    public void testPutGet() {
+        try (LongLongMap map = new LongLongMap()) {
+            assertTrue(map.isEmpty());
+            assertEquals(map.get(1L, -1L), -1L);
+
+            assertTrue(map.put(1L, 10L));
+            assertFalse(map.put(1L, 11L));
+            assertTrue(map.put(0L, 20L));
+            assertTrue(map.put(-1L, 30L));
+
+            assertEquals(map.size(), 3);
+            assertEquals(map.get(1L, -1L), 11L);
+            assertEquals(map.get(0L, -1L), 20L);
+            assertEquals(map.get(-1L, -1L), 30L);
+            assertFalse(map.containsKey(2L));
+        }
+    }
+
+    public void testRawTable() {
+        try (LongLongMap map = new LongLongMap(4)) {
+            assertEquals(map.capacity(), 8);
+
+            map.put(0L, 1L);
+            map.put(42L, 43L);
+
+            int found = 0;
+            for (int i = 0; i < map.capacity(); i++) {
+                long entry = map.address() + i * 16L;
+                long key   = memGetLong(entry);
+                if (key == 42L) {
+                    assertEquals(memGetLong(entry + 8), 43L);
+                    found++;
+                } else {
+                    assertEquals(key, 0L);
+                }
+            }
+            assertEquals(found, 1);
+        }
+    }
+
+    public void testRandomized() {
+        Random          random    = new Random(1234);
+        Map<Long, Long> reference = new HashMap<>();
+        try (LongLongMap map = new LongLongMap(0)) {
+            for (int i = 0; i < 200_000; i++) {
+                // A small key range exercises collisions, removals and backward shifts
+                long key = random.nextInt(4096) * 0x1_0000_0000L;
+                switch (random.nextInt(3)) {
+                    case 0:
+                    case 1:
+                        assertEquals(map.put(key, i), reference.put(key, (long)i) == null);
+                        break;
+                    default:
+                        assertEquals(map.remove(key), reference.remove(key) != null);
+                }
+            }
+
+            assertEquals(map.size(), reference.size());
+            for (Map.Entry<Long, Long> entry : reference.entrySet()) {
+                assertEquals(map.get(entry.getKey(), -1L), (long)entry.getValue());
+            }
+
+            Map<Long, Long> visited = new HashMap<>();
+            map.forEach(visited::put);
+            assertEquals(visited, reference);
+
+            map.clear();
+            assertTrue(map.isEmpty());
+            assertFalse(map.containsKey(0L));
+        }
+    }
+
+}
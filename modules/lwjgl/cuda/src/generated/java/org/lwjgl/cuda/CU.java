@@ -1175,49 +1175,65 @@ public class CU {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "cuGetErrorString\0cuGetErrorName\0cuInit\0cuDriverGetVersion\0cuDeviceGet\0cuDeviceGetCount\0cuDeviceGetName\0cuDeviceGetAttribute\0cuDeviceGetProperties\0" +
+            "cuDeviceComputeCapability\0cuCtxGetDevice\0cuCtxSynchronize\0cuCtxSetLimit\0cuCtxGetLimit\0cuCtxGetCacheConfig\0cuCtxSetCacheConfig\0cuCtxGetApiVersion\0" +
+            "cuCtxGetStreamPriorityRange\0cuCtxAttach\0cuCtxDetach\0cuModuleLoad\0cuModuleLoadData\0cuModuleLoadDataEx\0cuModuleLoadFatBinary\0cuModuleUnload\0" +
+            "cuModuleGetFunction\0cuModuleGetTexRef\0cuModuleGetSurfRef\0cuMemFreeHost\0cuMemHostAlloc\0cuMemHostGetFlags\0cuArrayDestroy\0cuStreamCreate\0" +
+            "cuStreamCreateWithPriority\0cuEventCreate\0cuEventQuery\0cuEventSynchronize\0cuEventElapsedTime\0cuFuncGetAttribute\0cuFuncSetCacheConfig\0cuFuncSetBlockShape\0" +
+            "cuFuncSetSharedSize\0cuParamSetSize\0cuParamSeti\0cuParamSetf\0cuParamSetv\0cuLaunch\0cuLaunchGrid\0cuLaunchGridAsync\0cuParamSetTexRef\0cuTexRefSetArray\0" +
+            "cuTexRefSetMipmappedArray\0cuTexRefSetFormat\0cuTexRefSetAddressMode\0cuTexRefSetFilterMode\0cuTexRefSetMipmapFilterMode\0cuTexRefSetMipmapLevelBias\0" +
+            "cuTexRefSetMipmapLevelClamp\0cuTexRefSetMaxAnisotropy\0cuTexRefSetBorderColor\0cuTexRefSetFlags\0cuTexRefGetArray\0cuTexRefGetMipmappedArray\0" +
+            "cuTexRefGetAddressMode\0cuTexRefGetFilterMode\0cuTexRefGetFormat\0cuTexRefGetMipmapFilterMode\0cuTexRefGetMipmapLevelBias\0cuTexRefGetMipmapLevelClamp\0" +
+            "cuTexRefGetMaxAnisotropy\0cuTexRefGetBorderColor\0cuTexRefGetFlags\0cuTexRefCreate\0cuTexRefDestroy\0cuSurfRefSetArray\0cuSurfRefGetArray\0" +
+            "cuGraphicsUnregisterResource\0cuGraphicsSubResourceGetMappedArray\0cuGetExportTable\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(NVCUDA, FUNCTIONS);
+
         /** Function address. */
         public static final long
-            GetErrorString                    = apiGetFunctionAddress(NVCUDA, "cuGetErrorString"),
-            GetErrorName                      = apiGetFunctionAddress(NVCUDA, "cuGetErrorName"),
-            Init                              = apiGetFunctionAddress(NVCUDA, "cuInit"),
-            DriverGetVersion                  = apiGetFunctionAddress(NVCUDA, "cuDriverGetVersion"),
-            DeviceGet                         = apiGetFunctionAddress(NVCUDA, "cuDeviceGet"),
-            DeviceGetCount                    = apiGetFunctionAddress(NVCUDA, "cuDeviceGetCount"),
-            DeviceGetName                     = apiGetFunctionAddress(NVCUDA, "cuDeviceGetName"),
+            GetErrorString                    = ADDRESSES[0],
+            GetErrorName                      = ADDRESSES[1],
+            Init                              = ADDRESSES[2],
+            DriverGetVersion                  = ADDRESSES[3],
+            DeviceGet                         = ADDRESSES[4],
+            DeviceGetCount                    = ADDRESSES[5],
+            DeviceGetName                     = ADDRESSES[6],
             DeviceTotalMem                    = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuDeviceTotalMem", 2)),
-            DeviceGetAttribute                = apiGetFunctionAddress(NVCUDA, "cuDeviceGetAttribute"),
-            DeviceGetProperties               = apiGetFunctionAddress(NVCUDA, "cuDeviceGetProperties"),
-            DeviceComputeCapability           = apiGetFunctionAddress(NVCUDA, "cuDeviceComputeCapability"),
+            DeviceGetAttribute                = ADDRESSES[7],
+            DeviceGetProperties               = ADDRESSES[8],
+            DeviceComputeCapability           = ADDRESSES[9],
             CtxCreate                         = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuCtxCreate", 2)),
-            CtxGetDevice                      = apiGetFunctionAddress(NVCUDA, "cuCtxGetDevice"),
-            CtxSynchronize                    = apiGetFunctionAddress(NVCUDA, "cuCtxSynchronize"),
-            CtxSetLimit                       = apiGetFunctionAddress(NVCUDA, "cuCtxSetLimit"),
-            CtxGetLimit                       = apiGetFunctionAddress(NVCUDA, "cuCtxGetLimit"),
-            CtxGetCacheConfig                 = apiGetFunctionAddress(NVCUDA, "cuCtxGetCacheConfig"),
-            CtxSetCacheConfig                 = apiGetFunctionAddress(NVCUDA, "cuCtxSetCacheConfig"),
-            CtxGetApiVersion                  = apiGetFunctionAddress(NVCUDA, "cuCtxGetApiVersion"),
-            CtxGetStreamPriorityRange         = apiGetFunctionAddress(NVCUDA, "cuCtxGetStreamPriorityRange"),
-            CtxAttach                         = apiGetFunctionAddress(NVCUDA, "cuCtxAttach"),
-            CtxDetach                         = apiGetFunctionAddress(NVCUDA, "cuCtxDetach"),
-            ModuleLoad                        = apiGetFunctionAddress(NVCUDA, "cuModuleLoad"),
-            ModuleLoadData                    = apiGetFunctionAddress(NVCUDA, "cuModuleLoadData"),
-            ModuleLoadDataEx                  = apiGetFunctionAddress(NVCUDA, "cuModuleLoadDataEx"),
-            ModuleLoadFatBinary               = apiGetFunctionAddress(NVCUDA, "cuModuleLoadFatBinary"),
-            ModuleUnload                      = apiGetFunctionAddress(NVCUDA, "cuModuleUnload"),
-            ModuleGetFunction                 = apiGetFunctionAddress(NVCUDA, "cuModuleGetFunction"),
+            CtxGetDevice                      = ADDRESSES[10],
+            CtxSynchronize                    = ADDRESSES[11],
+            CtxSetLimit                       = ADDRESSES[12],
+            CtxGetLimit                       = ADDRESSES[13],
+            CtxGetCacheConfig                 = ADDRESSES[14],
+            CtxSetCacheConfig                 = ADDRESSES[15],
+            CtxGetApiVersion                  = ADDRESSES[16],
+            CtxGetStreamPriorityRange         = ADDRESSES[17],
+            CtxAttach                         = ADDRESSES[18],
+            CtxDetach                         = ADDRESSES[19],
+            ModuleLoad                        = ADDRESSES[20],
+            ModuleLoadData                    = ADDRESSES[21],
+            ModuleLoadDataEx                  = ADDRESSES[22],
+            ModuleLoadFatBinary               = ADDRESSES[23],
+            ModuleUnload                      = ADDRESSES[24],
+            ModuleGetFunction                 = ADDRESSES[25],
             ModuleGetGlobal                   = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuModuleGetGlobal", 2)),
-            ModuleGetTexRef                   = apiGetFunctionAddress(NVCUDA, "cuModuleGetTexRef"),
-            ModuleGetSurfRef                  = apiGetFunctionAddress(NVCUDA, "cuModuleGetSurfRef"),
+            ModuleGetTexRef                   = ADDRESSES[26],
+            ModuleGetSurfRef                  = ADDRESSES[27],
             MemGetInfo                        = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuMemGetInfo", 2)),
             MemAlloc                          = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuMemAlloc", 2)),
             MemAllocPitch                     = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuMemAllocPitch", 2)),
             MemFree                           = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuMemFree", 2)),
             MemGetAddressRange                = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuMemGetAddressRange", 2)),
             MemAllocHost                      = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuMemAllocHost", 2)),
-            MemFreeHost                       = apiGetFunctionAddress(NVCUDA, "cuMemFreeHost"),
-            MemHostAlloc                      = apiGetFunctionAddress(NVCUDA, "cuMemHostAlloc"),
+            MemFreeHost                       = ADDRESSES[28],
+            MemHostAlloc                      = ADDRESSES[29],
             MemHostGetDevicePointer           = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuMemHostGetDevicePointer", 2)),
-            MemHostGetFlags                   = apiGetFunctionAddress(NVCUDA, "cuMemHostGetFlags"),
+            MemHostGetFlags                   = ADDRESSES[30],
             MemcpyHtoD                        = apiGetFunctionAddress(NVCUDA, __CUDA_API_PTDS(__CUDA_API_VERSION("cuMemcpyHtoD", 2))),
             MemcpyDtoH                        = apiGetFunctionAddress(NVCUDA, __CUDA_API_PTDS(__CUDA_API_VERSION("cuMemcpyDtoH", 2))),
             MemcpyDtoD                        = apiGetFunctionAddress(NVCUDA, __CUDA_API_PTDS(__CUDA_API_VERSION("cuMemcpyDtoD", 2))),
@@ -1250,70 +1266,70 @@ public class CU {
             MemsetD2D32Async                  = apiGetFunctionAddress(NVCUDA, __CUDA_API_PTSZ("cuMemsetD2D32Async")),
             ArrayCreate                       = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuArrayCreate", 2)),
             ArrayGetDescriptor                = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuArrayGetDescriptor", 2)),
-            ArrayDestroy                      = apiGetFunctionAddress(NVCUDA, "cuArrayDestroy"),
+            ArrayDestroy                      = ADDRESSES[31],
             Array3DCreate                     = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuArray3DCreate", 2)),
             Array3DGetDescriptor              = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuArray3DGetDescriptor", 2)),
-            StreamCreate                      = apiGetFunctionAddress(NVCUDA, "cuStreamCreate"),
-            StreamCreateWithPriority          = apiGetFunctionAddress(NVCUDA, "cuStreamCreateWithPriority"),
+            StreamCreate                      = ADDRESSES[32],
+            StreamCreateWithPriority          = ADDRESSES[33],
             StreamGetPriority                 = apiGetFunctionAddress(NVCUDA, __CUDA_API_PTSZ("cuStreamGetPriority")),
             StreamGetFlags                    = apiGetFunctionAddress(NVCUDA, __CUDA_API_PTSZ("cuStreamGetFlags")),
             StreamWaitEvent                   = apiGetFunctionAddress(NVCUDA, __CUDA_API_PTSZ("cuStreamWaitEvent")),
             StreamAddCallback                 = apiGetFunctionAddress(NVCUDA, __CUDA_API_PTSZ("cuStreamAddCallback")),
             StreamQuery                       = apiGetFunctionAddress(NVCUDA, __CUDA_API_PTSZ("cuStreamQuery")),
             StreamSynchronize                 = apiGetFunctionAddress(NVCUDA, __CUDA_API_PTSZ("cuStreamSynchronize")),
-            EventCreate                       = apiGetFunctionAddress(NVCUDA, "cuEventCreate"),
+            EventCreate                       = ADDRESSES[34],
             EventRecord                       = apiGetFunctionAddress(NVCUDA, __CUDA_API_PTSZ("cuEventRecord")),
-            EventQuery                        = apiGetFunctionAddress(NVCUDA, "cuEventQuery"),
-            EventSynchronize                  = apiGetFunctionAddress(NVCUDA, "cuEventSynchronize"),
-            EventElapsedTime                  = apiGetFunctionAddress(NVCUDA, "cuEventElapsedTime"),
-            FuncGetAttribute                  = apiGetFunctionAddress(NVCUDA, "cuFuncGetAttribute"),
-            FuncSetCacheConfig                = apiGetFunctionAddress(NVCUDA, "cuFuncSetCacheConfig"),
-            FuncSetBlockShape                 = apiGetFunctionAddress(NVCUDA, "cuFuncSetBlockShape"),
-            FuncSetSharedSize                 = apiGetFunctionAddress(NVCUDA, "cuFuncSetSharedSize"),
-            ParamSetSize                      = apiGetFunctionAddress(NVCUDA, "cuParamSetSize"),
-            ParamSeti                         = apiGetFunctionAddress(NVCUDA, "cuParamSeti"),
-            ParamSetf                         = apiGetFunctionAddress(NVCUDA, "cuParamSetf"),
-            ParamSetv                         = apiGetFunctionAddress(NVCUDA, "cuParamSetv"),
-            Launch                            = apiGetFunctionAddress(NVCUDA, "cuLaunch"),
-            LaunchGrid                        = apiGetFunctionAddress(NVCUDA, "cuLaunchGrid"),
-            LaunchGridAsync                   = apiGetFunctionAddress(NVCUDA, "cuLaunchGridAsync"),
-            ParamSetTexRef                    = apiGetFunctionAddress(NVCUDA, "cuParamSetTexRef"),
-            TexRefSetArray                    = apiGetFunctionAddress(NVCUDA, "cuTexRefSetArray"),
-            TexRefSetMipmappedArray           = apiGetFunctionAddress(NVCUDA, "cuTexRefSetMipmappedArray"),
+            EventQuery                        = ADDRESSES[35],
+            EventSynchronize                  = ADDRESSES[36],
+            EventElapsedTime                  = ADDRESSES[37],
+            FuncGetAttribute                  = ADDRESSES[38],
+            FuncSetCacheConfig                = ADDRESSES[39],
+            FuncSetBlockShape                 = ADDRESSES[40],
+            FuncSetSharedSize                 = ADDRESSES[41],
+            ParamSetSize                      = ADDRESSES[42],
+            ParamSeti                         = ADDRESSES[43],
+            ParamSetf                         = ADDRESSES[44],
+            ParamSetv                         = ADDRESSES[45],
+            Launch                            = ADDRESSES[46],
+            LaunchGrid                        = ADDRESSES[47],
+            LaunchGridAsync                   = ADDRESSES[48],
+            ParamSetTexRef                    = ADDRESSES[49],
+            TexRefSetArray                    = ADDRESSES[50],
+            TexRefSetMipmappedArray           = ADDRESSES[51],
             TexRefSetAddress                  = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuTexRefSetAddress", 2)),
             TexRefSetAddress2D                = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuTexRefSetAddress2D", 3)),
-            TexRefSetFormat                   = apiGetFunctionAddress(NVCUDA, "cuTexRefSetFormat"),
-            TexRefSetAddressMode              = apiGetFunctionAddress(NVCUDA, "cuTexRefSetAddressMode"),
-            TexRefSetFilterMode               = apiGetFunctionAddress(NVCUDA, "cuTexRefSetFilterMode"),
-            TexRefSetMipmapFilterMode         = apiGetFunctionAddress(NVCUDA, "cuTexRefSetMipmapFilterMode"),
-            TexRefSetMipmapLevelBias          = apiGetFunctionAddress(NVCUDA, "cuTexRefSetMipmapLevelBias"),
-            TexRefSetMipmapLevelClamp         = apiGetFunctionAddress(NVCUDA, "cuTexRefSetMipmapLevelClamp"),
-            TexRefSetMaxAnisotropy            = apiGetFunctionAddress(NVCUDA, "cuTexRefSetMaxAnisotropy"),
-            TexRefSetBorderColor              = apiGetFunctionAddress(NVCUDA, "cuTexRefSetBorderColor"),
-            TexRefSetFlags                    = apiGetFunctionAddress(NVCUDA, "cuTexRefSetFlags"),
+            TexRefSetFormat                   = ADDRESSES[52],
+            TexRefSetAddressMode              = ADDRESSES[53],
+            TexRefSetFilterMode               = ADDRESSES[54],
+            TexRefSetMipmapFilterMode         = ADDRESSES[55],
+            TexRefSetMipmapLevelBias          = ADDRESSES[56],
+            TexRefSetMipmapLevelClamp         = ADDRESSES[57],
+            TexRefSetMaxAnisotropy            = ADDRESSES[58],
+            TexRefSetBorderColor              = ADDRESSES[59],
+            TexRefSetFlags                    = ADDRESSES[60],
             TexRefGetAddress                  = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuTexRefGetAddress", 2)),
-            TexRefGetArray                    = apiGetFunctionAddress(NVCUDA, "cuTexRefGetArray"),
-            TexRefGetMipmappedArray           = apiGetFunctionAddress(NVCUDA, "cuTexRefGetMipmappedArray"),
-            TexRefGetAddressMode              = apiGetFunctionAddress(NVCUDA, "cuTexRefGetAddressMode"),
-            TexRefGetFilterMode               = apiGetFunctionAddress(NVCUDA, "cuTexRefGetFilterMode"),
-            TexRefGetFormat                   = apiGetFunctionAddress(NVCUDA, "cuTexRefGetFormat"),
-            TexRefGetMipmapFilterMode         = apiGetFunctionAddress(NVCUDA, "cuTexRefGetMipmapFilterMode"),
-            TexRefGetMipmapLevelBias          = apiGetFunctionAddress(NVCUDA, "cuTexRefGetMipmapLevelBias"),
-            TexRefGetMipmapLevelClamp         = apiGetFunctionAddress(NVCUDA, "cuTexRefGetMipmapLevelClamp"),
-            TexRefGetMaxAnisotropy            = apiGetFunctionAddress(NVCUDA, "cuTexRefGetMaxAnisotropy"),
-            TexRefGetBorderColor              = apiGetFunctionAddress(NVCUDA, "cuTexRefGetBorderColor"),
-            TexRefGetFlags                    = apiGetFunctionAddress(NVCUDA, "cuTexRefGetFlags"),
-            TexRefCreate                      = apiGetFunctionAddress(NVCUDA, "cuTexRefCreate"),
-            TexRefDestroy                     = apiGetFunctionAddress(NVCUDA, "cuTexRefDestroy"),
-            SurfRefSetArray                   = apiGetFunctionAddress(NVCUDA, "cuSurfRefSetArray"),
-            SurfRefGetArray                   = apiGetFunctionAddress(NVCUDA, "cuSurfRefGetArray"),
-            GraphicsUnregisterResource        = apiGetFunctionAddress(NVCUDA, "cuGraphicsUnregisterResource"),
-            GraphicsSubResourceGetMappedArray = apiGetFunctionAddress(NVCUDA, "cuGraphicsSubResourceGetMappedArray"),
+            TexRefGetArray                    = ADDRESSES[61],
+            TexRefGetMipmappedArray           = ADDRESSES[62],
+            TexRefGetAddressMode              = ADDRESSES[63],
+            TexRefGetFilterMode               = ADDRESSES[64],
+            TexRefGetFormat                   = ADDRESSES[65],
+            TexRefGetMipmapFilterMode         = ADDRESSES[66],
+            TexRefGetMipmapLevelBias          = ADDRESSES[67],
+            TexRefGetMipmapLevelClamp         = ADDRESSES[68],
+            TexRefGetMaxAnisotropy            = ADDRESSES[69],
+            TexRefGetBorderColor              = ADDRESSES[70],
+            TexRefGetFlags                    = ADDRESSES[71],
+            TexRefCreate                      = ADDRESSES[72],
+            TexRefDestroy                     = ADDRESSES[73],
+            SurfRefSetArray                   = ADDRESSES[74],
+            SurfRefGetArray                   = ADDRESSES[75],
+            GraphicsUnregisterResource        = ADDRESSES[76],
+            GraphicsSubResourceGetMappedArray = ADDRESSES[77],
             GraphicsResourceGetMappedPointer  = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuGraphicsResourceGetMappedPointer", 2)),
             GraphicsResourceSetMapFlags       = apiGetFunctionAddress(NVCUDA, __CUDA_API_VERSION("cuGraphicsResourceSetMapFlags", 2)),
             GraphicsMapResources              = apiGetFunctionAddress(NVCUDA, __CUDA_API_PTSZ("cuGraphicsMapResources")),
             GraphicsUnmapResources            = apiGetFunctionAddress(NVCUDA, __CUDA_API_PTSZ("cuGraphicsUnmapResources")),
-            GetExportTable                    = apiGetFunctionAddress(NVCUDA, "cuGetExportTable");
+            GetExportTable                    = ADDRESSES[78];
 
     }
 
@@ -111,52 +111,63 @@ public class CU100 extends CU92 {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "cuImportExternalMemory\0cuExternalMemoryGetMappedBuffer\0cuExternalMemoryGetMappedMipmappedArray\0cuDestroyExternalMemory\0cuImportExternalSemaphore\0" +
+            "cuDestroyExternalSemaphore\0cuGraphCreate\0cuGraphAddKernelNode\0cuGraphKernelNodeGetParams\0cuGraphKernelNodeSetParams\0cuGraphAddMemcpyNode\0" +
+            "cuGraphMemcpyNodeGetParams\0cuGraphMemcpyNodeSetParams\0cuGraphAddMemsetNode\0cuGraphMemsetNodeGetParams\0cuGraphMemsetNodeSetParams\0cuGraphAddHostNode\0" +
+            "cuGraphHostNodeGetParams\0cuGraphHostNodeSetParams\0cuGraphAddChildGraphNode\0cuGraphChildGraphNodeGetGraph\0cuGraphAddEmptyNode\0cuGraphClone\0" +
+            "cuGraphNodeFindInClone\0cuGraphNodeGetType\0cuGraphGetNodes\0cuGraphGetRootNodes\0cuGraphGetEdges\0cuGraphNodeGetDependencies\0cuGraphNodeGetDependentNodes\0" +
+            "cuGraphAddDependencies\0cuGraphRemoveDependencies\0cuGraphDestroyNode\0cuGraphInstantiate\0cuGraphExecDestroy\0cuGraphDestroy\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(CU.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
             DeviceGetLuid                         = CU.getLibrary().getFunctionAddress("cuDeviceGetLuid"),
             StreamBeginCapture                    = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuStreamBeginCapture")),
             StreamEndCapture                      = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuStreamEndCapture")),
             StreamIsCapturing                     = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuStreamIsCapturing")),
-            ImportExternalMemory                  = apiGetFunctionAddress(CU.getLibrary(), "cuImportExternalMemory"),
-            ExternalMemoryGetMappedBuffer         = apiGetFunctionAddress(CU.getLibrary(), "cuExternalMemoryGetMappedBuffer"),
-            ExternalMemoryGetMappedMipmappedArray = apiGetFunctionAddress(CU.getLibrary(), "cuExternalMemoryGetMappedMipmappedArray"),
-            DestroyExternalMemory                 = apiGetFunctionAddress(CU.getLibrary(), "cuDestroyExternalMemory"),
-            ImportExternalSemaphore               = apiGetFunctionAddress(CU.getLibrary(), "cuImportExternalSemaphore"),
+            ImportExternalMemory                  = ADDRESSES[0],
+            ExternalMemoryGetMappedBuffer         = ADDRESSES[1],
+            ExternalMemoryGetMappedMipmappedArray = ADDRESSES[2],
+            DestroyExternalMemory                 = ADDRESSES[3],
+            ImportExternalSemaphore               = ADDRESSES[4],
             SignalExternalSemaphoresAsync         = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuSignalExternalSemaphoresAsync")),
             WaitExternalSemaphoresAsync           = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuWaitExternalSemaphoresAsync")),
-            DestroyExternalSemaphore              = apiGetFunctionAddress(CU.getLibrary(), "cuDestroyExternalSemaphore"),
+            DestroyExternalSemaphore              = ADDRESSES[5],
             LaunchHostFunc                        = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuLaunchHostFunc")),
-            GraphCreate                           = apiGetFunctionAddress(CU.getLibrary(), "cuGraphCreate"),
-            GraphAddKernelNode                    = apiGetFunctionAddress(CU.getLibrary(), "cuGraphAddKernelNode"),
-            GraphKernelNodeGetParams              = apiGetFunctionAddress(CU.getLibrary(), "cuGraphKernelNodeGetParams"),
-            GraphKernelNodeSetParams              = apiGetFunctionAddress(CU.getLibrary(), "cuGraphKernelNodeSetParams"),
-            GraphAddMemcpyNode                    = apiGetFunctionAddress(CU.getLibrary(), "cuGraphAddMemcpyNode"),
-            GraphMemcpyNodeGetParams              = apiGetFunctionAddress(CU.getLibrary(), "cuGraphMemcpyNodeGetParams"),
-            GraphMemcpyNodeSetParams              = apiGetFunctionAddress(CU.getLibrary(), "cuGraphMemcpyNodeSetParams"),
-            GraphAddMemsetNode                    = apiGetFunctionAddress(CU.getLibrary(), "cuGraphAddMemsetNode"),
-            GraphMemsetNodeGetParams              = apiGetFunctionAddress(CU.getLibrary(), "cuGraphMemsetNodeGetParams"),
-            GraphMemsetNodeSetParams              = apiGetFunctionAddress(CU.getLibrary(), "cuGraphMemsetNodeSetParams"),
-            GraphAddHostNode                      = apiGetFunctionAddress(CU.getLibrary(), "cuGraphAddHostNode"),
-            GraphHostNodeGetParams                = apiGetFunctionAddress(CU.getLibrary(), "cuGraphHostNodeGetParams"),
-            GraphHostNodeSetParams                = apiGetFunctionAddress(CU.getLibrary(), "cuGraphHostNodeSetParams"),
-            GraphAddChildGraphNode                = apiGetFunctionAddress(CU.getLibrary(), "cuGraphAddChildGraphNode"),
-            GraphChildGraphNodeGetGraph           = apiGetFunctionAddress(CU.getLibrary(), "cuGraphChildGraphNodeGetGraph"),
-            GraphAddEmptyNode                     = apiGetFunctionAddress(CU.getLibrary(), "cuGraphAddEmptyNode"),
-            GraphClone                            = apiGetFunctionAddress(CU.getLibrary(), "cuGraphClone"),
-            GraphNodeFindInClone                  = apiGetFunctionAddress(CU.getLibrary(), "cuGraphNodeFindInClone"),
-            GraphNodeGetType                      = apiGetFunctionAddress(CU.getLibrary(), "cuGraphNodeGetType"),
-            GraphGetNodes                         = apiGetFunctionAddress(CU.getLibrary(), "cuGraphGetNodes"),
-            GraphGetRootNodes                     = apiGetFunctionAddress(CU.getLibrary(), "cuGraphGetRootNodes"),
-            GraphGetEdges                         = apiGetFunctionAddress(CU.getLibrary(), "cuGraphGetEdges"),
-            GraphNodeGetDependencies              = apiGetFunctionAddress(CU.getLibrary(), "cuGraphNodeGetDependencies"),
-            GraphNodeGetDependentNodes            = apiGetFunctionAddress(CU.getLibrary(), "cuGraphNodeGetDependentNodes"),
-            GraphAddDependencies                  = apiGetFunctionAddress(CU.getLibrary(), "cuGraphAddDependencies"),
-            GraphRemoveDependencies               = apiGetFunctionAddress(CU.getLibrary(), "cuGraphRemoveDependencies"),
-            GraphDestroyNode                      = apiGetFunctionAddress(CU.getLibrary(), "cuGraphDestroyNode"),
-            GraphInstantiate                      = apiGetFunctionAddress(CU.getLibrary(), "cuGraphInstantiate"),
+            GraphCreate                           = ADDRESSES[6],
+            GraphAddKernelNode                    = ADDRESSES[7],
+            GraphKernelNodeGetParams              = ADDRESSES[8],
+            GraphKernelNodeSetParams              = ADDRESSES[9],
+            GraphAddMemcpyNode                    = ADDRESSES[10],
+            GraphMemcpyNodeGetParams              = ADDRESSES[11],
+            GraphMemcpyNodeSetParams              = ADDRESSES[12],
+            GraphAddMemsetNode                    = ADDRESSES[13],
+            GraphMemsetNodeGetParams              = ADDRESSES[14],
+            GraphMemsetNodeSetParams              = ADDRESSES[15],
+            GraphAddHostNode                      = ADDRESSES[16],
+            GraphHostNodeGetParams                = ADDRESSES[17],
+            GraphHostNodeSetParams                = ADDRESSES[18],
+            GraphAddChildGraphNode                = ADDRESSES[19],
+            GraphChildGraphNodeGetGraph           = ADDRESSES[20],
+            GraphAddEmptyNode                     = ADDRESSES[21],
+            GraphClone                            = ADDRESSES[22],
+            GraphNodeFindInClone                  = ADDRESSES[23],
+            GraphNodeGetType                      = ADDRESSES[24],
+            GraphGetNodes                         = ADDRESSES[25],
+            GraphGetRootNodes                     = ADDRESSES[26],
+            GraphGetEdges                         = ADDRESSES[27],
+            GraphNodeGetDependencies              = ADDRESSES[28],
+            GraphNodeGetDependentNodes            = ADDRESSES[29],
+            GraphAddDependencies                  = ADDRESSES[30],
+            GraphRemoveDependencies               = ADDRESSES[31],
+            GraphDestroyNode                      = ADDRESSES[32],
+            GraphInstantiate                      = ADDRESSES[33],
             GraphLaunch                           = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuGraphLaunch")),
-            GraphExecDestroy                      = apiGetFunctionAddress(CU.getLibrary(), "cuGraphExecDestroy"),
-            GraphDestroy                          = apiGetFunctionAddress(CU.getLibrary(), "cuGraphDestroy");
+            GraphExecDestroy                      = ADDRESSES[34],
+            GraphDestroy                          = ADDRESSES[35];
 
     }
 
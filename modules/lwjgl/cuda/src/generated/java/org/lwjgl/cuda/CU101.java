@@ -46,12 +46,18 @@ public class CU101 extends CU100 {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "cuThreadExchangeStreamCaptureMode\0cuStreamGetCaptureInfo\0cuGraphExecKernelNodeSetParams\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(CU.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
             StreamBeginCapture_v2           = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuStreamBeginCapture_v2")),
-            ThreadExchangeStreamCaptureMode = apiGetFunctionAddress(CU.getLibrary(), "cuThreadExchangeStreamCaptureMode"),
-            StreamGetCaptureInfo            = apiGetFunctionAddress(CU.getLibrary(), "cuStreamGetCaptureInfo"),
-            GraphExecKernelNodeSetParams    = apiGetFunctionAddress(CU.getLibrary(), "cuGraphExecKernelNodeSetParams");
+            ThreadExchangeStreamCaptureMode = ADDRESSES[0],
+            StreamGetCaptureInfo            = ADDRESSES[1],
+            GraphExecKernelNodeSetParams    = ADDRESSES[2];
 
     }
 
@@ -81,28 +81,34 @@ public class CU40 extends CU {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "cuCtxSetCurrent\0cuCtxGetCurrent\0cuMemHostUnregister\0cuPointerGetAttribute\0cuDeviceCanAccessPeer\0cuCtxEnablePeerAccess\0cuCtxDisablePeerAccess\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(CU.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
             CtxDestroy           = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_VERSION("cuCtxDestroy", 2)),
             CtxPushCurrent       = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_VERSION("cuCtxPushCurrent", 2)),
             CtxPopCurrent        = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_VERSION("cuCtxPopCurrent", 2)),
-            CtxSetCurrent        = apiGetFunctionAddress(CU.getLibrary(), "cuCtxSetCurrent"),
-            CtxGetCurrent        = apiGetFunctionAddress(CU.getLibrary(), "cuCtxGetCurrent"),
+            CtxSetCurrent        = ADDRESSES[0],
+            CtxGetCurrent        = ADDRESSES[1],
             MemHostRegister      = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_VERSION("cuMemHostRegister", 2)),
-            MemHostUnregister    = apiGetFunctionAddress(CU.getLibrary(), "cuMemHostUnregister"),
+            MemHostUnregister    = ADDRESSES[2],
             Memcpy               = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTDS("cuMemcpy")),
             MemcpyPeer           = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTDS("cuMemcpyPeer")),
             Memcpy3DPeer         = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTDS("cuMemcpy3DPeer")),
             MemcpyAsync          = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuMemcpyAsync")),
             MemcpyPeerAsync      = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuMemcpyPeerAsync")),
             Memcpy3DPeerAsync    = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuMemcpy3DPeerAsync")),
-            PointerGetAttribute  = apiGetFunctionAddress(CU.getLibrary(), "cuPointerGetAttribute"),
+            PointerGetAttribute  = ADDRESSES[3],
             StreamDestroy        = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_VERSION("cuStreamDestroy", 2)),
             EventDestroy         = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_VERSION("cuEventDestroy", 2)),
             LaunchKernel         = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuLaunchKernel")),
-            DeviceCanAccessPeer  = apiGetFunctionAddress(CU.getLibrary(), "cuDeviceCanAccessPeer"),
-            CtxEnablePeerAccess  = apiGetFunctionAddress(CU.getLibrary(), "cuCtxEnablePeerAccess"),
-            CtxDisablePeerAccess = apiGetFunctionAddress(CU.getLibrary(), "cuCtxDisablePeerAccess");
+            DeviceCanAccessPeer  = ADDRESSES[4],
+            CtxEnablePeerAccess  = ADDRESSES[5],
+            CtxDisablePeerAccess = ADDRESSES[6];
 
     }
 
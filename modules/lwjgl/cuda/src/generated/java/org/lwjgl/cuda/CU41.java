@@ -42,15 +42,21 @@ public class CU41 extends CU40 {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "cuDeviceGetByPCIBusId\0cuDeviceGetPCIBusId\0cuIpcGetEventHandle\0cuIpcOpenEventHandle\0cuIpcGetMemHandle\0cuIpcOpenMemHandle\0cuIpcCloseMemHandle\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(CU.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            DeviceGetByPCIBusId = apiGetFunctionAddress(CU.getLibrary(), "cuDeviceGetByPCIBusId"),
-            DeviceGetPCIBusId   = apiGetFunctionAddress(CU.getLibrary(), "cuDeviceGetPCIBusId"),
-            IpcGetEventHandle   = apiGetFunctionAddress(CU.getLibrary(), "cuIpcGetEventHandle"),
-            IpcOpenEventHandle  = apiGetFunctionAddress(CU.getLibrary(), "cuIpcOpenEventHandle"),
-            IpcGetMemHandle     = apiGetFunctionAddress(CU.getLibrary(), "cuIpcGetMemHandle"),
-            IpcOpenMemHandle    = apiGetFunctionAddress(CU.getLibrary(), "cuIpcOpenMemHandle"),
-            IpcCloseMemHandle   = apiGetFunctionAddress(CU.getLibrary(), "cuIpcCloseMemHandle");
+            DeviceGetByPCIBusId = ADDRESSES[0],
+            DeviceGetPCIBusId   = ADDRESSES[1],
+            IpcGetEventHandle   = ADDRESSES[2],
+            IpcOpenEventHandle  = ADDRESSES[3],
+            IpcGetMemHandle     = ADDRESSES[4],
+            IpcOpenMemHandle    = ADDRESSES[5],
+            IpcCloseMemHandle   = ADDRESSES[6];
 
     }
 
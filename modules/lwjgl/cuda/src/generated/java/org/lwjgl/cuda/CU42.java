@@ -60,11 +60,17 @@ public class CU42 extends CU41 {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "cuCtxGetSharedMemConfig\0cuCtxSetSharedMemConfig\0cuFuncSetSharedMemConfig\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(CU.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            CtxGetSharedMemConfig  = apiGetFunctionAddress(CU.getLibrary(), "cuCtxGetSharedMemConfig"),
-            CtxSetSharedMemConfig  = apiGetFunctionAddress(CU.getLibrary(), "cuCtxSetSharedMemConfig"),
-            FuncSetSharedMemConfig = apiGetFunctionAddress(CU.getLibrary(), "cuFuncSetSharedMemConfig");
+            CtxGetSharedMemConfig  = ADDRESSES[0],
+            CtxSetSharedMemConfig  = ADDRESSES[1],
+            FuncSetSharedMemConfig = ADDRESSES[2];
 
     }
 
@@ -126,20 +126,28 @@ public class CU50 extends CU42 {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "cuMipmappedArrayCreate\0cuMipmappedArrayGetLevel\0cuMipmappedArrayDestroy\0cuTexObjectCreate\0cuTexObjectDestroy\0cuTexObjectGetResourceDesc\0" +
+            "cuTexObjectGetTextureDesc\0cuTexObjectGetResourceViewDesc\0cuSurfObjectCreate\0cuSurfObjectDestroy\0cuSurfObjectGetResourceDesc\0" +
+            "cuGraphicsResourceGetMappedMipmappedArray\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(CU.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            MipmappedArrayCreate                    = apiGetFunctionAddress(CU.getLibrary(), "cuMipmappedArrayCreate"),
-            MipmappedArrayGetLevel                  = apiGetFunctionAddress(CU.getLibrary(), "cuMipmappedArrayGetLevel"),
-            MipmappedArrayDestroy                   = apiGetFunctionAddress(CU.getLibrary(), "cuMipmappedArrayDestroy"),
-            TexObjectCreate                         = apiGetFunctionAddress(CU.getLibrary(), "cuTexObjectCreate"),
-            TexObjectDestroy                        = apiGetFunctionAddress(CU.getLibrary(), "cuTexObjectDestroy"),
-            TexObjectGetResourceDesc                = apiGetFunctionAddress(CU.getLibrary(), "cuTexObjectGetResourceDesc"),
-            TexObjectGetTextureDesc                 = apiGetFunctionAddress(CU.getLibrary(), "cuTexObjectGetTextureDesc"),
-            TexObjectGetResourceViewDesc            = apiGetFunctionAddress(CU.getLibrary(), "cuTexObjectGetResourceViewDesc"),
-            SurfObjectCreate                        = apiGetFunctionAddress(CU.getLibrary(), "cuSurfObjectCreate"),
-            SurfObjectDestroy                       = apiGetFunctionAddress(CU.getLibrary(), "cuSurfObjectDestroy"),
-            SurfObjectGetResourceDesc               = apiGetFunctionAddress(CU.getLibrary(), "cuSurfObjectGetResourceDesc"),
-            GraphicsResourceGetMappedMipmappedArray = apiGetFunctionAddress(CU.getLibrary(), "cuGraphicsResourceGetMappedMipmappedArray");
+            MipmappedArrayCreate                    = ADDRESSES[0],
+            MipmappedArrayGetLevel                  = ADDRESSES[1],
+            MipmappedArrayDestroy                   = ADDRESSES[2],
+            TexObjectCreate                         = ADDRESSES[3],
+            TexObjectDestroy                        = ADDRESSES[4],
+            TexObjectGetResourceDesc                = ADDRESSES[5],
+            TexObjectGetTextureDesc                 = ADDRESSES[6],
+            TexObjectGetResourceViewDesc            = ADDRESSES[7],
+            SurfObjectCreate                        = ADDRESSES[8],
+            SurfObjectDestroy                       = ADDRESSES[9],
+            SurfObjectGetResourceDesc               = ADDRESSES[10],
+            GraphicsResourceGetMappedMipmappedArray = ADDRESSES[11];
 
     }
 
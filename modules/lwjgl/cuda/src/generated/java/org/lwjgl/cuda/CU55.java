@@ -73,13 +73,19 @@ public class CU55 extends CU50 {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "cuLinkComplete\0cuLinkDestroy\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(CU.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
             LinkCreate   = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_VERSION("cuLinkCreate", 2)),
             LinkAddData  = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_VERSION("cuLinkAddData", 2)),
             LinkAddFile  = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_VERSION("cuLinkAddFile", 2)),
-            LinkComplete = apiGetFunctionAddress(CU.getLibrary(), "cuLinkComplete"),
-            LinkDestroy  = apiGetFunctionAddress(CU.getLibrary(), "cuLinkDestroy");
+            LinkComplete = ADDRESSES[0],
+            LinkDestroy  = ADDRESSES[1];
 
     }
 
@@ -46,10 +46,16 @@ public class CU60 extends CU55 {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "cuMemAllocManaged\0cuPointerSetAttribute\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(CU.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            MemAllocManaged      = apiGetFunctionAddress(CU.getLibrary(), "cuMemAllocManaged"),
-            PointerSetAttribute  = apiGetFunctionAddress(CU.getLibrary(), "cuPointerSetAttribute"),
+            MemAllocManaged      = ADDRESSES[0],
+            PointerSetAttribute  = ADDRESSES[1],
             StreamAttachMemAsync = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuStreamAttachMemAsync"));
 
     }
@@ -42,12 +42,19 @@ public class CU65 extends CU60 {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "cuOccupancyMaxActiveBlocksPerMultiprocessor\0cuOccupancyMaxActiveBlocksPerMultiprocessorWithFlags\0cuOccupancyMaxPotentialBlockSize\0" +
+            "cuOccupancyMaxPotentialBlockSizeWithFlags\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(CU.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            OccupancyMaxActiveBlocksPerMultiprocessor          = apiGetFunctionAddress(CU.getLibrary(), "cuOccupancyMaxActiveBlocksPerMultiprocessor"),
-            OccupancyMaxActiveBlocksPerMultiprocessorWithFlags = apiGetFunctionAddress(CU.getLibrary(), "cuOccupancyMaxActiveBlocksPerMultiprocessorWithFlags"),
-            OccupancyMaxPotentialBlockSize                     = apiGetFunctionAddress(CU.getLibrary(), "cuOccupancyMaxPotentialBlockSize"),
-            OccupancyMaxPotentialBlockSizeWithFlags            = apiGetFunctionAddress(CU.getLibrary(), "cuOccupancyMaxPotentialBlockSizeWithFlags");
+            OccupancyMaxActiveBlocksPerMultiprocessor          = ADDRESSES[0],
+            OccupancyMaxActiveBlocksPerMultiprocessorWithFlags = ADDRESSES[1],
+            OccupancyMaxPotentialBlockSize                     = ADDRESSES[2],
+            OccupancyMaxPotentialBlockSizeWithFlags            = ADDRESSES[3];
 
     }
 
@@ -42,15 +42,22 @@ public class CU70 extends CU65 {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "cuDevicePrimaryCtxRetain\0cuDevicePrimaryCtxRelease\0cuDevicePrimaryCtxSetFlags\0cuDevicePrimaryCtxGetState\0cuDevicePrimaryCtxReset\0cuCtxGetFlags\0" +
+            "cuPointerGetAttributes\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(CU.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            DevicePrimaryCtxRetain   = apiGetFunctionAddress(CU.getLibrary(), "cuDevicePrimaryCtxRetain"),
-            DevicePrimaryCtxRelease  = apiGetFunctionAddress(CU.getLibrary(), "cuDevicePrimaryCtxRelease"),
-            DevicePrimaryCtxSetFlags = apiGetFunctionAddress(CU.getLibrary(), "cuDevicePrimaryCtxSetFlags"),
-            DevicePrimaryCtxGetState = apiGetFunctionAddress(CU.getLibrary(), "cuDevicePrimaryCtxGetState"),
-            DevicePrimaryCtxReset    = apiGetFunctionAddress(CU.getLibrary(), "cuDevicePrimaryCtxReset"),
-            CtxGetFlags              = apiGetFunctionAddress(CU.getLibrary(), "cuCtxGetFlags"),
-            PointerGetAttributes     = apiGetFunctionAddress(CU.getLibrary(), "cuPointerGetAttributes");
+            DevicePrimaryCtxRetain   = ADDRESSES[0],
+            DevicePrimaryCtxRelease  = ADDRESSES[1],
+            DevicePrimaryCtxSetFlags = ADDRESSES[2],
+            DevicePrimaryCtxGetState = ADDRESSES[3],
+            DevicePrimaryCtxReset    = ADDRESSES[4],
+            CtxGetFlags              = ADDRESSES[5],
+            PointerGetAttributes     = ADDRESSES[6];
 
     }
 
@@ -169,18 +169,24 @@ public class CU80 extends CU70 {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "cuMemAdvise\0cuMemRangeGetAttribute\0cuMemRangeGetAttributes\0cuDeviceGetP2PAttribute\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(CU.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
             MemPrefetchAsync      = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuMemPrefetchAsync")),
-            MemAdvise             = apiGetFunctionAddress(CU.getLibrary(), "cuMemAdvise"),
-            MemRangeGetAttribute  = apiGetFunctionAddress(CU.getLibrary(), "cuMemRangeGetAttribute"),
-            MemRangeGetAttributes = apiGetFunctionAddress(CU.getLibrary(), "cuMemRangeGetAttributes"),
+            MemAdvise             = ADDRESSES[0],
+            MemRangeGetAttribute  = ADDRESSES[1],
+            MemRangeGetAttributes = ADDRESSES[2],
             StreamWaitValue32     = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuStreamWaitValue32")),
             StreamWaitValue64     = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuStreamWaitValue64")),
             StreamWriteValue32    = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuStreamWriteValue32")),
             StreamWriteValue64    = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuStreamWriteValue64")),
             StreamBatchMemOp      = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuStreamBatchMemOp")),
-            DeviceGetP2PAttribute = apiGetFunctionAddress(CU.getLibrary(), "cuDeviceGetP2PAttribute");
+            DeviceGetP2PAttribute = ADDRESSES[3];
 
     }
 
@@ -48,11 +48,17 @@ public class CU90 extends CU80 {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "cuFuncSetAttribute\0cuLaunchCooperativeKernelMultiDevice\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(CU.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            FuncSetAttribute                   = apiGetFunctionAddress(CU.getLibrary(), "cuFuncSetAttribute"),
+            FuncSetAttribute                   = ADDRESSES[0],
             LaunchCooperativeKernel            = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuLaunchCooperativeKernel")),
-            LaunchCooperativeKernelMultiDevice = apiGetFunctionAddress(CU.getLibrary(), "cuLaunchCooperativeKernelMultiDevice");
+            LaunchCooperativeKernelMultiDevice = ADDRESSES[1];
 
     }
 
@@ -28,9 +28,15 @@ public class CU92 extends CU90 {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "cuDeviceGetUuid\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(CU.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            DeviceGetUuid = apiGetFunctionAddress(CU.getLibrary(), "cuDeviceGetUuid"),
+            DeviceGetUuid = ADDRESSES[0],
             StreamGetCtx  = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ("cuStreamGetCtx"));
 
     }
@@ -41,11 +41,17 @@ public class CUDAProfiler {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "cuProfilerInitialize\0cuProfilerStart\0cuProfilerStop\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(CU.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            ProfilerInitialize = apiGetFunctionAddress(CU.getLibrary(), "cuProfilerInitialize"),
-            ProfilerStart      = apiGetFunctionAddress(CU.getLibrary(), "cuProfilerStart"),
-            ProfilerStop       = apiGetFunctionAddress(CU.getLibrary(), "cuProfilerStop");
+            ProfilerInitialize = ADDRESSES[0],
+            ProfilerStart      = ADDRESSES[1],
+            ProfilerStop       = ADDRESSES[2];
 
     }
 
@@ -47,19 +47,26 @@ public class CUGL {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "cuGraphicsGLRegisterBuffer\0cuGraphicsGLRegisterImage\0cuGLInit\0cuGLRegisterBufferObject\0cuGLUnmapBufferObject\0cuGLUnregisterBufferObject\0" +
+            "cuGLSetBufferObjectMapFlags\0cuGLUnmapBufferObjectAsync\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(CU.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            GraphicsGLRegisterBuffer  = apiGetFunctionAddress(CU.getLibrary(), "cuGraphicsGLRegisterBuffer"),
-            GraphicsGLRegisterImage   = apiGetFunctionAddress(CU.getLibrary(), "cuGraphicsGLRegisterImage"),
+            GraphicsGLRegisterBuffer  = ADDRESSES[0],
+            GraphicsGLRegisterImage   = ADDRESSES[1],
             GLCtxCreate               = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_VERSION("cuGLCtxCreate", 2)),
-            GLInit                    = apiGetFunctionAddress(CU.getLibrary(), "cuGLInit"),
-            GLRegisterBufferObject    = apiGetFunctionAddress(CU.getLibrary(), "cuGLRegisterBufferObject"),
+            GLInit                    = ADDRESSES[2],
+            GLRegisterBufferObject    = ADDRESSES[3],
             GLMapBufferObject         = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTDS(__CUDA_API_VERSION("cuGLMapBufferObject", 2))),
-            GLUnmapBufferObject       = apiGetFunctionAddress(CU.getLibrary(), "cuGLUnmapBufferObject"),
-            GLUnregisterBufferObject  = apiGetFunctionAddress(CU.getLibrary(), "cuGLUnregisterBufferObject"),
-            GLSetBufferObjectMapFlags = apiGetFunctionAddress(CU.getLibrary(), "cuGLSetBufferObjectMapFlags"),
+            GLUnmapBufferObject       = ADDRESSES[4],
+            GLUnregisterBufferObject  = ADDRESSES[5],
+            GLSetBufferObjectMapFlags = ADDRESSES[6],
             GLMapBufferObjectAsync    = apiGetFunctionAddress(CU.getLibrary(), __CUDA_API_PTSZ(__CUDA_API_VERSION("cuGLMapBufferObjectAsync", 2))),
-            GLUnmapBufferObjectAsync  = apiGetFunctionAddress(CU.getLibrary(), "cuGLUnmapBufferObjectAsync");
+            GLUnmapBufferObjectAsync  = ADDRESSES[7];
 
     }
 
@@ -33,9 +33,15 @@ public class CUWGL {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "cuWGLGetDevice\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(CU.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            WGLGetDevice = apiGetFunctionAddress(CU.getLibrary(), "cuWGLGetDevice");
+            WGLGetDevice = ADDRESSES[0];
 
     }
 
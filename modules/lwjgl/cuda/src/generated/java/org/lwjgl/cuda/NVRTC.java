@@ -70,19 +70,26 @@ public class NVRTC {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "nvrtcGetErrorString\0nvrtcVersion\0nvrtcCreateProgram\0nvrtcDestroyProgram\0nvrtcCompileProgram\0nvrtcGetPTXSize\0nvrtcGetPTX\0nvrtcGetProgramLogSize\0" +
+            "nvrtcGetProgramLog\0nvrtcAddNameExpression\0nvrtcGetLoweredName\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(NVRTC, FUNCTIONS);
+
         /** Function address. */
         public static final long
-            GetErrorString    = apiGetFunctionAddress(NVRTC, "nvrtcGetErrorString"),
-            Version           = apiGetFunctionAddress(NVRTC, "nvrtcVersion"),
-            CreateProgram     = apiGetFunctionAddress(NVRTC, "nvrtcCreateProgram"),
-            DestroyProgram    = apiGetFunctionAddress(NVRTC, "nvrtcDestroyProgram"),
-            CompileProgram    = apiGetFunctionAddress(NVRTC, "nvrtcCompileProgram"),
-            GetPTXSize        = apiGetFunctionAddress(NVRTC, "nvrtcGetPTXSize"),
-            GetPTX            = apiGetFunctionAddress(NVRTC, "nvrtcGetPTX"),
-            GetProgramLogSize = apiGetFunctionAddress(NVRTC, "nvrtcGetProgramLogSize"),
-            GetProgramLog     = apiGetFunctionAddress(NVRTC, "nvrtcGetProgramLog"),
-            AddNameExpression = apiGetFunctionAddress(NVRTC, "nvrtcAddNameExpression"),
-            GetLoweredName    = apiGetFunctionAddress(NVRTC, "nvrtcGetLoweredName");
+            GetErrorString    = ADDRESSES[0],
+            Version           = ADDRESSES[1],
+            CreateProgram     = ADDRESSES[2],
+            DestroyProgram    = ADDRESSES[3],
+            CompileProgram    = ADDRESSES[4],
+            GetPTXSize        = ADDRESSES[5],
+            GetPTX            = ADDRESSES[6],
+            GetProgramLogSize = ADDRESSES[7],
+            GetProgramLog     = ADDRESSES[8],
+            AddNameExpression = ADDRESSES[9],
+            GetLoweredName    = ADDRESSES[10];
 
     }
 
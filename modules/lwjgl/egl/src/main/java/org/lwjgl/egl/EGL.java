@@ -4,6 +4,7 @@
  */
 package org.lwjgl.egl;
 
+import org.lwjgl.*;
 import org.lwjgl.system.*;
 
 import javax.annotation.*;
@@ -93,7 +94,7 @@ public final class EGL {
 
                 @Override
                 public long getFunctionAddress(ByteBuffer functionName) {
-                    long address = callPP(eglGetProcAddress, memAddress(functionName));
+                    long address = callPP(memAddress(functionName), eglGetProcAddress);
                     if (address == NULL) {
                         address = library.getFunctionAddress(functionName);
                         if (address == NULL && Checks.DEBUG_FUNCTIONS) {
@@ -103,6 +104,15 @@ public final class EGL {
 
                     return address;
                 }
+
+                @Override
+                public void getFunctionAddresses(ByteBuffer functionNames, PointerBuffer addresses) {
+                    SharedLibraryUtil.getProcAddresses(eglGetProcAddress, functionNames, addresses);
+                    SharedLibraryUtil.getMissingFunctionAddresses(library, functionNames, addresses);
+                    if (Checks.DEBUG_FUNCTIONS) {
+                        SharedLibraryUtil.logMissingFunctions("EGL", functionNames, addresses);
+                    }
+                }
             });
         } catch (RuntimeException e) {
             EGL.free();
@@ -678,122 +678,144 @@ public class GLFW {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "glfwInit\0glfwTerminate\0glfwInitHint\0glfwGetVersion\0glfwGetVersionString\0glfwGetError\0glfwSetErrorCallback\0glfwGetMonitors\0glfwGetPrimaryMonitor\0" +
+            "glfwGetMonitorPos\0glfwGetMonitorWorkarea\0glfwGetMonitorPhysicalSize\0glfwGetMonitorContentScale\0glfwGetMonitorName\0glfwSetMonitorUserPointer\0" +
+            "glfwGetMonitorUserPointer\0glfwSetMonitorCallback\0glfwGetVideoModes\0glfwGetVideoMode\0glfwSetGamma\0glfwGetGammaRamp\0glfwSetGammaRamp\0glfwDefaultWindowHints\0" +
+            "glfwWindowHint\0glfwWindowHintString\0glfwCreateWindow\0glfwDestroyWindow\0glfwWindowShouldClose\0glfwSetWindowShouldClose\0glfwSetWindowTitle\0" +
+            "glfwSetWindowIcon\0glfwGetWindowPos\0glfwSetWindowPos\0glfwGetWindowSize\0glfwSetWindowSizeLimits\0glfwSetWindowAspectRatio\0glfwSetWindowSize\0" +
+            "glfwGetFramebufferSize\0glfwGetWindowFrameSize\0glfwGetWindowContentScale\0glfwGetWindowOpacity\0glfwSetWindowOpacity\0glfwIconifyWindow\0glfwRestoreWindow\0" +
+            "glfwMaximizeWindow\0glfwShowWindow\0glfwHideWindow\0glfwFocusWindow\0glfwRequestWindowAttention\0glfwGetWindowMonitor\0glfwSetWindowMonitor\0glfwGetWindowAttrib\0" +
+            "glfwSetWindowAttrib\0glfwSetWindowUserPointer\0glfwGetWindowUserPointer\0glfwSetWindowPosCallback\0glfwSetWindowSizeCallback\0glfwSetWindowCloseCallback\0" +
+            "glfwSetWindowRefreshCallback\0glfwSetWindowFocusCallback\0glfwSetWindowIconifyCallback\0glfwSetWindowMaximizeCallback\0glfwSetFramebufferSizeCallback\0" +
+            "glfwSetWindowContentScaleCallback\0glfwPollEvents\0glfwWaitEvents\0glfwWaitEventsTimeout\0glfwPostEmptyEvent\0glfwGetInputMode\0glfwSetInputMode\0" +
+            "glfwRawMouseMotionSupported\0glfwGetKeyName\0glfwGetKeyScancode\0glfwGetKey\0glfwGetMouseButton\0glfwGetCursorPos\0glfwSetCursorPos\0glfwCreateCursor\0" +
+            "glfwCreateStandardCursor\0glfwDestroyCursor\0glfwSetCursor\0glfwSetKeyCallback\0glfwSetCharCallback\0glfwSetCharModsCallback\0glfwSetMouseButtonCallback\0" +
+            "glfwSetCursorPosCallback\0glfwSetCursorEnterCallback\0glfwSetScrollCallback\0glfwSetDropCallback\0glfwJoystickPresent\0glfwGetJoystickAxes\0" +
+            "glfwGetJoystickButtons\0glfwGetJoystickHats\0glfwGetJoystickName\0glfwGetJoystickGUID\0glfwSetJoystickUserPointer\0glfwGetJoystickUserPointer\0" +
+            "glfwJoystickIsGamepad\0glfwSetJoystickCallback\0glfwUpdateGamepadMappings\0glfwGetGamepadName\0glfwGetGamepadState\0glfwSetClipboardString\0" +
+            "glfwGetClipboardString\0glfwGetTime\0glfwSetTime\0glfwGetTimerValue\0glfwGetTimerFrequency\0glfwMakeContextCurrent\0glfwGetCurrentContext\0glfwSwapBuffers\0" +
+            "glfwSwapInterval\0glfwExtensionSupported\0glfwGetProcAddress\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(GLFW, FUNCTIONS);
+
         /** Function address. */
         public static final long
-            Init                          = apiGetFunctionAddress(GLFW, "glfwInit"),
-            Terminate                     = apiGetFunctionAddress(GLFW, "glfwTerminate"),
-            InitHint                      = apiGetFunctionAddress(GLFW, "glfwInitHint"),
-            GetVersion                    = apiGetFunctionAddress(GLFW, "glfwGetVersion"),
-            GetVersionString              = apiGetFunctionAddress(GLFW, "glfwGetVersionString"),
-            GetError                      = apiGetFunctionAddress(GLFW, "glfwGetError"),
-            SetErrorCallback              = apiGetFunctionAddress(GLFW, "glfwSetErrorCallback"),
-            GetMonitors                   = apiGetFunctionAddress(GLFW, "glfwGetMonitors"),
-            GetPrimaryMonitor             = apiGetFunctionAddress(GLFW, "glfwGetPrimaryMonitor"),
-            GetMonitorPos                 = apiGetFunctionAddress(GLFW, "glfwGetMonitorPos"),
-            GetMonitorWorkarea            = apiGetFunctionAddress(GLFW, "glfwGetMonitorWorkarea"),
-            GetMonitorPhysicalSize        = apiGetFunctionAddress(GLFW, "glfwGetMonitorPhysicalSize"),
-            GetMonitorContentScale        = apiGetFunctionAddress(GLFW, "glfwGetMonitorContentScale"),
-            GetMonitorName                = apiGetFunctionAddress(GLFW, "glfwGetMonitorName"),
-            SetMonitorUserPointer         = apiGetFunctionAddress(GLFW, "glfwSetMonitorUserPointer"),
-            GetMonitorUserPointer         = apiGetFunctionAddress(GLFW, "glfwGetMonitorUserPointer"),
-            SetMonitorCallback            = apiGetFunctionAddress(GLFW, "glfwSetMonitorCallback"),
-            GetVideoModes                 = apiGetFunctionAddress(GLFW, "glfwGetVideoModes"),
-            GetVideoMode                  = apiGetFunctionAddress(GLFW, "glfwGetVideoMode"),
-            SetGamma                      = apiGetFunctionAddress(GLFW, "glfwSetGamma"),
-            GetGammaRamp                  = apiGetFunctionAddress(GLFW, "glfwGetGammaRamp"),
-            SetGammaRamp                  = apiGetFunctionAddress(GLFW, "glfwSetGammaRamp"),
-            DefaultWindowHints            = apiGetFunctionAddress(GLFW, "glfwDefaultWindowHints"),
-            WindowHint                    = apiGetFunctionAddress(GLFW, "glfwWindowHint"),
-            WindowHintString              = apiGetFunctionAddress(GLFW, "glfwWindowHintString"),
-            CreateWindow                  = apiGetFunctionAddress(GLFW, "glfwCreateWindow"),
-            DestroyWindow                 = apiGetFunctionAddress(GLFW, "glfwDestroyWindow"),
-            WindowShouldClose             = apiGetFunctionAddress(GLFW, "glfwWindowShouldClose"),
-            SetWindowShouldClose          = apiGetFunctionAddress(GLFW, "glfwSetWindowShouldClose"),
-            SetWindowTitle                = apiGetFunctionAddress(GLFW, "glfwSetWindowTitle"),
-            SetWindowIcon                 = apiGetFunctionAddress(GLFW, "glfwSetWindowIcon"),
-            GetWindowPos                  = apiGetFunctionAddress(GLFW, "glfwGetWindowPos"),
-            SetWindowPos                  = apiGetFunctionAddress(GLFW, "glfwSetWindowPos"),
-            GetWindowSize                 = apiGetFunctionAddress(GLFW, "glfwGetWindowSize"),
-            SetWindowSizeLimits           = apiGetFunctionAddress(GLFW, "glfwSetWindowSizeLimits"),
-            SetWindowAspectRatio          = apiGetFunctionAddress(GLFW, "glfwSetWindowAspectRatio"),
-            SetWindowSize                 = apiGetFunctionAddress(GLFW, "glfwSetWindowSize"),
-            GetFramebufferSize            = apiGetFunctionAddress(GLFW, "glfwGetFramebufferSize"),
-            GetWindowFrameSize            = apiGetFunctionAddress(GLFW, "glfwGetWindowFrameSize"),
-            GetWindowContentScale         = apiGetFunctionAddress(GLFW, "glfwGetWindowContentScale"),
-            GetWindowOpacity              = apiGetFunctionAddress(GLFW, "glfwGetWindowOpacity"),
-            SetWindowOpacity              = apiGetFunctionAddress(GLFW, "glfwSetWindowOpacity"),
-            IconifyWindow                 = apiGetFunctionAddress(GLFW, "glfwIconifyWindow"),
-            RestoreWindow                 = apiGetFunctionAddress(GLFW, "glfwRestoreWindow"),
-            MaximizeWindow                = apiGetFunctionAddress(GLFW, "glfwMaximizeWindow"),
-            ShowWindow                    = apiGetFunctionAddress(GLFW, "glfwShowWindow"),
-            HideWindow                    = apiGetFunctionAddress(GLFW, "glfwHideWindow"),
-            FocusWindow                   = apiGetFunctionAddress(GLFW, "glfwFocusWindow"),
-            RequestWindowAttention        = apiGetFunctionAddress(GLFW, "glfwRequestWindowAttention"),
-            GetWindowMonitor              = apiGetFunctionAddress(GLFW, "glfwGetWindowMonitor"),
-            SetWindowMonitor              = apiGetFunctionAddress(GLFW, "glfwSetWindowMonitor"),
-            GetWindowAttrib               = apiGetFunctionAddress(GLFW, "glfwGetWindowAttrib"),
-            SetWindowAttrib               = apiGetFunctionAddress(GLFW, "glfwSetWindowAttrib"),
-            SetWindowUserPointer          = apiGetFunctionAddress(GLFW, "glfwSetWindowUserPointer"),
-            GetWindowUserPointer          = apiGetFunctionAddress(GLFW, "glfwGetWindowUserPointer"),
-            SetWindowPosCallback          = apiGetFunctionAddress(GLFW, "glfwSetWindowPosCallback"),
-            SetWindowSizeCallback         = apiGetFunctionAddress(GLFW, "glfwSetWindowSizeCallback"),
-            SetWindowCloseCallback        = apiGetFunctionAddress(GLFW, "glfwSetWindowCloseCallback"),
-            SetWindowRefreshCallback      = apiGetFunctionAddress(GLFW, "glfwSetWindowRefreshCallback"),
-            SetWindowFocusCallback        = apiGetFunctionAddress(GLFW, "glfwSetWindowFocusCallback"),
-            SetWindowIconifyCallback      = apiGetFunctionAddress(GLFW, "glfwSetWindowIconifyCallback"),
-            SetWindowMaximizeCallback     = apiGetFunctionAddress(GLFW, "glfwSetWindowMaximizeCallback"),
-            SetFramebufferSizeCallback    = apiGetFunctionAddress(GLFW, "glfwSetFramebufferSizeCallback"),
-            SetWindowContentScaleCallback = apiGetFunctionAddress(GLFW, "glfwSetWindowContentScaleCallback"),
-            PollEvents                    = apiGetFunctionAddress(GLFW, "glfwPollEvents"),
-            WaitEvents                    = apiGetFunctionAddress(GLFW, "glfwWaitEvents"),
-            WaitEventsTimeout             = apiGetFunctionAddress(GLFW, "glfwWaitEventsTimeout"),
-            PostEmptyEvent                = apiGetFunctionAddress(GLFW, "glfwPostEmptyEvent"),
-            GetInputMode                  = apiGetFunctionAddress(GLFW, "glfwGetInputMode"),
-            SetInputMode                  = apiGetFunctionAddress(GLFW, "glfwSetInputMode"),
-            RawMouseMotionSupported       = apiGetFunctionAddress(GLFW, "glfwRawMouseMotionSupported"),
-            GetKeyName                    = apiGetFunctionAddress(GLFW, "glfwGetKeyName"),
-            GetKeyScancode                = apiGetFunctionAddress(GLFW, "glfwGetKeyScancode"),
-            GetKey                        = apiGetFunctionAddress(GLFW, "glfwGetKey"),
-            GetMouseButton                = apiGetFunctionAddress(GLFW, "glfwGetMouseButton"),
-            GetCursorPos                  = apiGetFunctionAddress(GLFW, "glfwGetCursorPos"),
-            SetCursorPos                  = apiGetFunctionAddress(GLFW, "glfwSetCursorPos"),
-            CreateCursor                  = apiGetFunctionAddress(GLFW, "glfwCreateCursor"),
-            CreateStandardCursor          = apiGetFunctionAddress(GLFW, "glfwCreateStandardCursor"),
-            DestroyCursor                 = apiGetFunctionAddress(GLFW, "glfwDestroyCursor"),
-            SetCursor                     = apiGetFunctionAddress(GLFW, "glfwSetCursor"),
-            SetKeyCallback                = apiGetFunctionAddress(GLFW, "glfwSetKeyCallback"),
-            SetCharCallback               = apiGetFunctionAddress(GLFW, "glfwSetCharCallback"),
-            SetCharModsCallback           = apiGetFunctionAddress(GLFW, "glfwSetCharModsCallback"),
-            SetMouseButtonCallback        = apiGetFunctionAddress(GLFW, "glfwSetMouseButtonCallback"),
-            SetCursorPosCallback          = apiGetFunctionAddress(GLFW, "glfwSetCursorPosCallback"),
-            SetCursorEnterCallback        = apiGetFunctionAddress(GLFW, "glfwSetCursorEnterCallback"),
-            SetScrollCallback             = apiGetFunctionAddress(GLFW, "glfwSetScrollCallback"),
-            SetDropCallback               = apiGetFunctionAddress(GLFW, "glfwSetDropCallback"),
-            JoystickPresent               = apiGetFunctionAddress(GLFW, "glfwJoystickPresent"),
-            GetJoystickAxes               = apiGetFunctionAddress(GLFW, "glfwGetJoystickAxes"),
-            GetJoystickButtons            = apiGetFunctionAddress(GLFW, "glfwGetJoystickButtons"),
-            GetJoystickHats               = apiGetFunctionAddress(GLFW, "glfwGetJoystickHats"),
-            GetJoystickName               = apiGetFunctionAddress(GLFW, "glfwGetJoystickName"),
-            GetJoystickGUID               = apiGetFunctionAddress(GLFW, "glfwGetJoystickGUID"),
-            SetJoystickUserPointer        = apiGetFunctionAddress(GLFW, "glfwSetJoystickUserPointer"),
-            GetJoystickUserPointer        = apiGetFunctionAddress(GLFW, "glfwGetJoystickUserPointer"),
-            JoystickIsGamepad             = apiGetFunctionAddress(GLFW, "glfwJoystickIsGamepad"),
-            SetJoystickCallback           = apiGetFunctionAddress(GLFW, "glfwSetJoystickCallback"),
-            UpdateGamepadMappings         = apiGetFunctionAddress(GLFW, "glfwUpdateGamepadMappings"),
-            GetGamepadName                = apiGetFunctionAddress(GLFW, "glfwGetGamepadName"),
-            GetGamepadState               = apiGetFunctionAddress(GLFW, "glfwGetGamepadState"),
-            SetClipboardString            = apiGetFunctionAddress(GLFW, "glfwSetClipboardString"),
-            GetClipboardString            = apiGetFunctionAddress(GLFW, "glfwGetClipboardString"),
-            GetTime                       = apiGetFunctionAddress(GLFW, "glfwGetTime"),
-            SetTime                       = apiGetFunctionAddress(GLFW, "glfwSetTime"),
-            GetTimerValue                 = apiGetFunctionAddress(GLFW, "glfwGetTimerValue"),
-            GetTimerFrequency             = apiGetFunctionAddress(GLFW, "glfwGetTimerFrequency"),
-            MakeContextCurrent            = apiGetFunctionAddress(GLFW, "glfwMakeContextCurrent"),
-            GetCurrentContext             = apiGetFunctionAddress(GLFW, "glfwGetCurrentContext"),
-            SwapBuffers                   = apiGetFunctionAddress(GLFW, "glfwSwapBuffers"),
-            SwapInterval                  = apiGetFunctionAddress(GLFW, "glfwSwapInterval"),
-            ExtensionSupported            = apiGetFunctionAddress(GLFW, "glfwExtensionSupported"),
-            GetProcAddress                = apiGetFunctionAddress(GLFW, "glfwGetProcAddress");
+            Init                          = ADDRESSES[0],
+            Terminate                     = ADDRESSES[1],
+            InitHint                      = ADDRESSES[2],
+            GetVersion                    = ADDRESSES[3],
+            GetVersionString              = ADDRESSES[4],
+            GetError                      = ADDRESSES[5],
+            SetErrorCallback              = ADDRESSES[6],
+            GetMonitors                   = ADDRESSES[7],
+            GetPrimaryMonitor             = ADDRESSES[8],
+            GetMonitorPos                 = ADDRESSES[9],
+            GetMonitorWorkarea            = ADDRESSES[10],
+            GetMonitorPhysicalSize        = ADDRESSES[11],
+            GetMonitorContentScale        = ADDRESSES[12],
+            GetMonitorName                = ADDRESSES[13],
+            SetMonitorUserPointer         = ADDRESSES[14],
+            GetMonitorUserPointer         = ADDRESSES[15],
+            SetMonitorCallback            = ADDRESSES[16],
+            GetVideoModes                 = ADDRESSES[17],
+            GetVideoMode                  = ADDRESSES[18],
+            SetGamma                      = ADDRESSES[19],
+            GetGammaRamp                  = ADDRESSES[20],
+            SetGammaRamp                  = ADDRESSES[21],
+            DefaultWindowHints            = ADDRESSES[22],
+            WindowHint                    = ADDRESSES[23],
+            WindowHintString              = ADDRESSES[24],
+            CreateWindow                  = ADDRESSES[25],
+            DestroyWindow                 = ADDRESSES[26],
+            WindowShouldClose             = ADDRESSES[27],
+            SetWindowShouldClose          = ADDRESSES[28],
+            SetWindowTitle                = ADDRESSES[29],
+            SetWindowIcon                 = ADDRESSES[30],
+            GetWindowPos                  = ADDRESSES[31],
+            SetWindowPos                  = ADDRESSES[32],
+            GetWindowSize                 = ADDRESSES[33],
+            SetWindowSizeLimits           = ADDRESSES[34],
+            SetWindowAspectRatio          = ADDRESSES[35],
+            SetWindowSize                 = ADDRESSES[36],
+            GetFramebufferSize            = ADDRESSES[37],
+            GetWindowFrameSize            = ADDRESSES[38],
+            GetWindowContentScale         = ADDRESSES[39],
+            GetWindowOpacity              = ADDRESSES[40],
+            SetWindowOpacity              = ADDRESSES[41],
+            IconifyWindow                 = ADDRESSES[42],
+            RestoreWindow                 = ADDRESSES[43],
+            MaximizeWindow                = ADDRESSES[44],
+            ShowWindow                    = ADDRESSES[45],
+            HideWindow                    = ADDRESSES[46],
+            FocusWindow                   = ADDRESSES[47],
+            RequestWindowAttention        = ADDRESSES[48],
+            GetWindowMonitor              = ADDRESSES[49],
+            SetWindowMonitor              = ADDRESSES[50],
+            GetWindowAttrib               = ADDRESSES[51],
+            SetWindowAttrib               = ADDRESSES[52],
+            SetWindowUserPointer          = ADDRESSES[53],
+            GetWindowUserPointer          = ADDRESSES[54],
+            SetWindowPosCallback          = ADDRESSES[55],
+            SetWindowSizeCallback         = ADDRESSES[56],
+            SetWindowCloseCallback        = ADDRESSES[57],
+            SetWindowRefreshCallback      = ADDRESSES[58],
+            SetWindowFocusCallback        = ADDRESSES[59],
+            SetWindowIconifyCallback      = ADDRESSES[60],
+            SetWindowMaximizeCallback     = ADDRESSES[61],
+            SetFramebufferSizeCallback    = ADDRESSES[62],
+            SetWindowContentScaleCallback = ADDRESSES[63],
+            PollEvents                    = ADDRESSES[64],
+            WaitEvents                    = ADDRESSES[65],
+            WaitEventsTimeout             = ADDRESSES[66],
+            PostEmptyEvent                = ADDRESSES[67],
+            GetInputMode                  = ADDRESSES[68],
+            SetInputMode                  = ADDRESSES[69],
+            RawMouseMotionSupported       = ADDRESSES[70],
+            GetKeyName                    = ADDRESSES[71],
+            GetKeyScancode                = ADDRESSES[72],
+            GetKey                        = ADDRESSES[73],
+            GetMouseButton                = ADDRESSES[74],
+            GetCursorPos                  = ADDRESSES[75],
+            SetCursorPos                  = ADDRESSES[76],
+            CreateCursor                  = ADDRESSES[77],
+            CreateStandardCursor          = ADDRESSES[78],
+            DestroyCursor                 = ADDRESSES[79],
+            SetCursor                     = ADDRESSES[80],
+            SetKeyCallback                = ADDRESSES[81],
+            SetCharCallback               = ADDRESSES[82],
+            SetCharModsCallback           = ADDRESSES[83],
+            SetMouseButtonCallback        = ADDRESSES[84],
+            SetCursorPosCallback          = ADDRESSES[85],
+            SetCursorEnterCallback        = ADDRESSES[86],
+            SetScrollCallback             = ADDRESSES[87],
+            SetDropCallback               = ADDRESSES[88],
+            JoystickPresent               = ADDRESSES[89],
+            GetJoystickAxes               = ADDRESSES[90],
+            GetJoystickButtons            = ADDRESSES[91],
+            GetJoystickHats               = ADDRESSES[92],
+            GetJoystickName               = ADDRESSES[93],
+            GetJoystickGUID               = ADDRESSES[94],
+            SetJoystickUserPointer        = ADDRESSES[95],
+            GetJoystickUserPointer        = ADDRESSES[96],
+            JoystickIsGamepad             = ADDRESSES[97],
+            SetJoystickCallback           = ADDRESSES[98],
+            UpdateGamepadMappings         = ADDRESSES[99],
+            GetGamepadName                = ADDRESSES[100],
+            GetGamepadState               = ADDRESSES[101],
+            SetClipboardString            = ADDRESSES[102],
+            GetClipboardString            = ADDRESSES[103],
+            GetTime                       = ADDRESSES[104],
+            SetTime                       = ADDRESSES[105],
+            GetTimerValue                 = ADDRESSES[106],
+            GetTimerFrequency             = ADDRESSES[107],
+            MakeContextCurrent            = ADDRESSES[108],
+            GetCurrentContext             = ADDRESSES[109],
+            SwapBuffers                   = ADDRESSES[110],
+            SwapInterval                  = ADDRESSES[111],
+            ExtensionSupported            = ADDRESSES[112],
+            GetProcAddress                = ADDRESSES[113];
 
     }
 
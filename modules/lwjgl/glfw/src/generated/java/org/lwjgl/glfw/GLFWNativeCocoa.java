@@ -23,10 +23,16 @@ public class GLFWNativeCocoa {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "glfwGetCocoaMonitor\0glfwGetCocoaWindow\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(GLFW.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            GetCocoaMonitor = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetCocoaMonitor"),
-            GetCocoaWindow  = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetCocoaWindow");
+            GetCocoaMonitor = ADDRESSES[0],
+            GetCocoaWindow  = ADDRESSES[1];
 
     }
 
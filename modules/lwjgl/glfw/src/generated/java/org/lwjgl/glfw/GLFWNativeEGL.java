@@ -25,11 +25,17 @@ public class GLFWNativeEGL {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "glfwGetEGLDisplay\0glfwGetEGLContext\0glfwGetEGLSurface\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(GLFW.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            GetEGLDisplay = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetEGLDisplay"),
-            GetEGLContext = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetEGLContext"),
-            GetEGLSurface = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetEGLSurface");
+            GetEGLDisplay = ADDRESSES[0],
+            GetEGLContext = ADDRESSES[1],
+            GetEGLSurface = ADDRESSES[2];
 
     }
 
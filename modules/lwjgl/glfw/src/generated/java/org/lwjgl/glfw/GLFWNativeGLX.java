@@ -23,10 +23,16 @@ public class GLFWNativeGLX {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "glfwGetGLXContext\0glfwGetGLXWindow\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(GLFW.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            GetGLXContext = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetGLXContext"),
-            GetGLXWindow  = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetGLXWindow");
+            GetGLXContext = ADDRESSES[0],
+            GetGLXWindow  = ADDRESSES[1];
 
     }
 
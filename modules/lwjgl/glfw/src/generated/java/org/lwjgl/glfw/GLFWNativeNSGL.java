@@ -23,9 +23,15 @@ public class GLFWNativeNSGL {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "glfwGetNSGLContext\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(GLFW.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            GetNSGLContext = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetNSGLContext");
+            GetNSGLContext = ADDRESSES[0];
 
     }
 
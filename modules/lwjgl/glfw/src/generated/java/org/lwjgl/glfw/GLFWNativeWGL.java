@@ -23,9 +23,15 @@ public class GLFWNativeWGL {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "glfwGetWGLContext\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(GLFW.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            GetWGLContext = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetWGLContext");
+            GetWGLContext = ADDRESSES[0];
 
     }
 
@@ -23,11 +23,17 @@ public class GLFWNativeWayland {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "glfwGetWaylandDisplay\0glfwGetWaylandMonitor\0glfwGetWaylandWindow\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(GLFW.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            GetWaylandDisplay = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetWaylandDisplay"),
-            GetWaylandMonitor = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetWaylandMonitor"),
-            GetWaylandWindow  = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetWaylandWindow");
+            GetWaylandDisplay = ADDRESSES[0],
+            GetWaylandMonitor = ADDRESSES[1],
+            GetWaylandWindow  = ADDRESSES[2];
 
     }
 
@@ -26,12 +26,18 @@ public class GLFWNativeWin32 {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "glfwGetWin32Adapter\0glfwGetWin32Monitor\0glfwGetWin32Window\0glfwAttachWin32Window\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(GLFW.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            GetWin32Adapter   = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetWin32Adapter"),
-            GetWin32Monitor   = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetWin32Monitor"),
-            GetWin32Window    = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetWin32Window"),
-            AttachWin32Window = apiGetFunctionAddress(GLFW.getLibrary(), "glfwAttachWin32Window");
+            GetWin32Adapter   = ADDRESSES[0],
+            GetWin32Monitor   = ADDRESSES[1],
+            GetWin32Window    = ADDRESSES[2],
+            AttachWin32Window = ADDRESSES[3];
 
     }
 
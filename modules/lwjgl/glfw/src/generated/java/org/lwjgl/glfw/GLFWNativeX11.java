@@ -29,14 +29,20 @@ public class GLFWNativeX11 {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "glfwGetX11Display\0glfwGetX11Adapter\0glfwGetX11Monitor\0glfwGetX11Window\0glfwSetX11SelectionString\0glfwGetX11SelectionString\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(GLFW.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            GetX11Display         = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetX11Display"),
-            GetX11Adapter         = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetX11Adapter"),
-            GetX11Monitor         = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetX11Monitor"),
-            GetX11Window          = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetX11Window"),
-            SetX11SelectionString = apiGetFunctionAddress(GLFW.getLibrary(), "glfwSetX11SelectionString"),
-            GetX11SelectionString = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetX11SelectionString");
+            GetX11Display         = ADDRESSES[0],
+            GetX11Adapter         = ADDRESSES[1],
+            GetX11Monitor         = ADDRESSES[2],
+            GetX11Window          = ADDRESSES[3],
+            SetX11SelectionString = ADDRESSES[4],
+            GetX11SelectionString = ADDRESSES[5];
 
     }
 
@@ -33,13 +33,19 @@ public class GLFWVulkan {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "glfwVulkanSupported\0glfwGetRequiredInstanceExtensions\0glfwGetInstanceProcAddress\0glfwGetPhysicalDevicePresentationSupport\0glfwCreateWindowSurface\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(GLFW.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            VulkanSupported                      = apiGetFunctionAddress(GLFW.getLibrary(), "glfwVulkanSupported"),
-            GetRequiredInstanceExtensions        = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetRequiredInstanceExtensions"),
-            GetInstanceProcAddress               = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetInstanceProcAddress"),
-            GetPhysicalDevicePresentationSupport = apiGetFunctionAddress(GLFW.getLibrary(), "glfwGetPhysicalDevicePresentationSupport"),
-            CreateWindowSurface                  = apiGetFunctionAddress(GLFW.getLibrary(), "glfwCreateWindowSurface");
+            VulkanSupported                      = ADDRESSES[0],
+            GetRequiredInstanceExtensions        = ADDRESSES[1],
+            GetInstanceProcAddress               = ADDRESSES[2],
+            GetPhysicalDevicePresentationSupport = ADDRESSES[3],
+            CreateWindowSurface                  = ADDRESSES[4];
 
     }
 
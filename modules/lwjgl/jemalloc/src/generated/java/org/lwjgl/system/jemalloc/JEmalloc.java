@@ -79,27 +79,34 @@ public class JEmalloc {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "je_malloc_message\0je_malloc\0je_calloc\0je_posix_memalign\0je_aligned_alloc\0je_realloc\0je_free\0je_mallocx\0je_rallocx\0je_xallocx\0je_sallocx\0je_dallocx\0" +
+            "je_sdallocx\0je_nallocx\0je_mallctl\0je_mallctlnametomib\0je_mallctlbymib\0je_malloc_stats_print\0je_malloc_usable_size\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(JEMALLOC, FUNCTIONS);
+
         /** Function address. */
         public static final long
-            malloc_message     = apiGetFunctionAddress(JEMALLOC, "je_malloc_message"),
-            malloc             = apiGetFunctionAddress(JEMALLOC, "je_malloc"),
-            calloc             = apiGetFunctionAddress(JEMALLOC, "je_calloc"),
-            posix_memalign     = apiGetFunctionAddress(JEMALLOC, "je_posix_memalign"),
-            aligned_alloc      = apiGetFunctionAddress(JEMALLOC, "je_aligned_alloc"),
-            realloc            = apiGetFunctionAddress(JEMALLOC, "je_realloc"),
-            free               = apiGetFunctionAddress(JEMALLOC, "je_free"),
-            mallocx            = apiGetFunctionAddress(JEMALLOC, "je_mallocx"),
-            rallocx            = apiGetFunctionAddress(JEMALLOC, "je_rallocx"),
-            xallocx            = apiGetFunctionAddress(JEMALLOC, "je_xallocx"),
-            sallocx            = apiGetFunctionAddress(JEMALLOC, "je_sallocx"),
-            dallocx            = apiGetFunctionAddress(JEMALLOC, "je_dallocx"),
-            sdallocx           = apiGetFunctionAddress(JEMALLOC, "je_sdallocx"),
-            nallocx            = apiGetFunctionAddress(JEMALLOC, "je_nallocx"),
-            mallctl            = apiGetFunctionAddress(JEMALLOC, "je_mallctl"),
-            mallctlnametomib   = apiGetFunctionAddress(JEMALLOC, "je_mallctlnametomib"),
-            mallctlbymib       = apiGetFunctionAddress(JEMALLOC, "je_mallctlbymib"),
-            malloc_stats_print = apiGetFunctionAddress(JEMALLOC, "je_malloc_stats_print"),
-            malloc_usable_size = apiGetFunctionAddress(JEMALLOC, "je_malloc_usable_size");
+            malloc_message     = ADDRESSES[0],
+            malloc             = ADDRESSES[1],
+            calloc             = ADDRESSES[2],
+            posix_memalign     = ADDRESSES[3],
+            aligned_alloc      = ADDRESSES[4],
+            realloc            = ADDRESSES[5],
+            free               = ADDRESSES[6],
+            mallocx            = ADDRESSES[7],
+            rallocx            = ADDRESSES[8],
+            xallocx            = ADDRESSES[9],
+            sallocx            = ADDRESSES[10],
+            dallocx            = ADDRESSES[11],
+            sdallocx           = ADDRESSES[12],
+            nallocx            = ADDRESSES[13],
+            mallctl            = ADDRESSES[14],
+            mallctlnametomib   = ADDRESSES[15],
+            mallctlbymib       = ADDRESSES[16],
+            malloc_stats_print = ADDRESSES[17],
+            malloc_usable_size = ADDRESSES[18];
 
     }
 
@@ -28,20 +28,29 @@ public class ClangBuildSystem {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "clang_getBuildSessionTimestamp\0clang_VirtualFileOverlay_create\0clang_VirtualFileOverlay_addFileMapping\0clang_VirtualFileOverlay_setCaseSensitivity\0" +
+            "clang_VirtualFileOverlay_writeToBuffer\0clang_free\0clang_VirtualFileOverlay_dispose\0clang_ModuleMapDescriptor_create\0" +
+            "clang_ModuleMapDescriptor_setFrameworkModuleName\0clang_ModuleMapDescriptor_setUmbrellaHeader\0clang_ModuleMapDescriptor_writeToBuffer\0" +
+            "clang_ModuleMapDescriptor_dispose\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(ClangIndex.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            getBuildSessionTimestamp                   = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_getBuildSessionTimestamp"),
-            VirtualFileOverlay_create                  = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_VirtualFileOverlay_create"),
-            VirtualFileOverlay_addFileMapping          = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_VirtualFileOverlay_addFileMapping"),
-            VirtualFileOverlay_setCaseSensitivity      = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_VirtualFileOverlay_setCaseSensitivity"),
-            VirtualFileOverlay_writeToBuffer           = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_VirtualFileOverlay_writeToBuffer"),
-            free                                       = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_free"),
-            VirtualFileOverlay_dispose                 = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_VirtualFileOverlay_dispose"),
-            ModuleMapDescriptor_create                 = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_ModuleMapDescriptor_create"),
-            ModuleMapDescriptor_setFrameworkModuleName = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_ModuleMapDescriptor_setFrameworkModuleName"),
-            ModuleMapDescriptor_setUmbrellaHeader      = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_ModuleMapDescriptor_setUmbrellaHeader"),
-            ModuleMapDescriptor_writeToBuffer          = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_ModuleMapDescriptor_writeToBuffer"),
-            ModuleMapDescriptor_dispose                = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_ModuleMapDescriptor_dispose");
+            getBuildSessionTimestamp                   = ADDRESSES[0],
+            VirtualFileOverlay_create                  = ADDRESSES[1],
+            VirtualFileOverlay_addFileMapping          = ADDRESSES[2],
+            VirtualFileOverlay_setCaseSensitivity      = ADDRESSES[3],
+            VirtualFileOverlay_writeToBuffer           = ADDRESSES[4],
+            free                                       = ADDRESSES[5],
+            VirtualFileOverlay_dispose                 = ADDRESSES[6],
+            ModuleMapDescriptor_create                 = ADDRESSES[7],
+            ModuleMapDescriptor_setFrameworkModuleName = ADDRESSES[8],
+            ModuleMapDescriptor_setUmbrellaHeader      = ADDRESSES[9],
+            ModuleMapDescriptor_writeToBuffer          = ADDRESSES[10],
+            ModuleMapDescriptor_dispose                = ADDRESSES[11];
 
     }
 
@@ -44,22 +44,31 @@ public class ClangCompilationDatabase {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "clang_CompilationDatabase_fromDirectory\0clang_CompilationDatabase_dispose\0clang_CompilationDatabase_getCompileCommands\0" +
+            "clang_CompilationDatabase_getAllCompileCommands\0clang_CompileCommands_dispose\0clang_CompileCommands_getSize\0clang_CompileCommands_getCommand\0" +
+            "clang_CompileCommand_getDirectory\0clang_CompileCommand_getFilename\0clang_CompileCommand_getNumArgs\0clang_CompileCommand_getArg\0" +
+            "clang_CompileCommand_getNumMappedSources\0clang_CompileCommand_getMappedSourcePath\0clang_CompileCommand_getMappedSourceContent\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(ClangIndex.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            CompilationDatabase_fromDirectory         = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_CompilationDatabase_fromDirectory"),
-            CompilationDatabase_dispose               = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_CompilationDatabase_dispose"),
-            CompilationDatabase_getCompileCommands    = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_CompilationDatabase_getCompileCommands"),
-            CompilationDatabase_getAllCompileCommands = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_CompilationDatabase_getAllCompileCommands"),
-            CompileCommands_dispose                   = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_CompileCommands_dispose"),
-            CompileCommands_getSize                   = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_CompileCommands_getSize"),
-            CompileCommands_getCommand                = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_CompileCommands_getCommand"),
-            CompileCommand_getDirectory               = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_CompileCommand_getDirectory"),
-            CompileCommand_getFilename                = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_CompileCommand_getFilename"),
-            CompileCommand_getNumArgs                 = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_CompileCommand_getNumArgs"),
-            CompileCommand_getArg                     = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_CompileCommand_getArg"),
-            CompileCommand_getNumMappedSources        = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_CompileCommand_getNumMappedSources"),
-            CompileCommand_getMappedSourcePath        = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_CompileCommand_getMappedSourcePath"),
-            CompileCommand_getMappedSourceContent     = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_CompileCommand_getMappedSourceContent");
+            CompilationDatabase_fromDirectory         = ADDRESSES[0],
+            CompilationDatabase_dispose               = ADDRESSES[1],
+            CompilationDatabase_getCompileCommands    = ADDRESSES[2],
+            CompilationDatabase_getAllCompileCommands = ADDRESSES[3],
+            CompileCommands_dispose                   = ADDRESSES[4],
+            CompileCommands_getSize                   = ADDRESSES[5],
+            CompileCommands_getCommand                = ADDRESSES[6],
+            CompileCommand_getDirectory               = ADDRESSES[7],
+            CompileCommand_getFilename                = ADDRESSES[8],
+            CompileCommand_getNumArgs                 = ADDRESSES[9],
+            CompileCommand_getArg                     = ADDRESSES[10],
+            CompileCommand_getNumMappedSources        = ADDRESSES[11],
+            CompileCommand_getMappedSourcePath        = ADDRESSES[12],
+            CompileCommand_getMappedSourceContent     = ADDRESSES[13];
 
     }
 
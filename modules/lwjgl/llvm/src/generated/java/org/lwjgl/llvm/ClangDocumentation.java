@@ -143,42 +143,56 @@ public class ClangDocumentation {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "clang_Cursor_getParsedComment\0clang_Comment_getKind\0clang_Comment_getNumChildren\0clang_Comment_getChild\0clang_Comment_isWhitespace\0" +
+            "clang_InlineContentComment_hasTrailingNewline\0clang_TextComment_getText\0clang_InlineCommandComment_getCommandName\0clang_InlineCommandComment_getRenderKind\0" +
+            "clang_InlineCommandComment_getNumArgs\0clang_InlineCommandComment_getArgText\0clang_HTMLTagComment_getTagName\0clang_HTMLStartTagComment_isSelfClosing\0" +
+            "clang_HTMLStartTag_getNumAttrs\0clang_HTMLStartTag_getAttrName\0clang_HTMLStartTag_getAttrValue\0clang_BlockCommandComment_getCommandName\0" +
+            "clang_BlockCommandComment_getNumArgs\0clang_BlockCommandComment_getArgText\0clang_BlockCommandComment_getParagraph\0clang_ParamCommandComment_getParamName\0" +
+            "clang_ParamCommandComment_isParamIndexValid\0clang_ParamCommandComment_getParamIndex\0clang_ParamCommandComment_isDirectionExplicit\0" +
+            "clang_ParamCommandComment_getDirection\0clang_TParamCommandComment_getParamName\0clang_TParamCommandComment_isParamPositionValid\0" +
+            "clang_TParamCommandComment_getDepth\0clang_TParamCommandComment_getIndex\0clang_VerbatimBlockLineComment_getText\0clang_VerbatimLineComment_getText\0" +
+            "clang_HTMLTagComment_getAsString\0clang_FullComment_getAsHTML\0clang_FullComment_getAsXML\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(ClangIndex.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            Cursor_getParsedComment                   = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_Cursor_getParsedComment"),
-            Comment_getKind                           = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_Comment_getKind"),
-            Comment_getNumChildren                    = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_Comment_getNumChildren"),
-            Comment_getChild                          = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_Comment_getChild"),
-            Comment_isWhitespace                      = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_Comment_isWhitespace"),
-            InlineContentComment_hasTrailingNewline   = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_InlineContentComment_hasTrailingNewline"),
-            TextComment_getText                       = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_TextComment_getText"),
-            InlineCommandComment_getCommandName       = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_InlineCommandComment_getCommandName"),
-            InlineCommandComment_getRenderKind        = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_InlineCommandComment_getRenderKind"),
-            InlineCommandComment_getNumArgs           = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_InlineCommandComment_getNumArgs"),
-            InlineCommandComment_getArgText           = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_InlineCommandComment_getArgText"),
-            HTMLTagComment_getTagName                 = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_HTMLTagComment_getTagName"),
-            HTMLStartTagComment_isSelfClosing         = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_HTMLStartTagComment_isSelfClosing"),
-            HTMLStartTag_getNumAttrs                  = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_HTMLStartTag_getNumAttrs"),
-            HTMLStartTag_getAttrName                  = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_HTMLStartTag_getAttrName"),
-            HTMLStartTag_getAttrValue                 = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_HTMLStartTag_getAttrValue"),
-            BlockCommandComment_getCommandName        = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_BlockCommandComment_getCommandName"),
-            BlockCommandComment_getNumArgs            = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_BlockCommandComment_getNumArgs"),
-            BlockCommandComment_getArgText            = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_BlockCommandComment_getArgText"),
-            BlockCommandComment_getParagraph          = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_BlockCommandComment_getParagraph"),
-            ParamCommandComment_getParamName          = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_ParamCommandComment_getParamName"),
-            ParamCommandComment_isParamIndexValid     = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_ParamCommandComment_isParamIndexValid"),
-            ParamCommandComment_getParamIndex         = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_ParamCommandComment_getParamIndex"),
-            ParamCommandComment_isDirectionExplicit   = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_ParamCommandComment_isDirectionExplicit"),
-            ParamCommandComment_getDirection          = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_ParamCommandComment_getDirection"),
-            TParamCommandComment_getParamName         = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_TParamCommandComment_getParamName"),
-            TParamCommandComment_isParamPositionValid = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_TParamCommandComment_isParamPositionValid"),
-            TParamCommandComment_getDepth             = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_TParamCommandComment_getDepth"),
-            TParamCommandComment_getIndex             = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_TParamCommandComment_getIndex"),
-            VerbatimBlockLineComment_getText          = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_VerbatimBlockLineComment_getText"),
-            VerbatimLineComment_getText               = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_VerbatimLineComment_getText"),
-            HTMLTagComment_getAsString                = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_HTMLTagComment_getAsString"),
-            FullComment_getAsHTML                     = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_FullComment_getAsHTML"),
-            FullComment_getAsXML                      = apiGetFunctionAddress(ClangIndex.getLibrary(), "clang_FullComment_getAsXML");
+            Cursor_getParsedComment                   = ADDRESSES[0],
+            Comment_getKind                           = ADDRESSES[1],
+            Comment_getNumChildren                    = ADDRESSES[2],
+            Comment_getChild                          = ADDRESSES[3],
+            Comment_isWhitespace                      = ADDRESSES[4],
+            InlineContentComment_hasTrailingNewline   = ADDRESSES[5],
+            TextComment_getText                       = ADDRESSES[6],
+            InlineCommandComment_getCommandName       = ADDRESSES[7],
+            InlineCommandComment_getRenderKind        = ADDRESSES[8],
+            InlineCommandComment_getNumArgs           = ADDRESSES[9],
+            InlineCommandComment_getArgText           = ADDRESSES[10],
+            HTMLTagComment_getTagName                 = ADDRESSES[11],
+            HTMLStartTagComment_isSelfClosing         = ADDRESSES[12],
+            HTMLStartTag_getNumAttrs                  = ADDRESSES[13],
+            HTMLStartTag_getAttrName                  = ADDRESSES[14],
+            HTMLStartTag_getAttrValue                 = ADDRESSES[15],
+            BlockCommandComment_getCommandName        = ADDRESSES[16],
+            BlockCommandComment_getNumArgs            = ADDRESSES[17],
+            BlockCommandComment_getArgText            = ADDRESSES[18],
+            BlockCommandComment_getParagraph          = ADDRESSES[19],
+            ParamCommandComment_getParamName          = ADDRESSES[20],
+            ParamCommandComment_isParamIndexValid     = ADDRESSES[21],
+            ParamCommandComment_getParamIndex         = ADDRESSES[22],
+            ParamCommandComment_isDirectionExplicit   = ADDRESSES[23],
+            ParamCommandComment_getDirection          = ADDRESSES[24],
+            TParamCommandComment_getParamName         = ADDRESSES[25],
+            TParamCommandComment_isParamPositionValid = ADDRESSES[26],
+            TParamCommandComment_getDepth             = ADDRESSES[27],
+            TParamCommandComment_getIndex             = ADDRESSES[28],
+            VerbatimBlockLineComment_getText          = ADDRESSES[29],
+            VerbatimLineComment_getText               = ADDRESSES[30],
+            HTMLTagComment_getAsString                = ADDRESSES[31],
+            FullComment_getAsHTML                     = ADDRESSES[32],
+            FullComment_getAsXML                      = ADDRESSES[33];
 
     }
 
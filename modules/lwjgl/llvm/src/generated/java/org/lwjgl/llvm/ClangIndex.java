@@ -2318,323 +2318,383 @@ public class ClangIndex {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "clang_getCString\0clang_disposeString\0clang_disposeStringSet\0clang_createIndex\0clang_disposeIndex\0clang_CXIndex_setGlobalOptions\0" +
+            "clang_CXIndex_getGlobalOptions\0clang_getFileName\0clang_getFileTime\0clang_getFileUniqueID\0clang_isFileMultipleIncludeGuarded\0clang_getFile\0" +
+            "clang_File_isEqual\0clang_getNullLocation\0clang_equalLocations\0clang_getLocation\0clang_getLocationForOffset\0clang_Location_isInSystemHeader\0" +
+            "clang_Location_isFromMainFile\0clang_getNullRange\0clang_getRange\0clang_equalRanges\0clang_Range_isNull\0clang_getExpansionLocation\0clang_getPresumedLocation\0" +
+            "clang_getSpellingLocation\0clang_getFileLocation\0clang_getRangeStart\0clang_getRangeEnd\0clang_getSkippedRanges\0clang_getAllSkippedRanges\0" +
+            "clang_disposeSourceRangeList\0clang_getNumDiagnosticsInSet\0clang_getDiagnosticInSet\0clang_loadDiagnostics\0clang_disposeDiagnosticSet\0" +
+            "clang_getChildDiagnostics\0clang_getNumDiagnostics\0clang_getDiagnostic\0clang_getDiagnosticSetFromTU\0clang_disposeDiagnostic\0clang_formatDiagnostic\0" +
+            "clang_defaultDiagnosticDisplayOptions\0clang_getDiagnosticSeverity\0clang_getDiagnosticLocation\0clang_getDiagnosticSpelling\0clang_getDiagnosticOption\0" +
+            "clang_getDiagnosticCategory\0clang_getDiagnosticCategoryText\0clang_getDiagnosticNumRanges\0clang_getDiagnosticRange\0clang_getDiagnosticNumFixIts\0" +
+            "clang_getDiagnosticFixIt\0clang_getTranslationUnitSpelling\0clang_createTranslationUnitFromSourceFile\0clang_createTranslationUnit\0clang_createTranslationUnit2\0" +
+            "clang_defaultEditingTranslationUnitOptions\0clang_parseTranslationUnit\0clang_parseTranslationUnit2\0clang_parseTranslationUnit2FullArgv\0" +
+            "clang_defaultSaveOptions\0clang_saveTranslationUnit\0clang_suspendTranslationUnit\0clang_disposeTranslationUnit\0clang_defaultReparseOptions\0" +
+            "clang_reparseTranslationUnit\0clang_getTUResourceUsageName\0clang_getCXTUResourceUsage\0clang_disposeCXTUResourceUsage\0clang_getTranslationUnitTargetInfo\0" +
+            "clang_TargetInfo_dispose\0clang_TargetInfo_getTriple\0clang_TargetInfo_getPointerWidth\0clang_getNullCursor\0clang_getTranslationUnitCursor\0clang_equalCursors\0" +
+            "clang_Cursor_isNull\0clang_hashCursor\0clang_getCursorKind\0clang_isDeclaration\0clang_isReference\0clang_isExpression\0clang_isStatement\0clang_isAttribute\0" +
+            "clang_Cursor_hasAttrs\0clang_isInvalid\0clang_isTranslationUnit\0clang_isPreprocessing\0clang_isUnexposed\0clang_getCursorLinkage\0clang_getCursorVisibility\0" +
+            "clang_getCursorAvailability\0clang_getCursorPlatformAvailability\0clang_disposeCXPlatformAvailability\0clang_getCursorLanguage\0clang_Cursor_getTranslationUnit\0" +
+            "clang_createCXCursorSet\0clang_disposeCXCursorSet\0clang_CXCursorSet_contains\0clang_CXCursorSet_insert\0clang_getCursorSemanticParent\0" +
+            "clang_getCursorLexicalParent\0clang_getOverriddenCursors\0clang_disposeOverriddenCursors\0clang_getIncludedFile\0clang_getCursor\0clang_getCursorLocation\0" +
+            "clang_getCursorExtent\0clang_getCursorType\0clang_getTypeSpelling\0clang_getTypedefDeclUnderlyingType\0clang_getEnumDeclIntegerType\0" +
+            "clang_getEnumConstantDeclValue\0clang_getEnumConstantDeclUnsignedValue\0clang_getFieldDeclBitWidth\0clang_Cursor_getNumArguments\0clang_Cursor_getArgument\0" +
+            "clang_Cursor_getNumTemplateArguments\0clang_Cursor_getTemplateArgumentKind\0clang_Cursor_getTemplateArgumentType\0clang_Cursor_getTemplateArgumentValue\0" +
+            "clang_Cursor_getTemplateArgumentUnsignedValue\0clang_equalTypes\0clang_getCanonicalType\0clang_isConstQualifiedType\0clang_Cursor_isMacroFunctionLike\0" +
+            "clang_Cursor_isMacroBuiltin\0clang_Cursor_isFunctionInlined\0clang_isVolatileQualifiedType\0clang_isRestrictQualifiedType\0clang_getAddressSpace\0" +
+            "clang_getTypedefName\0clang_getPointeeType\0clang_getTypeDeclaration\0clang_getDeclObjCTypeEncoding\0clang_Type_getObjCEncoding\0clang_getTypeKindSpelling\0" +
+            "clang_getFunctionTypeCallingConv\0clang_getResultType\0clang_getExceptionSpecificationType\0clang_getNumArgTypes\0clang_getArgType\0clang_isFunctionTypeVariadic\0" +
+            "clang_getCursorResultType\0clang_getCursorExceptionSpecificationType\0clang_isPODType\0clang_getElementType\0clang_getNumElements\0clang_getArrayElementType\0" +
+            "clang_getArraySize\0clang_Type_getNamedType\0clang_Type_isTransparentTagTypedef\0clang_Type_getAlignOf\0clang_Type_getClassType\0clang_Type_getSizeOf\0" +
+            "clang_Type_getOffsetOf\0clang_Cursor_getOffsetOfField\0clang_Cursor_isAnonymous\0clang_Type_getNumTemplateArguments\0clang_Type_getTemplateArgumentAsType\0" +
+            "clang_Type_getCXXRefQualifier\0clang_Cursor_isBitField\0clang_isVirtualBase\0clang_getCXXAccessSpecifier\0clang_Cursor_getStorageClass\0" +
+            "clang_getNumOverloadedDecls\0clang_getOverloadedDecl\0clang_getIBOutletCollectionType\0clang_visitChildren\0clang_getCursorUSR\0clang_constructUSR_ObjCClass\0" +
+            "clang_constructUSR_ObjCCategory\0clang_constructUSR_ObjCProtocol\0clang_constructUSR_ObjCIvar\0clang_constructUSR_ObjCMethod\0clang_constructUSR_ObjCProperty\0" +
+            "clang_getCursorSpelling\0clang_Cursor_getSpellingNameRange\0clang_getCursorDisplayName\0clang_getCursorReferenced\0clang_getCursorDefinition\0" +
+            "clang_isCursorDefinition\0clang_getCanonicalCursor\0clang_Cursor_getObjCSelectorIndex\0clang_Cursor_isDynamicCall\0clang_Cursor_getReceiverType\0" +
+            "clang_Cursor_getObjCPropertyAttributes\0clang_Cursor_getObjCDeclQualifiers\0clang_Cursor_isObjCOptional\0clang_Cursor_isVariadic\0clang_Cursor_isExternalSymbol\0" +
+            "clang_Cursor_getCommentRange\0clang_Cursor_getRawCommentText\0clang_Cursor_getBriefCommentText\0clang_Cursor_getMangling\0clang_Cursor_getCXXManglings\0" +
+            "clang_Cursor_getModule\0clang_getModuleForFile\0clang_Module_getASTFile\0clang_Module_getParent\0clang_Module_getName\0clang_Module_getFullName\0" +
+            "clang_Module_isSystem\0clang_Module_getNumTopLevelHeaders\0clang_Module_getTopLevelHeader\0clang_CXXConstructor_isConvertingConstructor\0" +
+            "clang_CXXConstructor_isCopyConstructor\0clang_CXXConstructor_isDefaultConstructor\0clang_CXXConstructor_isMoveConstructor\0clang_CXXField_isMutable\0" +
+            "clang_CXXMethod_isDefaulted\0clang_CXXMethod_isPureVirtual\0clang_CXXMethod_isStatic\0clang_CXXMethod_isVirtual\0clang_EnumDecl_isScoped\0" +
+            "clang_CXXMethod_isConst\0clang_getTemplateCursorKind\0clang_getSpecializedCursorTemplate\0clang_getCursorReferenceNameRange\0clang_getTokenKind\0" +
+            "clang_getTokenSpelling\0clang_getTokenLocation\0clang_getTokenExtent\0clang_tokenize\0clang_annotateTokens\0clang_disposeTokens\0clang_getCursorKindSpelling\0" +
+            "clang_getDefinitionSpellingAndExtent\0clang_enableStackTraces\0clang_executeOnThread\0clang_getCompletionChunkKind\0clang_getCompletionChunkText\0" +
+            "clang_getCompletionChunkCompletionString\0clang_getNumCompletionChunks\0clang_getCompletionPriority\0clang_getCompletionAvailability\0" +
+            "clang_getCompletionNumAnnotations\0clang_getCompletionAnnotation\0clang_getCompletionParent\0clang_getCompletionBriefComment\0clang_getCursorCompletionString\0" +
+            "clang_defaultCodeCompleteOptions\0clang_codeCompleteAt\0clang_sortCodeCompletionResults\0clang_disposeCodeCompleteResults\0clang_codeCompleteGetNumDiagnostics\0" +
+            "clang_codeCompleteGetDiagnostic\0clang_codeCompleteGetContexts\0clang_codeCompleteGetContainerKind\0clang_codeCompleteGetContainerUSR\0" +
+            "clang_codeCompleteGetObjCSelector\0clang_getClangVersion\0clang_toggleCrashRecovery\0clang_getInclusions\0clang_Cursor_Evaluate\0clang_EvalResult_getKind\0" +
+            "clang_EvalResult_getAsInt\0clang_EvalResult_getAsLongLong\0clang_EvalResult_isUnsignedInt\0clang_EvalResult_getAsUnsigned\0clang_EvalResult_getAsDouble\0" +
+            "clang_EvalResult_getAsStr\0clang_EvalResult_dispose\0clang_getRemappings\0clang_getRemappingsFromFileList\0clang_remap_getNumFiles\0clang_remap_getFilenames\0" +
+            "clang_remap_dispose\0clang_findReferencesInFile\0clang_findIncludesInFile\0clang_index_isEntityObjCContainerKind\0clang_index_getObjCContainerDeclInfo\0" +
+            "clang_index_getObjCInterfaceDeclInfo\0clang_index_getObjCCategoryDeclInfo\0clang_index_getObjCProtocolRefListInfo\0clang_index_getObjCPropertyDeclInfo\0" +
+            "clang_index_getIBOutletCollectionAttrInfo\0clang_index_getCXXClassDeclInfo\0clang_index_getClientContainer\0clang_index_setClientContainer\0" +
+            "clang_index_getClientEntity\0clang_index_setClientEntity\0clang_IndexAction_create\0clang_IndexAction_dispose\0clang_indexSourceFile\0" +
+            "clang_indexSourceFileFullArgv\0clang_indexTranslationUnit\0clang_indexLoc_getFileLocation\0clang_indexLoc_getCXSourceLocation\0clang_Type_visitFields\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(CLANG, FUNCTIONS);
+
         /** Function address. */
         public static final long
-            getCString                              = apiGetFunctionAddress(CLANG, "clang_getCString"),
-            disposeString                           = apiGetFunctionAddress(CLANG, "clang_disposeString"),
-            disposeStringSet                        = apiGetFunctionAddress(CLANG, "clang_disposeStringSet"),
-            createIndex                             = apiGetFunctionAddress(CLANG, "clang_createIndex"),
-            disposeIndex                            = apiGetFunctionAddress(CLANG, "clang_disposeIndex"),
-            CXIndex_setGlobalOptions                = apiGetFunctionAddress(CLANG, "clang_CXIndex_setGlobalOptions"),
-            CXIndex_getGlobalOptions                = apiGetFunctionAddress(CLANG, "clang_CXIndex_getGlobalOptions"),
+            getCString                              = ADDRESSES[0],
+            disposeString                           = ADDRESSES[1],
+            disposeStringSet                        = ADDRESSES[2],
+            createIndex                             = ADDRESSES[3],
+            disposeIndex                            = ADDRESSES[4],
+            CXIndex_setGlobalOptions                = ADDRESSES[5],
+            CXIndex_getGlobalOptions                = ADDRESSES[6],
             CXIndex_setInvocationEmissionPathOption = CLANG.getFunctionAddress("clang_CXIndex_setInvocationEmissionPathOption"),
-            getFileName                             = apiGetFunctionAddress(CLANG, "clang_getFileName"),
-            getFileTime                             = apiGetFunctionAddress(CLANG, "clang_getFileTime"),
-            getFileUniqueID                         = apiGetFunctionAddress(CLANG, "clang_getFileUniqueID"),
-            isFileMultipleIncludeGuarded            = apiGetFunctionAddress(CLANG, "clang_isFileMultipleIncludeGuarded"),
-            getFile                                 = apiGetFunctionAddress(CLANG, "clang_getFile"),
+            getFileName                             = ADDRESSES[7],
+            getFileTime                             = ADDRESSES[8],
+            getFileUniqueID                         = ADDRESSES[9],
+            isFileMultipleIncludeGuarded            = ADDRESSES[10],
+            getFile                                 = ADDRESSES[11],
             getFileContents                         = CLANG.getFunctionAddress("clang_getFileContents"),
-            File_isEqual                            = apiGetFunctionAddress(CLANG, "clang_File_isEqual"),
+            File_isEqual                            = ADDRESSES[12],
             File_tryGetRealPathName                 = CLANG.getFunctionAddress("clang_File_tryGetRealPathName"),
-            getNullLocation                         = apiGetFunctionAddress(CLANG, "clang_getNullLocation"),
-            equalLocations                          = apiGetFunctionAddress(CLANG, "clang_equalLocations"),
-            getLocation                             = apiGetFunctionAddress(CLANG, "clang_getLocation"),
-            getLocationForOffset                    = apiGetFunctionAddress(CLANG, "clang_getLocationForOffset"),
-            Location_isInSystemHeader               = apiGetFunctionAddress(CLANG, "clang_Location_isInSystemHeader"),
-            Location_isFromMainFile                 = apiGetFunctionAddress(CLANG, "clang_Location_isFromMainFile"),
-            getNullRange                            = apiGetFunctionAddress(CLANG, "clang_getNullRange"),
-            getRange                                = apiGetFunctionAddress(CLANG, "clang_getRange"),
-            equalRanges                             = apiGetFunctionAddress(CLANG, "clang_equalRanges"),
-            Range_isNull                            = apiGetFunctionAddress(CLANG, "clang_Range_isNull"),
-            getExpansionLocation                    = apiGetFunctionAddress(CLANG, "clang_getExpansionLocation"),
-            getPresumedLocation                     = apiGetFunctionAddress(CLANG, "clang_getPresumedLocation"),
-            getSpellingLocation                     = apiGetFunctionAddress(CLANG, "clang_getSpellingLocation"),
-            getFileLocation                         = apiGetFunctionAddress(CLANG, "clang_getFileLocation"),
-            getRangeStart                           = apiGetFunctionAddress(CLANG, "clang_getRangeStart"),
-            getRangeEnd                             = apiGetFunctionAddress(CLANG, "clang_getRangeEnd"),
-            getSkippedRanges                        = apiGetFunctionAddress(CLANG, "clang_getSkippedRanges"),
-            getAllSkippedRanges                     = apiGetFunctionAddress(CLANG, "clang_getAllSkippedRanges"),
-            disposeSourceRangeList                  = apiGetFunctionAddress(CLANG, "clang_disposeSourceRangeList"),
-            getNumDiagnosticsInSet                  = apiGetFunctionAddress(CLANG, "clang_getNumDiagnosticsInSet"),
-            getDiagnosticInSet                      = apiGetFunctionAddress(CLANG, "clang_getDiagnosticInSet"),
-            loadDiagnostics                         = apiGetFunctionAddress(CLANG, "clang_loadDiagnostics"),
-            disposeDiagnosticSet                    = apiGetFunctionAddress(CLANG, "clang_disposeDiagnosticSet"),
-            getChildDiagnostics                     = apiGetFunctionAddress(CLANG, "clang_getChildDiagnostics"),
-            getNumDiagnostics                       = apiGetFunctionAddress(CLANG, "clang_getNumDiagnostics"),
-            getDiagnostic                           = apiGetFunctionAddress(CLANG, "clang_getDiagnostic"),
-            getDiagnosticSetFromTU                  = apiGetFunctionAddress(CLANG, "clang_getDiagnosticSetFromTU"),
-            disposeDiagnostic                       = apiGetFunctionAddress(CLANG, "clang_disposeDiagnostic"),
-            formatDiagnostic                        = apiGetFunctionAddress(CLANG, "clang_formatDiagnostic"),
-            defaultDiagnosticDisplayOptions         = apiGetFunctionAddress(CLANG, "clang_defaultDiagnosticDisplayOptions"),
-            getDiagnosticSeverity                   = apiGetFunctionAddress(CLANG, "clang_getDiagnosticSeverity"),
-            getDiagnosticLocation                   = apiGetFunctionAddress(CLANG, "clang_getDiagnosticLocation"),
-            getDiagnosticSpelling                   = apiGetFunctionAddress(CLANG, "clang_getDiagnosticSpelling"),
-            getDiagnosticOption                     = apiGetFunctionAddress(CLANG, "clang_getDiagnosticOption"),
-            getDiagnosticCategory                   = apiGetFunctionAddress(CLANG, "clang_getDiagnosticCategory"),
-            getDiagnosticCategoryText               = apiGetFunctionAddress(CLANG, "clang_getDiagnosticCategoryText"),
-            getDiagnosticNumRanges                  = apiGetFunctionAddress(CLANG, "clang_getDiagnosticNumRanges"),
-            getDiagnosticRange                      = apiGetFunctionAddress(CLANG, "clang_getDiagnosticRange"),
-            getDiagnosticNumFixIts                  = apiGetFunctionAddress(CLANG, "clang_getDiagnosticNumFixIts"),
-            getDiagnosticFixIt                      = apiGetFunctionAddress(CLANG, "clang_getDiagnosticFixIt"),
-            getTranslationUnitSpelling              = apiGetFunctionAddress(CLANG, "clang_getTranslationUnitSpelling"),
-            createTranslationUnitFromSourceFile     = apiGetFunctionAddress(CLANG, "clang_createTranslationUnitFromSourceFile"),
-            createTranslationUnit                   = apiGetFunctionAddress(CLANG, "clang_createTranslationUnit"),
-            createTranslationUnit2                  = apiGetFunctionAddress(CLANG, "clang_createTranslationUnit2"),
-            defaultEditingTranslationUnitOptions    = apiGetFunctionAddress(CLANG, "clang_defaultEditingTranslationUnitOptions"),
-            parseTranslationUnit                    = apiGetFunctionAddress(CLANG, "clang_parseTranslationUnit"),
-            parseTranslationUnit2                   = apiGetFunctionAddress(CLANG, "clang_parseTranslationUnit2"),
-            parseTranslationUnit2FullArgv           = apiGetFunctionAddress(CLANG, "clang_parseTranslationUnit2FullArgv"),
-            defaultSaveOptions                      = apiGetFunctionAddress(CLANG, "clang_defaultSaveOptions"),
-            saveTranslationUnit                     = apiGetFunctionAddress(CLANG, "clang_saveTranslationUnit"),
-            suspendTranslationUnit                  = apiGetFunctionAddress(CLANG, "clang_suspendTranslationUnit"),
-            disposeTranslationUnit                  = apiGetFunctionAddress(CLANG, "clang_disposeTranslationUnit"),
-            defaultReparseOptions                   = apiGetFunctionAddress(CLANG, "clang_defaultReparseOptions"),
-            reparseTranslationUnit                  = apiGetFunctionAddress(CLANG, "clang_reparseTranslationUnit"),
-            getTUResourceUsageName                  = apiGetFunctionAddress(CLANG, "clang_getTUResourceUsageName"),
-            getCXTUResourceUsage                    = apiGetFunctionAddress(CLANG, "clang_getCXTUResourceUsage"),
-            disposeCXTUResourceUsage                = apiGetFunctionAddress(CLANG, "clang_disposeCXTUResourceUsage"),
-            getTranslationUnitTargetInfo            = apiGetFunctionAddress(CLANG, "clang_getTranslationUnitTargetInfo"),
-            TargetInfo_dispose                      = apiGetFunctionAddress(CLANG, "clang_TargetInfo_dispose"),
-            TargetInfo_getTriple                    = apiGetFunctionAddress(CLANG, "clang_TargetInfo_getTriple"),
-            TargetInfo_getPointerWidth              = apiGetFunctionAddress(CLANG, "clang_TargetInfo_getPointerWidth"),
-            getNullCursor                           = apiGetFunctionAddress(CLANG, "clang_getNullCursor"),
-            getTranslationUnitCursor                = apiGetFunctionAddress(CLANG, "clang_getTranslationUnitCursor"),
-            equalCursors                            = apiGetFunctionAddress(CLANG, "clang_equalCursors"),
-            Cursor_isNull                           = apiGetFunctionAddress(CLANG, "clang_Cursor_isNull"),
-            hashCursor                              = apiGetFunctionAddress(CLANG, "clang_hashCursor"),
-            getCursorKind                           = apiGetFunctionAddress(CLANG, "clang_getCursorKind"),
-            isDeclaration                           = apiGetFunctionAddress(CLANG, "clang_isDeclaration"),
+            getNullLocation                         = ADDRESSES[13],
+            equalLocations                          = ADDRESSES[14],
+            getLocation                             = ADDRESSES[15],
+            getLocationForOffset                    = ADDRESSES[16],
+            Location_isInSystemHeader               = ADDRESSES[17],
+            Location_isFromMainFile                 = ADDRESSES[18],
+            getNullRange                            = ADDRESSES[19],
+            getRange                                = ADDRESSES[20],
+            equalRanges                             = ADDRESSES[21],
+            Range_isNull                            = ADDRESSES[22],
+            getExpansionLocation                    = ADDRESSES[23],
+            getPresumedLocation                     = ADDRESSES[24],
+            getSpellingLocation                     = ADDRESSES[25],
+            getFileLocation                         = ADDRESSES[26],
+            getRangeStart                           = ADDRESSES[27],
+            getRangeEnd                             = ADDRESSES[28],
+            getSkippedRanges                        = ADDRESSES[29],
+            getAllSkippedRanges                     = ADDRESSES[30],
+            disposeSourceRangeList                  = ADDRESSES[31],
+            getNumDiagnosticsInSet                  = ADDRESSES[32],
+            getDiagnosticInSet                      = ADDRESSES[33],
+            loadDiagnostics                         = ADDRESSES[34],
+            disposeDiagnosticSet                    = ADDRESSES[35],
+            getChildDiagnostics                     = ADDRESSES[36],
+            getNumDiagnostics                       = ADDRESSES[37],
+            getDiagnostic                           = ADDRESSES[38],
+            getDiagnosticSetFromTU                  = ADDRESSES[39],
+            disposeDiagnostic                       = ADDRESSES[40],
+            formatDiagnostic                        = ADDRESSES[41],
+            defaultDiagnosticDisplayOptions         = ADDRESSES[42],
+            getDiagnosticSeverity                   = ADDRESSES[43],
+            getDiagnosticLocation                   = ADDRESSES[44],
+            getDiagnosticSpelling                   = ADDRESSES[45],
+            getDiagnosticOption                     = ADDRESSES[46],
+            getDiagnosticCategory                   = ADDRESSES[47],
+            getDiagnosticCategoryText               = ADDRESSES[48],
+            getDiagnosticNumRanges                  = ADDRESSES[49],
+            getDiagnosticRange                      = ADDRESSES[50],
+            getDiagnosticNumFixIts                  = ADDRESSES[51],
+            getDiagnosticFixIt                      = ADDRESSES[52],
+            getTranslationUnitSpelling              = ADDRESSES[53],
+            createTranslationUnitFromSourceFile     = ADDRESSES[54],
+            createTranslationUnit                   = ADDRESSES[55],
+            createTranslationUnit2                  = ADDRESSES[56],
+            defaultEditingTranslationUnitOptions    = ADDRESSES[57],
+            parseTranslationUnit                    = ADDRESSES[58],
+            parseTranslationUnit2                   = ADDRESSES[59],
+            parseTranslationUnit2FullArgv           = ADDRESSES[60],
+            defaultSaveOptions                      = ADDRESSES[61],
+            saveTranslationUnit                     = ADDRESSES[62],
+            suspendTranslationUnit                  = ADDRESSES[63],
+            disposeTranslationUnit                  = ADDRESSES[64],
+            defaultReparseOptions                   = ADDRESSES[65],
+            reparseTranslationUnit                  = ADDRESSES[66],
+            getTUResourceUsageName                  = ADDRESSES[67],
+            getCXTUResourceUsage                    = ADDRESSES[68],
+            disposeCXTUResourceUsage                = ADDRESSES[69],
+            getTranslationUnitTargetInfo            = ADDRESSES[70],
+            TargetInfo_dispose                      = ADDRESSES[71],
+            TargetInfo_getTriple                    = ADDRESSES[72],
+            TargetInfo_getPointerWidth              = ADDRESSES[73],
+            getNullCursor                           = ADDRESSES[74],
+            getTranslationUnitCursor                = ADDRESSES[75],
+            equalCursors                            = ADDRESSES[76],
+            Cursor_isNull                           = ADDRESSES[77],
+            hashCursor                              = ADDRESSES[78],
+            getCursorKind                           = ADDRESSES[79],
+            isDeclaration                           = ADDRESSES[80],
             isInvalidDeclaration                    = CLANG.getFunctionAddress("clang_isInvalidDeclaration"),
-            isReference                             = apiGetFunctionAddress(CLANG, "clang_isReference"),
-            isExpression                            = apiGetFunctionAddress(CLANG, "clang_isExpression"),
-            isStatement                             = apiGetFunctionAddress(CLANG, "clang_isStatement"),
-            isAttribute                             = apiGetFunctionAddress(CLANG, "clang_isAttribute"),
-            Cursor_hasAttrs                         = apiGetFunctionAddress(CLANG, "clang_Cursor_hasAttrs"),
-            isInvalid                               = apiGetFunctionAddress(CLANG, "clang_isInvalid"),
-            isTranslationUnit                       = apiGetFunctionAddress(CLANG, "clang_isTranslationUnit"),
-            isPreprocessing                         = apiGetFunctionAddress(CLANG, "clang_isPreprocessing"),
-            isUnexposed                             = apiGetFunctionAddress(CLANG, "clang_isUnexposed"),
-            getCursorLinkage                        = apiGetFunctionAddress(CLANG, "clang_getCursorLinkage"),
-            getCursorVisibility                     = apiGetFunctionAddress(CLANG, "clang_getCursorVisibility"),
-            getCursorAvailability                   = apiGetFunctionAddress(CLANG, "clang_getCursorAvailability"),
-            getCursorPlatformAvailability           = apiGetFunctionAddress(CLANG, "clang_getCursorPlatformAvailability"),
-            disposeCXPlatformAvailability           = apiGetFunctionAddress(CLANG, "clang_disposeCXPlatformAvailability"),
-            getCursorLanguage                       = apiGetFunctionAddress(CLANG, "clang_getCursorLanguage"),
+            isReference                             = ADDRESSES[81],
+            isExpression                            = ADDRESSES[82],
+            isStatement                             = ADDRESSES[83],
+            isAttribute                             = ADDRESSES[84],
+            Cursor_hasAttrs                         = ADDRESSES[85],
+            isInvalid                               = ADDRESSES[86],
+            isTranslationUnit                       = ADDRESSES[87],
+            isPreprocessing                         = ADDRESSES[88],
+            isUnexposed                             = ADDRESSES[89],
+            getCursorLinkage                        = ADDRESSES[90],
+            getCursorVisibility                     = ADDRESSES[91],
+            getCursorAvailability                   = ADDRESSES[92],
+            getCursorPlatformAvailability           = ADDRESSES[93],
+            disposeCXPlatformAvailability           = ADDRESSES[94],
+            getCursorLanguage                       = ADDRESSES[95],
             getCursorTLSKind                        = CLANG.getFunctionAddress("clang_getCursorTLSKind"),
-            Cursor_getTranslationUnit               = apiGetFunctionAddress(CLANG, "clang_Cursor_getTranslationUnit"),
-            createCXCursorSet                       = apiGetFunctionAddress(CLANG, "clang_createCXCursorSet"),
-            disposeCXCursorSet                      = apiGetFunctionAddress(CLANG, "clang_disposeCXCursorSet"),
-            CXCursorSet_contains                    = apiGetFunctionAddress(CLANG, "clang_CXCursorSet_contains"),
-            CXCursorSet_insert                      = apiGetFunctionAddress(CLANG, "clang_CXCursorSet_insert"),
-            getCursorSemanticParent                 = apiGetFunctionAddress(CLANG, "clang_getCursorSemanticParent"),
-            getCursorLexicalParent                  = apiGetFunctionAddress(CLANG, "clang_getCursorLexicalParent"),
-            getOverriddenCursors                    = apiGetFunctionAddress(CLANG, "clang_getOverriddenCursors"),
-            disposeOverriddenCursors                = apiGetFunctionAddress(CLANG, "clang_disposeOverriddenCursors"),
-            getIncludedFile                         = apiGetFunctionAddress(CLANG, "clang_getIncludedFile"),
-            getCursor                               = apiGetFunctionAddress(CLANG, "clang_getCursor"),
-            getCursorLocation                       = apiGetFunctionAddress(CLANG, "clang_getCursorLocation"),
-            getCursorExtent                         = apiGetFunctionAddress(CLANG, "clang_getCursorExtent"),
-            getCursorType                           = apiGetFunctionAddress(CLANG, "clang_getCursorType"),
-            getTypeSpelling                         = apiGetFunctionAddress(CLANG, "clang_getTypeSpelling"),
-            getTypedefDeclUnderlyingType            = apiGetFunctionAddress(CLANG, "clang_getTypedefDeclUnderlyingType"),
-            getEnumDeclIntegerType                  = apiGetFunctionAddress(CLANG, "clang_getEnumDeclIntegerType"),
-            getEnumConstantDeclValue                = apiGetFunctionAddress(CLANG, "clang_getEnumConstantDeclValue"),
-            getEnumConstantDeclUnsignedValue        = apiGetFunctionAddress(CLANG, "clang_getEnumConstantDeclUnsignedValue"),
-            getFieldDeclBitWidth                    = apiGetFunctionAddress(CLANG, "clang_getFieldDeclBitWidth"),
-            Cursor_getNumArguments                  = apiGetFunctionAddress(CLANG, "clang_Cursor_getNumArguments"),
-            Cursor_getArgument                      = apiGetFunctionAddress(CLANG, "clang_Cursor_getArgument"),
-            Cursor_getNumTemplateArguments          = apiGetFunctionAddress(CLANG, "clang_Cursor_getNumTemplateArguments"),
-            Cursor_getTemplateArgumentKind          = apiGetFunctionAddress(CLANG, "clang_Cursor_getTemplateArgumentKind"),
-            Cursor_getTemplateArgumentType          = apiGetFunctionAddress(CLANG, "clang_Cursor_getTemplateArgumentType"),
-            Cursor_getTemplateArgumentValue         = apiGetFunctionAddress(CLANG, "clang_Cursor_getTemplateArgumentValue"),
-            Cursor_getTemplateArgumentUnsignedValue = apiGetFunctionAddress(CLANG, "clang_Cursor_getTemplateArgumentUnsignedValue"),
-            equalTypes                              = apiGetFunctionAddress(CLANG, "clang_equalTypes"),
-            getCanonicalType                        = apiGetFunctionAddress(CLANG, "clang_getCanonicalType"),
-            isConstQualifiedType                    = apiGetFunctionAddress(CLANG, "clang_isConstQualifiedType"),
-            Cursor_isMacroFunctionLike              = apiGetFunctionAddress(CLANG, "clang_Cursor_isMacroFunctionLike"),
-            Cursor_isMacroBuiltin                   = apiGetFunctionAddress(CLANG, "clang_Cursor_isMacroBuiltin"),
-            Cursor_isFunctionInlined                = apiGetFunctionAddress(CLANG, "clang_Cursor_isFunctionInlined"),
-            isVolatileQualifiedType                 = apiGetFunctionAddress(CLANG, "clang_isVolatileQualifiedType"),
-            isRestrictQualifiedType                 = apiGetFunctionAddress(CLANG, "clang_isRestrictQualifiedType"),
-            getAddressSpace                         = apiGetFunctionAddress(CLANG, "clang_getAddressSpace"),
-            getTypedefName                          = apiGetFunctionAddress(CLANG, "clang_getTypedefName"),
-            getPointeeType                          = apiGetFunctionAddress(CLANG, "clang_getPointeeType"),
-            getTypeDeclaration                      = apiGetFunctionAddress(CLANG, "clang_getTypeDeclaration"),
-            getDeclObjCTypeEncoding                 = apiGetFunctionAddress(CLANG, "clang_getDeclObjCTypeEncoding"),
-            Type_getObjCEncoding                    = apiGetFunctionAddress(CLANG, "clang_Type_getObjCEncoding"),
-            getTypeKindSpelling                     = apiGetFunctionAddress(CLANG, "clang_getTypeKindSpelling"),
-            getFunctionTypeCallingConv              = apiGetFunctionAddress(CLANG, "clang_getFunctionTypeCallingConv"),
-            getResultType                           = apiGetFunctionAddress(CLANG, "clang_getResultType"),
-            getExceptionSpecificationType           = apiGetFunctionAddress(CLANG, "clang_getExceptionSpecificationType"),
-            getNumArgTypes                          = apiGetFunctionAddress(CLANG, "clang_getNumArgTypes"),
-            getArgType                              = apiGetFunctionAddress(CLANG, "clang_getArgType"),
+            Cursor_getTranslationUnit               = ADDRESSES[96],
+            createCXCursorSet                       = ADDRESSES[97],
+            disposeCXCursorSet                      = ADDRESSES[98],
+            CXCursorSet_contains                    = ADDRESSES[99],
+            CXCursorSet_insert                      = ADDRESSES[100],
+            getCursorSemanticParent                 = ADDRESSES[101],
+            getCursorLexicalParent                  = ADDRESSES[102],
+            getOverriddenCursors                    = ADDRESSES[103],
+            disposeOverriddenCursors                = ADDRESSES[104],
+            getIncludedFile                         = ADDRESSES[105],
+            getCursor                               = ADDRESSES[106],
+            getCursorLocation                       = ADDRESSES[107],
+            getCursorExtent                         = ADDRESSES[108],
+            getCursorType                           = ADDRESSES[109],
+            getTypeSpelling                         = ADDRESSES[110],
+            getTypedefDeclUnderlyingType            = ADDRESSES[111],
+            getEnumDeclIntegerType                  = ADDRESSES[112],
+            getEnumConstantDeclValue                = ADDRESSES[113],
+            getEnumConstantDeclUnsignedValue        = ADDRESSES[114],
+            getFieldDeclBitWidth                    = ADDRESSES[115],
+            Cursor_getNumArguments                  = ADDRESSES[116],
+            Cursor_getArgument                      = ADDRESSES[117],
+            Cursor_getNumTemplateArguments          = ADDRESSES[118],
+            Cursor_getTemplateArgumentKind          = ADDRESSES[119],
+            Cursor_getTemplateArgumentType          = ADDRESSES[120],
+            Cursor_getTemplateArgumentValue         = ADDRESSES[121],
+            Cursor_getTemplateArgumentUnsignedValue = ADDRESSES[122],
+            equalTypes                              = ADDRESSES[123],
+            getCanonicalType                        = ADDRESSES[124],
+            isConstQualifiedType                    = ADDRESSES[125],
+            Cursor_isMacroFunctionLike              = ADDRESSES[126],
+            Cursor_isMacroBuiltin                   = ADDRESSES[127],
+            Cursor_isFunctionInlined                = ADDRESSES[128],
+            isVolatileQualifiedType                 = ADDRESSES[129],
+            isRestrictQualifiedType                 = ADDRESSES[130],
+            getAddressSpace                         = ADDRESSES[131],
+            getTypedefName                          = ADDRESSES[132],
+            getPointeeType                          = ADDRESSES[133],
+            getTypeDeclaration                      = ADDRESSES[134],
+            getDeclObjCTypeEncoding                 = ADDRESSES[135],
+            Type_getObjCEncoding                    = ADDRESSES[136],
+            getTypeKindSpelling                     = ADDRESSES[137],
+            getFunctionTypeCallingConv              = ADDRESSES[138],
+            getResultType                           = ADDRESSES[139],
+            getExceptionSpecificationType           = ADDRESSES[140],
+            getNumArgTypes                          = ADDRESSES[141],
+            getArgType                              = ADDRESSES[142],
             Type_getObjCObjectBaseType              = CLANG.getFunctionAddress("clang_Type_getObjCObjectBaseType"),
             Type_getNumObjCProtocolRefs             = CLANG.getFunctionAddress("clang_Type_getNumObjCProtocolRefs"),
             Type_getObjCProtocolDecl                = CLANG.getFunctionAddress("clang_Type_getObjCProtocolDecl"),
             Type_getNumObjCTypeArgs                 = CLANG.getFunctionAddress("clang_Type_getNumObjCTypeArgs"),
             Type_getObjCTypeArg                     = CLANG.getFunctionAddress("clang_Type_getObjCTypeArg"),
-            isFunctionTypeVariadic                  = apiGetFunctionAddress(CLANG, "clang_isFunctionTypeVariadic"),
-            getCursorResultType                     = apiGetFunctionAddress(CLANG, "clang_getCursorResultType"),
-            getCursorExceptionSpecificationType     = apiGetFunctionAddress(CLANG, "clang_getCursorExceptionSpecificationType"),
-            isPODType                               = apiGetFunctionAddress(CLANG, "clang_isPODType"),
-            getElementType                          = apiGetFunctionAddress(CLANG, "clang_getElementType"),
-            getNumElements                          = apiGetFunctionAddress(CLANG, "clang_getNumElements"),
-            getArrayElementType                     = apiGetFunctionAddress(CLANG, "clang_getArrayElementType"),
-            getArraySize                            = apiGetFunctionAddress(CLANG, "clang_getArraySize"),
-            Type_getNamedType                       = apiGetFunctionAddress(CLANG, "clang_Type_getNamedType"),
-            Type_isTransparentTagTypedef            = apiGetFunctionAddress(CLANG, "clang_Type_isTransparentTagTypedef"),
+            isFunctionTypeVariadic                  = ADDRESSES[143],
+            getCursorResultType                     = ADDRESSES[144],
+            getCursorExceptionSpecificationType     = ADDRESSES[145],
+            isPODType                               = ADDRESSES[146],
+            getElementType                          = ADDRESSES[147],
+            getNumElements                          = ADDRESSES[148],
+            getArrayElementType                     = ADDRESSES[149],
+            getArraySize                            = ADDRESSES[150],
+            Type_getNamedType                       = ADDRESSES[151],
+            Type_isTransparentTagTypedef            = ADDRESSES[152],
             Type_getNullability                     = CLANG.getFunctionAddress("clang_Type_getNullability"),
-            Type_getAlignOf                         = apiGetFunctionAddress(CLANG, "clang_Type_getAlignOf"),
-            Type_getClassType                       = apiGetFunctionAddress(CLANG, "clang_Type_getClassType"),
-            Type_getSizeOf                          = apiGetFunctionAddress(CLANG, "clang_Type_getSizeOf"),
-            Type_getOffsetOf                        = apiGetFunctionAddress(CLANG, "clang_Type_getOffsetOf"),
+            Type_getAlignOf                         = ADDRESSES[153],
+            Type_getClassType                       = ADDRESSES[154],
+            Type_getSizeOf                          = ADDRESSES[155],
+            Type_getOffsetOf                        = ADDRESSES[156],
             Type_getModifiedType                    = CLANG.getFunctionAddress("clang_Type_getModifiedType"),
-            Cursor_getOffsetOfField                 = apiGetFunctionAddress(CLANG, "clang_Cursor_getOffsetOfField"),
-            Cursor_isAnonymous                      = apiGetFunctionAddress(CLANG, "clang_Cursor_isAnonymous"),
-            Type_getNumTemplateArguments            = apiGetFunctionAddress(CLANG, "clang_Type_getNumTemplateArguments"),
-            Type_getTemplateArgumentAsType          = apiGetFunctionAddress(CLANG, "clang_Type_getTemplateArgumentAsType"),
-            Type_getCXXRefQualifier                 = apiGetFunctionAddress(CLANG, "clang_Type_getCXXRefQualifier"),
-            Cursor_isBitField                       = apiGetFunctionAddress(CLANG, "clang_Cursor_isBitField"),
-            isVirtualBase                           = apiGetFunctionAddress(CLANG, "clang_isVirtualBase"),
-            getCXXAccessSpecifier                   = apiGetFunctionAddress(CLANG, "clang_getCXXAccessSpecifier"),
-            Cursor_getStorageClass                  = apiGetFunctionAddress(CLANG, "clang_Cursor_getStorageClass"),
-            getNumOverloadedDecls                   = apiGetFunctionAddress(CLANG, "clang_getNumOverloadedDecls"),
-            getOverloadedDecl                       = apiGetFunctionAddress(CLANG, "clang_getOverloadedDecl"),
-            getIBOutletCollectionType               = apiGetFunctionAddress(CLANG, "clang_getIBOutletCollectionType"),
-            visitChildren                           = apiGetFunctionAddress(CLANG, "clang_visitChildren"),
-            getCursorUSR                            = apiGetFunctionAddress(CLANG, "clang_getCursorUSR"),
-            constructUSR_ObjCClass                  = apiGetFunctionAddress(CLANG, "clang_constructUSR_ObjCClass"),
-            constructUSR_ObjCCategory               = apiGetFunctionAddress(CLANG, "clang_constructUSR_ObjCCategory"),
-            constructUSR_ObjCProtocol               = apiGetFunctionAddress(CLANG, "clang_constructUSR_ObjCProtocol"),
-            constructUSR_ObjCIvar                   = apiGetFunctionAddress(CLANG, "clang_constructUSR_ObjCIvar"),
-            constructUSR_ObjCMethod                 = apiGetFunctionAddress(CLANG, "clang_constructUSR_ObjCMethod"),
-            constructUSR_ObjCProperty               = apiGetFunctionAddress(CLANG, "clang_constructUSR_ObjCProperty"),
-            getCursorSpelling                       = apiGetFunctionAddress(CLANG, "clang_getCursorSpelling"),
-            Cursor_getSpellingNameRange             = apiGetFunctionAddress(CLANG, "clang_Cursor_getSpellingNameRange"),
+            Cursor_getOffsetOfField                 = ADDRESSES[157],
+            Cursor_isAnonymous                      = ADDRESSES[158],
+            Type_getNumTemplateArguments            = ADDRESSES[159],
+            Type_getTemplateArgumentAsType          = ADDRESSES[160],
+            Type_getCXXRefQualifier                 = ADDRESSES[161],
+            Cursor_isBitField                       = ADDRESSES[162],
+            isVirtualBase                           = ADDRESSES[163],
+            getCXXAccessSpecifier                   = ADDRESSES[164],
+            Cursor_getStorageClass                  = ADDRESSES[165],
+            getNumOverloadedDecls                   = ADDRESSES[166],
+            getOverloadedDecl                       = ADDRESSES[167],
+            getIBOutletCollectionType               = ADDRESSES[168],
+            visitChildren                           = ADDRESSES[169],
+            getCursorUSR                            = ADDRESSES[170],
+            constructUSR_ObjCClass                  = ADDRESSES[171],
+            constructUSR_ObjCCategory               = ADDRESSES[172],
+            constructUSR_ObjCProtocol               = ADDRESSES[173],
+            constructUSR_ObjCIvar                   = ADDRESSES[174],
+            constructUSR_ObjCMethod                 = ADDRESSES[175],
+            constructUSR_ObjCProperty               = ADDRESSES[176],
+            getCursorSpelling                       = ADDRESSES[177],
+            Cursor_getSpellingNameRange             = ADDRESSES[178],
             PrintingPolicy_getProperty              = CLANG.getFunctionAddress("clang_PrintingPolicy_getProperty"),
             PrintingPolicy_setProperty              = CLANG.getFunctionAddress("clang_PrintingPolicy_setProperty"),
             getCursorPrintingPolicy                 = CLANG.getFunctionAddress("clang_getCursorPrintingPolicy"),
             PrintingPolicy_dispose                  = CLANG.getFunctionAddress("clang_PrintingPolicy_dispose"),
             getCursorPrettyPrinted                  = CLANG.getFunctionAddress("clang_getCursorPrettyPrinted"),
-            getCursorDisplayName                    = apiGetFunctionAddress(CLANG, "clang_getCursorDisplayName"),
-            getCursorReferenced                     = apiGetFunctionAddress(CLANG, "clang_getCursorReferenced"),
-            getCursorDefinition                     = apiGetFunctionAddress(CLANG, "clang_getCursorDefinition"),
-            isCursorDefinition                      = apiGetFunctionAddress(CLANG, "clang_isCursorDefinition"),
-            getCanonicalCursor                      = apiGetFunctionAddress(CLANG, "clang_getCanonicalCursor"),
-            Cursor_getObjCSelectorIndex             = apiGetFunctionAddress(CLANG, "clang_Cursor_getObjCSelectorIndex"),
-            Cursor_isDynamicCall                    = apiGetFunctionAddress(CLANG, "clang_Cursor_isDynamicCall"),
-            Cursor_getReceiverType                  = apiGetFunctionAddress(CLANG, "clang_Cursor_getReceiverType"),
-            Cursor_getObjCPropertyAttributes        = apiGetFunctionAddress(CLANG, "clang_Cursor_getObjCPropertyAttributes"),
+            getCursorDisplayName                    = ADDRESSES[179],
+            getCursorReferenced                     = ADDRESSES[180],
+            getCursorDefinition                     = ADDRESSES[181],
+            isCursorDefinition                      = ADDRESSES[182],
+            getCanonicalCursor                      = ADDRESSES[183],
+            Cursor_getObjCSelectorIndex             = ADDRESSES[184],
+            Cursor_isDynamicCall                    = ADDRESSES[185],
+            Cursor_getReceiverType                  = ADDRESSES[186],
+            Cursor_getObjCPropertyAttributes        = ADDRESSES[187],
             Cursor_getObjCPropertyGetterName        = CLANG.getFunctionAddress("clang_Cursor_getObjCPropertyGetterName"),
             Cursor_getObjCPropertySetterName        = CLANG.getFunctionAddress("clang_Cursor_getObjCPropertySetterName"),
-            Cursor_getObjCDeclQualifiers            = apiGetFunctionAddress(CLANG, "clang_Cursor_getObjCDeclQualifiers"),
-            Cursor_isObjCOptional                   = apiGetFunctionAddress(CLANG, "clang_Cursor_isObjCOptional"),
-            Cursor_isVariadic                       = apiGetFunctionAddress(CLANG, "clang_Cursor_isVariadic"),
-            Cursor_isExternalSymbol                 = apiGetFunctionAddress(CLANG, "clang_Cursor_isExternalSymbol"),
-            Cursor_getCommentRange                  = apiGetFunctionAddress(CLANG, "clang_Cursor_getCommentRange"),
-            Cursor_getRawCommentText                = apiGetFunctionAddress(CLANG, "clang_Cursor_getRawCommentText"),
-            Cursor_getBriefCommentText              = apiGetFunctionAddress(CLANG, "clang_Cursor_getBriefCommentText"),
-            Cursor_getMangling                      = apiGetFunctionAddress(CLANG, "clang_Cursor_getMangling"),
-            Cursor_getCXXManglings                  = apiGetFunctionAddress(CLANG, "clang_Cursor_getCXXManglings"),
+            Cursor_getObjCDeclQualifiers            = ADDRESSES[188],
+            Cursor_isObjCOptional                   = ADDRESSES[189],
+            Cursor_isVariadic                       = ADDRESSES[190],
+            Cursor_isExternalSymbol                 = ADDRESSES[191],
+            Cursor_getCommentRange                  = ADDRESSES[192],
+            Cursor_getRawCommentText                = ADDRESSES[193],
+            Cursor_getBriefCommentText              = ADDRESSES[194],
+            Cursor_getMangling                      = ADDRESSES[195],
+            Cursor_getCXXManglings                  = ADDRESSES[196],
             Cursor_getObjCManglings                 = CLANG.getFunctionAddress("clang_Cursor_getObjCManglings"),
-            Cursor_getModule                        = apiGetFunctionAddress(CLANG, "clang_Cursor_getModule"),
-            getModuleForFile                        = apiGetFunctionAddress(CLANG, "clang_getModuleForFile"),
-            Module_getASTFile                       = apiGetFunctionAddress(CLANG, "clang_Module_getASTFile"),
-            Module_getParent                        = apiGetFunctionAddress(CLANG, "clang_Module_getParent"),
-            Module_getName                          = apiGetFunctionAddress(CLANG, "clang_Module_getName"),
-            Module_getFullName                      = apiGetFunctionAddress(CLANG, "clang_Module_getFullName"),
-            Module_isSystem                         = apiGetFunctionAddress(CLANG, "clang_Module_isSystem"),
-            Module_getNumTopLevelHeaders            = apiGetFunctionAddress(CLANG, "clang_Module_getNumTopLevelHeaders"),
-            Module_getTopLevelHeader                = apiGetFunctionAddress(CLANG, "clang_Module_getTopLevelHeader"),
-            CXXConstructor_isConvertingConstructor  = apiGetFunctionAddress(CLANG, "clang_CXXConstructor_isConvertingConstructor"),
-            CXXConstructor_isCopyConstructor        = apiGetFunctionAddress(CLANG, "clang_CXXConstructor_isCopyConstructor"),
-            CXXConstructor_isDefaultConstructor     = apiGetFunctionAddress(CLANG, "clang_CXXConstructor_isDefaultConstructor"),
-            CXXConstructor_isMoveConstructor        = apiGetFunctionAddress(CLANG, "clang_CXXConstructor_isMoveConstructor"),
-            CXXField_isMutable                      = apiGetFunctionAddress(CLANG, "clang_CXXField_isMutable"),
-            CXXMethod_isDefaulted                   = apiGetFunctionAddress(CLANG, "clang_CXXMethod_isDefaulted"),
-            CXXMethod_isPureVirtual                 = apiGetFunctionAddress(CLANG, "clang_CXXMethod_isPureVirtual"),
-            CXXMethod_isStatic                      = apiGetFunctionAddress(CLANG, "clang_CXXMethod_isStatic"),
-            CXXMethod_isVirtual                     = apiGetFunctionAddress(CLANG, "clang_CXXMethod_isVirtual"),
+            Cursor_getModule                        = ADDRESSES[197],
+            getModuleForFile                        = ADDRESSES[198],
+            Module_getASTFile                       = ADDRESSES[199],
+            Module_getParent                        = ADDRESSES[200],
+            Module_getName                          = ADDRESSES[201],
+            Module_getFullName                      = ADDRESSES[202],
+            Module_isSystem                         = ADDRESSES[203],
+            Module_getNumTopLevelHeaders            = ADDRESSES[204],
+            Module_getTopLevelHeader                = ADDRESSES[205],
+            CXXConstructor_isConvertingConstructor  = ADDRESSES[206],
+            CXXConstructor_isCopyConstructor        = ADDRESSES[207],
+            CXXConstructor_isDefaultConstructor     = ADDRESSES[208],
+            CXXConstructor_isMoveConstructor        = ADDRESSES[209],
+            CXXField_isMutable                      = ADDRESSES[210],
+            CXXMethod_isDefaulted                   = ADDRESSES[211],
+            CXXMethod_isPureVirtual                 = ADDRESSES[212],
+            CXXMethod_isStatic                      = ADDRESSES[213],
+            CXXMethod_isVirtual                     = ADDRESSES[214],
             CXXRecord_isAbstract                    = CLANG.getFunctionAddress("clang_CXXRecord_isAbstract"),
-            EnumDecl_isScoped                       = apiGetFunctionAddress(CLANG, "clang_EnumDecl_isScoped"),
-            CXXMethod_isConst                       = apiGetFunctionAddress(CLANG, "clang_CXXMethod_isConst"),
-            getTemplateCursorKind                   = apiGetFunctionAddress(CLANG, "clang_getTemplateCursorKind"),
-            getSpecializedCursorTemplate            = apiGetFunctionAddress(CLANG, "clang_getSpecializedCursorTemplate"),
-            getCursorReferenceNameRange             = apiGetFunctionAddress(CLANG, "clang_getCursorReferenceNameRange"),
+            EnumDecl_isScoped                       = ADDRESSES[215],
+            CXXMethod_isConst                       = ADDRESSES[216],
+            getTemplateCursorKind                   = ADDRESSES[217],
+            getSpecializedCursorTemplate            = ADDRESSES[218],
+            getCursorReferenceNameRange             = ADDRESSES[219],
             getToken                                = CLANG.getFunctionAddress("clang_getToken"),
-            getTokenKind                            = apiGetFunctionAddress(CLANG, "clang_getTokenKind"),
-            getTokenSpelling                        = apiGetFunctionAddress(CLANG, "clang_getTokenSpelling"),
-            getTokenLocation                        = apiGetFunctionAddress(CLANG, "clang_getTokenLocation"),
-            getTokenExtent                          = apiGetFunctionAddress(CLANG, "clang_getTokenExtent"),
-            tokenize                                = apiGetFunctionAddress(CLANG, "clang_tokenize"),
-            annotateTokens                          = apiGetFunctionAddress(CLANG, "clang_annotateTokens"),
-            disposeTokens                           = apiGetFunctionAddress(CLANG, "clang_disposeTokens"),
-            getCursorKindSpelling                   = apiGetFunctionAddress(CLANG, "clang_getCursorKindSpelling"),
-            getDefinitionSpellingAndExtent          = apiGetFunctionAddress(CLANG, "clang_getDefinitionSpellingAndExtent"),
-            enableStackTraces                       = apiGetFunctionAddress(CLANG, "clang_enableStackTraces"),
-            executeOnThread                         = apiGetFunctionAddress(CLANG, "clang_executeOnThread"),
-            getCompletionChunkKind                  = apiGetFunctionAddress(CLANG, "clang_getCompletionChunkKind"),
-            getCompletionChunkText                  = apiGetFunctionAddress(CLANG, "clang_getCompletionChunkText"),
-            getCompletionChunkCompletionString      = apiGetFunctionAddress(CLANG, "clang_getCompletionChunkCompletionString"),
-            getNumCompletionChunks                  = apiGetFunctionAddress(CLANG, "clang_getNumCompletionChunks"),
-            getCompletionPriority                   = apiGetFunctionAddress(CLANG, "clang_getCompletionPriority"),
-            getCompletionAvailability               = apiGetFunctionAddress(CLANG, "clang_getCompletionAvailability"),
-            getCompletionNumAnnotations             = apiGetFunctionAddress(CLANG, "clang_getCompletionNumAnnotations"),
-            getCompletionAnnotation                 = apiGetFunctionAddress(CLANG, "clang_getCompletionAnnotation"),
-            getCompletionParent                     = apiGetFunctionAddress(CLANG, "clang_getCompletionParent"),
-            getCompletionBriefComment               = apiGetFunctionAddress(CLANG, "clang_getCompletionBriefComment"),
-            getCursorCompletionString               = apiGetFunctionAddress(CLANG, "clang_getCursorCompletionString"),
+            getTokenKind                            = ADDRESSES[220],
+            getTokenSpelling                        = ADDRESSES[221],
+            getTokenLocation                        = ADDRESSES[222],
+            getTokenExtent                          = ADDRESSES[223],
+            tokenize                                = ADDRESSES[224],
+            annotateTokens                          = ADDRESSES[225],
+            disposeTokens                           = ADDRESSES[226],
+            getCursorKindSpelling                   = ADDRESSES[227],
+            getDefinitionSpellingAndExtent          = ADDRESSES[228],
+            enableStackTraces                       = ADDRESSES[229],
+            executeOnThread                         = ADDRESSES[230],
+            getCompletionChunkKind                  = ADDRESSES[231],
+            getCompletionChunkText                  = ADDRESSES[232],
+            getCompletionChunkCompletionString      = ADDRESSES[233],
+            getNumCompletionChunks                  = ADDRESSES[234],
+            getCompletionPriority                   = ADDRESSES[235],
+            getCompletionAvailability               = ADDRESSES[236],
+            getCompletionNumAnnotations             = ADDRESSES[237],
+            getCompletionAnnotation                 = ADDRESSES[238],
+            getCompletionParent                     = ADDRESSES[239],
+            getCompletionBriefComment               = ADDRESSES[240],
+            getCursorCompletionString               = ADDRESSES[241],
             getCompletionNumFixIts                  = CLANG.getFunctionAddress("clang_getCompletionNumFixIts"),
             getCompletionFixIt                      = CLANG.getFunctionAddress("clang_getCompletionFixIt"),
-            defaultCodeCompleteOptions              = apiGetFunctionAddress(CLANG, "clang_defaultCodeCompleteOptions"),
-            codeCompleteAt                          = apiGetFunctionAddress(CLANG, "clang_codeCompleteAt"),
-            sortCodeCompletionResults               = apiGetFunctionAddress(CLANG, "clang_sortCodeCompletionResults"),
-            disposeCodeCompleteResults              = apiGetFunctionAddress(CLANG, "clang_disposeCodeCompleteResults"),
-            codeCompleteGetNumDiagnostics           = apiGetFunctionAddress(CLANG, "clang_codeCompleteGetNumDiagnostics"),
-            codeCompleteGetDiagnostic               = apiGetFunctionAddress(CLANG, "clang_codeCompleteGetDiagnostic"),
-            codeCompleteGetContexts                 = apiGetFunctionAddress(CLANG, "clang_codeCompleteGetContexts"),
-            codeCompleteGetContainerKind            = apiGetFunctionAddress(CLANG, "clang_codeCompleteGetContainerKind"),
-            codeCompleteGetContainerUSR             = apiGetFunctionAddress(CLANG, "clang_codeCompleteGetContainerUSR"),
-            codeCompleteGetObjCSelector             = apiGetFunctionAddress(CLANG, "clang_codeCompleteGetObjCSelector"),
-            getClangVersion                         = apiGetFunctionAddress(CLANG, "clang_getClangVersion"),
-            toggleCrashRecovery                     = apiGetFunctionAddress(CLANG, "clang_toggleCrashRecovery"),
-            getInclusions                           = apiGetFunctionAddress(CLANG, "clang_getInclusions"),
-            Cursor_Evaluate                         = apiGetFunctionAddress(CLANG, "clang_Cursor_Evaluate"),
-            EvalResult_getKind                      = apiGetFunctionAddress(CLANG, "clang_EvalResult_getKind"),
-            EvalResult_getAsInt                     = apiGetFunctionAddress(CLANG, "clang_EvalResult_getAsInt"),
-            EvalResult_getAsLongLong                = apiGetFunctionAddress(CLANG, "clang_EvalResult_getAsLongLong"),
-            EvalResult_isUnsignedInt                = apiGetFunctionAddress(CLANG, "clang_EvalResult_isUnsignedInt"),
-            EvalResult_getAsUnsigned                = apiGetFunctionAddress(CLANG, "clang_EvalResult_getAsUnsigned"),
-            EvalResult_getAsDouble                  = apiGetFunctionAddress(CLANG, "clang_EvalResult_getAsDouble"),
-            EvalResult_getAsStr                     = apiGetFunctionAddress(CLANG, "clang_EvalResult_getAsStr"),
-            EvalResult_dispose                      = apiGetFunctionAddress(CLANG, "clang_EvalResult_dispose"),
-            getRemappings                           = apiGetFunctionAddress(CLANG, "clang_getRemappings"),
-            getRemappingsFromFileList               = apiGetFunctionAddress(CLANG, "clang_getRemappingsFromFileList"),
-            remap_getNumFiles                       = apiGetFunctionAddress(CLANG, "clang_remap_getNumFiles"),
-            remap_getFilenames                      = apiGetFunctionAddress(CLANG, "clang_remap_getFilenames"),
-            remap_dispose                           = apiGetFunctionAddress(CLANG, "clang_remap_dispose"),
-            findReferencesInFile                    = apiGetFunctionAddress(CLANG, "clang_findReferencesInFile"),
-            findIncludesInFile                      = apiGetFunctionAddress(CLANG, "clang_findIncludesInFile"),
-            index_isEntityObjCContainerKind         = apiGetFunctionAddress(CLANG, "clang_index_isEntityObjCContainerKind"),
-            index_getObjCContainerDeclInfo          = apiGetFunctionAddress(CLANG, "clang_index_getObjCContainerDeclInfo"),
-            index_getObjCInterfaceDeclInfo          = apiGetFunctionAddress(CLANG, "clang_index_getObjCInterfaceDeclInfo"),
-            index_getObjCCategoryDeclInfo           = apiGetFunctionAddress(CLANG, "clang_index_getObjCCategoryDeclInfo"),
-            index_getObjCProtocolRefListInfo        = apiGetFunctionAddress(CLANG, "clang_index_getObjCProtocolRefListInfo"),
-            index_getObjCPropertyDeclInfo           = apiGetFunctionAddress(CLANG, "clang_index_getObjCPropertyDeclInfo"),
-            index_getIBOutletCollectionAttrInfo     = apiGetFunctionAddress(CLANG, "clang_index_getIBOutletCollectionAttrInfo"),
-            index_getCXXClassDeclInfo               = apiGetFunctionAddress(CLANG, "clang_index_getCXXClassDeclInfo"),
-            index_getClientContainer                = apiGetFunctionAddress(CLANG, "clang_index_getClientContainer"),
-            index_setClientContainer                = apiGetFunctionAddress(CLANG, "clang_index_setClientContainer"),
-            index_getClientEntity                   = apiGetFunctionAddress(CLANG, "clang_index_getClientEntity"),
-            index_setClientEntity                   = apiGetFunctionAddress(CLANG, "clang_index_setClientEntity"),
-            IndexAction_create                      = apiGetFunctionAddress(CLANG, "clang_IndexAction_create"),
-            IndexAction_dispose                     = apiGetFunctionAddress(CLANG, "clang_IndexAction_dispose"),
-            indexSourceFile                         = apiGetFunctionAddress(CLANG, "clang_indexSourceFile"),
-            indexSourceFileFullArgv                 = apiGetFunctionAddress(CLANG, "clang_indexSourceFileFullArgv"),
-            indexTranslationUnit                    = apiGetFunctionAddress(CLANG, "clang_indexTranslationUnit"),
-            indexLoc_getFileLocation                = apiGetFunctionAddress(CLANG, "clang_indexLoc_getFileLocation"),
-            indexLoc_getCXSourceLocation            = apiGetFunctionAddress(CLANG, "clang_indexLoc_getCXSourceLocation"),
-            Type_visitFields                        = apiGetFunctionAddress(CLANG, "clang_Type_visitFields");
+            defaultCodeCompleteOptions              = ADDRESSES[242],
+            codeCompleteAt                          = ADDRESSES[243],
+            sortCodeCompletionResults               = ADDRESSES[244],
+            disposeCodeCompleteResults              = ADDRESSES[245],
+            codeCompleteGetNumDiagnostics           = ADDRESSES[246],
+            codeCompleteGetDiagnostic               = ADDRESSES[247],
+            codeCompleteGetContexts                 = ADDRESSES[248],
+            codeCompleteGetContainerKind            = ADDRESSES[249],
+            codeCompleteGetContainerUSR             = ADDRESSES[250],
+            codeCompleteGetObjCSelector             = ADDRESSES[251],
+            getClangVersion                         = ADDRESSES[252],
+            toggleCrashRecovery                     = ADDRESSES[253],
+            getInclusions                           = ADDRESSES[254],
+            Cursor_Evaluate                         = ADDRESSES[255],
+            EvalResult_getKind                      = ADDRESSES[256],
+            EvalResult_getAsInt                     = ADDRESSES[257],
+            EvalResult_getAsLongLong                = ADDRESSES[258],
+            EvalResult_isUnsignedInt                = ADDRESSES[259],
+            EvalResult_getAsUnsigned                = ADDRESSES[260],
+            EvalResult_getAsDouble                  = ADDRESSES[261],
+            EvalResult_getAsStr                     = ADDRESSES[262],
+            EvalResult_dispose                      = ADDRESSES[263],
+            getRemappings                           = ADDRESSES[264],
+            getRemappingsFromFileList               = ADDRESSES[265],
+            remap_getNumFiles                       = ADDRESSES[266],
+            remap_getFilenames                      = ADDRESSES[267],
+            remap_dispose                           = ADDRESSES[268],
+            findReferencesInFile                    = ADDRESSES[269],
+            findIncludesInFile                      = ADDRESSES[270],
+            index_isEntityObjCContainerKind         = ADDRESSES[271],
+            index_getObjCContainerDeclInfo          = ADDRESSES[272],
+            index_getObjCInterfaceDeclInfo          = ADDRESSES[273],
+            index_getObjCCategoryDeclInfo           = ADDRESSES[274],
+            index_getObjCProtocolRefListInfo        = ADDRESSES[275],
+            index_getObjCPropertyDeclInfo           = ADDRESSES[276],
+            index_getIBOutletCollectionAttrInfo     = ADDRESSES[277],
+            index_getCXXClassDeclInfo               = ADDRESSES[278],
+            index_getClientContainer                = ADDRESSES[279],
+            index_setClientContainer                = ADDRESSES[280],
+            index_getClientEntity                   = ADDRESSES[281],
+            index_setClientEntity                   = ADDRESSES[282],
+            IndexAction_create                      = ADDRESSES[283],
+            IndexAction_dispose                     = ADDRESSES[284],
+            indexSourceFile                         = ADDRESSES[285],
+            indexSourceFileFullArgv                 = ADDRESSES[286],
+            indexTranslationUnit                    = ADDRESSES[287],
+            indexLoc_getFileLocation                = ADDRESSES[288],
+            indexLoc_getCXSourceLocation            = ADDRESSES[289],
+            Type_visitFields                        = ADDRESSES[290];
 
     }
 
@@ -39,12 +39,18 @@ public class LLVMAnalysis {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMVerifyModule\0LLVMVerifyFunction\0LLVMViewFunctionCFG\0LLVMViewFunctionCFGOnly\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            VerifyModule        = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMVerifyModule"),
-            VerifyFunction      = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMVerifyFunction"),
-            ViewFunctionCFG     = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMViewFunctionCFG"),
-            ViewFunctionCFGOnly = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMViewFunctionCFGOnly");
+            VerifyModule        = ADDRESSES[0],
+            VerifyFunction      = ADDRESSES[1],
+            ViewFunctionCFG     = ADDRESSES[2],
+            ViewFunctionCFGOnly = ADDRESSES[3];
 
     }
 
@@ -25,16 +25,23 @@ public class LLVMBitReader {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMParseBitcode\0LLVMParseBitcode2\0LLVMParseBitcodeInContext\0LLVMParseBitcodeInContext2\0LLVMGetBitcodeModuleInContext\0LLVMGetBitcodeModuleInContext2\0" +
+            "LLVMGetBitcodeModule\0LLVMGetBitcodeModule2\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            ParseBitcode               = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMParseBitcode"),
-            ParseBitcode2              = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMParseBitcode2"),
-            ParseBitcodeInContext      = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMParseBitcodeInContext"),
-            ParseBitcodeInContext2     = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMParseBitcodeInContext2"),
-            GetBitcodeModuleInContext  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetBitcodeModuleInContext"),
-            GetBitcodeModuleInContext2 = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetBitcodeModuleInContext2"),
-            GetBitcodeModule           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetBitcodeModule"),
-            GetBitcodeModule2          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetBitcodeModule2");
+            ParseBitcode               = ADDRESSES[0],
+            ParseBitcode2              = ADDRESSES[1],
+            ParseBitcodeInContext      = ADDRESSES[2],
+            ParseBitcodeInContext2     = ADDRESSES[3],
+            GetBitcodeModuleInContext  = ADDRESSES[4],
+            GetBitcodeModuleInContext2 = ADDRESSES[5],
+            GetBitcodeModule           = ADDRESSES[6],
+            GetBitcodeModule2          = ADDRESSES[7];
 
     }
 
@@ -26,12 +26,18 @@ public class LLVMBitWriter {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMWriteBitcodeToFile\0LLVMWriteBitcodeToFD\0LLVMWriteBitcodeToFileHandle\0LLVMWriteBitcodeToMemoryBuffer\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            WriteBitcodeToFile         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMWriteBitcodeToFile"),
-            WriteBitcodeToFD           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMWriteBitcodeToFD"),
-            WriteBitcodeToFileHandle   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMWriteBitcodeToFileHandle"),
-            WriteBitcodeToMemoryBuffer = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMWriteBitcodeToMemoryBuffer");
+            WriteBitcodeToFile         = ADDRESSES[0],
+            WriteBitcodeToFD           = ADDRESSES[1],
+            WriteBitcodeToFileHandle   = ADDRESSES[2],
+            WriteBitcodeToMemoryBuffer = ADDRESSES[3];
 
     }
 
@@ -46,13 +46,19 @@ public class LLVMComdat {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMGetOrInsertComdat\0LLVMGetComdat\0LLVMSetComdat\0LLVMGetComdatSelectionKind\0LLVMSetComdatSelectionKind\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            GetOrInsertComdat      = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetOrInsertComdat"),
-            GetComdat              = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetComdat"),
-            SetComdat              = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMSetComdat"),
-            GetComdatSelectionKind = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetComdatSelectionKind"),
-            SetComdatSelectionKind = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMSetComdatSelectionKind");
+            GetOrInsertComdat      = ADDRESSES[0],
+            GetComdat              = ADDRESSES[1],
+            SetComdat              = ADDRESSES[2],
+            GetComdatSelectionKind = ADDRESSES[3],
+            SetComdatSelectionKind = ADDRESSES[4];
 
     }
 
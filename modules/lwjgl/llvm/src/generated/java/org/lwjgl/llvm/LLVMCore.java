@@ -706,48 +706,133 @@ public class LLVMCore {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMInitializeCore\0LLVMShutdown\0LLVMCreateMessage\0LLVMDisposeMessage\0LLVMContextCreate\0LLVMGetGlobalContext\0LLVMContextSetDiagnosticHandler\0" +
+            "LLVMContextGetDiagnosticHandler\0LLVMContextGetDiagnosticContext\0LLVMContextSetYieldCallback\0LLVMContextDispose\0LLVMGetDiagInfoDescription\0" +
+            "LLVMGetDiagInfoSeverity\0LLVMGetMDKindIDInContext\0LLVMGetMDKindID\0LLVMGetEnumAttributeKindForName\0LLVMGetLastEnumAttributeKind\0LLVMCreateEnumAttribute\0" +
+            "LLVMGetEnumAttributeKind\0LLVMGetEnumAttributeValue\0LLVMCreateStringAttribute\0LLVMGetStringAttributeKind\0LLVMGetStringAttributeValue\0LLVMIsEnumAttribute\0" +
+            "LLVMIsStringAttribute\0LLVMModuleCreateWithName\0LLVMModuleCreateWithNameInContext\0LLVMCloneModule\0LLVMDisposeModule\0LLVMGetModuleIdentifier\0" +
+            "LLVMSetModuleIdentifier\0LLVMGetDataLayoutStr\0LLVMGetDataLayout\0LLVMSetDataLayout\0LLVMGetTarget\0LLVMSetTarget\0LLVMDumpModule\0LLVMPrintModuleToFile\0" +
+            "LLVMPrintModuleToString\0LLVMGetModuleContext\0LLVMGetTypeByName\0LLVMGetNamedMetadataNumOperands\0LLVMGetNamedMetadataOperands\0LLVMAddNamedMetadataOperand\0" +
+            "LLVMAddFunction\0LLVMGetNamedFunction\0LLVMGetFirstFunction\0LLVMGetLastFunction\0LLVMGetNextFunction\0LLVMGetPreviousFunction\0LLVMGetTypeKind\0LLVMTypeIsSized\0" +
+            "LLVMGetTypeContext\0LLVMPrintTypeToString\0LLVMInt1TypeInContext\0LLVMInt8TypeInContext\0LLVMInt16TypeInContext\0LLVMInt32TypeInContext\0LLVMInt64TypeInContext\0" +
+            "LLVMInt128TypeInContext\0LLVMIntTypeInContext\0LLVMInt1Type\0LLVMInt8Type\0LLVMInt16Type\0LLVMInt32Type\0LLVMInt64Type\0LLVMInt128Type\0LLVMIntType\0" +
+            "LLVMGetIntTypeWidth\0LLVMHalfTypeInContext\0LLVMFloatTypeInContext\0LLVMDoubleTypeInContext\0LLVMX86FP80TypeInContext\0LLVMFP128TypeInContext\0" +
+            "LLVMPPCFP128TypeInContext\0LLVMHalfType\0LLVMFloatType\0LLVMDoubleType\0LLVMX86FP80Type\0LLVMFP128Type\0LLVMPPCFP128Type\0LLVMFunctionType\0LLVMIsFunctionVarArg\0" +
+            "LLVMGetReturnType\0LLVMCountParamTypes\0LLVMGetParamTypes\0LLVMStructTypeInContext\0LLVMStructType\0LLVMStructCreateNamed\0LLVMGetStructName\0LLVMStructSetBody\0" +
+            "LLVMCountStructElementTypes\0LLVMGetStructElementTypes\0LLVMStructGetTypeAtIndex\0LLVMIsPackedStruct\0LLVMIsOpaqueStruct\0LLVMGetElementType\0LLVMGetSubtypes\0" +
+            "LLVMGetNumContainedTypes\0LLVMArrayType\0LLVMGetArrayLength\0LLVMPointerType\0LLVMGetPointerAddressSpace\0LLVMVectorType\0LLVMGetVectorSize\0" +
+            "LLVMVoidTypeInContext\0LLVMLabelTypeInContext\0LLVMX86MMXTypeInContext\0LLVMVoidType\0LLVMLabelType\0LLVMX86MMXType\0LLVMTypeOf\0LLVMGetValueKind\0LLVMDumpValue\0" +
+            "LLVMPrintValueToString\0LLVMReplaceAllUsesWith\0LLVMIsConstant\0LLVMIsUndef\0LLVMIsAArgument\0LLVMIsABasicBlock\0LLVMIsAInlineAsm\0LLVMIsAUser\0LLVMIsAConstant\0" +
+            "LLVMIsABlockAddress\0LLVMIsAConstantAggregateZero\0LLVMIsAConstantArray\0LLVMIsAConstantDataSequential\0LLVMIsAConstantDataArray\0LLVMIsAConstantDataVector\0" +
+            "LLVMIsAConstantExpr\0LLVMIsAConstantFP\0LLVMIsAConstantInt\0LLVMIsAConstantPointerNull\0LLVMIsAConstantStruct\0LLVMIsAConstantTokenNone\0LLVMIsAConstantVector\0" +
+            "LLVMIsAGlobalValue\0LLVMIsAGlobalAlias\0LLVMIsAGlobalObject\0LLVMIsAFunction\0LLVMIsAGlobalVariable\0LLVMIsAUndefValue\0LLVMIsAInstruction\0" +
+            "LLVMIsABinaryOperator\0LLVMIsACallInst\0LLVMIsAIntrinsicInst\0LLVMIsADbgInfoIntrinsic\0LLVMIsADbgDeclareInst\0LLVMIsAMemIntrinsic\0LLVMIsAMemCpyInst\0" +
+            "LLVMIsAMemMoveInst\0LLVMIsAMemSetInst\0LLVMIsACmpInst\0LLVMIsAFCmpInst\0LLVMIsAICmpInst\0LLVMIsAExtractElementInst\0LLVMIsAGetElementPtrInst\0" +
+            "LLVMIsAInsertElementInst\0LLVMIsAInsertValueInst\0LLVMIsALandingPadInst\0LLVMIsAPHINode\0LLVMIsASelectInst\0LLVMIsAShuffleVectorInst\0LLVMIsAStoreInst\0" +
+            "LLVMIsABranchInst\0LLVMIsAIndirectBrInst\0LLVMIsAInvokeInst\0LLVMIsAReturnInst\0LLVMIsASwitchInst\0LLVMIsAUnreachableInst\0LLVMIsAResumeInst\0" +
+            "LLVMIsACleanupReturnInst\0LLVMIsACatchReturnInst\0LLVMIsAFuncletPadInst\0LLVMIsACatchPadInst\0LLVMIsACleanupPadInst\0LLVMIsAUnaryInstruction\0LLVMIsAAllocaInst\0" +
+            "LLVMIsACastInst\0LLVMIsAAddrSpaceCastInst\0LLVMIsABitCastInst\0LLVMIsAFPExtInst\0LLVMIsAFPToSIInst\0LLVMIsAFPToUIInst\0LLVMIsAFPTruncInst\0LLVMIsAIntToPtrInst\0" +
+            "LLVMIsAPtrToIntInst\0LLVMIsASExtInst\0LLVMIsASIToFPInst\0LLVMIsATruncInst\0LLVMIsAUIToFPInst\0LLVMIsAZExtInst\0LLVMIsAExtractValueInst\0LLVMIsALoadInst\0" +
+            "LLVMIsAVAArgInst\0LLVMIsAMDNode\0LLVMIsAMDString\0LLVMGetValueName\0LLVMSetValueName\0LLVMGetFirstUse\0LLVMGetNextUse\0LLVMGetUser\0LLVMGetUsedValue\0" +
+            "LLVMGetOperand\0LLVMGetOperandUse\0LLVMSetOperand\0LLVMGetNumOperands\0LLVMConstNull\0LLVMConstAllOnes\0LLVMGetUndef\0LLVMIsNull\0LLVMConstPointerNull\0" +
+            "LLVMConstInt\0LLVMConstIntOfArbitraryPrecision\0LLVMConstIntOfString\0LLVMConstIntOfStringAndSize\0LLVMConstReal\0LLVMConstRealOfString\0" +
+            "LLVMConstRealOfStringAndSize\0LLVMConstIntGetZExtValue\0LLVMConstIntGetSExtValue\0LLVMConstRealGetDouble\0LLVMConstStringInContext\0LLVMConstString\0" +
+            "LLVMIsConstantString\0LLVMGetAsString\0LLVMConstStructInContext\0LLVMConstStruct\0LLVMConstArray\0LLVMConstNamedStruct\0LLVMGetElementAsConstant\0" +
+            "LLVMConstVector\0LLVMGetConstOpcode\0LLVMAlignOf\0LLVMSizeOf\0LLVMConstNeg\0LLVMConstNSWNeg\0LLVMConstNUWNeg\0LLVMConstFNeg\0LLVMConstNot\0LLVMConstAdd\0" +
+            "LLVMConstNSWAdd\0LLVMConstNUWAdd\0LLVMConstFAdd\0LLVMConstSub\0LLVMConstNSWSub\0LLVMConstNUWSub\0LLVMConstFSub\0LLVMConstMul\0LLVMConstNSWMul\0LLVMConstNUWMul\0" +
+            "LLVMConstFMul\0LLVMConstUDiv\0LLVMConstExactUDiv\0LLVMConstSDiv\0LLVMConstExactSDiv\0LLVMConstFDiv\0LLVMConstURem\0LLVMConstSRem\0LLVMConstFRem\0LLVMConstAnd\0" +
+            "LLVMConstOr\0LLVMConstXor\0LLVMConstICmp\0LLVMConstFCmp\0LLVMConstShl\0LLVMConstLShr\0LLVMConstAShr\0LLVMConstGEP\0LLVMConstInBoundsGEP\0LLVMConstTrunc\0" +
+            "LLVMConstSExt\0LLVMConstZExt\0LLVMConstFPTrunc\0LLVMConstFPExt\0LLVMConstUIToFP\0LLVMConstSIToFP\0LLVMConstFPToUI\0LLVMConstFPToSI\0LLVMConstPtrToInt\0" +
+            "LLVMConstIntToPtr\0LLVMConstBitCast\0LLVMConstAddrSpaceCast\0LLVMConstZExtOrBitCast\0LLVMConstSExtOrBitCast\0LLVMConstTruncOrBitCast\0LLVMConstPointerCast\0" +
+            "LLVMConstIntCast\0LLVMConstFPCast\0LLVMConstSelect\0LLVMConstExtractElement\0LLVMConstInsertElement\0LLVMConstShuffleVector\0LLVMConstExtractValue\0" +
+            "LLVMConstInsertValue\0LLVMConstInlineAsm\0LLVMGetGlobalParent\0LLVMIsDeclaration\0LLVMGetLinkage\0LLVMSetLinkage\0LLVMGetSection\0LLVMSetSection\0" +
+            "LLVMGetVisibility\0LLVMSetVisibility\0LLVMGetDLLStorageClass\0LLVMSetDLLStorageClass\0LLVMHasUnnamedAddr\0LLVMSetUnnamedAddr\0LLVMGetAlignment\0LLVMSetAlignment\0" +
+            "LLVMAddGlobal\0LLVMAddGlobalInAddressSpace\0LLVMGetNamedGlobal\0LLVMGetFirstGlobal\0LLVMGetLastGlobal\0LLVMGetNextGlobal\0LLVMGetPreviousGlobal\0" +
+            "LLVMDeleteGlobal\0LLVMGetInitializer\0LLVMSetInitializer\0LLVMIsThreadLocal\0LLVMSetThreadLocal\0LLVMIsGlobalConstant\0LLVMSetGlobalConstant\0" +
+            "LLVMGetThreadLocalMode\0LLVMSetThreadLocalMode\0LLVMIsExternallyInitialized\0LLVMSetExternallyInitialized\0LLVMAddAlias\0LLVMDeleteFunction\0" +
+            "LLVMHasPersonalityFn\0LLVMGetPersonalityFn\0LLVMSetPersonalityFn\0LLVMGetIntrinsicID\0LLVMGetFunctionCallConv\0LLVMSetFunctionCallConv\0LLVMGetGC\0LLVMSetGC\0" +
+            "LLVMAddAttributeAtIndex\0LLVMGetAttributeCountAtIndex\0LLVMGetAttributesAtIndex\0LLVMGetEnumAttributeAtIndex\0LLVMGetStringAttributeAtIndex\0" +
+            "LLVMRemoveEnumAttributeAtIndex\0LLVMRemoveStringAttributeAtIndex\0LLVMAddTargetDependentFunctionAttr\0LLVMCountParams\0LLVMGetParams\0LLVMGetParam\0" +
+            "LLVMGetParamParent\0LLVMGetFirstParam\0LLVMGetLastParam\0LLVMGetNextParam\0LLVMGetPreviousParam\0LLVMSetParamAlignment\0LLVMMDStringInContext\0LLVMMDString\0" +
+            "LLVMMDNodeInContext\0LLVMMDNode\0LLVMMetadataAsValue\0LLVMValueAsMetadata\0LLVMGetMDString\0LLVMGetMDNodeNumOperands\0LLVMGetMDNodeOperands\0" +
+            "LLVMBasicBlockAsValue\0LLVMValueIsBasicBlock\0LLVMValueAsBasicBlock\0LLVMGetBasicBlockName\0LLVMGetBasicBlockParent\0LLVMGetBasicBlockTerminator\0" +
+            "LLVMCountBasicBlocks\0LLVMGetBasicBlocks\0LLVMGetFirstBasicBlock\0LLVMGetLastBasicBlock\0LLVMGetNextBasicBlock\0LLVMGetPreviousBasicBlock\0" +
+            "LLVMGetEntryBasicBlock\0LLVMAppendBasicBlockInContext\0LLVMAppendBasicBlock\0LLVMInsertBasicBlockInContext\0LLVMInsertBasicBlock\0LLVMDeleteBasicBlock\0" +
+            "LLVMRemoveBasicBlockFromParent\0LLVMMoveBasicBlockBefore\0LLVMMoveBasicBlockAfter\0LLVMGetFirstInstruction\0LLVMGetLastInstruction\0LLVMHasMetadata\0" +
+            "LLVMGetMetadata\0LLVMSetMetadata\0LLVMGetInstructionParent\0LLVMGetNextInstruction\0LLVMGetPreviousInstruction\0LLVMInstructionRemoveFromParent\0" +
+            "LLVMInstructionEraseFromParent\0LLVMGetInstructionOpcode\0LLVMGetICmpPredicate\0LLVMGetFCmpPredicate\0LLVMInstructionClone\0LLVMIsATerminatorInst\0" +
+            "LLVMGetNumArgOperands\0LLVMSetInstructionCallConv\0LLVMGetInstructionCallConv\0LLVMSetInstrParamAlignment\0LLVMAddCallSiteAttribute\0" +
+            "LLVMGetCallSiteAttributeCount\0LLVMGetCallSiteAttributes\0LLVMGetCallSiteEnumAttribute\0LLVMGetCallSiteStringAttribute\0LLVMRemoveCallSiteEnumAttribute\0" +
+            "LLVMRemoveCallSiteStringAttribute\0LLVMGetCalledValue\0LLVMIsTailCall\0LLVMSetTailCall\0LLVMGetNormalDest\0LLVMGetUnwindDest\0LLVMSetNormalDest\0" +
+            "LLVMSetUnwindDest\0LLVMGetNumSuccessors\0LLVMGetSuccessor\0LLVMSetSuccessor\0LLVMIsConditional\0LLVMGetCondition\0LLVMSetCondition\0LLVMGetSwitchDefaultDest\0" +
+            "LLVMGetAllocatedType\0LLVMIsInBounds\0LLVMSetIsInBounds\0LLVMAddIncoming\0LLVMCountIncoming\0LLVMGetIncomingValue\0LLVMGetIncomingBlock\0LLVMGetNumIndices\0" +
+            "LLVMGetIndices\0LLVMCreateBuilderInContext\0LLVMCreateBuilder\0LLVMPositionBuilder\0LLVMPositionBuilderBefore\0LLVMPositionBuilderAtEnd\0LLVMGetInsertBlock\0" +
+            "LLVMClearInsertionPosition\0LLVMInsertIntoBuilder\0LLVMInsertIntoBuilderWithName\0LLVMDisposeBuilder\0LLVMSetCurrentDebugLocation\0LLVMGetCurrentDebugLocation\0" +
+            "LLVMSetInstDebugLocation\0LLVMBuildRetVoid\0LLVMBuildRet\0LLVMBuildAggregateRet\0LLVMBuildBr\0LLVMBuildCondBr\0LLVMBuildSwitch\0LLVMBuildIndirectBr\0" +
+            "LLVMBuildInvoke\0LLVMBuildUnreachable\0LLVMBuildResume\0LLVMBuildLandingPad\0LLVMAddCase\0LLVMAddDestination\0LLVMGetNumClauses\0LLVMGetClause\0LLVMAddClause\0" +
+            "LLVMIsCleanup\0LLVMSetCleanup\0LLVMBuildAdd\0LLVMBuildNSWAdd\0LLVMBuildNUWAdd\0LLVMBuildFAdd\0LLVMBuildSub\0LLVMBuildNSWSub\0LLVMBuildNUWSub\0LLVMBuildFSub\0" +
+            "LLVMBuildMul\0LLVMBuildNSWMul\0LLVMBuildNUWMul\0LLVMBuildFMul\0LLVMBuildUDiv\0LLVMBuildExactUDiv\0LLVMBuildSDiv\0LLVMBuildExactSDiv\0LLVMBuildFDiv\0" +
+            "LLVMBuildURem\0LLVMBuildSRem\0LLVMBuildFRem\0LLVMBuildShl\0LLVMBuildLShr\0LLVMBuildAShr\0LLVMBuildAnd\0LLVMBuildOr\0LLVMBuildXor\0LLVMBuildBinOp\0LLVMBuildNeg\0" +
+            "LLVMBuildNSWNeg\0LLVMBuildNUWNeg\0LLVMBuildFNeg\0LLVMBuildNot\0LLVMBuildMalloc\0LLVMBuildArrayMalloc\0LLVMBuildAlloca\0LLVMBuildArrayAlloca\0LLVMBuildFree\0" +
+            "LLVMBuildLoad\0LLVMBuildStore\0LLVMBuildGEP\0LLVMBuildInBoundsGEP\0LLVMBuildStructGEP\0LLVMBuildGlobalString\0LLVMBuildGlobalStringPtr\0LLVMGetVolatile\0" +
+            "LLVMSetVolatile\0LLVMGetOrdering\0LLVMSetOrdering\0LLVMBuildTrunc\0LLVMBuildZExt\0LLVMBuildSExt\0LLVMBuildFPToUI\0LLVMBuildFPToSI\0LLVMBuildUIToFP\0" +
+            "LLVMBuildSIToFP\0LLVMBuildFPTrunc\0LLVMBuildFPExt\0LLVMBuildPtrToInt\0LLVMBuildIntToPtr\0LLVMBuildBitCast\0LLVMBuildAddrSpaceCast\0LLVMBuildZExtOrBitCast\0" +
+            "LLVMBuildSExtOrBitCast\0LLVMBuildTruncOrBitCast\0LLVMBuildCast\0LLVMBuildPointerCast\0LLVMBuildIntCast\0LLVMBuildFPCast\0LLVMBuildICmp\0LLVMBuildFCmp\0" +
+            "LLVMBuildPhi\0LLVMBuildCall\0LLVMBuildSelect\0LLVMBuildVAArg\0LLVMBuildExtractElement\0LLVMBuildInsertElement\0LLVMBuildShuffleVector\0LLVMBuildExtractValue\0" +
+            "LLVMBuildInsertValue\0LLVMBuildIsNull\0LLVMBuildIsNotNull\0LLVMBuildPtrDiff\0LLVMBuildFence\0LLVMBuildAtomicRMW\0LLVMBuildAtomicCmpXchg\0" +
+            "LLVMIsAtomicSingleThread\0LLVMSetAtomicSingleThread\0LLVMGetCmpXchgSuccessOrdering\0LLVMSetCmpXchgSuccessOrdering\0LLVMGetCmpXchgFailureOrdering\0" +
+            "LLVMSetCmpXchgFailureOrdering\0LLVMCreateModuleProviderForExistingModule\0LLVMDisposeModuleProvider\0LLVMCreateMemoryBufferWithContentsOfFile\0" +
+            "LLVMCreateMemoryBufferWithSTDIN\0LLVMCreateMemoryBufferWithMemoryRange\0LLVMCreateMemoryBufferWithMemoryRangeCopy\0LLVMGetBufferStart\0LLVMGetBufferSize\0" +
+            "LLVMDisposeMemoryBuffer\0LLVMGetGlobalPassRegistry\0LLVMCreatePassManager\0LLVMCreateFunctionPassManagerForModule\0LLVMCreateFunctionPassManager\0" +
+            "LLVMRunPassManager\0LLVMInitializeFunctionPassManager\0LLVMRunFunctionPassManager\0LLVMFinalizeFunctionPassManager\0LLVMDisposePassManager\0" +
+            "LLVMStartMultithreaded\0LLVMStopMultithreaded\0LLVMIsMultithreaded\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVM, FUNCTIONS);
+
         /** Function address. */
         public static final long
-            InitializeCore                             = apiGetFunctionAddress(LLVM, "LLVMInitializeCore"),
-            Shutdown                                   = apiGetFunctionAddress(LLVM, "LLVMShutdown"),
-            CreateMessage                              = apiGetFunctionAddress(LLVM, "LLVMCreateMessage"),
-            DisposeMessage                             = apiGetFunctionAddress(LLVM, "LLVMDisposeMessage"),
-            ContextCreate                              = apiGetFunctionAddress(LLVM, "LLVMContextCreate"),
-            GetGlobalContext                           = apiGetFunctionAddress(LLVM, "LLVMGetGlobalContext"),
-            ContextSetDiagnosticHandler                = apiGetFunctionAddress(LLVM, "LLVMContextSetDiagnosticHandler"),
-            ContextGetDiagnosticHandler                = apiGetFunctionAddress(LLVM, "LLVMContextGetDiagnosticHandler"),
-            ContextGetDiagnosticContext                = apiGetFunctionAddress(LLVM, "LLVMContextGetDiagnosticContext"),
-            ContextSetYieldCallback                    = apiGetFunctionAddress(LLVM, "LLVMContextSetYieldCallback"),
+            InitializeCore                             = ADDRESSES[0],
+            Shutdown                                   = ADDRESSES[1],
+            CreateMessage                              = ADDRESSES[2],
+            DisposeMessage                             = ADDRESSES[3],
+            ContextCreate                              = ADDRESSES[4],
+            GetGlobalContext                           = ADDRESSES[5],
+            ContextSetDiagnosticHandler                = ADDRESSES[6],
+            ContextGetDiagnosticHandler                = ADDRESSES[7],
+            ContextGetDiagnosticContext                = ADDRESSES[8],
+            ContextSetYieldCallback                    = ADDRESSES[9],
             ContextShouldDiscardValueNames             = LLVM.getFunctionAddress("LLVMContextShouldDiscardValueNames"),
             ContextSetDiscardValueNames                = LLVM.getFunctionAddress("LLVMContextSetDiscardValueNames"),
-            ContextDispose                             = apiGetFunctionAddress(LLVM, "LLVMContextDispose"),
-            GetDiagInfoDescription                     = apiGetFunctionAddress(LLVM, "LLVMGetDiagInfoDescription"),
-            GetDiagInfoSeverity                        = apiGetFunctionAddress(LLVM, "LLVMGetDiagInfoSeverity"),
-            GetMDKindIDInContext                       = apiGetFunctionAddress(LLVM, "LLVMGetMDKindIDInContext"),
-            GetMDKindID                                = apiGetFunctionAddress(LLVM, "LLVMGetMDKindID"),
-            GetEnumAttributeKindForName                = apiGetFunctionAddress(LLVM, "LLVMGetEnumAttributeKindForName"),
-            GetLastEnumAttributeKind                   = apiGetFunctionAddress(LLVM, "LLVMGetLastEnumAttributeKind"),
-            CreateEnumAttribute                        = apiGetFunctionAddress(LLVM, "LLVMCreateEnumAttribute"),
-            GetEnumAttributeKind                       = apiGetFunctionAddress(LLVM, "LLVMGetEnumAttributeKind"),
-            GetEnumAttributeValue                      = apiGetFunctionAddress(LLVM, "LLVMGetEnumAttributeValue"),
-            CreateStringAttribute                      = apiGetFunctionAddress(LLVM, "LLVMCreateStringAttribute"),
-            GetStringAttributeKind                     = apiGetFunctionAddress(LLVM, "LLVMGetStringAttributeKind"),
-            GetStringAttributeValue                    = apiGetFunctionAddress(LLVM, "LLVMGetStringAttributeValue"),
-            IsEnumAttribute                            = apiGetFunctionAddress(LLVM, "LLVMIsEnumAttribute"),
-            IsStringAttribute                          = apiGetFunctionAddress(LLVM, "LLVMIsStringAttribute"),
-            ModuleCreateWithName                       = apiGetFunctionAddress(LLVM, "LLVMModuleCreateWithName"),
-            ModuleCreateWithNameInContext              = apiGetFunctionAddress(LLVM, "LLVMModuleCreateWithNameInContext"),
-            CloneModule                                = apiGetFunctionAddress(LLVM, "LLVMCloneModule"),
-            DisposeModule                              = apiGetFunctionAddress(LLVM, "LLVMDisposeModule"),
-            GetModuleIdentifier                        = apiGetFunctionAddress(LLVM, "LLVMGetModuleIdentifier"),
-            SetModuleIdentifier                        = apiGetFunctionAddress(LLVM, "LLVMSetModuleIdentifier"),
+            ContextDispose                             = ADDRESSES[10],
+            GetDiagInfoDescription                     = ADDRESSES[11],
+            GetDiagInfoSeverity                        = ADDRESSES[12],
+            GetMDKindIDInContext                       = ADDRESSES[13],
+            GetMDKindID                                = ADDRESSES[14],
+            GetEnumAttributeKindForName                = ADDRESSES[15],
+            GetLastEnumAttributeKind                   = ADDRESSES[16],
+            CreateEnumAttribute                        = ADDRESSES[17],
+            GetEnumAttributeKind                       = ADDRESSES[18],
+            GetEnumAttributeValue                      = ADDRESSES[19],
+            CreateStringAttribute                      = ADDRESSES[20],
+            GetStringAttributeKind                     = ADDRESSES[21],
+            GetStringAttributeValue                    = ADDRESSES[22],
+            IsEnumAttribute                            = ADDRESSES[23],
+            IsStringAttribute                          = ADDRESSES[24],
+            ModuleCreateWithName                       = ADDRESSES[25],
+            ModuleCreateWithNameInContext              = ADDRESSES[26],
+            CloneModule                                = ADDRESSES[27],
+            DisposeModule                              = ADDRESSES[28],
+            GetModuleIdentifier                        = ADDRESSES[29],
+            SetModuleIdentifier                        = ADDRESSES[30],
             GetSourceFileName                          = LLVM.getFunctionAddress("LLVMGetSourceFileName"),
             SetSourceFileName                          = LLVM.getFunctionAddress("LLVMSetSourceFileName"),
-            GetDataLayoutStr                           = apiGetFunctionAddress(LLVM, "LLVMGetDataLayoutStr"),
-            GetDataLayout                              = apiGetFunctionAddress(LLVM, "LLVMGetDataLayout"),
-            SetDataLayout                              = apiGetFunctionAddress(LLVM, "LLVMSetDataLayout"),
-            GetTarget                                  = apiGetFunctionAddress(LLVM, "LLVMGetTarget"),
-            SetTarget                                  = apiGetFunctionAddress(LLVM, "LLVMSetTarget"),
+            GetDataLayoutStr                           = ADDRESSES[31],
+            GetDataLayout                              = ADDRESSES[32],
+            SetDataLayout                              = ADDRESSES[33],
+            GetTarget                                  = ADDRESSES[34],
+            SetTarget                                  = ADDRESSES[35],
             CopyModuleFlagsMetadata                    = LLVM.getFunctionAddress("LLVMCopyModuleFlagsMetadata"),
             DisposeModuleFlagsMetadata                 = LLVM.getFunctionAddress("LLVMDisposeModuleFlagsMetadata"),
             ModuleFlagEntriesGetFlagBehavior           = LLVM.getFunctionAddress("LLVMModuleFlagEntriesGetFlagBehavior"),
@@ -755,15 +840,15 @@ public class LLVMCore {
             ModuleFlagEntriesGetMetadata               = LLVM.getFunctionAddress("LLVMModuleFlagEntriesGetMetadata"),
             GetModuleFlag                              = LLVM.getFunctionAddress("LLVMGetModuleFlag"),
             AddModuleFlag                              = LLVM.getFunctionAddress("LLVMAddModuleFlag"),
-            DumpModule                                 = apiGetFunctionAddress(LLVM, "LLVMDumpModule"),
-            PrintModuleToFile                          = apiGetFunctionAddress(LLVM, "LLVMPrintModuleToFile"),
-            PrintModuleToString                        = apiGetFunctionAddress(LLVM, "LLVMPrintModuleToString"),
+            DumpModule                                 = ADDRESSES[36],
+            PrintModuleToFile                          = ADDRESSES[37],
+            PrintModuleToString                        = ADDRESSES[38],
             GetModuleInlineAsm                         = LLVM.getFunctionAddress("LLVMGetModuleInlineAsm"),
             SetModuleInlineAsm2                        = LLVM.getFunctionAddress("LLVMSetModuleInlineAsm2"),
             AppendModuleInlineAsm                      = LLVM.getFunctionAddress("LLVMAppendModuleInlineAsm"),
             GetInlineAsm                               = LLVM.getFunctionAddress("LLVMGetInlineAsm"),
-            GetModuleContext                           = apiGetFunctionAddress(LLVM, "LLVMGetModuleContext"),
-            GetTypeByName                              = apiGetFunctionAddress(LLVM, "LLVMGetTypeByName"),
+            GetModuleContext                           = ADDRESSES[39],
+            GetTypeByName                              = ADDRESSES[40],
             GetFirstNamedMetadata                      = LLVM.getFunctionAddress("LLVMGetFirstNamedMetadata"),
             GetLastNamedMetadata                       = LLVM.getFunctionAddress("LLVMGetLastNamedMetadata"),
             GetNextNamedMetadata                       = LLVM.getFunctionAddress("LLVMGetNextNamedMetadata"),
@@ -771,295 +856,295 @@ public class LLVMCore {
             GetNamedMetadata                           = LLVM.getFunctionAddress("LLVMGetNamedMetadata"),
             GetOrInsertNamedMetadata                   = LLVM.getFunctionAddress("LLVMGetOrInsertNamedMetadata"),
             GetNamedMetadataName                       = LLVM.getFunctionAddress("LLVMGetNamedMetadataName"),
-            GetNamedMetadataNumOperands                = apiGetFunctionAddress(LLVM, "LLVMGetNamedMetadataNumOperands"),
-            GetNamedMetadataOperands                   = apiGetFunctionAddress(LLVM, "LLVMGetNamedMetadataOperands"),
-            AddNamedMetadataOperand                    = apiGetFunctionAddress(LLVM, "LLVMAddNamedMetadataOperand"),
+            GetNamedMetadataNumOperands                = ADDRESSES[41],
+            GetNamedMetadataOperands                   = ADDRESSES[42],
+            AddNamedMetadataOperand                    = ADDRESSES[43],
             GetDebugLocDirectory                       = LLVM.getFunctionAddress("LLVMGetDebugLocDirectory"),
             GetDebugLocFilename                        = LLVM.getFunctionAddress("LLVMGetDebugLocFilename"),
             GetDebugLocLine                            = LLVM.getFunctionAddress("LLVMGetDebugLocLine"),
             GetDebugLocColumn                          = LLVM.getFunctionAddress("LLVMGetDebugLocColumn"),
-            AddFunction                                = apiGetFunctionAddress(LLVM, "LLVMAddFunction"),
-            GetNamedFunction                           = apiGetFunctionAddress(LLVM, "LLVMGetNamedFunction"),
-            GetFirstFunction                           = apiGetFunctionAddress(LLVM, "LLVMGetFirstFunction"),
-            GetLastFunction                            = apiGetFunctionAddress(LLVM, "LLVMGetLastFunction"),
-            GetNextFunction                            = apiGetFunctionAddress(LLVM, "LLVMGetNextFunction"),
-            GetPreviousFunction                        = apiGetFunctionAddress(LLVM, "LLVMGetPreviousFunction"),
+            AddFunction                                = ADDRESSES[44],
+            GetNamedFunction                           = ADDRESSES[45],
+            GetFirstFunction                           = ADDRESSES[46],
+            GetLastFunction                            = ADDRESSES[47],
+            GetNextFunction                            = ADDRESSES[48],
+            GetPreviousFunction                        = ADDRESSES[49],
             SetModuleInlineAsm                         = LLVM.getFunctionAddress("LLVMSetModuleInlineAsm"),
-            GetTypeKind                                = apiGetFunctionAddress(LLVM, "LLVMGetTypeKind"),
-            TypeIsSized                                = apiGetFunctionAddress(LLVM, "LLVMTypeIsSized"),
-            GetTypeContext                             = apiGetFunctionAddress(LLVM, "LLVMGetTypeContext"),
+            GetTypeKind                                = ADDRESSES[50],
+            TypeIsSized                                = ADDRESSES[51],
+            GetTypeContext                             = ADDRESSES[52],
             DumpType                                   = LLVM.getFunctionAddress("LLVMDumpType"),
-            PrintTypeToString                          = apiGetFunctionAddress(LLVM, "LLVMPrintTypeToString"),
-            Int1TypeInContext                          = apiGetFunctionAddress(LLVM, "LLVMInt1TypeInContext"),
-            Int8TypeInContext                          = apiGetFunctionAddress(LLVM, "LLVMInt8TypeInContext"),
-            Int16TypeInContext                         = apiGetFunctionAddress(LLVM, "LLVMInt16TypeInContext"),
-            Int32TypeInContext                         = apiGetFunctionAddress(LLVM, "LLVMInt32TypeInContext"),
-            Int64TypeInContext                         = apiGetFunctionAddress(LLVM, "LLVMInt64TypeInContext"),
-            Int128TypeInContext                        = apiGetFunctionAddress(LLVM, "LLVMInt128TypeInContext"),
-            IntTypeInContext                           = apiGetFunctionAddress(LLVM, "LLVMIntTypeInContext"),
-            Int1Type                                   = apiGetFunctionAddress(LLVM, "LLVMInt1Type"),
-            Int8Type                                   = apiGetFunctionAddress(LLVM, "LLVMInt8Type"),
-            Int16Type                                  = apiGetFunctionAddress(LLVM, "LLVMInt16Type"),
-            Int32Type                                  = apiGetFunctionAddress(LLVM, "LLVMInt32Type"),
-            Int64Type                                  = apiGetFunctionAddress(LLVM, "LLVMInt64Type"),
-            Int128Type                                 = apiGetFunctionAddress(LLVM, "LLVMInt128Type"),
-            IntType                                    = apiGetFunctionAddress(LLVM, "LLVMIntType"),
-            GetIntTypeWidth                            = apiGetFunctionAddress(LLVM, "LLVMGetIntTypeWidth"),
-            HalfTypeInContext                          = apiGetFunctionAddress(LLVM, "LLVMHalfTypeInContext"),
-            FloatTypeInContext                         = apiGetFunctionAddress(LLVM, "LLVMFloatTypeInContext"),
-            DoubleTypeInContext                        = apiGetFunctionAddress(LLVM, "LLVMDoubleTypeInContext"),
-            X86FP80TypeInContext                       = apiGetFunctionAddress(LLVM, "LLVMX86FP80TypeInContext"),
-            FP128TypeInContext                         = apiGetFunctionAddress(LLVM, "LLVMFP128TypeInContext"),
-            PPCFP128TypeInContext                      = apiGetFunctionAddress(LLVM, "LLVMPPCFP128TypeInContext"),
-            HalfType                                   = apiGetFunctionAddress(LLVM, "LLVMHalfType"),
-            FloatType                                  = apiGetFunctionAddress(LLVM, "LLVMFloatType"),
-            DoubleType                                 = apiGetFunctionAddress(LLVM, "LLVMDoubleType"),
-            X86FP80Type                                = apiGetFunctionAddress(LLVM, "LLVMX86FP80Type"),
-            FP128Type                                  = apiGetFunctionAddress(LLVM, "LLVMFP128Type"),
-            PPCFP128Type                               = apiGetFunctionAddress(LLVM, "LLVMPPCFP128Type"),
-            FunctionType                               = apiGetFunctionAddress(LLVM, "LLVMFunctionType"),
-            IsFunctionVarArg                           = apiGetFunctionAddress(LLVM, "LLVMIsFunctionVarArg"),
-            GetReturnType                              = apiGetFunctionAddress(LLVM, "LLVMGetReturnType"),
-            CountParamTypes                            = apiGetFunctionAddress(LLVM, "LLVMCountParamTypes"),
-            GetParamTypes                              = apiGetFunctionAddress(LLVM, "LLVMGetParamTypes"),
-            StructTypeInContext                        = apiGetFunctionAddress(LLVM, "LLVMStructTypeInContext"),
-            StructType                                 = apiGetFunctionAddress(LLVM, "LLVMStructType"),
-            StructCreateNamed                          = apiGetFunctionAddress(LLVM, "LLVMStructCreateNamed"),
-            GetStructName                              = apiGetFunctionAddress(LLVM, "LLVMGetStructName"),
-            StructSetBody                              = apiGetFunctionAddress(LLVM, "LLVMStructSetBody"),
-            CountStructElementTypes                    = apiGetFunctionAddress(LLVM, "LLVMCountStructElementTypes"),
-            GetStructElementTypes                      = apiGetFunctionAddress(LLVM, "LLVMGetStructElementTypes"),
-            StructGetTypeAtIndex                       = apiGetFunctionAddress(LLVM, "LLVMStructGetTypeAtIndex"),
-            IsPackedStruct                             = apiGetFunctionAddress(LLVM, "LLVMIsPackedStruct"),
-            IsOpaqueStruct                             = apiGetFunctionAddress(LLVM, "LLVMIsOpaqueStruct"),
+            PrintTypeToString                          = ADDRESSES[53],
+            Int1TypeInContext                          = ADDRESSES[54],
+            Int8TypeInContext                          = ADDRESSES[55],
+            Int16TypeInContext                         = ADDRESSES[56],
+            Int32TypeInContext                         = ADDRESSES[57],
+            Int64TypeInContext                         = ADDRESSES[58],
+            Int128TypeInContext                        = ADDRESSES[59],
+            IntTypeInContext                           = ADDRESSES[60],
+            Int1Type                                   = ADDRESSES[61],
+            Int8Type                                   = ADDRESSES[62],
+            Int16Type                                  = ADDRESSES[63],
+            Int32Type                                  = ADDRESSES[64],
+            Int64Type                                  = ADDRESSES[65],
+            Int128Type                                 = ADDRESSES[66],
+            IntType                                    = ADDRESSES[67],
+            GetIntTypeWidth                            = ADDRESSES[68],
+            HalfTypeInContext                          = ADDRESSES[69],
+            FloatTypeInContext                         = ADDRESSES[70],
+            DoubleTypeInContext                        = ADDRESSES[71],
+            X86FP80TypeInContext                       = ADDRESSES[72],
+            FP128TypeInContext                         = ADDRESSES[73],
+            PPCFP128TypeInContext                      = ADDRESSES[74],
+            HalfType                                   = ADDRESSES[75],
+            FloatType                                  = ADDRESSES[76],
+            DoubleType                                 = ADDRESSES[77],
+            X86FP80Type                                = ADDRESSES[78],
+            FP128Type                                  = ADDRESSES[79],
+            PPCFP128Type                               = ADDRESSES[80],
+            FunctionType                               = ADDRESSES[81],
+            IsFunctionVarArg                           = ADDRESSES[82],
+            GetReturnType                              = ADDRESSES[83],
+            CountParamTypes                            = ADDRESSES[84],
+            GetParamTypes                              = ADDRESSES[85],
+            StructTypeInContext                        = ADDRESSES[86],
+            StructType                                 = ADDRESSES[87],
+            StructCreateNamed                          = ADDRESSES[88],
+            GetStructName                              = ADDRESSES[89],
+            StructSetBody                              = ADDRESSES[90],
+            CountStructElementTypes                    = ADDRESSES[91],
+            GetStructElementTypes                      = ADDRESSES[92],
+            StructGetTypeAtIndex                       = ADDRESSES[93],
+            IsPackedStruct                             = ADDRESSES[94],
+            IsOpaqueStruct                             = ADDRESSES[95],
             IsLiteralStruct                            = LLVM.getFunctionAddress("LLVMIsLiteralStruct"),
-            GetElementType                             = apiGetFunctionAddress(LLVM, "LLVMGetElementType"),
-            GetSubtypes                                = apiGetFunctionAddress(LLVM, "LLVMGetSubtypes"),
-            GetNumContainedTypes                       = apiGetFunctionAddress(LLVM, "LLVMGetNumContainedTypes"),
-            ArrayType                                  = apiGetFunctionAddress(LLVM, "LLVMArrayType"),
-            GetArrayLength                             = apiGetFunctionAddress(LLVM, "LLVMGetArrayLength"),
-            PointerType                                = apiGetFunctionAddress(LLVM, "LLVMPointerType"),
-            GetPointerAddressSpace                     = apiGetFunctionAddress(LLVM, "LLVMGetPointerAddressSpace"),
-            VectorType                                 = apiGetFunctionAddress(LLVM, "LLVMVectorType"),
-            GetVectorSize                              = apiGetFunctionAddress(LLVM, "LLVMGetVectorSize"),
-            VoidTypeInContext                          = apiGetFunctionAddress(LLVM, "LLVMVoidTypeInContext"),
-            LabelTypeInContext                         = apiGetFunctionAddress(LLVM, "LLVMLabelTypeInContext"),
-            X86MMXTypeInContext                        = apiGetFunctionAddress(LLVM, "LLVMX86MMXTypeInContext"),
+            GetElementType                             = ADDRESSES[96],
+            GetSubtypes                                = ADDRESSES[97],
+            GetNumContainedTypes                       = ADDRESSES[98],
+            ArrayType                                  = ADDRESSES[99],
+            GetArrayLength                             = ADDRESSES[100],
+            PointerType                                = ADDRESSES[101],
+            GetPointerAddressSpace                     = ADDRESSES[102],
+            VectorType                                 = ADDRESSES[103],
+            GetVectorSize                              = ADDRESSES[104],
+            VoidTypeInContext                          = ADDRESSES[105],
+            LabelTypeInContext                         = ADDRESSES[106],
+            X86MMXTypeInContext                        = ADDRESSES[107],
             TokenTypeInContext                         = LLVM.getFunctionAddress("LLVMTokenTypeInContext"),
             MetadataTypeInContext                      = LLVM.getFunctionAddress("LLVMMetadataTypeInContext"),
-            VoidType                                   = apiGetFunctionAddress(LLVM, "LLVMVoidType"),
-            LabelType                                  = apiGetFunctionAddress(LLVM, "LLVMLabelType"),
-            X86MMXType                                 = apiGetFunctionAddress(LLVM, "LLVMX86MMXType"),
-            TypeOf                                     = apiGetFunctionAddress(LLVM, "LLVMTypeOf"),
-            GetValueKind                               = apiGetFunctionAddress(LLVM, "LLVMGetValueKind"),
+            VoidType                                   = ADDRESSES[108],
+            LabelType                                  = ADDRESSES[109],
+            X86MMXType                                 = ADDRESSES[110],
+            TypeOf                                     = ADDRESSES[111],
+            GetValueKind                               = ADDRESSES[112],
             GetValueName2                              = LLVM.getFunctionAddress("LLVMGetValueName2"),
             SetValueName2                              = LLVM.getFunctionAddress("LLVMSetValueName2"),
-            DumpValue                                  = apiGetFunctionAddress(LLVM, "LLVMDumpValue"),
-            PrintValueToString                         = apiGetFunctionAddress(LLVM, "LLVMPrintValueToString"),
-            ReplaceAllUsesWith                         = apiGetFunctionAddress(LLVM, "LLVMReplaceAllUsesWith"),
-            IsConstant                                 = apiGetFunctionAddress(LLVM, "LLVMIsConstant"),
-            IsUndef                                    = apiGetFunctionAddress(LLVM, "LLVMIsUndef"),
-            IsAArgument                                = apiGetFunctionAddress(LLVM, "LLVMIsAArgument"),
-            IsABasicBlock                              = apiGetFunctionAddress(LLVM, "LLVMIsABasicBlock"),
-            IsAInlineAsm                               = apiGetFunctionAddress(LLVM, "LLVMIsAInlineAsm"),
-            IsAUser                                    = apiGetFunctionAddress(LLVM, "LLVMIsAUser"),
-            IsAConstant                                = apiGetFunctionAddress(LLVM, "LLVMIsAConstant"),
-            IsABlockAddress                            = apiGetFunctionAddress(LLVM, "LLVMIsABlockAddress"),
-            IsAConstantAggregateZero                   = apiGetFunctionAddress(LLVM, "LLVMIsAConstantAggregateZero"),
-            IsAConstantArray                           = apiGetFunctionAddress(LLVM, "LLVMIsAConstantArray"),
-            IsAConstantDataSequential                  = apiGetFunctionAddress(LLVM, "LLVMIsAConstantDataSequential"),
-            IsAConstantDataArray                       = apiGetFunctionAddress(LLVM, "LLVMIsAConstantDataArray"),
-            IsAConstantDataVector                      = apiGetFunctionAddress(LLVM, "LLVMIsAConstantDataVector"),
-            IsAConstantExpr                            = apiGetFunctionAddress(LLVM, "LLVMIsAConstantExpr"),
-            IsAConstantFP                              = apiGetFunctionAddress(LLVM, "LLVMIsAConstantFP"),
-            IsAConstantInt                             = apiGetFunctionAddress(LLVM, "LLVMIsAConstantInt"),
-            IsAConstantPointerNull                     = apiGetFunctionAddress(LLVM, "LLVMIsAConstantPointerNull"),
-            IsAConstantStruct                          = apiGetFunctionAddress(LLVM, "LLVMIsAConstantStruct"),
-            IsAConstantTokenNone                       = apiGetFunctionAddress(LLVM, "LLVMIsAConstantTokenNone"),
-            IsAConstantVector                          = apiGetFunctionAddress(LLVM, "LLVMIsAConstantVector"),
-            IsAGlobalValue                             = apiGetFunctionAddress(LLVM, "LLVMIsAGlobalValue"),
-            IsAGlobalAlias                             = apiGetFunctionAddress(LLVM, "LLVMIsAGlobalAlias"),
+            DumpValue                                  = ADDRESSES[113],
+            PrintValueToString                         = ADDRESSES[114],
+            ReplaceAllUsesWith                         = ADDRESSES[115],
+            IsConstant                                 = ADDRESSES[116],
+            IsUndef                                    = ADDRESSES[117],
+            IsAArgument                                = ADDRESSES[118],
+            IsABasicBlock                              = ADDRESSES[119],
+            IsAInlineAsm                               = ADDRESSES[120],
+            IsAUser                                    = ADDRESSES[121],
+            IsAConstant                                = ADDRESSES[122],
+            IsABlockAddress                            = ADDRESSES[123],
+            IsAConstantAggregateZero                   = ADDRESSES[124],
+            IsAConstantArray                           = ADDRESSES[125],
+            IsAConstantDataSequential                  = ADDRESSES[126],
+            IsAConstantDataArray                       = ADDRESSES[127],
+            IsAConstantDataVector                      = ADDRESSES[128],
+            IsAConstantExpr                            = ADDRESSES[129],
+            IsAConstantFP                              = ADDRESSES[130],
+            IsAConstantInt                             = ADDRESSES[131],
+            IsAConstantPointerNull                     = ADDRESSES[132],
+            IsAConstantStruct                          = ADDRESSES[133],
+            IsAConstantTokenNone                       = ADDRESSES[134],
+            IsAConstantVector                          = ADDRESSES[135],
+            IsAGlobalValue                             = ADDRESSES[136],
+            IsAGlobalAlias                             = ADDRESSES[137],
             IsAGlobalIFunc                             = LLVM.getFunctionAddress("LLVMIsAGlobalIFunc"),
-            IsAGlobalObject                            = apiGetFunctionAddress(LLVM, "LLVMIsAGlobalObject"),
-            IsAFunction                                = apiGetFunctionAddress(LLVM, "LLVMIsAFunction"),
-            IsAGlobalVariable                          = apiGetFunctionAddress(LLVM, "LLVMIsAGlobalVariable"),
-            IsAUndefValue                              = apiGetFunctionAddress(LLVM, "LLVMIsAUndefValue"),
-            IsAInstruction                             = apiGetFunctionAddress(LLVM, "LLVMIsAInstruction"),
-            IsABinaryOperator                          = apiGetFunctionAddress(LLVM, "LLVMIsABinaryOperator"),
-            IsACallInst                                = apiGetFunctionAddress(LLVM, "LLVMIsACallInst"),
-            IsAIntrinsicInst                           = apiGetFunctionAddress(LLVM, "LLVMIsAIntrinsicInst"),
-            IsADbgInfoIntrinsic                        = apiGetFunctionAddress(LLVM, "LLVMIsADbgInfoIntrinsic"),
+            IsAGlobalObject                            = ADDRESSES[138],
+            IsAFunction                                = ADDRESSES[139],
+            IsAGlobalVariable                          = ADDRESSES[140],
+            IsAUndefValue                              = ADDRESSES[141],
+            IsAInstruction                             = ADDRESSES[142],
+            IsABinaryOperator                          = ADDRESSES[143],
+            IsACallInst                                = ADDRESSES[144],
+            IsAIntrinsicInst                           = ADDRESSES[145],
+            IsADbgInfoIntrinsic                        = ADDRESSES[146],
             IsADbgVariableIntrinsic                    = LLVM.getFunctionAddress("LLVMIsADbgVariableIntrinsic"),
-            IsADbgDeclareInst                          = apiGetFunctionAddress(LLVM, "LLVMIsADbgDeclareInst"),
+            IsADbgDeclareInst                          = ADDRESSES[147],
             IsADbgLabelInst                            = LLVM.getFunctionAddress("LLVMIsADbgLabelInst"),
-            IsAMemIntrinsic                            = apiGetFunctionAddress(LLVM, "LLVMIsAMemIntrinsic"),
-            IsAMemCpyInst                              = apiGetFunctionAddress(LLVM, "LLVMIsAMemCpyInst"),
-            IsAMemMoveInst                             = apiGetFunctionAddress(LLVM, "LLVMIsAMemMoveInst"),
-            IsAMemSetInst                              = apiGetFunctionAddress(LLVM, "LLVMIsAMemSetInst"),
-            IsACmpInst                                 = apiGetFunctionAddress(LLVM, "LLVMIsACmpInst"),
-            IsAFCmpInst                                = apiGetFunctionAddress(LLVM, "LLVMIsAFCmpInst"),
-            IsAICmpInst                                = apiGetFunctionAddress(LLVM, "LLVMIsAICmpInst"),
-            IsAExtractElementInst                      = apiGetFunctionAddress(LLVM, "LLVMIsAExtractElementInst"),
-            IsAGetElementPtrInst                       = apiGetFunctionAddress(LLVM, "LLVMIsAGetElementPtrInst"),
-            IsAInsertElementInst                       = apiGetFunctionAddress(LLVM, "LLVMIsAInsertElementInst"),
-            IsAInsertValueInst                         = apiGetFunctionAddress(LLVM, "LLVMIsAInsertValueInst"),
-            IsALandingPadInst                          = apiGetFunctionAddress(LLVM, "LLVMIsALandingPadInst"),
-            IsAPHINode                                 = apiGetFunctionAddress(LLVM, "LLVMIsAPHINode"),
-            IsASelectInst                              = apiGetFunctionAddress(LLVM, "LLVMIsASelectInst"),
-            IsAShuffleVectorInst                       = apiGetFunctionAddress(LLVM, "LLVMIsAShuffleVectorInst"),
-            IsAStoreInst                               = apiGetFunctionAddress(LLVM, "LLVMIsAStoreInst"),
-            IsABranchInst                              = apiGetFunctionAddress(LLVM, "LLVMIsABranchInst"),
-            IsAIndirectBrInst                          = apiGetFunctionAddress(LLVM, "LLVMIsAIndirectBrInst"),
-            IsAInvokeInst                              = apiGetFunctionAddress(LLVM, "LLVMIsAInvokeInst"),
-            IsAReturnInst                              = apiGetFunctionAddress(LLVM, "LLVMIsAReturnInst"),
-            IsASwitchInst                              = apiGetFunctionAddress(LLVM, "LLVMIsASwitchInst"),
-            IsAUnreachableInst                         = apiGetFunctionAddress(LLVM, "LLVMIsAUnreachableInst"),
-            IsAResumeInst                              = apiGetFunctionAddress(LLVM, "LLVMIsAResumeInst"),
-            IsACleanupReturnInst                       = apiGetFunctionAddress(LLVM, "LLVMIsACleanupReturnInst"),
-            IsACatchReturnInst                         = apiGetFunctionAddress(LLVM, "LLVMIsACatchReturnInst"),
-            IsAFuncletPadInst                          = apiGetFunctionAddress(LLVM, "LLVMIsAFuncletPadInst"),
-            IsACatchPadInst                            = apiGetFunctionAddress(LLVM, "LLVMIsACatchPadInst"),
-            IsACleanupPadInst                          = apiGetFunctionAddress(LLVM, "LLVMIsACleanupPadInst"),
-            IsAUnaryInstruction                        = apiGetFunctionAddress(LLVM, "LLVMIsAUnaryInstruction"),
-            IsAAllocaInst                              = apiGetFunctionAddress(LLVM, "LLVMIsAAllocaInst"),
-            IsACastInst                                = apiGetFunctionAddress(LLVM, "LLVMIsACastInst"),
-            IsAAddrSpaceCastInst                       = apiGetFunctionAddress(LLVM, "LLVMIsAAddrSpaceCastInst"),
-            IsABitCastInst                             = apiGetFunctionAddress(LLVM, "LLVMIsABitCastInst"),
-            IsAFPExtInst                               = apiGetFunctionAddress(LLVM, "LLVMIsAFPExtInst"),
-            IsAFPToSIInst                              = apiGetFunctionAddress(LLVM, "LLVMIsAFPToSIInst"),
-            IsAFPToUIInst                              = apiGetFunctionAddress(LLVM, "LLVMIsAFPToUIInst"),
-            IsAFPTruncInst                             = apiGetFunctionAddress(LLVM, "LLVMIsAFPTruncInst"),
-            IsAIntToPtrInst                            = apiGetFunctionAddress(LLVM, "LLVMIsAIntToPtrInst"),
-            IsAPtrToIntInst                            = apiGetFunctionAddress(LLVM, "LLVMIsAPtrToIntInst"),
-            IsASExtInst                                = apiGetFunctionAddress(LLVM, "LLVMIsASExtInst"),
-            IsASIToFPInst                              = apiGetFunctionAddress(LLVM, "LLVMIsASIToFPInst"),
-            IsATruncInst                               = apiGetFunctionAddress(LLVM, "LLVMIsATruncInst"),
-            IsAUIToFPInst                              = apiGetFunctionAddress(LLVM, "LLVMIsAUIToFPInst"),
-            IsAZExtInst                                = apiGetFunctionAddress(LLVM, "LLVMIsAZExtInst"),
-            IsAExtractValueInst                        = apiGetFunctionAddress(LLVM, "LLVMIsAExtractValueInst"),
-            IsALoadInst                                = apiGetFunctionAddress(LLVM, "LLVMIsALoadInst"),
-            IsAVAArgInst                               = apiGetFunctionAddress(LLVM, "LLVMIsAVAArgInst"),
-            IsAMDNode                                  = apiGetFunctionAddress(LLVM, "LLVMIsAMDNode"),
-            IsAMDString                                = apiGetFunctionAddress(LLVM, "LLVMIsAMDString"),
-            GetValueName                               = apiGetFunctionAddress(LLVM, "LLVMGetValueName"),
-            SetValueName                               = apiGetFunctionAddress(LLVM, "LLVMSetValueName"),
-            GetFirstUse                                = apiGetFunctionAddress(LLVM, "LLVMGetFirstUse"),
-            GetNextUse                                 = apiGetFunctionAddress(LLVM, "LLVMGetNextUse"),
-            GetUser                                    = apiGetFunctionAddress(LLVM, "LLVMGetUser"),
-            GetUsedValue                               = apiGetFunctionAddress(LLVM, "LLVMGetUsedValue"),
-            GetOperand                                 = apiGetFunctionAddress(LLVM, "LLVMGetOperand"),
-            GetOperandUse                              = apiGetFunctionAddress(LLVM, "LLVMGetOperandUse"),
-            SetOperand                                 = apiGetFunctionAddress(LLVM, "LLVMSetOperand"),
-            GetNumOperands                             = apiGetFunctionAddress(LLVM, "LLVMGetNumOperands"),
-            ConstNull                                  = apiGetFunctionAddress(LLVM, "LLVMConstNull"),
-            ConstAllOnes                               = apiGetFunctionAddress(LLVM, "LLVMConstAllOnes"),
-            GetUndef                                   = apiGetFunctionAddress(LLVM, "LLVMGetUndef"),
-            IsNull                                     = apiGetFunctionAddress(LLVM, "LLVMIsNull"),
-            ConstPointerNull                           = apiGetFunctionAddress(LLVM, "LLVMConstPointerNull"),
-            ConstInt                                   = apiGetFunctionAddress(LLVM, "LLVMConstInt"),
-            ConstIntOfArbitraryPrecision               = apiGetFunctionAddress(LLVM, "LLVMConstIntOfArbitraryPrecision"),
-            ConstIntOfString                           = apiGetFunctionAddress(LLVM, "LLVMConstIntOfString"),
-            ConstIntOfStringAndSize                    = apiGetFunctionAddress(LLVM, "LLVMConstIntOfStringAndSize"),
-            ConstReal                                  = apiGetFunctionAddress(LLVM, "LLVMConstReal"),
-            ConstRealOfString                          = apiGetFunctionAddress(LLVM, "LLVMConstRealOfString"),
-            ConstRealOfStringAndSize                   = apiGetFunctionAddress(LLVM, "LLVMConstRealOfStringAndSize"),
-            ConstIntGetZExtValue                       = apiGetFunctionAddress(LLVM, "LLVMConstIntGetZExtValue"),
-            ConstIntGetSExtValue                       = apiGetFunctionAddress(LLVM, "LLVMConstIntGetSExtValue"),
-            ConstRealGetDouble                         = apiGetFunctionAddress(LLVM, "LLVMConstRealGetDouble"),
-            ConstStringInContext                       = apiGetFunctionAddress(LLVM, "LLVMConstStringInContext"),
-            ConstString                                = apiGetFunctionAddress(LLVM, "LLVMConstString"),
-            IsConstantString                           = apiGetFunctionAddress(LLVM, "LLVMIsConstantString"),
-            GetAsString                                = apiGetFunctionAddress(LLVM, "LLVMGetAsString"),
-            ConstStructInContext                       = apiGetFunctionAddress(LLVM, "LLVMConstStructInContext"),
-            ConstStruct                                = apiGetFunctionAddress(LLVM, "LLVMConstStruct"),
-            ConstArray                                 = apiGetFunctionAddress(LLVM, "LLVMConstArray"),
-            ConstNamedStruct                           = apiGetFunctionAddress(LLVM, "LLVMConstNamedStruct"),
-            GetElementAsConstant                       = apiGetFunctionAddress(LLVM, "LLVMGetElementAsConstant"),
-            ConstVector                                = apiGetFunctionAddress(LLVM, "LLVMConstVector"),
-            GetConstOpcode                             = apiGetFunctionAddress(LLVM, "LLVMGetConstOpcode"),
-            AlignOf                                    = apiGetFunctionAddress(LLVM, "LLVMAlignOf"),
-            SizeOf                                     = apiGetFunctionAddress(LLVM, "LLVMSizeOf"),
-            ConstNeg                                   = apiGetFunctionAddress(LLVM, "LLVMConstNeg"),
-            ConstNSWNeg                                = apiGetFunctionAddress(LLVM, "LLVMConstNSWNeg"),
-            ConstNUWNeg                                = apiGetFunctionAddress(LLVM, "LLVMConstNUWNeg"),
-            ConstFNeg                                  = apiGetFunctionAddress(LLVM, "LLVMConstFNeg"),
-            ConstNot                                   = apiGetFunctionAddress(LLVM, "LLVMConstNot"),
-            ConstAdd                                   = apiGetFunctionAddress(LLVM, "LLVMConstAdd"),
-            ConstNSWAdd                                = apiGetFunctionAddress(LLVM, "LLVMConstNSWAdd"),
-            ConstNUWAdd                                = apiGetFunctionAddress(LLVM, "LLVMConstNUWAdd"),
-            ConstFAdd                                  = apiGetFunctionAddress(LLVM, "LLVMConstFAdd"),
-            ConstSub                                   = apiGetFunctionAddress(LLVM, "LLVMConstSub"),
-            ConstNSWSub                                = apiGetFunctionAddress(LLVM, "LLVMConstNSWSub"),
-            ConstNUWSub                                = apiGetFunctionAddress(LLVM, "LLVMConstNUWSub"),
-            ConstFSub                                  = apiGetFunctionAddress(LLVM, "LLVMConstFSub"),
-            ConstMul                                   = apiGetFunctionAddress(LLVM, "LLVMConstMul"),
-            ConstNSWMul                                = apiGetFunctionAddress(LLVM, "LLVMConstNSWMul"),
-            ConstNUWMul                                = apiGetFunctionAddress(LLVM, "LLVMConstNUWMul"),
-            ConstFMul                                  = apiGetFunctionAddress(LLVM, "LLVMConstFMul"),
-            ConstUDiv                                  = apiGetFunctionAddress(LLVM, "LLVMConstUDiv"),
-            ConstExactUDiv                             = apiGetFunctionAddress(LLVM, "LLVMConstExactUDiv"),
-            ConstSDiv                                  = apiGetFunctionAddress(LLVM, "LLVMConstSDiv"),
-            ConstExactSDiv                             = apiGetFunctionAddress(LLVM, "LLVMConstExactSDiv"),
-            ConstFDiv                                  = apiGetFunctionAddress(LLVM, "LLVMConstFDiv"),
-            ConstURem                                  = apiGetFunctionAddress(LLVM, "LLVMConstURem"),
-            ConstSRem                                  = apiGetFunctionAddress(LLVM, "LLVMConstSRem"),
-            ConstFRem                                  = apiGetFunctionAddress(LLVM, "LLVMConstFRem"),
-            ConstAnd                                   = apiGetFunctionAddress(LLVM, "LLVMConstAnd"),
-            ConstOr                                    = apiGetFunctionAddress(LLVM, "LLVMConstOr"),
-            ConstXor                                   = apiGetFunctionAddress(LLVM, "LLVMConstXor"),
-            ConstICmp                                  = apiGetFunctionAddress(LLVM, "LLVMConstICmp"),
-            ConstFCmp                                  = apiGetFunctionAddress(LLVM, "LLVMConstFCmp"),
-            ConstShl                                   = apiGetFunctionAddress(LLVM, "LLVMConstShl"),
-            ConstLShr                                  = apiGetFunctionAddress(LLVM, "LLVMConstLShr"),
-            ConstAShr                                  = apiGetFunctionAddress(LLVM, "LLVMConstAShr"),
-            ConstGEP                                   = apiGetFunctionAddress(LLVM, "LLVMConstGEP"),
+            IsAMemIntrinsic                            = ADDRESSES[148],
+            IsAMemCpyInst                              = ADDRESSES[149],
+            IsAMemMoveInst                             = ADDRESSES[150],
+            IsAMemSetInst                              = ADDRESSES[151],
+            IsACmpInst                                 = ADDRESSES[152],
+            IsAFCmpInst                                = ADDRESSES[153],
+            IsAICmpInst                                = ADDRESSES[154],
+            IsAExtractElementInst                      = ADDRESSES[155],
+            IsAGetElementPtrInst                       = ADDRESSES[156],
+            IsAInsertElementInst                       = ADDRESSES[157],
+            IsAInsertValueInst                         = ADDRESSES[158],
+            IsALandingPadInst                          = ADDRESSES[159],
+            IsAPHINode                                 = ADDRESSES[160],
+            IsASelectInst                              = ADDRESSES[161],
+            IsAShuffleVectorInst                       = ADDRESSES[162],
+            IsAStoreInst                               = ADDRESSES[163],
+            IsABranchInst                              = ADDRESSES[164],
+            IsAIndirectBrInst                          = ADDRESSES[165],
+            IsAInvokeInst                              = ADDRESSES[166],
+            IsAReturnInst                              = ADDRESSES[167],
+            IsASwitchInst                              = ADDRESSES[168],
+            IsAUnreachableInst                         = ADDRESSES[169],
+            IsAResumeInst                              = ADDRESSES[170],
+            IsACleanupReturnInst                       = ADDRESSES[171],
+            IsACatchReturnInst                         = ADDRESSES[172],
+            IsAFuncletPadInst                          = ADDRESSES[173],
+            IsACatchPadInst                            = ADDRESSES[174],
+            IsACleanupPadInst                          = ADDRESSES[175],
+            IsAUnaryInstruction                        = ADDRESSES[176],
+            IsAAllocaInst                              = ADDRESSES[177],
+            IsACastInst                                = ADDRESSES[178],
+            IsAAddrSpaceCastInst                       = ADDRESSES[179],
+            IsABitCastInst                             = ADDRESSES[180],
+            IsAFPExtInst                               = ADDRESSES[181],
+            IsAFPToSIInst                              = ADDRESSES[182],
+            IsAFPToUIInst                              = ADDRESSES[183],
+            IsAFPTruncInst                             = ADDRESSES[184],
+            IsAIntToPtrInst                            = ADDRESSES[185],
+            IsAPtrToIntInst                            = ADDRESSES[186],
+            IsASExtInst                                = ADDRESSES[187],
+            IsASIToFPInst                              = ADDRESSES[188],
+            IsATruncInst                               = ADDRESSES[189],
+            IsAUIToFPInst                              = ADDRESSES[190],
+            IsAZExtInst                                = ADDRESSES[191],
+            IsAExtractValueInst                        = ADDRESSES[192],
+            IsALoadInst                                = ADDRESSES[193],
+            IsAVAArgInst                               = ADDRESSES[194],
+            IsAMDNode                                  = ADDRESSES[195],
+            IsAMDString                                = ADDRESSES[196],
+            GetValueName                               = ADDRESSES[197],
+            SetValueName                               = ADDRESSES[198],
+            GetFirstUse                                = ADDRESSES[199],
+            GetNextUse                                 = ADDRESSES[200],
+            GetUser                                    = ADDRESSES[201],
+            GetUsedValue                               = ADDRESSES[202],
+            GetOperand                                 = ADDRESSES[203],
+            GetOperandUse                              = ADDRESSES[204],
+            SetOperand                                 = ADDRESSES[205],
+            GetNumOperands                             = ADDRESSES[206],
+            ConstNull                                  = ADDRESSES[207],
+            ConstAllOnes                               = ADDRESSES[208],
+            GetUndef                                   = ADDRESSES[209],
+            IsNull                                     = ADDRESSES[210],
+            ConstPointerNull                           = ADDRESSES[211],
+            ConstInt                                   = ADDRESSES[212],
+            ConstIntOfArbitraryPrecision               = ADDRESSES[213],
+            ConstIntOfString                           = ADDRESSES[214],
+            ConstIntOfStringAndSize                    = ADDRESSES[215],
+            ConstReal                                  = ADDRESSES[216],
+            ConstRealOfString                          = ADDRESSES[217],
+            ConstRealOfStringAndSize                   = ADDRESSES[218],
+            ConstIntGetZExtValue                       = ADDRESSES[219],
+            ConstIntGetSExtValue                       = ADDRESSES[220],
+            ConstRealGetDouble                         = ADDRESSES[221],
+            ConstStringInContext                       = ADDRESSES[222],
+            ConstString                                = ADDRESSES[223],
+            IsConstantString                           = ADDRESSES[224],
+            GetAsString                                = ADDRESSES[225],
+            ConstStructInContext                       = ADDRESSES[226],
+            ConstStruct                                = ADDRESSES[227],
+            ConstArray                                 = ADDRESSES[228],
+            ConstNamedStruct                           = ADDRESSES[229],
+            GetElementAsConstant                       = ADDRESSES[230],
+            ConstVector                                = ADDRESSES[231],
+            GetConstOpcode                             = ADDRESSES[232],
+            AlignOf                                    = ADDRESSES[233],
+            SizeOf                                     = ADDRESSES[234],
+            ConstNeg                                   = ADDRESSES[235],
+            ConstNSWNeg                                = ADDRESSES[236],
+            ConstNUWNeg                                = ADDRESSES[237],
+            ConstFNeg                                  = ADDRESSES[238],
+            ConstNot                                   = ADDRESSES[239],
+            ConstAdd                                   = ADDRESSES[240],
+            ConstNSWAdd                                = ADDRESSES[241],
+            ConstNUWAdd                                = ADDRESSES[242],
+            ConstFAdd                                  = ADDRESSES[243],
+            ConstSub                                   = ADDRESSES[244],
+            ConstNSWSub                                = ADDRESSES[245],
+            ConstNUWSub                                = ADDRESSES[246],
+            ConstFSub                                  = ADDRESSES[247],
+            ConstMul                                   = ADDRESSES[248],
+            ConstNSWMul                                = ADDRESSES[249],
+            ConstNUWMul                                = ADDRESSES[250],
+            ConstFMul                                  = ADDRESSES[251],
+            ConstUDiv                                  = ADDRESSES[252],
+            ConstExactUDiv                             = ADDRESSES[253],
+            ConstSDiv                                  = ADDRESSES[254],
+            ConstExactSDiv                             = ADDRESSES[255],
+            ConstFDiv                                  = ADDRESSES[256],
+            ConstURem                                  = ADDRESSES[257],
+            ConstSRem                                  = ADDRESSES[258],
+            ConstFRem                                  = ADDRESSES[259],
+            ConstAnd                                   = ADDRESSES[260],
+            ConstOr                                    = ADDRESSES[261],
+            ConstXor                                   = ADDRESSES[262],
+            ConstICmp                                  = ADDRESSES[263],
+            ConstFCmp                                  = ADDRESSES[264],
+            ConstShl                                   = ADDRESSES[265],
+            ConstLShr                                  = ADDRESSES[266],
+            ConstAShr                                  = ADDRESSES[267],
+            ConstGEP                                   = ADDRESSES[268],
             ConstGEP2                                  = LLVM.getFunctionAddress("LLVMConstGEP2"),
-            ConstInBoundsGEP                           = apiGetFunctionAddress(LLVM, "LLVMConstInBoundsGEP"),
+            ConstInBoundsGEP                           = ADDRESSES[269],
             ConstInBoundsGEP2                          = LLVM.getFunctionAddress("LLVMConstInBoundsGEP2"),
-            ConstTrunc                                 = apiGetFunctionAddress(LLVM, "LLVMConstTrunc"),
-            ConstSExt                                  = apiGetFunctionAddress(LLVM, "LLVMConstSExt"),
-            ConstZExt                                  = apiGetFunctionAddress(LLVM, "LLVMConstZExt"),
-            ConstFPTrunc                               = apiGetFunctionAddress(LLVM, "LLVMConstFPTrunc"),
-            ConstFPExt                                 = apiGetFunctionAddress(LLVM, "LLVMConstFPExt"),
-            ConstUIToFP                                = apiGetFunctionAddress(LLVM, "LLVMConstUIToFP"),
-            ConstSIToFP                                = apiGetFunctionAddress(LLVM, "LLVMConstSIToFP"),
-            ConstFPToUI                                = apiGetFunctionAddress(LLVM, "LLVMConstFPToUI"),
-            ConstFPToSI                                = apiGetFunctionAddress(LLVM, "LLVMConstFPToSI"),
-            ConstPtrToInt                              = apiGetFunctionAddress(LLVM, "LLVMConstPtrToInt"),
-            ConstIntToPtr                              = apiGetFunctionAddress(LLVM, "LLVMConstIntToPtr"),
-            ConstBitCast                               = apiGetFunctionAddress(LLVM, "LLVMConstBitCast"),
-            ConstAddrSpaceCast                         = apiGetFunctionAddress(LLVM, "LLVMConstAddrSpaceCast"),
-            ConstZExtOrBitCast                         = apiGetFunctionAddress(LLVM, "LLVMConstZExtOrBitCast"),
-            ConstSExtOrBitCast                         = apiGetFunctionAddress(LLVM, "LLVMConstSExtOrBitCast"),
-            ConstTruncOrBitCast                        = apiGetFunctionAddress(LLVM, "LLVMConstTruncOrBitCast"),
-            ConstPointerCast                           = apiGetFunctionAddress(LLVM, "LLVMConstPointerCast"),
-            ConstIntCast                               = apiGetFunctionAddress(LLVM, "LLVMConstIntCast"),
-            ConstFPCast                                = apiGetFunctionAddress(LLVM, "LLVMConstFPCast"),
-            ConstSelect                                = apiGetFunctionAddress(LLVM, "LLVMConstSelect"),
-            ConstExtractElement                        = apiGetFunctionAddress(LLVM, "LLVMConstExtractElement"),
-            ConstInsertElement                         = apiGetFunctionAddress(LLVM, "LLVMConstInsertElement"),
-            ConstShuffleVector                         = apiGetFunctionAddress(LLVM, "LLVMConstShuffleVector"),
-            ConstExtractValue                          = apiGetFunctionAddress(LLVM, "LLVMConstExtractValue"),
-            ConstInsertValue                           = apiGetFunctionAddress(LLVM, "LLVMConstInsertValue"),
+            ConstTrunc                                 = ADDRESSES[270],
+            ConstSExt                                  = ADDRESSES[271],
+            ConstZExt                                  = ADDRESSES[272],
+            ConstFPTrunc                               = ADDRESSES[273],
+            ConstFPExt                                 = ADDRESSES[274],
+            ConstUIToFP                                = ADDRESSES[275],
+            ConstSIToFP                                = ADDRESSES[276],
+            ConstFPToUI                                = ADDRESSES[277],
+            ConstFPToSI                                = ADDRESSES[278],
+            ConstPtrToInt                              = ADDRESSES[279],
+            ConstIntToPtr                              = ADDRESSES[280],
+            ConstBitCast                               = ADDRESSES[281],
+            ConstAddrSpaceCast                         = ADDRESSES[282],
+            ConstZExtOrBitCast                         = ADDRESSES[283],
+            ConstSExtOrBitCast                         = ADDRESSES[284],
+            ConstTruncOrBitCast                        = ADDRESSES[285],
+            ConstPointerCast                           = ADDRESSES[286],
+            ConstIntCast                               = ADDRESSES[287],
+            ConstFPCast                                = ADDRESSES[288],
+            ConstSelect                                = ADDRESSES[289],
+            ConstExtractElement                        = ADDRESSES[290],
+            ConstInsertElement                         = ADDRESSES[291],
+            ConstShuffleVector                         = ADDRESSES[292],
+            ConstExtractValue                          = ADDRESSES[293],
+            ConstInsertValue                           = ADDRESSES[294],
             BlockAddress                               = LLVM.getFunctionAddress("LLVMBlockAddress"),
-            ConstInlineAsm                             = apiGetFunctionAddress(LLVM, "LLVMConstInlineAsm"),
-            GetGlobalParent                            = apiGetFunctionAddress(LLVM, "LLVMGetGlobalParent"),
-            IsDeclaration                              = apiGetFunctionAddress(LLVM, "LLVMIsDeclaration"),
-            GetLinkage                                 = apiGetFunctionAddress(LLVM, "LLVMGetLinkage"),
-            SetLinkage                                 = apiGetFunctionAddress(LLVM, "LLVMSetLinkage"),
-            GetSection                                 = apiGetFunctionAddress(LLVM, "LLVMGetSection"),
-            SetSection                                 = apiGetFunctionAddress(LLVM, "LLVMSetSection"),
-            GetVisibility                              = apiGetFunctionAddress(LLVM, "LLVMGetVisibility"),
-            SetVisibility                              = apiGetFunctionAddress(LLVM, "LLVMSetVisibility"),
-            GetDLLStorageClass                         = apiGetFunctionAddress(LLVM, "LLVMGetDLLStorageClass"),
-            SetDLLStorageClass                         = apiGetFunctionAddress(LLVM, "LLVMSetDLLStorageClass"),
+            ConstInlineAsm                             = ADDRESSES[295],
+            GetGlobalParent                            = ADDRESSES[296],
+            IsDeclaration                              = ADDRESSES[297],
+            GetLinkage                                 = ADDRESSES[298],
+            SetLinkage                                 = ADDRESSES[299],
+            GetSection                                 = ADDRESSES[300],
+            SetSection                                 = ADDRESSES[301],
+            GetVisibility                              = ADDRESSES[302],
+            SetVisibility                              = ADDRESSES[303],
+            GetDLLStorageClass                         = ADDRESSES[304],
+            SetDLLStorageClass                         = ADDRESSES[305],
             GetUnnamedAddress                          = LLVM.getFunctionAddress("LLVMGetUnnamedAddress"),
             SetUnnamedAddress                          = LLVM.getFunctionAddress("LLVMSetUnnamedAddress"),
             GlobalGetValueType                         = LLVM.getFunctionAddress("LLVMGlobalGetValueType"),
-            HasUnnamedAddr                             = apiGetFunctionAddress(LLVM, "LLVMHasUnnamedAddr"),
-            SetUnnamedAddr                             = apiGetFunctionAddress(LLVM, "LLVMSetUnnamedAddr"),
-            GetAlignment                               = apiGetFunctionAddress(LLVM, "LLVMGetAlignment"),
-            SetAlignment                               = apiGetFunctionAddress(LLVM, "LLVMSetAlignment"),
+            HasUnnamedAddr                             = ADDRESSES[306],
+            SetUnnamedAddr                             = ADDRESSES[307],
+            GetAlignment                               = ADDRESSES[308],
+            SetAlignment                               = ADDRESSES[309],
             GlobalSetMetadata                          = LLVM.getFunctionAddress("LLVMGlobalSetMetadata"),
             GlobalEraseMetadata                        = LLVM.getFunctionAddress("LLVMGlobalEraseMetadata"),
             GlobalClearMetadata                        = LLVM.getFunctionAddress("LLVMGlobalClearMetadata"),
@@ -1067,25 +1152,25 @@ public class LLVMCore {
             DisposeValueMetadataEntries                = LLVM.getFunctionAddress("LLVMDisposeValueMetadataEntries"),
             ValueMetadataEntriesGetKind                = LLVM.getFunctionAddress("LLVMValueMetadataEntriesGetKind"),
             ValueMetadataEntriesGetMetadata            = LLVM.getFunctionAddress("LLVMValueMetadataEntriesGetMetadata"),
-            AddGlobal                                  = apiGetFunctionAddress(LLVM, "LLVMAddGlobal"),
-            AddGlobalInAddressSpace                    = apiGetFunctionAddress(LLVM, "LLVMAddGlobalInAddressSpace"),
-            GetNamedGlobal                             = apiGetFunctionAddress(LLVM, "LLVMGetNamedGlobal"),
-            GetFirstGlobal                             = apiGetFunctionAddress(LLVM, "LLVMGetFirstGlobal"),
-            GetLastGlobal                              = apiGetFunctionAddress(LLVM, "LLVMGetLastGlobal"),
-            GetNextGlobal                              = apiGetFunctionAddress(LLVM, "LLVMGetNextGlobal"),
-            GetPreviousGlobal                          = apiGetFunctionAddress(LLVM, "LLVMGetPreviousGlobal"),
-            DeleteGlobal                               = apiGetFunctionAddress(LLVM, "LLVMDeleteGlobal"),
-            GetInitializer                             = apiGetFunctionAddress(LLVM, "LLVMGetInitializer"),
-            SetInitializer                             = apiGetFunctionAddress(LLVM, "LLVMSetInitializer"),
-            IsThreadLocal                              = apiGetFunctionAddress(LLVM, "LLVMIsThreadLocal"),
-            SetThreadLocal                             = apiGetFunctionAddress(LLVM, "LLVMSetThreadLocal"),
-            IsGlobalConstant                           = apiGetFunctionAddress(LLVM, "LLVMIsGlobalConstant"),
-            SetGlobalConstant                          = apiGetFunctionAddress(LLVM, "LLVMSetGlobalConstant"),
-            GetThreadLocalMode                         = apiGetFunctionAddress(LLVM, "LLVMGetThreadLocalMode"),
-            SetThreadLocalMode                         = apiGetFunctionAddress(LLVM, "LLVMSetThreadLocalMode"),
-            IsExternallyInitialized                    = apiGetFunctionAddress(LLVM, "LLVMIsExternallyInitialized"),
-            SetExternallyInitialized                   = apiGetFunctionAddress(LLVM, "LLVMSetExternallyInitialized"),
-            AddAlias                                   = apiGetFunctionAddress(LLVM, "LLVMAddAlias"),
+            AddGlobal                                  = ADDRESSES[310],
+            AddGlobalInAddressSpace                    = ADDRESSES[311],
+            GetNamedGlobal                             = ADDRESSES[312],
+            GetFirstGlobal                             = ADDRESSES[313],
+            GetLastGlobal                              = ADDRESSES[314],
+            GetNextGlobal                              = ADDRESSES[315],
+            GetPreviousGlobal                          = ADDRESSES[316],
+            DeleteGlobal                               = ADDRESSES[317],
+            GetInitializer                             = ADDRESSES[318],
+            SetInitializer                             = ADDRESSES[319],
+            IsThreadLocal                              = ADDRESSES[320],
+            SetThreadLocal                             = ADDRESSES[321],
+            IsGlobalConstant                           = ADDRESSES[322],
+            SetGlobalConstant                          = ADDRESSES[323],
+            GetThreadLocalMode                         = ADDRESSES[324],
+            SetThreadLocalMode                         = ADDRESSES[325],
+            IsExternallyInitialized                    = ADDRESSES[326],
+            SetExternallyInitialized                   = ADDRESSES[327],
+            AddAlias                                   = ADDRESSES[328],
             GetNamedGlobalAlias                        = LLVM.getFunctionAddress("LLVMGetNamedGlobalAlias"),
             GetFirstGlobalAlias                        = LLVM.getFunctionAddress("LLVMGetFirstGlobalAlias"),
             GetLastGlobalAlias                         = LLVM.getFunctionAddress("LLVMGetLastGlobalAlias"),
@@ -1093,156 +1178,156 @@ public class LLVMCore {
             GetPreviousGlobalAlias                     = LLVM.getFunctionAddress("LLVMGetPreviousGlobalAlias"),
             AliasGetAliasee                            = LLVM.getFunctionAddress("LLVMAliasGetAliasee"),
             AliasSetAliasee                            = LLVM.getFunctionAddress("LLVMAliasSetAliasee"),
-            DeleteFunction                             = apiGetFunctionAddress(LLVM, "LLVMDeleteFunction"),
-            HasPersonalityFn                           = apiGetFunctionAddress(LLVM, "LLVMHasPersonalityFn"),
-            GetPersonalityFn                           = apiGetFunctionAddress(LLVM, "LLVMGetPersonalityFn"),
-            SetPersonalityFn                           = apiGetFunctionAddress(LLVM, "LLVMSetPersonalityFn"),
-            GetIntrinsicID                             = apiGetFunctionAddress(LLVM, "LLVMGetIntrinsicID"),
+            DeleteFunction                             = ADDRESSES[329],
+            HasPersonalityFn                           = ADDRESSES[330],
+            GetPersonalityFn                           = ADDRESSES[331],
+            SetPersonalityFn                           = ADDRESSES[332],
+            GetIntrinsicID                             = ADDRESSES[333],
             GetIntrinsicDeclaration                    = LLVM.getFunctionAddress("LLVMGetIntrinsicDeclaration"),
             IntrinsicGetType                           = LLVM.getFunctionAddress("LLVMIntrinsicGetType"),
             IntrinsicGetName                           = LLVM.getFunctionAddress("LLVMIntrinsicGetName"),
             IntrinsicCopyOverloadedName                = LLVM.getFunctionAddress("LLVMIntrinsicCopyOverloadedName"),
             IntrinsicIsOverloaded                      = LLVM.getFunctionAddress("LLVMIntrinsicIsOverloaded"),
-            GetFunctionCallConv                        = apiGetFunctionAddress(LLVM, "LLVMGetFunctionCallConv"),
-            SetFunctionCallConv                        = apiGetFunctionAddress(LLVM, "LLVMSetFunctionCallConv"),
-            GetGC                                      = apiGetFunctionAddress(LLVM, "LLVMGetGC"),
-            SetGC                                      = apiGetFunctionAddress(LLVM, "LLVMSetGC"),
-            AddAttributeAtIndex                        = apiGetFunctionAddress(LLVM, "LLVMAddAttributeAtIndex"),
-            GetAttributeCountAtIndex                   = apiGetFunctionAddress(LLVM, "LLVMGetAttributeCountAtIndex"),
-            GetAttributesAtIndex                       = apiGetFunctionAddress(LLVM, "LLVMGetAttributesAtIndex"),
-            GetEnumAttributeAtIndex                    = apiGetFunctionAddress(LLVM, "LLVMGetEnumAttributeAtIndex"),
-            GetStringAttributeAtIndex                  = apiGetFunctionAddress(LLVM, "LLVMGetStringAttributeAtIndex"),
-            RemoveEnumAttributeAtIndex                 = apiGetFunctionAddress(LLVM, "LLVMRemoveEnumAttributeAtIndex"),
-            RemoveStringAttributeAtIndex               = apiGetFunctionAddress(LLVM, "LLVMRemoveStringAttributeAtIndex"),
-            AddTargetDependentFunctionAttr             = apiGetFunctionAddress(LLVM, "LLVMAddTargetDependentFunctionAttr"),
-            CountParams                                = apiGetFunctionAddress(LLVM, "LLVMCountParams"),
-            GetParams                                  = apiGetFunctionAddress(LLVM, "LLVMGetParams"),
-            GetParam                                   = apiGetFunctionAddress(LLVM, "LLVMGetParam"),
-            GetParamParent                             = apiGetFunctionAddress(LLVM, "LLVMGetParamParent"),
-            GetFirstParam                              = apiGetFunctionAddress(LLVM, "LLVMGetFirstParam"),
-            GetLastParam                               = apiGetFunctionAddress(LLVM, "LLVMGetLastParam"),
-            GetNextParam                               = apiGetFunctionAddress(LLVM, "LLVMGetNextParam"),
-            GetPreviousParam                           = apiGetFunctionAddress(LLVM, "LLVMGetPreviousParam"),
-            SetParamAlignment                          = apiGetFunctionAddress(LLVM, "LLVMSetParamAlignment"),
-            MDStringInContext                          = apiGetFunctionAddress(LLVM, "LLVMMDStringInContext"),
-            MDString                                   = apiGetFunctionAddress(LLVM, "LLVMMDString"),
-            MDNodeInContext                            = apiGetFunctionAddress(LLVM, "LLVMMDNodeInContext"),
-            MDNode                                     = apiGetFunctionAddress(LLVM, "LLVMMDNode"),
-            MetadataAsValue                            = apiGetFunctionAddress(LLVM, "LLVMMetadataAsValue"),
-            ValueAsMetadata                            = apiGetFunctionAddress(LLVM, "LLVMValueAsMetadata"),
-            GetMDString                                = apiGetFunctionAddress(LLVM, "LLVMGetMDString"),
-            GetMDNodeNumOperands                       = apiGetFunctionAddress(LLVM, "LLVMGetMDNodeNumOperands"),
-            GetMDNodeOperands                          = apiGetFunctionAddress(LLVM, "LLVMGetMDNodeOperands"),
-            BasicBlockAsValue                          = apiGetFunctionAddress(LLVM, "LLVMBasicBlockAsValue"),
-            ValueIsBasicBlock                          = apiGetFunctionAddress(LLVM, "LLVMValueIsBasicBlock"),
-            ValueAsBasicBlock                          = apiGetFunctionAddress(LLVM, "LLVMValueAsBasicBlock"),
-            GetBasicBlockName                          = apiGetFunctionAddress(LLVM, "LLVMGetBasicBlockName"),
-            GetBasicBlockParent                        = apiGetFunctionAddress(LLVM, "LLVMGetBasicBlockParent"),
-            GetBasicBlockTerminator                    = apiGetFunctionAddress(LLVM, "LLVMGetBasicBlockTerminator"),
-            CountBasicBlocks                           = apiGetFunctionAddress(LLVM, "LLVMCountBasicBlocks"),
-            GetBasicBlocks                             = apiGetFunctionAddress(LLVM, "LLVMGetBasicBlocks"),
-            GetFirstBasicBlock                         = apiGetFunctionAddress(LLVM, "LLVMGetFirstBasicBlock"),
-            GetLastBasicBlock                          = apiGetFunctionAddress(LLVM, "LLVMGetLastBasicBlock"),
-            GetNextBasicBlock                          = apiGetFunctionAddress(LLVM, "LLVMGetNextBasicBlock"),
-            GetPreviousBasicBlock                      = apiGetFunctionAddress(LLVM, "LLVMGetPreviousBasicBlock"),
-            GetEntryBasicBlock                         = apiGetFunctionAddress(LLVM, "LLVMGetEntryBasicBlock"),
+            GetFunctionCallConv                        = ADDRESSES[334],
+            SetFunctionCallConv                        = ADDRESSES[335],
+            GetGC                                      = ADDRESSES[336],
+            SetGC                                      = ADDRESSES[337],
+            AddAttributeAtIndex                        = ADDRESSES[338],
+            GetAttributeCountAtIndex                   = ADDRESSES[339],
+            GetAttributesAtIndex                       = ADDRESSES[340],
+            GetEnumAttributeAtIndex                    = ADDRESSES[341],
+            GetStringAttributeAtIndex                  = ADDRESSES[342],
+            RemoveEnumAttributeAtIndex                 = ADDRESSES[343],
+            RemoveStringAttributeAtIndex               = ADDRESSES[344],
+            AddTargetDependentFunctionAttr             = ADDRESSES[345],
+            CountParams                                = ADDRESSES[346],
+            GetParams                                  = ADDRESSES[347],
+            GetParam                                   = ADDRESSES[348],
+            GetParamParent                             = ADDRESSES[349],
+            GetFirstParam                              = ADDRESSES[350],
+            GetLastParam                               = ADDRESSES[351],
+            GetNextParam                               = ADDRESSES[352],
+            GetPreviousParam                           = ADDRESSES[353],
+            SetParamAlignment                          = ADDRESSES[354],
+            MDStringInContext                          = ADDRESSES[355],
+            MDString                                   = ADDRESSES[356],
+            MDNodeInContext                            = ADDRESSES[357],
+            MDNode                                     = ADDRESSES[358],
+            MetadataAsValue                            = ADDRESSES[359],
+            ValueAsMetadata                            = ADDRESSES[360],
+            GetMDString                                = ADDRESSES[361],
+            GetMDNodeNumOperands                       = ADDRESSES[362],
+            GetMDNodeOperands                          = ADDRESSES[363],
+            BasicBlockAsValue                          = ADDRESSES[364],
+            ValueIsBasicBlock                          = ADDRESSES[365],
+            ValueAsBasicBlock                          = ADDRESSES[366],
+            GetBasicBlockName                          = ADDRESSES[367],
+            GetBasicBlockParent                        = ADDRESSES[368],
+            GetBasicBlockTerminator                    = ADDRESSES[369],
+            CountBasicBlocks                           = ADDRESSES[370],
+            GetBasicBlocks                             = ADDRESSES[371],
+            GetFirstBasicBlock                         = ADDRESSES[372],
+            GetLastBasicBlock                          = ADDRESSES[373],
+            GetNextBasicBlock                          = ADDRESSES[374],
+            GetPreviousBasicBlock                      = ADDRESSES[375],
+            GetEntryBasicBlock                         = ADDRESSES[376],
             CreateBasicBlockInContext                  = LLVM.getFunctionAddress("LLVMCreateBasicBlockInContext"),
-            AppendBasicBlockInContext                  = apiGetFunctionAddress(LLVM, "LLVMAppendBasicBlockInContext"),
-            AppendBasicBlock                           = apiGetFunctionAddress(LLVM, "LLVMAppendBasicBlock"),
-            InsertBasicBlockInContext                  = apiGetFunctionAddress(LLVM, "LLVMInsertBasicBlockInContext"),
-            InsertBasicBlock                           = apiGetFunctionAddress(LLVM, "LLVMInsertBasicBlock"),
-            DeleteBasicBlock                           = apiGetFunctionAddress(LLVM, "LLVMDeleteBasicBlock"),
-            RemoveBasicBlockFromParent                 = apiGetFunctionAddress(LLVM, "LLVMRemoveBasicBlockFromParent"),
-            MoveBasicBlockBefore                       = apiGetFunctionAddress(LLVM, "LLVMMoveBasicBlockBefore"),
-            MoveBasicBlockAfter                        = apiGetFunctionAddress(LLVM, "LLVMMoveBasicBlockAfter"),
-            GetFirstInstruction                        = apiGetFunctionAddress(LLVM, "LLVMGetFirstInstruction"),
-            GetLastInstruction                         = apiGetFunctionAddress(LLVM, "LLVMGetLastInstruction"),
-            HasMetadata                                = apiGetFunctionAddress(LLVM, "LLVMHasMetadata"),
-            GetMetadata                                = apiGetFunctionAddress(LLVM, "LLVMGetMetadata"),
-            SetMetadata                                = apiGetFunctionAddress(LLVM, "LLVMSetMetadata"),
+            AppendBasicBlockInContext                  = ADDRESSES[377],
+            AppendBasicBlock                           = ADDRESSES[378],
+            InsertBasicBlockInContext                  = ADDRESSES[379],
+            InsertBasicBlock                           = ADDRESSES[380],
+            DeleteBasicBlock                           = ADDRESSES[381],
+            RemoveBasicBlockFromParent                 = ADDRESSES[382],
+            MoveBasicBlockBefore                       = ADDRESSES[383],
+            MoveBasicBlockAfter                        = ADDRESSES[384],
+            GetFirstInstruction                        = ADDRESSES[385],
+            GetLastInstruction                         = ADDRESSES[386],
+            HasMetadata                                = ADDRESSES[387],
+            GetMetadata                                = ADDRESSES[388],
+            SetMetadata                                = ADDRESSES[389],
             InstructionGetAllMetadataOtherThanDebugLoc = LLVM.getFunctionAddress("LLVMInstructionGetAllMetadataOtherThanDebugLoc"),
-            GetInstructionParent                       = apiGetFunctionAddress(LLVM, "LLVMGetInstructionParent"),
-            GetNextInstruction                         = apiGetFunctionAddress(LLVM, "LLVMGetNextInstruction"),
-            GetPreviousInstruction                     = apiGetFunctionAddress(LLVM, "LLVMGetPreviousInstruction"),
-            InstructionRemoveFromParent                = apiGetFunctionAddress(LLVM, "LLVMInstructionRemoveFromParent"),
-            InstructionEraseFromParent                 = apiGetFunctionAddress(LLVM, "LLVMInstructionEraseFromParent"),
-            GetInstructionOpcode                       = apiGetFunctionAddress(LLVM, "LLVMGetInstructionOpcode"),
-            GetICmpPredicate                           = apiGetFunctionAddress(LLVM, "LLVMGetICmpPredicate"),
-            GetFCmpPredicate                           = apiGetFunctionAddress(LLVM, "LLVMGetFCmpPredicate"),
-            InstructionClone                           = apiGetFunctionAddress(LLVM, "LLVMInstructionClone"),
-            IsATerminatorInst                          = apiGetFunctionAddress(LLVM, "LLVMIsATerminatorInst"),
-            GetNumArgOperands                          = apiGetFunctionAddress(LLVM, "LLVMGetNumArgOperands"),
-            SetInstructionCallConv                     = apiGetFunctionAddress(LLVM, "LLVMSetInstructionCallConv"),
-            GetInstructionCallConv                     = apiGetFunctionAddress(LLVM, "LLVMGetInstructionCallConv"),
-            SetInstrParamAlignment                     = apiGetFunctionAddress(LLVM, "LLVMSetInstrParamAlignment"),
-            AddCallSiteAttribute                       = apiGetFunctionAddress(LLVM, "LLVMAddCallSiteAttribute"),
-            GetCallSiteAttributeCount                  = apiGetFunctionAddress(LLVM, "LLVMGetCallSiteAttributeCount"),
-            GetCallSiteAttributes                      = apiGetFunctionAddress(LLVM, "LLVMGetCallSiteAttributes"),
-            GetCallSiteEnumAttribute                   = apiGetFunctionAddress(LLVM, "LLVMGetCallSiteEnumAttribute"),
-            GetCallSiteStringAttribute                 = apiGetFunctionAddress(LLVM, "LLVMGetCallSiteStringAttribute"),
-            RemoveCallSiteEnumAttribute                = apiGetFunctionAddress(LLVM, "LLVMRemoveCallSiteEnumAttribute"),
-            RemoveCallSiteStringAttribute              = apiGetFunctionAddress(LLVM, "LLVMRemoveCallSiteStringAttribute"),
+            GetInstructionParent                       = ADDRESSES[390],
+            GetNextInstruction                         = ADDRESSES[391],
+            GetPreviousInstruction                     = ADDRESSES[392],
+            InstructionRemoveFromParent                = ADDRESSES[393],
+            InstructionEraseFromParent                 = ADDRESSES[394],
+            GetInstructionOpcode                       = ADDRESSES[395],
+            GetICmpPredicate                           = ADDRESSES[396],
+            GetFCmpPredicate                           = ADDRESSES[397],
+            InstructionClone                           = ADDRESSES[398],
+            IsATerminatorInst                          = ADDRESSES[399],
+            GetNumArgOperands                          = ADDRESSES[400],
+            SetInstructionCallConv                     = ADDRESSES[401],
+            GetInstructionCallConv                     = ADDRESSES[402],
+            SetInstrParamAlignment                     = ADDRESSES[403],
+            AddCallSiteAttribute                       = ADDRESSES[404],
+            GetCallSiteAttributeCount                  = ADDRESSES[405],
+            GetCallSiteAttributes                      = ADDRESSES[406],
+            GetCallSiteEnumAttribute                   = ADDRESSES[407],
+            GetCallSiteStringAttribute                 = ADDRESSES[408],
+            RemoveCallSiteEnumAttribute                = ADDRESSES[409],
+            RemoveCallSiteStringAttribute              = ADDRESSES[410],
             GetCalledFunctionType                      = LLVM.getFunctionAddress("LLVMGetCalledFunctionType"),
-            GetCalledValue                             = apiGetFunctionAddress(LLVM, "LLVMGetCalledValue"),
-            IsTailCall                                 = apiGetFunctionAddress(LLVM, "LLVMIsTailCall"),
-            SetTailCall                                = apiGetFunctionAddress(LLVM, "LLVMSetTailCall"),
-            GetNormalDest                              = apiGetFunctionAddress(LLVM, "LLVMGetNormalDest"),
-            GetUnwindDest                              = apiGetFunctionAddress(LLVM, "LLVMGetUnwindDest"),
-            SetNormalDest                              = apiGetFunctionAddress(LLVM, "LLVMSetNormalDest"),
-            SetUnwindDest                              = apiGetFunctionAddress(LLVM, "LLVMSetUnwindDest"),
-            GetNumSuccessors                           = apiGetFunctionAddress(LLVM, "LLVMGetNumSuccessors"),
-            GetSuccessor                               = apiGetFunctionAddress(LLVM, "LLVMGetSuccessor"),
-            SetSuccessor                               = apiGetFunctionAddress(LLVM, "LLVMSetSuccessor"),
-            IsConditional                              = apiGetFunctionAddress(LLVM, "LLVMIsConditional"),
-            GetCondition                               = apiGetFunctionAddress(LLVM, "LLVMGetCondition"),
-            SetCondition                               = apiGetFunctionAddress(LLVM, "LLVMSetCondition"),
-            GetSwitchDefaultDest                       = apiGetFunctionAddress(LLVM, "LLVMGetSwitchDefaultDest"),
-            GetAllocatedType                           = apiGetFunctionAddress(LLVM, "LLVMGetAllocatedType"),
-            IsInBounds                                 = apiGetFunctionAddress(LLVM, "LLVMIsInBounds"),
-            SetIsInBounds                              = apiGetFunctionAddress(LLVM, "LLVMSetIsInBounds"),
-            AddIncoming                                = apiGetFunctionAddress(LLVM, "LLVMAddIncoming"),
-            CountIncoming                              = apiGetFunctionAddress(LLVM, "LLVMCountIncoming"),
-            GetIncomingValue                           = apiGetFunctionAddress(LLVM, "LLVMGetIncomingValue"),
-            GetIncomingBlock                           = apiGetFunctionAddress(LLVM, "LLVMGetIncomingBlock"),
-            GetNumIndices                              = apiGetFunctionAddress(LLVM, "LLVMGetNumIndices"),
-            GetIndices                                 = apiGetFunctionAddress(LLVM, "LLVMGetIndices"),
-            CreateBuilderInContext                     = apiGetFunctionAddress(LLVM, "LLVMCreateBuilderInContext"),
-            CreateBuilder                              = apiGetFunctionAddress(LLVM, "LLVMCreateBuilder"),
-            PositionBuilder                            = apiGetFunctionAddress(LLVM, "LLVMPositionBuilder"),
-            PositionBuilderBefore                      = apiGetFunctionAddress(LLVM, "LLVMPositionBuilderBefore"),
-            PositionBuilderAtEnd                       = apiGetFunctionAddress(LLVM, "LLVMPositionBuilderAtEnd"),
-            GetInsertBlock                             = apiGetFunctionAddress(LLVM, "LLVMGetInsertBlock"),
-            ClearInsertionPosition                     = apiGetFunctionAddress(LLVM, "LLVMClearInsertionPosition"),
-            InsertIntoBuilder                          = apiGetFunctionAddress(LLVM, "LLVMInsertIntoBuilder"),
-            InsertIntoBuilderWithName                  = apiGetFunctionAddress(LLVM, "LLVMInsertIntoBuilderWithName"),
-            DisposeBuilder                             = apiGetFunctionAddress(LLVM, "LLVMDisposeBuilder"),
-            SetCurrentDebugLocation                    = apiGetFunctionAddress(LLVM, "LLVMSetCurrentDebugLocation"),
-            GetCurrentDebugLocation                    = apiGetFunctionAddress(LLVM, "LLVMGetCurrentDebugLocation"),
-            SetInstDebugLocation                       = apiGetFunctionAddress(LLVM, "LLVMSetInstDebugLocation"),
-            BuildRetVoid                               = apiGetFunctionAddress(LLVM, "LLVMBuildRetVoid"),
-            BuildRet                                   = apiGetFunctionAddress(LLVM, "LLVMBuildRet"),
-            BuildAggregateRet                          = apiGetFunctionAddress(LLVM, "LLVMBuildAggregateRet"),
-            BuildBr                                    = apiGetFunctionAddress(LLVM, "LLVMBuildBr"),
-            BuildCondBr                                = apiGetFunctionAddress(LLVM, "LLVMBuildCondBr"),
-            BuildSwitch                                = apiGetFunctionAddress(LLVM, "LLVMBuildSwitch"),
-            BuildIndirectBr                            = apiGetFunctionAddress(LLVM, "LLVMBuildIndirectBr"),
-            BuildInvoke                                = apiGetFunctionAddress(LLVM, "LLVMBuildInvoke"),
+            GetCalledValue                             = ADDRESSES[411],
+            IsTailCall                                 = ADDRESSES[412],
+            SetTailCall                                = ADDRESSES[413],
+            GetNormalDest                              = ADDRESSES[414],
+            GetUnwindDest                              = ADDRESSES[415],
+            SetNormalDest                              = ADDRESSES[416],
+            SetUnwindDest                              = ADDRESSES[417],
+            GetNumSuccessors                           = ADDRESSES[418],
+            GetSuccessor                               = ADDRESSES[419],
+            SetSuccessor                               = ADDRESSES[420],
+            IsConditional                              = ADDRESSES[421],
+            GetCondition                               = ADDRESSES[422],
+            SetCondition                               = ADDRESSES[423],
+            GetSwitchDefaultDest                       = ADDRESSES[424],
+            GetAllocatedType                           = ADDRESSES[425],
+            IsInBounds                                 = ADDRESSES[426],
+            SetIsInBounds                              = ADDRESSES[427],
+            AddIncoming                                = ADDRESSES[428],
+            CountIncoming                              = ADDRESSES[429],
+            GetIncomingValue                           = ADDRESSES[430],
+            GetIncomingBlock                           = ADDRESSES[431],
+            GetNumIndices                              = ADDRESSES[432],
+            GetIndices                                 = ADDRESSES[433],
+            CreateBuilderInContext                     = ADDRESSES[434],
+            CreateBuilder                              = ADDRESSES[435],
+            PositionBuilder                            = ADDRESSES[436],
+            PositionBuilderBefore                      = ADDRESSES[437],
+            PositionBuilderAtEnd                       = ADDRESSES[438],
+            GetInsertBlock                             = ADDRESSES[439],
+            ClearInsertionPosition                     = ADDRESSES[440],
+            InsertIntoBuilder                          = ADDRESSES[441],
+            InsertIntoBuilderWithName                  = ADDRESSES[442],
+            DisposeBuilder                             = ADDRESSES[443],
+            SetCurrentDebugLocation                    = ADDRESSES[444],
+            GetCurrentDebugLocation                    = ADDRESSES[445],
+            SetInstDebugLocation                       = ADDRESSES[446],
+            BuildRetVoid                               = ADDRESSES[447],
+            BuildRet                                   = ADDRESSES[448],
+            BuildAggregateRet                          = ADDRESSES[449],
+            BuildBr                                    = ADDRESSES[450],
+            BuildCondBr                                = ADDRESSES[451],
+            BuildSwitch                                = ADDRESSES[452],
+            BuildIndirectBr                            = ADDRESSES[453],
+            BuildInvoke                                = ADDRESSES[454],
             BuildInvoke2                               = LLVM.getFunctionAddress("LLVMBuildInvoke2"),
-            BuildUnreachable                           = apiGetFunctionAddress(LLVM, "LLVMBuildUnreachable"),
-            BuildResume                                = apiGetFunctionAddress(LLVM, "LLVMBuildResume"),
-            BuildLandingPad                            = apiGetFunctionAddress(LLVM, "LLVMBuildLandingPad"),
+            BuildUnreachable                           = ADDRESSES[455],
+            BuildResume                                = ADDRESSES[456],
+            BuildLandingPad                            = ADDRESSES[457],
             BuildCleanupRet                            = LLVM.getFunctionAddress("LLVMBuildCleanupRet"),
             BuildCatchRet                              = LLVM.getFunctionAddress("LLVMBuildCatchRet"),
             BuildCatchPad                              = LLVM.getFunctionAddress("LLVMBuildCatchPad"),
             BuildCleanupPad                            = LLVM.getFunctionAddress("LLVMBuildCleanupPad"),
             BuildCatchSwitch                           = LLVM.getFunctionAddress("LLVMBuildCatchSwitch"),
-            AddCase                                    = apiGetFunctionAddress(LLVM, "LLVMAddCase"),
-            AddDestination                             = apiGetFunctionAddress(LLVM, "LLVMAddDestination"),
-            GetNumClauses                              = apiGetFunctionAddress(LLVM, "LLVMGetNumClauses"),
-            GetClause                                  = apiGetFunctionAddress(LLVM, "LLVMGetClause"),
-            AddClause                                  = apiGetFunctionAddress(LLVM, "LLVMAddClause"),
-            IsCleanup                                  = apiGetFunctionAddress(LLVM, "LLVMIsCleanup"),
-            SetCleanup                                 = apiGetFunctionAddress(LLVM, "LLVMSetCleanup"),
+            AddCase                                    = ADDRESSES[458],
+            AddDestination                             = ADDRESSES[459],
+            GetNumClauses                              = ADDRESSES[460],
+            GetClause                                  = ADDRESSES[461],
+            AddClause                                  = ADDRESSES[462],
+            IsCleanup                                  = ADDRESSES[463],
+            SetCleanup                                 = ADDRESSES[464],
             AddHandler                                 = LLVM.getFunctionAddress("LLVMAddHandler"),
             GetNumHandlers                             = LLVM.getFunctionAddress("LLVMGetNumHandlers"),
             GetHandlers                                = LLVM.getFunctionAddress("LLVMGetHandlers"),
@@ -1250,127 +1335,127 @@ public class LLVMCore {
             SetArgOperand                              = LLVM.getFunctionAddress("LLVMSetArgOperand"),
             GetParentCatchSwitch                       = LLVM.getFunctionAddress("LLVMGetParentCatchSwitch"),
             SetParentCatchSwitch                       = LLVM.getFunctionAddress("LLVMSetParentCatchSwitch"),
-            BuildAdd                                   = apiGetFunctionAddress(LLVM, "LLVMBuildAdd"),
-            BuildNSWAdd                                = apiGetFunctionAddress(LLVM, "LLVMBuildNSWAdd"),
-            BuildNUWAdd                                = apiGetFunctionAddress(LLVM, "LLVMBuildNUWAdd"),
-            BuildFAdd                                  = apiGetFunctionAddress(LLVM, "LLVMBuildFAdd"),
-            BuildSub                                   = apiGetFunctionAddress(LLVM, "LLVMBuildSub"),
-            BuildNSWSub                                = apiGetFunctionAddress(LLVM, "LLVMBuildNSWSub"),
-            BuildNUWSub                                = apiGetFunctionAddress(LLVM, "LLVMBuildNUWSub"),
-            BuildFSub                                  = apiGetFunctionAddress(LLVM, "LLVMBuildFSub"),
-            BuildMul                                   = apiGetFunctionAddress(LLVM, "LLVMBuildMul"),
-            BuildNSWMul                                = apiGetFunctionAddress(LLVM, "LLVMBuildNSWMul"),
-            BuildNUWMul                                = apiGetFunctionAddress(LLVM, "LLVMBuildNUWMul"),
-            BuildFMul                                  = apiGetFunctionAddress(LLVM, "LLVMBuildFMul"),
-            BuildUDiv                                  = apiGetFunctionAddress(LLVM, "LLVMBuildUDiv"),
-            BuildExactUDiv                             = apiGetFunctionAddress(LLVM, "LLVMBuildExactUDiv"),
-            BuildSDiv                                  = apiGetFunctionAddress(LLVM, "LLVMBuildSDiv"),
-            BuildExactSDiv                             = apiGetFunctionAddress(LLVM, "LLVMBuildExactSDiv"),
-            BuildFDiv                                  = apiGetFunctionAddress(LLVM, "LLVMBuildFDiv"),
-            BuildURem                                  = apiGetFunctionAddress(LLVM, "LLVMBuildURem"),
-            BuildSRem                                  = apiGetFunctionAddress(LLVM, "LLVMBuildSRem"),
-            BuildFRem                                  = apiGetFunctionAddress(LLVM, "LLVMBuildFRem"),
-            BuildShl                                   = apiGetFunctionAddress(LLVM, "LLVMBuildShl"),
-            BuildLShr                                  = apiGetFunctionAddress(LLVM, "LLVMBuildLShr"),
-            BuildAShr                                  = apiGetFunctionAddress(LLVM, "LLVMBuildAShr"),
-            BuildAnd                                   = apiGetFunctionAddress(LLVM, "LLVMBuildAnd"),
-            BuildOr                                    = apiGetFunctionAddress(LLVM, "LLVMBuildOr"),
-            BuildXor                                   = apiGetFunctionAddress(LLVM, "LLVMBuildXor"),
-            BuildBinOp                                 = apiGetFunctionAddress(LLVM, "LLVMBuildBinOp"),
-            BuildNeg                                   = apiGetFunctionAddress(LLVM, "LLVMBuildNeg"),
-            BuildNSWNeg                                = apiGetFunctionAddress(LLVM, "LLVMBuildNSWNeg"),
-            BuildNUWNeg                                = apiGetFunctionAddress(LLVM, "LLVMBuildNUWNeg"),
-            BuildFNeg                                  = apiGetFunctionAddress(LLVM, "LLVMBuildFNeg"),
-            BuildNot                                   = apiGetFunctionAddress(LLVM, "LLVMBuildNot"),
-            BuildMalloc                                = apiGetFunctionAddress(LLVM, "LLVMBuildMalloc"),
-            BuildArrayMalloc                           = apiGetFunctionAddress(LLVM, "LLVMBuildArrayMalloc"),
+            BuildAdd                                   = ADDRESSES[465],
+            BuildNSWAdd                                = ADDRESSES[466],
+            BuildNUWAdd                                = ADDRESSES[467],
+            BuildFAdd                                  = ADDRESSES[468],
+            BuildSub                                   = ADDRESSES[469],
+            BuildNSWSub                                = ADDRESSES[470],
+            BuildNUWSub                                = ADDRESSES[471],
+            BuildFSub                                  = ADDRESSES[472],
+            BuildMul                                   = ADDRESSES[473],
+            BuildNSWMul                                = ADDRESSES[474],
+            BuildNUWMul                                = ADDRESSES[475],
+            BuildFMul                                  = ADDRESSES[476],
+            BuildUDiv                                  = ADDRESSES[477],
+            BuildExactUDiv                             = ADDRESSES[478],
+            BuildSDiv                                  = ADDRESSES[479],
+            BuildExactSDiv                             = ADDRESSES[480],
+            BuildFDiv                                  = ADDRESSES[481],
+            BuildURem                                  = ADDRESSES[482],
+            BuildSRem                                  = ADDRESSES[483],
+            BuildFRem                                  = ADDRESSES[484],
+            BuildShl                                   = ADDRESSES[485],
+            BuildLShr                                  = ADDRESSES[486],
+            BuildAShr                                  = ADDRESSES[487],
+            BuildAnd                                   = ADDRESSES[488],
+            BuildOr                                    = ADDRESSES[489],
+            BuildXor                                   = ADDRESSES[490],
+            BuildBinOp                                 = ADDRESSES[491],
+            BuildNeg                                   = ADDRESSES[492],
+            BuildNSWNeg                                = ADDRESSES[493],
+            BuildNUWNeg                                = ADDRESSES[494],
+            BuildFNeg                                  = ADDRESSES[495],
+            BuildNot                                   = ADDRESSES[496],
+            BuildMalloc                                = ADDRESSES[497],
+            BuildArrayMalloc                           = ADDRESSES[498],
             BuildMemSet                                = LLVM.getFunctionAddress("LLVMBuildMemSet"),
             BuildMemCpy                                = LLVM.getFunctionAddress("LLVMBuildMemCpy"),
             BuildMemMove                               = LLVM.getFunctionAddress("LLVMBuildMemMove"),
-            BuildAlloca                                = apiGetFunctionAddress(LLVM, "LLVMBuildAlloca"),
-            BuildArrayAlloca                           = apiGetFunctionAddress(LLVM, "LLVMBuildArrayAlloca"),
-            BuildFree                                  = apiGetFunctionAddress(LLVM, "LLVMBuildFree"),
-            BuildLoad                                  = apiGetFunctionAddress(LLVM, "LLVMBuildLoad"),
+            BuildAlloca                                = ADDRESSES[499],
+            BuildArrayAlloca                           = ADDRESSES[500],
+            BuildFree                                  = ADDRESSES[501],
+            BuildLoad                                  = ADDRESSES[502],
             BuildLoad2                                 = LLVM.getFunctionAddress("LLVMBuildLoad2"),
-            BuildStore                                 = apiGetFunctionAddress(LLVM, "LLVMBuildStore"),
-            BuildGEP                                   = apiGetFunctionAddress(LLVM, "LLVMBuildGEP"),
-            BuildInBoundsGEP                           = apiGetFunctionAddress(LLVM, "LLVMBuildInBoundsGEP"),
-            BuildStructGEP                             = apiGetFunctionAddress(LLVM, "LLVMBuildStructGEP"),
+            BuildStore                                 = ADDRESSES[503],
+            BuildGEP                                   = ADDRESSES[504],
+            BuildInBoundsGEP                           = ADDRESSES[505],
+            BuildStructGEP                             = ADDRESSES[506],
             BuildGEP2                                  = LLVM.getFunctionAddress("LLVMBuildGEP2"),
             BuildInBoundsGEP2                          = LLVM.getFunctionAddress("LLVMBuildInBoundsGEP2"),
             BuildStructGEP2                            = LLVM.getFunctionAddress("LLVMBuildStructGEP2"),
-            BuildGlobalString                          = apiGetFunctionAddress(LLVM, "LLVMBuildGlobalString"),
-            BuildGlobalStringPtr                       = apiGetFunctionAddress(LLVM, "LLVMBuildGlobalStringPtr"),
-            GetVolatile                                = apiGetFunctionAddress(LLVM, "LLVMGetVolatile"),
-            SetVolatile                                = apiGetFunctionAddress(LLVM, "LLVMSetVolatile"),
-            GetOrdering                                = apiGetFunctionAddress(LLVM, "LLVMGetOrdering"),
-            SetOrdering                                = apiGetFunctionAddress(LLVM, "LLVMSetOrdering"),
-            BuildTrunc                                 = apiGetFunctionAddress(LLVM, "LLVMBuildTrunc"),
-            BuildZExt                                  = apiGetFunctionAddress(LLVM, "LLVMBuildZExt"),
-            BuildSExt                                  = apiGetFunctionAddress(LLVM, "LLVMBuildSExt"),
-            BuildFPToUI                                = apiGetFunctionAddress(LLVM, "LLVMBuildFPToUI"),
-            BuildFPToSI                                = apiGetFunctionAddress(LLVM, "LLVMBuildFPToSI"),
-            BuildUIToFP                                = apiGetFunctionAddress(LLVM, "LLVMBuildUIToFP"),
-            BuildSIToFP                                = apiGetFunctionAddress(LLVM, "LLVMBuildSIToFP"),
-            BuildFPTrunc                               = apiGetFunctionAddress(LLVM, "LLVMBuildFPTrunc"),
-            BuildFPExt                                 = apiGetFunctionAddress(LLVM, "LLVMBuildFPExt"),
-            BuildPtrToInt                              = apiGetFunctionAddress(LLVM, "LLVMBuildPtrToInt"),
-            BuildIntToPtr                              = apiGetFunctionAddress(LLVM, "LLVMBuildIntToPtr"),
-            BuildBitCast                               = apiGetFunctionAddress(LLVM, "LLVMBuildBitCast"),
-            BuildAddrSpaceCast                         = apiGetFunctionAddress(LLVM, "LLVMBuildAddrSpaceCast"),
-            BuildZExtOrBitCast                         = apiGetFunctionAddress(LLVM, "LLVMBuildZExtOrBitCast"),
-            BuildSExtOrBitCast                         = apiGetFunctionAddress(LLVM, "LLVMBuildSExtOrBitCast"),
-            BuildTruncOrBitCast                        = apiGetFunctionAddress(LLVM, "LLVMBuildTruncOrBitCast"),
-            BuildCast                                  = apiGetFunctionAddress(LLVM, "LLVMBuildCast"),
-            BuildPointerCast                           = apiGetFunctionAddress(LLVM, "LLVMBuildPointerCast"),
+            BuildGlobalString                          = ADDRESSES[507],
+            BuildGlobalStringPtr                       = ADDRESSES[508],
+            GetVolatile                                = ADDRESSES[509],
+            SetVolatile                                = ADDRESSES[510],
+            GetOrdering                                = ADDRESSES[511],
+            SetOrdering                                = ADDRESSES[512],
+            BuildTrunc                                 = ADDRESSES[513],
+            BuildZExt                                  = ADDRESSES[514],
+            BuildSExt                                  = ADDRESSES[515],
+            BuildFPToUI                                = ADDRESSES[516],
+            BuildFPToSI                                = ADDRESSES[517],
+            BuildUIToFP                                = ADDRESSES[518],
+            BuildSIToFP                                = ADDRESSES[519],
+            BuildFPTrunc                               = ADDRESSES[520],
+            BuildFPExt                                 = ADDRESSES[521],
+            BuildPtrToInt                              = ADDRESSES[522],
+            BuildIntToPtr                              = ADDRESSES[523],
+            BuildBitCast                               = ADDRESSES[524],
+            BuildAddrSpaceCast                         = ADDRESSES[525],
+            BuildZExtOrBitCast                         = ADDRESSES[526],
+            BuildSExtOrBitCast                         = ADDRESSES[527],
+            BuildTruncOrBitCast                        = ADDRESSES[528],
+            BuildCast                                  = ADDRESSES[529],
+            BuildPointerCast                           = ADDRESSES[530],
             BuildPointerCast2                          = LLVM.getFunctionAddress("LLVMBuildPointerCast2"),
-            BuildIntCast                               = apiGetFunctionAddress(LLVM, "LLVMBuildIntCast"),
-            BuildFPCast                                = apiGetFunctionAddress(LLVM, "LLVMBuildFPCast"),
-            BuildICmp                                  = apiGetFunctionAddress(LLVM, "LLVMBuildICmp"),
-            BuildFCmp                                  = apiGetFunctionAddress(LLVM, "LLVMBuildFCmp"),
-            BuildPhi                                   = apiGetFunctionAddress(LLVM, "LLVMBuildPhi"),
-            BuildCall                                  = apiGetFunctionAddress(LLVM, "LLVMBuildCall"),
+            BuildIntCast                               = ADDRESSES[531],
+            BuildFPCast                                = ADDRESSES[532],
+            BuildICmp                                  = ADDRESSES[533],
+            BuildFCmp                                  = ADDRESSES[534],
+            BuildPhi                                   = ADDRESSES[535],
+            BuildCall                                  = ADDRESSES[536],
             BuildCall2                                 = LLVM.getFunctionAddress("LLVMBuildCall2"),
-            BuildSelect                                = apiGetFunctionAddress(LLVM, "LLVMBuildSelect"),
-            BuildVAArg                                 = apiGetFunctionAddress(LLVM, "LLVMBuildVAArg"),
-            BuildExtractElement                        = apiGetFunctionAddress(LLVM, "LLVMBuildExtractElement"),
-            BuildInsertElement                         = apiGetFunctionAddress(LLVM, "LLVMBuildInsertElement"),
-            BuildShuffleVector                         = apiGetFunctionAddress(LLVM, "LLVMBuildShuffleVector"),
-            BuildExtractValue                          = apiGetFunctionAddress(LLVM, "LLVMBuildExtractValue"),
-            BuildInsertValue                           = apiGetFunctionAddress(LLVM, "LLVMBuildInsertValue"),
-            BuildIsNull                                = apiGetFunctionAddress(LLVM, "LLVMBuildIsNull"),
-            BuildIsNotNull                             = apiGetFunctionAddress(LLVM, "LLVMBuildIsNotNull"),
-            BuildPtrDiff                               = apiGetFunctionAddress(LLVM, "LLVMBuildPtrDiff"),
-            BuildFence                                 = apiGetFunctionAddress(LLVM, "LLVMBuildFence"),
-            BuildAtomicRMW                             = apiGetFunctionAddress(LLVM, "LLVMBuildAtomicRMW"),
-            BuildAtomicCmpXchg                         = apiGetFunctionAddress(LLVM, "LLVMBuildAtomicCmpXchg"),
-            IsAtomicSingleThread                       = apiGetFunctionAddress(LLVM, "LLVMIsAtomicSingleThread"),
-            SetAtomicSingleThread                      = apiGetFunctionAddress(LLVM, "LLVMSetAtomicSingleThread"),
-            GetCmpXchgSuccessOrdering                  = apiGetFunctionAddress(LLVM, "LLVMGetCmpXchgSuccessOrdering"),
-            SetCmpXchgSuccessOrdering                  = apiGetFunctionAddress(LLVM, "LLVMSetCmpXchgSuccessOrdering"),
-            GetCmpXchgFailureOrdering                  = apiGetFunctionAddress(LLVM, "LLVMGetCmpXchgFailureOrdering"),
-            SetCmpXchgFailureOrdering                  = apiGetFunctionAddress(LLVM, "LLVMSetCmpXchgFailureOrdering"),
-            CreateModuleProviderForExistingModule      = apiGetFunctionAddress(LLVM, "LLVMCreateModuleProviderForExistingModule"),
-            DisposeModuleProvider                      = apiGetFunctionAddress(LLVM, "LLVMDisposeModuleProvider"),
-            CreateMemoryBufferWithContentsOfFile       = apiGetFunctionAddress(LLVM, "LLVMCreateMemoryBufferWithContentsOfFile"),
-            CreateMemoryBufferWithSTDIN                = apiGetFunctionAddress(LLVM, "LLVMCreateMemoryBufferWithSTDIN"),
-            CreateMemoryBufferWithMemoryRange          = apiGetFunctionAddress(LLVM, "LLVMCreateMemoryBufferWithMemoryRange"),
-            CreateMemoryBufferWithMemoryRangeCopy      = apiGetFunctionAddress(LLVM, "LLVMCreateMemoryBufferWithMemoryRangeCopy"),
-            GetBufferStart                             = apiGetFunctionAddress(LLVM, "LLVMGetBufferStart"),
-            GetBufferSize                              = apiGetFunctionAddress(LLVM, "LLVMGetBufferSize"),
-            DisposeMemoryBuffer                        = apiGetFunctionAddress(LLVM, "LLVMDisposeMemoryBuffer"),
-            GetGlobalPassRegistry                      = apiGetFunctionAddress(LLVM, "LLVMGetGlobalPassRegistry"),
-            CreatePassManager                          = apiGetFunctionAddress(LLVM, "LLVMCreatePassManager"),
-            CreateFunctionPassManagerForModule         = apiGetFunctionAddress(LLVM, "LLVMCreateFunctionPassManagerForModule"),
-            CreateFunctionPassManager                  = apiGetFunctionAddress(LLVM, "LLVMCreateFunctionPassManager"),
-            RunPassManager                             = apiGetFunctionAddress(LLVM, "LLVMRunPassManager"),
-            InitializeFunctionPassManager              = apiGetFunctionAddress(LLVM, "LLVMInitializeFunctionPassManager"),
-            RunFunctionPassManager                     = apiGetFunctionAddress(LLVM, "LLVMRunFunctionPassManager"),
-            FinalizeFunctionPassManager                = apiGetFunctionAddress(LLVM, "LLVMFinalizeFunctionPassManager"),
-            DisposePassManager                         = apiGetFunctionAddress(LLVM, "LLVMDisposePassManager"),
-            StartMultithreaded                         = apiGetFunctionAddress(LLVM, "LLVMStartMultithreaded"),
-            StopMultithreaded                          = apiGetFunctionAddress(LLVM, "LLVMStopMultithreaded"),
-            IsMultithreaded                            = apiGetFunctionAddress(LLVM, "LLVMIsMultithreaded");
+            BuildSelect                                = ADDRESSES[537],
+            BuildVAArg                                 = ADDRESSES[538],
+            BuildExtractElement                        = ADDRESSES[539],
+            BuildInsertElement                         = ADDRESSES[540],
+            BuildShuffleVector                         = ADDRESSES[541],
+            BuildExtractValue                          = ADDRESSES[542],
+            BuildInsertValue                           = ADDRESSES[543],
+            BuildIsNull                                = ADDRESSES[544],
+            BuildIsNotNull                             = ADDRESSES[545],
+            BuildPtrDiff                               = ADDRESSES[546],
+            BuildFence                                 = ADDRESSES[547],
+            BuildAtomicRMW                             = ADDRESSES[548],
+            BuildAtomicCmpXchg                         = ADDRESSES[549],
+            IsAtomicSingleThread                       = ADDRESSES[550],
+            SetAtomicSingleThread                      = ADDRESSES[551],
+            GetCmpXchgSuccessOrdering                  = ADDRESSES[552],
+            SetCmpXchgSuccessOrdering                  = ADDRESSES[553],
+            GetCmpXchgFailureOrdering                  = ADDRESSES[554],
+            SetCmpXchgFailureOrdering                  = ADDRESSES[555],
+            CreateModuleProviderForExistingModule      = ADDRESSES[556],
+            DisposeModuleProvider                      = ADDRESSES[557],
+            CreateMemoryBufferWithContentsOfFile       = ADDRESSES[558],
+            CreateMemoryBufferWithSTDIN                = ADDRESSES[559],
+            CreateMemoryBufferWithMemoryRange          = ADDRESSES[560],
+            CreateMemoryBufferWithMemoryRangeCopy      = ADDRESSES[561],
+            GetBufferStart                             = ADDRESSES[562],
+            GetBufferSize                              = ADDRESSES[563],
+            DisposeMemoryBuffer                        = ADDRESSES[564],
+            GetGlobalPassRegistry                      = ADDRESSES[565],
+            CreatePassManager                          = ADDRESSES[566],
+            CreateFunctionPassManagerForModule         = ADDRESSES[567],
+            CreateFunctionPassManager                  = ADDRESSES[568],
+            RunPassManager                             = ADDRESSES[569],
+            InitializeFunctionPassManager              = ADDRESSES[570],
+            RunFunctionPassManager                     = ADDRESSES[571],
+            FinalizeFunctionPassManager                = ADDRESSES[572],
+            DisposePassManager                         = ADDRESSES[573],
+            StartMultithreaded                         = ADDRESSES[574],
+            StopMultithreaded                          = ADDRESSES[575],
+            IsMultithreaded                            = ADDRESSES[576];
 
     }
 
@@ -296,79 +296,100 @@ public class LLVMDebugInfo {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMDebugMetadataVersion\0LLVMGetModuleDebugMetadataVersion\0LLVMStripModuleDebugInfo\0LLVMCreateDIBuilderDisallowUnresolved\0LLVMCreateDIBuilder\0" +
+            "LLVMDisposeDIBuilder\0LLVMDIBuilderFinalize\0LLVMDIBuilderCreateCompileUnit\0LLVMDIBuilderCreateFile\0LLVMDIBuilderCreateModule\0LLVMDIBuilderCreateNameSpace\0" +
+            "LLVMDIBuilderCreateFunction\0LLVMDIBuilderCreateLexicalBlock\0LLVMDIBuilderCreateLexicalBlockFile\0LLVMDIBuilderCreateImportedModuleFromNamespace\0" +
+            "LLVMDIBuilderCreateImportedModuleFromAlias\0LLVMDIBuilderCreateImportedModuleFromModule\0LLVMDIBuilderCreateImportedDeclaration\0" +
+            "LLVMDIBuilderCreateDebugLocation\0LLVMDILocationGetLine\0LLVMDILocationGetColumn\0LLVMDILocationGetScope\0LLVMDIBuilderGetOrCreateTypeArray\0" +
+            "LLVMDIBuilderCreateSubroutineType\0LLVMDIBuilderCreateEnumerationType\0LLVMDIBuilderCreateUnionType\0LLVMDIBuilderCreateArrayType\0LLVMDIBuilderCreateVectorType\0" +
+            "LLVMDIBuilderCreateUnspecifiedType\0LLVMDIBuilderCreateBasicType\0LLVMDIBuilderCreatePointerType\0LLVMDIBuilderCreateStructType\0LLVMDIBuilderCreateMemberType\0" +
+            "LLVMDIBuilderCreateStaticMemberType\0LLVMDIBuilderCreateMemberPointerType\0LLVMDIBuilderCreateObjCIVar\0LLVMDIBuilderCreateObjCProperty\0" +
+            "LLVMDIBuilderCreateObjectPointerType\0LLVMDIBuilderCreateQualifiedType\0LLVMDIBuilderCreateReferenceType\0LLVMDIBuilderCreateNullPtrType\0" +
+            "LLVMDIBuilderCreateTypedef\0LLVMDIBuilderCreateInheritance\0LLVMDIBuilderCreateForwardDecl\0LLVMDIBuilderCreateReplaceableCompositeType\0" +
+            "LLVMDIBuilderCreateBitFieldMemberType\0LLVMDIBuilderCreateClassType\0LLVMDIBuilderCreateArtificialType\0LLVMDITypeGetName\0LLVMDITypeGetSizeInBits\0" +
+            "LLVMDITypeGetOffsetInBits\0LLVMDITypeGetAlignInBits\0LLVMDITypeGetLine\0LLVMDITypeGetFlags\0LLVMDIBuilderGetOrCreateSubrange\0LLVMDIBuilderGetOrCreateArray\0" +
+            "LLVMDIBuilderCreateExpression\0LLVMDIBuilderCreateConstantValueExpression\0LLVMDIBuilderCreateGlobalVariableExpression\0LLVMTemporaryMDNode\0" +
+            "LLVMDisposeTemporaryMDNode\0LLVMMetadataReplaceAllUsesWith\0LLVMDIBuilderCreateTempGlobalVariableFwdDecl\0LLVMDIBuilderInsertDeclareBefore\0" +
+            "LLVMDIBuilderInsertDeclareAtEnd\0LLVMDIBuilderInsertDbgValueBefore\0LLVMDIBuilderInsertDbgValueAtEnd\0LLVMDIBuilderCreateAutoVariable\0" +
+            "LLVMDIBuilderCreateParameterVariable\0LLVMGetSubprogram\0LLVMSetSubprogram\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            DebugMetadataVersion                       = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDebugMetadataVersion"),
-            GetModuleDebugMetadataVersion              = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetModuleDebugMetadataVersion"),
-            StripModuleDebugInfo                       = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMStripModuleDebugInfo"),
-            CreateDIBuilderDisallowUnresolved          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCreateDIBuilderDisallowUnresolved"),
-            CreateDIBuilder                            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCreateDIBuilder"),
-            DisposeDIBuilder                           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDisposeDIBuilder"),
-            DIBuilderFinalize                          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderFinalize"),
-            DIBuilderCreateCompileUnit                 = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateCompileUnit"),
-            DIBuilderCreateFile                        = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateFile"),
-            DIBuilderCreateModule                      = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateModule"),
-            DIBuilderCreateNameSpace                   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateNameSpace"),
-            DIBuilderCreateFunction                    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateFunction"),
-            DIBuilderCreateLexicalBlock                = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateLexicalBlock"),
-            DIBuilderCreateLexicalBlockFile            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateLexicalBlockFile"),
-            DIBuilderCreateImportedModuleFromNamespace = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateImportedModuleFromNamespace"),
-            DIBuilderCreateImportedModuleFromAlias     = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateImportedModuleFromAlias"),
-            DIBuilderCreateImportedModuleFromModule    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateImportedModuleFromModule"),
-            DIBuilderCreateImportedDeclaration         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateImportedDeclaration"),
-            DIBuilderCreateDebugLocation               = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateDebugLocation"),
-            DILocationGetLine                          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDILocationGetLine"),
-            DILocationGetColumn                        = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDILocationGetColumn"),
-            DILocationGetScope                         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDILocationGetScope"),
-            DIBuilderGetOrCreateTypeArray              = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderGetOrCreateTypeArray"),
-            DIBuilderCreateSubroutineType              = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateSubroutineType"),
-            DIBuilderCreateEnumerationType             = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateEnumerationType"),
-            DIBuilderCreateUnionType                   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateUnionType"),
-            DIBuilderCreateArrayType                   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateArrayType"),
-            DIBuilderCreateVectorType                  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateVectorType"),
-            DIBuilderCreateUnspecifiedType             = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateUnspecifiedType"),
-            DIBuilderCreateBasicType                   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateBasicType"),
-            DIBuilderCreatePointerType                 = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreatePointerType"),
-            DIBuilderCreateStructType                  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateStructType"),
-            DIBuilderCreateMemberType                  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateMemberType"),
-            DIBuilderCreateStaticMemberType            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateStaticMemberType"),
-            DIBuilderCreateMemberPointerType           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateMemberPointerType"),
-            DIBuilderCreateObjCIVar                    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateObjCIVar"),
-            DIBuilderCreateObjCProperty                = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateObjCProperty"),
-            DIBuilderCreateObjectPointerType           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateObjectPointerType"),
-            DIBuilderCreateQualifiedType               = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateQualifiedType"),
-            DIBuilderCreateReferenceType               = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateReferenceType"),
-            DIBuilderCreateNullPtrType                 = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateNullPtrType"),
-            DIBuilderCreateTypedef                     = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateTypedef"),
-            DIBuilderCreateInheritance                 = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateInheritance"),
-            DIBuilderCreateForwardDecl                 = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateForwardDecl"),
-            DIBuilderCreateReplaceableCompositeType    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateReplaceableCompositeType"),
-            DIBuilderCreateBitFieldMemberType          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateBitFieldMemberType"),
-            DIBuilderCreateClassType                   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateClassType"),
-            DIBuilderCreateArtificialType              = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateArtificialType"),
-            DITypeGetName                              = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDITypeGetName"),
-            DITypeGetSizeInBits                        = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDITypeGetSizeInBits"),
-            DITypeGetOffsetInBits                      = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDITypeGetOffsetInBits"),
-            DITypeGetAlignInBits                       = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDITypeGetAlignInBits"),
-            DITypeGetLine                              = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDITypeGetLine"),
-            DITypeGetFlags                             = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDITypeGetFlags"),
-            DIBuilderGetOrCreateSubrange               = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderGetOrCreateSubrange"),
-            DIBuilderGetOrCreateArray                  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderGetOrCreateArray"),
-            DIBuilderCreateExpression                  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateExpression"),
-            DIBuilderCreateConstantValueExpression     = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateConstantValueExpression"),
-            DIBuilderCreateGlobalVariableExpression    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateGlobalVariableExpression"),
-            TemporaryMDNode                            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMTemporaryMDNode"),
-            DisposeTemporaryMDNode                     = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDisposeTemporaryMDNode"),
-            MetadataReplaceAllUsesWith                 = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMMetadataReplaceAllUsesWith"),
-            DIBuilderCreateTempGlobalVariableFwdDecl   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateTempGlobalVariableFwdDecl"),
-            DIBuilderInsertDeclareBefore               = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderInsertDeclareBefore"),
-            DIBuilderInsertDeclareAtEnd                = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderInsertDeclareAtEnd"),
-            DIBuilderInsertDbgValueBefore              = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderInsertDbgValueBefore"),
-            DIBuilderInsertDbgValueAtEnd               = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderInsertDbgValueAtEnd"),
-            DIBuilderCreateAutoVariable                = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateAutoVariable"),
-            DIBuilderCreateParameterVariable           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDIBuilderCreateParameterVariable"),
-            GetSubprogram                              = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetSubprogram"),
-            SetSubprogram                              = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMSetSubprogram"),
+            DebugMetadataVersion                       = ADDRESSES[0],
+            GetModuleDebugMetadataVersion              = ADDRESSES[1],
+            StripModuleDebugInfo                       = ADDRESSES[2],
+            CreateDIBuilderDisallowUnresolved          = ADDRESSES[3],
+            CreateDIBuilder                            = ADDRESSES[4],
+            DisposeDIBuilder                           = ADDRESSES[5],
+            DIBuilderFinalize                          = ADDRESSES[6],
+            DIBuilderCreateCompileUnit                 = ADDRESSES[7],
+            DIBuilderCreateFile                        = ADDRESSES[8],
+            DIBuilderCreateModule                      = ADDRESSES[9],
+            DIBuilderCreateNameSpace                   = ADDRESSES[10],
+            DIBuilderCreateFunction                    = ADDRESSES[11],
+            DIBuilderCreateLexicalBlock                = ADDRESSES[12],
+            DIBuilderCreateLexicalBlockFile            = ADDRESSES[13],
+            DIBuilderCreateImportedModuleFromNamespace = ADDRESSES[14],
+            DIBuilderCreateImportedModuleFromAlias     = ADDRESSES[15],
+            DIBuilderCreateImportedModuleFromModule    = ADDRESSES[16],
+            DIBuilderCreateImportedDeclaration         = ADDRESSES[17],
+            DIBuilderCreateDebugLocation               = ADDRESSES[18],
+            DILocationGetLine                          = ADDRESSES[19],
+            DILocationGetColumn                        = ADDRESSES[20],
+            DILocationGetScope                         = ADDRESSES[21],
+            DIBuilderGetOrCreateTypeArray              = ADDRESSES[22],
+            DIBuilderCreateSubroutineType              = ADDRESSES[23],
+            DIBuilderCreateEnumerationType             = ADDRESSES[24],
+            DIBuilderCreateUnionType                   = ADDRESSES[25],
+            DIBuilderCreateArrayType                   = ADDRESSES[26],
+            DIBuilderCreateVectorType                  = ADDRESSES[27],
+            DIBuilderCreateUnspecifiedType             = ADDRESSES[28],
+            DIBuilderCreateBasicType                   = ADDRESSES[29],
+            DIBuilderCreatePointerType                 = ADDRESSES[30],
+            DIBuilderCreateStructType                  = ADDRESSES[31],
+            DIBuilderCreateMemberType                  = ADDRESSES[32],
+            DIBuilderCreateStaticMemberType            = ADDRESSES[33],
+            DIBuilderCreateMemberPointerType           = ADDRESSES[34],
+            DIBuilderCreateObjCIVar                    = ADDRESSES[35],
+            DIBuilderCreateObjCProperty                = ADDRESSES[36],
+            DIBuilderCreateObjectPointerType           = ADDRESSES[37],
+            DIBuilderCreateQualifiedType               = ADDRESSES[38],
+            DIBuilderCreateReferenceType               = ADDRESSES[39],
+            DIBuilderCreateNullPtrType                 = ADDRESSES[40],
+            DIBuilderCreateTypedef                     = ADDRESSES[41],
+            DIBuilderCreateInheritance                 = ADDRESSES[42],
+            DIBuilderCreateForwardDecl                 = ADDRESSES[43],
+            DIBuilderCreateReplaceableCompositeType    = ADDRESSES[44],
+            DIBuilderCreateBitFieldMemberType          = ADDRESSES[45],
+            DIBuilderCreateClassType                   = ADDRESSES[46],
+            DIBuilderCreateArtificialType              = ADDRESSES[47],
+            DITypeGetName                              = ADDRESSES[48],
+            DITypeGetSizeInBits                        = ADDRESSES[49],
+            DITypeGetOffsetInBits                      = ADDRESSES[50],
+            DITypeGetAlignInBits                       = ADDRESSES[51],
+            DITypeGetLine                              = ADDRESSES[52],
+            DITypeGetFlags                             = ADDRESSES[53],
+            DIBuilderGetOrCreateSubrange               = ADDRESSES[54],
+            DIBuilderGetOrCreateArray                  = ADDRESSES[55],
+            DIBuilderCreateExpression                  = ADDRESSES[56],
+            DIBuilderCreateConstantValueExpression     = ADDRESSES[57],
+            DIBuilderCreateGlobalVariableExpression    = ADDRESSES[58],
+            TemporaryMDNode                            = ADDRESSES[59],
+            DisposeTemporaryMDNode                     = ADDRESSES[60],
+            MetadataReplaceAllUsesWith                 = ADDRESSES[61],
+            DIBuilderCreateTempGlobalVariableFwdDecl   = ADDRESSES[62],
+            DIBuilderInsertDeclareBefore               = ADDRESSES[63],
+            DIBuilderInsertDeclareAtEnd                = ADDRESSES[64],
+            DIBuilderInsertDbgValueBefore              = ADDRESSES[65],
+            DIBuilderInsertDbgValueAtEnd               = ADDRESSES[66],
+            DIBuilderCreateAutoVariable                = ADDRESSES[67],
+            DIBuilderCreateParameterVariable           = ADDRESSES[68],
+            GetSubprogram                              = ADDRESSES[69],
+            SetSubprogram                              = ADDRESSES[70],
             GetMetadataKind                            = LLVMCore.getLibrary().getFunctionAddress("LLVMGetMetadataKind");
 
     }
@@ -65,14 +65,20 @@ public class LLVMDisassembler {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMCreateDisasm\0LLVMCreateDisasmCPU\0LLVMCreateDisasmCPUFeatures\0LLVMSetDisasmOptions\0LLVMDisasmDispose\0LLVMDisasmInstruction\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            CreateDisasm            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCreateDisasm"),
-            CreateDisasmCPU         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCreateDisasmCPU"),
-            CreateDisasmCPUFeatures = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCreateDisasmCPUFeatures"),
-            SetDisasmOptions        = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMSetDisasmOptions"),
-            DisasmDispose           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDisasmDispose"),
-            DisasmInstruction       = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDisasmInstruction");
+            CreateDisasm            = ADDRESSES[0],
+            CreateDisasmCPU         = ADDRESSES[1],
+            CreateDisasmCPUFeatures = ADDRESSES[2],
+            SetDisasmOptions        = ADDRESSES[3],
+            DisasmDispose           = ADDRESSES[4],
+            DisasmInstruction       = ADDRESSES[5];
 
     }
 
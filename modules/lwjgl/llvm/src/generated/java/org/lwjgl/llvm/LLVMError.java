@@ -29,13 +29,19 @@ public class LLVMError {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMGetErrorTypeId\0LLVMConsumeError\0LLVMGetErrorMessage\0LLVMDisposeErrorMessage\0LLVMGetStringErrorTypeId\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            GetErrorTypeId       = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetErrorTypeId"),
-            ConsumeError         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMConsumeError"),
-            GetErrorMessage      = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetErrorMessage"),
-            DisposeErrorMessage  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDisposeErrorMessage"),
-            GetStringErrorTypeId = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetStringErrorTypeId");
+            GetErrorTypeId       = ADDRESSES[0],
+            ConsumeError         = ADDRESSES[1],
+            GetErrorMessage      = ADDRESSES[2],
+            DisposeErrorMessage  = ADDRESSES[3],
+            GetStringErrorTypeId = ADDRESSES[4];
 
     }
 
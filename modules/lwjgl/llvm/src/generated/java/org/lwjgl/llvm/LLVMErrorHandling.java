@@ -22,11 +22,17 @@ public class LLVMErrorHandling {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMInstallFatalErrorHandler\0LLVMResetFatalErrorHandler\0LLVMEnablePrettyStackTrace\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            InstallFatalErrorHandler = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInstallFatalErrorHandler"),
-            ResetFatalErrorHandler   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMResetFatalErrorHandler"),
-            EnablePrettyStackTrace   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMEnablePrettyStackTrace");
+            InstallFatalErrorHandler = ADDRESSES[0],
+            ResetFatalErrorHandler   = ADDRESSES[1],
+            EnablePrettyStackTrace   = ADDRESSES[2];
 
     }
 
@@ -28,41 +28,52 @@ public class LLVMExecutionEngine {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMLinkInMCJIT\0LLVMLinkInInterpreter\0LLVMCreateGenericValueOfInt\0LLVMCreateGenericValueOfPointer\0LLVMCreateGenericValueOfFloat\0LLVMGenericValueIntWidth\0" +
+            "LLVMGenericValueToInt\0LLVMGenericValueToPointer\0LLVMGenericValueToFloat\0LLVMDisposeGenericValue\0LLVMCreateExecutionEngineForModule\0" +
+            "LLVMCreateInterpreterForModule\0LLVMCreateJITCompilerForModule\0LLVMInitializeMCJITCompilerOptions\0LLVMCreateMCJITCompilerForModule\0LLVMDisposeExecutionEngine\0" +
+            "LLVMRunStaticConstructors\0LLVMRunStaticDestructors\0LLVMRunFunctionAsMain\0LLVMRunFunction\0LLVMFreeMachineCodeForFunction\0LLVMAddModule\0LLVMRemoveModule\0" +
+            "LLVMFindFunction\0LLVMRecompileAndRelinkFunction\0LLVMGetExecutionEngineTargetData\0LLVMGetExecutionEngineTargetMachine\0LLVMAddGlobalMapping\0" +
+            "LLVMGetPointerToGlobal\0LLVMGetGlobalValueAddress\0LLVMGetFunctionAddress\0LLVMCreateSimpleMCJITMemoryManager\0LLVMDisposeMCJITMemoryManager\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            LinkInMCJIT                     = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMLinkInMCJIT"),
-            LinkInInterpreter               = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMLinkInInterpreter"),
-            CreateGenericValueOfInt         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCreateGenericValueOfInt"),
-            CreateGenericValueOfPointer     = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCreateGenericValueOfPointer"),
-            CreateGenericValueOfFloat       = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCreateGenericValueOfFloat"),
-            GenericValueIntWidth            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGenericValueIntWidth"),
-            GenericValueToInt               = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGenericValueToInt"),
-            GenericValueToPointer           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGenericValueToPointer"),
-            GenericValueToFloat             = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGenericValueToFloat"),
-            DisposeGenericValue             = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDisposeGenericValue"),
-            CreateExecutionEngineForModule  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCreateExecutionEngineForModule"),
-            CreateInterpreterForModule      = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCreateInterpreterForModule"),
-            CreateJITCompilerForModule      = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCreateJITCompilerForModule"),
-            InitializeMCJITCompilerOptions  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInitializeMCJITCompilerOptions"),
-            CreateMCJITCompilerForModule    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCreateMCJITCompilerForModule"),
-            DisposeExecutionEngine          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDisposeExecutionEngine"),
-            RunStaticConstructors           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMRunStaticConstructors"),
-            RunStaticDestructors            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMRunStaticDestructors"),
-            RunFunctionAsMain               = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMRunFunctionAsMain"),
-            RunFunction                     = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMRunFunction"),
-            FreeMachineCodeForFunction      = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMFreeMachineCodeForFunction"),
-            AddModule                       = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddModule"),
-            RemoveModule                    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMRemoveModule"),
-            FindFunction                    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMFindFunction"),
-            RecompileAndRelinkFunction      = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMRecompileAndRelinkFunction"),
-            GetExecutionEngineTargetData    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetExecutionEngineTargetData"),
-            GetExecutionEngineTargetMachine = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetExecutionEngineTargetMachine"),
-            AddGlobalMapping                = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddGlobalMapping"),
-            GetPointerToGlobal              = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetPointerToGlobal"),
-            GetGlobalValueAddress           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetGlobalValueAddress"),
-            GetFunctionAddress              = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetFunctionAddress"),
-            CreateSimpleMCJITMemoryManager  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCreateSimpleMCJITMemoryManager"),
-            DisposeMCJITMemoryManager       = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDisposeMCJITMemoryManager"),
+            LinkInMCJIT                     = ADDRESSES[0],
+            LinkInInterpreter               = ADDRESSES[1],
+            CreateGenericValueOfInt         = ADDRESSES[2],
+            CreateGenericValueOfPointer     = ADDRESSES[3],
+            CreateGenericValueOfFloat       = ADDRESSES[4],
+            GenericValueIntWidth            = ADDRESSES[5],
+            GenericValueToInt               = ADDRESSES[6],
+            GenericValueToPointer           = ADDRESSES[7],
+            GenericValueToFloat             = ADDRESSES[8],
+            DisposeGenericValue             = ADDRESSES[9],
+            CreateExecutionEngineForModule  = ADDRESSES[10],
+            CreateInterpreterForModule      = ADDRESSES[11],
+            CreateJITCompilerForModule      = ADDRESSES[12],
+            InitializeMCJITCompilerOptions  = ADDRESSES[13],
+            CreateMCJITCompilerForModule    = ADDRESSES[14],
+            DisposeExecutionEngine          = ADDRESSES[15],
+            RunStaticConstructors           = ADDRESSES[16],
+            RunStaticDestructors            = ADDRESSES[17],
+            RunFunctionAsMain               = ADDRESSES[18],
+            RunFunction                     = ADDRESSES[19],
+            FreeMachineCodeForFunction      = ADDRESSES[20],
+            AddModule                       = ADDRESSES[21],
+            RemoveModule                    = ADDRESSES[22],
+            FindFunction                    = ADDRESSES[23],
+            RecompileAndRelinkFunction      = ADDRESSES[24],
+            GetExecutionEngineTargetData    = ADDRESSES[25],
+            GetExecutionEngineTargetMachine = ADDRESSES[26],
+            AddGlobalMapping                = ADDRESSES[27],
+            GetPointerToGlobal              = ADDRESSES[28],
+            GetGlobalValueAddress           = ADDRESSES[29],
+            GetFunctionAddress              = ADDRESSES[30],
+            CreateSimpleMCJITMemoryManager  = ADDRESSES[31],
+            DisposeMCJITMemoryManager       = ADDRESSES[32],
             CreateGDBRegistrationListener   = LLVMCore.getLibrary().getFunctionAddress("LLVMCreateGDBRegistrationListener"),
             CreateIntelJITEventListener     = LLVMCore.getLibrary().getFunctionAddress("LLVMCreateIntelJITEventListener"),
             CreateOProfileJITEventListener  = LLVMCore.getLibrary().getFunctionAddress("LLVMCreateOProfileJITEventListener"),
@@ -22,21 +22,28 @@ public class LLVMInitialization {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMInitializeCore\0LLVMInitializeTransformUtils\0LLVMInitializeScalarOpts\0LLVMInitializeObjCARCOpts\0LLVMInitializeVectorization\0LLVMInitializeIPO\0" +
+            "LLVMInitializeInstrumentation\0LLVMInitializeAnalysis\0LLVMInitializeIPA\0LLVMInitializeCodeGen\0LLVMInitializeTarget\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            InitializeCore                   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInitializeCore"),
-            InitializeTransformUtils         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInitializeTransformUtils"),
-            InitializeScalarOpts             = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInitializeScalarOpts"),
-            InitializeObjCARCOpts            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInitializeObjCARCOpts"),
-            InitializeVectorization          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInitializeVectorization"),
+            InitializeCore                   = ADDRESSES[0],
+            InitializeTransformUtils         = ADDRESSES[1],
+            InitializeScalarOpts             = ADDRESSES[2],
+            InitializeObjCARCOpts            = ADDRESSES[3],
+            InitializeVectorization          = ADDRESSES[4],
             InitializeInstCombine            = LLVMCore.getLibrary().getFunctionAddress("LLVMInitializeInstCombine"),
             InitializeAggressiveInstCombiner = LLVMCore.getLibrary().getFunctionAddress("LLVMInitializeAggressiveInstCombiner"),
-            InitializeIPO                    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInitializeIPO"),
-            InitializeInstrumentation        = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInitializeInstrumentation"),
-            InitializeAnalysis               = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInitializeAnalysis"),
-            InitializeIPA                    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInitializeIPA"),
-            InitializeCodeGen                = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInitializeCodeGen"),
-            InitializeTarget                 = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInitializeTarget");
+            InitializeIPO                    = ADDRESSES[5],
+            InitializeInstrumentation        = ADDRESSES[6],
+            InitializeAnalysis               = ADDRESSES[7],
+            InitializeIPA                    = ADDRESSES[8],
+            InitializeCodeGen                = ADDRESSES[9],
+            InitializeTarget                 = ADDRESSES[10];
 
     }
 
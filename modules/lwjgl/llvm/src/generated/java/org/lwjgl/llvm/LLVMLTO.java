@@ -136,73 +136,92 @@ public class LLVMLTO {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "lto_get_version\0lto_get_error_message\0lto_module_is_object_file\0lto_module_is_object_file_for_target\0lto_module_has_objc_category\0" +
+            "lto_module_is_object_file_in_memory\0lto_module_is_object_file_in_memory_for_target\0lto_module_create\0lto_module_create_from_memory\0" +
+            "lto_module_create_from_memory_with_path\0lto_module_create_in_local_context\0lto_module_create_in_codegen_context\0lto_module_create_from_fd\0" +
+            "lto_module_create_from_fd_at_offset\0lto_module_dispose\0lto_module_get_target_triple\0lto_module_set_target_triple\0lto_module_get_num_symbols\0" +
+            "lto_module_get_symbol_name\0lto_module_get_symbol_attribute\0lto_module_get_linkeropts\0lto_codegen_set_diagnostic_handler\0lto_codegen_create\0" +
+            "lto_codegen_create_in_local_context\0lto_codegen_dispose\0lto_codegen_add_module\0lto_codegen_set_module\0lto_codegen_set_debug_model\0lto_codegen_set_pic_model\0" +
+            "lto_codegen_set_cpu\0lto_codegen_set_assembler_path\0lto_codegen_set_assembler_args\0lto_codegen_add_must_preserve_symbol\0lto_codegen_write_merged_modules\0" +
+            "lto_codegen_compile\0lto_codegen_compile_to_file\0lto_codegen_optimize\0lto_codegen_compile_optimized\0lto_api_version\0lto_codegen_debug_options\0" +
+            "lto_initialize_disassembler\0lto_codegen_set_should_internalize\0lto_codegen_set_should_embed_uselists\0thinlto_create_codegen\0thinlto_codegen_dispose\0" +
+            "thinlto_codegen_add_module\0thinlto_codegen_process\0thinlto_module_get_num_objects\0thinlto_module_get_object\0thinlto_module_get_num_object_files\0" +
+            "thinlto_module_get_object_file\0thinlto_codegen_set_pic_model\0thinlto_codegen_set_savetemps_dir\0thinlto_set_generated_objects_dir\0thinlto_codegen_set_cpu\0" +
+            "thinlto_codegen_disable_codegen\0thinlto_codegen_set_codegen_only\0thinlto_debug_options\0lto_module_is_thinlto\0thinlto_codegen_add_must_preserve_symbol\0" +
+            "thinlto_codegen_add_cross_referenced_symbol\0thinlto_codegen_set_cache_dir\0thinlto_codegen_set_cache_pruning_interval\0" +
+            "thinlto_codegen_set_final_cache_size_relative_to_available_space\0thinlto_codegen_set_cache_entry_expiration\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LTO, FUNCTIONS);
+
         /** Function address. */
         public static final long
-            get_version                                                      = apiGetFunctionAddress(LTO, "lto_get_version"),
-            get_error_message                                                = apiGetFunctionAddress(LTO, "lto_get_error_message"),
-            module_is_object_file                                            = apiGetFunctionAddress(LTO, "lto_module_is_object_file"),
-            module_is_object_file_for_target                                 = apiGetFunctionAddress(LTO, "lto_module_is_object_file_for_target"),
-            module_has_objc_category                                         = apiGetFunctionAddress(LTO, "lto_module_has_objc_category"),
-            module_is_object_file_in_memory                                  = apiGetFunctionAddress(LTO, "lto_module_is_object_file_in_memory"),
-            module_is_object_file_in_memory_for_target                       = apiGetFunctionAddress(LTO, "lto_module_is_object_file_in_memory_for_target"),
-            module_create                                                    = apiGetFunctionAddress(LTO, "lto_module_create"),
-            module_create_from_memory                                        = apiGetFunctionAddress(LTO, "lto_module_create_from_memory"),
-            module_create_from_memory_with_path                              = apiGetFunctionAddress(LTO, "lto_module_create_from_memory_with_path"),
-            module_create_in_local_context                                   = apiGetFunctionAddress(LTO, "lto_module_create_in_local_context"),
-            module_create_in_codegen_context                                 = apiGetFunctionAddress(LTO, "lto_module_create_in_codegen_context"),
-            module_create_from_fd                                            = apiGetFunctionAddress(LTO, "lto_module_create_from_fd"),
-            module_create_from_fd_at_offset                                  = apiGetFunctionAddress(LTO, "lto_module_create_from_fd_at_offset"),
-            module_dispose                                                   = apiGetFunctionAddress(LTO, "lto_module_dispose"),
-            module_get_target_triple                                         = apiGetFunctionAddress(LTO, "lto_module_get_target_triple"),
-            module_set_target_triple                                         = apiGetFunctionAddress(LTO, "lto_module_set_target_triple"),
-            module_get_num_symbols                                           = apiGetFunctionAddress(LTO, "lto_module_get_num_symbols"),
-            module_get_symbol_name                                           = apiGetFunctionAddress(LTO, "lto_module_get_symbol_name"),
-            module_get_symbol_attribute                                      = apiGetFunctionAddress(LTO, "lto_module_get_symbol_attribute"),
-            module_get_linkeropts                                            = apiGetFunctionAddress(LTO, "lto_module_get_linkeropts"),
-            codegen_set_diagnostic_handler                                   = apiGetFunctionAddress(LTO, "lto_codegen_set_diagnostic_handler"),
-            codegen_create                                                   = apiGetFunctionAddress(LTO, "lto_codegen_create"),
-            codegen_create_in_local_context                                  = apiGetFunctionAddress(LTO, "lto_codegen_create_in_local_context"),
-            codegen_dispose                                                  = apiGetFunctionAddress(LTO, "lto_codegen_dispose"),
-            codegen_add_module                                               = apiGetFunctionAddress(LTO, "lto_codegen_add_module"),
-            codegen_set_module                                               = apiGetFunctionAddress(LTO, "lto_codegen_set_module"),
-            codegen_set_debug_model                                          = apiGetFunctionAddress(LTO, "lto_codegen_set_debug_model"),
-            codegen_set_pic_model                                            = apiGetFunctionAddress(LTO, "lto_codegen_set_pic_model"),
-            codegen_set_cpu                                                  = apiGetFunctionAddress(LTO, "lto_codegen_set_cpu"),
-            codegen_set_assembler_path                                       = apiGetFunctionAddress(LTO, "lto_codegen_set_assembler_path"),
-            codegen_set_assembler_args                                       = apiGetFunctionAddress(LTO, "lto_codegen_set_assembler_args"),
-            codegen_add_must_preserve_symbol                                 = apiGetFunctionAddress(LTO, "lto_codegen_add_must_preserve_symbol"),
-            codegen_write_merged_modules                                     = apiGetFunctionAddress(LTO, "lto_codegen_write_merged_modules"),
-            codegen_compile                                                  = apiGetFunctionAddress(LTO, "lto_codegen_compile"),
-            codegen_compile_to_file                                          = apiGetFunctionAddress(LTO, "lto_codegen_compile_to_file"),
-            codegen_optimize                                                 = apiGetFunctionAddress(LTO, "lto_codegen_optimize"),
-            codegen_compile_optimized                                        = apiGetFunctionAddress(LTO, "lto_codegen_compile_optimized"),
-            api_version                                                      = apiGetFunctionAddress(LTO, "lto_api_version"),
-            codegen_debug_options                                            = apiGetFunctionAddress(LTO, "lto_codegen_debug_options"),
-            initialize_disassembler                                          = apiGetFunctionAddress(LTO, "lto_initialize_disassembler"),
-            codegen_set_should_internalize                                   = apiGetFunctionAddress(LTO, "lto_codegen_set_should_internalize"),
-            codegen_set_should_embed_uselists                                = apiGetFunctionAddress(LTO, "lto_codegen_set_should_embed_uselists"),
-            thinlto_create_codegen                                           = apiGetFunctionAddress(LTO, "thinlto_create_codegen"),
-            thinlto_codegen_dispose                                          = apiGetFunctionAddress(LTO, "thinlto_codegen_dispose"),
-            thinlto_codegen_add_module                                       = apiGetFunctionAddress(LTO, "thinlto_codegen_add_module"),
-            thinlto_codegen_process                                          = apiGetFunctionAddress(LTO, "thinlto_codegen_process"),
-            thinlto_module_get_num_objects                                   = apiGetFunctionAddress(LTO, "thinlto_module_get_num_objects"),
-            thinlto_module_get_object                                        = apiGetFunctionAddress(LTO, "thinlto_module_get_object"),
-            thinlto_module_get_num_object_files                              = apiGetFunctionAddress(LTO, "thinlto_module_get_num_object_files"),
-            thinlto_module_get_object_file                                   = apiGetFunctionAddress(LTO, "thinlto_module_get_object_file"),
-            thinlto_codegen_set_pic_model                                    = apiGetFunctionAddress(LTO, "thinlto_codegen_set_pic_model"),
-            thinlto_codegen_set_savetemps_dir                                = apiGetFunctionAddress(LTO, "thinlto_codegen_set_savetemps_dir"),
-            thinlto_set_generated_objects_dir                                = apiGetFunctionAddress(LTO, "thinlto_set_generated_objects_dir"),
-            thinlto_codegen_set_cpu                                          = apiGetFunctionAddress(LTO, "thinlto_codegen_set_cpu"),
-            thinlto_codegen_disable_codegen                                  = apiGetFunctionAddress(LTO, "thinlto_codegen_disable_codegen"),
-            thinlto_codegen_set_codegen_only                                 = apiGetFunctionAddress(LTO, "thinlto_codegen_set_codegen_only"),
-            thinlto_debug_options                                            = apiGetFunctionAddress(LTO, "thinlto_debug_options"),
-            module_is_thinlto                                                = apiGetFunctionAddress(LTO, "lto_module_is_thinlto"),
-            thinlto_codegen_add_must_preserve_symbol                         = apiGetFunctionAddress(LTO, "thinlto_codegen_add_must_preserve_symbol"),
-            thinlto_codegen_add_cross_referenced_symbol                      = apiGetFunctionAddress(LTO, "thinlto_codegen_add_cross_referenced_symbol"),
-            thinlto_codegen_set_cache_dir                                    = apiGetFunctionAddress(LTO, "thinlto_codegen_set_cache_dir"),
-            thinlto_codegen_set_cache_pruning_interval                       = apiGetFunctionAddress(LTO, "thinlto_codegen_set_cache_pruning_interval"),
-            thinlto_codegen_set_final_cache_size_relative_to_available_space = apiGetFunctionAddress(LTO, "thinlto_codegen_set_final_cache_size_relative_to_available_space"),
-            thinlto_codegen_set_cache_entry_expiration                       = apiGetFunctionAddress(LTO, "thinlto_codegen_set_cache_entry_expiration"),
+            get_version                                                      = ADDRESSES[0],
+            get_error_message                                                = ADDRESSES[1],
+            module_is_object_file                                            = ADDRESSES[2],
+            module_is_object_file_for_target                                 = ADDRESSES[3],
+            module_has_objc_category                                         = ADDRESSES[4],
+            module_is_object_file_in_memory                                  = ADDRESSES[5],
+            module_is_object_file_in_memory_for_target                       = ADDRESSES[6],
+            module_create                                                    = ADDRESSES[7],
+            module_create_from_memory                                        = ADDRESSES[8],
+            module_create_from_memory_with_path                              = ADDRESSES[9],
+            module_create_in_local_context                                   = ADDRESSES[10],
+            module_create_in_codegen_context                                 = ADDRESSES[11],
+            module_create_from_fd                                            = ADDRESSES[12],
+            module_create_from_fd_at_offset                                  = ADDRESSES[13],
+            module_dispose                                                   = ADDRESSES[14],
+            module_get_target_triple                                         = ADDRESSES[15],
+            module_set_target_triple                                         = ADDRESSES[16],
+            module_get_num_symbols                                           = ADDRESSES[17],
+            module_get_symbol_name                                           = ADDRESSES[18],
+            module_get_symbol_attribute                                      = ADDRESSES[19],
+            module_get_linkeropts                                            = ADDRESSES[20],
+            codegen_set_diagnostic_handler                                   = ADDRESSES[21],
+            codegen_create                                                   = ADDRESSES[22],
+            codegen_create_in_local_context                                  = ADDRESSES[23],
+            codegen_dispose                                                  = ADDRESSES[24],
+            codegen_add_module                                               = ADDRESSES[25],
+            codegen_set_module                                               = ADDRESSES[26],
+            codegen_set_debug_model                                          = ADDRESSES[27],
+            codegen_set_pic_model                                            = ADDRESSES[28],
+            codegen_set_cpu                                                  = ADDRESSES[29],
+            codegen_set_assembler_path                                       = ADDRESSES[30],
+            codegen_set_assembler_args                                       = ADDRESSES[31],
+            codegen_add_must_preserve_symbol                                 = ADDRESSES[32],
+            codegen_write_merged_modules                                     = ADDRESSES[33],
+            codegen_compile                                                  = ADDRESSES[34],
+            codegen_compile_to_file                                          = ADDRESSES[35],
+            codegen_optimize                                                 = ADDRESSES[36],
+            codegen_compile_optimized                                        = ADDRESSES[37],
+            api_version                                                      = ADDRESSES[38],
+            codegen_debug_options                                            = ADDRESSES[39],
+            initialize_disassembler                                          = ADDRESSES[40],
+            codegen_set_should_internalize                                   = ADDRESSES[41],
+            codegen_set_should_embed_uselists                                = ADDRESSES[42],
+            thinlto_create_codegen                                           = ADDRESSES[43],
+            thinlto_codegen_dispose                                          = ADDRESSES[44],
+            thinlto_codegen_add_module                                       = ADDRESSES[45],
+            thinlto_codegen_process                                          = ADDRESSES[46],
+            thinlto_module_get_num_objects                                   = ADDRESSES[47],
+            thinlto_module_get_object                                        = ADDRESSES[48],
+            thinlto_module_get_num_object_files                              = ADDRESSES[49],
+            thinlto_module_get_object_file                                   = ADDRESSES[50],
+            thinlto_codegen_set_pic_model                                    = ADDRESSES[51],
+            thinlto_codegen_set_savetemps_dir                                = ADDRESSES[52],
+            thinlto_set_generated_objects_dir                                = ADDRESSES[53],
+            thinlto_codegen_set_cpu                                          = ADDRESSES[54],
+            thinlto_codegen_disable_codegen                                  = ADDRESSES[55],
+            thinlto_codegen_set_codegen_only                                 = ADDRESSES[56],
+            thinlto_debug_options                                            = ADDRESSES[57],
+            module_is_thinlto                                                = ADDRESSES[58],
+            thinlto_codegen_add_must_preserve_symbol                         = ADDRESSES[59],
+            thinlto_codegen_add_cross_referenced_symbol                      = ADDRESSES[60],
+            thinlto_codegen_set_cache_dir                                    = ADDRESSES[61],
+            thinlto_codegen_set_cache_pruning_interval                       = ADDRESSES[62],
+            thinlto_codegen_set_final_cache_size_relative_to_available_space = ADDRESSES[63],
+            thinlto_codegen_set_cache_entry_expiration                       = ADDRESSES[64],
             thinlto_codegen_set_cache_size_bytes                             = LTO.getFunctionAddress("thinlto_codegen_set_cache_size_bytes"),
             thinlto_codegen_set_cache_size_megabytes                         = LTO.getFunctionAddress("thinlto_codegen_set_cache_size_megabytes"),
             thinlto_codegen_set_cache_size_files                             = LTO.getFunctionAddress("thinlto_codegen_set_cache_size_files");
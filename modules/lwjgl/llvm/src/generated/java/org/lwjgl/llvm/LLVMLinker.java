@@ -38,9 +38,15 @@ public class LLVMLinker {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMLinkModules2\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            LinkModules2 = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMLinkModules2");
+            LinkModules2 = ADDRESSES[0];
 
     }
 
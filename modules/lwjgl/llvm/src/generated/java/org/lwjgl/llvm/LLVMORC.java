@@ -30,22 +30,29 @@ public class LLVMORC {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMOrcCreateInstance\0LLVMOrcGetErrorMsg\0LLVMOrcGetMangledSymbol\0LLVMOrcDisposeMangledSymbol\0LLVMOrcCreateLazyCompileCallback\0LLVMOrcCreateIndirectStub\0" +
+            "LLVMOrcSetIndirectStubPointer\0LLVMOrcAddEagerlyCompiledIR\0LLVMOrcAddLazilyCompiledIR\0LLVMOrcRemoveModule\0LLVMOrcGetSymbolAddress\0LLVMOrcDisposeInstance\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            OrcCreateInstance             = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMOrcCreateInstance"),
-            OrcGetErrorMsg                = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMOrcGetErrorMsg"),
-            OrcGetMangledSymbol           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMOrcGetMangledSymbol"),
-            OrcDisposeMangledSymbol       = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMOrcDisposeMangledSymbol"),
-            OrcCreateLazyCompileCallback  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMOrcCreateLazyCompileCallback"),
-            OrcCreateIndirectStub         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMOrcCreateIndirectStub"),
-            OrcSetIndirectStubPointer     = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMOrcSetIndirectStubPointer"),
-            OrcAddEagerlyCompiledIR       = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMOrcAddEagerlyCompiledIR"),
-            OrcAddLazilyCompiledIR        = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMOrcAddLazilyCompiledIR"),
+            OrcCreateInstance             = ADDRESSES[0],
+            OrcGetErrorMsg                = ADDRESSES[1],
+            OrcGetMangledSymbol           = ADDRESSES[2],
+            OrcDisposeMangledSymbol       = ADDRESSES[3],
+            OrcCreateLazyCompileCallback  = ADDRESSES[4],
+            OrcCreateIndirectStub         = ADDRESSES[5],
+            OrcSetIndirectStubPointer     = ADDRESSES[6],
+            OrcAddEagerlyCompiledIR       = ADDRESSES[7],
+            OrcAddLazilyCompiledIR        = ADDRESSES[8],
             OrcAddObjectFile              = LLVMCore.getLibrary().getFunctionAddress("LLVMOrcAddObjectFile"),
-            OrcRemoveModule               = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMOrcRemoveModule"),
-            OrcGetSymbolAddress           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMOrcGetSymbolAddress"),
+            OrcRemoveModule               = ADDRESSES[9],
+            OrcGetSymbolAddress           = ADDRESSES[10],
             OrcGetSymbolAddressIn         = LLVMCore.getLibrary().getFunctionAddress("LLVMOrcGetSymbolAddressIn"),
-            OrcDisposeInstance            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMOrcDisposeInstance"),
+            OrcDisposeInstance            = ADDRESSES[11],
             OrcRegisterJITEventListener   = LLVMCore.getLibrary().getFunctionAddress("LLVMOrcRegisterJITEventListener"),
             OrcUnregisterJITEventListener = LLVMCore.getLibrary().getFunctionAddress("LLVMOrcUnregisterJITEventListener");
 
@@ -25,36 +25,46 @@ public class LLVMObject {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMCreateObjectFile\0LLVMDisposeObjectFile\0LLVMGetSections\0LLVMDisposeSectionIterator\0LLVMIsSectionIteratorAtEnd\0LLVMMoveToNextSection\0" +
+            "LLVMMoveToContainingSection\0LLVMGetSymbols\0LLVMDisposeSymbolIterator\0LLVMIsSymbolIteratorAtEnd\0LLVMMoveToNextSymbol\0LLVMGetSectionName\0LLVMGetSectionSize\0" +
+            "LLVMGetSectionContents\0LLVMGetSectionAddress\0LLVMGetSectionContainsSymbol\0LLVMGetRelocations\0LLVMDisposeRelocationIterator\0LLVMIsRelocationIteratorAtEnd\0" +
+            "LLVMMoveToNextRelocation\0LLVMGetSymbolName\0LLVMGetSymbolAddress\0LLVMGetSymbolSize\0LLVMGetRelocationOffset\0LLVMGetRelocationSymbol\0LLVMGetRelocationType\0" +
+            "LLVMGetRelocationTypeName\0LLVMGetRelocationValueString\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            CreateObjectFile          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCreateObjectFile"),
-            DisposeObjectFile         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDisposeObjectFile"),
-            GetSections               = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetSections"),
-            DisposeSectionIterator    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDisposeSectionIterator"),
-            IsSectionIteratorAtEnd    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMIsSectionIteratorAtEnd"),
-            MoveToNextSection         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMMoveToNextSection"),
-            MoveToContainingSection   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMMoveToContainingSection"),
-            GetSymbols                = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetSymbols"),
-            DisposeSymbolIterator     = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDisposeSymbolIterator"),
-            IsSymbolIteratorAtEnd     = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMIsSymbolIteratorAtEnd"),
-            MoveToNextSymbol          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMMoveToNextSymbol"),
-            GetSectionName            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetSectionName"),
-            GetSectionSize            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetSectionSize"),
-            GetSectionContents        = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetSectionContents"),
-            GetSectionAddress         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetSectionAddress"),
-            GetSectionContainsSymbol  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetSectionContainsSymbol"),
-            GetRelocations            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetRelocations"),
-            DisposeRelocationIterator = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDisposeRelocationIterator"),
-            IsRelocationIteratorAtEnd = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMIsRelocationIteratorAtEnd"),
-            MoveToNextRelocation      = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMMoveToNextRelocation"),
-            GetSymbolName             = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetSymbolName"),
-            GetSymbolAddress          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetSymbolAddress"),
-            GetSymbolSize             = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetSymbolSize"),
-            GetRelocationOffset       = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetRelocationOffset"),
-            GetRelocationSymbol       = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetRelocationSymbol"),
-            GetRelocationType         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetRelocationType"),
-            GetRelocationTypeName     = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetRelocationTypeName"),
-            GetRelocationValueString  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetRelocationValueString");
+            CreateObjectFile          = ADDRESSES[0],
+            DisposeObjectFile         = ADDRESSES[1],
+            GetSections               = ADDRESSES[2],
+            DisposeSectionIterator    = ADDRESSES[3],
+            IsSectionIteratorAtEnd    = ADDRESSES[4],
+            MoveToNextSection         = ADDRESSES[5],
+            MoveToContainingSection   = ADDRESSES[6],
+            GetSymbols                = ADDRESSES[7],
+            DisposeSymbolIterator     = ADDRESSES[8],
+            IsSymbolIteratorAtEnd     = ADDRESSES[9],
+            MoveToNextSymbol          = ADDRESSES[10],
+            GetSectionName            = ADDRESSES[11],
+            GetSectionSize            = ADDRESSES[12],
+            GetSectionContents        = ADDRESSES[13],
+            GetSectionAddress         = ADDRESSES[14],
+            GetSectionContainsSymbol  = ADDRESSES[15],
+            GetRelocations            = ADDRESSES[16],
+            DisposeRelocationIterator = ADDRESSES[17],
+            IsRelocationIteratorAtEnd = ADDRESSES[18],
+            MoveToNextRelocation      = ADDRESSES[19],
+            GetSymbolName             = ADDRESSES[20],
+            GetSymbolAddress          = ADDRESSES[21],
+            GetSymbolSize             = ADDRESSES[22],
+            GetRelocationOffset       = ADDRESSES[23],
+            GetRelocationSymbol       = ADDRESSES[24],
+            GetRelocationType         = ADDRESSES[25],
+            GetRelocationTypeName     = ADDRESSES[26],
+            GetRelocationValueString  = ADDRESSES[27];
 
     }
 
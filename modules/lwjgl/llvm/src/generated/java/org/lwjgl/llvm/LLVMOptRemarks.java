@@ -29,13 +29,19 @@ public class LLVMOptRemarks {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMOptRemarkParserCreate\0LLVMOptRemarkParserGetNext\0LLVMOptRemarkParserHasError\0LLVMOptRemarkParserGetErrorMessage\0LLVMOptRemarkParserDispose\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            OptRemarkParserCreate          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMOptRemarkParserCreate"),
-            OptRemarkParserGetNext         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMOptRemarkParserGetNext"),
-            OptRemarkParserHasError        = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMOptRemarkParserHasError"),
-            OptRemarkParserGetErrorMessage = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMOptRemarkParserGetErrorMessage"),
-            OptRemarkParserDispose         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMOptRemarkParserDispose"),
+            OptRemarkParserCreate          = ADDRESSES[0],
+            OptRemarkParserGetNext         = ADDRESSES[1],
+            OptRemarkParserHasError        = ADDRESSES[2],
+            OptRemarkParserGetErrorMessage = ADDRESSES[3],
+            OptRemarkParserDispose         = ADDRESSES[4],
             OptRemarkVersion               = LLVMCore.getLibrary().getFunctionAddress("LLVMOptRemarkVersion");
 
     }
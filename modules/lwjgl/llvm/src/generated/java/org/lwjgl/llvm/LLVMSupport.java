@@ -28,12 +28,18 @@ public class LLVMSupport {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMLoadLibraryPermanently\0LLVMParseCommandLineOptions\0LLVMSearchForAddressOfSymbol\0LLVMAddSymbol\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            LoadLibraryPermanently   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMLoadLibraryPermanently"),
-            ParseCommandLineOptions  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMParseCommandLineOptions"),
-            SearchForAddressOfSymbol = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMSearchForAddressOfSymbol"),
-            AddSymbol                = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddSymbol");
+            LoadLibraryPermanently   = ADDRESSES[0],
+            ParseCommandLineOptions  = ADDRESSES[1],
+            SearchForAddressOfSymbol = ADDRESSES[2],
+            AddSymbol                = ADDRESSES[3];
 
     }
 
@@ -42,30 +42,39 @@ public class LLVMTarget {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMGetModuleDataLayout\0LLVMSetModuleDataLayout\0LLVMCreateTargetData\0LLVMDisposeTargetData\0LLVMAddTargetLibraryInfo\0LLVMCopyStringRepOfTargetData\0" +
+            "LLVMByteOrder\0LLVMPointerSize\0LLVMPointerSizeForAS\0LLVMIntPtrType\0LLVMIntPtrTypeForAS\0LLVMIntPtrTypeInContext\0LLVMIntPtrTypeForASInContext\0" +
+            "LLVMSizeOfTypeInBits\0LLVMStoreSizeOfType\0LLVMABISizeOfType\0LLVMABIAlignmentOfType\0LLVMCallFrameAlignmentOfType\0LLVMPreferredAlignmentOfType\0" +
+            "LLVMPreferredAlignmentOfGlobal\0LLVMElementAtOffset\0LLVMOffsetOfElement\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            GetModuleDataLayout        = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetModuleDataLayout"),
-            SetModuleDataLayout        = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMSetModuleDataLayout"),
-            CreateTargetData           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCreateTargetData"),
-            DisposeTargetData          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDisposeTargetData"),
-            AddTargetLibraryInfo       = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddTargetLibraryInfo"),
-            CopyStringRepOfTargetData  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCopyStringRepOfTargetData"),
-            ByteOrder                  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMByteOrder"),
-            PointerSize                = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMPointerSize"),
-            PointerSizeForAS           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMPointerSizeForAS"),
-            IntPtrType                 = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMIntPtrType"),
-            IntPtrTypeForAS            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMIntPtrTypeForAS"),
-            IntPtrTypeInContext        = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMIntPtrTypeInContext"),
-            IntPtrTypeForASInContext   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMIntPtrTypeForASInContext"),
-            SizeOfTypeInBits           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMSizeOfTypeInBits"),
-            StoreSizeOfType            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMStoreSizeOfType"),
-            ABISizeOfType              = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMABISizeOfType"),
-            ABIAlignmentOfType         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMABIAlignmentOfType"),
-            CallFrameAlignmentOfType   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCallFrameAlignmentOfType"),
-            PreferredAlignmentOfType   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMPreferredAlignmentOfType"),
-            PreferredAlignmentOfGlobal = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMPreferredAlignmentOfGlobal"),
-            ElementAtOffset            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMElementAtOffset"),
-            OffsetOfElement            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMOffsetOfElement");
+            GetModuleDataLayout        = ADDRESSES[0],
+            SetModuleDataLayout        = ADDRESSES[1],
+            CreateTargetData           = ADDRESSES[2],
+            DisposeTargetData          = ADDRESSES[3],
+            AddTargetLibraryInfo       = ADDRESSES[4],
+            CopyStringRepOfTargetData  = ADDRESSES[5],
+            ByteOrder                  = ADDRESSES[6],
+            PointerSize                = ADDRESSES[7],
+            PointerSizeForAS           = ADDRESSES[8],
+            IntPtrType                 = ADDRESSES[9],
+            IntPtrTypeForAS            = ADDRESSES[10],
+            IntPtrTypeInContext        = ADDRESSES[11],
+            IntPtrTypeForASInContext   = ADDRESSES[12],
+            SizeOfTypeInBits           = ADDRESSES[13],
+            StoreSizeOfType            = ADDRESSES[14],
+            ABISizeOfType              = ADDRESSES[15],
+            ABIAlignmentOfType         = ADDRESSES[16],
+            CallFrameAlignmentOfType   = ADDRESSES[17],
+            PreferredAlignmentOfType   = ADDRESSES[18],
+            PreferredAlignmentOfGlobal = ADDRESSES[19],
+            ElementAtOffset            = ADDRESSES[20],
+            OffsetOfElement            = ADDRESSES[21];
 
     }
 
@@ -110,32 +110,41 @@ public class LLVMTargetMachine {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMGetFirstTarget\0LLVMGetNextTarget\0LLVMGetTargetFromName\0LLVMGetTargetFromTriple\0LLVMGetTargetName\0LLVMGetTargetDescription\0LLVMTargetHasJIT\0" +
+            "LLVMTargetHasTargetMachine\0LLVMTargetHasAsmBackend\0LLVMCreateTargetMachine\0LLVMDisposeTargetMachine\0LLVMGetTargetMachineTarget\0LLVMGetTargetMachineTriple\0" +
+            "LLVMGetTargetMachineCPU\0LLVMGetTargetMachineFeatureString\0LLVMCreateTargetDataLayout\0LLVMSetTargetMachineAsmVerbosity\0LLVMTargetMachineEmitToFile\0" +
+            "LLVMTargetMachineEmitToMemoryBuffer\0LLVMGetDefaultTargetTriple\0LLVMAddAnalysisPasses\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            GetFirstTarget                  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetFirstTarget"),
-            GetNextTarget                   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetNextTarget"),
-            GetTargetFromName               = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetTargetFromName"),
-            GetTargetFromTriple             = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetTargetFromTriple"),
-            GetTargetName                   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetTargetName"),
-            GetTargetDescription            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetTargetDescription"),
-            TargetHasJIT                    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMTargetHasJIT"),
-            TargetHasTargetMachine          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMTargetHasTargetMachine"),
-            TargetHasAsmBackend             = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMTargetHasAsmBackend"),
-            CreateTargetMachine             = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCreateTargetMachine"),
-            DisposeTargetMachine            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMDisposeTargetMachine"),
-            GetTargetMachineTarget          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetTargetMachineTarget"),
-            GetTargetMachineTriple          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetTargetMachineTriple"),
-            GetTargetMachineCPU             = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetTargetMachineCPU"),
-            GetTargetMachineFeatureString   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetTargetMachineFeatureString"),
-            CreateTargetDataLayout          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMCreateTargetDataLayout"),
-            SetTargetMachineAsmVerbosity    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMSetTargetMachineAsmVerbosity"),
-            TargetMachineEmitToFile         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMTargetMachineEmitToFile"),
-            TargetMachineEmitToMemoryBuffer = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMTargetMachineEmitToMemoryBuffer"),
-            GetDefaultTargetTriple          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMGetDefaultTargetTriple"),
+            GetFirstTarget                  = ADDRESSES[0],
+            GetNextTarget                   = ADDRESSES[1],
+            GetTargetFromName               = ADDRESSES[2],
+            GetTargetFromTriple             = ADDRESSES[3],
+            GetTargetName                   = ADDRESSES[4],
+            GetTargetDescription            = ADDRESSES[5],
+            TargetHasJIT                    = ADDRESSES[6],
+            TargetHasTargetMachine          = ADDRESSES[7],
+            TargetHasAsmBackend             = ADDRESSES[8],
+            CreateTargetMachine             = ADDRESSES[9],
+            DisposeTargetMachine            = ADDRESSES[10],
+            GetTargetMachineTarget          = ADDRESSES[11],
+            GetTargetMachineTriple          = ADDRESSES[12],
+            GetTargetMachineCPU             = ADDRESSES[13],
+            GetTargetMachineFeatureString   = ADDRESSES[14],
+            CreateTargetDataLayout          = ADDRESSES[15],
+            SetTargetMachineAsmVerbosity    = ADDRESSES[16],
+            TargetMachineEmitToFile         = ADDRESSES[17],
+            TargetMachineEmitToMemoryBuffer = ADDRESSES[18],
+            GetDefaultTargetTriple          = ADDRESSES[19],
             NormalizeTargetTriple           = LLVMCore.getLibrary().getFunctionAddress("LLVMNormalizeTargetTriple"),
             GetHostCPUName                  = LLVMCore.getLibrary().getFunctionAddress("LLVMGetHostCPUName"),
             GetHostCPUFeatures              = LLVMCore.getLibrary().getFunctionAddress("LLVMGetHostCPUFeatures"),
-            AddAnalysisPasses               = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddAnalysisPasses");
+            AddAnalysisPasses               = ADDRESSES[20];
 
     }
 
@@ -21,14 +21,21 @@ public class LLVMTargetX86 {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMInitializeX86TargetInfo\0LLVMInitializeX86Target\0LLVMInitializeX86TargetMC\0LLVMInitializeX86AsmPrinter\0LLVMInitializeX86AsmParser\0" +
+            "LLVMInitializeX86Disassembler\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            InitializeX86TargetInfo   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInitializeX86TargetInfo"),
-            InitializeX86Target       = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInitializeX86Target"),
-            InitializeX86TargetMC     = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInitializeX86TargetMC"),
-            InitializeX86AsmPrinter   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInitializeX86AsmPrinter"),
-            InitializeX86AsmParser    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInitializeX86AsmParser"),
-            InitializeX86Disassembler = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMInitializeX86Disassembler");
+            InitializeX86TargetInfo   = ADDRESSES[0],
+            InitializeX86Target       = ADDRESSES[1],
+            InitializeX86TargetMC     = ADDRESSES[2],
+            InitializeX86AsmPrinter   = ADDRESSES[3],
+            InitializeX86AsmParser    = ADDRESSES[4],
+            InitializeX86Disassembler = ADDRESSES[5];
 
     }
 
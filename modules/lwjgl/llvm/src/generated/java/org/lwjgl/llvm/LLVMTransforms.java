@@ -22,6 +22,25 @@ public class LLVMTransforms {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "LLVMAddInstructionCombiningPass\0LLVMAddArgumentPromotionPass\0LLVMAddConstantMergePass\0LLVMAddDeadArgEliminationPass\0LLVMAddFunctionAttrsPass\0" +
+            "LLVMAddFunctionInliningPass\0LLVMAddAlwaysInlinerPass\0LLVMAddGlobalDCEPass\0LLVMAddGlobalOptimizerPass\0LLVMAddIPConstantPropagationPass\0LLVMAddPruneEHPass\0" +
+            "LLVMAddIPSCCPPass\0LLVMAddInternalizePass\0LLVMAddStripDeadPrototypesPass\0LLVMAddStripSymbolsPass\0LLVMPassManagerBuilderCreate\0LLVMPassManagerBuilderDispose\0" +
+            "LLVMPassManagerBuilderSetOptLevel\0LLVMPassManagerBuilderSetSizeLevel\0LLVMPassManagerBuilderSetDisableUnitAtATime\0LLVMPassManagerBuilderSetDisableUnrollLoops\0" +
+            "LLVMPassManagerBuilderSetDisableSimplifyLibCalls\0LLVMPassManagerBuilderUseInlinerWithThreshold\0LLVMPassManagerBuilderPopulateFunctionPassManager\0" +
+            "LLVMPassManagerBuilderPopulateModulePassManager\0LLVMPassManagerBuilderPopulateLTOPassManager\0LLVMAddAggressiveDCEPass\0LLVMAddBitTrackingDCEPass\0" +
+            "LLVMAddAlignmentFromAssumptionsPass\0LLVMAddCFGSimplificationPass\0LLVMAddDeadStoreEliminationPass\0LLVMAddScalarizerPass\0LLVMAddMergedLoadStoreMotionPass\0" +
+            "LLVMAddGVNPass\0LLVMAddNewGVNPass\0LLVMAddIndVarSimplifyPass\0LLVMAddJumpThreadingPass\0LLVMAddLICMPass\0LLVMAddLoopDeletionPass\0LLVMAddLoopIdiomPass\0" +
+            "LLVMAddLoopRotatePass\0LLVMAddLoopRerollPass\0LLVMAddLoopUnrollPass\0LLVMAddLoopUnswitchPass\0LLVMAddMemCpyOptPass\0LLVMAddPartiallyInlineLibCallsPass\0" +
+            "LLVMAddReassociatePass\0LLVMAddSCCPPass\0LLVMAddScalarReplAggregatesPass\0LLVMAddScalarReplAggregatesPassSSA\0LLVMAddScalarReplAggregatesPassWithThreshold\0" +
+            "LLVMAddSimplifyLibCallsPass\0LLVMAddTailCallEliminationPass\0LLVMAddConstantPropagationPass\0LLVMAddDemoteMemoryToRegisterPass\0LLVMAddVerifierPass\0" +
+            "LLVMAddCorrelatedValuePropagationPass\0LLVMAddEarlyCSEPass\0LLVMAddEarlyCSEMemSSAPass\0LLVMAddLowerExpectIntrinsicPass\0LLVMAddTypeBasedAliasAnalysisPass\0" +
+            "LLVMAddScopedNoAliasAAPass\0LLVMAddBasicAliasAnalysisPass\0LLVMAddLowerSwitchPass\0LLVMAddPromoteMemoryToRegisterPass\0LLVMAddLoopVectorizePass\0" +
+            "LLVMAddSLPVectorizePass\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(LLVMCore.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
             AddAggressiveInstCombinerPass                 = LLVMCore.getLibrary().getFunctionAddress("LLVMAddAggressiveInstCombinerPass"),
@@ -29,77 +48,77 @@ public class LLVMTransforms {
             AddCoroSplitPass                              = LLVMCore.getLibrary().getFunctionAddress("LLVMAddCoroSplitPass"),
             AddCoroElidePass                              = LLVMCore.getLibrary().getFunctionAddress("LLVMAddCoroElidePass"),
             AddCoroCleanupPass                            = LLVMCore.getLibrary().getFunctionAddress("LLVMAddCoroCleanupPass"),
-            AddInstructionCombiningPass                   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddInstructionCombiningPass"),
-            AddArgumentPromotionPass                      = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddArgumentPromotionPass"),
-            AddConstantMergePass                          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddConstantMergePass"),
+            AddInstructionCombiningPass                   = ADDRESSES[0],
+            AddArgumentPromotionPass                      = ADDRESSES[1],
+            AddConstantMergePass                          = ADDRESSES[2],
             AddCalledValuePropagationPass                 = LLVMCore.getLibrary().getFunctionAddress("LLVMAddCalledValuePropagationPass"),
-            AddDeadArgEliminationPass                     = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddDeadArgEliminationPass"),
-            AddFunctionAttrsPass                          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddFunctionAttrsPass"),
-            AddFunctionInliningPass                       = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddFunctionInliningPass"),
-            AddAlwaysInlinerPass                          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddAlwaysInlinerPass"),
-            AddGlobalDCEPass                              = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddGlobalDCEPass"),
-            AddGlobalOptimizerPass                        = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddGlobalOptimizerPass"),
-            AddIPConstantPropagationPass                  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddIPConstantPropagationPass"),
-            AddPruneEHPass                                = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddPruneEHPass"),
-            AddIPSCCPPass                                 = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddIPSCCPPass"),
-            AddInternalizePass                            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddInternalizePass"),
-            AddStripDeadPrototypesPass                    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddStripDeadPrototypesPass"),
-            AddStripSymbolsPass                           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddStripSymbolsPass"),
-            PassManagerBuilderCreate                      = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMPassManagerBuilderCreate"),
-            PassManagerBuilderDispose                     = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMPassManagerBuilderDispose"),
-            PassManagerBuilderSetOptLevel                 = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMPassManagerBuilderSetOptLevel"),
-            PassManagerBuilderSetSizeLevel                = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMPassManagerBuilderSetSizeLevel"),
-            PassManagerBuilderSetDisableUnitAtATime       = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMPassManagerBuilderSetDisableUnitAtATime"),
-            PassManagerBuilderSetDisableUnrollLoops       = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMPassManagerBuilderSetDisableUnrollLoops"),
-            PassManagerBuilderSetDisableSimplifyLibCalls  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMPassManagerBuilderSetDisableSimplifyLibCalls"),
-            PassManagerBuilderUseInlinerWithThreshold     = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMPassManagerBuilderUseInlinerWithThreshold"),
-            PassManagerBuilderPopulateFunctionPassManager = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMPassManagerBuilderPopulateFunctionPassManager"),
-            PassManagerBuilderPopulateModulePassManager   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMPassManagerBuilderPopulateModulePassManager"),
-            PassManagerBuilderPopulateLTOPassManager      = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMPassManagerBuilderPopulateLTOPassManager"),
-            AddAggressiveDCEPass                          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddAggressiveDCEPass"),
-            AddBitTrackingDCEPass                         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddBitTrackingDCEPass"),
-            AddAlignmentFromAssumptionsPass               = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddAlignmentFromAssumptionsPass"),
-            AddCFGSimplificationPass                      = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddCFGSimplificationPass"),
-            AddDeadStoreEliminationPass                   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddDeadStoreEliminationPass"),
-            AddScalarizerPass                             = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddScalarizerPass"),
-            AddMergedLoadStoreMotionPass                  = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddMergedLoadStoreMotionPass"),
-            AddGVNPass                                    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddGVNPass"),
-            AddNewGVNPass                                 = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddNewGVNPass"),
-            AddIndVarSimplifyPass                         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddIndVarSimplifyPass"),
-            AddJumpThreadingPass                          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddJumpThreadingPass"),
-            AddLICMPass                                   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddLICMPass"),
-            AddLoopDeletionPass                           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddLoopDeletionPass"),
-            AddLoopIdiomPass                              = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddLoopIdiomPass"),
-            AddLoopRotatePass                             = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddLoopRotatePass"),
-            AddLoopRerollPass                             = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddLoopRerollPass"),
-            AddLoopUnrollPass                             = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddLoopUnrollPass"),
+            AddDeadArgEliminationPass                     = ADDRESSES[3],
+            AddFunctionAttrsPass                          = ADDRESSES[4],
+            AddFunctionInliningPass                       = ADDRESSES[5],
+            AddAlwaysInlinerPass                          = ADDRESSES[6],
+            AddGlobalDCEPass                              = ADDRESSES[7],
+            AddGlobalOptimizerPass                        = ADDRESSES[8],
+            AddIPConstantPropagationPass                  = ADDRESSES[9],
+            AddPruneEHPass                                = ADDRESSES[10],
+            AddIPSCCPPass                                 = ADDRESSES[11],
+            AddInternalizePass                            = ADDRESSES[12],
+            AddStripDeadPrototypesPass                    = ADDRESSES[13],
+            AddStripSymbolsPass                           = ADDRESSES[14],
+            PassManagerBuilderCreate                      = ADDRESSES[15],
+            PassManagerBuilderDispose                     = ADDRESSES[16],
+            PassManagerBuilderSetOptLevel                 = ADDRESSES[17],
+            PassManagerBuilderSetSizeLevel                = ADDRESSES[18],
+            PassManagerBuilderSetDisableUnitAtATime       = ADDRESSES[19],
+            PassManagerBuilderSetDisableUnrollLoops       = ADDRESSES[20],
+            PassManagerBuilderSetDisableSimplifyLibCalls  = ADDRESSES[21],
+            PassManagerBuilderUseInlinerWithThreshold     = ADDRESSES[22],
+            PassManagerBuilderPopulateFunctionPassManager = ADDRESSES[23],
+            PassManagerBuilderPopulateModulePassManager   = ADDRESSES[24],
+            PassManagerBuilderPopulateLTOPassManager      = ADDRESSES[25],
+            AddAggressiveDCEPass                          = ADDRESSES[26],
+            AddBitTrackingDCEPass                         = ADDRESSES[27],
+            AddAlignmentFromAssumptionsPass               = ADDRESSES[28],
+            AddCFGSimplificationPass                      = ADDRESSES[29],
+            AddDeadStoreEliminationPass                   = ADDRESSES[30],
+            AddScalarizerPass                             = ADDRESSES[31],
+            AddMergedLoadStoreMotionPass                  = ADDRESSES[32],
+            AddGVNPass                                    = ADDRESSES[33],
+            AddNewGVNPass                                 = ADDRESSES[34],
+            AddIndVarSimplifyPass                         = ADDRESSES[35],
+            AddJumpThreadingPass                          = ADDRESSES[36],
+            AddLICMPass                                   = ADDRESSES[37],
+            AddLoopDeletionPass                           = ADDRESSES[38],
+            AddLoopIdiomPass                              = ADDRESSES[39],
+            AddLoopRotatePass                             = ADDRESSES[40],
+            AddLoopRerollPass                             = ADDRESSES[41],
+            AddLoopUnrollPass                             = ADDRESSES[42],
             AddLoopUnrollAndJamPass                       = LLVMCore.getLibrary().getFunctionAddress("LLVMAddLoopUnrollAndJamPass"),
-            AddLoopUnswitchPass                           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddLoopUnswitchPass"),
+            AddLoopUnswitchPass                           = ADDRESSES[43],
             AddLowerAtomicPass                            = LLVMCore.getLibrary().getFunctionAddress("LLVMAddLowerAtomicPass"),
-            AddMemCpyOptPass                              = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddMemCpyOptPass"),
-            AddPartiallyInlineLibCallsPass                = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddPartiallyInlineLibCallsPass"),
-            AddReassociatePass                            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddReassociatePass"),
-            AddSCCPPass                                   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddSCCPPass"),
-            AddScalarReplAggregatesPass                   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddScalarReplAggregatesPass"),
-            AddScalarReplAggregatesPassSSA                = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddScalarReplAggregatesPassSSA"),
-            AddScalarReplAggregatesPassWithThreshold      = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddScalarReplAggregatesPassWithThreshold"),
-            AddSimplifyLibCallsPass                       = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddSimplifyLibCallsPass"),
-            AddTailCallEliminationPass                    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddTailCallEliminationPass"),
-            AddConstantPropagationPass                    = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddConstantPropagationPass"),
-            AddDemoteMemoryToRegisterPass                 = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddDemoteMemoryToRegisterPass"),
-            AddVerifierPass                               = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddVerifierPass"),
-            AddCorrelatedValuePropagationPass             = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddCorrelatedValuePropagationPass"),
-            AddEarlyCSEPass                               = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddEarlyCSEPass"),
-            AddEarlyCSEMemSSAPass                         = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddEarlyCSEMemSSAPass"),
-            AddLowerExpectIntrinsicPass                   = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddLowerExpectIntrinsicPass"),
-            AddTypeBasedAliasAnalysisPass                 = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddTypeBasedAliasAnalysisPass"),
-            AddScopedNoAliasAAPass                        = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddScopedNoAliasAAPass"),
-            AddBasicAliasAnalysisPass                     = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddBasicAliasAnalysisPass"),
+            AddMemCpyOptPass                              = ADDRESSES[44],
+            AddPartiallyInlineLibCallsPass                = ADDRESSES[45],
+            AddReassociatePass                            = ADDRESSES[46],
+            AddSCCPPass                                   = ADDRESSES[47],
+            AddScalarReplAggregatesPass                   = ADDRESSES[48],
+            AddScalarReplAggregatesPassSSA                = ADDRESSES[49],
+            AddScalarReplAggregatesPassWithThreshold      = ADDRESSES[50],
+            AddSimplifyLibCallsPass                       = ADDRESSES[51],
+            AddTailCallEliminationPass                    = ADDRESSES[52],
+            AddConstantPropagationPass                    = ADDRESSES[53],
+            AddDemoteMemoryToRegisterPass                 = ADDRESSES[54],
+            AddVerifierPass                               = ADDRESSES[55],
+            AddCorrelatedValuePropagationPass             = ADDRESSES[56],
+            AddEarlyCSEPass                               = ADDRESSES[57],
+            AddEarlyCSEMemSSAPass                         = ADDRESSES[58],
+            AddLowerExpectIntrinsicPass                   = ADDRESSES[59],
+            AddTypeBasedAliasAnalysisPass                 = ADDRESSES[60],
+            AddScopedNoAliasAAPass                        = ADDRESSES[61],
+            AddBasicAliasAnalysisPass                     = ADDRESSES[62],
             AddUnifyFunctionExitNodesPass                 = LLVMCore.getLibrary().getFunctionAddress("LLVMAddUnifyFunctionExitNodesPass"),
-            AddLowerSwitchPass                            = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddLowerSwitchPass"),
-            AddPromoteMemoryToRegisterPass                = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddPromoteMemoryToRegisterPass"),
-            AddLoopVectorizePass                          = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddLoopVectorizePass"),
-            AddSLPVectorizePass                           = apiGetFunctionAddress(LLVMCore.getLibrary(), "LLVMAddSLPVectorizePass");
+            AddLowerSwitchPass                            = ADDRESSES[63],
+            AddPromoteMemoryToRegisterPass                = ADDRESSES[64],
+            AddLoopVectorizePass                          = ADDRESSES[65],
+            AddSLPVectorizePass                           = ADDRESSES[66];
 
     }
 
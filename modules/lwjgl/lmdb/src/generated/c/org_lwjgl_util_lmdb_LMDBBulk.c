@@ -0,0 +1,162 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ */
+#include "common_tools.h"
+DISABLE_WARNINGS()
+#ifdef LWJGL_x86
+    #define MDB_VL32 1
+#endif
+#define MDB_DEVEL 2
+#include "lmdb.h"
+ENABLE_WARNINGS()
+#include <errno.h>
+
+#define MDB_BULK_HEADER 8
+#define MDB_BULK_ALIGN(size) (((size_t)(size) + 3) & ~(size_t)3)
+
+static int mdb_bulk_put(MDB_cursor *cursor, void const *batch, size_t batch_size, unsigned int flags, size_t element_size, unsigned int *count, size_t *consumed) {
+    uint8_t const *record = (uint8_t const *)batch;
+    uint8_t const *end    = record + batch_size;
+
+    unsigned int limit = *count;
+    unsigned int n     = 0;
+
+    int rc = MDB_SUCCESS;
+
+    MDB_val key, data[2];
+    while (n < limit && (size_t)(end - record) >= MDB_BULK_HEADER) {
+        uint32_t key_size  = ((uint32_t const *)record)[0];
+        uint32_t data_size = ((uint32_t const *)record)[1];
+
+        uint8_t const *value = record + MDB_BULK_HEADER + MDB_BULK_ALIGN(key_size);
+        if (value > end || (size_t)(end - value) < data_size) {
+            rc = EINVAL;
+            break;
+        }
+
+        key.mv_size = key_size;
+        key.mv_data = (void *)(record + MDB_BULK_HEADER);
+
+        if (element_size == 0) {
+            data[0].mv_size = data_size;
+            data[0].mv_data = (void *)value;
+            rc = mdb_cursor_put(cursor, &key, data, flags);
+        } else if (data_size % element_size != 0) {
+            rc = EINVAL;
+        } else if (data_size != 0) {
+            data[0].mv_size = element_size;
+            data[0].mv_data = (void *)value;
+            data[1].mv_size = data_size / element_size;
+            rc = mdb_cursor_put(cursor, &key, data, flags | MDB_MULTIPLE);
+        }
+        if (rc != MDB_SUCCESS) {
+            break;
+        }
+
+        record = (size_t)(end - value) < MDB_BULK_ALIGN(data_size) ? end : value + MDB_BULK_ALIGN(data_size);
+        n++;
+    }
+    if (rc == MDB_SUCCESS && n < limit && record != end) {
+        rc = EINVAL;
+    }
+
+    *count    = n;
+    *consumed = (size_t)(record - (uint8_t const *)batch);
+
+    return rc;
+}
+
+static int mdb_bulk_get(MDB_cursor *cursor, MDB_cursor_op op, MDB_cursor_op next_op, MDB_val *results, unsigned int capacity, unsigned int *count) {
+    unsigned int limit = capacity / 2;
+    unsigned int n     = 0;
+
+    int rc = MDB_SUCCESS;
+
+    while (n < limit) {
+        MDB_val *key  = results + n * 2;
+        MDB_val *data = key + 1;
+
+        if (next_op != MDB_NEXT_MULTIPLE) {
+            rc = mdb_cursor_get(cursor, key, data, op);
+            op = next_op;
+        } else if (op == MDB_NEXT_MULTIPLE) {
+            // The next page of duplicates of the current key
+            rc = mdb_cursor_get(cursor, key, data, MDB_NEXT_MULTIPLE);
+            if (rc == MDB_NOTFOUND) {
+                op = MDB_NEXT_NODUP;
+                continue;
+            }
+        } else {
+            // Position at a key, then return the first page of its duplicates
+            rc = mdb_cursor_get(cursor, key, data, op);
+            if (rc == MDB_SUCCESS) {
+                rc = mdb_cursor_get(cursor, key, data, MDB_GET_MULTIPLE);
+            }
+            op = MDB_NEXT_MULTIPLE;
+        }
+        if (rc != MDB_SUCCESS) {
+            break;
+        }
+
+        n++;
+    }
+
+    *count = n;
+
+    return rc;
+}
+
+EXTERN_C_ENTER
+
+JNIEXPORT_CRITICAL jint JNICALL CRITICAL(org_lwjgl_util_lmdb_LMDBBulk_nmdb_1bulk_1put__JJJIJJJ)(jlong cursorAddress, jlong batchAddress, jlong batch_size, jint flags, jlong element_size, jlong countAddress, jlong consumedAddress) {
+    MDB_cursor *cursor = (MDB_cursor *)(intptr_t)cursorAddress;
+    void const *batch = (void const *)(intptr_t)batchAddress;
+    unsigned int *count = (unsigned int *)(intptr_t)countAddress;
+    size_t *consumed = (size_t *)(intptr_t)consumedAddress;
+    return (jint)mdb_bulk_put(cursor, batch, (size_t)batch_size, (unsigned int)flags, (size_t)element_size, count, consumed);
+}
+JNIEXPORT jint JNICALL Java_org_lwjgl_util_lmdb_LMDBBulk_nmdb_1bulk_1put__JJJIJJJ(JNIEnv *__env, jclass clazz, jlong cursorAddress, jlong batchAddress, jlong batch_size, jint flags, jlong element_size, jlong countAddress, jlong consumedAddress) {
+    UNUSED_PARAMS(__env, clazz)
+    return CRITICAL(org_lwjgl_util_lmdb_LMDBBulk_nmdb_1bulk_1put__JJJIJJJ)(cursorAddress, batchAddress, batch_size, flags, element_size, countAddress, consumedAddress);
+}
+
+JNIEXPORT_CRITICAL jint JNICALL CRITICAL(org_lwjgl_util_lmdb_LMDBBulk_nmdb_1bulk_1get__JIIJIJ)(jlong cursorAddress, jint op, jint next_op, jlong resultsAddress, jint capacity, jlong countAddress) {
+    MDB_cursor *cursor = (MDB_cursor *)(intptr_t)cursorAddress;
+    MDB_val *results = (MDB_val *)(intptr_t)resultsAddress;
+    unsigned int *count = (unsigned int *)(intptr_t)countAddress;
+    return (jint)mdb_bulk_get(cursor, (MDB_cursor_op)op, (MDB_cursor_op)next_op, results, (unsigned int)capacity, count);
+}
+JNIEXPORT jint JNICALL Java_org_lwjgl_util_lmdb_LMDBBulk_nmdb_1bulk_1get__JIIJIJ(JNIEnv *__env, jclass clazz, jlong cursorAddress, jint op, jint next_op, jlong resultsAddress, jint capacity, jlong countAddress) {
+    UNUSED_PARAMS(__env, clazz)
+    return CRITICAL(org_lwjgl_util_lmdb_LMDBBulk_nmdb_1bulk_1get__JIIJIJ)(cursorAddress, op, next_op, resultsAddress, capacity, countAddress);
+}
+
+JNIEXPORT_CRITICAL jint JNICALL CRITICAL(org_lwjgl_util_lmdb_LMDBBulk_nmdb_1bulk_1put__JJJIJ_3IJ)(jlong cursorAddress, jlong batchAddress, jlong batch_size, jint flags, jlong element_size, jint count__length, jint* count, jlong consumedAddress) {
+    UNUSED_PARAM(count__length)
+    return CRITICAL(org_lwjgl_util_lmdb_LMDBBulk_nmdb_1bulk_1put__JJJIJJJ)(cursorAddress, batchAddress, batch_size, flags, element_size, (intptr_t)count, consumedAddress);
+}
+JNIEXPORT jint JNICALL Java_org_lwjgl_util_lmdb_LMDBBulk_nmdb_1bulk_1put__JJJIJ_3IJ(JNIEnv *__env, jclass clazz, jlong cursorAddress, jlong batchAddress, jlong batch_size, jint flags, jlong element_size, jintArray countAddress, jlong consumedAddress) {
+    jint __result;
+    jint *count = (*__env)->GetPrimitiveArrayCritical(__env, countAddress, 0);
+    UNUSED_PARAMS(__env, clazz)
+    __result = CRITICAL(org_lwjgl_util_lmdb_LMDBBulk_nmdb_1bulk_1put__JJJIJJJ)(cursorAddress, batchAddress, batch_size, flags, element_size, (intptr_t)count, consumedAddress);
+    (*__env)->ReleasePrimitiveArrayCritical(__env, countAddress, count, 0);
+    return __result;
+}
+
+JNIEXPORT_CRITICAL jint JNICALL CRITICAL(org_lwjgl_util_lmdb_LMDBBulk_nmdb_1bulk_1get__JIIJI_3I)(jlong cursorAddress, jint op, jint next_op, jlong resultsAddress, jint capacity, jint count__length, jint* count) {
+    UNUSED_PARAM(count__length)
+    return CRITICAL(org_lwjgl_util_lmdb_LMDBBulk_nmdb_1bulk_1get__JIIJIJ)(cursorAddress, op, next_op, resultsAddress, capacity, (intptr_t)count);
+}
+JNIEXPORT jint JNICALL Java_org_lwjgl_util_lmdb_LMDBBulk_nmdb_1bulk_1get__JIIJI_3I(JNIEnv *__env, jclass clazz, jlong cursorAddress, jint op, jint next_op, jlong resultsAddress, jint capacity, jintArray countAddress) {
+    jint __result;
+    jint *count = (*__env)->GetPrimitiveArrayCritical(__env, countAddress, 0);
+    UNUSED_PARAMS(__env, clazz)
+    __result = CRITICAL(org_lwjgl_util_lmdb_LMDBBulk_nmdb_1bulk_1get__JIIJIJ)(cursorAddress, op, next_op, resultsAddress, capacity, (intptr_t)count);
+    (*__env)->ReleasePrimitiveArrayCritical(__env, countAddress, count, 0);
+    return __result;
+}
+
+EXTERN_C_EXIT
@@ -1423,6 +1423,74 @@ public class LMDB {
         }
     }
 
+    /**
+     * Opens a database in the environment.
+     * 
+     * <p>A database handle denotes the name and parameters of a database, independently of whether such a database exists. The database handle may be discarded
+     * by calling {@link #mdb_dbi_close dbi_close}. The old database handle is returned if the database was already open. The handle may only be closed once.</p>
+     * 
+     * <p>The database handle will be private to the current transaction until the transaction is successfully committed. If the transaction is aborted the
+     * handle will be closed automatically. After a successful commit the handle will reside in the shared environment, and may be used by other transactions.</p>
+     * 
+     * <p>This function must not be called from multiple concurrent transactions in the same process. A transaction that uses this function must finish (either
+     * commit or abort) before any other transaction in the process may use this function.</p>
+     * 
+     * <p>To use named databases (with {@code name} != {@code NULL}), {@link #mdb_env_set_maxdbs env_set_maxdbs} must be called before opening the environment. Database names are keys in the
+     * unnamed database, and may be read but not written.</p>
+     *
+     * @param txn   a transaction handle returned by {@link #mdb_txn_begin txn_begin}.
+     * @param name  the name of the database to open. If only a single database is needed in the environment, this value may be {@code NULL}.
+     * @param flags special options for this database. This parameter must be set to 0 or by bitwise OR'ing together one or more of the values described here.
+     *              
+     *              <ul>
+     *              <li>{@link #MDB_REVERSEKEY REVERSEKEY}
+     *              
+     *              <p>Keys are strings to be compared in reverse order, from the end of the strings to the beginning. By default, Keys are treated as strings and
+     *              compared from beginning to end.</p></li>
+     *              <li>{@link #MDB_DUPSORT DUPSORT}
+     *              
+     *              <p>Duplicate keys may be used in the database. (Or, from another perspective, keys may have multiple data items, stored in sorted order.) By
+     *              default keys must be unique and may have only a single data item.</p></li>
+     *              <li>{@link #MDB_INTEGERKEY INTEGERKEY}
+     *              
+     *              <p>Keys are binary integers in native byte order, either {@code unsigned int} or {@code mdb_size_t}, and will be sorted as such. The keys must all be
+     *              of the same size.</p></li>
+     *              <li>{@link #MDB_DUPFIXED DUPFIXED}
+     *              
+     *              <p>This flag may only be used in combination with {@link #MDB_DUPSORT DUPSORT}. This option tells the library that the data items for this database are all the same
+     *              size, which allows further optimizations in storage and retrieval. When all data items are the same size, the {@link #MDB_GET_MULTIPLE GET_MULTIPLE}, {@link #MDB_NEXT_MULTIPLE NEXT_MULTIPLE} and
+     *              {@link #MDB_PREV_MULTIPLE PREV_MULTIPLE} cursor operations may be used to retrieve multiple items at once.</p></li>
+     *              <li>{@link #MDB_INTEGERDUP INTEGERDUP}
+     *              
+     *              <p>This option specifies that duplicate data items are binary integers, similar to {@link #MDB_INTEGERKEY INTEGERKEY} keys.</p></li>
+     *              <li>{@link #MDB_REVERSEDUP REVERSEDUP}
+     *              
+     *              <p>This option specifies that duplicate data items should be compared as strings in reverse order.</p></li>
+     *              <li>{@link #MDB_CREATE CREATE}
+     *              
+     *              <p>Create the named database if it doesn't exist. This option is not allowed in a read-only transaction or a read-only environment.</p></li>
+     *              </ul>
+     * @param dbi   address where the new {@code MDB_dbi} handle will be stored
+     *
+     * @return a non-zero error value on failure and 0 on success. Some possible errors are:
+     *         
+     *         <ul>
+     *         <li>{@link #MDB_NOTFOUND NOTFOUND} - the specified database doesn't exist in the environment and {@link #MDB_CREATE CREATE} was not specified.</li>
+     *         <li>{@link #MDB_DBS_FULL DBS_FULL} - too many databases have been opened. See {@link #mdb_env_set_maxdbs env_set_maxdbs}.</li>
+     *         </ul>
+     */
+    public static int mdb_dbi_open(@NativeType("MDB_txn *") long txn, @Nullable @NativeType("char const *") String name, @NativeType("unsigned int") int flags, @NativeType("MDB_dbi *") IntBuffer dbi) {
+        if (!NativeStringCache.ENABLED || name == null) {
+            return mdb_dbi_open(txn, (CharSequence)name, flags, dbi);
+        }
+        NativeStringCache.Entry nameEncoded = NativeStringCache.acquireUTF8(name);
+        try {
+            return mdb_dbi_open(txn, nameEncoded.buffer(), flags, dbi);
+        } finally {
+            nameEncoded.release();
+        }
+    }
+
     // --- [ mdb_stat ] ---
 
     /** Unsafe version of: {@link #mdb_stat stat} */
@@ -2097,6 +2165,19 @@ public class LMDB {
         }
     }
 
+    /** Array version of: {@link #mdb_dbi_open dbi_open} */
+    public static int mdb_dbi_open(@NativeType("MDB_txn *") long txn, @Nullable @NativeType("char const *") String name, @NativeType("unsigned int") int flags, @NativeType("MDB_dbi *") int[] dbi) {
+        if (!NativeStringCache.ENABLED || name == null) {
+            return mdb_dbi_open(txn, (CharSequence)name, flags, dbi);
+        }
+        NativeStringCache.Entry nameEncoded = NativeStringCache.acquireUTF8(name);
+        try {
+            return mdb_dbi_open(txn, nameEncoded.buffer(), flags, dbi);
+        } finally {
+            nameEncoded.release();
+        }
+    }
+
     /** Array version of: {@link #nmdb_dbi_flags} */
     public static native int nmdb_dbi_flags(long txn, int dbi, int[] flags);
 
@@ -0,0 +1,147 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ */
+package org.lwjgl.util.lmdb;
+
+import java.nio.*;
+
+import org.lwjgl.*;
+
+import org.lwjgl.system.*;
+
+import static org.lwjgl.system.Checks.*;
+import static org.lwjgl.system.MemoryUtil.*;
+
+import static org.lwjgl.util.lmdb.LMDB.*;
+
+/**
+ * Bulk operations for <a target="_blank" href="https://symas.com/lmdb/">LMDB</a>, implemented in native code.
+ * 
+ * <p>These functions are not part of the LMDB API. They exist in LWJGL to process many records with a single JNI call, instead of one call per record.</p>
+ * 
+ * <h3>Batch format</h3>
+ * 
+ * <p>A batch is a sequence of records, packed in a contiguous memory block. Each record consists of:</p>
+ * 
+ * <ul>
+ * <li>the key size, as a 32-bit unsigned integer in native byte order</li>
+ * <li>the data size, as a 32-bit unsigned integer in native byte order</li>
+ * <li>the key bytes, padded with unspecified bytes to a multiple of 4</li>
+ * <li>the data bytes, padded with unspecified bytes to a multiple of 4</li>
+ * </ul>
+ * 
+ * <p>The batch must be aligned to 4 bytes. The padding of the last record may be omitted.</p>
+ * 
+ * <h3>Result format</h3>
+ * 
+ * <p>{@link #mdb_bulk_get bulk_get} returns records as pairs of {@link MDBVal} structs, the key followed by the data. The structs point directly into the memory map and are valid
+ * until the next update operation or the end of the transaction.</p>
+ */
+public class LMDBBulk {
+
+    static { LibLMDB.initialize(); }
+
+    protected LMDBBulk() {
+        throw new UnsupportedOperationException();
+    }
+
+    // --- [ mdb_bulk_put ] ---
+
+    /**
+     * Unsafe version of: {@link #mdb_bulk_put bulk_put}
+     *
+     * @param batch_size the batch size, in bytes
+     */
+    public static native int nmdb_bulk_put(long cursor, long batch, long batch_size, int flags, long element_size, long count, long consumed);
+
+    /**
+     * Stores the records of a batch with {@link LMDB#mdb_cursor_put cursor_put}.
+     * 
+     * <p>Records are stored in order, until {@code count} records have been stored, the end of the batch is reached or {@link LMDB#mdb_cursor_put cursor_put} fails. When the function
+     * returns, {@code count} and {@code consumed} identify the first record that was not stored.</p>
+     *
+     * @param cursor       a cursor handle returned by {@link LMDB#mdb_cursor_open cursor_open}, in a read-write transaction
+     * @param batch        the batch of records
+     * @param flags        the {@link LMDB#mdb_cursor_put cursor_put} flags. One of:<br>0, {@link LMDB#MDB_NOOVERWRITE NOOVERWRITE}, {@link LMDB#MDB_NODUPDATA NODUPDATA}, {@link LMDB#MDB_APPEND APPEND}, {@link LMDB#MDB_APPENDDUP APPENDDUP}. {@link LMDB#MDB_APPEND APPEND} and {@link LMDB#MDB_APPENDDUP APPENDDUP} allow fast bulk loading of sorted
+     *                     records, without key comparisons.
+     * @param element_size if not zero, the data of each record is an array of data elements of this size, which are stored with a single {@link LMDB#mdb_cursor_put cursor_put} call with the
+     *                     {@link LMDB#MDB_MULTIPLE MULTIPLE} flag. The database must have been opened with {@link LMDB#MDB_DUPFIXED DUPFIXED}.
+     * @param count        on input, the maximum number of records to store. On output, the number of records stored.
+     * @param consumed     returns the number of batch bytes consumed by the stored records
+     *
+     * @return a non-zero error value on failure and 0 on success. If the batch is malformed, {@code EINVAL} is returned. Otherwise, the error of {@link LMDB#mdb_cursor_put cursor_put} is
+     *         returned.
+     */
+    public static int mdb_bulk_put(@NativeType("MDB_cursor *") long cursor, @NativeType("void const *") ByteBuffer batch, @NativeType("unsigned int") int flags, @NativeType("size_t") long element_size, @NativeType("unsigned int *") IntBuffer count, @NativeType("size_t *") PointerBuffer consumed) {
+        if (CHECKS) {
+            check(cursor);
+            check(count, 1);
+            check(consumed, 1);
+        }
+        return nmdb_bulk_put(cursor, memAddress(batch), batch.remaining(), flags, element_size, memAddress(count), memAddress(consumed));
+    }
+
+    // --- [ mdb_bulk_get ] ---
+
+    /**
+     * Unsafe version of: {@link #mdb_bulk_get bulk_get}
+     *
+     * @param capacity the number of {@link MDBVal} structs in {@code results}, which is twice the maximum number of records
+     */
+    public static native int nmdb_bulk_get(long cursor, int op, int next_op, long results, int capacity, long count);
+
+    /**
+     * Retrieves multiple records by cursor, with a single JNI call.
+     * 
+     * <p>The first record is retrieved with {@code op} and the following records with {@code next_op}, until {@code results} is full or {@link LMDB#mdb_cursor_get cursor_get} fails.
+     * The first {@link MDBVal} of {@code results} is the input key of {@code op}, for operations like {@link LMDB#MDB_SET_RANGE SET_RANGE}.</p>
+     * 
+     * <p>If {@code next_op} is {@link LMDB#MDB_NEXT_MULTIPLE NEXT_MULTIPLE}, the database must have been opened with {@link LMDB#MDB_DUPFIXED DUPFIXED} and each record is a key with a page of its data items,
+     * as returned by {@link LMDB#MDB_GET_MULTIPLE GET_MULTIPLE}. The scan moves to the next key, with {@link LMDB#MDB_NEXT_NODUP NEXT_NODUP}, when all data items of the current key have been returned. If
+     * {@code op} is {@link LMDB#MDB_NEXT_MULTIPLE NEXT_MULTIPLE} too, the scan continues with the next page of the current key, which allows the scan to continue in another call.</p>
+     *
+     * @param cursor  a cursor handle returned by {@link LMDB#mdb_cursor_open cursor_open}
+     * @param op      the cursor operation of the first record. One of:<br>{@link LMDB#MDB_FIRST FIRST}, {@link LMDB#MDB_LAST LAST}, {@link LMDB#MDB_NEXT NEXT}, {@link LMDB#MDB_PREV PREV}, {@link LMDB#MDB_SET_RANGE SET_RANGE}, {@link LMDB#MDB_SET_KEY SET_KEY}, {@link LMDB#MDB_GET_CURRENT GET_CURRENT}, {@link LMDB#MDB_NEXT_NODUP NEXT_NODUP}, {@link LMDB#MDB_NEXT_MULTIPLE NEXT_MULTIPLE}
+     * @param next_op the cursor operation of the following records. One of:<br>{@link LMDB#MDB_NEXT NEXT}, {@link LMDB#MDB_PREV PREV}, {@link LMDB#MDB_NEXT_DUP NEXT_DUP}, {@link LMDB#MDB_NEXT_NODUP NEXT_NODUP}, {@link LMDB#MDB_PREV_NODUP PREV_NODUP}, {@link LMDB#MDB_NEXT_MULTIPLE NEXT_MULTIPLE}
+     * @param results an array of {@link MDBVal} pairs that receives the records
+     * @param count   returns the number of records retrieved
+     *
+     * @return 0 on success, {@link LMDB#MDB_NOTFOUND NOTFOUND} if the scan reached the end of the database, or another non-zero error value. The records in {@code results} are valid, even
+     *         if an error is returned.
+     */
+    public static int mdb_bulk_get(@NativeType("MDB_cursor *") long cursor, @NativeType("MDB_cursor_op") int op, @NativeType("MDB_cursor_op") int next_op, @NativeType("MDB_val *") MDBVal.Buffer results, @NativeType("unsigned int *") IntBuffer count) {
+        if (CHECKS) {
+            check(cursor);
+            check(count, 1);
+        }
+        return nmdb_bulk_get(cursor, op, next_op, results.address(), results.remaining(), memAddress(count));
+    }
+
+    /** Array version of: {@link #nmdb_bulk_put} */
+    public static native int nmdb_bulk_put(long cursor, long batch, long batch_size, int flags, long element_size, int[] count, long consumed);
+
+    /** Array version of: {@link #mdb_bulk_put bulk_put} */
+    public static int mdb_bulk_put(@NativeType("MDB_cursor *") long cursor, @NativeType("void const *") ByteBuffer batch, @NativeType("unsigned int") int flags, @NativeType("size_t") long element_size, @NativeType("unsigned int *") int[] count, @NativeType("size_t *") PointerBuffer consumed) {
+        if (CHECKS) {
+            check(cursor);
+            check(count, 1);
+            check(consumed, 1);
+        }
+        return nmdb_bulk_put(cursor, memAddress(batch), batch.remaining(), flags, element_size, count, memAddress(consumed));
+    }
+
+    /** Array version of: {@link #nmdb_bulk_get} */
+    public static native int nmdb_bulk_get(long cursor, int op, int next_op, long results, int capacity, int[] count);
+
+    /** Array version of: {@link #mdb_bulk_get bulk_get} */
+    public static int mdb_bulk_get(@NativeType("MDB_cursor *") long cursor, @NativeType("MDB_cursor_op") int op, @NativeType("MDB_cursor_op") int next_op, @NativeType("MDB_val *") MDBVal.Buffer results, @NativeType("unsigned int *") int[] count) {
+        if (CHECKS) {
+            check(cursor);
+            check(count, 1);
+        }
+        return nmdb_bulk_get(cursor, op, next_op, results.address(), results.remaining(), count);
+    }
+
+}
\ No newline at end of file
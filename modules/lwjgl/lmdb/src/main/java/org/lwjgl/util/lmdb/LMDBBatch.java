@@ -0,0 +1,171 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lmdb;
+
+import org.lwjgl.system.*;
+
+import java.nio.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * A growable, off-heap batch of key/value records, in the packed format of {@link LMDBBulk}.
+ *
+ * <p>Records are appended with {@link #put put}, or with {@link #reserve reserve}, which returns the value storage inside the batch so that the value can be
+ * written in place, without an intermediate buffer.</p>
+ *
+ * <p>The batch grows as needed and {@link #clear} keeps the allocated memory, so a single batch can be filled and loaded repeatedly without further
+ * allocations.</p>
+ */
+public final class LMDBBatch implements NativeResource {
+
+    private static final int HEADER = 8;
+
+    private long address;
+    private int  capacity;
+
+    private int size;
+    private int records;
+
+    /**
+     * Creates a new {@code LMDBBatch} instance.
+     *
+     * @param capacity the initial batch capacity, in bytes. The batch grows as necessary.
+     */
+    public LMDBBatch(int capacity) {
+        this.capacity = Math.max(align(capacity), HEADER);
+        this.address = nmemAllocChecked(this.capacity);
+    }
+
+    private static int align(int size) {
+        return (size + 3) & ~3;
+    }
+
+    /** Returns the batch address. */
+    public long address() {
+        return address;
+    }
+
+    /** Returns the size of the batch, in bytes. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns the number of records in the batch. */
+    public int records() {
+        return records;
+    }
+
+    /** Returns a {@link ByteBuffer} view of the batch. */
+    public ByteBuffer buffer() {
+        return memByteBuffer(address, size);
+    }
+
+    /** Removes all records from the batch. */
+    public LMDBBatch clear() {
+        size = 0;
+        records = 0;
+        return this;
+    }
+
+    /**
+     * Appends a record to the batch.
+     *
+     * @param key   the record key
+     * @param value the record value. If the batch is loaded into a {@link LMDB#MDB_DUPFIXED DUPFIXED} database with an element size, an array of data
+     *              elements of that size.
+     */
+    public LMDBBatch put(ByteBuffer key, ByteBuffer value) {
+        int valueSize = value.remaining();
+
+        long data = append(key, valueSize);
+        memCopy(memAddress(value), data, valueSize);
+
+        return this;
+    }
+
+    /**
+     * Appends a record with a {@code long} key to the batch.
+     *
+     * <p>The key is stored in native byte order, as expected by databases opened with {@link LMDB#MDB_INTEGERKEY INTEGERKEY}.</p>
+     *
+     * @param key   the record key
+     * @param value the record value
+     */
+    public LMDBBatch put(long key, ByteBuffer value) {
+        int valueSize = value.remaining();
+
+        long data = append(8, valueSize);
+        memPutLong(data - 8, key);
+        memCopy(memAddress(value), data, valueSize);
+
+        return this;
+    }
+
+    /**
+     * Appends a record to the batch and returns a view of its value, which must be filled by the caller.
+     *
+     * <p>The returned buffer is valid until the next call that modifies the batch.</p>
+     *
+     * @param key       the record key
+     * @param valueSize the value size, in bytes
+     */
+    public ByteBuffer reserve(ByteBuffer key, int valueSize) {
+        return memByteBuffer(append(key, valueSize), valueSize);
+    }
+
+    private long append(ByteBuffer key, int valueSize) {
+        int keySize = key.remaining();
+
+        long data = append(keySize, valueSize);
+        memCopy(memAddress(key), data - align(keySize), keySize);
+
+        return data;
+    }
+
+    /** Appends a record header and returns the address of the value. */
+    private long append(int keySize, int valueSize) {
+        int recordSize = HEADER + align(keySize) + align(valueSize);
+        if (capacity - size < recordSize) {
+            grow(recordSize);
+        }
+
+        long record = address + size;
+        memPutInt(record, keySize);
+        memPutInt(record + 4, valueSize);
+
+        size += recordSize;
+        records++;
+
+        return record + HEADER + align(keySize);
+    }
+
+    private void grow(int recordSize) {
+        int required = size + recordSize;
+        if (required < 0) {
+            throw new OutOfMemoryError("The batch size cannot exceed 2GB.");
+        }
+
+        int capacity = this.capacity;
+        while (capacity < required) {
+            capacity = (int)Math.min(capacity * 3L / 2L, Integer.MAX_VALUE & ~3);
+        }
+
+        long address = nmemRealloc(this.address, capacity);
+        if (address == NULL) {
+            throw new OutOfMemoryError();
+        }
+
+        this.address = address;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void free() {
+        nmemFree(address);
+        address = NULL;
+    }
+
+}
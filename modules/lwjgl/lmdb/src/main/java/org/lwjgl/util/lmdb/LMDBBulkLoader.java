@@ -0,0 +1,222 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lmdb;
+
+import org.lwjgl.*;
+import org.lwjgl.system.*;
+
+import java.nio.*;
+
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lmdb.LMDB.*;
+import static org.lwjgl.util.lmdb.LMDBBulk.*;
+import static org.lwjgl.util.lmdb.LMDBChecks.*;
+
+/**
+ * Loads batches of records into an LMDB database, with a single JNI call per batch and transaction.
+ *
+ * <p>The loader keeps a read-write transaction open across {@link #load load} calls and commits it every {@link #transactionSize transactionSize}
+ * records, so that the transaction size is independent of the batch size. The last transaction is committed by {@link #close}. The records are stored with
+ * {@link LMDBBulk#mdb_bulk_put bulk_put}.</p>
+ *
+ * <p>By default, records are stored with {@link LMDB#MDB_APPEND APPEND}, which requires that records are loaded in key order. The flags must be changed
+ * to load unsorted records, or {@link LMDB#MDB_APPENDDUP APPENDDUP} must be used for databases opened with {@link LMDB#MDB_DUPSORT DUPSORT}.</p>
+ *
+ * <p>A loader must only be used by one thread. LMDB allows a single read-write transaction per environment, other writers block until the loader is
+ * closed or {@link #abort aborted}.</p>
+ *
+ * <p>{@link #getRecords} and {@link #getTransactions} report the progress of the load. If a transaction is aborted, explicitly or because a batch could not
+ * be stored, its records are excluded from {@link #getRecords}, while the records of previously committed transactions remain in the database.</p>
+ */
+public final class LMDBBulkLoader implements AutoCloseable {
+
+    private final long env;
+    private final int  dbi;
+
+    private int flags           = MDB_APPEND;
+    private int elementSize;
+    private int transactionSize = 1_000_000;
+
+    private long txn;
+    private long cursor;
+
+    /** The number of records stored in the current transaction. */
+    private int pending;
+
+    private long records;
+    private long transactions;
+
+    /**
+     * Creates a new {@code LMDBBulkLoader} instance.
+     *
+     * @param env the LMDB environment
+     * @param dbi a database handle, opened with {@link LMDB#mdb_dbi_open dbi_open} in a transaction that has been committed
+     */
+    public LMDBBulkLoader(@NativeType("MDB_env *") long env, @NativeType("MDB_dbi") int dbi) {
+        if (Checks.CHECKS) {
+            Checks.check(env);
+        }
+        this.env = env;
+        this.dbi = dbi;
+    }
+
+    /**
+     * Sets the {@link LMDB#mdb_cursor_put cursor_put} flags used to store the records. The default is {@link LMDB#MDB_APPEND APPEND}.
+     *
+     * @param flags the flags. One of:<br><table><tr><td>0</td><td>{@link LMDB#MDB_NOOVERWRITE NOOVERWRITE}</td><td>{@link LMDB#MDB_NODUPDATA NODUPDATA}</td><td>{@link LMDB#MDB_APPEND APPEND}</td><td>{@link LMDB#MDB_APPENDDUP APPENDDUP}</td></tr></table>
+     */
+    public LMDBBulkLoader flags(int flags) {
+        this.flags = flags;
+        return this;
+    }
+
+    /**
+     * Enables storing the value of each record as an array of data elements, with {@link LMDB#MDB_MULTIPLE MULTIPLE}.
+     *
+     * @param elementSize the data element size, or 0 to store each value as a single data item. A non-zero value requires a database opened with
+     *                    {@link LMDB#MDB_DUPFIXED DUPFIXED}.
+     */
+    public LMDBBulkLoader elementSize(int elementSize) {
+        if (elementSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.elementSize = elementSize;
+        return this;
+    }
+
+    /**
+     * Sets the number of records that are stored in each transaction. The default is 1 million records.
+     *
+     * <p>Larger transactions are faster, but require more dirty pages in memory and delay the visibility of the loaded records to readers.</p>
+     *
+     * @param transactionSize the number of records per transaction
+     */
+    public LMDBBulkLoader transactionSize(int transactionSize) {
+        if (transactionSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.transactionSize = transactionSize;
+        return this;
+    }
+
+    /** Returns the number of records stored by this loader, including records of the current transaction. */
+    public long getRecords() {
+        return records;
+    }
+
+    /** Returns the number of transactions committed by this loader. */
+    public long getTransactions() {
+        return transactions;
+    }
+
+    /**
+     * Stores the records of the specified batch.
+     *
+     * <p>The current transaction is committed as soon as it contains {@link #transactionSize transactionSize} records. If the batch cannot be stored, the
+     * current transaction is aborted and an {@link IllegalStateException} is thrown. The records stored by previous transactions remain in the database.</p>
+     *
+     * @param batch the batch to load
+     */
+    public void load(LMDBBatch batch) {
+        load(batch.address(), batch.size());
+    }
+
+    /**
+     * Stores the records of the specified batch, packed in the format described in {@link LMDBBulk}.
+     *
+     * @param batch the batch to load
+     */
+    public void load(ByteBuffer batch) {
+        load(memAddress(batch), batch.remaining());
+    }
+
+    private void load(long batch, long size) {
+        try (MemoryStack stack = stackPush()) {
+            IntBuffer     count    = stack.mallocInt(1);
+            PointerBuffer consumed = stack.mallocPointer(1);
+
+            long index = 0L;
+            while (size != 0L) {
+                if (txn == NULL) {
+                    begin(stack);
+                }
+
+                count.put(0, transactionSize - pending);
+                int rc = nmdb_bulk_put(cursor, batch, size, flags, elementSize, memAddress(count), memAddress(consumed));
+
+                int stored = count.get(0);
+                pending += stored;
+                records += stored;
+                index += stored;
+
+                if (rc != MDB_SUCCESS) {
+                    abort();
+                    throw new IllegalStateException("Failed to store record " + index + " of the batch: " + mdb_strerror(rc));
+                }
+
+                batch += consumed.get(0);
+                size -= consumed.get(0);
+
+                if (pending == transactionSize) {
+                    commit();
+                }
+            }
+        }
+    }
+
+    private void begin(MemoryStack stack) {
+        PointerBuffer pp = stack.mallocPointer(1);
+
+        check(mdb_txn_begin(env, NULL, 0, pp));
+        txn = pp.get(0);
+
+        int rc = mdb_cursor_open(txn, dbi, pp);
+        if (rc != MDB_SUCCESS) {
+            abort();
+            check(rc);
+        }
+        cursor = pp.get(0);
+    }
+
+    /** Commits the current transaction, if any. */
+    public void commit() {
+        if (txn == NULL) {
+            return;
+        }
+
+        long txn = this.txn;
+
+        this.txn = NULL;
+        this.cursor = NULL;
+        this.pending = 0;
+
+        check(mdb_txn_commit(txn));
+        transactions++;
+    }
+
+    /** Aborts the current transaction, if any. The records stored in that transaction are discarded. */
+    public void abort() {
+        if (txn == NULL) {
+            return;
+        }
+
+        long txn = this.txn;
+
+        this.txn = NULL;
+        this.cursor = NULL;
+        this.records -= pending;
+        this.pending = 0;
+
+        mdb_txn_abort(txn);
+    }
+
+    /** Commits the current transaction, if any. */
+    @Override
+    public void close() {
+        commit();
+    }
+
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lmdb;
+
+import static org.lwjgl.util.lmdb.LMDB.*;
+
+/** Return code checks shared by {@link LMDBStore}, {@link LMDBBulkLoader} and {@link LMDBReaderPool}. */
+final class LMDBChecks {
+
+    private LMDBChecks() {
+    }
+
+    /** Throws an {@link IllegalStateException} with the {@link LMDB#mdb_strerror strerror} message if {@code rc} is not {@link LMDB#MDB_SUCCESS SUCCESS}. */
+    static int check(int rc) {
+        if (rc != MDB_SUCCESS) {
+            throw new IllegalStateException(mdb_strerror(rc));
+        }
+        return rc;
+    }
+
+}
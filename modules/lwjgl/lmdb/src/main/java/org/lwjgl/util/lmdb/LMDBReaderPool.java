@@ -0,0 +1,406 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lmdb;
+
+import org.lwjgl.*;
+import org.lwjgl.system.*;
+
+import javax.annotation.*;
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lmdb.LMDB.*;
+import static org.lwjgl.util.lmdb.LMDBChecks.*;
+
+/**
+ * A pool of read-only transactions, for environments opened with {@link LMDB#MDB_NOTLS NOTLS}.
+ *
+ * <p>Without {@code MDB_NOTLS}, LMDB binds each reader table slot to the thread that created the read transaction, so every thread that reads requires a
+ * slot. With large thread pools, or with virtual threads, this exceeds the {@link LMDB#mdb_env_set_maxreaders env_set_maxreaders} limit. With
+ * {@code MDB_NOTLS}, a slot belongs to the transaction and the transaction may be used by any thread, one at a time.</p>
+ *
+ * <p>This pool bounds the number of read transactions, and reader slots, to its capacity. Tasks {@link #lease lease} a transaction and return it with
+ * {@link Lease#close}. Returned transactions are reset with {@link LMDB#mdb_txn_reset txn_reset}, which releases their snapshot but keeps their slot, and
+ * renewed with {@link LMDB#mdb_txn_renew txn_renew} by the next lease. Each lease also caches a cursor per database, which is renewed with the
+ * transaction.</p>
+ *
+ * <p>{@link #getMetrics} reports the usage of the pool and of the reader table, using {@link LMDB#mdb_env_info env_info}. Stale slots of dead
+ * processes are cleared with {@link #readerCheck}.</p>
+ *
+ * <p>The pool does not own the environment. Closing the pool aborts its transactions but does not close the environment, so the pool must be closed
+ * first.</p>
+ */
+public final class LMDBReaderPool implements AutoCloseable {
+
+    /** A function that is executed with a leased read-only transaction. */
+    @FunctionalInterface
+    public interface ReadTask<T> {
+        /**
+         * Executes the task.
+         *
+         * @param lease the leased transaction
+         */
+        T exec(Lease lease);
+    }
+
+    private final long env;
+    private final int  capacity;
+
+    private final Semaphore permits;
+
+    private final Queue<Lease> idle = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger transactions = new AtomicInteger();
+    private final AtomicLong    leases       = new AtomicLong();
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a new {@code LMDBReaderPool} instance.
+     *
+     * @param env      an LMDB environment, opened with {@link LMDB#MDB_NOTLS NOTLS}
+     * @param capacity the maximum number of read-only transactions. Must not exceed the {@link LMDB#mdb_env_set_maxreaders maxreaders} limit of the
+     *                 environment, minus the reader slots used by other code.
+     */
+    public LMDBReaderPool(@NativeType("MDB_env *") long env, int capacity) {
+        if (Checks.CHECKS) {
+            Checks.check(env);
+        }
+
+        try (MemoryStack stack = stackPush()) {
+            IntBuffer ip = stack.mallocInt(1);
+
+            check(mdb_env_get_flags(env, ip));
+            if ((ip.get(0) & MDB_NOTLS) == 0) {
+                throw new IllegalArgumentException("The environment must be opened with MDB_NOTLS.");
+            }
+
+            check(mdb_env_get_maxreaders(env, ip));
+            if (capacity <= 0 || ip.get(0) < capacity) {
+                throw new IllegalArgumentException("Invalid capacity: " + capacity + " (maxreaders: " + ip.get(0) + ")");
+            }
+        }
+
+        this.env = env;
+        this.capacity = capacity;
+        this.permits = new Semaphore(capacity);
+    }
+
+    /** Returns the maximum number of read-only transactions. */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Leases a read-only transaction, blocking until one is available.
+     *
+     * <p>The lease must be {@link Lease#close closed} when the task is done, by the same or another thread.</p>
+     */
+    public Lease lease() {
+        permits.acquireUninterruptibly();
+        return acquire();
+    }
+
+    /** Leases a read-only transaction, if one is available without blocking. Returns {@code null} otherwise. */
+    @Nullable
+    public Lease tryLease() {
+        return permits.tryAcquire() ? acquire() : null;
+    }
+
+    /**
+     * Leases a read-only transaction, blocking up to the specified waiting time.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the time unit of {@code timeout}
+     *
+     * @return the lease or {@code null} if the waiting time elapsed
+     */
+    @Nullable
+    public Lease tryLease(long timeout, TimeUnit unit) throws InterruptedException {
+        return permits.tryAcquire(timeout, unit) ? acquire() : null;
+    }
+
+    /**
+     * Executes the specified task with a leased read-only transaction.
+     *
+     * @param task the task to execute
+     *
+     * @return the value returned by {@code task}
+     */
+    public <T> T read(ReadTask<T> task) {
+        try (Lease lease = lease()) {
+            return task.exec(lease);
+        }
+    }
+
+    private Lease acquire() {
+        try {
+            if (closed) {
+                throw new IllegalStateException("The pool has been closed.");
+            }
+
+            Lease lease = idle.poll();
+            if (lease == null) {
+                lease = new Lease();
+            } else {
+                lease.renew();
+            }
+
+            leases.incrementAndGet();
+            return lease;
+        } catch (Throwable t) {
+            permits.release();
+            throw t;
+        }
+    }
+
+    void release(Lease lease) {
+        mdb_txn_reset(lease.txn);
+        if (closed) {
+            lease.free();
+        } else {
+            idle.offer(lease);
+            if (closed && idle.remove(lease)) {
+                lease.free();
+            }
+        }
+        permits.release();
+    }
+
+    /**
+     * Checks for stale entries in the reader table, with {@link LMDB#mdb_reader_check reader_check}.
+     *
+     * @return the number of stale slots that were cleared
+     */
+    public int readerCheck() {
+        try (MemoryStack stack = stackPush()) {
+            IntBuffer dead = stack.mallocInt(1);
+            check(mdb_reader_check(env, dead));
+            return dead.get(0);
+        }
+    }
+
+    /** Returns a snapshot of the pool and reader table usage. */
+    public Metrics getMetrics() {
+        if (closed) {
+            throw new IllegalStateException("The pool has been closed.");
+        }
+
+        try (MemoryStack stack = stackPush()) {
+            MDBEnvInfo info = MDBEnvInfo.mallocStack(stack);
+            check(mdb_env_info(env, info));
+
+            int transactions = this.transactions.get();
+            int leased       = capacity - permits.availablePermits();
+            return new Metrics(leased, transactions, leases.get(), info.me_numreaders(), info.me_maxreaders());
+        }
+    }
+
+    /**
+     * Closes the pool.
+     *
+     * <p>The idle transactions are aborted and their reader slots released. Leased transactions are aborted when their lease is closed.</p>
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        for (Lease lease; (lease = idle.poll()) != null; ) {
+            lease.free();
+        }
+    }
+
+    /** A snapshot of {@link LMDBReaderPool} metrics. */
+    public static final class Metrics {
+
+        private final int  leased;
+        private final int  transactions;
+        private final long leases;
+        private final int  readerSlots;
+        private final int  maxReaders;
+
+        Metrics(int leased, int transactions, long leases, int readerSlots, int maxReaders) {
+            this.leased = leased;
+            this.transactions = transactions;
+            this.leases = leases;
+            this.readerSlots = readerSlots;
+            this.maxReaders = maxReaders;
+        }
+
+        /** Returns the number of transactions currently leased. */
+        public int getLeased() { return leased; }
+
+        /** Returns the number of transactions that have been created by the pool and not aborted. Each transaction owns a reader slot. */
+        public int getTransactions() { return transactions; }
+
+        /** Returns the total number of leases since the pool was created. */
+        public long getLeases() { return leases; }
+
+        /**
+         * Returns the number of reader table slots used so far, by all processes that use the environment.
+         *
+         * <p>This is the {@code me_numreaders} value of {@link MDBEnvInfo}, a high-water mark: released slots are reused by later transactions, but are not
+         * subtracted.</p>
+         */
+        public int getReaderSlots() { return readerSlots; }
+
+        /** Returns the size of the reader table. */
+        public int getMaxReaders() { return maxReaders; }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "leased: %d, transactions: %d, leases: %d, reader slots: %d/%d",
+                leased, transactions, leases, readerSlots, maxReaders
+            );
+        }
+
+    }
+
+    /**
+     * A leased read-only transaction.
+     *
+     * <p>A lease may be used by any thread, but only by one thread at a time. The {@link ByteBuffer} instances returned by its methods point directly into
+     * the memory map and are valid until the lease is closed.</p>
+     */
+    public final class Lease implements AutoCloseable {
+
+        private long txn;
+
+        /** The databases and cursors of this lease. */
+        private int[]  dbis    = new int[0];
+        private long[] cursors = new long[0];
+
+        /** The lease count of this lease, per cursor, when the cursor was last renewed. */
+        private int[] renewed = new int[0];
+        private int   count;
+
+        private final MDBVal key  = MDBVal.calloc();
+        private final MDBVal data = MDBVal.calloc();
+
+        private boolean leased;
+
+        Lease() {
+            try (MemoryStack stack = stackPush()) {
+                PointerBuffer pp = stack.mallocPointer(1);
+                int rc = mdb_txn_begin(env, NULL, MDB_RDONLY, pp);
+                if (rc != MDB_SUCCESS) {
+                    key.free();
+                    data.free();
+                    check(rc);
+                }
+                txn = pp.get(0);
+            }
+            transactions.incrementAndGet();
+            leased = true;
+        }
+
+        void renew() {
+            int rc = mdb_txn_renew(txn);
+            if (rc != MDB_SUCCESS) {
+                free();
+                check(rc);
+            }
+
+            count++;
+            leased = true;
+        }
+
+        /** Returns the leased transaction, for use with the raw LMDB API. */
+        @NativeType("MDB_txn *")
+        public long txn() {
+            if (!leased) {
+                throw new IllegalStateException("The lease has been closed.");
+            }
+            return txn;
+        }
+
+        /**
+         * Returns a cursor for the specified database, for use with the raw LMDB API.
+         *
+         * <p>The cursor is cached by the lease and must not be closed.</p>
+         *
+         * @param dbi the database handle
+         */
+        @NativeType("MDB_cursor *")
+        public long cursor(@NativeType("MDB_dbi") int dbi) {
+            long txn = txn();
+
+            for (int i = 0; i < dbis.length; i++) {
+                if (dbis[i] == dbi) {
+                    if (renewed[i] != count) {
+                        check(mdb_cursor_renew(txn, cursors[i]));
+                        renewed[i] = count;
+                    }
+                    return cursors[i];
+                }
+            }
+
+            long cursor;
+            try (MemoryStack stack = stackPush()) {
+                PointerBuffer pp = stack.mallocPointer(1);
+                check(mdb_cursor_open(txn, dbi, pp));
+                cursor = pp.get(0);
+            }
+
+            int i = dbis.length;
+            dbis = Arrays.copyOf(dbis, i + 1);
+            cursors = Arrays.copyOf(cursors, i + 1);
+            renewed = Arrays.copyOf(renewed, i + 1);
+            dbis[i] = dbi;
+            cursors[i] = cursor;
+            renewed[i] = count;
+
+            return cursor;
+        }
+
+        /**
+         * Returns a view of the value stored for the specified key, or {@code null} if the key does not exist.
+         *
+         * @param dbi the database handle
+         * @param key the key to search for
+         */
+        @Nullable
+        public ByteBuffer get(@NativeType("MDB_dbi") int dbi, ByteBuffer key) {
+            this.key.mv_data(key);
+            int rc = nmdb_get(txn(), dbi, this.key.address(), data.address());
+            if (rc == MDB_NOTFOUND) {
+                return null;
+            }
+            check(rc);
+            return data.mv_data();
+        }
+
+        /** Returns the transaction to the pool. */
+        @Override
+        public void close() {
+            if (!leased) {
+                return;
+            }
+            leased = false;
+            release(this);
+        }
+
+        void free() {
+            for (long cursor : cursors) {
+                mdb_cursor_close(cursor);
+            }
+            mdb_txn_abort(txn);
+            transactions.decrementAndGet();
+
+            key.free();
+            data.free();
+        }
+
+    }
+
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lmdb;
+
+import org.lwjgl.system.*;
+
+import javax.annotation.*;
+import java.nio.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lmdb.LMDB.*;
+import static org.lwjgl.util.lmdb.LMDBBulk.*;
+
+/**
+ * Scans the records of an LMDB database in key order, retrieving them in batches with {@link LMDBBulk#mdb_bulk_get bulk_get}.
+ *
+ * <p>Each batch of records is retrieved with a single JNI call. Iterating the records of a batch does not cross JNI and the methods that return addresses
+ * and sizes do not allocate. The keys and values point directly into the memory map and are valid until the end of the transaction of the cursor.</p>
+ *
+ * <p>A scan may be restricted to a key range or a key prefix. Bounds are compared with the default LMDB key order, an unsigned lexicographic comparison of
+ * the key bytes. They must not be used with databases that use {@link LMDB#MDB_INTEGERKEY INTEGERKEY}, {@link LMDB#MDB_REVERSEKEY REVERSEKEY} or a custom
+ * key comparison function.</p>
+ *
+ * <p>Typical usage:</p>
+ *
+ * <pre><code>
+ * try (LMDBScan scan = new LMDBScan(256)) {
+ *     scan.prefix(prefix).start(cursor);
+ *     while (scan.next()) {
+ *         process(scan.keyAddress(), scan.keySize(), scan.valueAddress(), scan.valueSize());
+ *     }
+ * }</code></pre>
+ *
+ * <p>The scan does not own the cursor and {@link #free} does not close it. A scan can be {@link #start started} again, with the same or another cursor; its
+ * result array is allocated once, by the constructor.</p>
+ */
+public final class LMDBScan implements NativeResource {
+
+    private final MDBVal.Buffer results;
+    private final long          count;
+
+    @Nullable private ByteBuffer from;
+    @Nullable private ByteBuffer to;
+    @Nullable private ByteBuffer prefix;
+
+    private boolean multiple;
+
+    private long cursor;
+
+    private boolean first;
+    private boolean last;
+
+    /** The number of records in the current batch. */
+    private int size;
+    /** The current record. */
+    private int index;
+    /** The address of the key of the current record. */
+    private long record;
+
+    /**
+     * Creates a new {@code LMDBScan} instance.
+     *
+     * @param batchSize the number of records retrieved per JNI call
+     */
+    public LMDBScan(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.results = MDBVal.calloc(batchSize * 2);
+        this.count = nmemAllocChecked(4);
+    }
+
+    /**
+     * Restricts the scan to a key range.
+     *
+     * <p>The bound buffers are not copied and must not be modified until the scan ends.</p>
+     *
+     * @param from the first key of the range, inclusive. If {@code null}, the scan starts at the first key of the database.
+     * @param to   the last key of the range, exclusive. If {@code null}, the scan ends at the last key of the database.
+     */
+    public LMDBScan range(@Nullable ByteBuffer from, @Nullable ByteBuffer to) {
+        this.from = from;
+        this.to = to;
+        this.prefix = null;
+        return this;
+    }
+
+    /**
+     * Restricts the scan to keys that start with the specified prefix.
+     *
+     * <p>The prefix buffer is not copied and must not be modified until the scan ends.</p>
+     *
+     * @param prefix the key prefix
+     */
+    public LMDBScan prefix(ByteBuffer prefix) {
+        this.from = prefix;
+        this.to = null;
+        this.prefix = prefix;
+        return this;
+    }
+
+    /**
+     * Enables retrieving the data items of {@link LMDB#MDB_DUPFIXED DUPFIXED} databases in pages, with {@link LMDB#MDB_GET_MULTIPLE GET_MULTIPLE} and
+     * {@link LMDB#MDB_NEXT_MULTIPLE NEXT_MULTIPLE}.
+     *
+     * <p>If enabled, each record is a key with a page of contiguous data items. A key with many data items is returned as multiple records.</p>
+     *
+     * @param multiple true to enable the retrieval of pages of data items
+     */
+    public LMDBScan multiple(boolean multiple) {
+        this.multiple = multiple;
+        return this;
+    }
+
+    /**
+     * Starts a new scan with the specified cursor.
+     *
+     * <p>The cursor must not be used by other code until the scan ends.</p>
+     *
+     * @param cursor a cursor handle returned by {@link LMDB#mdb_cursor_open cursor_open}
+     */
+    public LMDBScan start(@NativeType("MDB_cursor *") long cursor) {
+        if (Checks.CHECKS) {
+            Checks.check(cursor);
+        }
+        this.cursor = cursor;
+
+        first = true;
+        last = false;
+
+        size = 0;
+        index = 0;
+        record = NULL;
+
+        return this;
+    }
+
+    /**
+     * Advances the scan to the next record.
+     *
+     * @return true if the scan moved to the next record, false if there are no more records in the database or within the scan bounds
+     */
+    public boolean next() {
+        if (++index < size) {
+            record += MDBVal.SIZEOF * 2;
+        } else {
+            if (last || !fetch()) {
+                return end();
+            }
+            index = 0;
+            record = results.address();
+        }
+
+        return inBounds() || end();
+    }
+
+    private boolean fetch() {
+        int nextOp = multiple ? MDB_NEXT_MULTIPLE : MDB_NEXT;
+
+        int op;
+        if (first) {
+            first = false;
+            if (from == null) {
+                op = MDB_FIRST;
+            } else {
+                op = MDB_SET_RANGE;
+                MDBVal.nmv_data(results.address(), from);
+            }
+        } else {
+            op = nextOp;
+        }
+
+        memPutInt(count, 0);
+        int rc = nmdb_bulk_get(cursor, op, nextOp, results.address(), results.remaining(), count);
+        if (rc != MDB_SUCCESS) {
+            if (rc != MDB_NOTFOUND) {
+                throw new IllegalStateException(mdb_strerror(rc));
+            }
+            last = true;
+        }
+
+        size = memGetInt(count);
+        return size != 0;
+    }
+
+    private boolean end() {
+        last = true;
+        size = 0;
+        index = 0;
+        record = NULL;
+        return false;
+    }
+
+    private boolean inBounds() {
+        long key     = memGetAddress(record + MDBVal.MV_DATA);
+        int  keySize = (int)memGetAddress(record + MDBVal.MV_SIZE);
+
+        if (prefix != null) {
+            int prefixSize = prefix.remaining();
+            return prefixSize <= keySize && compare(key, prefixSize, prefix) == 0;
+        }
+        return to == null || compare(key, keySize, to) < 0;
+    }
+
+    private static int compare(long key, int keySize, ByteBuffer bound) {
+        long address = memAddress(bound);
+        int  size    = bound.remaining();
+
+        int length = Math.min(keySize, size);
+        for (int i = 0; i < length; i++) {
+            int diff = Byte.toUnsignedInt(memGetByte(key + i)) - Byte.toUnsignedInt(memGetByte(address + i));
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return keySize - size;
+    }
+
+    /** Returns the address of the current key. */
+    public long keyAddress() {
+        return memGetAddress(record + MDBVal.MV_DATA);
+    }
+
+    /** Returns the size of the current key, in bytes. */
+    public int keySize() {
+        return (int)memGetAddress(record + MDBVal.MV_SIZE);
+    }
+
+    /** Returns the address of the current value. In {@link #multiple multiple} mode, the address of the current page of data items. */
+    public long valueAddress() {
+        return memGetAddress(record + MDBVal.SIZEOF + MDBVal.MV_DATA);
+    }
+
+    /** Returns the size of the current value, in bytes. In {@link #multiple multiple} mode, the size of the current page of data items. */
+    public int valueSize() {
+        return (int)memGetAddress(record + MDBVal.SIZEOF + MDBVal.MV_SIZE);
+    }
+
+    /** Returns a view of the current key. */
+    public ByteBuffer key() {
+        return memByteBuffer(keyAddress(), keySize());
+    }
+
+    /** Returns a view of the current value. */
+    public ByteBuffer value() {
+        return memByteBuffer(valueAddress(), valueSize());
+    }
+
+    @Override
+    public void free() {
+        results.free();
+        nmemFree(count);
+    }
+
+}
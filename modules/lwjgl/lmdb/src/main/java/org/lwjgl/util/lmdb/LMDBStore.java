@@ -0,0 +1,489 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lmdb;
+
+import org.lwjgl.*;
+import org.lwjgl.system.*;
+
+import javax.annotation.*;
+import java.nio.*;
+import java.util.*;
+
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lmdb.LMDB.*;
+import static org.lwjgl.util.lmdb.LMDBChecks.*;
+
+/**
+ * A key/value store on top of a single LMDB database.
+ *
+ * <p>The store manages the LMDB objects that are expensive to create per operation:</p>
+ *
+ * <ul>
+ * <li>Each thread owns a single read-only transaction. It is created on the first read and then recycled with {@link LMDB#mdb_txn_reset txn_reset} and
+ * {@link LMDB#mdb_txn_renew txn_renew}, which keeps the reader table slot of the thread and avoids memory allocations.</li>
+ * <li>Each thread owns a single read-only cursor, which is renewed with {@link LMDB#mdb_cursor_renew cursor_renew} together with its transaction.</li>
+ * <li>The {@link MDBVal} structs passed to LMDB are allocated once per thread and reused as flyweights.</li>
+ * </ul>
+ *
+ * <p>Reads do not copy data. The {@link ByteBuffer} instances returned by {@link Reader} and {@link Writer} methods are views that point directly into the
+ * LMDB memory map. They are valid only until the end of the {@link #read read} or {@link #write write} call that returned them and must not be modified,
+ * unless returned by {@link Writer#reserve Writer.reserve}. If the environment was not opened with {@link LMDB#MDB_WRITEMAP WRITEMAP}, writing to a view is
+ * a segmentation fault.</p>
+ *
+ * <p>The transactions of a thread are released when another thread uses the store for the first time after it has terminated, or when the store is
+ * closed.</p>
+ *
+ * <p>The store does not own the LMDB environment or the database handle. {@link #close} must be called before the environment is closed, when no other
+ * thread uses the store.</p>
+ *
+ * <p>Operations that the store does not provide, such as nested write transactions or access to other databases in the same transaction, can use the raw
+ * {@link LMDB} API with {@link Transaction#txn txn} and {@link Transaction#cursor cursor}.</p>
+ */
+public final class LMDBStore implements AutoCloseable {
+
+    /** A function that is executed in a read-only transaction. */
+    @FunctionalInterface
+    public interface ReadTransaction<T> {
+        /**
+         * Executes the read-only transaction.
+         *
+         * @param reader the reader of the current thread
+         */
+        T exec(Reader reader);
+    }
+
+    /** A function that is executed in a read-write transaction. */
+    @FunctionalInterface
+    public interface WriteTransaction<T> {
+        /**
+         * Executes the read-write transaction.
+         *
+         * @param writer the writer of the current thread
+         */
+        T exec(Writer writer);
+    }
+
+    private final long env;
+    private final int  dbi;
+
+    private final ThreadLocal<Reader> readers;
+    private final ThreadLocal<Writer> writers;
+
+    /** All readers and writers, for {@link #close}. */
+    final List<Transaction> transactions = new ArrayList<>();
+
+    /**
+     * Creates a new {@code LMDBStore} instance.
+     *
+     * @param env the LMDB environment
+     * @param dbi a database handle, opened with {@link LMDB#mdb_dbi_open dbi_open} in a transaction that has been committed
+     */
+    public LMDBStore(@NativeType("MDB_env *") long env, @NativeType("MDB_dbi") int dbi) {
+        if (Checks.CHECKS) {
+            Checks.check(env);
+        }
+        this.env = env;
+        this.dbi = dbi;
+
+        this.readers = ThreadLocal.withInitial(() -> register(new Reader()));
+        this.writers = ThreadLocal.withInitial(() -> register(new Writer()));
+    }
+
+    private <T extends Transaction> T register(T transaction) {
+        synchronized (transactions) {
+            // Release the transactions of terminated threads
+            for (Iterator<Transaction> it = transactions.iterator(); it.hasNext(); ) {
+                Transaction t = it.next();
+                if (!t.owner.isAlive()) {
+                    t.free();
+                    it.remove();
+                }
+            }
+            transactions.add(transaction);
+        }
+        return transaction;
+    }
+
+    /** Returns the LMDB environment. */
+    @NativeType("MDB_env *")
+    public long getEnvironment() {
+        return env;
+    }
+
+    /** Returns the database handle. */
+    @NativeType("MDB_dbi")
+    public int getDatabase() {
+        return dbi;
+    }
+
+    /**
+     * Executes the specified function in the read-only transaction of the current thread.
+     *
+     * <p>The transaction is renewed before the function is executed and reset after it returns. Nested calls on the same thread share the transaction of
+     * the outermost call.</p>
+     *
+     * @param transaction the function to execute
+     *
+     * @return the value returned by {@code transaction}
+     */
+    public <T> T read(ReadTransaction<T> transaction) {
+        Reader reader = readers.get();
+
+        reader.begin();
+        try {
+            return transaction.exec(reader);
+        } finally {
+            reader.end();
+        }
+    }
+
+    /**
+     * Executes the specified function in a read-write transaction.
+     *
+     * <p>The transaction is committed if the function returns normally and aborted if it throws. LMDB allows a single read-write transaction per
+     * environment, concurrent calls block until the active transaction ends. A thread must not call this method while inside a {@link #read read} call.</p>
+     *
+     * @param transaction the function to execute
+     *
+     * @return the value returned by {@code transaction}
+     */
+    public <T> T write(WriteTransaction<T> transaction) {
+        Writer writer = writers.get();
+
+        writer.begin();
+
+        T ret;
+        try {
+            ret = transaction.exec(writer);
+        } catch (Throwable t) {
+            writer.abort();
+            throw t;
+        }
+        writer.commit();
+
+        return ret;
+    }
+
+    /**
+     * Convenience method that stores a single key/value pair in its own read-write transaction.
+     *
+     * @param key   the key to store
+     * @param value the value to store
+     */
+    public void put(ByteBuffer key, ByteBuffer value) {
+        write(writer -> {
+            writer.put(key, value, 0);
+            return null;
+        });
+    }
+
+    /**
+     * Releases the transactions, cursors and structs allocated by this store.
+     *
+     * <p>The database handle and the environment are not closed.</p>
+     */
+    @Override
+    public void close() {
+        synchronized (transactions) {
+            for (Transaction transaction : transactions) {
+                transaction.free();
+            }
+            transactions.clear();
+        }
+        readers.remove();
+        writers.remove();
+    }
+
+    /** State shared by {@link Reader} and {@link Writer}. */
+    public abstract class Transaction {
+
+        /** The thread that uses this transaction. */
+        final Thread owner = Thread.currentThread();
+
+        long txn;
+        long cursor;
+
+        /** Flyweights for direct gets. */
+        final MDBVal key  = MDBVal.calloc();
+        final MDBVal data = MDBVal.calloc();
+
+        /** Flyweights for the cursor position. */
+        final MDBVal cursorKey  = MDBVal.calloc();
+        final MDBVal cursorData = MDBVal.calloc();
+
+        Transaction() {
+        }
+
+        /** Returns the current LMDB transaction, for use with the raw LMDB API. */
+        @NativeType("MDB_txn *")
+        public long txn() {
+            if (Checks.CHECKS) {
+                Checks.check(txn);
+            }
+            return txn;
+        }
+
+        /** Returns the cursor of the current transaction, for use with the raw LMDB API. */
+        @NativeType("MDB_cursor *")
+        public long cursor() {
+            if (cursor == NULL) {
+                try (MemoryStack stack = stackPush()) {
+                    PointerBuffer pp = stack.mallocPointer(1);
+                    check(mdb_cursor_open(txn(), dbi, pp));
+                    cursor = pp.get(0);
+                }
+            }
+            return cursor;
+        }
+
+        /**
+         * Returns a view of the value stored for the specified key, or {@code null} if the key does not exist.
+         *
+         * @param key the key to search for
+         */
+        @Nullable
+        public ByteBuffer get(ByteBuffer key) {
+            this.key.mv_data(key);
+            int rc = nmdb_get(txn(), dbi, this.key.address(), data.address());
+            if (rc == MDB_NOTFOUND) {
+                return null;
+            }
+            check(rc);
+            return data.mv_data();
+        }
+
+        /**
+         * Positions the cursor at the first key greater than or equal to the specified key.
+         *
+         * @param key the key to search for
+         *
+         * @return true if the cursor was positioned, false if there is no such key
+         */
+        public boolean seek(ByteBuffer key) {
+            cursorKey.mv_data(key);
+            return move(MDB_SET_RANGE);
+        }
+
+        /** Positions the cursor at the first key/value pair of the database. Returns false if the database is empty. */
+        public boolean first() { return move(MDB_FIRST); }
+
+        /** Positions the cursor at the last key/value pair of the database. Returns false if the database is empty. */
+        public boolean last() { return move(MDB_LAST); }
+
+        /** Advances the cursor to the next key/value pair. Returns false if the cursor was at the last pair. */
+        public boolean next() { return move(MDB_NEXT); }
+
+        /** Moves the cursor to the previous key/value pair. Returns false if the cursor was at the first pair. */
+        public boolean prev() { return move(MDB_PREV); }
+
+        /**
+         * Moves the cursor with the specified operation.
+         *
+         * @param op the cursor operation. One of:<br><table><tr><td>{@link LMDB#MDB_FIRST FIRST}</td><td>{@link LMDB#MDB_LAST LAST}</td><td>{@link LMDB#MDB_NEXT NEXT}</td><td>{@link LMDB#MDB_PREV PREV}</td></tr><tr><td>{@link LMDB#MDB_SET_RANGE SET_RANGE}</td><td>{@link LMDB#MDB_NEXT_DUP NEXT_DUP}</td><td>{@link LMDB#MDB_NEXT_NODUP NEXT_NODUP}</td><td>{@link LMDB#MDB_GET_CURRENT GET_CURRENT}</td></tr></table>
+         *
+         * @return true if the cursor was positioned, false if LMDB returned {@link LMDB#MDB_NOTFOUND NOTFOUND}
+         */
+        public boolean move(@NativeType("MDB_cursor_op") int op) {
+            int rc = nmdb_cursor_get(cursor(), cursorKey.address(), cursorData.address(), op);
+            if (rc == MDB_NOTFOUND) {
+                return false;
+            }
+            check(rc);
+            return true;
+        }
+
+        /** Returns a view of the key at the current cursor position. */
+        public ByteBuffer key() {
+            //noinspection ConstantConditions
+            return cursorKey.mv_data();
+        }
+
+        /** Returns a view of the value at the current cursor position. */
+        public ByteBuffer value() {
+            //noinspection ConstantConditions
+            return cursorData.mv_data();
+        }
+
+        abstract void free();
+
+        void freeStructs() {
+            key.free();
+            data.free();
+            cursorKey.free();
+            cursorData.free();
+        }
+
+    }
+
+    /**
+     * The per-thread read-only transaction of an {@link LMDBStore}.
+     *
+     * <p>A {@code Reader} must only be used by its thread, inside the {@link LMDBStore#read read} call that provided it.</p>
+     */
+    public final class Reader extends Transaction {
+
+        /** Nesting level of {@link LMDBStore#read read} calls. */
+        private int depth;
+
+        Reader() {
+        }
+
+        void begin() {
+            if (depth != 0) {
+                depth++;
+                return;
+            }
+
+            if (txn == NULL) {
+                try (MemoryStack stack = stackPush()) {
+                    PointerBuffer pp = stack.mallocPointer(1);
+                    check(mdb_txn_begin(env, NULL, MDB_RDONLY, pp));
+                    txn = pp.get(0);
+                }
+            } else {
+                int rc = mdb_txn_renew(txn);
+                if (rc == MDB_SUCCESS && cursor != NULL) {
+                    rc = mdb_cursor_renew(txn, cursor);
+                    if (rc != MDB_SUCCESS) {
+                        mdb_txn_reset(txn);
+                    }
+                }
+                check(rc);
+            }
+
+            // Only incremented after a successful begin, a failed read can be retried
+            depth = 1;
+        }
+
+        void end() {
+            if (--depth == 0) {
+                mdb_txn_reset(txn);
+            }
+        }
+
+        @Override
+        void free() {
+            if (cursor != NULL) {
+                mdb_cursor_close(cursor);
+                cursor = NULL;
+            }
+            if (txn != NULL) {
+                mdb_txn_abort(txn);
+                txn = NULL;
+            }
+            freeStructs();
+        }
+
+    }
+
+    /**
+     * The read-write transaction of an {@link LMDBStore}.
+     *
+     * <p>A {@code Writer} must only be used by its thread, inside the {@link LMDBStore#write write} call that provided it.</p>
+     */
+    public final class Writer extends Transaction {
+
+        Writer() {
+        }
+
+        void begin() {
+            try (MemoryStack stack = stackPush()) {
+                PointerBuffer pp = stack.mallocPointer(1);
+                check(mdb_txn_begin(env, NULL, 0, pp));
+                txn = pp.get(0);
+            }
+        }
+
+        void commit() {
+            // Cursors of read-write transactions are freed when the transaction ends.
+            cursor = NULL;
+
+            long txn = this.txn;
+            this.txn = NULL;
+            check(mdb_txn_commit(txn));
+        }
+
+        void abort() {
+            cursor = NULL;
+
+            long txn = this.txn;
+            this.txn = NULL;
+            mdb_txn_abort(txn);
+        }
+
+        /**
+         * Stores a key/value pair.
+         *
+         * @param key   the key to store
+         * @param value the value to store
+         * @param flags the {@link LMDB#mdb_cursor_put cursor_put} flags. One of:<br><table><tr><td>0</td><td>{@link LMDB#MDB_NOOVERWRITE NOOVERWRITE}</td><td>{@link LMDB#MDB_NODUPDATA NODUPDATA}</td><td>{@link LMDB#MDB_APPEND APPEND}</td><td>{@link LMDB#MDB_APPENDDUP APPENDDUP}</td></tr></table>
+         *
+         * @return false if {@link LMDB#MDB_NOOVERWRITE NOOVERWRITE} or {@link LMDB#MDB_NODUPDATA NODUPDATA} was specified and the pair already exists
+         */
+        public boolean put(ByteBuffer key, ByteBuffer value, int flags) {
+            cursorKey.mv_data(key);
+            cursorData.mv_data(value);
+            return put(flags);
+        }
+
+        /**
+         * Reserves space for a value of the specified size and returns a writable view of it.
+         *
+         * <p>The returned buffer must be filled before the next write operation or the end of the transaction. This avoids the copy of the value into the
+         * memory map. It cannot be used with databases opened with {@link LMDB#MDB_DUPSORT DUPSORT}.</p>
+         *
+         * @param key   the key to store
+         * @param size  the value size, in bytes
+         * @param flags the {@link LMDB#mdb_cursor_put cursor_put} flags, combined with {@link LMDB#MDB_RESERVE RESERVE}
+         *
+         * @return the reserved space, or {@code null} if {@link LMDB#MDB_NOOVERWRITE NOOVERWRITE} was specified and the key already exists
+         */
+        @Nullable
+        public ByteBuffer reserve(ByteBuffer key, int size, int flags) {
+            cursorKey.mv_data(key);
+            cursorData
+                .mv_data(null)
+                .mv_size(size);
+            return put(flags | MDB_RESERVE) ? cursorData.mv_data() : null;
+        }
+
+        private boolean put(int flags) {
+            int rc = nmdb_cursor_put(cursor(), cursorKey.address(), cursorData.address(), flags);
+            if (rc == MDB_KEYEXIST) {
+                return false;
+            }
+            check(rc);
+            return true;
+        }
+
+        /**
+         * Deletes the specified key and all its values.
+         *
+         * @param key the key to delete
+         *
+         * @return false if the key does not exist
+         */
+        public boolean delete(ByteBuffer key) {
+            this.key.mv_data(key);
+            int rc = nmdb_del(txn(), dbi, this.key.address(), NULL);
+            if (rc == MDB_NOTFOUND) {
+                return false;
+            }
+            check(rc);
+            return true;
+        }
+
+        @Override
+        void free() {
+            if (txn != NULL) {
+                abort();
+            }
+            freeStructs();
+        }
+
+    }
+
+}
@@ -875,7 +875,7 @@ ENABLE_WARNINGS()""")
         """,
 
         txn_env["txn"],
-        nullable..charUTF8.const.p(
+        nullable..Interned..charUTF8.const.p(
             "name",
             "the name of the database to open. If only a single database is needed in the environment, this value may be #NULL."
         ),
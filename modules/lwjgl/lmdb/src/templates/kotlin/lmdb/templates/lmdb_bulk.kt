@@ -0,0 +1,203 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package lmdb.templates
+
+import org.lwjgl.generator.*
+import lmdb.*
+
+val lmdb_bulk = "LMDBBulk".nativeClass(Module.LMDB, prefix = "MDB", prefixMethod = "mdb_") {
+    nativeDirective(
+        """DISABLE_WARNINGS()
+#ifdef LWJGL_x86
+    #define MDB_VL32 1
+#endif
+#define MDB_DEVEL 2
+#include "lmdb.h"
+ENABLE_WARNINGS()
+#include <errno.h>
+
+#define MDB_BULK_HEADER 8
+#define MDB_BULK_ALIGN(size) (((size_t)(size) + 3) & ~(size_t)3)
+
+static int mdb_bulk_put(MDB_cursor *cursor, void const *batch, size_t batch_size, unsigned int flags, size_t element_size, unsigned int *count, size_t *consumed) {
+    uint8_t const *record = (uint8_t const *)batch;
+    uint8_t const *end    = record + batch_size;
+
+    unsigned int limit = *count;
+    unsigned int n     = 0;
+
+    int rc = MDB_SUCCESS;
+
+    MDB_val key, data[2];
+    while (n < limit && (size_t)(end - record) >= MDB_BULK_HEADER) {
+        uint32_t key_size  = ((uint32_t const *)record)[0];
+        uint32_t data_size = ((uint32_t const *)record)[1];
+
+        uint8_t const *value = record + MDB_BULK_HEADER + MDB_BULK_ALIGN(key_size);
+        if (value > end || (size_t)(end - value) < data_size) {
+            rc = EINVAL;
+            break;
+        }
+
+        key.mv_size = key_size;
+        key.mv_data = (void *)(record + MDB_BULK_HEADER);
+
+        if (element_size == 0) {
+            data[0].mv_size = data_size;
+            data[0].mv_data = (void *)value;
+            rc = mdb_cursor_put(cursor, &key, data, flags);
+        } else if (data_size % element_size != 0) {
+            rc = EINVAL;
+        } else if (data_size != 0) {
+            data[0].mv_size = element_size;
+            data[0].mv_data = (void *)value;
+            data[1].mv_size = data_size / element_size;
+            rc = mdb_cursor_put(cursor, &key, data, flags | MDB_MULTIPLE);
+        }
+        if (rc != MDB_SUCCESS) {
+            break;
+        }
+
+        record = (size_t)(end - value) < MDB_BULK_ALIGN(data_size) ? end : value + MDB_BULK_ALIGN(data_size);
+        n++;
+    }
+    if (rc == MDB_SUCCESS && n < limit && record != end) {
+        rc = EINVAL;
+    }
+
+    *count    = n;
+    *consumed = (size_t)(record - (uint8_t const *)batch);
+
+    return rc;
+}
+
+static int mdb_bulk_get(MDB_cursor *cursor, MDB_cursor_op op, MDB_cursor_op next_op, MDB_val *results, unsigned int capacity, unsigned int *count) {
+    unsigned int limit = capacity / 2;
+    unsigned int n     = 0;
+
+    int rc = MDB_SUCCESS;
+
+    while (n < limit) {
+        MDB_val *key  = results + n * 2;
+        MDB_val *data = key + 1;
+
+        if (next_op != MDB_NEXT_MULTIPLE) {
+            rc = mdb_cursor_get(cursor, key, data, op);
+            op = next_op;
+        } else if (op == MDB_NEXT_MULTIPLE) {
+            // The next page of duplicates of the current key
+            rc = mdb_cursor_get(cursor, key, data, MDB_NEXT_MULTIPLE);
+            if (rc == MDB_NOTFOUND) {
+                op = MDB_NEXT_NODUP;
+                continue;
+            }
+        } else {
+            // Position at a key, then return the first page of its duplicates
+            rc = mdb_cursor_get(cursor, key, data, op);
+            if (rc == MDB_SUCCESS) {
+                rc = mdb_cursor_get(cursor, key, data, MDB_GET_MULTIPLE);
+            }
+            op = MDB_NEXT_MULTIPLE;
+        }
+        if (rc != MDB_SUCCESS) {
+            break;
+        }
+
+        n++;
+    }
+
+    *count = n;
+
+    return rc;
+}""")
+
+    javaImport("static org.lwjgl.util.lmdb.LMDB.*")
+
+    documentation =
+        """
+        Bulk operations for ${url("https://symas.com/lmdb/", "LMDB")}, implemented in native code.
+
+        These functions are not part of the LMDB API. They exist in LWJGL to process many records with a single JNI call, instead of one call per record.
+
+        <h3>Batch format</h3>
+
+        A batch is a sequence of records, packed in a contiguous memory block. Each record consists of:
+        ${ul(
+            "the key size, as a 32-bit unsigned integer in native byte order",
+            "the data size, as a 32-bit unsigned integer in native byte order",
+            "the key bytes, padded with unspecified bytes to a multiple of 4",
+            "the data bytes, padded with unspecified bytes to a multiple of 4"
+        )}
+        The batch must be aligned to 4 bytes. The padding of the last record may be omitted.
+
+        <h3>Result format</h3>
+
+        #bulk_get() returns records as pairs of ##MDBVal structs, the key followed by the data. The structs point directly into the memory map and are valid
+        until the next update operation or the end of the transaction.
+        """
+
+    int(
+        "bulk_put",
+        """
+        Stores the records of a batch with #cursor_put().
+
+        Records are stored in order, until {@code count} records have been stored, the end of the batch is reached or #cursor_put() fails. When the function
+        returns, {@code count} and {@code consumed} identify the first record that was not stored.
+        """,
+
+        MDB_cursor.p("cursor", "a cursor handle returned by #cursor_open(), in a read-write transaction"),
+        void.const.p("batch", "the batch of records"),
+        AutoSize("batch")..size_t("batch_size", "the batch size, in bytes"),
+        unsigned_int(
+            "flags",
+            """
+            the #cursor_put() flags. One of:<br>0, #NOOVERWRITE, #NODUPDATA, #APPEND, #APPENDDUP. #APPEND and #APPENDDUP allow fast bulk loading of sorted
+            records, without key comparisons.
+            """
+        ),
+        size_t(
+            "element_size",
+            """
+            if not zero, the data of each record is an array of data elements of this size, which are stored with a single #cursor_put() call with the
+            #MULTIPLE flag. The database must have been opened with #DUPFIXED.
+            """
+        ),
+        Check(1)..unsigned_int.p("count", "on input, the maximum number of records to store. On output, the number of records stored."),
+        Check(1)..size_t.p("consumed", "returns the number of batch bytes consumed by the stored records"),
+
+        returnDoc =
+        """
+        a non-zero error value on failure and 0 on success. If the batch is malformed, {@code EINVAL} is returned. Otherwise, the error of #cursor_put() is
+        returned.
+        """
+    )
+
+    int(
+        "bulk_get",
+        """
+        Retrieves multiple records by cursor, with a single JNI call.
+
+        The first record is retrieved with {@code op} and the following records with {@code next_op}, until {@code results} is full or #cursor_get() fails.
+        The first ##MDBVal of {@code results} is the input key of {@code op}, for operations like #SET_RANGE.
+
+        If {@code next_op} is #NEXT_MULTIPLE, the database must have been opened with #DUPFIXED and each record is a key with a page of its data items,
+        as returned by #GET_MULTIPLE. The scan moves to the next key, with #NEXT_NODUP, when all data items of the current key have been returned. If
+        {@code op} is #NEXT_MULTIPLE too, the scan continues with the next page of the current key, which allows the scan to continue in another call.
+        """,
+
+        MDB_cursor.p("cursor", "a cursor handle returned by #cursor_open()"),
+        MDB_cursor_op("op", "the cursor operation of the first record. One of:<br>#FIRST, #LAST, #NEXT, #PREV, #SET_RANGE, #SET_KEY, #GET_CURRENT, #NEXT_NODUP, #NEXT_MULTIPLE"),
+        MDB_cursor_op("next_op", "the cursor operation of the following records. One of:<br>#NEXT, #PREV, #NEXT_DUP, #NEXT_NODUP, #PREV_NODUP, #NEXT_MULTIPLE"),
+        MDB_val.p("results", "an array of ##MDBVal pairs that receives the records"),
+        AutoSize("results")..unsigned_int("capacity", "the number of ##MDBVal structs in {@code results}, which is twice the maximum number of records"),
+        Check(1)..unsigned_int.p("count", "returns the number of records retrieved"),
+
+        returnDoc =
+        """
+        0 on success, #NOTFOUND if the scan reached the end of the database, or another non-zero error value. The records in {@code results} are valid, even
+        if an error is returned.
+        """
+    )
+}
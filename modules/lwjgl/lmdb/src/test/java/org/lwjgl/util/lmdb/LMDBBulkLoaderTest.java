@@ -0,0 +1,121 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lmdb;
+
+import org.lwjgl.*;
+import org.lwjgl.system.*;
+import org.testng.annotations.*;
+
+import java.nio.*;
+
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lmdb.LMDB.*;
+import static org.lwjgl.util.lmdb.LMDBChecks.*;
+import static org.testng.Assert.*;
+
+@Test
+public class LMDBBulkLoaderTest extends LMDBTestBase {
+
+    public void testLoad() {
+        int dbi = openDatabase("load", 0);
+
+        try (
+            LMDBBatch batch = new LMDBBatch(16);
+            LMDBBulkLoader loader = new LMDBBulkLoader(env, dbi).transactionSize(64);
+            MemoryStack stack = stackPush()
+        ) {
+            for (int i = 0; i < 1000; i++) {
+                // Odd value sizes exercise the record padding
+                ByteBuffer value = batch.reserve(key(stack, i), 1 + i % 7);
+                for (int j = 0; j < value.remaining(); j++) {
+                    value.put(j, (byte)i);
+                }
+                if (batch.records() == 300) {
+                    loader.load(batch);
+                    batch.clear();
+                }
+            }
+            loader.load(batch);
+            loader.close();
+
+            assertEquals(loader.getRecords(), 1000L);
+            assertEquals(loader.getTransactions(), 16L); // 1000 / 64, rounded up
+        }
+
+        try (LMDBStore store = new LMDBStore(env, dbi)) {
+            int count = store.read(reader -> {
+                int i = 0;
+                for (boolean valid = reader.first(); valid; valid = reader.next()) {
+                    assertEquals(reader.key().order(ByteOrder.BIG_ENDIAN).getInt(0), i);
+                    ByteBuffer value = reader.value();
+                    assertEquals(value.remaining(), 1 + i % 7);
+                    assertEquals(value.get(0), (byte)i);
+                    i++;
+                }
+                return i;
+            });
+            assertEquals(count, 1000);
+        }
+    }
+
+    public void testMultiple() {
+        int dbi = openDatabase("multiple", MDB_DUPSORT | MDB_DUPFIXED);
+
+        try (
+            LMDBBatch batch = new LMDBBatch(1024);
+            LMDBBulkLoader loader = new LMDBBulkLoader(env, dbi).flags(MDB_APPENDDUP).elementSize(4);
+            MemoryStack stack = stackPush()
+        ) {
+            for (int i = 0; i < 10; i++) {
+                ByteBuffer values = batch.reserve(key(stack, i), 4 * 100);
+                for (int j = 0; j < 100; j++) {
+                    values.order(ByteOrder.BIG_ENDIAN).putInt(j * 4, j);
+                }
+            }
+            loader.load(batch);
+        }
+
+        try (MemoryStack stack = stackPush()) {
+            PointerBuffer pp = stack.mallocPointer(1);
+            check(mdb_txn_begin(env, NULL, MDB_RDONLY, pp));
+            long txn = pp.get(0);
+            try {
+                MDBStat stat = MDBStat.mallocStack(stack);
+                check(mdb_stat(txn, dbi, stat));
+                assertEquals(stat.ms_entries(), 1000L);
+            } finally {
+                mdb_txn_abort(txn);
+            }
+        }
+    }
+
+    public void testFailure() {
+        int dbi = openDatabase("failure", 0);
+
+        try (
+            LMDBBatch batch = new LMDBBatch(64);
+            LMDBBulkLoader loader = new LMDBBulkLoader(env, dbi).transactionSize(4);
+            MemoryStack stack = stackPush()
+        ) {
+            for (int i = 0; i < 10; i++) {
+                batch.put(key(stack, i == 6 ? 0 : i), key(stack, i));
+            }
+
+            // The unsorted key fails with MDB_APPEND
+            IllegalStateException e = expectThrows(IllegalStateException.class, () -> loader.load(batch));
+            assertTrue(e.getMessage().startsWith("Failed to store record 6 of the batch"), e.getMessage());
+
+            // The first transaction was committed, the second was aborted
+            assertEquals(loader.getRecords(), 4L);
+            assertEquals(loader.getTransactions(), 1L);
+
+            // Malformed batch
+            ByteBuffer truncated = memByteBuffer(batch.address(), 12);
+            expectThrows(IllegalStateException.class, () -> loader.load(truncated));
+        }
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lmdb;
+
+import org.lwjgl.system.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lmdb.LMDB.*;
+import static org.lwjgl.util.lmdb.LMDBChecks.*;
+import static org.testng.Assert.*;
+
+@Test
+public class LMDBReaderPoolTest extends LMDBTestBase {
+
+    private static final int MAX_READERS = 4;
+
+    private int dbi;
+
+    private void open(int flags) throws IOException {
+        open(flags, MAX_READERS);
+        dbi = openDatabase(null, 0);
+
+        try (LMDBStore store = new LMDBStore(env, dbi)) {
+            store.write(writer -> {
+                try (MemoryStack stack = stackPush()) {
+                    for (int i = 0; i < 100; i++) {
+                        writer.put(key(stack, i), key(stack, i), MDB_APPEND);
+                    }
+                }
+                return null;
+            });
+        }
+    }
+
+    public void testRequiresNOTLS() throws IOException {
+        open(0);
+        expectThrows(IllegalArgumentException.class, () -> new LMDBReaderPool(env, 1));
+    }
+
+    public void testCapacity() throws IOException {
+        open(MDB_NOTLS);
+        expectThrows(IllegalArgumentException.class, () -> new LMDBReaderPool(env, MAX_READERS + 1));
+    }
+
+    public void testLease() throws IOException {
+        open(MDB_NOTLS);
+
+        try (LMDBReaderPool pool = new LMDBReaderPool(env, 2)) {
+            LMDBReaderPool.Lease a = pool.lease();
+            LMDBReaderPool.Lease b = pool.lease();
+            assertNull(pool.tryLease());
+
+            LMDBReaderPool.Metrics metrics = pool.getMetrics();
+            assertEquals(metrics.getLeased(), 2);
+            assertEquals(metrics.getTransactions(), 2);
+            assertEquals(metrics.getReaderSlots(), 2);
+            assertEquals(metrics.getMaxReaders(), MAX_READERS);
+
+            long txn    = a.txn();
+            long cursor = a.cursor(dbi);
+            assertEquals(a.cursor(dbi), cursor);
+
+            a.close();
+            b.close();
+            expectThrows(IllegalStateException.class, a::txn);
+
+            // Reset transactions keep their reader slot
+            metrics = pool.getMetrics();
+            assertEquals(metrics.getLeased(), 0);
+            assertEquals(metrics.getReaderSlots(), 2);
+            assertEquals(metrics.getLeases(), 2L);
+
+            // The next lease renews a pooled transaction and its cursor
+            try (MemoryStack stack = stackPush()) {
+                store(stack, 1000);
+                pool.read(lease -> {
+                    assertEquals(lease.txn(), txn);
+                    assertEquals(lease.cursor(dbi), cursor);
+
+                    ByteBuffer value = lease.get(dbi, key(stack, 1000));
+                    assertNotNull(value);
+                    assertEquals(value.order(ByteOrder.BIG_ENDIAN).getInt(0), 1000);
+
+                    MDBVal k = MDBVal.callocStack(stack);
+                    MDBVal v = MDBVal.callocStack(stack);
+                    check(mdb_cursor_get(cursor, k, v, MDB_LAST));
+                    assertEquals(k.mv_data().order(ByteOrder.BIG_ENDIAN).getInt(0), 1000);
+                    return null;
+                });
+            }
+
+            assertEquals(pool.readerCheck(), 0);
+        }
+
+        // Closing the pool aborts its transactions, the reader slots are a high-water mark
+        try (LMDBReaderPool pool = new LMDBReaderPool(env, MAX_READERS)) {
+            LMDBReaderPool.Metrics metrics = pool.getMetrics();
+            assertEquals(metrics.getTransactions(), 0);
+            assertEquals(metrics.getReaderSlots(), 2);
+        }
+    }
+
+    private void store(MemoryStack stack, int i) {
+        try (LMDBStore store = new LMDBStore(env, dbi)) {
+            store.put(key(stack, i), key(stack, i));
+        }
+    }
+
+    public void testThreads() throws Exception {
+        open(MDB_NOTLS);
+
+        // More threads than reader slots
+        int threads = MAX_READERS * 4;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (LMDBReaderPool pool = new LMDBReaderPool(env, MAX_READERS)) {
+            AtomicInteger concurrent = new AtomicInteger();
+            AtomicInteger maximum    = new AtomicInteger();
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    ByteBuffer key = memAlloc(4).order(ByteOrder.BIG_ENDIAN);
+                    try {
+                        for (int i = 0; i < 1000; i++) {
+                            key.putInt(0, i % 100);
+                            int value = pool.read(lease -> {
+                                maximum.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                                try {
+                                    //noinspection ConstantConditions
+                                    return lease.get(dbi, key).order(ByteOrder.BIG_ENDIAN).getInt(0);
+                                } finally {
+                                    concurrent.decrementAndGet();
+                                }
+                            });
+                            assertEquals(value, i % 100);
+                        }
+                    } finally {
+                        memFree(key);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            assertTrue(maximum.get() <= MAX_READERS);
+
+            LMDBReaderPool.Metrics metrics = pool.getMetrics();
+            assertEquals(metrics.getLeases(), threads * 1000L);
+            assertTrue(metrics.getTransactions() <= MAX_READERS);
+            assertEquals(metrics.getReaderSlots(), metrics.getTransactions());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lmdb;
+
+import org.lwjgl.system.*;
+import org.testng.annotations.*;
+
+import java.nio.*;
+
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lmdb.LMDB.*;
+import static org.testng.Assert.*;
+
+@Test
+public class LMDBScanTest extends LMDBTestBase {
+
+    private static int getKey(LMDBScan scan) {
+        assertEquals(scan.keySize(), 4);
+        return scan.key().order(ByteOrder.BIG_ENDIAN).getInt(0);
+    }
+
+    public void testRange() {
+        int dbi = openDatabase("range", 0);
+
+        try (
+            LMDBBatch batch = new LMDBBatch(1024);
+            LMDBBulkLoader loader = new LMDBBulkLoader(env, dbi);
+            MemoryStack stack = stackPush()
+        ) {
+            for (int i = 0; i < 1000; i++) {
+                batch.put(key(stack, i * 2), key(stack, i));
+            }
+            loader.load(batch);
+        }
+
+        try (
+            LMDBStore store = new LMDBStore(env, dbi);
+            LMDBScan scan = new LMDBScan(16);
+            MemoryStack stack = stackPush()
+        ) {
+            store.read(reader -> {
+                // Full scan
+                scan.range(null, null).start(reader.cursor());
+                int count = 0;
+                while (scan.next()) {
+                    assertEquals(getKey(scan), count * 2);
+                    assertEquals(scan.valueSize(), 4);
+                    count++;
+                }
+                assertEquals(count, 1000);
+                assertFalse(scan.next());
+
+                // [101, 301) contains the even keys 102..300
+                scan.range(key(stack, 101), key(stack, 301)).start(reader.cursor());
+                count = 0;
+                while (scan.next()) {
+                    assertEquals(getKey(scan), 102 + count * 2);
+                    count++;
+                }
+                assertEquals(count, 100);
+
+                // Empty range past the last key
+                scan.range(key(stack, 5000), null).start(reader.cursor());
+                assertFalse(scan.next());
+
+                return null;
+            });
+        }
+    }
+
+    public void testPrefix() {
+        int dbi = openDatabase("prefix", 0);
+
+        try (
+            LMDBBatch batch = new LMDBBatch(1024);
+            LMDBBulkLoader loader = new LMDBBulkLoader(env, dbi);
+            MemoryStack stack = stackPush()
+        ) {
+            for (String prefix : new String[] {"a/", "b/", "ba", "c/"}) {
+                for (int i = 0; i < 100; i++) {
+                    batch.put(stack.ASCII(String.format("%s%03d", prefix, i), false), stack.ASCII(prefix, false));
+                }
+            }
+            loader.load(batch);
+        }
+
+        try (
+            LMDBStore store = new LMDBStore(env, dbi);
+            LMDBScan scan = new LMDBScan(7);
+            MemoryStack stack = stackPush()
+        ) {
+            int count = store.read(reader -> {
+                scan.prefix(stack.ASCII("b/", false)).start(reader.cursor());
+                int i = 0;
+                while (scan.next()) {
+                    assertEquals(memASCII(scan.key()), String.format("b/%03d", i));
+                    assertEquals(memASCII(scan.value()), "b/");
+                    i++;
+                }
+                return i;
+            });
+            assertEquals(count, 100);
+        }
+    }
+
+    public void testMultiple() {
+        int dbi = openDatabase("multiple", MDB_DUPSORT | MDB_DUPFIXED);
+
+        int keys   = 10;
+        int values = 3000;
+        try (
+            LMDBBatch batch = new LMDBBatch(1024);
+            LMDBBulkLoader loader = new LMDBBulkLoader(env, dbi).flags(MDB_APPENDDUP).elementSize(4);
+            MemoryStack stack = stackPush()
+        ) {
+            for (int i = 0; i < keys; i++) {
+                // Key 5 has a single data item
+                int count = i == 5 ? 1 : values;
+
+                ByteBuffer data = batch.reserve(key(stack, i), count * 4).order(ByteOrder.BIG_ENDIAN);
+                for (int j = 0; j < count; j++) {
+                    data.putInt(j * 4, j);
+                }
+            }
+            loader.load(batch);
+        }
+
+        try (
+            LMDBStore store = new LMDBStore(env, dbi);
+            LMDBScan scan = new LMDBScan(4)
+        ) {
+            int[] items = new int[keys];
+            int pages = store.read(reader -> {
+                scan.range(null, null).multiple(true).start(reader.cursor());
+                int count = 0;
+                while (scan.next()) {
+                    int key = getKey(scan);
+
+                    ByteBuffer page = scan.value().order(ByteOrder.BIG_ENDIAN);
+                    assertEquals(page.remaining() % 4, 0);
+                    for (int j = 0; j < page.remaining() / 4; j++) {
+                        assertEquals(page.getInt(j * 4), items[key]++);
+                    }
+                    count++;
+                }
+                return count;
+            });
+
+            for (int i = 0; i < keys; i++) {
+                assertEquals(items[i], i == 5 ? 1 : values);
+            }
+            // 3000 items do not fit in a single page
+            assertTrue(keys < pages);
+        }
+    }
+
+}
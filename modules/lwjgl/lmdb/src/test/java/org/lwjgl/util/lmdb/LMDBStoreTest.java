@@ -0,0 +1,205 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lmdb;
+
+import org.lwjgl.*;
+import org.lwjgl.system.*;
+import org.testng.annotations.*;
+
+import java.nio.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lmdb.LMDB.*;
+import static org.lwjgl.util.lmdb.LMDBChecks.*;
+import static org.testng.Assert.*;
+
+@Test
+public class LMDBStoreTest extends LMDBTestBase {
+
+    private LMDBStore store;
+
+    @BeforeMethod
+    public void setUp() {
+        store = new LMDBStore(env, openDatabase(null, 0));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        store.close();
+    }
+
+    public void testPutGet() {
+        try (MemoryStack stack = stackPush()) {
+            store.put(stack.ASCII("key", false), stack.ASCII("value", false));
+
+            String value = store.read(reader -> {
+                ByteBuffer view = reader.get(stack.ASCII("key", false));
+                assertNotNull(view);
+                return memASCII(view);
+            });
+            assertEquals(value, "value");
+
+            assertNull(store.read(reader -> reader.get(stack.ASCII("missing", false))));
+        }
+    }
+
+    public void testRecycledReadTransaction() {
+        try (MemoryStack stack = stackPush()) {
+            store.put(key(stack, 1), key(stack, 10));
+
+            long txn = store.read(LMDBStore.Transaction::txn);
+            long cursor = store.read(reader -> {
+                assertTrue(reader.first());
+                return reader.cursor();
+            });
+
+            // The reset transaction sees writes committed after the previous read
+            store.put(key(stack, 1), key(stack, 20));
+            store.read(reader -> {
+                assertEquals(reader.txn(), txn);
+                assertTrue(reader.first());
+                assertEquals(reader.cursor(), cursor);
+                assertEquals(reader.value().order(ByteOrder.BIG_ENDIAN).getInt(0), 20);
+                return null;
+            });
+
+            // Nested reads share the transaction
+            store.read(outer -> store.read(inner -> {
+                assertSame(inner, outer);
+                return null;
+            }));
+        }
+    }
+
+    public void testCursor() {
+        store.write(writer -> {
+            try (MemoryStack stack = stackPush()) {
+                for (int i = 0; i < 100; i++) {
+                    assertTrue(writer.put(key(stack, i), key(stack, i * 2), MDB_APPEND));
+                }
+                assertFalse(writer.put(key(stack, 0), key(stack, 0), MDB_NOOVERWRITE));
+            }
+            return null;
+        });
+
+        int count = store.read(reader -> {
+            try (MemoryStack stack = stackPush()) {
+                int i = 50;
+                for (boolean valid = reader.seek(key(stack, i)); valid; valid = reader.next()) {
+                    assertEquals(reader.key().order(ByteOrder.BIG_ENDIAN).getInt(0), i);
+                    assertEquals(reader.value().order(ByteOrder.BIG_ENDIAN).getInt(0), i * 2);
+                    i++;
+                }
+                return i;
+            }
+        });
+        assertEquals(count, 100);
+    }
+
+    public void testReserveDelete() {
+        try (MemoryStack stack = stackPush()) {
+            store.write(writer -> {
+                ByteBuffer value = writer.reserve(key(stack, 1), 8, 0);
+                assertNotNull(value);
+                assertEquals(value.remaining(), 8);
+                value.putLong(0, 0xCAFEBABEL);
+
+                assertNull(writer.reserve(key(stack, 1), 8, MDB_NOOVERWRITE));
+                return null;
+            });
+
+            assertEquals(store.read(reader -> reader.get(key(stack, 1)).getLong(0)).longValue(), 0xCAFEBABEL);
+
+            assertTrue(store.write(writer -> writer.delete(key(stack, 1))));
+            assertFalse(store.write(writer -> writer.delete(key(stack, 1))));
+            assertNull(store.read(reader -> reader.get(key(stack, 1))));
+        }
+    }
+
+    public void testAbort() {
+        try (MemoryStack stack = stackPush()) {
+            ByteBuffer key = key(stack, 1);
+            expectThrows(IllegalArgumentException.class, () -> store.write(writer -> {
+                writer.put(key, key, 0);
+                throw new IllegalArgumentException();
+            }));
+            assertNull(store.read(reader -> reader.get(key)));
+        }
+    }
+
+    public void testThreads() throws Exception {
+        store.write(writer -> {
+            try (MemoryStack stack = stackPush()) {
+                for (int i = 0; i < 1000; i++) {
+                    writer.put(key(stack, i), key(stack, i), MDB_APPEND);
+                }
+            }
+            return null;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[4];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(() -> {
+                    ByteBuffer key = memAlloc(4).order(ByteOrder.BIG_ENDIAN);
+                    try {
+                        for (int i = 0; i < 1000; i++) {
+                            key.putInt(0, i);
+                            int value = store.read(reader -> reader.get(key).order(ByteOrder.BIG_ENDIAN).getInt(0));
+                            assertEquals(value, i);
+                        }
+                    } finally {
+                        memFree(key);
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void testTerminatedThreads() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            Thread thread = new Thread(() -> store.read(reader -> reader.first()));
+            thread.start();
+            thread.join();
+        }
+
+        // The reader of this thread releases the readers of the terminated threads
+        store.read(reader -> reader.first());
+        assertEquals(store.transactions.size(), 1);
+    }
+
+    public void testFailedBegin() throws Exception {
+        store.close();
+        open(MDB_NOTLS, 1);
+        store = new LMDBStore(env, openDatabase(null, 0));
+
+        // Occupy the only reader slot
+        long txn;
+        try (MemoryStack stack = stackPush()) {
+            PointerBuffer pp = stack.mallocPointer(1);
+            check(mdb_txn_begin(env, NULL, MDB_RDONLY, pp));
+            txn = pp.get(0);
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            expectThrows(ExecutionException.class, () -> executor.submit(() -> store.read(reader -> reader.first())).get());
+
+            mdb_txn_abort(txn);
+            assertFalse(executor.submit(() -> store.read(reader -> reader.first())).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lmdb;
+
+import org.lwjgl.*;
+import org.lwjgl.system.*;
+import org.testng.annotations.*;
+
+import javax.annotation.*;
+import java.io.*;
+import java.nio.*;
+import java.nio.file.*;
+
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lmdb.LMDB.*;
+import static org.lwjgl.util.lmdb.LMDBChecks.*;
+
+/** The LMDB environment of the tests of the LMDB utility classes. A new environment is created in a temporary directory for each test method. */
+abstract class LMDBTestBase {
+
+    File dir;
+
+    long env;
+
+    @BeforeMethod
+    public void setUpEnv() throws IOException {
+        open(0, 0);
+    }
+
+    @AfterMethod
+    public void tearDownEnv() {
+        close();
+    }
+
+    /**
+     * Replaces the environment of the current test with a new one.
+     *
+     * @param flags      the environment flags, in addition to {@link LMDB#MDB_NOSYNC NOSYNC}
+     * @param maxReaders the size of the reader table, or 0 for the LMDB default
+     */
+    void open(int flags, int maxReaders) throws IOException {
+        close();
+
+        dir = Files.createTempDirectory("lwjgl-lmdb").toFile();
+
+        try (MemoryStack stack = stackPush()) {
+            PointerBuffer pp = stack.mallocPointer(1);
+            check(mdb_env_create(pp));
+            env = pp.get(0);
+
+            check(mdb_env_set_mapsize(env, 16 * 1024 * 1024));
+            check(mdb_env_set_maxdbs(env, 4));
+            if (maxReaders != 0) {
+                check(mdb_env_set_maxreaders(env, maxReaders));
+            }
+            check(mdb_env_open(env, dir.getPath(), MDB_NOSYNC | flags, 0664));
+        }
+    }
+
+    private void close() {
+        if (env == NULL) {
+            return;
+        }
+
+        mdb_env_close(env);
+        env = NULL;
+
+        new File(dir, "data.mdb").delete();
+        new File(dir, "lock.mdb").delete();
+        dir.delete();
+    }
+
+    /**
+     * Opens a database, creating it if it does not exist.
+     *
+     * @param name  the database name, or {@code null} for the unnamed database
+     * @param flags the database flags, in addition to {@link LMDB#MDB_CREATE CREATE}
+     */
+    int openDatabase(@Nullable String name, int flags) {
+        try (MemoryStack stack = stackPush()) {
+            PointerBuffer pp = stack.mallocPointer(1);
+            check(mdb_txn_begin(env, NULL, 0, pp));
+            long txn = pp.get(0);
+
+            IntBuffer ip = stack.mallocInt(1);
+            check(mdb_dbi_open(txn, name, flags | MDB_CREATE, ip));
+            check(mdb_txn_commit(txn));
+
+            return ip.get(0);
+        }
+    }
+
+    /** Returns a 4-byte big-endian key, which sorts in numeric order with the default LMDB key comparison. */
+    static ByteBuffer key(MemoryStack stack, int i) {
+        return stack.malloc(4).order(ByteOrder.BIG_ENDIAN).putInt(0, i);
+    }
+
+}
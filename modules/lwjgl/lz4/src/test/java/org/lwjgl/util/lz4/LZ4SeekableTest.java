@@ -0,0 +1,198 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lz4;
+
+import org.lwjgl.*;
+import org.lwjgl.system.*;
+import org.testng.annotations.*;
+
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lz4.LZ4Frame.*;
+import static org.testng.Assert.*;
+
+@Test
+public class LZ4SeekableTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeClass
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private static ByteBuffer data(int size) {
+        ByteBuffer data = memAlloc(size);
+
+        // Compressible: random runs of a small alphabet
+        Random random = new Random(42);
+        for (int i = 0; i < size; ) {
+            byte b   = (byte)('a' + random.nextInt(16));
+            int  run = Math.min(size - i, 1 + random.nextInt(8));
+            for (int j = 0; j < run; j++) {
+                data.put(i++, b);
+            }
+        }
+        return data;
+    }
+
+    private static ByteBuffer compress(LZ4Seekable lz4, ByteBuffer src) {
+        ByteBuffer dst = memAlloc((int)lz4.compressBound(src.remaining()));
+        dst.limit((int)lz4.compress(dst, src));
+        return dst;
+    }
+
+    private static long decompressStream(ByteBuffer dst, ByteBuffer src) {
+        try (MemoryStack stack = stackPush()) {
+            PointerBuffer pp = stack.mallocPointer(1);
+            assertFalse(LZ4F_isError(LZ4F_createDecompressionContext(pp, LZ4F_VERSION)));
+            long dctx = pp.get(0);
+
+            PointerBuffer dstSize = stack.mallocPointer(1);
+            PointerBuffer srcSize = stack.mallocPointer(1);
+
+            ByteBuffer in  = src.duplicate();
+            ByteBuffer out = dst.duplicate();
+            try {
+                while (in.hasRemaining()) {
+                    dstSize.put(0, out.remaining());
+                    srcSize.put(0, in.remaining());
+
+                    long rc = nLZ4F_decompress(dctx, memAddress(out), dstSize.address(), memAddress(in), srcSize.address(), NULL);
+                    assertFalse(LZ4F_isError(rc), LZ4F_getErrorName(rc));
+
+                    out.position(out.position() + (int)dstSize.get(0));
+                    in.position(in.position() + (int)srcSize.get(0));
+                }
+                return out.position() - dst.position();
+            } finally {
+                LZ4F_freeDecompressionContext(dctx);
+            }
+        }
+    }
+
+    public void testRoundTrip() {
+        ByteBuffer src = data(5 * 64 * 1024 + 123);
+        try (LZ4Seekable lz4 = new LZ4Seekable(pool).blockSize(64 * 1024).checksum(true)) {
+            ByteBuffer compressed = compress(lz4, src);
+            ByteBuffer dst        = memAlloc(src.remaining());
+            try {
+                assertTrue(compressed.remaining() < src.remaining());
+
+                LZ4Seekable.SeekTable table = LZ4Seekable.SeekTable.read(compressed);
+                assertEquals(table.getFrameCount(), 6);
+                assertEquals(table.getDecompressedSize(), src.remaining());
+                assertEquals(table.getDecompressedSize(5), 123);
+                assertEquals(table.getFrame(64 * 1024 - 1), 0);
+                assertEquals(table.getFrame(64 * 1024), 1);
+
+                lz4.decompress(table, dst, compressed);
+                assertEquals(dst, src);
+
+                // The output is a regular LZ4 frame stream
+                memSet(dst, 0);
+                assertEquals(decompressStream(dst, compressed), src.remaining());
+                assertEquals(dst, src);
+
+                // Compressing again reuses the contexts
+                ByteBuffer again = compress(lz4, src);
+                assertEquals(again, compressed);
+                memFree(again);
+            } finally {
+                memFree(dst);
+                memFree(compressed);
+                memFree(src);
+            }
+        }
+    }
+
+    public void testRead() {
+        ByteBuffer src = data(1024 * 1024);
+        try (LZ4Seekable lz4 = new LZ4Seekable(pool).blockSize(10_000)) {
+            ByteBuffer compressed = compress(lz4, src);
+            ByteBuffer dst        = memAlloc(200_000);
+            try {
+                LZ4Seekable.SeekTable table = LZ4Seekable.SeekTable.read(compressed);
+
+                Random random = new Random(7);
+                for (int i = 0; i < 100; i++) {
+                    int position = random.nextInt(src.remaining());
+                    int size     = random.nextInt(dst.capacity());
+
+                    dst.clear().limit(size);
+                    long read = lz4.read(table, dst, compressed, position);
+                    assertEquals(read, Math.min(size, src.remaining() - position));
+
+                    dst.limit((int)read);
+                    src.position(position).limit(position + (int)read);
+                    assertEquals(dst, src);
+                    src.clear();
+                }
+
+                dst.clear();
+                assertEquals(lz4.read(table, dst, compressed, src.remaining()), 0L);
+            } finally {
+                memFree(dst);
+                memFree(compressed);
+                memFree(src);
+            }
+        }
+    }
+
+    public void testEmpty() {
+        try (LZ4Seekable lz4 = new LZ4Seekable(pool)) {
+            ByteBuffer src        = memAlloc(0);
+            ByteBuffer compressed = compress(lz4, src);
+            try {
+                LZ4Seekable.SeekTable table = LZ4Seekable.SeekTable.read(compressed);
+                assertEquals(table.getFrameCount(), 0);
+                assertEquals(table.getDecompressedSize(), 0L);
+                lz4.decompress(table, src, compressed);
+            } finally {
+                memFree(compressed);
+                memFree(src);
+            }
+        }
+    }
+
+    public void testInvalid() {
+        ByteBuffer src = data(100_000);
+        try (LZ4Seekable lz4 = new LZ4Seekable(pool).blockSize(30_000).checksum(true)) {
+            ByteBuffer compressed = compress(lz4, src);
+            ByteBuffer dst        = memAlloc(src.remaining());
+            try {
+                LZ4Seekable.SeekTable table = LZ4Seekable.SeekTable.read(compressed);
+
+                // Truncated seek table
+                ByteBuffer truncated = compressed.duplicate();
+                truncated.limit(truncated.limit() - 1);
+                expectThrows(IllegalArgumentException.class, () -> LZ4Seekable.SeekTable.read(truncated));
+
+                // Corrupted frame
+                int offset = (int)table.getCompressedOffset(2) + (int)table.getCompressedSize(2) / 2;
+                compressed.put(offset, (byte)~compressed.get(offset));
+                expectThrows(IllegalStateException.class, () -> lz4.decompress(table, dst, compressed));
+
+                // The other frames are still readable
+                dst.clear().limit(60_000);
+                assertEquals(lz4.read(table, dst, compressed, 0L), 60_000L);
+            } finally {
+                memFree(dst);
+                memFree(compressed);
+                memFree(src);
+            }
+        }
+    }
+
+}
@@ -379,4 +379,104 @@ public class NVGColor extends Struct implements NativeResource {
 
     }
 
+    // -----------------------------------
+
+    /**
+     * A struct-of-arrays container for {@link NVGColor} data.
+     *
+     * <p>Each primitive member is stored in a separate column. Data is copied from and to {@link NVGColor.Buffer} instances with
+     * {@link #gather gather} and {@link #scatter scatter}.</p>
+     */
+    public static class SoA extends StructSoA {
+
+        private static final int[] COLUMNS = { 4, 4, 4, 4 };
+
+        private final long r;
+        private final long g;
+        private final long b;
+        private final long a;
+
+        /**
+         * Creates a new {@code NVGColor.SoA} instance. The instance must be explicitly freed.
+         *
+         * @param capacity the number of elements in each column
+         */
+        public SoA(int capacity) {
+            super(capacity, COLUMNS);
+            this.r = __column(0);
+            this.g = __column(1);
+            this.b = __column(2);
+            this.a = __column(3);
+        }
+
+        /** Returns a {@link FloatBuffer} view of the {@code r} column. */
+        public FloatBuffer r() { return memFloatBuffer(this.r, capacity); }
+        /** Returns the {@code r} value at the specified index. */
+        public float r(int index) { return UNSAFE.getFloat(null, this.r + __index(index) * 4); }
+        /** Sets the {@code r} value at the specified index. */
+        public SoA r(int index, float value) { UNSAFE.putFloat(null, this.r + __index(index) * 4, value); return this; }
+
+        /** Returns a {@link FloatBuffer} view of the {@code g} column. */
+        public FloatBuffer g() { return memFloatBuffer(this.g, capacity); }
+        /** Returns the {@code g} value at the specified index. */
+        public float g(int index) { return UNSAFE.getFloat(null, this.g + __index(index) * 4); }
+        /** Sets the {@code g} value at the specified index. */
+        public SoA g(int index, float value) { UNSAFE.putFloat(null, this.g + __index(index) * 4, value); return this; }
+
+        /** Returns a {@link FloatBuffer} view of the {@code b} column. */
+        public FloatBuffer b() { return memFloatBuffer(this.b, capacity); }
+        /** Returns the {@code b} value at the specified index. */
+        public float b(int index) { return UNSAFE.getFloat(null, this.b + __index(index) * 4); }
+        /** Sets the {@code b} value at the specified index. */
+        public SoA b(int index, float value) { UNSAFE.putFloat(null, this.b + __index(index) * 4, value); return this; }
+
+        /** Returns a {@link FloatBuffer} view of the {@code a} column. */
+        public FloatBuffer a() { return memFloatBuffer(this.a, capacity); }
+        /** Returns the {@code a} value at the specified index. */
+        public float a(int index) { return UNSAFE.getFloat(null, this.a + __index(index) * 4); }
+        /** Sets the {@code a} value at the specified index. */
+        public SoA a(int index, float value) { UNSAFE.putFloat(null, this.a + __index(index) * 4, value); return this; }
+
+        /**
+         * Copies the remaining structs of the specified buffer to the columns, starting at index 0. The buffer position is not modified.
+         *
+         * @param src the source struct buffer
+         *
+         * @return the number of structs copied
+         */
+        public int gather(NVGColor.Buffer src) {
+            int  count  = __count(src);
+            long struct = src.address();
+            for (int i = 0; i < count; i++, struct += SIZEOF) {
+                long index = i;
+                UNSAFE.putFloat(null, this.r + index * 4, UNSAFE.getFloat(null, struct + NVGColor.R));
+                UNSAFE.putFloat(null, this.g + index * 4, UNSAFE.getFloat(null, struct + NVGColor.G));
+                UNSAFE.putFloat(null, this.b + index * 4, UNSAFE.getFloat(null, struct + NVGColor.B));
+                UNSAFE.putFloat(null, this.a + index * 4, UNSAFE.getFloat(null, struct + NVGColor.A));
+            }
+            return count;
+        }
+
+        /**
+         * Copies the columns, starting at index 0, to the remaining structs of the specified buffer. The buffer position is not modified.
+         *
+         * @param dst the destination struct buffer
+         *
+         * @return the number of structs copied
+         */
+        public int scatter(NVGColor.Buffer dst) {
+            int  count  = __count(dst);
+            long struct = dst.address();
+            for (int i = 0; i < count; i++, struct += SIZEOF) {
+                long index = i;
+                UNSAFE.putFloat(null, struct + NVGColor.R, UNSAFE.getFloat(null, this.r + index * 4));
+                UNSAFE.putFloat(null, struct + NVGColor.G, UNSAFE.getFloat(null, this.g + index * 4));
+                UNSAFE.putFloat(null, struct + NVGColor.B, UNSAFE.getFloat(null, this.b + index * 4));
+                UNSAFE.putFloat(null, struct + NVGColor.A, UNSAFE.getFloat(null, this.a + index * 4));
+            }
+            return count;
+        }
+
+    }
+
 }
\ No newline at end of file
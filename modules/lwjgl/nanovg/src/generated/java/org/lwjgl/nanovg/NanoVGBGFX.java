@@ -28,17 +28,24 @@ public class NanoVGBGFX {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "nvgCreate\0nvgDelete\0nvgSetViewId\0nvgGetViewId\0nvgluCreateFramebuffer\0nvgluBindFramebuffer\0nvgluDeleteFramebuffer\0nvgluSetViewFramebuffer\0" +
+            "org_lwjgl_nanovg_setup\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(BGFX.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            Create                 = apiGetFunctionAddress(BGFX.getLibrary(), "nvgCreate"),
-            Delete                 = apiGetFunctionAddress(BGFX.getLibrary(), "nvgDelete"),
-            SetViewId              = apiGetFunctionAddress(BGFX.getLibrary(), "nvgSetViewId"),
-            GetViewId              = apiGetFunctionAddress(BGFX.getLibrary(), "nvgGetViewId"),
-            luCreateFramebuffer    = apiGetFunctionAddress(BGFX.getLibrary(), "nvgluCreateFramebuffer"),
-            luBindFramebuffer      = apiGetFunctionAddress(BGFX.getLibrary(), "nvgluBindFramebuffer"),
-            luDeleteFramebuffer    = apiGetFunctionAddress(BGFX.getLibrary(), "nvgluDeleteFramebuffer"),
-            luSetViewFramebuffer   = apiGetFunctionAddress(BGFX.getLibrary(), "nvgluSetViewFramebuffer"),
-            org_lwjgl_nanovg_setup = apiGetFunctionAddress(BGFX.getLibrary(), "org_lwjgl_nanovg_setup");
+            Create                 = ADDRESSES[0],
+            Delete                 = ADDRESSES[1],
+            SetViewId              = ADDRESSES[2],
+            GetViewId              = ADDRESSES[3],
+            luCreateFramebuffer    = ADDRESSES[4],
+            luBindFramebuffer      = ADDRESSES[5],
+            luDeleteFramebuffer    = ADDRESSES[6],
+            luSetViewFramebuffer   = ADDRESSES[7],
+            org_lwjgl_nanovg_setup = ADDRESSES[8];
 
     }
 
@@ -17,7 +17,7 @@ ENABLE_WARNINGS()""")
 
 val NVGcontext = "NVGcontext".opaque
 
-val NVGcolor = struct(Module.NANOVG, "NVGColor", nativeName = "NVGcolor") {
+val NVGcolor = struct(Module.NANOVG, "NVGColor", nativeName = "NVGcolor", soa = true) {
     documentation = "A NanoVG color."
 
     union {
@@ -2005,73 +2005,85 @@ public class SQL {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "SQLAllocHandle\0SQLConnectW\0SQLGetInfoW\0SQLGetFunctions\0SQLGetTypeInfoW\0SQLSetConnectAttrW\0SQLGetConnectAttrW\0SQLSetEnvAttr\0SQLGetEnvAttr\0" +
+            "SQLSetStmtAttrW\0SQLGetStmtAttrW\0SQLGetDescFieldW\0SQLGetDescRecW\0SQLSetDescFieldW\0SQLSetDescRec\0SQLCopyDesc\0SQLPrepareW\0SQLGetCursorNameW\0" +
+            "SQLSetCursorNameW\0SQLExecute\0SQLExecDirectW\0SQLParamData\0SQLPutData\0SQLRowCount\0SQLNumResultCols\0SQLDescribeColW\0SQLColAttributeW\0SQLBindCol\0SQLFetch\0" +
+            "SQLFetchScroll\0SQLGetData\0SQLGetDiagFieldW\0SQLGetDiagRecW\0SQLFreeStmt\0SQLCloseCursor\0SQLCancel\0SQLEndTran\0SQLDisconnect\0SQLFreeHandle\0SQLColumnsW\0" +
+            "SQLSpecialColumnsW\0SQLStatisticsW\0SQLTablesW\0SQLDriverConnectW\0SQLBrowseConnectW\0SQLBulkOperations\0SQLColumnPrivilegesW\0SQLDescribeParam\0" +
+            "SQLExtendedFetch\0SQLForeignKeysW\0SQLMoreResults\0SQLNativeSqlW\0SQLNumParams\0SQLParamOptions\0SQLPrimaryKeysW\0SQLProcedureColumnsW\0SQLProceduresW\0" +
+            "SQLSetPos\0SQLTablePrivilegesW\0SQLBindParameter\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(ODBC, FUNCTIONS);
+
         /** Function address. */
         public static final long
-            AllocHandle      = apiGetFunctionAddress(ODBC, "SQLAllocHandle"),
-            Connect          = apiGetFunctionAddress(ODBC, "SQLConnectW"),
+            AllocHandle      = ADDRESSES[0],
+            Connect          = ADDRESSES[1],
             DataSources      = ODBC.getFunctionAddress("SQLDataSourcesW"),
-            GetInfo          = apiGetFunctionAddress(ODBC, "SQLGetInfoW"),
-            GetFunctions     = apiGetFunctionAddress(ODBC, "SQLGetFunctions"),
-            GetTypeInfo      = apiGetFunctionAddress(ODBC, "SQLGetTypeInfoW"),
-            SetConnectAttr   = apiGetFunctionAddress(ODBC, "SQLSetConnectAttrW"),
-            GetConnectAttr   = apiGetFunctionAddress(ODBC, "SQLGetConnectAttrW"),
-            SetEnvAttr       = apiGetFunctionAddress(ODBC, "SQLSetEnvAttr"),
-            GetEnvAttr       = apiGetFunctionAddress(ODBC, "SQLGetEnvAttr"),
-            SetStmtAttr      = apiGetFunctionAddress(ODBC, "SQLSetStmtAttrW"),
-            GetStmtAttr      = apiGetFunctionAddress(ODBC, "SQLGetStmtAttrW"),
-            GetDescField     = apiGetFunctionAddress(ODBC, "SQLGetDescFieldW"),
-            GetDescRec       = apiGetFunctionAddress(ODBC, "SQLGetDescRecW"),
-            SetDescField     = apiGetFunctionAddress(ODBC, "SQLSetDescFieldW"),
-            SetDescRec       = apiGetFunctionAddress(ODBC, "SQLSetDescRec"),
-            CopyDesc         = apiGetFunctionAddress(ODBC, "SQLCopyDesc"),
-            Prepare          = apiGetFunctionAddress(ODBC, "SQLPrepareW"),
-            GetCursorName    = apiGetFunctionAddress(ODBC, "SQLGetCursorNameW"),
-            SetCursorName    = apiGetFunctionAddress(ODBC, "SQLSetCursorNameW"),
-            Execute          = apiGetFunctionAddress(ODBC, "SQLExecute"),
-            ExecDirect       = apiGetFunctionAddress(ODBC, "SQLExecDirectW"),
-            ParamData        = apiGetFunctionAddress(ODBC, "SQLParamData"),
-            PutData          = apiGetFunctionAddress(ODBC, "SQLPutData"),
-            RowCount         = apiGetFunctionAddress(ODBC, "SQLRowCount"),
-            NumResultCols    = apiGetFunctionAddress(ODBC, "SQLNumResultCols"),
-            DescribeCol      = apiGetFunctionAddress(ODBC, "SQLDescribeColW"),
-            ColAttribute     = apiGetFunctionAddress(ODBC, "SQLColAttributeW"),
-            BindCol          = apiGetFunctionAddress(ODBC, "SQLBindCol"),
-            Fetch            = apiGetFunctionAddress(ODBC, "SQLFetch"),
-            FetchScroll      = apiGetFunctionAddress(ODBC, "SQLFetchScroll"),
-            GetData          = apiGetFunctionAddress(ODBC, "SQLGetData"),
-            GetDiagField     = apiGetFunctionAddress(ODBC, "SQLGetDiagFieldW"),
-            GetDiagRec       = apiGetFunctionAddress(ODBC, "SQLGetDiagRecW"),
-            FreeStmt         = apiGetFunctionAddress(ODBC, "SQLFreeStmt"),
-            CloseCursor      = apiGetFunctionAddress(ODBC, "SQLCloseCursor"),
-            Cancel           = apiGetFunctionAddress(ODBC, "SQLCancel"),
+            GetInfo          = ADDRESSES[2],
+            GetFunctions     = ADDRESSES[3],
+            GetTypeInfo      = ADDRESSES[4],
+            SetConnectAttr   = ADDRESSES[5],
+            GetConnectAttr   = ADDRESSES[6],
+            SetEnvAttr       = ADDRESSES[7],
+            GetEnvAttr       = ADDRESSES[8],
+            SetStmtAttr      = ADDRESSES[9],
+            GetStmtAttr      = ADDRESSES[10],
+            GetDescField     = ADDRESSES[11],
+            GetDescRec       = ADDRESSES[12],
+            SetDescField     = ADDRESSES[13],
+            SetDescRec       = ADDRESSES[14],
+            CopyDesc         = ADDRESSES[15],
+            Prepare          = ADDRESSES[16],
+            GetCursorName    = ADDRESSES[17],
+            SetCursorName    = ADDRESSES[18],
+            Execute          = ADDRESSES[19],
+            ExecDirect       = ADDRESSES[20],
+            ParamData        = ADDRESSES[21],
+            PutData          = ADDRESSES[22],
+            RowCount         = ADDRESSES[23],
+            NumResultCols    = ADDRESSES[24],
+            DescribeCol      = ADDRESSES[25],
+            ColAttribute     = ADDRESSES[26],
+            BindCol          = ADDRESSES[27],
+            Fetch            = ADDRESSES[28],
+            FetchScroll      = ADDRESSES[29],
+            GetData          = ADDRESSES[30],
+            GetDiagField     = ADDRESSES[31],
+            GetDiagRec       = ADDRESSES[32],
+            FreeStmt         = ADDRESSES[33],
+            CloseCursor      = ADDRESSES[34],
+            Cancel           = ADDRESSES[35],
             CancelHandle     = ODBC.getFunctionAddress("SQLCancelHandle"),
-            EndTran          = apiGetFunctionAddress(ODBC, "SQLEndTran"),
-            Disconnect       = apiGetFunctionAddress(ODBC, "SQLDisconnect"),
-            FreeHandle       = apiGetFunctionAddress(ODBC, "SQLFreeHandle"),
+            EndTran          = ADDRESSES[36],
+            Disconnect       = ADDRESSES[37],
+            FreeHandle       = ADDRESSES[38],
             CompleteAsync    = ODBC.getFunctionAddress("SQLCompleteAsync"),
-            Columns          = apiGetFunctionAddress(ODBC, "SQLColumnsW"),
-            SpecialColumns   = apiGetFunctionAddress(ODBC, "SQLSpecialColumnsW"),
-            Statistics       = apiGetFunctionAddress(ODBC, "SQLStatisticsW"),
-            Tables           = apiGetFunctionAddress(ODBC, "SQLTablesW"),
+            Columns          = ADDRESSES[39],
+            SpecialColumns   = ADDRESSES[40],
+            Statistics       = ADDRESSES[41],
+            Tables           = ADDRESSES[42],
             Transact         = ODBC.getFunctionAddress("SQLTransact"),
-            DriverConnect    = apiGetFunctionAddress(ODBC, "SQLDriverConnectW"),
-            BrowseConnect    = apiGetFunctionAddress(ODBC, "SQLBrowseConnectW"),
-            BulkOperations   = apiGetFunctionAddress(ODBC, "SQLBulkOperations"),
-            ColumnPrivileges = apiGetFunctionAddress(ODBC, "SQLColumnPrivilegesW"),
-            DescribeParam    = apiGetFunctionAddress(ODBC, "SQLDescribeParam"),
-            ExtendedFetch    = apiGetFunctionAddress(ODBC, "SQLExtendedFetch"),
-            ForeignKeys      = apiGetFunctionAddress(ODBC, "SQLForeignKeysW"),
-            MoreResults      = apiGetFunctionAddress(ODBC, "SQLMoreResults"),
-            NativeSql        = apiGetFunctionAddress(ODBC, "SQLNativeSqlW"),
-            NumParams        = apiGetFunctionAddress(ODBC, "SQLNumParams"),
-            ParamOptions     = apiGetFunctionAddress(ODBC, "SQLParamOptions"),
-            PrimaryKeys      = apiGetFunctionAddress(ODBC, "SQLPrimaryKeysW"),
-            ProcedureColumns = apiGetFunctionAddress(ODBC, "SQLProcedureColumnsW"),
-            Procedures       = apiGetFunctionAddress(ODBC, "SQLProceduresW"),
-            SetPos           = apiGetFunctionAddress(ODBC, "SQLSetPos"),
-            TablePrivileges  = apiGetFunctionAddress(ODBC, "SQLTablePrivilegesW"),
+            DriverConnect    = ADDRESSES[43],
+            BrowseConnect    = ADDRESSES[44],
+            BulkOperations   = ADDRESSES[45],
+            ColumnPrivileges = ADDRESSES[46],
+            DescribeParam    = ADDRESSES[47],
+            ExtendedFetch    = ADDRESSES[48],
+            ForeignKeys      = ADDRESSES[49],
+            MoreResults      = ADDRESSES[50],
+            NativeSql        = ADDRESSES[51],
+            NumParams        = ADDRESSES[52],
+            ParamOptions     = ADDRESSES[53],
+            PrimaryKeys      = ADDRESSES[54],
+            ProcedureColumns = ADDRESSES[55],
+            Procedures       = ADDRESSES[56],
+            SetPos           = ADDRESSES[57],
+            TablePrivileges  = ADDRESSES[58],
             Drivers          = ODBC.getFunctionAddress("SQLDriversW"),
-            BindParameter    = apiGetFunctionAddress(ODBC, "SQLBindParameter"),
+            BindParameter    = ADDRESSES[59],
             AllocHandleStd   = ODBC.getFunctionAddress("SQLAllocHandleStd");
 
     }
@@ -1526,6 +1526,24 @@ public class AL10 {
         }
     }
 
+    /**
+     * Returns the enumeration value of the specified enum.
+     *
+     * @param enumName the enum name
+     */
+    @NativeType("ALuint")
+    public static int alGetEnumValue(@NativeType("ALchar const *") String enumName) {
+        if (!NativeStringCache.ENABLED) {
+            return alGetEnumValue((CharSequence)enumName);
+        }
+        NativeStringCache.Entry enumNameEncoded = NativeStringCache.acquireASCII(enumName);
+        try {
+            return alGetEnumValue(enumNameEncoded.buffer());
+        } finally {
+            enumNameEncoded.release();
+        }
+    }
+
     // --- [ alGetProcAddress ] ---
 
     /** Unsafe version of: {@link #alGetProcAddress GetProcAddress} */
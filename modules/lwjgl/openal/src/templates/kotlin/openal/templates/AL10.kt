@@ -701,7 +701,7 @@ f' = f * (SS * DV - DF*vls) / (SS * DV - DF * vss)
         "GetEnumValue",
         "Returns the enumeration value of the specified enum.",
 
-        ALcharASCII.const.p("enumName", "the enum name")
+        Interned..ALcharASCII.const.p("enumName", "the enum name")
     )
 
     opaque_p(
@@ -232,56 +232,67 @@ public class CGL {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "CGLGetCurrentContext\0CGLSetCurrentContext\0CGLGetShareGroup\0CGLChoosePixelFormat\0CGLDestroyPixelFormat\0CGLDescribePixelFormat\0CGLReleasePixelFormat\0" +
+            "CGLRetainPixelFormat\0CGLGetPixelFormatRetainCount\0CGLQueryRendererInfo\0CGLDestroyRendererInfo\0CGLDescribeRenderer\0CGLCreateContext\0CGLDestroyContext\0" +
+            "CGLCopyContext\0CGLRetainContext\0CGLReleaseContext\0CGLGetContextRetainCount\0CGLGetPixelFormat\0CGLCreatePBuffer\0CGLDestroyPBuffer\0CGLDescribePBuffer\0" +
+            "CGLTexImagePBuffer\0CGLRetainPBuffer\0CGLReleasePBuffer\0CGLGetPBufferRetainCount\0CGLSetOffScreen\0CGLGetOffScreen\0CGLSetFullScreen\0CGLSetFullScreenOnDisplay\0" +
+            "CGLSetPBuffer\0CGLGetPBuffer\0CGLClearDrawable\0CGLFlushDrawable\0CGLEnable\0CGLDisable\0CGLIsEnabled\0CGLSetParameter\0CGLGetParameter\0CGLSetVirtualScreen\0" +
+            "CGLGetVirtualScreen\0CGLUpdateContext\0CGLSetGlobalOption\0CGLGetGlobalOption\0CGLLockContext\0CGLUnlockContext\0CGLGetVersion\0CGLErrorString\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(GL.getFunctionProvider(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            GetCurrentContext         = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLGetCurrentContext"),
-            SetCurrentContext         = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLSetCurrentContext"),
-            GetShareGroup             = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLGetShareGroup"),
-            ChoosePixelFormat         = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLChoosePixelFormat"),
-            DestroyPixelFormat        = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLDestroyPixelFormat"),
-            DescribePixelFormat       = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLDescribePixelFormat"),
-            ReleasePixelFormat        = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLReleasePixelFormat"),
-            RetainPixelFormat         = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLRetainPixelFormat"),
-            GetPixelFormatRetainCount = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLGetPixelFormatRetainCount"),
-            QueryRendererInfo         = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLQueryRendererInfo"),
-            DestroyRendererInfo       = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLDestroyRendererInfo"),
-            DescribeRenderer          = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLDescribeRenderer"),
-            CreateContext             = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLCreateContext"),
-            DestroyContext            = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLDestroyContext"),
-            CopyContext               = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLCopyContext"),
-            RetainContext             = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLRetainContext"),
-            ReleaseContext            = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLReleaseContext"),
-            GetContextRetainCount     = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLGetContextRetainCount"),
-            GetPixelFormat            = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLGetPixelFormat"),
-            CreatePBuffer             = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLCreatePBuffer"),
-            DestroyPBuffer            = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLDestroyPBuffer"),
-            DescribePBuffer           = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLDescribePBuffer"),
-            TexImagePBuffer           = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLTexImagePBuffer"),
-            RetainPBuffer             = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLRetainPBuffer"),
-            ReleasePBuffer            = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLReleasePBuffer"),
-            GetPBufferRetainCount     = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLGetPBufferRetainCount"),
-            SetOffScreen              = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLSetOffScreen"),
-            GetOffScreen              = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLGetOffScreen"),
-            SetFullScreen             = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLSetFullScreen"),
-            SetFullScreenOnDisplay    = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLSetFullScreenOnDisplay"),
-            SetPBuffer                = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLSetPBuffer"),
-            GetPBuffer                = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLGetPBuffer"),
-            ClearDrawable             = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLClearDrawable"),
-            FlushDrawable             = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLFlushDrawable"),
-            Enable                    = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLEnable"),
-            Disable                   = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLDisable"),
-            IsEnabled                 = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLIsEnabled"),
-            SetParameter              = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLSetParameter"),
-            GetParameter              = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLGetParameter"),
-            SetVirtualScreen          = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLSetVirtualScreen"),
-            GetVirtualScreen          = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLGetVirtualScreen"),
-            UpdateContext             = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLUpdateContext"),
-            SetGlobalOption           = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLSetGlobalOption"),
-            GetGlobalOption           = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLGetGlobalOption"),
-            LockContext               = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLLockContext"),
-            UnlockContext             = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLUnlockContext"),
-            GetVersion                = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLGetVersion"),
-            ErrorString               = apiGetFunctionAddress(GL.getFunctionProvider(), "CGLErrorString");
+            GetCurrentContext         = ADDRESSES[0],
+            SetCurrentContext         = ADDRESSES[1],
+            GetShareGroup             = ADDRESSES[2],
+            ChoosePixelFormat         = ADDRESSES[3],
+            DestroyPixelFormat        = ADDRESSES[4],
+            DescribePixelFormat       = ADDRESSES[5],
+            ReleasePixelFormat        = ADDRESSES[6],
+            RetainPixelFormat         = ADDRESSES[7],
+            GetPixelFormatRetainCount = ADDRESSES[8],
+            QueryRendererInfo         = ADDRESSES[9],
+            DestroyRendererInfo       = ADDRESSES[10],
+            DescribeRenderer          = ADDRESSES[11],
+            CreateContext             = ADDRESSES[12],
+            DestroyContext            = ADDRESSES[13],
+            CopyContext               = ADDRESSES[14],
+            RetainContext             = ADDRESSES[15],
+            ReleaseContext            = ADDRESSES[16],
+            GetContextRetainCount     = ADDRESSES[17],
+            GetPixelFormat            = ADDRESSES[18],
+            CreatePBuffer             = ADDRESSES[19],
+            DestroyPBuffer            = ADDRESSES[20],
+            DescribePBuffer           = ADDRESSES[21],
+            TexImagePBuffer           = ADDRESSES[22],
+            RetainPBuffer             = ADDRESSES[23],
+            ReleasePBuffer            = ADDRESSES[24],
+            GetPBufferRetainCount     = ADDRESSES[25],
+            SetOffScreen              = ADDRESSES[26],
+            GetOffScreen              = ADDRESSES[27],
+            SetFullScreen             = ADDRESSES[28],
+            SetFullScreenOnDisplay    = ADDRESSES[29],
+            SetPBuffer                = ADDRESSES[30],
+            GetPBuffer                = ADDRESSES[31],
+            ClearDrawable             = ADDRESSES[32],
+            FlushDrawable             = ADDRESSES[33],
+            Enable                    = ADDRESSES[34],
+            Disable                   = ADDRESSES[35],
+            IsEnabled                 = ADDRESSES[36],
+            SetParameter              = ADDRESSES[37],
+            GetParameter              = ADDRESSES[38],
+            SetVirtualScreen          = ADDRESSES[39],
+            GetVirtualScreen          = ADDRESSES[40],
+            UpdateContext             = ADDRESSES[41],
+            SetGlobalOption           = ADDRESSES[42],
+            GetGlobalOption           = ADDRESSES[43],
+            LockContext               = ADDRESSES[44],
+            UnlockContext             = ADDRESSES[45],
+            GetVersion                = ADDRESSES[46],
+            ErrorString               = ADDRESSES[47];
 
     }
 
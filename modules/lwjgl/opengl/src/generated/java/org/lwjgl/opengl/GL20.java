@@ -1035,6 +1035,19 @@ public class GL20 extends GL15 {
         return GL20C.glGetUniformLocation(program, name);
     }
 
+    /**
+     * Returns the location of a uniform variable.
+     *
+     * @param program the program object to be queried
+     * @param name    a null terminated string containing the name of the uniform variable whose location is to be queried
+     * 
+     * @see <a target="_blank" href="http://docs.gl/gl4/glGetUniformLocation">Reference Page</a>
+     */
+    @NativeType("GLint")
+    public static int glGetUniformLocation(@NativeType("GLuint") int program, @NativeType("GLchar const *") String name) {
+        return GL20C.glGetUniformLocation(program, name);
+    }
+
     // --- [ glGetActiveUniform ] ---
 
     /**
@@ -2096,6 +2109,19 @@ public class GL20 extends GL15 {
         return GL20C.glGetAttribLocation(program, name);
     }
 
+    /**
+     * Returns the location of an attribute variable.
+     *
+     * @param program the program object to be queried
+     * @param name    a null terminated string containing the name of the attribute variable whose location is to be queried
+     * 
+     * @see <a target="_blank" href="http://docs.gl/gl4/glGetAttribLocation">Reference Page</a>
+     */
+    @NativeType("GLint")
+    public static int glGetAttribLocation(@NativeType("GLuint") int program, @NativeType("GLchar const *") String name) {
+        return GL20C.glGetAttribLocation(program, name);
+    }
+
     // --- [ glGetVertexAttribiv ] ---
 
     /** Unsafe version of: {@link #glGetVertexAttribiv GetVertexAttribiv} */
@@ -1000,6 +1000,27 @@ public class GL20C extends GL15C {
         }
     }
 
+    /**
+     * Returns the location of a uniform variable.
+     *
+     * @param program the program object to be queried
+     * @param name    a null terminated string containing the name of the uniform variable whose location is to be queried
+     * 
+     * @see <a target="_blank" href="http://docs.gl/gl4/glGetUniformLocation">Reference Page</a>
+     */
+    @NativeType("GLint")
+    public static int glGetUniformLocation(@NativeType("GLuint") int program, @NativeType("GLchar const *") String name) {
+        if (!NativeStringCache.ENABLED) {
+            return glGetUniformLocation(program, (CharSequence)name);
+        }
+        NativeStringCache.Entry nameEncoded = NativeStringCache.acquireASCII(name);
+        try {
+            return glGetUniformLocation(program, nameEncoded.buffer());
+        } finally {
+            nameEncoded.release();
+        }
+    }
+
     // --- [ glGetActiveUniform ] ---
 
     /**
@@ -2124,6 +2145,27 @@ public class GL20C extends GL15C {
         }
     }
 
+    /**
+     * Returns the location of an attribute variable.
+     *
+     * @param program the program object to be queried
+     * @param name    a null terminated string containing the name of the attribute variable whose location is to be queried
+     * 
+     * @see <a target="_blank" href="http://docs.gl/gl4/glGetAttribLocation">Reference Page</a>
+     */
+    @NativeType("GLint")
+    public static int glGetAttribLocation(@NativeType("GLuint") int program, @NativeType("GLchar const *") String name) {
+        if (!NativeStringCache.ENABLED) {
+            return glGetAttribLocation(program, (CharSequence)name);
+        }
+        NativeStringCache.Entry nameEncoded = NativeStringCache.acquireASCII(name);
+        try {
+            return glGetAttribLocation(program, nameEncoded.buffer());
+        } finally {
+            nameEncoded.release();
+        }
+    }
+
     // --- [ glGetVertexAttribiv ] ---
 
     /** Unsafe version of: {@link #glGetVertexAttribiv GetVertexAttribiv} */
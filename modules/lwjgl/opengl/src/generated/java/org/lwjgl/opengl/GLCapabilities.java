@@ -7,6 +7,7 @@ package org.lwjgl.opengl;
 
 import org.lwjgl.system.*;
 import java.util.Set;
+import java.util.Arrays;
 import org.lwjgl.*;
 
 import static org.lwjgl.system.APIUtil.*;
@@ -2218,6 +2219,327 @@ public final class GLCapabilities {
         glFramebufferTextureMultiviewOVR,
         glNamedFramebufferTextureMultiviewOVR;
 
+    /** The names of the above functions, each terminated by a {@code NUL} character. */
+    private static final String FUNCTIONS =
+        "glAccum\0glAlphaFunc\0glAreTexturesResident\0glArrayElement\0glBegin\0glBitmap\0glCallList\0glCallLists\0glClearAccum\0glClearIndex\0glClipPlane\0glColor3b\0" +
+        "glColor3s\0glColor3i\0glColor3f\0glColor3d\0glColor3ub\0glColor3us\0glColor3ui\0glColor3bv\0glColor3sv\0glColor3iv\0glColor3fv\0glColor3dv\0glColor3ubv\0" +
+        "glColor3usv\0glColor3uiv\0glColor4b\0glColor4s\0glColor4i\0glColor4f\0glColor4d\0glColor4ub\0glColor4us\0glColor4ui\0glColor4bv\0glColor4sv\0glColor4iv\0" +
+        "glColor4fv\0glColor4dv\0glColor4ubv\0glColor4usv\0glColor4uiv\0glColorMaterial\0glColorPointer\0glCopyPixels\0glDeleteLists\0glDisableClientState\0glDrawPixels\0" +
+        "glEdgeFlag\0glEdgeFlagv\0glEdgeFlagPointer\0glEnableClientState\0glEnd\0glEvalCoord1f\0glEvalCoord1fv\0glEvalCoord1d\0glEvalCoord1dv\0glEvalCoord2f\0" +
+        "glEvalCoord2fv\0glEvalCoord2d\0glEvalCoord2dv\0glEvalMesh1\0glEvalMesh2\0glEvalPoint1\0glEvalPoint2\0glFeedbackBuffer\0glFogi\0glFogiv\0glFogf\0glFogfv\0" +
+        "glGenLists\0glGetClipPlane\0glGetLightiv\0glGetLightfv\0glGetMapiv\0glGetMapfv\0glGetMapdv\0glGetMaterialiv\0glGetMaterialfv\0glGetPixelMapfv\0glGetPixelMapusv\0" +
+        "glGetPixelMapuiv\0glGetPolygonStipple\0glGetTexEnviv\0glGetTexEnvfv\0glGetTexGeniv\0glGetTexGenfv\0glGetTexGendv\0glIndexi\0glIndexub\0glIndexs\0glIndexf\0" +
+        "glIndexd\0glIndexiv\0glIndexubv\0glIndexsv\0glIndexfv\0glIndexdv\0glIndexMask\0glIndexPointer\0glInitNames\0glInterleavedArrays\0glIsList\0glLightModeli\0" +
+        "glLightModelf\0glLightModeliv\0glLightModelfv\0glLighti\0glLightf\0glLightiv\0glLightfv\0glLineStipple\0glListBase\0glLoadMatrixf\0glLoadMatrixd\0glLoadIdentity\0" +
+        "glLoadName\0glMap1f\0glMap1d\0glMap2f\0glMap2d\0glMapGrid1f\0glMapGrid1d\0glMapGrid2f\0glMapGrid2d\0glMateriali\0glMaterialf\0glMaterialiv\0glMaterialfv\0" +
+        "glMatrixMode\0glMultMatrixf\0glMultMatrixd\0glFrustum\0glNewList\0glEndList\0glNormal3f\0glNormal3b\0glNormal3s\0glNormal3i\0glNormal3d\0glNormal3fv\0" +
+        "glNormal3bv\0glNormal3sv\0glNormal3iv\0glNormal3dv\0glNormalPointer\0glOrtho\0glPassThrough\0glPixelMapfv\0glPixelMapusv\0glPixelMapuiv\0glPixelTransferi\0" +
+        "glPixelTransferf\0glPixelZoom\0glPolygonStipple\0glPushAttrib\0glPushClientAttrib\0glPopAttrib\0glPopClientAttrib\0glPopMatrix\0glPopName\0glPrioritizeTextures\0" +
+        "glPushMatrix\0glPushName\0glRasterPos2i\0glRasterPos2s\0glRasterPos2f\0glRasterPos2d\0glRasterPos2iv\0glRasterPos2sv\0glRasterPos2fv\0glRasterPos2dv\0" +
+        "glRasterPos3i\0glRasterPos3s\0glRasterPos3f\0glRasterPos3d\0glRasterPos3iv\0glRasterPos3sv\0glRasterPos3fv\0glRasterPos3dv\0glRasterPos4i\0glRasterPos4s\0" +
+        "glRasterPos4f\0glRasterPos4d\0glRasterPos4iv\0glRasterPos4sv\0glRasterPos4fv\0glRasterPos4dv\0glRecti\0glRects\0glRectf\0glRectd\0glRectiv\0glRectsv\0glRectfv\0" +
+        "glRectdv\0glRenderMode\0glRotatef\0glRotated\0glScalef\0glScaled\0glSelectBuffer\0glShadeModel\0glTexCoord1f\0glTexCoord1s\0glTexCoord1i\0glTexCoord1d\0" +
+        "glTexCoord1fv\0glTexCoord1sv\0glTexCoord1iv\0glTexCoord1dv\0glTexCoord2f\0glTexCoord2s\0glTexCoord2i\0glTexCoord2d\0glTexCoord2fv\0glTexCoord2sv\0glTexCoord2iv\0" +
+        "glTexCoord2dv\0glTexCoord3f\0glTexCoord3s\0glTexCoord3i\0glTexCoord3d\0glTexCoord3fv\0glTexCoord3sv\0glTexCoord3iv\0glTexCoord3dv\0glTexCoord4f\0glTexCoord4s\0" +
+        "glTexCoord4i\0glTexCoord4d\0glTexCoord4fv\0glTexCoord4sv\0glTexCoord4iv\0glTexCoord4dv\0glTexCoordPointer\0glTexEnvi\0glTexEnviv\0glTexEnvf\0glTexEnvfv\0" +
+        "glTexGeni\0glTexGeniv\0glTexGenf\0glTexGenfv\0glTexGend\0glTexGendv\0glTranslatef\0glTranslated\0glVertex2f\0glVertex2s\0glVertex2i\0glVertex2d\0glVertex2fv\0" +
+        "glVertex2sv\0glVertex2iv\0glVertex2dv\0glVertex3f\0glVertex3s\0glVertex3i\0glVertex3d\0glVertex3fv\0glVertex3sv\0glVertex3iv\0glVertex3dv\0glVertex4f\0" +
+        "glVertex4s\0glVertex4i\0glVertex4d\0glVertex4fv\0glVertex4sv\0glVertex4iv\0glVertex4dv\0glVertexPointer\0glEnable\0glDisable\0glBindTexture\0glBlendFunc\0" +
+        "glClear\0glClearColor\0glClearDepth\0glClearStencil\0glColorMask\0glCullFace\0glDepthFunc\0glDepthMask\0glDepthRange\0glDrawArrays\0glDrawBuffer\0glDrawElements\0" +
+        "glFinish\0glFlush\0glFrontFace\0glGenTextures\0glDeleteTextures\0glGetBooleanv\0glGetFloatv\0glGetIntegerv\0glGetDoublev\0glGetError\0glGetPointerv\0glGetString\0" +
+        "glGetTexImage\0glGetTexLevelParameteriv\0glGetTexLevelParameterfv\0glGetTexParameteriv\0glGetTexParameterfv\0glHint\0glIsEnabled\0glIsTexture\0glLineWidth\0" +
+        "glLogicOp\0glPixelStorei\0glPixelStoref\0glPointSize\0glPolygonMode\0glPolygonOffset\0glReadBuffer\0glReadPixels\0glScissor\0glStencilFunc\0glStencilMask\0" +
+        "glStencilOp\0glTexImage1D\0glTexImage2D\0glCopyTexImage1D\0glCopyTexImage2D\0glCopyTexSubImage1D\0glCopyTexSubImage2D\0glTexParameteri\0glTexParameteriv\0" +
+        "glTexParameterf\0glTexParameterfv\0glTexSubImage1D\0glTexSubImage2D\0glViewport\0glTexImage3D\0glTexSubImage3D\0glCopyTexSubImage3D\0glDrawRangeElements\0" +
+        "glClientActiveTexture\0glMultiTexCoord1f\0glMultiTexCoord1s\0glMultiTexCoord1i\0glMultiTexCoord1d\0glMultiTexCoord1fv\0glMultiTexCoord1sv\0glMultiTexCoord1iv\0" +
+        "glMultiTexCoord1dv\0glMultiTexCoord2f\0glMultiTexCoord2s\0glMultiTexCoord2i\0glMultiTexCoord2d\0glMultiTexCoord2fv\0glMultiTexCoord2sv\0glMultiTexCoord2iv\0" +
+        "glMultiTexCoord2dv\0glMultiTexCoord3f\0glMultiTexCoord3s\0glMultiTexCoord3i\0glMultiTexCoord3d\0glMultiTexCoord3fv\0glMultiTexCoord3sv\0glMultiTexCoord3iv\0" +
+        "glMultiTexCoord3dv\0glMultiTexCoord4f\0glMultiTexCoord4s\0glMultiTexCoord4i\0glMultiTexCoord4d\0glMultiTexCoord4fv\0glMultiTexCoord4sv\0glMultiTexCoord4iv\0" +
+        "glMultiTexCoord4dv\0glLoadTransposeMatrixf\0glLoadTransposeMatrixd\0glMultTransposeMatrixf\0glMultTransposeMatrixd\0glCompressedTexImage3D\0" +
+        "glCompressedTexImage2D\0glCompressedTexImage1D\0glCompressedTexSubImage3D\0glCompressedTexSubImage2D\0glCompressedTexSubImage1D\0glGetCompressedTexImage\0" +
+        "glSampleCoverage\0glActiveTexture\0glFogCoordf\0glFogCoordd\0glFogCoordfv\0glFogCoorddv\0glFogCoordPointer\0glSecondaryColor3b\0glSecondaryColor3s\0" +
+        "glSecondaryColor3i\0glSecondaryColor3f\0glSecondaryColor3d\0glSecondaryColor3ub\0glSecondaryColor3us\0glSecondaryColor3ui\0glSecondaryColor3bv\0" +
+        "glSecondaryColor3sv\0glSecondaryColor3iv\0glSecondaryColor3fv\0glSecondaryColor3dv\0glSecondaryColor3ubv\0glSecondaryColor3usv\0glSecondaryColor3uiv\0" +
+        "glSecondaryColorPointer\0glWindowPos2i\0glWindowPos2s\0glWindowPos2f\0glWindowPos2d\0glWindowPos2iv\0glWindowPos2sv\0glWindowPos2fv\0glWindowPos2dv\0" +
+        "glWindowPos3i\0glWindowPos3s\0glWindowPos3f\0glWindowPos3d\0glWindowPos3iv\0glWindowPos3sv\0glWindowPos3fv\0glWindowPos3dv\0glBlendColor\0glBlendEquation\0" +
+        "glMultiDrawArrays\0glMultiDrawElements\0glPointParameterf\0glPointParameteri\0glPointParameterfv\0glPointParameteriv\0glBlendFuncSeparate\0glBindBuffer\0" +
+        "glDeleteBuffers\0glGenBuffers\0glIsBuffer\0glBufferData\0glBufferSubData\0glGetBufferSubData\0glMapBuffer\0glUnmapBuffer\0glGetBufferParameteriv\0" +
+        "glGetBufferPointerv\0glGenQueries\0glDeleteQueries\0glIsQuery\0glBeginQuery\0glEndQuery\0glGetQueryiv\0glGetQueryObjectiv\0glGetQueryObjectuiv\0glCreateProgram\0" +
+        "glDeleteProgram\0glIsProgram\0glCreateShader\0glDeleteShader\0glIsShader\0glAttachShader\0glDetachShader\0glShaderSource\0glCompileShader\0glLinkProgram\0" +
+        "glUseProgram\0glValidateProgram\0glUniform1f\0glUniform2f\0glUniform3f\0glUniform4f\0glUniform1i\0glUniform2i\0glUniform3i\0glUniform4i\0glUniform1fv\0" +
+        "glUniform2fv\0glUniform3fv\0glUniform4fv\0glUniform1iv\0glUniform2iv\0glUniform3iv\0glUniform4iv\0glUniformMatrix2fv\0glUniformMatrix3fv\0glUniformMatrix4fv\0" +
+        "glGetShaderiv\0glGetProgramiv\0glGetShaderInfoLog\0glGetProgramInfoLog\0glGetAttachedShaders\0glGetUniformLocation\0glGetActiveUniform\0glGetUniformfv\0" +
+        "glGetUniformiv\0glGetShaderSource\0glVertexAttrib1f\0glVertexAttrib1s\0glVertexAttrib1d\0glVertexAttrib2f\0glVertexAttrib2s\0glVertexAttrib2d\0glVertexAttrib3f\0" +
+        "glVertexAttrib3s\0glVertexAttrib3d\0glVertexAttrib4f\0glVertexAttrib4s\0glVertexAttrib4d\0glVertexAttrib4Nub\0glVertexAttrib1fv\0glVertexAttrib1sv\0" +
+        "glVertexAttrib1dv\0glVertexAttrib2fv\0glVertexAttrib2sv\0glVertexAttrib2dv\0glVertexAttrib3fv\0glVertexAttrib3sv\0glVertexAttrib3dv\0glVertexAttrib4fv\0" +
+        "glVertexAttrib4sv\0glVertexAttrib4dv\0glVertexAttrib4iv\0glVertexAttrib4bv\0glVertexAttrib4ubv\0glVertexAttrib4usv\0glVertexAttrib4uiv\0glVertexAttrib4Nbv\0" +
+        "glVertexAttrib4Nsv\0glVertexAttrib4Niv\0glVertexAttrib4Nubv\0glVertexAttrib4Nusv\0glVertexAttrib4Nuiv\0glVertexAttribPointer\0glEnableVertexAttribArray\0" +
+        "glDisableVertexAttribArray\0glBindAttribLocation\0glGetActiveAttrib\0glGetAttribLocation\0glGetVertexAttribiv\0glGetVertexAttribfv\0glGetVertexAttribdv\0" +
+        "glGetVertexAttribPointerv\0glDrawBuffers\0glBlendEquationSeparate\0glStencilOpSeparate\0glStencilFuncSeparate\0glStencilMaskSeparate\0glUniformMatrix2x3fv\0" +
+        "glUniformMatrix3x2fv\0glUniformMatrix2x4fv\0glUniformMatrix4x2fv\0glUniformMatrix3x4fv\0glUniformMatrix4x3fv\0glGetStringi\0glClearBufferiv\0glClearBufferuiv\0" +
+        "glClearBufferfv\0glClearBufferfi\0glVertexAttribI1i\0glVertexAttribI2i\0glVertexAttribI3i\0glVertexAttribI4i\0glVertexAttribI1ui\0glVertexAttribI2ui\0" +
+        "glVertexAttribI3ui\0glVertexAttribI4ui\0glVertexAttribI1iv\0glVertexAttribI2iv\0glVertexAttribI3iv\0glVertexAttribI4iv\0glVertexAttribI1uiv\0glVertexAttribI2uiv\0" +
+        "glVertexAttribI3uiv\0glVertexAttribI4uiv\0glVertexAttribI4bv\0glVertexAttribI4sv\0glVertexAttribI4ubv\0glVertexAttribI4usv\0glVertexAttribIPointer\0" +
+        "glGetVertexAttribIiv\0glGetVertexAttribIuiv\0glUniform1ui\0glUniform2ui\0glUniform3ui\0glUniform4ui\0glUniform1uiv\0glUniform2uiv\0glUniform3uiv\0glUniform4uiv\0" +
+        "glGetUniformuiv\0glBindFragDataLocation\0glGetFragDataLocation\0glBeginConditionalRender\0glEndConditionalRender\0glMapBufferRange\0glFlushMappedBufferRange\0" +
+        "glClampColor\0glIsRenderbuffer\0glBindRenderbuffer\0glDeleteRenderbuffers\0glGenRenderbuffers\0glRenderbufferStorage\0glRenderbufferStorageMultisample\0" +
+        "glGetRenderbufferParameteriv\0glIsFramebuffer\0glBindFramebuffer\0glDeleteFramebuffers\0glGenFramebuffers\0glCheckFramebufferStatus\0glFramebufferTexture1D\0" +
+        "glFramebufferTexture2D\0glFramebufferTexture3D\0glFramebufferTextureLayer\0glFramebufferRenderbuffer\0glGetFramebufferAttachmentParameteriv\0glBlitFramebuffer\0" +
+        "glGenerateMipmap\0glTexParameterIiv\0glTexParameterIuiv\0glGetTexParameterIiv\0glGetTexParameterIuiv\0glColorMaski\0glGetBooleani_v\0glGetIntegeri_v\0glEnablei\0" +
+        "glDisablei\0glIsEnabledi\0glBindBufferRange\0glBindBufferBase\0glBeginTransformFeedback\0glEndTransformFeedback\0glTransformFeedbackVaryings\0" +
+        "glGetTransformFeedbackVarying\0glBindVertexArray\0glDeleteVertexArrays\0glGenVertexArrays\0glIsVertexArray\0glDrawArraysInstanced\0glDrawElementsInstanced\0" +
+        "glCopyBufferSubData\0glPrimitiveRestartIndex\0glTexBuffer\0glGetUniformIndices\0glGetActiveUniformsiv\0glGetActiveUniformName\0glGetUniformBlockIndex\0" +
+        "glGetActiveUniformBlockiv\0glGetActiveUniformBlockName\0glUniformBlockBinding\0glGetBufferParameteri64v\0glDrawElementsBaseVertex\0glDrawRangeElementsBaseVertex\0" +
+        "glDrawElementsInstancedBaseVertex\0glMultiDrawElementsBaseVertex\0glProvokingVertex\0glTexImage2DMultisample\0glTexImage3DMultisample\0glGetMultisamplefv\0" +
+        "glSampleMaski\0glFramebufferTexture\0glFenceSync\0glIsSync\0glDeleteSync\0glClientWaitSync\0glWaitSync\0glGetInteger64v\0glGetInteger64i_v\0glGetSynciv\0" +
+        "glVertexP2ui\0glVertexP3ui\0glVertexP4ui\0glVertexP2uiv\0glVertexP3uiv\0glVertexP4uiv\0glTexCoordP1ui\0glTexCoordP2ui\0glTexCoordP3ui\0glTexCoordP4ui\0" +
+        "glTexCoordP1uiv\0glTexCoordP2uiv\0glTexCoordP3uiv\0glTexCoordP4uiv\0glMultiTexCoordP1ui\0glMultiTexCoordP2ui\0glMultiTexCoordP3ui\0glMultiTexCoordP4ui\0" +
+        "glMultiTexCoordP1uiv\0glMultiTexCoordP2uiv\0glMultiTexCoordP3uiv\0glMultiTexCoordP4uiv\0glNormalP3ui\0glNormalP3uiv\0glColorP3ui\0glColorP4ui\0glColorP3uiv\0" +
+        "glColorP4uiv\0glSecondaryColorP3ui\0glSecondaryColorP3uiv\0glBindFragDataLocationIndexed\0glGetFragDataIndex\0glGenSamplers\0glDeleteSamplers\0glIsSampler\0" +
+        "glBindSampler\0glSamplerParameteri\0glSamplerParameterf\0glSamplerParameteriv\0glSamplerParameterfv\0glSamplerParameterIiv\0glSamplerParameterIuiv\0" +
+        "glGetSamplerParameteriv\0glGetSamplerParameterfv\0glGetSamplerParameterIiv\0glGetSamplerParameterIuiv\0glQueryCounter\0glGetQueryObjecti64v\0" +
+        "glGetQueryObjectui64v\0glVertexAttribDivisor\0glVertexAttribP1ui\0glVertexAttribP2ui\0glVertexAttribP3ui\0glVertexAttribP4ui\0glVertexAttribP1uiv\0" +
+        "glVertexAttribP2uiv\0glVertexAttribP3uiv\0glVertexAttribP4uiv\0glBlendEquationi\0glBlendEquationSeparatei\0glBlendFunci\0glBlendFuncSeparatei\0" +
+        "glDrawArraysIndirect\0glDrawElementsIndirect\0glUniform1d\0glUniform2d\0glUniform3d\0glUniform4d\0glUniform1dv\0glUniform2dv\0glUniform3dv\0glUniform4dv\0" +
+        "glUniformMatrix2dv\0glUniformMatrix3dv\0glUniformMatrix4dv\0glUniformMatrix2x3dv\0glUniformMatrix2x4dv\0glUniformMatrix3x2dv\0glUniformMatrix3x4dv\0" +
+        "glUniformMatrix4x2dv\0glUniformMatrix4x3dv\0glGetUniformdv\0glMinSampleShading\0glGetSubroutineUniformLocation\0glGetSubroutineIndex\0" +
+        "glGetActiveSubroutineUniformiv\0glGetActiveSubroutineUniformName\0glGetActiveSubroutineName\0glUniformSubroutinesuiv\0glGetUniformSubroutineuiv\0" +
+        "glGetProgramStageiv\0glPatchParameteri\0glPatchParameterfv\0glBindTransformFeedback\0glDeleteTransformFeedbacks\0glGenTransformFeedbacks\0glIsTransformFeedback\0" +
+        "glPauseTransformFeedback\0glResumeTransformFeedback\0glDrawTransformFeedback\0glDrawTransformFeedbackStream\0glBeginQueryIndexed\0glEndQueryIndexed\0" +
+        "glGetQueryIndexediv\0glReleaseShaderCompiler\0glShaderBinary\0glGetShaderPrecisionFormat\0glDepthRangef\0glClearDepthf\0glGetProgramBinary\0glProgramBinary\0" +
+        "glProgramParameteri\0glUseProgramStages\0glActiveShaderProgram\0glCreateShaderProgramv\0glBindProgramPipeline\0glDeleteProgramPipelines\0glGenProgramPipelines\0" +
+        "glIsProgramPipeline\0glGetProgramPipelineiv\0glProgramUniform1i\0glProgramUniform2i\0glProgramUniform3i\0glProgramUniform4i\0glProgramUniform1ui\0" +
+        "glProgramUniform2ui\0glProgramUniform3ui\0glProgramUniform4ui\0glProgramUniform1f\0glProgramUniform2f\0glProgramUniform3f\0glProgramUniform4f\0" +
+        "glProgramUniform1d\0glProgramUniform2d\0glProgramUniform3d\0glProgramUniform4d\0glProgramUniform1iv\0glProgramUniform2iv\0glProgramUniform3iv\0" +
+        "glProgramUniform4iv\0glProgramUniform1uiv\0glProgramUniform2uiv\0glProgramUniform3uiv\0glProgramUniform4uiv\0glProgramUniform1fv\0glProgramUniform2fv\0" +
+        "glProgramUniform3fv\0glProgramUniform4fv\0glProgramUniform1dv\0glProgramUniform2dv\0glProgramUniform3dv\0glProgramUniform4dv\0glProgramUniformMatrix2fv\0" +
+        "glProgramUniformMatrix3fv\0glProgramUniformMatrix4fv\0glProgramUniformMatrix2dv\0glProgramUniformMatrix3dv\0glProgramUniformMatrix4dv\0" +
+        "glProgramUniformMatrix2x3fv\0glProgramUniformMatrix3x2fv\0glProgramUniformMatrix2x4fv\0glProgramUniformMatrix4x2fv\0glProgramUniformMatrix3x4fv\0" +
+        "glProgramUniformMatrix4x3fv\0glProgramUniformMatrix2x3dv\0glProgramUniformMatrix3x2dv\0glProgramUniformMatrix2x4dv\0glProgramUniformMatrix4x2dv\0" +
+        "glProgramUniformMatrix3x4dv\0glProgramUniformMatrix4x3dv\0glValidateProgramPipeline\0glGetProgramPipelineInfoLog\0glVertexAttribL1d\0glVertexAttribL2d\0" +
+        "glVertexAttribL3d\0glVertexAttribL4d\0glVertexAttribL1dv\0glVertexAttribL2dv\0glVertexAttribL3dv\0glVertexAttribL4dv\0glVertexAttribLPointer\0" +
+        "glGetVertexAttribLdv\0glViewportArrayv\0glViewportIndexedf\0glViewportIndexedfv\0glScissorArrayv\0glScissorIndexed\0glScissorIndexedv\0glDepthRangeArrayv\0" +
+        "glDepthRangeIndexed\0glGetFloati_v\0glGetDoublei_v\0glGetActiveAtomicCounterBufferiv\0glTexStorage1D\0glTexStorage2D\0glTexStorage3D\0" +
+        "glDrawTransformFeedbackInstanced\0glDrawTransformFeedbackStreamInstanced\0glDrawArraysInstancedBaseInstance\0glDrawElementsInstancedBaseInstance\0" +
+        "glDrawElementsInstancedBaseVertexBaseInstance\0glBindImageTexture\0glMemoryBarrier\0glGetInternalformativ\0glClearBufferData\0glClearBufferSubData\0" +
+        "glDispatchCompute\0glDispatchComputeIndirect\0glCopyImageSubData\0glDebugMessageControl\0glDebugMessageInsert\0glDebugMessageCallback\0glGetDebugMessageLog\0" +
+        "glPushDebugGroup\0glPopDebugGroup\0glObjectLabel\0glGetObjectLabel\0glObjectPtrLabel\0glGetObjectPtrLabel\0glFramebufferParameteri\0glGetFramebufferParameteriv\0" +
+        "glGetInternalformati64v\0glInvalidateTexSubImage\0glInvalidateTexImage\0glInvalidateBufferSubData\0glInvalidateBufferData\0glInvalidateFramebuffer\0" +
+        "glInvalidateSubFramebuffer\0glMultiDrawArraysIndirect\0glMultiDrawElementsIndirect\0glGetProgramInterfaceiv\0glGetProgramResourceIndex\0glGetProgramResourceName\0" +
+        "glGetProgramResourceiv\0glGetProgramResourceLocation\0glGetProgramResourceLocationIndex\0glShaderStorageBlockBinding\0glTexBufferRange\0" +
+        "glTexStorage2DMultisample\0glTexStorage3DMultisample\0glTextureView\0glBindVertexBuffer\0glVertexAttribFormat\0glVertexAttribIFormat\0glVertexAttribLFormat\0" +
+        "glVertexAttribBinding\0glVertexBindingDivisor\0glBufferStorage\0glClearTexSubImage\0glClearTexImage\0glBindBuffersBase\0glBindBuffersRange\0glBindTextures\0" +
+        "glBindSamplers\0glBindImageTextures\0glBindVertexBuffers\0glGetnMapdv\0glGetnMapfv\0glGetnMapiv\0glGetnPixelMapfv\0glGetnPixelMapuiv\0glGetnPixelMapusv\0" +
+        "glGetnPolygonStipple\0glGetnColorTable\0glGetnConvolutionFilter\0glGetnSeparableFilter\0glGetnHistogram\0glGetnMinmax\0glClipControl\0glCreateTransformFeedbacks\0" +
+        "glTransformFeedbackBufferBase\0glTransformFeedbackBufferRange\0glGetTransformFeedbackiv\0glGetTransformFeedbacki_v\0glGetTransformFeedbacki64_v\0glCreateBuffers\0" +
+        "glNamedBufferStorage\0glNamedBufferData\0glNamedBufferSubData\0glCopyNamedBufferSubData\0glClearNamedBufferData\0glClearNamedBufferSubData\0glMapNamedBuffer\0" +
+        "glMapNamedBufferRange\0glUnmapNamedBuffer\0glFlushMappedNamedBufferRange\0glGetNamedBufferParameteriv\0glGetNamedBufferParameteri64v\0glGetNamedBufferPointerv\0" +
+        "glGetNamedBufferSubData\0glCreateFramebuffers\0glNamedFramebufferRenderbuffer\0glNamedFramebufferParameteri\0glNamedFramebufferTexture\0" +
+        "glNamedFramebufferTextureLayer\0glNamedFramebufferDrawBuffer\0glNamedFramebufferDrawBuffers\0glNamedFramebufferReadBuffer\0glInvalidateNamedFramebufferData\0" +
+        "glInvalidateNamedFramebufferSubData\0glClearNamedFramebufferiv\0glClearNamedFramebufferuiv\0glClearNamedFramebufferfv\0glClearNamedFramebufferfi\0" +
+        "glBlitNamedFramebuffer\0glCheckNamedFramebufferStatus\0glGetNamedFramebufferParameteriv\0glGetNamedFramebufferAttachmentParameteriv\0glCreateRenderbuffers\0" +
+        "glNamedRenderbufferStorage\0glNamedRenderbufferStorageMultisample\0glGetNamedRenderbufferParameteriv\0glCreateTextures\0glTextureBuffer\0glTextureBufferRange\0" +
+        "glTextureStorage1D\0glTextureStorage2D\0glTextureStorage3D\0glTextureStorage2DMultisample\0glTextureStorage3DMultisample\0glTextureSubImage1D\0" +
+        "glTextureSubImage2D\0glTextureSubImage3D\0glCompressedTextureSubImage1D\0glCompressedTextureSubImage2D\0glCompressedTextureSubImage3D\0glCopyTextureSubImage1D\0" +
+        "glCopyTextureSubImage2D\0glCopyTextureSubImage3D\0glTextureParameterf\0glTextureParameterfv\0glTextureParameteri\0glTextureParameterIiv\0glTextureParameterIuiv\0" +
+        "glTextureParameteriv\0glGenerateTextureMipmap\0glBindTextureUnit\0glGetTextureImage\0glGetCompressedTextureImage\0glGetTextureLevelParameterfv\0" +
+        "glGetTextureLevelParameteriv\0glGetTextureParameterfv\0glGetTextureParameterIiv\0glGetTextureParameterIuiv\0glGetTextureParameteriv\0glCreateVertexArrays\0" +
+        "glDisableVertexArrayAttrib\0glEnableVertexArrayAttrib\0glVertexArrayElementBuffer\0glVertexArrayVertexBuffer\0glVertexArrayVertexBuffers\0" +
+        "glVertexArrayAttribFormat\0glVertexArrayAttribIFormat\0glVertexArrayAttribLFormat\0glVertexArrayAttribBinding\0glVertexArrayBindingDivisor\0glGetVertexArrayiv\0" +
+        "glGetVertexArrayIndexediv\0glGetVertexArrayIndexed64iv\0glCreateSamplers\0glCreateProgramPipelines\0glCreateQueries\0glGetQueryBufferObjectiv\0" +
+        "glGetQueryBufferObjectuiv\0glGetQueryBufferObjecti64v\0glGetQueryBufferObjectui64v\0glMemoryBarrierByRegion\0glGetTextureSubImage\0" +
+        "glGetCompressedTextureSubImage\0glTextureBarrier\0glGetGraphicsResetStatus\0glGetnTexImage\0glReadnPixels\0glGetnCompressedTexImage\0glGetnUniformfv\0" +
+        "glGetnUniformdv\0glGetnUniformiv\0glGetnUniformuiv\0glMultiDrawArraysIndirectCount\0glMultiDrawElementsIndirectCount\0glPolygonOffsetClamp\0glSpecializeShader\0" +
+        "glDebugMessageEnableAMD\0glDebugMessageInsertAMD\0glDebugMessageCallbackAMD\0glGetDebugMessageLogAMD\0glBlendFuncIndexedAMD\0glBlendFuncSeparateIndexedAMD\0" +
+        "glBlendEquationIndexedAMD\0glBlendEquationSeparateIndexedAMD\0glRenderbufferStorageMultisampleAdvancedAMD\0glNamedRenderbufferStorageMultisampleAdvancedAMD\0" +
+        "glVertexAttribParameteriAMD\0glQueryObjectParameteruiAMD\0glGetPerfMonitorGroupsAMD\0glGetPerfMonitorCountersAMD\0glGetPerfMonitorGroupStringAMD\0" +
+        "glGetPerfMonitorCounterStringAMD\0glGetPerfMonitorCounterInfoAMD\0glGenPerfMonitorsAMD\0glDeletePerfMonitorsAMD\0glSelectPerfMonitorCountersAMD\0" +
+        "glBeginPerfMonitorAMD\0glEndPerfMonitorAMD\0glGetPerfMonitorCounterDataAMD\0glSetMultisamplefvAMD\0glTexStorageSparseAMD\0glTextureStorageSparseAMD\0" +
+        "glStencilOpValueAMD\0glTessellationFactorAMD\0glTessellationModeAMD\0glGetTextureHandleARB\0glGetTextureSamplerHandleARB\0glMakeTextureHandleResidentARB\0" +
+        "glMakeTextureHandleNonResidentARB\0glGetImageHandleARB\0glMakeImageHandleResidentARB\0glMakeImageHandleNonResidentARB\0glUniformHandleui64ARB\0" +
+        "glUniformHandleui64vARB\0glProgramUniformHandleui64ARB\0glProgramUniformHandleui64vARB\0glIsTextureHandleResidentARB\0glIsImageHandleResidentARB\0" +
+        "glVertexAttribL1ui64ARB\0glVertexAttribL1ui64vARB\0glGetVertexAttribLui64vARB\0glNamedBufferStorageEXT\0glCreateSyncFromCLeventARB\0glClearNamedBufferDataEXT\0" +
+        "glClearNamedBufferSubDataEXT\0glClampColorARB\0glDispatchComputeGroupSizeARB\0glDebugMessageControlARB\0glDebugMessageInsertARB\0glDebugMessageCallbackARB\0" +
+        "glGetDebugMessageLogARB\0glDrawBuffersARB\0glBlendEquationiARB\0glBlendEquationSeparateiARB\0glBlendFunciARB\0glBlendFuncSeparateiARB\0glDrawArraysInstancedARB\0" +
+        "glDrawElementsInstancedARB\0glPrimitiveBoundingBoxARB\0glNamedFramebufferParameteriEXT\0glGetNamedFramebufferParameterivEXT\0glProgramParameteriARB\0" +
+        "glFramebufferTextureARB\0glFramebufferTextureLayerARB\0glFramebufferTextureFaceARB\0glSpecializeShaderARB\0glProgramUniform1dEXT\0glProgramUniform2dEXT\0" +
+        "glProgramUniform3dEXT\0glProgramUniform4dEXT\0glProgramUniform1dvEXT\0glProgramUniform2dvEXT\0glProgramUniform3dvEXT\0glProgramUniform4dvEXT\0" +
+        "glProgramUniformMatrix2dvEXT\0glProgramUniformMatrix3dvEXT\0glProgramUniformMatrix4dvEXT\0glProgramUniformMatrix2x3dvEXT\0glProgramUniformMatrix2x4dvEXT\0" +
+        "glProgramUniformMatrix3x2dvEXT\0glProgramUniformMatrix3x4dvEXT\0glProgramUniformMatrix4x2dvEXT\0glProgramUniformMatrix4x3dvEXT\0glUniform1i64ARB\0" +
+        "glUniform1i64vARB\0glProgramUniform1i64ARB\0glProgramUniform1i64vARB\0glUniform2i64ARB\0glUniform2i64vARB\0glProgramUniform2i64ARB\0glProgramUniform2i64vARB\0" +
+        "glUniform3i64ARB\0glUniform3i64vARB\0glProgramUniform3i64ARB\0glProgramUniform3i64vARB\0glUniform4i64ARB\0glUniform4i64vARB\0glProgramUniform4i64ARB\0" +
+        "glProgramUniform4i64vARB\0glUniform1ui64ARB\0glUniform1ui64vARB\0glProgramUniform1ui64ARB\0glProgramUniform1ui64vARB\0glUniform2ui64ARB\0glUniform2ui64vARB\0" +
+        "glProgramUniform2ui64ARB\0glProgramUniform2ui64vARB\0glUniform3ui64ARB\0glUniform3ui64vARB\0glProgramUniform3ui64ARB\0glProgramUniform3ui64vARB\0" +
+        "glUniform4ui64ARB\0glUniform4ui64vARB\0glProgramUniform4ui64ARB\0glProgramUniform4ui64vARB\0glGetUniformi64vARB\0glGetUniformui64vARB\0glGetnUniformi64vARB\0" +
+        "glGetnUniformui64vARB\0glColorTable\0glCopyColorTable\0glColorTableParameteriv\0glColorTableParameterfv\0glGetColorTable\0glGetColorTableParameteriv\0" +
+        "glGetColorTableParameterfv\0glColorSubTable\0glCopyColorSubTable\0glConvolutionFilter1D\0glConvolutionFilter2D\0glCopyConvolutionFilter1D\0" +
+        "glCopyConvolutionFilter2D\0glGetConvolutionFilter\0glSeparableFilter2D\0glGetSeparableFilter\0glConvolutionParameteri\0glConvolutionParameteriv\0" +
+        "glConvolutionParameterf\0glConvolutionParameterfv\0glGetConvolutionParameteriv\0glGetConvolutionParameterfv\0glHistogram\0glResetHistogram\0glGetHistogram\0" +
+        "glGetHistogramParameteriv\0glGetHistogramParameterfv\0glMinmax\0glResetMinmax\0glGetMinmax\0glGetMinmaxParameteriv\0glGetMinmaxParameterfv\0" +
+        "glMultiDrawArraysIndirectCountARB\0glMultiDrawElementsIndirectCountARB\0glVertexAttribDivisorARB\0glVertexArrayVertexAttribDivisorEXT\0glCurrentPaletteMatrixARB\0" +
+        "glMatrixIndexuivARB\0glMatrixIndexubvARB\0glMatrixIndexusvARB\0glMatrixIndexPointerARB\0glSampleCoverageARB\0glActiveTextureARB\0glClientActiveTextureARB\0" +
+        "glMultiTexCoord1fARB\0glMultiTexCoord1sARB\0glMultiTexCoord1iARB\0glMultiTexCoord1dARB\0glMultiTexCoord1fvARB\0glMultiTexCoord1svARB\0glMultiTexCoord1ivARB\0" +
+        "glMultiTexCoord1dvARB\0glMultiTexCoord2fARB\0glMultiTexCoord2sARB\0glMultiTexCoord2iARB\0glMultiTexCoord2dARB\0glMultiTexCoord2fvARB\0glMultiTexCoord2svARB\0" +
+        "glMultiTexCoord2ivARB\0glMultiTexCoord2dvARB\0glMultiTexCoord3fARB\0glMultiTexCoord3sARB\0glMultiTexCoord3iARB\0glMultiTexCoord3dARB\0glMultiTexCoord3fvARB\0" +
+        "glMultiTexCoord3svARB\0glMultiTexCoord3ivARB\0glMultiTexCoord3dvARB\0glMultiTexCoord4fARB\0glMultiTexCoord4sARB\0glMultiTexCoord4iARB\0glMultiTexCoord4dARB\0" +
+        "glMultiTexCoord4fvARB\0glMultiTexCoord4svARB\0glMultiTexCoord4ivARB\0glMultiTexCoord4dvARB\0glGenQueriesARB\0glDeleteQueriesARB\0glIsQueryARB\0glBeginQueryARB\0" +
+        "glEndQueryARB\0glGetQueryivARB\0glGetQueryObjectivARB\0glGetQueryObjectuivARB\0glMaxShaderCompilerThreadsARB\0glPointParameterfARB\0glPointParameterfvARB\0" +
+        "glGetGraphicsResetStatusARB\0glGetnMapdvARB\0glGetnMapfvARB\0glGetnMapivARB\0glGetnPixelMapfvARB\0glGetnPixelMapuivARB\0glGetnPixelMapusvARB\0" +
+        "glGetnPolygonStippleARB\0glGetnTexImageARB\0glReadnPixelsARB\0glGetnColorTableARB\0glGetnConvolutionFilterARB\0glGetnSeparableFilterARB\0glGetnHistogramARB\0" +
+        "glGetnMinmaxARB\0glGetnCompressedTexImageARB\0glGetnUniformfvARB\0glGetnUniformivARB\0glGetnUniformuivARB\0glGetnUniformdvARB\0glFramebufferSampleLocationsfvARB\0" +
+        "glNamedFramebufferSampleLocationsfvARB\0glEvaluateDepthValuesARB\0glMinSampleShadingARB\0glDeleteObjectARB\0glGetHandleARB\0glDetachObjectARB\0" +
+        "glCreateShaderObjectARB\0glShaderSourceARB\0glCompileShaderARB\0glCreateProgramObjectARB\0glAttachObjectARB\0glLinkProgramARB\0glUseProgramObjectARB\0" +
+        "glValidateProgramARB\0glUniform1fARB\0glUniform2fARB\0glUniform3fARB\0glUniform4fARB\0glUniform1iARB\0glUniform2iARB\0glUniform3iARB\0glUniform4iARB\0" +
+        "glUniform1fvARB\0glUniform2fvARB\0glUniform3fvARB\0glUniform4fvARB\0glUniform1ivARB\0glUniform2ivARB\0glUniform3ivARB\0glUniform4ivARB\0glUniformMatrix2fvARB\0" +
+        "glUniformMatrix3fvARB\0glUniformMatrix4fvARB\0glGetObjectParameterfvARB\0glGetObjectParameterivARB\0glGetInfoLogARB\0glGetAttachedObjectsARB\0" +
+        "glGetUniformLocationARB\0glGetActiveUniformARB\0glGetUniformfvARB\0glGetUniformivARB\0glGetShaderSourceARB\0glNamedStringARB\0glDeleteNamedStringARB\0" +
+        "glCompileShaderIncludeARB\0glIsNamedStringARB\0glGetNamedStringARB\0glGetNamedStringivARB\0glBufferPageCommitmentARB\0glNamedBufferPageCommitmentEXT\0" +
+        "glNamedBufferPageCommitmentARB\0glTexPageCommitmentARB\0glTexturePageCommitmentEXT\0glTexBufferARB\0glTextureBufferRangeEXT\0glCompressedTexImage3DARB\0" +
+        "glCompressedTexImage2DARB\0glCompressedTexImage1DARB\0glCompressedTexSubImage3DARB\0glCompressedTexSubImage2DARB\0glCompressedTexSubImage1DARB\0" +
+        "glGetCompressedTexImageARB\0glTextureStorage1DEXT\0glTextureStorage2DEXT\0glTextureStorage3DEXT\0glTextureStorage2DMultisampleEXT\0" +
+        "glTextureStorage3DMultisampleEXT\0glLoadTransposeMatrixfARB\0glLoadTransposeMatrixdARB\0glMultTransposeMatrixfARB\0glMultTransposeMatrixdARB\0" +
+        "glVertexArrayVertexAttribLOffsetEXT\0glVertexArrayBindVertexBufferEXT\0glVertexArrayVertexAttribFormatEXT\0glVertexArrayVertexAttribIFormatEXT\0" +
+        "glVertexArrayVertexAttribLFormatEXT\0glVertexArrayVertexAttribBindingEXT\0glVertexArrayVertexBindingDivisorEXT\0glWeightfvARB\0glWeightbvARB\0glWeightubvARB\0" +
+        "glWeightsvARB\0glWeightusvARB\0glWeightivARB\0glWeightuivARB\0glWeightdvARB\0glWeightPointerARB\0glVertexBlendARB\0glBindBufferARB\0glDeleteBuffersARB\0" +
+        "glGenBuffersARB\0glIsBufferARB\0glBufferDataARB\0glBufferSubDataARB\0glGetBufferSubDataARB\0glMapBufferARB\0glUnmapBufferARB\0glGetBufferParameterivARB\0" +
+        "glGetBufferPointervARB\0glProgramStringARB\0glBindProgramARB\0glDeleteProgramsARB\0glGenProgramsARB\0glProgramEnvParameter4dARB\0glProgramEnvParameter4dvARB\0" +
+        "glProgramEnvParameter4fARB\0glProgramEnvParameter4fvARB\0glProgramLocalParameter4dARB\0glProgramLocalParameter4dvARB\0glProgramLocalParameter4fARB\0" +
+        "glProgramLocalParameter4fvARB\0glGetProgramEnvParameterfvARB\0glGetProgramEnvParameterdvARB\0glGetProgramLocalParameterfvARB\0glGetProgramLocalParameterdvARB\0" +
+        "glGetProgramivARB\0glGetProgramStringARB\0glIsProgramARB\0glVertexAttrib1fARB\0glVertexAttrib1sARB\0glVertexAttrib1dARB\0glVertexAttrib2fARB\0" +
+        "glVertexAttrib2sARB\0glVertexAttrib2dARB\0glVertexAttrib3fARB\0glVertexAttrib3sARB\0glVertexAttrib3dARB\0glVertexAttrib4fARB\0glVertexAttrib4sARB\0" +
+        "glVertexAttrib4dARB\0glVertexAttrib4NubARB\0glVertexAttrib1fvARB\0glVertexAttrib1svARB\0glVertexAttrib1dvARB\0glVertexAttrib2fvARB\0glVertexAttrib2svARB\0" +
+        "glVertexAttrib2dvARB\0glVertexAttrib3fvARB\0glVertexAttrib3svARB\0glVertexAttrib3dvARB\0glVertexAttrib4fvARB\0glVertexAttrib4svARB\0glVertexAttrib4dvARB\0" +
+        "glVertexAttrib4ivARB\0glVertexAttrib4bvARB\0glVertexAttrib4ubvARB\0glVertexAttrib4usvARB\0glVertexAttrib4uivARB\0glVertexAttrib4NbvARB\0glVertexAttrib4NsvARB\0" +
+        "glVertexAttrib4NivARB\0glVertexAttrib4NubvARB\0glVertexAttrib4NusvARB\0glVertexAttrib4NuivARB\0glVertexAttribPointerARB\0glEnableVertexAttribArrayARB\0" +
+        "glDisableVertexAttribArrayARB\0glBindAttribLocationARB\0glGetActiveAttribARB\0glGetAttribLocationARB\0glGetVertexAttribivARB\0glGetVertexAttribfvARB\0" +
+        "glGetVertexAttribdvARB\0glGetVertexAttribPointervARB\0glWindowPos2iARB\0glWindowPos2sARB\0glWindowPos2fARB\0glWindowPos2dARB\0glWindowPos2ivARB\0" +
+        "glWindowPos2svARB\0glWindowPos2fvARB\0glWindowPos2dvARB\0glWindowPos3iARB\0glWindowPos3sARB\0glWindowPos3fARB\0glWindowPos3dARB\0glWindowPos3ivARB\0" +
+        "glWindowPos3svARB\0glWindowPos3fvARB\0glWindowPos3dvARB\0glUniformBufferEXT\0glGetUniformBufferSizeEXT\0glGetUniformOffsetEXT\0glBlendColorEXT\0" +
+        "glBlendEquationSeparateEXT\0glBlendFuncSeparateEXT\0glBlendEquationEXT\0glLockArraysEXT\0glUnlockArraysEXT\0glLabelObjectEXT\0glGetObjectLabelEXT\0" +
+        "glInsertEventMarkerEXT\0glPushGroupMarkerEXT\0glPopGroupMarkerEXT\0glDepthBoundsEXT\0glClientAttribDefaultEXT\0glPushClientAttribDefaultEXT\0glMatrixLoadfEXT\0" +
+        "glMatrixLoaddEXT\0glMatrixMultfEXT\0glMatrixMultdEXT\0glMatrixLoadIdentityEXT\0glMatrixRotatefEXT\0glMatrixRotatedEXT\0glMatrixScalefEXT\0glMatrixScaledEXT\0" +
+        "glMatrixTranslatefEXT\0glMatrixTranslatedEXT\0glMatrixOrthoEXT\0glMatrixFrustumEXT\0glMatrixPushEXT\0glMatrixPopEXT\0glTextureParameteriEXT\0" +
+        "glTextureParameterivEXT\0glTextureParameterfEXT\0glTextureParameterfvEXT\0glTextureImage1DEXT\0glTextureImage2DEXT\0glTextureSubImage1DEXT\0" +
+        "glTextureSubImage2DEXT\0glCopyTextureImage1DEXT\0glCopyTextureImage2DEXT\0glCopyTextureSubImage1DEXT\0glCopyTextureSubImage2DEXT\0glGetTextureImageEXT\0" +
+        "glGetTextureParameterfvEXT\0glGetTextureParameterivEXT\0glGetTextureLevelParameterfvEXT\0glGetTextureLevelParameterivEXT\0glTextureImage3DEXT\0" +
+        "glTextureSubImage3DEXT\0glCopyTextureSubImage3DEXT\0glBindMultiTextureEXT\0glMultiTexCoordPointerEXT\0glMultiTexEnvfEXT\0glMultiTexEnvfvEXT\0glMultiTexEnviEXT\0" +
+        "glMultiTexEnvivEXT\0glMultiTexGendEXT\0glMultiTexGendvEXT\0glMultiTexGenfEXT\0glMultiTexGenfvEXT\0glMultiTexGeniEXT\0glMultiTexGenivEXT\0glGetMultiTexEnvfvEXT\0" +
+        "glGetMultiTexEnvivEXT\0glGetMultiTexGendvEXT\0glGetMultiTexGenfvEXT\0glGetMultiTexGenivEXT\0glMultiTexParameteriEXT\0glMultiTexParameterivEXT\0" +
+        "glMultiTexParameterfEXT\0glMultiTexParameterfvEXT\0glMultiTexImage1DEXT\0glMultiTexImage2DEXT\0glMultiTexSubImage1DEXT\0glMultiTexSubImage2DEXT\0" +
+        "glCopyMultiTexImage1DEXT\0glCopyMultiTexImage2DEXT\0glCopyMultiTexSubImage1DEXT\0glCopyMultiTexSubImage2DEXT\0glGetMultiTexImageEXT\0glGetMultiTexParameterfvEXT\0" +
+        "glGetMultiTexParameterivEXT\0glGetMultiTexLevelParameterfvEXT\0glGetMultiTexLevelParameterivEXT\0glMultiTexImage3DEXT\0glMultiTexSubImage3DEXT\0" +
+        "glCopyMultiTexSubImage3DEXT\0glEnableClientStateIndexedEXT\0glDisableClientStateIndexedEXT\0glEnableClientStateiEXT\0glDisableClientStateiEXT\0" +
+        "glGetFloatIndexedvEXT\0glGetDoubleIndexedvEXT\0glGetPointerIndexedvEXT\0glGetFloati_vEXT\0glGetDoublei_vEXT\0glGetPointeri_vEXT\0glNamedProgramStringEXT\0" +
+        "glNamedProgramLocalParameter4dEXT\0glNamedProgramLocalParameter4dvEXT\0glNamedProgramLocalParameter4fEXT\0glNamedProgramLocalParameter4fvEXT\0" +
+        "glGetNamedProgramLocalParameterdvEXT\0glGetNamedProgramLocalParameterfvEXT\0glGetNamedProgramivEXT\0glGetNamedProgramStringEXT\0glCompressedTextureImage3DEXT\0" +
+        "glCompressedTextureImage2DEXT\0glCompressedTextureImage1DEXT\0glCompressedTextureSubImage3DEXT\0glCompressedTextureSubImage2DEXT\0" +
+        "glCompressedTextureSubImage1DEXT\0glGetCompressedTextureImageEXT\0glCompressedMultiTexImage3DEXT\0glCompressedMultiTexImage2DEXT\0glCompressedMultiTexImage1DEXT\0" +
+        "glCompressedMultiTexSubImage3DEXT\0glCompressedMultiTexSubImage2DEXT\0glCompressedMultiTexSubImage1DEXT\0glGetCompressedMultiTexImageEXT\0" +
+        "glMatrixLoadTransposefEXT\0glMatrixLoadTransposedEXT\0glMatrixMultTransposefEXT\0glMatrixMultTransposedEXT\0glNamedBufferDataEXT\0glNamedBufferSubDataEXT\0" +
+        "glMapNamedBufferEXT\0glUnmapNamedBufferEXT\0glGetNamedBufferParameterivEXT\0glGetNamedBufferSubDataEXT\0glProgramUniform1fEXT\0glProgramUniform2fEXT\0" +
+        "glProgramUniform3fEXT\0glProgramUniform4fEXT\0glProgramUniform1iEXT\0glProgramUniform2iEXT\0glProgramUniform3iEXT\0glProgramUniform4iEXT\0glProgramUniform1fvEXT\0" +
+        "glProgramUniform2fvEXT\0glProgramUniform3fvEXT\0glProgramUniform4fvEXT\0glProgramUniform1ivEXT\0glProgramUniform2ivEXT\0glProgramUniform3ivEXT\0" +
+        "glProgramUniform4ivEXT\0glProgramUniformMatrix2fvEXT\0glProgramUniformMatrix3fvEXT\0glProgramUniformMatrix4fvEXT\0glProgramUniformMatrix2x3fvEXT\0" +
+        "glProgramUniformMatrix3x2fvEXT\0glProgramUniformMatrix2x4fvEXT\0glProgramUniformMatrix4x2fvEXT\0glProgramUniformMatrix3x4fvEXT\0glProgramUniformMatrix4x3fvEXT\0" +
+        "glTextureBufferEXT\0glMultiTexBufferEXT\0glTextureParameterIivEXT\0glTextureParameterIuivEXT\0glGetTextureParameterIivEXT\0glGetTextureParameterIuivEXT\0" +
+        "glMultiTexParameterIivEXT\0glMultiTexParameterIuivEXT\0glGetMultiTexParameterIivEXT\0glGetMultiTexParameterIuivEXT\0glProgramUniform1uiEXT\0" +
+        "glProgramUniform2uiEXT\0glProgramUniform3uiEXT\0glProgramUniform4uiEXT\0glProgramUniform1uivEXT\0glProgramUniform2uivEXT\0glProgramUniform3uivEXT\0" +
+        "glProgramUniform4uivEXT\0glNamedProgramLocalParameters4fvEXT\0glNamedProgramLocalParameterI4iEXT\0glNamedProgramLocalParameterI4ivEXT\0" +
+        "glNamedProgramLocalParametersI4ivEXT\0glNamedProgramLocalParameterI4uiEXT\0glNamedProgramLocalParameterI4uivEXT\0glNamedProgramLocalParametersI4uivEXT\0" +
+        "glGetNamedProgramLocalParameterIivEXT\0glGetNamedProgramLocalParameterIuivEXT\0glNamedRenderbufferStorageEXT\0glGetNamedRenderbufferParameterivEXT\0" +
+        "glNamedRenderbufferStorageMultisampleEXT\0glNamedRenderbufferStorageMultisampleCoverageEXT\0glCheckNamedFramebufferStatusEXT\0glNamedFramebufferTexture1DEXT\0" +
+        "glNamedFramebufferTexture2DEXT\0glNamedFramebufferTexture3DEXT\0glNamedFramebufferRenderbufferEXT\0glGetNamedFramebufferAttachmentParameterivEXT\0" +
+        "glGenerateTextureMipmapEXT\0glGenerateMultiTexMipmapEXT\0glFramebufferDrawBufferEXT\0glFramebufferDrawBuffersEXT\0glFramebufferReadBufferEXT\0" +
+        "glGetFramebufferParameterivEXT\0glNamedCopyBufferSubDataEXT\0glNamedFramebufferTextureEXT\0glNamedFramebufferTextureLayerEXT\0glNamedFramebufferTextureFaceEXT\0" +
+        "glTextureRenderbufferEXT\0glMultiTexRenderbufferEXT\0glVertexArrayVertexOffsetEXT\0glVertexArrayColorOffsetEXT\0glVertexArrayEdgeFlagOffsetEXT\0" +
+        "glVertexArrayIndexOffsetEXT\0glVertexArrayNormalOffsetEXT\0glVertexArrayTexCoordOffsetEXT\0glVertexArrayMultiTexCoordOffsetEXT\0glVertexArrayFogCoordOffsetEXT\0" +
+        "glVertexArraySecondaryColorOffsetEXT\0glVertexArrayVertexAttribOffsetEXT\0glVertexArrayVertexAttribIOffsetEXT\0glEnableVertexArrayEXT\0glDisableVertexArrayEXT\0" +
+        "glEnableVertexArrayAttribEXT\0glDisableVertexArrayAttribEXT\0glGetVertexArrayIntegervEXT\0glGetVertexArrayPointervEXT\0glGetVertexArrayIntegeri_vEXT\0" +
+        "glGetVertexArrayPointeri_vEXT\0glMapNamedBufferRangeEXT\0glFlushMappedNamedBufferRangeEXT\0glColorMaskIndexedEXT\0glGetBooleanIndexedvEXT\0" +
+        "glGetIntegerIndexedvEXT\0glEnableIndexedEXT\0glDisableIndexedEXT\0glIsEnabledIndexedEXT\0glDrawArraysInstancedEXT\0glDrawElementsInstancedEXT\0" +
+        "glEGLImageTargetTexStorageEXT\0glEGLImageTargetTextureStorageEXT\0glBufferStorageExternalEXT\0glNamedBufferStorageExternalEXT\0glBlitFramebufferEXT\0" +
+        "glRenderbufferStorageMultisampleEXT\0glIsRenderbufferEXT\0glBindRenderbufferEXT\0glDeleteRenderbuffersEXT\0glGenRenderbuffersEXT\0glRenderbufferStorageEXT\0" +
+        "glGetRenderbufferParameterivEXT\0glIsFramebufferEXT\0glBindFramebufferEXT\0glDeleteFramebuffersEXT\0glGenFramebuffersEXT\0glCheckFramebufferStatusEXT\0" +
+        "glFramebufferTexture1DEXT\0glFramebufferTexture2DEXT\0glFramebufferTexture3DEXT\0glFramebufferRenderbufferEXT\0glGetFramebufferAttachmentParameterivEXT\0" +
+        "glGenerateMipmapEXT\0glProgramParameteriEXT\0glFramebufferTextureEXT\0glFramebufferTextureFaceEXT\0glProgramEnvParameters4fvEXT\0glProgramLocalParameters4fvEXT\0" +
+        "glVertexAttribI1iEXT\0glVertexAttribI2iEXT\0glVertexAttribI3iEXT\0glVertexAttribI4iEXT\0glVertexAttribI1uiEXT\0glVertexAttribI2uiEXT\0glVertexAttribI3uiEXT\0" +
+        "glVertexAttribI4uiEXT\0glVertexAttribI1ivEXT\0glVertexAttribI2ivEXT\0glVertexAttribI3ivEXT\0glVertexAttribI4ivEXT\0glVertexAttribI1uivEXT\0" +
+        "glVertexAttribI2uivEXT\0glVertexAttribI3uivEXT\0glVertexAttribI4uivEXT\0glVertexAttribI4bvEXT\0glVertexAttribI4svEXT\0glVertexAttribI4ubvEXT\0" +
+        "glVertexAttribI4usvEXT\0glVertexAttribIPointerEXT\0glGetVertexAttribIivEXT\0glGetVertexAttribIuivEXT\0glGetUniformuivEXT\0glBindFragDataLocationEXT\0" +
+        "glGetFragDataLocationEXT\0glUniform1uiEXT\0glUniform2uiEXT\0glUniform3uiEXT\0glUniform4uiEXT\0glUniform1uivEXT\0glUniform2uivEXT\0glUniform3uivEXT\0" +
+        "glUniform4uivEXT\0glGetUnsignedBytevEXT\0glGetUnsignedBytei_vEXT\0glDeleteMemoryObjectsEXT\0glIsMemoryObjectEXT\0glCreateMemoryObjectsEXT\0" +
+        "glMemoryObjectParameterivEXT\0glGetMemoryObjectParameterivEXT\0glTexStorageMem2DEXT\0glTexStorageMem2DMultisampleEXT\0glTexStorageMem3DEXT\0" +
+        "glTexStorageMem3DMultisampleEXT\0glBufferStorageMemEXT\0glTextureStorageMem2DEXT\0glTextureStorageMem2DMultisampleEXT\0glTextureStorageMem3DEXT\0" +
+        "glTextureStorageMem3DMultisampleEXT\0glNamedBufferStorageMemEXT\0glTexStorageMem1DEXT\0glTextureStorageMem1DEXT\0glImportMemoryFdEXT\0" +
+        "glImportMemoryWin32HandleEXT\0glImportMemoryWin32NameEXT\0glPointParameterfEXT\0glPointParameterfvEXT\0glPolygonOffsetClampEXT\0glProvokingVertexEXT\0" +
+        "glRasterSamplesEXT\0glSecondaryColor3bEXT\0glSecondaryColor3sEXT\0glSecondaryColor3iEXT\0glSecondaryColor3fEXT\0glSecondaryColor3dEXT\0glSecondaryColor3ubEXT\0" +
+        "glSecondaryColor3usEXT\0glSecondaryColor3uiEXT\0glSecondaryColor3bvEXT\0glSecondaryColor3svEXT\0glSecondaryColor3ivEXT\0glSecondaryColor3fvEXT\0" +
+        "glSecondaryColor3dvEXT\0glSecondaryColor3ubvEXT\0glSecondaryColor3usvEXT\0glSecondaryColor3uivEXT\0glSecondaryColorPointerEXT\0glGenSemaphoresEXT\0" +
+        "glDeleteSemaphoresEXT\0glIsSemaphoreEXT\0glSemaphoreParameterui64vEXT\0glGetSemaphoreParameterui64vEXT\0glWaitSemaphoreEXT\0glSignalSemaphoreEXT\0" +
+        "glImportSemaphoreFdEXT\0glImportSemaphoreWin32HandleEXT\0glImportSemaphoreWin32NameEXT\0glUseShaderProgramEXT\0glActiveProgramEXT\0glCreateShaderProgramEXT\0" +
+        "glFramebufferFetchBarrierEXT\0glBindImageTextureEXT\0glMemoryBarrierEXT\0glStencilClearTagEXT\0glActiveStencilFaceEXT\0glFramebufferTextureLayerEXT\0" +
+        "glTexBufferEXT\0glClearColorIiEXT\0glClearColorIuiEXT\0glTexParameterIivEXT\0glTexParameterIuivEXT\0glGetTexParameterIivEXT\0glGetTexParameterIuivEXT\0" +
+        "glGetQueryObjecti64vEXT\0glGetQueryObjectui64vEXT\0glBindBufferRangeEXT\0glBindBufferOffsetEXT\0glBindBufferBaseEXT\0glBeginTransformFeedbackEXT\0" +
+        "glEndTransformFeedbackEXT\0glTransformFeedbackVaryingsEXT\0glGetTransformFeedbackVaryingEXT\0glVertexAttribL1dEXT\0glVertexAttribL2dEXT\0glVertexAttribL3dEXT\0" +
+        "glVertexAttribL4dEXT\0glVertexAttribL1dvEXT\0glVertexAttribL2dvEXT\0glVertexAttribL3dvEXT\0glVertexAttribL4dvEXT\0glVertexAttribLPointerEXT\0" +
+        "glGetVertexAttribLdvEXT\0glAcquireKeyedMutexWin32EXT\0glReleaseKeyedMutexWin32EXT\0glWindowRectanglesEXT\0glImportSyncEXT\0glFrameTerminatorGREMEDY\0" +
+        "glStringMarkerGREMEDY\0glApplyFramebufferAttachmentCMAAINTEL\0glSyncTextureINTEL\0glUnmapTexture2DINTEL\0glMapTexture2DINTEL\0glBeginPerfQueryINTEL\0" +
+        "glCreatePerfQueryINTEL\0glDeletePerfQueryINTEL\0glEndPerfQueryINTEL\0glGetFirstPerfQueryIdINTEL\0glGetNextPerfQueryIdINTEL\0glGetPerfCounterInfoINTEL\0" +
+        "glGetPerfQueryDataINTEL\0glGetPerfQueryIdByNameINTEL\0glGetPerfQueryInfoINTEL\0glBlendBarrierKHR\0glMaxShaderCompilerThreadsKHR\0" +
+        "glAlphaToCoverageDitherControlNV\0glMultiDrawArraysIndirectBindlessNV\0glMultiDrawElementsIndirectBindlessNV\0glMultiDrawArraysIndirectBindlessCountNV\0" +
+        "glMultiDrawElementsIndirectBindlessCountNV\0glGetTextureHandleNV\0glGetTextureSamplerHandleNV\0glMakeTextureHandleResidentNV\0glMakeTextureHandleNonResidentNV\0" +
+        "glGetImageHandleNV\0glMakeImageHandleResidentNV\0glMakeImageHandleNonResidentNV\0glUniformHandleui64NV\0glUniformHandleui64vNV\0glProgramUniformHandleui64NV\0" +
+        "glProgramUniformHandleui64vNV\0glIsTextureHandleResidentNV\0glIsImageHandleResidentNV\0glBlendParameteriNV\0glBlendBarrierNV\0glViewportPositionWScaleNV\0" +
+        "glCreateStatesNV\0glDeleteStatesNV\0glIsStateNV\0glStateCaptureNV\0glGetCommandHeaderNV\0glGetStageIndexNV\0glDrawCommandsNV\0glDrawCommandsAddressNV\0" +
+        "glDrawCommandsStatesNV\0glDrawCommandsStatesAddressNV\0glCreateCommandListsNV\0glDeleteCommandListsNV\0glIsCommandListNV\0glListDrawCommandsStatesClientNV\0" +
+        "glCommandListSegmentsNV\0glCompileCommandListNV\0glCallCommandListNV\0glBeginConditionalRenderNV\0glEndConditionalRenderNV\0glSubpixelPrecisionBiasNV\0" +
+        "glConservativeRasterParameterfNV\0glConservativeRasterParameteriNV\0glCopyImageSubDataNV\0glDepthRangedNV\0glClearDepthdNV\0glDepthBoundsdNV\0glDrawTextureNV\0" +
+        "glDrawVkImageNV\0glGetVkProcAddrNV\0glWaitVkSemaphoreNV\0glSignalVkSemaphoreNV\0glSignalVkFenceNV\0glGetMultisamplefvNV\0glSampleMaskIndexedNV\0" +
+        "glTexRenderbufferNV\0glDeleteFencesNV\0glGenFencesNV\0glIsFenceNV\0glTestFenceNV\0glGetFenceivNV\0glFinishFenceNV\0glSetFenceNV\0glFragmentCoverageColorNV\0" +
+        "glCoverageModulationTableNV\0glGetCoverageModulationTableNV\0glCoverageModulationNV\0glRenderbufferStorageMultisampleCoverageNV\0glRenderGpuMaskNV\0" +
+        "glMulticastBufferSubDataNV\0glMulticastCopyBufferSubDataNV\0glMulticastCopyImageSubDataNV\0glMulticastBlitFramebufferNV\0" +
+        "glMulticastFramebufferSampleLocationsfvNV\0glMulticastBarrierNV\0glMulticastWaitSyncNV\0glMulticastGetQueryObjectivNV\0glMulticastGetQueryObjectuivNV\0" +
+        "glMulticastGetQueryObjecti64vNV\0glMulticastGetQueryObjectui64vNV\0glUniform1i64NV\0glUniform2i64NV\0glUniform3i64NV\0glUniform4i64NV\0glUniform1i64vNV\0" +
+        "glUniform2i64vNV\0glUniform3i64vNV\0glUniform4i64vNV\0glUniform1ui64NV\0glUniform2ui64NV\0glUniform3ui64NV\0glUniform4ui64NV\0glUniform1ui64vNV\0" +
+        "glUniform2ui64vNV\0glUniform3ui64vNV\0glUniform4ui64vNV\0glGetUniformi64vNV\0glProgramUniform1i64NV\0glProgramUniform2i64NV\0glProgramUniform3i64NV\0" +
+        "glProgramUniform4i64NV\0glProgramUniform1i64vNV\0glProgramUniform2i64vNV\0glProgramUniform3i64vNV\0glProgramUniform4i64vNV\0glProgramUniform1ui64NV\0" +
+        "glProgramUniform2ui64NV\0glProgramUniform3ui64NV\0glProgramUniform4ui64NV\0glProgramUniform1ui64vNV\0glProgramUniform2ui64vNV\0glProgramUniform3ui64vNV\0" +
+        "glProgramUniform4ui64vNV\0glVertex2hNV\0glVertex2hvNV\0glVertex3hNV\0glVertex3hvNV\0glVertex4hNV\0glVertex4hvNV\0glNormal3hNV\0glNormal3hvNV\0glColor3hNV\0" +
+        "glColor3hvNV\0glColor4hNV\0glColor4hvNV\0glTexCoord1hNV\0glTexCoord1hvNV\0glTexCoord2hNV\0glTexCoord2hvNV\0glTexCoord3hNV\0glTexCoord3hvNV\0glTexCoord4hNV\0" +
+        "glTexCoord4hvNV\0glMultiTexCoord1hNV\0glMultiTexCoord1hvNV\0glMultiTexCoord2hNV\0glMultiTexCoord2hvNV\0glMultiTexCoord3hNV\0glMultiTexCoord3hvNV\0" +
+        "glMultiTexCoord4hNV\0glMultiTexCoord4hvNV\0glFogCoordhNV\0glFogCoordhvNV\0glSecondaryColor3hNV\0glSecondaryColor3hvNV\0glVertexWeighthNV\0glVertexWeighthvNV\0" +
+        "glVertexAttrib1hNV\0glVertexAttrib1hvNV\0glVertexAttrib2hNV\0glVertexAttrib2hvNV\0glVertexAttrib3hNV\0glVertexAttrib3hvNV\0glVertexAttrib4hNV\0" +
+        "glVertexAttrib4hvNV\0glVertexAttribs1hvNV\0glVertexAttribs2hvNV\0glVertexAttribs3hvNV\0glVertexAttribs4hvNV\0glGetInternalformatSampleivNV\0" +
+        "glGetMemoryObjectDetachedResourcesuivNV\0glResetMemoryObjectParameterNV\0glTexAttachMemoryNV\0glBufferAttachMemoryNV\0glTextureAttachMemoryNV\0" +
+        "glNamedBufferAttachMemoryNV\0glDrawMeshTasksNV\0glDrawMeshTasksIndirectNV\0glMultiDrawMeshTasksIndirectNV\0glMultiDrawMeshTasksIndirectCountNV\0glPathCommandsNV\0" +
+        "glPathCoordsNV\0glPathSubCommandsNV\0glPathSubCoordsNV\0glPathStringNV\0glPathGlyphsNV\0glPathGlyphRangeNV\0glPathGlyphIndexArrayNV\0" +
+        "glPathMemoryGlyphIndexArrayNV\0glCopyPathNV\0glWeightPathsNV\0glInterpolatePathsNV\0glTransformPathNV\0glPathParameterivNV\0glPathParameteriNV\0" +
+        "glPathParameterfvNV\0glPathParameterfNV\0glPathDashArrayNV\0glGenPathsNV\0glDeletePathsNV\0glIsPathNV\0glPathStencilFuncNV\0glPathStencilDepthOffsetNV\0" +
+        "glStencilFillPathNV\0glStencilStrokePathNV\0glStencilFillPathInstancedNV\0glStencilStrokePathInstancedNV\0glPathCoverDepthFuncNV\0glPathColorGenNV\0" +
+        "glPathTexGenNV\0glPathFogGenNV\0glCoverFillPathNV\0glCoverStrokePathNV\0glCoverFillPathInstancedNV\0glCoverStrokePathInstancedNV\0glStencilThenCoverFillPathNV\0" +
+        "glStencilThenCoverStrokePathNV\0glStencilThenCoverFillPathInstancedNV\0glStencilThenCoverStrokePathInstancedNV\0glPathGlyphIndexRangeNV\0" +
+        "glProgramPathFragmentInputGenNV\0glGetPathParameterivNV\0glGetPathParameterfvNV\0glGetPathCommandsNV\0glGetPathCoordsNV\0glGetPathDashArrayNV\0" +
+        "glGetPathMetricsNV\0glGetPathMetricRangeNV\0glGetPathSpacingNV\0glGetPathColorGenivNV\0glGetPathColorGenfvNV\0glGetPathTexGenivNV\0glGetPathTexGenfvNV\0" +
+        "glIsPointInFillPathNV\0glIsPointInStrokePathNV\0glGetPathLengthNV\0glPointAlongPathNV\0glMatrixLoad3x2fNV\0glMatrixLoad3x3fNV\0glMatrixLoadTranspose3x3fNV\0" +
+        "glMatrixMult3x2fNV\0glMatrixMult3x3fNV\0glMatrixMultTranspose3x3fNV\0glGetProgramResourcefvNV\0glPixelDataRangeNV\0glFlushPixelDataRangeNV\0glPointParameteriNV\0" +
+        "glPointParameterivNV\0glPrimitiveRestartNV\0glPrimitiveRestartIndexNV\0glQueryResourceNV\0glGenQueryResourceTagNV\0glDeleteQueryResourceTagNV\0" +
+        "glQueryResourceTagNV\0glFramebufferSampleLocationsfvNV\0glNamedFramebufferSampleLocationsfvNV\0glResolveDepthValuesNV\0glScissorExclusiveArrayvNV\0" +
+        "glScissorExclusiveNV\0glMakeBufferResidentNV\0glMakeBufferNonResidentNV\0glIsBufferResidentNV\0glMakeNamedBufferResidentNV\0glMakeNamedBufferNonResidentNV\0" +
+        "glIsNamedBufferResidentNV\0glGetBufferParameterui64vNV\0glGetNamedBufferParameterui64vNV\0glGetIntegerui64vNV\0glUniformui64NV\0glUniformui64vNV\0" +
+        "glGetUniformui64vNV\0glProgramUniformui64NV\0glProgramUniformui64vNV\0glBindShadingRateImageNV\0glShadingRateImagePaletteNV\0glGetShadingRateImagePaletteNV\0" +
+        "glShadingRateImageBarrierNV\0glShadingRateSampleOrderNV\0glShadingRateSampleOrderCustomNV\0glGetShadingRateSampleLocationivNV\0glTextureBarrierNV\0" +
+        "glTexImage2DMultisampleCoverageNV\0glTexImage3DMultisampleCoverageNV\0glTextureImage2DMultisampleNV\0glTextureImage3DMultisampleNV\0" +
+        "glTextureImage2DMultisampleCoverageNV\0glTextureImage3DMultisampleCoverageNV\0glBeginTransformFeedbackNV\0glEndTransformFeedbackNV\0glTransformFeedbackAttribsNV\0" +
+        "glBindBufferRangeNV\0glBindBufferOffsetNV\0glBindBufferBaseNV\0glTransformFeedbackVaryingsNV\0glActiveVaryingNV\0glGetVaryingLocationNV\0glGetActiveVaryingNV\0" +
+        "glGetTransformFeedbackVaryingNV\0glTransformFeedbackStreamAttribsNV\0glBindTransformFeedbackNV\0glDeleteTransformFeedbacksNV\0glGenTransformFeedbacksNV\0" +
+        "glIsTransformFeedbackNV\0glPauseTransformFeedbackNV\0glResumeTransformFeedbackNV\0glDrawTransformFeedbackNV\0glVertexArrayRangeNV\0glFlushVertexArrayRangeNV\0" +
+        "glVertexAttribL1i64NV\0glVertexAttribL2i64NV\0glVertexAttribL3i64NV\0glVertexAttribL4i64NV\0glVertexAttribL1i64vNV\0glVertexAttribL2i64vNV\0" +
+        "glVertexAttribL3i64vNV\0glVertexAttribL4i64vNV\0glVertexAttribL1ui64NV\0glVertexAttribL2ui64NV\0glVertexAttribL3ui64NV\0glVertexAttribL4ui64NV\0" +
+        "glVertexAttribL1ui64vNV\0glVertexAttribL2ui64vNV\0glVertexAttribL3ui64vNV\0glVertexAttribL4ui64vNV\0glGetVertexAttribLi64vNV\0glGetVertexAttribLui64vNV\0" +
+        "glVertexAttribLFormatNV\0glBufferAddressRangeNV\0glVertexFormatNV\0glNormalFormatNV\0glColorFormatNV\0glIndexFormatNV\0glTexCoordFormatNV\0glEdgeFlagFormatNV\0" +
+        "glSecondaryColorFormatNV\0glFogCoordFormatNV\0glVertexAttribFormatNV\0glVertexAttribIFormatNV\0glGetIntegerui64i_vNV\0glViewportSwizzleNV\0" +
+        "glBeginConditionalRenderNVX\0glEndConditionalRenderNVX\0glFramebufferTextureMultiviewOVR\0glNamedFramebufferTextureMultiviewOVR\0";
+
     /** When true, {@link GL11} is supported. */
     public final boolean OpenGL11;
     /** When true, {@link GL12} is supported. */
@@ -4113,2207 +4435,2469 @@ public final class GLCapabilities {
     GLCapabilities(FunctionProvider provider, Set<String> ext, boolean fc) {
         forwardCompatible = fc;
 
-        glAccum = getFunctionAddress(fc, provider, "glAccum");
-        glAlphaFunc = getFunctionAddress(fc, provider, "glAlphaFunc");
-        glAreTexturesResident = getFunctionAddress(fc, provider, "glAreTexturesResident");
-        glArrayElement = getFunctionAddress(fc, provider, "glArrayElement");
-        glBegin = getFunctionAddress(fc, provider, "glBegin");
-        glBitmap = getFunctionAddress(fc, provider, "glBitmap");
-        glCallList = getFunctionAddress(fc, provider, "glCallList");
-        glCallLists = getFunctionAddress(fc, provider, "glCallLists");
-        glClearAccum = getFunctionAddress(fc, provider, "glClearAccum");
-        glClearIndex = getFunctionAddress(fc, provider, "glClearIndex");
-        glClipPlane = getFunctionAddress(fc, provider, "glClipPlane");
-        glColor3b = getFunctionAddress(fc, provider, "glColor3b");
-        glColor3s = getFunctionAddress(fc, provider, "glColor3s");
-        glColor3i = getFunctionAddress(fc, provider, "glColor3i");
-        glColor3f = getFunctionAddress(fc, provider, "glColor3f");
-        glColor3d = getFunctionAddress(fc, provider, "glColor3d");
-        glColor3ub = getFunctionAddress(fc, provider, "glColor3ub");
-        glColor3us = getFunctionAddress(fc, provider, "glColor3us");
-        glColor3ui = getFunctionAddress(fc, provider, "glColor3ui");
-        glColor3bv = getFunctionAddress(fc, provider, "glColor3bv");
-        glColor3sv = getFunctionAddress(fc, provider, "glColor3sv");
-        glColor3iv = getFunctionAddress(fc, provider, "glColor3iv");
-        glColor3fv = getFunctionAddress(fc, provider, "glColor3fv");
-        glColor3dv = getFunctionAddress(fc, provider, "glColor3dv");
-        glColor3ubv = getFunctionAddress(fc, provider, "glColor3ubv");
-        glColor3usv = getFunctionAddress(fc, provider, "glColor3usv");
-        glColor3uiv = getFunctionAddress(fc, provider, "glColor3uiv");
-        glColor4b = getFunctionAddress(fc, provider, "glColor4b");
-        glColor4s = getFunctionAddress(fc, provider, "glColor4s");
-        glColor4i = getFunctionAddress(fc, provider, "glColor4i");
-        glColor4f = getFunctionAddress(fc, provider, "glColor4f");
-        glColor4d = getFunctionAddress(fc, provider, "glColor4d");
-        glColor4ub = getFunctionAddress(fc, provider, "glColor4ub");
-        glColor4us = getFunctionAddress(fc, provider, "glColor4us");
-        glColor4ui = getFunctionAddress(fc, provider, "glColor4ui");
-        glColor4bv = getFunctionAddress(fc, provider, "glColor4bv");
-        glColor4sv = getFunctionAddress(fc, provider, "glColor4sv");
-        glColor4iv = getFunctionAddress(fc, provider, "glColor4iv");
-        glColor4fv = getFunctionAddress(fc, provider, "glColor4fv");
-        glColor4dv = getFunctionAddress(fc, provider, "glColor4dv");
-        glColor4ubv = getFunctionAddress(fc, provider, "glColor4ubv");
-        glColor4usv = getFunctionAddress(fc, provider, "glColor4usv");
-        glColor4uiv = getFunctionAddress(fc, provider, "glColor4uiv");
-        glColorMaterial = getFunctionAddress(fc, provider, "glColorMaterial");
-        glColorPointer = getFunctionAddress(fc, provider, "glColorPointer");
-        glCopyPixels = getFunctionAddress(fc, provider, "glCopyPixels");
-        glDeleteLists = getFunctionAddress(fc, provider, "glDeleteLists");
-        glDisableClientState = provider.getFunctionAddress("glDisableClientState");
-        glDrawPixels = getFunctionAddress(fc, provider, "glDrawPixels");
-        glEdgeFlag = getFunctionAddress(fc, provider, "glEdgeFlag");
-        glEdgeFlagv = getFunctionAddress(fc, provider, "glEdgeFlagv");
-        glEdgeFlagPointer = getFunctionAddress(fc, provider, "glEdgeFlagPointer");
-        glEnableClientState = provider.getFunctionAddress("glEnableClientState");
-        glEnd = getFunctionAddress(fc, provider, "glEnd");
-        glEvalCoord1f = getFunctionAddress(fc, provider, "glEvalCoord1f");
-        glEvalCoord1fv = getFunctionAddress(fc, provider, "glEvalCoord1fv");
-        glEvalCoord1d = getFunctionAddress(fc, provider, "glEvalCoord1d");
-        glEvalCoord1dv = getFunctionAddress(fc, provider, "glEvalCoord1dv");
-        glEvalCoord2f = getFunctionAddress(fc, provider, "glEvalCoord2f");
-        glEvalCoord2fv = getFunctionAddress(fc, provider, "glEvalCoord2fv");
-        glEvalCoord2d = getFunctionAddress(fc, provider, "glEvalCoord2d");
-        glEvalCoord2dv = getFunctionAddress(fc, provider, "glEvalCoord2dv");
-        glEvalMesh1 = getFunctionAddress(fc, provider, "glEvalMesh1");
-        glEvalMesh2 = getFunctionAddress(fc, provider, "glEvalMesh2");
-        glEvalPoint1 = getFunctionAddress(fc, provider, "glEvalPoint1");
-        glEvalPoint2 = getFunctionAddress(fc, provider, "glEvalPoint2");
-        glFeedbackBuffer = getFunctionAddress(fc, provider, "glFeedbackBuffer");
-        glFogi = getFunctionAddress(fc, provider, "glFogi");
-        glFogiv = getFunctionAddress(fc, provider, "glFogiv");
-        glFogf = getFunctionAddress(fc, provider, "glFogf");
-        glFogfv = getFunctionAddress(fc, provider, "glFogfv");
-        glGenLists = getFunctionAddress(fc, provider, "glGenLists");
-        glGetClipPlane = getFunctionAddress(fc, provider, "glGetClipPlane");
-        glGetLightiv = getFunctionAddress(fc, provider, "glGetLightiv");
-        glGetLightfv = getFunctionAddress(fc, provider, "glGetLightfv");
-        glGetMapiv = getFunctionAddress(fc, provider, "glGetMapiv");
-        glGetMapfv = getFunctionAddress(fc, provider, "glGetMapfv");
-        glGetMapdv = getFunctionAddress(fc, provider, "glGetMapdv");
-        glGetMaterialiv = getFunctionAddress(fc, provider, "glGetMaterialiv");
-        glGetMaterialfv = getFunctionAddress(fc, provider, "glGetMaterialfv");
-        glGetPixelMapfv = getFunctionAddress(fc, provider, "glGetPixelMapfv");
-        glGetPixelMapusv = getFunctionAddress(fc, provider, "glGetPixelMapusv");
-        glGetPixelMapuiv = getFunctionAddress(fc, provider, "glGetPixelMapuiv");
-        glGetPolygonStipple = getFunctionAddress(fc, provider, "glGetPolygonStipple");
-        glGetTexEnviv = getFunctionAddress(fc, provider, "glGetTexEnviv");
-        glGetTexEnvfv = getFunctionAddress(fc, provider, "glGetTexEnvfv");
-        glGetTexGeniv = getFunctionAddress(fc, provider, "glGetTexGeniv");
-        glGetTexGenfv = getFunctionAddress(fc, provider, "glGetTexGenfv");
-        glGetTexGendv = getFunctionAddress(fc, provider, "glGetTexGendv");
-        glIndexi = getFunctionAddress(fc, provider, "glIndexi");
-        glIndexub = getFunctionAddress(fc, provider, "glIndexub");
-        glIndexs = getFunctionAddress(fc, provider, "glIndexs");
-        glIndexf = getFunctionAddress(fc, provider, "glIndexf");
-        glIndexd = getFunctionAddress(fc, provider, "glIndexd");
-        glIndexiv = getFunctionAddress(fc, provider, "glIndexiv");
-        glIndexubv = getFunctionAddress(fc, provider, "glIndexubv");
-        glIndexsv = getFunctionAddress(fc, provider, "glIndexsv");
-        glIndexfv = getFunctionAddress(fc, provider, "glIndexfv");
-        glIndexdv = getFunctionAddress(fc, provider, "glIndexdv");
-        glIndexMask = getFunctionAddress(fc, provider, "glIndexMask");
-        glIndexPointer = getFunctionAddress(fc, provider, "glIndexPointer");
-        glInitNames = getFunctionAddress(fc, provider, "glInitNames");
-        glInterleavedArrays = getFunctionAddress(fc, provider, "glInterleavedArrays");
-        glIsList = getFunctionAddress(fc, provider, "glIsList");
-        glLightModeli = getFunctionAddress(fc, provider, "glLightModeli");
-        glLightModelf = getFunctionAddress(fc, provider, "glLightModelf");
-        glLightModeliv = getFunctionAddress(fc, provider, "glLightModeliv");
-        glLightModelfv = getFunctionAddress(fc, provider, "glLightModelfv");
-        glLighti = getFunctionAddress(fc, provider, "glLighti");
-        glLightf = getFunctionAddress(fc, provider, "glLightf");
-        glLightiv = getFunctionAddress(fc, provider, "glLightiv");
-        glLightfv = getFunctionAddress(fc, provider, "glLightfv");
-        glLineStipple = getFunctionAddress(fc, provider, "glLineStipple");
-        glListBase = getFunctionAddress(fc, provider, "glListBase");
-        glLoadMatrixf = getFunctionAddress(fc, provider, "glLoadMatrixf");
-        glLoadMatrixd = getFunctionAddress(fc, provider, "glLoadMatrixd");
-        glLoadIdentity = getFunctionAddress(fc, provider, "glLoadIdentity");
-        glLoadName = getFunctionAddress(fc, provider, "glLoadName");
-        glMap1f = getFunctionAddress(fc, provider, "glMap1f");
-        glMap1d = getFunctionAddress(fc, provider, "glMap1d");
-        glMap2f = getFunctionAddress(fc, provider, "glMap2f");
-        glMap2d = getFunctionAddress(fc, provider, "glMap2d");
-        glMapGrid1f = getFunctionAddress(fc, provider, "glMapGrid1f");
-        glMapGrid1d = getFunctionAddress(fc, provider, "glMapGrid1d");
-        glMapGrid2f = getFunctionAddress(fc, provider, "glMapGrid2f");
-        glMapGrid2d = getFunctionAddress(fc, provider, "glMapGrid2d");
-        glMateriali = getFunctionAddress(fc, provider, "glMateriali");
-        glMaterialf = getFunctionAddress(fc, provider, "glMaterialf");
-        glMaterialiv = getFunctionAddress(fc, provider, "glMaterialiv");
-        glMaterialfv = getFunctionAddress(fc, provider, "glMaterialfv");
-        glMatrixMode = getFunctionAddress(fc, provider, "glMatrixMode");
-        glMultMatrixf = getFunctionAddress(fc, provider, "glMultMatrixf");
-        glMultMatrixd = getFunctionAddress(fc, provider, "glMultMatrixd");
-        glFrustum = getFunctionAddress(fc, provider, "glFrustum");
-        glNewList = getFunctionAddress(fc, provider, "glNewList");
-        glEndList = getFunctionAddress(fc, provider, "glEndList");
-        glNormal3f = getFunctionAddress(fc, provider, "glNormal3f");
-        glNormal3b = getFunctionAddress(fc, provider, "glNormal3b");
-        glNormal3s = getFunctionAddress(fc, provider, "glNormal3s");
-        glNormal3i = getFunctionAddress(fc, provider, "glNormal3i");
-        glNormal3d = getFunctionAddress(fc, provider, "glNormal3d");
-        glNormal3fv = getFunctionAddress(fc, provider, "glNormal3fv");
-        glNormal3bv = getFunctionAddress(fc, provider, "glNormal3bv");
-        glNormal3sv = getFunctionAddress(fc, provider, "glNormal3sv");
-        glNormal3iv = getFunctionAddress(fc, provider, "glNormal3iv");
-        glNormal3dv = getFunctionAddress(fc, provider, "glNormal3dv");
-        glNormalPointer = getFunctionAddress(fc, provider, "glNormalPointer");
-        glOrtho = getFunctionAddress(fc, provider, "glOrtho");
-        glPassThrough = getFunctionAddress(fc, provider, "glPassThrough");
-        glPixelMapfv = getFunctionAddress(fc, provider, "glPixelMapfv");
-        glPixelMapusv = getFunctionAddress(fc, provider, "glPixelMapusv");
-        glPixelMapuiv = getFunctionAddress(fc, provider, "glPixelMapuiv");
-        glPixelTransferi = getFunctionAddress(fc, provider, "glPixelTransferi");
-        glPixelTransferf = getFunctionAddress(fc, provider, "glPixelTransferf");
-        glPixelZoom = getFunctionAddress(fc, provider, "glPixelZoom");
-        glPolygonStipple = getFunctionAddress(fc, provider, "glPolygonStipple");
-        glPushAttrib = getFunctionAddress(fc, provider, "glPushAttrib");
-        glPushClientAttrib = getFunctionAddress(fc, provider, "glPushClientAttrib");
-        glPopAttrib = getFunctionAddress(fc, provider, "glPopAttrib");
-        glPopClientAttrib = getFunctionAddress(fc, provider, "glPopClientAttrib");
-        glPopMatrix = getFunctionAddress(fc, provider, "glPopMatrix");
-        glPopName = getFunctionAddress(fc, provider, "glPopName");
-        glPrioritizeTextures = getFunctionAddress(fc, provider, "glPrioritizeTextures");
-        glPushMatrix = getFunctionAddress(fc, provider, "glPushMatrix");
-        glPushName = getFunctionAddress(fc, provider, "glPushName");
-        glRasterPos2i = getFunctionAddress(fc, provider, "glRasterPos2i");
-        glRasterPos2s = getFunctionAddress(fc, provider, "glRasterPos2s");
-        glRasterPos2f = getFunctionAddress(fc, provider, "glRasterPos2f");
-        glRasterPos2d = getFunctionAddress(fc, provider, "glRasterPos2d");
-        glRasterPos2iv = getFunctionAddress(fc, provider, "glRasterPos2iv");
-        glRasterPos2sv = getFunctionAddress(fc, provider, "glRasterPos2sv");
-        glRasterPos2fv = getFunctionAddress(fc, provider, "glRasterPos2fv");
-        glRasterPos2dv = getFunctionAddress(fc, provider, "glRasterPos2dv");
-        glRasterPos3i = getFunctionAddress(fc, provider, "glRasterPos3i");
-        glRasterPos3s = getFunctionAddress(fc, provider, "glRasterPos3s");
-        glRasterPos3f = getFunctionAddress(fc, provider, "glRasterPos3f");
-        glRasterPos3d = getFunctionAddress(fc, provider, "glRasterPos3d");
-        glRasterPos3iv = getFunctionAddress(fc, provider, "glRasterPos3iv");
-        glRasterPos3sv = getFunctionAddress(fc, provider, "glRasterPos3sv");
-        glRasterPos3fv = getFunctionAddress(fc, provider, "glRasterPos3fv");
-        glRasterPos3dv = getFunctionAddress(fc, provider, "glRasterPos3dv");
-        glRasterPos4i = getFunctionAddress(fc, provider, "glRasterPos4i");
-        glRasterPos4s = getFunctionAddress(fc, provider, "glRasterPos4s");
-        glRasterPos4f = getFunctionAddress(fc, provider, "glRasterPos4f");
-        glRasterPos4d = getFunctionAddress(fc, provider, "glRasterPos4d");
-        glRasterPos4iv = getFunctionAddress(fc, provider, "glRasterPos4iv");
-        glRasterPos4sv = getFunctionAddress(fc, provider, "glRasterPos4sv");
-        glRasterPos4fv = getFunctionAddress(fc, provider, "glRasterPos4fv");
-        glRasterPos4dv = getFunctionAddress(fc, provider, "glRasterPos4dv");
-        glRecti = getFunctionAddress(fc, provider, "glRecti");
-        glRects = getFunctionAddress(fc, provider, "glRects");
-        glRectf = getFunctionAddress(fc, provider, "glRectf");
-        glRectd = getFunctionAddress(fc, provider, "glRectd");
-        glRectiv = getFunctionAddress(fc, provider, "glRectiv");
-        glRectsv = getFunctionAddress(fc, provider, "glRectsv");
-        glRectfv = getFunctionAddress(fc, provider, "glRectfv");
-        glRectdv = getFunctionAddress(fc, provider, "glRectdv");
-        glRenderMode = getFunctionAddress(fc, provider, "glRenderMode");
-        glRotatef = getFunctionAddress(fc, provider, "glRotatef");
-        glRotated = getFunctionAddress(fc, provider, "glRotated");
-        glScalef = getFunctionAddress(fc, provider, "glScalef");
-        glScaled = getFunctionAddress(fc, provider, "glScaled");
-        glSelectBuffer = getFunctionAddress(fc, provider, "glSelectBuffer");
-        glShadeModel = getFunctionAddress(fc, provider, "glShadeModel");
-        glTexCoord1f = getFunctionAddress(fc, provider, "glTexCoord1f");
-        glTexCoord1s = getFunctionAddress(fc, provider, "glTexCoord1s");
-        glTexCoord1i = getFunctionAddress(fc, provider, "glTexCoord1i");
-        glTexCoord1d = getFunctionAddress(fc, provider, "glTexCoord1d");
-        glTexCoord1fv = getFunctionAddress(fc, provider, "glTexCoord1fv");
-        glTexCoord1sv = getFunctionAddress(fc, provider, "glTexCoord1sv");
-        glTexCoord1iv = getFunctionAddress(fc, provider, "glTexCoord1iv");
-        glTexCoord1dv = getFunctionAddress(fc, provider, "glTexCoord1dv");
-        glTexCoord2f = getFunctionAddress(fc, provider, "glTexCoord2f");
-        glTexCoord2s = getFunctionAddress(fc, provider, "glTexCoord2s");
-        glTexCoord2i = getFunctionAddress(fc, provider, "glTexCoord2i");
-        glTexCoord2d = getFunctionAddress(fc, provider, "glTexCoord2d");
-        glTexCoord2fv = getFunctionAddress(fc, provider, "glTexCoord2fv");
-        glTexCoord2sv = getFunctionAddress(fc, provider, "glTexCoord2sv");
-        glTexCoord2iv = getFunctionAddress(fc, provider, "glTexCoord2iv");
-        glTexCoord2dv = getFunctionAddress(fc, provider, "glTexCoord2dv");
-        glTexCoord3f = getFunctionAddress(fc, provider, "glTexCoord3f");
-        glTexCoord3s = getFunctionAddress(fc, provider, "glTexCoord3s");
-        glTexCoord3i = getFunctionAddress(fc, provider, "glTexCoord3i");
-        glTexCoord3d = getFunctionAddress(fc, provider, "glTexCoord3d");
-        glTexCoord3fv = getFunctionAddress(fc, provider, "glTexCoord3fv");
-        glTexCoord3sv = getFunctionAddress(fc, provider, "glTexCoord3sv");
-        glTexCoord3iv = getFunctionAddress(fc, provider, "glTexCoord3iv");
-        glTexCoord3dv = getFunctionAddress(fc, provider, "glTexCoord3dv");
-        glTexCoord4f = getFunctionAddress(fc, provider, "glTexCoord4f");
-        glTexCoord4s = getFunctionAddress(fc, provider, "glTexCoord4s");
-        glTexCoord4i = getFunctionAddress(fc, provider, "glTexCoord4i");
-        glTexCoord4d = getFunctionAddress(fc, provider, "glTexCoord4d");
-        glTexCoord4fv = getFunctionAddress(fc, provider, "glTexCoord4fv");
-        glTexCoord4sv = getFunctionAddress(fc, provider, "glTexCoord4sv");
-        glTexCoord4iv = getFunctionAddress(fc, provider, "glTexCoord4iv");
-        glTexCoord4dv = getFunctionAddress(fc, provider, "glTexCoord4dv");
-        glTexCoordPointer = getFunctionAddress(fc, provider, "glTexCoordPointer");
-        glTexEnvi = getFunctionAddress(fc, provider, "glTexEnvi");
-        glTexEnviv = getFunctionAddress(fc, provider, "glTexEnviv");
-        glTexEnvf = getFunctionAddress(fc, provider, "glTexEnvf");
-        glTexEnvfv = getFunctionAddress(fc, provider, "glTexEnvfv");
-        glTexGeni = getFunctionAddress(fc, provider, "glTexGeni");
-        glTexGeniv = getFunctionAddress(fc, provider, "glTexGeniv");
-        glTexGenf = getFunctionAddress(fc, provider, "glTexGenf");
-        glTexGenfv = getFunctionAddress(fc, provider, "glTexGenfv");
-        glTexGend = getFunctionAddress(fc, provider, "glTexGend");
-        glTexGendv = getFunctionAddress(fc, provider, "glTexGendv");
-        glTranslatef = getFunctionAddress(fc, provider, "glTranslatef");
-        glTranslated = getFunctionAddress(fc, provider, "glTranslated");
-        glVertex2f = getFunctionAddress(fc, provider, "glVertex2f");
-        glVertex2s = getFunctionAddress(fc, provider, "glVertex2s");
-        glVertex2i = getFunctionAddress(fc, provider, "glVertex2i");
-        glVertex2d = getFunctionAddress(fc, provider, "glVertex2d");
-        glVertex2fv = getFunctionAddress(fc, provider, "glVertex2fv");
-        glVertex2sv = getFunctionAddress(fc, provider, "glVertex2sv");
-        glVertex2iv = getFunctionAddress(fc, provider, "glVertex2iv");
-        glVertex2dv = getFunctionAddress(fc, provider, "glVertex2dv");
-        glVertex3f = getFunctionAddress(fc, provider, "glVertex3f");
-        glVertex3s = getFunctionAddress(fc, provider, "glVertex3s");
-        glVertex3i = getFunctionAddress(fc, provider, "glVertex3i");
-        glVertex3d = getFunctionAddress(fc, provider, "glVertex3d");
-        glVertex3fv = getFunctionAddress(fc, provider, "glVertex3fv");
-        glVertex3sv = getFunctionAddress(fc, provider, "glVertex3sv");
-        glVertex3iv = getFunctionAddress(fc, provider, "glVertex3iv");
-        glVertex3dv = getFunctionAddress(fc, provider, "glVertex3dv");
-        glVertex4f = getFunctionAddress(fc, provider, "glVertex4f");
-        glVertex4s = getFunctionAddress(fc, provider, "glVertex4s");
-        glVertex4i = getFunctionAddress(fc, provider, "glVertex4i");
-        glVertex4d = getFunctionAddress(fc, provider, "glVertex4d");
-        glVertex4fv = getFunctionAddress(fc, provider, "glVertex4fv");
-        glVertex4sv = getFunctionAddress(fc, provider, "glVertex4sv");
-        glVertex4iv = getFunctionAddress(fc, provider, "glVertex4iv");
-        glVertex4dv = getFunctionAddress(fc, provider, "glVertex4dv");
-        glVertexPointer = getFunctionAddress(fc, provider, "glVertexPointer");
-        glEnable = provider.getFunctionAddress("glEnable");
-        glDisable = provider.getFunctionAddress("glDisable");
-        glBindTexture = provider.getFunctionAddress("glBindTexture");
-        glBlendFunc = provider.getFunctionAddress("glBlendFunc");
-        glClear = provider.getFunctionAddress("glClear");
-        glClearColor = provider.getFunctionAddress("glClearColor");
-        glClearDepth = provider.getFunctionAddress("glClearDepth");
-        glClearStencil = provider.getFunctionAddress("glClearStencil");
-        glColorMask = provider.getFunctionAddress("glColorMask");
-        glCullFace = provider.getFunctionAddress("glCullFace");
-        glDepthFunc = provider.getFunctionAddress("glDepthFunc");
-        glDepthMask = provider.getFunctionAddress("glDepthMask");
-        glDepthRange = provider.getFunctionAddress("glDepthRange");
-        glDrawArrays = provider.getFunctionAddress("glDrawArrays");
-        glDrawBuffer = provider.getFunctionAddress("glDrawBuffer");
-        glDrawElements = provider.getFunctionAddress("glDrawElements");
-        glFinish = provider.getFunctionAddress("glFinish");
-        glFlush = provider.getFunctionAddress("glFlush");
-        glFrontFace = provider.getFunctionAddress("glFrontFace");
-        glGenTextures = provider.getFunctionAddress("glGenTextures");
-        glDeleteTextures = provider.getFunctionAddress("glDeleteTextures");
-        glGetBooleanv = provider.getFunctionAddress("glGetBooleanv");
-        glGetFloatv = provider.getFunctionAddress("glGetFloatv");
-        glGetIntegerv = provider.getFunctionAddress("glGetIntegerv");
-        glGetDoublev = provider.getFunctionAddress("glGetDoublev");
-        glGetError = provider.getFunctionAddress("glGetError");
-        glGetPointerv = provider.getFunctionAddress("glGetPointerv");
-        glGetString = provider.getFunctionAddress("glGetString");
-        glGetTexImage = provider.getFunctionAddress("glGetTexImage");
-        glGetTexLevelParameteriv = provider.getFunctionAddress("glGetTexLevelParameteriv");
-        glGetTexLevelParameterfv = provider.getFunctionAddress("glGetTexLevelParameterfv");
-        glGetTexParameteriv = provider.getFunctionAddress("glGetTexParameteriv");
-        glGetTexParameterfv = provider.getFunctionAddress("glGetTexParameterfv");
-        glHint = provider.getFunctionAddress("glHint");
-        glIsEnabled = provider.getFunctionAddress("glIsEnabled");
-        glIsTexture = provider.getFunctionAddress("glIsTexture");
-        glLineWidth = provider.getFunctionAddress("glLineWidth");
-        glLogicOp = provider.getFunctionAddress("glLogicOp");
-        glPixelStorei = provider.getFunctionAddress("glPixelStorei");
-        glPixelStoref = provider.getFunctionAddress("glPixelStoref");
-        glPointSize = provider.getFunctionAddress("glPointSize");
-        glPolygonMode = provider.getFunctionAddress("glPolygonMode");
-        glPolygonOffset = provider.getFunctionAddress("glPolygonOffset");
-        glReadBuffer = provider.getFunctionAddress("glReadBuffer");
-        glReadPixels = provider.getFunctionAddress("glReadPixels");
-        glScissor = provider.getFunctionAddress("glScissor");
-        glStencilFunc = provider.getFunctionAddress("glStencilFunc");
-        glStencilMask = provider.getFunctionAddress("glStencilMask");
-        glStencilOp = provider.getFunctionAddress("glStencilOp");
-        glTexImage1D = provider.getFunctionAddress("glTexImage1D");
-        glTexImage2D = provider.getFunctionAddress("glTexImage2D");
-        glCopyTexImage1D = provider.getFunctionAddress("glCopyTexImage1D");
-        glCopyTexImage2D = provider.getFunctionAddress("glCopyTexImage2D");
-        glCopyTexSubImage1D = provider.getFunctionAddress("glCopyTexSubImage1D");
-        glCopyTexSubImage2D = provider.getFunctionAddress("glCopyTexSubImage2D");
-        glTexParameteri = provider.getFunctionAddress("glTexParameteri");
-        glTexParameteriv = provider.getFunctionAddress("glTexParameteriv");
-        glTexParameterf = provider.getFunctionAddress("glTexParameterf");
-        glTexParameterfv = provider.getFunctionAddress("glTexParameterfv");
-        glTexSubImage1D = provider.getFunctionAddress("glTexSubImage1D");
-        glTexSubImage2D = provider.getFunctionAddress("glTexSubImage2D");
-        glViewport = provider.getFunctionAddress("glViewport");
-        glTexImage3D = provider.getFunctionAddress("glTexImage3D");
-        glTexSubImage3D = provider.getFunctionAddress("glTexSubImage3D");
-        glCopyTexSubImage3D = provider.getFunctionAddress("glCopyTexSubImage3D");
-        glDrawRangeElements = provider.getFunctionAddress("glDrawRangeElements");
-        glClientActiveTexture = getFunctionAddress(fc, provider, "glClientActiveTexture");
-        glMultiTexCoord1f = getFunctionAddress(fc, provider, "glMultiTexCoord1f");
-        glMultiTexCoord1s = getFunctionAddress(fc, provider, "glMultiTexCoord1s");
-        glMultiTexCoord1i = getFunctionAddress(fc, provider, "glMultiTexCoord1i");
-        glMultiTexCoord1d = getFunctionAddress(fc, provider, "glMultiTexCoord1d");
-        glMultiTexCoord1fv = getFunctionAddress(fc, provider, "glMultiTexCoord1fv");
-        glMultiTexCoord1sv = getFunctionAddress(fc, provider, "glMultiTexCoord1sv");
-        glMultiTexCoord1iv = getFunctionAddress(fc, provider, "glMultiTexCoord1iv");
-        glMultiTexCoord1dv = getFunctionAddress(fc, provider, "glMultiTexCoord1dv");
-        glMultiTexCoord2f = getFunctionAddress(fc, provider, "glMultiTexCoord2f");
-        glMultiTexCoord2s = getFunctionAddress(fc, provider, "glMultiTexCoord2s");
-        glMultiTexCoord2i = getFunctionAddress(fc, provider, "glMultiTexCoord2i");
-        glMultiTexCoord2d = getFunctionAddress(fc, provider, "glMultiTexCoord2d");
-        glMultiTexCoord2fv = getFunctionAddress(fc, provider, "glMultiTexCoord2fv");
-        glMultiTexCoord2sv = getFunctionAddress(fc, provider, "glMultiTexCoord2sv");
-        glMultiTexCoord2iv = getFunctionAddress(fc, provider, "glMultiTexCoord2iv");
-        glMultiTexCoord2dv = getFunctionAddress(fc, provider, "glMultiTexCoord2dv");
-        glMultiTexCoord3f = getFunctionAddress(fc, provider, "glMultiTexCoord3f");
-        glMultiTexCoord3s = getFunctionAddress(fc, provider, "glMultiTexCoord3s");
-        glMultiTexCoord3i = getFunctionAddress(fc, provider, "glMultiTexCoord3i");
-        glMultiTexCoord3d = getFunctionAddress(fc, provider, "glMultiTexCoord3d");
-        glMultiTexCoord3fv = getFunctionAddress(fc, provider, "glMultiTexCoord3fv");
-        glMultiTexCoord3sv = getFunctionAddress(fc, provider, "glMultiTexCoord3sv");
-        glMultiTexCoord3iv = getFunctionAddress(fc, provider, "glMultiTexCoord3iv");
-        glMultiTexCoord3dv = getFunctionAddress(fc, provider, "glMultiTexCoord3dv");
-        glMultiTexCoord4f = getFunctionAddress(fc, provider, "glMultiTexCoord4f");
-        glMultiTexCoord4s = getFunctionAddress(fc, provider, "glMultiTexCoord4s");
-        glMultiTexCoord4i = getFunctionAddress(fc, provider, "glMultiTexCoord4i");
-        glMultiTexCoord4d = getFunctionAddress(fc, provider, "glMultiTexCoord4d");
-        glMultiTexCoord4fv = getFunctionAddress(fc, provider, "glMultiTexCoord4fv");
-        glMultiTexCoord4sv = getFunctionAddress(fc, provider, "glMultiTexCoord4sv");
-        glMultiTexCoord4iv = getFunctionAddress(fc, provider, "glMultiTexCoord4iv");
-        glMultiTexCoord4dv = getFunctionAddress(fc, provider, "glMultiTexCoord4dv");
-        glLoadTransposeMatrixf = getFunctionAddress(fc, provider, "glLoadTransposeMatrixf");
-        glLoadTransposeMatrixd = getFunctionAddress(fc, provider, "glLoadTransposeMatrixd");
-        glMultTransposeMatrixf = getFunctionAddress(fc, provider, "glMultTransposeMatrixf");
-        glMultTransposeMatrixd = getFunctionAddress(fc, provider, "glMultTransposeMatrixd");
-        glCompressedTexImage3D = provider.getFunctionAddress("glCompressedTexImage3D");
-        glCompressedTexImage2D = provider.getFunctionAddress("glCompressedTexImage2D");
-        glCompressedTexImage1D = provider.getFunctionAddress("glCompressedTexImage1D");
-        glCompressedTexSubImage3D = provider.getFunctionAddress("glCompressedTexSubImage3D");
-        glCompressedTexSubImage2D = provider.getFunctionAddress("glCompressedTexSubImage2D");
-        glCompressedTexSubImage1D = provider.getFunctionAddress("glCompressedTexSubImage1D");
-        glGetCompressedTexImage = provider.getFunctionAddress("glGetCompressedTexImage");
-        glSampleCoverage = provider.getFunctionAddress("glSampleCoverage");
-        glActiveTexture = provider.getFunctionAddress("glActiveTexture");
-        glFogCoordf = getFunctionAddress(fc, provider, "glFogCoordf");
-        glFogCoordd = getFunctionAddress(fc, provider, "glFogCoordd");
-        glFogCoordfv = getFunctionAddress(fc, provider, "glFogCoordfv");
-        glFogCoorddv = getFunctionAddress(fc, provider, "glFogCoorddv");
-        glFogCoordPointer = getFunctionAddress(fc, provider, "glFogCoordPointer");
-        glSecondaryColor3b = getFunctionAddress(fc, provider, "glSecondaryColor3b");
-        glSecondaryColor3s = getFunctionAddress(fc, provider, "glSecondaryColor3s");
-        glSecondaryColor3i = getFunctionAddress(fc, provider, "glSecondaryColor3i");
-        glSecondaryColor3f = getFunctionAddress(fc, provider, "glSecondaryColor3f");
-        glSecondaryColor3d = getFunctionAddress(fc, provider, "glSecondaryColor3d");
-        glSecondaryColor3ub = getFunctionAddress(fc, provider, "glSecondaryColor3ub");
-        glSecondaryColor3us = getFunctionAddress(fc, provider, "glSecondaryColor3us");
-        glSecondaryColor3ui = getFunctionAddress(fc, provider, "glSecondaryColor3ui");
-        glSecondaryColor3bv = getFunctionAddress(fc, provider, "glSecondaryColor3bv");
-        glSecondaryColor3sv = getFunctionAddress(fc, provider, "glSecondaryColor3sv");
-        glSecondaryColor3iv = getFunctionAddress(fc, provider, "glSecondaryColor3iv");
-        glSecondaryColor3fv = getFunctionAddress(fc, provider, "glSecondaryColor3fv");
-        glSecondaryColor3dv = getFunctionAddress(fc, provider, "glSecondaryColor3dv");
-        glSecondaryColor3ubv = getFunctionAddress(fc, provider, "glSecondaryColor3ubv");
-        glSecondaryColor3usv = getFunctionAddress(fc, provider, "glSecondaryColor3usv");
-        glSecondaryColor3uiv = getFunctionAddress(fc, provider, "glSecondaryColor3uiv");
-        glSecondaryColorPointer = getFunctionAddress(fc, provider, "glSecondaryColorPointer");
-        glWindowPos2i = getFunctionAddress(fc, provider, "glWindowPos2i");
-        glWindowPos2s = getFunctionAddress(fc, provider, "glWindowPos2s");
-        glWindowPos2f = getFunctionAddress(fc, provider, "glWindowPos2f");
-        glWindowPos2d = getFunctionAddress(fc, provider, "glWindowPos2d");
-        glWindowPos2iv = getFunctionAddress(fc, provider, "glWindowPos2iv");
-        glWindowPos2sv = getFunctionAddress(fc, provider, "glWindowPos2sv");
-        glWindowPos2fv = getFunctionAddress(fc, provider, "glWindowPos2fv");
-        glWindowPos2dv = getFunctionAddress(fc, provider, "glWindowPos2dv");
-        glWindowPos3i = getFunctionAddress(fc, provider, "glWindowPos3i");
-        glWindowPos3s = getFunctionAddress(fc, provider, "glWindowPos3s");
-        glWindowPos3f = getFunctionAddress(fc, provider, "glWindowPos3f");
-        glWindowPos3d = getFunctionAddress(fc, provider, "glWindowPos3d");
-        glWindowPos3iv = getFunctionAddress(fc, provider, "glWindowPos3iv");
-        glWindowPos3sv = getFunctionAddress(fc, provider, "glWindowPos3sv");
-        glWindowPos3fv = getFunctionAddress(fc, provider, "glWindowPos3fv");
-        glWindowPos3dv = getFunctionAddress(fc, provider, "glWindowPos3dv");
-        glBlendColor = provider.getFunctionAddress("glBlendColor");
-        glBlendEquation = provider.getFunctionAddress("glBlendEquation");
-        glMultiDrawArrays = provider.getFunctionAddress("glMultiDrawArrays");
-        glMultiDrawElements = provider.getFunctionAddress("glMultiDrawElements");
-        glPointParameterf = provider.getFunctionAddress("glPointParameterf");
-        glPointParameteri = provider.getFunctionAddress("glPointParameteri");
-        glPointParameterfv = provider.getFunctionAddress("glPointParameterfv");
-        glPointParameteriv = provider.getFunctionAddress("glPointParameteriv");
-        glBlendFuncSeparate = provider.getFunctionAddress("glBlendFuncSeparate");
-        glBindBuffer = provider.getFunctionAddress("glBindBuffer");
-        glDeleteBuffers = provider.getFunctionAddress("glDeleteBuffers");
-        glGenBuffers = provider.getFunctionAddress("glGenBuffers");
-        glIsBuffer = provider.getFunctionAddress("glIsBuffer");
-        glBufferData = provider.getFunctionAddress("glBufferData");
-        glBufferSubData = provider.getFunctionAddress("glBufferSubData");
-        glGetBufferSubData = provider.getFunctionAddress("glGetBufferSubData");
-        glMapBuffer = provider.getFunctionAddress("glMapBuffer");
-        glUnmapBuffer = provider.getFunctionAddress("glUnmapBuffer");
-        glGetBufferParameteriv = provider.getFunctionAddress("glGetBufferParameteriv");
-        glGetBufferPointerv = provider.getFunctionAddress("glGetBufferPointerv");
-        glGenQueries = provider.getFunctionAddress("glGenQueries");
-        glDeleteQueries = provider.getFunctionAddress("glDeleteQueries");
-        glIsQuery = provider.getFunctionAddress("glIsQuery");
-        glBeginQuery = provider.getFunctionAddress("glBeginQuery");
-        glEndQuery = provider.getFunctionAddress("glEndQuery");
-        glGetQueryiv = provider.getFunctionAddress("glGetQueryiv");
-        glGetQueryObjectiv = provider.getFunctionAddress("glGetQueryObjectiv");
-        glGetQueryObjectuiv = provider.getFunctionAddress("glGetQueryObjectuiv");
-        glCreateProgram = provider.getFunctionAddress("glCreateProgram");
-        glDeleteProgram = provider.getFunctionAddress("glDeleteProgram");
-        glIsProgram = provider.getFunctionAddress("glIsProgram");
-        glCreateShader = provider.getFunctionAddress("glCreateShader");
-        glDeleteShader = provider.getFunctionAddress("glDeleteShader");
-        glIsShader = provider.getFunctionAddress("glIsShader");
-        glAttachShader = provider.getFunctionAddress("glAttachShader");
-        glDetachShader = provider.getFunctionAddress("glDetachShader");
-        glShaderSource = provider.getFunctionAddress("glShaderSource");
-        glCompileShader = provider.getFunctionAddress("glCompileShader");
-        glLinkProgram = provider.getFunctionAddress("glLinkProgram");
-        glUseProgram = provider.getFunctionAddress("glUseProgram");
-        glValidateProgram = provider.getFunctionAddress("glValidateProgram");
-        glUniform1f = provider.getFunctionAddress("glUniform1f");
-        glUniform2f = provider.getFunctionAddress("glUniform2f");
-        glUniform3f = provider.getFunctionAddress("glUniform3f");
-        glUniform4f = provider.getFunctionAddress("glUniform4f");
-        glUniform1i = provider.getFunctionAddress("glUniform1i");
-        glUniform2i = provider.getFunctionAddress("glUniform2i");
-        glUniform3i = provider.getFunctionAddress("glUniform3i");
-        glUniform4i = provider.getFunctionAddress("glUniform4i");
-        glUniform1fv = provider.getFunctionAddress("glUniform1fv");
-        glUniform2fv = provider.getFunctionAddress("glUniform2fv");
-        glUniform3fv = provider.getFunctionAddress("glUniform3fv");
-        glUniform4fv = provider.getFunctionAddress("glUniform4fv");
-        glUniform1iv = provider.getFunctionAddress("glUniform1iv");
-        glUniform2iv = provider.getFunctionAddress("glUniform2iv");
-        glUniform3iv = provider.getFunctionAddress("glUniform3iv");
-        glUniform4iv = provider.getFunctionAddress("glUniform4iv");
-        glUniformMatrix2fv = provider.getFunctionAddress("glUniformMatrix2fv");
-        glUniformMatrix3fv = provider.getFunctionAddress("glUniformMatrix3fv");
-        glUniformMatrix4fv = provider.getFunctionAddress("glUniformMatrix4fv");
-        glGetShaderiv = provider.getFunctionAddress("glGetShaderiv");
-        glGetProgramiv = provider.getFunctionAddress("glGetProgramiv");
-        glGetShaderInfoLog = provider.getFunctionAddress("glGetShaderInfoLog");
-        glGetProgramInfoLog = provider.getFunctionAddress("glGetProgramInfoLog");
-        glGetAttachedShaders = provider.getFunctionAddress("glGetAttachedShaders");
-        glGetUniformLocation = provider.getFunctionAddress("glGetUniformLocation");
-        glGetActiveUniform = provider.getFunctionAddress("glGetActiveUniform");
-        glGetUniformfv = provider.getFunctionAddress("glGetUniformfv");
-        glGetUniformiv = provider.getFunctionAddress("glGetUniformiv");
-        glGetShaderSource = provider.getFunctionAddress("glGetShaderSource");
-        glVertexAttrib1f = provider.getFunctionAddress("glVertexAttrib1f");
-        glVertexAttrib1s = provider.getFunctionAddress("glVertexAttrib1s");
-        glVertexAttrib1d = provider.getFunctionAddress("glVertexAttrib1d");
-        glVertexAttrib2f = provider.getFunctionAddress("glVertexAttrib2f");
-        glVertexAttrib2s = provider.getFunctionAddress("glVertexAttrib2s");
-        glVertexAttrib2d = provider.getFunctionAddress("glVertexAttrib2d");
-        glVertexAttrib3f = provider.getFunctionAddress("glVertexAttrib3f");
-        glVertexAttrib3s = provider.getFunctionAddress("glVertexAttrib3s");
-        glVertexAttrib3d = provider.getFunctionAddress("glVertexAttrib3d");
-        glVertexAttrib4f = provider.getFunctionAddress("glVertexAttrib4f");
-        glVertexAttrib4s = provider.getFunctionAddress("glVertexAttrib4s");
-        glVertexAttrib4d = provider.getFunctionAddress("glVertexAttrib4d");
-        glVertexAttrib4Nub = provider.getFunctionAddress("glVertexAttrib4Nub");
-        glVertexAttrib1fv = provider.getFunctionAddress("glVertexAttrib1fv");
-        glVertexAttrib1sv = provider.getFunctionAddress("glVertexAttrib1sv");
-        glVertexAttrib1dv = provider.getFunctionAddress("glVertexAttrib1dv");
-        glVertexAttrib2fv = provider.getFunctionAddress("glVertexAttrib2fv");
-        glVertexAttrib2sv = provider.getFunctionAddress("glVertexAttrib2sv");
-        glVertexAttrib2dv = provider.getFunctionAddress("glVertexAttrib2dv");
-        glVertexAttrib3fv = provider.getFunctionAddress("glVertexAttrib3fv");
-        glVertexAttrib3sv = provider.getFunctionAddress("glVertexAttrib3sv");
-        glVertexAttrib3dv = provider.getFunctionAddress("glVertexAttrib3dv");
-        glVertexAttrib4fv = provider.getFunctionAddress("glVertexAttrib4fv");
-        glVertexAttrib4sv = provider.getFunctionAddress("glVertexAttrib4sv");
-        glVertexAttrib4dv = provider.getFunctionAddress("glVertexAttrib4dv");
-        glVertexAttrib4iv = provider.getFunctionAddress("glVertexAttrib4iv");
-        glVertexAttrib4bv = provider.getFunctionAddress("glVertexAttrib4bv");
-        glVertexAttrib4ubv = provider.getFunctionAddress("glVertexAttrib4ubv");
-        glVertexAttrib4usv = provider.getFunctionAddress("glVertexAttrib4usv");
-        glVertexAttrib4uiv = provider.getFunctionAddress("glVertexAttrib4uiv");
-        glVertexAttrib4Nbv = provider.getFunctionAddress("glVertexAttrib4Nbv");
-        glVertexAttrib4Nsv = provider.getFunctionAddress("glVertexAttrib4Nsv");
-        glVertexAttrib4Niv = provider.getFunctionAddress("glVertexAttrib4Niv");
-        glVertexAttrib4Nubv = provider.getFunctionAddress("glVertexAttrib4Nubv");
-        glVertexAttrib4Nusv = provider.getFunctionAddress("glVertexAttrib4Nusv");
-        glVertexAttrib4Nuiv = provider.getFunctionAddress("glVertexAttrib4Nuiv");
-        glVertexAttribPointer = provider.getFunctionAddress("glVertexAttribPointer");
-        glEnableVertexAttribArray = provider.getFunctionAddress("glEnableVertexAttribArray");
-        glDisableVertexAttribArray = provider.getFunctionAddress("glDisableVertexAttribArray");
-        glBindAttribLocation = provider.getFunctionAddress("glBindAttribLocation");
-        glGetActiveAttrib = provider.getFunctionAddress("glGetActiveAttrib");
-        glGetAttribLocation = provider.getFunctionAddress("glGetAttribLocation");
-        glGetVertexAttribiv = provider.getFunctionAddress("glGetVertexAttribiv");
-        glGetVertexAttribfv = provider.getFunctionAddress("glGetVertexAttribfv");
-        glGetVertexAttribdv = provider.getFunctionAddress("glGetVertexAttribdv");
-        glGetVertexAttribPointerv = provider.getFunctionAddress("glGetVertexAttribPointerv");
-        glDrawBuffers = provider.getFunctionAddress("glDrawBuffers");
-        glBlendEquationSeparate = provider.getFunctionAddress("glBlendEquationSeparate");
-        glStencilOpSeparate = provider.getFunctionAddress("glStencilOpSeparate");
-        glStencilFuncSeparate = provider.getFunctionAddress("glStencilFuncSeparate");
-        glStencilMaskSeparate = provider.getFunctionAddress("glStencilMaskSeparate");
-        glUniformMatrix2x3fv = provider.getFunctionAddress("glUniformMatrix2x3fv");
-        glUniformMatrix3x2fv = provider.getFunctionAddress("glUniformMatrix3x2fv");
-        glUniformMatrix2x4fv = provider.getFunctionAddress("glUniformMatrix2x4fv");
-        glUniformMatrix4x2fv = provider.getFunctionAddress("glUniformMatrix4x2fv");
-        glUniformMatrix3x4fv = provider.getFunctionAddress("glUniformMatrix3x4fv");
-        glUniformMatrix4x3fv = provider.getFunctionAddress("glUniformMatrix4x3fv");
-        glGetStringi = provider.getFunctionAddress("glGetStringi");
-        glClearBufferiv = provider.getFunctionAddress("glClearBufferiv");
-        glClearBufferuiv = provider.getFunctionAddress("glClearBufferuiv");
-        glClearBufferfv = provider.getFunctionAddress("glClearBufferfv");
-        glClearBufferfi = provider.getFunctionAddress("glClearBufferfi");
-        glVertexAttribI1i = provider.getFunctionAddress("glVertexAttribI1i");
-        glVertexAttribI2i = provider.getFunctionAddress("glVertexAttribI2i");
-        glVertexAttribI3i = provider.getFunctionAddress("glVertexAttribI3i");
-        glVertexAttribI4i = provider.getFunctionAddress("glVertexAttribI4i");
-        glVertexAttribI1ui = provider.getFunctionAddress("glVertexAttribI1ui");
-        glVertexAttribI2ui = provider.getFunctionAddress("glVertexAttribI2ui");
-        glVertexAttribI3ui = provider.getFunctionAddress("glVertexAttribI3ui");
-        glVertexAttribI4ui = provider.getFunctionAddress("glVertexAttribI4ui");
-        glVertexAttribI1iv = provider.getFunctionAddress("glVertexAttribI1iv");
-        glVertexAttribI2iv = provider.getFunctionAddress("glVertexAttribI2iv");
-        glVertexAttribI3iv = provider.getFunctionAddress("glVertexAttribI3iv");
-        glVertexAttribI4iv = provider.getFunctionAddress("glVertexAttribI4iv");
-        glVertexAttribI1uiv = provider.getFunctionAddress("glVertexAttribI1uiv");
-        glVertexAttribI2uiv = provider.getFunctionAddress("glVertexAttribI2uiv");
-        glVertexAttribI3uiv = provider.getFunctionAddress("glVertexAttribI3uiv");
-        glVertexAttribI4uiv = provider.getFunctionAddress("glVertexAttribI4uiv");
-        glVertexAttribI4bv = provider.getFunctionAddress("glVertexAttribI4bv");
-        glVertexAttribI4sv = provider.getFunctionAddress("glVertexAttribI4sv");
-        glVertexAttribI4ubv = provider.getFunctionAddress("glVertexAttribI4ubv");
-        glVertexAttribI4usv = provider.getFunctionAddress("glVertexAttribI4usv");
-        glVertexAttribIPointer = provider.getFunctionAddress("glVertexAttribIPointer");
-        glGetVertexAttribIiv = provider.getFunctionAddress("glGetVertexAttribIiv");
-        glGetVertexAttribIuiv = provider.getFunctionAddress("glGetVertexAttribIuiv");
-        glUniform1ui = provider.getFunctionAddress("glUniform1ui");
-        glUniform2ui = provider.getFunctionAddress("glUniform2ui");
-        glUniform3ui = provider.getFunctionAddress("glUniform3ui");
-        glUniform4ui = provider.getFunctionAddress("glUniform4ui");
-        glUniform1uiv = provider.getFunctionAddress("glUniform1uiv");
-        glUniform2uiv = provider.getFunctionAddress("glUniform2uiv");
-        glUniform3uiv = provider.getFunctionAddress("glUniform3uiv");
-        glUniform4uiv = provider.getFunctionAddress("glUniform4uiv");
-        glGetUniformuiv = provider.getFunctionAddress("glGetUniformuiv");
-        glBindFragDataLocation = provider.getFunctionAddress("glBindFragDataLocation");
-        glGetFragDataLocation = provider.getFunctionAddress("glGetFragDataLocation");
-        glBeginConditionalRender = provider.getFunctionAddress("glBeginConditionalRender");
-        glEndConditionalRender = provider.getFunctionAddress("glEndConditionalRender");
-        glMapBufferRange = provider.getFunctionAddress("glMapBufferRange");
-        glFlushMappedBufferRange = provider.getFunctionAddress("glFlushMappedBufferRange");
-        glClampColor = provider.getFunctionAddress("glClampColor");
-        glIsRenderbuffer = provider.getFunctionAddress("glIsRenderbuffer");
-        glBindRenderbuffer = provider.getFunctionAddress("glBindRenderbuffer");
-        glDeleteRenderbuffers = provider.getFunctionAddress("glDeleteRenderbuffers");
-        glGenRenderbuffers = provider.getFunctionAddress("glGenRenderbuffers");
-        glRenderbufferStorage = provider.getFunctionAddress("glRenderbufferStorage");
-        glRenderbufferStorageMultisample = provider.getFunctionAddress("glRenderbufferStorageMultisample");
-        glGetRenderbufferParameteriv = provider.getFunctionAddress("glGetRenderbufferParameteriv");
-        glIsFramebuffer = provider.getFunctionAddress("glIsFramebuffer");
-        glBindFramebuffer = provider.getFunctionAddress("glBindFramebuffer");
-        glDeleteFramebuffers = provider.getFunctionAddress("glDeleteFramebuffers");
-        glGenFramebuffers = provider.getFunctionAddress("glGenFramebuffers");
-        glCheckFramebufferStatus = provider.getFunctionAddress("glCheckFramebufferStatus");
-        glFramebufferTexture1D = provider.getFunctionAddress("glFramebufferTexture1D");
-        glFramebufferTexture2D = provider.getFunctionAddress("glFramebufferTexture2D");
-        glFramebufferTexture3D = provider.getFunctionAddress("glFramebufferTexture3D");
-        glFramebufferTextureLayer = provider.getFunctionAddress("glFramebufferTextureLayer");
-        glFramebufferRenderbuffer = provider.getFunctionAddress("glFramebufferRenderbuffer");
-        glGetFramebufferAttachmentParameteriv = provider.getFunctionAddress("glGetFramebufferAttachmentParameteriv");
-        glBlitFramebuffer = provider.getFunctionAddress("glBlitFramebuffer");
-        glGenerateMipmap = provider.getFunctionAddress("glGenerateMipmap");
-        glTexParameterIiv = provider.getFunctionAddress("glTexParameterIiv");
-        glTexParameterIuiv = provider.getFunctionAddress("glTexParameterIuiv");
-        glGetTexParameterIiv = provider.getFunctionAddress("glGetTexParameterIiv");
-        glGetTexParameterIuiv = provider.getFunctionAddress("glGetTexParameterIuiv");
-        glColorMaski = provider.getFunctionAddress("glColorMaski");
-        glGetBooleani_v = provider.getFunctionAddress("glGetBooleani_v");
-        glGetIntegeri_v = provider.getFunctionAddress("glGetIntegeri_v");
-        glEnablei = provider.getFunctionAddress("glEnablei");
-        glDisablei = provider.getFunctionAddress("glDisablei");
-        glIsEnabledi = provider.getFunctionAddress("glIsEnabledi");
-        glBindBufferRange = provider.getFunctionAddress("glBindBufferRange");
-        glBindBufferBase = provider.getFunctionAddress("glBindBufferBase");
-        glBeginTransformFeedback = provider.getFunctionAddress("glBeginTransformFeedback");
-        glEndTransformFeedback = provider.getFunctionAddress("glEndTransformFeedback");
-        glTransformFeedbackVaryings = provider.getFunctionAddress("glTransformFeedbackVaryings");
-        glGetTransformFeedbackVarying = provider.getFunctionAddress("glGetTransformFeedbackVarying");
-        glBindVertexArray = provider.getFunctionAddress("glBindVertexArray");
-        glDeleteVertexArrays = provider.getFunctionAddress("glDeleteVertexArrays");
-        glGenVertexArrays = provider.getFunctionAddress("glGenVertexArrays");
-        glIsVertexArray = provider.getFunctionAddress("glIsVertexArray");
-        glDrawArraysInstanced = provider.getFunctionAddress("glDrawArraysInstanced");
-        glDrawElementsInstanced = provider.getFunctionAddress("glDrawElementsInstanced");
-        glCopyBufferSubData = provider.getFunctionAddress("glCopyBufferSubData");
-        glPrimitiveRestartIndex = provider.getFunctionAddress("glPrimitiveRestartIndex");
-        glTexBuffer = provider.getFunctionAddress("glTexBuffer");
-        glGetUniformIndices = provider.getFunctionAddress("glGetUniformIndices");
-        glGetActiveUniformsiv = provider.getFunctionAddress("glGetActiveUniformsiv");
-        glGetActiveUniformName = provider.getFunctionAddress("glGetActiveUniformName");
-        glGetUniformBlockIndex = provider.getFunctionAddress("glGetUniformBlockIndex");
-        glGetActiveUniformBlockiv = provider.getFunctionAddress("glGetActiveUniformBlockiv");
-        glGetActiveUniformBlockName = provider.getFunctionAddress("glGetActiveUniformBlockName");
-        glUniformBlockBinding = provider.getFunctionAddress("glUniformBlockBinding");
-        glGetBufferParameteri64v = provider.getFunctionAddress("glGetBufferParameteri64v");
-        glDrawElementsBaseVertex = provider.getFunctionAddress("glDrawElementsBaseVertex");
-        glDrawRangeElementsBaseVertex = provider.getFunctionAddress("glDrawRangeElementsBaseVertex");
-        glDrawElementsInstancedBaseVertex = provider.getFunctionAddress("glDrawElementsInstancedBaseVertex");
-        glMultiDrawElementsBaseVertex = provider.getFunctionAddress("glMultiDrawElementsBaseVertex");
-        glProvokingVertex = provider.getFunctionAddress("glProvokingVertex");
-        glTexImage2DMultisample = provider.getFunctionAddress("glTexImage2DMultisample");
-        glTexImage3DMultisample = provider.getFunctionAddress("glTexImage3DMultisample");
-        glGetMultisamplefv = provider.getFunctionAddress("glGetMultisamplefv");
-        glSampleMaski = provider.getFunctionAddress("glSampleMaski");
-        glFramebufferTexture = provider.getFunctionAddress("glFramebufferTexture");
-        glFenceSync = provider.getFunctionAddress("glFenceSync");
-        glIsSync = provider.getFunctionAddress("glIsSync");
-        glDeleteSync = provider.getFunctionAddress("glDeleteSync");
-        glClientWaitSync = provider.getFunctionAddress("glClientWaitSync");
-        glWaitSync = provider.getFunctionAddress("glWaitSync");
-        glGetInteger64v = provider.getFunctionAddress("glGetInteger64v");
-        glGetInteger64i_v = provider.getFunctionAddress("glGetInteger64i_v");
-        glGetSynciv = provider.getFunctionAddress("glGetSynciv");
-        glVertexP2ui = getFunctionAddress(fc, provider, "glVertexP2ui");
-        glVertexP3ui = getFunctionAddress(fc, provider, "glVertexP3ui");
-        glVertexP4ui = getFunctionAddress(fc, provider, "glVertexP4ui");
-        glVertexP2uiv = getFunctionAddress(fc, provider, "glVertexP2uiv");
-        glVertexP3uiv = getFunctionAddress(fc, provider, "glVertexP3uiv");
-        glVertexP4uiv = getFunctionAddress(fc, provider, "glVertexP4uiv");
-        glTexCoordP1ui = getFunctionAddress(fc, provider, "glTexCoordP1ui");
-        glTexCoordP2ui = getFunctionAddress(fc, provider, "glTexCoordP2ui");
-        glTexCoordP3ui = getFunctionAddress(fc, provider, "glTexCoordP3ui");
-        glTexCoordP4ui = getFunctionAddress(fc, provider, "glTexCoordP4ui");
-        glTexCoordP1uiv = getFunctionAddress(fc, provider, "glTexCoordP1uiv");
-        glTexCoordP2uiv = getFunctionAddress(fc, provider, "glTexCoordP2uiv");
-        glTexCoordP3uiv = getFunctionAddress(fc, provider, "glTexCoordP3uiv");
-        glTexCoordP4uiv = getFunctionAddress(fc, provider, "glTexCoordP4uiv");
-        glMultiTexCoordP1ui = getFunctionAddress(fc, provider, "glMultiTexCoordP1ui");
-        glMultiTexCoordP2ui = getFunctionAddress(fc, provider, "glMultiTexCoordP2ui");
-        glMultiTexCoordP3ui = getFunctionAddress(fc, provider, "glMultiTexCoordP3ui");
-        glMultiTexCoordP4ui = getFunctionAddress(fc, provider, "glMultiTexCoordP4ui");
-        glMultiTexCoordP1uiv = getFunctionAddress(fc, provider, "glMultiTexCoordP1uiv");
-        glMultiTexCoordP2uiv = getFunctionAddress(fc, provider, "glMultiTexCoordP2uiv");
-        glMultiTexCoordP3uiv = getFunctionAddress(fc, provider, "glMultiTexCoordP3uiv");
-        glMultiTexCoordP4uiv = getFunctionAddress(fc, provider, "glMultiTexCoordP4uiv");
-        glNormalP3ui = getFunctionAddress(fc, provider, "glNormalP3ui");
-        glNormalP3uiv = getFunctionAddress(fc, provider, "glNormalP3uiv");
-        glColorP3ui = getFunctionAddress(fc, provider, "glColorP3ui");
-        glColorP4ui = getFunctionAddress(fc, provider, "glColorP4ui");
-        glColorP3uiv = getFunctionAddress(fc, provider, "glColorP3uiv");
-        glColorP4uiv = getFunctionAddress(fc, provider, "glColorP4uiv");
-        glSecondaryColorP3ui = getFunctionAddress(fc, provider, "glSecondaryColorP3ui");
-        glSecondaryColorP3uiv = getFunctionAddress(fc, provider, "glSecondaryColorP3uiv");
-        glBindFragDataLocationIndexed = provider.getFunctionAddress("glBindFragDataLocationIndexed");
-        glGetFragDataIndex = provider.getFunctionAddress("glGetFragDataIndex");
-        glGenSamplers = provider.getFunctionAddress("glGenSamplers");
-        glDeleteSamplers = provider.getFunctionAddress("glDeleteSamplers");
-        glIsSampler = provider.getFunctionAddress("glIsSampler");
-        glBindSampler = provider.getFunctionAddress("glBindSampler");
-        glSamplerParameteri = provider.getFunctionAddress("glSamplerParameteri");
-        glSamplerParameterf = provider.getFunctionAddress("glSamplerParameterf");
-        glSamplerParameteriv = provider.getFunctionAddress("glSamplerParameteriv");
-        glSamplerParameterfv = provider.getFunctionAddress("glSamplerParameterfv");
-        glSamplerParameterIiv = provider.getFunctionAddress("glSamplerParameterIiv");
-        glSamplerParameterIuiv = provider.getFunctionAddress("glSamplerParameterIuiv");
-        glGetSamplerParameteriv = provider.getFunctionAddress("glGetSamplerParameteriv");
-        glGetSamplerParameterfv = provider.getFunctionAddress("glGetSamplerParameterfv");
-        glGetSamplerParameterIiv = provider.getFunctionAddress("glGetSamplerParameterIiv");
-        glGetSamplerParameterIuiv = provider.getFunctionAddress("glGetSamplerParameterIuiv");
-        glQueryCounter = provider.getFunctionAddress("glQueryCounter");
-        glGetQueryObjecti64v = provider.getFunctionAddress("glGetQueryObjecti64v");
-        glGetQueryObjectui64v = provider.getFunctionAddress("glGetQueryObjectui64v");
-        glVertexAttribDivisor = provider.getFunctionAddress("glVertexAttribDivisor");
-        glVertexAttribP1ui = provider.getFunctionAddress("glVertexAttribP1ui");
-        glVertexAttribP2ui = provider.getFunctionAddress("glVertexAttribP2ui");
-        glVertexAttribP3ui = provider.getFunctionAddress("glVertexAttribP3ui");
-        glVertexAttribP4ui = provider.getFunctionAddress("glVertexAttribP4ui");
-        glVertexAttribP1uiv = provider.getFunctionAddress("glVertexAttribP1uiv");
-        glVertexAttribP2uiv = provider.getFunctionAddress("glVertexAttribP2uiv");
-        glVertexAttribP3uiv = provider.getFunctionAddress("glVertexAttribP3uiv");
-        glVertexAttribP4uiv = provider.getFunctionAddress("glVertexAttribP4uiv");
-        glBlendEquationi = provider.getFunctionAddress("glBlendEquationi");
-        glBlendEquationSeparatei = provider.getFunctionAddress("glBlendEquationSeparatei");
-        glBlendFunci = provider.getFunctionAddress("glBlendFunci");
-        glBlendFuncSeparatei = provider.getFunctionAddress("glBlendFuncSeparatei");
-        glDrawArraysIndirect = provider.getFunctionAddress("glDrawArraysIndirect");
-        glDrawElementsIndirect = provider.getFunctionAddress("glDrawElementsIndirect");
-        glUniform1d = provider.getFunctionAddress("glUniform1d");
-        glUniform2d = provider.getFunctionAddress("glUniform2d");
-        glUniform3d = provider.getFunctionAddress("glUniform3d");
-        glUniform4d = provider.getFunctionAddress("glUniform4d");
-        glUniform1dv = provider.getFunctionAddress("glUniform1dv");
-        glUniform2dv = provider.getFunctionAddress("glUniform2dv");
-        glUniform3dv = provider.getFunctionAddress("glUniform3dv");
-        glUniform4dv = provider.getFunctionAddress("glUniform4dv");
-        glUniformMatrix2dv = provider.getFunctionAddress("glUniformMatrix2dv");
-        glUniformMatrix3dv = provider.getFunctionAddress("glUniformMatrix3dv");
-        glUniformMatrix4dv = provider.getFunctionAddress("glUniformMatrix4dv");
-        glUniformMatrix2x3dv = provider.getFunctionAddress("glUniformMatrix2x3dv");
-        glUniformMatrix2x4dv = provider.getFunctionAddress("glUniformMatrix2x4dv");
-        glUniformMatrix3x2dv = provider.getFunctionAddress("glUniformMatrix3x2dv");
-        glUniformMatrix3x4dv = provider.getFunctionAddress("glUniformMatrix3x4dv");
-        glUniformMatrix4x2dv = provider.getFunctionAddress("glUniformMatrix4x2dv");
-        glUniformMatrix4x3dv = provider.getFunctionAddress("glUniformMatrix4x3dv");
-        glGetUniformdv = provider.getFunctionAddress("glGetUniformdv");
-        glMinSampleShading = provider.getFunctionAddress("glMinSampleShading");
-        glGetSubroutineUniformLocation = provider.getFunctionAddress("glGetSubroutineUniformLocation");
-        glGetSubroutineIndex = provider.getFunctionAddress("glGetSubroutineIndex");
-        glGetActiveSubroutineUniformiv = provider.getFunctionAddress("glGetActiveSubroutineUniformiv");
-        glGetActiveSubroutineUniformName = provider.getFunctionAddress("glGetActiveSubroutineUniformName");
-        glGetActiveSubroutineName = provider.getFunctionAddress("glGetActiveSubroutineName");
-        glUniformSubroutinesuiv = provider.getFunctionAddress("glUniformSubroutinesuiv");
-        glGetUniformSubroutineuiv = provider.getFunctionAddress("glGetUniformSubroutineuiv");
-        glGetProgramStageiv = provider.getFunctionAddress("glGetProgramStageiv");
-        glPatchParameteri = provider.getFunctionAddress("glPatchParameteri");
-        glPatchParameterfv = provider.getFunctionAddress("glPatchParameterfv");
-        glBindTransformFeedback = provider.getFunctionAddress("glBindTransformFeedback");
-        glDeleteTransformFeedbacks = provider.getFunctionAddress("glDeleteTransformFeedbacks");
-        glGenTransformFeedbacks = provider.getFunctionAddress("glGenTransformFeedbacks");
-        glIsTransformFeedback = provider.getFunctionAddress("glIsTransformFeedback");
-        glPauseTransformFeedback = provider.getFunctionAddress("glPauseTransformFeedback");
-        glResumeTransformFeedback = provider.getFunctionAddress("glResumeTransformFeedback");
-        glDrawTransformFeedback = provider.getFunctionAddress("glDrawTransformFeedback");
-        glDrawTransformFeedbackStream = provider.getFunctionAddress("glDrawTransformFeedbackStream");
-        glBeginQueryIndexed = provider.getFunctionAddress("glBeginQueryIndexed");
-        glEndQueryIndexed = provider.getFunctionAddress("glEndQueryIndexed");
-        glGetQueryIndexediv = provider.getFunctionAddress("glGetQueryIndexediv");
-        glReleaseShaderCompiler = provider.getFunctionAddress("glReleaseShaderCompiler");
-        glShaderBinary = provider.getFunctionAddress("glShaderBinary");
-        glGetShaderPrecisionFormat = provider.getFunctionAddress("glGetShaderPrecisionFormat");
-        glDepthRangef = provider.getFunctionAddress("glDepthRangef");
-        glClearDepthf = provider.getFunctionAddress("glClearDepthf");
-        glGetProgramBinary = provider.getFunctionAddress("glGetProgramBinary");
-        glProgramBinary = provider.getFunctionAddress("glProgramBinary");
-        glProgramParameteri = provider.getFunctionAddress("glProgramParameteri");
-        glUseProgramStages = provider.getFunctionAddress("glUseProgramStages");
-        glActiveShaderProgram = provider.getFunctionAddress("glActiveShaderProgram");
-        glCreateShaderProgramv = provider.getFunctionAddress("glCreateShaderProgramv");
-        glBindProgramPipeline = provider.getFunctionAddress("glBindProgramPipeline");
-        glDeleteProgramPipelines = provider.getFunctionAddress("glDeleteProgramPipelines");
-        glGenProgramPipelines = provider.getFunctionAddress("glGenProgramPipelines");
-        glIsProgramPipeline = provider.getFunctionAddress("glIsProgramPipeline");
-        glGetProgramPipelineiv = provider.getFunctionAddress("glGetProgramPipelineiv");
-        glProgramUniform1i = provider.getFunctionAddress("glProgramUniform1i");
-        glProgramUniform2i = provider.getFunctionAddress("glProgramUniform2i");
-        glProgramUniform3i = provider.getFunctionAddress("glProgramUniform3i");
-        glProgramUniform4i = provider.getFunctionAddress("glProgramUniform4i");
-        glProgramUniform1ui = provider.getFunctionAddress("glProgramUniform1ui");
-        glProgramUniform2ui = provider.getFunctionAddress("glProgramUniform2ui");
-        glProgramUniform3ui = provider.getFunctionAddress("glProgramUniform3ui");
-        glProgramUniform4ui = provider.getFunctionAddress("glProgramUniform4ui");
-        glProgramUniform1f = provider.getFunctionAddress("glProgramUniform1f");
-        glProgramUniform2f = provider.getFunctionAddress("glProgramUniform2f");
-        glProgramUniform3f = provider.getFunctionAddress("glProgramUniform3f");
-        glProgramUniform4f = provider.getFunctionAddress("glProgramUniform4f");
-        glProgramUniform1d = provider.getFunctionAddress("glProgramUniform1d");
-        glProgramUniform2d = provider.getFunctionAddress("glProgramUniform2d");
-        glProgramUniform3d = provider.getFunctionAddress("glProgramUniform3d");
-        glProgramUniform4d = provider.getFunctionAddress("glProgramUniform4d");
-        glProgramUniform1iv = provider.getFunctionAddress("glProgramUniform1iv");
-        glProgramUniform2iv = provider.getFunctionAddress("glProgramUniform2iv");
-        glProgramUniform3iv = provider.getFunctionAddress("glProgramUniform3iv");
-        glProgramUniform4iv = provider.getFunctionAddress("glProgramUniform4iv");
-        glProgramUniform1uiv = provider.getFunctionAddress("glProgramUniform1uiv");
-        glProgramUniform2uiv = provider.getFunctionAddress("glProgramUniform2uiv");
-        glProgramUniform3uiv = provider.getFunctionAddress("glProgramUniform3uiv");
-        glProgramUniform4uiv = provider.getFunctionAddress("glProgramUniform4uiv");
-        glProgramUniform1fv = provider.getFunctionAddress("glProgramUniform1fv");
-        glProgramUniform2fv = provider.getFunctionAddress("glProgramUniform2fv");
-        glProgramUniform3fv = provider.getFunctionAddress("glProgramUniform3fv");
-        glProgramUniform4fv = provider.getFunctionAddress("glProgramUniform4fv");
-        glProgramUniform1dv = provider.getFunctionAddress("glProgramUniform1dv");
-        glProgramUniform2dv = provider.getFunctionAddress("glProgramUniform2dv");
-        glProgramUniform3dv = provider.getFunctionAddress("glProgramUniform3dv");
-        glProgramUniform4dv = provider.getFunctionAddress("glProgramUniform4dv");
-        glProgramUniformMatrix2fv = provider.getFunctionAddress("glProgramUniformMatrix2fv");
-        glProgramUniformMatrix3fv = provider.getFunctionAddress("glProgramUniformMatrix3fv");
-        glProgramUniformMatrix4fv = provider.getFunctionAddress("glProgramUniformMatrix4fv");
-        glProgramUniformMatrix2dv = provider.getFunctionAddress("glProgramUniformMatrix2dv");
-        glProgramUniformMatrix3dv = provider.getFunctionAddress("glProgramUniformMatrix3dv");
-        glProgramUniformMatrix4dv = provider.getFunctionAddress("glProgramUniformMatrix4dv");
-        glProgramUniformMatrix2x3fv = provider.getFunctionAddress("glProgramUniformMatrix2x3fv");
-        glProgramUniformMatrix3x2fv = provider.getFunctionAddress("glProgramUniformMatrix3x2fv");
-        glProgramUniformMatrix2x4fv = provider.getFunctionAddress("glProgramUniformMatrix2x4fv");
-        glProgramUniformMatrix4x2fv = provider.getFunctionAddress("glProgramUniformMatrix4x2fv");
-        glProgramUniformMatrix3x4fv = provider.getFunctionAddress("glProgramUniformMatrix3x4fv");
-        glProgramUniformMatrix4x3fv = provider.getFunctionAddress("glProgramUniformMatrix4x3fv");
-        glProgramUniformMatrix2x3dv = provider.getFunctionAddress("glProgramUniformMatrix2x3dv");
-        glProgramUniformMatrix3x2dv = provider.getFunctionAddress("glProgramUniformMatrix3x2dv");
-        glProgramUniformMatrix2x4dv = provider.getFunctionAddress("glProgramUniformMatrix2x4dv");
-        glProgramUniformMatrix4x2dv = provider.getFunctionAddress("glProgramUniformMatrix4x2dv");
-        glProgramUniformMatrix3x4dv = provider.getFunctionAddress("glProgramUniformMatrix3x4dv");
-        glProgramUniformMatrix4x3dv = provider.getFunctionAddress("glProgramUniformMatrix4x3dv");
-        glValidateProgramPipeline = provider.getFunctionAddress("glValidateProgramPipeline");
-        glGetProgramPipelineInfoLog = provider.getFunctionAddress("glGetProgramPipelineInfoLog");
-        glVertexAttribL1d = provider.getFunctionAddress("glVertexAttribL1d");
-        glVertexAttribL2d = provider.getFunctionAddress("glVertexAttribL2d");
-        glVertexAttribL3d = provider.getFunctionAddress("glVertexAttribL3d");
-        glVertexAttribL4d = provider.getFunctionAddress("glVertexAttribL4d");
-        glVertexAttribL1dv = provider.getFunctionAddress("glVertexAttribL1dv");
-        glVertexAttribL2dv = provider.getFunctionAddress("glVertexAttribL2dv");
-        glVertexAttribL3dv = provider.getFunctionAddress("glVertexAttribL3dv");
-        glVertexAttribL4dv = provider.getFunctionAddress("glVertexAttribL4dv");
-        glVertexAttribLPointer = provider.getFunctionAddress("glVertexAttribLPointer");
-        glGetVertexAttribLdv = provider.getFunctionAddress("glGetVertexAttribLdv");
-        glViewportArrayv = provider.getFunctionAddress("glViewportArrayv");
-        glViewportIndexedf = provider.getFunctionAddress("glViewportIndexedf");
-        glViewportIndexedfv = provider.getFunctionAddress("glViewportIndexedfv");
-        glScissorArrayv = provider.getFunctionAddress("glScissorArrayv");
-        glScissorIndexed = provider.getFunctionAddress("glScissorIndexed");
-        glScissorIndexedv = provider.getFunctionAddress("glScissorIndexedv");
-        glDepthRangeArrayv = provider.getFunctionAddress("glDepthRangeArrayv");
-        glDepthRangeIndexed = provider.getFunctionAddress("glDepthRangeIndexed");
-        glGetFloati_v = provider.getFunctionAddress("glGetFloati_v");
-        glGetDoublei_v = provider.getFunctionAddress("glGetDoublei_v");
-        glGetActiveAtomicCounterBufferiv = provider.getFunctionAddress("glGetActiveAtomicCounterBufferiv");
-        glTexStorage1D = provider.getFunctionAddress("glTexStorage1D");
-        glTexStorage2D = provider.getFunctionAddress("glTexStorage2D");
-        glTexStorage3D = provider.getFunctionAddress("glTexStorage3D");
-        glDrawTransformFeedbackInstanced = provider.getFunctionAddress("glDrawTransformFeedbackInstanced");
-        glDrawTransformFeedbackStreamInstanced = provider.getFunctionAddress("glDrawTransformFeedbackStreamInstanced");
-        glDrawArraysInstancedBaseInstance = provider.getFunctionAddress("glDrawArraysInstancedBaseInstance");
-        glDrawElementsInstancedBaseInstance = provider.getFunctionAddress("glDrawElementsInstancedBaseInstance");
-        glDrawElementsInstancedBaseVertexBaseInstance = provider.getFunctionAddress("glDrawElementsInstancedBaseVertexBaseInstance");
-        glBindImageTexture = provider.getFunctionAddress("glBindImageTexture");
-        glMemoryBarrier = provider.getFunctionAddress("glMemoryBarrier");
-        glGetInternalformativ = provider.getFunctionAddress("glGetInternalformativ");
-        glClearBufferData = provider.getFunctionAddress("glClearBufferData");
-        glClearBufferSubData = provider.getFunctionAddress("glClearBufferSubData");
-        glDispatchCompute = provider.getFunctionAddress("glDispatchCompute");
-        glDispatchComputeIndirect = provider.getFunctionAddress("glDispatchComputeIndirect");
-        glCopyImageSubData = provider.getFunctionAddress("glCopyImageSubData");
-        glDebugMessageControl = provider.getFunctionAddress("glDebugMessageControl");
-        glDebugMessageInsert = provider.getFunctionAddress("glDebugMessageInsert");
-        glDebugMessageCallback = provider.getFunctionAddress("glDebugMessageCallback");
-        glGetDebugMessageLog = provider.getFunctionAddress("glGetDebugMessageLog");
-        glPushDebugGroup = provider.getFunctionAddress("glPushDebugGroup");
-        glPopDebugGroup = provider.getFunctionAddress("glPopDebugGroup");
-        glObjectLabel = provider.getFunctionAddress("glObjectLabel");
-        glGetObjectLabel = provider.getFunctionAddress("glGetObjectLabel");
-        glObjectPtrLabel = provider.getFunctionAddress("glObjectPtrLabel");
-        glGetObjectPtrLabel = provider.getFunctionAddress("glGetObjectPtrLabel");
-        glFramebufferParameteri = provider.getFunctionAddress("glFramebufferParameteri");
-        glGetFramebufferParameteriv = provider.getFunctionAddress("glGetFramebufferParameteriv");
-        glGetInternalformati64v = provider.getFunctionAddress("glGetInternalformati64v");
-        glInvalidateTexSubImage = provider.getFunctionAddress("glInvalidateTexSubImage");
-        glInvalidateTexImage = provider.getFunctionAddress("glInvalidateTexImage");
-        glInvalidateBufferSubData = provider.getFunctionAddress("glInvalidateBufferSubData");
-        glInvalidateBufferData = provider.getFunctionAddress("glInvalidateBufferData");
-        glInvalidateFramebuffer = provider.getFunctionAddress("glInvalidateFramebuffer");
-        glInvalidateSubFramebuffer = provider.getFunctionAddress("glInvalidateSubFramebuffer");
-        glMultiDrawArraysIndirect = provider.getFunctionAddress("glMultiDrawArraysIndirect");
-        glMultiDrawElementsIndirect = provider.getFunctionAddress("glMultiDrawElementsIndirect");
-        glGetProgramInterfaceiv = provider.getFunctionAddress("glGetProgramInterfaceiv");
-        glGetProgramResourceIndex = provider.getFunctionAddress("glGetProgramResourceIndex");
-        glGetProgramResourceName = provider.getFunctionAddress("glGetProgramResourceName");
-        glGetProgramResourceiv = provider.getFunctionAddress("glGetProgramResourceiv");
-        glGetProgramResourceLocation = provider.getFunctionAddress("glGetProgramResourceLocation");
-        glGetProgramResourceLocationIndex = provider.getFunctionAddress("glGetProgramResourceLocationIndex");
-        glShaderStorageBlockBinding = provider.getFunctionAddress("glShaderStorageBlockBinding");
-        glTexBufferRange = provider.getFunctionAddress("glTexBufferRange");
-        glTexStorage2DMultisample = provider.getFunctionAddress("glTexStorage2DMultisample");
-        glTexStorage3DMultisample = provider.getFunctionAddress("glTexStorage3DMultisample");
-        glTextureView = provider.getFunctionAddress("glTextureView");
-        glBindVertexBuffer = provider.getFunctionAddress("glBindVertexBuffer");
-        glVertexAttribFormat = provider.getFunctionAddress("glVertexAttribFormat");
-        glVertexAttribIFormat = provider.getFunctionAddress("glVertexAttribIFormat");
-        glVertexAttribLFormat = provider.getFunctionAddress("glVertexAttribLFormat");
-        glVertexAttribBinding = provider.getFunctionAddress("glVertexAttribBinding");
-        glVertexBindingDivisor = provider.getFunctionAddress("glVertexBindingDivisor");
-        glBufferStorage = provider.getFunctionAddress("glBufferStorage");
-        glClearTexSubImage = provider.getFunctionAddress("glClearTexSubImage");
-        glClearTexImage = provider.getFunctionAddress("glClearTexImage");
-        glBindBuffersBase = provider.getFunctionAddress("glBindBuffersBase");
-        glBindBuffersRange = provider.getFunctionAddress("glBindBuffersRange");
-        glBindTextures = provider.getFunctionAddress("glBindTextures");
-        glBindSamplers = provider.getFunctionAddress("glBindSamplers");
-        glBindImageTextures = provider.getFunctionAddress("glBindImageTextures");
-        glBindVertexBuffers = provider.getFunctionAddress("glBindVertexBuffers");
-        glGetnMapdv = provider.getFunctionAddress("glGetnMapdv");
-        glGetnMapfv = provider.getFunctionAddress("glGetnMapfv");
-        glGetnMapiv = provider.getFunctionAddress("glGetnMapiv");
-        glGetnPixelMapfv = provider.getFunctionAddress("glGetnPixelMapfv");
-        glGetnPixelMapuiv = provider.getFunctionAddress("glGetnPixelMapuiv");
-        glGetnPixelMapusv = provider.getFunctionAddress("glGetnPixelMapusv");
-        glGetnPolygonStipple = provider.getFunctionAddress("glGetnPolygonStipple");
-        glGetnColorTable = provider.getFunctionAddress("glGetnColorTable");
-        glGetnConvolutionFilter = provider.getFunctionAddress("glGetnConvolutionFilter");
-        glGetnSeparableFilter = provider.getFunctionAddress("glGetnSeparableFilter");
-        glGetnHistogram = provider.getFunctionAddress("glGetnHistogram");
-        glGetnMinmax = provider.getFunctionAddress("glGetnMinmax");
-        glClipControl = provider.getFunctionAddress("glClipControl");
-        glCreateTransformFeedbacks = provider.getFunctionAddress("glCreateTransformFeedbacks");
-        glTransformFeedbackBufferBase = provider.getFunctionAddress("glTransformFeedbackBufferBase");
-        glTransformFeedbackBufferRange = provider.getFunctionAddress("glTransformFeedbackBufferRange");
-        glGetTransformFeedbackiv = provider.getFunctionAddress("glGetTransformFeedbackiv");
-        glGetTransformFeedbacki_v = provider.getFunctionAddress("glGetTransformFeedbacki_v");
-        glGetTransformFeedbacki64_v = provider.getFunctionAddress("glGetTransformFeedbacki64_v");
-        glCreateBuffers = provider.getFunctionAddress("glCreateBuffers");
-        glNamedBufferStorage = provider.getFunctionAddress("glNamedBufferStorage");
-        glNamedBufferData = provider.getFunctionAddress("glNamedBufferData");
-        glNamedBufferSubData = provider.getFunctionAddress("glNamedBufferSubData");
-        glCopyNamedBufferSubData = provider.getFunctionAddress("glCopyNamedBufferSubData");
-        glClearNamedBufferData = provider.getFunctionAddress("glClearNamedBufferData");
-        glClearNamedBufferSubData = provider.getFunctionAddress("glClearNamedBufferSubData");
-        glMapNamedBuffer = provider.getFunctionAddress("glMapNamedBuffer");
-        glMapNamedBufferRange = provider.getFunctionAddress("glMapNamedBufferRange");
-        glUnmapNamedBuffer = provider.getFunctionAddress("glUnmapNamedBuffer");
-        glFlushMappedNamedBufferRange = provider.getFunctionAddress("glFlushMappedNamedBufferRange");
-        glGetNamedBufferParameteriv = provider.getFunctionAddress("glGetNamedBufferParameteriv");
-        glGetNamedBufferParameteri64v = provider.getFunctionAddress("glGetNamedBufferParameteri64v");
-        glGetNamedBufferPointerv = provider.getFunctionAddress("glGetNamedBufferPointerv");
-        glGetNamedBufferSubData = provider.getFunctionAddress("glGetNamedBufferSubData");
-        glCreateFramebuffers = provider.getFunctionAddress("glCreateFramebuffers");
-        glNamedFramebufferRenderbuffer = provider.getFunctionAddress("glNamedFramebufferRenderbuffer");
-        glNamedFramebufferParameteri = provider.getFunctionAddress("glNamedFramebufferParameteri");
-        glNamedFramebufferTexture = provider.getFunctionAddress("glNamedFramebufferTexture");
-        glNamedFramebufferTextureLayer = provider.getFunctionAddress("glNamedFramebufferTextureLayer");
-        glNamedFramebufferDrawBuffer = provider.getFunctionAddress("glNamedFramebufferDrawBuffer");
-        glNamedFramebufferDrawBuffers = provider.getFunctionAddress("glNamedFramebufferDrawBuffers");
-        glNamedFramebufferReadBuffer = provider.getFunctionAddress("glNamedFramebufferReadBuffer");
-        glInvalidateNamedFramebufferData = provider.getFunctionAddress("glInvalidateNamedFramebufferData");
-        glInvalidateNamedFramebufferSubData = provider.getFunctionAddress("glInvalidateNamedFramebufferSubData");
-        glClearNamedFramebufferiv = provider.getFunctionAddress("glClearNamedFramebufferiv");
-        glClearNamedFramebufferuiv = provider.getFunctionAddress("glClearNamedFramebufferuiv");
-        glClearNamedFramebufferfv = provider.getFunctionAddress("glClearNamedFramebufferfv");
-        glClearNamedFramebufferfi = provider.getFunctionAddress("glClearNamedFramebufferfi");
-        glBlitNamedFramebuffer = provider.getFunctionAddress("glBlitNamedFramebuffer");
-        glCheckNamedFramebufferStatus = provider.getFunctionAddress("glCheckNamedFramebufferStatus");
-        glGetNamedFramebufferParameteriv = provider.getFunctionAddress("glGetNamedFramebufferParameteriv");
-        glGetNamedFramebufferAttachmentParameteriv = provider.getFunctionAddress("glGetNamedFramebufferAttachmentParameteriv");
-        glCreateRenderbuffers = provider.getFunctionAddress("glCreateRenderbuffers");
-        glNamedRenderbufferStorage = provider.getFunctionAddress("glNamedRenderbufferStorage");
-        glNamedRenderbufferStorageMultisample = provider.getFunctionAddress("glNamedRenderbufferStorageMultisample");
-        glGetNamedRenderbufferParameteriv = provider.getFunctionAddress("glGetNamedRenderbufferParameteriv");
-        glCreateTextures = provider.getFunctionAddress("glCreateTextures");
-        glTextureBuffer = provider.getFunctionAddress("glTextureBuffer");
-        glTextureBufferRange = provider.getFunctionAddress("glTextureBufferRange");
-        glTextureStorage1D = provider.getFunctionAddress("glTextureStorage1D");
-        glTextureStorage2D = provider.getFunctionAddress("glTextureStorage2D");
-        glTextureStorage3D = provider.getFunctionAddress("glTextureStorage3D");
-        glTextureStorage2DMultisample = provider.getFunctionAddress("glTextureStorage2DMultisample");
-        glTextureStorage3DMultisample = provider.getFunctionAddress("glTextureStorage3DMultisample");
-        glTextureSubImage1D = provider.getFunctionAddress("glTextureSubImage1D");
-        glTextureSubImage2D = provider.getFunctionAddress("glTextureSubImage2D");
-        glTextureSubImage3D = provider.getFunctionAddress("glTextureSubImage3D");
-        glCompressedTextureSubImage1D = provider.getFunctionAddress("glCompressedTextureSubImage1D");
-        glCompressedTextureSubImage2D = provider.getFunctionAddress("glCompressedTextureSubImage2D");
-        glCompressedTextureSubImage3D = provider.getFunctionAddress("glCompressedTextureSubImage3D");
-        glCopyTextureSubImage1D = provider.getFunctionAddress("glCopyTextureSubImage1D");
-        glCopyTextureSubImage2D = provider.getFunctionAddress("glCopyTextureSubImage2D");
-        glCopyTextureSubImage3D = provider.getFunctionAddress("glCopyTextureSubImage3D");
-        glTextureParameterf = provider.getFunctionAddress("glTextureParameterf");
-        glTextureParameterfv = provider.getFunctionAddress("glTextureParameterfv");
-        glTextureParameteri = provider.getFunctionAddress("glTextureParameteri");
-        glTextureParameterIiv = provider.getFunctionAddress("glTextureParameterIiv");
-        glTextureParameterIuiv = provider.getFunctionAddress("glTextureParameterIuiv");
-        glTextureParameteriv = provider.getFunctionAddress("glTextureParameteriv");
-        glGenerateTextureMipmap = provider.getFunctionAddress("glGenerateTextureMipmap");
-        glBindTextureUnit = provider.getFunctionAddress("glBindTextureUnit");
-        glGetTextureImage = provider.getFunctionAddress("glGetTextureImage");
-        glGetCompressedTextureImage = provider.getFunctionAddress("glGetCompressedTextureImage");
-        glGetTextureLevelParameterfv = provider.getFunctionAddress("glGetTextureLevelParameterfv");
-        glGetTextureLevelParameteriv = provider.getFunctionAddress("glGetTextureLevelParameteriv");
-        glGetTextureParameterfv = provider.getFunctionAddress("glGetTextureParameterfv");
-        glGetTextureParameterIiv = provider.getFunctionAddress("glGetTextureParameterIiv");
-        glGetTextureParameterIuiv = provider.getFunctionAddress("glGetTextureParameterIuiv");
-        glGetTextureParameteriv = provider.getFunctionAddress("glGetTextureParameteriv");
-        glCreateVertexArrays = provider.getFunctionAddress("glCreateVertexArrays");
-        glDisableVertexArrayAttrib = provider.getFunctionAddress("glDisableVertexArrayAttrib");
-        glEnableVertexArrayAttrib = provider.getFunctionAddress("glEnableVertexArrayAttrib");
-        glVertexArrayElementBuffer = provider.getFunctionAddress("glVertexArrayElementBuffer");
-        glVertexArrayVertexBuffer = provider.getFunctionAddress("glVertexArrayVertexBuffer");
-        glVertexArrayVertexBuffers = provider.getFunctionAddress("glVertexArrayVertexBuffers");
-        glVertexArrayAttribFormat = provider.getFunctionAddress("glVertexArrayAttribFormat");
-        glVertexArrayAttribIFormat = provider.getFunctionAddress("glVertexArrayAttribIFormat");
-        glVertexArrayAttribLFormat = provider.getFunctionAddress("glVertexArrayAttribLFormat");
-        glVertexArrayAttribBinding = provider.getFunctionAddress("glVertexArrayAttribBinding");
-        glVertexArrayBindingDivisor = provider.getFunctionAddress("glVertexArrayBindingDivisor");
-        glGetVertexArrayiv = provider.getFunctionAddress("glGetVertexArrayiv");
-        glGetVertexArrayIndexediv = provider.getFunctionAddress("glGetVertexArrayIndexediv");
-        glGetVertexArrayIndexed64iv = provider.getFunctionAddress("glGetVertexArrayIndexed64iv");
-        glCreateSamplers = provider.getFunctionAddress("glCreateSamplers");
-        glCreateProgramPipelines = provider.getFunctionAddress("glCreateProgramPipelines");
-        glCreateQueries = provider.getFunctionAddress("glCreateQueries");
-        glGetQueryBufferObjectiv = provider.getFunctionAddress("glGetQueryBufferObjectiv");
-        glGetQueryBufferObjectuiv = provider.getFunctionAddress("glGetQueryBufferObjectuiv");
-        glGetQueryBufferObjecti64v = provider.getFunctionAddress("glGetQueryBufferObjecti64v");
-        glGetQueryBufferObjectui64v = provider.getFunctionAddress("glGetQueryBufferObjectui64v");
-        glMemoryBarrierByRegion = provider.getFunctionAddress("glMemoryBarrierByRegion");
-        glGetTextureSubImage = provider.getFunctionAddress("glGetTextureSubImage");
-        glGetCompressedTextureSubImage = provider.getFunctionAddress("glGetCompressedTextureSubImage");
-        glTextureBarrier = provider.getFunctionAddress("glTextureBarrier");
-        glGetGraphicsResetStatus = provider.getFunctionAddress("glGetGraphicsResetStatus");
-        glGetnTexImage = provider.getFunctionAddress("glGetnTexImage");
-        glReadnPixels = provider.getFunctionAddress("glReadnPixels");
-        glGetnCompressedTexImage = provider.getFunctionAddress("glGetnCompressedTexImage");
-        glGetnUniformfv = provider.getFunctionAddress("glGetnUniformfv");
-        glGetnUniformdv = provider.getFunctionAddress("glGetnUniformdv");
-        glGetnUniformiv = provider.getFunctionAddress("glGetnUniformiv");
-        glGetnUniformuiv = provider.getFunctionAddress("glGetnUniformuiv");
-        glMultiDrawArraysIndirectCount = provider.getFunctionAddress("glMultiDrawArraysIndirectCount");
-        glMultiDrawElementsIndirectCount = provider.getFunctionAddress("glMultiDrawElementsIndirectCount");
-        glPolygonOffsetClamp = provider.getFunctionAddress("glPolygonOffsetClamp");
-        glSpecializeShader = provider.getFunctionAddress("glSpecializeShader");
-        glDebugMessageEnableAMD = provider.getFunctionAddress("glDebugMessageEnableAMD");
-        glDebugMessageInsertAMD = provider.getFunctionAddress("glDebugMessageInsertAMD");
-        glDebugMessageCallbackAMD = provider.getFunctionAddress("glDebugMessageCallbackAMD");
-        glGetDebugMessageLogAMD = provider.getFunctionAddress("glGetDebugMessageLogAMD");
-        glBlendFuncIndexedAMD = provider.getFunctionAddress("glBlendFuncIndexedAMD");
-        glBlendFuncSeparateIndexedAMD = provider.getFunctionAddress("glBlendFuncSeparateIndexedAMD");
-        glBlendEquationIndexedAMD = provider.getFunctionAddress("glBlendEquationIndexedAMD");
-        glBlendEquationSeparateIndexedAMD = provider.getFunctionAddress("glBlendEquationSeparateIndexedAMD");
-        glRenderbufferStorageMultisampleAdvancedAMD = provider.getFunctionAddress("glRenderbufferStorageMultisampleAdvancedAMD");
-        glNamedRenderbufferStorageMultisampleAdvancedAMD = provider.getFunctionAddress("glNamedRenderbufferStorageMultisampleAdvancedAMD");
-        glVertexAttribParameteriAMD = provider.getFunctionAddress("glVertexAttribParameteriAMD");
-        glQueryObjectParameteruiAMD = provider.getFunctionAddress("glQueryObjectParameteruiAMD");
-        glGetPerfMonitorGroupsAMD = provider.getFunctionAddress("glGetPerfMonitorGroupsAMD");
-        glGetPerfMonitorCountersAMD = provider.getFunctionAddress("glGetPerfMonitorCountersAMD");
-        glGetPerfMonitorGroupStringAMD = provider.getFunctionAddress("glGetPerfMonitorGroupStringAMD");
-        glGetPerfMonitorCounterStringAMD = provider.getFunctionAddress("glGetPerfMonitorCounterStringAMD");
-        glGetPerfMonitorCounterInfoAMD = provider.getFunctionAddress("glGetPerfMonitorCounterInfoAMD");
-        glGenPerfMonitorsAMD = provider.getFunctionAddress("glGenPerfMonitorsAMD");
-        glDeletePerfMonitorsAMD = provider.getFunctionAddress("glDeletePerfMonitorsAMD");
-        glSelectPerfMonitorCountersAMD = provider.getFunctionAddress("glSelectPerfMonitorCountersAMD");
-        glBeginPerfMonitorAMD = provider.getFunctionAddress("glBeginPerfMonitorAMD");
-        glEndPerfMonitorAMD = provider.getFunctionAddress("glEndPerfMonitorAMD");
-        glGetPerfMonitorCounterDataAMD = provider.getFunctionAddress("glGetPerfMonitorCounterDataAMD");
-        glSetMultisamplefvAMD = provider.getFunctionAddress("glSetMultisamplefvAMD");
-        glTexStorageSparseAMD = provider.getFunctionAddress("glTexStorageSparseAMD");
-        glTextureStorageSparseAMD = provider.getFunctionAddress("glTextureStorageSparseAMD");
-        glStencilOpValueAMD = provider.getFunctionAddress("glStencilOpValueAMD");
-        glTessellationFactorAMD = provider.getFunctionAddress("glTessellationFactorAMD");
-        glTessellationModeAMD = provider.getFunctionAddress("glTessellationModeAMD");
-        glGetTextureHandleARB = provider.getFunctionAddress("glGetTextureHandleARB");
-        glGetTextureSamplerHandleARB = provider.getFunctionAddress("glGetTextureSamplerHandleARB");
-        glMakeTextureHandleResidentARB = provider.getFunctionAddress("glMakeTextureHandleResidentARB");
-        glMakeTextureHandleNonResidentARB = provider.getFunctionAddress("glMakeTextureHandleNonResidentARB");
-        glGetImageHandleARB = provider.getFunctionAddress("glGetImageHandleARB");
-        glMakeImageHandleResidentARB = provider.getFunctionAddress("glMakeImageHandleResidentARB");
-        glMakeImageHandleNonResidentARB = provider.getFunctionAddress("glMakeImageHandleNonResidentARB");
-        glUniformHandleui64ARB = provider.getFunctionAddress("glUniformHandleui64ARB");
-        glUniformHandleui64vARB = provider.getFunctionAddress("glUniformHandleui64vARB");
-        glProgramUniformHandleui64ARB = provider.getFunctionAddress("glProgramUniformHandleui64ARB");
-        glProgramUniformHandleui64vARB = provider.getFunctionAddress("glProgramUniformHandleui64vARB");
-        glIsTextureHandleResidentARB = provider.getFunctionAddress("glIsTextureHandleResidentARB");
-        glIsImageHandleResidentARB = provider.getFunctionAddress("glIsImageHandleResidentARB");
-        glVertexAttribL1ui64ARB = provider.getFunctionAddress("glVertexAttribL1ui64ARB");
-        glVertexAttribL1ui64vARB = provider.getFunctionAddress("glVertexAttribL1ui64vARB");
-        glGetVertexAttribLui64vARB = provider.getFunctionAddress("glGetVertexAttribLui64vARB");
-        glNamedBufferStorageEXT = provider.getFunctionAddress("glNamedBufferStorageEXT");
-        glCreateSyncFromCLeventARB = provider.getFunctionAddress("glCreateSyncFromCLeventARB");
-        glClearNamedBufferDataEXT = provider.getFunctionAddress("glClearNamedBufferDataEXT");
-        glClearNamedBufferSubDataEXT = provider.getFunctionAddress("glClearNamedBufferSubDataEXT");
-        glClampColorARB = provider.getFunctionAddress("glClampColorARB");
-        glDispatchComputeGroupSizeARB = provider.getFunctionAddress("glDispatchComputeGroupSizeARB");
-        glDebugMessageControlARB = provider.getFunctionAddress("glDebugMessageControlARB");
-        glDebugMessageInsertARB = provider.getFunctionAddress("glDebugMessageInsertARB");
-        glDebugMessageCallbackARB = provider.getFunctionAddress("glDebugMessageCallbackARB");
-        glGetDebugMessageLogARB = provider.getFunctionAddress("glGetDebugMessageLogARB");
-        glDrawBuffersARB = provider.getFunctionAddress("glDrawBuffersARB");
-        glBlendEquationiARB = provider.getFunctionAddress("glBlendEquationiARB");
-        glBlendEquationSeparateiARB = provider.getFunctionAddress("glBlendEquationSeparateiARB");
-        glBlendFunciARB = provider.getFunctionAddress("glBlendFunciARB");
-        glBlendFuncSeparateiARB = provider.getFunctionAddress("glBlendFuncSeparateiARB");
-        glDrawArraysInstancedARB = provider.getFunctionAddress("glDrawArraysInstancedARB");
-        glDrawElementsInstancedARB = provider.getFunctionAddress("glDrawElementsInstancedARB");
-        glPrimitiveBoundingBoxARB = provider.getFunctionAddress("glPrimitiveBoundingBoxARB");
-        glNamedFramebufferParameteriEXT = provider.getFunctionAddress("glNamedFramebufferParameteriEXT");
-        glGetNamedFramebufferParameterivEXT = provider.getFunctionAddress("glGetNamedFramebufferParameterivEXT");
-        glProgramParameteriARB = provider.getFunctionAddress("glProgramParameteriARB");
-        glFramebufferTextureARB = provider.getFunctionAddress("glFramebufferTextureARB");
-        glFramebufferTextureLayerARB = provider.getFunctionAddress("glFramebufferTextureLayerARB");
-        glFramebufferTextureFaceARB = provider.getFunctionAddress("glFramebufferTextureFaceARB");
-        glSpecializeShaderARB = provider.getFunctionAddress("glSpecializeShaderARB");
-        glProgramUniform1dEXT = provider.getFunctionAddress("glProgramUniform1dEXT");
-        glProgramUniform2dEXT = provider.getFunctionAddress("glProgramUniform2dEXT");
-        glProgramUniform3dEXT = provider.getFunctionAddress("glProgramUniform3dEXT");
-        glProgramUniform4dEXT = provider.getFunctionAddress("glProgramUniform4dEXT");
-        glProgramUniform1dvEXT = provider.getFunctionAddress("glProgramUniform1dvEXT");
-        glProgramUniform2dvEXT = provider.getFunctionAddress("glProgramUniform2dvEXT");
-        glProgramUniform3dvEXT = provider.getFunctionAddress("glProgramUniform3dvEXT");
-        glProgramUniform4dvEXT = provider.getFunctionAddress("glProgramUniform4dvEXT");
-        glProgramUniformMatrix2dvEXT = provider.getFunctionAddress("glProgramUniformMatrix2dvEXT");
-        glProgramUniformMatrix3dvEXT = provider.getFunctionAddress("glProgramUniformMatrix3dvEXT");
-        glProgramUniformMatrix4dvEXT = provider.getFunctionAddress("glProgramUniformMatrix4dvEXT");
-        glProgramUniformMatrix2x3dvEXT = provider.getFunctionAddress("glProgramUniformMatrix2x3dvEXT");
-        glProgramUniformMatrix2x4dvEXT = provider.getFunctionAddress("glProgramUniformMatrix2x4dvEXT");
-        glProgramUniformMatrix3x2dvEXT = provider.getFunctionAddress("glProgramUniformMatrix3x2dvEXT");
-        glProgramUniformMatrix3x4dvEXT = provider.getFunctionAddress("glProgramUniformMatrix3x4dvEXT");
-        glProgramUniformMatrix4x2dvEXT = provider.getFunctionAddress("glProgramUniformMatrix4x2dvEXT");
-        glProgramUniformMatrix4x3dvEXT = provider.getFunctionAddress("glProgramUniformMatrix4x3dvEXT");
-        glUniform1i64ARB = provider.getFunctionAddress("glUniform1i64ARB");
-        glUniform1i64vARB = provider.getFunctionAddress("glUniform1i64vARB");
-        glProgramUniform1i64ARB = provider.getFunctionAddress("glProgramUniform1i64ARB");
-        glProgramUniform1i64vARB = provider.getFunctionAddress("glProgramUniform1i64vARB");
-        glUniform2i64ARB = provider.getFunctionAddress("glUniform2i64ARB");
-        glUniform2i64vARB = provider.getFunctionAddress("glUniform2i64vARB");
-        glProgramUniform2i64ARB = provider.getFunctionAddress("glProgramUniform2i64ARB");
-        glProgramUniform2i64vARB = provider.getFunctionAddress("glProgramUniform2i64vARB");
-        glUniform3i64ARB = provider.getFunctionAddress("glUniform3i64ARB");
-        glUniform3i64vARB = provider.getFunctionAddress("glUniform3i64vARB");
-        glProgramUniform3i64ARB = provider.getFunctionAddress("glProgramUniform3i64ARB");
-        glProgramUniform3i64vARB = provider.getFunctionAddress("glProgramUniform3i64vARB");
-        glUniform4i64ARB = provider.getFunctionAddress("glUniform4i64ARB");
-        glUniform4i64vARB = provider.getFunctionAddress("glUniform4i64vARB");
-        glProgramUniform4i64ARB = provider.getFunctionAddress("glProgramUniform4i64ARB");
-        glProgramUniform4i64vARB = provider.getFunctionAddress("glProgramUniform4i64vARB");
-        glUniform1ui64ARB = provider.getFunctionAddress("glUniform1ui64ARB");
-        glUniform1ui64vARB = provider.getFunctionAddress("glUniform1ui64vARB");
-        glProgramUniform1ui64ARB = provider.getFunctionAddress("glProgramUniform1ui64ARB");
-        glProgramUniform1ui64vARB = provider.getFunctionAddress("glProgramUniform1ui64vARB");
-        glUniform2ui64ARB = provider.getFunctionAddress("glUniform2ui64ARB");
-        glUniform2ui64vARB = provider.getFunctionAddress("glUniform2ui64vARB");
-        glProgramUniform2ui64ARB = provider.getFunctionAddress("glProgramUniform2ui64ARB");
-        glProgramUniform2ui64vARB = provider.getFunctionAddress("glProgramUniform2ui64vARB");
-        glUniform3ui64ARB = provider.getFunctionAddress("glUniform3ui64ARB");
-        glUniform3ui64vARB = provider.getFunctionAddress("glUniform3ui64vARB");
-        glProgramUniform3ui64ARB = provider.getFunctionAddress("glProgramUniform3ui64ARB");
-        glProgramUniform3ui64vARB = provider.getFunctionAddress("glProgramUniform3ui64vARB");
-        glUniform4ui64ARB = provider.getFunctionAddress("glUniform4ui64ARB");
-        glUniform4ui64vARB = provider.getFunctionAddress("glUniform4ui64vARB");
-        glProgramUniform4ui64ARB = provider.getFunctionAddress("glProgramUniform4ui64ARB");
-        glProgramUniform4ui64vARB = provider.getFunctionAddress("glProgramUniform4ui64vARB");
-        glGetUniformi64vARB = provider.getFunctionAddress("glGetUniformi64vARB");
-        glGetUniformui64vARB = provider.getFunctionAddress("glGetUniformui64vARB");
-        glGetnUniformi64vARB = provider.getFunctionAddress("glGetnUniformi64vARB");
-        glGetnUniformui64vARB = provider.getFunctionAddress("glGetnUniformui64vARB");
-        glColorTable = getFunctionAddress(fc, provider, "glColorTable");
-        glCopyColorTable = getFunctionAddress(fc, provider, "glCopyColorTable");
-        glColorTableParameteriv = getFunctionAddress(fc, provider, "glColorTableParameteriv");
-        glColorTableParameterfv = getFunctionAddress(fc, provider, "glColorTableParameterfv");
-        glGetColorTable = getFunctionAddress(fc, provider, "glGetColorTable");
-        glGetColorTableParameteriv = getFunctionAddress(fc, provider, "glGetColorTableParameteriv");
-        glGetColorTableParameterfv = getFunctionAddress(fc, provider, "glGetColorTableParameterfv");
-        glColorSubTable = getFunctionAddress(fc, provider, "glColorSubTable");
-        glCopyColorSubTable = getFunctionAddress(fc, provider, "glCopyColorSubTable");
-        glConvolutionFilter1D = getFunctionAddress(fc, provider, "glConvolutionFilter1D");
-        glConvolutionFilter2D = getFunctionAddress(fc, provider, "glConvolutionFilter2D");
-        glCopyConvolutionFilter1D = getFunctionAddress(fc, provider, "glCopyConvolutionFilter1D");
-        glCopyConvolutionFilter2D = getFunctionAddress(fc, provider, "glCopyConvolutionFilter2D");
-        glGetConvolutionFilter = getFunctionAddress(fc, provider, "glGetConvolutionFilter");
-        glSeparableFilter2D = getFunctionAddress(fc, provider, "glSeparableFilter2D");
-        glGetSeparableFilter = getFunctionAddress(fc, provider, "glGetSeparableFilter");
-        glConvolutionParameteri = getFunctionAddress(fc, provider, "glConvolutionParameteri");
-        glConvolutionParameteriv = getFunctionAddress(fc, provider, "glConvolutionParameteriv");
-        glConvolutionParameterf = getFunctionAddress(fc, provider, "glConvolutionParameterf");
-        glConvolutionParameterfv = getFunctionAddress(fc, provider, "glConvolutionParameterfv");
-        glGetConvolutionParameteriv = getFunctionAddress(fc, provider, "glGetConvolutionParameteriv");
-        glGetConvolutionParameterfv = getFunctionAddress(fc, provider, "glGetConvolutionParameterfv");
-        glHistogram = getFunctionAddress(fc, provider, "glHistogram");
-        glResetHistogram = getFunctionAddress(fc, provider, "glResetHistogram");
-        glGetHistogram = getFunctionAddress(fc, provider, "glGetHistogram");
-        glGetHistogramParameteriv = getFunctionAddress(fc, provider, "glGetHistogramParameteriv");
-        glGetHistogramParameterfv = getFunctionAddress(fc, provider, "glGetHistogramParameterfv");
-        glMinmax = getFunctionAddress(fc, provider, "glMinmax");
-        glResetMinmax = getFunctionAddress(fc, provider, "glResetMinmax");
-        glGetMinmax = getFunctionAddress(fc, provider, "glGetMinmax");
-        glGetMinmaxParameteriv = getFunctionAddress(fc, provider, "glGetMinmaxParameteriv");
-        glGetMinmaxParameterfv = getFunctionAddress(fc, provider, "glGetMinmaxParameterfv");
-        glMultiDrawArraysIndirectCountARB = provider.getFunctionAddress("glMultiDrawArraysIndirectCountARB");
-        glMultiDrawElementsIndirectCountARB = provider.getFunctionAddress("glMultiDrawElementsIndirectCountARB");
-        glVertexAttribDivisorARB = provider.getFunctionAddress("glVertexAttribDivisorARB");
-        glVertexArrayVertexAttribDivisorEXT = provider.getFunctionAddress("glVertexArrayVertexAttribDivisorEXT");
-        glCurrentPaletteMatrixARB = provider.getFunctionAddress("glCurrentPaletteMatrixARB");
-        glMatrixIndexuivARB = provider.getFunctionAddress("glMatrixIndexuivARB");
-        glMatrixIndexubvARB = provider.getFunctionAddress("glMatrixIndexubvARB");
-        glMatrixIndexusvARB = provider.getFunctionAddress("glMatrixIndexusvARB");
-        glMatrixIndexPointerARB = provider.getFunctionAddress("glMatrixIndexPointerARB");
-        glSampleCoverageARB = provider.getFunctionAddress("glSampleCoverageARB");
-        glActiveTextureARB = provider.getFunctionAddress("glActiveTextureARB");
-        glClientActiveTextureARB = provider.getFunctionAddress("glClientActiveTextureARB");
-        glMultiTexCoord1fARB = provider.getFunctionAddress("glMultiTexCoord1fARB");
-        glMultiTexCoord1sARB = provider.getFunctionAddress("glMultiTexCoord1sARB");
-        glMultiTexCoord1iARB = provider.getFunctionAddress("glMultiTexCoord1iARB");
-        glMultiTexCoord1dARB = provider.getFunctionAddress("glMultiTexCoord1dARB");
-        glMultiTexCoord1fvARB = provider.getFunctionAddress("glMultiTexCoord1fvARB");
-        glMultiTexCoord1svARB = provider.getFunctionAddress("glMultiTexCoord1svARB");
-        glMultiTexCoord1ivARB = provider.getFunctionAddress("glMultiTexCoord1ivARB");
-        glMultiTexCoord1dvARB = provider.getFunctionAddress("glMultiTexCoord1dvARB");
-        glMultiTexCoord2fARB = provider.getFunctionAddress("glMultiTexCoord2fARB");
-        glMultiTexCoord2sARB = provider.getFunctionAddress("glMultiTexCoord2sARB");
-        glMultiTexCoord2iARB = provider.getFunctionAddress("glMultiTexCoord2iARB");
-        glMultiTexCoord2dARB = provider.getFunctionAddress("glMultiTexCoord2dARB");
-        glMultiTexCoord2fvARB = provider.getFunctionAddress("glMultiTexCoord2fvARB");
-        glMultiTexCoord2svARB = provider.getFunctionAddress("glMultiTexCoord2svARB");
-        glMultiTexCoord2ivARB = provider.getFunctionAddress("glMultiTexCoord2ivARB");
-        glMultiTexCoord2dvARB = provider.getFunctionAddress("glMultiTexCoord2dvARB");
-        glMultiTexCoord3fARB = provider.getFunctionAddress("glMultiTexCoord3fARB");
-        glMultiTexCoord3sARB = provider.getFunctionAddress("glMultiTexCoord3sARB");
-        glMultiTexCoord3iARB = provider.getFunctionAddress("glMultiTexCoord3iARB");
-        glMultiTexCoord3dARB = provider.getFunctionAddress("glMultiTexCoord3dARB");
-        glMultiTexCoord3fvARB = provider.getFunctionAddress("glMultiTexCoord3fvARB");
-        glMultiTexCoord3svARB = provider.getFunctionAddress("glMultiTexCoord3svARB");
-        glMultiTexCoord3ivARB = provider.getFunctionAddress("glMultiTexCoord3ivARB");
-        glMultiTexCoord3dvARB = provider.getFunctionAddress("glMultiTexCoord3dvARB");
-        glMultiTexCoord4fARB = provider.getFunctionAddress("glMultiTexCoord4fARB");
-        glMultiTexCoord4sARB = provider.getFunctionAddress("glMultiTexCoord4sARB");
-        glMultiTexCoord4iARB = provider.getFunctionAddress("glMultiTexCoord4iARB");
-        glMultiTexCoord4dARB = provider.getFunctionAddress("glMultiTexCoord4dARB");
-        glMultiTexCoord4fvARB = provider.getFunctionAddress("glMultiTexCoord4fvARB");
-        glMultiTexCoord4svARB = provider.getFunctionAddress("glMultiTexCoord4svARB");
-        glMultiTexCoord4ivARB = provider.getFunctionAddress("glMultiTexCoord4ivARB");
-        glMultiTexCoord4dvARB = provider.getFunctionAddress("glMultiTexCoord4dvARB");
-        glGenQueriesARB = provider.getFunctionAddress("glGenQueriesARB");
-        glDeleteQueriesARB = provider.getFunctionAddress("glDeleteQueriesARB");
-        glIsQueryARB = provider.getFunctionAddress("glIsQueryARB");
-        glBeginQueryARB = provider.getFunctionAddress("glBeginQueryARB");
-        glEndQueryARB = provider.getFunctionAddress("glEndQueryARB");
-        glGetQueryivARB = provider.getFunctionAddress("glGetQueryivARB");
-        glGetQueryObjectivARB = provider.getFunctionAddress("glGetQueryObjectivARB");
-        glGetQueryObjectuivARB = provider.getFunctionAddress("glGetQueryObjectuivARB");
-        glMaxShaderCompilerThreadsARB = provider.getFunctionAddress("glMaxShaderCompilerThreadsARB");
-        glPointParameterfARB = provider.getFunctionAddress("glPointParameterfARB");
-        glPointParameterfvARB = provider.getFunctionAddress("glPointParameterfvARB");
-        glGetGraphicsResetStatusARB = provider.getFunctionAddress("glGetGraphicsResetStatusARB");
-        glGetnMapdvARB = provider.getFunctionAddress("glGetnMapdvARB");
-        glGetnMapfvARB = provider.getFunctionAddress("glGetnMapfvARB");
-        glGetnMapivARB = provider.getFunctionAddress("glGetnMapivARB");
-        glGetnPixelMapfvARB = provider.getFunctionAddress("glGetnPixelMapfvARB");
-        glGetnPixelMapuivARB = provider.getFunctionAddress("glGetnPixelMapuivARB");
-        glGetnPixelMapusvARB = provider.getFunctionAddress("glGetnPixelMapusvARB");
-        glGetnPolygonStippleARB = provider.getFunctionAddress("glGetnPolygonStippleARB");
-        glGetnTexImageARB = provider.getFunctionAddress("glGetnTexImageARB");
-        glReadnPixelsARB = provider.getFunctionAddress("glReadnPixelsARB");
-        glGetnColorTableARB = provider.getFunctionAddress("glGetnColorTableARB");
-        glGetnConvolutionFilterARB = provider.getFunctionAddress("glGetnConvolutionFilterARB");
-        glGetnSeparableFilterARB = provider.getFunctionAddress("glGetnSeparableFilterARB");
-        glGetnHistogramARB = provider.getFunctionAddress("glGetnHistogramARB");
-        glGetnMinmaxARB = provider.getFunctionAddress("glGetnMinmaxARB");
-        glGetnCompressedTexImageARB = provider.getFunctionAddress("glGetnCompressedTexImageARB");
-        glGetnUniformfvARB = provider.getFunctionAddress("glGetnUniformfvARB");
-        glGetnUniformivARB = provider.getFunctionAddress("glGetnUniformivARB");
-        glGetnUniformuivARB = provider.getFunctionAddress("glGetnUniformuivARB");
-        glGetnUniformdvARB = provider.getFunctionAddress("glGetnUniformdvARB");
-        glFramebufferSampleLocationsfvARB = provider.getFunctionAddress("glFramebufferSampleLocationsfvARB");
-        glNamedFramebufferSampleLocationsfvARB = provider.getFunctionAddress("glNamedFramebufferSampleLocationsfvARB");
-        glEvaluateDepthValuesARB = provider.getFunctionAddress("glEvaluateDepthValuesARB");
-        glMinSampleShadingARB = provider.getFunctionAddress("glMinSampleShadingARB");
-        glDeleteObjectARB = provider.getFunctionAddress("glDeleteObjectARB");
-        glGetHandleARB = provider.getFunctionAddress("glGetHandleARB");
-        glDetachObjectARB = provider.getFunctionAddress("glDetachObjectARB");
-        glCreateShaderObjectARB = provider.getFunctionAddress("glCreateShaderObjectARB");
-        glShaderSourceARB = provider.getFunctionAddress("glShaderSourceARB");
-        glCompileShaderARB = provider.getFunctionAddress("glCompileShaderARB");
-        glCreateProgramObjectARB = provider.getFunctionAddress("glCreateProgramObjectARB");
-        glAttachObjectARB = provider.getFunctionAddress("glAttachObjectARB");
-        glLinkProgramARB = provider.getFunctionAddress("glLinkProgramARB");
-        glUseProgramObjectARB = provider.getFunctionAddress("glUseProgramObjectARB");
-        glValidateProgramARB = provider.getFunctionAddress("glValidateProgramARB");
-        glUniform1fARB = provider.getFunctionAddress("glUniform1fARB");
-        glUniform2fARB = provider.getFunctionAddress("glUniform2fARB");
-        glUniform3fARB = provider.getFunctionAddress("glUniform3fARB");
-        glUniform4fARB = provider.getFunctionAddress("glUniform4fARB");
-        glUniform1iARB = provider.getFunctionAddress("glUniform1iARB");
-        glUniform2iARB = provider.getFunctionAddress("glUniform2iARB");
-        glUniform3iARB = provider.getFunctionAddress("glUniform3iARB");
-        glUniform4iARB = provider.getFunctionAddress("glUniform4iARB");
-        glUniform1fvARB = provider.getFunctionAddress("glUniform1fvARB");
-        glUniform2fvARB = provider.getFunctionAddress("glUniform2fvARB");
-        glUniform3fvARB = provider.getFunctionAddress("glUniform3fvARB");
-        glUniform4fvARB = provider.getFunctionAddress("glUniform4fvARB");
-        glUniform1ivARB = provider.getFunctionAddress("glUniform1ivARB");
-        glUniform2ivARB = provider.getFunctionAddress("glUniform2ivARB");
-        glUniform3ivARB = provider.getFunctionAddress("glUniform3ivARB");
-        glUniform4ivARB = provider.getFunctionAddress("glUniform4ivARB");
-        glUniformMatrix2fvARB = provider.getFunctionAddress("glUniformMatrix2fvARB");
-        glUniformMatrix3fvARB = provider.getFunctionAddress("glUniformMatrix3fvARB");
-        glUniformMatrix4fvARB = provider.getFunctionAddress("glUniformMatrix4fvARB");
-        glGetObjectParameterfvARB = provider.getFunctionAddress("glGetObjectParameterfvARB");
-        glGetObjectParameterivARB = provider.getFunctionAddress("glGetObjectParameterivARB");
-        glGetInfoLogARB = provider.getFunctionAddress("glGetInfoLogARB");
-        glGetAttachedObjectsARB = provider.getFunctionAddress("glGetAttachedObjectsARB");
-        glGetUniformLocationARB = provider.getFunctionAddress("glGetUniformLocationARB");
-        glGetActiveUniformARB = provider.getFunctionAddress("glGetActiveUniformARB");
-        glGetUniformfvARB = provider.getFunctionAddress("glGetUniformfvARB");
-        glGetUniformivARB = provider.getFunctionAddress("glGetUniformivARB");
-        glGetShaderSourceARB = provider.getFunctionAddress("glGetShaderSourceARB");
-        glNamedStringARB = provider.getFunctionAddress("glNamedStringARB");
-        glDeleteNamedStringARB = provider.getFunctionAddress("glDeleteNamedStringARB");
-        glCompileShaderIncludeARB = provider.getFunctionAddress("glCompileShaderIncludeARB");
-        glIsNamedStringARB = provider.getFunctionAddress("glIsNamedStringARB");
-        glGetNamedStringARB = provider.getFunctionAddress("glGetNamedStringARB");
-        glGetNamedStringivARB = provider.getFunctionAddress("glGetNamedStringivARB");
-        glBufferPageCommitmentARB = provider.getFunctionAddress("glBufferPageCommitmentARB");
-        glNamedBufferPageCommitmentEXT = provider.getFunctionAddress("glNamedBufferPageCommitmentEXT");
-        glNamedBufferPageCommitmentARB = provider.getFunctionAddress("glNamedBufferPageCommitmentARB");
-        glTexPageCommitmentARB = provider.getFunctionAddress("glTexPageCommitmentARB");
-        glTexturePageCommitmentEXT = provider.getFunctionAddress("glTexturePageCommitmentEXT");
-        glTexBufferARB = provider.getFunctionAddress("glTexBufferARB");
-        glTextureBufferRangeEXT = provider.getFunctionAddress("glTextureBufferRangeEXT");
-        glCompressedTexImage3DARB = provider.getFunctionAddress("glCompressedTexImage3DARB");
-        glCompressedTexImage2DARB = provider.getFunctionAddress("glCompressedTexImage2DARB");
-        glCompressedTexImage1DARB = provider.getFunctionAddress("glCompressedTexImage1DARB");
-        glCompressedTexSubImage3DARB = provider.getFunctionAddress("glCompressedTexSubImage3DARB");
-        glCompressedTexSubImage2DARB = provider.getFunctionAddress("glCompressedTexSubImage2DARB");
-        glCompressedTexSubImage1DARB = provider.getFunctionAddress("glCompressedTexSubImage1DARB");
-        glGetCompressedTexImageARB = provider.getFunctionAddress("glGetCompressedTexImageARB");
-        glTextureStorage1DEXT = provider.getFunctionAddress("glTextureStorage1DEXT");
-        glTextureStorage2DEXT = provider.getFunctionAddress("glTextureStorage2DEXT");
-        glTextureStorage3DEXT = provider.getFunctionAddress("glTextureStorage3DEXT");
-        glTextureStorage2DMultisampleEXT = provider.getFunctionAddress("glTextureStorage2DMultisampleEXT");
-        glTextureStorage3DMultisampleEXT = provider.getFunctionAddress("glTextureStorage3DMultisampleEXT");
-        glLoadTransposeMatrixfARB = provider.getFunctionAddress("glLoadTransposeMatrixfARB");
-        glLoadTransposeMatrixdARB = provider.getFunctionAddress("glLoadTransposeMatrixdARB");
-        glMultTransposeMatrixfARB = provider.getFunctionAddress("glMultTransposeMatrixfARB");
-        glMultTransposeMatrixdARB = provider.getFunctionAddress("glMultTransposeMatrixdARB");
-        glVertexArrayVertexAttribLOffsetEXT = provider.getFunctionAddress("glVertexArrayVertexAttribLOffsetEXT");
-        glVertexArrayBindVertexBufferEXT = provider.getFunctionAddress("glVertexArrayBindVertexBufferEXT");
-        glVertexArrayVertexAttribFormatEXT = provider.getFunctionAddress("glVertexArrayVertexAttribFormatEXT");
-        glVertexArrayVertexAttribIFormatEXT = provider.getFunctionAddress("glVertexArrayVertexAttribIFormatEXT");
-        glVertexArrayVertexAttribLFormatEXT = provider.getFunctionAddress("glVertexArrayVertexAttribLFormatEXT");
-        glVertexArrayVertexAttribBindingEXT = provider.getFunctionAddress("glVertexArrayVertexAttribBindingEXT");
-        glVertexArrayVertexBindingDivisorEXT = provider.getFunctionAddress("glVertexArrayVertexBindingDivisorEXT");
-        glWeightfvARB = provider.getFunctionAddress("glWeightfvARB");
-        glWeightbvARB = provider.getFunctionAddress("glWeightbvARB");
-        glWeightubvARB = provider.getFunctionAddress("glWeightubvARB");
-        glWeightsvARB = provider.getFunctionAddress("glWeightsvARB");
-        glWeightusvARB = provider.getFunctionAddress("glWeightusvARB");
-        glWeightivARB = provider.getFunctionAddress("glWeightivARB");
-        glWeightuivARB = provider.getFunctionAddress("glWeightuivARB");
-        glWeightdvARB = provider.getFunctionAddress("glWeightdvARB");
-        glWeightPointerARB = provider.getFunctionAddress("glWeightPointerARB");
-        glVertexBlendARB = provider.getFunctionAddress("glVertexBlendARB");
-        glBindBufferARB = provider.getFunctionAddress("glBindBufferARB");
-        glDeleteBuffersARB = provider.getFunctionAddress("glDeleteBuffersARB");
-        glGenBuffersARB = provider.getFunctionAddress("glGenBuffersARB");
-        glIsBufferARB = provider.getFunctionAddress("glIsBufferARB");
-        glBufferDataARB = provider.getFunctionAddress("glBufferDataARB");
-        glBufferSubDataARB = provider.getFunctionAddress("glBufferSubDataARB");
-        glGetBufferSubDataARB = provider.getFunctionAddress("glGetBufferSubDataARB");
-        glMapBufferARB = provider.getFunctionAddress("glMapBufferARB");
-        glUnmapBufferARB = provider.getFunctionAddress("glUnmapBufferARB");
-        glGetBufferParameterivARB = provider.getFunctionAddress("glGetBufferParameterivARB");
-        glGetBufferPointervARB = provider.getFunctionAddress("glGetBufferPointervARB");
-        glProgramStringARB = provider.getFunctionAddress("glProgramStringARB");
-        glBindProgramARB = provider.getFunctionAddress("glBindProgramARB");
-        glDeleteProgramsARB = provider.getFunctionAddress("glDeleteProgramsARB");
-        glGenProgramsARB = provider.getFunctionAddress("glGenProgramsARB");
-        glProgramEnvParameter4dARB = provider.getFunctionAddress("glProgramEnvParameter4dARB");
-        glProgramEnvParameter4dvARB = provider.getFunctionAddress("glProgramEnvParameter4dvARB");
-        glProgramEnvParameter4fARB = provider.getFunctionAddress("glProgramEnvParameter4fARB");
-        glProgramEnvParameter4fvARB = provider.getFunctionAddress("glProgramEnvParameter4fvARB");
-        glProgramLocalParameter4dARB = provider.getFunctionAddress("glProgramLocalParameter4dARB");
-        glProgramLocalParameter4dvARB = provider.getFunctionAddress("glProgramLocalParameter4dvARB");
-        glProgramLocalParameter4fARB = provider.getFunctionAddress("glProgramLocalParameter4fARB");
-        glProgramLocalParameter4fvARB = provider.getFunctionAddress("glProgramLocalParameter4fvARB");
-        glGetProgramEnvParameterfvARB = provider.getFunctionAddress("glGetProgramEnvParameterfvARB");
-        glGetProgramEnvParameterdvARB = provider.getFunctionAddress("glGetProgramEnvParameterdvARB");
-        glGetProgramLocalParameterfvARB = provider.getFunctionAddress("glGetProgramLocalParameterfvARB");
-        glGetProgramLocalParameterdvARB = provider.getFunctionAddress("glGetProgramLocalParameterdvARB");
-        glGetProgramivARB = provider.getFunctionAddress("glGetProgramivARB");
-        glGetProgramStringARB = provider.getFunctionAddress("glGetProgramStringARB");
-        glIsProgramARB = provider.getFunctionAddress("glIsProgramARB");
-        glVertexAttrib1fARB = provider.getFunctionAddress("glVertexAttrib1fARB");
-        glVertexAttrib1sARB = provider.getFunctionAddress("glVertexAttrib1sARB");
-        glVertexAttrib1dARB = provider.getFunctionAddress("glVertexAttrib1dARB");
-        glVertexAttrib2fARB = provider.getFunctionAddress("glVertexAttrib2fARB");
-        glVertexAttrib2sARB = provider.getFunctionAddress("glVertexAttrib2sARB");
-        glVertexAttrib2dARB = provider.getFunctionAddress("glVertexAttrib2dARB");
-        glVertexAttrib3fARB = provider.getFunctionAddress("glVertexAttrib3fARB");
-        glVertexAttrib3sARB = provider.getFunctionAddress("glVertexAttrib3sARB");
-        glVertexAttrib3dARB = provider.getFunctionAddress("glVertexAttrib3dARB");
-        glVertexAttrib4fARB = provider.getFunctionAddress("glVertexAttrib4fARB");
-        glVertexAttrib4sARB = provider.getFunctionAddress("glVertexAttrib4sARB");
-        glVertexAttrib4dARB = provider.getFunctionAddress("glVertexAttrib4dARB");
-        glVertexAttrib4NubARB = provider.getFunctionAddress("glVertexAttrib4NubARB");
-        glVertexAttrib1fvARB = provider.getFunctionAddress("glVertexAttrib1fvARB");
-        glVertexAttrib1svARB = provider.getFunctionAddress("glVertexAttrib1svARB");
-        glVertexAttrib1dvARB = provider.getFunctionAddress("glVertexAttrib1dvARB");
-        glVertexAttrib2fvARB = provider.getFunctionAddress("glVertexAttrib2fvARB");
-        glVertexAttrib2svARB = provider.getFunctionAddress("glVertexAttrib2svARB");
-        glVertexAttrib2dvARB = provider.getFunctionAddress("glVertexAttrib2dvARB");
-        glVertexAttrib3fvARB = provider.getFunctionAddress("glVertexAttrib3fvARB");
-        glVertexAttrib3svARB = provider.getFunctionAddress("glVertexAttrib3svARB");
-        glVertexAttrib3dvARB = provider.getFunctionAddress("glVertexAttrib3dvARB");
-        glVertexAttrib4fvARB = provider.getFunctionAddress("glVertexAttrib4fvARB");
-        glVertexAttrib4svARB = provider.getFunctionAddress("glVertexAttrib4svARB");
-        glVertexAttrib4dvARB = provider.getFunctionAddress("glVertexAttrib4dvARB");
-        glVertexAttrib4ivARB = provider.getFunctionAddress("glVertexAttrib4ivARB");
-        glVertexAttrib4bvARB = provider.getFunctionAddress("glVertexAttrib4bvARB");
-        glVertexAttrib4ubvARB = provider.getFunctionAddress("glVertexAttrib4ubvARB");
-        glVertexAttrib4usvARB = provider.getFunctionAddress("glVertexAttrib4usvARB");
-        glVertexAttrib4uivARB = provider.getFunctionAddress("glVertexAttrib4uivARB");
-        glVertexAttrib4NbvARB = provider.getFunctionAddress("glVertexAttrib4NbvARB");
-        glVertexAttrib4NsvARB = provider.getFunctionAddress("glVertexAttrib4NsvARB");
-        glVertexAttrib4NivARB = provider.getFunctionAddress("glVertexAttrib4NivARB");
-        glVertexAttrib4NubvARB = provider.getFunctionAddress("glVertexAttrib4NubvARB");
-        glVertexAttrib4NusvARB = provider.getFunctionAddress("glVertexAttrib4NusvARB");
-        glVertexAttrib4NuivARB = provider.getFunctionAddress("glVertexAttrib4NuivARB");
-        glVertexAttribPointerARB = provider.getFunctionAddress("glVertexAttribPointerARB");
-        glEnableVertexAttribArrayARB = provider.getFunctionAddress("glEnableVertexAttribArrayARB");
-        glDisableVertexAttribArrayARB = provider.getFunctionAddress("glDisableVertexAttribArrayARB");
-        glBindAttribLocationARB = provider.getFunctionAddress("glBindAttribLocationARB");
-        glGetActiveAttribARB = provider.getFunctionAddress("glGetActiveAttribARB");
-        glGetAttribLocationARB = provider.getFunctionAddress("glGetAttribLocationARB");
-        glGetVertexAttribivARB = provider.getFunctionAddress("glGetVertexAttribivARB");
-        glGetVertexAttribfvARB = provider.getFunctionAddress("glGetVertexAttribfvARB");
-        glGetVertexAttribdvARB = provider.getFunctionAddress("glGetVertexAttribdvARB");
-        glGetVertexAttribPointervARB = provider.getFunctionAddress("glGetVertexAttribPointervARB");
-        glWindowPos2iARB = provider.getFunctionAddress("glWindowPos2iARB");
-        glWindowPos2sARB = provider.getFunctionAddress("glWindowPos2sARB");
-        glWindowPos2fARB = provider.getFunctionAddress("glWindowPos2fARB");
-        glWindowPos2dARB = provider.getFunctionAddress("glWindowPos2dARB");
-        glWindowPos2ivARB = provider.getFunctionAddress("glWindowPos2ivARB");
-        glWindowPos2svARB = provider.getFunctionAddress("glWindowPos2svARB");
-        glWindowPos2fvARB = provider.getFunctionAddress("glWindowPos2fvARB");
-        glWindowPos2dvARB = provider.getFunctionAddress("glWindowPos2dvARB");
-        glWindowPos3iARB = provider.getFunctionAddress("glWindowPos3iARB");
-        glWindowPos3sARB = provider.getFunctionAddress("glWindowPos3sARB");
-        glWindowPos3fARB = provider.getFunctionAddress("glWindowPos3fARB");
-        glWindowPos3dARB = provider.getFunctionAddress("glWindowPos3dARB");
-        glWindowPos3ivARB = provider.getFunctionAddress("glWindowPos3ivARB");
-        glWindowPos3svARB = provider.getFunctionAddress("glWindowPos3svARB");
-        glWindowPos3fvARB = provider.getFunctionAddress("glWindowPos3fvARB");
-        glWindowPos3dvARB = provider.getFunctionAddress("glWindowPos3dvARB");
-        glUniformBufferEXT = provider.getFunctionAddress("glUniformBufferEXT");
-        glGetUniformBufferSizeEXT = provider.getFunctionAddress("glGetUniformBufferSizeEXT");
-        glGetUniformOffsetEXT = provider.getFunctionAddress("glGetUniformOffsetEXT");
-        glBlendColorEXT = provider.getFunctionAddress("glBlendColorEXT");
-        glBlendEquationSeparateEXT = provider.getFunctionAddress("glBlendEquationSeparateEXT");
-        glBlendFuncSeparateEXT = provider.getFunctionAddress("glBlendFuncSeparateEXT");
-        glBlendEquationEXT = provider.getFunctionAddress("glBlendEquationEXT");
-        glLockArraysEXT = provider.getFunctionAddress("glLockArraysEXT");
-        glUnlockArraysEXT = provider.getFunctionAddress("glUnlockArraysEXT");
-        glLabelObjectEXT = provider.getFunctionAddress("glLabelObjectEXT");
-        glGetObjectLabelEXT = provider.getFunctionAddress("glGetObjectLabelEXT");
-        glInsertEventMarkerEXT = provider.getFunctionAddress("glInsertEventMarkerEXT");
-        glPushGroupMarkerEXT = provider.getFunctionAddress("glPushGroupMarkerEXT");
-        glPopGroupMarkerEXT = provider.getFunctionAddress("glPopGroupMarkerEXT");
-        glDepthBoundsEXT = provider.getFunctionAddress("glDepthBoundsEXT");
-        glClientAttribDefaultEXT = provider.getFunctionAddress("glClientAttribDefaultEXT");
-        glPushClientAttribDefaultEXT = provider.getFunctionAddress("glPushClientAttribDefaultEXT");
-        glMatrixLoadfEXT = provider.getFunctionAddress("glMatrixLoadfEXT");
-        glMatrixLoaddEXT = provider.getFunctionAddress("glMatrixLoaddEXT");
-        glMatrixMultfEXT = provider.getFunctionAddress("glMatrixMultfEXT");
-        glMatrixMultdEXT = provider.getFunctionAddress("glMatrixMultdEXT");
-        glMatrixLoadIdentityEXT = provider.getFunctionAddress("glMatrixLoadIdentityEXT");
-        glMatrixRotatefEXT = provider.getFunctionAddress("glMatrixRotatefEXT");
-        glMatrixRotatedEXT = provider.getFunctionAddress("glMatrixRotatedEXT");
-        glMatrixScalefEXT = provider.getFunctionAddress("glMatrixScalefEXT");
-        glMatrixScaledEXT = provider.getFunctionAddress("glMatrixScaledEXT");
-        glMatrixTranslatefEXT = provider.getFunctionAddress("glMatrixTranslatefEXT");
-        glMatrixTranslatedEXT = provider.getFunctionAddress("glMatrixTranslatedEXT");
-        glMatrixOrthoEXT = provider.getFunctionAddress("glMatrixOrthoEXT");
-        glMatrixFrustumEXT = provider.getFunctionAddress("glMatrixFrustumEXT");
-        glMatrixPushEXT = provider.getFunctionAddress("glMatrixPushEXT");
-        glMatrixPopEXT = provider.getFunctionAddress("glMatrixPopEXT");
-        glTextureParameteriEXT = provider.getFunctionAddress("glTextureParameteriEXT");
-        glTextureParameterivEXT = provider.getFunctionAddress("glTextureParameterivEXT");
-        glTextureParameterfEXT = provider.getFunctionAddress("glTextureParameterfEXT");
-        glTextureParameterfvEXT = provider.getFunctionAddress("glTextureParameterfvEXT");
-        glTextureImage1DEXT = provider.getFunctionAddress("glTextureImage1DEXT");
-        glTextureImage2DEXT = provider.getFunctionAddress("glTextureImage2DEXT");
-        glTextureSubImage1DEXT = provider.getFunctionAddress("glTextureSubImage1DEXT");
-        glTextureSubImage2DEXT = provider.getFunctionAddress("glTextureSubImage2DEXT");
-        glCopyTextureImage1DEXT = provider.getFunctionAddress("glCopyTextureImage1DEXT");
-        glCopyTextureImage2DEXT = provider.getFunctionAddress("glCopyTextureImage2DEXT");
-        glCopyTextureSubImage1DEXT = provider.getFunctionAddress("glCopyTextureSubImage1DEXT");
-        glCopyTextureSubImage2DEXT = provider.getFunctionAddress("glCopyTextureSubImage2DEXT");
-        glGetTextureImageEXT = provider.getFunctionAddress("glGetTextureImageEXT");
-        glGetTextureParameterfvEXT = provider.getFunctionAddress("glGetTextureParameterfvEXT");
-        glGetTextureParameterivEXT = provider.getFunctionAddress("glGetTextureParameterivEXT");
-        glGetTextureLevelParameterfvEXT = provider.getFunctionAddress("glGetTextureLevelParameterfvEXT");
-        glGetTextureLevelParameterivEXT = provider.getFunctionAddress("glGetTextureLevelParameterivEXT");
-        glTextureImage3DEXT = provider.getFunctionAddress("glTextureImage3DEXT");
-        glTextureSubImage3DEXT = provider.getFunctionAddress("glTextureSubImage3DEXT");
-        glCopyTextureSubImage3DEXT = provider.getFunctionAddress("glCopyTextureSubImage3DEXT");
-        glBindMultiTextureEXT = provider.getFunctionAddress("glBindMultiTextureEXT");
-        glMultiTexCoordPointerEXT = provider.getFunctionAddress("glMultiTexCoordPointerEXT");
-        glMultiTexEnvfEXT = provider.getFunctionAddress("glMultiTexEnvfEXT");
-        glMultiTexEnvfvEXT = provider.getFunctionAddress("glMultiTexEnvfvEXT");
-        glMultiTexEnviEXT = provider.getFunctionAddress("glMultiTexEnviEXT");
-        glMultiTexEnvivEXT = provider.getFunctionAddress("glMultiTexEnvivEXT");
-        glMultiTexGendEXT = provider.getFunctionAddress("glMultiTexGendEXT");
-        glMultiTexGendvEXT = provider.getFunctionAddress("glMultiTexGendvEXT");
-        glMultiTexGenfEXT = provider.getFunctionAddress("glMultiTexGenfEXT");
-        glMultiTexGenfvEXT = provider.getFunctionAddress("glMultiTexGenfvEXT");
-        glMultiTexGeniEXT = provider.getFunctionAddress("glMultiTexGeniEXT");
-        glMultiTexGenivEXT = provider.getFunctionAddress("glMultiTexGenivEXT");
-        glGetMultiTexEnvfvEXT = provider.getFunctionAddress("glGetMultiTexEnvfvEXT");
-        glGetMultiTexEnvivEXT = provider.getFunctionAddress("glGetMultiTexEnvivEXT");
-        glGetMultiTexGendvEXT = provider.getFunctionAddress("glGetMultiTexGendvEXT");
-        glGetMultiTexGenfvEXT = provider.getFunctionAddress("glGetMultiTexGenfvEXT");
-        glGetMultiTexGenivEXT = provider.getFunctionAddress("glGetMultiTexGenivEXT");
-        glMultiTexParameteriEXT = provider.getFunctionAddress("glMultiTexParameteriEXT");
-        glMultiTexParameterivEXT = provider.getFunctionAddress("glMultiTexParameterivEXT");
-        glMultiTexParameterfEXT = provider.getFunctionAddress("glMultiTexParameterfEXT");
-        glMultiTexParameterfvEXT = provider.getFunctionAddress("glMultiTexParameterfvEXT");
-        glMultiTexImage1DEXT = provider.getFunctionAddress("glMultiTexImage1DEXT");
-        glMultiTexImage2DEXT = provider.getFunctionAddress("glMultiTexImage2DEXT");
-        glMultiTexSubImage1DEXT = provider.getFunctionAddress("glMultiTexSubImage1DEXT");
-        glMultiTexSubImage2DEXT = provider.getFunctionAddress("glMultiTexSubImage2DEXT");
-        glCopyMultiTexImage1DEXT = provider.getFunctionAddress("glCopyMultiTexImage1DEXT");
-        glCopyMultiTexImage2DEXT = provider.getFunctionAddress("glCopyMultiTexImage2DEXT");
-        glCopyMultiTexSubImage1DEXT = provider.getFunctionAddress("glCopyMultiTexSubImage1DEXT");
-        glCopyMultiTexSubImage2DEXT = provider.getFunctionAddress("glCopyMultiTexSubImage2DEXT");
-        glGetMultiTexImageEXT = provider.getFunctionAddress("glGetMultiTexImageEXT");
-        glGetMultiTexParameterfvEXT = provider.getFunctionAddress("glGetMultiTexParameterfvEXT");
-        glGetMultiTexParameterivEXT = provider.getFunctionAddress("glGetMultiTexParameterivEXT");
-        glGetMultiTexLevelParameterfvEXT = provider.getFunctionAddress("glGetMultiTexLevelParameterfvEXT");
-        glGetMultiTexLevelParameterivEXT = provider.getFunctionAddress("glGetMultiTexLevelParameterivEXT");
-        glMultiTexImage3DEXT = provider.getFunctionAddress("glMultiTexImage3DEXT");
-        glMultiTexSubImage3DEXT = provider.getFunctionAddress("glMultiTexSubImage3DEXT");
-        glCopyMultiTexSubImage3DEXT = provider.getFunctionAddress("glCopyMultiTexSubImage3DEXT");
-        glEnableClientStateIndexedEXT = provider.getFunctionAddress("glEnableClientStateIndexedEXT");
-        glDisableClientStateIndexedEXT = provider.getFunctionAddress("glDisableClientStateIndexedEXT");
-        glEnableClientStateiEXT = provider.getFunctionAddress("glEnableClientStateiEXT");
-        glDisableClientStateiEXT = provider.getFunctionAddress("glDisableClientStateiEXT");
-        glGetFloatIndexedvEXT = provider.getFunctionAddress("glGetFloatIndexedvEXT");
-        glGetDoubleIndexedvEXT = provider.getFunctionAddress("glGetDoubleIndexedvEXT");
-        glGetPointerIndexedvEXT = provider.getFunctionAddress("glGetPointerIndexedvEXT");
-        glGetFloati_vEXT = provider.getFunctionAddress("glGetFloati_vEXT");
-        glGetDoublei_vEXT = provider.getFunctionAddress("glGetDoublei_vEXT");
-        glGetPointeri_vEXT = provider.getFunctionAddress("glGetPointeri_vEXT");
-        glNamedProgramStringEXT = provider.getFunctionAddress("glNamedProgramStringEXT");
-        glNamedProgramLocalParameter4dEXT = provider.getFunctionAddress("glNamedProgramLocalParameter4dEXT");
-        glNamedProgramLocalParameter4dvEXT = provider.getFunctionAddress("glNamedProgramLocalParameter4dvEXT");
-        glNamedProgramLocalParameter4fEXT = provider.getFunctionAddress("glNamedProgramLocalParameter4fEXT");
-        glNamedProgramLocalParameter4fvEXT = provider.getFunctionAddress("glNamedProgramLocalParameter4fvEXT");
-        glGetNamedProgramLocalParameterdvEXT = provider.getFunctionAddress("glGetNamedProgramLocalParameterdvEXT");
-        glGetNamedProgramLocalParameterfvEXT = provider.getFunctionAddress("glGetNamedProgramLocalParameterfvEXT");
-        glGetNamedProgramivEXT = provider.getFunctionAddress("glGetNamedProgramivEXT");
-        glGetNamedProgramStringEXT = provider.getFunctionAddress("glGetNamedProgramStringEXT");
-        glCompressedTextureImage3DEXT = provider.getFunctionAddress("glCompressedTextureImage3DEXT");
-        glCompressedTextureImage2DEXT = provider.getFunctionAddress("glCompressedTextureImage2DEXT");
-        glCompressedTextureImage1DEXT = provider.getFunctionAddress("glCompressedTextureImage1DEXT");
-        glCompressedTextureSubImage3DEXT = provider.getFunctionAddress("glCompressedTextureSubImage3DEXT");
-        glCompressedTextureSubImage2DEXT = provider.getFunctionAddress("glCompressedTextureSubImage2DEXT");
-        glCompressedTextureSubImage1DEXT = provider.getFunctionAddress("glCompressedTextureSubImage1DEXT");
-        glGetCompressedTextureImageEXT = provider.getFunctionAddress("glGetCompressedTextureImageEXT");
-        glCompressedMultiTexImage3DEXT = provider.getFunctionAddress("glCompressedMultiTexImage3DEXT");
-        glCompressedMultiTexImage2DEXT = provider.getFunctionAddress("glCompressedMultiTexImage2DEXT");
-        glCompressedMultiTexImage1DEXT = provider.getFunctionAddress("glCompressedMultiTexImage1DEXT");
-        glCompressedMultiTexSubImage3DEXT = provider.getFunctionAddress("glCompressedMultiTexSubImage3DEXT");
-        glCompressedMultiTexSubImage2DEXT = provider.getFunctionAddress("glCompressedMultiTexSubImage2DEXT");
-        glCompressedMultiTexSubImage1DEXT = provider.getFunctionAddress("glCompressedMultiTexSubImage1DEXT");
-        glGetCompressedMultiTexImageEXT = provider.getFunctionAddress("glGetCompressedMultiTexImageEXT");
-        glMatrixLoadTransposefEXT = provider.getFunctionAddress("glMatrixLoadTransposefEXT");
-        glMatrixLoadTransposedEXT = provider.getFunctionAddress("glMatrixLoadTransposedEXT");
-        glMatrixMultTransposefEXT = provider.getFunctionAddress("glMatrixMultTransposefEXT");
-        glMatrixMultTransposedEXT = provider.getFunctionAddress("glMatrixMultTransposedEXT");
-        glNamedBufferDataEXT = provider.getFunctionAddress("glNamedBufferDataEXT");
-        glNamedBufferSubDataEXT = provider.getFunctionAddress("glNamedBufferSubDataEXT");
-        glMapNamedBufferEXT = provider.getFunctionAddress("glMapNamedBufferEXT");
-        glUnmapNamedBufferEXT = provider.getFunctionAddress("glUnmapNamedBufferEXT");
-        glGetNamedBufferParameterivEXT = provider.getFunctionAddress("glGetNamedBufferParameterivEXT");
-        glGetNamedBufferSubDataEXT = provider.getFunctionAddress("glGetNamedBufferSubDataEXT");
-        glProgramUniform1fEXT = provider.getFunctionAddress("glProgramUniform1fEXT");
-        glProgramUniform2fEXT = provider.getFunctionAddress("glProgramUniform2fEXT");
-        glProgramUniform3fEXT = provider.getFunctionAddress("glProgramUniform3fEXT");
-        glProgramUniform4fEXT = provider.getFunctionAddress("glProgramUniform4fEXT");
-        glProgramUniform1iEXT = provider.getFunctionAddress("glProgramUniform1iEXT");
-        glProgramUniform2iEXT = provider.getFunctionAddress("glProgramUniform2iEXT");
-        glProgramUniform3iEXT = provider.getFunctionAddress("glProgramUniform3iEXT");
-        glProgramUniform4iEXT = provider.getFunctionAddress("glProgramUniform4iEXT");
-        glProgramUniform1fvEXT = provider.getFunctionAddress("glProgramUniform1fvEXT");
-        glProgramUniform2fvEXT = provider.getFunctionAddress("glProgramUniform2fvEXT");
-        glProgramUniform3fvEXT = provider.getFunctionAddress("glProgramUniform3fvEXT");
-        glProgramUniform4fvEXT = provider.getFunctionAddress("glProgramUniform4fvEXT");
-        glProgramUniform1ivEXT = provider.getFunctionAddress("glProgramUniform1ivEXT");
-        glProgramUniform2ivEXT = provider.getFunctionAddress("glProgramUniform2ivEXT");
-        glProgramUniform3ivEXT = provider.getFunctionAddress("glProgramUniform3ivEXT");
-        glProgramUniform4ivEXT = provider.getFunctionAddress("glProgramUniform4ivEXT");
-        glProgramUniformMatrix2fvEXT = provider.getFunctionAddress("glProgramUniformMatrix2fvEXT");
-        glProgramUniformMatrix3fvEXT = provider.getFunctionAddress("glProgramUniformMatrix3fvEXT");
-        glProgramUniformMatrix4fvEXT = provider.getFunctionAddress("glProgramUniformMatrix4fvEXT");
-        glProgramUniformMatrix2x3fvEXT = provider.getFunctionAddress("glProgramUniformMatrix2x3fvEXT");
-        glProgramUniformMatrix3x2fvEXT = provider.getFunctionAddress("glProgramUniformMatrix3x2fvEXT");
-        glProgramUniformMatrix2x4fvEXT = provider.getFunctionAddress("glProgramUniformMatrix2x4fvEXT");
-        glProgramUniformMatrix4x2fvEXT = provider.getFunctionAddress("glProgramUniformMatrix4x2fvEXT");
-        glProgramUniformMatrix3x4fvEXT = provider.getFunctionAddress("glProgramUniformMatrix3x4fvEXT");
-        glProgramUniformMatrix4x3fvEXT = provider.getFunctionAddress("glProgramUniformMatrix4x3fvEXT");
-        glTextureBufferEXT = provider.getFunctionAddress("glTextureBufferEXT");
-        glMultiTexBufferEXT = provider.getFunctionAddress("glMultiTexBufferEXT");
-        glTextureParameterIivEXT = provider.getFunctionAddress("glTextureParameterIivEXT");
-        glTextureParameterIuivEXT = provider.getFunctionAddress("glTextureParameterIuivEXT");
-        glGetTextureParameterIivEXT = provider.getFunctionAddress("glGetTextureParameterIivEXT");
-        glGetTextureParameterIuivEXT = provider.getFunctionAddress("glGetTextureParameterIuivEXT");
-        glMultiTexParameterIivEXT = provider.getFunctionAddress("glMultiTexParameterIivEXT");
-        glMultiTexParameterIuivEXT = provider.getFunctionAddress("glMultiTexParameterIuivEXT");
-        glGetMultiTexParameterIivEXT = provider.getFunctionAddress("glGetMultiTexParameterIivEXT");
-        glGetMultiTexParameterIuivEXT = provider.getFunctionAddress("glGetMultiTexParameterIuivEXT");
-        glProgramUniform1uiEXT = provider.getFunctionAddress("glProgramUniform1uiEXT");
-        glProgramUniform2uiEXT = provider.getFunctionAddress("glProgramUniform2uiEXT");
-        glProgramUniform3uiEXT = provider.getFunctionAddress("glProgramUniform3uiEXT");
-        glProgramUniform4uiEXT = provider.getFunctionAddress("glProgramUniform4uiEXT");
-        glProgramUniform1uivEXT = provider.getFunctionAddress("glProgramUniform1uivEXT");
-        glProgramUniform2uivEXT = provider.getFunctionAddress("glProgramUniform2uivEXT");
-        glProgramUniform3uivEXT = provider.getFunctionAddress("glProgramUniform3uivEXT");
-        glProgramUniform4uivEXT = provider.getFunctionAddress("glProgramUniform4uivEXT");
-        glNamedProgramLocalParameters4fvEXT = provider.getFunctionAddress("glNamedProgramLocalParameters4fvEXT");
-        glNamedProgramLocalParameterI4iEXT = provider.getFunctionAddress("glNamedProgramLocalParameterI4iEXT");
-        glNamedProgramLocalParameterI4ivEXT = provider.getFunctionAddress("glNamedProgramLocalParameterI4ivEXT");
-        glNamedProgramLocalParametersI4ivEXT = provider.getFunctionAddress("glNamedProgramLocalParametersI4ivEXT");
-        glNamedProgramLocalParameterI4uiEXT = provider.getFunctionAddress("glNamedProgramLocalParameterI4uiEXT");
-        glNamedProgramLocalParameterI4uivEXT = provider.getFunctionAddress("glNamedProgramLocalParameterI4uivEXT");
-        glNamedProgramLocalParametersI4uivEXT = provider.getFunctionAddress("glNamedProgramLocalParametersI4uivEXT");
-        glGetNamedProgramLocalParameterIivEXT = provider.getFunctionAddress("glGetNamedProgramLocalParameterIivEXT");
-        glGetNamedProgramLocalParameterIuivEXT = provider.getFunctionAddress("glGetNamedProgramLocalParameterIuivEXT");
-        glNamedRenderbufferStorageEXT = provider.getFunctionAddress("glNamedRenderbufferStorageEXT");
-        glGetNamedRenderbufferParameterivEXT = provider.getFunctionAddress("glGetNamedRenderbufferParameterivEXT");
-        glNamedRenderbufferStorageMultisampleEXT = provider.getFunctionAddress("glNamedRenderbufferStorageMultisampleEXT");
-        glNamedRenderbufferStorageMultisampleCoverageEXT = provider.getFunctionAddress("glNamedRenderbufferStorageMultisampleCoverageEXT");
-        glCheckNamedFramebufferStatusEXT = provider.getFunctionAddress("glCheckNamedFramebufferStatusEXT");
-        glNamedFramebufferTexture1DEXT = provider.getFunctionAddress("glNamedFramebufferTexture1DEXT");
-        glNamedFramebufferTexture2DEXT = provider.getFunctionAddress("glNamedFramebufferTexture2DEXT");
-        glNamedFramebufferTexture3DEXT = provider.getFunctionAddress("glNamedFramebufferTexture3DEXT");
-        glNamedFramebufferRenderbufferEXT = provider.getFunctionAddress("glNamedFramebufferRenderbufferEXT");
-        glGetNamedFramebufferAttachmentParameterivEXT = provider.getFunctionAddress("glGetNamedFramebufferAttachmentParameterivEXT");
-        glGenerateTextureMipmapEXT = provider.getFunctionAddress("glGenerateTextureMipmapEXT");
-        glGenerateMultiTexMipmapEXT = provider.getFunctionAddress("glGenerateMultiTexMipmapEXT");
-        glFramebufferDrawBufferEXT = provider.getFunctionAddress("glFramebufferDrawBufferEXT");
-        glFramebufferDrawBuffersEXT = provider.getFunctionAddress("glFramebufferDrawBuffersEXT");
-        glFramebufferReadBufferEXT = provider.getFunctionAddress("glFramebufferReadBufferEXT");
-        glGetFramebufferParameterivEXT = provider.getFunctionAddress("glGetFramebufferParameterivEXT");
-        glNamedCopyBufferSubDataEXT = provider.getFunctionAddress("glNamedCopyBufferSubDataEXT");
-        glNamedFramebufferTextureEXT = provider.getFunctionAddress("glNamedFramebufferTextureEXT");
-        glNamedFramebufferTextureLayerEXT = provider.getFunctionAddress("glNamedFramebufferTextureLayerEXT");
-        glNamedFramebufferTextureFaceEXT = provider.getFunctionAddress("glNamedFramebufferTextureFaceEXT");
-        glTextureRenderbufferEXT = provider.getFunctionAddress("glTextureRenderbufferEXT");
-        glMultiTexRenderbufferEXT = provider.getFunctionAddress("glMultiTexRenderbufferEXT");
-        glVertexArrayVertexOffsetEXT = provider.getFunctionAddress("glVertexArrayVertexOffsetEXT");
-        glVertexArrayColorOffsetEXT = provider.getFunctionAddress("glVertexArrayColorOffsetEXT");
-        glVertexArrayEdgeFlagOffsetEXT = provider.getFunctionAddress("glVertexArrayEdgeFlagOffsetEXT");
-        glVertexArrayIndexOffsetEXT = provider.getFunctionAddress("glVertexArrayIndexOffsetEXT");
-        glVertexArrayNormalOffsetEXT = provider.getFunctionAddress("glVertexArrayNormalOffsetEXT");
-        glVertexArrayTexCoordOffsetEXT = provider.getFunctionAddress("glVertexArrayTexCoordOffsetEXT");
-        glVertexArrayMultiTexCoordOffsetEXT = provider.getFunctionAddress("glVertexArrayMultiTexCoordOffsetEXT");
-        glVertexArrayFogCoordOffsetEXT = provider.getFunctionAddress("glVertexArrayFogCoordOffsetEXT");
-        glVertexArraySecondaryColorOffsetEXT = provider.getFunctionAddress("glVertexArraySecondaryColorOffsetEXT");
-        glVertexArrayVertexAttribOffsetEXT = provider.getFunctionAddress("glVertexArrayVertexAttribOffsetEXT");
-        glVertexArrayVertexAttribIOffsetEXT = provider.getFunctionAddress("glVertexArrayVertexAttribIOffsetEXT");
-        glEnableVertexArrayEXT = provider.getFunctionAddress("glEnableVertexArrayEXT");
-        glDisableVertexArrayEXT = provider.getFunctionAddress("glDisableVertexArrayEXT");
-        glEnableVertexArrayAttribEXT = provider.getFunctionAddress("glEnableVertexArrayAttribEXT");
-        glDisableVertexArrayAttribEXT = provider.getFunctionAddress("glDisableVertexArrayAttribEXT");
-        glGetVertexArrayIntegervEXT = provider.getFunctionAddress("glGetVertexArrayIntegervEXT");
-        glGetVertexArrayPointervEXT = provider.getFunctionAddress("glGetVertexArrayPointervEXT");
-        glGetVertexArrayIntegeri_vEXT = provider.getFunctionAddress("glGetVertexArrayIntegeri_vEXT");
-        glGetVertexArrayPointeri_vEXT = provider.getFunctionAddress("glGetVertexArrayPointeri_vEXT");
-        glMapNamedBufferRangeEXT = provider.getFunctionAddress("glMapNamedBufferRangeEXT");
-        glFlushMappedNamedBufferRangeEXT = provider.getFunctionAddress("glFlushMappedNamedBufferRangeEXT");
-        glColorMaskIndexedEXT = provider.getFunctionAddress("glColorMaskIndexedEXT");
-        glGetBooleanIndexedvEXT = provider.getFunctionAddress("glGetBooleanIndexedvEXT");
-        glGetIntegerIndexedvEXT = provider.getFunctionAddress("glGetIntegerIndexedvEXT");
-        glEnableIndexedEXT = provider.getFunctionAddress("glEnableIndexedEXT");
-        glDisableIndexedEXT = provider.getFunctionAddress("glDisableIndexedEXT");
-        glIsEnabledIndexedEXT = provider.getFunctionAddress("glIsEnabledIndexedEXT");
-        glDrawArraysInstancedEXT = provider.getFunctionAddress("glDrawArraysInstancedEXT");
-        glDrawElementsInstancedEXT = provider.getFunctionAddress("glDrawElementsInstancedEXT");
-        glEGLImageTargetTexStorageEXT = provider.getFunctionAddress("glEGLImageTargetTexStorageEXT");
-        glEGLImageTargetTextureStorageEXT = provider.getFunctionAddress("glEGLImageTargetTextureStorageEXT");
-        glBufferStorageExternalEXT = provider.getFunctionAddress("glBufferStorageExternalEXT");
-        glNamedBufferStorageExternalEXT = provider.getFunctionAddress("glNamedBufferStorageExternalEXT");
-        glBlitFramebufferEXT = provider.getFunctionAddress("glBlitFramebufferEXT");
-        glRenderbufferStorageMultisampleEXT = provider.getFunctionAddress("glRenderbufferStorageMultisampleEXT");
-        glIsRenderbufferEXT = provider.getFunctionAddress("glIsRenderbufferEXT");
-        glBindRenderbufferEXT = provider.getFunctionAddress("glBindRenderbufferEXT");
-        glDeleteRenderbuffersEXT = provider.getFunctionAddress("glDeleteRenderbuffersEXT");
-        glGenRenderbuffersEXT = provider.getFunctionAddress("glGenRenderbuffersEXT");
-        glRenderbufferStorageEXT = provider.getFunctionAddress("glRenderbufferStorageEXT");
-        glGetRenderbufferParameterivEXT = provider.getFunctionAddress("glGetRenderbufferParameterivEXT");
-        glIsFramebufferEXT = provider.getFunctionAddress("glIsFramebufferEXT");
-        glBindFramebufferEXT = provider.getFunctionAddress("glBindFramebufferEXT");
-        glDeleteFramebuffersEXT = provider.getFunctionAddress("glDeleteFramebuffersEXT");
-        glGenFramebuffersEXT = provider.getFunctionAddress("glGenFramebuffersEXT");
-        glCheckFramebufferStatusEXT = provider.getFunctionAddress("glCheckFramebufferStatusEXT");
-        glFramebufferTexture1DEXT = provider.getFunctionAddress("glFramebufferTexture1DEXT");
-        glFramebufferTexture2DEXT = provider.getFunctionAddress("glFramebufferTexture2DEXT");
-        glFramebufferTexture3DEXT = provider.getFunctionAddress("glFramebufferTexture3DEXT");
-        glFramebufferRenderbufferEXT = provider.getFunctionAddress("glFramebufferRenderbufferEXT");
-        glGetFramebufferAttachmentParameterivEXT = provider.getFunctionAddress("glGetFramebufferAttachmentParameterivEXT");
-        glGenerateMipmapEXT = provider.getFunctionAddress("glGenerateMipmapEXT");
-        glProgramParameteriEXT = provider.getFunctionAddress("glProgramParameteriEXT");
-        glFramebufferTextureEXT = provider.getFunctionAddress("glFramebufferTextureEXT");
-        glFramebufferTextureFaceEXT = provider.getFunctionAddress("glFramebufferTextureFaceEXT");
-        glProgramEnvParameters4fvEXT = provider.getFunctionAddress("glProgramEnvParameters4fvEXT");
-        glProgramLocalParameters4fvEXT = provider.getFunctionAddress("glProgramLocalParameters4fvEXT");
-        glVertexAttribI1iEXT = provider.getFunctionAddress("glVertexAttribI1iEXT");
-        glVertexAttribI2iEXT = provider.getFunctionAddress("glVertexAttribI2iEXT");
-        glVertexAttribI3iEXT = provider.getFunctionAddress("glVertexAttribI3iEXT");
-        glVertexAttribI4iEXT = provider.getFunctionAddress("glVertexAttribI4iEXT");
-        glVertexAttribI1uiEXT = provider.getFunctionAddress("glVertexAttribI1uiEXT");
-        glVertexAttribI2uiEXT = provider.getFunctionAddress("glVertexAttribI2uiEXT");
-        glVertexAttribI3uiEXT = provider.getFunctionAddress("glVertexAttribI3uiEXT");
-        glVertexAttribI4uiEXT = provider.getFunctionAddress("glVertexAttribI4uiEXT");
-        glVertexAttribI1ivEXT = provider.getFunctionAddress("glVertexAttribI1ivEXT");
-        glVertexAttribI2ivEXT = provider.getFunctionAddress("glVertexAttribI2ivEXT");
-        glVertexAttribI3ivEXT = provider.getFunctionAddress("glVertexAttribI3ivEXT");
-        glVertexAttribI4ivEXT = provider.getFunctionAddress("glVertexAttribI4ivEXT");
-        glVertexAttribI1uivEXT = provider.getFunctionAddress("glVertexAttribI1uivEXT");
-        glVertexAttribI2uivEXT = provider.getFunctionAddress("glVertexAttribI2uivEXT");
-        glVertexAttribI3uivEXT = provider.getFunctionAddress("glVertexAttribI3uivEXT");
-        glVertexAttribI4uivEXT = provider.getFunctionAddress("glVertexAttribI4uivEXT");
-        glVertexAttribI4bvEXT = provider.getFunctionAddress("glVertexAttribI4bvEXT");
-        glVertexAttribI4svEXT = provider.getFunctionAddress("glVertexAttribI4svEXT");
-        glVertexAttribI4ubvEXT = provider.getFunctionAddress("glVertexAttribI4ubvEXT");
-        glVertexAttribI4usvEXT = provider.getFunctionAddress("glVertexAttribI4usvEXT");
-        glVertexAttribIPointerEXT = provider.getFunctionAddress("glVertexAttribIPointerEXT");
-        glGetVertexAttribIivEXT = provider.getFunctionAddress("glGetVertexAttribIivEXT");
-        glGetVertexAttribIuivEXT = provider.getFunctionAddress("glGetVertexAttribIuivEXT");
-        glGetUniformuivEXT = provider.getFunctionAddress("glGetUniformuivEXT");
-        glBindFragDataLocationEXT = provider.getFunctionAddress("glBindFragDataLocationEXT");
-        glGetFragDataLocationEXT = provider.getFunctionAddress("glGetFragDataLocationEXT");
-        glUniform1uiEXT = provider.getFunctionAddress("glUniform1uiEXT");
-        glUniform2uiEXT = provider.getFunctionAddress("glUniform2uiEXT");
-        glUniform3uiEXT = provider.getFunctionAddress("glUniform3uiEXT");
-        glUniform4uiEXT = provider.getFunctionAddress("glUniform4uiEXT");
-        glUniform1uivEXT = provider.getFunctionAddress("glUniform1uivEXT");
-        glUniform2uivEXT = provider.getFunctionAddress("glUniform2uivEXT");
-        glUniform3uivEXT = provider.getFunctionAddress("glUniform3uivEXT");
-        glUniform4uivEXT = provider.getFunctionAddress("glUniform4uivEXT");
-        glGetUnsignedBytevEXT = provider.getFunctionAddress("glGetUnsignedBytevEXT");
-        glGetUnsignedBytei_vEXT = provider.getFunctionAddress("glGetUnsignedBytei_vEXT");
-        glDeleteMemoryObjectsEXT = provider.getFunctionAddress("glDeleteMemoryObjectsEXT");
-        glIsMemoryObjectEXT = provider.getFunctionAddress("glIsMemoryObjectEXT");
-        glCreateMemoryObjectsEXT = provider.getFunctionAddress("glCreateMemoryObjectsEXT");
-        glMemoryObjectParameterivEXT = provider.getFunctionAddress("glMemoryObjectParameterivEXT");
-        glGetMemoryObjectParameterivEXT = provider.getFunctionAddress("glGetMemoryObjectParameterivEXT");
-        glTexStorageMem2DEXT = provider.getFunctionAddress("glTexStorageMem2DEXT");
-        glTexStorageMem2DMultisampleEXT = provider.getFunctionAddress("glTexStorageMem2DMultisampleEXT");
-        glTexStorageMem3DEXT = provider.getFunctionAddress("glTexStorageMem3DEXT");
-        glTexStorageMem3DMultisampleEXT = provider.getFunctionAddress("glTexStorageMem3DMultisampleEXT");
-        glBufferStorageMemEXT = provider.getFunctionAddress("glBufferStorageMemEXT");
-        glTextureStorageMem2DEXT = provider.getFunctionAddress("glTextureStorageMem2DEXT");
-        glTextureStorageMem2DMultisampleEXT = provider.getFunctionAddress("glTextureStorageMem2DMultisampleEXT");
-        glTextureStorageMem3DEXT = provider.getFunctionAddress("glTextureStorageMem3DEXT");
-        glTextureStorageMem3DMultisampleEXT = provider.getFunctionAddress("glTextureStorageMem3DMultisampleEXT");
-        glNamedBufferStorageMemEXT = provider.getFunctionAddress("glNamedBufferStorageMemEXT");
-        glTexStorageMem1DEXT = provider.getFunctionAddress("glTexStorageMem1DEXT");
-        glTextureStorageMem1DEXT = provider.getFunctionAddress("glTextureStorageMem1DEXT");
-        glImportMemoryFdEXT = provider.getFunctionAddress("glImportMemoryFdEXT");
-        glImportMemoryWin32HandleEXT = provider.getFunctionAddress("glImportMemoryWin32HandleEXT");
-        glImportMemoryWin32NameEXT = provider.getFunctionAddress("glImportMemoryWin32NameEXT");
-        glPointParameterfEXT = provider.getFunctionAddress("glPointParameterfEXT");
-        glPointParameterfvEXT = provider.getFunctionAddress("glPointParameterfvEXT");
-        glPolygonOffsetClampEXT = provider.getFunctionAddress("glPolygonOffsetClampEXT");
-        glProvokingVertexEXT = provider.getFunctionAddress("glProvokingVertexEXT");
-        glRasterSamplesEXT = provider.getFunctionAddress("glRasterSamplesEXT");
-        glSecondaryColor3bEXT = provider.getFunctionAddress("glSecondaryColor3bEXT");
-        glSecondaryColor3sEXT = provider.getFunctionAddress("glSecondaryColor3sEXT");
-        glSecondaryColor3iEXT = provider.getFunctionAddress("glSecondaryColor3iEXT");
-        glSecondaryColor3fEXT = provider.getFunctionAddress("glSecondaryColor3fEXT");
-        glSecondaryColor3dEXT = provider.getFunctionAddress("glSecondaryColor3dEXT");
-        glSecondaryColor3ubEXT = provider.getFunctionAddress("glSecondaryColor3ubEXT");
-        glSecondaryColor3usEXT = provider.getFunctionAddress("glSecondaryColor3usEXT");
-        glSecondaryColor3uiEXT = provider.getFunctionAddress("glSecondaryColor3uiEXT");
-        glSecondaryColor3bvEXT = provider.getFunctionAddress("glSecondaryColor3bvEXT");
-        glSecondaryColor3svEXT = provider.getFunctionAddress("glSecondaryColor3svEXT");
-        glSecondaryColor3ivEXT = provider.getFunctionAddress("glSecondaryColor3ivEXT");
-        glSecondaryColor3fvEXT = provider.getFunctionAddress("glSecondaryColor3fvEXT");
-        glSecondaryColor3dvEXT = provider.getFunctionAddress("glSecondaryColor3dvEXT");
-        glSecondaryColor3ubvEXT = provider.getFunctionAddress("glSecondaryColor3ubvEXT");
-        glSecondaryColor3usvEXT = provider.getFunctionAddress("glSecondaryColor3usvEXT");
-        glSecondaryColor3uivEXT = provider.getFunctionAddress("glSecondaryColor3uivEXT");
-        glSecondaryColorPointerEXT = provider.getFunctionAddress("glSecondaryColorPointerEXT");
-        glGenSemaphoresEXT = provider.getFunctionAddress("glGenSemaphoresEXT");
-        glDeleteSemaphoresEXT = provider.getFunctionAddress("glDeleteSemaphoresEXT");
-        glIsSemaphoreEXT = provider.getFunctionAddress("glIsSemaphoreEXT");
-        glSemaphoreParameterui64vEXT = provider.getFunctionAddress("glSemaphoreParameterui64vEXT");
-        glGetSemaphoreParameterui64vEXT = provider.getFunctionAddress("glGetSemaphoreParameterui64vEXT");
-        glWaitSemaphoreEXT = provider.getFunctionAddress("glWaitSemaphoreEXT");
-        glSignalSemaphoreEXT = provider.getFunctionAddress("glSignalSemaphoreEXT");
-        glImportSemaphoreFdEXT = provider.getFunctionAddress("glImportSemaphoreFdEXT");
-        glImportSemaphoreWin32HandleEXT = provider.getFunctionAddress("glImportSemaphoreWin32HandleEXT");
-        glImportSemaphoreWin32NameEXT = provider.getFunctionAddress("glImportSemaphoreWin32NameEXT");
-        glUseShaderProgramEXT = provider.getFunctionAddress("glUseShaderProgramEXT");
-        glActiveProgramEXT = provider.getFunctionAddress("glActiveProgramEXT");
-        glCreateShaderProgramEXT = provider.getFunctionAddress("glCreateShaderProgramEXT");
-        glFramebufferFetchBarrierEXT = provider.getFunctionAddress("glFramebufferFetchBarrierEXT");
-        glBindImageTextureEXT = provider.getFunctionAddress("glBindImageTextureEXT");
-        glMemoryBarrierEXT = provider.getFunctionAddress("glMemoryBarrierEXT");
-        glStencilClearTagEXT = provider.getFunctionAddress("glStencilClearTagEXT");
-        glActiveStencilFaceEXT = provider.getFunctionAddress("glActiveStencilFaceEXT");
-        glFramebufferTextureLayerEXT = provider.getFunctionAddress("glFramebufferTextureLayerEXT");
-        glTexBufferEXT = provider.getFunctionAddress("glTexBufferEXT");
-        glClearColorIiEXT = provider.getFunctionAddress("glClearColorIiEXT");
-        glClearColorIuiEXT = provider.getFunctionAddress("glClearColorIuiEXT");
-        glTexParameterIivEXT = provider.getFunctionAddress("glTexParameterIivEXT");
-        glTexParameterIuivEXT = provider.getFunctionAddress("glTexParameterIuivEXT");
-        glGetTexParameterIivEXT = provider.getFunctionAddress("glGetTexParameterIivEXT");
-        glGetTexParameterIuivEXT = provider.getFunctionAddress("glGetTexParameterIuivEXT");
-        glGetQueryObjecti64vEXT = provider.getFunctionAddress("glGetQueryObjecti64vEXT");
-        glGetQueryObjectui64vEXT = provider.getFunctionAddress("glGetQueryObjectui64vEXT");
-        glBindBufferRangeEXT = provider.getFunctionAddress("glBindBufferRangeEXT");
-        glBindBufferOffsetEXT = provider.getFunctionAddress("glBindBufferOffsetEXT");
-        glBindBufferBaseEXT = provider.getFunctionAddress("glBindBufferBaseEXT");
-        glBeginTransformFeedbackEXT = provider.getFunctionAddress("glBeginTransformFeedbackEXT");
-        glEndTransformFeedbackEXT = provider.getFunctionAddress("glEndTransformFeedbackEXT");
-        glTransformFeedbackVaryingsEXT = provider.getFunctionAddress("glTransformFeedbackVaryingsEXT");
-        glGetTransformFeedbackVaryingEXT = provider.getFunctionAddress("glGetTransformFeedbackVaryingEXT");
-        glVertexAttribL1dEXT = provider.getFunctionAddress("glVertexAttribL1dEXT");
-        glVertexAttribL2dEXT = provider.getFunctionAddress("glVertexAttribL2dEXT");
-        glVertexAttribL3dEXT = provider.getFunctionAddress("glVertexAttribL3dEXT");
-        glVertexAttribL4dEXT = provider.getFunctionAddress("glVertexAttribL4dEXT");
-        glVertexAttribL1dvEXT = provider.getFunctionAddress("glVertexAttribL1dvEXT");
-        glVertexAttribL2dvEXT = provider.getFunctionAddress("glVertexAttribL2dvEXT");
-        glVertexAttribL3dvEXT = provider.getFunctionAddress("glVertexAttribL3dvEXT");
-        glVertexAttribL4dvEXT = provider.getFunctionAddress("glVertexAttribL4dvEXT");
-        glVertexAttribLPointerEXT = provider.getFunctionAddress("glVertexAttribLPointerEXT");
-        glGetVertexAttribLdvEXT = provider.getFunctionAddress("glGetVertexAttribLdvEXT");
-        glAcquireKeyedMutexWin32EXT = provider.getFunctionAddress("glAcquireKeyedMutexWin32EXT");
-        glReleaseKeyedMutexWin32EXT = provider.getFunctionAddress("glReleaseKeyedMutexWin32EXT");
-        glWindowRectanglesEXT = provider.getFunctionAddress("glWindowRectanglesEXT");
-        glImportSyncEXT = provider.getFunctionAddress("glImportSyncEXT");
-        glFrameTerminatorGREMEDY = provider.getFunctionAddress("glFrameTerminatorGREMEDY");
-        glStringMarkerGREMEDY = provider.getFunctionAddress("glStringMarkerGREMEDY");
-        glApplyFramebufferAttachmentCMAAINTEL = provider.getFunctionAddress("glApplyFramebufferAttachmentCMAAINTEL");
-        glSyncTextureINTEL = provider.getFunctionAddress("glSyncTextureINTEL");
-        glUnmapTexture2DINTEL = provider.getFunctionAddress("glUnmapTexture2DINTEL");
-        glMapTexture2DINTEL = provider.getFunctionAddress("glMapTexture2DINTEL");
-        glBeginPerfQueryINTEL = provider.getFunctionAddress("glBeginPerfQueryINTEL");
-        glCreatePerfQueryINTEL = provider.getFunctionAddress("glCreatePerfQueryINTEL");
-        glDeletePerfQueryINTEL = provider.getFunctionAddress("glDeletePerfQueryINTEL");
-        glEndPerfQueryINTEL = provider.getFunctionAddress("glEndPerfQueryINTEL");
-        glGetFirstPerfQueryIdINTEL = provider.getFunctionAddress("glGetFirstPerfQueryIdINTEL");
-        glGetNextPerfQueryIdINTEL = provider.getFunctionAddress("glGetNextPerfQueryIdINTEL");
-        glGetPerfCounterInfoINTEL = provider.getFunctionAddress("glGetPerfCounterInfoINTEL");
-        glGetPerfQueryDataINTEL = provider.getFunctionAddress("glGetPerfQueryDataINTEL");
-        glGetPerfQueryIdByNameINTEL = provider.getFunctionAddress("glGetPerfQueryIdByNameINTEL");
-        glGetPerfQueryInfoINTEL = provider.getFunctionAddress("glGetPerfQueryInfoINTEL");
-        glBlendBarrierKHR = provider.getFunctionAddress("glBlendBarrierKHR");
-        glMaxShaderCompilerThreadsKHR = provider.getFunctionAddress("glMaxShaderCompilerThreadsKHR");
-        glAlphaToCoverageDitherControlNV = provider.getFunctionAddress("glAlphaToCoverageDitherControlNV");
-        glMultiDrawArraysIndirectBindlessNV = provider.getFunctionAddress("glMultiDrawArraysIndirectBindlessNV");
-        glMultiDrawElementsIndirectBindlessNV = provider.getFunctionAddress("glMultiDrawElementsIndirectBindlessNV");
-        glMultiDrawArraysIndirectBindlessCountNV = provider.getFunctionAddress("glMultiDrawArraysIndirectBindlessCountNV");
-        glMultiDrawElementsIndirectBindlessCountNV = provider.getFunctionAddress("glMultiDrawElementsIndirectBindlessCountNV");
-        glGetTextureHandleNV = provider.getFunctionAddress("glGetTextureHandleNV");
-        glGetTextureSamplerHandleNV = provider.getFunctionAddress("glGetTextureSamplerHandleNV");
-        glMakeTextureHandleResidentNV = provider.getFunctionAddress("glMakeTextureHandleResidentNV");
-        glMakeTextureHandleNonResidentNV = provider.getFunctionAddress("glMakeTextureHandleNonResidentNV");
-        glGetImageHandleNV = provider.getFunctionAddress("glGetImageHandleNV");
-        glMakeImageHandleResidentNV = provider.getFunctionAddress("glMakeImageHandleResidentNV");
-        glMakeImageHandleNonResidentNV = provider.getFunctionAddress("glMakeImageHandleNonResidentNV");
-        glUniformHandleui64NV = provider.getFunctionAddress("glUniformHandleui64NV");
-        glUniformHandleui64vNV = provider.getFunctionAddress("glUniformHandleui64vNV");
-        glProgramUniformHandleui64NV = provider.getFunctionAddress("glProgramUniformHandleui64NV");
-        glProgramUniformHandleui64vNV = provider.getFunctionAddress("glProgramUniformHandleui64vNV");
-        glIsTextureHandleResidentNV = provider.getFunctionAddress("glIsTextureHandleResidentNV");
-        glIsImageHandleResidentNV = provider.getFunctionAddress("glIsImageHandleResidentNV");
-        glBlendParameteriNV = provider.getFunctionAddress("glBlendParameteriNV");
-        glBlendBarrierNV = provider.getFunctionAddress("glBlendBarrierNV");
-        glViewportPositionWScaleNV = provider.getFunctionAddress("glViewportPositionWScaleNV");
-        glCreateStatesNV = provider.getFunctionAddress("glCreateStatesNV");
-        glDeleteStatesNV = provider.getFunctionAddress("glDeleteStatesNV");
-        glIsStateNV = provider.getFunctionAddress("glIsStateNV");
-        glStateCaptureNV = provider.getFunctionAddress("glStateCaptureNV");
-        glGetCommandHeaderNV = provider.getFunctionAddress("glGetCommandHeaderNV");
-        glGetStageIndexNV = provider.getFunctionAddress("glGetStageIndexNV");
-        glDrawCommandsNV = provider.getFunctionAddress("glDrawCommandsNV");
-        glDrawCommandsAddressNV = provider.getFunctionAddress("glDrawCommandsAddressNV");
-        glDrawCommandsStatesNV = provider.getFunctionAddress("glDrawCommandsStatesNV");
-        glDrawCommandsStatesAddressNV = provider.getFunctionAddress("glDrawCommandsStatesAddressNV");
-        glCreateCommandListsNV = provider.getFunctionAddress("glCreateCommandListsNV");
-        glDeleteCommandListsNV = provider.getFunctionAddress("glDeleteCommandListsNV");
-        glIsCommandListNV = provider.getFunctionAddress("glIsCommandListNV");
-        glListDrawCommandsStatesClientNV = provider.getFunctionAddress("glListDrawCommandsStatesClientNV");
-        glCommandListSegmentsNV = provider.getFunctionAddress("glCommandListSegmentsNV");
-        glCompileCommandListNV = provider.getFunctionAddress("glCompileCommandListNV");
-        glCallCommandListNV = provider.getFunctionAddress("glCallCommandListNV");
-        glBeginConditionalRenderNV = provider.getFunctionAddress("glBeginConditionalRenderNV");
-        glEndConditionalRenderNV = provider.getFunctionAddress("glEndConditionalRenderNV");
-        glSubpixelPrecisionBiasNV = provider.getFunctionAddress("glSubpixelPrecisionBiasNV");
-        glConservativeRasterParameterfNV = provider.getFunctionAddress("glConservativeRasterParameterfNV");
-        glConservativeRasterParameteriNV = provider.getFunctionAddress("glConservativeRasterParameteriNV");
-        glCopyImageSubDataNV = provider.getFunctionAddress("glCopyImageSubDataNV");
-        glDepthRangedNV = provider.getFunctionAddress("glDepthRangedNV");
-        glClearDepthdNV = provider.getFunctionAddress("glClearDepthdNV");
-        glDepthBoundsdNV = provider.getFunctionAddress("glDepthBoundsdNV");
-        glDrawTextureNV = provider.getFunctionAddress("glDrawTextureNV");
-        glDrawVkImageNV = provider.getFunctionAddress("glDrawVkImageNV");
-        glGetVkProcAddrNV = provider.getFunctionAddress("glGetVkProcAddrNV");
-        glWaitVkSemaphoreNV = provider.getFunctionAddress("glWaitVkSemaphoreNV");
-        glSignalVkSemaphoreNV = provider.getFunctionAddress("glSignalVkSemaphoreNV");
-        glSignalVkFenceNV = provider.getFunctionAddress("glSignalVkFenceNV");
-        glGetMultisamplefvNV = provider.getFunctionAddress("glGetMultisamplefvNV");
-        glSampleMaskIndexedNV = provider.getFunctionAddress("glSampleMaskIndexedNV");
-        glTexRenderbufferNV = provider.getFunctionAddress("glTexRenderbufferNV");
-        glDeleteFencesNV = provider.getFunctionAddress("glDeleteFencesNV");
-        glGenFencesNV = provider.getFunctionAddress("glGenFencesNV");
-        glIsFenceNV = provider.getFunctionAddress("glIsFenceNV");
-        glTestFenceNV = provider.getFunctionAddress("glTestFenceNV");
-        glGetFenceivNV = provider.getFunctionAddress("glGetFenceivNV");
-        glFinishFenceNV = provider.getFunctionAddress("glFinishFenceNV");
-        glSetFenceNV = provider.getFunctionAddress("glSetFenceNV");
-        glFragmentCoverageColorNV = provider.getFunctionAddress("glFragmentCoverageColorNV");
-        glCoverageModulationTableNV = provider.getFunctionAddress("glCoverageModulationTableNV");
-        glGetCoverageModulationTableNV = provider.getFunctionAddress("glGetCoverageModulationTableNV");
-        glCoverageModulationNV = provider.getFunctionAddress("glCoverageModulationNV");
-        glRenderbufferStorageMultisampleCoverageNV = provider.getFunctionAddress("glRenderbufferStorageMultisampleCoverageNV");
-        glRenderGpuMaskNV = provider.getFunctionAddress("glRenderGpuMaskNV");
-        glMulticastBufferSubDataNV = provider.getFunctionAddress("glMulticastBufferSubDataNV");
-        glMulticastCopyBufferSubDataNV = provider.getFunctionAddress("glMulticastCopyBufferSubDataNV");
-        glMulticastCopyImageSubDataNV = provider.getFunctionAddress("glMulticastCopyImageSubDataNV");
-        glMulticastBlitFramebufferNV = provider.getFunctionAddress("glMulticastBlitFramebufferNV");
-        glMulticastFramebufferSampleLocationsfvNV = provider.getFunctionAddress("glMulticastFramebufferSampleLocationsfvNV");
-        glMulticastBarrierNV = provider.getFunctionAddress("glMulticastBarrierNV");
-        glMulticastWaitSyncNV = provider.getFunctionAddress("glMulticastWaitSyncNV");
-        glMulticastGetQueryObjectivNV = provider.getFunctionAddress("glMulticastGetQueryObjectivNV");
-        glMulticastGetQueryObjectuivNV = provider.getFunctionAddress("glMulticastGetQueryObjectuivNV");
-        glMulticastGetQueryObjecti64vNV = provider.getFunctionAddress("glMulticastGetQueryObjecti64vNV");
-        glMulticastGetQueryObjectui64vNV = provider.getFunctionAddress("glMulticastGetQueryObjectui64vNV");
-        glUniform1i64NV = provider.getFunctionAddress("glUniform1i64NV");
-        glUniform2i64NV = provider.getFunctionAddress("glUniform2i64NV");
-        glUniform3i64NV = provider.getFunctionAddress("glUniform3i64NV");
-        glUniform4i64NV = provider.getFunctionAddress("glUniform4i64NV");
-        glUniform1i64vNV = provider.getFunctionAddress("glUniform1i64vNV");
-        glUniform2i64vNV = provider.getFunctionAddress("glUniform2i64vNV");
-        glUniform3i64vNV = provider.getFunctionAddress("glUniform3i64vNV");
-        glUniform4i64vNV = provider.getFunctionAddress("glUniform4i64vNV");
-        glUniform1ui64NV = provider.getFunctionAddress("glUniform1ui64NV");
-        glUniform2ui64NV = provider.getFunctionAddress("glUniform2ui64NV");
-        glUniform3ui64NV = provider.getFunctionAddress("glUniform3ui64NV");
-        glUniform4ui64NV = provider.getFunctionAddress("glUniform4ui64NV");
-        glUniform1ui64vNV = provider.getFunctionAddress("glUniform1ui64vNV");
-        glUniform2ui64vNV = provider.getFunctionAddress("glUniform2ui64vNV");
-        glUniform3ui64vNV = provider.getFunctionAddress("glUniform3ui64vNV");
-        glUniform4ui64vNV = provider.getFunctionAddress("glUniform4ui64vNV");
-        glGetUniformi64vNV = provider.getFunctionAddress("glGetUniformi64vNV");
-        glProgramUniform1i64NV = provider.getFunctionAddress("glProgramUniform1i64NV");
-        glProgramUniform2i64NV = provider.getFunctionAddress("glProgramUniform2i64NV");
-        glProgramUniform3i64NV = provider.getFunctionAddress("glProgramUniform3i64NV");
-        glProgramUniform4i64NV = provider.getFunctionAddress("glProgramUniform4i64NV");
-        glProgramUniform1i64vNV = provider.getFunctionAddress("glProgramUniform1i64vNV");
-        glProgramUniform2i64vNV = provider.getFunctionAddress("glProgramUniform2i64vNV");
-        glProgramUniform3i64vNV = provider.getFunctionAddress("glProgramUniform3i64vNV");
-        glProgramUniform4i64vNV = provider.getFunctionAddress("glProgramUniform4i64vNV");
-        glProgramUniform1ui64NV = provider.getFunctionAddress("glProgramUniform1ui64NV");
-        glProgramUniform2ui64NV = provider.getFunctionAddress("glProgramUniform2ui64NV");
-        glProgramUniform3ui64NV = provider.getFunctionAddress("glProgramUniform3ui64NV");
-        glProgramUniform4ui64NV = provider.getFunctionAddress("glProgramUniform4ui64NV");
-        glProgramUniform1ui64vNV = provider.getFunctionAddress("glProgramUniform1ui64vNV");
-        glProgramUniform2ui64vNV = provider.getFunctionAddress("glProgramUniform2ui64vNV");
-        glProgramUniform3ui64vNV = provider.getFunctionAddress("glProgramUniform3ui64vNV");
-        glProgramUniform4ui64vNV = provider.getFunctionAddress("glProgramUniform4ui64vNV");
-        glVertex2hNV = provider.getFunctionAddress("glVertex2hNV");
-        glVertex2hvNV = provider.getFunctionAddress("glVertex2hvNV");
-        glVertex3hNV = provider.getFunctionAddress("glVertex3hNV");
-        glVertex3hvNV = provider.getFunctionAddress("glVertex3hvNV");
-        glVertex4hNV = provider.getFunctionAddress("glVertex4hNV");
-        glVertex4hvNV = provider.getFunctionAddress("glVertex4hvNV");
-        glNormal3hNV = provider.getFunctionAddress("glNormal3hNV");
-        glNormal3hvNV = provider.getFunctionAddress("glNormal3hvNV");
-        glColor3hNV = provider.getFunctionAddress("glColor3hNV");
-        glColor3hvNV = provider.getFunctionAddress("glColor3hvNV");
-        glColor4hNV = provider.getFunctionAddress("glColor4hNV");
-        glColor4hvNV = provider.getFunctionAddress("glColor4hvNV");
-        glTexCoord1hNV = provider.getFunctionAddress("glTexCoord1hNV");
-        glTexCoord1hvNV = provider.getFunctionAddress("glTexCoord1hvNV");
-        glTexCoord2hNV = provider.getFunctionAddress("glTexCoord2hNV");
-        glTexCoord2hvNV = provider.getFunctionAddress("glTexCoord2hvNV");
-        glTexCoord3hNV = provider.getFunctionAddress("glTexCoord3hNV");
-        glTexCoord3hvNV = provider.getFunctionAddress("glTexCoord3hvNV");
-        glTexCoord4hNV = provider.getFunctionAddress("glTexCoord4hNV");
-        glTexCoord4hvNV = provider.getFunctionAddress("glTexCoord4hvNV");
-        glMultiTexCoord1hNV = provider.getFunctionAddress("glMultiTexCoord1hNV");
-        glMultiTexCoord1hvNV = provider.getFunctionAddress("glMultiTexCoord1hvNV");
-        glMultiTexCoord2hNV = provider.getFunctionAddress("glMultiTexCoord2hNV");
-        glMultiTexCoord2hvNV = provider.getFunctionAddress("glMultiTexCoord2hvNV");
-        glMultiTexCoord3hNV = provider.getFunctionAddress("glMultiTexCoord3hNV");
-        glMultiTexCoord3hvNV = provider.getFunctionAddress("glMultiTexCoord3hvNV");
-        glMultiTexCoord4hNV = provider.getFunctionAddress("glMultiTexCoord4hNV");
-        glMultiTexCoord4hvNV = provider.getFunctionAddress("glMultiTexCoord4hvNV");
-        glFogCoordhNV = provider.getFunctionAddress("glFogCoordhNV");
-        glFogCoordhvNV = provider.getFunctionAddress("glFogCoordhvNV");
-        glSecondaryColor3hNV = provider.getFunctionAddress("glSecondaryColor3hNV");
-        glSecondaryColor3hvNV = provider.getFunctionAddress("glSecondaryColor3hvNV");
-        glVertexWeighthNV = provider.getFunctionAddress("glVertexWeighthNV");
-        glVertexWeighthvNV = provider.getFunctionAddress("glVertexWeighthvNV");
-        glVertexAttrib1hNV = provider.getFunctionAddress("glVertexAttrib1hNV");
-        glVertexAttrib1hvNV = provider.getFunctionAddress("glVertexAttrib1hvNV");
-        glVertexAttrib2hNV = provider.getFunctionAddress("glVertexAttrib2hNV");
-        glVertexAttrib2hvNV = provider.getFunctionAddress("glVertexAttrib2hvNV");
-        glVertexAttrib3hNV = provider.getFunctionAddress("glVertexAttrib3hNV");
-        glVertexAttrib3hvNV = provider.getFunctionAddress("glVertexAttrib3hvNV");
-        glVertexAttrib4hNV = provider.getFunctionAddress("glVertexAttrib4hNV");
-        glVertexAttrib4hvNV = provider.getFunctionAddress("glVertexAttrib4hvNV");
-        glVertexAttribs1hvNV = provider.getFunctionAddress("glVertexAttribs1hvNV");
-        glVertexAttribs2hvNV = provider.getFunctionAddress("glVertexAttribs2hvNV");
-        glVertexAttribs3hvNV = provider.getFunctionAddress("glVertexAttribs3hvNV");
-        glVertexAttribs4hvNV = provider.getFunctionAddress("glVertexAttribs4hvNV");
-        glGetInternalformatSampleivNV = provider.getFunctionAddress("glGetInternalformatSampleivNV");
-        glGetMemoryObjectDetachedResourcesuivNV = provider.getFunctionAddress("glGetMemoryObjectDetachedResourcesuivNV");
-        glResetMemoryObjectParameterNV = provider.getFunctionAddress("glResetMemoryObjectParameterNV");
-        glTexAttachMemoryNV = provider.getFunctionAddress("glTexAttachMemoryNV");
-        glBufferAttachMemoryNV = provider.getFunctionAddress("glBufferAttachMemoryNV");
-        glTextureAttachMemoryNV = provider.getFunctionAddress("glTextureAttachMemoryNV");
-        glNamedBufferAttachMemoryNV = provider.getFunctionAddress("glNamedBufferAttachMemoryNV");
-        glDrawMeshTasksNV = provider.getFunctionAddress("glDrawMeshTasksNV");
-        glDrawMeshTasksIndirectNV = provider.getFunctionAddress("glDrawMeshTasksIndirectNV");
-        glMultiDrawMeshTasksIndirectNV = provider.getFunctionAddress("glMultiDrawMeshTasksIndirectNV");
-        glMultiDrawMeshTasksIndirectCountNV = provider.getFunctionAddress("glMultiDrawMeshTasksIndirectCountNV");
-        glPathCommandsNV = provider.getFunctionAddress("glPathCommandsNV");
-        glPathCoordsNV = provider.getFunctionAddress("glPathCoordsNV");
-        glPathSubCommandsNV = provider.getFunctionAddress("glPathSubCommandsNV");
-        glPathSubCoordsNV = provider.getFunctionAddress("glPathSubCoordsNV");
-        glPathStringNV = provider.getFunctionAddress("glPathStringNV");
-        glPathGlyphsNV = provider.getFunctionAddress("glPathGlyphsNV");
-        glPathGlyphRangeNV = provider.getFunctionAddress("glPathGlyphRangeNV");
-        glPathGlyphIndexArrayNV = provider.getFunctionAddress("glPathGlyphIndexArrayNV");
-        glPathMemoryGlyphIndexArrayNV = provider.getFunctionAddress("glPathMemoryGlyphIndexArrayNV");
-        glCopyPathNV = provider.getFunctionAddress("glCopyPathNV");
-        glWeightPathsNV = provider.getFunctionAddress("glWeightPathsNV");
-        glInterpolatePathsNV = provider.getFunctionAddress("glInterpolatePathsNV");
-        glTransformPathNV = provider.getFunctionAddress("glTransformPathNV");
-        glPathParameterivNV = provider.getFunctionAddress("glPathParameterivNV");
-        glPathParameteriNV = provider.getFunctionAddress("glPathParameteriNV");
-        glPathParameterfvNV = provider.getFunctionAddress("glPathParameterfvNV");
-        glPathParameterfNV = provider.getFunctionAddress("glPathParameterfNV");
-        glPathDashArrayNV = provider.getFunctionAddress("glPathDashArrayNV");
-        glGenPathsNV = provider.getFunctionAddress("glGenPathsNV");
-        glDeletePathsNV = provider.getFunctionAddress("glDeletePathsNV");
-        glIsPathNV = provider.getFunctionAddress("glIsPathNV");
-        glPathStencilFuncNV = provider.getFunctionAddress("glPathStencilFuncNV");
-        glPathStencilDepthOffsetNV = provider.getFunctionAddress("glPathStencilDepthOffsetNV");
-        glStencilFillPathNV = provider.getFunctionAddress("glStencilFillPathNV");
-        glStencilStrokePathNV = provider.getFunctionAddress("glStencilStrokePathNV");
-        glStencilFillPathInstancedNV = provider.getFunctionAddress("glStencilFillPathInstancedNV");
-        glStencilStrokePathInstancedNV = provider.getFunctionAddress("glStencilStrokePathInstancedNV");
-        glPathCoverDepthFuncNV = provider.getFunctionAddress("glPathCoverDepthFuncNV");
-        glPathColorGenNV = provider.getFunctionAddress("glPathColorGenNV");
-        glPathTexGenNV = provider.getFunctionAddress("glPathTexGenNV");
-        glPathFogGenNV = provider.getFunctionAddress("glPathFogGenNV");
-        glCoverFillPathNV = provider.getFunctionAddress("glCoverFillPathNV");
-        glCoverStrokePathNV = provider.getFunctionAddress("glCoverStrokePathNV");
-        glCoverFillPathInstancedNV = provider.getFunctionAddress("glCoverFillPathInstancedNV");
-        glCoverStrokePathInstancedNV = provider.getFunctionAddress("glCoverStrokePathInstancedNV");
-        glStencilThenCoverFillPathNV = provider.getFunctionAddress("glStencilThenCoverFillPathNV");
-        glStencilThenCoverStrokePathNV = provider.getFunctionAddress("glStencilThenCoverStrokePathNV");
-        glStencilThenCoverFillPathInstancedNV = provider.getFunctionAddress("glStencilThenCoverFillPathInstancedNV");
-        glStencilThenCoverStrokePathInstancedNV = provider.getFunctionAddress("glStencilThenCoverStrokePathInstancedNV");
-        glPathGlyphIndexRangeNV = provider.getFunctionAddress("glPathGlyphIndexRangeNV");
-        glProgramPathFragmentInputGenNV = provider.getFunctionAddress("glProgramPathFragmentInputGenNV");
-        glGetPathParameterivNV = provider.getFunctionAddress("glGetPathParameterivNV");
-        glGetPathParameterfvNV = provider.getFunctionAddress("glGetPathParameterfvNV");
-        glGetPathCommandsNV = provider.getFunctionAddress("glGetPathCommandsNV");
-        glGetPathCoordsNV = provider.getFunctionAddress("glGetPathCoordsNV");
-        glGetPathDashArrayNV = provider.getFunctionAddress("glGetPathDashArrayNV");
-        glGetPathMetricsNV = provider.getFunctionAddress("glGetPathMetricsNV");
-        glGetPathMetricRangeNV = provider.getFunctionAddress("glGetPathMetricRangeNV");
-        glGetPathSpacingNV = provider.getFunctionAddress("glGetPathSpacingNV");
-        glGetPathColorGenivNV = provider.getFunctionAddress("glGetPathColorGenivNV");
-        glGetPathColorGenfvNV = provider.getFunctionAddress("glGetPathColorGenfvNV");
-        glGetPathTexGenivNV = provider.getFunctionAddress("glGetPathTexGenivNV");
-        glGetPathTexGenfvNV = provider.getFunctionAddress("glGetPathTexGenfvNV");
-        glIsPointInFillPathNV = provider.getFunctionAddress("glIsPointInFillPathNV");
-        glIsPointInStrokePathNV = provider.getFunctionAddress("glIsPointInStrokePathNV");
-        glGetPathLengthNV = provider.getFunctionAddress("glGetPathLengthNV");
-        glPointAlongPathNV = provider.getFunctionAddress("glPointAlongPathNV");
-        glMatrixLoad3x2fNV = provider.getFunctionAddress("glMatrixLoad3x2fNV");
-        glMatrixLoad3x3fNV = provider.getFunctionAddress("glMatrixLoad3x3fNV");
-        glMatrixLoadTranspose3x3fNV = provider.getFunctionAddress("glMatrixLoadTranspose3x3fNV");
-        glMatrixMult3x2fNV = provider.getFunctionAddress("glMatrixMult3x2fNV");
-        glMatrixMult3x3fNV = provider.getFunctionAddress("glMatrixMult3x3fNV");
-        glMatrixMultTranspose3x3fNV = provider.getFunctionAddress("glMatrixMultTranspose3x3fNV");
-        glGetProgramResourcefvNV = provider.getFunctionAddress("glGetProgramResourcefvNV");
-        glPixelDataRangeNV = provider.getFunctionAddress("glPixelDataRangeNV");
-        glFlushPixelDataRangeNV = provider.getFunctionAddress("glFlushPixelDataRangeNV");
-        glPointParameteriNV = provider.getFunctionAddress("glPointParameteriNV");
-        glPointParameterivNV = provider.getFunctionAddress("glPointParameterivNV");
-        glPrimitiveRestartNV = provider.getFunctionAddress("glPrimitiveRestartNV");
-        glPrimitiveRestartIndexNV = provider.getFunctionAddress("glPrimitiveRestartIndexNV");
-        glQueryResourceNV = provider.getFunctionAddress("glQueryResourceNV");
-        glGenQueryResourceTagNV = provider.getFunctionAddress("glGenQueryResourceTagNV");
-        glDeleteQueryResourceTagNV = provider.getFunctionAddress("glDeleteQueryResourceTagNV");
-        glQueryResourceTagNV = provider.getFunctionAddress("glQueryResourceTagNV");
-        glFramebufferSampleLocationsfvNV = provider.getFunctionAddress("glFramebufferSampleLocationsfvNV");
-        glNamedFramebufferSampleLocationsfvNV = provider.getFunctionAddress("glNamedFramebufferSampleLocationsfvNV");
-        glResolveDepthValuesNV = provider.getFunctionAddress("glResolveDepthValuesNV");
-        glScissorExclusiveArrayvNV = provider.getFunctionAddress("glScissorExclusiveArrayvNV");
-        glScissorExclusiveNV = provider.getFunctionAddress("glScissorExclusiveNV");
-        glMakeBufferResidentNV = provider.getFunctionAddress("glMakeBufferResidentNV");
-        glMakeBufferNonResidentNV = provider.getFunctionAddress("glMakeBufferNonResidentNV");
-        glIsBufferResidentNV = provider.getFunctionAddress("glIsBufferResidentNV");
-        glMakeNamedBufferResidentNV = provider.getFunctionAddress("glMakeNamedBufferResidentNV");
-        glMakeNamedBufferNonResidentNV = provider.getFunctionAddress("glMakeNamedBufferNonResidentNV");
-        glIsNamedBufferResidentNV = provider.getFunctionAddress("glIsNamedBufferResidentNV");
-        glGetBufferParameterui64vNV = provider.getFunctionAddress("glGetBufferParameterui64vNV");
-        glGetNamedBufferParameterui64vNV = provider.getFunctionAddress("glGetNamedBufferParameterui64vNV");
-        glGetIntegerui64vNV = provider.getFunctionAddress("glGetIntegerui64vNV");
-        glUniformui64NV = provider.getFunctionAddress("glUniformui64NV");
-        glUniformui64vNV = provider.getFunctionAddress("glUniformui64vNV");
-        glGetUniformui64vNV = provider.getFunctionAddress("glGetUniformui64vNV");
-        glProgramUniformui64NV = provider.getFunctionAddress("glProgramUniformui64NV");
-        glProgramUniformui64vNV = provider.getFunctionAddress("glProgramUniformui64vNV");
-        glBindShadingRateImageNV = provider.getFunctionAddress("glBindShadingRateImageNV");
-        glShadingRateImagePaletteNV = provider.getFunctionAddress("glShadingRateImagePaletteNV");
-        glGetShadingRateImagePaletteNV = provider.getFunctionAddress("glGetShadingRateImagePaletteNV");
-        glShadingRateImageBarrierNV = provider.getFunctionAddress("glShadingRateImageBarrierNV");
-        glShadingRateSampleOrderNV = provider.getFunctionAddress("glShadingRateSampleOrderNV");
-        glShadingRateSampleOrderCustomNV = provider.getFunctionAddress("glShadingRateSampleOrderCustomNV");
-        glGetShadingRateSampleLocationivNV = provider.getFunctionAddress("glGetShadingRateSampleLocationivNV");
-        glTextureBarrierNV = provider.getFunctionAddress("glTextureBarrierNV");
-        glTexImage2DMultisampleCoverageNV = provider.getFunctionAddress("glTexImage2DMultisampleCoverageNV");
-        glTexImage3DMultisampleCoverageNV = provider.getFunctionAddress("glTexImage3DMultisampleCoverageNV");
-        glTextureImage2DMultisampleNV = provider.getFunctionAddress("glTextureImage2DMultisampleNV");
-        glTextureImage3DMultisampleNV = provider.getFunctionAddress("glTextureImage3DMultisampleNV");
-        glTextureImage2DMultisampleCoverageNV = provider.getFunctionAddress("glTextureImage2DMultisampleCoverageNV");
-        glTextureImage3DMultisampleCoverageNV = provider.getFunctionAddress("glTextureImage3DMultisampleCoverageNV");
-        glBeginTransformFeedbackNV = provider.getFunctionAddress("glBeginTransformFeedbackNV");
-        glEndTransformFeedbackNV = provider.getFunctionAddress("glEndTransformFeedbackNV");
-        glTransformFeedbackAttribsNV = provider.getFunctionAddress("glTransformFeedbackAttribsNV");
-        glBindBufferRangeNV = provider.getFunctionAddress("glBindBufferRangeNV");
-        glBindBufferOffsetNV = provider.getFunctionAddress("glBindBufferOffsetNV");
-        glBindBufferBaseNV = provider.getFunctionAddress("glBindBufferBaseNV");
-        glTransformFeedbackVaryingsNV = provider.getFunctionAddress("glTransformFeedbackVaryingsNV");
-        glActiveVaryingNV = provider.getFunctionAddress("glActiveVaryingNV");
-        glGetVaryingLocationNV = provider.getFunctionAddress("glGetVaryingLocationNV");
-        glGetActiveVaryingNV = provider.getFunctionAddress("glGetActiveVaryingNV");
-        glGetTransformFeedbackVaryingNV = provider.getFunctionAddress("glGetTransformFeedbackVaryingNV");
-        glTransformFeedbackStreamAttribsNV = provider.getFunctionAddress("glTransformFeedbackStreamAttribsNV");
-        glBindTransformFeedbackNV = provider.getFunctionAddress("glBindTransformFeedbackNV");
-        glDeleteTransformFeedbacksNV = provider.getFunctionAddress("glDeleteTransformFeedbacksNV");
-        glGenTransformFeedbacksNV = provider.getFunctionAddress("glGenTransformFeedbacksNV");
-        glIsTransformFeedbackNV = provider.getFunctionAddress("glIsTransformFeedbackNV");
-        glPauseTransformFeedbackNV = provider.getFunctionAddress("glPauseTransformFeedbackNV");
-        glResumeTransformFeedbackNV = provider.getFunctionAddress("glResumeTransformFeedbackNV");
-        glDrawTransformFeedbackNV = provider.getFunctionAddress("glDrawTransformFeedbackNV");
-        glVertexArrayRangeNV = provider.getFunctionAddress("glVertexArrayRangeNV");
-        glFlushVertexArrayRangeNV = provider.getFunctionAddress("glFlushVertexArrayRangeNV");
-        glVertexAttribL1i64NV = provider.getFunctionAddress("glVertexAttribL1i64NV");
-        glVertexAttribL2i64NV = provider.getFunctionAddress("glVertexAttribL2i64NV");
-        glVertexAttribL3i64NV = provider.getFunctionAddress("glVertexAttribL3i64NV");
-        glVertexAttribL4i64NV = provider.getFunctionAddress("glVertexAttribL4i64NV");
-        glVertexAttribL1i64vNV = provider.getFunctionAddress("glVertexAttribL1i64vNV");
-        glVertexAttribL2i64vNV = provider.getFunctionAddress("glVertexAttribL2i64vNV");
-        glVertexAttribL3i64vNV = provider.getFunctionAddress("glVertexAttribL3i64vNV");
-        glVertexAttribL4i64vNV = provider.getFunctionAddress("glVertexAttribL4i64vNV");
-        glVertexAttribL1ui64NV = provider.getFunctionAddress("glVertexAttribL1ui64NV");
-        glVertexAttribL2ui64NV = provider.getFunctionAddress("glVertexAttribL2ui64NV");
-        glVertexAttribL3ui64NV = provider.getFunctionAddress("glVertexAttribL3ui64NV");
-        glVertexAttribL4ui64NV = provider.getFunctionAddress("glVertexAttribL4ui64NV");
-        glVertexAttribL1ui64vNV = provider.getFunctionAddress("glVertexAttribL1ui64vNV");
-        glVertexAttribL2ui64vNV = provider.getFunctionAddress("glVertexAttribL2ui64vNV");
-        glVertexAttribL3ui64vNV = provider.getFunctionAddress("glVertexAttribL3ui64vNV");
-        glVertexAttribL4ui64vNV = provider.getFunctionAddress("glVertexAttribL4ui64vNV");
-        glGetVertexAttribLi64vNV = provider.getFunctionAddress("glGetVertexAttribLi64vNV");
-        glGetVertexAttribLui64vNV = provider.getFunctionAddress("glGetVertexAttribLui64vNV");
-        glVertexAttribLFormatNV = provider.getFunctionAddress("glVertexAttribLFormatNV");
-        glBufferAddressRangeNV = provider.getFunctionAddress("glBufferAddressRangeNV");
-        glVertexFormatNV = provider.getFunctionAddress("glVertexFormatNV");
-        glNormalFormatNV = provider.getFunctionAddress("glNormalFormatNV");
-        glColorFormatNV = provider.getFunctionAddress("glColorFormatNV");
-        glIndexFormatNV = provider.getFunctionAddress("glIndexFormatNV");
-        glTexCoordFormatNV = provider.getFunctionAddress("glTexCoordFormatNV");
-        glEdgeFlagFormatNV = provider.getFunctionAddress("glEdgeFlagFormatNV");
-        glSecondaryColorFormatNV = provider.getFunctionAddress("glSecondaryColorFormatNV");
-        glFogCoordFormatNV = provider.getFunctionAddress("glFogCoordFormatNV");
-        glVertexAttribFormatNV = provider.getFunctionAddress("glVertexAttribFormatNV");
-        glVertexAttribIFormatNV = provider.getFunctionAddress("glVertexAttribIFormatNV");
-        glGetIntegerui64i_vNV = provider.getFunctionAddress("glGetIntegerui64i_vNV");
-        glViewportSwizzleNV = provider.getFunctionAddress("glViewportSwizzleNV");
-        glBeginConditionalRenderNVX = provider.getFunctionAddress("glBeginConditionalRenderNVX");
-        glEndConditionalRenderNVX = provider.getFunctionAddress("glEndConditionalRenderNVX");
-        glFramebufferTextureMultiviewOVR = provider.getFunctionAddress("glFramebufferTextureMultiviewOVR");
-        glNamedFramebufferTextureMultiviewOVR = provider.getFunctionAddress("glNamedFramebufferTextureMultiviewOVR");
+        boolean resolveAll = !Configuration.OPENGL_RESOLVE_SUPPORTED_ONLY.get(false);
+
+        boolean[] resolve = new boolean[2201];
+        Arrays.fill(resolve, 0, 47, !fc);
+        Arrays.fill(resolve, 47, 48, true);
+        Arrays.fill(resolve, 48, 52, !fc);
+        Arrays.fill(resolve, 52, 53, true);
+        Arrays.fill(resolve, 53, 274, !fc);
+        Arrays.fill(resolve, 274, 336, true);
+        Arrays.fill(resolve, 336, 340, resolveAll || ext.contains("OpenGL12"));
+        Arrays.fill(resolve, 340, 377, !fc && (resolveAll || ext.contains("OpenGL13")));
+        Arrays.fill(resolve, 377, 386, resolveAll || ext.contains("OpenGL13"));
+        Arrays.fill(resolve, 386, 424, !fc && (resolveAll || ext.contains("OpenGL14")));
+        Arrays.fill(resolve, 424, 426, resolveAll || ext.contains("OpenGL14") || ext.contains("GL_ARB_imaging"));
+        Arrays.fill(resolve, 426, 433, resolveAll || ext.contains("OpenGL14"));
+        Arrays.fill(resolve, 433, 452, resolveAll || ext.contains("OpenGL15"));
+        Arrays.fill(resolve, 452, 545, resolveAll || ext.contains("OpenGL20"));
+        Arrays.fill(resolve, 545, 551, resolveAll || ext.contains("OpenGL21"));
+        Arrays.fill(resolve, 551, 592, resolveAll || ext.contains("OpenGL30"));
+        Arrays.fill(resolve, 592, 594, resolveAll || ext.contains("OpenGL30") || ext.contains("GL_ARB_map_buffer_range"));
+        Arrays.fill(resolve, 594, 595, resolveAll || ext.contains("OpenGL30"));
+        Arrays.fill(resolve, 595, 615, resolveAll || ext.contains("OpenGL30") || ext.contains("GL_ARB_framebuffer_object"));
+        Arrays.fill(resolve, 615, 621, resolveAll || ext.contains("OpenGL30"));
+        Arrays.fill(resolve, 621, 622, resolveAll || ext.contains("OpenGL30") || ext.contains("GL_ARB_uniform_buffer_object"));
+        Arrays.fill(resolve, 622, 625, resolveAll || ext.contains("OpenGL30"));
+        Arrays.fill(resolve, 625, 627, resolveAll || ext.contains("OpenGL30") || ext.contains("GL_ARB_uniform_buffer_object"));
+        Arrays.fill(resolve, 627, 631, resolveAll || ext.contains("OpenGL30"));
+        Arrays.fill(resolve, 631, 635, resolveAll || ext.contains("OpenGL30") || ext.contains("GL_ARB_vertex_array_object"));
+        Arrays.fill(resolve, 635, 637, resolveAll || ext.contains("OpenGL31"));
+        Arrays.fill(resolve, 637, 638, resolveAll || ext.contains("OpenGL31") || ext.contains("GL_ARB_copy_buffer"));
+        Arrays.fill(resolve, 638, 640, resolveAll || ext.contains("OpenGL31"));
+        Arrays.fill(resolve, 640, 647, resolveAll || ext.contains("OpenGL31") || ext.contains("GL_ARB_uniform_buffer_object"));
+        Arrays.fill(resolve, 647, 648, resolveAll || ext.contains("OpenGL32"));
+        Arrays.fill(resolve, 648, 652, resolveAll || ext.contains("OpenGL32") || ext.contains("GL_ARB_draw_elements_base_vertex"));
+        Arrays.fill(resolve, 652, 653, resolveAll || ext.contains("OpenGL32") || ext.contains("GL_ARB_provoking_vertex"));
+        Arrays.fill(resolve, 653, 657, resolveAll || ext.contains("OpenGL32") || ext.contains("GL_ARB_texture_multisample"));
+        Arrays.fill(resolve, 657, 658, resolveAll || ext.contains("OpenGL32"));
+        Arrays.fill(resolve, 658, 664, resolveAll || ext.contains("OpenGL32") || ext.contains("GL_ARB_sync"));
+        Arrays.fill(resolve, 664, 665, resolveAll || ext.contains("OpenGL32"));
+        Arrays.fill(resolve, 665, 666, resolveAll || ext.contains("OpenGL32") || ext.contains("GL_ARB_sync"));
+        Arrays.fill(resolve, 666, 696, !fc && (resolveAll || ext.contains("OpenGL33") || ext.contains("GL_ARB_vertex_type_2_10_10_10_rev")));
+        Arrays.fill(resolve, 696, 698, resolveAll || ext.contains("OpenGL33") || ext.contains("GL_ARB_blend_func_extended"));
+        Arrays.fill(resolve, 698, 712, resolveAll || ext.contains("OpenGL33") || ext.contains("GL_ARB_sampler_objects"));
+        Arrays.fill(resolve, 712, 715, resolveAll || ext.contains("OpenGL33") || ext.contains("GL_ARB_timer_query"));
+        Arrays.fill(resolve, 715, 716, resolveAll || ext.contains("OpenGL33"));
+        Arrays.fill(resolve, 716, 724, resolveAll || ext.contains("OpenGL33") || ext.contains("GL_ARB_vertex_type_2_10_10_10_rev"));
+        Arrays.fill(resolve, 724, 728, resolveAll || ext.contains("OpenGL40"));
+        Arrays.fill(resolve, 728, 730, resolveAll || ext.contains("OpenGL40") || ext.contains("GL_ARB_draw_indirect"));
+        Arrays.fill(resolve, 730, 748, resolveAll || ext.contains("OpenGL40") || ext.contains("GL_ARB_gpu_shader_fp64"));
+        Arrays.fill(resolve, 748, 749, resolveAll || ext.contains("OpenGL40"));
+        Arrays.fill(resolve, 749, 757, resolveAll || ext.contains("OpenGL40") || ext.contains("GL_ARB_shader_subroutine"));
+        Arrays.fill(resolve, 757, 759, resolveAll || ext.contains("OpenGL40") || ext.contains("GL_ARB_tessellation_shader"));
+        Arrays.fill(resolve, 759, 766, resolveAll || ext.contains("OpenGL40") || ext.contains("GL_ARB_transform_feedback2"));
+        Arrays.fill(resolve, 766, 770, resolveAll || ext.contains("OpenGL40") || ext.contains("GL_ARB_transform_feedback3"));
+        Arrays.fill(resolve, 770, 775, resolveAll || ext.contains("OpenGL41") || ext.contains("GL_ARB_ES2_compatibility"));
+        Arrays.fill(resolve, 775, 777, resolveAll || ext.contains("OpenGL41") || ext.contains("GL_ARB_get_program_binary"));
+        Arrays.fill(resolve, 777, 778, resolveAll || ext.contains("OpenGL41") || ext.contains("GL_ARB_get_program_binary") || ext.contains("GL_ARB_separate_shader_objects"));
+        Arrays.fill(resolve, 778, 838, resolveAll || ext.contains("OpenGL41") || ext.contains("GL_ARB_separate_shader_objects"));
+        Arrays.fill(resolve, 838, 848, resolveAll || ext.contains("OpenGL41") || ext.contains("GL_ARB_vertex_attrib_64bit"));
+        Arrays.fill(resolve, 848, 858, resolveAll || ext.contains("OpenGL41") || ext.contains("GL_ARB_viewport_array"));
+        Arrays.fill(resolve, 858, 859, resolveAll || ext.contains("OpenGL42") || ext.contains("GL_ARB_shader_atomic_counters"));
+        Arrays.fill(resolve, 859, 862, resolveAll || ext.contains("OpenGL42") || ext.contains("GL_ARB_texture_storage"));
+        Arrays.fill(resolve, 862, 864, resolveAll || ext.contains("OpenGL42") || ext.contains("GL_ARB_transform_feedback_instanced"));
+        Arrays.fill(resolve, 864, 867, resolveAll || ext.contains("OpenGL42") || ext.contains("GL_ARB_base_instance"));
+        Arrays.fill(resolve, 867, 869, resolveAll || ext.contains("OpenGL42") || ext.contains("GL_ARB_shader_image_load_store"));
+        Arrays.fill(resolve, 869, 870, resolveAll || ext.contains("OpenGL42") || ext.contains("GL_ARB_internalformat_query"));
+        Arrays.fill(resolve, 870, 872, resolveAll || ext.contains("OpenGL43") || ext.contains("GL_ARB_clear_buffer_object"));
+        Arrays.fill(resolve, 872, 874, resolveAll || ext.contains("OpenGL43") || ext.contains("GL_ARB_compute_shader"));
+        Arrays.fill(resolve, 874, 875, resolveAll || ext.contains("OpenGL43") || ext.contains("GL_ARB_copy_image"));
+        Arrays.fill(resolve, 875, 885, resolveAll || ext.contains("OpenGL43") || ext.contains("GL_KHR_debug"));
+        Arrays.fill(resolve, 885, 887, resolveAll || ext.contains("OpenGL43") || ext.contains("GL_ARB_framebuffer_no_attachments"));
+        Arrays.fill(resolve, 887, 888, resolveAll || ext.contains("OpenGL43") || ext.contains("GL_ARB_internalformat_query2"));
+        Arrays.fill(resolve, 888, 894, resolveAll || ext.contains("OpenGL43") || ext.contains("GL_ARB_invalidate_subdata"));
+        Arrays.fill(resolve, 894, 896, resolveAll || ext.contains("OpenGL43") || ext.contains("GL_ARB_multi_draw_indirect"));
+        Arrays.fill(resolve, 896, 902, resolveAll || ext.contains("OpenGL43") || ext.contains("GL_ARB_program_interface_query"));
+        Arrays.fill(resolve, 902, 903, resolveAll || ext.contains("OpenGL43") || ext.contains("GL_ARB_shader_storage_buffer_object"));
+        Arrays.fill(resolve, 903, 904, resolveAll || ext.contains("OpenGL43") || ext.contains("GL_ARB_texture_buffer_range"));
+        Arrays.fill(resolve, 904, 906, resolveAll || ext.contains("OpenGL43") || ext.contains("GL_ARB_texture_storage_multisample"));
+        Arrays.fill(resolve, 906, 907, resolveAll || ext.contains("OpenGL43") || ext.contains("GL_ARB_texture_view"));
+        Arrays.fill(resolve, 907, 913, resolveAll || ext.contains("OpenGL43") || ext.contains("GL_ARB_vertex_attrib_binding"));
+        Arrays.fill(resolve, 913, 914, resolveAll || ext.contains("OpenGL44") || ext.contains("GL_ARB_buffer_storage"));
+        Arrays.fill(resolve, 914, 916, resolveAll || ext.contains("OpenGL44") || ext.contains("GL_ARB_clear_texture"));
+        Arrays.fill(resolve, 916, 922, resolveAll || ext.contains("OpenGL44") || ext.contains("GL_ARB_multi_bind"));
+        Arrays.fill(resolve, 922, 934, resolveAll || ext.contains("OpenGL45"));
+        Arrays.fill(resolve, 934, 935, resolveAll || ext.contains("OpenGL45") || ext.contains("GL_ARB_clip_control"));
+        Arrays.fill(resolve, 935, 1032, resolveAll || ext.contains("OpenGL45") || ext.contains("GL_ARB_direct_state_access"));
+        Arrays.fill(resolve, 1032, 1033, resolveAll || ext.contains("OpenGL45") || ext.contains("GL_ARB_ES3_1_compatibility"));
+        Arrays.fill(resolve, 1033, 1035, resolveAll || ext.contains("OpenGL45") || ext.contains("GL_ARB_get_texture_sub_image"));
+        Arrays.fill(resolve, 1035, 1036, resolveAll || ext.contains("OpenGL45") || ext.contains("GL_ARB_texture_barrier"));
+        Arrays.fill(resolve, 1036, 1037, resolveAll || ext.contains("OpenGL45") || ext.contains("GL_KHR_robustness"));
+        Arrays.fill(resolve, 1037, 1038, resolveAll || ext.contains("OpenGL45"));
+        Arrays.fill(resolve, 1038, 1039, resolveAll || ext.contains("OpenGL45") || ext.contains("GL_KHR_robustness"));
+        Arrays.fill(resolve, 1039, 1040, resolveAll || ext.contains("OpenGL45"));
+        Arrays.fill(resolve, 1040, 1041, resolveAll || ext.contains("OpenGL45") || ext.contains("GL_KHR_robustness"));
+        Arrays.fill(resolve, 1041, 1042, resolveAll || ext.contains("OpenGL45"));
+        Arrays.fill(resolve, 1042, 1044, resolveAll || ext.contains("OpenGL45") || ext.contains("GL_KHR_robustness"));
+        Arrays.fill(resolve, 1044, 1046, resolveAll || ext.contains("OpenGL46"));
+        Arrays.fill(resolve, 1046, 1047, resolveAll || ext.contains("OpenGL46") || ext.contains("GL_ARB_polygon_offset_clamp"));
+        Arrays.fill(resolve, 1047, 1048, resolveAll || ext.contains("OpenGL46"));
+        Arrays.fill(resolve, 1048, 1052, resolveAll || ext.contains("GL_AMD_debug_output"));
+        Arrays.fill(resolve, 1052, 1056, resolveAll || ext.contains("GL_AMD_draw_buffers_blend"));
+        Arrays.fill(resolve, 1056, 1058, resolveAll || ext.contains("GL_AMD_framebuffer_multisample_advanced"));
+        Arrays.fill(resolve, 1058, 1059, resolveAll || ext.contains("GL_AMD_interleaved_elements"));
+        Arrays.fill(resolve, 1059, 1060, resolveAll || ext.contains("GL_AMD_occlusion_query_event"));
+        Arrays.fill(resolve, 1060, 1071, resolveAll || ext.contains("GL_AMD_performance_monitor"));
+        Arrays.fill(resolve, 1071, 1072, resolveAll || ext.contains("GL_AMD_sample_positions"));
+        Arrays.fill(resolve, 1072, 1074, resolveAll || ext.contains("GL_AMD_sparse_texture"));
+        Arrays.fill(resolve, 1074, 1075, resolveAll || ext.contains("GL_AMD_stencil_operation_extended"));
+        Arrays.fill(resolve, 1075, 1077, resolveAll || ext.contains("GL_AMD_vertex_shader_tessellator"));
+        Arrays.fill(resolve, 1077, 1093, resolveAll || ext.contains("GL_ARB_bindless_texture"));
+        Arrays.fill(resolve, 1093, 1094, resolveAll || ext.contains("GL_ARB_buffer_storage"));
+        Arrays.fill(resolve, 1094, 1095, resolveAll || ext.contains("GL_ARB_cl_event"));
+        Arrays.fill(resolve, 1095, 1097, resolveAll || ext.contains("GL_ARB_clear_buffer_object"));
+        Arrays.fill(resolve, 1097, 1098, resolveAll || ext.contains("GL_ARB_color_buffer_float"));
+        Arrays.fill(resolve, 1098, 1099, resolveAll || ext.contains("GL_ARB_compute_variable_group_size"));
+        Arrays.fill(resolve, 1099, 1103, resolveAll || ext.contains("GL_ARB_debug_output"));
+        Arrays.fill(resolve, 1103, 1104, resolveAll || ext.contains("GL_ARB_draw_buffers"));
+        Arrays.fill(resolve, 1104, 1108, resolveAll || ext.contains("GL_ARB_draw_buffers_blend"));
+        Arrays.fill(resolve, 1108, 1110, resolveAll || ext.contains("GL_ARB_draw_instanced"));
+        Arrays.fill(resolve, 1110, 1111, resolveAll || ext.contains("GL_ARB_ES3_2_compatibility"));
+        Arrays.fill(resolve, 1111, 1113, resolveAll || ext.contains("GL_ARB_framebuffer_no_attachments"));
+        Arrays.fill(resolve, 1113, 1117, resolveAll || ext.contains("GL_ARB_geometry_shader4"));
+        Arrays.fill(resolve, 1117, 1118, resolveAll || ext.contains("GL_ARB_gl_spirv"));
+        Arrays.fill(resolve, 1118, 1135, resolveAll || ext.contains("GL_ARB_gpu_shader_fp64"));
+        Arrays.fill(resolve, 1135, 1171, resolveAll || ext.contains("GL_ARB_gpu_shader_int64"));
+        Arrays.fill(resolve, 1171, 1203, !fc && (resolveAll || ext.contains("GL_ARB_imaging")));
+        Arrays.fill(resolve, 1203, 1205, resolveAll || ext.contains("GL_ARB_indirect_parameters"));
+        Arrays.fill(resolve, 1205, 1207, resolveAll || ext.contains("GL_ARB_instanced_arrays"));
+        Arrays.fill(resolve, 1207, 1212, resolveAll || ext.contains("GL_ARB_matrix_palette"));
+        Arrays.fill(resolve, 1212, 1213, resolveAll || ext.contains("GL_ARB_multisample"));
+        Arrays.fill(resolve, 1213, 1247, resolveAll || ext.contains("GL_ARB_multitexture"));
+        Arrays.fill(resolve, 1247, 1255, resolveAll || ext.contains("GL_ARB_occlusion_query"));
+        Arrays.fill(resolve, 1255, 1256, resolveAll || ext.contains("GL_ARB_parallel_shader_compile"));
+        Arrays.fill(resolve, 1256, 1258, resolveAll || ext.contains("GL_ARB_point_parameters"));
+        Arrays.fill(resolve, 1258, 1278, resolveAll || ext.contains("GL_ARB_robustness"));
+        Arrays.fill(resolve, 1278, 1281, resolveAll || ext.contains("GL_ARB_sample_locations"));
+        Arrays.fill(resolve, 1281, 1282, resolveAll || ext.contains("GL_ARB_sample_shading"));
+        Arrays.fill(resolve, 1282, 1321, resolveAll || ext.contains("GL_ARB_shader_objects"));
+        Arrays.fill(resolve, 1321, 1327, resolveAll || ext.contains("GL_ARB_shading_language_include"));
+        Arrays.fill(resolve, 1327, 1330, resolveAll || ext.contains("GL_ARB_sparse_buffer"));
+        Arrays.fill(resolve, 1330, 1332, resolveAll || ext.contains("GL_ARB_sparse_texture"));
+        Arrays.fill(resolve, 1332, 1333, resolveAll || ext.contains("GL_ARB_texture_buffer_object"));
+        Arrays.fill(resolve, 1333, 1334, resolveAll || ext.contains("GL_ARB_texture_buffer_range"));
+        Arrays.fill(resolve, 1334, 1341, resolveAll || ext.contains("GL_ARB_texture_compression"));
+        Arrays.fill(resolve, 1341, 1344, resolveAll || ext.contains("GL_ARB_texture_storage"));
+        Arrays.fill(resolve, 1344, 1346, resolveAll || ext.contains("GL_ARB_texture_storage_multisample"));
+        Arrays.fill(resolve, 1346, 1350, resolveAll || ext.contains("GL_ARB_transpose_matrix"));
+        Arrays.fill(resolve, 1350, 1351, resolveAll || ext.contains("GL_ARB_vertex_attrib_64bit") || ext.contains("GL_EXT_vertex_attrib_64bit"));
+        Arrays.fill(resolve, 1351, 1357, resolveAll || ext.contains("GL_ARB_vertex_attrib_binding"));
+        Arrays.fill(resolve, 1357, 1367, resolveAll || ext.contains("GL_ARB_vertex_blend"));
+        Arrays.fill(resolve, 1367, 1378, resolveAll || ext.contains("GL_ARB_vertex_buffer_object"));
+        Arrays.fill(resolve, 1378, 1397, resolveAll || ext.contains("GL_ARB_vertex_program"));
+        Arrays.fill(resolve, 1397, 1436, resolveAll || ext.contains("GL_ARB_vertex_program") || ext.contains("GL_ARB_vertex_shader"));
+        Arrays.fill(resolve, 1436, 1439, resolveAll || ext.contains("GL_ARB_vertex_shader"));
+        Arrays.fill(resolve, 1439, 1443, resolveAll || ext.contains("GL_ARB_vertex_program") || ext.contains("GL_ARB_vertex_shader"));
+        Arrays.fill(resolve, 1443, 1459, resolveAll || ext.contains("GL_ARB_window_pos"));
+        Arrays.fill(resolve, 1459, 1462, resolveAll || ext.contains("GL_EXT_bindable_uniform"));
+        Arrays.fill(resolve, 1462, 1463, resolveAll || ext.contains("GL_EXT_blend_color"));
+        Arrays.fill(resolve, 1463, 1464, resolveAll || ext.contains("GL_EXT_blend_equation_separate"));
+        Arrays.fill(resolve, 1464, 1465, resolveAll || ext.contains("GL_EXT_blend_func_separate"));
+        Arrays.fill(resolve, 1465, 1466, resolveAll || ext.contains("GL_EXT_blend_minmax"));
+        Arrays.fill(resolve, 1466, 1468, resolveAll || ext.contains("GL_EXT_compiled_vertex_array"));
+        Arrays.fill(resolve, 1468, 1470, resolveAll || ext.contains("GL_EXT_debug_label"));
+        Arrays.fill(resolve, 1470, 1473, resolveAll || ext.contains("GL_EXT_debug_marker"));
+        Arrays.fill(resolve, 1473, 1474, resolveAll || ext.contains("GL_EXT_depth_bounds_test"));
+        Arrays.fill(resolve, 1474, 1686, resolveAll || ext.contains("GL_EXT_direct_state_access"));
+        Arrays.fill(resolve, 1686, 1687, resolveAll || ext.contains("GL_EXT_draw_buffers2"));
+        Arrays.fill(resolve, 1687, 1689, resolveAll || ext.contains("GL_EXT_direct_state_access") || ext.contains("GL_EXT_draw_buffers2") || ext.contains("GL_EXT_transform_feedback"));
+        Arrays.fill(resolve, 1689, 1692, resolveAll || ext.contains("GL_EXT_direct_state_access") || ext.contains("GL_EXT_draw_buffers2"));
+        Arrays.fill(resolve, 1692, 1694, resolveAll || ext.contains("GL_EXT_draw_instanced"));
+        Arrays.fill(resolve, 1694, 1696, resolveAll || ext.contains("GL_EXT_EGL_image_storage"));
+        Arrays.fill(resolve, 1696, 1698, resolveAll || ext.contains("GL_EXT_external_buffer"));
+        Arrays.fill(resolve, 1698, 1699, resolveAll || ext.contains("GL_EXT_framebuffer_blit"));
+        Arrays.fill(resolve, 1699, 1700, resolveAll || ext.contains("GL_EXT_framebuffer_multisample"));
+        Arrays.fill(resolve, 1700, 1717, resolveAll || ext.contains("GL_EXT_framebuffer_object"));
+        Arrays.fill(resolve, 1717, 1720, resolveAll || ext.contains("GL_EXT_geometry_shader4"));
+        Arrays.fill(resolve, 1720, 1722, resolveAll || ext.contains("GL_EXT_gpu_program_parameters"));
+        Arrays.fill(resolve, 1722, 1756, resolveAll || ext.contains("GL_EXT_gpu_shader4"));
+        Arrays.fill(resolve, 1756, 1758, resolveAll || ext.contains("GL_EXT_memory_object") || ext.contains("GL_EXT_semaphore"));
+        Arrays.fill(resolve, 1758, 1775, resolveAll || ext.contains("GL_EXT_memory_object"));
+        Arrays.fill(resolve, 1775, 1776, resolveAll || ext.contains("GL_EXT_memory_object_fd"));
+        Arrays.fill(resolve, 1776, 1778, resolveAll || ext.contains("GL_EXT_memory_object_win32"));
+        Arrays.fill(resolve, 1778, 1780, resolveAll || ext.contains("GL_EXT_point_parameters"));
+        Arrays.fill(resolve, 1780, 1781, resolveAll || ext.contains("GL_EXT_polygon_offset_clamp"));
+        Arrays.fill(resolve, 1781, 1782, resolveAll || ext.contains("GL_EXT_provoking_vertex"));
+        Arrays.fill(resolve, 1782, 1783, resolveAll || ext.contains("GL_EXT_raster_multisample") || ext.contains("GL_NV_framebuffer_mixed_samples"));
+        Arrays.fill(resolve, 1783, 1800, resolveAll || ext.contains("GL_EXT_secondary_color"));
+        Arrays.fill(resolve, 1800, 1807, resolveAll || ext.contains("GL_EXT_semaphore"));
+        Arrays.fill(resolve, 1807, 1808, resolveAll || ext.contains("GL_EXT_semaphore_fd"));
+        Arrays.fill(resolve, 1808, 1810, resolveAll || ext.contains("GL_EXT_semaphore_win32"));
+        Arrays.fill(resolve, 1810, 1813, resolveAll || ext.contains("GL_EXT_separate_shader_objects"));
+        Arrays.fill(resolve, 1813, 1814, resolveAll || ext.contains("GL_EXT_shader_framebuffer_fetch_non_coherent"));
+        Arrays.fill(resolve, 1814, 1816, resolveAll || ext.contains("GL_EXT_shader_image_load_store"));
+        Arrays.fill(resolve, 1816, 1817, resolveAll || ext.contains("GL_EXT_stencil_clear_tag"));
+        Arrays.fill(resolve, 1817, 1818, resolveAll || ext.contains("GL_EXT_stencil_two_side"));
+        Arrays.fill(resolve, 1818, 1819, resolveAll || ext.contains("GL_EXT_geometry_shader4") || ext.contains("GL_EXT_texture_array"));
+        Arrays.fill(resolve, 1819, 1820, resolveAll || ext.contains("GL_EXT_texture_buffer_object"));
+        Arrays.fill(resolve, 1820, 1826, resolveAll || ext.contains("GL_EXT_texture_integer"));
+        Arrays.fill(resolve, 1826, 1828, resolveAll || ext.contains("GL_EXT_timer_query"));
+        Arrays.fill(resolve, 1828, 1835, resolveAll || ext.contains("GL_EXT_transform_feedback"));
+        Arrays.fill(resolve, 1835, 1845, resolveAll || ext.contains("GL_EXT_vertex_attrib_64bit"));
+        Arrays.fill(resolve, 1845, 1847, resolveAll || ext.contains("GL_EXT_win32_keyed_mutex"));
+        Arrays.fill(resolve, 1847, 1848, resolveAll || ext.contains("GL_EXT_window_rectangles"));
+        Arrays.fill(resolve, 1848, 1849, resolveAll || ext.contains("GL_EXT_x11_sync_object"));
+        Arrays.fill(resolve, 1849, 1850, resolveAll || ext.contains("GL_GREMEDY_frame_terminator"));
+        Arrays.fill(resolve, 1850, 1851, resolveAll || ext.contains("GL_GREMEDY_string_marker"));
+        Arrays.fill(resolve, 1851, 1852, resolveAll || ext.contains("GL_INTEL_framebuffer_CMAA"));
+        Arrays.fill(resolve, 1852, 1855, resolveAll || ext.contains("GL_INTEL_map_texture"));
+        Arrays.fill(resolve, 1855, 1865, resolveAll || ext.contains("GL_INTEL_performance_query"));
+        Arrays.fill(resolve, 1865, 1866, resolveAll || ext.contains("GL_KHR_blend_equation_advanced"));
+        Arrays.fill(resolve, 1866, 1867, resolveAll || ext.contains("GL_KHR_parallel_shader_compile"));
+        Arrays.fill(resolve, 1867, 1868, resolveAll || ext.contains("GL_NV_alpha_to_coverage_dither_control"));
+        Arrays.fill(resolve, 1868, 1870, resolveAll || ext.contains("GL_NV_bindless_multi_draw_indirect"));
+        Arrays.fill(resolve, 1870, 1872, resolveAll || ext.contains("GL_NV_bindless_multi_draw_indirect_count"));
+        Arrays.fill(resolve, 1872, 1885, resolveAll || ext.contains("GL_NV_bindless_texture"));
+        Arrays.fill(resolve, 1885, 1887, resolveAll || ext.contains("GL_NV_blend_equation_advanced"));
+        Arrays.fill(resolve, 1887, 1888, resolveAll || ext.contains("GL_NV_clip_space_w_scaling"));
+        Arrays.fill(resolve, 1888, 1905, resolveAll || ext.contains("GL_NV_command_list"));
+        Arrays.fill(resolve, 1905, 1907, resolveAll || ext.contains("GL_NV_conditional_render"));
+        Arrays.fill(resolve, 1907, 1908, resolveAll || ext.contains("GL_NV_conservative_raster"));
+        Arrays.fill(resolve, 1908, 1909, resolveAll || ext.contains("GL_NV_conservative_raster_dilate"));
+        Arrays.fill(resolve, 1909, 1910, resolveAll || ext.contains("GL_NV_conservative_raster_pre_snap_triangles"));
+        Arrays.fill(resolve, 1910, 1911, resolveAll || ext.contains("GL_NV_copy_image"));
+        Arrays.fill(resolve, 1911, 1914, resolveAll || ext.contains("GL_NV_depth_buffer_float"));
+        Arrays.fill(resolve, 1914, 1915, resolveAll || ext.contains("GL_NV_draw_texture"));
+        Arrays.fill(resolve, 1915, 1920, resolveAll || ext.contains("GL_NV_draw_vulkan_image"));
+        Arrays.fill(resolve, 1920, 1923, resolveAll || ext.contains("GL_NV_explicit_multisample"));
+        Arrays.fill(resolve, 1923, 1930, resolveAll || ext.contains("GL_NV_fence"));
+        Arrays.fill(resolve, 1930, 1931, resolveAll || ext.contains("GL_NV_fragment_coverage_to_color"));
+        Arrays.fill(resolve, 1931, 1934, resolveAll || ext.contains("GL_NV_framebuffer_mixed_samples"));
+        Arrays.fill(resolve, 1934, 1935, resolveAll || ext.contains("GL_NV_framebuffer_multisample_coverage"));
+        Arrays.fill(resolve, 1935, 1947, resolveAll || ext.contains("GL_NV_gpu_multicast"));
+        Arrays.fill(resolve, 1947, 1980, resolveAll || ext.contains("GL_AMD_gpu_shader_int64") || ext.contains("GL_NV_gpu_shader5"));
+        Arrays.fill(resolve, 1980, 2026, resolveAll || ext.contains("GL_NV_half_float"));
+        Arrays.fill(resolve, 2026, 2027, resolveAll || ext.contains("GL_NV_internalformat_sample_query"));
+        Arrays.fill(resolve, 2027, 2033, resolveAll || ext.contains("GL_NV_memory_attachment"));
+        Arrays.fill(resolve, 2033, 2037, resolveAll || ext.contains("GL_NV_mesh_shader"));
+        Arrays.fill(resolve, 2037, 2101, resolveAll || ext.contains("GL_NV_path_rendering"));
+        Arrays.fill(resolve, 2101, 2103, resolveAll || ext.contains("GL_NV_pixel_data_range"));
+        Arrays.fill(resolve, 2103, 2105, resolveAll || ext.contains("GL_NV_point_sprite"));
+        Arrays.fill(resolve, 2105, 2107, resolveAll || ext.contains("GL_NV_primitive_restart"));
+        Arrays.fill(resolve, 2107, 2108, resolveAll || ext.contains("GL_NV_query_resource"));
+        Arrays.fill(resolve, 2108, 2111, resolveAll || ext.contains("GL_NV_query_resource_tag"));
+        Arrays.fill(resolve, 2111, 2114, resolveAll || ext.contains("GL_NV_sample_locations"));
+        Arrays.fill(resolve, 2114, 2116, resolveAll || ext.contains("GL_NV_scissor_exclusive"));
+        Arrays.fill(resolve, 2116, 2127, resolveAll || ext.contains("GL_NV_shader_buffer_load"));
+        Arrays.fill(resolve, 2127, 2128, resolveAll || ext.contains("GL_AMD_gpu_shader_int64") || ext.contains("GL_NV_gpu_shader5") || ext.contains("GL_NV_shader_buffer_load"));
+        Arrays.fill(resolve, 2128, 2130, resolveAll || ext.contains("GL_NV_shader_buffer_load"));
+        Arrays.fill(resolve, 2130, 2137, resolveAll || ext.contains("GL_NV_shading_rate_image"));
+        Arrays.fill(resolve, 2137, 2138, resolveAll || ext.contains("GL_NV_texture_barrier"));
+        Arrays.fill(resolve, 2138, 2144, resolveAll || ext.contains("GL_NV_texture_multisample"));
+        Arrays.fill(resolve, 2144, 2156, resolveAll || ext.contains("GL_NV_transform_feedback"));
+        Arrays.fill(resolve, 2156, 2163, resolveAll || ext.contains("GL_NV_transform_feedback2"));
+        Arrays.fill(resolve, 2163, 2165, resolveAll || ext.contains("GL_NV_vertex_array_range"));
+        Arrays.fill(resolve, 2165, 2184, resolveAll || ext.contains("GL_NV_vertex_attrib_integer_64bit"));
+        Arrays.fill(resolve, 2184, 2196, resolveAll || ext.contains("GL_NV_vertex_buffer_unified_memory"));
+        Arrays.fill(resolve, 2196, 2197, resolveAll || ext.contains("GL_NV_viewport_swizzle"));
+        Arrays.fill(resolve, 2197, 2199, resolveAll || ext.contains("GL_NVX_conditional_render"));
+        Arrays.fill(resolve, 2199, 2201, resolveAll || ext.contains("GL_OVR_multiview"));
+
+        long[] caps = apiGetFunctionAddresses(provider, FUNCTIONS, resolve);
+
+        glAccum = caps[0];
+        glAlphaFunc = caps[1];
+        glAreTexturesResident = caps[2];
+        glArrayElement = caps[3];
+        glBegin = caps[4];
+        glBitmap = caps[5];
+        glCallList = caps[6];
+        glCallLists = caps[7];
+        glClearAccum = caps[8];
+        glClearIndex = caps[9];
+        glClipPlane = caps[10];
+        glColor3b = caps[11];
+        glColor3s = caps[12];
+        glColor3i = caps[13];
+        glColor3f = caps[14];
+        glColor3d = caps[15];
+        glColor3ub = caps[16];
+        glColor3us = caps[17];
+        glColor3ui = caps[18];
+        glColor3bv = caps[19];
+        glColor3sv = caps[20];
+        glColor3iv = caps[21];
+        glColor3fv = caps[22];
+        glColor3dv = caps[23];
+        glColor3ubv = caps[24];
+        glColor3usv = caps[25];
+        glColor3uiv = caps[26];
+        glColor4b = caps[27];
+        glColor4s = caps[28];
+        glColor4i = caps[29];
+        glColor4f = caps[30];
+        glColor4d = caps[31];
+        glColor4ub = caps[32];
+        glColor4us = caps[33];
+        glColor4ui = caps[34];
+        glColor4bv = caps[35];
+        glColor4sv = caps[36];
+        glColor4iv = caps[37];
+        glColor4fv = caps[38];
+        glColor4dv = caps[39];
+        glColor4ubv = caps[40];
+        glColor4usv = caps[41];
+        glColor4uiv = caps[42];
+        glColorMaterial = caps[43];
+        glColorPointer = caps[44];
+        glCopyPixels = caps[45];
+        glDeleteLists = caps[46];
+        glDisableClientState = caps[47];
+        glDrawPixels = caps[48];
+        glEdgeFlag = caps[49];
+        glEdgeFlagv = caps[50];
+        glEdgeFlagPointer = caps[51];
+        glEnableClientState = caps[52];
+        glEnd = caps[53];
+        glEvalCoord1f = caps[54];
+        glEvalCoord1fv = caps[55];
+        glEvalCoord1d = caps[56];
+        glEvalCoord1dv = caps[57];
+        glEvalCoord2f = caps[58];
+        glEvalCoord2fv = caps[59];
+        glEvalCoord2d = caps[60];
+        glEvalCoord2dv = caps[61];
+        glEvalMesh1 = caps[62];
+        glEvalMesh2 = caps[63];
+        glEvalPoint1 = caps[64];
+        glEvalPoint2 = caps[65];
+        glFeedbackBuffer = caps[66];
+        glFogi = caps[67];
+        glFogiv = caps[68];
+        glFogf = caps[69];
+        glFogfv = caps[70];
+        glGenLists = caps[71];
+        glGetClipPlane = caps[72];
+        glGetLightiv = caps[73];
+        glGetLightfv = caps[74];
+        glGetMapiv = caps[75];
+        glGetMapfv = caps[76];
+        glGetMapdv = caps[77];
+        glGetMaterialiv = caps[78];
+        glGetMaterialfv = caps[79];
+        glGetPixelMapfv = caps[80];
+        glGetPixelMapusv = caps[81];
+        glGetPixelMapuiv = caps[82];
+        glGetPolygonStipple = caps[83];
+        glGetTexEnviv = caps[84];
+        glGetTexEnvfv = caps[85];
+        glGetTexGeniv = caps[86];
+        glGetTexGenfv = caps[87];
+        glGetTexGendv = caps[88];
+        glIndexi = caps[89];
+        glIndexub = caps[90];
+        glIndexs = caps[91];
+        glIndexf = caps[92];
+        glIndexd = caps[93];
+        glIndexiv = caps[94];
+        glIndexubv = caps[95];
+        glIndexsv = caps[96];
+        glIndexfv = caps[97];
+        glIndexdv = caps[98];
+        glIndexMask = caps[99];
+        glIndexPointer = caps[100];
+        glInitNames = caps[101];
+        glInterleavedArrays = caps[102];
+        glIsList = caps[103];
+        glLightModeli = caps[104];
+        glLightModelf = caps[105];
+        glLightModeliv = caps[106];
+        glLightModelfv = caps[107];
+        glLighti = caps[108];
+        glLightf = caps[109];
+        glLightiv = caps[110];
+        glLightfv = caps[111];
+        glLineStipple = caps[112];
+        glListBase = caps[113];
+        glLoadMatrixf = caps[114];
+        glLoadMatrixd = caps[115];
+        glLoadIdentity = caps[116];
+        glLoadName = caps[117];
+        glMap1f = caps[118];
+        glMap1d = caps[119];
+        glMap2f = caps[120];
+        glMap2d = caps[121];
+        glMapGrid1f = caps[122];
+        glMapGrid1d = caps[123];
+        glMapGrid2f = caps[124];
+        glMapGrid2d = caps[125];
+        glMateriali = caps[126];
+        glMaterialf = caps[127];
+        glMaterialiv = caps[128];
+        glMaterialfv = caps[129];
+        glMatrixMode = caps[130];
+        glMultMatrixf = caps[131];
+        glMultMatrixd = caps[132];
+        glFrustum = caps[133];
+        glNewList = caps[134];
+        glEndList = caps[135];
+        glNormal3f = caps[136];
+        glNormal3b = caps[137];
+        glNormal3s = caps[138];
+        glNormal3i = caps[139];
+        glNormal3d = caps[140];
+        glNormal3fv = caps[141];
+        glNormal3bv = caps[142];
+        glNormal3sv = caps[143];
+        glNormal3iv = caps[144];
+        glNormal3dv = caps[145];
+        glNormalPointer = caps[146];
+        glOrtho = caps[147];
+        glPassThrough = caps[148];
+        glPixelMapfv = caps[149];
+        glPixelMapusv = caps[150];
+        glPixelMapuiv = caps[151];
+        glPixelTransferi = caps[152];
+        glPixelTransferf = caps[153];
+        glPixelZoom = caps[154];
+        glPolygonStipple = caps[155];
+        glPushAttrib = caps[156];
+        glPushClientAttrib = caps[157];
+        glPopAttrib = caps[158];
+        glPopClientAttrib = caps[159];
+        glPopMatrix = caps[160];
+        glPopName = caps[161];
+        glPrioritizeTextures = caps[162];
+        glPushMatrix = caps[163];
+        glPushName = caps[164];
+        glRasterPos2i = caps[165];
+        glRasterPos2s = caps[166];
+        glRasterPos2f = caps[167];
+        glRasterPos2d = caps[168];
+        glRasterPos2iv = caps[169];
+        glRasterPos2sv = caps[170];
+        glRasterPos2fv = caps[171];
+        glRasterPos2dv = caps[172];
+        glRasterPos3i = caps[173];
+        glRasterPos3s = caps[174];
+        glRasterPos3f = caps[175];
+        glRasterPos3d = caps[176];
+        glRasterPos3iv = caps[177];
+        glRasterPos3sv = caps[178];
+        glRasterPos3fv = caps[179];
+        glRasterPos3dv = caps[180];
+        glRasterPos4i = caps[181];
+        glRasterPos4s = caps[182];
+        glRasterPos4f = caps[183];
+        glRasterPos4d = caps[184];
+        glRasterPos4iv = caps[185];
+        glRasterPos4sv = caps[186];
+        glRasterPos4fv = caps[187];
+        glRasterPos4dv = caps[188];
+        glRecti = caps[189];
+        glRects = caps[190];
+        glRectf = caps[191];
+        glRectd = caps[192];
+        glRectiv = caps[193];
+        glRectsv = caps[194];
+        glRectfv = caps[195];
+        glRectdv = caps[196];
+        glRenderMode = caps[197];
+        glRotatef = caps[198];
+        glRotated = caps[199];
+        glScalef = caps[200];
+        glScaled = caps[201];
+        glSelectBuffer = caps[202];
+        glShadeModel = caps[203];
+        glTexCoord1f = caps[204];
+        glTexCoord1s = caps[205];
+        glTexCoord1i = caps[206];
+        glTexCoord1d = caps[207];
+        glTexCoord1fv = caps[208];
+        glTexCoord1sv = caps[209];
+        glTexCoord1iv = caps[210];
+        glTexCoord1dv = caps[211];
+        glTexCoord2f = caps[212];
+        glTexCoord2s = caps[213];
+        glTexCoord2i = caps[214];
+        glTexCoord2d = caps[215];
+        glTexCoord2fv = caps[216];
+        glTexCoord2sv = caps[217];
+        glTexCoord2iv = caps[218];
+        glTexCoord2dv = caps[219];
+        glTexCoord3f = caps[220];
+        glTexCoord3s = caps[221];
+        glTexCoord3i = caps[222];
+        glTexCoord3d = caps[223];
+        glTexCoord3fv = caps[224];
+        glTexCoord3sv = caps[225];
+        glTexCoord3iv = caps[226];
+        glTexCoord3dv = caps[227];
+        glTexCoord4f = caps[228];
+        glTexCoord4s = caps[229];
+        glTexCoord4i = caps[230];
+        glTexCoord4d = caps[231];
+        glTexCoord4fv = caps[232];
+        glTexCoord4sv = caps[233];
+        glTexCoord4iv = caps[234];
+        glTexCoord4dv = caps[235];
+        glTexCoordPointer = caps[236];
+        glTexEnvi = caps[237];
+        glTexEnviv = caps[238];
+        glTexEnvf = caps[239];
+        glTexEnvfv = caps[240];
+        glTexGeni = caps[241];
+        glTexGeniv = caps[242];
+        glTexGenf = caps[243];
+        glTexGenfv = caps[244];
+        glTexGend = caps[245];
+        glTexGendv = caps[246];
+        glTranslatef = caps[247];
+        glTranslated = caps[248];
+        glVertex2f = caps[249];
+        glVertex2s = caps[250];
+        glVertex2i = caps[251];
+        glVertex2d = caps[252];
+        glVertex2fv = caps[253];
+        glVertex2sv = caps[254];
+        glVertex2iv = caps[255];
+        glVertex2dv = caps[256];
+        glVertex3f = caps[257];
+        glVertex3s = caps[258];
+        glVertex3i = caps[259];
+        glVertex3d = caps[260];
+        glVertex3fv = caps[261];
+        glVertex3sv = caps[262];
+        glVertex3iv = caps[263];
+        glVertex3dv = caps[264];
+        glVertex4f = caps[265];
+        glVertex4s = caps[266];
+        glVertex4i = caps[267];
+        glVertex4d = caps[268];
+        glVertex4fv = caps[269];
+        glVertex4sv = caps[270];
+        glVertex4iv = caps[271];
+        glVertex4dv = caps[272];
+        glVertexPointer = caps[273];
+        glEnable = caps[274];
+        glDisable = caps[275];
+        glBindTexture = caps[276];
+        glBlendFunc = caps[277];
+        glClear = caps[278];
+        glClearColor = caps[279];
+        glClearDepth = caps[280];
+        glClearStencil = caps[281];
+        glColorMask = caps[282];
+        glCullFace = caps[283];
+        glDepthFunc = caps[284];
+        glDepthMask = caps[285];
+        glDepthRange = caps[286];
+        glDrawArrays = caps[287];
+        glDrawBuffer = caps[288];
+        glDrawElements = caps[289];
+        glFinish = caps[290];
+        glFlush = caps[291];
+        glFrontFace = caps[292];
+        glGenTextures = caps[293];
+        glDeleteTextures = caps[294];
+        glGetBooleanv = caps[295];
+        glGetFloatv = caps[296];
+        glGetIntegerv = caps[297];
+        glGetDoublev = caps[298];
+        glGetError = caps[299];
+        glGetPointerv = caps[300];
+        glGetString = caps[301];
+        glGetTexImage = caps[302];
+        glGetTexLevelParameteriv = caps[303];
+        glGetTexLevelParameterfv = caps[304];
+        glGetTexParameteriv = caps[305];
+        glGetTexParameterfv = caps[306];
+        glHint = caps[307];
+        glIsEnabled = caps[308];
+        glIsTexture = caps[309];
+        glLineWidth = caps[310];
+        glLogicOp = caps[311];
+        glPixelStorei = caps[312];
+        glPixelStoref = caps[313];
+        glPointSize = caps[314];
+        glPolygonMode = caps[315];
+        glPolygonOffset = caps[316];
+        glReadBuffer = caps[317];
+        glReadPixels = caps[318];
+        glScissor = caps[319];
+        glStencilFunc = caps[320];
+        glStencilMask = caps[321];
+        glStencilOp = caps[322];
+        glTexImage1D = caps[323];
+        glTexImage2D = caps[324];
+        glCopyTexImage1D = caps[325];
+        glCopyTexImage2D = caps[326];
+        glCopyTexSubImage1D = caps[327];
+        glCopyTexSubImage2D = caps[328];
+        glTexParameteri = caps[329];
+        glTexParameteriv = caps[330];
+        glTexParameterf = caps[331];
+        glTexParameterfv = caps[332];
+        glTexSubImage1D = caps[333];
+        glTexSubImage2D = caps[334];
+        glViewport = caps[335];
+        glTexImage3D = caps[336];
+        glTexSubImage3D = caps[337];
+        glCopyTexSubImage3D = caps[338];
+        glDrawRangeElements = caps[339];
+        glClientActiveTexture = caps[340];
+        glMultiTexCoord1f = caps[341];
+        glMultiTexCoord1s = caps[342];
+        glMultiTexCoord1i = caps[343];
+        glMultiTexCoord1d = caps[344];
+        glMultiTexCoord1fv = caps[345];
+        glMultiTexCoord1sv = caps[346];
+        glMultiTexCoord1iv = caps[347];
+        glMultiTexCoord1dv = caps[348];
+        glMultiTexCoord2f = caps[349];
+        glMultiTexCoord2s = caps[350];
+        glMultiTexCoord2i = caps[351];
+        glMultiTexCoord2d = caps[352];
+        glMultiTexCoord2fv = caps[353];
+        glMultiTexCoord2sv = caps[354];
+        glMultiTexCoord2iv = caps[355];
+        glMultiTexCoord2dv = caps[356];
+        glMultiTexCoord3f = caps[357];
+        glMultiTexCoord3s = caps[358];
+        glMultiTexCoord3i = caps[359];
+        glMultiTexCoord3d = caps[360];
+        glMultiTexCoord3fv = caps[361];
+        glMultiTexCoord3sv = caps[362];
+        glMultiTexCoord3iv = caps[363];
+        glMultiTexCoord3dv = caps[364];
+        glMultiTexCoord4f = caps[365];
+        glMultiTexCoord4s = caps[366];
+        glMultiTexCoord4i = caps[367];
+        glMultiTexCoord4d = caps[368];
+        glMultiTexCoord4fv = caps[369];
+        glMultiTexCoord4sv = caps[370];
+        glMultiTexCoord4iv = caps[371];
+        glMultiTexCoord4dv = caps[372];
+        glLoadTransposeMatrixf = caps[373];
+        glLoadTransposeMatrixd = caps[374];
+        glMultTransposeMatrixf = caps[375];
+        glMultTransposeMatrixd = caps[376];
+        glCompressedTexImage3D = caps[377];
+        glCompressedTexImage2D = caps[378];
+        glCompressedTexImage1D = caps[379];
+        glCompressedTexSubImage3D = caps[380];
+        glCompressedTexSubImage2D = caps[381];
+        glCompressedTexSubImage1D = caps[382];
+        glGetCompressedTexImage = caps[383];
+        glSampleCoverage = caps[384];
+        glActiveTexture = caps[385];
+        glFogCoordf = caps[386];
+        glFogCoordd = caps[387];
+        glFogCoordfv = caps[388];
+        glFogCoorddv = caps[389];
+        glFogCoordPointer = caps[390];
+        glSecondaryColor3b = caps[391];
+        glSecondaryColor3s = caps[392];
+        glSecondaryColor3i = caps[393];
+        glSecondaryColor3f = caps[394];
+        glSecondaryColor3d = caps[395];
+        glSecondaryColor3ub = caps[396];
+        glSecondaryColor3us = caps[397];
+        glSecondaryColor3ui = caps[398];
+        glSecondaryColor3bv = caps[399];
+        glSecondaryColor3sv = caps[400];
+        glSecondaryColor3iv = caps[401];
+        glSecondaryColor3fv = caps[402];
+        glSecondaryColor3dv = caps[403];
+        glSecondaryColor3ubv = caps[404];
+        glSecondaryColor3usv = caps[405];
+        glSecondaryColor3uiv = caps[406];
+        glSecondaryColorPointer = caps[407];
+        glWindowPos2i = caps[408];
+        glWindowPos2s = caps[409];
+        glWindowPos2f = caps[410];
+        glWindowPos2d = caps[411];
+        glWindowPos2iv = caps[412];
+        glWindowPos2sv = caps[413];
+        glWindowPos2fv = caps[414];
+        glWindowPos2dv = caps[415];
+        glWindowPos3i = caps[416];
+        glWindowPos3s = caps[417];
+        glWindowPos3f = caps[418];
+        glWindowPos3d = caps[419];
+        glWindowPos3iv = caps[420];
+        glWindowPos3sv = caps[421];
+        glWindowPos3fv = caps[422];
+        glWindowPos3dv = caps[423];
+        glBlendColor = caps[424];
+        glBlendEquation = caps[425];
+        glMultiDrawArrays = caps[426];
+        glMultiDrawElements = caps[427];
+        glPointParameterf = caps[428];
+        glPointParameteri = caps[429];
+        glPointParameterfv = caps[430];
+        glPointParameteriv = caps[431];
+        glBlendFuncSeparate = caps[432];
+        glBindBuffer = caps[433];
+        glDeleteBuffers = caps[434];
+        glGenBuffers = caps[435];
+        glIsBuffer = caps[436];
+        glBufferData = caps[437];
+        glBufferSubData = caps[438];
+        glGetBufferSubData = caps[439];
+        glMapBuffer = caps[440];
+        glUnmapBuffer = caps[441];
+        glGetBufferParameteriv = caps[442];
+        glGetBufferPointerv = caps[443];
+        glGenQueries = caps[444];
+        glDeleteQueries = caps[445];
+        glIsQuery = caps[446];
+        glBeginQuery = caps[447];
+        glEndQuery = caps[448];
+        glGetQueryiv = caps[449];
+        glGetQueryObjectiv = caps[450];
+        glGetQueryObjectuiv = caps[451];
+        glCreateProgram = caps[452];
+        glDeleteProgram = caps[453];
+        glIsProgram = caps[454];
+        glCreateShader = caps[455];
+        glDeleteShader = caps[456];
+        glIsShader = caps[457];
+        glAttachShader = caps[458];
+        glDetachShader = caps[459];
+        glShaderSource = caps[460];
+        glCompileShader = caps[461];
+        glLinkProgram = caps[462];
+        glUseProgram = caps[463];
+        glValidateProgram = caps[464];
+        glUniform1f = caps[465];
+        glUniform2f = caps[466];
+        glUniform3f = caps[467];
+        glUniform4f = caps[468];
+        glUniform1i = caps[469];
+        glUniform2i = caps[470];
+        glUniform3i = caps[471];
+        glUniform4i = caps[472];
+        glUniform1fv = caps[473];
+        glUniform2fv = caps[474];
+        glUniform3fv = caps[475];
+        glUniform4fv = caps[476];
+        glUniform1iv = caps[477];
+        glUniform2iv = caps[478];
+        glUniform3iv = caps[479];
+        glUniform4iv = caps[480];
+        glUniformMatrix2fv = caps[481];
+        glUniformMatrix3fv = caps[482];
+        glUniformMatrix4fv = caps[483];
+        glGetShaderiv = caps[484];
+        glGetProgramiv = caps[485];
+        glGetShaderInfoLog = caps[486];
+        glGetProgramInfoLog = caps[487];
+        glGetAttachedShaders = caps[488];
+        glGetUniformLocation = caps[489];
+        glGetActiveUniform = caps[490];
+        glGetUniformfv = caps[491];
+        glGetUniformiv = caps[492];
+        glGetShaderSource = caps[493];
+        glVertexAttrib1f = caps[494];
+        glVertexAttrib1s = caps[495];
+        glVertexAttrib1d = caps[496];
+        glVertexAttrib2f = caps[497];
+        glVertexAttrib2s = caps[498];
+        glVertexAttrib2d = caps[499];
+        glVertexAttrib3f = caps[500];
+        glVertexAttrib3s = caps[501];
+        glVertexAttrib3d = caps[502];
+        glVertexAttrib4f = caps[503];
+        glVertexAttrib4s = caps[504];
+        glVertexAttrib4d = caps[505];
+        glVertexAttrib4Nub = caps[506];
+        glVertexAttrib1fv = caps[507];
+        glVertexAttrib1sv = caps[508];
+        glVertexAttrib1dv = caps[509];
+        glVertexAttrib2fv = caps[510];
+        glVertexAttrib2sv = caps[511];
+        glVertexAttrib2dv = caps[512];
+        glVertexAttrib3fv = caps[513];
+        glVertexAttrib3sv = caps[514];
+        glVertexAttrib3dv = caps[515];
+        glVertexAttrib4fv = caps[516];
+        glVertexAttrib4sv = caps[517];
+        glVertexAttrib4dv = caps[518];
+        glVertexAttrib4iv = caps[519];
+        glVertexAttrib4bv = caps[520];
+        glVertexAttrib4ubv = caps[521];
+        glVertexAttrib4usv = caps[522];
+        glVertexAttrib4uiv = caps[523];
+        glVertexAttrib4Nbv = caps[524];
+        glVertexAttrib4Nsv = caps[525];
+        glVertexAttrib4Niv = caps[526];
+        glVertexAttrib4Nubv = caps[527];
+        glVertexAttrib4Nusv = caps[528];
+        glVertexAttrib4Nuiv = caps[529];
+        glVertexAttribPointer = caps[530];
+        glEnableVertexAttribArray = caps[531];
+        glDisableVertexAttribArray = caps[532];
+        glBindAttribLocation = caps[533];
+        glGetActiveAttrib = caps[534];
+        glGetAttribLocation = caps[535];
+        glGetVertexAttribiv = caps[536];
+        glGetVertexAttribfv = caps[537];
+        glGetVertexAttribdv = caps[538];
+        glGetVertexAttribPointerv = caps[539];
+        glDrawBuffers = caps[540];
+        glBlendEquationSeparate = caps[541];
+        glStencilOpSeparate = caps[542];
+        glStencilFuncSeparate = caps[543];
+        glStencilMaskSeparate = caps[544];
+        glUniformMatrix2x3fv = caps[545];
+        glUniformMatrix3x2fv = caps[546];
+        glUniformMatrix2x4fv = caps[547];
+        glUniformMatrix4x2fv = caps[548];
+        glUniformMatrix3x4fv = caps[549];
+        glUniformMatrix4x3fv = caps[550];
+        glGetStringi = caps[551];
+        glClearBufferiv = caps[552];
+        glClearBufferuiv = caps[553];
+        glClearBufferfv = caps[554];
+        glClearBufferfi = caps[555];
+        glVertexAttribI1i = caps[556];
+        glVertexAttribI2i = caps[557];
+        glVertexAttribI3i = caps[558];
+        glVertexAttribI4i = caps[559];
+        glVertexAttribI1ui = caps[560];
+        glVertexAttribI2ui = caps[561];
+        glVertexAttribI3ui = caps[562];
+        glVertexAttribI4ui = caps[563];
+        glVertexAttribI1iv = caps[564];
+        glVertexAttribI2iv = caps[565];
+        glVertexAttribI3iv = caps[566];
+        glVertexAttribI4iv = caps[567];
+        glVertexAttribI1uiv = caps[568];
+        glVertexAttribI2uiv = caps[569];
+        glVertexAttribI3uiv = caps[570];
+        glVertexAttribI4uiv = caps[571];
+        glVertexAttribI4bv = caps[572];
+        glVertexAttribI4sv = caps[573];
+        glVertexAttribI4ubv = caps[574];
+        glVertexAttribI4usv = caps[575];
+        glVertexAttribIPointer = caps[576];
+        glGetVertexAttribIiv = caps[577];
+        glGetVertexAttribIuiv = caps[578];
+        glUniform1ui = caps[579];
+        glUniform2ui = caps[580];
+        glUniform3ui = caps[581];
+        glUniform4ui = caps[582];
+        glUniform1uiv = caps[583];
+        glUniform2uiv = caps[584];
+        glUniform3uiv = caps[585];
+        glUniform4uiv = caps[586];
+        glGetUniformuiv = caps[587];
+        glBindFragDataLocation = caps[588];
+        glGetFragDataLocation = caps[589];
+        glBeginConditionalRender = caps[590];
+        glEndConditionalRender = caps[591];
+        glMapBufferRange = caps[592];
+        glFlushMappedBufferRange = caps[593];
+        glClampColor = caps[594];
+        glIsRenderbuffer = caps[595];
+        glBindRenderbuffer = caps[596];
+        glDeleteRenderbuffers = caps[597];
+        glGenRenderbuffers = caps[598];
+        glRenderbufferStorage = caps[599];
+        glRenderbufferStorageMultisample = caps[600];
+        glGetRenderbufferParameteriv = caps[601];
+        glIsFramebuffer = caps[602];
+        glBindFramebuffer = caps[603];
+        glDeleteFramebuffers = caps[604];
+        glGenFramebuffers = caps[605];
+        glCheckFramebufferStatus = caps[606];
+        glFramebufferTexture1D = caps[607];
+        glFramebufferTexture2D = caps[608];
+        glFramebufferTexture3D = caps[609];
+        glFramebufferTextureLayer = caps[610];
+        glFramebufferRenderbuffer = caps[611];
+        glGetFramebufferAttachmentParameteriv = caps[612];
+        glBlitFramebuffer = caps[613];
+        glGenerateMipmap = caps[614];
+        glTexParameterIiv = caps[615];
+        glTexParameterIuiv = caps[616];
+        glGetTexParameterIiv = caps[617];
+        glGetTexParameterIuiv = caps[618];
+        glColorMaski = caps[619];
+        glGetBooleani_v = caps[620];
+        glGetIntegeri_v = caps[621];
+        glEnablei = caps[622];
+        glDisablei = caps[623];
+        glIsEnabledi = caps[624];
+        glBindBufferRange = caps[625];
+        glBindBufferBase = caps[626];
+        glBeginTransformFeedback = caps[627];
+        glEndTransformFeedback = caps[628];
+        glTransformFeedbackVaryings = caps[629];
+        glGetTransformFeedbackVarying = caps[630];
+        glBindVertexArray = caps[631];
+        glDeleteVertexArrays = caps[632];
+        glGenVertexArrays = caps[633];
+        glIsVertexArray = caps[634];
+        glDrawArraysInstanced = caps[635];
+        glDrawElementsInstanced = caps[636];
+        glCopyBufferSubData = caps[637];
+        glPrimitiveRestartIndex = caps[638];
+        glTexBuffer = caps[639];
+        glGetUniformIndices = caps[640];
+        glGetActiveUniformsiv = caps[641];
+        glGetActiveUniformName = caps[642];
+        glGetUniformBlockIndex = caps[643];
+        glGetActiveUniformBlockiv = caps[644];
+        glGetActiveUniformBlockName = caps[645];
+        glUniformBlockBinding = caps[646];
+        glGetBufferParameteri64v = caps[647];
+        glDrawElementsBaseVertex = caps[648];
+        glDrawRangeElementsBaseVertex = caps[649];
+        glDrawElementsInstancedBaseVertex = caps[650];
+        glMultiDrawElementsBaseVertex = caps[651];
+        glProvokingVertex = caps[652];
+        glTexImage2DMultisample = caps[653];
+        glTexImage3DMultisample = caps[654];
+        glGetMultisamplefv = caps[655];
+        glSampleMaski = caps[656];
+        glFramebufferTexture = caps[657];
+        glFenceSync = caps[658];
+        glIsSync = caps[659];
+        glDeleteSync = caps[660];
+        glClientWaitSync = caps[661];
+        glWaitSync = caps[662];
+        glGetInteger64v = caps[663];
+        glGetInteger64i_v = caps[664];
+        glGetSynciv = caps[665];
+        glVertexP2ui = caps[666];
+        glVertexP3ui = caps[667];
+        glVertexP4ui = caps[668];
+        glVertexP2uiv = caps[669];
+        glVertexP3uiv = caps[670];
+        glVertexP4uiv = caps[671];
+        glTexCoordP1ui = caps[672];
+        glTexCoordP2ui = caps[673];
+        glTexCoordP3ui = caps[674];
+        glTexCoordP4ui = caps[675];
+        glTexCoordP1uiv = caps[676];
+        glTexCoordP2uiv = caps[677];
+        glTexCoordP3uiv = caps[678];
+        glTexCoordP4uiv = caps[679];
+        glMultiTexCoordP1ui = caps[680];
+        glMultiTexCoordP2ui = caps[681];
+        glMultiTexCoordP3ui = caps[682];
+        glMultiTexCoordP4ui = caps[683];
+        glMultiTexCoordP1uiv = caps[684];
+        glMultiTexCoordP2uiv = caps[685];
+        glMultiTexCoordP3uiv = caps[686];
+        glMultiTexCoordP4uiv = caps[687];
+        glNormalP3ui = caps[688];
+        glNormalP3uiv = caps[689];
+        glColorP3ui = caps[690];
+        glColorP4ui = caps[691];
+        glColorP3uiv = caps[692];
+        glColorP4uiv = caps[693];
+        glSecondaryColorP3ui = caps[694];
+        glSecondaryColorP3uiv = caps[695];
+        glBindFragDataLocationIndexed = caps[696];
+        glGetFragDataIndex = caps[697];
+        glGenSamplers = caps[698];
+        glDeleteSamplers = caps[699];
+        glIsSampler = caps[700];
+        glBindSampler = caps[701];
+        glSamplerParameteri = caps[702];
+        glSamplerParameterf = caps[703];
+        glSamplerParameteriv = caps[704];
+        glSamplerParameterfv = caps[705];
+        glSamplerParameterIiv = caps[706];
+        glSamplerParameterIuiv = caps[707];
+        glGetSamplerParameteriv = caps[708];
+        glGetSamplerParameterfv = caps[709];
+        glGetSamplerParameterIiv = caps[710];
+        glGetSamplerParameterIuiv = caps[711];
+        glQueryCounter = caps[712];
+        glGetQueryObjecti64v = caps[713];
+        glGetQueryObjectui64v = caps[714];
+        glVertexAttribDivisor = caps[715];
+        glVertexAttribP1ui = caps[716];
+        glVertexAttribP2ui = caps[717];
+        glVertexAttribP3ui = caps[718];
+        glVertexAttribP4ui = caps[719];
+        glVertexAttribP1uiv = caps[720];
+        glVertexAttribP2uiv = caps[721];
+        glVertexAttribP3uiv = caps[722];
+        glVertexAttribP4uiv = caps[723];
+        glBlendEquationi = caps[724];
+        glBlendEquationSeparatei = caps[725];
+        glBlendFunci = caps[726];
+        glBlendFuncSeparatei = caps[727];
+        glDrawArraysIndirect = caps[728];
+        glDrawElementsIndirect = caps[729];
+        glUniform1d = caps[730];
+        glUniform2d = caps[731];
+        glUniform3d = caps[732];
+        glUniform4d = caps[733];
+        glUniform1dv = caps[734];
+        glUniform2dv = caps[735];
+        glUniform3dv = caps[736];
+        glUniform4dv = caps[737];
+        glUniformMatrix2dv = caps[738];
+        glUniformMatrix3dv = caps[739];
+        glUniformMatrix4dv = caps[740];
+        glUniformMatrix2x3dv = caps[741];
+        glUniformMatrix2x4dv = caps[742];
+        glUniformMatrix3x2dv = caps[743];
+        glUniformMatrix3x4dv = caps[744];
+        glUniformMatrix4x2dv = caps[745];
+        glUniformMatrix4x3dv = caps[746];
+        glGetUniformdv = caps[747];
+        glMinSampleShading = caps[748];
+        glGetSubroutineUniformLocation = caps[749];
+        glGetSubroutineIndex = caps[750];
+        glGetActiveSubroutineUniformiv = caps[751];
+        glGetActiveSubroutineUniformName = caps[752];
+        glGetActiveSubroutineName = caps[753];
+        glUniformSubroutinesuiv = caps[754];
+        glGetUniformSubroutineuiv = caps[755];
+        glGetProgramStageiv = caps[756];
+        glPatchParameteri = caps[757];
+        glPatchParameterfv = caps[758];
+        glBindTransformFeedback = caps[759];
+        glDeleteTransformFeedbacks = caps[760];
+        glGenTransformFeedbacks = caps[761];
+        glIsTransformFeedback = caps[762];
+        glPauseTransformFeedback = caps[763];
+        glResumeTransformFeedback = caps[764];
+        glDrawTransformFeedback = caps[765];
+        glDrawTransformFeedbackStream = caps[766];
+        glBeginQueryIndexed = caps[767];
+        glEndQueryIndexed = caps[768];
+        glGetQueryIndexediv = caps[769];
+        glReleaseShaderCompiler = caps[770];
+        glShaderBinary = caps[771];
+        glGetShaderPrecisionFormat = caps[772];
+        glDepthRangef = caps[773];
+        glClearDepthf = caps[774];
+        glGetProgramBinary = caps[775];
+        glProgramBinary = caps[776];
+        glProgramParameteri = caps[777];
+        glUseProgramStages = caps[778];
+        glActiveShaderProgram = caps[779];
+        glCreateShaderProgramv = caps[780];
+        glBindProgramPipeline = caps[781];
+        glDeleteProgramPipelines = caps[782];
+        glGenProgramPipelines = caps[783];
+        glIsProgramPipeline = caps[784];
+        glGetProgramPipelineiv = caps[785];
+        glProgramUniform1i = caps[786];
+        glProgramUniform2i = caps[787];
+        glProgramUniform3i = caps[788];
+        glProgramUniform4i = caps[789];
+        glProgramUniform1ui = caps[790];
+        glProgramUniform2ui = caps[791];
+        glProgramUniform3ui = caps[792];
+        glProgramUniform4ui = caps[793];
+        glProgramUniform1f = caps[794];
+        glProgramUniform2f = caps[795];
+        glProgramUniform3f = caps[796];
+        glProgramUniform4f = caps[797];
+        glProgramUniform1d = caps[798];
+        glProgramUniform2d = caps[799];
+        glProgramUniform3d = caps[800];
+        glProgramUniform4d = caps[801];
+        glProgramUniform1iv = caps[802];
+        glProgramUniform2iv = caps[803];
+        glProgramUniform3iv = caps[804];
+        glProgramUniform4iv = caps[805];
+        glProgramUniform1uiv = caps[806];
+        glProgramUniform2uiv = caps[807];
+        glProgramUniform3uiv = caps[808];
+        glProgramUniform4uiv = caps[809];
+        glProgramUniform1fv = caps[810];
+        glProgramUniform2fv = caps[811];
+        glProgramUniform3fv = caps[812];
+        glProgramUniform4fv = caps[813];
+        glProgramUniform1dv = caps[814];
+        glProgramUniform2dv = caps[815];
+        glProgramUniform3dv = caps[816];
+        glProgramUniform4dv = caps[817];
+        glProgramUniformMatrix2fv = caps[818];
+        glProgramUniformMatrix3fv = caps[819];
+        glProgramUniformMatrix4fv = caps[820];
+        glProgramUniformMatrix2dv = caps[821];
+        glProgramUniformMatrix3dv = caps[822];
+        glProgramUniformMatrix4dv = caps[823];
+        glProgramUniformMatrix2x3fv = caps[824];
+        glProgramUniformMatrix3x2fv = caps[825];
+        glProgramUniformMatrix2x4fv = caps[826];
+        glProgramUniformMatrix4x2fv = caps[827];
+        glProgramUniformMatrix3x4fv = caps[828];
+        glProgramUniformMatrix4x3fv = caps[829];
+        glProgramUniformMatrix2x3dv = caps[830];
+        glProgramUniformMatrix3x2dv = caps[831];
+        glProgramUniformMatrix2x4dv = caps[832];
+        glProgramUniformMatrix4x2dv = caps[833];
+        glProgramUniformMatrix3x4dv = caps[834];
+        glProgramUniformMatrix4x3dv = caps[835];
+        glValidateProgramPipeline = caps[836];
+        glGetProgramPipelineInfoLog = caps[837];
+        glVertexAttribL1d = caps[838];
+        glVertexAttribL2d = caps[839];
+        glVertexAttribL3d = caps[840];
+        glVertexAttribL4d = caps[841];
+        glVertexAttribL1dv = caps[842];
+        glVertexAttribL2dv = caps[843];
+        glVertexAttribL3dv = caps[844];
+        glVertexAttribL4dv = caps[845];
+        glVertexAttribLPointer = caps[846];
+        glGetVertexAttribLdv = caps[847];
+        glViewportArrayv = caps[848];
+        glViewportIndexedf = caps[849];
+        glViewportIndexedfv = caps[850];
+        glScissorArrayv = caps[851];
+        glScissorIndexed = caps[852];
+        glScissorIndexedv = caps[853];
+        glDepthRangeArrayv = caps[854];
+        glDepthRangeIndexed = caps[855];
+        glGetFloati_v = caps[856];
+        glGetDoublei_v = caps[857];
+        glGetActiveAtomicCounterBufferiv = caps[858];
+        glTexStorage1D = caps[859];
+        glTexStorage2D = caps[860];
+        glTexStorage3D = caps[861];
+        glDrawTransformFeedbackInstanced = caps[862];
+        glDrawTransformFeedbackStreamInstanced = caps[863];
+        glDrawArraysInstancedBaseInstance = caps[864];
+        glDrawElementsInstancedBaseInstance = caps[865];
+        glDrawElementsInstancedBaseVertexBaseInstance = caps[866];
+        glBindImageTexture = caps[867];
+        glMemoryBarrier = caps[868];
+        glGetInternalformativ = caps[869];
+        glClearBufferData = caps[870];
+        glClearBufferSubData = caps[871];
+        glDispatchCompute = caps[872];
+        glDispatchComputeIndirect = caps[873];
+        glCopyImageSubData = caps[874];
+        glDebugMessageControl = caps[875];
+        glDebugMessageInsert = caps[876];
+        glDebugMessageCallback = caps[877];
+        glGetDebugMessageLog = caps[878];
+        glPushDebugGroup = caps[879];
+        glPopDebugGroup = caps[880];
+        glObjectLabel = caps[881];
+        glGetObjectLabel = caps[882];
+        glObjectPtrLabel = caps[883];
+        glGetObjectPtrLabel = caps[884];
+        glFramebufferParameteri = caps[885];
+        glGetFramebufferParameteriv = caps[886];
+        glGetInternalformati64v = caps[887];
+        glInvalidateTexSubImage = caps[888];
+        glInvalidateTexImage = caps[889];
+        glInvalidateBufferSubData = caps[890];
+        glInvalidateBufferData = caps[891];
+        glInvalidateFramebuffer = caps[892];
+        glInvalidateSubFramebuffer = caps[893];
+        glMultiDrawArraysIndirect = caps[894];
+        glMultiDrawElementsIndirect = caps[895];
+        glGetProgramInterfaceiv = caps[896];
+        glGetProgramResourceIndex = caps[897];
+        glGetProgramResourceName = caps[898];
+        glGetProgramResourceiv = caps[899];
+        glGetProgramResourceLocation = caps[900];
+        glGetProgramResourceLocationIndex = caps[901];
+        glShaderStorageBlockBinding = caps[902];
+        glTexBufferRange = caps[903];
+        glTexStorage2DMultisample = caps[904];
+        glTexStorage3DMultisample = caps[905];
+        glTextureView = caps[906];
+        glBindVertexBuffer = caps[907];
+        glVertexAttribFormat = caps[908];
+        glVertexAttribIFormat = caps[909];
+        glVertexAttribLFormat = caps[910];
+        glVertexAttribBinding = caps[911];
+        glVertexBindingDivisor = caps[912];
+        glBufferStorage = caps[913];
+        glClearTexSubImage = caps[914];
+        glClearTexImage = caps[915];
+        glBindBuffersBase = caps[916];
+        glBindBuffersRange = caps[917];
+        glBindTextures = caps[918];
+        glBindSamplers = caps[919];
+        glBindImageTextures = caps[920];
+        glBindVertexBuffers = caps[921];
+        glGetnMapdv = caps[922];
+        glGetnMapfv = caps[923];
+        glGetnMapiv = caps[924];
+        glGetnPixelMapfv = caps[925];
+        glGetnPixelMapuiv = caps[926];
+        glGetnPixelMapusv = caps[927];
+        glGetnPolygonStipple = caps[928];
+        glGetnColorTable = caps[929];
+        glGetnConvolutionFilter = caps[930];
+        glGetnSeparableFilter = caps[931];
+        glGetnHistogram = caps[932];
+        glGetnMinmax = caps[933];
+        glClipControl = caps[934];
+        glCreateTransformFeedbacks = caps[935];
+        glTransformFeedbackBufferBase = caps[936];
+        glTransformFeedbackBufferRange = caps[937];
+        glGetTransformFeedbackiv = caps[938];
+        glGetTransformFeedbacki_v = caps[939];
+        glGetTransformFeedbacki64_v = caps[940];
+        glCreateBuffers = caps[941];
+        glNamedBufferStorage = caps[942];
+        glNamedBufferData = caps[943];
+        glNamedBufferSubData = caps[944];
+        glCopyNamedBufferSubData = caps[945];
+        glClearNamedBufferData = caps[946];
+        glClearNamedBufferSubData = caps[947];
+        glMapNamedBuffer = caps[948];
+        glMapNamedBufferRange = caps[949];
+        glUnmapNamedBuffer = caps[950];
+        glFlushMappedNamedBufferRange = caps[951];
+        glGetNamedBufferParameteriv = caps[952];
+        glGetNamedBufferParameteri64v = caps[953];
+        glGetNamedBufferPointerv = caps[954];
+        glGetNamedBufferSubData = caps[955];
+        glCreateFramebuffers = caps[956];
+        glNamedFramebufferRenderbuffer = caps[957];
+        glNamedFramebufferParameteri = caps[958];
+        glNamedFramebufferTexture = caps[959];
+        glNamedFramebufferTextureLayer = caps[960];
+        glNamedFramebufferDrawBuffer = caps[961];
+        glNamedFramebufferDrawBuffers = caps[962];
+        glNamedFramebufferReadBuffer = caps[963];
+        glInvalidateNamedFramebufferData = caps[964];
+        glInvalidateNamedFramebufferSubData = caps[965];
+        glClearNamedFramebufferiv = caps[966];
+        glClearNamedFramebufferuiv = caps[967];
+        glClearNamedFramebufferfv = caps[968];
+        glClearNamedFramebufferfi = caps[969];
+        glBlitNamedFramebuffer = caps[970];
+        glCheckNamedFramebufferStatus = caps[971];
+        glGetNamedFramebufferParameteriv = caps[972];
+        glGetNamedFramebufferAttachmentParameteriv = caps[973];
+        glCreateRenderbuffers = caps[974];
+        glNamedRenderbufferStorage = caps[975];
+        glNamedRenderbufferStorageMultisample = caps[976];
+        glGetNamedRenderbufferParameteriv = caps[977];
+        glCreateTextures = caps[978];
+        glTextureBuffer = caps[979];
+        glTextureBufferRange = caps[980];
+        glTextureStorage1D = caps[981];
+        glTextureStorage2D = caps[982];
+        glTextureStorage3D = caps[983];
+        glTextureStorage2DMultisample = caps[984];
+        glTextureStorage3DMultisample = caps[985];
+        glTextureSubImage1D = caps[986];
+        glTextureSubImage2D = caps[987];
+        glTextureSubImage3D = caps[988];
+        glCompressedTextureSubImage1D = caps[989];
+        glCompressedTextureSubImage2D = caps[990];
+        glCompressedTextureSubImage3D = caps[991];
+        glCopyTextureSubImage1D = caps[992];
+        glCopyTextureSubImage2D = caps[993];
+        glCopyTextureSubImage3D = caps[994];
+        glTextureParameterf = caps[995];
+        glTextureParameterfv = caps[996];
+        glTextureParameteri = caps[997];
+        glTextureParameterIiv = caps[998];
+        glTextureParameterIuiv = caps[999];
+        glTextureParameteriv = caps[1000];
+        glGenerateTextureMipmap = caps[1001];
+        glBindTextureUnit = caps[1002];
+        glGetTextureImage = caps[1003];
+        glGetCompressedTextureImage = caps[1004];
+        glGetTextureLevelParameterfv = caps[1005];
+        glGetTextureLevelParameteriv = caps[1006];
+        glGetTextureParameterfv = caps[1007];
+        glGetTextureParameterIiv = caps[1008];
+        glGetTextureParameterIuiv = caps[1009];
+        glGetTextureParameteriv = caps[1010];
+        glCreateVertexArrays = caps[1011];
+        glDisableVertexArrayAttrib = caps[1012];
+        glEnableVertexArrayAttrib = caps[1013];
+        glVertexArrayElementBuffer = caps[1014];
+        glVertexArrayVertexBuffer = caps[1015];
+        glVertexArrayVertexBuffers = caps[1016];
+        glVertexArrayAttribFormat = caps[1017];
+        glVertexArrayAttribIFormat = caps[1018];
+        glVertexArrayAttribLFormat = caps[1019];
+        glVertexArrayAttribBinding = caps[1020];
+        glVertexArrayBindingDivisor = caps[1021];
+        glGetVertexArrayiv = caps[1022];
+        glGetVertexArrayIndexediv = caps[1023];
+        glGetVertexArrayIndexed64iv = caps[1024];
+        glCreateSamplers = caps[1025];
+        glCreateProgramPipelines = caps[1026];
+        glCreateQueries = caps[1027];
+        glGetQueryBufferObjectiv = caps[1028];
+        glGetQueryBufferObjectuiv = caps[1029];
+        glGetQueryBufferObjecti64v = caps[1030];
+        glGetQueryBufferObjectui64v = caps[1031];
+        glMemoryBarrierByRegion = caps[1032];
+        glGetTextureSubImage = caps[1033];
+        glGetCompressedTextureSubImage = caps[1034];
+        glTextureBarrier = caps[1035];
+        glGetGraphicsResetStatus = caps[1036];
+        glGetnTexImage = caps[1037];
+        glReadnPixels = caps[1038];
+        glGetnCompressedTexImage = caps[1039];
+        glGetnUniformfv = caps[1040];
+        glGetnUniformdv = caps[1041];
+        glGetnUniformiv = caps[1042];
+        glGetnUniformuiv = caps[1043];
+        glMultiDrawArraysIndirectCount = caps[1044];
+        glMultiDrawElementsIndirectCount = caps[1045];
+        glPolygonOffsetClamp = caps[1046];
+        glSpecializeShader = caps[1047];
+        glDebugMessageEnableAMD = caps[1048];
+        glDebugMessageInsertAMD = caps[1049];
+        glDebugMessageCallbackAMD = caps[1050];
+        glGetDebugMessageLogAMD = caps[1051];
+        glBlendFuncIndexedAMD = caps[1052];
+        glBlendFuncSeparateIndexedAMD = caps[1053];
+        glBlendEquationIndexedAMD = caps[1054];
+        glBlendEquationSeparateIndexedAMD = caps[1055];
+        glRenderbufferStorageMultisampleAdvancedAMD = caps[1056];
+        glNamedRenderbufferStorageMultisampleAdvancedAMD = caps[1057];
+        glVertexAttribParameteriAMD = caps[1058];
+        glQueryObjectParameteruiAMD = caps[1059];
+        glGetPerfMonitorGroupsAMD = caps[1060];
+        glGetPerfMonitorCountersAMD = caps[1061];
+        glGetPerfMonitorGroupStringAMD = caps[1062];
+        glGetPerfMonitorCounterStringAMD = caps[1063];
+        glGetPerfMonitorCounterInfoAMD = caps[1064];
+        glGenPerfMonitorsAMD = caps[1065];
+        glDeletePerfMonitorsAMD = caps[1066];
+        glSelectPerfMonitorCountersAMD = caps[1067];
+        glBeginPerfMonitorAMD = caps[1068];
+        glEndPerfMonitorAMD = caps[1069];
+        glGetPerfMonitorCounterDataAMD = caps[1070];
+        glSetMultisamplefvAMD = caps[1071];
+        glTexStorageSparseAMD = caps[1072];
+        glTextureStorageSparseAMD = caps[1073];
+        glStencilOpValueAMD = caps[1074];
+        glTessellationFactorAMD = caps[1075];
+        glTessellationModeAMD = caps[1076];
+        glGetTextureHandleARB = caps[1077];
+        glGetTextureSamplerHandleARB = caps[1078];
+        glMakeTextureHandleResidentARB = caps[1079];
+        glMakeTextureHandleNonResidentARB = caps[1080];
+        glGetImageHandleARB = caps[1081];
+        glMakeImageHandleResidentARB = caps[1082];
+        glMakeImageHandleNonResidentARB = caps[1083];
+        glUniformHandleui64ARB = caps[1084];
+        glUniformHandleui64vARB = caps[1085];
+        glProgramUniformHandleui64ARB = caps[1086];
+        glProgramUniformHandleui64vARB = caps[1087];
+        glIsTextureHandleResidentARB = caps[1088];
+        glIsImageHandleResidentARB = caps[1089];
+        glVertexAttribL1ui64ARB = caps[1090];
+        glVertexAttribL1ui64vARB = caps[1091];
+        glGetVertexAttribLui64vARB = caps[1092];
+        glNamedBufferStorageEXT = caps[1093];
+        glCreateSyncFromCLeventARB = caps[1094];
+        glClearNamedBufferDataEXT = caps[1095];
+        glClearNamedBufferSubDataEXT = caps[1096];
+        glClampColorARB = caps[1097];
+        glDispatchComputeGroupSizeARB = caps[1098];
+        glDebugMessageControlARB = caps[1099];
+        glDebugMessageInsertARB = caps[1100];
+        glDebugMessageCallbackARB = caps[1101];
+        glGetDebugMessageLogARB = caps[1102];
+        glDrawBuffersARB = caps[1103];
+        glBlendEquationiARB = caps[1104];
+        glBlendEquationSeparateiARB = caps[1105];
+        glBlendFunciARB = caps[1106];
+        glBlendFuncSeparateiARB = caps[1107];
+        glDrawArraysInstancedARB = caps[1108];
+        glDrawElementsInstancedARB = caps[1109];
+        glPrimitiveBoundingBoxARB = caps[1110];
+        glNamedFramebufferParameteriEXT = caps[1111];
+        glGetNamedFramebufferParameterivEXT = caps[1112];
+        glProgramParameteriARB = caps[1113];
+        glFramebufferTextureARB = caps[1114];
+        glFramebufferTextureLayerARB = caps[1115];
+        glFramebufferTextureFaceARB = caps[1116];
+        glSpecializeShaderARB = caps[1117];
+        glProgramUniform1dEXT = caps[1118];
+        glProgramUniform2dEXT = caps[1119];
+        glProgramUniform3dEXT = caps[1120];
+        glProgramUniform4dEXT = caps[1121];
+        glProgramUniform1dvEXT = caps[1122];
+        glProgramUniform2dvEXT = caps[1123];
+        glProgramUniform3dvEXT = caps[1124];
+        glProgramUniform4dvEXT = caps[1125];
+        glProgramUniformMatrix2dvEXT = caps[1126];
+        glProgramUniformMatrix3dvEXT = caps[1127];
+        glProgramUniformMatrix4dvEXT = caps[1128];
+        glProgramUniformMatrix2x3dvEXT = caps[1129];
+        glProgramUniformMatrix2x4dvEXT = caps[1130];
+        glProgramUniformMatrix3x2dvEXT = caps[1131];
+        glProgramUniformMatrix3x4dvEXT = caps[1132];
+        glProgramUniformMatrix4x2dvEXT = caps[1133];
+        glProgramUniformMatrix4x3dvEXT = caps[1134];
+        glUniform1i64ARB = caps[1135];
+        glUniform1i64vARB = caps[1136];
+        glProgramUniform1i64ARB = caps[1137];
+        glProgramUniform1i64vARB = caps[1138];
+        glUniform2i64ARB = caps[1139];
+        glUniform2i64vARB = caps[1140];
+        glProgramUniform2i64ARB = caps[1141];
+        glProgramUniform2i64vARB = caps[1142];
+        glUniform3i64ARB = caps[1143];
+        glUniform3i64vARB = caps[1144];
+        glProgramUniform3i64ARB = caps[1145];
+        glProgramUniform3i64vARB = caps[1146];
+        glUniform4i64ARB = caps[1147];
+        glUniform4i64vARB = caps[1148];
+        glProgramUniform4i64ARB = caps[1149];
+        glProgramUniform4i64vARB = caps[1150];
+        glUniform1ui64ARB = caps[1151];
+        glUniform1ui64vARB = caps[1152];
+        glProgramUniform1ui64ARB = caps[1153];
+        glProgramUniform1ui64vARB = caps[1154];
+        glUniform2ui64ARB = caps[1155];
+        glUniform2ui64vARB = caps[1156];
+        glProgramUniform2ui64ARB = caps[1157];
+        glProgramUniform2ui64vARB = caps[1158];
+        glUniform3ui64ARB = caps[1159];
+        glUniform3ui64vARB = caps[1160];
+        glProgramUniform3ui64ARB = caps[1161];
+        glProgramUniform3ui64vARB = caps[1162];
+        glUniform4ui64ARB = caps[1163];
+        glUniform4ui64vARB = caps[1164];
+        glProgramUniform4ui64ARB = caps[1165];
+        glProgramUniform4ui64vARB = caps[1166];
+        glGetUniformi64vARB = caps[1167];
+        glGetUniformui64vARB = caps[1168];
+        glGetnUniformi64vARB = caps[1169];
+        glGetnUniformui64vARB = caps[1170];
+        glColorTable = caps[1171];
+        glCopyColorTable = caps[1172];
+        glColorTableParameteriv = caps[1173];
+        glColorTableParameterfv = caps[1174];
+        glGetColorTable = caps[1175];
+        glGetColorTableParameteriv = caps[1176];
+        glGetColorTableParameterfv = caps[1177];
+        glColorSubTable = caps[1178];
+        glCopyColorSubTable = caps[1179];
+        glConvolutionFilter1D = caps[1180];
+        glConvolutionFilter2D = caps[1181];
+        glCopyConvolutionFilter1D = caps[1182];
+        glCopyConvolutionFilter2D = caps[1183];
+        glGetConvolutionFilter = caps[1184];
+        glSeparableFilter2D = caps[1185];
+        glGetSeparableFilter = caps[1186];
+        glConvolutionParameteri = caps[1187];
+        glConvolutionParameteriv = caps[1188];
+        glConvolutionParameterf = caps[1189];
+        glConvolutionParameterfv = caps[1190];
+        glGetConvolutionParameteriv = caps[1191];
+        glGetConvolutionParameterfv = caps[1192];
+        glHistogram = caps[1193];
+        glResetHistogram = caps[1194];
+        glGetHistogram = caps[1195];
+        glGetHistogramParameteriv = caps[1196];
+        glGetHistogramParameterfv = caps[1197];
+        glMinmax = caps[1198];
+        glResetMinmax = caps[1199];
+        glGetMinmax = caps[1200];
+        glGetMinmaxParameteriv = caps[1201];
+        glGetMinmaxParameterfv = caps[1202];
+        glMultiDrawArraysIndirectCountARB = caps[1203];
+        glMultiDrawElementsIndirectCountARB = caps[1204];
+        glVertexAttribDivisorARB = caps[1205];
+        glVertexArrayVertexAttribDivisorEXT = caps[1206];
+        glCurrentPaletteMatrixARB = caps[1207];
+        glMatrixIndexuivARB = caps[1208];
+        glMatrixIndexubvARB = caps[1209];
+        glMatrixIndexusvARB = caps[1210];
+        glMatrixIndexPointerARB = caps[1211];
+        glSampleCoverageARB = caps[1212];
+        glActiveTextureARB = caps[1213];
+        glClientActiveTextureARB = caps[1214];
+        glMultiTexCoord1fARB = caps[1215];
+        glMultiTexCoord1sARB = caps[1216];
+        glMultiTexCoord1iARB = caps[1217];
+        glMultiTexCoord1dARB = caps[1218];
+        glMultiTexCoord1fvARB = caps[1219];
+        glMultiTexCoord1svARB = caps[1220];
+        glMultiTexCoord1ivARB = caps[1221];
+        glMultiTexCoord1dvARB = caps[1222];
+        glMultiTexCoord2fARB = caps[1223];
+        glMultiTexCoord2sARB = caps[1224];
+        glMultiTexCoord2iARB = caps[1225];
+        glMultiTexCoord2dARB = caps[1226];
+        glMultiTexCoord2fvARB = caps[1227];
+        glMultiTexCoord2svARB = caps[1228];
+        glMultiTexCoord2ivARB = caps[1229];
+        glMultiTexCoord2dvARB = caps[1230];
+        glMultiTexCoord3fARB = caps[1231];
+        glMultiTexCoord3sARB = caps[1232];
+        glMultiTexCoord3iARB = caps[1233];
+        glMultiTexCoord3dARB = caps[1234];
+        glMultiTexCoord3fvARB = caps[1235];
+        glMultiTexCoord3svARB = caps[1236];
+        glMultiTexCoord3ivARB = caps[1237];
+        glMultiTexCoord3dvARB = caps[1238];
+        glMultiTexCoord4fARB = caps[1239];
+        glMultiTexCoord4sARB = caps[1240];
+        glMultiTexCoord4iARB = caps[1241];
+        glMultiTexCoord4dARB = caps[1242];
+        glMultiTexCoord4fvARB = caps[1243];
+        glMultiTexCoord4svARB = caps[1244];
+        glMultiTexCoord4ivARB = caps[1245];
+        glMultiTexCoord4dvARB = caps[1246];
+        glGenQueriesARB = caps[1247];
+        glDeleteQueriesARB = caps[1248];
+        glIsQueryARB = caps[1249];
+        glBeginQueryARB = caps[1250];
+        glEndQueryARB = caps[1251];
+        glGetQueryivARB = caps[1252];
+        glGetQueryObjectivARB = caps[1253];
+        glGetQueryObjectuivARB = caps[1254];
+        glMaxShaderCompilerThreadsARB = caps[1255];
+        glPointParameterfARB = caps[1256];
+        glPointParameterfvARB = caps[1257];
+        glGetGraphicsResetStatusARB = caps[1258];
+        glGetnMapdvARB = caps[1259];
+        glGetnMapfvARB = caps[1260];
+        glGetnMapivARB = caps[1261];
+        glGetnPixelMapfvARB = caps[1262];
+        glGetnPixelMapuivARB = caps[1263];
+        glGetnPixelMapusvARB = caps[1264];
+        glGetnPolygonStippleARB = caps[1265];
+        glGetnTexImageARB = caps[1266];
+        glReadnPixelsARB = caps[1267];
+        glGetnColorTableARB = caps[1268];
+        glGetnConvolutionFilterARB = caps[1269];
+        glGetnSeparableFilterARB = caps[1270];
+        glGetnHistogramARB = caps[1271];
+        glGetnMinmaxARB = caps[1272];
+        glGetnCompressedTexImageARB = caps[1273];
+        glGetnUniformfvARB = caps[1274];
+        glGetnUniformivARB = caps[1275];
+        glGetnUniformuivARB = caps[1276];
+        glGetnUniformdvARB = caps[1277];
+        glFramebufferSampleLocationsfvARB = caps[1278];
+        glNamedFramebufferSampleLocationsfvARB = caps[1279];
+        glEvaluateDepthValuesARB = caps[1280];
+        glMinSampleShadingARB = caps[1281];
+        glDeleteObjectARB = caps[1282];
+        glGetHandleARB = caps[1283];
+        glDetachObjectARB = caps[1284];
+        glCreateShaderObjectARB = caps[1285];
+        glShaderSourceARB = caps[1286];
+        glCompileShaderARB = caps[1287];
+        glCreateProgramObjectARB = caps[1288];
+        glAttachObjectARB = caps[1289];
+        glLinkProgramARB = caps[1290];
+        glUseProgramObjectARB = caps[1291];
+        glValidateProgramARB = caps[1292];
+        glUniform1fARB = caps[1293];
+        glUniform2fARB = caps[1294];
+        glUniform3fARB = caps[1295];
+        glUniform4fARB = caps[1296];
+        glUniform1iARB = caps[1297];
+        glUniform2iARB = caps[1298];
+        glUniform3iARB = caps[1299];
+        glUniform4iARB = caps[1300];
+        glUniform1fvARB = caps[1301];
+        glUniform2fvARB = caps[1302];
+        glUniform3fvARB = caps[1303];
+        glUniform4fvARB = caps[1304];
+        glUniform1ivARB = caps[1305];
+        glUniform2ivARB = caps[1306];
+        glUniform3ivARB = caps[1307];
+        glUniform4ivARB = caps[1308];
+        glUniformMatrix2fvARB = caps[1309];
+        glUniformMatrix3fvARB = caps[1310];
+        glUniformMatrix4fvARB = caps[1311];
+        glGetObjectParameterfvARB = caps[1312];
+        glGetObjectParameterivARB = caps[1313];
+        glGetInfoLogARB = caps[1314];
+        glGetAttachedObjectsARB = caps[1315];
+        glGetUniformLocationARB = caps[1316];
+        glGetActiveUniformARB = caps[1317];
+        glGetUniformfvARB = caps[1318];
+        glGetUniformivARB = caps[1319];
+        glGetShaderSourceARB = caps[1320];
+        glNamedStringARB = caps[1321];
+        glDeleteNamedStringARB = caps[1322];
+        glCompileShaderIncludeARB = caps[1323];
+        glIsNamedStringARB = caps[1324];
+        glGetNamedStringARB = caps[1325];
+        glGetNamedStringivARB = caps[1326];
+        glBufferPageCommitmentARB = caps[1327];
+        glNamedBufferPageCommitmentEXT = caps[1328];
+        glNamedBufferPageCommitmentARB = caps[1329];
+        glTexPageCommitmentARB = caps[1330];
+        glTexturePageCommitmentEXT = caps[1331];
+        glTexBufferARB = caps[1332];
+        glTextureBufferRangeEXT = caps[1333];
+        glCompressedTexImage3DARB = caps[1334];
+        glCompressedTexImage2DARB = caps[1335];
+        glCompressedTexImage1DARB = caps[1336];
+        glCompressedTexSubImage3DARB = caps[1337];
+        glCompressedTexSubImage2DARB = caps[1338];
+        glCompressedTexSubImage1DARB = caps[1339];
+        glGetCompressedTexImageARB = caps[1340];
+        glTextureStorage1DEXT = caps[1341];
+        glTextureStorage2DEXT = caps[1342];
+        glTextureStorage3DEXT = caps[1343];
+        glTextureStorage2DMultisampleEXT = caps[1344];
+        glTextureStorage3DMultisampleEXT = caps[1345];
+        glLoadTransposeMatrixfARB = caps[1346];
+        glLoadTransposeMatrixdARB = caps[1347];
+        glMultTransposeMatrixfARB = caps[1348];
+        glMultTransposeMatrixdARB = caps[1349];
+        glVertexArrayVertexAttribLOffsetEXT = caps[1350];
+        glVertexArrayBindVertexBufferEXT = caps[1351];
+        glVertexArrayVertexAttribFormatEXT = caps[1352];
+        glVertexArrayVertexAttribIFormatEXT = caps[1353];
+        glVertexArrayVertexAttribLFormatEXT = caps[1354];
+        glVertexArrayVertexAttribBindingEXT = caps[1355];
+        glVertexArrayVertexBindingDivisorEXT = caps[1356];
+        glWeightfvARB = caps[1357];
+        glWeightbvARB = caps[1358];
+        glWeightubvARB = caps[1359];
+        glWeightsvARB = caps[1360];
+        glWeightusvARB = caps[1361];
+        glWeightivARB = caps[1362];
+        glWeightuivARB = caps[1363];
+        glWeightdvARB = caps[1364];
+        glWeightPointerARB = caps[1365];
+        glVertexBlendARB = caps[1366];
+        glBindBufferARB = caps[1367];
+        glDeleteBuffersARB = caps[1368];
+        glGenBuffersARB = caps[1369];
+        glIsBufferARB = caps[1370];
+        glBufferDataARB = caps[1371];
+        glBufferSubDataARB = caps[1372];
+        glGetBufferSubDataARB = caps[1373];
+        glMapBufferARB = caps[1374];
+        glUnmapBufferARB = caps[1375];
+        glGetBufferParameterivARB = caps[1376];
+        glGetBufferPointervARB = caps[1377];
+        glProgramStringARB = caps[1378];
+        glBindProgramARB = caps[1379];
+        glDeleteProgramsARB = caps[1380];
+        glGenProgramsARB = caps[1381];
+        glProgramEnvParameter4dARB = caps[1382];
+        glProgramEnvParameter4dvARB = caps[1383];
+        glProgramEnvParameter4fARB = caps[1384];
+        glProgramEnvParameter4fvARB = caps[1385];
+        glProgramLocalParameter4dARB = caps[1386];
+        glProgramLocalParameter4dvARB = caps[1387];
+        glProgramLocalParameter4fARB = caps[1388];
+        glProgramLocalParameter4fvARB = caps[1389];
+        glGetProgramEnvParameterfvARB = caps[1390];
+        glGetProgramEnvParameterdvARB = caps[1391];
+        glGetProgramLocalParameterfvARB = caps[1392];
+        glGetProgramLocalParameterdvARB = caps[1393];
+        glGetProgramivARB = caps[1394];
+        glGetProgramStringARB = caps[1395];
+        glIsProgramARB = caps[1396];
+        glVertexAttrib1fARB = caps[1397];
+        glVertexAttrib1sARB = caps[1398];
+        glVertexAttrib1dARB = caps[1399];
+        glVertexAttrib2fARB = caps[1400];
+        glVertexAttrib2sARB = caps[1401];
+        glVertexAttrib2dARB = caps[1402];
+        glVertexAttrib3fARB = caps[1403];
+        glVertexAttrib3sARB = caps[1404];
+        glVertexAttrib3dARB = caps[1405];
+        glVertexAttrib4fARB = caps[1406];
+        glVertexAttrib4sARB = caps[1407];
+        glVertexAttrib4dARB = caps[1408];
+        glVertexAttrib4NubARB = caps[1409];
+        glVertexAttrib1fvARB = caps[1410];
+        glVertexAttrib1svARB = caps[1411];
+        glVertexAttrib1dvARB = caps[1412];
+        glVertexAttrib2fvARB = caps[1413];
+        glVertexAttrib2svARB = caps[1414];
+        glVertexAttrib2dvARB = caps[1415];
+        glVertexAttrib3fvARB = caps[1416];
+        glVertexAttrib3svARB = caps[1417];
+        glVertexAttrib3dvARB = caps[1418];
+        glVertexAttrib4fvARB = caps[1419];
+        glVertexAttrib4svARB = caps[1420];
+        glVertexAttrib4dvARB = caps[1421];
+        glVertexAttrib4ivARB = caps[1422];
+        glVertexAttrib4bvARB = caps[1423];
+        glVertexAttrib4ubvARB = caps[1424];
+        glVertexAttrib4usvARB = caps[1425];
+        glVertexAttrib4uivARB = caps[1426];
+        glVertexAttrib4NbvARB = caps[1427];
+        glVertexAttrib4NsvARB = caps[1428];
+        glVertexAttrib4NivARB = caps[1429];
+        glVertexAttrib4NubvARB = caps[1430];
+        glVertexAttrib4NusvARB = caps[1431];
+        glVertexAttrib4NuivARB = caps[1432];
+        glVertexAttribPointerARB = caps[1433];
+        glEnableVertexAttribArrayARB = caps[1434];
+        glDisableVertexAttribArrayARB = caps[1435];
+        glBindAttribLocationARB = caps[1436];
+        glGetActiveAttribARB = caps[1437];
+        glGetAttribLocationARB = caps[1438];
+        glGetVertexAttribivARB = caps[1439];
+        glGetVertexAttribfvARB = caps[1440];
+        glGetVertexAttribdvARB = caps[1441];
+        glGetVertexAttribPointervARB = caps[1442];
+        glWindowPos2iARB = caps[1443];
+        glWindowPos2sARB = caps[1444];
+        glWindowPos2fARB = caps[1445];
+        glWindowPos2dARB = caps[1446];
+        glWindowPos2ivARB = caps[1447];
+        glWindowPos2svARB = caps[1448];
+        glWindowPos2fvARB = caps[1449];
+        glWindowPos2dvARB = caps[1450];
+        glWindowPos3iARB = caps[1451];
+        glWindowPos3sARB = caps[1452];
+        glWindowPos3fARB = caps[1453];
+        glWindowPos3dARB = caps[1454];
+        glWindowPos3ivARB = caps[1455];
+        glWindowPos3svARB = caps[1456];
+        glWindowPos3fvARB = caps[1457];
+        glWindowPos3dvARB = caps[1458];
+        glUniformBufferEXT = caps[1459];
+        glGetUniformBufferSizeEXT = caps[1460];
+        glGetUniformOffsetEXT = caps[1461];
+        glBlendColorEXT = caps[1462];
+        glBlendEquationSeparateEXT = caps[1463];
+        glBlendFuncSeparateEXT = caps[1464];
+        glBlendEquationEXT = caps[1465];
+        glLockArraysEXT = caps[1466];
+        glUnlockArraysEXT = caps[1467];
+        glLabelObjectEXT = caps[1468];
+        glGetObjectLabelEXT = caps[1469];
+        glInsertEventMarkerEXT = caps[1470];
+        glPushGroupMarkerEXT = caps[1471];
+        glPopGroupMarkerEXT = caps[1472];
+        glDepthBoundsEXT = caps[1473];
+        glClientAttribDefaultEXT = caps[1474];
+        glPushClientAttribDefaultEXT = caps[1475];
+        glMatrixLoadfEXT = caps[1476];
+        glMatrixLoaddEXT = caps[1477];
+        glMatrixMultfEXT = caps[1478];
+        glMatrixMultdEXT = caps[1479];
+        glMatrixLoadIdentityEXT = caps[1480];
+        glMatrixRotatefEXT = caps[1481];
+        glMatrixRotatedEXT = caps[1482];
+        glMatrixScalefEXT = caps[1483];
+        glMatrixScaledEXT = caps[1484];
+        glMatrixTranslatefEXT = caps[1485];
+        glMatrixTranslatedEXT = caps[1486];
+        glMatrixOrthoEXT = caps[1487];
+        glMatrixFrustumEXT = caps[1488];
+        glMatrixPushEXT = caps[1489];
+        glMatrixPopEXT = caps[1490];
+        glTextureParameteriEXT = caps[1491];
+        glTextureParameterivEXT = caps[1492];
+        glTextureParameterfEXT = caps[1493];
+        glTextureParameterfvEXT = caps[1494];
+        glTextureImage1DEXT = caps[1495];
+        glTextureImage2DEXT = caps[1496];
+        glTextureSubImage1DEXT = caps[1497];
+        glTextureSubImage2DEXT = caps[1498];
+        glCopyTextureImage1DEXT = caps[1499];
+        glCopyTextureImage2DEXT = caps[1500];
+        glCopyTextureSubImage1DEXT = caps[1501];
+        glCopyTextureSubImage2DEXT = caps[1502];
+        glGetTextureImageEXT = caps[1503];
+        glGetTextureParameterfvEXT = caps[1504];
+        glGetTextureParameterivEXT = caps[1505];
+        glGetTextureLevelParameterfvEXT = caps[1506];
+        glGetTextureLevelParameterivEXT = caps[1507];
+        glTextureImage3DEXT = caps[1508];
+        glTextureSubImage3DEXT = caps[1509];
+        glCopyTextureSubImage3DEXT = caps[1510];
+        glBindMultiTextureEXT = caps[1511];
+        glMultiTexCoordPointerEXT = caps[1512];
+        glMultiTexEnvfEXT = caps[1513];
+        glMultiTexEnvfvEXT = caps[1514];
+        glMultiTexEnviEXT = caps[1515];
+        glMultiTexEnvivEXT = caps[1516];
+        glMultiTexGendEXT = caps[1517];
+        glMultiTexGendvEXT = caps[1518];
+        glMultiTexGenfEXT = caps[1519];
+        glMultiTexGenfvEXT = caps[1520];
+        glMultiTexGeniEXT = caps[1521];
+        glMultiTexGenivEXT = caps[1522];
+        glGetMultiTexEnvfvEXT = caps[1523];
+        glGetMultiTexEnvivEXT = caps[1524];
+        glGetMultiTexGendvEXT = caps[1525];
+        glGetMultiTexGenfvEXT = caps[1526];
+        glGetMultiTexGenivEXT = caps[1527];
+        glMultiTexParameteriEXT = caps[1528];
+        glMultiTexParameterivEXT = caps[1529];
+        glMultiTexParameterfEXT = caps[1530];
+        glMultiTexParameterfvEXT = caps[1531];
+        glMultiTexImage1DEXT = caps[1532];
+        glMultiTexImage2DEXT = caps[1533];
+        glMultiTexSubImage1DEXT = caps[1534];
+        glMultiTexSubImage2DEXT = caps[1535];
+        glCopyMultiTexImage1DEXT = caps[1536];
+        glCopyMultiTexImage2DEXT = caps[1537];
+        glCopyMultiTexSubImage1DEXT = caps[1538];
+        glCopyMultiTexSubImage2DEXT = caps[1539];
+        glGetMultiTexImageEXT = caps[1540];
+        glGetMultiTexParameterfvEXT = caps[1541];
+        glGetMultiTexParameterivEXT = caps[1542];
+        glGetMultiTexLevelParameterfvEXT = caps[1543];
+        glGetMultiTexLevelParameterivEXT = caps[1544];
+        glMultiTexImage3DEXT = caps[1545];
+        glMultiTexSubImage3DEXT = caps[1546];
+        glCopyMultiTexSubImage3DEXT = caps[1547];
+        glEnableClientStateIndexedEXT = caps[1548];
+        glDisableClientStateIndexedEXT = caps[1549];
+        glEnableClientStateiEXT = caps[1550];
+        glDisableClientStateiEXT = caps[1551];
+        glGetFloatIndexedvEXT = caps[1552];
+        glGetDoubleIndexedvEXT = caps[1553];
+        glGetPointerIndexedvEXT = caps[1554];
+        glGetFloati_vEXT = caps[1555];
+        glGetDoublei_vEXT = caps[1556];
+        glGetPointeri_vEXT = caps[1557];
+        glNamedProgramStringEXT = caps[1558];
+        glNamedProgramLocalParameter4dEXT = caps[1559];
+        glNamedProgramLocalParameter4dvEXT = caps[1560];
+        glNamedProgramLocalParameter4fEXT = caps[1561];
+        glNamedProgramLocalParameter4fvEXT = caps[1562];
+        glGetNamedProgramLocalParameterdvEXT = caps[1563];
+        glGetNamedProgramLocalParameterfvEXT = caps[1564];
+        glGetNamedProgramivEXT = caps[1565];
+        glGetNamedProgramStringEXT = caps[1566];
+        glCompressedTextureImage3DEXT = caps[1567];
+        glCompressedTextureImage2DEXT = caps[1568];
+        glCompressedTextureImage1DEXT = caps[1569];
+        glCompressedTextureSubImage3DEXT = caps[1570];
+        glCompressedTextureSubImage2DEXT = caps[1571];
+        glCompressedTextureSubImage1DEXT = caps[1572];
+        glGetCompressedTextureImageEXT = caps[1573];
+        glCompressedMultiTexImage3DEXT = caps[1574];
+        glCompressedMultiTexImage2DEXT = caps[1575];
+        glCompressedMultiTexImage1DEXT = caps[1576];
+        glCompressedMultiTexSubImage3DEXT = caps[1577];
+        glCompressedMultiTexSubImage2DEXT = caps[1578];
+        glCompressedMultiTexSubImage1DEXT = caps[1579];
+        glGetCompressedMultiTexImageEXT = caps[1580];
+        glMatrixLoadTransposefEXT = caps[1581];
+        glMatrixLoadTransposedEXT = caps[1582];
+        glMatrixMultTransposefEXT = caps[1583];
+        glMatrixMultTransposedEXT = caps[1584];
+        glNamedBufferDataEXT = caps[1585];
+        glNamedBufferSubDataEXT = caps[1586];
+        glMapNamedBufferEXT = caps[1587];
+        glUnmapNamedBufferEXT = caps[1588];
+        glGetNamedBufferParameterivEXT = caps[1589];
+        glGetNamedBufferSubDataEXT = caps[1590];
+        glProgramUniform1fEXT = caps[1591];
+        glProgramUniform2fEXT = caps[1592];
+        glProgramUniform3fEXT = caps[1593];
+        glProgramUniform4fEXT = caps[1594];
+        glProgramUniform1iEXT = caps[1595];
+        glProgramUniform2iEXT = caps[1596];
+        glProgramUniform3iEXT = caps[1597];
+        glProgramUniform4iEXT = caps[1598];
+        glProgramUniform1fvEXT = caps[1599];
+        glProgramUniform2fvEXT = caps[1600];
+        glProgramUniform3fvEXT = caps[1601];
+        glProgramUniform4fvEXT = caps[1602];
+        glProgramUniform1ivEXT = caps[1603];
+        glProgramUniform2ivEXT = caps[1604];
+        glProgramUniform3ivEXT = caps[1605];
+        glProgramUniform4ivEXT = caps[1606];
+        glProgramUniformMatrix2fvEXT = caps[1607];
+        glProgramUniformMatrix3fvEXT = caps[1608];
+        glProgramUniformMatrix4fvEXT = caps[1609];
+        glProgramUniformMatrix2x3fvEXT = caps[1610];
+        glProgramUniformMatrix3x2fvEXT = caps[1611];
+        glProgramUniformMatrix2x4fvEXT = caps[1612];
+        glProgramUniformMatrix4x2fvEXT = caps[1613];
+        glProgramUniformMatrix3x4fvEXT = caps[1614];
+        glProgramUniformMatrix4x3fvEXT = caps[1615];
+        glTextureBufferEXT = caps[1616];
+        glMultiTexBufferEXT = caps[1617];
+        glTextureParameterIivEXT = caps[1618];
+        glTextureParameterIuivEXT = caps[1619];
+        glGetTextureParameterIivEXT = caps[1620];
+        glGetTextureParameterIuivEXT = caps[1621];
+        glMultiTexParameterIivEXT = caps[1622];
+        glMultiTexParameterIuivEXT = caps[1623];
+        glGetMultiTexParameterIivEXT = caps[1624];
+        glGetMultiTexParameterIuivEXT = caps[1625];
+        glProgramUniform1uiEXT = caps[1626];
+        glProgramUniform2uiEXT = caps[1627];
+        glProgramUniform3uiEXT = caps[1628];
+        glProgramUniform4uiEXT = caps[1629];
+        glProgramUniform1uivEXT = caps[1630];
+        glProgramUniform2uivEXT = caps[1631];
+        glProgramUniform3uivEXT = caps[1632];
+        glProgramUniform4uivEXT = caps[1633];
+        glNamedProgramLocalParameters4fvEXT = caps[1634];
+        glNamedProgramLocalParameterI4iEXT = caps[1635];
+        glNamedProgramLocalParameterI4ivEXT = caps[1636];
+        glNamedProgramLocalParametersI4ivEXT = caps[1637];
+        glNamedProgramLocalParameterI4uiEXT = caps[1638];
+        glNamedProgramLocalParameterI4uivEXT = caps[1639];
+        glNamedProgramLocalParametersI4uivEXT = caps[1640];
+        glGetNamedProgramLocalParameterIivEXT = caps[1641];
+        glGetNamedProgramLocalParameterIuivEXT = caps[1642];
+        glNamedRenderbufferStorageEXT = caps[1643];
+        glGetNamedRenderbufferParameterivEXT = caps[1644];
+        glNamedRenderbufferStorageMultisampleEXT = caps[1645];
+        glNamedRenderbufferStorageMultisampleCoverageEXT = caps[1646];
+        glCheckNamedFramebufferStatusEXT = caps[1647];
+        glNamedFramebufferTexture1DEXT = caps[1648];
+        glNamedFramebufferTexture2DEXT = caps[1649];
+        glNamedFramebufferTexture3DEXT = caps[1650];
+        glNamedFramebufferRenderbufferEXT = caps[1651];
+        glGetNamedFramebufferAttachmentParameterivEXT = caps[1652];
+        glGenerateTextureMipmapEXT = caps[1653];
+        glGenerateMultiTexMipmapEXT = caps[1654];
+        glFramebufferDrawBufferEXT = caps[1655];
+        glFramebufferDrawBuffersEXT = caps[1656];
+        glFramebufferReadBufferEXT = caps[1657];
+        glGetFramebufferParameterivEXT = caps[1658];
+        glNamedCopyBufferSubDataEXT = caps[1659];
+        glNamedFramebufferTextureEXT = caps[1660];
+        glNamedFramebufferTextureLayerEXT = caps[1661];
+        glNamedFramebufferTextureFaceEXT = caps[1662];
+        glTextureRenderbufferEXT = caps[1663];
+        glMultiTexRenderbufferEXT = caps[1664];
+        glVertexArrayVertexOffsetEXT = caps[1665];
+        glVertexArrayColorOffsetEXT = caps[1666];
+        glVertexArrayEdgeFlagOffsetEXT = caps[1667];
+        glVertexArrayIndexOffsetEXT = caps[1668];
+        glVertexArrayNormalOffsetEXT = caps[1669];
+        glVertexArrayTexCoordOffsetEXT = caps[1670];
+        glVertexArrayMultiTexCoordOffsetEXT = caps[1671];
+        glVertexArrayFogCoordOffsetEXT = caps[1672];
+        glVertexArraySecondaryColorOffsetEXT = caps[1673];
+        glVertexArrayVertexAttribOffsetEXT = caps[1674];
+        glVertexArrayVertexAttribIOffsetEXT = caps[1675];
+        glEnableVertexArrayEXT = caps[1676];
+        glDisableVertexArrayEXT = caps[1677];
+        glEnableVertexArrayAttribEXT = caps[1678];
+        glDisableVertexArrayAttribEXT = caps[1679];
+        glGetVertexArrayIntegervEXT = caps[1680];
+        glGetVertexArrayPointervEXT = caps[1681];
+        glGetVertexArrayIntegeri_vEXT = caps[1682];
+        glGetVertexArrayPointeri_vEXT = caps[1683];
+        glMapNamedBufferRangeEXT = caps[1684];
+        glFlushMappedNamedBufferRangeEXT = caps[1685];
+        glColorMaskIndexedEXT = caps[1686];
+        glGetBooleanIndexedvEXT = caps[1687];
+        glGetIntegerIndexedvEXT = caps[1688];
+        glEnableIndexedEXT = caps[1689];
+        glDisableIndexedEXT = caps[1690];
+        glIsEnabledIndexedEXT = caps[1691];
+        glDrawArraysInstancedEXT = caps[1692];
+        glDrawElementsInstancedEXT = caps[1693];
+        glEGLImageTargetTexStorageEXT = caps[1694];
+        glEGLImageTargetTextureStorageEXT = caps[1695];
+        glBufferStorageExternalEXT = caps[1696];
+        glNamedBufferStorageExternalEXT = caps[1697];
+        glBlitFramebufferEXT = caps[1698];
+        glRenderbufferStorageMultisampleEXT = caps[1699];
+        glIsRenderbufferEXT = caps[1700];
+        glBindRenderbufferEXT = caps[1701];
+        glDeleteRenderbuffersEXT = caps[1702];
+        glGenRenderbuffersEXT = caps[1703];
+        glRenderbufferStorageEXT = caps[1704];
+        glGetRenderbufferParameterivEXT = caps[1705];
+        glIsFramebufferEXT = caps[1706];
+        glBindFramebufferEXT = caps[1707];
+        glDeleteFramebuffersEXT = caps[1708];
+        glGenFramebuffersEXT = caps[1709];
+        glCheckFramebufferStatusEXT = caps[1710];
+        glFramebufferTexture1DEXT = caps[1711];
+        glFramebufferTexture2DEXT = caps[1712];
+        glFramebufferTexture3DEXT = caps[1713];
+        glFramebufferRenderbufferEXT = caps[1714];
+        glGetFramebufferAttachmentParameterivEXT = caps[1715];
+        glGenerateMipmapEXT = caps[1716];
+        glProgramParameteriEXT = caps[1717];
+        glFramebufferTextureEXT = caps[1718];
+        glFramebufferTextureFaceEXT = caps[1719];
+        glProgramEnvParameters4fvEXT = caps[1720];
+        glProgramLocalParameters4fvEXT = caps[1721];
+        glVertexAttribI1iEXT = caps[1722];
+        glVertexAttribI2iEXT = caps[1723];
+        glVertexAttribI3iEXT = caps[1724];
+        glVertexAttribI4iEXT = caps[1725];
+        glVertexAttribI1uiEXT = caps[1726];
+        glVertexAttribI2uiEXT = caps[1727];
+        glVertexAttribI3uiEXT = caps[1728];
+        glVertexAttribI4uiEXT = caps[1729];
+        glVertexAttribI1ivEXT = caps[1730];
+        glVertexAttribI2ivEXT = caps[1731];
+        glVertexAttribI3ivEXT = caps[1732];
+        glVertexAttribI4ivEXT = caps[1733];
+        glVertexAttribI1uivEXT = caps[1734];
+        glVertexAttribI2uivEXT = caps[1735];
+        glVertexAttribI3uivEXT = caps[1736];
+        glVertexAttribI4uivEXT = caps[1737];
+        glVertexAttribI4bvEXT = caps[1738];
+        glVertexAttribI4svEXT = caps[1739];
+        glVertexAttribI4ubvEXT = caps[1740];
+        glVertexAttribI4usvEXT = caps[1741];
+        glVertexAttribIPointerEXT = caps[1742];
+        glGetVertexAttribIivEXT = caps[1743];
+        glGetVertexAttribIuivEXT = caps[1744];
+        glGetUniformuivEXT = caps[1745];
+        glBindFragDataLocationEXT = caps[1746];
+        glGetFragDataLocationEXT = caps[1747];
+        glUniform1uiEXT = caps[1748];
+        glUniform2uiEXT = caps[1749];
+        glUniform3uiEXT = caps[1750];
+        glUniform4uiEXT = caps[1751];
+        glUniform1uivEXT = caps[1752];
+        glUniform2uivEXT = caps[1753];
+        glUniform3uivEXT = caps[1754];
+        glUniform4uivEXT = caps[1755];
+        glGetUnsignedBytevEXT = caps[1756];
+        glGetUnsignedBytei_vEXT = caps[1757];
+        glDeleteMemoryObjectsEXT = caps[1758];
+        glIsMemoryObjectEXT = caps[1759];
+        glCreateMemoryObjectsEXT = caps[1760];
+        glMemoryObjectParameterivEXT = caps[1761];
+        glGetMemoryObjectParameterivEXT = caps[1762];
+        glTexStorageMem2DEXT = caps[1763];
+        glTexStorageMem2DMultisampleEXT = caps[1764];
+        glTexStorageMem3DEXT = caps[1765];
+        glTexStorageMem3DMultisampleEXT = caps[1766];
+        glBufferStorageMemEXT = caps[1767];
+        glTextureStorageMem2DEXT = caps[1768];
+        glTextureStorageMem2DMultisampleEXT = caps[1769];
+        glTextureStorageMem3DEXT = caps[1770];
+        glTextureStorageMem3DMultisampleEXT = caps[1771];
+        glNamedBufferStorageMemEXT = caps[1772];
+        glTexStorageMem1DEXT = caps[1773];
+        glTextureStorageMem1DEXT = caps[1774];
+        glImportMemoryFdEXT = caps[1775];
+        glImportMemoryWin32HandleEXT = caps[1776];
+        glImportMemoryWin32NameEXT = caps[1777];
+        glPointParameterfEXT = caps[1778];
+        glPointParameterfvEXT = caps[1779];
+        glPolygonOffsetClampEXT = caps[1780];
+        glProvokingVertexEXT = caps[1781];
+        glRasterSamplesEXT = caps[1782];
+        glSecondaryColor3bEXT = caps[1783];
+        glSecondaryColor3sEXT = caps[1784];
+        glSecondaryColor3iEXT = caps[1785];
+        glSecondaryColor3fEXT = caps[1786];
+        glSecondaryColor3dEXT = caps[1787];
+        glSecondaryColor3ubEXT = caps[1788];
+        glSecondaryColor3usEXT = caps[1789];
+        glSecondaryColor3uiEXT = caps[1790];
+        glSecondaryColor3bvEXT = caps[1791];
+        glSecondaryColor3svEXT = caps[1792];
+        glSecondaryColor3ivEXT = caps[1793];
+        glSecondaryColor3fvEXT = caps[1794];
+        glSecondaryColor3dvEXT = caps[1795];
+        glSecondaryColor3ubvEXT = caps[1796];
+        glSecondaryColor3usvEXT = caps[1797];
+        glSecondaryColor3uivEXT = caps[1798];
+        glSecondaryColorPointerEXT = caps[1799];
+        glGenSemaphoresEXT = caps[1800];
+        glDeleteSemaphoresEXT = caps[1801];
+        glIsSemaphoreEXT = caps[1802];
+        glSemaphoreParameterui64vEXT = caps[1803];
+        glGetSemaphoreParameterui64vEXT = caps[1804];
+        glWaitSemaphoreEXT = caps[1805];
+        glSignalSemaphoreEXT = caps[1806];
+        glImportSemaphoreFdEXT = caps[1807];
+        glImportSemaphoreWin32HandleEXT = caps[1808];
+        glImportSemaphoreWin32NameEXT = caps[1809];
+        glUseShaderProgramEXT = caps[1810];
+        glActiveProgramEXT = caps[1811];
+        glCreateShaderProgramEXT = caps[1812];
+        glFramebufferFetchBarrierEXT = caps[1813];
+        glBindImageTextureEXT = caps[1814];
+        glMemoryBarrierEXT = caps[1815];
+        glStencilClearTagEXT = caps[1816];
+        glActiveStencilFaceEXT = caps[1817];
+        glFramebufferTextureLayerEXT = caps[1818];
+        glTexBufferEXT = caps[1819];
+        glClearColorIiEXT = caps[1820];
+        glClearColorIuiEXT = caps[1821];
+        glTexParameterIivEXT = caps[1822];
+        glTexParameterIuivEXT = caps[1823];
+        glGetTexParameterIivEXT = caps[1824];
+        glGetTexParameterIuivEXT = caps[1825];
+        glGetQueryObjecti64vEXT = caps[1826];
+        glGetQueryObjectui64vEXT = caps[1827];
+        glBindBufferRangeEXT = caps[1828];
+        glBindBufferOffsetEXT = caps[1829];
+        glBindBufferBaseEXT = caps[1830];
+        glBeginTransformFeedbackEXT = caps[1831];
+        glEndTransformFeedbackEXT = caps[1832];
+        glTransformFeedbackVaryingsEXT = caps[1833];
+        glGetTransformFeedbackVaryingEXT = caps[1834];
+        glVertexAttribL1dEXT = caps[1835];
+        glVertexAttribL2dEXT = caps[1836];
+        glVertexAttribL3dEXT = caps[1837];
+        glVertexAttribL4dEXT = caps[1838];
+        glVertexAttribL1dvEXT = caps[1839];
+        glVertexAttribL2dvEXT = caps[1840];
+        glVertexAttribL3dvEXT = caps[1841];
+        glVertexAttribL4dvEXT = caps[1842];
+        glVertexAttribLPointerEXT = caps[1843];
+        glGetVertexAttribLdvEXT = caps[1844];
+        glAcquireKeyedMutexWin32EXT = caps[1845];
+        glReleaseKeyedMutexWin32EXT = caps[1846];
+        glWindowRectanglesEXT = caps[1847];
+        glImportSyncEXT = caps[1848];
+        glFrameTerminatorGREMEDY = caps[1849];
+        glStringMarkerGREMEDY = caps[1850];
+        glApplyFramebufferAttachmentCMAAINTEL = caps[1851];
+        glSyncTextureINTEL = caps[1852];
+        glUnmapTexture2DINTEL = caps[1853];
+        glMapTexture2DINTEL = caps[1854];
+        glBeginPerfQueryINTEL = caps[1855];
+        glCreatePerfQueryINTEL = caps[1856];
+        glDeletePerfQueryINTEL = caps[1857];
+        glEndPerfQueryINTEL = caps[1858];
+        glGetFirstPerfQueryIdINTEL = caps[1859];
+        glGetNextPerfQueryIdINTEL = caps[1860];
+        glGetPerfCounterInfoINTEL = caps[1861];
+        glGetPerfQueryDataINTEL = caps[1862];
+        glGetPerfQueryIdByNameINTEL = caps[1863];
+        glGetPerfQueryInfoINTEL = caps[1864];
+        glBlendBarrierKHR = caps[1865];
+        glMaxShaderCompilerThreadsKHR = caps[1866];
+        glAlphaToCoverageDitherControlNV = caps[1867];
+        glMultiDrawArraysIndirectBindlessNV = caps[1868];
+        glMultiDrawElementsIndirectBindlessNV = caps[1869];
+        glMultiDrawArraysIndirectBindlessCountNV = caps[1870];
+        glMultiDrawElementsIndirectBindlessCountNV = caps[1871];
+        glGetTextureHandleNV = caps[1872];
+        glGetTextureSamplerHandleNV = caps[1873];
+        glMakeTextureHandleResidentNV = caps[1874];
+        glMakeTextureHandleNonResidentNV = caps[1875];
+        glGetImageHandleNV = caps[1876];
+        glMakeImageHandleResidentNV = caps[1877];
+        glMakeImageHandleNonResidentNV = caps[1878];
+        glUniformHandleui64NV = caps[1879];
+        glUniformHandleui64vNV = caps[1880];
+        glProgramUniformHandleui64NV = caps[1881];
+        glProgramUniformHandleui64vNV = caps[1882];
+        glIsTextureHandleResidentNV = caps[1883];
+        glIsImageHandleResidentNV = caps[1884];
+        glBlendParameteriNV = caps[1885];
+        glBlendBarrierNV = caps[1886];
+        glViewportPositionWScaleNV = caps[1887];
+        glCreateStatesNV = caps[1888];
+        glDeleteStatesNV = caps[1889];
+        glIsStateNV = caps[1890];
+        glStateCaptureNV = caps[1891];
+        glGetCommandHeaderNV = caps[1892];
+        glGetStageIndexNV = caps[1893];
+        glDrawCommandsNV = caps[1894];
+        glDrawCommandsAddressNV = caps[1895];
+        glDrawCommandsStatesNV = caps[1896];
+        glDrawCommandsStatesAddressNV = caps[1897];
+        glCreateCommandListsNV = caps[1898];
+        glDeleteCommandListsNV = caps[1899];
+        glIsCommandListNV = caps[1900];
+        glListDrawCommandsStatesClientNV = caps[1901];
+        glCommandListSegmentsNV = caps[1902];
+        glCompileCommandListNV = caps[1903];
+        glCallCommandListNV = caps[1904];
+        glBeginConditionalRenderNV = caps[1905];
+        glEndConditionalRenderNV = caps[1906];
+        glSubpixelPrecisionBiasNV = caps[1907];
+        glConservativeRasterParameterfNV = caps[1908];
+        glConservativeRasterParameteriNV = caps[1909];
+        glCopyImageSubDataNV = caps[1910];
+        glDepthRangedNV = caps[1911];
+        glClearDepthdNV = caps[1912];
+        glDepthBoundsdNV = caps[1913];
+        glDrawTextureNV = caps[1914];
+        glDrawVkImageNV = caps[1915];
+        glGetVkProcAddrNV = caps[1916];
+        glWaitVkSemaphoreNV = caps[1917];
+        glSignalVkSemaphoreNV = caps[1918];
+        glSignalVkFenceNV = caps[1919];
+        glGetMultisamplefvNV = caps[1920];
+        glSampleMaskIndexedNV = caps[1921];
+        glTexRenderbufferNV = caps[1922];
+        glDeleteFencesNV = caps[1923];
+        glGenFencesNV = caps[1924];
+        glIsFenceNV = caps[1925];
+        glTestFenceNV = caps[1926];
+        glGetFenceivNV = caps[1927];
+        glFinishFenceNV = caps[1928];
+        glSetFenceNV = caps[1929];
+        glFragmentCoverageColorNV = caps[1930];
+        glCoverageModulationTableNV = caps[1931];
+        glGetCoverageModulationTableNV = caps[1932];
+        glCoverageModulationNV = caps[1933];
+        glRenderbufferStorageMultisampleCoverageNV = caps[1934];
+        glRenderGpuMaskNV = caps[1935];
+        glMulticastBufferSubDataNV = caps[1936];
+        glMulticastCopyBufferSubDataNV = caps[1937];
+        glMulticastCopyImageSubDataNV = caps[1938];
+        glMulticastBlitFramebufferNV = caps[1939];
+        glMulticastFramebufferSampleLocationsfvNV = caps[1940];
+        glMulticastBarrierNV = caps[1941];
+        glMulticastWaitSyncNV = caps[1942];
+        glMulticastGetQueryObjectivNV = caps[1943];
+        glMulticastGetQueryObjectuivNV = caps[1944];
+        glMulticastGetQueryObjecti64vNV = caps[1945];
+        glMulticastGetQueryObjectui64vNV = caps[1946];
+        glUniform1i64NV = caps[1947];
+        glUniform2i64NV = caps[1948];
+        glUniform3i64NV = caps[1949];
+        glUniform4i64NV = caps[1950];
+        glUniform1i64vNV = caps[1951];
+        glUniform2i64vNV = caps[1952];
+        glUniform3i64vNV = caps[1953];
+        glUniform4i64vNV = caps[1954];
+        glUniform1ui64NV = caps[1955];
+        glUniform2ui64NV = caps[1956];
+        glUniform3ui64NV = caps[1957];
+        glUniform4ui64NV = caps[1958];
+        glUniform1ui64vNV = caps[1959];
+        glUniform2ui64vNV = caps[1960];
+        glUniform3ui64vNV = caps[1961];
+        glUniform4ui64vNV = caps[1962];
+        glGetUniformi64vNV = caps[1963];
+        glProgramUniform1i64NV = caps[1964];
+        glProgramUniform2i64NV = caps[1965];
+        glProgramUniform3i64NV = caps[1966];
+        glProgramUniform4i64NV = caps[1967];
+        glProgramUniform1i64vNV = caps[1968];
+        glProgramUniform2i64vNV = caps[1969];
+        glProgramUniform3i64vNV = caps[1970];
+        glProgramUniform4i64vNV = caps[1971];
+        glProgramUniform1ui64NV = caps[1972];
+        glProgramUniform2ui64NV = caps[1973];
+        glProgramUniform3ui64NV = caps[1974];
+        glProgramUniform4ui64NV = caps[1975];
+        glProgramUniform1ui64vNV = caps[1976];
+        glProgramUniform2ui64vNV = caps[1977];
+        glProgramUniform3ui64vNV = caps[1978];
+        glProgramUniform4ui64vNV = caps[1979];
+        glVertex2hNV = caps[1980];
+        glVertex2hvNV = caps[1981];
+        glVertex3hNV = caps[1982];
+        glVertex3hvNV = caps[1983];
+        glVertex4hNV = caps[1984];
+        glVertex4hvNV = caps[1985];
+        glNormal3hNV = caps[1986];
+        glNormal3hvNV = caps[1987];
+        glColor3hNV = caps[1988];
+        glColor3hvNV = caps[1989];
+        glColor4hNV = caps[1990];
+        glColor4hvNV = caps[1991];
+        glTexCoord1hNV = caps[1992];
+        glTexCoord1hvNV = caps[1993];
+        glTexCoord2hNV = caps[1994];
+        glTexCoord2hvNV = caps[1995];
+        glTexCoord3hNV = caps[1996];
+        glTexCoord3hvNV = caps[1997];
+        glTexCoord4hNV = caps[1998];
+        glTexCoord4hvNV = caps[1999];
+        glMultiTexCoord1hNV = caps[2000];
+        glMultiTexCoord1hvNV = caps[2001];
+        glMultiTexCoord2hNV = caps[2002];
+        glMultiTexCoord2hvNV = caps[2003];
+        glMultiTexCoord3hNV = caps[2004];
+        glMultiTexCoord3hvNV = caps[2005];
+        glMultiTexCoord4hNV = caps[2006];
+        glMultiTexCoord4hvNV = caps[2007];
+        glFogCoordhNV = caps[2008];
+        glFogCoordhvNV = caps[2009];
+        glSecondaryColor3hNV = caps[2010];
+        glSecondaryColor3hvNV = caps[2011];
+        glVertexWeighthNV = caps[2012];
+        glVertexWeighthvNV = caps[2013];
+        glVertexAttrib1hNV = caps[2014];
+        glVertexAttrib1hvNV = caps[2015];
+        glVertexAttrib2hNV = caps[2016];
+        glVertexAttrib2hvNV = caps[2017];
+        glVertexAttrib3hNV = caps[2018];
+        glVertexAttrib3hvNV = caps[2019];
+        glVertexAttrib4hNV = caps[2020];
+        glVertexAttrib4hvNV = caps[2021];
+        glVertexAttribs1hvNV = caps[2022];
+        glVertexAttribs2hvNV = caps[2023];
+        glVertexAttribs3hvNV = caps[2024];
+        glVertexAttribs4hvNV = caps[2025];
+        glGetInternalformatSampleivNV = caps[2026];
+        glGetMemoryObjectDetachedResourcesuivNV = caps[2027];
+        glResetMemoryObjectParameterNV = caps[2028];
+        glTexAttachMemoryNV = caps[2029];
+        glBufferAttachMemoryNV = caps[2030];
+        glTextureAttachMemoryNV = caps[2031];
+        glNamedBufferAttachMemoryNV = caps[2032];
+        glDrawMeshTasksNV = caps[2033];
+        glDrawMeshTasksIndirectNV = caps[2034];
+        glMultiDrawMeshTasksIndirectNV = caps[2035];
+        glMultiDrawMeshTasksIndirectCountNV = caps[2036];
+        glPathCommandsNV = caps[2037];
+        glPathCoordsNV = caps[2038];
+        glPathSubCommandsNV = caps[2039];
+        glPathSubCoordsNV = caps[2040];
+        glPathStringNV = caps[2041];
+        glPathGlyphsNV = caps[2042];
+        glPathGlyphRangeNV = caps[2043];
+        glPathGlyphIndexArrayNV = caps[2044];
+        glPathMemoryGlyphIndexArrayNV = caps[2045];
+        glCopyPathNV = caps[2046];
+        glWeightPathsNV = caps[2047];
+        glInterpolatePathsNV = caps[2048];
+        glTransformPathNV = caps[2049];
+        glPathParameterivNV = caps[2050];
+        glPathParameteriNV = caps[2051];
+        glPathParameterfvNV = caps[2052];
+        glPathParameterfNV = caps[2053];
+        glPathDashArrayNV = caps[2054];
+        glGenPathsNV = caps[2055];
+        glDeletePathsNV = caps[2056];
+        glIsPathNV = caps[2057];
+        glPathStencilFuncNV = caps[2058];
+        glPathStencilDepthOffsetNV = caps[2059];
+        glStencilFillPathNV = caps[2060];
+        glStencilStrokePathNV = caps[2061];
+        glStencilFillPathInstancedNV = caps[2062];
+        glStencilStrokePathInstancedNV = caps[2063];
+        glPathCoverDepthFuncNV = caps[2064];
+        glPathColorGenNV = caps[2065];
+        glPathTexGenNV = caps[2066];
+        glPathFogGenNV = caps[2067];
+        glCoverFillPathNV = caps[2068];
+        glCoverStrokePathNV = caps[2069];
+        glCoverFillPathInstancedNV = caps[2070];
+        glCoverStrokePathInstancedNV = caps[2071];
+        glStencilThenCoverFillPathNV = caps[2072];
+        glStencilThenCoverStrokePathNV = caps[2073];
+        glStencilThenCoverFillPathInstancedNV = caps[2074];
+        glStencilThenCoverStrokePathInstancedNV = caps[2075];
+        glPathGlyphIndexRangeNV = caps[2076];
+        glProgramPathFragmentInputGenNV = caps[2077];
+        glGetPathParameterivNV = caps[2078];
+        glGetPathParameterfvNV = caps[2079];
+        glGetPathCommandsNV = caps[2080];
+        glGetPathCoordsNV = caps[2081];
+        glGetPathDashArrayNV = caps[2082];
+        glGetPathMetricsNV = caps[2083];
+        glGetPathMetricRangeNV = caps[2084];
+        glGetPathSpacingNV = caps[2085];
+        glGetPathColorGenivNV = caps[2086];
+        glGetPathColorGenfvNV = caps[2087];
+        glGetPathTexGenivNV = caps[2088];
+        glGetPathTexGenfvNV = caps[2089];
+        glIsPointInFillPathNV = caps[2090];
+        glIsPointInStrokePathNV = caps[2091];
+        glGetPathLengthNV = caps[2092];
+        glPointAlongPathNV = caps[2093];
+        glMatrixLoad3x2fNV = caps[2094];
+        glMatrixLoad3x3fNV = caps[2095];
+        glMatrixLoadTranspose3x3fNV = caps[2096];
+        glMatrixMult3x2fNV = caps[2097];
+        glMatrixMult3x3fNV = caps[2098];
+        glMatrixMultTranspose3x3fNV = caps[2099];
+        glGetProgramResourcefvNV = caps[2100];
+        glPixelDataRangeNV = caps[2101];
+        glFlushPixelDataRangeNV = caps[2102];
+        glPointParameteriNV = caps[2103];
+        glPointParameterivNV = caps[2104];
+        glPrimitiveRestartNV = caps[2105];
+        glPrimitiveRestartIndexNV = caps[2106];
+        glQueryResourceNV = caps[2107];
+        glGenQueryResourceTagNV = caps[2108];
+        glDeleteQueryResourceTagNV = caps[2109];
+        glQueryResourceTagNV = caps[2110];
+        glFramebufferSampleLocationsfvNV = caps[2111];
+        glNamedFramebufferSampleLocationsfvNV = caps[2112];
+        glResolveDepthValuesNV = caps[2113];
+        glScissorExclusiveArrayvNV = caps[2114];
+        glScissorExclusiveNV = caps[2115];
+        glMakeBufferResidentNV = caps[2116];
+        glMakeBufferNonResidentNV = caps[2117];
+        glIsBufferResidentNV = caps[2118];
+        glMakeNamedBufferResidentNV = caps[2119];
+        glMakeNamedBufferNonResidentNV = caps[2120];
+        glIsNamedBufferResidentNV = caps[2121];
+        glGetBufferParameterui64vNV = caps[2122];
+        glGetNamedBufferParameterui64vNV = caps[2123];
+        glGetIntegerui64vNV = caps[2124];
+        glUniformui64NV = caps[2125];
+        glUniformui64vNV = caps[2126];
+        glGetUniformui64vNV = caps[2127];
+        glProgramUniformui64NV = caps[2128];
+        glProgramUniformui64vNV = caps[2129];
+        glBindShadingRateImageNV = caps[2130];
+        glShadingRateImagePaletteNV = caps[2131];
+        glGetShadingRateImagePaletteNV = caps[2132];
+        glShadingRateImageBarrierNV = caps[2133];
+        glShadingRateSampleOrderNV = caps[2134];
+        glShadingRateSampleOrderCustomNV = caps[2135];
+        glGetShadingRateSampleLocationivNV = caps[2136];
+        glTextureBarrierNV = caps[2137];
+        glTexImage2DMultisampleCoverageNV = caps[2138];
+        glTexImage3DMultisampleCoverageNV = caps[2139];
+        glTextureImage2DMultisampleNV = caps[2140];
+        glTextureImage3DMultisampleNV = caps[2141];
+        glTextureImage2DMultisampleCoverageNV = caps[2142];
+        glTextureImage3DMultisampleCoverageNV = caps[2143];
+        glBeginTransformFeedbackNV = caps[2144];
+        glEndTransformFeedbackNV = caps[2145];
+        glTransformFeedbackAttribsNV = caps[2146];
+        glBindBufferRangeNV = caps[2147];
+        glBindBufferOffsetNV = caps[2148];
+        glBindBufferBaseNV = caps[2149];
+        glTransformFeedbackVaryingsNV = caps[2150];
+        glActiveVaryingNV = caps[2151];
+        glGetVaryingLocationNV = caps[2152];
+        glGetActiveVaryingNV = caps[2153];
+        glGetTransformFeedbackVaryingNV = caps[2154];
+        glTransformFeedbackStreamAttribsNV = caps[2155];
+        glBindTransformFeedbackNV = caps[2156];
+        glDeleteTransformFeedbacksNV = caps[2157];
+        glGenTransformFeedbacksNV = caps[2158];
+        glIsTransformFeedbackNV = caps[2159];
+        glPauseTransformFeedbackNV = caps[2160];
+        glResumeTransformFeedbackNV = caps[2161];
+        glDrawTransformFeedbackNV = caps[2162];
+        glVertexArrayRangeNV = caps[2163];
+        glFlushVertexArrayRangeNV = caps[2164];
+        glVertexAttribL1i64NV = caps[2165];
+        glVertexAttribL2i64NV = caps[2166];
+        glVertexAttribL3i64NV = caps[2167];
+        glVertexAttribL4i64NV = caps[2168];
+        glVertexAttribL1i64vNV = caps[2169];
+        glVertexAttribL2i64vNV = caps[2170];
+        glVertexAttribL3i64vNV = caps[2171];
+        glVertexAttribL4i64vNV = caps[2172];
+        glVertexAttribL1ui64NV = caps[2173];
+        glVertexAttribL2ui64NV = caps[2174];
+        glVertexAttribL3ui64NV = caps[2175];
+        glVertexAttribL4ui64NV = caps[2176];
+        glVertexAttribL1ui64vNV = caps[2177];
+        glVertexAttribL2ui64vNV = caps[2178];
+        glVertexAttribL3ui64vNV = caps[2179];
+        glVertexAttribL4ui64vNV = caps[2180];
+        glGetVertexAttribLi64vNV = caps[2181];
+        glGetVertexAttribLui64vNV = caps[2182];
+        glVertexAttribLFormatNV = caps[2183];
+        glBufferAddressRangeNV = caps[2184];
+        glVertexFormatNV = caps[2185];
+        glNormalFormatNV = caps[2186];
+        glColorFormatNV = caps[2187];
+        glIndexFormatNV = caps[2188];
+        glTexCoordFormatNV = caps[2189];
+        glEdgeFlagFormatNV = caps[2190];
+        glSecondaryColorFormatNV = caps[2191];
+        glFogCoordFormatNV = caps[2192];
+        glVertexAttribFormatNV = caps[2193];
+        glVertexAttribIFormatNV = caps[2194];
+        glGetIntegerui64i_vNV = caps[2195];
+        glViewportSwizzleNV = caps[2196];
+        glBeginConditionalRenderNVX = caps[2197];
+        glEndConditionalRenderNVX = caps[2198];
+        glFramebufferTextureMultiviewOVR = caps[2199];
+        glNamedFramebufferTextureMultiviewOVR = caps[2200];
 
         OpenGL11 = ext.contains("OpenGL11") && checkExtension("OpenGL11", GL11.isAvailable(this, ext, fc));
         OpenGL12 = ext.contains("OpenGL12") && checkExtension("OpenGL12", GL12.isAvailable(this));
@@ -6734,10 +7318,6 @@ public final class GLCapabilities {
         return ext.contains("GL45") || ext.contains("GL_ARB_direct_state_access") || ext.contains("GL_EXT_direct_state_access");
     }
 
-    private static long getFunctionAddress(boolean fc, FunctionProvider provider, String functionName) {
-        return fc ? NULL : provider.getFunctionAddress(functionName);
-    }
-
     private static boolean checkExtension(String extension, boolean supported) {
         if (supported) {
             return true;
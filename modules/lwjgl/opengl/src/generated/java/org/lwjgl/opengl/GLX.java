@@ -76,25 +76,32 @@ public class GLX {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "glXQueryExtension\0glXQueryVersion\0glXGetConfig\0glXChooseVisual\0glXCreateContext\0glXMakeCurrent\0glXCopyContext\0glXIsDirect\0glXDestroyContext\0" +
+            "glXGetCurrentContext\0glXGetCurrentDrawable\0glXWaitGL\0glXWaitX\0glXSwapBuffers\0glXUseXFont\0glXCreateGLXPixmap\0glXDestroyGLXPixmap\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(GL.getFunctionProvider(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            QueryExtension     = apiGetFunctionAddress(GL.getFunctionProvider(), "glXQueryExtension"),
-            QueryVersion       = apiGetFunctionAddress(GL.getFunctionProvider(), "glXQueryVersion"),
-            GetConfig          = apiGetFunctionAddress(GL.getFunctionProvider(), "glXGetConfig"),
-            ChooseVisual       = apiGetFunctionAddress(GL.getFunctionProvider(), "glXChooseVisual"),
-            CreateContext      = apiGetFunctionAddress(GL.getFunctionProvider(), "glXCreateContext"),
-            MakeCurrent        = apiGetFunctionAddress(GL.getFunctionProvider(), "glXMakeCurrent"),
-            CopyContext        = apiGetFunctionAddress(GL.getFunctionProvider(), "glXCopyContext"),
-            IsDirect           = apiGetFunctionAddress(GL.getFunctionProvider(), "glXIsDirect"),
-            DestroyContext     = apiGetFunctionAddress(GL.getFunctionProvider(), "glXDestroyContext"),
-            GetCurrentContext  = apiGetFunctionAddress(GL.getFunctionProvider(), "glXGetCurrentContext"),
-            GetCurrentDrawable = apiGetFunctionAddress(GL.getFunctionProvider(), "glXGetCurrentDrawable"),
-            WaitGL             = apiGetFunctionAddress(GL.getFunctionProvider(), "glXWaitGL"),
-            WaitX              = apiGetFunctionAddress(GL.getFunctionProvider(), "glXWaitX"),
-            SwapBuffers        = apiGetFunctionAddress(GL.getFunctionProvider(), "glXSwapBuffers"),
-            UseXFont           = apiGetFunctionAddress(GL.getFunctionProvider(), "glXUseXFont"),
-            CreateGLXPixmap    = apiGetFunctionAddress(GL.getFunctionProvider(), "glXCreateGLXPixmap"),
-            DestroyGLXPixmap   = apiGetFunctionAddress(GL.getFunctionProvider(), "glXDestroyGLXPixmap");
+            QueryExtension     = ADDRESSES[0],
+            QueryVersion       = ADDRESSES[1],
+            GetConfig          = ADDRESSES[2],
+            ChooseVisual       = ADDRESSES[3],
+            CreateContext      = ADDRESSES[4],
+            MakeCurrent        = ADDRESSES[5],
+            CopyContext        = ADDRESSES[6],
+            IsDirect           = ADDRESSES[7],
+            DestroyContext     = ADDRESSES[8],
+            GetCurrentContext  = ADDRESSES[9],
+            GetCurrentDrawable = ADDRESSES[10],
+            WaitGL             = ADDRESSES[11],
+            WaitX              = ADDRESSES[12],
+            SwapBuffers        = ADDRESSES[13],
+            UseXFont           = ADDRESSES[14],
+            CreateGLXPixmap    = ADDRESSES[15],
+            DestroyGLXPixmap   = ADDRESSES[16];
 
     }
 
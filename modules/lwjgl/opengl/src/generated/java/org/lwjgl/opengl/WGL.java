@@ -68,17 +68,24 @@ public class WGL {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "wglCreateContext\0wglCreateLayerContext\0wglCopyContext\0wglDeleteContext\0wglGetCurrentContext\0wglGetCurrentDC\0wglGetProcAddress\0wglMakeCurrent\0" +
+            "wglShareLists\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(GL.getFunctionProvider(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            CreateContext      = apiGetFunctionAddress(GL.getFunctionProvider(), "wglCreateContext"),
-            CreateLayerContext = apiGetFunctionAddress(GL.getFunctionProvider(), "wglCreateLayerContext"),
-            CopyContext        = apiGetFunctionAddress(GL.getFunctionProvider(), "wglCopyContext"),
-            DeleteContext      = apiGetFunctionAddress(GL.getFunctionProvider(), "wglDeleteContext"),
-            GetCurrentContext  = apiGetFunctionAddress(GL.getFunctionProvider(), "wglGetCurrentContext"),
-            GetCurrentDC       = apiGetFunctionAddress(GL.getFunctionProvider(), "wglGetCurrentDC"),
-            GetProcAddress     = apiGetFunctionAddress(GL.getFunctionProvider(), "wglGetProcAddress"),
-            MakeCurrent        = apiGetFunctionAddress(GL.getFunctionProvider(), "wglMakeCurrent"),
-            ShareLists         = apiGetFunctionAddress(GL.getFunctionProvider(), "wglShareLists");
+            CreateContext      = ADDRESSES[0],
+            CreateLayerContext = ADDRESSES[1],
+            CopyContext        = ADDRESSES[2],
+            DeleteContext      = ADDRESSES[3],
+            GetCurrentContext  = ADDRESSES[4],
+            GetCurrentDC       = ADDRESSES[5],
+            GetProcAddress     = ADDRESSES[6],
+            MakeCurrent        = ADDRESSES[7],
+            ShareLists         = ADDRESSES[8];
 
     }
 
@@ -4,6 +4,7 @@
  */
 package org.lwjgl.opengl;
 
+import org.lwjgl.*;
 import org.lwjgl.system.*;
 import org.lwjgl.system.macosx.*;
 import org.lwjgl.system.windows.*;
@@ -129,11 +130,15 @@ public final class GL {
         SharedLibraryGL(SharedLibrary library) {
             super(library);
         }
-        abstract long getExtensionAddress(long name);
+
+        /** Returns the address of the platform's {@code GetProcAddress} function, or {@code NULL} if functions must be resolved from the library only. */
+        abstract long getProcAddress();
 
         @Override
         public long getFunctionAddress(ByteBuffer functionName) {
-            long address = getExtensionAddress(memAddress(functionName));
+            long GetProcAddress = getProcAddress();
+
+            long address = GetProcAddress == NULL ? NULL : callPP(memAddress(functionName), GetProcAddress);
             if (address == NULL) {
                 address = library.getFunctionAddress(functionName);
                 if (address == NULL && DEBUG_FUNCTIONS) {
@@ -144,6 +149,22 @@ public final class GL {
             return address;
         }
 
+        @Override
+        public void getFunctionAddresses(ByteBuffer functionNames, PointerBuffer addresses) {
+            long GetProcAddress = getProcAddress();
+
+            if (GetProcAddress == NULL) {
+                library.getFunctionAddresses(functionNames, addresses);
+            } else {
+                SharedLibraryUtil.getProcAddresses(GetProcAddress, functionNames, addresses);
+                SharedLibraryUtil.getMissingFunctionAddresses(library, functionNames, addresses);
+            }
+
+            if (DEBUG_FUNCTIONS) {
+                SharedLibraryUtil.logMissingFunctions("GL", functionNames, addresses);
+            }
+        }
+
     }
 
     private static void create(SharedLibrary OPENGL) {
@@ -155,8 +176,8 @@ public final class GL {
                         private final long wglGetProcAddress = library.getFunctionAddress("wglGetProcAddress");
 
                         @Override
-                        long getExtensionAddress(long name) {
-                            return callPP(name, wglGetProcAddress);
+                        long getProcAddress() {
+                            return wglGetProcAddress;
                         }
                     };
                     break;
@@ -175,15 +196,15 @@ public final class GL {
                         }
 
                         @Override
-                        long getExtensionAddress(long name) {
-                            return glXGetProcAddress == NULL ? NULL : callPP(name, glXGetProcAddress);
+                        long getProcAddress() {
+                            return glXGetProcAddress;
                         }
                     };
                     break;
                 case MACOSX:
                     functionProvider = new SharedLibraryGL(OPENGL) {
                         @Override
-                        long getExtensionAddress(long name) {
+                        long getProcAddress() {
                             return NULL;
                         }
                     };
@@ -48,6 +48,30 @@ val GLBinding = Generator.register(object : APIBinding(
 
     override fun getFunctionOrdinal(function: Func) = functionOrdinals[function.name]!!
 
+    /** The names of the versions and extensions that expose each function. */
+    private val functionOwners by lazy {
+        val owners = HashMap<String, MutableSet<String>>(functions.size)
+        classes
+            .asSequence()
+            .filter { it.hasNativeFunctions }
+            .forEach { nativeClass ->
+                val capName = if (nativeClass.isCore) "OpenGL${nativeClass.templateName.substring(2, 4)}" else nativeClass.capName
+                nativeClass.functions.forEach {
+                    owners.getOrPut(it.name) { LinkedHashSet() }.add(capName)
+                }
+            }
+        owners
+    }
+
+    /** Returns the condition under which a function must be resolved, or null if the function is always available (OpenGL 1.1). */
+    private val Func.resolveCondition: String?
+        get() = functionOwners.getValue(name).let { owners ->
+            if (owners.contains("OpenGL11"))
+                null
+            else
+                owners.joinToString(" || ", prefix = "resolveAll || ") { "ext.contains(\"$it\")" }
+        }
+
     override fun printCustomJavadoc(writer: PrintWriter, function: Func, documentation: String): Boolean {
         if (function.nativeClass.templateName.startsWith("GL")) {
             writer.printOpenGLJavaDoc(documentation, function.nativeName, function has DeprecatedGL)
@@ -154,6 +178,7 @@ val GLBinding = Generator.register(object : APIBinding(
 
     init {
         javaImport(
+            "java.util.Arrays",
             "org.lwjgl.*",
             "static org.lwjgl.system.APIUtil.*",
             "static org.lwjgl.system.MemoryUtil.*"
@@ -171,6 +196,8 @@ val GLBinding = Generator.register(object : APIBinding(
             .map(Func::name)
             .joinToString(",\n$t$t", prefix = "$t$t", postfix = ";\n"))
 
+        printFunctionNames("FUNCTIONS", functions)
+
         classes.asSequence()
             .filter { !it.isCore }
             .forEach {
@@ -187,14 +214,20 @@ val GLBinding = Generator.register(object : APIBinding(
 
     $CAPABILITIES_CLASS(FunctionProvider provider, Set<String> ext, boolean fc) {
         forwardCompatible = fc;
-""")
 
-        println(functions.joinToString(prefix = "$t$t", separator = "\n$t$t") {
+        boolean resolveAll = !Configuration.OPENGL_RESOLVE_SUPPORTED_ONLY.get(false);
+""")
+        printFunctionResolution(functions) {
+            val condition = it.resolveCondition
             if (it has DeprecatedGL && !it.has<DependsOn>())
-                "${it.name} = getFunctionAddress(fc, provider, ${it.functionAddress});"
+                if (condition == null) "!fc" else "!fc && ($condition)"
             else
-                "${it.name} = provider.getFunctionAddress(${it.functionAddress});"
-        })
+                condition ?: "true"
+        }
+        println("""
+        long[] caps = apiGetFunctionAddresses(provider, FUNCTIONS, resolve);
+""")
+        println(functions.withIndex().joinToString(prefix = "$t$t", separator = "\n$t$t") { (i, it) -> "${it.name} = caps[$i];" })
 
         for (extension in classes) {
             if (extension.isCore) {
@@ -218,10 +251,6 @@ val GLBinding = Generator.register(object : APIBinding(
         return ext.contains("GL45") || ext.contains("GL_ARB_direct_state_access") || ext.contains("GL_EXT_direct_state_access");
     }
 
-    private static long getFunctionAddress(boolean fc, FunctionProvider provider, String functionName) {
-        return fc ? NULL : provider.getFunctionAddress(functionName);
-    }
-
     private static boolean checkExtension(String extension, boolean supported) {
         if (supported) {
             return true;
@@ -459,7 +459,7 @@ val GL20C = "GL20C".nativeClassGL("GL20C") {
         "Returns the location of a uniform variable.",
 
         GLuint("program", "the program object to be queried"),
-        GLcharASCII.const.p("name", "a null terminated string containing the name of the uniform variable whose location is to be queried")
+        Interned..GLcharASCII.const.p("name", "a null terminated string containing the name of the uniform variable whose location is to be queried")
     )
 
     void(
@@ -725,7 +725,7 @@ val GL20C = "GL20C".nativeClassGL("GL20C") {
         "Returns the location of an attribute variable.",
 
         GLuint("program", "the program object to be queried"),
-        GLcharASCII.const.p("name", "a null terminated string containing the name of the attribute variable whose location is to be queried")
+        Interned..GLcharASCII.const.p("name", "a null terminated string containing the name of the attribute variable whose location is to be queried")
     )
 
     void(
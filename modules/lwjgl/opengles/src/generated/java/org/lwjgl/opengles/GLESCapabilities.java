@@ -7,6 +7,7 @@ package org.lwjgl.opengles;
 
 import org.lwjgl.system.*;
 import java.util.Set;
+import java.util.Arrays;
 import org.lwjgl.*;
 
 import static org.lwjgl.system.APIUtil.*;
@@ -868,6 +869,139 @@ public final class GLESCapabilities {
         glStartTilingQCOM,
         glEndTilingQCOM;
 
+    /** The names of the above functions, each terminated by a {@code NUL} character. */
+    private static final String FUNCTIONS =
+        "glActiveTexture\0glAttachShader\0glBindAttribLocation\0glBindBuffer\0glBindFramebuffer\0glBindRenderbuffer\0glBindTexture\0glBlendColor\0glBlendEquation\0" +
+        "glBlendEquationSeparate\0glBlendFunc\0glBlendFuncSeparate\0glBufferData\0glBufferSubData\0glCheckFramebufferStatus\0glClear\0glClearColor\0glClearDepthf\0" +
+        "glClearStencil\0glColorMask\0glCompileShader\0glCompressedTexImage2D\0glCompressedTexSubImage2D\0glCopyTexImage2D\0glCopyTexSubImage2D\0glCreateProgram\0" +
+        "glCreateShader\0glCullFace\0glDeleteBuffers\0glDeleteFramebuffers\0glDeleteProgram\0glDeleteRenderbuffers\0glDeleteShader\0glDeleteTextures\0glDepthFunc\0" +
+        "glDepthMask\0glDepthRangef\0glDetachShader\0glDisable\0glDisableVertexAttribArray\0glDrawArrays\0glDrawElements\0glEnable\0glEnableVertexAttribArray\0glFinish\0" +
+        "glFlush\0glFramebufferRenderbuffer\0glFramebufferTexture2D\0glFrontFace\0glGenBuffers\0glGenerateMipmap\0glGenFramebuffers\0glGenRenderbuffers\0glGenTextures\0" +
+        "glGetActiveAttrib\0glGetActiveUniform\0glGetAttachedShaders\0glGetAttribLocation\0glGetBooleanv\0glGetBufferParameteriv\0glGetError\0glGetFloatv\0" +
+        "glGetFramebufferAttachmentParameteriv\0glGetIntegerv\0glGetProgramiv\0glGetProgramInfoLog\0glGetRenderbufferParameteriv\0glGetShaderiv\0glGetShaderInfoLog\0" +
+        "glGetShaderPrecisionFormat\0glGetShaderSource\0glGetString\0glGetTexParameterfv\0glGetTexParameteriv\0glGetUniformfv\0glGetUniformiv\0glGetUniformLocation\0" +
+        "glGetVertexAttribfv\0glGetVertexAttribiv\0glGetVertexAttribPointerv\0glHint\0glIsBuffer\0glIsEnabled\0glIsFramebuffer\0glIsProgram\0glIsRenderbuffer\0glIsShader\0" +
+        "glIsTexture\0glLineWidth\0glLinkProgram\0glPixelStorei\0glPolygonOffset\0glReadPixels\0glReleaseShaderCompiler\0glRenderbufferStorage\0glSampleCoverage\0" +
+        "glScissor\0glShaderBinary\0glShaderSource\0glStencilFunc\0glStencilFuncSeparate\0glStencilMask\0glStencilMaskSeparate\0glStencilOp\0glStencilOpSeparate\0" +
+        "glTexImage2D\0glTexParameterf\0glTexParameterfv\0glTexParameteri\0glTexParameteriv\0glTexSubImage2D\0glUniform1f\0glUniform1fv\0glUniform1i\0glUniform1iv\0" +
+        "glUniform2f\0glUniform2fv\0glUniform2i\0glUniform2iv\0glUniform3f\0glUniform3fv\0glUniform3i\0glUniform3iv\0glUniform4f\0glUniform4fv\0glUniform4i\0glUniform4iv\0" +
+        "glUniformMatrix2fv\0glUniformMatrix3fv\0glUniformMatrix4fv\0glUseProgram\0glValidateProgram\0glVertexAttrib1f\0glVertexAttrib1fv\0glVertexAttrib2f\0" +
+        "glVertexAttrib2fv\0glVertexAttrib3f\0glVertexAttrib3fv\0glVertexAttrib4f\0glVertexAttrib4fv\0glVertexAttribPointer\0glViewport\0glReadBuffer\0" +
+        "glDrawRangeElements\0glTexImage3D\0glTexSubImage3D\0glCopyTexSubImage3D\0glCompressedTexImage3D\0glCompressedTexSubImage3D\0glGenQueries\0glDeleteQueries\0" +
+        "glIsQuery\0glBeginQuery\0glEndQuery\0glGetQueryiv\0glGetQueryObjectuiv\0glUnmapBuffer\0glGetBufferPointerv\0glDrawBuffers\0glUniformMatrix2x3fv\0" +
+        "glUniformMatrix3x2fv\0glUniformMatrix2x4fv\0glUniformMatrix4x2fv\0glUniformMatrix3x4fv\0glUniformMatrix4x3fv\0glBlitFramebuffer\0" +
+        "glRenderbufferStorageMultisample\0glFramebufferTextureLayer\0glMapBufferRange\0glFlushMappedBufferRange\0glBindVertexArray\0glDeleteVertexArrays\0" +
+        "glGenVertexArrays\0glIsVertexArray\0glGetIntegeri_v\0glBeginTransformFeedback\0glEndTransformFeedback\0glBindBufferRange\0glBindBufferBase\0" +
+        "glTransformFeedbackVaryings\0glGetTransformFeedbackVarying\0glVertexAttribIPointer\0glGetVertexAttribIiv\0glGetVertexAttribIuiv\0glVertexAttribI4i\0" +
+        "glVertexAttribI4ui\0glVertexAttribI4iv\0glVertexAttribI4uiv\0glGetUniformuiv\0glGetFragDataLocation\0glUniform1ui\0glUniform2ui\0glUniform3ui\0glUniform4ui\0" +
+        "glUniform1uiv\0glUniform2uiv\0glUniform3uiv\0glUniform4uiv\0glClearBufferiv\0glClearBufferuiv\0glClearBufferfv\0glClearBufferfi\0glGetStringi\0" +
+        "glCopyBufferSubData\0glGetUniformIndices\0glGetActiveUniformsiv\0glGetUniformBlockIndex\0glGetActiveUniformBlockiv\0glGetActiveUniformBlockName\0" +
+        "glUniformBlockBinding\0glDrawArraysInstanced\0glDrawElementsInstanced\0glFenceSync\0glIsSync\0glDeleteSync\0glClientWaitSync\0glWaitSync\0glGetInteger64v\0" +
+        "glGetSynciv\0glGetInteger64i_v\0glGetBufferParameteri64v\0glGenSamplers\0glDeleteSamplers\0glIsSampler\0glBindSampler\0glSamplerParameteri\0glSamplerParameteriv\0" +
+        "glSamplerParameterf\0glSamplerParameterfv\0glGetSamplerParameteriv\0glGetSamplerParameterfv\0glVertexAttribDivisor\0glBindTransformFeedback\0" +
+        "glDeleteTransformFeedbacks\0glGenTransformFeedbacks\0glIsTransformFeedback\0glPauseTransformFeedback\0glResumeTransformFeedback\0glGetProgramBinary\0" +
+        "glProgramBinary\0glProgramParameteri\0glInvalidateFramebuffer\0glInvalidateSubFramebuffer\0glTexStorage2D\0glTexStorage3D\0glGetInternalformativ\0" +
+        "glDispatchCompute\0glDispatchComputeIndirect\0glDrawArraysIndirect\0glDrawElementsIndirect\0glFramebufferParameteri\0glGetFramebufferParameteriv\0" +
+        "glGetProgramInterfaceiv\0glGetProgramResourceIndex\0glGetProgramResourceName\0glGetProgramResourceiv\0glGetProgramResourceLocation\0glUseProgramStages\0" +
+        "glActiveShaderProgram\0glCreateShaderProgramv\0glBindProgramPipeline\0glDeleteProgramPipelines\0glGenProgramPipelines\0glIsProgramPipeline\0" +
+        "glGetProgramPipelineiv\0glProgramUniform1i\0glProgramUniform2i\0glProgramUniform3i\0glProgramUniform4i\0glProgramUniform1ui\0glProgramUniform2ui\0" +
+        "glProgramUniform3ui\0glProgramUniform4ui\0glProgramUniform1f\0glProgramUniform2f\0glProgramUniform3f\0glProgramUniform4f\0glProgramUniform1iv\0" +
+        "glProgramUniform2iv\0glProgramUniform3iv\0glProgramUniform4iv\0glProgramUniform1uiv\0glProgramUniform2uiv\0glProgramUniform3uiv\0glProgramUniform4uiv\0" +
+        "glProgramUniform1fv\0glProgramUniform2fv\0glProgramUniform3fv\0glProgramUniform4fv\0glProgramUniformMatrix2fv\0glProgramUniformMatrix3fv\0" +
+        "glProgramUniformMatrix4fv\0glProgramUniformMatrix2x3fv\0glProgramUniformMatrix3x2fv\0glProgramUniformMatrix2x4fv\0glProgramUniformMatrix4x2fv\0" +
+        "glProgramUniformMatrix3x4fv\0glProgramUniformMatrix4x3fv\0glValidateProgramPipeline\0glGetProgramPipelineInfoLog\0glBindImageTexture\0glGetBooleani_v\0" +
+        "glMemoryBarrier\0glMemoryBarrierByRegion\0glTexStorage2DMultisample\0glGetMultisamplefv\0glSampleMaski\0glGetTexLevelParameteriv\0glGetTexLevelParameterfv\0" +
+        "glBindVertexBuffer\0glVertexAttribFormat\0glVertexAttribIFormat\0glVertexAttribBinding\0glVertexBindingDivisor\0glBlendBarrier\0glCopyImageSubData\0" +
+        "glDebugMessageControl\0glDebugMessageInsert\0glDebugMessageCallback\0glGetDebugMessageLog\0glGetPointerv\0glPushDebugGroup\0glPopDebugGroup\0glObjectLabel\0" +
+        "glGetObjectLabel\0glObjectPtrLabel\0glGetObjectPtrLabel\0glEnablei\0glDisablei\0glBlendEquationi\0glBlendEquationSeparatei\0glBlendFunci\0glBlendFuncSeparatei\0" +
+        "glColorMaski\0glIsEnabledi\0glDrawElementsBaseVertex\0glDrawRangeElementsBaseVertex\0glDrawElementsInstancedBaseVertex\0glFramebufferTexture\0" +
+        "glPrimitiveBoundingBox\0glGetGraphicsResetStatus\0glReadnPixels\0glGetnUniformfv\0glGetnUniformiv\0glGetnUniformuiv\0glMinSampleShading\0glPatchParameteri\0" +
+        "glTexParameterIiv\0glTexParameterIuiv\0glGetTexParameterIiv\0glGetTexParameterIuiv\0glSamplerParameterIiv\0glSamplerParameterIuiv\0glGetSamplerParameterIiv\0" +
+        "glGetSamplerParameterIuiv\0glTexBuffer\0glTexBufferRange\0glTexStorage3DMultisample\0glRenderbufferStorageMultisampleAdvancedAMD\0" +
+        "glNamedRenderbufferStorageMultisampleAdvancedAMD\0glGetPerfMonitorGroupsAMD\0glGetPerfMonitorCountersAMD\0glGetPerfMonitorGroupStringAMD\0" +
+        "glGetPerfMonitorCounterStringAMD\0glGetPerfMonitorCounterInfoAMD\0glGenPerfMonitorsAMD\0glDeletePerfMonitorsAMD\0glSelectPerfMonitorCountersAMD\0" +
+        "glBeginPerfMonitorAMD\0glEndPerfMonitorAMD\0glGetPerfMonitorCounterDataAMD\0glBlitFramebufferANGLE\0glRenderbufferStorageMultisampleANGLE\0" +
+        "glDrawArraysInstancedANGLE\0glDrawElementsInstancedANGLE\0glVertexAttribDivisorANGLE\0glGetTranslatedShaderSourceANGLE\0glCopyTextureLevelsAPPLE\0" +
+        "glRenderbufferStorageMultisampleAPPLE\0glResolveMultisampleFramebufferAPPLE\0glFenceSyncAPPLE\0glIsSyncAPPLE\0glDeleteSyncAPPLE\0glClientWaitSyncAPPLE\0" +
+        "glWaitSyncAPPLE\0glGetInteger64vAPPLE\0glGetSyncivAPPLE\0glDrawArraysInstancedBaseInstanceEXT\0glDrawElementsInstancedBaseInstanceEXT\0" +
+        "glDrawElementsInstancedBaseVertexBaseInstanceEXT\0glBindFragDataLocationIndexedEXT\0glGetFragDataIndexEXT\0glBindFragDataLocationEXT\0" +
+        "glGetProgramResourceLocationIndexEXT\0glBufferStorageEXT\0glNamedBufferStorageEXT\0glClearTexImageEXT\0glClearTexSubImageEXT\0glClipControlEXT\0" +
+        "glCopyImageSubDataEXT\0glLabelObjectEXT\0glGetObjectLabelEXT\0glInsertEventMarkerEXT\0glPushGroupMarkerEXT\0glPopGroupMarkerEXT\0glDiscardFramebufferEXT\0" +
+        "glQueryCounterEXT\0glGetQueryObjectivEXT\0glGetQueryObjecti64vEXT\0glGetQueryObjectui64vEXT\0glDrawBuffersEXT\0glEnableiEXT\0glDisableiEXT\0glBlendEquationiEXT\0" +
+        "glBlendEquationSeparateiEXT\0glBlendFunciEXT\0glBlendFuncSeparateiEXT\0glColorMaskiEXT\0glIsEnablediEXT\0glDrawElementsBaseVertexEXT\0" +
+        "glDrawRangeElementsBaseVertexEXT\0glDrawElementsInstancedBaseVertexEXT\0glMultiDrawElementsBaseVertexEXT\0glDrawTransformFeedbackEXT\0" +
+        "glDrawTransformFeedbackInstancedEXT\0glEGLImageTargetTexStorageEXT\0glEGLImageTargetTextureStorageEXT\0glBufferStorageExternalEXT\0" +
+        "glNamedBufferStorageExternalEXT\0glFramebufferTextureEXT\0glDrawArraysInstancedEXT\0glDrawElementsInstancedEXT\0glVertexAttribDivisorEXT\0glMapBufferRangeEXT\0" +
+        "glFlushMappedBufferRangeEXT\0glGetUnsignedBytevEXT\0glGetUnsignedBytei_vEXT\0glDeleteMemoryObjectsEXT\0glIsMemoryObjectEXT\0glCreateMemoryObjectsEXT\0" +
+        "glMemoryObjectParameterivEXT\0glGetMemoryObjectParameterivEXT\0glTexStorageMem2DEXT\0glTexStorageMem2DMultisampleEXT\0glTexStorageMem3DEXT\0" +
+        "glTexStorageMem3DMultisampleEXT\0glBufferStorageMemEXT\0glTextureStorageMem2DEXT\0glTextureStorageMem2DMultisampleEXT\0glTextureStorageMem3DEXT\0" +
+        "glTextureStorageMem3DMultisampleEXT\0glNamedBufferStorageMemEXT\0glImportMemoryFdEXT\0glImportMemoryWin32HandleEXT\0glImportMemoryWin32NameEXT\0" +
+        "glMultiDrawArraysEXT\0glMultiDrawElementsEXT\0glMultiDrawArraysIndirectEXT\0glMultiDrawElementsIndirectEXT\0glRenderbufferStorageMultisampleEXT\0" +
+        "glFramebufferTexture2DMultisampleEXT\0glReadBufferIndexedEXT\0glDrawBuffersIndexedEXT\0glGetIntegeri_vEXT\0glGenQueriesEXT\0glDeleteQueriesEXT\0glIsQueryEXT\0" +
+        "glBeginQueryEXT\0glEndQueryEXT\0glGetQueryivEXT\0glGetQueryObjectuivEXT\0glPolygonOffsetClampEXT\0glPrimitiveBoundingBoxEXT\0glRasterSamplesEXT\0" +
+        "glGetGraphicsResetStatusEXT\0glReadnPixelsEXT\0glGetnUniformfvEXT\0glGetnUniformivEXT\0glGenSemaphoresEXT\0glDeleteSemaphoresEXT\0glIsSemaphoreEXT\0" +
+        "glSemaphoreParameterui64vEXT\0glGetSemaphoreParameterui64vEXT\0glWaitSemaphoreEXT\0glSignalSemaphoreEXT\0glImportSemaphoreFdEXT\0glImportSemaphoreWin32HandleEXT\0" +
+        "glImportSemaphoreWin32NameEXT\0glActiveShaderProgramEXT\0glBindProgramPipelineEXT\0glCreateShaderProgramvEXT\0glDeleteProgramPipelinesEXT\0" +
+        "glGenProgramPipelinesEXT\0glGetProgramPipelineInfoLogEXT\0glGetProgramPipelineivEXT\0glIsProgramPipelineEXT\0glProgramParameteriEXT\0glProgramUniform1fEXT\0" +
+        "glProgramUniform1fvEXT\0glProgramUniform1iEXT\0glProgramUniform1ivEXT\0glProgramUniform2fEXT\0glProgramUniform2fvEXT\0glProgramUniform2iEXT\0" +
+        "glProgramUniform2ivEXT\0glProgramUniform3fEXT\0glProgramUniform3fvEXT\0glProgramUniform3iEXT\0glProgramUniform3ivEXT\0glProgramUniform4fEXT\0" +
+        "glProgramUniform4fvEXT\0glProgramUniform4iEXT\0glProgramUniform4ivEXT\0glProgramUniformMatrix2fvEXT\0glProgramUniformMatrix3fvEXT\0glProgramUniformMatrix4fvEXT\0" +
+        "glUseProgramStagesEXT\0glValidateProgramPipelineEXT\0glProgramUniform1uiEXT\0glProgramUniform2uiEXT\0glProgramUniform3uiEXT\0glProgramUniform4uiEXT\0" +
+        "glProgramUniform1uivEXT\0glProgramUniform2uivEXT\0glProgramUniform3uivEXT\0glProgramUniform4uivEXT\0glProgramUniformMatrix2x3fvEXT\0" +
+        "glProgramUniformMatrix3x2fvEXT\0glProgramUniformMatrix2x4fvEXT\0glProgramUniformMatrix4x2fvEXT\0glProgramUniformMatrix3x4fvEXT\0glProgramUniformMatrix4x3fvEXT\0" +
+        "glFramebufferFetchBarrierEXT\0glFramebufferPixelLocalStorageSizeEXT\0glGetFramebufferPixelLocalStorageSizeEXT\0glClearPixelLocalStorageuiEXT\0" +
+        "glTexPageCommitmentARB\0glPatchParameteriEXT\0glTexParameterIivEXT\0glTexParameterIuivEXT\0glGetTexParameterIivEXT\0glGetTexParameterIuivEXT\0" +
+        "glSamplerParameterIivEXT\0glSamplerParameterIuivEXT\0glGetSamplerParameterIivEXT\0glGetSamplerParameterIuivEXT\0glTexBufferEXT\0glTexBufferRangeEXT\0" +
+        "glTexStorage1DEXT\0glTexStorage2DEXT\0glTexStorage3DEXT\0glTextureStorage1DEXT\0glTextureStorage2DEXT\0glTextureStorage3DEXT\0glTextureViewEXT\0" +
+        "glAcquireKeyedMutexWin32EXT\0glReleaseKeyedMutexWin32EXT\0glWindowRectanglesEXT\0glFramebufferTexture2DDownsampleIMG\0glFramebufferTextureLayerDownsampleIMG\0" +
+        "glRenderbufferStorageMultisampleIMG\0glFramebufferTexture2DMultisampleIMG\0glApplyFramebufferAttachmentCMAAINTEL\0glBeginPerfQueryINTEL\0glCreatePerfQueryINTEL\0" +
+        "glDeletePerfQueryINTEL\0glEndPerfQueryINTEL\0glGetFirstPerfQueryIdINTEL\0glGetNextPerfQueryIdINTEL\0glGetPerfCounterInfoINTEL\0glGetPerfQueryDataINTEL\0" +
+        "glGetPerfQueryIdByNameINTEL\0glGetPerfQueryInfoINTEL\0glBlendBarrierKHR\0glDebugMessageControlKHR\0glDebugMessageInsertKHR\0glDebugMessageCallbackKHR\0" +
+        "glGetDebugMessageLogKHR\0glGetPointervKHR\0glPushDebugGroupKHR\0glPopDebugGroupKHR\0glObjectLabelKHR\0glGetObjectLabelKHR\0glObjectPtrLabelKHR\0" +
+        "glGetObjectPtrLabelKHR\0glMaxShaderCompilerThreadsKHR\0glGetGraphicsResetStatusKHR\0glReadnPixelsKHR\0glGetnUniformfvKHR\0glGetnUniformivKHR\0" +
+        "glGetnUniformuivKHR\0glAlphaToCoverageDitherControlNV\0glGetTextureHandleNV\0glGetTextureSamplerHandleNV\0glMakeTextureHandleResidentNV\0" +
+        "glMakeTextureHandleNonResidentNV\0glGetImageHandleNV\0glMakeImageHandleResidentNV\0glMakeImageHandleNonResidentNV\0glUniformHandleui64NV\0glUniformHandleui64vNV\0" +
+        "glProgramUniformHandleui64NV\0glProgramUniformHandleui64vNV\0glIsTextureHandleResidentNV\0glIsImageHandleResidentNV\0glBlendParameteriNV\0glBlendBarrierNV\0" +
+        "glViewportPositionWScaleNV\0glBeginConditionalRenderNV\0glEndConditionalRenderNV\0glSubpixelPrecisionBiasNV\0glConservativeRasterParameteriNV\0" +
+        "glCopyBufferSubDataNV\0glCoverageMaskNV\0glCoverageOperationNV\0glDrawBuffersNV\0glDrawArraysInstancedNV\0glDrawElementsInstancedNV\0glDrawVkImageNV\0" +
+        "glGetVkProcAddrNV\0glWaitVkSemaphoreNV\0glSignalVkSemaphoreNV\0glSignalVkFenceNV\0glDeleteFencesNV\0glGenFencesNV\0glIsFenceNV\0glTestFenceNV\0glGetFenceivNV\0" +
+        "glFinishFenceNV\0glSetFenceNV\0glFragmentCoverageColorNV\0glBlitFramebufferNV\0glCoverageModulationTableNV\0glGetCoverageModulationTableNV\0" +
+        "glCoverageModulationNV\0glRenderbufferStorageMultisampleNV\0glUniform1i64NV\0glUniform2i64NV\0glUniform3i64NV\0glUniform4i64NV\0glUniform1i64vNV\0" +
+        "glUniform2i64vNV\0glUniform3i64vNV\0glUniform4i64vNV\0glUniform1ui64NV\0glUniform2ui64NV\0glUniform3ui64NV\0glUniform4ui64NV\0glUniform1ui64vNV\0" +
+        "glUniform2ui64vNV\0glUniform3ui64vNV\0glUniform4ui64vNV\0glGetUniformi64vNV\0glGetUniformui64vNV\0glProgramUniform1i64NV\0glProgramUniform2i64NV\0" +
+        "glProgramUniform3i64NV\0glProgramUniform4i64NV\0glProgramUniform1i64vNV\0glProgramUniform2i64vNV\0glProgramUniform3i64vNV\0glProgramUniform4i64vNV\0" +
+        "glProgramUniform1ui64NV\0glProgramUniform2ui64NV\0glProgramUniform3ui64NV\0glProgramUniform4ui64NV\0glProgramUniform1ui64vNV\0glProgramUniform2ui64vNV\0" +
+        "glProgramUniform3ui64vNV\0glProgramUniform4ui64vNV\0glVertexAttribDivisorNV\0glGetInternalformatSampleivNV\0glGetMemoryObjectDetachedResourcesuivNV\0" +
+        "glResetMemoryObjectParameterNV\0glTexAttachMemoryNV\0glBufferAttachMemoryNV\0glTextureAttachMemoryNV\0glNamedBufferAttachMemoryNV\0glDrawMeshTasksNV\0" +
+        "glDrawMeshTasksIndirectNV\0glMultiDrawMeshTasksIndirectNV\0glUniformMatrix2x3fvNV\0glUniformMatrix3x2fvNV\0glUniformMatrix2x4fvNV\0glUniformMatrix4x2fvNV\0" +
+        "glUniformMatrix3x4fvNV\0glUniformMatrix4x3fvNV\0glPathCommandsNV\0glPathCoordsNV\0glPathSubCommandsNV\0glPathSubCoordsNV\0glPathStringNV\0glPathGlyphsNV\0" +
+        "glPathGlyphRangeNV\0glPathGlyphIndexArrayNV\0glPathMemoryGlyphIndexArrayNV\0glCopyPathNV\0glWeightPathsNV\0glInterpolatePathsNV\0glTransformPathNV\0" +
+        "glPathParameterivNV\0glPathParameteriNV\0glPathParameterfvNV\0glPathParameterfNV\0glPathDashArrayNV\0glGenPathsNV\0glDeletePathsNV\0glIsPathNV\0" +
+        "glPathStencilFuncNV\0glPathStencilDepthOffsetNV\0glStencilFillPathNV\0glStencilStrokePathNV\0glStencilFillPathInstancedNV\0glStencilStrokePathInstancedNV\0" +
+        "glPathCoverDepthFuncNV\0glCoverFillPathNV\0glCoverStrokePathNV\0glCoverFillPathInstancedNV\0glCoverStrokePathInstancedNV\0glStencilThenCoverFillPathNV\0" +
+        "glStencilThenCoverStrokePathNV\0glStencilThenCoverFillPathInstancedNV\0glStencilThenCoverStrokePathInstancedNV\0glPathGlyphIndexRangeNV\0" +
+        "glProgramPathFragmentInputGenNV\0glGetPathParameterivNV\0glGetPathParameterfvNV\0glGetPathCommandsNV\0glGetPathCoordsNV\0glGetPathDashArrayNV\0" +
+        "glGetPathMetricsNV\0glGetPathMetricRangeNV\0glGetPathSpacingNV\0glIsPointInFillPathNV\0glIsPointInStrokePathNV\0glGetPathLengthNV\0glPointAlongPathNV\0" +
+        "glMatrixLoad3x2fNV\0glMatrixLoad3x3fNV\0glMatrixLoadTranspose3x3fNV\0glMatrixMult3x2fNV\0glMatrixMult3x3fNV\0glMatrixMultTranspose3x3fNV\0" +
+        "glGetProgramResourcefvNV\0glPolygonModeNV\0glReadBufferNV\0glFramebufferSampleLocationsfvNV\0glNamedFramebufferSampleLocationsfvNV\0glResolveDepthValuesNV\0" +
+        "glScissorExclusiveArrayvNV\0glScissorExclusiveNV\0glTexImage3DNV\0glTexSubImage3DNV\0glCopyTexSubImage3DNV\0glCompressedTexImage3DNV\0" +
+        "glCompressedTexSubImage3DNV\0glFramebufferTextureLayerNV\0glTextureBarrierNV\0glViewportArrayvNV\0glViewportIndexedfNV\0glViewportIndexedfvNV\0glScissorArrayvNV\0" +
+        "glScissorIndexedNV\0glScissorIndexedvNV\0glDepthRangeArrayfvNV\0glDepthRangeIndexedfNV\0glGetFloati_vNV\0glEnableiNV\0glDisableiNV\0glIsEnablediNV\0" +
+        "glViewportSwizzleNV\0glCopyImageSubDataOES\0glEnableiOES\0glDisableiOES\0glBlendEquationiOES\0glBlendEquationSeparateiOES\0glBlendFunciOES\0" +
+        "glBlendFuncSeparateiOES\0glColorMaskiOES\0glIsEnablediOES\0glDrawElementsBaseVertexOES\0glDrawRangeElementsBaseVertexOES\0glDrawElementsInstancedBaseVertexOES\0" +
+        "glMultiDrawElementsBaseVertexOES\0glEGLImageTargetTexture2DOES\0glEGLImageTargetRenderbufferStorageOES\0glFramebufferTextureOES\0glGetProgramBinaryOES\0" +
+        "glProgramBinaryOES\0glMapBufferOES\0glUnmapBufferOES\0glGetBufferPointervOES\0glPrimitiveBoundingBoxOES\0glMinSampleShadingOES\0glPatchParameteriOES\0" +
+        "glTexImage3DOES\0glTexSubImage3DOES\0glCopyTexSubImage3DOES\0glCompressedTexImage3DOES\0glCompressedTexSubImage3DOES\0glFramebufferTexture3DOES\0" +
+        "glTexParameterIivOES\0glTexParameterIuivOES\0glGetTexParameterIivOES\0glGetTexParameterIuivOES\0glSamplerParameterIivOES\0glSamplerParameterIuivOES\0" +
+        "glGetSamplerParameterIivOES\0glGetSamplerParameterIuivOES\0glTexBufferOES\0glTexBufferRangeOES\0glTexStorage3DMultisampleOES\0glTextureViewOES\0" +
+        "glBindVertexArrayOES\0glDeleteVertexArraysOES\0glGenVertexArraysOES\0glIsVertexArrayOES\0glViewportArrayvOES\0glViewportIndexedfOES\0glViewportIndexedfvOES\0" +
+        "glScissorArrayvOES\0glScissorIndexedOES\0glScissorIndexedvOES\0glDepthRangeArrayfvOES\0glDepthRangeIndexedfOES\0glGetFloati_vOES\0" +
+        "glFramebufferTextureMultiviewOVR\0glFramebufferTextureMultisampleMultiviewOVR\0glAlphaFuncQCOM\0glGetDriverControlsQCOM\0glGetDriverControlStringQCOM\0" +
+        "glEnableDriverControlQCOM\0glDisableDriverControlQCOM\0glExtGetTexturesQCOM\0glExtGetBuffersQCOM\0glExtGetRenderbuffersQCOM\0glExtGetFramebuffersQCOM\0" +
+        "glExtGetTexLevelParameterivQCOM\0glExtTexObjectStateOverrideiQCOM\0glExtGetTexSubImageQCOM\0glExtGetBufferPointervQCOM\0glExtGetShadersQCOM\0" +
+        "glExtGetProgramsQCOM\0glExtIsProgramBinaryQCOM\0glExtGetProgramBinarySourceQCOM\0glFramebufferFoveationConfigQCOM\0glFramebufferFoveationParametersQCOM\0" +
+        "glFramebufferFetchBarrierQCOM\0glTextureFoveationParametersQCOM\0glStartTilingQCOM\0glEndTilingQCOM\0";
+
     /** When true, {@link GLES20} is supported. */
     public final boolean GLES20;
     /** When true, {@link GLES30} is supported. */
@@ -2255,857 +2389,992 @@ public final class GLESCapabilities {
     final PointerBuffer addresses;
 
     GLESCapabilities(FunctionProvider provider, Set<String> ext) {
-        glActiveTexture = provider.getFunctionAddress("glActiveTexture");
-        glAttachShader = provider.getFunctionAddress("glAttachShader");
-        glBindAttribLocation = provider.getFunctionAddress("glBindAttribLocation");
-        glBindBuffer = provider.getFunctionAddress("glBindBuffer");
-        glBindFramebuffer = provider.getFunctionAddress("glBindFramebuffer");
-        glBindRenderbuffer = provider.getFunctionAddress("glBindRenderbuffer");
-        glBindTexture = provider.getFunctionAddress("glBindTexture");
-        glBlendColor = provider.getFunctionAddress("glBlendColor");
-        glBlendEquation = provider.getFunctionAddress("glBlendEquation");
-        glBlendEquationSeparate = provider.getFunctionAddress("glBlendEquationSeparate");
-        glBlendFunc = provider.getFunctionAddress("glBlendFunc");
-        glBlendFuncSeparate = provider.getFunctionAddress("glBlendFuncSeparate");
-        glBufferData = provider.getFunctionAddress("glBufferData");
-        glBufferSubData = provider.getFunctionAddress("glBufferSubData");
-        glCheckFramebufferStatus = provider.getFunctionAddress("glCheckFramebufferStatus");
-        glClear = provider.getFunctionAddress("glClear");
-        glClearColor = provider.getFunctionAddress("glClearColor");
-        glClearDepthf = provider.getFunctionAddress("glClearDepthf");
-        glClearStencil = provider.getFunctionAddress("glClearStencil");
-        glColorMask = provider.getFunctionAddress("glColorMask");
-        glCompileShader = provider.getFunctionAddress("glCompileShader");
-        glCompressedTexImage2D = provider.getFunctionAddress("glCompressedTexImage2D");
-        glCompressedTexSubImage2D = provider.getFunctionAddress("glCompressedTexSubImage2D");
-        glCopyTexImage2D = provider.getFunctionAddress("glCopyTexImage2D");
-        glCopyTexSubImage2D = provider.getFunctionAddress("glCopyTexSubImage2D");
-        glCreateProgram = provider.getFunctionAddress("glCreateProgram");
-        glCreateShader = provider.getFunctionAddress("glCreateShader");
-        glCullFace = provider.getFunctionAddress("glCullFace");
-        glDeleteBuffers = provider.getFunctionAddress("glDeleteBuffers");
-        glDeleteFramebuffers = provider.getFunctionAddress("glDeleteFramebuffers");
-        glDeleteProgram = provider.getFunctionAddress("glDeleteProgram");
-        glDeleteRenderbuffers = provider.getFunctionAddress("glDeleteRenderbuffers");
-        glDeleteShader = provider.getFunctionAddress("glDeleteShader");
-        glDeleteTextures = provider.getFunctionAddress("glDeleteTextures");
-        glDepthFunc = provider.getFunctionAddress("glDepthFunc");
-        glDepthMask = provider.getFunctionAddress("glDepthMask");
-        glDepthRangef = provider.getFunctionAddress("glDepthRangef");
-        glDetachShader = provider.getFunctionAddress("glDetachShader");
-        glDisable = provider.getFunctionAddress("glDisable");
-        glDisableVertexAttribArray = provider.getFunctionAddress("glDisableVertexAttribArray");
-        glDrawArrays = provider.getFunctionAddress("glDrawArrays");
-        glDrawElements = provider.getFunctionAddress("glDrawElements");
-        glEnable = provider.getFunctionAddress("glEnable");
-        glEnableVertexAttribArray = provider.getFunctionAddress("glEnableVertexAttribArray");
-        glFinish = provider.getFunctionAddress("glFinish");
-        glFlush = provider.getFunctionAddress("glFlush");
-        glFramebufferRenderbuffer = provider.getFunctionAddress("glFramebufferRenderbuffer");
-        glFramebufferTexture2D = provider.getFunctionAddress("glFramebufferTexture2D");
-        glFrontFace = provider.getFunctionAddress("glFrontFace");
-        glGenBuffers = provider.getFunctionAddress("glGenBuffers");
-        glGenerateMipmap = provider.getFunctionAddress("glGenerateMipmap");
-        glGenFramebuffers = provider.getFunctionAddress("glGenFramebuffers");
-        glGenRenderbuffers = provider.getFunctionAddress("glGenRenderbuffers");
-        glGenTextures = provider.getFunctionAddress("glGenTextures");
-        glGetActiveAttrib = provider.getFunctionAddress("glGetActiveAttrib");
-        glGetActiveUniform = provider.getFunctionAddress("glGetActiveUniform");
-        glGetAttachedShaders = provider.getFunctionAddress("glGetAttachedShaders");
-        glGetAttribLocation = provider.getFunctionAddress("glGetAttribLocation");
-        glGetBooleanv = provider.getFunctionAddress("glGetBooleanv");
-        glGetBufferParameteriv = provider.getFunctionAddress("glGetBufferParameteriv");
-        glGetError = provider.getFunctionAddress("glGetError");
-        glGetFloatv = provider.getFunctionAddress("glGetFloatv");
-        glGetFramebufferAttachmentParameteriv = provider.getFunctionAddress("glGetFramebufferAttachmentParameteriv");
-        glGetIntegerv = provider.getFunctionAddress("glGetIntegerv");
-        glGetProgramiv = provider.getFunctionAddress("glGetProgramiv");
-        glGetProgramInfoLog = provider.getFunctionAddress("glGetProgramInfoLog");
-        glGetRenderbufferParameteriv = provider.getFunctionAddress("glGetRenderbufferParameteriv");
-        glGetShaderiv = provider.getFunctionAddress("glGetShaderiv");
-        glGetShaderInfoLog = provider.getFunctionAddress("glGetShaderInfoLog");
-        glGetShaderPrecisionFormat = provider.getFunctionAddress("glGetShaderPrecisionFormat");
-        glGetShaderSource = provider.getFunctionAddress("glGetShaderSource");
-        glGetString = provider.getFunctionAddress("glGetString");
-        glGetTexParameterfv = provider.getFunctionAddress("glGetTexParameterfv");
-        glGetTexParameteriv = provider.getFunctionAddress("glGetTexParameteriv");
-        glGetUniformfv = provider.getFunctionAddress("glGetUniformfv");
-        glGetUniformiv = provider.getFunctionAddress("glGetUniformiv");
-        glGetUniformLocation = provider.getFunctionAddress("glGetUniformLocation");
-        glGetVertexAttribfv = provider.getFunctionAddress("glGetVertexAttribfv");
-        glGetVertexAttribiv = provider.getFunctionAddress("glGetVertexAttribiv");
-        glGetVertexAttribPointerv = provider.getFunctionAddress("glGetVertexAttribPointerv");
-        glHint = provider.getFunctionAddress("glHint");
-        glIsBuffer = provider.getFunctionAddress("glIsBuffer");
-        glIsEnabled = provider.getFunctionAddress("glIsEnabled");
-        glIsFramebuffer = provider.getFunctionAddress("glIsFramebuffer");
-        glIsProgram = provider.getFunctionAddress("glIsProgram");
-        glIsRenderbuffer = provider.getFunctionAddress("glIsRenderbuffer");
-        glIsShader = provider.getFunctionAddress("glIsShader");
-        glIsTexture = provider.getFunctionAddress("glIsTexture");
-        glLineWidth = provider.getFunctionAddress("glLineWidth");
-        glLinkProgram = provider.getFunctionAddress("glLinkProgram");
-        glPixelStorei = provider.getFunctionAddress("glPixelStorei");
-        glPolygonOffset = provider.getFunctionAddress("glPolygonOffset");
-        glReadPixels = provider.getFunctionAddress("glReadPixels");
-        glReleaseShaderCompiler = provider.getFunctionAddress("glReleaseShaderCompiler");
-        glRenderbufferStorage = provider.getFunctionAddress("glRenderbufferStorage");
-        glSampleCoverage = provider.getFunctionAddress("glSampleCoverage");
-        glScissor = provider.getFunctionAddress("glScissor");
-        glShaderBinary = provider.getFunctionAddress("glShaderBinary");
-        glShaderSource = provider.getFunctionAddress("glShaderSource");
-        glStencilFunc = provider.getFunctionAddress("glStencilFunc");
-        glStencilFuncSeparate = provider.getFunctionAddress("glStencilFuncSeparate");
-        glStencilMask = provider.getFunctionAddress("glStencilMask");
-        glStencilMaskSeparate = provider.getFunctionAddress("glStencilMaskSeparate");
-        glStencilOp = provider.getFunctionAddress("glStencilOp");
-        glStencilOpSeparate = provider.getFunctionAddress("glStencilOpSeparate");
-        glTexImage2D = provider.getFunctionAddress("glTexImage2D");
-        glTexParameterf = provider.getFunctionAddress("glTexParameterf");
-        glTexParameterfv = provider.getFunctionAddress("glTexParameterfv");
-        glTexParameteri = provider.getFunctionAddress("glTexParameteri");
-        glTexParameteriv = provider.getFunctionAddress("glTexParameteriv");
-        glTexSubImage2D = provider.getFunctionAddress("glTexSubImage2D");
-        glUniform1f = provider.getFunctionAddress("glUniform1f");
-        glUniform1fv = provider.getFunctionAddress("glUniform1fv");
-        glUniform1i = provider.getFunctionAddress("glUniform1i");
-        glUniform1iv = provider.getFunctionAddress("glUniform1iv");
-        glUniform2f = provider.getFunctionAddress("glUniform2f");
-        glUniform2fv = provider.getFunctionAddress("glUniform2fv");
-        glUniform2i = provider.getFunctionAddress("glUniform2i");
-        glUniform2iv = provider.getFunctionAddress("glUniform2iv");
-        glUniform3f = provider.getFunctionAddress("glUniform3f");
-        glUniform3fv = provider.getFunctionAddress("glUniform3fv");
-        glUniform3i = provider.getFunctionAddress("glUniform3i");
-        glUniform3iv = provider.getFunctionAddress("glUniform3iv");
-        glUniform4f = provider.getFunctionAddress("glUniform4f");
-        glUniform4fv = provider.getFunctionAddress("glUniform4fv");
-        glUniform4i = provider.getFunctionAddress("glUniform4i");
-        glUniform4iv = provider.getFunctionAddress("glUniform4iv");
-        glUniformMatrix2fv = provider.getFunctionAddress("glUniformMatrix2fv");
-        glUniformMatrix3fv = provider.getFunctionAddress("glUniformMatrix3fv");
-        glUniformMatrix4fv = provider.getFunctionAddress("glUniformMatrix4fv");
-        glUseProgram = provider.getFunctionAddress("glUseProgram");
-        glValidateProgram = provider.getFunctionAddress("glValidateProgram");
-        glVertexAttrib1f = provider.getFunctionAddress("glVertexAttrib1f");
-        glVertexAttrib1fv = provider.getFunctionAddress("glVertexAttrib1fv");
-        glVertexAttrib2f = provider.getFunctionAddress("glVertexAttrib2f");
-        glVertexAttrib2fv = provider.getFunctionAddress("glVertexAttrib2fv");
-        glVertexAttrib3f = provider.getFunctionAddress("glVertexAttrib3f");
-        glVertexAttrib3fv = provider.getFunctionAddress("glVertexAttrib3fv");
-        glVertexAttrib4f = provider.getFunctionAddress("glVertexAttrib4f");
-        glVertexAttrib4fv = provider.getFunctionAddress("glVertexAttrib4fv");
-        glVertexAttribPointer = provider.getFunctionAddress("glVertexAttribPointer");
-        glViewport = provider.getFunctionAddress("glViewport");
-        glReadBuffer = provider.getFunctionAddress("glReadBuffer");
-        glDrawRangeElements = provider.getFunctionAddress("glDrawRangeElements");
-        glTexImage3D = provider.getFunctionAddress("glTexImage3D");
-        glTexSubImage3D = provider.getFunctionAddress("glTexSubImage3D");
-        glCopyTexSubImage3D = provider.getFunctionAddress("glCopyTexSubImage3D");
-        glCompressedTexImage3D = provider.getFunctionAddress("glCompressedTexImage3D");
-        glCompressedTexSubImage3D = provider.getFunctionAddress("glCompressedTexSubImage3D");
-        glGenQueries = provider.getFunctionAddress("glGenQueries");
-        glDeleteQueries = provider.getFunctionAddress("glDeleteQueries");
-        glIsQuery = provider.getFunctionAddress("glIsQuery");
-        glBeginQuery = provider.getFunctionAddress("glBeginQuery");
-        glEndQuery = provider.getFunctionAddress("glEndQuery");
-        glGetQueryiv = provider.getFunctionAddress("glGetQueryiv");
-        glGetQueryObjectuiv = provider.getFunctionAddress("glGetQueryObjectuiv");
-        glUnmapBuffer = provider.getFunctionAddress("glUnmapBuffer");
-        glGetBufferPointerv = provider.getFunctionAddress("glGetBufferPointerv");
-        glDrawBuffers = provider.getFunctionAddress("glDrawBuffers");
-        glUniformMatrix2x3fv = provider.getFunctionAddress("glUniformMatrix2x3fv");
-        glUniformMatrix3x2fv = provider.getFunctionAddress("glUniformMatrix3x2fv");
-        glUniformMatrix2x4fv = provider.getFunctionAddress("glUniformMatrix2x4fv");
-        glUniformMatrix4x2fv = provider.getFunctionAddress("glUniformMatrix4x2fv");
-        glUniformMatrix3x4fv = provider.getFunctionAddress("glUniformMatrix3x4fv");
-        glUniformMatrix4x3fv = provider.getFunctionAddress("glUniformMatrix4x3fv");
-        glBlitFramebuffer = provider.getFunctionAddress("glBlitFramebuffer");
-        glRenderbufferStorageMultisample = provider.getFunctionAddress("glRenderbufferStorageMultisample");
-        glFramebufferTextureLayer = provider.getFunctionAddress("glFramebufferTextureLayer");
-        glMapBufferRange = provider.getFunctionAddress("glMapBufferRange");
-        glFlushMappedBufferRange = provider.getFunctionAddress("glFlushMappedBufferRange");
-        glBindVertexArray = provider.getFunctionAddress("glBindVertexArray");
-        glDeleteVertexArrays = provider.getFunctionAddress("glDeleteVertexArrays");
-        glGenVertexArrays = provider.getFunctionAddress("glGenVertexArrays");
-        glIsVertexArray = provider.getFunctionAddress("glIsVertexArray");
-        glGetIntegeri_v = provider.getFunctionAddress("glGetIntegeri_v");
-        glBeginTransformFeedback = provider.getFunctionAddress("glBeginTransformFeedback");
-        glEndTransformFeedback = provider.getFunctionAddress("glEndTransformFeedback");
-        glBindBufferRange = provider.getFunctionAddress("glBindBufferRange");
-        glBindBufferBase = provider.getFunctionAddress("glBindBufferBase");
-        glTransformFeedbackVaryings = provider.getFunctionAddress("glTransformFeedbackVaryings");
-        glGetTransformFeedbackVarying = provider.getFunctionAddress("glGetTransformFeedbackVarying");
-        glVertexAttribIPointer = provider.getFunctionAddress("glVertexAttribIPointer");
-        glGetVertexAttribIiv = provider.getFunctionAddress("glGetVertexAttribIiv");
-        glGetVertexAttribIuiv = provider.getFunctionAddress("glGetVertexAttribIuiv");
-        glVertexAttribI4i = provider.getFunctionAddress("glVertexAttribI4i");
-        glVertexAttribI4ui = provider.getFunctionAddress("glVertexAttribI4ui");
-        glVertexAttribI4iv = provider.getFunctionAddress("glVertexAttribI4iv");
-        glVertexAttribI4uiv = provider.getFunctionAddress("glVertexAttribI4uiv");
-        glGetUniformuiv = provider.getFunctionAddress("glGetUniformuiv");
-        glGetFragDataLocation = provider.getFunctionAddress("glGetFragDataLocation");
-        glUniform1ui = provider.getFunctionAddress("glUniform1ui");
-        glUniform2ui = provider.getFunctionAddress("glUniform2ui");
-        glUniform3ui = provider.getFunctionAddress("glUniform3ui");
-        glUniform4ui = provider.getFunctionAddress("glUniform4ui");
-        glUniform1uiv = provider.getFunctionAddress("glUniform1uiv");
-        glUniform2uiv = provider.getFunctionAddress("glUniform2uiv");
-        glUniform3uiv = provider.getFunctionAddress("glUniform3uiv");
-        glUniform4uiv = provider.getFunctionAddress("glUniform4uiv");
-        glClearBufferiv = provider.getFunctionAddress("glClearBufferiv");
-        glClearBufferuiv = provider.getFunctionAddress("glClearBufferuiv");
-        glClearBufferfv = provider.getFunctionAddress("glClearBufferfv");
-        glClearBufferfi = provider.getFunctionAddress("glClearBufferfi");
-        glGetStringi = provider.getFunctionAddress("glGetStringi");
-        glCopyBufferSubData = provider.getFunctionAddress("glCopyBufferSubData");
-        glGetUniformIndices = provider.getFunctionAddress("glGetUniformIndices");
-        glGetActiveUniformsiv = provider.getFunctionAddress("glGetActiveUniformsiv");
-        glGetUniformBlockIndex = provider.getFunctionAddress("glGetUniformBlockIndex");
-        glGetActiveUniformBlockiv = provider.getFunctionAddress("glGetActiveUniformBlockiv");
-        glGetActiveUniformBlockName = provider.getFunctionAddress("glGetActiveUniformBlockName");
-        glUniformBlockBinding = provider.getFunctionAddress("glUniformBlockBinding");
-        glDrawArraysInstanced = provider.getFunctionAddress("glDrawArraysInstanced");
-        glDrawElementsInstanced = provider.getFunctionAddress("glDrawElementsInstanced");
-        glFenceSync = provider.getFunctionAddress("glFenceSync");
-        glIsSync = provider.getFunctionAddress("glIsSync");
-        glDeleteSync = provider.getFunctionAddress("glDeleteSync");
-        glClientWaitSync = provider.getFunctionAddress("glClientWaitSync");
-        glWaitSync = provider.getFunctionAddress("glWaitSync");
-        glGetInteger64v = provider.getFunctionAddress("glGetInteger64v");
-        glGetSynciv = provider.getFunctionAddress("glGetSynciv");
-        glGetInteger64i_v = provider.getFunctionAddress("glGetInteger64i_v");
-        glGetBufferParameteri64v = provider.getFunctionAddress("glGetBufferParameteri64v");
-        glGenSamplers = provider.getFunctionAddress("glGenSamplers");
-        glDeleteSamplers = provider.getFunctionAddress("glDeleteSamplers");
-        glIsSampler = provider.getFunctionAddress("glIsSampler");
-        glBindSampler = provider.getFunctionAddress("glBindSampler");
-        glSamplerParameteri = provider.getFunctionAddress("glSamplerParameteri");
-        glSamplerParameteriv = provider.getFunctionAddress("glSamplerParameteriv");
-        glSamplerParameterf = provider.getFunctionAddress("glSamplerParameterf");
-        glSamplerParameterfv = provider.getFunctionAddress("glSamplerParameterfv");
-        glGetSamplerParameteriv = provider.getFunctionAddress("glGetSamplerParameteriv");
-        glGetSamplerParameterfv = provider.getFunctionAddress("glGetSamplerParameterfv");
-        glVertexAttribDivisor = provider.getFunctionAddress("glVertexAttribDivisor");
-        glBindTransformFeedback = provider.getFunctionAddress("glBindTransformFeedback");
-        glDeleteTransformFeedbacks = provider.getFunctionAddress("glDeleteTransformFeedbacks");
-        glGenTransformFeedbacks = provider.getFunctionAddress("glGenTransformFeedbacks");
-        glIsTransformFeedback = provider.getFunctionAddress("glIsTransformFeedback");
-        glPauseTransformFeedback = provider.getFunctionAddress("glPauseTransformFeedback");
-        glResumeTransformFeedback = provider.getFunctionAddress("glResumeTransformFeedback");
-        glGetProgramBinary = provider.getFunctionAddress("glGetProgramBinary");
-        glProgramBinary = provider.getFunctionAddress("glProgramBinary");
-        glProgramParameteri = provider.getFunctionAddress("glProgramParameteri");
-        glInvalidateFramebuffer = provider.getFunctionAddress("glInvalidateFramebuffer");
-        glInvalidateSubFramebuffer = provider.getFunctionAddress("glInvalidateSubFramebuffer");
-        glTexStorage2D = provider.getFunctionAddress("glTexStorage2D");
-        glTexStorage3D = provider.getFunctionAddress("glTexStorage3D");
-        glGetInternalformativ = provider.getFunctionAddress("glGetInternalformativ");
-        glDispatchCompute = provider.getFunctionAddress("glDispatchCompute");
-        glDispatchComputeIndirect = provider.getFunctionAddress("glDispatchComputeIndirect");
-        glDrawArraysIndirect = provider.getFunctionAddress("glDrawArraysIndirect");
-        glDrawElementsIndirect = provider.getFunctionAddress("glDrawElementsIndirect");
-        glFramebufferParameteri = provider.getFunctionAddress("glFramebufferParameteri");
-        glGetFramebufferParameteriv = provider.getFunctionAddress("glGetFramebufferParameteriv");
-        glGetProgramInterfaceiv = provider.getFunctionAddress("glGetProgramInterfaceiv");
-        glGetProgramResourceIndex = provider.getFunctionAddress("glGetProgramResourceIndex");
-        glGetProgramResourceName = provider.getFunctionAddress("glGetProgramResourceName");
-        glGetProgramResourceiv = provider.getFunctionAddress("glGetProgramResourceiv");
-        glGetProgramResourceLocation = provider.getFunctionAddress("glGetProgramResourceLocation");
-        glUseProgramStages = provider.getFunctionAddress("glUseProgramStages");
-        glActiveShaderProgram = provider.getFunctionAddress("glActiveShaderProgram");
-        glCreateShaderProgramv = provider.getFunctionAddress("glCreateShaderProgramv");
-        glBindProgramPipeline = provider.getFunctionAddress("glBindProgramPipeline");
-        glDeleteProgramPipelines = provider.getFunctionAddress("glDeleteProgramPipelines");
-        glGenProgramPipelines = provider.getFunctionAddress("glGenProgramPipelines");
-        glIsProgramPipeline = provider.getFunctionAddress("glIsProgramPipeline");
-        glGetProgramPipelineiv = provider.getFunctionAddress("glGetProgramPipelineiv");
-        glProgramUniform1i = provider.getFunctionAddress("glProgramUniform1i");
-        glProgramUniform2i = provider.getFunctionAddress("glProgramUniform2i");
-        glProgramUniform3i = provider.getFunctionAddress("glProgramUniform3i");
-        glProgramUniform4i = provider.getFunctionAddress("glProgramUniform4i");
-        glProgramUniform1ui = provider.getFunctionAddress("glProgramUniform1ui");
-        glProgramUniform2ui = provider.getFunctionAddress("glProgramUniform2ui");
-        glProgramUniform3ui = provider.getFunctionAddress("glProgramUniform3ui");
-        glProgramUniform4ui = provider.getFunctionAddress("glProgramUniform4ui");
-        glProgramUniform1f = provider.getFunctionAddress("glProgramUniform1f");
-        glProgramUniform2f = provider.getFunctionAddress("glProgramUniform2f");
-        glProgramUniform3f = provider.getFunctionAddress("glProgramUniform3f");
-        glProgramUniform4f = provider.getFunctionAddress("glProgramUniform4f");
-        glProgramUniform1iv = provider.getFunctionAddress("glProgramUniform1iv");
-        glProgramUniform2iv = provider.getFunctionAddress("glProgramUniform2iv");
-        glProgramUniform3iv = provider.getFunctionAddress("glProgramUniform3iv");
-        glProgramUniform4iv = provider.getFunctionAddress("glProgramUniform4iv");
-        glProgramUniform1uiv = provider.getFunctionAddress("glProgramUniform1uiv");
-        glProgramUniform2uiv = provider.getFunctionAddress("glProgramUniform2uiv");
-        glProgramUniform3uiv = provider.getFunctionAddress("glProgramUniform3uiv");
-        glProgramUniform4uiv = provider.getFunctionAddress("glProgramUniform4uiv");
-        glProgramUniform1fv = provider.getFunctionAddress("glProgramUniform1fv");
-        glProgramUniform2fv = provider.getFunctionAddress("glProgramUniform2fv");
-        glProgramUniform3fv = provider.getFunctionAddress("glProgramUniform3fv");
-        glProgramUniform4fv = provider.getFunctionAddress("glProgramUniform4fv");
-        glProgramUniformMatrix2fv = provider.getFunctionAddress("glProgramUniformMatrix2fv");
-        glProgramUniformMatrix3fv = provider.getFunctionAddress("glProgramUniformMatrix3fv");
-        glProgramUniformMatrix4fv = provider.getFunctionAddress("glProgramUniformMatrix4fv");
-        glProgramUniformMatrix2x3fv = provider.getFunctionAddress("glProgramUniformMatrix2x3fv");
-        glProgramUniformMatrix3x2fv = provider.getFunctionAddress("glProgramUniformMatrix3x2fv");
-        glProgramUniformMatrix2x4fv = provider.getFunctionAddress("glProgramUniformMatrix2x4fv");
-        glProgramUniformMatrix4x2fv = provider.getFunctionAddress("glProgramUniformMatrix4x2fv");
-        glProgramUniformMatrix3x4fv = provider.getFunctionAddress("glProgramUniformMatrix3x4fv");
-        glProgramUniformMatrix4x3fv = provider.getFunctionAddress("glProgramUniformMatrix4x3fv");
-        glValidateProgramPipeline = provider.getFunctionAddress("glValidateProgramPipeline");
-        glGetProgramPipelineInfoLog = provider.getFunctionAddress("glGetProgramPipelineInfoLog");
-        glBindImageTexture = provider.getFunctionAddress("glBindImageTexture");
-        glGetBooleani_v = provider.getFunctionAddress("glGetBooleani_v");
-        glMemoryBarrier = provider.getFunctionAddress("glMemoryBarrier");
-        glMemoryBarrierByRegion = provider.getFunctionAddress("glMemoryBarrierByRegion");
-        glTexStorage2DMultisample = provider.getFunctionAddress("glTexStorage2DMultisample");
-        glGetMultisamplefv = provider.getFunctionAddress("glGetMultisamplefv");
-        glSampleMaski = provider.getFunctionAddress("glSampleMaski");
-        glGetTexLevelParameteriv = provider.getFunctionAddress("glGetTexLevelParameteriv");
-        glGetTexLevelParameterfv = provider.getFunctionAddress("glGetTexLevelParameterfv");
-        glBindVertexBuffer = provider.getFunctionAddress("glBindVertexBuffer");
-        glVertexAttribFormat = provider.getFunctionAddress("glVertexAttribFormat");
-        glVertexAttribIFormat = provider.getFunctionAddress("glVertexAttribIFormat");
-        glVertexAttribBinding = provider.getFunctionAddress("glVertexAttribBinding");
-        glVertexBindingDivisor = provider.getFunctionAddress("glVertexBindingDivisor");
-        glBlendBarrier = provider.getFunctionAddress("glBlendBarrier");
-        glCopyImageSubData = provider.getFunctionAddress("glCopyImageSubData");
-        glDebugMessageControl = provider.getFunctionAddress("glDebugMessageControl");
-        glDebugMessageInsert = provider.getFunctionAddress("glDebugMessageInsert");
-        glDebugMessageCallback = provider.getFunctionAddress("glDebugMessageCallback");
-        glGetDebugMessageLog = provider.getFunctionAddress("glGetDebugMessageLog");
-        glGetPointerv = provider.getFunctionAddress("glGetPointerv");
-        glPushDebugGroup = provider.getFunctionAddress("glPushDebugGroup");
-        glPopDebugGroup = provider.getFunctionAddress("glPopDebugGroup");
-        glObjectLabel = provider.getFunctionAddress("glObjectLabel");
-        glGetObjectLabel = provider.getFunctionAddress("glGetObjectLabel");
-        glObjectPtrLabel = provider.getFunctionAddress("glObjectPtrLabel");
-        glGetObjectPtrLabel = provider.getFunctionAddress("glGetObjectPtrLabel");
-        glEnablei = provider.getFunctionAddress("glEnablei");
-        glDisablei = provider.getFunctionAddress("glDisablei");
-        glBlendEquationi = provider.getFunctionAddress("glBlendEquationi");
-        glBlendEquationSeparatei = provider.getFunctionAddress("glBlendEquationSeparatei");
-        glBlendFunci = provider.getFunctionAddress("glBlendFunci");
-        glBlendFuncSeparatei = provider.getFunctionAddress("glBlendFuncSeparatei");
-        glColorMaski = provider.getFunctionAddress("glColorMaski");
-        glIsEnabledi = provider.getFunctionAddress("glIsEnabledi");
-        glDrawElementsBaseVertex = provider.getFunctionAddress("glDrawElementsBaseVertex");
-        glDrawRangeElementsBaseVertex = provider.getFunctionAddress("glDrawRangeElementsBaseVertex");
-        glDrawElementsInstancedBaseVertex = provider.getFunctionAddress("glDrawElementsInstancedBaseVertex");
-        glFramebufferTexture = provider.getFunctionAddress("glFramebufferTexture");
-        glPrimitiveBoundingBox = provider.getFunctionAddress("glPrimitiveBoundingBox");
-        glGetGraphicsResetStatus = provider.getFunctionAddress("glGetGraphicsResetStatus");
-        glReadnPixels = provider.getFunctionAddress("glReadnPixels");
-        glGetnUniformfv = provider.getFunctionAddress("glGetnUniformfv");
-        glGetnUniformiv = provider.getFunctionAddress("glGetnUniformiv");
-        glGetnUniformuiv = provider.getFunctionAddress("glGetnUniformuiv");
-        glMinSampleShading = provider.getFunctionAddress("glMinSampleShading");
-        glPatchParameteri = provider.getFunctionAddress("glPatchParameteri");
-        glTexParameterIiv = provider.getFunctionAddress("glTexParameterIiv");
-        glTexParameterIuiv = provider.getFunctionAddress("glTexParameterIuiv");
-        glGetTexParameterIiv = provider.getFunctionAddress("glGetTexParameterIiv");
-        glGetTexParameterIuiv = provider.getFunctionAddress("glGetTexParameterIuiv");
-        glSamplerParameterIiv = provider.getFunctionAddress("glSamplerParameterIiv");
-        glSamplerParameterIuiv = provider.getFunctionAddress("glSamplerParameterIuiv");
-        glGetSamplerParameterIiv = provider.getFunctionAddress("glGetSamplerParameterIiv");
-        glGetSamplerParameterIuiv = provider.getFunctionAddress("glGetSamplerParameterIuiv");
-        glTexBuffer = provider.getFunctionAddress("glTexBuffer");
-        glTexBufferRange = provider.getFunctionAddress("glTexBufferRange");
-        glTexStorage3DMultisample = provider.getFunctionAddress("glTexStorage3DMultisample");
-        glRenderbufferStorageMultisampleAdvancedAMD = provider.getFunctionAddress("glRenderbufferStorageMultisampleAdvancedAMD");
-        glNamedRenderbufferStorageMultisampleAdvancedAMD = provider.getFunctionAddress("glNamedRenderbufferStorageMultisampleAdvancedAMD");
-        glGetPerfMonitorGroupsAMD = provider.getFunctionAddress("glGetPerfMonitorGroupsAMD");
-        glGetPerfMonitorCountersAMD = provider.getFunctionAddress("glGetPerfMonitorCountersAMD");
-        glGetPerfMonitorGroupStringAMD = provider.getFunctionAddress("glGetPerfMonitorGroupStringAMD");
-        glGetPerfMonitorCounterStringAMD = provider.getFunctionAddress("glGetPerfMonitorCounterStringAMD");
-        glGetPerfMonitorCounterInfoAMD = provider.getFunctionAddress("glGetPerfMonitorCounterInfoAMD");
-        glGenPerfMonitorsAMD = provider.getFunctionAddress("glGenPerfMonitorsAMD");
-        glDeletePerfMonitorsAMD = provider.getFunctionAddress("glDeletePerfMonitorsAMD");
-        glSelectPerfMonitorCountersAMD = provider.getFunctionAddress("glSelectPerfMonitorCountersAMD");
-        glBeginPerfMonitorAMD = provider.getFunctionAddress("glBeginPerfMonitorAMD");
-        glEndPerfMonitorAMD = provider.getFunctionAddress("glEndPerfMonitorAMD");
-        glGetPerfMonitorCounterDataAMD = provider.getFunctionAddress("glGetPerfMonitorCounterDataAMD");
-        glBlitFramebufferANGLE = provider.getFunctionAddress("glBlitFramebufferANGLE");
-        glRenderbufferStorageMultisampleANGLE = provider.getFunctionAddress("glRenderbufferStorageMultisampleANGLE");
-        glDrawArraysInstancedANGLE = provider.getFunctionAddress("glDrawArraysInstancedANGLE");
-        glDrawElementsInstancedANGLE = provider.getFunctionAddress("glDrawElementsInstancedANGLE");
-        glVertexAttribDivisorANGLE = provider.getFunctionAddress("glVertexAttribDivisorANGLE");
-        glGetTranslatedShaderSourceANGLE = provider.getFunctionAddress("glGetTranslatedShaderSourceANGLE");
-        glCopyTextureLevelsAPPLE = provider.getFunctionAddress("glCopyTextureLevelsAPPLE");
-        glRenderbufferStorageMultisampleAPPLE = provider.getFunctionAddress("glRenderbufferStorageMultisampleAPPLE");
-        glResolveMultisampleFramebufferAPPLE = provider.getFunctionAddress("glResolveMultisampleFramebufferAPPLE");
-        glFenceSyncAPPLE = provider.getFunctionAddress("glFenceSyncAPPLE");
-        glIsSyncAPPLE = provider.getFunctionAddress("glIsSyncAPPLE");
-        glDeleteSyncAPPLE = provider.getFunctionAddress("glDeleteSyncAPPLE");
-        glClientWaitSyncAPPLE = provider.getFunctionAddress("glClientWaitSyncAPPLE");
-        glWaitSyncAPPLE = provider.getFunctionAddress("glWaitSyncAPPLE");
-        glGetInteger64vAPPLE = provider.getFunctionAddress("glGetInteger64vAPPLE");
-        glGetSyncivAPPLE = provider.getFunctionAddress("glGetSyncivAPPLE");
-        glDrawArraysInstancedBaseInstanceEXT = provider.getFunctionAddress("glDrawArraysInstancedBaseInstanceEXT");
-        glDrawElementsInstancedBaseInstanceEXT = provider.getFunctionAddress("glDrawElementsInstancedBaseInstanceEXT");
-        glDrawElementsInstancedBaseVertexBaseInstanceEXT = provider.getFunctionAddress("glDrawElementsInstancedBaseVertexBaseInstanceEXT");
-        glBindFragDataLocationIndexedEXT = provider.getFunctionAddress("glBindFragDataLocationIndexedEXT");
-        glGetFragDataIndexEXT = provider.getFunctionAddress("glGetFragDataIndexEXT");
-        glBindFragDataLocationEXT = provider.getFunctionAddress("glBindFragDataLocationEXT");
-        glGetProgramResourceLocationIndexEXT = provider.getFunctionAddress("glGetProgramResourceLocationIndexEXT");
-        glBufferStorageEXT = provider.getFunctionAddress("glBufferStorageEXT");
-        glNamedBufferStorageEXT = provider.getFunctionAddress("glNamedBufferStorageEXT");
-        glClearTexImageEXT = provider.getFunctionAddress("glClearTexImageEXT");
-        glClearTexSubImageEXT = provider.getFunctionAddress("glClearTexSubImageEXT");
-        glClipControlEXT = provider.getFunctionAddress("glClipControlEXT");
-        glCopyImageSubDataEXT = provider.getFunctionAddress("glCopyImageSubDataEXT");
-        glLabelObjectEXT = provider.getFunctionAddress("glLabelObjectEXT");
-        glGetObjectLabelEXT = provider.getFunctionAddress("glGetObjectLabelEXT");
-        glInsertEventMarkerEXT = provider.getFunctionAddress("glInsertEventMarkerEXT");
-        glPushGroupMarkerEXT = provider.getFunctionAddress("glPushGroupMarkerEXT");
-        glPopGroupMarkerEXT = provider.getFunctionAddress("glPopGroupMarkerEXT");
-        glDiscardFramebufferEXT = provider.getFunctionAddress("glDiscardFramebufferEXT");
-        glQueryCounterEXT = provider.getFunctionAddress("glQueryCounterEXT");
-        glGetQueryObjectivEXT = provider.getFunctionAddress("glGetQueryObjectivEXT");
-        glGetQueryObjecti64vEXT = provider.getFunctionAddress("glGetQueryObjecti64vEXT");
-        glGetQueryObjectui64vEXT = provider.getFunctionAddress("glGetQueryObjectui64vEXT");
-        glDrawBuffersEXT = provider.getFunctionAddress("glDrawBuffersEXT");
-        glEnableiEXT = provider.getFunctionAddress("glEnableiEXT");
-        glDisableiEXT = provider.getFunctionAddress("glDisableiEXT");
-        glBlendEquationiEXT = provider.getFunctionAddress("glBlendEquationiEXT");
-        glBlendEquationSeparateiEXT = provider.getFunctionAddress("glBlendEquationSeparateiEXT");
-        glBlendFunciEXT = provider.getFunctionAddress("glBlendFunciEXT");
-        glBlendFuncSeparateiEXT = provider.getFunctionAddress("glBlendFuncSeparateiEXT");
-        glColorMaskiEXT = provider.getFunctionAddress("glColorMaskiEXT");
-        glIsEnablediEXT = provider.getFunctionAddress("glIsEnablediEXT");
-        glDrawElementsBaseVertexEXT = provider.getFunctionAddress("glDrawElementsBaseVertexEXT");
-        glDrawRangeElementsBaseVertexEXT = provider.getFunctionAddress("glDrawRangeElementsBaseVertexEXT");
-        glDrawElementsInstancedBaseVertexEXT = provider.getFunctionAddress("glDrawElementsInstancedBaseVertexEXT");
-        glMultiDrawElementsBaseVertexEXT = provider.getFunctionAddress("glMultiDrawElementsBaseVertexEXT");
-        glDrawTransformFeedbackEXT = provider.getFunctionAddress("glDrawTransformFeedbackEXT");
-        glDrawTransformFeedbackInstancedEXT = provider.getFunctionAddress("glDrawTransformFeedbackInstancedEXT");
-        glEGLImageTargetTexStorageEXT = provider.getFunctionAddress("glEGLImageTargetTexStorageEXT");
-        glEGLImageTargetTextureStorageEXT = provider.getFunctionAddress("glEGLImageTargetTextureStorageEXT");
-        glBufferStorageExternalEXT = provider.getFunctionAddress("glBufferStorageExternalEXT");
-        glNamedBufferStorageExternalEXT = provider.getFunctionAddress("glNamedBufferStorageExternalEXT");
-        glFramebufferTextureEXT = provider.getFunctionAddress("glFramebufferTextureEXT");
-        glDrawArraysInstancedEXT = provider.getFunctionAddress("glDrawArraysInstancedEXT");
-        glDrawElementsInstancedEXT = provider.getFunctionAddress("glDrawElementsInstancedEXT");
-        glVertexAttribDivisorEXT = provider.getFunctionAddress("glVertexAttribDivisorEXT");
-        glMapBufferRangeEXT = provider.getFunctionAddress("glMapBufferRangeEXT");
-        glFlushMappedBufferRangeEXT = provider.getFunctionAddress("glFlushMappedBufferRangeEXT");
-        glGetUnsignedBytevEXT = provider.getFunctionAddress("glGetUnsignedBytevEXT");
-        glGetUnsignedBytei_vEXT = provider.getFunctionAddress("glGetUnsignedBytei_vEXT");
-        glDeleteMemoryObjectsEXT = provider.getFunctionAddress("glDeleteMemoryObjectsEXT");
-        glIsMemoryObjectEXT = provider.getFunctionAddress("glIsMemoryObjectEXT");
-        glCreateMemoryObjectsEXT = provider.getFunctionAddress("glCreateMemoryObjectsEXT");
-        glMemoryObjectParameterivEXT = provider.getFunctionAddress("glMemoryObjectParameterivEXT");
-        glGetMemoryObjectParameterivEXT = provider.getFunctionAddress("glGetMemoryObjectParameterivEXT");
-        glTexStorageMem2DEXT = provider.getFunctionAddress("glTexStorageMem2DEXT");
-        glTexStorageMem2DMultisampleEXT = provider.getFunctionAddress("glTexStorageMem2DMultisampleEXT");
-        glTexStorageMem3DEXT = provider.getFunctionAddress("glTexStorageMem3DEXT");
-        glTexStorageMem3DMultisampleEXT = provider.getFunctionAddress("glTexStorageMem3DMultisampleEXT");
-        glBufferStorageMemEXT = provider.getFunctionAddress("glBufferStorageMemEXT");
-        glTextureStorageMem2DEXT = provider.getFunctionAddress("glTextureStorageMem2DEXT");
-        glTextureStorageMem2DMultisampleEXT = provider.getFunctionAddress("glTextureStorageMem2DMultisampleEXT");
-        glTextureStorageMem3DEXT = provider.getFunctionAddress("glTextureStorageMem3DEXT");
-        glTextureStorageMem3DMultisampleEXT = provider.getFunctionAddress("glTextureStorageMem3DMultisampleEXT");
-        glNamedBufferStorageMemEXT = provider.getFunctionAddress("glNamedBufferStorageMemEXT");
-        glImportMemoryFdEXT = provider.getFunctionAddress("glImportMemoryFdEXT");
-        glImportMemoryWin32HandleEXT = provider.getFunctionAddress("glImportMemoryWin32HandleEXT");
-        glImportMemoryWin32NameEXT = provider.getFunctionAddress("glImportMemoryWin32NameEXT");
-        glMultiDrawArraysEXT = provider.getFunctionAddress("glMultiDrawArraysEXT");
-        glMultiDrawElementsEXT = provider.getFunctionAddress("glMultiDrawElementsEXT");
-        glMultiDrawArraysIndirectEXT = provider.getFunctionAddress("glMultiDrawArraysIndirectEXT");
-        glMultiDrawElementsIndirectEXT = provider.getFunctionAddress("glMultiDrawElementsIndirectEXT");
-        glRenderbufferStorageMultisampleEXT = provider.getFunctionAddress("glRenderbufferStorageMultisampleEXT");
-        glFramebufferTexture2DMultisampleEXT = provider.getFunctionAddress("glFramebufferTexture2DMultisampleEXT");
-        glReadBufferIndexedEXT = provider.getFunctionAddress("glReadBufferIndexedEXT");
-        glDrawBuffersIndexedEXT = provider.getFunctionAddress("glDrawBuffersIndexedEXT");
-        glGetIntegeri_vEXT = provider.getFunctionAddress("glGetIntegeri_vEXT");
-        glGenQueriesEXT = provider.getFunctionAddress("glGenQueriesEXT");
-        glDeleteQueriesEXT = provider.getFunctionAddress("glDeleteQueriesEXT");
-        glIsQueryEXT = provider.getFunctionAddress("glIsQueryEXT");
-        glBeginQueryEXT = provider.getFunctionAddress("glBeginQueryEXT");
-        glEndQueryEXT = provider.getFunctionAddress("glEndQueryEXT");
-        glGetQueryivEXT = provider.getFunctionAddress("glGetQueryivEXT");
-        glGetQueryObjectuivEXT = provider.getFunctionAddress("glGetQueryObjectuivEXT");
-        glPolygonOffsetClampEXT = provider.getFunctionAddress("glPolygonOffsetClampEXT");
-        glPrimitiveBoundingBoxEXT = provider.getFunctionAddress("glPrimitiveBoundingBoxEXT");
-        glRasterSamplesEXT = provider.getFunctionAddress("glRasterSamplesEXT");
-        glGetGraphicsResetStatusEXT = provider.getFunctionAddress("glGetGraphicsResetStatusEXT");
-        glReadnPixelsEXT = provider.getFunctionAddress("glReadnPixelsEXT");
-        glGetnUniformfvEXT = provider.getFunctionAddress("glGetnUniformfvEXT");
-        glGetnUniformivEXT = provider.getFunctionAddress("glGetnUniformivEXT");
-        glGenSemaphoresEXT = provider.getFunctionAddress("glGenSemaphoresEXT");
-        glDeleteSemaphoresEXT = provider.getFunctionAddress("glDeleteSemaphoresEXT");
-        glIsSemaphoreEXT = provider.getFunctionAddress("glIsSemaphoreEXT");
-        glSemaphoreParameterui64vEXT = provider.getFunctionAddress("glSemaphoreParameterui64vEXT");
-        glGetSemaphoreParameterui64vEXT = provider.getFunctionAddress("glGetSemaphoreParameterui64vEXT");
-        glWaitSemaphoreEXT = provider.getFunctionAddress("glWaitSemaphoreEXT");
-        glSignalSemaphoreEXT = provider.getFunctionAddress("glSignalSemaphoreEXT");
-        glImportSemaphoreFdEXT = provider.getFunctionAddress("glImportSemaphoreFdEXT");
-        glImportSemaphoreWin32HandleEXT = provider.getFunctionAddress("glImportSemaphoreWin32HandleEXT");
-        glImportSemaphoreWin32NameEXT = provider.getFunctionAddress("glImportSemaphoreWin32NameEXT");
-        glActiveShaderProgramEXT = provider.getFunctionAddress("glActiveShaderProgramEXT");
-        glBindProgramPipelineEXT = provider.getFunctionAddress("glBindProgramPipelineEXT");
-        glCreateShaderProgramvEXT = provider.getFunctionAddress("glCreateShaderProgramvEXT");
-        glDeleteProgramPipelinesEXT = provider.getFunctionAddress("glDeleteProgramPipelinesEXT");
-        glGenProgramPipelinesEXT = provider.getFunctionAddress("glGenProgramPipelinesEXT");
-        glGetProgramPipelineInfoLogEXT = provider.getFunctionAddress("glGetProgramPipelineInfoLogEXT");
-        glGetProgramPipelineivEXT = provider.getFunctionAddress("glGetProgramPipelineivEXT");
-        glIsProgramPipelineEXT = provider.getFunctionAddress("glIsProgramPipelineEXT");
-        glProgramParameteriEXT = provider.getFunctionAddress("glProgramParameteriEXT");
-        glProgramUniform1fEXT = provider.getFunctionAddress("glProgramUniform1fEXT");
-        glProgramUniform1fvEXT = provider.getFunctionAddress("glProgramUniform1fvEXT");
-        glProgramUniform1iEXT = provider.getFunctionAddress("glProgramUniform1iEXT");
-        glProgramUniform1ivEXT = provider.getFunctionAddress("glProgramUniform1ivEXT");
-        glProgramUniform2fEXT = provider.getFunctionAddress("glProgramUniform2fEXT");
-        glProgramUniform2fvEXT = provider.getFunctionAddress("glProgramUniform2fvEXT");
-        glProgramUniform2iEXT = provider.getFunctionAddress("glProgramUniform2iEXT");
-        glProgramUniform2ivEXT = provider.getFunctionAddress("glProgramUniform2ivEXT");
-        glProgramUniform3fEXT = provider.getFunctionAddress("glProgramUniform3fEXT");
-        glProgramUniform3fvEXT = provider.getFunctionAddress("glProgramUniform3fvEXT");
-        glProgramUniform3iEXT = provider.getFunctionAddress("glProgramUniform3iEXT");
-        glProgramUniform3ivEXT = provider.getFunctionAddress("glProgramUniform3ivEXT");
-        glProgramUniform4fEXT = provider.getFunctionAddress("glProgramUniform4fEXT");
-        glProgramUniform4fvEXT = provider.getFunctionAddress("glProgramUniform4fvEXT");
-        glProgramUniform4iEXT = provider.getFunctionAddress("glProgramUniform4iEXT");
-        glProgramUniform4ivEXT = provider.getFunctionAddress("glProgramUniform4ivEXT");
-        glProgramUniformMatrix2fvEXT = provider.getFunctionAddress("glProgramUniformMatrix2fvEXT");
-        glProgramUniformMatrix3fvEXT = provider.getFunctionAddress("glProgramUniformMatrix3fvEXT");
-        glProgramUniformMatrix4fvEXT = provider.getFunctionAddress("glProgramUniformMatrix4fvEXT");
-        glUseProgramStagesEXT = provider.getFunctionAddress("glUseProgramStagesEXT");
-        glValidateProgramPipelineEXT = provider.getFunctionAddress("glValidateProgramPipelineEXT");
-        glProgramUniform1uiEXT = provider.getFunctionAddress("glProgramUniform1uiEXT");
-        glProgramUniform2uiEXT = provider.getFunctionAddress("glProgramUniform2uiEXT");
-        glProgramUniform3uiEXT = provider.getFunctionAddress("glProgramUniform3uiEXT");
-        glProgramUniform4uiEXT = provider.getFunctionAddress("glProgramUniform4uiEXT");
-        glProgramUniform1uivEXT = provider.getFunctionAddress("glProgramUniform1uivEXT");
-        glProgramUniform2uivEXT = provider.getFunctionAddress("glProgramUniform2uivEXT");
-        glProgramUniform3uivEXT = provider.getFunctionAddress("glProgramUniform3uivEXT");
-        glProgramUniform4uivEXT = provider.getFunctionAddress("glProgramUniform4uivEXT");
-        glProgramUniformMatrix2x3fvEXT = provider.getFunctionAddress("glProgramUniformMatrix2x3fvEXT");
-        glProgramUniformMatrix3x2fvEXT = provider.getFunctionAddress("glProgramUniformMatrix3x2fvEXT");
-        glProgramUniformMatrix2x4fvEXT = provider.getFunctionAddress("glProgramUniformMatrix2x4fvEXT");
-        glProgramUniformMatrix4x2fvEXT = provider.getFunctionAddress("glProgramUniformMatrix4x2fvEXT");
-        glProgramUniformMatrix3x4fvEXT = provider.getFunctionAddress("glProgramUniformMatrix3x4fvEXT");
-        glProgramUniformMatrix4x3fvEXT = provider.getFunctionAddress("glProgramUniformMatrix4x3fvEXT");
-        glFramebufferFetchBarrierEXT = provider.getFunctionAddress("glFramebufferFetchBarrierEXT");
-        glFramebufferPixelLocalStorageSizeEXT = provider.getFunctionAddress("glFramebufferPixelLocalStorageSizeEXT");
-        glGetFramebufferPixelLocalStorageSizeEXT = provider.getFunctionAddress("glGetFramebufferPixelLocalStorageSizeEXT");
-        glClearPixelLocalStorageuiEXT = provider.getFunctionAddress("glClearPixelLocalStorageuiEXT");
-        glTexPageCommitmentARB = provider.getFunctionAddress("glTexPageCommitmentARB");
-        glPatchParameteriEXT = provider.getFunctionAddress("glPatchParameteriEXT");
-        glTexParameterIivEXT = provider.getFunctionAddress("glTexParameterIivEXT");
-        glTexParameterIuivEXT = provider.getFunctionAddress("glTexParameterIuivEXT");
-        glGetTexParameterIivEXT = provider.getFunctionAddress("glGetTexParameterIivEXT");
-        glGetTexParameterIuivEXT = provider.getFunctionAddress("glGetTexParameterIuivEXT");
-        glSamplerParameterIivEXT = provider.getFunctionAddress("glSamplerParameterIivEXT");
-        glSamplerParameterIuivEXT = provider.getFunctionAddress("glSamplerParameterIuivEXT");
-        glGetSamplerParameterIivEXT = provider.getFunctionAddress("glGetSamplerParameterIivEXT");
-        glGetSamplerParameterIuivEXT = provider.getFunctionAddress("glGetSamplerParameterIuivEXT");
-        glTexBufferEXT = provider.getFunctionAddress("glTexBufferEXT");
-        glTexBufferRangeEXT = provider.getFunctionAddress("glTexBufferRangeEXT");
-        glTexStorage1DEXT = provider.getFunctionAddress("glTexStorage1DEXT");
-        glTexStorage2DEXT = provider.getFunctionAddress("glTexStorage2DEXT");
-        glTexStorage3DEXT = provider.getFunctionAddress("glTexStorage3DEXT");
-        glTextureStorage1DEXT = provider.getFunctionAddress("glTextureStorage1DEXT");
-        glTextureStorage2DEXT = provider.getFunctionAddress("glTextureStorage2DEXT");
-        glTextureStorage3DEXT = provider.getFunctionAddress("glTextureStorage3DEXT");
-        glTextureViewEXT = provider.getFunctionAddress("glTextureViewEXT");
-        glAcquireKeyedMutexWin32EXT = provider.getFunctionAddress("glAcquireKeyedMutexWin32EXT");
-        glReleaseKeyedMutexWin32EXT = provider.getFunctionAddress("glReleaseKeyedMutexWin32EXT");
-        glWindowRectanglesEXT = provider.getFunctionAddress("glWindowRectanglesEXT");
-        glFramebufferTexture2DDownsampleIMG = provider.getFunctionAddress("glFramebufferTexture2DDownsampleIMG");
-        glFramebufferTextureLayerDownsampleIMG = provider.getFunctionAddress("glFramebufferTextureLayerDownsampleIMG");
-        glRenderbufferStorageMultisampleIMG = provider.getFunctionAddress("glRenderbufferStorageMultisampleIMG");
-        glFramebufferTexture2DMultisampleIMG = provider.getFunctionAddress("glFramebufferTexture2DMultisampleIMG");
-        glApplyFramebufferAttachmentCMAAINTEL = provider.getFunctionAddress("glApplyFramebufferAttachmentCMAAINTEL");
-        glBeginPerfQueryINTEL = provider.getFunctionAddress("glBeginPerfQueryINTEL");
-        glCreatePerfQueryINTEL = provider.getFunctionAddress("glCreatePerfQueryINTEL");
-        glDeletePerfQueryINTEL = provider.getFunctionAddress("glDeletePerfQueryINTEL");
-        glEndPerfQueryINTEL = provider.getFunctionAddress("glEndPerfQueryINTEL");
-        glGetFirstPerfQueryIdINTEL = provider.getFunctionAddress("glGetFirstPerfQueryIdINTEL");
-        glGetNextPerfQueryIdINTEL = provider.getFunctionAddress("glGetNextPerfQueryIdINTEL");
-        glGetPerfCounterInfoINTEL = provider.getFunctionAddress("glGetPerfCounterInfoINTEL");
-        glGetPerfQueryDataINTEL = provider.getFunctionAddress("glGetPerfQueryDataINTEL");
-        glGetPerfQueryIdByNameINTEL = provider.getFunctionAddress("glGetPerfQueryIdByNameINTEL");
-        glGetPerfQueryInfoINTEL = provider.getFunctionAddress("glGetPerfQueryInfoINTEL");
-        glBlendBarrierKHR = provider.getFunctionAddress("glBlendBarrierKHR");
-        glDebugMessageControlKHR = provider.getFunctionAddress("glDebugMessageControlKHR");
-        glDebugMessageInsertKHR = provider.getFunctionAddress("glDebugMessageInsertKHR");
-        glDebugMessageCallbackKHR = provider.getFunctionAddress("glDebugMessageCallbackKHR");
-        glGetDebugMessageLogKHR = provider.getFunctionAddress("glGetDebugMessageLogKHR");
-        glGetPointervKHR = provider.getFunctionAddress("glGetPointervKHR");
-        glPushDebugGroupKHR = provider.getFunctionAddress("glPushDebugGroupKHR");
-        glPopDebugGroupKHR = provider.getFunctionAddress("glPopDebugGroupKHR");
-        glObjectLabelKHR = provider.getFunctionAddress("glObjectLabelKHR");
-        glGetObjectLabelKHR = provider.getFunctionAddress("glGetObjectLabelKHR");
-        glObjectPtrLabelKHR = provider.getFunctionAddress("glObjectPtrLabelKHR");
-        glGetObjectPtrLabelKHR = provider.getFunctionAddress("glGetObjectPtrLabelKHR");
-        glMaxShaderCompilerThreadsKHR = provider.getFunctionAddress("glMaxShaderCompilerThreadsKHR");
-        glGetGraphicsResetStatusKHR = provider.getFunctionAddress("glGetGraphicsResetStatusKHR");
-        glReadnPixelsKHR = provider.getFunctionAddress("glReadnPixelsKHR");
-        glGetnUniformfvKHR = provider.getFunctionAddress("glGetnUniformfvKHR");
-        glGetnUniformivKHR = provider.getFunctionAddress("glGetnUniformivKHR");
-        glGetnUniformuivKHR = provider.getFunctionAddress("glGetnUniformuivKHR");
-        glAlphaToCoverageDitherControlNV = provider.getFunctionAddress("glAlphaToCoverageDitherControlNV");
-        glGetTextureHandleNV = provider.getFunctionAddress("glGetTextureHandleNV");
-        glGetTextureSamplerHandleNV = provider.getFunctionAddress("glGetTextureSamplerHandleNV");
-        glMakeTextureHandleResidentNV = provider.getFunctionAddress("glMakeTextureHandleResidentNV");
-        glMakeTextureHandleNonResidentNV = provider.getFunctionAddress("glMakeTextureHandleNonResidentNV");
-        glGetImageHandleNV = provider.getFunctionAddress("glGetImageHandleNV");
-        glMakeImageHandleResidentNV = provider.getFunctionAddress("glMakeImageHandleResidentNV");
-        glMakeImageHandleNonResidentNV = provider.getFunctionAddress("glMakeImageHandleNonResidentNV");
-        glUniformHandleui64NV = provider.getFunctionAddress("glUniformHandleui64NV");
-        glUniformHandleui64vNV = provider.getFunctionAddress("glUniformHandleui64vNV");
-        glProgramUniformHandleui64NV = provider.getFunctionAddress("glProgramUniformHandleui64NV");
-        glProgramUniformHandleui64vNV = provider.getFunctionAddress("glProgramUniformHandleui64vNV");
-        glIsTextureHandleResidentNV = provider.getFunctionAddress("glIsTextureHandleResidentNV");
-        glIsImageHandleResidentNV = provider.getFunctionAddress("glIsImageHandleResidentNV");
-        glBlendParameteriNV = provider.getFunctionAddress("glBlendParameteriNV");
-        glBlendBarrierNV = provider.getFunctionAddress("glBlendBarrierNV");
-        glViewportPositionWScaleNV = provider.getFunctionAddress("glViewportPositionWScaleNV");
-        glBeginConditionalRenderNV = provider.getFunctionAddress("glBeginConditionalRenderNV");
-        glEndConditionalRenderNV = provider.getFunctionAddress("glEndConditionalRenderNV");
-        glSubpixelPrecisionBiasNV = provider.getFunctionAddress("glSubpixelPrecisionBiasNV");
-        glConservativeRasterParameteriNV = provider.getFunctionAddress("glConservativeRasterParameteriNV");
-        glCopyBufferSubDataNV = provider.getFunctionAddress("glCopyBufferSubDataNV");
-        glCoverageMaskNV = provider.getFunctionAddress("glCoverageMaskNV");
-        glCoverageOperationNV = provider.getFunctionAddress("glCoverageOperationNV");
-        glDrawBuffersNV = provider.getFunctionAddress("glDrawBuffersNV");
-        glDrawArraysInstancedNV = provider.getFunctionAddress("glDrawArraysInstancedNV");
-        glDrawElementsInstancedNV = provider.getFunctionAddress("glDrawElementsInstancedNV");
-        glDrawVkImageNV = provider.getFunctionAddress("glDrawVkImageNV");
-        glGetVkProcAddrNV = provider.getFunctionAddress("glGetVkProcAddrNV");
-        glWaitVkSemaphoreNV = provider.getFunctionAddress("glWaitVkSemaphoreNV");
-        glSignalVkSemaphoreNV = provider.getFunctionAddress("glSignalVkSemaphoreNV");
-        glSignalVkFenceNV = provider.getFunctionAddress("glSignalVkFenceNV");
-        glDeleteFencesNV = provider.getFunctionAddress("glDeleteFencesNV");
-        glGenFencesNV = provider.getFunctionAddress("glGenFencesNV");
-        glIsFenceNV = provider.getFunctionAddress("glIsFenceNV");
-        glTestFenceNV = provider.getFunctionAddress("glTestFenceNV");
-        glGetFenceivNV = provider.getFunctionAddress("glGetFenceivNV");
-        glFinishFenceNV = provider.getFunctionAddress("glFinishFenceNV");
-        glSetFenceNV = provider.getFunctionAddress("glSetFenceNV");
-        glFragmentCoverageColorNV = provider.getFunctionAddress("glFragmentCoverageColorNV");
-        glBlitFramebufferNV = provider.getFunctionAddress("glBlitFramebufferNV");
-        glCoverageModulationTableNV = provider.getFunctionAddress("glCoverageModulationTableNV");
-        glGetCoverageModulationTableNV = provider.getFunctionAddress("glGetCoverageModulationTableNV");
-        glCoverageModulationNV = provider.getFunctionAddress("glCoverageModulationNV");
-        glRenderbufferStorageMultisampleNV = provider.getFunctionAddress("glRenderbufferStorageMultisampleNV");
-        glUniform1i64NV = provider.getFunctionAddress("glUniform1i64NV");
-        glUniform2i64NV = provider.getFunctionAddress("glUniform2i64NV");
-        glUniform3i64NV = provider.getFunctionAddress("glUniform3i64NV");
-        glUniform4i64NV = provider.getFunctionAddress("glUniform4i64NV");
-        glUniform1i64vNV = provider.getFunctionAddress("glUniform1i64vNV");
-        glUniform2i64vNV = provider.getFunctionAddress("glUniform2i64vNV");
-        glUniform3i64vNV = provider.getFunctionAddress("glUniform3i64vNV");
-        glUniform4i64vNV = provider.getFunctionAddress("glUniform4i64vNV");
-        glUniform1ui64NV = provider.getFunctionAddress("glUniform1ui64NV");
-        glUniform2ui64NV = provider.getFunctionAddress("glUniform2ui64NV");
-        glUniform3ui64NV = provider.getFunctionAddress("glUniform3ui64NV");
-        glUniform4ui64NV = provider.getFunctionAddress("glUniform4ui64NV");
-        glUniform1ui64vNV = provider.getFunctionAddress("glUniform1ui64vNV");
-        glUniform2ui64vNV = provider.getFunctionAddress("glUniform2ui64vNV");
-        glUniform3ui64vNV = provider.getFunctionAddress("glUniform3ui64vNV");
-        glUniform4ui64vNV = provider.getFunctionAddress("glUniform4ui64vNV");
-        glGetUniformi64vNV = provider.getFunctionAddress("glGetUniformi64vNV");
-        glGetUniformui64vNV = provider.getFunctionAddress("glGetUniformui64vNV");
-        glProgramUniform1i64NV = provider.getFunctionAddress("glProgramUniform1i64NV");
-        glProgramUniform2i64NV = provider.getFunctionAddress("glProgramUniform2i64NV");
-        glProgramUniform3i64NV = provider.getFunctionAddress("glProgramUniform3i64NV");
-        glProgramUniform4i64NV = provider.getFunctionAddress("glProgramUniform4i64NV");
-        glProgramUniform1i64vNV = provider.getFunctionAddress("glProgramUniform1i64vNV");
-        glProgramUniform2i64vNV = provider.getFunctionAddress("glProgramUniform2i64vNV");
-        glProgramUniform3i64vNV = provider.getFunctionAddress("glProgramUniform3i64vNV");
-        glProgramUniform4i64vNV = provider.getFunctionAddress("glProgramUniform4i64vNV");
-        glProgramUniform1ui64NV = provider.getFunctionAddress("glProgramUniform1ui64NV");
-        glProgramUniform2ui64NV = provider.getFunctionAddress("glProgramUniform2ui64NV");
-        glProgramUniform3ui64NV = provider.getFunctionAddress("glProgramUniform3ui64NV");
-        glProgramUniform4ui64NV = provider.getFunctionAddress("glProgramUniform4ui64NV");
-        glProgramUniform1ui64vNV = provider.getFunctionAddress("glProgramUniform1ui64vNV");
-        glProgramUniform2ui64vNV = provider.getFunctionAddress("glProgramUniform2ui64vNV");
-        glProgramUniform3ui64vNV = provider.getFunctionAddress("glProgramUniform3ui64vNV");
-        glProgramUniform4ui64vNV = provider.getFunctionAddress("glProgramUniform4ui64vNV");
-        glVertexAttribDivisorNV = provider.getFunctionAddress("glVertexAttribDivisorNV");
-        glGetInternalformatSampleivNV = provider.getFunctionAddress("glGetInternalformatSampleivNV");
-        glGetMemoryObjectDetachedResourcesuivNV = provider.getFunctionAddress("glGetMemoryObjectDetachedResourcesuivNV");
-        glResetMemoryObjectParameterNV = provider.getFunctionAddress("glResetMemoryObjectParameterNV");
-        glTexAttachMemoryNV = provider.getFunctionAddress("glTexAttachMemoryNV");
-        glBufferAttachMemoryNV = provider.getFunctionAddress("glBufferAttachMemoryNV");
-        glTextureAttachMemoryNV = provider.getFunctionAddress("glTextureAttachMemoryNV");
-        glNamedBufferAttachMemoryNV = provider.getFunctionAddress("glNamedBufferAttachMemoryNV");
-        glDrawMeshTasksNV = provider.getFunctionAddress("glDrawMeshTasksNV");
-        glDrawMeshTasksIndirectNV = provider.getFunctionAddress("glDrawMeshTasksIndirectNV");
-        glMultiDrawMeshTasksIndirectNV = provider.getFunctionAddress("glMultiDrawMeshTasksIndirectNV");
-        glUniformMatrix2x3fvNV = provider.getFunctionAddress("glUniformMatrix2x3fvNV");
-        glUniformMatrix3x2fvNV = provider.getFunctionAddress("glUniformMatrix3x2fvNV");
-        glUniformMatrix2x4fvNV = provider.getFunctionAddress("glUniformMatrix2x4fvNV");
-        glUniformMatrix4x2fvNV = provider.getFunctionAddress("glUniformMatrix4x2fvNV");
-        glUniformMatrix3x4fvNV = provider.getFunctionAddress("glUniformMatrix3x4fvNV");
-        glUniformMatrix4x3fvNV = provider.getFunctionAddress("glUniformMatrix4x3fvNV");
-        glPathCommandsNV = provider.getFunctionAddress("glPathCommandsNV");
-        glPathCoordsNV = provider.getFunctionAddress("glPathCoordsNV");
-        glPathSubCommandsNV = provider.getFunctionAddress("glPathSubCommandsNV");
-        glPathSubCoordsNV = provider.getFunctionAddress("glPathSubCoordsNV");
-        glPathStringNV = provider.getFunctionAddress("glPathStringNV");
-        glPathGlyphsNV = provider.getFunctionAddress("glPathGlyphsNV");
-        glPathGlyphRangeNV = provider.getFunctionAddress("glPathGlyphRangeNV");
-        glPathGlyphIndexArrayNV = provider.getFunctionAddress("glPathGlyphIndexArrayNV");
-        glPathMemoryGlyphIndexArrayNV = provider.getFunctionAddress("glPathMemoryGlyphIndexArrayNV");
-        glCopyPathNV = provider.getFunctionAddress("glCopyPathNV");
-        glWeightPathsNV = provider.getFunctionAddress("glWeightPathsNV");
-        glInterpolatePathsNV = provider.getFunctionAddress("glInterpolatePathsNV");
-        glTransformPathNV = provider.getFunctionAddress("glTransformPathNV");
-        glPathParameterivNV = provider.getFunctionAddress("glPathParameterivNV");
-        glPathParameteriNV = provider.getFunctionAddress("glPathParameteriNV");
-        glPathParameterfvNV = provider.getFunctionAddress("glPathParameterfvNV");
-        glPathParameterfNV = provider.getFunctionAddress("glPathParameterfNV");
-        glPathDashArrayNV = provider.getFunctionAddress("glPathDashArrayNV");
-        glGenPathsNV = provider.getFunctionAddress("glGenPathsNV");
-        glDeletePathsNV = provider.getFunctionAddress("glDeletePathsNV");
-        glIsPathNV = provider.getFunctionAddress("glIsPathNV");
-        glPathStencilFuncNV = provider.getFunctionAddress("glPathStencilFuncNV");
-        glPathStencilDepthOffsetNV = provider.getFunctionAddress("glPathStencilDepthOffsetNV");
-        glStencilFillPathNV = provider.getFunctionAddress("glStencilFillPathNV");
-        glStencilStrokePathNV = provider.getFunctionAddress("glStencilStrokePathNV");
-        glStencilFillPathInstancedNV = provider.getFunctionAddress("glStencilFillPathInstancedNV");
-        glStencilStrokePathInstancedNV = provider.getFunctionAddress("glStencilStrokePathInstancedNV");
-        glPathCoverDepthFuncNV = provider.getFunctionAddress("glPathCoverDepthFuncNV");
-        glCoverFillPathNV = provider.getFunctionAddress("glCoverFillPathNV");
-        glCoverStrokePathNV = provider.getFunctionAddress("glCoverStrokePathNV");
-        glCoverFillPathInstancedNV = provider.getFunctionAddress("glCoverFillPathInstancedNV");
-        glCoverStrokePathInstancedNV = provider.getFunctionAddress("glCoverStrokePathInstancedNV");
-        glStencilThenCoverFillPathNV = provider.getFunctionAddress("glStencilThenCoverFillPathNV");
-        glStencilThenCoverStrokePathNV = provider.getFunctionAddress("glStencilThenCoverStrokePathNV");
-        glStencilThenCoverFillPathInstancedNV = provider.getFunctionAddress("glStencilThenCoverFillPathInstancedNV");
-        glStencilThenCoverStrokePathInstancedNV = provider.getFunctionAddress("glStencilThenCoverStrokePathInstancedNV");
-        glPathGlyphIndexRangeNV = provider.getFunctionAddress("glPathGlyphIndexRangeNV");
-        glProgramPathFragmentInputGenNV = provider.getFunctionAddress("glProgramPathFragmentInputGenNV");
-        glGetPathParameterivNV = provider.getFunctionAddress("glGetPathParameterivNV");
-        glGetPathParameterfvNV = provider.getFunctionAddress("glGetPathParameterfvNV");
-        glGetPathCommandsNV = provider.getFunctionAddress("glGetPathCommandsNV");
-        glGetPathCoordsNV = provider.getFunctionAddress("glGetPathCoordsNV");
-        glGetPathDashArrayNV = provider.getFunctionAddress("glGetPathDashArrayNV");
-        glGetPathMetricsNV = provider.getFunctionAddress("glGetPathMetricsNV");
-        glGetPathMetricRangeNV = provider.getFunctionAddress("glGetPathMetricRangeNV");
-        glGetPathSpacingNV = provider.getFunctionAddress("glGetPathSpacingNV");
-        glIsPointInFillPathNV = provider.getFunctionAddress("glIsPointInFillPathNV");
-        glIsPointInStrokePathNV = provider.getFunctionAddress("glIsPointInStrokePathNV");
-        glGetPathLengthNV = provider.getFunctionAddress("glGetPathLengthNV");
-        glPointAlongPathNV = provider.getFunctionAddress("glPointAlongPathNV");
-        glMatrixLoad3x2fNV = provider.getFunctionAddress("glMatrixLoad3x2fNV");
-        glMatrixLoad3x3fNV = provider.getFunctionAddress("glMatrixLoad3x3fNV");
-        glMatrixLoadTranspose3x3fNV = provider.getFunctionAddress("glMatrixLoadTranspose3x3fNV");
-        glMatrixMult3x2fNV = provider.getFunctionAddress("glMatrixMult3x2fNV");
-        glMatrixMult3x3fNV = provider.getFunctionAddress("glMatrixMult3x3fNV");
-        glMatrixMultTranspose3x3fNV = provider.getFunctionAddress("glMatrixMultTranspose3x3fNV");
-        glGetProgramResourcefvNV = provider.getFunctionAddress("glGetProgramResourcefvNV");
-        glPolygonModeNV = provider.getFunctionAddress("glPolygonModeNV");
-        glReadBufferNV = provider.getFunctionAddress("glReadBufferNV");
-        glFramebufferSampleLocationsfvNV = provider.getFunctionAddress("glFramebufferSampleLocationsfvNV");
-        glNamedFramebufferSampleLocationsfvNV = provider.getFunctionAddress("glNamedFramebufferSampleLocationsfvNV");
-        glResolveDepthValuesNV = provider.getFunctionAddress("glResolveDepthValuesNV");
-        glScissorExclusiveArrayvNV = provider.getFunctionAddress("glScissorExclusiveArrayvNV");
-        glScissorExclusiveNV = provider.getFunctionAddress("glScissorExclusiveNV");
-        glTexImage3DNV = provider.getFunctionAddress("glTexImage3DNV");
-        glTexSubImage3DNV = provider.getFunctionAddress("glTexSubImage3DNV");
-        glCopyTexSubImage3DNV = provider.getFunctionAddress("glCopyTexSubImage3DNV");
-        glCompressedTexImage3DNV = provider.getFunctionAddress("glCompressedTexImage3DNV");
-        glCompressedTexSubImage3DNV = provider.getFunctionAddress("glCompressedTexSubImage3DNV");
-        glFramebufferTextureLayerNV = provider.getFunctionAddress("glFramebufferTextureLayerNV");
-        glTextureBarrierNV = provider.getFunctionAddress("glTextureBarrierNV");
-        glViewportArrayvNV = provider.getFunctionAddress("glViewportArrayvNV");
-        glViewportIndexedfNV = provider.getFunctionAddress("glViewportIndexedfNV");
-        glViewportIndexedfvNV = provider.getFunctionAddress("glViewportIndexedfvNV");
-        glScissorArrayvNV = provider.getFunctionAddress("glScissorArrayvNV");
-        glScissorIndexedNV = provider.getFunctionAddress("glScissorIndexedNV");
-        glScissorIndexedvNV = provider.getFunctionAddress("glScissorIndexedvNV");
-        glDepthRangeArrayfvNV = provider.getFunctionAddress("glDepthRangeArrayfvNV");
-        glDepthRangeIndexedfNV = provider.getFunctionAddress("glDepthRangeIndexedfNV");
-        glGetFloati_vNV = provider.getFunctionAddress("glGetFloati_vNV");
-        glEnableiNV = provider.getFunctionAddress("glEnableiNV");
-        glDisableiNV = provider.getFunctionAddress("glDisableiNV");
-        glIsEnablediNV = provider.getFunctionAddress("glIsEnablediNV");
-        glViewportSwizzleNV = provider.getFunctionAddress("glViewportSwizzleNV");
-        glCopyImageSubDataOES = provider.getFunctionAddress("glCopyImageSubDataOES");
-        glEnableiOES = provider.getFunctionAddress("glEnableiOES");
-        glDisableiOES = provider.getFunctionAddress("glDisableiOES");
-        glBlendEquationiOES = provider.getFunctionAddress("glBlendEquationiOES");
-        glBlendEquationSeparateiOES = provider.getFunctionAddress("glBlendEquationSeparateiOES");
-        glBlendFunciOES = provider.getFunctionAddress("glBlendFunciOES");
-        glBlendFuncSeparateiOES = provider.getFunctionAddress("glBlendFuncSeparateiOES");
-        glColorMaskiOES = provider.getFunctionAddress("glColorMaskiOES");
-        glIsEnablediOES = provider.getFunctionAddress("glIsEnablediOES");
-        glDrawElementsBaseVertexOES = provider.getFunctionAddress("glDrawElementsBaseVertexOES");
-        glDrawRangeElementsBaseVertexOES = provider.getFunctionAddress("glDrawRangeElementsBaseVertexOES");
-        glDrawElementsInstancedBaseVertexOES = provider.getFunctionAddress("glDrawElementsInstancedBaseVertexOES");
-        glMultiDrawElementsBaseVertexOES = provider.getFunctionAddress("glMultiDrawElementsBaseVertexOES");
-        glEGLImageTargetTexture2DOES = provider.getFunctionAddress("glEGLImageTargetTexture2DOES");
-        glEGLImageTargetRenderbufferStorageOES = provider.getFunctionAddress("glEGLImageTargetRenderbufferStorageOES");
-        glFramebufferTextureOES = provider.getFunctionAddress("glFramebufferTextureOES");
-        glGetProgramBinaryOES = provider.getFunctionAddress("glGetProgramBinaryOES");
-        glProgramBinaryOES = provider.getFunctionAddress("glProgramBinaryOES");
-        glMapBufferOES = provider.getFunctionAddress("glMapBufferOES");
-        glUnmapBufferOES = provider.getFunctionAddress("glUnmapBufferOES");
-        glGetBufferPointervOES = provider.getFunctionAddress("glGetBufferPointervOES");
-        glPrimitiveBoundingBoxOES = provider.getFunctionAddress("glPrimitiveBoundingBoxOES");
-        glMinSampleShadingOES = provider.getFunctionAddress("glMinSampleShadingOES");
-        glPatchParameteriOES = provider.getFunctionAddress("glPatchParameteriOES");
-        glTexImage3DOES = provider.getFunctionAddress("glTexImage3DOES");
-        glTexSubImage3DOES = provider.getFunctionAddress("glTexSubImage3DOES");
-        glCopyTexSubImage3DOES = provider.getFunctionAddress("glCopyTexSubImage3DOES");
-        glCompressedTexImage3DOES = provider.getFunctionAddress("glCompressedTexImage3DOES");
-        glCompressedTexSubImage3DOES = provider.getFunctionAddress("glCompressedTexSubImage3DOES");
-        glFramebufferTexture3DOES = provider.getFunctionAddress("glFramebufferTexture3DOES");
-        glTexParameterIivOES = provider.getFunctionAddress("glTexParameterIivOES");
-        glTexParameterIuivOES = provider.getFunctionAddress("glTexParameterIuivOES");
-        glGetTexParameterIivOES = provider.getFunctionAddress("glGetTexParameterIivOES");
-        glGetTexParameterIuivOES = provider.getFunctionAddress("glGetTexParameterIuivOES");
-        glSamplerParameterIivOES = provider.getFunctionAddress("glSamplerParameterIivOES");
-        glSamplerParameterIuivOES = provider.getFunctionAddress("glSamplerParameterIuivOES");
-        glGetSamplerParameterIivOES = provider.getFunctionAddress("glGetSamplerParameterIivOES");
-        glGetSamplerParameterIuivOES = provider.getFunctionAddress("glGetSamplerParameterIuivOES");
-        glTexBufferOES = provider.getFunctionAddress("glTexBufferOES");
-        glTexBufferRangeOES = provider.getFunctionAddress("glTexBufferRangeOES");
-        glTexStorage3DMultisampleOES = provider.getFunctionAddress("glTexStorage3DMultisampleOES");
-        glTextureViewOES = provider.getFunctionAddress("glTextureViewOES");
-        glBindVertexArrayOES = provider.getFunctionAddress("glBindVertexArrayOES");
-        glDeleteVertexArraysOES = provider.getFunctionAddress("glDeleteVertexArraysOES");
-        glGenVertexArraysOES = provider.getFunctionAddress("glGenVertexArraysOES");
-        glIsVertexArrayOES = provider.getFunctionAddress("glIsVertexArrayOES");
-        glViewportArrayvOES = provider.getFunctionAddress("glViewportArrayvOES");
-        glViewportIndexedfOES = provider.getFunctionAddress("glViewportIndexedfOES");
-        glViewportIndexedfvOES = provider.getFunctionAddress("glViewportIndexedfvOES");
-        glScissorArrayvOES = provider.getFunctionAddress("glScissorArrayvOES");
-        glScissorIndexedOES = provider.getFunctionAddress("glScissorIndexedOES");
-        glScissorIndexedvOES = provider.getFunctionAddress("glScissorIndexedvOES");
-        glDepthRangeArrayfvOES = provider.getFunctionAddress("glDepthRangeArrayfvOES");
-        glDepthRangeIndexedfOES = provider.getFunctionAddress("glDepthRangeIndexedfOES");
-        glGetFloati_vOES = provider.getFunctionAddress("glGetFloati_vOES");
-        glFramebufferTextureMultiviewOVR = provider.getFunctionAddress("glFramebufferTextureMultiviewOVR");
-        glFramebufferTextureMultisampleMultiviewOVR = provider.getFunctionAddress("glFramebufferTextureMultisampleMultiviewOVR");
-        glAlphaFuncQCOM = provider.getFunctionAddress("glAlphaFuncQCOM");
-        glGetDriverControlsQCOM = provider.getFunctionAddress("glGetDriverControlsQCOM");
-        glGetDriverControlStringQCOM = provider.getFunctionAddress("glGetDriverControlStringQCOM");
-        glEnableDriverControlQCOM = provider.getFunctionAddress("glEnableDriverControlQCOM");
-        glDisableDriverControlQCOM = provider.getFunctionAddress("glDisableDriverControlQCOM");
-        glExtGetTexturesQCOM = provider.getFunctionAddress("glExtGetTexturesQCOM");
-        glExtGetBuffersQCOM = provider.getFunctionAddress("glExtGetBuffersQCOM");
-        glExtGetRenderbuffersQCOM = provider.getFunctionAddress("glExtGetRenderbuffersQCOM");
-        glExtGetFramebuffersQCOM = provider.getFunctionAddress("glExtGetFramebuffersQCOM");
-        glExtGetTexLevelParameterivQCOM = provider.getFunctionAddress("glExtGetTexLevelParameterivQCOM");
-        glExtTexObjectStateOverrideiQCOM = provider.getFunctionAddress("glExtTexObjectStateOverrideiQCOM");
-        glExtGetTexSubImageQCOM = provider.getFunctionAddress("glExtGetTexSubImageQCOM");
-        glExtGetBufferPointervQCOM = provider.getFunctionAddress("glExtGetBufferPointervQCOM");
-        glExtGetShadersQCOM = provider.getFunctionAddress("glExtGetShadersQCOM");
-        glExtGetProgramsQCOM = provider.getFunctionAddress("glExtGetProgramsQCOM");
-        glExtIsProgramBinaryQCOM = provider.getFunctionAddress("glExtIsProgramBinaryQCOM");
-        glExtGetProgramBinarySourceQCOM = provider.getFunctionAddress("glExtGetProgramBinarySourceQCOM");
-        glFramebufferFoveationConfigQCOM = provider.getFunctionAddress("glFramebufferFoveationConfigQCOM");
-        glFramebufferFoveationParametersQCOM = provider.getFunctionAddress("glFramebufferFoveationParametersQCOM");
-        glFramebufferFetchBarrierQCOM = provider.getFunctionAddress("glFramebufferFetchBarrierQCOM");
-        glTextureFoveationParametersQCOM = provider.getFunctionAddress("glTextureFoveationParametersQCOM");
-        glStartTilingQCOM = provider.getFunctionAddress("glStartTilingQCOM");
-        glEndTilingQCOM = provider.getFunctionAddress("glEndTilingQCOM");
+        boolean resolveAll = !Configuration.OPENGLES_RESOLVE_SUPPORTED_ONLY.get(false);
+
+        boolean[] resolve = new boolean[851];
+        Arrays.fill(resolve, 0, 142, true);
+        Arrays.fill(resolve, 142, 246, resolveAll || ext.contains("GLES30"));
+        Arrays.fill(resolve, 246, 314, resolveAll || ext.contains("GLES31"));
+        Arrays.fill(resolve, 314, 358, resolveAll || ext.contains("GLES32"));
+        Arrays.fill(resolve, 358, 360, resolveAll || ext.contains("GL_AMD_framebuffer_multisample_advanced"));
+        Arrays.fill(resolve, 360, 371, resolveAll || ext.contains("GL_AMD_performance_monitor"));
+        Arrays.fill(resolve, 371, 372, resolveAll || ext.contains("GL_ANGLE_framebuffer_blit"));
+        Arrays.fill(resolve, 372, 373, resolveAll || ext.contains("GL_ANGLE_framebuffer_multisample"));
+        Arrays.fill(resolve, 373, 376, resolveAll || ext.contains("GL_ANGLE_instanced_arrays"));
+        Arrays.fill(resolve, 376, 377, resolveAll || ext.contains("GL_ANGLE_translated_shader_source"));
+        Arrays.fill(resolve, 377, 378, resolveAll || ext.contains("GL_APPLE_copy_texture_levels"));
+        Arrays.fill(resolve, 378, 380, resolveAll || ext.contains("GL_APPLE_framebuffer_multisample"));
+        Arrays.fill(resolve, 380, 387, resolveAll || ext.contains("GL_APPLE_sync"));
+        Arrays.fill(resolve, 387, 390, resolveAll || ext.contains("GL_EXT_base_instance"));
+        Arrays.fill(resolve, 390, 394, resolveAll || ext.contains("GL_EXT_blend_func_extended"));
+        Arrays.fill(resolve, 394, 396, resolveAll || ext.contains("GL_EXT_buffer_storage"));
+        Arrays.fill(resolve, 396, 398, resolveAll || ext.contains("GL_EXT_clear_texture"));
+        Arrays.fill(resolve, 398, 399, resolveAll || ext.contains("GL_EXT_clip_control"));
+        Arrays.fill(resolve, 399, 400, resolveAll || ext.contains("GL_EXT_copy_image"));
+        Arrays.fill(resolve, 400, 402, resolveAll || ext.contains("GL_EXT_debug_label"));
+        Arrays.fill(resolve, 402, 405, resolveAll || ext.contains("GL_EXT_debug_marker"));
+        Arrays.fill(resolve, 405, 406, resolveAll || ext.contains("GL_EXT_discard_framebuffer"));
+        Arrays.fill(resolve, 406, 410, resolveAll || ext.contains("GL_EXT_disjoint_timer_query"));
+        Arrays.fill(resolve, 410, 411, resolveAll || ext.contains("GL_EXT_draw_buffers"));
+        Arrays.fill(resolve, 411, 419, resolveAll || ext.contains("GL_EXT_draw_buffers_indexed"));
+        Arrays.fill(resolve, 419, 423, resolveAll || ext.contains("GL_EXT_draw_elements_base_vertex"));
+        Arrays.fill(resolve, 423, 425, resolveAll || ext.contains("GL_EXT_draw_transform_feedback"));
+        Arrays.fill(resolve, 425, 427, resolveAll || ext.contains("GL_EXT_EGL_image_storage"));
+        Arrays.fill(resolve, 427, 429, resolveAll || ext.contains("GL_EXT_external_buffer"));
+        Arrays.fill(resolve, 429, 430, resolveAll || ext.contains("GL_EXT_geometry_shader"));
+        Arrays.fill(resolve, 430, 432, resolveAll || ext.contains("GL_EXT_draw_instanced") || ext.contains("GL_EXT_instanced_arrays"));
+        Arrays.fill(resolve, 432, 433, resolveAll || ext.contains("GL_EXT_instanced_arrays"));
+        Arrays.fill(resolve, 433, 435, resolveAll || ext.contains("GL_EXT_map_buffer_range"));
+        Arrays.fill(resolve, 435, 437, resolveAll || ext.contains("GL_EXT_memory_object") || ext.contains("GL_EXT_semaphore"));
+        Arrays.fill(resolve, 437, 452, resolveAll || ext.contains("GL_EXT_memory_object"));
+        Arrays.fill(resolve, 452, 453, resolveAll || ext.contains("GL_EXT_memory_object_fd"));
+        Arrays.fill(resolve, 453, 455, resolveAll || ext.contains("GL_EXT_memory_object_win32"));
+        Arrays.fill(resolve, 455, 457, resolveAll || ext.contains("GL_EXT_multi_draw_arrays"));
+        Arrays.fill(resolve, 457, 459, resolveAll || ext.contains("GL_EXT_multi_draw_indirect"));
+        Arrays.fill(resolve, 459, 461, resolveAll || ext.contains("GL_EXT_multisampled_render_to_texture"));
+        Arrays.fill(resolve, 461, 464, resolveAll || ext.contains("GL_EXT_multiview_draw_buffers"));
+        Arrays.fill(resolve, 464, 471, resolveAll || ext.contains("GL_EXT_disjoint_timer_query") || ext.contains("GL_EXT_occlusion_query_boolean"));
+        Arrays.fill(resolve, 471, 472, resolveAll || ext.contains("GL_EXT_polygon_offset_clamp"));
+        Arrays.fill(resolve, 472, 473, resolveAll || ext.contains("GL_EXT_primitive_bounding_box"));
+        Arrays.fill(resolve, 473, 474, resolveAll || ext.contains("GL_EXT_raster_multisample") || ext.contains("GL_NV_framebuffer_mixed_samples"));
+        Arrays.fill(resolve, 474, 478, resolveAll || ext.contains("GL_EXT_robustness"));
+        Arrays.fill(resolve, 478, 485, resolveAll || ext.contains("GL_EXT_semaphore"));
+        Arrays.fill(resolve, 485, 486, resolveAll || ext.contains("GL_EXT_semaphore_fd"));
+        Arrays.fill(resolve, 486, 488, resolveAll || ext.contains("GL_EXT_semaphore_win32"));
+        Arrays.fill(resolve, 488, 532, resolveAll || ext.contains("GL_EXT_separate_shader_objects"));
+        Arrays.fill(resolve, 532, 533, resolveAll || ext.contains("GL_EXT_shader_framebuffer_fetch_non_coherent"));
+        Arrays.fill(resolve, 533, 536, resolveAll || ext.contains("GL_EXT_shader_pixel_local_storage2"));
+        Arrays.fill(resolve, 536, 537, resolveAll || ext.contains("GL_EXT_sparse_texture"));
+        Arrays.fill(resolve, 537, 538, resolveAll || ext.contains("GL_EXT_tessellation_shader"));
+        Arrays.fill(resolve, 538, 546, resolveAll || ext.contains("GL_EXT_texture_border_clamp"));
+        Arrays.fill(resolve, 546, 548, resolveAll || ext.contains("GL_EXT_texture_buffer"));
+        Arrays.fill(resolve, 548, 554, resolveAll || ext.contains("GL_EXT_texture_storage"));
+        Arrays.fill(resolve, 554, 555, resolveAll || ext.contains("GL_EXT_texture_view"));
+        Arrays.fill(resolve, 555, 557, resolveAll || ext.contains("GL_EXT_win32_keyed_mutex"));
+        Arrays.fill(resolve, 557, 558, resolveAll || ext.contains("GL_EXT_window_rectangles"));
+        Arrays.fill(resolve, 558, 560, resolveAll || ext.contains("GL_IMG_framebuffer_downsample"));
+        Arrays.fill(resolve, 560, 562, resolveAll || ext.contains("GL_IMG_multisampled_render_to_texture"));
+        Arrays.fill(resolve, 562, 563, resolveAll || ext.contains("GL_INTEL_framebuffer_CMAA"));
+        Arrays.fill(resolve, 563, 573, resolveAll || ext.contains("GL_INTEL_performance_query"));
+        Arrays.fill(resolve, 573, 574, resolveAll || ext.contains("GL_KHR_blend_equation_advanced"));
+        Arrays.fill(resolve, 574, 585, resolveAll || ext.contains("GL_KHR_debug"));
+        Arrays.fill(resolve, 585, 586, resolveAll || ext.contains("GL_KHR_parallel_shader_compile"));
+        Arrays.fill(resolve, 586, 591, resolveAll || ext.contains("GL_KHR_robustness"));
+        Arrays.fill(resolve, 591, 592, resolveAll || ext.contains("GL_NV_alpha_to_coverage_dither_control"));
+        Arrays.fill(resolve, 592, 605, resolveAll || ext.contains("GL_NV_bindless_texture"));
+        Arrays.fill(resolve, 605, 607, resolveAll || ext.contains("GL_NV_blend_equation_advanced"));
+        Arrays.fill(resolve, 607, 608, resolveAll || ext.contains("GL_NV_clip_space_w_scaling"));
+        Arrays.fill(resolve, 608, 610, resolveAll || ext.contains("GL_NV_conditional_render"));
+        Arrays.fill(resolve, 610, 611, resolveAll || ext.contains("GL_NV_conservative_raster"));
+        Arrays.fill(resolve, 611, 612, resolveAll || ext.contains("GL_NV_conservative_raster_pre_snap_triangles"));
+        Arrays.fill(resolve, 612, 613, resolveAll || ext.contains("GL_NV_copy_buffer"));
+        Arrays.fill(resolve, 613, 615, resolveAll || ext.contains("GL_NV_coverage_sample"));
+        Arrays.fill(resolve, 615, 616, resolveAll || ext.contains("GL_NV_draw_buffers"));
+        Arrays.fill(resolve, 616, 618, resolveAll || ext.contains("GL_NV_draw_instanced"));
+        Arrays.fill(resolve, 618, 623, resolveAll || ext.contains("GL_NV_draw_vulkan_image"));
+        Arrays.fill(resolve, 623, 630, resolveAll || ext.contains("GL_NV_fence"));
+        Arrays.fill(resolve, 630, 631, resolveAll || ext.contains("GL_NV_fragment_coverage_to_color"));
+        Arrays.fill(resolve, 631, 632, resolveAll || ext.contains("GL_NV_framebuffer_blit"));
+        Arrays.fill(resolve, 632, 635, resolveAll || ext.contains("GL_NV_framebuffer_mixed_samples"));
+        Arrays.fill(resolve, 635, 636, resolveAll || ext.contains("GL_NV_framebuffer_multisample"));
+        Arrays.fill(resolve, 636, 670, resolveAll || ext.contains("GL_NV_gpu_shader5"));
+        Arrays.fill(resolve, 670, 671, resolveAll || ext.contains("GL_NV_instanced_arrays"));
+        Arrays.fill(resolve, 671, 672, resolveAll || ext.contains("GL_NV_internalformat_sample_query"));
+        Arrays.fill(resolve, 672, 678, resolveAll || ext.contains("GL_NV_memory_attachment"));
+        Arrays.fill(resolve, 678, 681, resolveAll || ext.contains("GL_NV_mesh_shader"));
+        Arrays.fill(resolve, 681, 687, resolveAll || ext.contains("GL_NV_non_square_matrices"));
+        Arrays.fill(resolve, 687, 744, resolveAll || ext.contains("GL_NV_path_rendering"));
+        Arrays.fill(resolve, 744, 745, resolveAll || ext.contains("GL_NV_polygon_mode"));
+        Arrays.fill(resolve, 745, 746, resolveAll || ext.contains("GL_NV_read_buffer"));
+        Arrays.fill(resolve, 746, 749, resolveAll || ext.contains("GL_NV_sample_locations"));
+        Arrays.fill(resolve, 749, 751, resolveAll || ext.contains("GL_NV_scissor_exclusive"));
+        Arrays.fill(resolve, 751, 757, resolveAll || ext.contains("GL_NV_texture_array"));
+        Arrays.fill(resolve, 757, 758, resolveAll || ext.contains("GL_NV_texture_barrier"));
+        Arrays.fill(resolve, 758, 770, resolveAll || ext.contains("GL_NV_viewport_array"));
+        Arrays.fill(resolve, 770, 771, resolveAll || ext.contains("GL_NV_viewport_swizzle"));
+        Arrays.fill(resolve, 771, 772, resolveAll || ext.contains("GL_OES_copy_image"));
+        Arrays.fill(resolve, 772, 774, resolveAll || ext.contains("GL_OES_draw_buffers_indexed") || ext.contains("GL_OES_viewport_array"));
+        Arrays.fill(resolve, 774, 779, resolveAll || ext.contains("GL_OES_draw_buffers_indexed"));
+        Arrays.fill(resolve, 779, 780, resolveAll || ext.contains("GL_OES_draw_buffers_indexed") || ext.contains("GL_OES_viewport_array"));
+        Arrays.fill(resolve, 780, 784, resolveAll || ext.contains("GL_OES_draw_elements_base_vertex"));
+        Arrays.fill(resolve, 784, 786, resolveAll || ext.contains("GL_OES_EGL_image"));
+        Arrays.fill(resolve, 786, 787, resolveAll || ext.contains("GL_OES_geometry_shader"));
+        Arrays.fill(resolve, 787, 789, resolveAll || ext.contains("GL_OES_get_program_binary"));
+        Arrays.fill(resolve, 789, 792, resolveAll || ext.contains("GL_OES_mapbuffer"));
+        Arrays.fill(resolve, 792, 793, resolveAll || ext.contains("GL_OES_primitive_bounding_box"));
+        Arrays.fill(resolve, 793, 794, resolveAll || ext.contains("GL_OES_sample_shading"));
+        Arrays.fill(resolve, 794, 795, resolveAll || ext.contains("GL_OES_tessellation_shader"));
+        Arrays.fill(resolve, 795, 801, resolveAll || ext.contains("GL_OES_texture_3D"));
+        Arrays.fill(resolve, 801, 809, resolveAll || ext.contains("GL_OES_texture_border_clamp"));
+        Arrays.fill(resolve, 809, 811, resolveAll || ext.contains("GL_OES_texture_buffer"));
+        Arrays.fill(resolve, 811, 812, resolveAll || ext.contains("GL_OES_texture_storage_multisample_2d_array"));
+        Arrays.fill(resolve, 812, 813, resolveAll || ext.contains("GL_OES_texture_view"));
+        Arrays.fill(resolve, 813, 817, resolveAll || ext.contains("GL_OES_vertex_array_object"));
+        Arrays.fill(resolve, 817, 826, resolveAll || ext.contains("GL_OES_viewport_array"));
+        Arrays.fill(resolve, 826, 827, resolveAll || ext.contains("GL_OVR_multiview"));
+        Arrays.fill(resolve, 827, 828, resolveAll || ext.contains("GL_OVR_multiview_multisampled_render_to_texture"));
+        Arrays.fill(resolve, 828, 829, resolveAll || ext.contains("GL_QCOM_alpha_test"));
+        Arrays.fill(resolve, 829, 833, resolveAll || ext.contains("GL_QCOM_driver_control"));
+        Arrays.fill(resolve, 833, 841, resolveAll || ext.contains("GL_QCOM_extended_get"));
+        Arrays.fill(resolve, 841, 845, resolveAll || ext.contains("GL_QCOM_extended_get2"));
+        Arrays.fill(resolve, 845, 847, resolveAll || ext.contains("GL_QCOM_framebuffer_foveated"));
+        Arrays.fill(resolve, 847, 848, resolveAll || ext.contains("GL_QCOM_shader_framebuffer_fetch_noncoherent"));
+        Arrays.fill(resolve, 848, 849, resolveAll || ext.contains("GL_QCOM_texture_foveated"));
+        Arrays.fill(resolve, 849, 851, resolveAll || ext.contains("GL_QCOM_tiled_rendering"));
+
+        long[] caps = apiGetFunctionAddresses(provider, FUNCTIONS, resolve);
+
+        glActiveTexture = caps[0];
+        glAttachShader = caps[1];
+        glBindAttribLocation = caps[2];
+        glBindBuffer = caps[3];
+        glBindFramebuffer = caps[4];
+        glBindRenderbuffer = caps[5];
+        glBindTexture = caps[6];
+        glBlendColor = caps[7];
+        glBlendEquation = caps[8];
+        glBlendEquationSeparate = caps[9];
+        glBlendFunc = caps[10];
+        glBlendFuncSeparate = caps[11];
+        glBufferData = caps[12];
+        glBufferSubData = caps[13];
+        glCheckFramebufferStatus = caps[14];
+        glClear = caps[15];
+        glClearColor = caps[16];
+        glClearDepthf = caps[17];
+        glClearStencil = caps[18];
+        glColorMask = caps[19];
+        glCompileShader = caps[20];
+        glCompressedTexImage2D = caps[21];
+        glCompressedTexSubImage2D = caps[22];
+        glCopyTexImage2D = caps[23];
+        glCopyTexSubImage2D = caps[24];
+        glCreateProgram = caps[25];
+        glCreateShader = caps[26];
+        glCullFace = caps[27];
+        glDeleteBuffers = caps[28];
+        glDeleteFramebuffers = caps[29];
+        glDeleteProgram = caps[30];
+        glDeleteRenderbuffers = caps[31];
+        glDeleteShader = caps[32];
+        glDeleteTextures = caps[33];
+        glDepthFunc = caps[34];
+        glDepthMask = caps[35];
+        glDepthRangef = caps[36];
+        glDetachShader = caps[37];
+        glDisable = caps[38];
+        glDisableVertexAttribArray = caps[39];
+        glDrawArrays = caps[40];
+        glDrawElements = caps[41];
+        glEnable = caps[42];
+        glEnableVertexAttribArray = caps[43];
+        glFinish = caps[44];
+        glFlush = caps[45];
+        glFramebufferRenderbuffer = caps[46];
+        glFramebufferTexture2D = caps[47];
+        glFrontFace = caps[48];
+        glGenBuffers = caps[49];
+        glGenerateMipmap = caps[50];
+        glGenFramebuffers = caps[51];
+        glGenRenderbuffers = caps[52];
+        glGenTextures = caps[53];
+        glGetActiveAttrib = caps[54];
+        glGetActiveUniform = caps[55];
+        glGetAttachedShaders = caps[56];
+        glGetAttribLocation = caps[57];
+        glGetBooleanv = caps[58];
+        glGetBufferParameteriv = caps[59];
+        glGetError = caps[60];
+        glGetFloatv = caps[61];
+        glGetFramebufferAttachmentParameteriv = caps[62];
+        glGetIntegerv = caps[63];
+        glGetProgramiv = caps[64];
+        glGetProgramInfoLog = caps[65];
+        glGetRenderbufferParameteriv = caps[66];
+        glGetShaderiv = caps[67];
+        glGetShaderInfoLog = caps[68];
+        glGetShaderPrecisionFormat = caps[69];
+        glGetShaderSource = caps[70];
+        glGetString = caps[71];
+        glGetTexParameterfv = caps[72];
+        glGetTexParameteriv = caps[73];
+        glGetUniformfv = caps[74];
+        glGetUniformiv = caps[75];
+        glGetUniformLocation = caps[76];
+        glGetVertexAttribfv = caps[77];
+        glGetVertexAttribiv = caps[78];
+        glGetVertexAttribPointerv = caps[79];
+        glHint = caps[80];
+        glIsBuffer = caps[81];
+        glIsEnabled = caps[82];
+        glIsFramebuffer = caps[83];
+        glIsProgram = caps[84];
+        glIsRenderbuffer = caps[85];
+        glIsShader = caps[86];
+        glIsTexture = caps[87];
+        glLineWidth = caps[88];
+        glLinkProgram = caps[89];
+        glPixelStorei = caps[90];
+        glPolygonOffset = caps[91];
+        glReadPixels = caps[92];
+        glReleaseShaderCompiler = caps[93];
+        glRenderbufferStorage = caps[94];
+        glSampleCoverage = caps[95];
+        glScissor = caps[96];
+        glShaderBinary = caps[97];
+        glShaderSource = caps[98];
+        glStencilFunc = caps[99];
+        glStencilFuncSeparate = caps[100];
+        glStencilMask = caps[101];
+        glStencilMaskSeparate = caps[102];
+        glStencilOp = caps[103];
+        glStencilOpSeparate = caps[104];
+        glTexImage2D = caps[105];
+        glTexParameterf = caps[106];
+        glTexParameterfv = caps[107];
+        glTexParameteri = caps[108];
+        glTexParameteriv = caps[109];
+        glTexSubImage2D = caps[110];
+        glUniform1f = caps[111];
+        glUniform1fv = caps[112];
+        glUniform1i = caps[113];
+        glUniform1iv = caps[114];
+        glUniform2f = caps[115];
+        glUniform2fv = caps[116];
+        glUniform2i = caps[117];
+        glUniform2iv = caps[118];
+        glUniform3f = caps[119];
+        glUniform3fv = caps[120];
+        glUniform3i = caps[121];
+        glUniform3iv = caps[122];
+        glUniform4f = caps[123];
+        glUniform4fv = caps[124];
+        glUniform4i = caps[125];
+        glUniform4iv = caps[126];
+        glUniformMatrix2fv = caps[127];
+        glUniformMatrix3fv = caps[128];
+        glUniformMatrix4fv = caps[129];
+        glUseProgram = caps[130];
+        glValidateProgram = caps[131];
+        glVertexAttrib1f = caps[132];
+        glVertexAttrib1fv = caps[133];
+        glVertexAttrib2f = caps[134];
+        glVertexAttrib2fv = caps[135];
+        glVertexAttrib3f = caps[136];
+        glVertexAttrib3fv = caps[137];
+        glVertexAttrib4f = caps[138];
+        glVertexAttrib4fv = caps[139];
+        glVertexAttribPointer = caps[140];
+        glViewport = caps[141];
+        glReadBuffer = caps[142];
+        glDrawRangeElements = caps[143];
+        glTexImage3D = caps[144];
+        glTexSubImage3D = caps[145];
+        glCopyTexSubImage3D = caps[146];
+        glCompressedTexImage3D = caps[147];
+        glCompressedTexSubImage3D = caps[148];
+        glGenQueries = caps[149];
+        glDeleteQueries = caps[150];
+        glIsQuery = caps[151];
+        glBeginQuery = caps[152];
+        glEndQuery = caps[153];
+        glGetQueryiv = caps[154];
+        glGetQueryObjectuiv = caps[155];
+        glUnmapBuffer = caps[156];
+        glGetBufferPointerv = caps[157];
+        glDrawBuffers = caps[158];
+        glUniformMatrix2x3fv = caps[159];
+        glUniformMatrix3x2fv = caps[160];
+        glUniformMatrix2x4fv = caps[161];
+        glUniformMatrix4x2fv = caps[162];
+        glUniformMatrix3x4fv = caps[163];
+        glUniformMatrix4x3fv = caps[164];
+        glBlitFramebuffer = caps[165];
+        glRenderbufferStorageMultisample = caps[166];
+        glFramebufferTextureLayer = caps[167];
+        glMapBufferRange = caps[168];
+        glFlushMappedBufferRange = caps[169];
+        glBindVertexArray = caps[170];
+        glDeleteVertexArrays = caps[171];
+        glGenVertexArrays = caps[172];
+        glIsVertexArray = caps[173];
+        glGetIntegeri_v = caps[174];
+        glBeginTransformFeedback = caps[175];
+        glEndTransformFeedback = caps[176];
+        glBindBufferRange = caps[177];
+        glBindBufferBase = caps[178];
+        glTransformFeedbackVaryings = caps[179];
+        glGetTransformFeedbackVarying = caps[180];
+        glVertexAttribIPointer = caps[181];
+        glGetVertexAttribIiv = caps[182];
+        glGetVertexAttribIuiv = caps[183];
+        glVertexAttribI4i = caps[184];
+        glVertexAttribI4ui = caps[185];
+        glVertexAttribI4iv = caps[186];
+        glVertexAttribI4uiv = caps[187];
+        glGetUniformuiv = caps[188];
+        glGetFragDataLocation = caps[189];
+        glUniform1ui = caps[190];
+        glUniform2ui = caps[191];
+        glUniform3ui = caps[192];
+        glUniform4ui = caps[193];
+        glUniform1uiv = caps[194];
+        glUniform2uiv = caps[195];
+        glUniform3uiv = caps[196];
+        glUniform4uiv = caps[197];
+        glClearBufferiv = caps[198];
+        glClearBufferuiv = caps[199];
+        glClearBufferfv = caps[200];
+        glClearBufferfi = caps[201];
+        glGetStringi = caps[202];
+        glCopyBufferSubData = caps[203];
+        glGetUniformIndices = caps[204];
+        glGetActiveUniformsiv = caps[205];
+        glGetUniformBlockIndex = caps[206];
+        glGetActiveUniformBlockiv = caps[207];
+        glGetActiveUniformBlockName = caps[208];
+        glUniformBlockBinding = caps[209];
+        glDrawArraysInstanced = caps[210];
+        glDrawElementsInstanced = caps[211];
+        glFenceSync = caps[212];
+        glIsSync = caps[213];
+        glDeleteSync = caps[214];
+        glClientWaitSync = caps[215];
+        glWaitSync = caps[216];
+        glGetInteger64v = caps[217];
+        glGetSynciv = caps[218];
+        glGetInteger64i_v = caps[219];
+        glGetBufferParameteri64v = caps[220];
+        glGenSamplers = caps[221];
+        glDeleteSamplers = caps[222];
+        glIsSampler = caps[223];
+        glBindSampler = caps[224];
+        glSamplerParameteri = caps[225];
+        glSamplerParameteriv = caps[226];
+        glSamplerParameterf = caps[227];
+        glSamplerParameterfv = caps[228];
+        glGetSamplerParameteriv = caps[229];
+        glGetSamplerParameterfv = caps[230];
+        glVertexAttribDivisor = caps[231];
+        glBindTransformFeedback = caps[232];
+        glDeleteTransformFeedbacks = caps[233];
+        glGenTransformFeedbacks = caps[234];
+        glIsTransformFeedback = caps[235];
+        glPauseTransformFeedback = caps[236];
+        glResumeTransformFeedback = caps[237];
+        glGetProgramBinary = caps[238];
+        glProgramBinary = caps[239];
+        glProgramParameteri = caps[240];
+        glInvalidateFramebuffer = caps[241];
+        glInvalidateSubFramebuffer = caps[242];
+        glTexStorage2D = caps[243];
+        glTexStorage3D = caps[244];
+        glGetInternalformativ = caps[245];
+        glDispatchCompute = caps[246];
+        glDispatchComputeIndirect = caps[247];
+        glDrawArraysIndirect = caps[248];
+        glDrawElementsIndirect = caps[249];
+        glFramebufferParameteri = caps[250];
+        glGetFramebufferParameteriv = caps[251];
+        glGetProgramInterfaceiv = caps[252];
+        glGetProgramResourceIndex = caps[253];
+        glGetProgramResourceName = caps[254];
+        glGetProgramResourceiv = caps[255];
+        glGetProgramResourceLocation = caps[256];
+        glUseProgramStages = caps[257];
+        glActiveShaderProgram = caps[258];
+        glCreateShaderProgramv = caps[259];
+        glBindProgramPipeline = caps[260];
+        glDeleteProgramPipelines = caps[261];
+        glGenProgramPipelines = caps[262];
+        glIsProgramPipeline = caps[263];
+        glGetProgramPipelineiv = caps[264];
+        glProgramUniform1i = caps[265];
+        glProgramUniform2i = caps[266];
+        glProgramUniform3i = caps[267];
+        glProgramUniform4i = caps[268];
+        glProgramUniform1ui = caps[269];
+        glProgramUniform2ui = caps[270];
+        glProgramUniform3ui = caps[271];
+        glProgramUniform4ui = caps[272];
+        glProgramUniform1f = caps[273];
+        glProgramUniform2f = caps[274];
+        glProgramUniform3f = caps[275];
+        glProgramUniform4f = caps[276];
+        glProgramUniform1iv = caps[277];
+        glProgramUniform2iv = caps[278];
+        glProgramUniform3iv = caps[279];
+        glProgramUniform4iv = caps[280];
+        glProgramUniform1uiv = caps[281];
+        glProgramUniform2uiv = caps[282];
+        glProgramUniform3uiv = caps[283];
+        glProgramUniform4uiv = caps[284];
+        glProgramUniform1fv = caps[285];
+        glProgramUniform2fv = caps[286];
+        glProgramUniform3fv = caps[287];
+        glProgramUniform4fv = caps[288];
+        glProgramUniformMatrix2fv = caps[289];
+        glProgramUniformMatrix3fv = caps[290];
+        glProgramUniformMatrix4fv = caps[291];
+        glProgramUniformMatrix2x3fv = caps[292];
+        glProgramUniformMatrix3x2fv = caps[293];
+        glProgramUniformMatrix2x4fv = caps[294];
+        glProgramUniformMatrix4x2fv = caps[295];
+        glProgramUniformMatrix3x4fv = caps[296];
+        glProgramUniformMatrix4x3fv = caps[297];
+        glValidateProgramPipeline = caps[298];
+        glGetProgramPipelineInfoLog = caps[299];
+        glBindImageTexture = caps[300];
+        glGetBooleani_v = caps[301];
+        glMemoryBarrier = caps[302];
+        glMemoryBarrierByRegion = caps[303];
+        glTexStorage2DMultisample = caps[304];
+        glGetMultisamplefv = caps[305];
+        glSampleMaski = caps[306];
+        glGetTexLevelParameteriv = caps[307];
+        glGetTexLevelParameterfv = caps[308];
+        glBindVertexBuffer = caps[309];
+        glVertexAttribFormat = caps[310];
+        glVertexAttribIFormat = caps[311];
+        glVertexAttribBinding = caps[312];
+        glVertexBindingDivisor = caps[313];
+        glBlendBarrier = caps[314];
+        glCopyImageSubData = caps[315];
+        glDebugMessageControl = caps[316];
+        glDebugMessageInsert = caps[317];
+        glDebugMessageCallback = caps[318];
+        glGetDebugMessageLog = caps[319];
+        glGetPointerv = caps[320];
+        glPushDebugGroup = caps[321];
+        glPopDebugGroup = caps[322];
+        glObjectLabel = caps[323];
+        glGetObjectLabel = caps[324];
+        glObjectPtrLabel = caps[325];
+        glGetObjectPtrLabel = caps[326];
+        glEnablei = caps[327];
+        glDisablei = caps[328];
+        glBlendEquationi = caps[329];
+        glBlendEquationSeparatei = caps[330];
+        glBlendFunci = caps[331];
+        glBlendFuncSeparatei = caps[332];
+        glColorMaski = caps[333];
+        glIsEnabledi = caps[334];
+        glDrawElementsBaseVertex = caps[335];
+        glDrawRangeElementsBaseVertex = caps[336];
+        glDrawElementsInstancedBaseVertex = caps[337];
+        glFramebufferTexture = caps[338];
+        glPrimitiveBoundingBox = caps[339];
+        glGetGraphicsResetStatus = caps[340];
+        glReadnPixels = caps[341];
+        glGetnUniformfv = caps[342];
+        glGetnUniformiv = caps[343];
+        glGetnUniformuiv = caps[344];
+        glMinSampleShading = caps[345];
+        glPatchParameteri = caps[346];
+        glTexParameterIiv = caps[347];
+        glTexParameterIuiv = caps[348];
+        glGetTexParameterIiv = caps[349];
+        glGetTexParameterIuiv = caps[350];
+        glSamplerParameterIiv = caps[351];
+        glSamplerParameterIuiv = caps[352];
+        glGetSamplerParameterIiv = caps[353];
+        glGetSamplerParameterIuiv = caps[354];
+        glTexBuffer = caps[355];
+        glTexBufferRange = caps[356];
+        glTexStorage3DMultisample = caps[357];
+        glRenderbufferStorageMultisampleAdvancedAMD = caps[358];
+        glNamedRenderbufferStorageMultisampleAdvancedAMD = caps[359];
+        glGetPerfMonitorGroupsAMD = caps[360];
+        glGetPerfMonitorCountersAMD = caps[361];
+        glGetPerfMonitorGroupStringAMD = caps[362];
+        glGetPerfMonitorCounterStringAMD = caps[363];
+        glGetPerfMonitorCounterInfoAMD = caps[364];
+        glGenPerfMonitorsAMD = caps[365];
+        glDeletePerfMonitorsAMD = caps[366];
+        glSelectPerfMonitorCountersAMD = caps[367];
+        glBeginPerfMonitorAMD = caps[368];
+        glEndPerfMonitorAMD = caps[369];
+        glGetPerfMonitorCounterDataAMD = caps[370];
+        glBlitFramebufferANGLE = caps[371];
+        glRenderbufferStorageMultisampleANGLE = caps[372];
+        glDrawArraysInstancedANGLE = caps[373];
+        glDrawElementsInstancedANGLE = caps[374];
+        glVertexAttribDivisorANGLE = caps[375];
+        glGetTranslatedShaderSourceANGLE = caps[376];
+        glCopyTextureLevelsAPPLE = caps[377];
+        glRenderbufferStorageMultisampleAPPLE = caps[378];
+        glResolveMultisampleFramebufferAPPLE = caps[379];
+        glFenceSyncAPPLE = caps[380];
+        glIsSyncAPPLE = caps[381];
+        glDeleteSyncAPPLE = caps[382];
+        glClientWaitSyncAPPLE = caps[383];
+        glWaitSyncAPPLE = caps[384];
+        glGetInteger64vAPPLE = caps[385];
+        glGetSyncivAPPLE = caps[386];
+        glDrawArraysInstancedBaseInstanceEXT = caps[387];
+        glDrawElementsInstancedBaseInstanceEXT = caps[388];
+        glDrawElementsInstancedBaseVertexBaseInstanceEXT = caps[389];
+        glBindFragDataLocationIndexedEXT = caps[390];
+        glGetFragDataIndexEXT = caps[391];
+        glBindFragDataLocationEXT = caps[392];
+        glGetProgramResourceLocationIndexEXT = caps[393];
+        glBufferStorageEXT = caps[394];
+        glNamedBufferStorageEXT = caps[395];
+        glClearTexImageEXT = caps[396];
+        glClearTexSubImageEXT = caps[397];
+        glClipControlEXT = caps[398];
+        glCopyImageSubDataEXT = caps[399];
+        glLabelObjectEXT = caps[400];
+        glGetObjectLabelEXT = caps[401];
+        glInsertEventMarkerEXT = caps[402];
+        glPushGroupMarkerEXT = caps[403];
+        glPopGroupMarkerEXT = caps[404];
+        glDiscardFramebufferEXT = caps[405];
+        glQueryCounterEXT = caps[406];
+        glGetQueryObjectivEXT = caps[407];
+        glGetQueryObjecti64vEXT = caps[408];
+        glGetQueryObjectui64vEXT = caps[409];
+        glDrawBuffersEXT = caps[410];
+        glEnableiEXT = caps[411];
+        glDisableiEXT = caps[412];
+        glBlendEquationiEXT = caps[413];
+        glBlendEquationSeparateiEXT = caps[414];
+        glBlendFunciEXT = caps[415];
+        glBlendFuncSeparateiEXT = caps[416];
+        glColorMaskiEXT = caps[417];
+        glIsEnablediEXT = caps[418];
+        glDrawElementsBaseVertexEXT = caps[419];
+        glDrawRangeElementsBaseVertexEXT = caps[420];
+        glDrawElementsInstancedBaseVertexEXT = caps[421];
+        glMultiDrawElementsBaseVertexEXT = caps[422];
+        glDrawTransformFeedbackEXT = caps[423];
+        glDrawTransformFeedbackInstancedEXT = caps[424];
+        glEGLImageTargetTexStorageEXT = caps[425];
+        glEGLImageTargetTextureStorageEXT = caps[426];
+        glBufferStorageExternalEXT = caps[427];
+        glNamedBufferStorageExternalEXT = caps[428];
+        glFramebufferTextureEXT = caps[429];
+        glDrawArraysInstancedEXT = caps[430];
+        glDrawElementsInstancedEXT = caps[431];
+        glVertexAttribDivisorEXT = caps[432];
+        glMapBufferRangeEXT = caps[433];
+        glFlushMappedBufferRangeEXT = caps[434];
+        glGetUnsignedBytevEXT = caps[435];
+        glGetUnsignedBytei_vEXT = caps[436];
+        glDeleteMemoryObjectsEXT = caps[437];
+        glIsMemoryObjectEXT = caps[438];
+        glCreateMemoryObjectsEXT = caps[439];
+        glMemoryObjectParameterivEXT = caps[440];
+        glGetMemoryObjectParameterivEXT = caps[441];
+        glTexStorageMem2DEXT = caps[442];
+        glTexStorageMem2DMultisampleEXT = caps[443];
+        glTexStorageMem3DEXT = caps[444];
+        glTexStorageMem3DMultisampleEXT = caps[445];
+        glBufferStorageMemEXT = caps[446];
+        glTextureStorageMem2DEXT = caps[447];
+        glTextureStorageMem2DMultisampleEXT = caps[448];
+        glTextureStorageMem3DEXT = caps[449];
+        glTextureStorageMem3DMultisampleEXT = caps[450];
+        glNamedBufferStorageMemEXT = caps[451];
+        glImportMemoryFdEXT = caps[452];
+        glImportMemoryWin32HandleEXT = caps[453];
+        glImportMemoryWin32NameEXT = caps[454];
+        glMultiDrawArraysEXT = caps[455];
+        glMultiDrawElementsEXT = caps[456];
+        glMultiDrawArraysIndirectEXT = caps[457];
+        glMultiDrawElementsIndirectEXT = caps[458];
+        glRenderbufferStorageMultisampleEXT = caps[459];
+        glFramebufferTexture2DMultisampleEXT = caps[460];
+        glReadBufferIndexedEXT = caps[461];
+        glDrawBuffersIndexedEXT = caps[462];
+        glGetIntegeri_vEXT = caps[463];
+        glGenQueriesEXT = caps[464];
+        glDeleteQueriesEXT = caps[465];
+        glIsQueryEXT = caps[466];
+        glBeginQueryEXT = caps[467];
+        glEndQueryEXT = caps[468];
+        glGetQueryivEXT = caps[469];
+        glGetQueryObjectuivEXT = caps[470];
+        glPolygonOffsetClampEXT = caps[471];
+        glPrimitiveBoundingBoxEXT = caps[472];
+        glRasterSamplesEXT = caps[473];
+        glGetGraphicsResetStatusEXT = caps[474];
+        glReadnPixelsEXT = caps[475];
+        glGetnUniformfvEXT = caps[476];
+        glGetnUniformivEXT = caps[477];
+        glGenSemaphoresEXT = caps[478];
+        glDeleteSemaphoresEXT = caps[479];
+        glIsSemaphoreEXT = caps[480];
+        glSemaphoreParameterui64vEXT = caps[481];
+        glGetSemaphoreParameterui64vEXT = caps[482];
+        glWaitSemaphoreEXT = caps[483];
+        glSignalSemaphoreEXT = caps[484];
+        glImportSemaphoreFdEXT = caps[485];
+        glImportSemaphoreWin32HandleEXT = caps[486];
+        glImportSemaphoreWin32NameEXT = caps[487];
+        glActiveShaderProgramEXT = caps[488];
+        glBindProgramPipelineEXT = caps[489];
+        glCreateShaderProgramvEXT = caps[490];
+        glDeleteProgramPipelinesEXT = caps[491];
+        glGenProgramPipelinesEXT = caps[492];
+        glGetProgramPipelineInfoLogEXT = caps[493];
+        glGetProgramPipelineivEXT = caps[494];
+        glIsProgramPipelineEXT = caps[495];
+        glProgramParameteriEXT = caps[496];
+        glProgramUniform1fEXT = caps[497];
+        glProgramUniform1fvEXT = caps[498];
+        glProgramUniform1iEXT = caps[499];
+        glProgramUniform1ivEXT = caps[500];
+        glProgramUniform2fEXT = caps[501];
+        glProgramUniform2fvEXT = caps[502];
+        glProgramUniform2iEXT = caps[503];
+        glProgramUniform2ivEXT = caps[504];
+        glProgramUniform3fEXT = caps[505];
+        glProgramUniform3fvEXT = caps[506];
+        glProgramUniform3iEXT = caps[507];
+        glProgramUniform3ivEXT = caps[508];
+        glProgramUniform4fEXT = caps[509];
+        glProgramUniform4fvEXT = caps[510];
+        glProgramUniform4iEXT = caps[511];
+        glProgramUniform4ivEXT = caps[512];
+        glProgramUniformMatrix2fvEXT = caps[513];
+        glProgramUniformMatrix3fvEXT = caps[514];
+        glProgramUniformMatrix4fvEXT = caps[515];
+        glUseProgramStagesEXT = caps[516];
+        glValidateProgramPipelineEXT = caps[517];
+        glProgramUniform1uiEXT = caps[518];
+        glProgramUniform2uiEXT = caps[519];
+        glProgramUniform3uiEXT = caps[520];
+        glProgramUniform4uiEXT = caps[521];
+        glProgramUniform1uivEXT = caps[522];
+        glProgramUniform2uivEXT = caps[523];
+        glProgramUniform3uivEXT = caps[524];
+        glProgramUniform4uivEXT = caps[525];
+        glProgramUniformMatrix2x3fvEXT = caps[526];
+        glProgramUniformMatrix3x2fvEXT = caps[527];
+        glProgramUniformMatrix2x4fvEXT = caps[528];
+        glProgramUniformMatrix4x2fvEXT = caps[529];
+        glProgramUniformMatrix3x4fvEXT = caps[530];
+        glProgramUniformMatrix4x3fvEXT = caps[531];
+        glFramebufferFetchBarrierEXT = caps[532];
+        glFramebufferPixelLocalStorageSizeEXT = caps[533];
+        glGetFramebufferPixelLocalStorageSizeEXT = caps[534];
+        glClearPixelLocalStorageuiEXT = caps[535];
+        glTexPageCommitmentARB = caps[536];
+        glPatchParameteriEXT = caps[537];
+        glTexParameterIivEXT = caps[538];
+        glTexParameterIuivEXT = caps[539];
+        glGetTexParameterIivEXT = caps[540];
+        glGetTexParameterIuivEXT = caps[541];
+        glSamplerParameterIivEXT = caps[542];
+        glSamplerParameterIuivEXT = caps[543];
+        glGetSamplerParameterIivEXT = caps[544];
+        glGetSamplerParameterIuivEXT = caps[545];
+        glTexBufferEXT = caps[546];
+        glTexBufferRangeEXT = caps[547];
+        glTexStorage1DEXT = caps[548];
+        glTexStorage2DEXT = caps[549];
+        glTexStorage3DEXT = caps[550];
+        glTextureStorage1DEXT = caps[551];
+        glTextureStorage2DEXT = caps[552];
+        glTextureStorage3DEXT = caps[553];
+        glTextureViewEXT = caps[554];
+        glAcquireKeyedMutexWin32EXT = caps[555];
+        glReleaseKeyedMutexWin32EXT = caps[556];
+        glWindowRectanglesEXT = caps[557];
+        glFramebufferTexture2DDownsampleIMG = caps[558];
+        glFramebufferTextureLayerDownsampleIMG = caps[559];
+        glRenderbufferStorageMultisampleIMG = caps[560];
+        glFramebufferTexture2DMultisampleIMG = caps[561];
+        glApplyFramebufferAttachmentCMAAINTEL = caps[562];
+        glBeginPerfQueryINTEL = caps[563];
+        glCreatePerfQueryINTEL = caps[564];
+        glDeletePerfQueryINTEL = caps[565];
+        glEndPerfQueryINTEL = caps[566];
+        glGetFirstPerfQueryIdINTEL = caps[567];
+        glGetNextPerfQueryIdINTEL = caps[568];
+        glGetPerfCounterInfoINTEL = caps[569];
+        glGetPerfQueryDataINTEL = caps[570];
+        glGetPerfQueryIdByNameINTEL = caps[571];
+        glGetPerfQueryInfoINTEL = caps[572];
+        glBlendBarrierKHR = caps[573];
+        glDebugMessageControlKHR = caps[574];
+        glDebugMessageInsertKHR = caps[575];
+        glDebugMessageCallbackKHR = caps[576];
+        glGetDebugMessageLogKHR = caps[577];
+        glGetPointervKHR = caps[578];
+        glPushDebugGroupKHR = caps[579];
+        glPopDebugGroupKHR = caps[580];
+        glObjectLabelKHR = caps[581];
+        glGetObjectLabelKHR = caps[582];
+        glObjectPtrLabelKHR = caps[583];
+        glGetObjectPtrLabelKHR = caps[584];
+        glMaxShaderCompilerThreadsKHR = caps[585];
+        glGetGraphicsResetStatusKHR = caps[586];
+        glReadnPixelsKHR = caps[587];
+        glGetnUniformfvKHR = caps[588];
+        glGetnUniformivKHR = caps[589];
+        glGetnUniformuivKHR = caps[590];
+        glAlphaToCoverageDitherControlNV = caps[591];
+        glGetTextureHandleNV = caps[592];
+        glGetTextureSamplerHandleNV = caps[593];
+        glMakeTextureHandleResidentNV = caps[594];
+        glMakeTextureHandleNonResidentNV = caps[595];
+        glGetImageHandleNV = caps[596];
+        glMakeImageHandleResidentNV = caps[597];
+        glMakeImageHandleNonResidentNV = caps[598];
+        glUniformHandleui64NV = caps[599];
+        glUniformHandleui64vNV = caps[600];
+        glProgramUniformHandleui64NV = caps[601];
+        glProgramUniformHandleui64vNV = caps[602];
+        glIsTextureHandleResidentNV = caps[603];
+        glIsImageHandleResidentNV = caps[604];
+        glBlendParameteriNV = caps[605];
+        glBlendBarrierNV = caps[606];
+        glViewportPositionWScaleNV = caps[607];
+        glBeginConditionalRenderNV = caps[608];
+        glEndConditionalRenderNV = caps[609];
+        glSubpixelPrecisionBiasNV = caps[610];
+        glConservativeRasterParameteriNV = caps[611];
+        glCopyBufferSubDataNV = caps[612];
+        glCoverageMaskNV = caps[613];
+        glCoverageOperationNV = caps[614];
+        glDrawBuffersNV = caps[615];
+        glDrawArraysInstancedNV = caps[616];
+        glDrawElementsInstancedNV = caps[617];
+        glDrawVkImageNV = caps[618];
+        glGetVkProcAddrNV = caps[619];
+        glWaitVkSemaphoreNV = caps[620];
+        glSignalVkSemaphoreNV = caps[621];
+        glSignalVkFenceNV = caps[622];
+        glDeleteFencesNV = caps[623];
+        glGenFencesNV = caps[624];
+        glIsFenceNV = caps[625];
+        glTestFenceNV = caps[626];
+        glGetFenceivNV = caps[627];
+        glFinishFenceNV = caps[628];
+        glSetFenceNV = caps[629];
+        glFragmentCoverageColorNV = caps[630];
+        glBlitFramebufferNV = caps[631];
+        glCoverageModulationTableNV = caps[632];
+        glGetCoverageModulationTableNV = caps[633];
+        glCoverageModulationNV = caps[634];
+        glRenderbufferStorageMultisampleNV = caps[635];
+        glUniform1i64NV = caps[636];
+        glUniform2i64NV = caps[637];
+        glUniform3i64NV = caps[638];
+        glUniform4i64NV = caps[639];
+        glUniform1i64vNV = caps[640];
+        glUniform2i64vNV = caps[641];
+        glUniform3i64vNV = caps[642];
+        glUniform4i64vNV = caps[643];
+        glUniform1ui64NV = caps[644];
+        glUniform2ui64NV = caps[645];
+        glUniform3ui64NV = caps[646];
+        glUniform4ui64NV = caps[647];
+        glUniform1ui64vNV = caps[648];
+        glUniform2ui64vNV = caps[649];
+        glUniform3ui64vNV = caps[650];
+        glUniform4ui64vNV = caps[651];
+        glGetUniformi64vNV = caps[652];
+        glGetUniformui64vNV = caps[653];
+        glProgramUniform1i64NV = caps[654];
+        glProgramUniform2i64NV = caps[655];
+        glProgramUniform3i64NV = caps[656];
+        glProgramUniform4i64NV = caps[657];
+        glProgramUniform1i64vNV = caps[658];
+        glProgramUniform2i64vNV = caps[659];
+        glProgramUniform3i64vNV = caps[660];
+        glProgramUniform4i64vNV = caps[661];
+        glProgramUniform1ui64NV = caps[662];
+        glProgramUniform2ui64NV = caps[663];
+        glProgramUniform3ui64NV = caps[664];
+        glProgramUniform4ui64NV = caps[665];
+        glProgramUniform1ui64vNV = caps[666];
+        glProgramUniform2ui64vNV = caps[667];
+        glProgramUniform3ui64vNV = caps[668];
+        glProgramUniform4ui64vNV = caps[669];
+        glVertexAttribDivisorNV = caps[670];
+        glGetInternalformatSampleivNV = caps[671];
+        glGetMemoryObjectDetachedResourcesuivNV = caps[672];
+        glResetMemoryObjectParameterNV = caps[673];
+        glTexAttachMemoryNV = caps[674];
+        glBufferAttachMemoryNV = caps[675];
+        glTextureAttachMemoryNV = caps[676];
+        glNamedBufferAttachMemoryNV = caps[677];
+        glDrawMeshTasksNV = caps[678];
+        glDrawMeshTasksIndirectNV = caps[679];
+        glMultiDrawMeshTasksIndirectNV = caps[680];
+        glUniformMatrix2x3fvNV = caps[681];
+        glUniformMatrix3x2fvNV = caps[682];
+        glUniformMatrix2x4fvNV = caps[683];
+        glUniformMatrix4x2fvNV = caps[684];
+        glUniformMatrix3x4fvNV = caps[685];
+        glUniformMatrix4x3fvNV = caps[686];
+        glPathCommandsNV = caps[687];
+        glPathCoordsNV = caps[688];
+        glPathSubCommandsNV = caps[689];
+        glPathSubCoordsNV = caps[690];
+        glPathStringNV = caps[691];
+        glPathGlyphsNV = caps[692];
+        glPathGlyphRangeNV = caps[693];
+        glPathGlyphIndexArrayNV = caps[694];
+        glPathMemoryGlyphIndexArrayNV = caps[695];
+        glCopyPathNV = caps[696];
+        glWeightPathsNV = caps[697];
+        glInterpolatePathsNV = caps[698];
+        glTransformPathNV = caps[699];
+        glPathParameterivNV = caps[700];
+        glPathParameteriNV = caps[701];
+        glPathParameterfvNV = caps[702];
+        glPathParameterfNV = caps[703];
+        glPathDashArrayNV = caps[704];
+        glGenPathsNV = caps[705];
+        glDeletePathsNV = caps[706];
+        glIsPathNV = caps[707];
+        glPathStencilFuncNV = caps[708];
+        glPathStencilDepthOffsetNV = caps[709];
+        glStencilFillPathNV = caps[710];
+        glStencilStrokePathNV = caps[711];
+        glStencilFillPathInstancedNV = caps[712];
+        glStencilStrokePathInstancedNV = caps[713];
+        glPathCoverDepthFuncNV = caps[714];
+        glCoverFillPathNV = caps[715];
+        glCoverStrokePathNV = caps[716];
+        glCoverFillPathInstancedNV = caps[717];
+        glCoverStrokePathInstancedNV = caps[718];
+        glStencilThenCoverFillPathNV = caps[719];
+        glStencilThenCoverStrokePathNV = caps[720];
+        glStencilThenCoverFillPathInstancedNV = caps[721];
+        glStencilThenCoverStrokePathInstancedNV = caps[722];
+        glPathGlyphIndexRangeNV = caps[723];
+        glProgramPathFragmentInputGenNV = caps[724];
+        glGetPathParameterivNV = caps[725];
+        glGetPathParameterfvNV = caps[726];
+        glGetPathCommandsNV = caps[727];
+        glGetPathCoordsNV = caps[728];
+        glGetPathDashArrayNV = caps[729];
+        glGetPathMetricsNV = caps[730];
+        glGetPathMetricRangeNV = caps[731];
+        glGetPathSpacingNV = caps[732];
+        glIsPointInFillPathNV = caps[733];
+        glIsPointInStrokePathNV = caps[734];
+        glGetPathLengthNV = caps[735];
+        glPointAlongPathNV = caps[736];
+        glMatrixLoad3x2fNV = caps[737];
+        glMatrixLoad3x3fNV = caps[738];
+        glMatrixLoadTranspose3x3fNV = caps[739];
+        glMatrixMult3x2fNV = caps[740];
+        glMatrixMult3x3fNV = caps[741];
+        glMatrixMultTranspose3x3fNV = caps[742];
+        glGetProgramResourcefvNV = caps[743];
+        glPolygonModeNV = caps[744];
+        glReadBufferNV = caps[745];
+        glFramebufferSampleLocationsfvNV = caps[746];
+        glNamedFramebufferSampleLocationsfvNV = caps[747];
+        glResolveDepthValuesNV = caps[748];
+        glScissorExclusiveArrayvNV = caps[749];
+        glScissorExclusiveNV = caps[750];
+        glTexImage3DNV = caps[751];
+        glTexSubImage3DNV = caps[752];
+        glCopyTexSubImage3DNV = caps[753];
+        glCompressedTexImage3DNV = caps[754];
+        glCompressedTexSubImage3DNV = caps[755];
+        glFramebufferTextureLayerNV = caps[756];
+        glTextureBarrierNV = caps[757];
+        glViewportArrayvNV = caps[758];
+        glViewportIndexedfNV = caps[759];
+        glViewportIndexedfvNV = caps[760];
+        glScissorArrayvNV = caps[761];
+        glScissorIndexedNV = caps[762];
+        glScissorIndexedvNV = caps[763];
+        glDepthRangeArrayfvNV = caps[764];
+        glDepthRangeIndexedfNV = caps[765];
+        glGetFloati_vNV = caps[766];
+        glEnableiNV = caps[767];
+        glDisableiNV = caps[768];
+        glIsEnablediNV = caps[769];
+        glViewportSwizzleNV = caps[770];
+        glCopyImageSubDataOES = caps[771];
+        glEnableiOES = caps[772];
+        glDisableiOES = caps[773];
+        glBlendEquationiOES = caps[774];
+        glBlendEquationSeparateiOES = caps[775];
+        glBlendFunciOES = caps[776];
+        glBlendFuncSeparateiOES = caps[777];
+        glColorMaskiOES = caps[778];
+        glIsEnablediOES = caps[779];
+        glDrawElementsBaseVertexOES = caps[780];
+        glDrawRangeElementsBaseVertexOES = caps[781];
+        glDrawElementsInstancedBaseVertexOES = caps[782];
+        glMultiDrawElementsBaseVertexOES = caps[783];
+        glEGLImageTargetTexture2DOES = caps[784];
+        glEGLImageTargetRenderbufferStorageOES = caps[785];
+        glFramebufferTextureOES = caps[786];
+        glGetProgramBinaryOES = caps[787];
+        glProgramBinaryOES = caps[788];
+        glMapBufferOES = caps[789];
+        glUnmapBufferOES = caps[790];
+        glGetBufferPointervOES = caps[791];
+        glPrimitiveBoundingBoxOES = caps[792];
+        glMinSampleShadingOES = caps[793];
+        glPatchParameteriOES = caps[794];
+        glTexImage3DOES = caps[795];
+        glTexSubImage3DOES = caps[796];
+        glCopyTexSubImage3DOES = caps[797];
+        glCompressedTexImage3DOES = caps[798];
+        glCompressedTexSubImage3DOES = caps[799];
+        glFramebufferTexture3DOES = caps[800];
+        glTexParameterIivOES = caps[801];
+        glTexParameterIuivOES = caps[802];
+        glGetTexParameterIivOES = caps[803];
+        glGetTexParameterIuivOES = caps[804];
+        glSamplerParameterIivOES = caps[805];
+        glSamplerParameterIuivOES = caps[806];
+        glGetSamplerParameterIivOES = caps[807];
+        glGetSamplerParameterIuivOES = caps[808];
+        glTexBufferOES = caps[809];
+        glTexBufferRangeOES = caps[810];
+        glTexStorage3DMultisampleOES = caps[811];
+        glTextureViewOES = caps[812];
+        glBindVertexArrayOES = caps[813];
+        glDeleteVertexArraysOES = caps[814];
+        glGenVertexArraysOES = caps[815];
+        glIsVertexArrayOES = caps[816];
+        glViewportArrayvOES = caps[817];
+        glViewportIndexedfOES = caps[818];
+        glViewportIndexedfvOES = caps[819];
+        glScissorArrayvOES = caps[820];
+        glScissorIndexedOES = caps[821];
+        glScissorIndexedvOES = caps[822];
+        glDepthRangeArrayfvOES = caps[823];
+        glDepthRangeIndexedfOES = caps[824];
+        glGetFloati_vOES = caps[825];
+        glFramebufferTextureMultiviewOVR = caps[826];
+        glFramebufferTextureMultisampleMultiviewOVR = caps[827];
+        glAlphaFuncQCOM = caps[828];
+        glGetDriverControlsQCOM = caps[829];
+        glGetDriverControlStringQCOM = caps[830];
+        glEnableDriverControlQCOM = caps[831];
+        glDisableDriverControlQCOM = caps[832];
+        glExtGetTexturesQCOM = caps[833];
+        glExtGetBuffersQCOM = caps[834];
+        glExtGetRenderbuffersQCOM = caps[835];
+        glExtGetFramebuffersQCOM = caps[836];
+        glExtGetTexLevelParameterivQCOM = caps[837];
+        glExtTexObjectStateOverrideiQCOM = caps[838];
+        glExtGetTexSubImageQCOM = caps[839];
+        glExtGetBufferPointervQCOM = caps[840];
+        glExtGetShadersQCOM = caps[841];
+        glExtGetProgramsQCOM = caps[842];
+        glExtIsProgramBinaryQCOM = caps[843];
+        glExtGetProgramBinarySourceQCOM = caps[844];
+        glFramebufferFoveationConfigQCOM = caps[845];
+        glFramebufferFoveationParametersQCOM = caps[846];
+        glFramebufferFetchBarrierQCOM = caps[847];
+        glTextureFoveationParametersQCOM = caps[848];
+        glStartTilingQCOM = caps[849];
+        glEndTilingQCOM = caps[850];
 
         GLES20 = ext.contains("GLES20") && checkExtension("GLES20", org.lwjgl.opengles.GLES20.isAvailable(this));
         GLES30 = ext.contains("GLES30") && checkExtension("GLES30", org.lwjgl.opengles.GLES30.isAvailable(this));
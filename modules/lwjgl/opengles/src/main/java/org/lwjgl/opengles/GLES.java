@@ -4,6 +4,7 @@
  */
 package org.lwjgl.opengles;
 
+import org.lwjgl.*;
 import org.lwjgl.egl.*;
 import org.lwjgl.system.*;
 
@@ -124,6 +125,15 @@ public final class GLES {
 
                     return address;
                 }
+
+                @Override
+                public void getFunctionAddresses(ByteBuffer functionNames, PointerBuffer addresses) {
+                    egl.getFunctionAddresses(functionNames, addresses);
+                    SharedLibraryUtil.getMissingFunctionAddresses(library, functionNames, addresses);
+                    if (DEBUG_FUNCTIONS) {
+                        SharedLibraryUtil.logMissingFunctions("GLES", functionNames, addresses);
+                    }
+                }
             });
         } catch (RuntimeException e) {
             GLES.free();
@@ -35,6 +35,29 @@ private val GLESBinding = register(object : APIBinding(
 
     override fun getFunctionOrdinal(function: Func) = functionOrdinals[function.name]!!
 
+    /** The names of the versions and extensions that expose each function. */
+    private val functionOwners by lazy {
+        val owners = HashMap<String, MutableSet<String>>(functions.size)
+        classes
+            .asSequence()
+            .filter { it.hasNativeFunctions }
+            .forEach { nativeClass ->
+                nativeClass.functions.forEach {
+                    owners.getOrPut(it.name) { LinkedHashSet() }.add(nativeClass.capName)
+                }
+            }
+        owners
+    }
+
+    /** Returns the condition under which a function must be resolved, or null if the function is always available (OpenGL ES 2.0). */
+    private val Func.resolveCondition: String?
+        get() = functionOwners.getValue(name).let { owners ->
+            if (owners.contains("GLES20"))
+                null
+            else
+                owners.joinToString(" || ", prefix = "resolveAll || ") { "ext.contains(\"$it\")" }
+        }
+
     override fun printCustomJavadoc(writer: PrintWriter, function: Func, documentation: String): Boolean {
         if (function.nativeClass.templateName.startsWith("GLES")) {
             writer.printOpenGLJavaDoc(documentation, function.nativeName)
@@ -115,6 +138,7 @@ private val GLESBinding = register(object : APIBinding(
 
     init {
         javaImport(
+            "java.util.Arrays",
             "org.lwjgl.*",
             "static org.lwjgl.system.APIUtil.*",
             "static org.lwjgl.system.MemoryUtil.*"
@@ -132,6 +156,8 @@ private val GLESBinding = register(object : APIBinding(
             .map(Func::name)
             .joinToString(",\n$t$t", prefix = "$t$t", postfix = ";\n"))
 
+        printFunctionNames("FUNCTIONS", functions)
+
         classes.forEach {
             println(it.getCapabilityJavadoc())
             println("${t}public final boolean ${it.capName};")
@@ -142,9 +168,14 @@ private val GLESBinding = register(object : APIBinding(
     final PointerBuffer addresses;
 
     $CAPABILITIES_CLASS(FunctionProvider provider, Set<String> ext) {
-""")
+        boolean resolveAll = !Configuration.OPENGLES_RESOLVE_SUPPORTED_ONLY.get(false);
 
-        println(functions.joinToString(prefix = "$t$t", separator = "\n$t$t") { "${it.name} = provider.getFunctionAddress(${it.functionAddress});" })
+""")
+        printFunctionResolution(functions) { it.resolveCondition ?: "true" }
+        println("""
+        long[] caps = apiGetFunctionAddresses(provider, FUNCTIONS, resolve);
+""")
+        println(functions.withIndex().joinToString(prefix = "$t$t", separator = "\n$t$t") { (i, it) -> "${it.name} = caps[$i];" })
 
         for (extension in classes) {
             val capName = extension.capName
@@ -2964,18 +2964,25 @@ public class VR {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "VR_InitInternal\0VR_ShutdownInternal\0VR_IsHmdPresent\0VR_GetGenericInterface\0VR_IsRuntimeInstalled\0VR_RuntimePath\0VR_IsInterfaceVersionValid\0" +
+            "VR_GetInitToken\0VR_GetVRInitErrorAsSymbol\0VR_GetVRInitErrorAsEnglishDescription\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(OPENVR, FUNCTIONS);
+
         /** Function address. */
         public static final long
-            InitInternal                       = apiGetFunctionAddress(OPENVR, "VR_InitInternal"),
-            ShutdownInternal                   = apiGetFunctionAddress(OPENVR, "VR_ShutdownInternal"),
-            IsHmdPresent                       = apiGetFunctionAddress(OPENVR, "VR_IsHmdPresent"),
-            GetGenericInterface                = apiGetFunctionAddress(OPENVR, "VR_GetGenericInterface"),
-            IsRuntimeInstalled                 = apiGetFunctionAddress(OPENVR, "VR_IsRuntimeInstalled"),
-            RuntimePath                        = apiGetFunctionAddress(OPENVR, "VR_RuntimePath"),
-            IsInterfaceVersionValid            = apiGetFunctionAddress(OPENVR, "VR_IsInterfaceVersionValid"),
-            GetInitToken                       = apiGetFunctionAddress(OPENVR, "VR_GetInitToken"),
-            GetVRInitErrorAsSymbol             = apiGetFunctionAddress(OPENVR, "VR_GetVRInitErrorAsSymbol"),
-            GetVRInitErrorAsEnglishDescription = apiGetFunctionAddress(OPENVR, "VR_GetVRInitErrorAsEnglishDescription");
+            InitInternal                       = ADDRESSES[0],
+            ShutdownInternal                   = ADDRESSES[1],
+            IsHmdPresent                       = ADDRESSES[2],
+            GetGenericInterface                = ADDRESSES[3],
+            IsRuntimeInstalled                 = ADDRESSES[4],
+            RuntimePath                        = ADDRESSES[5],
+            IsInterfaceVersionValid            = ADDRESSES[6],
+            GetInitToken                       = ADDRESSES[7],
+            GetVRInitErrorAsSymbol             = ADDRESSES[8],
+            GetVRInitErrorAsEnglishDescription = ADDRESSES[9];
 
     }
 
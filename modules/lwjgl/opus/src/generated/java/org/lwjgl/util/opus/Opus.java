@@ -511,44 +511,55 @@ public class Opus {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "opus_encoder_get_size\0opus_encoder_create\0opus_encoder_init\0opus_encode\0opus_encode_float\0opus_encoder_destroy\0opus_encoder_ctl\0opus_decoder_get_size\0" +
+            "opus_decoder_create\0opus_decoder_init\0opus_decode\0opus_decode_float\0opus_decoder_ctl\0opus_decoder_destroy\0opus_packet_parse\0opus_packet_get_bandwidth\0" +
+            "opus_packet_get_samples_per_frame\0opus_packet_get_nb_channels\0opus_packet_get_nb_frames\0opus_packet_get_nb_samples\0opus_decoder_get_nb_samples\0" +
+            "opus_pcm_soft_clip\0opus_repacketizer_get_size\0opus_repacketizer_init\0opus_repacketizer_create\0opus_repacketizer_destroy\0opus_repacketizer_cat\0" +
+            "opus_repacketizer_out_range\0opus_repacketizer_get_nb_frames\0opus_repacketizer_out\0opus_packet_pad\0opus_packet_unpad\0opus_multistream_packet_pad\0" +
+            "opus_multistream_packet_unpad\0opus_strerror\0opus_get_version_string\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(OPUS, FUNCTIONS);
+
         /** Function address. */
         public static final long
-            encoder_get_size             = apiGetFunctionAddress(OPUS, "opus_encoder_get_size"),
-            encoder_create               = apiGetFunctionAddress(OPUS, "opus_encoder_create"),
-            encoder_init                 = apiGetFunctionAddress(OPUS, "opus_encoder_init"),
-            encode                       = apiGetFunctionAddress(OPUS, "opus_encode"),
-            encode_float                 = apiGetFunctionAddress(OPUS, "opus_encode_float"),
-            encoder_destroy              = apiGetFunctionAddress(OPUS, "opus_encoder_destroy"),
-            encoder_ctl                  = apiGetFunctionAddress(OPUS, "opus_encoder_ctl"),
-            decoder_get_size             = apiGetFunctionAddress(OPUS, "opus_decoder_get_size"),
-            decoder_create               = apiGetFunctionAddress(OPUS, "opus_decoder_create"),
-            decoder_init                 = apiGetFunctionAddress(OPUS, "opus_decoder_init"),
-            decode                       = apiGetFunctionAddress(OPUS, "opus_decode"),
-            decode_float                 = apiGetFunctionAddress(OPUS, "opus_decode_float"),
-            decoder_ctl                  = apiGetFunctionAddress(OPUS, "opus_decoder_ctl"),
-            decoder_destroy              = apiGetFunctionAddress(OPUS, "opus_decoder_destroy"),
-            packet_parse                 = apiGetFunctionAddress(OPUS, "opus_packet_parse"),
-            packet_get_bandwidth         = apiGetFunctionAddress(OPUS, "opus_packet_get_bandwidth"),
-            packet_get_samples_per_frame = apiGetFunctionAddress(OPUS, "opus_packet_get_samples_per_frame"),
-            packet_get_nb_channels       = apiGetFunctionAddress(OPUS, "opus_packet_get_nb_channels"),
-            packet_get_nb_frames         = apiGetFunctionAddress(OPUS, "opus_packet_get_nb_frames"),
-            packet_get_nb_samples        = apiGetFunctionAddress(OPUS, "opus_packet_get_nb_samples"),
-            decoder_get_nb_samples       = apiGetFunctionAddress(OPUS, "opus_decoder_get_nb_samples"),
-            pcm_soft_clip                = apiGetFunctionAddress(OPUS, "opus_pcm_soft_clip"),
-            repacketizer_get_size        = apiGetFunctionAddress(OPUS, "opus_repacketizer_get_size"),
-            repacketizer_init            = apiGetFunctionAddress(OPUS, "opus_repacketizer_init"),
-            repacketizer_create          = apiGetFunctionAddress(OPUS, "opus_repacketizer_create"),
-            repacketizer_destroy         = apiGetFunctionAddress(OPUS, "opus_repacketizer_destroy"),
-            repacketizer_cat             = apiGetFunctionAddress(OPUS, "opus_repacketizer_cat"),
-            repacketizer_out_range       = apiGetFunctionAddress(OPUS, "opus_repacketizer_out_range"),
-            repacketizer_get_nb_frames   = apiGetFunctionAddress(OPUS, "opus_repacketizer_get_nb_frames"),
-            repacketizer_out             = apiGetFunctionAddress(OPUS, "opus_repacketizer_out"),
-            packet_pad                   = apiGetFunctionAddress(OPUS, "opus_packet_pad"),
-            packet_unpad                 = apiGetFunctionAddress(OPUS, "opus_packet_unpad"),
-            multistream_packet_pad       = apiGetFunctionAddress(OPUS, "opus_multistream_packet_pad"),
-            multistream_packet_unpad     = apiGetFunctionAddress(OPUS, "opus_multistream_packet_unpad"),
-            strerror                     = apiGetFunctionAddress(OPUS, "opus_strerror"),
-            get_version_string           = apiGetFunctionAddress(OPUS, "opus_get_version_string");
+            encoder_get_size             = ADDRESSES[0],
+            encoder_create               = ADDRESSES[1],
+            encoder_init                 = ADDRESSES[2],
+            encode                       = ADDRESSES[3],
+            encode_float                 = ADDRESSES[4],
+            encoder_destroy              = ADDRESSES[5],
+            encoder_ctl                  = ADDRESSES[6],
+            decoder_get_size             = ADDRESSES[7],
+            decoder_create               = ADDRESSES[8],
+            decoder_init                 = ADDRESSES[9],
+            decode                       = ADDRESSES[10],
+            decode_float                 = ADDRESSES[11],
+            decoder_ctl                  = ADDRESSES[12],
+            decoder_destroy              = ADDRESSES[13],
+            packet_parse                 = ADDRESSES[14],
+            packet_get_bandwidth         = ADDRESSES[15],
+            packet_get_samples_per_frame = ADDRESSES[16],
+            packet_get_nb_channels       = ADDRESSES[17],
+            packet_get_nb_frames         = ADDRESSES[18],
+            packet_get_nb_samples        = ADDRESSES[19],
+            decoder_get_nb_samples       = ADDRESSES[20],
+            pcm_soft_clip                = ADDRESSES[21],
+            repacketizer_get_size        = ADDRESSES[22],
+            repacketizer_init            = ADDRESSES[23],
+            repacketizer_create          = ADDRESSES[24],
+            repacketizer_destroy         = ADDRESSES[25],
+            repacketizer_cat             = ADDRESSES[26],
+            repacketizer_out_range       = ADDRESSES[27],
+            repacketizer_get_nb_frames   = ADDRESSES[28],
+            repacketizer_out             = ADDRESSES[29],
+            packet_pad                   = ADDRESSES[30],
+            packet_unpad                 = ADDRESSES[31],
+            multistream_packet_pad       = ADDRESSES[32],
+            multistream_packet_unpad     = ADDRESSES[33],
+            strerror                     = ADDRESSES[34],
+            get_version_string           = ADDRESSES[35];
 
     }
 
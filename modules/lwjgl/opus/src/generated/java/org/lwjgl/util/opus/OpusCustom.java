@@ -48,24 +48,32 @@ public class OpusCustom {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "opus_custom_mode_create\0opus_custom_mode_destroy\0opus_custom_encoder_get_size\0opus_custom_encoder_init\0opus_custom_encoder_create\0" +
+            "opus_custom_encoder_destroy\0opus_custom_encode_float\0opus_custom_encode\0opus_custom_encoder_ctl\0opus_custom_decoder_get_size\0opus_custom_decoder_init\0" +
+            "opus_custom_decoder_create\0opus_custom_decoder_destroy\0opus_custom_decode_float\0opus_custom_decode\0opus_custom_decoder_ctl\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(Opus.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            custom_mode_create      = apiGetFunctionAddress(Opus.getLibrary(), "opus_custom_mode_create"),
-            custom_mode_destroy     = apiGetFunctionAddress(Opus.getLibrary(), "opus_custom_mode_destroy"),
-            custom_encoder_get_size = apiGetFunctionAddress(Opus.getLibrary(), "opus_custom_encoder_get_size"),
-            custom_encoder_init     = apiGetFunctionAddress(Opus.getLibrary(), "opus_custom_encoder_init"),
-            custom_encoder_create   = apiGetFunctionAddress(Opus.getLibrary(), "opus_custom_encoder_create"),
-            custom_encoder_destroy  = apiGetFunctionAddress(Opus.getLibrary(), "opus_custom_encoder_destroy"),
-            custom_encode_float     = apiGetFunctionAddress(Opus.getLibrary(), "opus_custom_encode_float"),
-            custom_encode           = apiGetFunctionAddress(Opus.getLibrary(), "opus_custom_encode"),
-            custom_encoder_ctl      = apiGetFunctionAddress(Opus.getLibrary(), "opus_custom_encoder_ctl"),
-            custom_decoder_get_size = apiGetFunctionAddress(Opus.getLibrary(), "opus_custom_decoder_get_size"),
-            custom_decoder_init     = apiGetFunctionAddress(Opus.getLibrary(), "opus_custom_decoder_init"),
-            custom_decoder_create   = apiGetFunctionAddress(Opus.getLibrary(), "opus_custom_decoder_create"),
-            custom_decoder_destroy  = apiGetFunctionAddress(Opus.getLibrary(), "opus_custom_decoder_destroy"),
-            custom_decode_float     = apiGetFunctionAddress(Opus.getLibrary(), "opus_custom_decode_float"),
-            custom_decode           = apiGetFunctionAddress(Opus.getLibrary(), "opus_custom_decode"),
-            custom_decoder_ctl      = apiGetFunctionAddress(Opus.getLibrary(), "opus_custom_decoder_ctl");
+            custom_mode_create      = ADDRESSES[0],
+            custom_mode_destroy     = ADDRESSES[1],
+            custom_encoder_get_size = ADDRESSES[2],
+            custom_encoder_init     = ADDRESSES[3],
+            custom_encoder_create   = ADDRESSES[4],
+            custom_encoder_destroy  = ADDRESSES[5],
+            custom_encode_float     = ADDRESSES[6],
+            custom_encode           = ADDRESSES[7],
+            custom_encoder_ctl      = ADDRESSES[8],
+            custom_decoder_get_size = ADDRESSES[9],
+            custom_decoder_init     = ADDRESSES[10],
+            custom_decoder_create   = ADDRESSES[11],
+            custom_decoder_destroy  = ADDRESSES[12],
+            custom_decode_float     = ADDRESSES[13],
+            custom_decode           = ADDRESSES[14],
+            custom_decoder_ctl      = ADDRESSES[15];
 
     }
 
@@ -83,25 +83,34 @@ public class OpusMultistream {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "opus_multistream_encoder_get_size\0opus_multistream_surround_encoder_get_size\0opus_multistream_encoder_create\0opus_multistream_surround_encoder_create\0" +
+            "opus_multistream_encoder_init\0opus_multistream_surround_encoder_init\0opus_multistream_encode\0opus_multistream_encode_float\0opus_multistream_encoder_destroy\0" +
+            "opus_multistream_encoder_ctl\0opus_multistream_decoder_get_size\0opus_multistream_decoder_create\0opus_multistream_decoder_init\0opus_multistream_decode\0" +
+            "opus_multistream_decode_float\0opus_multistream_decoder_ctl\0opus_multistream_decoder_destroy\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(Opus.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            multistream_encoder_get_size          = apiGetFunctionAddress(Opus.getLibrary(), "opus_multistream_encoder_get_size"),
-            multistream_surround_encoder_get_size = apiGetFunctionAddress(Opus.getLibrary(), "opus_multistream_surround_encoder_get_size"),
-            multistream_encoder_create            = apiGetFunctionAddress(Opus.getLibrary(), "opus_multistream_encoder_create"),
-            multistream_surround_encoder_create   = apiGetFunctionAddress(Opus.getLibrary(), "opus_multistream_surround_encoder_create"),
-            multistream_encoder_init              = apiGetFunctionAddress(Opus.getLibrary(), "opus_multistream_encoder_init"),
-            multistream_surround_encoder_init     = apiGetFunctionAddress(Opus.getLibrary(), "opus_multistream_surround_encoder_init"),
-            multistream_encode                    = apiGetFunctionAddress(Opus.getLibrary(), "opus_multistream_encode"),
-            multistream_encode_float              = apiGetFunctionAddress(Opus.getLibrary(), "opus_multistream_encode_float"),
-            multistream_encoder_destroy           = apiGetFunctionAddress(Opus.getLibrary(), "opus_multistream_encoder_destroy"),
-            multistream_encoder_ctl               = apiGetFunctionAddress(Opus.getLibrary(), "opus_multistream_encoder_ctl"),
-            multistream_decoder_get_size          = apiGetFunctionAddress(Opus.getLibrary(), "opus_multistream_decoder_get_size"),
-            multistream_decoder_create            = apiGetFunctionAddress(Opus.getLibrary(), "opus_multistream_decoder_create"),
-            multistream_decoder_init              = apiGetFunctionAddress(Opus.getLibrary(), "opus_multistream_decoder_init"),
-            multistream_decode                    = apiGetFunctionAddress(Opus.getLibrary(), "opus_multistream_decode"),
-            multistream_decode_float              = apiGetFunctionAddress(Opus.getLibrary(), "opus_multistream_decode_float"),
-            multistream_decoder_ctl               = apiGetFunctionAddress(Opus.getLibrary(), "opus_multistream_decoder_ctl"),
-            multistream_decoder_destroy           = apiGetFunctionAddress(Opus.getLibrary(), "opus_multistream_decoder_destroy");
+            multistream_encoder_get_size          = ADDRESSES[0],
+            multistream_surround_encoder_get_size = ADDRESSES[1],
+            multistream_encoder_create            = ADDRESSES[2],
+            multistream_surround_encoder_create   = ADDRESSES[3],
+            multistream_encoder_init              = ADDRESSES[4],
+            multistream_surround_encoder_init     = ADDRESSES[5],
+            multistream_encode                    = ADDRESSES[6],
+            multistream_encode_float              = ADDRESSES[7],
+            multistream_encoder_destroy           = ADDRESSES[8],
+            multistream_encoder_ctl               = ADDRESSES[9],
+            multistream_decoder_get_size          = ADDRESSES[10],
+            multistream_decoder_create            = ADDRESSES[11],
+            multistream_decoder_init              = ADDRESSES[12],
+            multistream_decode                    = ADDRESSES[13],
+            multistream_decode_float              = ADDRESSES[14],
+            multistream_decoder_ctl               = ADDRESSES[15],
+            multistream_decoder_destroy           = ADDRESSES[16];
 
     }
 
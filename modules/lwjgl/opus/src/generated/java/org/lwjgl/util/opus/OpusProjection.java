@@ -46,22 +46,30 @@ public class OpusProjection {
 
         private Functions() {}
 
+        /** The names of the required functions, each terminated by a {@code NUL} character. */
+        private static final String FUNCTIONS =
+            "opus_projection_ambisonics_encoder_get_size\0opus_projection_ambisonics_encoder_create\0opus_projection_ambisonics_encoder_init\0opus_projection_encode\0" +
+            "opus_projection_encode_float\0opus_projection_encoder_ctl\0opus_projection_encoder_destroy\0opus_projection_decoder_get_size\0opus_projection_decoder_create\0" +
+            "opus_projection_decoder_init\0opus_projection_decode\0opus_projection_decode_float\0opus_projection_decoder_ctl\0opus_projection_decoder_destroy\0";
+
+        private static final long[] ADDRESSES = apiGetFunctionAddresses(Opus.getLibrary(), FUNCTIONS);
+
         /** Function address. */
         public static final long
-            projection_ambisonics_encoder_get_size = apiGetFunctionAddress(Opus.getLibrary(), "opus_projection_ambisonics_encoder_get_size"),
-            projection_ambisonics_encoder_create   = apiGetFunctionAddress(Opus.getLibrary(), "opus_projection_ambisonics_encoder_create"),
-            projection_ambisonics_encoder_init     = apiGetFunctionAddress(Opus.getLibrary(), "opus_projection_ambisonics_encoder_init"),
-            projection_encode                      = apiGetFunctionAddress(Opus.getLibrary(), "opus_projection_encode"),
-            projection_encode_float                = apiGetFunctionAddress(Opus.getLibrary(), "opus_projection_encode_float"),
-            projection_encoder_ctl                 = apiGetFunctionAddress(Opus.getLibrary(), "opus_projection_encoder_ctl"),
-            projection_encoder_destroy             = apiGetFunctionAddress(Opus.getLibrary(), "opus_projection_encoder_destroy"),
-            projection_decoder_get_size            = apiGetFunctionAddress(Opus.getLibrary(), "opus_projection_decoder_get_size"),
-            projection_decoder_create              = apiGetFunctionAddress(Opus.getLibrary(), "opus_projection_decoder_create"),
-            projection_decoder_init                = apiGetFunctionAddress(Opus.getLibrary(), "opus_projection_decoder_init"),
-            projection_decode                      = apiGetFunctionAddress(Opus.getLibrary(), "opus_projection_decode"),
-            projection_decode_float                = apiGetFunctionAddress(Opus.getLibrary(), "opus_projection_decode_float"),
-            projection_decoder_ctl                 = apiGetFunctionAddress(Opus.getLibrary(), "opus_projection_decoder_ctl"),
-            projection_decoder_destroy             = apiGetFunctionAddress(Opus.getLibrary(), "opus_projection_decoder_destroy");
+            projection_ambisonics_encoder_get_size = ADDRESSES[0],
+            projection_ambisonics_encoder_create   = ADDRESSES[1],
+            projection_ambisonics_encoder_init     = ADDRESSES[2],
+            projection_encode                      = ADDRESSES[3],
+            projection_encode_float                = ADDRESSES[4],
+            projection_encoder_ctl                 = ADDRESSES[5],
+            projection_encoder_destroy             = ADDRESSES[6],
+            projection_decoder_get_size            = ADDRESSES[7],
+            projection_decoder_create              = ADDRESSES[8],
+            projection_decoder_init                = ADDRESSES[9],
+            projection_decode                      = ADDRESSES[10],
+            projection_decode_float                = ADDRESSES[11],
+            projection_decoder_ctl                 = ADDRESSES[12],
+            projection_decoder_destroy             = ADDRESSES[13];
 
     }
 
@@ -373,4 +373,104 @@ public class VkVertexInputAttributeDescription extends Struct implements NativeR
 
     }
 
+    // -----------------------------------
+
+    /**
+     * A struct-of-arrays container for {@link VkVertexInputAttributeDescription} data.
+     *
+     * <p>Each primitive member is stored in a separate column. Data is copied from and to {@link VkVertexInputAttributeDescription.Buffer} instances with
+     * {@link #gather gather} and {@link #scatter scatter}.</p>
+     */
+    public static class SoA extends StructSoA {
+
+        private static final int[] COLUMNS = { 4, 4, 4, 4 };
+
+        private final long location;
+        private final long binding;
+        private final long format;
+        private final long offset;
+
+        /**
+         * Creates a new {@code VkVertexInputAttributeDescription.SoA} instance. The instance must be explicitly freed.
+         *
+         * @param capacity the number of elements in each column
+         */
+        public SoA(int capacity) {
+            super(capacity, COLUMNS);
+            this.location = __column(0);
+            this.binding = __column(1);
+            this.format = __column(2);
+            this.offset = __column(3);
+        }
+
+        /** Returns a {@link IntBuffer} view of the {@code location} column. */
+        public IntBuffer location() { return memIntBuffer(this.location, capacity); }
+        /** Returns the {@code location} value at the specified index. */
+        public int location(int index) { return UNSAFE.getInt(null, this.location + __index(index) * 4); }
+        /** Sets the {@code location} value at the specified index. */
+        public SoA location(int index, int value) { UNSAFE.putInt(null, this.location + __index(index) * 4, value); return this; }
+
+        /** Returns a {@link IntBuffer} view of the {@code binding} column. */
+        public IntBuffer binding() { return memIntBuffer(this.binding, capacity); }
+        /** Returns the {@code binding} value at the specified index. */
+        public int binding(int index) { return UNSAFE.getInt(null, this.binding + __index(index) * 4); }
+        /** Sets the {@code binding} value at the specified index. */
+        public SoA binding(int index, int value) { UNSAFE.putInt(null, this.binding + __index(index) * 4, value); return this; }
+
+        /** Returns a {@link IntBuffer} view of the {@code format} column. */
+        public IntBuffer format() { return memIntBuffer(this.format, capacity); }
+        /** Returns the {@code format} value at the specified index. */
+        public int format(int index) { return UNSAFE.getInt(null, this.format + __index(index) * 4); }
+        /** Sets the {@code format} value at the specified index. */
+        public SoA format(int index, int value) { UNSAFE.putInt(null, this.format + __index(index) * 4, value); return this; }
+
+        /** Returns a {@link IntBuffer} view of the {@code offset} column. */
+        public IntBuffer offset() { return memIntBuffer(this.offset, capacity); }
+        /** Returns the {@code offset} value at the specified index. */
+        public int offset(int index) { return UNSAFE.getInt(null, this.offset + __index(index) * 4); }
+        /** Sets the {@code offset} value at the specified index. */
+        public SoA offset(int index, int value) { UNSAFE.putInt(null, this.offset + __index(index) * 4, value); return this; }
+
+        /**
+         * Copies the remaining structs of the specified buffer to the columns, starting at index 0. The buffer position is not modified.
+         *
+         * @param src the source struct buffer
+         *
+         * @return the number of structs copied
+         */
+        public int gather(VkVertexInputAttributeDescription.Buffer src) {
+            int  count  = __count(src);
+            long struct = src.address();
+            for (int i = 0; i < count; i++, struct += SIZEOF) {
+                long index = i;
+                UNSAFE.putInt(null, this.location + index * 4, UNSAFE.getInt(null, struct + VkVertexInputAttributeDescription.LOCATION));
+                UNSAFE.putInt(null, this.binding + index * 4, UNSAFE.getInt(null, struct + VkVertexInputAttributeDescription.BINDING));
+                UNSAFE.putInt(null, this.format + index * 4, UNSAFE.getInt(null, struct + VkVertexInputAttributeDescription.FORMAT));
+                UNSAFE.putInt(null, this.offset + index * 4, UNSAFE.getInt(null, struct + VkVertexInputAttributeDescription.OFFSET));
+            }
+            return count;
+        }
+
+        /**
+         * Copies the columns, starting at index 0, to the remaining structs of the specified buffer. The buffer position is not modified.
+         *
+         * @param dst the destination struct buffer
+         *
+         * @return the number of structs copied
+         */
+        public int scatter(VkVertexInputAttributeDescription.Buffer dst) {
+            int  count  = __count(dst);
+            long struct = dst.address();
+            for (int i = 0; i < count; i++, struct += SIZEOF) {
+                long index = i;
+                UNSAFE.putInt(null, struct + VkVertexInputAttributeDescription.LOCATION, UNSAFE.getInt(null, this.location + index * 4));
+                UNSAFE.putInt(null, struct + VkVertexInputAttributeDescription.BINDING, UNSAFE.getInt(null, this.binding + index * 4));
+                UNSAFE.putInt(null, struct + VkVertexInputAttributeDescription.FORMAT, UNSAFE.getInt(null, this.format + index * 4));
+                UNSAFE.putInt(null, struct + VkVertexInputAttributeDescription.OFFSET, UNSAFE.getInt(null, this.offset + index * 4));
+            }
+            return count;
+        }
+
+    }
+
 }
\ No newline at end of file
@@ -2429,7 +2429,7 @@ val VkVertexInputBindingDescription = struct(Module.VULKAN, "VkVertexInputBindin
     VkVertexInputRate("inputRate", "a {@code VkVertexInputRate} value specifying whether vertex attribute addressing is a function of the vertex index or of the instance index.")
 }
 
-val VkVertexInputAttributeDescription = struct(Module.VULKAN, "VkVertexInputAttributeDescription") {
+val VkVertexInputAttributeDescription = struct(Module.VULKAN, "VkVertexInputAttributeDescription", soa = true) {
     documentation =
         """
         Structure specifying vertex input attribute description.
@@ -0,0 +1,500 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.zstd;
+
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.system.libc.LibCString.*;
+import static org.lwjgl.util.zstd.Zstd.*;
+
+/**
+ * Compresses and decompresses data in the Zstandard seekable format, using multiple threads.
+ *
+ * <p>The input is split into blocks of {@link #blockSize blockSize} bytes, which are compressed independently, as separate Zstandard frames, on a
+ * {@link ForkJoinPool}. The frames are followed by a seek table, stored in a skippable frame, which records the compressed and decompressed size of each
+ * frame. With the {@link SeekTable}, the frames can be decompressed in parallel, or a range of the decompressed data can be read without decompressing the
+ * preceding frames.</p>
+ *
+ * <p>The output is a valid Zstandard stream and can be decompressed by any Zstandard decoder. The seek table layout is described in the
+ * {@code contrib/seekable_format} documentation of the Zstandard project. The seek table written by this class does not include checksums, content
+ * checksums are stored in each frame if {@link #checksum checksum} is enabled.</p>
+ *
+ * <p>Compression and decompression contexts are created on demand, one per worker thread, and reused by subsequent calls. An instance may be used
+ * concurrently by multiple threads, but the configuration methods must not be called while a compression is in progress.</p>
+ */
+public final class ZstdSeekable implements AutoCloseable {
+
+    /** The magic number of the seek table skippable frame. */
+    public static final int SEEKABLE_SKIPPABLE_MAGIC = 0x184D2A5E;
+    /** The magic number at the end of the seek table. */
+    public static final int SEEKABLE_MAGIC           = 0x8F92EAB1;
+
+    /** The maximum size of a block. The compressed size of a block must fit in 32 bits. */
+    public static final int SEEKABLE_MAX_BLOCK_SIZE = 1 << 30;
+
+    private static final int SKIPPABLE_HEADER_SIZE = 8;
+    private static final int SEEK_TABLE_FOOTER_SIZE = 9;
+
+    private final ForkJoinPool pool;
+
+    private int blockSize = 1024 * 1024;
+
+    private final Queue<Long> cctxs = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> dctxs = new ConcurrentLinkedQueue<>();
+
+    private int     level = ZSTD_CLEVEL_DEFAULT;
+    private boolean checksum;
+
+    /**
+     * Creates a new {@code ZstdSeekable} instance.
+     *
+     * @param pool the pool that executes the compression and decompression tasks
+     */
+    public ZstdSeekable(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Sets the size of the blocks that are compressed independently. Default: 1MB.
+     *
+     * <p>Smaller blocks increase the available parallelism and reduce the cost of random access. Larger blocks improve the compression ratio.</p>
+     */
+    public ZstdSeekable blockSize(int blockSize) {
+        if (blockSize <= 0 || SEEKABLE_MAX_BLOCK_SIZE < blockSize) {
+            throw new IllegalArgumentException("Invalid block size: " + blockSize);
+        }
+        this.blockSize = blockSize;
+        return this;
+    }
+
+    /** Sets the compression level. Default: {@link Zstd#ZSTD_CLEVEL_DEFAULT CLEVEL_DEFAULT}. */
+    public ZstdSeekable level(int level) {
+        this.level = level;
+        return this;
+    }
+
+    /** Enables content checksums in each frame. Default: false. */
+    public ZstdSeekable checksum(boolean checksum) {
+        this.checksum = checksum;
+        return this;
+    }
+
+    /**
+     * Returns the maximum compressed size of {@code srcSize} bytes, with the current block size.
+     *
+     * <p>Blocks are compressed in place in the destination buffer, so {@link #compress compress} requires this capacity even if the compressed data are
+     * smaller.</p>
+     */
+    public long compressBound(long srcSize) {
+        long blocks = blocks(srcSize);
+        if (blocks == 0L) {
+            return SKIPPABLE_HEADER_SIZE + SEEK_TABLE_FOOTER_SIZE;
+        }
+        return (blocks - 1) * frameBound(blockSize)
+               + frameBound(srcSize - (blocks - 1) * blockSize)
+               + seekTableSize((int)blocks);
+    }
+
+    private long blocks(long srcSize) {
+        long blocks = (srcSize + blockSize - 1) / blockSize;
+        if (Integer.MAX_VALUE < blocks) {
+            throw new IllegalArgumentException("Too many blocks: " + blocks);
+        }
+        return blocks;
+    }
+
+    private static int seekTableSize(int frames) {
+        return SKIPPABLE_HEADER_SIZE + frames * 8 + SEEK_TABLE_FOOTER_SIZE;
+    }
+
+    /**
+     * Compresses {@code src} into {@code dst}.
+     *
+     * @param dst the destination buffer. Must have at least {@link #compressBound compressBound}{@code (src.remaining())} bytes remaining.
+     * @param src the data to compress
+     *
+     * @return the compressed size
+     */
+    public long compress(ByteBuffer dst, ByteBuffer src) {
+        return ncompress(memAddress(dst), dst.remaining(), memAddress(src), src.remaining());
+    }
+
+    /** Unsafe version of: {@link #compress} */
+    public long ncompress(long dst, long dstCapacity, long src, long srcSize) {
+        int  blocks = (int)blocks(srcSize);
+        long bound  = compressBound(srcSize);
+        if (dstCapacity < bound) {
+            throw new IllegalArgumentException("The destination buffer is too small: " + dstCapacity + " < " + bound);
+        }
+
+        int  blockSize = this.blockSize;
+        long slot      = frameBound(blockSize);
+
+        // Compress each block to a slot of the destination buffer
+        long[] sizes = new long[blocks];
+        run(blocks, true, (cctx, i) -> {
+            long offset = (long)i * blockSize;
+            sizes[i] = compressFrame(
+                cctx, i,
+                dst + i * slot, i == blocks - 1 ? dstCapacity - i * slot : slot,
+                src + offset, Math.min(blockSize, srcSize - offset)
+            );
+        });
+
+        // Compact the frames and append the seek table
+        long offset = 0L;
+        for (int i = 0; i < blocks; i++) {
+            if (offset != i * slot) {
+                nmemmove(dst + offset, dst + i * slot, sizes[i]);
+            }
+            offset += sizes[i];
+        }
+
+        long table = dst + offset;
+        memPutInt(table, SEEKABLE_SKIPPABLE_MAGIC);
+        memPutInt(table + 4, seekTableSize(blocks) - SKIPPABLE_HEADER_SIZE);
+        table += SKIPPABLE_HEADER_SIZE;
+        for (int i = 0; i < blocks; i++, table += 8) {
+            memPutInt(table, (int)sizes[i]);
+            memPutInt(table + 4, (int)Math.min(blockSize, srcSize - (long)i * blockSize));
+        }
+        memPutInt(table, blocks);
+        memPutByte(table + 4, (byte)0);
+        memPutInt(table + 5, SEEKABLE_MAGIC);
+
+        return offset + seekTableSize(blocks);
+    }
+
+    /**
+     * Decompresses all frames of {@code src} into {@code dst}.
+     *
+     * @param table the seek table of {@code src}
+     * @param dst   the destination buffer. Must have at least {@link SeekTable#getDecompressedSize}{@code ()} bytes remaining.
+     * @param src   data compressed in the seekable format
+     */
+    public void decompress(SeekTable table, ByteBuffer dst, ByteBuffer src) {
+        ndecompress(table, memAddress(dst), dst.remaining(), memAddress(src), src.remaining());
+    }
+
+    /** Unsafe version of: {@link #decompress} */
+    public void ndecompress(SeekTable table, long dst, long dstCapacity, long src, long srcSize) {
+        if (dstCapacity < table.getDecompressedSize()) {
+            throw new IllegalArgumentException("The destination buffer is too small: " + dstCapacity + " < " + table.getDecompressedSize());
+        }
+        table.check(srcSize);
+
+        run(table.getFrameCount(), false, (dctx, i) -> decompressFrame(table, dctx, i, dst + table.getDecompressedOffset(i), src));
+    }
+
+    /**
+     * Decompresses {@code dst.remaining()} bytes of {@code src}, starting at the specified offset in the decompressed data.
+     *
+     * <p>Only the frames that contain the requested range are decompressed.</p>
+     *
+     * @param table    the seek table of {@code src}
+     * @param dst      the destination buffer
+     * @param src      data compressed in the seekable format
+     * @param position the offset in the decompressed data
+     *
+     * @return the number of bytes read, which is less than {@code dst.remaining()} if the end of the decompressed data is reached
+     */
+    public long read(SeekTable table, ByteBuffer dst, ByteBuffer src, long position) {
+        return nread(table, memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), position);
+    }
+
+    /** Unsafe version of: {@link #read} */
+    public long nread(SeekTable table, long dst, long dstSize, long src, long srcSize, long position) {
+        if (position < 0L || table.getDecompressedSize() < position) {
+            throw new IllegalArgumentException("Invalid position: " + position);
+        }
+        table.check(srcSize);
+
+        long end = Math.min(position + dstSize, table.getDecompressedSize());
+        if (end == position) {
+            return 0L;
+        }
+
+        int first = table.getFrame(position);
+        int last  = table.getFrame(end - 1);
+
+        run(last - first + 1, false, (dctx, i) -> {
+            int  frame  = first + i;
+            long offset = table.getDecompressedOffset(frame);
+            long size   = table.getDecompressedSize(frame);
+
+            if (position <= offset && offset + size <= end) {
+                decompressFrame(table, dctx, frame, dst + (offset - position), src);
+            } else {
+                // Partially requested frame
+                long buffer = nmemAllocChecked(size);
+                try {
+                    decompressFrame(table, dctx, frame, buffer, src);
+
+                    long from = Math.max(position, offset);
+                    memCopy(buffer + (from - offset), dst + (from - position), Math.min(end, offset + size) - from);
+                } finally {
+                    nmemFree(buffer);
+                }
+            }
+        });
+
+        return end - position;
+    }
+
+    private void decompressFrame(SeekTable table, long dctx, int frame, long dst, long src) {
+        decompressFrame(
+            dctx, frame,
+            dst, table.getDecompressedSize(frame),
+            src + table.getCompressedOffset(frame), table.getCompressedSize(frame)
+        );
+    }
+
+    private long frameBound(long srcSize) {
+        return ZSTD_compressBound(srcSize);
+    }
+
+    private long compressFrame(long cctx, int block, long dst, long dstCapacity, long src, long srcSize) {
+        long size = nZSTD_compress2(cctx, dst, dstCapacity, src, srcSize);
+        if (ZSTD_isError(size)) {
+            throw new IllegalStateException("Failed to compress block " + block + ": " + ZSTD_getErrorName(size));
+        }
+        return size;
+    }
+
+    private void decompressFrame(long dctx, int frame, long dst, long dstSize, long src, long srcSize) {
+        long result = nZSTD_decompressDCtx(dctx, dst, dstSize, src, srcSize);
+        if (ZSTD_isError(result)) {
+            ZSTD_DCtx_reset(dctx, ZSTD_reset_session_only);
+            throw new IllegalStateException("Failed to decompress frame " + frame + ": " + ZSTD_getErrorName(result));
+        }
+        if (result != dstSize) {
+            throw new IllegalStateException("Invalid decompressed size of frame " + frame + ": " + result + " (expected: " + dstSize + ")");
+        }
+    }
+
+    private long createCompressionContext() {
+        long cctx = ZSTD_createCCtx();
+        if (cctx == NULL) {
+            throw new OutOfMemoryError("Failed to create a compression context.");
+        }
+        return cctx;
+    }
+
+    private void resetCompressionContext(long cctx) {
+        // Parameters are sticky, reapply them for each compression
+        check(ZSTD_CCtx_setParameter(cctx, ZSTD_c_compressionLevel, level));
+        check(ZSTD_CCtx_setParameter(cctx, ZSTD_c_checksumFlag, checksum ? 1 : 0));
+    }
+
+    private static void check(long rc) {
+        if (ZSTD_isError(rc)) {
+            throw new IllegalArgumentException(ZSTD_getErrorName(rc));
+        }
+    }
+
+    private void freeCompressionContext(long cctx) {
+        ZSTD_freeCCtx(cctx);
+    }
+
+    private long createDecompressionContext() {
+        long dctx = ZSTD_createDCtx();
+        if (dctx == NULL) {
+            throw new OutOfMemoryError("Failed to create a decompression context.");
+        }
+        return dctx;
+    }
+
+    private void freeDecompressionContext(long dctx) {
+        ZSTD_freeDCtx(dctx);
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void exec(long context, int index);
+    }
+
+    /** Executes {@code task} for each index in {@code [0, count)}, on up to {@code parallelism} workers that each own a context. */
+    private void run(int count, boolean compress, Task task) {
+        if (count == 0) {
+            return;
+        }
+
+        AtomicInteger next = new AtomicInteger();
+
+        Runnable worker = () -> {
+            long context = compress ? acquireCCtx() : acquireDCtx();
+            try {
+                for (int i; (i = next.getAndIncrement()) < count; ) {
+                    task.exec(context, i);
+                }
+            } finally {
+                (compress ? cctxs : dctxs).offer(context);
+            }
+        };
+
+        int workers = Math.min(count, pool.getParallelism());
+        if (workers == 1) {
+            worker.run();
+            return;
+        }
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(ForkJoinTask.adapt(worker));
+        }
+        if (ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() == pool) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        }
+    }
+
+    private long acquireCCtx() {
+        Long cctx = cctxs.poll();
+        long ctx  = cctx == null ? createCompressionContext() : cctx;
+        try {
+            resetCompressionContext(ctx);
+        } catch (Throwable t) {
+            cctxs.offer(ctx);
+            throw t;
+        }
+        return ctx;
+    }
+
+    private long acquireDCtx() {
+        Long dctx = dctxs.poll();
+        return dctx == null ? createDecompressionContext() : dctx;
+    }
+
+    /** Frees the cached compression and decompression contexts. The pool is not shut down. */
+    @Override
+    public void close() {
+        for (Long cctx; (cctx = cctxs.poll()) != null; ) {
+            freeCompressionContext(cctx);
+        }
+        for (Long dctx; (dctx = dctxs.poll()) != null; ) {
+            freeDecompressionContext(dctx);
+        }
+    }
+
+    /** The seek table of data compressed in the seekable format. */
+    public static final class SeekTable {
+
+        /** The compressed offsets of the frames, plus the end of the last frame. */
+        private final long[] compressed;
+        /** The decompressed offsets of the frames, plus the total decompressed size. */
+        private final long[] decompressed;
+
+        private SeekTable(long[] compressed, long[] decompressed) {
+            this.compressed = compressed;
+            this.decompressed = decompressed;
+        }
+
+        /**
+         * Reads the seek table at the end of {@code src}.
+         *
+         * @param src data compressed in the seekable format
+         */
+        public static SeekTable read(ByteBuffer src) {
+            return nread(memAddress(src), src.remaining());
+        }
+
+        /** Unsafe version of: {@link #read} */
+        public static SeekTable nread(long src, long srcSize) {
+            if (srcSize < SKIPPABLE_HEADER_SIZE + SEEK_TABLE_FOOTER_SIZE) {
+                throw new IllegalArgumentException("The seek table is missing.");
+            }
+
+            long footer = src + srcSize - SEEK_TABLE_FOOTER_SIZE;
+            if (memGetInt(footer + 5) != SEEKABLE_MAGIC) {
+                throw new IllegalArgumentException("The seek table is missing.");
+            }
+
+            int frames     = memGetInt(footer);
+            int descriptor = Byte.toUnsignedInt(memGetByte(footer + 4));
+            if ((descriptor & 0x7C) != 0) {
+                throw new IllegalArgumentException("Invalid seek table descriptor: " + descriptor);
+            }
+
+            int  entrySize = (descriptor & 0x80) != 0 ? 12 : 8;
+            long tableSize = SKIPPABLE_HEADER_SIZE + (Integer.toUnsignedLong(frames) * entrySize) + SEEK_TABLE_FOOTER_SIZE;
+            if (frames < 0 || srcSize < tableSize) {
+                throw new IllegalArgumentException("Invalid number of frames: " + Integer.toUnsignedLong(frames));
+            }
+
+            long table = src + srcSize - tableSize;
+            if (memGetInt(table) != SEEKABLE_SKIPPABLE_MAGIC || Integer.toUnsignedLong(memGetInt(table + 4)) != tableSize - SKIPPABLE_HEADER_SIZE) {
+                throw new IllegalArgumentException("Invalid seek table header.");
+            }
+            table += SKIPPABLE_HEADER_SIZE;
+
+            long[] compressed   = new long[frames + 1];
+            long[] decompressed = new long[frames + 1];
+            for (int i = 0; i < frames; i++, table += entrySize) {
+                compressed[i + 1] = compressed[i] + Integer.toUnsignedLong(memGetInt(table));
+                decompressed[i + 1] = decompressed[i] + Integer.toUnsignedLong(memGetInt(table + 4));
+            }
+            if (compressed[frames] != srcSize - tableSize) {
+                throw new IllegalArgumentException("The seek table does not match the compressed data.");
+            }
+
+            return new SeekTable(compressed, decompressed);
+        }
+
+        void check(long srcSize) {
+            if (srcSize < compressed[compressed.length - 1]) {
+                throw new IllegalArgumentException("The source buffer does not contain all frames.");
+            }
+        }
+
+        /** Returns the number of frames. */
+        public int getFrameCount() { return compressed.length - 1; }
+
+        /** Returns the total decompressed size. */
+        public long getDecompressedSize() { return decompressed[decompressed.length - 1]; }
+
+        /** Returns the offset of the specified frame in the compressed data. */
+        public long getCompressedOffset(int frame) { return compressed[frame]; }
+
+        /** Returns the compressed size of the specified frame. */
+        public long getCompressedSize(int frame) { return compressed[frame + 1] - compressed[frame]; }
+
+        /** Returns the offset of the specified frame in the decompressed data. */
+        public long getDecompressedOffset(int frame) { return decompressed[frame]; }
+
+        /** Returns the decompressed size of the specified frame. */
+        public long getDecompressedSize(int frame) { return decompressed[frame + 1] - decompressed[frame]; }
+
+        /**
+         * Returns the frame that contains the specified offset in the decompressed data.
+         *
+         * @param position an offset in {@code [0, getDecompressedSize())}
+         */
+        public int getFrame(long position) {
+            if (position < 0L || getDecompressedSize() <= position) {
+                throw new IndexOutOfBoundsException(Long.toString(position));
+            }
+
+            // Frames may be empty, find the last frame that starts at or before position
+            int lo = 0;
+            int hi = getFrameCount() - 1;
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (decompressed[mid] <= position) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return lo;
+        }
+
+    }
+
+}
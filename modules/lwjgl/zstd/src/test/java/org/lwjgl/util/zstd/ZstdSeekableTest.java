@@ -0,0 +1,166 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.zstd;
+
+import org.testng.annotations.*;
+
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.zstd.Zstd.*;
+import static org.testng.Assert.*;
+
+@Test
+public class ZstdSeekableTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeClass
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private static ByteBuffer data(int size) {
+        ByteBuffer data = memAlloc(size);
+
+        // Compressible: random runs of a small alphabet
+        Random random = new Random(42);
+        for (int i = 0; i < size; ) {
+            byte b   = (byte)('a' + random.nextInt(16));
+            int  run = Math.min(size - i, 1 + random.nextInt(8));
+            for (int j = 0; j < run; j++) {
+                data.put(i++, b);
+            }
+        }
+        return data;
+    }
+
+    private static ByteBuffer compress(ZstdSeekable zstd, ByteBuffer src) {
+        ByteBuffer dst = memAlloc((int)zstd.compressBound(src.remaining()));
+        dst.limit((int)zstd.compress(dst, src));
+        return dst;
+    }
+
+    public void testRoundTrip() {
+        ByteBuffer src = data(5 * 64 * 1024 + 123);
+        try (ZstdSeekable zstd = new ZstdSeekable(pool).blockSize(64 * 1024).checksum(true)) {
+            ByteBuffer compressed = compress(zstd, src);
+            ByteBuffer dst        = memAlloc(src.remaining());
+            try {
+                assertTrue(compressed.remaining() < src.remaining());
+
+                ZstdSeekable.SeekTable table = ZstdSeekable.SeekTable.read(compressed);
+                assertEquals(table.getFrameCount(), 6);
+                assertEquals(table.getDecompressedSize(), src.remaining());
+                assertEquals(table.getDecompressedSize(5), 123);
+                assertEquals(table.getFrame(64 * 1024 - 1), 0);
+                assertEquals(table.getFrame(64 * 1024), 1);
+
+                zstd.decompress(table, dst, compressed);
+                assertEquals(dst, src);
+
+                // The output is a regular Zstandard stream
+                memSet(dst, 0);
+                assertEquals(ZSTD_decompress(dst, compressed), src.remaining());
+                assertEquals(dst, src);
+
+                // Compressing again reuses the contexts
+                ByteBuffer again = compress(zstd, src);
+                assertEquals(again, compressed);
+                memFree(again);
+            } finally {
+                memFree(dst);
+                memFree(compressed);
+                memFree(src);
+            }
+        }
+    }
+
+    public void testRead() {
+        ByteBuffer src = data(1024 * 1024);
+        try (ZstdSeekable zstd = new ZstdSeekable(pool).blockSize(10_000)) {
+            ByteBuffer compressed = compress(zstd, src);
+            ByteBuffer dst        = memAlloc(200_000);
+            try {
+                ZstdSeekable.SeekTable table = ZstdSeekable.SeekTable.read(compressed);
+
+                Random random = new Random(7);
+                for (int i = 0; i < 100; i++) {
+                    int position = random.nextInt(src.remaining());
+                    int size     = random.nextInt(dst.capacity());
+
+                    dst.clear().limit(size);
+                    long read = zstd.read(table, dst, compressed, position);
+                    assertEquals(read, Math.min(size, src.remaining() - position));
+
+                    dst.limit((int)read);
+                    src.position(position).limit(position + (int)read);
+                    assertEquals(dst, src);
+                    src.clear();
+                }
+
+                dst.clear();
+                assertEquals(zstd.read(table, dst, compressed, src.remaining()), 0L);
+            } finally {
+                memFree(dst);
+                memFree(compressed);
+                memFree(src);
+            }
+        }
+    }
+
+    public void testEmpty() {
+        try (ZstdSeekable zstd = new ZstdSeekable(pool)) {
+            ByteBuffer src        = memAlloc(0);
+            ByteBuffer compressed = compress(zstd, src);
+            try {
+                ZstdSeekable.SeekTable table = ZstdSeekable.SeekTable.read(compressed);
+                assertEquals(table.getFrameCount(), 0);
+                assertEquals(table.getDecompressedSize(), 0L);
+                zstd.decompress(table, src, compressed);
+            } finally {
+                memFree(compressed);
+                memFree(src);
+            }
+        }
+    }
+
+    public void testInvalid() {
+        ByteBuffer src = data(100_000);
+        try (ZstdSeekable zstd = new ZstdSeekable(pool).blockSize(30_000).checksum(true)) {
+            ByteBuffer compressed = compress(zstd, src);
+            ByteBuffer dst        = memAlloc(src.remaining());
+            try {
+                ZstdSeekable.SeekTable table = ZstdSeekable.SeekTable.read(compressed);
+
+                // Truncated seek table
+                ByteBuffer truncated = compressed.duplicate();
+                truncated.limit(truncated.limit() - 1);
+                expectThrows(IllegalArgumentException.class, () -> ZstdSeekable.SeekTable.read(truncated));
+
+                // Corrupted frame
+                int offset = (int)table.getCompressedOffset(2) + (int)table.getCompressedSize(2) / 2;
+                compressed.put(offset, (byte)~compressed.get(offset));
+                expectThrows(IllegalStateException.class, () -> zstd.decompress(table, dst, compressed));
+
+                // The other frames are still readable
+                dst.clear().limit(60_000);
+                assertEquals(zstd.read(table, dst, compressed, 0L), 60_000L);
+            } finally {
+                memFree(dst);
+                memFree(compressed);
+                memFree(src);
+            }
+        }
+    }
+
+}
@@ -13,6 +13,7 @@ import java.nio.*;
 
 import static org.lwjgl.demo.util.lmdb.LMDBUtil.*;
 import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
 import static org.lwjgl.util.lmdb.LMDB.*;
 
 /**
@@ -21,11 +22,16 @@ import static org.lwjgl.util.lmdb.LMDB.*;
  * <p>The database files are deleted between benchmark iterations. This is meant to
  * test the custom patch for incremental growth (ITS#8324) on Windows. It is roughly
  * 25x faster on Windows 10, Ryzen 1800X, Samsung 960 EVO.</p>
+ *
+ * <p>Each iteration also measures {@link LMDBStore} against the raw LMDB calls: the same inserts through {@link LMDBStore.Writer#reserve}, then random
+ * point lookups with a new read-only transaction and stack-allocated {@link MDBVal} structs per lookup, versus lookups through the recycled read
+ * transaction of the store.</p>
  */
 public final class AppendOnlyBench {
 
     private static final int BENCH_ITERS = 16;
     private static final int BENCH_PAIRS = 1_000_000;
+    private static final int BENCH_READS = 1_000_000;
 
     static {
         // This is necessary because of the horrible mdb_strerror implementation on Windows.
@@ -45,7 +51,9 @@ public final class AppendOnlyBench {
 
     public static void main(String[] args) {
         for (int i = 0; i < BENCH_ITERS; i++) {
+            System.out.print("raw put: ");
             bench0C();
+            benchStore();
         }
     }
 
@@ -159,4 +167,101 @@ public final class AppendOnlyBench {
         }
     }
 
-}
\ No newline at end of file
+    private static void benchStore() {
+        File dir = createDatabaseDirectory("lmdb");
+
+        long env;
+        try (MemoryStack stack = stackPush()) {
+            PointerBuffer pp = stack.mallocPointer(1);
+            E(mdb_env_create(pp));
+            env = pp.get(0);
+        }
+
+        try {
+            // Open environment
+            E(mdb_env_open(env, dir.getPath(), MDB_NOSYNC | MDB_WRITEMAP, 0664));
+
+            mdb_env_set_mapsize(env, 64 * 1024 * 1024);
+
+            // Open database
+            int dbi = openDatabase(env);
+
+            try (LMDBStore store = new LMDBStore(env, dbi)) {
+                long t = System.nanoTime();
+                store.write(writer -> {
+                    try (MemoryStack stack = stackPush()) {
+                        ByteBuffer kd = stack.malloc(4);
+                        for (int i = 0; i < BENCH_PAIRS; i++) {
+                            kd.putInt(0, i);
+
+                            //noinspection ConstantConditions
+                            writer.reserve(kd, 4, 0).putInt(0, i);
+                        }
+                    }
+                    return null;
+                });
+                t = System.nanoTime() - t;
+                System.out.println("store put: " + (t / BENCH_PAIRS) + "ns");
+
+                // Random lookups, one read-only transaction per lookup
+                long sum = 0;
+                t = System.nanoTime();
+                try (MemoryStack stack = stackPush()) {
+                    PointerBuffer pp = stack.mallocPointer(1);
+                    ByteBuffer    kd = stack.malloc(4);
+
+                    int key = 0;
+                    for (int i = 0; i < BENCH_READS; i++) {
+                        key = nextKey(key);
+                        kd.putInt(0, key);
+
+                        try (MemoryStack frame = stack.push()) {
+                            MDBVal kv = MDBVal.callocStack(frame).mv_data(kd);
+                            MDBVal dv = MDBVal.callocStack(frame);
+
+                            E(mdb_txn_begin(env, NULL, MDB_RDONLY, pp));
+                            long txn = pp.get(0);
+                            try {
+                                E(mdb_get(txn, dbi, kv, dv));
+                                //noinspection ConstantConditions
+                                sum += dv.mv_data().getInt(0);
+                            } finally {
+                                mdb_txn_abort(txn);
+                            }
+                        }
+                    }
+                }
+                t = System.nanoTime() - t;
+                System.out.println("raw get: " + (t / BENCH_READS) + "ns (" + sum + ")");
+
+                sum = 0;
+                t = System.nanoTime();
+                try (MemoryStack stack = stackPush()) {
+                    ByteBuffer kd = stack.malloc(4);
+
+                    int key = 0;
+                    for (int i = 0; i < BENCH_READS; i++) {
+                        key = nextKey(key);
+                        kd.putInt(0, key);
+
+                        //noinspection ConstantConditions
+                        sum += store.read(reader -> reader.get(kd).getInt(0));
+                    }
+                }
+                t = System.nanoTime() - t;
+                System.out.println("store get: " + (t / BENCH_READS) + "ns (" + sum + ")");
+            }
+
+            mdb_dbi_close(env, dbi);
+        } finally {
+            mdb_env_close(env);
+            deleteDatabaseDirectory("lmdb");
+        }
+    }
+
+    /** Steps through all keys in a pseudo-random order. */
+    private static int nextKey(int key) {
+        return (key + 611_953) % BENCH_PAIRS;
+    }
+
+}
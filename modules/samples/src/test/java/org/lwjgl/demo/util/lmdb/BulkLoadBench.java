@@ -0,0 +1,126 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.demo.util.lmdb;
+
+import org.lwjgl.*;
+import org.lwjgl.system.*;
+import org.lwjgl.util.lmdb.*;
+
+import java.io.*;
+import java.nio.*;
+
+import static org.lwjgl.demo.util.lmdb.LMDBUtil.*;
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.util.lmdb.LMDB.*;
+
+/**
+ * Benchmarks loading 4m sequential int:long pairs, with one {@code mdb_cursor_put} call per record versus {@link LMDBBulkLoader}.
+ *
+ * <p>Both paths use {@code MDB_APPEND} and commit every {@link #TRANSACTION_SIZE} records. The bulk path fills an {@link LMDBBatch} of
+ * {@link #BATCH_SIZE} records and stores it with a single JNI call per batch and transaction.</p>
+ */
+public final class BulkLoadBench {
+
+    private static final int BENCH_ITERS = 8;
+    private static final int BENCH_PAIRS = 4_000_000;
+
+    private static final int BATCH_SIZE       = 64 * 1024;
+    private static final int TRANSACTION_SIZE = 1_000_000;
+
+    private BulkLoadBench() {
+    }
+
+    public static void main(String[] args) {
+        for (int i = 0; i < BENCH_ITERS; i++) {
+            bench("per-record", BulkLoadBench::loadPerRecord);
+            bench("bulk", BulkLoadBench::loadBulk);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Loader {
+        void load(long env, int dbi);
+    }
+
+    private static void bench(String name, Loader loader) {
+        File dir = createDatabaseDirectory("lmdb");
+
+        long env;
+        try (MemoryStack stack = stackPush()) {
+            PointerBuffer pp = stack.mallocPointer(1);
+            E(mdb_env_create(pp));
+            env = pp.get(0);
+        }
+
+        try {
+            mdb_env_set_mapsize(env, 512 * 1024 * 1024);
+
+            E(mdb_env_open(env, dir.getPath(), MDB_NOSYNC | MDB_WRITEMAP, 0664));
+
+            int dbi = openDatabase(env);
+
+            long t = System.nanoTime();
+            loader.load(env, dbi);
+            t = System.nanoTime() - t;
+
+            System.out.format("%10s: %,12d records/s%n", name, BENCH_PAIRS * 1_000_000_000L / t);
+
+            mdb_dbi_close(env, dbi);
+        } finally {
+            mdb_env_close(env);
+            deleteDatabaseDirectory("lmdb");
+        }
+    }
+
+    private static void loadPerRecord(long env, int dbi) {
+        for (int offset = 0; offset < BENCH_PAIRS; offset += TRANSACTION_SIZE) {
+            int from = offset;
+            int to   = Math.min(offset + TRANSACTION_SIZE, BENCH_PAIRS);
+            transaction(env, (stack, txn) -> {
+                MDBVal     kv = MDBVal.callocStack(stack);
+                ByteBuffer kd = stack.malloc(4);
+                kv.mv_data(kd);
+
+                MDBVal     dv = MDBVal.callocStack(stack);
+                ByteBuffer dd = stack.malloc(8);
+                dv.mv_data(dd);
+
+                PointerBuffer pp = stack.mallocPointer(1);
+                E(mdb_cursor_open(txn, dbi, pp));
+                long cursor = pp.get(0);
+
+                for (int i = from; i < to; i++) {
+                    kd.putInt(0, i);
+                    dd.putLong(0, i);
+
+                    E(mdb_cursor_put(cursor, kv, dv, MDB_APPEND));
+                }
+
+                return null;
+            });
+        }
+    }
+
+    private static void loadBulk(long env, int dbi) {
+        try (
+            LMDBBatch batch = new LMDBBatch(BATCH_SIZE * 24);
+            LMDBBulkLoader loader = new LMDBBulkLoader(env, dbi).transactionSize(TRANSACTION_SIZE);
+            MemoryStack stack = stackPush()
+        ) {
+            ByteBuffer kd = stack.malloc(4);
+            for (int i = 0; i < BENCH_PAIRS; i++) {
+                kd.putInt(0, i);
+                batch.reserve(kd, 8).putLong(0, i);
+
+                if (batch.records() == BATCH_SIZE) {
+                    loader.load(batch);
+                    batch.clear();
+                }
+            }
+            loader.load(batch);
+        }
+    }
+
+}
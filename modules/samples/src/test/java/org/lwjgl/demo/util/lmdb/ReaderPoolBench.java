@@ -0,0 +1,165 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.demo.util.lmdb;
+
+import org.lwjgl.*;
+import org.lwjgl.system.*;
+import org.lwjgl.util.lmdb.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.demo.util.lmdb.LMDBUtil.*;
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lmdb.LMDB.*;
+
+/**
+ * Benchmarks short read transactions on 1..N threads, with a {@code mdb_txn_begin}/{@code mdb_txn_abort} pair per task versus an {@link LMDBReaderPool}.
+ *
+ * <p>Each task performs {@link #LOOKUPS} random lookups. The environment is opened with {@code MDB_NOTLS}.</p>
+ */
+public final class ReaderPoolBench {
+
+    private static final int BENCH_ITERS = 4;
+    private static final int BENCH_PAIRS = 1_000_000;
+    private static final int BENCH_TASKS = 1_000_000;
+
+    private static final int LOOKUPS = 4;
+
+    private ReaderPoolBench() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        File dir = createDatabaseDirectory("lmdb");
+
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        long env;
+        try (MemoryStack stack = stackPush()) {
+            PointerBuffer pp = stack.mallocPointer(1);
+            E(mdb_env_create(pp));
+            env = pp.get(0);
+        }
+
+        try {
+            mdb_env_set_mapsize(env, 256 * 1024 * 1024);
+            mdb_env_set_maxreaders(env, cores * 2);
+
+            E(mdb_env_open(env, dir.getPath(), MDB_NOSYNC | MDB_NOTLS, 0664));
+
+            int dbi = openDatabase(env);
+
+            try (
+                LMDBBatch batch = new LMDBBatch(64 * 1024 * 24);
+                LMDBBulkLoader loader = new LMDBBulkLoader(env, dbi);
+                MemoryStack stack = stackPush()
+            ) {
+                ByteBuffer kd = stack.malloc(4);
+                for (int i = 0; i < BENCH_PAIRS; i++) {
+                    kd.putInt(0, i);
+                    batch.reserve(kd, 8).putLong(0, i);
+
+                    if (batch.records() == 64 * 1024) {
+                        loader.load(batch);
+                        batch.clear();
+                    }
+                }
+                loader.load(batch);
+            }
+
+            try (LMDBReaderPool pool = new LMDBReaderPool(env, cores)) {
+                for (int i = 0; i < BENCH_ITERS; i++) {
+                    for (int threads = 1; threads <= cores; threads *= 2) {
+                        bench("begin/abort", threads, (key, data, k) -> readRaw(env, dbi, key, data, k));
+                        bench("pool", threads, (key, data, k) -> pool.read(lease -> lookup(lease.txn(), dbi, key, data, k)));
+                    }
+                }
+                System.out.println(pool.getMetrics());
+            }
+
+            mdb_dbi_close(env, dbi);
+        } finally {
+            mdb_env_close(env);
+            deleteDatabaseDirectory("lmdb");
+        }
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        long run(MDBVal key, MDBVal data, int k);
+    }
+
+    private static void bench(String name, int threads, Task task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            int tasks = BENCH_TASKS / threads;
+
+            List<Callable<Long>> workers = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                int seed = t * 7919;
+                workers.add(() -> {
+                    MDBVal key  = MDBVal.calloc();
+                    MDBVal data = MDBVal.calloc();
+                    try {
+                        long sum = 0L;
+                        int  k   = seed;
+                        for (int i = 0; i < tasks; i++) {
+                            sum += task.run(key, data, k);
+                            k = (k + LOOKUPS * 611_953) % BENCH_PAIRS;
+                        }
+                        return sum;
+                    } finally {
+                        key.free();
+                        data.free();
+                    }
+                });
+            }
+
+            long t   = System.nanoTime();
+            long sum = 0L;
+            for (Future<Long> f : executor.invokeAll(workers)) {
+                sum += f.get();
+            }
+            t = System.nanoTime() - t;
+
+            System.out.format("%12s, %2d threads: %,12d tasks/s (%d)%n", name, threads, tasks * threads * 1_000_000_000L / t, sum);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static long readRaw(long env, int dbi, MDBVal key, MDBVal data, int k) {
+        long txn;
+        try (MemoryStack stack = stackPush()) {
+            PointerBuffer pp = stack.mallocPointer(1);
+            E(mdb_txn_begin(env, NULL, MDB_RDONLY, pp));
+            txn = pp.get(0);
+        }
+        try {
+            return lookup(txn, dbi, key, data, k);
+        } finally {
+            mdb_txn_abort(txn);
+        }
+    }
+
+    private static long lookup(long txn, int dbi, MDBVal key, MDBVal data, int k) {
+        try (MemoryStack stack = stackPush()) {
+            ByteBuffer kd = stack.malloc(4);
+            key.mv_data(kd);
+
+            long sum = 0L;
+            for (int i = 0; i < LOOKUPS; i++) {
+                kd.putInt(0, (k + i * 611_953) % BENCH_PAIRS);
+                E(mdb_get(txn, dbi, key, data));
+                sum += memGetLong(memGetAddress(data.address() + MDBVal.MV_DATA));
+            }
+            return sum;
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.demo.util.lmdb;
+
+import org.lwjgl.*;
+import org.lwjgl.system.*;
+import org.lwjgl.util.lmdb.*;
+
+import java.io.*;
+import java.nio.*;
+
+import static org.lwjgl.demo.util.lmdb.LMDBUtil.*;
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lmdb.LMDB.*;
+
+/**
+ * Benchmarks a full scan of 4m int:long pairs, with one {@code mdb_cursor_get(MDB_NEXT)} call per record versus {@link LMDBScan}, which retrieves
+ * {@link #BATCH_SIZE} records per JNI call.
+ */
+public final class ScanBench {
+
+    private static final int BENCH_ITERS = 16;
+    private static final int BENCH_PAIRS = 4_000_000;
+
+    private static final int BATCH_SIZE = 256;
+
+    private ScanBench() {
+    }
+
+    public static void main(String[] args) {
+        File dir = createDatabaseDirectory("lmdb");
+
+        long env;
+        try (MemoryStack stack = stackPush()) {
+            PointerBuffer pp = stack.mallocPointer(1);
+            E(mdb_env_create(pp));
+            env = pp.get(0);
+        }
+
+        try {
+            mdb_env_set_mapsize(env, 512 * 1024 * 1024);
+
+            E(mdb_env_open(env, dir.getPath(), MDB_NOSYNC | MDB_WRITEMAP, 0664));
+
+            int dbi = openDatabase(env);
+
+            try (
+                LMDBBatch batch = new LMDBBatch(64 * 1024 * 24);
+                LMDBBulkLoader loader = new LMDBBulkLoader(env, dbi);
+                MemoryStack stack = stackPush()
+            ) {
+                ByteBuffer kd = stack.malloc(4);
+                for (int i = 0; i < BENCH_PAIRS; i++) {
+                    kd.putInt(0, i);
+                    batch.reserve(kd, 8).putLong(0, i);
+
+                    if (batch.records() == 64 * 1024) {
+                        loader.load(batch);
+                        batch.clear();
+                    }
+                }
+                loader.load(batch);
+            }
+
+            try (
+                LMDBStore store = new LMDBStore(env, dbi);
+                LMDBScan scan = new LMDBScan(BATCH_SIZE)
+            ) {
+                for (int i = 0; i < BENCH_ITERS; i++) {
+                    bench("per-record", () -> store.read(reader -> scanPerRecord(reader.cursor())));
+                    bench("batched", () -> store.read(reader -> scanBatched(scan, reader.cursor())));
+                }
+            }
+
+            mdb_dbi_close(env, dbi);
+        } finally {
+            mdb_env_close(env);
+            deleteDatabaseDirectory("lmdb");
+        }
+    }
+
+    @FunctionalInterface
+    private interface Scan {
+        long run();
+    }
+
+    private static void bench(String name, Scan scan) {
+        long t   = System.nanoTime();
+        long sum = scan.run();
+        t = System.nanoTime() - t;
+
+        System.out.format("%10s: %,12d records/s (%d)%n", name, BENCH_PAIRS * 1_000_000_000L / t, sum);
+    }
+
+    private static long scanPerRecord(long cursor) {
+        try (MemoryStack stack = stackPush()) {
+            MDBVal kv = MDBVal.callocStack(stack);
+            MDBVal dv = MDBVal.callocStack(stack);
+
+            long sum = 0L;
+            for (int rc = mdb_cursor_get(cursor, kv, dv, MDB_FIRST); rc == MDB_SUCCESS; rc = mdb_cursor_get(cursor, kv, dv, MDB_NEXT)) {
+                sum += memGetLong(memGetAddress(dv.address() + MDBVal.MV_DATA));
+            }
+            return sum;
+        }
+    }
+
+    private static long scanBatched(LMDBScan scan, long cursor) {
+        scan.start(cursor);
+
+        long sum = 0L;
+        while (scan.next()) {
+            sum += memGetLong(scan.valueAddress());
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.demo.util.zstd;
+
+import org.lwjgl.util.lz4.*;
+import org.lwjgl.util.zstd.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.demo.util.IOUtil.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.zstd.Zstd.*;
+
+/**
+ * Benchmarks the compression and decompression throughput of {@link ZstdSeekable} and {@link LZ4Seekable} on 1..N threads, compared to single-frame
+ * {@code ZSTD_compress2}.
+ *
+ * <p>Use {@code -Dargs=<path>} to benchmark a specific file, otherwise 128MB of generated text are compressed.</p>
+ */
+public final class SeekableBench {
+
+    private static final int BENCH_ITERS = 3;
+
+    private static final int BLOCK_SIZE = 1024 * 1024;
+
+    private SeekableBench() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        ByteBuffer src = args.length == 0 ? generate(128 * 1024 * 1024) : ioResourceToByteBuffer(args[0], 1024 * 1024);
+        System.out.format("Input: %,d bytes%n", src.remaining());
+
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        List<Integer> threads = new ArrayList<>();
+        for (int t = 1; t < cores; t *= 2) {
+            threads.add(t);
+        }
+        threads.add(cores);
+
+        // Baseline
+        long cctx = ZSTD_createCCtx();
+        try {
+            ByteBuffer dst = memAlloc((int)ZSTD_compressBound(src.remaining()));
+            for (int i = 0; i < BENCH_ITERS; i++) {
+                long t    = System.nanoTime();
+                long size = ZSTD_compress2(cctx, dst, src);
+                t = System.nanoTime() - t;
+                print("zstd single frame", 1, src.remaining(), size, t, 0L);
+            }
+            memFree(dst);
+        } finally {
+            ZSTD_freeCCtx(cctx);
+        }
+
+        for (int t : threads) {
+            ForkJoinPool pool = new ForkJoinPool(t);
+            try (
+                ZstdSeekable zstd = new ZstdSeekable(pool).blockSize(BLOCK_SIZE);
+                LZ4Seekable lz4 = new LZ4Seekable(pool).blockSize(BLOCK_SIZE)
+            ) {
+                for (int i = 0; i < BENCH_ITERS; i++) {
+                    benchZstd(zstd, src, t);
+                }
+                for (int i = 0; i < BENCH_ITERS; i++) {
+                    benchLZ4(lz4, src, t);
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        memFree(src);
+    }
+
+    private static ByteBuffer generate(int size) {
+        String[] words = new String[4096];
+
+        Random random = new Random(42);
+        for (int i = 0; i < words.length; i++) {
+            char[] word = new char[2 + random.nextInt(10)];
+            for (int j = 0; j < word.length; j++) {
+                word[j] = (char)('a' + random.nextInt(26));
+            }
+            words[i] = new String(word);
+        }
+
+        ByteBuffer data = memAlloc(size);
+        while (data.hasRemaining()) {
+            // Zipf-like word frequencies
+            String word = words[(int)(words.length * Math.pow(random.nextDouble(), 3.0))];
+            for (int i = 0; i < word.length() && data.hasRemaining(); i++) {
+                data.put((byte)word.charAt(i));
+            }
+            if (data.hasRemaining()) {
+                data.put((byte)(random.nextInt(12) == 0 ? '\n' : ' '));
+            }
+        }
+        data.flip();
+        return data;
+    }
+
+    private static void benchZstd(ZstdSeekable zstd, ByteBuffer src, int threads) {
+        ByteBuffer compressed = memAlloc((int)zstd.compressBound(src.remaining()));
+        ByteBuffer dst        = memAlloc(src.remaining());
+        try {
+            long c    = System.nanoTime();
+            long size = zstd.compress(compressed, src);
+            c = System.nanoTime() - c;
+            compressed.limit((int)size);
+
+            ZstdSeekable.SeekTable table = ZstdSeekable.SeekTable.read(compressed);
+
+            long d = System.nanoTime();
+            zstd.decompress(table, dst, compressed);
+            d = System.nanoTime() - d;
+
+            print("zstd seekable", threads, src.remaining(), size, c, d);
+        } finally {
+            memFree(dst);
+            memFree(compressed);
+        }
+    }
+
+    private static void benchLZ4(LZ4Seekable lz4, ByteBuffer src, int threads) {
+        ByteBuffer compressed = memAlloc((int)lz4.compressBound(src.remaining()));
+        ByteBuffer dst        = memAlloc(src.remaining());
+        try {
+            long c    = System.nanoTime();
+            long size = lz4.compress(compressed, src);
+            c = System.nanoTime() - c;
+            compressed.limit((int)size);
+
+            LZ4Seekable.SeekTable table = LZ4Seekable.SeekTable.read(compressed);
+
+            long d = System.nanoTime();
+            lz4.decompress(table, dst, compressed);
+            d = System.nanoTime() - d;
+
+            print("lz4 seekable", threads, src.remaining(), size, c, d);
+        } finally {
+            memFree(dst);
+            memFree(compressed);
+        }
+    }
+
+    private static void print(String name, int threads, long srcSize, long size, long compress, long decompress) {
+        System.out.format(
+            "%17s, %2d threads: ratio %5.2f, compress %,7d MB/s, decompress %s%n",
+            name, threads, (double)srcSize / size,
+            srcSize * 1_000_000_000L / compress / (1024 * 1024),
+            decompress == 0L ? "-" : String.format("%,7d MB/s", srcSize * 1_000_000_000L / decompress / (1024 * 1024))
+        );
+    }
+
+}
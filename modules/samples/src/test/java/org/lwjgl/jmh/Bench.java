@@ -6,6 +6,7 @@ package org.lwjgl.jmh;
 
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.profile.*;
+import org.openjdk.jmh.results.format.*;
 import org.openjdk.jmh.runner.*;
 import org.openjdk.jmh.runner.options.*;
 
@@ -17,13 +18,15 @@ public final class Bench {
     }
 
     // Run with:
-    //     ant demo -Dclass=org.lwjgl.jmh.Bench -Dargs=<regex>
+    //     ant demo -Dclass=org.lwjgl.jmh.Bench -Dargs="<regex> [<results.csv>]"
+    // or, for the maintained suite:
+    //     ant bench
     public static void main(String[] args) throws RunnerException {
         if (args.length == 0) {
             throw new IllegalArgumentException("Please specify the benchmark include regex.");
         }
 
-        Options opt = new OptionsBuilder()
+        ChainedOptionsBuilder builder = new OptionsBuilder()
             .include(args[0])
             .forks(1)
             //.addProfiler(WinPerfAsmProfiler.class)
@@ -34,10 +37,16 @@ public final class Bench {
             .warmupTime(TimeValue.seconds(1))
             .mode(Mode.AverageTime)
             .timeUnit(TimeUnit.NANOSECONDS)
-            .jvmArgsPrepend("-server")
-            .build();
+            .jvmArgsPrepend("-server");
 
-        new Runner(opt).run();
+        if (1 < args.length) {
+            // Saved in CSV format, see BenchCompare
+            builder
+                .result(args[1])
+                .resultFormat(ResultFormatType.CSV);
+        }
+
+        new Runner(builder.build()).run();
     }
 
     static sun.misc.Unsafe getUnsafeInstance() {
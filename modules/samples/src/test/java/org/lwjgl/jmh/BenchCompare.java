@@ -0,0 +1,171 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Compares two JMH result files, as produced by {@link Bench}, and reports benchmarks that regressed.
+ *
+ * <p>A benchmark regresses when its score is worse than the baseline score by more than the threshold, after both scores have been adjusted by their
+ * reported error. Benchmarks that do not exist in both files are listed but never fail the comparison.</p>
+ */
+public final class BenchCompare {
+
+    private BenchCompare() {
+    }
+
+    // Run with:
+    //     ant bench-compare
+    // or:
+    //     ant demo -Dclass=org.lwjgl.jmh.BenchCompare -Dargs="<baseline.csv> <results.csv> [<threshold %>]"
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Please specify the baseline and results files.");
+        }
+
+        double threshold = args.length < 3 ? 0.05 : Double.parseDouble(args[2]) / 100.0;
+
+        Map<String, Score> baseline = read(Paths.get(args[0]));
+        Map<String, Score> results  = read(Paths.get(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : results.entrySet()) {
+            Score current  = entry.getValue();
+            Score previous = baseline.get(entry.getKey());
+            if (previous == null) {
+                System.out.format("%-80s %14s %14.3f %-8s NEW\n", entry.getKey(), "-", current.score, current.unit);
+                continue;
+            }
+
+            double ratio = current.score / previous.score;
+
+            String status;
+            if (current.isWorseThan(previous, threshold)) {
+                status = "REGRESSION";
+                regressions++;
+            } else if (previous.isWorseThan(current, threshold)) {
+                status = "IMPROVEMENT";
+            } else {
+                status = "";
+            }
+
+            System.out.format("%-80s %14.3f %14.3f %-8s %6.2fx %s\n", entry.getKey(), previous.score, current.score, current.unit, ratio, status);
+        }
+
+        for (String key : baseline.keySet()) {
+            if (!results.containsKey(key)) {
+                System.out.format("%-80s MISSING\n", key);
+            }
+        }
+
+        if (regressions != 0) {
+            System.out.format("%d benchmark(s) regressed by more than %.1f%%\n", regressions, threshold * 100.0);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> read(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) {
+            throw new IllegalStateException("Empty JMH results file: " + file);
+        }
+
+        String[] header = split(lines.get(0));
+
+        int benchmark = indexOf(header, "Benchmark");
+        int mode      = indexOf(header, "Mode");
+        int score     = indexOf(header, "Score");
+        int error     = indexOf(header, "Score Error (99.9%)");
+        int unit      = indexOf(header, "Unit");
+
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            String[] values = split(line);
+
+            // Benchmark name + parameters
+            StringBuilder key = new StringBuilder(values[benchmark]);
+            for (int j = unit + 1; j < values.length; j++) {
+                key
+                    .append(j == unit + 1 ? ':' : ',')
+                    .append(header[j].substring("Param: ".length()))
+                    .append('=')
+                    .append(values[j]);
+            }
+
+            scores.put(key.toString(), new Score(
+                "thrpt".equals(values[mode]),
+                parse(values[score]),
+                parse(values[error]),
+                values[unit]
+            ));
+        }
+        return scores;
+    }
+
+    private static int indexOf(String[] header, String column) {
+        for (int i = 0; i < header.length; i++) {
+            if (column.equals(header[i])) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Column not found in JMH results file: " + column);
+    }
+
+    private static double parse(String value) {
+        return value.isEmpty() || "NaN".equals(value) ? 0.0 : Double.parseDouble(value);
+    }
+
+    private static String[] split(String line) {
+        List<String> values = new ArrayList<>();
+
+        StringBuilder value  = new StringBuilder();
+        boolean       quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+
+        return values.toArray(new String[0]);
+    }
+
+    private static class Score {
+        final boolean higherIsBetter;
+
+        final double score;
+        final double error;
+        final String unit;
+
+        Score(boolean higherIsBetter, double score, double error, String unit) {
+            this.higherIsBetter = higherIsBetter;
+            this.score = score;
+            this.error = error;
+            this.unit = unit;
+        }
+
+        boolean isWorseThan(Score other, double threshold) {
+            return higherIsBetter
+                ? (score + error) * (1.0 + threshold) < other.score - other.error
+                : (other.score + other.error) * (1.0 + threshold) < score - error;
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.openjdk.jmh.annotations.*;
+
+import static org.lwjgl.system.JNI.*;
+import static org.lwjgl.system.MemoryUtil.*;
+
+/** Compares the per-call overhead of JNI and Foreign Function &amp; Memory API dispatch, for trivial native functions. Requires Java 22 or newer. */
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = { "--enable-native-access=ALL-UNNAMED", "-Dorg.lwjgl.system.dispatch=jni" })
+public class ForeignDispatchTest {
+
+    private static final String FOREIGN = "-Dorg.lwjgl.system.dispatch=foreign";
+
+    private final long malloc = getAllocator().getMalloc();
+    private final long free   = getAllocator().getFree();
+
+    // free(NULL), does nothing
+
+    @Benchmark
+    public void free_jni() {
+        invokePV(NULL, free);
+    }
+
+    @Fork(jvmArgsAppend = { "--enable-native-access=ALL-UNNAMED", FOREIGN })
+    @Benchmark
+    public void free_foreign() {
+        invokePV(NULL, free);
+    }
+
+    // malloc + free, two calls with arguments and a return value
+
+    @Benchmark
+    public long malloc_jni() {
+        long address = invokePP(8L, malloc);
+        invokePV(address, free);
+        return address;
+    }
+
+    @Fork(jvmArgsAppend = { "--enable-native-access=ALL-UNNAMED", FOREIGN })
+    @Benchmark
+    public long malloc_foreign() {
+        long address = invokePP(8L, malloc);
+        invokePV(address, free);
+        return address;
+    }
+
+}
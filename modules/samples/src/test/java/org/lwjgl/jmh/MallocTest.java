@@ -21,6 +21,8 @@ import static org.lwjgl.system.rpmalloc.RPmalloc.*;
 @State(Scope.Thread)
 public class MallocTest {
 
+    private static final sun.misc.Unsafe UNSAFE = Bench.getUnsafeInstance();
+
     static {
         rpmalloc_initialize();
     }
@@ -55,6 +57,27 @@ public class MallocTest {
         ((sun.nio.ch.DirectBuffer)mem).cleaner().clean(); // must be recompiled without JDK 8 bootclasspath on JDK 9+
     }
 
+    @Benchmark
+    public void t01_unsafe(Blackhole bh) {
+        long address = UNSAFE.allocateMemory(size);
+        consume(bh, memByteBuffer(address, size));
+        UNSAFE.freeMemory(address);
+    }
+
+    @Benchmark
+    public void t05_memAlloc(Blackhole bh) {
+        ByteBuffer mem = memAlloc(size);
+        consume(bh, mem);
+        memFree(mem);
+    }
+
+    @Benchmark
+    public void t06_memCalloc(Blackhole bh) {
+        ByteBuffer mem = memCalloc(size);
+        consume(bh, mem);
+        memFree(mem);
+    }
+
     @Benchmark
     public void t10_malloc(Blackhole bh) {
         ByteBuffer mem = malloc(size);
@@ -142,4 +165,12 @@ public class MallocTest {
         }
     }
 
+    @Benchmark
+    public void t43_stack_nmalloc(Blackhole bh) {
+        try (MemoryStack stack = stackPush()) {
+            long address = stack.nmalloc(size);
+            bh.consume(address);
+        }
+    }
+
 }
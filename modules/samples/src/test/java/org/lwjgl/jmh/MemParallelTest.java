@@ -0,0 +1,64 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.openjdk.jmh.annotations.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * Compares {@code memSet}/{@code memCopy} to {@code memSetParallel}/{@code memCopyParallel} at different block sizes, to find the size at which the parallel
+ * versions become faster.
+ *
+ * <p>The parallel threshold is lowered to 1 KB, so that the parallel versions are always used. The crossover size is a good value for
+ * {@code org.lwjgl.system.memParallelThreshold} on the target machine.</p>
+ */
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = "-Dorg.lwjgl.system.memParallelThreshold=1")
+public class MemParallelTest {
+
+    @Param({"262144", "1048576", "4194304", "16777216", "67108864", "268435456"})
+    public long size;
+
+    private long src;
+    private long dst;
+
+    @Setup
+    public void setup() {
+        src = nmemAlignedAlloc(64, size);
+        dst = nmemAlignedAlloc(64, size);
+
+        // Touch the pages
+        memSet(src, 1, size);
+        memSet(dst, 0, size);
+    }
+
+    @TearDown
+    public void teardown() {
+        nmemAlignedFree(dst);
+        nmemAlignedFree(src);
+    }
+
+    @Benchmark
+    public void memSet_serial() {
+        memSet(dst, 0x55, size);
+    }
+
+    @Benchmark
+    public void memSet_parallel() {
+        memSetParallel(dst, 0x55, size);
+    }
+
+    @Benchmark
+    public void memCopy_serial() {
+        memCopy(src, dst, size);
+    }
+
+    @Benchmark
+    public void memCopy_parallel() {
+        memCopyParallel(src, dst, size);
+    }
+
+}
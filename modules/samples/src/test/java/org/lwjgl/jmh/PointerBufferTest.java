@@ -0,0 +1,95 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.lwjgl.*;
+import org.openjdk.jmh.annotations.*;
+import sun.misc.*;
+
+import java.nio.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.system.Pointer.*;
+
+/** Compares {@link PointerBuffer} element access to {@link LongBuffer} and raw {@code Unsafe} access on the same memory. */
+@State(Scope.Benchmark)
+public class PointerBufferTest {
+
+    private static final Unsafe UNSAFE = Bench.getUnsafeInstance();
+
+    @Param({"16", "1024"})
+    public int capacity;
+
+    private PointerBuffer pointers;
+
+    private LongBuffer longs;
+
+    private long address;
+
+    @Setup
+    public void setup() {
+        pointers = memCallocPointer(capacity);
+        for (int i = 0; i < capacity; i++) {
+            pointers.put(i, i);
+        }
+
+        address = pointers.address();
+        longs = memLongBuffer(address, capacity);
+    }
+
+    @TearDown
+    public void teardown() {
+        memFree(pointers);
+    }
+
+    @Benchmark
+    public long get_PointerBuffer() {
+        long sum = 0L;
+        for (int i = 0; i < capacity; i++) {
+            sum += pointers.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long get_LongBuffer() {
+        long sum = 0L;
+        for (int i = 0; i < capacity; i++) {
+            sum += longs.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long get_unsafe() {
+        long sum = 0L;
+        for (int i = 0; i < capacity; i++) {
+            sum += UNSAFE.getLong(address + ((long)i << POINTER_SHIFT));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void put_PointerBuffer() {
+        for (int i = 0; i < capacity; i++) {
+            pointers.put(i, i);
+        }
+    }
+
+    @Benchmark
+    public void put_LongBuffer() {
+        for (int i = 0; i < capacity; i++) {
+            longs.put(i, i);
+        }
+    }
+
+    @Benchmark
+    public void put_unsafe() {
+        for (int i = 0; i < capacity; i++) {
+            UNSAFE.putLong(address + ((long)i << POINTER_SHIFT), i);
+        }
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.lwjgl.assimp.*;
+import org.lwjgl.system.*;
+import org.openjdk.jmh.annotations.*;
+import sun.misc.*;
+
+import java.nio.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * Compares the different ways to read the members of a {@link org.lwjgl.system.StructBuffer}.
+ *
+ * <p>The {@code iterator} and {@code get} benchmarks create a {@code Struct} instance per element. Whether that allocation is eliminated depends on escape
+ * analysis, which can be verified by enabling JMH's GC Profiler. The {@code cursor} benchmarks reuse a single {@code Struct} instance.</p>
+ */
+@State(Scope.Benchmark)
+public class StructBufferTest {
+
+    private static final Unsafe UNSAFE = Bench.getUnsafeInstance();
+
+    @Param({"16", "1024", "65536"})
+    public int capacity;
+
+    private AIVector3D.Buffer buffer;
+
+    private FloatBuffer floats;
+
+    @Setup
+    public void setup() {
+        buffer = AIVector3D.calloc(capacity);
+        for (int i = 0; i < capacity; i++) {
+            buffer.get(i).set(i, i * 2, i * 3);
+        }
+
+        floats = memFloatBuffer(buffer.address(), capacity * (AIVector3D.SIZEOF >> 2));
+    }
+
+    @TearDown
+    public void teardown() {
+        buffer.free();
+    }
+
+    @Benchmark
+    public float iterator() {
+        float sum = 0.0f;
+        for (AIVector3D v : buffer) {
+            sum += v.x() + v.y() + v.z();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float get() {
+        float sum = 0.0f;
+        for (int i = 0; i < capacity; i++) {
+            AIVector3D v = buffer.get(i);
+            sum += v.x() + v.y() + v.z();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float cursor() {
+        float                    sum    = 0.0f;
+        StructCursor<AIVector3D> cursor = buffer.structCursor();
+        while (cursor.hasNext()) {
+            AIVector3D v = cursor.next();
+            sum += v.x() + v.y() + v.z();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float cursor_moveTo() {
+        float                    sum    = 0.0f;
+        StructCursor<AIVector3D> cursor = buffer.structCursor();
+        for (int i = 0; i < capacity; i++) {
+            AIVector3D v = cursor.moveTo(i);
+            sum += v.x() + v.y() + v.z();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double stream() {
+        return buffer.stream()
+            .mapToDouble(v -> v.x() + v.y() + v.z())
+            .sum();
+    }
+
+    @Benchmark
+    public float unsafeAccessors() {
+        float sum     = 0.0f;
+        long  address = buffer.address();
+        for (int i = 0; i < capacity; i++) {
+            long v = address + (long)i * AIVector3D.SIZEOF;
+            sum += AIVector3D.nx(v) + AIVector3D.ny(v) + AIVector3D.nz(v);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float nio_baseline() {
+        float sum = 0.0f;
+        for (int i = 0; i < capacity; i++) {
+            int v = i * 3;
+            sum += floats.get(v) + floats.get(v + 1) + floats.get(v + 2);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float unsafe_baseline() {
+        float sum     = 0.0f;
+        long  address = buffer.address();
+        for (int i = 0; i < capacity; i++) {
+            long v = address + (long)i * 12;
+            sum += UNSAFE.getFloat(v) + UNSAFE.getFloat(v + 4) + UNSAFE.getFloat(v + 8);
+        }
+        return sum;
+    }
+
+}
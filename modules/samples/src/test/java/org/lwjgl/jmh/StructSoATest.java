@@ -0,0 +1,79 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.lwjgl.assimp.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.*;
+
+/** Compares a single-member transform over an {@link AIVector3D.Buffer} to the same transform over an {@link AIVector3D.SoA} column. */
+@State(Scope.Benchmark)
+public class StructSoATest {
+
+    @Param({"1024", "65536"})
+    public int capacity;
+
+    private AIVector3D.Buffer buffer;
+
+    private AIVector3D.SoA soa;
+
+    private FloatBuffer x;
+
+    @Setup
+    public void setup() {
+        buffer = AIVector3D.calloc(capacity);
+        for (int i = 0; i < capacity; i++) {
+            buffer.get(i).set(i, i * 2, i * 3);
+        }
+
+        soa = new AIVector3D.SoA(capacity);
+        soa.gather(buffer);
+
+        x = soa.x();
+    }
+
+    @TearDown
+    public void teardown() {
+        soa.free();
+        buffer.free();
+    }
+
+    @Benchmark
+    public void aos() {
+        long address = buffer.address();
+        for (int i = 0; i < capacity; i++) {
+            long v = address + (long)i * AIVector3D.SIZEOF;
+            AIVector3D.nx(v, AIVector3D.nx(v) * 0.5f);
+        }
+    }
+
+    @Benchmark
+    public void soa() {
+        FloatBuffer x = this.x;
+        for (int i = 0; i < capacity; i++) {
+            x.put(i, x.get(i) * 0.5f);
+        }
+    }
+
+    @Benchmark
+    public void soa_accessors() {
+        AIVector3D.SoA soa = this.soa;
+        for (int i = 0; i < capacity; i++) {
+            soa.x(i, soa.x(i) * 0.5f);
+        }
+    }
+
+    @Benchmark
+    public int gather() {
+        return soa.gather(buffer);
+    }
+
+    @Benchmark
+    public int scatter() {
+        return soa.scatter(buffer);
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.*;
+import java.nio.charset.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * Compares the {@link org.lwjgl.system.MemoryUtil} text codecs to the {@code java.nio.charset} equivalents.
+ *
+ * <p>The baselines reuse a {@link CharsetEncoder} or a heap array, which is the best case for the JDK codecs.</p>
+ *
+ * <p>{@code decodeUTF8_LWJGL} measures the decoder that is on the classpath. {@code ant bench} adds the multi-release classes only when
+ * {@code core.java9} is set, so by default it measures the Java 8 decoder. Run the benchmarks on a Java 8 JVM to measure that decoder as it is used in
+ * practice; on Java 9+, the multi-release jar uses the Java 9 decoder instead.</p>
+ *
+ * <p>The {@code ascii} parameter only applies to the UTF-8 benchmarks. The ASCII benchmarks always use pure ASCII text of the same length, so that the
+ * LWJGL codecs and the baselines encode and decode the same number of characters.</p>
+ */
+@State(Scope.Thread)
+public class TextEncodingTest {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    @Param({"16", "128", "1024"})
+    public int length;
+
+    @Param({"true", "false"})
+    public boolean ascii;
+
+    private String text;
+    private String textASCII;
+
+    private ByteBuffer target;
+
+    private int encodedUTF8;
+    private int encodedASCII;
+
+    private byte[] array;
+
+    private final CharsetEncoder encoderUTF8  = StandardCharsets.UTF_8.newEncoder();
+    private final CharsetEncoder encoderASCII = StandardCharsets.ISO_8859_1.newEncoder();
+
+    private ByteBuffer sourceUTF8;
+    private ByteBuffer sourceASCII;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(ascii || (i & 7) != 0
+                ? (char)('a' + (i % 26))
+                : (i & 8) == 0 ? '\u00E9' : '\u4E2D'
+            );
+        }
+        text = sb.toString();
+
+        sb.setLength(0);
+        for (int i = 0; i < length; i++) {
+            sb.append((char)('a' + (i % 26)));
+        }
+        textASCII = sb.toString();
+
+        target = memAlloc(BUFFER_SIZE);
+
+        sourceUTF8 = memAlloc(BUFFER_SIZE);
+        encodedUTF8 = memUTF8(text, false, sourceUTF8);
+        sourceUTF8.limit(encodedUTF8);
+
+        sourceASCII = memAlloc(BUFFER_SIZE);
+        encodedASCII = memASCII(textASCII, false, sourceASCII);
+        sourceASCII.limit(encodedASCII);
+
+        array = new byte[BUFFER_SIZE];
+    }
+
+    @TearDown
+    public void teardown() {
+        memFree(sourceASCII);
+        memFree(sourceUTF8);
+        memFree(target);
+    }
+
+    @Benchmark
+    public int lengthUTF8_LWJGL() {
+        return memLengthUTF8(text, false);
+    }
+
+    @Benchmark
+    public int encodeUTF8_LWJGL() {
+        return memUTF8(text, false, target);
+    }
+
+    @Benchmark
+    public int encodeUTF8_baseline() {
+        target.clear();
+        encoderUTF8.reset().encode(CharBuffer.wrap(text), target, true);
+        return target.position();
+    }
+
+    @Benchmark
+    public int encodeASCII_LWJGL() {
+        return memASCII(textASCII, false, target);
+    }
+
+    @Benchmark
+    public int encodeASCII_baseline() {
+        target.clear();
+        encoderASCII.reset().encode(CharBuffer.wrap(textASCII), target, true);
+        return target.position();
+    }
+
+    @Benchmark
+    public String decodeUTF8_LWJGL() {
+        return memUTF8(memAddress(sourceUTF8), encodedUTF8);
+    }
+
+    @Benchmark
+    public String decodeUTF8_baseline() {
+        sourceUTF8.get(array, 0, encodedUTF8);
+        sourceUTF8.position(0);
+        return new String(array, 0, encodedUTF8, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String decodeASCII_LWJGL() {
+        return memASCII(memAddress(sourceASCII), encodedASCII);
+    }
+
+    @Benchmark
+    public String decodeASCII_baseline() {
+        sourceASCII.get(array, 0, encodedASCII);
+        sourceASCII.position(0);
+        return new String(array, 0, encodedASCII, StandardCharsets.ISO_8859_1);
+    }
+
+}